@@ -0,0 +1,30 @@
+package com.cybozu.labs.langdetect;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler, which reports the allocation rate
+ * (<code>gc.alloc.rate.norm</code>, bytes per operation) next to the timings.
+ * Takes the usual JMH command line options, e.g.
+ *
+ * <pre>
+ * java -jar langdetect-benchmarks/target/benchmarks.jar DetectBenchmark -p length=TWEET
+ * </pre>
+ */
+public final class BenchmarkMain {
+
+    private BenchmarkMain() {
+    }
+
+    public static void main(final String[] args) throws RunnerException, CommandLineOptionException {
+        final CommandLineOptions commandLine = new CommandLineOptions(args);
+        new Runner(new OptionsBuilder().parent(commandLine)
+                                       .addProfiler(GCProfiler.class)
+                                       .build()).run();
+    }
+}
@@ -0,0 +1,56 @@
+package com.cybozu.labs.langdetect;
+
+/**
+ * Input texts of the benchmarks: a few sentences of one script, repeated up to the wanted length.
+ */
+public final class BenchmarkTexts {
+
+    /**
+     * Script of the text.
+     */
+    public enum Script {
+        LATIN("The quick brown fox jumps over the lazy dog. Language detection is a basic step of many text "
+              + "processing pipelines, from search engines to spam filters. "),
+        CYRILLIC("Быстрая коричневая лиса прыгает через ленивую собаку. Определение языка является первым шагом "
+                 + "обработки текста во многих поисковых системах. "),
+        CJK("敏捷的棕色狐狸跳过了懒狗。语言检测是许多文本处理系统的第一步，例如搜索引擎和垃圾邮件过滤器。"),
+        ARABIC("الثعلب البني السريع يقفز فوق الكلب الكسول. تحديد اللغة هو الخطوة الأولى في كثير من أنظمة "
+               + "معالجة النصوص مثل محركات البحث. ");
+
+        private final String sentences;
+
+        Script(final String sentences) {
+            this.sentences = sentences;
+        }
+    }
+
+    /**
+     * Length of the text.
+     */
+    public enum Length {
+        TWEET(140), PARAGRAPH(1000), TEN_KB(10240);
+
+        private final int chars;
+
+        Length(final int chars) {
+            this.chars = chars;
+        }
+    }
+
+    private BenchmarkTexts() {
+    }
+
+    /**
+     * @param script script of the text
+     * @param length length of the text
+     * @return a text of the given script and length
+     */
+    public static String text(final Script script, final Length length) {
+        final StringBuilder text = new StringBuilder(length.chars + script.sentences.length());
+        while (text.length() < length.chars) {
+            text.append(script.sentences);
+        }
+        text.setLength(length.chars);
+        return text.toString();
+    }
+}
@@ -0,0 +1,64 @@
+package com.cybozu.labs.langdetect;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the scoring: {@link Detector#detectBlock()} alone,
+ * and the whole detection of a text with a reused {@link Detector}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DetectBenchmark {
+    @Param({"LATIN", "CYRILLIC", "CJK", "ARABIC"})
+    public BenchmarkTexts.Script script;
+
+    @Param({"TWEET", "PARAGRAPH", "TEN_KB"})
+    public BenchmarkTexts.Length length;
+
+    @Param({"SAMPLING", "EXACT"})
+    public ScoringMode scoringMode;
+
+    private String text;
+    private Detector detector;
+
+    @Setup
+    public void setUp() {
+        this.text = BenchmarkTexts.text(this.script, this.length);
+        this.detector = new Detector(DetectorFactory.getModel());
+        this.detector
+                .setSeed(0);
+        this.detector
+                .setScoringMode(this.scoringMode);
+        this.detector
+                .append(this.text);
+    }
+
+    @Benchmark
+    public Detector detectBlock() throws LangDetectException {
+        this.detector
+                .detectBlock();
+        return this.detector;
+    }
+
+    @Benchmark
+    public String detect() {
+        return this.detector
+                .detect(this.text);
+    }
+}
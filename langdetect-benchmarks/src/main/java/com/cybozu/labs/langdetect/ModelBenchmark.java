@@ -0,0 +1,50 @@
+package com.cybozu.labs.langdetect;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the model assembly from the bundled profiles, as done by {@link DetectorFactory} on first use,
+ * and of loading the same model from a model file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ModelBenchmark {
+
+    private File file;
+
+    @Setup
+    public void setUp() throws IOException {
+        this.file = File.createTempFile("langdetect", ".model");
+        this.file
+                .deleteOnExit();
+        DetectorFactory.getModel()
+                       .save(this.file);
+    }
+
+    @Benchmark
+    public LanguageModel buildModel() {
+        return new LanguageModel(ProfileRegistry.getProfiles(ProfileRegistry.getDefaultLanguages()));
+    }
+
+    @Benchmark
+    public LanguageModel loadModel() throws LangDetectException {
+        return LanguageModel.load(this.file);
+    }
+}
@@ -0,0 +1,59 @@
+package com.cybozu.labs.langdetect;
+
+import com.cybozu.labs.langdetect.util.LangProfile;
+import com.cybozu.labs.langdetect.util.NGram;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link NGram#normalize(char)} and of the profile training in {@link LangProfile#update(String)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NGramBenchmark {
+    @Param({"LATIN", "CYRILLIC", "CJK", "ARABIC"})
+    public BenchmarkTexts.Script script;
+
+    @Param({"TWEET", "PARAGRAPH", "TEN_KB"})
+    public BenchmarkTexts.Length length;
+
+    private String text;
+
+    @Setup
+    public void setUp() {
+        this.text = BenchmarkTexts.text(this.script, this.length);
+    }
+
+    @Benchmark
+    public int normalize() {
+        int hash = 0;
+        for (int i = 0; i < this.text
+                                .length(); ++i) {
+            hash = (31 * hash) + NGram.normalize(this.text
+                                                         .charAt(i));
+        }
+        return hash;
+    }
+
+    @Benchmark
+    public LangProfile update() {
+        final LangProfile profile = new LangProfile("xx");
+        profile.update(this.text);
+        return profile;
+    }
+}
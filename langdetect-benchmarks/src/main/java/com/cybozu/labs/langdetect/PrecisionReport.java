@@ -0,0 +1,180 @@
+package com.cybozu.labs.langdetect;
+
+import com.cybozu.labs.langdetect.util.LangProfile;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Reports size and accuracy of the {@link ModelPrecision}s against the full-precision model.
+ * <p>
+ * The test texts are generated from the bundled profiles themselves: a random walk over the 3-grams of each
+ * language, where the next character is drawn with the frequency of the 3-gram it completes.
+ * Every text is detected with every model, and the report gives the accuracy (detected language is the language
+ * the text was generated from), the agreement with the full-precision model and the mean difference
+ * of the top probability.
+ *
+ * <pre>
+ * java -cp langdetect-benchmarks/target/benchmarks.jar com.cybozu.labs.langdetect.PrecisionReport [texts per language]
+ * </pre>
+ */
+public final class PrecisionReport {
+    private static final int[] TEXT_LENGTHS = {20, 60, 200};
+
+    private PrecisionReport() {
+    }
+
+    public static void main(final String[] args) throws LangDetectException {
+        final int textsPerLanguage = (args.length > 0) ? Integer.parseInt(args[0]) : 30;
+        final Random random = new Random(0);
+        final List<String> texts = new ArrayList<String>();
+        final List<String> langs = new ArrayList<String>();
+        final List<LangProfile> profiles = ProfileRegistry.getProfiles(ProfileRegistry.getDefaultLanguages());
+        for (final LangProfile profile : profiles) {
+            final TrigramWalk walk = new TrigramWalk(profile);
+            for (final int length : TEXT_LENGTHS) {
+                for (int i = 0; i < textsPerLanguage; ++i) {
+                    texts.add(walk.text(random, length));
+                    langs.add(profile.name);
+                }
+            }
+        }
+        System.out.println(texts.size() + " texts of " + profiles.size() + " languages");
+        System.out.println();
+
+        for (final ScoringMode mode : ScoringMode.values()) {
+            System.out.println(mode);
+            System.out.println(String.format("%-8s %10s %10s %10s %10s %12s", "model", "size [KB]", "build [ms]",
+                                             "accuracy", "agreement", "mean |dp|"));
+            Result reference = null;
+            for (final ModelPrecision precision : ModelPrecision.values()) {
+                final long start = System.nanoTime();
+                final LanguageModel model = new LanguageModel(profiles, precision);
+                final long buildMillis = (System.nanoTime() - start) / 1000000;
+                final Result result = new Result(model, mode, texts);
+                if (reference == null) {
+                    reference = result;
+                }
+                int correct = 0;
+                int agree = 0;
+                double delta = 0;
+                for (int i = 0; i < texts.size(); ++i) {
+                    if (result.langs[i].equals(langs.get(i))) {
+                        ++correct;
+                    }
+                    if (result.langs[i].equals(reference.langs[i])) {
+                        ++agree;
+                        delta += Math.abs(result.probs[i] - reference.probs[i]);
+                    }
+                }
+                System.out.println(String.format("%-8s %10d %10d %9.3f%% %9.3f%% %12.3e", precision,
+                                                 model.getSizeInBytes() / 1024, buildMillis,
+                                                 (100.0 * correct) / texts.size(), (100.0 * agree) / texts.size(),
+                                                 delta / Math.max(1, agree)));
+            }
+            System.out.println();
+        }
+    }
+
+    /**
+     * Top language and its probability for every text.
+     */
+    private static final class Result {
+        final String[] langs;
+        final double[] probs;
+
+        Result(final LanguageModel model, final ScoringMode mode, final List<String> texts) {
+            this.langs = new String[texts.size()];
+            this.probs = new double[texts.size()];
+            final Detector detector = new Detector(model);
+            detector.setScoringMode(mode);
+            detector.setSeed(0);
+            for (int i = 0; i < texts.size(); ++i) {
+                detector.reset();
+                detector.append(texts.get(i));
+                try {
+                    final ArrayList<Language> probabilities = detector.getProbabilities();
+                    this.langs[i] = probabilities.isEmpty() ? "unknown" : probabilities.get(0).lang;
+                    this.probs[i] = probabilities.isEmpty() ? 0.0 : probabilities.get(0).prob;
+                } catch (final LangDetectException e) {
+                    this.langs[i] = "unknown";
+                }
+            }
+        }
+    }
+
+    /**
+     * Random walk over the 3-grams of a profile.
+     */
+    private static final class TrigramWalk {
+        private final Map<String, List<String>> next = new HashMap<String, List<String>>();
+        private final Map<String, List<Integer>> weights = new HashMap<String, List<Integer>>();
+        private final List<String> starts = new ArrayList<String>();
+        private final List<Integer> startWeights = new ArrayList<Integer>();
+
+        TrigramWalk(final LangProfile profile) {
+            for (final Map.Entry<String, Integer> entry : profile.freq
+                                                                 .entrySet()) {
+                final String gram = entry.getKey();
+                if (gram.length() != 3) {
+                    continue;
+                }
+                final String prefix = gram.substring(0, 2);
+                if (!this.next
+                        .containsKey(prefix)) {
+                    this.next
+                            .put(prefix, new ArrayList<String>());
+                    this.weights
+                            .put(prefix, new ArrayList<Integer>());
+                }
+                this.next
+                        .get(prefix)
+                        .add(gram.substring(2));
+                this.weights
+                        .get(prefix)
+                        .add(entry.getValue());
+                if (gram.charAt(0) == ' ') {
+                    this.starts
+                            .add(gram);
+                    this.startWeights
+                            .add(entry.getValue());
+                }
+            }
+        }
+
+        String text(final Random random, final int length) {
+            final StringBuilder text = new StringBuilder();
+            while (text.length() < length) {
+                if ((text.length() < 2) || !this.next
+                        .containsKey(text.substring(text.length() - 2))) {
+                    text.append(draw(random, this.starts, this.startWeights));
+                    continue;
+                }
+                final String prefix = text.substring(text.length() - 2);
+                text.append(draw(random, this.next
+                        .get(prefix), this.weights
+                                         .get(prefix)));
+            }
+            return text.toString()
+                       .trim();
+        }
+
+        private static String draw(final Random random, final List<String> items, final List<Integer> weights) {
+            long total = 0;
+            for (final int weight : weights) {
+                total += weight;
+            }
+            long r = (long) (random.nextDouble() * total);
+            for (int i = 0; i < items.size(); ++i) {
+                r -= weights.get(i);
+                if (r < 0) {
+                    return items.get(i);
+                }
+            }
+            return items.get(items.size() - 1);
+        }
+    }
+}
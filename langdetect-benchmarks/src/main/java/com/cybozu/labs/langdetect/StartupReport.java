@@ -0,0 +1,97 @@
+package com.cybozu.labs.langdetect;
+
+import com.cybozu.labs.langdetect.util.LangProfile;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reports the startup time and memory of a model of all bundled languages.
+ * <p>
+ * Run it in a fresh JVM: the first step includes loading the classes and reading the profiles cold.
+ * The report gives the time to read the profiles, to assemble the model in every {@link ModelPrecision},
+ * and to load the saved model file, with the heap retained after each step and the first detection.
+ *
+ * <pre>
+ * java -cp langdetect-benchmarks/target/benchmarks.jar com.cybozu.labs.langdetect.StartupReport [language ...]
+ * </pre>
+ */
+public final class StartupReport {
+
+    private StartupReport() {
+    }
+
+    public static void main(final String[] args) throws LangDetectException, IOException {
+        final List<String> langs = new ArrayList<String>();
+        for (final String lang : args) {
+            langs.add(lang);
+        }
+        if (langs.isEmpty()) {
+            langs.addAll(ProfileRegistry.getLanguages());
+        }
+        final long baseHeap = usedHeap();
+
+        long start = System.nanoTime();
+        final List<LangProfile> profiles = ProfileRegistry.getProfiles(langs);
+        final long readMillis = (System.nanoTime() - start) / 1000000;
+        int grams = 0;
+        for (final LangProfile profile : profiles) {
+            grams += profile.freq
+                    .size();
+        }
+        System.out.println(profiles.size() + " languages, " + grams + " profile n-grams");
+        System.out.println(String.format("%-28s %10d ms %10d KB heap", "read profiles", readMillis,
+                                         (usedHeap() - baseHeap) / 1024));
+        System.out.println();
+
+        System.out.println(String.format("%-28s %13s %13s %13s %13s", "model", "build", "size", "retained heap",
+                                         "n-grams"));
+        final List<LanguageModel> models = new ArrayList<LanguageModel>();
+        for (final ModelPrecision precision : ModelPrecision.values()) {
+            final long heap = usedHeap();
+            start = System.nanoTime();
+            final LanguageModel model = new LanguageModel(profiles, precision);
+            final long buildMillis = (System.nanoTime() - start) / 1000000;
+            models.add(model);
+            System.out.println(String.format("%-28s %10d ms %10d KB %10d KB %13d", precision, buildMillis,
+                                             model.getSizeInBytes() / 1024, (usedHeap() - heap) / 1024,
+                                             model.getNGramCount()));
+        }
+        final LanguageModel full = models.get(0);
+        System.out.println();
+
+        final File file = File.createTempFile("langdetect", ".ldm");
+        try {
+            full.save(file);
+            final long heap = usedHeap();
+            start = System.nanoTime();
+            final LanguageModel loaded = LanguageModel.load(file);
+            final long loadMillis = (System.nanoTime() - start) / 1000000;
+            final long loadedHeap = usedHeap() - heap;
+
+            start = System.nanoTime();
+            final Detector detector = new Detector(loaded);
+            detector.append("이것은 짧은 한국어 문장입니다.");
+            final String lang = detector.detect();
+            final long detectMicros = (System.nanoTime() - start) / 1000;
+
+            System.out.println(String.format("%-28s %10d ms %10d KB file, %d KB heap", "load model file", loadMillis,
+                                             file.length() / 1024, loadedHeap / 1024));
+            System.out.println(String.format("%-28s %10d us (%s)", "first detection", detectMicros, lang));
+        } finally {
+            if (!file.delete()) {
+                file.deleteOnExit();
+            }
+        }
+    }
+
+    private static long usedHeap() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; ++i) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
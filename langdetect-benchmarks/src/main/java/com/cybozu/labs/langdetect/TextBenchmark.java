@@ -0,0 +1,58 @@
+package com.cybozu.labs.langdetect;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the text preparation: {@link Detector#append(String)} and {@link Detector#extractNGrams()}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextBenchmark {
+    @Param({"LATIN", "CYRILLIC", "CJK", "ARABIC"})
+    public BenchmarkTexts.Script script;
+
+    @Param({"TWEET", "PARAGRAPH", "TEN_KB"})
+    public BenchmarkTexts.Length length;
+
+    private String text;
+    private Detector detector;
+
+    @Setup
+    public void setUp() {
+        this.text = BenchmarkTexts.text(this.script, this.length);
+        this.detector = new Detector(DetectorFactory.getModel());
+        this.detector
+                .append(this.text);
+    }
+
+    @Benchmark
+    public Detector append() {
+        this.detector
+                .reset();
+        this.detector
+                .append(this.text);
+        return this.detector;
+    }
+
+    @Benchmark
+    public int extractNGrams() {
+        return this.detector
+                .extractNGrams();
+    }
+}
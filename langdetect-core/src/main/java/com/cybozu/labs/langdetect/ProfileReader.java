@@ -0,0 +1,171 @@
+package com.cybozu.labs.langdetect;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.util.HashMap;
+
+import com.cybozu.labs.langdetect.util.LangProfile;
+import com.cybozu.labs.langdetect.util.NGram;
+
+/**
+ * Read a language profile in the JSON format of the <code>profiles</code> directory,
+ * <code>{"freq":{"a":123,...},"n_words":[1,2,3],"name":"en"}</code>.
+ *
+ * Only this format is understood, so no JSON library is needed.
+ */
+public class ProfileReader {
+    private final Reader reader_;
+    private int next_;
+
+    private ProfileReader(Reader reader) throws IOException {
+        reader_ = reader;
+        next_ = reader.read();
+    }
+
+    /**
+     * Read a language profile file
+     * @param file profile file
+     * @return Language profile instance
+     * @throws LangDetectException
+     *  code = ErrorCode.FileLoadError : Can't open the file
+     *  code = ErrorCode.FormatError : The file is not a language profile
+     */
+    public static LangProfile read(File file) throws LangDetectException {
+        InputStream is = null;
+        try {
+            is = new FileInputStream(file);
+            return read(is, file.getName());
+        } catch (IOException e) {
+            throw new LangDetectException(ErrorCode.FileLoadError, "can't open '" + file.getName() + "'");
+        } finally {
+            try {
+                if (is != null) is.close();
+            } catch (IOException e) {}
+        }
+    }
+
+    /**
+     * Read a language profile from a stream (UTF-8)
+     * @param is profile stream, which is not closed
+     * @param name name of the profile in error messages
+     * @return Language profile instance
+     * @throws LangDetectException
+     *  code = ErrorCode.FileLoadError : Can't read the stream
+     *  code = ErrorCode.FormatError : The stream is not a language profile
+     */
+    public static LangProfile read(InputStream is, String name) throws LangDetectException {
+        try {
+            ProfileReader parser = new ProfileReader(new BufferedReader(new InputStreamReader(is, "utf-8")));
+            LangProfile profile = parser.readProfile();
+            if (profile.name == null) throw new IOException("no name");
+            return profile;
+        } catch (IllegalArgumentException e) {
+            throw new LangDetectException(ErrorCode.FormatError, "profile format error in '" + name + "': " + e.getMessage());
+        } catch (IOException e) {
+            throw new LangDetectException(ErrorCode.FileLoadError, "can't read '" + name + "': " + e.getMessage());
+        }
+    }
+
+    private LangProfile readProfile() throws IOException {
+        LangProfile profile = new LangProfile(null, new HashMap<String, Integer>(), new int[NGram.N_GRAM]);
+        expect('{');
+        do {
+            String key = readString();
+            expect(':');
+            if (key.equals("name")) {
+                profile.name = readString();
+            } else if (key.equals("n_words")) {
+                expect('[');
+                for (int n = 0; n < NGram.N_GRAM; ++n) {
+                    if (n > 0) expect(',');
+                    profile.n_words[n] = readInt();
+                }
+                expect(']');
+            } else if (key.equals("freq")) {
+                expect('{');
+                if (!skip('}')) {
+                    do {
+                        String gram = readString();
+                        expect(':');
+                        profile.freq.put(gram, readInt());
+                    } while (skip(','));
+                    expect('}');
+                }
+            } else {
+                throw new IllegalArgumentException("unknown key \"" + key + "\"");
+            }
+        } while (skip(','));
+        expect('}');
+        return profile;
+    }
+
+    private String readString() throws IOException {
+        expect('"');
+        StringBuilder buffer = new StringBuilder();
+        for (int ch = read(); ch != '"'; ch = read()) {
+            if (ch == '\\') {
+                ch = read();
+                switch (ch) {
+                case 'u':
+                    int code = 0;
+                    for (int i = 0; i < 4; ++i) {
+                        int digit = Character.digit(read(), 16);
+                        if (digit < 0) throw new IllegalArgumentException("bad \\u escape");
+                        code = code * 16 + digit;
+                    }
+                    ch = code;
+                    break;
+                case 'n': ch = '\n'; break;
+                case 't': ch = '\t'; break;
+                case 'r': ch = '\r'; break;
+                case 'b': ch = '\b'; break;
+                case 'f': ch = '\f'; break;
+                default: break; // '"', '\\', '/'
+                }
+            }
+            buffer.append((char) ch);
+        }
+        return buffer.toString();
+    }
+
+    private int readInt() throws IOException {
+        skipSpaces();
+        boolean negative = skip('-');
+        long value = 0;
+        if (Character.digit(next_, 10) < 0) throw new IllegalArgumentException("number expected");
+        while (Character.digit(next_, 10) >= 0) {
+            value = value * 10 + Character.digit(read(), 10);
+            if (value > Integer.MAX_VALUE) throw new IllegalArgumentException("number too large");
+        }
+        return (int) (negative ? -value : value);
+    }
+
+    private void expect(char ch) throws IOException {
+        if (!skip(ch)) {
+            throw new IllegalArgumentException("'" + ch + "' expected");
+        }
+    }
+
+    private boolean skip(char ch) throws IOException {
+        skipSpaces();
+        if (next_ != ch) return false;
+        read();
+        return true;
+    }
+
+    private void skipSpaces() throws IOException {
+        while (next_ == ' ' || next_ == '\t' || next_ == '\n' || next_ == '\r') read();
+    }
+
+    private int read() throws IOException {
+        int ch = next_;
+        if (ch < 0) throw new IllegalArgumentException("unexpected end of file");
+        next_ = reader_.read();
+        return ch;
+    }
+}
@@ -100,12 +100,11 @@ public class LangProfile {
     public void update(String text) {
         if (text == null) return;
         text = NGram.normalize_vi(text);
-        NGram gram = new NGram();
-        for(int i=0; i<text.length(); ++i) {
-            gram.addChar(text.charAt(i));
-            for(int n=1; n<=NGram.N_GRAM; ++n) {
-                add(gram.get(n));
+        NGramExtractor extractor = new NGramExtractor(new NGramSink() {
+            public void add(long key) {
+                LangProfile.this.add(NGramIndex.unpack(key));
             }
-        }
+        });
+        extractor.addText(text);
     }
 }
@@ -7,6 +7,7 @@ import java.util.regex.Pattern;
 
 /**
  * Cut out N-gram from text. 
+ * {@link NGramExtractor} yields the same n-grams without allocation.
  * Users don't use this class directly.
  * @author Nakatani Shuyo
  */
@@ -73,6 +74,16 @@ public class NGram {
      * @return Normalized character
      */
     static public char normalize(char ch) {
+        return NORMALIZED_CHARS[ch];
+    }
+
+    /**
+     * Character Normalization by Unicode block.
+     * It is evaluated once for every char into {@link #NORMALIZED_CHARS} at class initialization.
+     * @param ch
+     * @return Normalized character
+     */
+    static char normalizeByBlock(char ch) {
         Character.UnicodeBlock block = Character.UnicodeBlock.of(ch);
         if (block == UnicodeBlock.BASIC_LATIN) {
             if (ch<'A' || (ch<'a' && ch >'Z') || ch>'z') ch = ' ';
@@ -122,6 +133,21 @@ public class NGram {
         return buf.toString();
     }
 
+    /**
+     * Compose a Vietnamese alphabet and a following diacritical mark (U+03xx) into one U+1Exx character,
+     * as {@link #normalize_vi(String)} does for each pair.
+     * @param alphabet
+     * @param dmark diacritical mark
+     * @return composed character (0 if the pair is not composed)
+     */
+    static char composeVi(char alphabet, char dmark) {
+        int mark = DMARK_CLASS.indexOf(dmark);
+        if (mark < 0) return 0;
+        int index = TO_NORMALIZE_VI_CHARS.indexOf(alphabet);
+        if (index < 0) return 0;
+        return NORMALIZED_VI_CHARS[mark].charAt(index);
+    }
+
     private static final String[] NORMALIZED_VI_CHARS = {
             Messages.getString("NORMALIZED_VI_CHARS_0300"),
             Messages.getString("NORMALIZED_VI_CHARS_0301"),
@@ -274,4 +300,15 @@ public class NGram {
         }
     }
 
+    /**
+     * Normalized character for every UTF-16 code unit, so that {@link #normalize(char)} is one array load.
+     * (built from {@link #cjk_map} as it is at class initialization)
+     */
+    private static final char[] NORMALIZED_CHARS = new char[Character.MAX_VALUE + 1];
+    static {
+        for (int ch = Character.MIN_VALUE; ch <= Character.MAX_VALUE; ++ch) {
+            NORMALIZED_CHARS[ch] = normalizeByBlock((char) ch);
+        }
+    }
+
 }
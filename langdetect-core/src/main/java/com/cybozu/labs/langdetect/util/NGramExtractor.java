@@ -0,0 +1,78 @@
+package com.cybozu.labs.langdetect.util;
+
+/**
+ * Cut out N-grams from text and push them to a {@link NGramSink} as packed keys.
+ * <p>
+ * It yields exactly the n-grams of {@link NGram#get(int)}, but keeps the last
+ * {@link NGram#N_GRAM} normalized characters in primitive fields instead of a
+ * {@link StringBuffer}, so extraction allocates nothing.
+ * Training ({@link LangProfile#update(String)}) and detection share it.
+ * Users don't use this class directly.
+ */
+public class NGramExtractor {
+    private final NGramSink sink_;
+    private char last_;
+    private char second_;
+    private char third_;
+    private int length_;
+    private boolean capitalword_;
+
+    /**
+     * Constructor.
+     * @param sink receiver of the n-grams
+     */
+    public NGramExtractor(NGramSink sink) {
+        sink_ = sink;
+        clear();
+    }
+
+    /**
+     * Forget the characters seen so far (start of a new text).
+     */
+    public void clear() {
+        last_ = ' ';
+        length_ = 1;
+        capitalword_ = false;
+    }
+
+    /**
+     * Append a character and push the 1, 2 and 3-grams ending with it to the sink.
+     * @param ch
+     */
+    public void addChar(char ch) {
+        ch = NGram.normalize(ch);
+        char lastchar = last_;
+        if (lastchar == ' ') {
+            length_ = 1;
+            capitalword_ = false;
+            if (ch == ' ') return;
+        } else if (length_ >= NGram.N_GRAM) {
+            --length_;
+        }
+        third_ = second_;
+        second_ = lastchar;
+        last_ = ch;
+        ++length_;
+
+        if (Character.isUpperCase(ch)) {
+            if (Character.isUpperCase(lastchar)) capitalword_ = true;
+        } else {
+            capitalword_ = false;
+        }
+        if (capitalword_) return;
+
+        if (ch != ' ') sink_.add(NGramIndex.pack(ch));
+        if (length_ >= 2) sink_.add(NGramIndex.pack(second_, ch));
+        if (length_ >= 3) sink_.add(NGramIndex.pack(third_, second_, ch));
+    }
+
+    /**
+     * Append every character of a text.
+     * @param text
+     */
+    public void addText(CharSequence text) {
+        for (int i = 0; i < text.length(); ++i) {
+            addChar(text.charAt(i));
+        }
+    }
+}
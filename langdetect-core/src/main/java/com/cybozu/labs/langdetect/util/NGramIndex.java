@@ -0,0 +1,257 @@
+package com.cybozu.labs.langdetect.util;
+
+import java.util.Arrays;
+
+/**
+ * {@link NGramIndex} assigns a dense int id to every known n-gram.
+ * <p>
+ * N-grams are packed into a <code>long</code> (see {@link #pack(CharSequence)}), and the index is
+ * an open-addressing hash table with linear probing over primitive arrays,
+ * so looking up an n-gram neither creates a {@link String} nor boxes anything.
+ * Ids are assigned in insertion order starting from 0.
+ * Users don't use this class directly.
+ */
+public class NGramIndex {
+    /** Returned by {@link #get(long)} when the n-gram is not in the index. */
+    public static final int NOT_FOUND = -1;
+
+    private static final long EMPTY = 0L;
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys_;
+    private int[] ids_;
+    private long[] idToKey_;
+    private int size_;
+    private int shift_;
+
+    /**
+     * Constructor.
+     */
+    public NGramIndex() {
+        this(MIN_CAPACITY);
+    }
+
+    /**
+     * Constructor.
+     * @param expectedSize number of n-grams expected to be added
+     */
+    public NGramIndex(int expectedSize) {
+        allocate(tableSize(expectedSize));
+        idToKey_ = new long[Math.max(expectedSize, MIN_CAPACITY)];
+        size_ = 0;
+    }
+
+    /**
+     * Pack a single character into an n-gram key.
+     * @param ch character
+     * @return n-gram key
+     */
+    public static long pack(char ch) {
+        return (1L << 16) | ch;
+    }
+
+    /**
+     * Pack a 2-gram into an n-gram key.
+     * @param ch1 first character
+     * @param ch2 second character
+     * @return n-gram key
+     */
+    public static long pack(char ch1, char ch2) {
+        return (2L << 32) | ((long) ch1 << 16) | ch2;
+    }
+
+    /**
+     * Pack a 3-gram into an n-gram key.
+     * @param ch1 first character
+     * @param ch2 second character
+     * @param ch3 third character
+     * @return n-gram key
+     */
+    public static long pack(char ch1, char ch2, char ch3) {
+        return (3L << 48) | ((long) ch1 << 32) | ((long) ch2 << 16) | ch3;
+    }
+
+    /**
+     * Pack an n-gram into a key.
+     * The length is kept in the upper bits, so keys of different lengths never collide.
+     * @param gram n-gram (1 to {@link NGram#N_GRAM} characters)
+     * @return n-gram key (0 if the n-gram has an invalid length)
+     */
+    public static long pack(CharSequence gram) {
+        if (gram == null) return EMPTY;
+        switch (gram.length()) {
+        case 1:
+            return pack(gram.charAt(0));
+        case 2:
+            return pack(gram.charAt(0), gram.charAt(1));
+        case 3:
+            return pack(gram.charAt(0), gram.charAt(1), gram.charAt(2));
+        default:
+            return EMPTY;
+        }
+    }
+
+    /**
+     * Unpack an n-gram key into its string form.
+     * @param key n-gram key made by one of the <code>pack</code> methods
+     * @return n-gram string
+     */
+    public static String unpack(long key) {
+        int n = lengthOf(key);
+        char[] chars = new char[n];
+        for (int i = n - 1; i >= 0; --i) {
+            chars[i] = (char) key;
+            key >>>= 16;
+        }
+        return new String(chars);
+    }
+
+    /**
+     * @param key n-gram key
+     * @return true if the key was made by one of the <code>pack</code> methods
+     */
+    public static boolean isValid(long key) {
+        if (key >>> 48 != 0) return key >>> 48 == 3;
+        if (key >>> 32 != 0) return key >>> 32 == 2;
+        return key >>> 16 == 1;
+    }
+
+    private static int lengthOf(long key) {
+        if (key >>> 48 != 0) return 3;
+        if (key >>> 32 != 0) return 2;
+        return 1;
+    }
+
+    /**
+     * Get the id of an n-gram.
+     * @param key n-gram key
+     * @return id of the n-gram or {@link #NOT_FOUND}
+     */
+    public int get(long key) {
+        if (key == EMPTY) return NOT_FOUND;
+        int mask = keys_.length - 1;
+        for (int slot = slotOf(key); ; slot = (slot + 1) & mask) {
+            long k = keys_[slot];
+            if (k == key) return ids_[slot];
+            if (k == EMPTY) return NOT_FOUND;
+        }
+    }
+
+    /**
+     * Get the id of an n-gram.
+     * @param gram n-gram string
+     * @return id of the n-gram or {@link #NOT_FOUND}
+     */
+    public int get(CharSequence gram) {
+        return get(pack(gram));
+    }
+
+    /**
+     * Add an n-gram to the index unless it is already there.
+     * @param key n-gram key
+     * @return id of the n-gram
+     */
+    public int add(long key) {
+        if (key == EMPTY) throw new IllegalArgumentException("invalid n-gram key");
+        int mask = keys_.length - 1;
+        int slot = slotOf(key);
+        for (; keys_[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (keys_[slot] == key) return ids_[slot];
+        }
+        int id = size_++;
+        keys_[slot] = key;
+        ids_[slot] = id;
+        if (id == idToKey_.length) idToKey_ = Arrays.copyOf(idToKey_, id * 2);
+        idToKey_[id] = key;
+        if (size_ * 2 > keys_.length) rehash(keys_.length * 2);
+        return id;
+    }
+
+    /**
+     * @param id n-gram id
+     * @return n-gram key of the id
+     */
+    public long key(int id) {
+        if (id < 0 || id >= size_) throw new IndexOutOfBoundsException("id: " + id);
+        return idToKey_[id];
+    }
+
+    /**
+     * @param id n-gram id
+     * @return n-gram string of the id
+     */
+    public String gram(int id) {
+        return unpack(key(id));
+    }
+
+    /**
+     * @return number of n-grams in the index
+     */
+    public int size() {
+        return size_;
+    }
+
+    /**
+     * @return approximate heap size of the index, in bytes
+     */
+    public long sizeInBytes() {
+        return 12L * keys_.length + 8L * idToKey_.length;
+    }
+
+    /**
+     * Renumber the n-grams, e.g. to give frequent n-grams neighbouring ids.
+     * @param newIds new id of every n-gram, indexed by its current id (a permutation of <code>0..size()-1</code>)
+     */
+    public void remap(int[] newIds) {
+        if (newIds.length != size_) throw new IllegalArgumentException("remap needs " + size_ + " ids");
+        long[] idToKey = new long[idToKey_.length];
+        for (int id = 0; id < size_; ++id) {
+            idToKey[newIds[id]] = idToKey_[id];
+        }
+        for (int slot = 0; slot < keys_.length; ++slot) {
+            if (keys_[slot] != EMPTY) ids_[slot] = newIds[ids_[slot]];
+        }
+        idToKey_ = idToKey;
+    }
+
+    /**
+     * Remove all n-grams.
+     */
+    public void clear() {
+        allocate(MIN_CAPACITY);
+        idToKey_ = new long[MIN_CAPACITY];
+        size_ = 0;
+    }
+
+    private int slotOf(long key) {
+        return (int) ((key * GOLDEN_RATIO) >>> shift_);
+    }
+
+    private void allocate(int capacity) {
+        keys_ = new long[capacity];
+        ids_ = new int[capacity];
+        shift_ = Long.numberOfLeadingZeros(capacity - 1);
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys_;
+        int[] oldIds = ids_;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; ++i) {
+            long key = oldKeys[i];
+            if (key == EMPTY) continue;
+            int slot = slotOf(key);
+            while (keys_[slot] != EMPTY) slot = (slot + 1) & mask;
+            keys_[slot] = key;
+            ids_[slot] = oldIds[i];
+        }
+    }
+
+    private static int tableSize(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2) capacity <<= 1;
+        return capacity;
+    }
+}
@@ -0,0 +1,13 @@
+package com.cybozu.labs.langdetect.util;
+
+/**
+ * {@link NGramSink} receives the n-grams cut out by {@link NGramExtractor}.
+ * Users don't use this interface directly.
+ */
+public interface NGramSink {
+    /**
+     * Receive one n-gram.
+     * @param key n-gram packed by {@link NGramIndex#pack(CharSequence)}
+     */
+    void add(long key);
+}
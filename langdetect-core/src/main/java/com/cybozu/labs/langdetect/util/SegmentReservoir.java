@@ -0,0 +1,161 @@
+package com.cybozu.labs.langdetect.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.util.Random;
+
+/**
+ * {@link SegmentReservoir} keeps a uniform random sample of the segments of a text of any length.
+ * <p>
+ * The text is read once, cut into segments of a fixed length, and every segment
+ * replaces a random segment of the sample with the probability <code>capacity / segments read</code>
+ * (reservoir sampling), so the sample is spread over the whole text
+ * while memory stays at <code>capacity * segmentLength</code> characters.
+ * A replaced segment buffer is reused for reading the next segment, so nothing is allocated per segment.
+ * Users don't use this class directly.
+ */
+public class SegmentReservoir {
+    private final int segmentLength_;
+    private final char[][] segments_;
+    private final int[] lengths_;
+    private final long[] positions_;
+    private final int[] order_;
+    private final Random random_;
+    private char[] scratch_;
+    private int size_;
+    private long seen_;
+
+    /**
+     * Constructor.
+     * @param capacity number of segments to keep
+     * @param segmentLength number of characters of a segment
+     * @param random source of the sampling decisions
+     */
+    public SegmentReservoir(int capacity, int segmentLength, Random random) {
+        if (capacity < 1 || segmentLength < 1) throw new IllegalArgumentException("empty reservoir");
+        segmentLength_ = segmentLength;
+        segments_ = new char[capacity][];
+        lengths_ = new int[capacity];
+        positions_ = new long[capacity];
+        order_ = new int[capacity];
+        random_ = random;
+        scratch_ = new char[segmentLength];
+    }
+
+    /**
+     * Read a text to its end and sample its segments.
+     * The sample of a previous text is discarded.
+     * @param reader the text
+     * @throws IOException Can't read the reader.
+     */
+    public void read(Reader reader) throws IOException {
+        clear();
+        while (true) {
+            int length = 0;
+            int n;
+            while (length < segmentLength_ && (n = reader.read(scratch_, length, segmentLength_ - length)) >= 0) {
+                length += n;
+            }
+            if (length > 0) offer(length);
+            if (length < segmentLength_) break;
+        }
+        sortByPosition();
+    }
+
+    private void offer(int length) {
+        int slot;
+        if (size_ < segments_.length) {
+            slot = size_++;
+        } else {
+            long r = (long) (random_.nextDouble() * (seen_ + 1));
+            if (r >= segments_.length) {
+                ++seen_;
+                return;
+            }
+            slot = (int) r;
+        }
+        char[] taken = scratch_;
+        scratch_ = segments_[slot] != null ? segments_[slot] : new char[segmentLength_];
+        segments_[slot] = taken;
+        lengths_[slot] = length;
+        positions_[slot] = seen_++;
+    }
+
+    private void sortByPosition() {
+        for (int i = 0; i < size_; ++i) {
+            int slot = i;
+            int j = i;
+            while (j > 0 && positions_[order_[j - 1]] > positions_[slot]) {
+                order_[j] = order_[j - 1];
+                --j;
+            }
+            order_[j] = slot;
+        }
+    }
+
+    /**
+     * @return maximum number of segments in the sample
+     */
+    public int capacity() {
+        return segments_.length;
+    }
+
+    /**
+     * @return number of segments in the sample
+     */
+    public int size() {
+        return size_;
+    }
+
+    /**
+     * @return number of segments the text was cut into
+     */
+    public long segmentCount() {
+        return seen_;
+    }
+
+    /**
+     * Get a segment of the sample, in the order of the text.
+     * Words cut by the segment boundaries are dropped, so that they don't make n-grams which are not in the text;
+     * a full segment without any white space (e.g. CJK text) is kept whole,
+     * and a segment holding nothing but a cut word is empty.
+     * @param i index in the sample, <code>0 .. size() - 1</code>
+     * @return the segment (valid until the next call of {@link #read(Reader)})
+     */
+    public CharSequence segment(int i) {
+        if (i < 0 || i >= size_) throw new IndexOutOfBoundsException("segment: " + i);
+        int slot = order_[i];
+        char[] chars = segments_[slot];
+        int start = 0;
+        int end = lengths_[slot];
+        if (positions_[slot] > 0) {
+            while (start < end && !Character.isWhitespace(chars[start])) ++start;
+        }
+        if (end == segmentLength_) {
+            while (end > start && !Character.isWhitespace(chars[end - 1])) --end;
+        }
+        if (start >= end) {
+            // nothing but a cut word: keep a full segment without white space, drop a fragment
+            int length = lengths_[slot];
+            start = 0;
+            end = length == segmentLength_ && !hasWhitespace(chars, length) ? length : 0;
+        }
+        return CharBuffer.wrap(chars, start, end - start);
+    }
+
+    private static boolean hasWhitespace(char[] chars, int length) {
+        for (int i = 0; i < length; ++i) {
+            if (Character.isWhitespace(chars[i])) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Discard the sample, keeping the segment buffers.
+     */
+    public void clear() {
+        size_ = 0;
+        seen_ = 0;
+    }
+}
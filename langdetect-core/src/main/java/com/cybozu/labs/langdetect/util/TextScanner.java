@@ -0,0 +1,191 @@
+package com.cybozu.labs.langdetect.util;
+
+import java.util.Arrays;
+
+/**
+ * {@link TextScanner} cleans the text to detect in a single pass over the input.
+ * <p>
+ * It replaces URLs and e-mail addresses with a space, composes Vietnamese alphabets with
+ * their diacritical marks ({@link NGram#normalize_vi(String)}), collapses runs of spaces and
+ * counts Latin and non-Latin characters and the characters of every Unicode script ({@link UnicodeScripts}),
+ * all while appending to one reusable buffer.
+ * The result is the same as applying the regular expressions
+ * <code>https?://[-_.?&amp;~;+=/#0-9A-Za-z]{1,2076}</code> and
+ * <code>[-_.0-9A-Za-z]{1,64}@[-_0-9A-Za-z]{1,255}[-_.0-9A-Za-z]{1,255}</code>,
+ * then {@link NGram#normalize_vi(String)}, then the space collapsing, one after another.
+ * Users don't use this class directly.
+ */
+public class TextScanner {
+    private static final int URL_MAX_LENGTH = 2076;
+    private static final int MAIL_LOCAL_MAX_LENGTH = 64;
+    private static final int MAIL_DOMAIN_MAX_LENGTH = 255;
+
+    private final StringBuilder text_;
+    private int latinCount_;
+    private int nonLatinCount_;
+    private final int[] scriptCounts_;
+
+    /**
+     * Constructor.
+     */
+    public TextScanner() {
+        text_ = new StringBuilder();
+        scriptCounts_ = new int[UnicodeScripts.COUNT];
+    }
+
+    /**
+     * Clean the input and append it to the text.
+     * @param input text to append
+     * @param maxLength maximum number of cleaned characters to take from the input
+     * @return number of cleaned characters taken from the input, counting the collapsed spaces
+     */
+    public int append(CharSequence input, int maxLength) {
+        int length = input.length();
+        int taken = 0;
+        char pre = 0;
+        int checkedRunEnd = 0;
+        int mailStart = -1;
+        int mailEnd = -1;
+        int i = 0;
+        while (i < length && taken < maxLength) {
+            char ch = input.charAt(i);
+            int end;
+            if (i == mailStart) {
+                ch = ' ';
+                i = mailEnd;
+            } else if (ch == 'h' && (end = urlEnd(input, i)) > 0) {
+                ch = ' ';
+                i = end;
+            } else {
+                if (i >= checkedRunEnd && isMailLocalChar(ch)) {
+                    // a run of characters which may be the local part of an e-mail address
+                    int runEnd = i + 1;
+                    while (runEnd < length && isMailLocalChar(input.charAt(runEnd)) && urlEnd(input, runEnd) < 0) {
+                        ++runEnd;
+                    }
+                    checkedRunEnd = runEnd;
+                    if (runEnd < length && input.charAt(runEnd) == '@' && (end = mailDomainEnd(input, runEnd + 1)) > 0) {
+                        mailStart = Math.max(i, runEnd - MAIL_LOCAL_MAX_LENGTH);
+                        mailEnd = end;
+                        if (i == mailStart) continue;
+                    }
+                }
+                char composed;
+                if (i + 1 < length && (composed = NGram.composeVi(ch, input.charAt(i + 1))) != 0) {
+                    ch = composed;
+                    i += 2;
+                } else {
+                    ++i;
+                }
+            }
+
+            ++taken;
+            if (ch != ' ' || pre != ' ') {
+                text_.append(ch);
+                if (ch <= 'z' && ch >= 'A') {
+                    ++latinCount_;
+                } else if (ch >= '\u0300' && (ch < '\u1e00' || ch > '\u1eff')) {   // except LATIN_EXTENDED_ADDITIONAL
+                    ++nonLatinCount_;
+                }
+                ++scriptCounts_[UnicodeScripts.of(ch)];
+            }
+            pre = ch;
+        }
+        return taken;
+    }
+
+    /**
+     * @return cleaned text (valid until the next call of {@link #append(CharSequence, int)} or {@link #clear()})
+     */
+    public CharSequence text() {
+        return text_;
+    }
+
+    /**
+     * @return length of the cleaned text
+     */
+    public int length() {
+        return text_.length();
+    }
+
+    /**
+     * @return true if the text is not written in Latin alphabet (less than a third of the letters are Latin),
+     *         so that the Latin characters in it should be eliminated as noise
+     */
+    public boolean isNonLatinText() {
+        return latinCount_ * 2 < nonLatinCount_;
+    }
+
+    /**
+     * @param script script (see {@link UnicodeScripts})
+     * @return number of characters of the script in the cleaned text
+     */
+    public int scriptCount(int script) {
+        return scriptCounts_[script];
+    }
+
+    /**
+     * Clear the text, keeping the capacity of the buffer.
+     */
+    public void clear() {
+        text_.setLength(0);
+        latinCount_ = 0;
+        nonLatinCount_ = 0;
+        Arrays.fill(scriptCounts_, 0);
+    }
+
+    /**
+     * @return end of the URL starting at <code>start</code>, or -1 if there is none
+     */
+    private static int urlEnd(CharSequence input, int start) {
+        int length = input.length();
+        if (input.charAt(start) != 'h' || !startsWith(input, start, "http")) return -1;
+        int i = start + 4;
+        if (i < length && input.charAt(i) == 's') ++i;
+        if (!startsWith(input, i, "://")) return -1;
+        i += 3;
+        int end = i;
+        while (end < length && end - i < URL_MAX_LENGTH && isUrlChar(input.charAt(end))) ++end;
+        return end > i ? end : -1;
+    }
+
+    /**
+     * @return end of the domain part of an e-mail address starting at <code>start</code>, or -1 if there is none
+     */
+    private static int mailDomainEnd(CharSequence input, int start) {
+        int length = input.length();
+        int limit = Math.min(length, start + MAIL_DOMAIN_MAX_LENGTH * 2);
+        int firstDot = -1;
+        int end = start;
+        while (end < limit && isMailLocalChar(input.charAt(end)) && urlEnd(input, end) < 0) {
+            if (firstDot < 0 && input.charAt(end) == '.') firstDot = end;
+            ++end;
+        }
+        // [-_0-9A-Za-z]{1,255} followed by [-_.0-9A-Za-z]{1,255}
+        int first = Math.min((firstDot < 0 ? end : firstDot) - start, MAIL_DOMAIN_MAX_LENGTH);
+        if (first == 0) return -1;
+        int rest = end - start - first;
+        if (rest > 0) return start + first + Math.min(rest, MAIL_DOMAIN_MAX_LENGTH);
+        return first >= 2 ? end : -1;
+    }
+
+    private static boolean startsWith(CharSequence input, int start, String prefix) {
+        if (start + prefix.length() > input.length()) return false;
+        for (int i = 0; i < prefix.length(); ++i) {
+            if (input.charAt(start + i) != prefix.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    private static boolean isAlnum(char ch) {
+        return (ch >= '0' && ch <= '9') || (ch >= 'A' && ch <= 'Z') || (ch >= 'a' && ch <= 'z');
+    }
+
+    private static boolean isMailLocalChar(char ch) {
+        return isAlnum(ch) || ch == '-' || ch == '_' || ch == '.';
+    }
+
+    private static boolean isUrlChar(char ch) {
+        return isAlnum(ch) || "-_.?&~;+=/#".indexOf(ch) >= 0;
+    }
+}
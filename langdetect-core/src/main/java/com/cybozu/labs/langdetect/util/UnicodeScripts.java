@@ -0,0 +1,63 @@
+package com.cybozu.labs.langdetect.util;
+
+import java.lang.Character.UnicodeScript;
+import java.util.Arrays;
+
+/**
+ * {@link UnicodeScripts} maps characters to their {@link UnicodeScript} with a table,
+ * so that the script of every character of a text can be counted cheaply.
+ * The table is filled on first use of each character, which keeps the class quick to load.
+ * Scripts are identified by the ordinal of their {@link UnicodeScript} constant.
+ * Users don't use this class directly.
+ */
+public final class UnicodeScripts {
+    /** Number of scripts. */
+    public static final int COUNT = UnicodeScript.values().length;
+    /** {@link UnicodeScript#LATIN} */
+    public static final int LATIN = UnicodeScript.LATIN.ordinal();
+
+    private static final byte UNSET = (byte) 0xff;
+    /** Script of every character, or {@link #UNSET}. Racing threads can only write the same value. */
+    private static final byte[] SCRIPT_OF_CHAR = new byte[Character.MAX_VALUE + 1];
+
+    static {
+        if (COUNT >= 0xff) throw new IllegalStateException("too many Unicode scripts: " + COUNT);
+        Arrays.fill(SCRIPT_OF_CHAR, UNSET);
+    }
+
+    private UnicodeScripts() {
+    }
+
+    /**
+     * @param ch character (surrogates belong to {@link UnicodeScript#UNKNOWN})
+     * @return script of the character
+     */
+    public static int of(char ch) {
+        byte script = SCRIPT_OF_CHAR[ch];
+        if (script == UNSET) {
+            script = (byte) UnicodeScript.of(ch).ordinal();
+            SCRIPT_OF_CHAR[ch] = script;
+        }
+        return script & 0xff;
+    }
+
+    /**
+     * @param script script
+     * @return false for the scripts which are shared by all languages:
+     *         {@link UnicodeScript#COMMON} (spaces, digits, punctuation), {@link UnicodeScript#INHERITED}
+     *         (combining marks) and {@link UnicodeScript#UNKNOWN}
+     */
+    public static boolean isDistinctive(int script) {
+        return script != UnicodeScript.COMMON.ordinal()
+                && script != UnicodeScript.INHERITED.ordinal()
+                && script != UnicodeScript.UNKNOWN.ordinal();
+    }
+
+    /**
+     * @param script script
+     * @return the {@link UnicodeScript} constant of the script
+     */
+    public static UnicodeScript toUnicodeScript(int script) {
+        return UnicodeScript.values()[script];
+    }
+}
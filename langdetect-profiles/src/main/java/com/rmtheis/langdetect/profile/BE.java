@@ -1,7048 +1,15 @@
 package com.rmtheis.langdetect.profile;
 
-import java.util.HashMap;
-
 import com.cybozu.labs.langdetect.util.LangProfile;
-import com.cybozu.labs.langdetect.util.NGram;
 
 public class BE {
   private static final String name = "be";
-  private static final HashMap<String, Integer> freq = new HashMap<String, Integer>();
-  private static final int[] n_words = new int[NGram.N_GRAM];
 
   public BE() {
-    init();  
   }
 
   public final LangProfile getLangProfile() {
-    return new LangProfile(name, freq, n_words);
+    return Profiles.load(name);
   }
-  
-  private void init() {
-    n_words[0] = 2920251;
-    n_words[1] = 3371645;
-    n_words[2] = 2840079;
-
-    freq.put("бія", 261);
-    freq.put("біш", 30);
-    freq.put("біц", 97);
-    freq.put("бір", 254);
-    freq.put("біс", 110);
-    freq.put("біт", 337);
-    freq.put("вёл", 191);
-    freq.put("біў", 30);
-    freq.put("біі", 74);
-    freq.put("аі ", 116);
-    freq.put("інь", 71);
-    freq.put("пол", 917);
-    freq.put("пой", 42);
-    freq.put("поп", 52);
-    freq.put("пом", 240);
-    freq.put("пон", 159);
-    freq.put("пов", 143);
-    freq.put("пог", 40);
-    freq.put("поб", 61);
-    freq.put("поз", 56);
-    freq.put("под", 31);
-    freq.put("іны", 1532);
-    freq.put("пош", 229);
-    freq.put("поя", 86);
-    freq.put("пот", 47);
-    freq.put("пор", 253);
-    freq.put("пос", 281);
-    freq.put("пох", 138);
-    freq.put("поў", 1138);
-    freq.put("Ён ", 95);
-    freq.put("ю́", 37);
-    freq.put("бін", 329);
-    freq.put("біл", 258);
-    freq.put("біб", 140);
-    freq.put("Юпі", 32);
-    freq.put("ей ", 1261);
-    freq.put(" Ам", 373);
-    freq.put("смі", 152);
-    freq.put("φ", 31);
-    freq.put("смя", 30);
-    freq.put("ть ", 43);
-    freq.put("сме", 163);
-    freq.put("сма", 214);
-    freq.put("езо", 37);
-    freq.put("езн", 57);
-    freq.put("езв", 30);
-    freq.put("еза", 333);
-    freq.put("езд", 92);
-    freq.put("адд", 189);
-    freq.put("ам ", 5572);
-    freq.put("Ю", 449);
-    freq.put("ФА ", 38);
-    freq.put("ідр", 143);
-    freq.put(" Нё", 167);
-    freq.put("езі", 121);
-    freq.put("езу", 41);
-    freq.put("езс", 32);
-    freq.put("Ве", 852);
-    freq.put("ьны", 2164);
-    freq.put("зіў", 311);
-    freq.put("ьню", 37);
-    freq.put("ьня", 240);
-    freq.put("Сэр", 42);
-    freq.put("Во", 381);
-    freq.put("зіё", 62);
-    freq.put("зіі", 325);
-    freq.put("зія", 259);
-    freq.put("зіт", 188);
-    freq.put("зір", 164);
-    freq.put("зіс", 189);
-    freq.put("зіц", 2015);
-    freq.put("зіч", 188);
-    freq.put("ьні", 1991);
-    freq.put("ά", 34);
-    freq.put("Скл", 97);
-    freq.put("Ско", 34);
-    freq.put("Ска", 109);
-    freq.put("م", 42);
-    freq.put("обу", 43);
-    freq.put(" Нь", 152);
-    freq.put("Е ", 49);
-    freq.put("ος ", 47);
-    freq.put("зік", 234);
-    freq.put("зіл", 454);
-    freq.put("Ві", 2354);
-    freq.put("зій", 110);
-    freq.put("Вё", 46);
-    freq.put("Льв", 51);
-    freq.put("зін", 2394);
-    freq.put("зів", 77);
-    freq.put("зіб", 40);
-    freq.put("зід", 469);
-    freq.put("Вт", 30);
-    freq.put("Ву", 156);
-    freq.put("ьна", 3522);
-    freq.put("Вэ", 59);
-    freq.put("Вя", 1136);
-    freq.put("ьне", 54);
-    freq.put("Вы", 551);
-    freq.put("ён ", 1161);
-    freq.put("ддз", 819);
-    freq.put("́чн", 65);
-    freq.put("ёма", 264);
-    freq.put("ід", 2396);
-    freq.put("ўжы", 786);
-    freq.put(" ду", 237);
-    freq.put(" др", 873);
-    freq.put("За ", 118);
-    freq.put(" до", 547);
-    freq.put("ня ", 7991);
-    freq.put(" дн", 89);
-    freq.put(" Яп", 81);
-    freq.put(" Ям", 41);
-    freq.put(" Ян", 366);
-    freq.put(" Як", 194);
-    freq.put(" Яз", 33);
-    freq.put(" Яе", 55);
-    freq.put(" Яг", 110);
-    freq.put("омб", 39);
-    freq.put("ома", 530);
-    freq.put("оме", 537);
-    freq.put("омк", 35);
-    freq.put("омн", 397);
-    freq.put("Звы", 84);
-    freq.put("омп", 217);
-    freq.put(" дз", 3834);
-    freq.put("омі", 208);
-    freq.put("омс", 37);
-    freq.put("ому", 79);
-    freq.put("омы", 479);
-    freq.put(" да", 4876);
-    freq.put(" Яр", 66);
-    freq.put(" Яс", 39);
-    freq.put(" Яў", 82);
-    freq.put("цтв", 1488);
-    freq.put("ыг", 1190);
-    freq.put("ыв", 2798);
-    freq.put("ыб", 1089);
-    freq.put("ыа", 93);
-    freq.put("ыз", 1462);
-    freq.put("ыж", 621);
-    freq.put("ые", 422);
-    freq.put("ыд", 1241);
-    freq.put("ыл", 2630);
-    freq.put("ык", 5154);
-    freq.put("ый", 3583);
-    freq.put("ып", 1344);
-    freq.put("ын", 7117);
-    freq.put("ым", 7775);
-    freq.put("зеі", 76);
-    freq.put("зет", 181);
-    freq.put("зес", 79);
-    freq.put("зер", 837);
-    freq.put("зеч", 48);
-    freq.put("зец", 79);
-    freq.put("зеф", 51);
-    freq.put("зея", 1270);
-    freq.put("зею", 46);
-    freq.put("зев", 149);
-    freq.put("зед", 31);
-    freq.put("ю ", 4114);
-    freq.put("зей", 983);
-    freq.put("зен", 2249);
-    freq.put("зем", 450);
-    freq.put("ыу", 65);
-    freq.put("ыт", 4595);
-    freq.put("ыс", 4492);
-    freq.put("ыр", 2118);
-    freq.put("ыч", 4590);
-    freq.put("ыц", 2549);
-    freq.put("ых", 9116);
-    freq.put("ыф", 325);
-    freq.put("ыш", 1253);
-    freq.put("í", 45);
-    freq.put("ыю", 468);
-    freq.put("ыэ", 32);
-    freq.put("нэт", 52);
-    freq.put("ыё", 327);
-    freq.put("ыі", 5017);
-    freq.put("ыў", 1511);
-    freq.put("ляй", 41);
-    freq.put("лял", 157);
-    freq.put("ляк", 515);
-    freq.put("лян", 523);
-    freq.put("лям", 155);
-    freq.put("ляп", 52);
-    freq.put("эпу", 90);
-    freq.put("эпт", 32);
-    freq.put("ляг", 70);
-    freq.put("ляв", 357);
-    freq.put("ляе", 1458);
-    freq.put("ляд", 476);
-    freq.put("дзь", 292);
-    freq.put("ляж", 66);
-    freq.put("ішэ", 32);
-    freq.put("дзё", 119);
-    freq.put("дзі", 5619);
-    freq.put("ішы", 40);
-    freq.put("ішч", 525);
-    freq.put("эпі", 61);
-    freq.put("удз", 983);
-    freq.put("Том", 59);
-    freq.put("Цэн", 353);
-    freq.put("х", 31524);
-    freq.put("Тор", 31);
-    freq.put("ішн", 100);
-    freq.put("ляў", 264);
-    freq.put("іша", 59);
-    freq.put("дзв", 272);
-    freq.put("ляш", 82);
-    freq.put("эпо", 147);
-    freq.put("ляю", 358);
-    freq.put("ляс", 137);
-    freq.put("ляр", 429);
-    freq.put("лят", 63);
-    freq.put("лях", 379);
-    freq.put("ляч", 57);
-    freq.put("ляц", 201);
-    freq.put(" Эс", 131);
-    freq.put("ы́", 221);
-    freq.put("по ", 54);
-    freq.put(" Эт", 36);
-    freq.put("ыю ", 455);
-    freq.put("соф", 131);
-    freq.put("сор", 30);
-    freq.put("сот", 46);
-    freq.put("еюч", 44);
-    freq.put("соб", 443);
-    freq.put("сов", 164);
-    freq.put("сон", 220);
-    freq.put("соп", 125);
-    freq.put("сок", 274);
-    freq.put("сол", 95);
-    freq.put("бі ", 113);
-    freq.put("ейб", 47);
-    freq.put("ейд", 35);
-    freq.put("ейк", 89);
-    freq.put("ейн", 1242);
-    freq.put("ейм", 69);
-    freq.put("ейп", 33);
-    freq.put("ля́", 31);
-    freq.put("см ", 32);
-    freq.put("а́ ", 52);
-    freq.put("ейс", 954);
-    freq.put("ейр", 48);
-    freq.put("ейт", 108);
-    freq.put("ейц", 142);
-    freq.put("ейш", 495);
-    freq.put("Сяр", 242);
-    freq.put("ёг", 104);
-    freq.put("ьгі", 90);
-    freq.put("мын", 67);
-    freq.put("ез ", 149);
-    freq.put("о́ў", 49);
-    freq.put("арс", 852);
-    freq.put("йта", 74);
-    freq.put("о́р", 86);
-    freq.put("о́с", 37);
-    freq.put("амв", 66);
-    freq.put("амб", 290);
-    freq.put("ама", 5024);
-    freq.put("амп", 788);
-    freq.put("амо", 893);
-    freq.put("амн", 197);
-    freq.put("амл", 86);
-    freq.put("амк", 209);
-    freq.put("ншы", 656);
-    freq.put("амч", 39);
-    freq.put("аму", 606);
-    freq.put("амс", 153);
-    freq.put("амя", 392);
-    freq.put("ён", 4846);
-    freq.put("амы", 720);
-    freq.put("о́н", 96);
-    freq.put("амі", 3954);
-    freq.put("амё", 56);
-    freq.put("ншт", 77);
-    freq.put("ьге", 83);
-    freq.put("ьга", 63);
-    freq.put("Сян", 37);
-    freq.put("Сям", 105);
-    freq.put("Сял", 35);
-    freq.put("ьта", 106);
-    freq.put("В ", 130);
-    freq.put("Еў", 558);
-    freq.put("Ер", 37);
-    freq.put("с", 133710);
-    freq.put("Ел", 61);
-    freq.put("Ег", 84);
-    freq.put("Ев", 53);
-    freq.put("арн", 832);
-    freq.put("зі ", 552);
-    freq.put(" У ", 1071);
-    freq.put(" Эд", 132);
-    freq.put("ёнк", 36);
-    freq.put("ённ", 196);
-    freq.put(" Эм", 74);
-    freq.put("Зах", 511);
-    freq.put(" Эп", 30);
-    freq.put("Зар", 48);
-    freq.put("Зас", 283);
-    freq.put(" Эк", 93);
-    freq.put(" Эл", 192);
-    freq.put("ткі", 489);
-    freq.put("ўж ", 67);
-    freq.put("Шы", 106);
-    freq.put("тку", 469);
-    freq.put("Шэ", 79);
-    freq.put("Шт", 168);
-    freq.put("Шу", 73);
-    freq.put("Шч", 97);
-    freq.put("Шк", 43);
-    freq.put("Шл", 42);
-    freq.put("Шо", 34);
-    freq.put("тка", 1332);
-    freq.put("Шв", 207);
-    freq.put("тко", 355);
-    freq.put("Ша", 385);
-    freq.put("ўгу", 70);
-    freq.put("Зам", 90);
-    freq.put("ёны", 163);
-    freq.put("Зап", 95);
-    freq.put(" Эр", 122);
-    freq.put("Зай", 63);
-    freq.put("Зак", 122);
-    freq.put("Зал", 102);
-    freq.put("ёну", 63);
-    freq.put("Япо", 76);
-    freq.put("Заб", 68);
-    freq.put("Зав", 43);
-    freq.put("Заг", 36);
-    freq.put(" Я ", 32);
-    freq.put("нял", 55);
-    freq.put("няк", 48);
-    freq.put("няй", 994);
-    freq.put("няп", 300);
-    freq.put("З", 4037);
-    freq.put("ням", 616);
-    freq.put("няг", 395);
-    freq.put("няв", 185);
-    freq.put("няб", 92);
-    freq.put("няз", 409);
-    freq.put("няж", 41);
-    freq.put("няе", 133);
-    freq.put("няд", 90);
-    freq.put("ом ", 502);
-    freq.put("ος", 47);
-    freq.put("сёл", 241);
-    freq.put("зі́", 31);
-    freq.put("няя", 338);
-    freq.put("няю", 43);
-    freq.put("нят", 253);
-    freq.put("няс", 508);
-    freq.put("няц", 180);
-    freq.put("нях", 133);
-    freq.put("няў", 838);
-    freq.put("эбр", 34);
-    freq.put("ы ", 33708);
-    freq.put("узн", 135);
-    freq.put("Ёр", 103);
-    freq.put("узб", 141);
-    freq.put("уза", 155);
-    freq.put("узг", 33);
-    freq.put("узв", 71);
-    freq.put("узе", 489);
-    freq.put("нэ ", 84);
-    freq.put("ўт", 1409);
-    freq.put("япа", 93);
-    freq.put("юш", 34);
-    freq.put("джэ", 319);
-    freq.put("ебя", 32);
-    freq.put("юю", 104);
-    freq.put("ятк", 60);
-    freq.put("юр", 364);
-    freq.put("юс", 308);
-    freq.put("ют", 761);
-    freq.put("цик", 37);
-    freq.put("юх", 60);
-    freq.put("юц", 2264);
-    freq.put("юч", 937);
-    freq.put("Таб", 57);
-    freq.put("меш", 1031);
-    freq.put("Тав", 39);
-    freq.put("Тад", 48);
-    freq.put("Тай", 77);
-    freq.put("Тал", 119);
-    freq.put("Так", 142);
-    freq.put("Тан", 85);
-    freq.put("Там", 80);
-    freq.put("ужы", 226);
-    freq.put("Тас", 38);
-    freq.put("Тар", 102);
-    freq.put("σ", 51);
-    freq.put("Тат", 31);
-    freq.put("джы", 175);
-    freq.put("юк", 169);
-    freq.put("зе ", 3860);
-    freq.put("юм", 88);
-    freq.put("юн", 173);
-    freq.put("юб", 303);
-    freq.put("юд", 604);
-    freq.put("юе", 44);
-    freq.put("юж", 31);
-    freq.put("юз", 470);
-    freq.put("узі", 106);
-    freq.put("эба", 32);
-    freq.put("узы", 463);
-    freq.put("дер", 37);
-    freq.put("узр", 104);
-    freq.put("эбл", 47);
-    freq.put("эбн", 78);
-    freq.put("ыль", 256);
-    freq.put("ыля", 74);
-    freq.put("ылю", 36);
-    freq.put("яя ", 370);
-    freq.put("ылы", 141);
-    freq.put("ылу", 123);
-    freq.put("ужн", 53);
-    freq.put("іён", 646);
-    freq.put("ля ", 3797);
-    freq.put("ылі", 636);
-    freq.put("ёр", 895);
-    freq.put("ёт", 254);
-    freq.put("ужа", 290);
-    freq.put("ужб", 127);
-    freq.put("ыло", 274);
-    freq.put("ылк", 41);
-    freq.put("ыле", 109);
-    freq.put("ыла", 882);
-    freq.put("ког", 497);
-    freq.put("ков", 1231);
-    freq.put("коз", 31);
-    freq.put("кож", 103);
-    freq.put("кое", 453);
-    freq.put("код", 140);
-    freq.put("кол", 1103);
-    freq.put("кой", 614);
-    freq.put("энц", 430);
-    freq.put("коп", 107);
-    freq.put("кон", 590);
-    freq.put("ком", 377);
-    freq.put("ик ", 30);
-    freq.put("эні", 114);
-    freq.put("сцо", 171);
-    freq.put("от ", 248);
-    freq.put("ия ", 90);
-    freq.put("коў", 864);
-    freq.put("энн", 2796);
-    freq.put("кот", 62);
-    freq.put("кос", 64);
-    freq.put("лба", 40);
-    freq.put("коц", 32);
-    freq.put("энл", 51);
-    freq.put("ын ", 608);
-    freq.put("эне", 322);
-    freq.put("энд", 147);
-    freq.put("энз", 35);
-    freq.put("кош", 62);
-    freq.put("энб", 59);
-    freq.put("эна", 439);
-    freq.put("Кіт", 138);
-    freq.put("Кір", 142);
-    freq.put("ыпі", 38);
-    freq.put("ыпы", 50);
-    freq.put("сця", 469);
-    freq.put("ыпя", 59);
-    freq.put("Для", 36);
-    freq.put("ыпу", 224);
-    freq.put("ыпт", 51);
-    freq.put("орэ", 39);
-    freq.put("чыл", 159);
-    freq.put("чык", 384);
-    freq.put("чын", 1825);
-    freq.put("чым", 363);
-    freq.put("оры", 2475);
-    freq.put("орф", 58);
-    freq.put("орч", 221);
-    freq.put("орц", 93);
-    freq.put("орс", 282);
-    freq.put("ору", 175);
-    freq.put("орт", 301);
-    freq.put("ист", 30);
-    freq.put("Цы", 56);
-    freq.put("Цэ", 402);
-    freq.put("Цю", 41);
-    freq.put("Ця", 67);
-    freq.put("Ца", 125);
-    freq.put("Цв", 59);
-    freq.put("Це", 57);
-    freq.put("чыў", 86);
-    freq.put("эшт", 38);
-    freq.put("эшс", 92);
-    freq.put("орн", 935);
-    freq.put("орм", 645);
-    freq.put("орп", 56);
-    freq.put("Сту", 31);
-    freq.put("чыя", 97);
-    freq.put("орк", 199);
-    freq.put("чыс", 87);
-    freq.put("орд", 253);
-    freq.put("чыт", 144);
-    freq.put("чых", 235);
-    freq.put("ора", 3877);
-    freq.put("орг", 435);
-    freq.put("орв", 60);
-    freq.put("ыпл", 205);
-    freq.put("ыпо", 40);
-    freq.put("ыпа", 346);
-    freq.put("Кіп", 31);
-    freq.put("Кін", 36);
-    freq.put("Кіе", 70);
-    freq.put("сіі", 499);
-    freq.put("Ва", 1251);
-    freq.put("ці ", 6332);
-    freq.put("пка", 92);
-    freq.put("я́", 94);
-    freq.put("рб ", 241);
-    freq.put("Вёс", 43);
-    freq.put("нс", 9821);
-    freq.put("пкі", 74);
-    freq.put("ьну", 119);
-    freq.put("бцо", 67);
-    freq.put("нб", 162);
-    freq.put("уіс", 33);
-    freq.put("ст ", 1640);
-    freq.put("ьч", 93);
-    freq.put("ьф", 184);
-    freq.put("ьх", 33);
-    freq.put("ьт", 974);
-    freq.put("ьс", 2893);
-    freq.put("ью", 187);
-    freq.put("ья", 481);
-    freq.put("рга", 1557);
-    freq.put("ьш", 1307);
-    freq.put("рге", 289);
-    freq.put("ьі", 37);
-    freq.put("ціі", 35);
-    freq.put("ьё", 166);
-    freq.put("япр", 280);
-    freq.put("щ", 47);
-    freq.put("ргі", 290);
-    freq.put("ни", 194);
-    freq.put("ьз", 40);
-    freq.put("ьд", 352);
-    freq.put("ье", 319);
-    freq.put("ьв", 416);
-    freq.put("ьг", 258);
-    freq.put("мей", 185);
-    freq.put("ргу", 154);
-    freq.put("ьм", 1080);
-    freq.put("ргс", 139);
-    freq.put("ьк", 1346);
-    freq.put("уін", 38);
-    freq.put("мем", 78);
-    freq.put("вум", 61);
-    freq.put("вук", 834);
-    freq.put("вул", 372);
-    freq.put("вуз", 94);
-    freq.put("вуа", 43);
-    freq.put("вуг", 207);
-    freq.put("Был", 51);
-    freq.put("егі", 186);
-    freq.put(" іе", 44);
-    freq.put(" ід", 207);
-    freq.put(" із", 71);
-    freq.put("Пік", 34);
-    freq.put(" іл", 49);
-    freq.put(" ін", 2133);
-    freq.put(" ім", 1414);
-    freq.put("Пін", 100);
-    freq.put("сро", 181);
-    freq.put("еша", 80);
-    freq.put("ешн", 100);
-    freq.put("ешк", 30);
-    freq.put("ешч", 1037);
-    freq.put("срэ", 122);
-    freq.put(" іс", 610);
-    freq.put(" ір", 47);
-    freq.put("Пір", 63);
-    freq.put(" іт", 275);
-    freq.put(" іх", 536);
-    freq.put("эак", 95);
-    freq.put("Бых", 40);
-    freq.put("вую", 134);
-    freq.put("вуш", 31);
-    freq.put("Быў", 68);
-    freq.put("ега", 182);
-    freq.put("вух", 287);
-    freq.put("вуц", 113);
-    freq.put("вуч", 676);
-    freq.put("егл", 161);
-    freq.put("вус", 95);
-    freq.put("вут", 35);
-    freq.put("нів", 495);
-    freq.put("ніг", 272);
-    freq.put("нід", 100);
-    freq.put("ніж", 206);
-    freq.put("ніз", 1156);
-    freq.put("ній", 113);
-    freq.put("нік", 4705);
-    freq.put("ніл", 118);
-    freq.put("нім", 633);
-    freq.put("нін", 527);
-    freq.put("П", 9102);
-    freq.put("Сож", 48);
-    freq.put("Сон", 122);
-    freq.put("́т ", 58);
-    freq.put("ніс", 1897);
-    freq.put("ніт", 289);
-    freq.put("ніх", 213);
-    freq.put("ніц", 1894);
-    freq.put("ніч", 1033);
-    freq.put("ніш", 113);
-    freq.put("нію", 41);
-    freq.put("нія", 1052);
-    freq.put("ніі", 1161);
-    freq.put("ніў", 491);
-    freq.put("́ры", 53);
-    freq.put("ігі", 352);
-    freq.put("ігр", 97);
-    freq.put("Аме", 202);
-    freq.put("ігу", 93);
-    freq.put("Ама", 58);
-    freq.put("ов ", 66);
-    freq.put("іга", 302);
-    freq.put("Жаб", 35);
-    freq.put("зім", 390);
-    freq.put("Жан", 101);
-    freq.put("ігн", 51);
-    freq.put("Жал", 32);
-    freq.put("́рн", 37);
-    freq.put("́ра", 75);
-    freq.put("́рд", 31);
-    freq.put(" гл", 377);
-    freq.put(" го", 5116);
-    freq.put(" гм", 55);
-    freq.put(" гн", 31);
-    freq.put(" гв", 65);
-    freq.put(" гг", 306);
-    freq.put(" га", 3413);
-    freq.put(" ге", 1207);
-    freq.put("ны ", 12874);
-    freq.put("це ", 1140);
-    freq.put("рс ", 90);
-    freq.put(" гі", 1346);
-    freq.put(" гэ", 936);
-    freq.put(" гу", 1119);
-    freq.put(" гр", 2347);
-    freq.put("ыні", 806);
-    freq.put("ынё", 110);
-    freq.put("ики", 40);
-    freq.put("икл", 37);
-    freq.put("ынц", 163);
-    freq.put("ко ", 52);
-    freq.put("ыну", 61);
-    freq.put("ынт", 71);
-    freq.put("ынс", 723);
-    freq.put("сск", 36);
-    freq.put("ыня", 1144);
-    freq.put("ыню", 178);
-    freq.put("ынь", 99);
-    freq.put("ыны", 302);
-    freq.put("оты", 239);
-    freq.put("отэ", 35);
-    freq.put("оту", 60);
-    freq.put("́ві", 51);
-    freq.put("ію ", 226);
-    freq.put("отк", 104);
-    freq.put("отн", 270);
-    freq.put("ота", 383);
-    freq.put("ыне", 359);
-    freq.put("ынг", 193);
-    freq.put("ына", 1585);
-    freq.put("ыно", 67);
-    freq.put("ынн", 241);
-    freq.put("ынк", 317);
-    freq.put("Л", 4209);
-    freq.put("эш ", 69);
-    freq.put("чы ", 2276);
-    freq.put("ор ", 763);
-    freq.put("Ц ", 60);
-    freq.put(" І ", 54);
-    freq.put("ытк", 88);
-    freq.put("ып ", 125);
-    freq.put("Ман", 325);
-    freq.put("Мал", 504);
-    freq.put("Мак", 165);
-    freq.put("Май", 86);
-    freq.put("Маз", 84);
-    freq.put("Мае", 59);
-    freq.put("Мад", 68);
-    freq.put("Маг", 485);
-    freq.put("рба", 359);
-    freq.put("рбе", 69);
-    freq.put("́цы", 35);
-    freq.put("рбо", 74);
-    freq.put("Хра", 52);
-    freq.put("ліп", 605);
-    freq.put("рбі", 190);
-    freq.put("лік", 3432);
-    freq.put("рбс", 37);
-    freq.put("рбу", 223);
-    freq.put("чба", 44);
-    freq.put("Мац", 74);
-    freq.put("Мах", 46);
-    freq.put("Мат", 53);
-    freq.put("Мас", 560);
-    freq.put("Мар", 717);
-    freq.put("Маў", 52);
-    freq.put("еев", 112);
-    freq.put("Бха", 42);
-    freq.put("Нью", 147);
-    freq.put("ні́", 46);
-    freq.put("ста", 9152);
-    freq.put("юкс", 62);
-    freq.put("рг ", 399);
-    freq.put("стм", 50);
-    freq.put("сто", 1742);
-    freq.put("стр", 5425);
-    freq.put("стс", 90);
-    freq.put("сту", 1355);
-    freq.put("стф", 32);
-    freq.put("ь ", 10652);
-    freq.put("сты", 1773);
-    freq.put("сть", 37);
-    freq.put("юко", 39);
-    freq.put("Джо", 201);
-    freq.put(" Бе", 3141);
-    freq.put("ееў", 74);
-    freq.put("уі ", 59);
-    freq.put("йка", 215);
-    freq.put(" і ", 13981);
-    freq.put(" Бл", 135);
-    freq.put("Орш", 54);
-    freq.put("дг", 114);
-    freq.put("яп", 987);
-    freq.put("ян", 5095);
-    freq.put("ям", 2288);
-    freq.put("ял", 4513);
-    freq.put("як", 8665);
-    freq.put("яй", 1956);
-    freq.put("яз", 1174);
-    freq.put("Елі", 30);
-    freq.put("яе", 2047);
-    freq.put("Дын", 30);
-    freq.put("ву ", 399);
-    freq.put("яв", 1483);
-    freq.put("яб", 357);
-    freq.put("яя", 396);
-    freq.put("яю", 411);
-    freq.put("ьпа", 45);
-    freq.put("Люк", 46);
-    freq.put("йкі", 55);
-    freq.put("ег ", 37);
-    freq.put("яч", 1572);
-    freq.put("яц", 1671);
-    freq.put("Люд", 105);
-    freq.put("ят", 1664);
-    freq.put("яс", 1630);
-    freq.put("яр", 5133);
-    freq.put("яў", 3435);
-    freq.put("Орд", 39);
-    freq.put("бс", 1610);
-    freq.put("ні ", 3411);
-    freq.put("ЭС ", 98);
-    freq.put("Ціх", 146);
-    freq.put("Ака", 117);
-    freq.put("ўдн", 1484);
-    freq.put("ўда", 185);
-    freq.put("ўдз", 340);
-    freq.put("цэп", 60);
-    freq.put("Акі", 35);
-    freq.put("Цім", 40);
-    freq.put("Акц", 52);
-    freq.put("Акр", 38);
-    freq.put("цэл", 113);
-    freq.put(" Бр", 1285);
-    freq.put("цэй", 32);
-    freq.put("́та", 65);
-    freq.put(" Бу", 540);
-    freq.put(" Бх", 42);
-    freq.put(" ба", 2081);
-    freq.put("Джы", 42);
-    freq.put(" бл", 243);
-    freq.put(" бо", 797);
-    freq.put("ноз", 33);
-    freq.put(" Бы", 191);
-    freq.put("ово", 30);
-    freq.put("ова", 3320);
-    freq.put("ове", 718);
-    freq.put(" Бэ", 35);
-    freq.put("ко́", 51);
-    freq.put("в", 85410);
-    freq.put("Джу", 41);
-    freq.put(" Бя", 222);
-    freq.put("ові", 607);
-    freq.put("овы", 1734);
-    freq.put("ову", 150);
-    freq.put(" бі", 607);
-    freq.put("́р ", 58);
-    freq.put("іг ", 110);
-    freq.put(" бу", 888);
-    freq.put(" бы", 1501);
-    freq.put(" бя", 202);
-    freq.put("рст", 308);
-    freq.put("рсу", 35);
-    freq.put("ным", 3293);
-    freq.put("ный", 43);
-    freq.put("рсі", 467);
-    freq.put(" г ", 1157);
-    freq.put("яд", 2766);
-    freq.put("цер", 90);
-    freq.put("цес", 40);
-    freq.put("Чу", 61);
-    freq.put("оа ", 38);
-    freq.put("яг", 2094);
-    freq.put("цеб", 1148);
-    freq.put("цеп", 54);
-    freq.put("Яе ", 54);
-    freq.put("цел", 374);
-    freq.put("цей", 308);
-    freq.put("ьчы", 38);
-    freq.put("рса", 263);
-    freq.put("ных", 5510);
-    freq.put("рсе", 99);
-    freq.put("ныя", 2724);
-    freq.put("рск", 1587);
-    freq.put(" ем", 32);
-    freq.put("Наз", 194);
-    freq.put("Над", 44);
-    freq.put(" еп", 70);
-    freq.put("Нав", 219);
-    freq.put("Наг", 35);
-    freq.put(" ек", 279);
-    freq.put("км2", 192);
-    freq.put("Нап", 142);
-    freq.put("Нам", 34);
-    freq.put("Нан", 39);
-    freq.put("Нал", 64);
-    freq.put(" ев", 39);
-    freq.put("Най", 114);
-    freq.put("ожж", 57);
-    freq.put("Дун", 42);
-    freq.put("фор", 690);
-    freq.put("ожа", 259);
-    freq.put("ожн", 383);
-    freq.put("ктр", 602);
-    freq.put("хо", 6397);
-    freq.put("цэс", 325);
-    freq.put("ям ", 354);
-    freq.put("ожц", 36);
-    freq.put(" еў", 159);
-    freq.put("фон", 231);
-    freq.put("ру ", 715);
-    freq.put("яба", 30);
-    freq.put("ожы", 78);
-    freq.put("Нац", 234);
-    freq.put("Нар", 412);
-    freq.put("Нас", 359);
-    freq.put(" ер", 195);
-    freq.put(" ес", 31);
-    freq.put("Наш", 31);
-    freq.put("аса", 1936);
-    freq.put("асв", 164);
-    freq.put("асе", 1902);
-    freq.put("аск", 1144);
-    freq.put("асл", 2154);
-    freq.put("асм", 216);
-    freq.put("асн", 2680);
-    freq.put("асо", 1059);
-    freq.put("асп", 1132);
-    freq.put("эе", 82);
-    freq.put("эд", 1048);
-    freq.put("эз", 923);
-    freq.put("эж", 363);
-    freq.put("эб", 311);
-    freq.put("нзі", 54);
-    freq.put("эг", 935);
-    freq.put("эв", 584);
-    freq.put("эн", 7673);
-    freq.put("эм", 2814);
-    freq.put("эп", 819);
-    freq.put("эо", 177);
-    freq.put("эй", 1564);
-    freq.put("эл", 2514);
-    freq.put("эк", 1818);
-    freq.put("У", 4167);
-    freq.put("мча", 39);
-    freq.put("лі́", 63);
-    freq.put("чыш", 48);
-    freq.put("эх", 479);
-    freq.put("асё", 230);
-    freq.put("эч", 949);
-    freq.put("эц", 562);
-    freq.put("эс", 2759);
-    freq.put("эр", 4885);
-    freq.put("асі", 1763);
-    freq.put("эт", 3144);
-    freq.put("эя", 174);
-    freq.put("эш", 256);
-    freq.put("аср", 104);
-    freq.put("рхн", 412);
-    freq.put("аст", 5847);
-    freq.put("асу", 394);
-    freq.put("асф", 132);
-    freq.put("асх", 105);
-    freq.put("асц", 7917);
-    freq.put("эл ", 32);
-    freq.put("рхе", 187);
-    freq.put("эў", 373);
-    freq.put("ась", 89);
-    freq.put("асэ", 63);
-    freq.put("ася", 1251);
-    freq.put("лея", 44);
-    freq.put("яхо", 60);
-    freq.put("леч", 40);
-    freq.put("лец", 113);
-    freq.put("яха", 129);
-    freq.put("лет", 445);
-    freq.put("яхе", 36);
-    freq.put("лер", 515);
-    freq.put("эйш", 582);
-    freq.put("эйс", 181);
-    freq.put("леі", 33);
-    freq.put("эйх", 59);
-    freq.put("Шта", 115);
-    freq.put("эі ", 79);
-    freq.put("зга", 115);
-    freq.put("згл", 72);
-    freq.put("зго", 171);
-    freq.put("згу", 46);
-    freq.put("Іос", 54);
-    freq.put("эйк", 63);
-    freq.put("эйн", 203);
-    freq.put("эйм", 63);
-    freq.put("яхі", 52);
-    freq.put("леп", 93);
-    freq.put("лео", 30);
-    freq.put("лен", 2795);
-    freq.put("лем", 632);
-    freq.put("лел", 47);
-    freq.put("лек", 1207);
-    freq.put("лей", 453);
-    freq.put("лез", 118);
-    freq.put("леж", 535);
-    freq.put("лед", 512);
-    freq.put("лег", 354);
-    freq.put("лев", 687);
-    freq.put("леб", 155);
-    freq.put("леа", 84);
-    freq.put(" Ві", 2350);
-    freq.put(" Вё", 46);
-    freq.put("́да", 40);
-    freq.put(" Вэ", 59);
-    freq.put(" Вя", 1135);
-    freq.put(" Вы", 550);
-    freq.put("уце", 34);
-    freq.put("Дзю", 40);
-    freq.put("Дзя", 318);
-    freq.put("офі", 101);
-    freq.put("Дзі", 101);
-    freq.put("офс", 63);
-    freq.put("ме́", 32);
-    freq.put("Дзв", 153);
-    freq.put("Дзе", 181);
-    freq.put("Дзм", 77);
-    freq.put(" Ве", 850);
-    freq.put(" Ва", 1233);
-    freq.put(" Во", 379);
-    freq.put("уры", 942);
-    freq.put("хоў", 391);
-    freq.put("хор", 37);
-    freq.put("хоц", 56);
-    freq.put(" ро", 1210);
-    freq.put("Тру", 35);
-    freq.put("Тры", 124);
-    freq.put("Трэ", 101);
-    freq.put("Тра", 145);
-    freq.put("Тро", 76);
-    freq.put("ўтв", 329);
-    freq.put("хов", 214);
-    freq.put("ход", 5421);
-    freq.put("хол", 36);
-    freq.put("хом", 42);
-    freq.put("чыц", 506);
-    freq.put("хоп", 109);
-    freq.put("ец ", 602);
-    freq.put("кто", 104);
-    freq.put("ктн", 54);
-    freq.put("ме ", 512);
-    freq.put("Мос", 31);
-    freq.put("Мор", 68);
-    freq.put("вяш", 118);
-    freq.put("ой", 3019);
-    freq.put("ок", 2355);
-    freq.put("ол", 6471);
-    freq.put("ом", 3112);
-    freq.put("он", 5614);
-    freq.put("оп", 1259);
-    freq.put("оа", 55);
-    freq.put("об", 4680);
-    freq.put("ов", 6741);
-    freq.put("ог", 3083);
-    freq.put("од", 14499);
-    freq.put("ое", 897);
-    freq.put("ож", 946);
-    freq.put("оз", 2000);
-    freq.put("ефа", 85);
-    freq.put("сфе", 231);
-    freq.put("сфа", 95);
-    freq.put("к", 123811);
-    freq.put("ху ", 365);
-    freq.put("ру́", 33);
-    freq.put("уцы", 178);
-    freq.put("оў", 9208);
-    freq.put("оі", 249);
-    freq.put("ош", 1054);
-    freq.put("уцц", 51);
-    freq.put("вял", 928);
-    freq.put("вян", 290);
-    freq.put("ою", 69);
-    freq.put("оя", 218);
-    freq.put("ор", 11045);
-    freq.put("ос", 3439);
-    freq.put("от", 1439);
-    freq.put("оу", 53);
-    freq.put("вяд", 974);
-    freq.put("ох", 483);
-    freq.put("оц", 641);
-    freq.put("вяз", 550);
-    freq.put("ймс", 55);
-    freq.put("цях", 73);
-    freq.put("лі ", 2343);
-    freq.put("Ч ", 123);
-    freq.put("хст", 62);
-    freq.put("зел", 1093);
-    freq.put("хск", 34);
-    freq.put("йме", 191);
-    freq.put("йма", 402);
-    freq.put("руш", 122);
-    freq.put("рую", 59);
-    freq.put("ож ", 54);
-    freq.put("рут", 68);
-    freq.put("рур", 38);
-    freq.put("рус", 4886);
-    freq.put("руц", 69);
-    freq.put("руч", 162);
-    freq.put("рух", 494);
-    freq.put("ьск", 1707);
-    freq.put("ьса", 1022);
-    freq.put("ямё", 145);
-    freq.put("ямі", 440);
-    freq.put("збі", 59);
-    freq.put("збя", 198);
-    freq.put("яму", 47);
-    freq.put("о́", 634);
-    freq.put("збу", 226);
-    freq.put("збр", 222);
-    freq.put("яма", 79);
-    freq.put("збо", 283);
-    freq.put("яме", 616);
-    freq.put("эб ", 51);
-    freq.put("цла", 43);
-    freq.put(" Ло", 316);
-    freq.put("збе", 45);
-    freq.put("ямл", 451);
-    freq.put("ямн", 93);
-    freq.put("зба", 35);
-    freq.put("цці", 108);
-    freq.put("ьст", 70);
-    freq.put("рук", 576);
-    freq.put("ццю", 34);
-    freq.put("руй", 93);
-    freq.put("руп", 774);
-    freq.put("рум", 199);
-    freq.put("рун", 421);
-    freq.put("руг", 1039);
-    freq.put("руа", 30);
-    freq.put("руб", 101);
-    freq.put("руж", 196);
-    freq.put("руз", 242);
-    freq.put("руд", 163);
-    freq.put("руе", 67);
-    freq.put("кме", 102);
-    freq.put("элі", 464);
-    freq.put("э ", 1428);
-    freq.put("ыя", 11049);
-    freq.put("дгр", 42);
-    freq.put("ас ", 1062);
-    freq.put("эля", 63);
-    freq.put("эль", 567);
-    freq.put("элы", 71);
-    freq.put("Гры", 95);
-    freq.put("Грэ", 204);
-    freq.put("Гру", 123);
-    freq.put("Гро", 583);
-    freq.put("Гра", 203);
-    freq.put("эле", 1043);
-    freq.put("эла", 172);
-    freq.put("рх ", 59);
-    freq.put("лге", 31);
-    freq.put("уэн", 32);
-    freq.put("уэл", 71);
-    freq.put("лга", 135);
-    freq.put("дга", 47);
-    freq.put("эі", 119);
-    freq.put(" Аў", 527);
-    freq.put(" Ат", 266);
-    freq.put(" Ас", 623);
-    freq.put(" Ар", 963);
-    freq.put("іёр", 127);
-    freq.put(" Ах", 126);
-    freq.put(" Аф", 329);
-    freq.put("ях ", 538);
-    freq.put("оці", 83);
-    freq.put("оцт", 38);
-    freq.put("ж", 17280);
-    freq.put("оць", 54);
-    freq.put("оце", 39);
-    freq.put("дзю", 65);
-    freq.put("оцн", 100);
-    freq.put("оцк", 254);
-    freq.put("эпц", 43);
-    freq.put(" Аг", 253);
-    freq.put(" Ав", 82);
-    freq.put(" Аб", 466);
-    freq.put("Узн", 41);
-    freq.put(" Ад", 1081);
-    freq.put("Узб", 46);
-    freq.put(" Ак", 371);
-    freq.put(" Ай", 138);
-    freq.put(" Ап", 171);
-    freq.put(" Ан", 1106);
-    freq.put("ле ", 1285);
-    freq.put("уя ", 51);
-    freq.put("ии ", 45);
-    freq.put("эй ", 256);
-    freq.put("оф ", 31);
-    freq.put(" В ", 106);
-    freq.put("ыі ", 4994);
-    freq.put("чні", 538);
-    freq.put("чны", 4123);
-    freq.put("чну", 221);
-    freq.put("чна", 4294);
-    freq.put("ле́", 58);
-    freq.put("мер", 1521);
-    freq.put("мес", 804);
-    freq.put("мет", 1340);
-    freq.put("мех", 161);
-    freq.put("мец", 415);
-    freq.put("ебс", 1143);
-    freq.put("ебр", 49);
-    freq.put("ебу", 142);
-    freq.put("фа ", 171);
-    freq.put("уке", 39);
-    freq.put("меў", 40);
-    freq.put("ецк", 1314);
-    freq.put("сцк", 583);
-    freq.put("сце", 435);
-    freq.put("сца", 290);
-    freq.put("еце", 473);
-    freq.put("сцв", 41);
-    freq.put("ы́ч", 39);
-    freq.put("сць", 2158);
-    freq.put("сцэ", 82);
-    freq.put("сцю", 386);
-    freq.put("ецы", 398);
-    freq.put("ець", 44);
-    freq.put("еця", 186);
-    freq.put("ецт", 57);
-    freq.put("ецц", 3532);
-    freq.put("сці", 5408);
-    freq.put("сцё", 106);
-    freq.put("еці", 65);
-    freq.put("мед", 327);
-    freq.put("меж", 488);
-    freq.put("еба", 171);
-    freq.put("мек", 41);
-    freq.put("мел", 670);
-    freq.put("ебе", 61);
-    freq.put("мен", 2818);
-    freq.put("о ", 4882);
-    freq.put("хут", 173);
-    freq.put("Сма", 153);
-    freq.put("еф ", 53);
-    freq.put("ішк", 86);
-    freq.put("эча", 269);
-    freq.put("ліж", 85);
-    freq.put("ліз", 756);
-    freq.put("лід", 145);
-    freq.put("ліе", 38);
-    freq.put("лів", 877);
-    freq.put("ліг", 423);
-    freq.put("ліб", 114);
-    freq.put("Чо", 91);
-    freq.put("лім", 406);
-    freq.put("лін", 1867);
-    freq.put("Чл", 50);
-    freq.put("ліл", 80);
-    freq.put("лій", 409);
-    freq.put("ібр", 60);
-    freq.put("гск", 193);
-    freq.put("э́", 245);
-    freq.put(" пр", 11379);
-    freq.put("дзе", 8804);
-    freq.put("э", 38368);
-    freq.put("ліі", 584);
-    freq.put("ібл", 221);
-    freq.put("эпа", 350);
-    freq.put("йм ", 39);
-    freq.put("ібн", 38);
-    freq.put("ліў", 268);
-    freq.put("іба", 74);
-    freq.put("ібе", 116);
-    freq.put("ліц", 1503);
-    freq.put("ліч", 919);
-    freq.put("ліф", 129);
-    freq.put("літ", 2467);
-    freq.put("лір", 54);
-    freq.put("ліс", 1592);
-    freq.put("лія", 561);
-    freq.put("Чэ", 241);
-    freq.put("дзн", 68);
-    freq.put("Чы", 240);
-    freq.put("ліш", 201);
-    freq.put("йвы", 68);
-    freq.put("йвя", 39);
-    freq.put("Дуб", 92);
-    freq.put("АР ", 41);
-    freq.put("Егі", 79);
-    freq.put(" лё", 140);
-    freq.put("йва", 90);
-    freq.put("із ", 74);
-    freq.put("од ", 1419);
-    freq.put("шэй", 396);
-    freq.put("іер", 57);
-    freq.put("іеў", 104);
-    freq.put("чес", 40);
-    freq.put("іев", 59);
-    freq.put("шэв", 50);
-    freq.put("іеп", 31);
-    freq.put("іен", 39);
-    freq.put(" з ", 8886);
-    freq.put("соў", 155);
-    freq.put("век", 621);
-    freq.put("вел", 461);
-    freq.put("вей", 169);
-    freq.put("вен", 879);
-    freq.put("вег", 83);
-    freq.put("ау ", 54);
-    freq.put("веж", 155);
-    freq.put("вед", 848);
-    freq.put("ёў ", 237);
-    freq.put("мс ", 50);
-    freq.put("о", 90139);
-    freq.put("Яго", 72);
-    freq.put("нгу", 108);
-    freq.put("дэн", 910);
-    freq.put("нгс", 45);
-    freq.put("дэп", 341);
-    freq.put("веш", 48);
-    freq.put("не ", 6779);
-    freq.put("вет", 2555);
-    freq.put("вер", 1888);
-    freq.put("вес", 224);
-    freq.put("вец", 1617);
-    freq.put("веч", 329);
-    freq.put("ахм", 32);
-    freq.put("ахо", 3890);
-    freq.put("аха", 1271);
-    freq.put("нгт", 70);
-    freq.put("ахв", 148);
-    freq.put("нгр", 251);
-    freq.put("муж", 141);
-    freq.put("муз", 740);
-    freq.put("муд", 31);
-    freq.put("нгі", 75);
-    freq.put("мун", 303);
-    freq.put("мул", 104);
-    freq.put("шма", 240);
-    freq.put("пяв", 92);
-    freq.put("пі", 3369);
-    freq.put("яч ", 850);
-    freq.put("пя", 734);
-    freq.put("пэ", 257);
-    freq.put("пы", 810);
-    freq.put("пш", 102);
-    freq.put("пч", 30);
-    freq.put("пц", 144);
-    freq.put("гмі", 55);
-    freq.put("пу", 2374);
-    freq.put("μ", 42);
-    freq.put("пс", 430);
-    freq.put("пр", 14153);
-    freq.put("по", 4023);
-    freq.put("пн", 403);
-    freq.put("пл", 2396);
-    freq.put("пк", 184);
-    freq.put("пе", 7779);
-    freq.put("па", 25568);
-    freq.put("пях", 31);
-    freq.put("пяч", 142);
-    freq.put("пяц", 150);
-    freq.put("пяр", 162);
-    freq.put("пят", 74);
-    freq.put("гме", 30);
-    freq.put("гма", 42);
-    freq.put("ки ", 102);
-    freq.put("АН ", 141);
-    freq.put("мур", 101);
-    freq.put("мус", 90);
-    freq.put("ахі", 119);
-    freq.put("нго", 103);
-    freq.put("Лон", 159);
-    freq.put("нгл", 675);
-    freq.put("нге", 269);
-    freq.put("ус ", 310);
-    freq.put("ахр", 40);
-    freq.put("нгв", 66);
-    freq.put("ьям", 72);
-    freq.put("ьян", 292);
-    freq.put("ясц", 218);
-    freq.put("яст", 562);
-    freq.put("́к ", 32);
-    freq.put("Д", 4880);
-    freq.put("яка", 1842);
-    freq.put("яко", 1225);
-    freq.put("цна", 47);
-    freq.put("нні", 1798);
-    freq.put("не́", 48);
-    freq.put("яку", 187);
-    freq.put("якс", 471);
-    freq.put("які", 3765);
-    freq.put("пт", 524);
-    freq.put("ясе", 63);
-    freq.put("ясв", 45);
-    freq.put("яса", 73);
-    freq.put("ясп", 190);
-    freq.put("ясн", 113);
-    freq.put("ясл", 66);
-    freq.put("яск", 118);
-    freq.put(" Д ", 46);
-    freq.put("віт", 280);
-    freq.put("віс", 212);
-    freq.put("вір", 72);
-    freq.put("віч", 2388);
-    freq.put("віц", 860);
-    freq.put("віш", 314);
-    freq.put("вія", 196);
-    freq.put(" са", 3834);
-    freq.put(" фр", 695);
-    freq.put(" св", 1707);
-    freq.put(" се", 1793);
-    freq.put(" ск", 2784);
-    freq.put(" сл", 980);
-    freq.put(" см", 248);
-    freq.put(" сн", 491);
-    freq.put(" со", 234);
-    freq.put(" сп", 1668);
-    freq.put(" Жу", 75);
-    freq.put(" Жы", 187);
-    freq.put(" Жэ", 62);
-    freq.put("куе", 45);
-    freq.put("куб", 74);
-    freq.put("кум", 166);
-    freq.put("кун", 56);
-    freq.put("куп", 354);
-    freq.put("кул", 1161);
-    freq.put("кух", 44);
-    freq.put("куц", 53);
-    freq.put("кур", 308);
-    freq.put("кус", 50);
-    freq.put("кут", 79);
-    freq.put("кую", 484);
-    freq.put("куш", 30);
-    freq.put(" Жа", 266);
-    freq.put("л ", 3195);
-    freq.put(" Жл", 40);
-    freq.put(" Жо", 41);
-    freq.put(" ср", 201);
-    freq.put(" ст", 5607);
-    freq.put(" су", 2435);
-    freq.put(" сф", 138);
-    freq.put(" сх", 132);
-    freq.put(" сц", 300);
-    freq.put(" сы", 378);
-    freq.put(" сэ", 144);
-    freq.put(" сю", 46);
-    freq.put(" ся", 1248);
-    freq.put("віг", 64);
-    freq.put(" сё", 75);
-    freq.put("віз", 233);
-    freq.put("віж", 46);
-    freq.put(" сі", 1787);
-    freq.put("від", 621);
-    freq.put("віл", 577);
-    freq.put("вік", 1058);
-    freq.put("вій", 64);
-    freq.put("він", 1161);
-    freq.put("Кле", 69);
-    freq.put("Кла", 79);
-    freq.put("Клі", 93);
-    freq.put("мут", 37);
-    freq.put("бег", 30);
-    freq.put("бед", 43);
-    freq.put("без", 160);
-    freq.put("беж", 38);
-    freq.put("бел", 2068);
-    freq.put("бек", 65);
-    freq.put("рло", 34);
-    freq.put("е́й", 44);
-    freq.put("е́л", 58);
-    freq.put("е́н", 64);
-    freq.put("ет ", 669);
-    freq.put("ычн", 3787);
-    freq.put(" Чл", 50);
-    freq.put("е́р", 59);
-    freq.put("е́т", 57);
-    freq.put("рлі", 143);
-    freq.put("ахс", 71);
-    freq.put("бес", 248);
-    freq.put("бер", 1212);
-    freq.put("вэ ", 31);
-    freq.put("бет", 75);
-    freq.put("нга", 349);
-    freq.put("рль", 39);
-    freq.put("ізі", 657);
-    freq.put("сцы", 243);
-    freq.put("А", 9258);
-    freq.put("ізу", 170);
-    freq.put("ізм", 513);
-    freq.put("ізн", 94);
-    freq.put("ізо", 32);
-    freq.put("ізк", 150);
-    freq.put("ізе", 90);
-    freq.put("іза", 1123);
-    freq.put(" зр", 107);
-    freq.put("Ноб", 119);
-    freq.put("Нов", 310);
-    freq.put(" зы", 45);
-    freq.put("ыхт", 68);
-    freq.put(" зі", 38);
-    freq.put("одл", 343);
-    freq.put("одк", 263);
-    freq.put("одн", 3300);
-    freq.put("АТ ", 38);
-    freq.put("ода", 2372);
-    freq.put("одв", 43);
-    freq.put("одд", 632);
-    freq.put("одз", 4446);
-    freq.put("одж", 418);
-    freq.put("ا", 97);
-    freq.put("чэб", 34);
-    freq.put("эве", 33);
-    freq.put("дда", 35);
-    freq.put("ве", 11434);
-    freq.put("эва", 289);
-    freq.put("одш", 56);
-    freq.put("оды", 303);
-    freq.put("одэ", 34);
-    freq.put("одс", 362);
-    freq.put("оду", 440);
-    freq.put(" зд", 336);
-    freq.put(" зе", 223);
-    freq.put(" зв", 921);
-    freq.put(" зг", 173);
-    freq.put(" за", 6831);
-    freq.put(" зб", 564);
-    freq.put("Нор", 45);
-    freq.put(" зм", 462);
-    freq.put(" зн", 1562);
-    freq.put(" зл", 462);
-    freq.put("неф", 50);
-    freq.put("неч", 128);
-    freq.put("нец", 322);
-    freq.put("нес", 336);
-    freq.put("нер", 1041);
-    freq.put("нет", 305);
-    freq.put("ве ", 1411);
-    freq.put("неш", 106);
-    freq.put("ауд", 34);
-    freq.put("шке", 56);
-    freq.put("неі", 62);
-    freq.put("шка", 302);
-    freq.put("неў", 80);
-    freq.put("рчы", 72);
-    freq.put("жца", 36);
-    freq.put("мск", 655);
-    freq.put("мса", 38);
-    freq.put("ёўс", 368);
-    freq.put("пэў", 206);
-    freq.put("гка", 62);
-    freq.put("мст", 200);
-    freq.put("рча", 302);
-    freq.put("ё ", 393);
-    freq.put(" й ", 162);
-    freq.put("нее", 36);
-    freq.put("нед", 126);
-    freq.put("нез", 388);
-    freq.put("неж", 473);
-    freq.put("неб", 229);
-    freq.put("неа", 245);
-    freq.put("нег", 85);
-    freq.put("нев", 333);
-    freq.put("нен", 1069);
-    freq.put("нем", 789);
-    freq.put("неп", 243);
-    freq.put("ней", 894);
-    freq.put("нел", 50);
-    freq.put("нек", 539);
-    freq.put("ячо", 56);
-    freq.put("му ", 923);
-    freq.put("усё", 30);
-    freq.put("яча", 146);
-    freq.put("усы", 43);
-    freq.put("йт ", 84);
-    freq.put("уся", 63);
-    freq.put("усь", 443);
-    freq.put("усу", 78);
-    freq.put("уст", 536);
-    freq.put("усс", 51);
-    freq.put("ах ", 2614);
-    freq.put("усц", 87);
-    freq.put("усх", 390);
-    freq.put("цны", 50);
-    freq.put("зно", 96);
-    freq.put("Імп", 71);
-    freq.put("зна", 3401);
-    freq.put("зне", 390);
-    freq.put("зны", 389);
-    freq.put("ві́", 36);
-    freq.put("зня", 92);
-    freq.put("ё", 12234);
-    freq.put("зні", 562);
-    freq.put("п ", 838);
-    freq.put("уск", 3140);
-    freq.put("ья ", 62);
-    freq.put("усо", 32);
-    freq.put("усн", 61);
-    freq.put("усв", 320);
-    freq.put("уса", 325);
-    freq.put("усе", 161);
-    freq.put("нг ", 369);
-    freq.put("ячэ", 355);
-    freq.put("ячы", 110);
-    freq.put("кий", 68);
-    freq.put("іхт", 48);
-    freq.put(" Дэ", 367);
-    freq.put(" Ды", 175);
-    freq.put("́ка", 36);
-    freq.put(" Ду", 235);
-    freq.put(" Др", 518);
-    freq.put(" Ук", 400);
-    freq.put("як ", 1107);
-    freq.put("ве́", 55);
-    freq.put(" Ув", 552);
-    freq.put("іі ", 4215);
-    freq.put(" До", 264);
-    freq.put(" Дн", 291);
-    freq.put(" Дл", 38);
-    freq.put("яс ", 66);
-    freq.put(" Дз", 893);
-    freq.put(" Дж", 527);
-    freq.put("Нём", 153);
-    freq.put(" Да", 1318);
-    freq.put(" с ", 72);
-    freq.put("пад", 3666);
-    freq.put("пае", 78);
-    freq.put("паж", 63);
-    freq.put("паз", 690);
-    freq.put("паб", 286);
-    freq.put("пав", 1863);
-    freq.put("паг", 207);
-    freq.put("пам", 1530);
-    freq.put("пан", 1081);
-    freq.put("пап", 425);
-    freq.put("пай", 54);
-    freq.put("пак", 479);
-    freq.put("пал", 2728);
-    freq.put("эа", 959);
-    freq.put("лё", 1276);
-    freq.put("ку ", 2946);
-    freq.put("лі", 20007);
-    freq.put("Ч", 1350);
-    freq.put("лу", 2341);
-    freq.put("лт", 324);
-    freq.put("лс", 83);
-    freq.put("лц", 45);
-    freq.put("лх", 33);
-    freq.put("лф", 80);
-    freq.put("лы", 1877);
-    freq.put("иче", 38);
-    freq.put("ля", 9714);
-    freq.put("лю", 2199);
-    freq.put("лэ", 79);
-    freq.put("ль", 19149);
-    freq.put("лг", 201);
-    freq.put("лв", 41);
-    freq.put("лб", 77);
-    freq.put("ла", 28123);
-    freq.put("лж", 69);
-    freq.put("ле", 11038);
-    freq.put("лд", 188);
-    freq.put("лл", 205);
-    freq.put("лк", 848);
-    freq.put("之", 31);
-    freq.put("ли", 94);
-    freq.put("лп", 39);
-    freq.put("ло", 5324);
-    freq.put("лн", 153);
-    freq.put("лм", 103);
-    freq.put("Кня", 206);
-    freq.put("пах", 501);
-    freq.put("пац", 155);
-    freq.put("пач", 820);
-    freq.put("пар", 2442);
-    freq.put("пас", 1849);
-    freq.put("пат", 391);
-    freq.put("паэ", 382);
-    freq.put("хма", 51);
-    freq.put("паш", 146);
-    freq.put("гві", 57);
-    freq.put("паў", 2600);
-    freq.put("па ", 3060);
-    freq.put("аме", 2497);
-    freq.put("Муз", 84);
-    freq.put("Мух", 42);
-    freq.put("Мур", 42);
-    freq.put("еяч", 797);
-    freq.put("віі", 168);
-    freq.put("о́в", 77);
-    freq.put("мбр", 99);
-    freq.put("мбу", 90);
-    freq.put("бе ", 246);
-    freq.put("рл ", 84);
-    freq.put("мбі", 133);
-    freq.put("ета", 1585);
-    freq.put("о́д", 41);
-    freq.put("етм", 40);
-    freq.put("етн", 609);
-    freq.put("ето", 36);
-    freq.put("етк", 254);
-    freq.put("етл", 74);
-    freq.put("о́л", 53);
-    freq.put("етр", 1012);
-    freq.put("етс", 45);
-    freq.put("ету", 800);
-    freq.put("етэ", 115);
-    freq.put("еты", 396);
-    freq.put("вэб", 30);
-    freq.put("мбл", 91);
-    freq.put("мбе", 56);
-    freq.put("мба", 179);
-    freq.put("рне", 105);
-    freq.put("рна", 1840);
-    freq.put("бло", 92);
-    freq.put("рно", 60);
-    freq.put("бла", 3233);
-    freq.put("бле", 329);
-    freq.put("И", 33);
-    freq.put("Мяж", 45);
-    freq.put("Мяд", 93);
-    freq.put("дшы", 40);
-    freq.put("чоў", 74);
-    freq.put("ер ", 1228);
-    freq.put("дша", 76);
-    freq.put("рні", 488);
-    freq.put("блі", 1791);
-    freq.put("вы ", 3732);
-    freq.put("рнс", 56);
-    freq.put("рну", 112);
-    freq.put("рнэ", 68);
-    freq.put("рня", 178);
-    freq.put("рны", 1199);
-    freq.put("ā", 55);
-    freq.put(" Чу", 60);
-    freq.put(" Ры", 687);
-    freq.put("ёвы", 545);
-    freq.put("мні", 334);
-    freq.put("сюд", 256);
-    freq.put("мны", 281);
-    freq.put("аяс", 33);
-    freq.put("йбу", 286);
-    freq.put("мно", 247);
-    freq.put("мна", 492);
-    freq.put("ёва", 702);
-    freq.put(" Ра", 2120);
-    freq.put(" Ре", 33);
-    freq.put(" Ро", 320);
-    freq.put("м2", 195);
-    freq.put(" Х ", 34);
-    freq.put(" Чэ", 241);
-    freq.put("іл ", 285);
-    freq.put("ры́", 73);
-    freq.put("м ", 19520);
-    freq.put("Го", 786);
-    freq.put("вів", 57);
-    freq.put("ійс", 1380);
-    freq.put("ійн", 320);
-    freq.put("еду", 41);
-    freq.put("Чач", 38);
-    freq.put(" ні", 412);
-    freq.put("ыс ", 400);
-    freq.put(" ну", 213);
-    freq.put(" ня", 740);
-    freq.put("ёт ", 37);
-    freq.put("шыя", 227);
-    freq.put("шыр", 422);
-    freq.put("шыс", 35);
-    freq.put("шыц", 88);
-    freq.put("шых", 748);
-    freq.put("ры ", 3806);
-    freq.put("шым", 317);
-    freq.put("ьён", 121);
-    freq.put("жзе", 83);
-    freq.put("го ", 1259);
-    freq.put(" не", 2723);
-    freq.put("іх ", 3247);
-    freq.put(" на", 15592);
-    freq.put("ач ", 364);
-    freq.put(" но", 414);
-    freq.put("цю ", 392);
-    freq.put("Док", 97);
-    freq.put("́", 3526);
-    freq.put("шак", 82);
-    freq.put("шай", 467);
-    freq.put("мяж", 332);
-    freq.put("ікн", 53);
-    freq.put("шан", 362);
-    freq.put("шам", 67);
-    freq.put("мяк", 36);
-    freq.put("шав", 143);
-    freq.put("шае", 120);
-    freq.put("мян", 481);
-    freq.put("ыум", 36);
-    freq.put("пыл", 56);
-    freq.put("пын", 91);
-    freq.put("рэф", 108);
-    freq.put("рэх", 51);
-    freq.put("рэц", 408);
-    freq.put("рэч", 693);
-    freq.put("рэр", 59);
-    freq.put("рэс", 1163);
-    freq.put("гаў", 153);
-    freq.put("ёрн", 50);
-    freq.put("яд ", 225);
-    freq.put("ёра", 89);
-    freq.put("рэя", 125);
-    freq.put("рэш", 74);
-    freq.put("Я", 1261);
-    freq.put("рэі", 49);
-    freq.put("гаю", 37);
-    freq.put("гая", 113);
-    freq.put("гар", 1413);
-    freq.put("гас", 397);
-    freq.put("рэў", 30);
-    freq.put("гах", 93);
-    freq.put("гац", 59);
-    freq.put("гач", 81);
-    freq.put("гай", 190);
-    freq.put("гал", 1332);
-    freq.put("гам", 308);
-    freq.put("ган", 1865);
-    freq.put("гап", 42);
-    freq.put("гав", 306);
-    freq.put("гаг", 56);
-    freq.put("гад", 1062);
-    freq.put("гае", 73);
-    freq.put("газ", 346);
-    freq.put("рэд", 910);
-    freq.put("рэе", 63);
-    freq.put("рэж", 352);
-    freq.put("рэз", 676);
-    freq.put("рэа", 414);
-    freq.put("рэб", 135);
-    freq.put("рэв", 263);
-    freq.put("рэг", 707);
-    freq.put("рэм", 457);
-    freq.put("рэн", 1183);
-    freq.put("рэп", 106);
-    freq.put("рэй", 525);
-    freq.put("рэк", 300);
-    freq.put("рэл", 456);
-    freq.put("пыт", 105);
-    freq.put("шаў", 97);
-    freq.put("цьб", 90);
-    freq.put("цье", 40);
-    freq.put("мяр", 198);
-    freq.put("мяс", 266);
-    freq.put("мяц", 51);
-    freq.put("мяч", 59);
-    freq.put("шат", 59);
-    freq.put("мяш", 574);
-    freq.put("шар", 116);
-    freq.put("шач", 69);
-    freq.put("гэт", 949);
-    freq.put("шах", 44);
-    freq.put("шаф", 59);
-    freq.put("кві", 111);
-    freq.put(" у ", 7745);
-    freq.put("квы", 206);
-    freq.put("яжа", 93);
-    freq.put("учэ", 427);
-    freq.put("зло", 39);
-    freq.put("яжк", 64);
-    freq.put("зла", 83);
-    freq.put("яжо", 43);
-    freq.put("кс ", 283);
-    freq.put("шчу", 61);
-    freq.put("злі", 121);
-    freq.put("яжу", 172);
-    freq.put("учн", 167);
-    freq.put("учо", 108);
-    freq.put("яжы", 219);
-    freq.put("злу", 298);
-    freq.put("кве", 122);
-    freq.put("ква", 647);
-    freq.put("кво", 32);
-    freq.put("́ма", 59);
-    freq.put(" хо", 126);
-    freq.put(" хл", 32);
-    freq.put(" ха", 579);
-    freq.put(" хв", 156);
-    freq.put("сбе", 37);
-    freq.put(" Кр", 715);
-    freq.put(" Ку", 557);
-    freq.put("Зе", 129);
-    freq.put("Зг", 50);
-    freq.put("Зв", 135);
-    freq.put("Зб", 38);
-    freq.put("За", 1700);
-    freq.put("Зо", 46);
-    freq.put("Зн", 363);
-    freq.put("Зм", 36);
-    freq.put("Зл", 91);
-    freq.put("тас", 328);
-    freq.put("Зу", 37);
-    freq.put("тар", 5778);
-    freq.put("Зя", 276);
-    freq.put("Зэ", 37);
-    freq.put(" Кн", 250);
-    freq.put("Зі", 75);
-    freq.put(" Ко", 619);
-    freq.put("сбу", 71);
-    freq.put(" Ке", 281);
-    freq.put(" Ка", 3732);
-    freq.put("таф", 61);
-    freq.put(" Ча", 567);
-    freq.put("́мі", 30);
-    freq.put(" хр", 415);
-    freq.put(" ху", 176);
-    freq.put(" Чо", 91);
-    freq.put(" хі", 399);
-    freq.put(" ўл", 314);
-    freq.put(" ўк", 241);
-    freq.put(" ўн", 347);
-    freq.put(" ўм", 146);
-    freq.put(" ўп", 229);
-    freq.put(" ўв", 534);
-    freq.put(" ўд", 161);
-    freq.put(" ўз", 880);
-    freq.put(" ўж", 186);
-    freq.put("вых", 1006);
-    freq.put("выц", 46);
-    freq.put("выч", 417);
-    freq.put("рн ", 77);
-    freq.put("выс", 512);
-    freq.put("выт", 235);
-    freq.put("бл ", 90);
-    freq.put("выш", 732);
-    freq.put("еро", 197);
-    freq.put("ерп", 35);
-    freq.put("ерм", 583);
-    freq.put("ерн", 844);
-    freq.put("ерк", 186);
-    freq.put("ерл", 159);
-    freq.put("ерд", 173);
-    freq.put("ерв", 172);
-    freq.put("ерг", 388);
-    freq.put("ера", 5712);
-    freq.put("ерб", 566);
-    freq.put("чле", 226);
-    freq.put("ерэ", 283);
-    freq.put("еры", 2264);
-    freq.put("ерш", 1320);
-    freq.put("ерц", 393);
-    freq.put("ерх", 464);
-    freq.put("ерт", 231);
-    freq.put("еру", 269);
-    freq.put("ерс", 748);
-    freq.put("выд", 418);
-    freq.put("выз", 386);
-    freq.put("выб", 239);
-    freq.put("выв", 359);
-    freq.put("выг", 231);
-    freq.put("вым", 980);
-    freq.put("вын", 309);
-    freq.put("вып", 359);
-    freq.put("вый", 48);
-    freq.put("вык", 1095);
-    freq.put("выл", 164);
-    freq.put(" ўя", 154);
-    freq.put(" ўс", 1578);
-    freq.put(" ўр", 194);
-    freq.put(" ўт", 319);
-    freq.put(" ўч", 37);
-    freq.put("Жу", 75);
-    freq.put("сю ", 55);
-    freq.put("Жы", 187);
-    freq.put("Жэ", 62);
-    freq.put("ёна", 1490);
-    freq.put("ёне", 1626);
-    freq.put(" Эй", 60);
-    freq.put(" Р ", 30);
-    freq.put("Жа", 266);
-    freq.put("мн ", 89);
-    freq.put("Жл", 40);
-    freq.put("Жо", 41);
-    freq.put("тад", 352);
-    freq.put("рла", 500);
-    freq.put("тай", 842);
-    freq.put("ілы", 114);
-    freq.put("іль", 1135);
-    freq.put("ілю", 37);
-    freq.put("іля", 130);
-    freq.put("рле", 43);
-    freq.put(" Чы", 240);
-    freq.put("ілё", 375);
-    freq.put("ілі", 815);
-    freq.put("бен", 108);
-    freq.put("ілк", 55);
-    freq.put("іло", 161);
-    freq.put("іла", 1333);
-    freq.put("іле", 607);
-    freq.put("Ё", 256);
-    freq.put("ме", 10606);
-    freq.put("мв", 297);
-    freq.put("мг", 35);
-    freq.put("ма", 17739);
-    freq.put("мб", 700);
-    freq.put("мо", 4411);
-    freq.put("мп", 2343);
-    freq.put("мм", 48);
-    freq.put("мн", 1504);
-    freq.put("мк", 416);
-    freq.put("мл", 1173);
-    freq.put("ми", 49);
-    freq.put(" дэ", 1081);
-    freq.put(" лю", 768);
-    freq.put(" ля", 356);
-    freq.put("жбы", 31);
-    freq.put("жбо", 43);
-    freq.put("τ", 39);
-    freq.put("жба", 40);
-    freq.put(" ды", 1042);
-    freq.put("ій ", 341);
-    freq.put("мі", 11618);
-    freq.put(" ла", 732);
-    freq.put("рэ́", 65);
-    freq.put("мё", 262);
-    freq.put(" ло", 136);
-    freq.put("мц", 52);
-    freq.put("мч", 55);
-    freq.put("мф", 80);
-    freq.put("му", 2634);
-    freq.put("мр", 39);
-    freq.put("мс", 987);
-    freq.put("мя", 2680);
-    freq.put("мэ", 388);
-    freq.put("мы", 2439);
-    freq.put("шов", 79);
-    freq.put("ачу", 75);
-    freq.put("ачэ", 613);
-    freq.put("ачы", 1048);
-    freq.put("йшл", 109);
-    freq.put("нбу", 70);
-    freq.put("ыса", 283);
-    freq.put("йшо", 51);
-    freq.put("мэн", 30);
-    freq.put("ысе", 42);
-    freq.put("ысд", 34);
-    freq.put("ысл", 259);
-    freq.put("мэб", 32);
-    freq.put("йша", 436);
-    freq.put("ысп", 34);
-    freq.put("ысо", 264);
-    freq.put("ысн", 38);
-    freq.put("рыт", 2699);
-    freq.put("рыр", 291);
-    freq.put("рыс", 2221);
-    freq.put("рыц", 481);
-    freq.put("рыч", 1340);
-    freq.put("рыф", 88);
-    freq.put("рых", 450);
-    freq.put("гоў", 102);
-    freq.put("рыш", 206);
-    freq.put("рыю", 162);
-    freq.put("рыя", 2335);
-    freq.put("рыё", 106);
-    freq.put("рыі", 1734);
-    freq.put("Фор", 47);
-    freq.put("гор", 2696);
-    freq.put("гос", 40);
-    freq.put("рыў", 106);
-    freq.put("гож", 54);
-    freq.put(" Эф", 48);
-    freq.put("год", 3377);
-    freq.put("гов", 42);
-    freq.put("гог", 154);
-    freq.put("тур", 2229);
-    freq.put("гом", 34);
-    freq.put("гон", 345);
-    freq.put("гол", 280);
-    freq.put("гой", 216);
-    freq.put("ётр", 43);
-    freq.put("рыг", 342);
-    freq.put("рыа", 34);
-    freq.put("рыб", 490);
-    freq.put("рыж", 534);
-    freq.put("рыз", 680);
-    freq.put("рыд", 440);
-    freq.put("рые", 306);
-    freq.put("рык", 1707);
-    freq.put("рыл", 415);
-    freq.put("шы ", 909);
-    freq.put("рый", 473);
-    freq.put("рып", 244);
-    freq.put("рым", 1361);
-    freq.put("рын", 1374);
-    freq.put("ысу", 104);
-    freq.put("ыст", 1986);
-    freq.put("нбе", 47);
-    freq.put("ысц", 419);
-    freq.put("ысы", 39);
-    freq.put("мэт", 268);
-    freq.put("ыся", 175);
-    freq.put("шоў", 91);
-    freq.put("ысё", 70);
-    freq.put(" н ", 198);
-    freq.put("ача", 2024);
-    freq.put("ачо", 85);
-    freq.put("стэ", 1529);
-    freq.put("ачн", 620);
-    freq.put("ачк", 187);
-    freq.put("пы ", 534);
-    freq.put("ёнт", 61);
-    freq.put("ллі", 42);
-    freq.put("мя ", 600);
-    freq.put("ша ", 330);
-    freq.put("уху", 214);
-    freq.put("ухі", 76);
-    freq.put("ядн", 355);
-    freq.put("ядо", 761);
-    freq.put("яда", 274);
-    freq.put("ёр ", 367);
-    freq.put("ядз", 655);
-    freq.put("яды", 192);
-    freq.put("рэ ", 150);
-    freq.put("ядр", 58);
-    freq.put("яду", 188);
-    freq.put("уха", 377);
-    freq.put("га ", 13429);
-    freq.put("ухо", 134);
-    freq.put("ухн", 50);
-    freq.put("ўяў", 159);
-    freq.put("лле", 72);
-    freq.put("ць ", 6945);
-    freq.put(" ук", 188);
-    freq.put(" ул", 385);
-    freq.put(" уп", 170);
-    freq.put(" ум", 135);
-    freq.put("Біл", 34);
-    freq.put(" ув", 256);
-    freq.put(" уж", 78);
-    freq.put("Біб", 81);
-    freq.put(" уд", 197);
-    freq.put("ксо", 77);
-    freq.put("ксп", 127);
-    freq.put("ксн", 34);
-    freq.put("кск", 165);
-    freq.put("ксе", 207);
-    freq.put("кса", 1748);
-    freq.put("т", 99143);
-    freq.put("лн ", 126);
-    freq.put("уч ", 33);
-    freq.put("кст", 197);
-    freq.put("ксу", 140);
-    freq.put("ксі", 335);
-    freq.put("ксё", 30);
-    freq.put(" уя", 79);
-    freq.put("Бры", 107);
-    freq.put(" ут", 194);
-    freq.put("эўс", 81);
-    freq.put(" ур", 133);
-    freq.put(" ус", 845);
-    freq.put("Бір", 41);
-    freq.put(" уч", 37);
-    freq.put("Біт", 54);
-    freq.put("Кэ", 34);
-    freq.put("нян", 69);
-    freq.put("Кр", 717);
-    freq.put("Ку", 562);
-    freq.put("Кі", 530);
-    freq.put("Кё", 43);
-    freq.put("флі", 67);
-    freq.put("З ", 395);
-    freq.put(" дл", 1402);
-    freq.put("бры", 667);
-    freq.put("брэ", 69);
-    freq.put("бру", 173);
-    freq.put("брс", 37);
-    freq.put("бро", 415);
-    freq.put("бра", 802);
-    freq.put(" К ", 53);
-    freq.put("тэс", 99);
-    freq.put("зск", 469);
-    freq.put("тэф", 52);
-    freq.put("Кн", 250);
-    freq.put("Ко", 622);
-    freq.put("ьд ", 63);
-    freq.put("Кл", 320);
-    freq.put("Ке", 281);
-    freq.put("Ка", 3742);
-    freq.put("Кв", 68);
-    freq.put("аб ", 1178);
-    freq.put(" ча", 4033);
-    freq.put(" чо", 69);
-    freq.put("тчы", 50);
-    freq.put(" чл", 222);
-    freq.put("Ло", 316);
-    freq.put("ыў ", 770);
-    freq.put(" Мі", 2672);
-    freq.put("еон", 57);
-    freq.put(" Му", 278);
-    freq.put(" Мс", 47);
-    freq.put(" Мя", 206);
-    freq.put(" Мю", 63);
-    freq.put(" Мэ", 75);
-    freq.put(" Ме", 632);
-    freq.put(" Ма", 3437);
-    freq.put(" Мо", 280);
-    freq.put(" Мн", 77);
-    freq.put("зу ", 242);
-    freq.put("н ", 9688);
-    freq.put(" чу", 37);
-    freq.put(" чэ", 701);
-    freq.put(" чы", 800);
-    freq.put("Уіл", 67);
-    freq.put("Кей", 39);
-    freq.put("Кем", 30);
-    freq.put("Кен", 92);
-    freq.put("агл", 171);
-    freq.put("аго", 1442);
-    freq.put("агм", 44);
-    freq.put("агн", 204);
-    freq.put("ага", 12348);
-    freq.put("агд", 59);
-    freq.put("аге", 276);
-    freq.put("Луі", 77);
-    freq.put("г", 55522);
-    freq.put("Луг", 33);
-    freq.put(" Гл", 243);
-    freq.put("Лун", 41);
-    freq.put(" р", 15925);
-    freq.put("Лук", 84);
-    freq.put("ка́", 31);
-    freq.put(" Го", 780);
-    freq.put("агу", 768);
-    freq.put("агр", 1099);
-    freq.put("агс", 42);
-    freq.put("агч", 153);
-    freq.put("Кер", 45);
-    freq.put("агі", 1486);
-    freq.put(" Га", 1324);
-    freq.put("Ісл", 53);
-    freq.put("Ісп", 133);
-    freq.put("Існ", 76);
-    freq.put("Іса", 34);
-    freq.put("сь ", 558);
-    freq.put("ўла", 442);
-    freq.put("тэк", 638);
-    freq.put("ўле", 729);
-    freq.put(" Ге", 1278);
-    freq.put("Вул", 80);
-    freq.put("тэо", 140);
-    freq.put("тэн", 434);
-    freq.put("мп ", 150);
-    freq.put("ي", 66);
-    freq.put("ўлу", 32);
-    freq.put(" Т ", 139);
-    freq.put("ўля", 1707);
-    freq.put("ўлі", 57);
-    freq.put("Ісу", 39);
-    freq.put(" Фу", 78);
-    freq.put(" Фр", 942);
-    freq.put("Бес", 31);
-    freq.put("Бер", 261);
-    freq.put(" р ", 192);
-    freq.put("фра", 575);
-    freq.put("Беш", 42);
-    freq.put(" Фё", 88);
-    freq.put(" З ", 337);
-    freq.put(" Гі", 271);
-    freq.put(" Я", 1258);
-    freq.put("Бел", 2583);
-    freq.put("Бен", 99);
-    freq.put(" Фо", 111);
-    freq.put(" Фл", 151);
-    freq.put(" Фе", 356);
-    freq.put("йд ", 32);
-    freq.put(" з", 21314);
-    freq.put(" Гэ", 230);
-    freq.put("мід", 52);
-    freq.put("міз", 34);
-    freq.put("між", 1150);
-    freq.put("міг", 76);
-    freq.put(" Гу", 344);
-    freq.put("мін", 2407);
-    freq.put("мій", 30);
-    freq.put(" Гр", 1211);
-    freq.put("міл", 218);
-    freq.put("мік", 340);
-    freq.put("узо", 79);
-    freq.put("α", 102);
-    freq.put("ань", 324);
-    freq.put("узд", 69);
-    freq.put("іп ", 51);
-    freq.put("міф", 137);
-    freq.put("міч", 762);
-    freq.put("міц", 56);
-    freq.put("міс", 219);
-    freq.put("мір", 680);
-    freq.put("міт", 387);
-    freq.put("мія", 254);
-    freq.put("Дар", 85);
-    freq.put("міі", 415);
-    freq.put("ук ", 434);
-    freq.put("эч ", 102);
-    freq.put("умі", 53);
-    freq.put("лты", 125);
-    freq.put("умя", 36);
-    freq.put("умы", 106);
-    freq.put("уму", 42);
-    freq.put("дмы", 63);
-    freq.put("іня", 123);
-    freq.put("س", 30);
-    freq.put("дмі", 1121);
-    freq.put("інш", 985);
-    freq.put("інц", 489);
-    freq.put("інф", 236);
-    freq.put("інт", 390);
-    freq.put("іну", 255);
-    freq.put("інс", 2658);
-    freq.put("іно", 252);
-    freq.put("інн", 243);
-    freq.put("інк", 714);
-    freq.put("інл", 57);
-    freq.put("інж", 65);
-    freq.put("інд", 347);
-    freq.put("іне", 889);
-    freq.put("інв", 42);
-    freq.put("інг", 408);
-    freq.put("іна", 2567);
-    freq.put("хаг", 105);
-    freq.put("дма", 50);
-    freq.put("дме", 184);
-    freq.put("Даў", 492);
-    freq.put("дмо", 49);
-    freq.put("умн", 35);
-    freq.put("умо", 141);
-    freq.put("умк", 40);
-    freq.put("уме", 577);
-    freq.put("лта", 132);
-    freq.put("ума", 521);
-    freq.put("умб", 101);
-    freq.put(" П", 9031);
-    freq.put(" п ", 62);
-    freq.put("ых ", 8343);
-    freq.put("эха", 86);
-    freq.put("Рум", 52);
-    freq.put("эхн", 277);
-    freq.put("Руб", 33);
-    freq.put("Руд", 71);
-    freq.put(" Ёр", 103);
-    freq.put("юты", 40);
-    freq.put("ютэ", 33);
-    freq.put(" зя", 396);
-    freq.put("КА ", 107);
-    freq.put("убы", 38);
-    freq.put("ютн", 55);
-    freq.put("юта", 617);
-    freq.put(" Ён", 101);
-    freq.put("Ата", 33);
-    freq.put("Рус", 238);
-    freq.put("эхі", 77);
-    freq.put("ыча", 551);
-    freq.put("мым", 124);
-    freq.put("ёв", 1316);
-    freq.put("мык", 38);
-    freq.put("ёд", 159);
-    freq.put("ёз", 64);
-    freq.put("ёй", 362);
-    freq.put("гст", 38);
-    freq.put("ёл", 628);
-    freq.put("ёк", 179);
-    freq.put("мыв", 58);
-    freq.put("ём", 606);
-    freq.put("аэр", 56);
-    freq.put("аэт", 323);
-    freq.put("нля", 53);
-    freq.put("Няс", 44);
-    freq.put("нла", 64);
-    freq.put("хна", 89);
-    freq.put("аэз", 37);
-    freq.put("аэм", 47);
-    freq.put("аэл", 90);
-    freq.put("ёс", 1579);
-    freq.put("мыя", 125);
-    freq.put("юл", 105);
-    freq.put("йтэ", 43);
-    freq.put("мыш", 30);
-    freq.put("йтр", 34);
-    freq.put("ка ", 9618);
-    freq.put("ычы", 170);
-    freq.put("мых", 267);
-    freq.put("мыс", 267);
-    freq.put("штэ", 91);
-    freq.put("ыўн", 538);
-    freq.put(" Сл", 535);
-    freq.put("аба", 1266);
-    freq.put("абв", 108);
-    freq.put("абе", 378);
-    freq.put("абк", 31);
-    freq.put("абл", 755);
-    freq.put("абм", 191);
-    freq.put("абн", 61);
-    freq.put("або", 2403);
-    freq.put("Стр", 184);
-    freq.put("ні", 20193);
-    freq.put("нё", 1405);
-    freq.put("Сты", 46);
-    freq.put("Стэ", 98);
-    freq.put("нх", 122);
-    freq.put("нф", 480);
-    freq.put("нч", 531);
-    freq.put("нц", 3987);
-    freq.put("ε", 41);
-    freq.put("нр", 271);
-    freq.put("ну", 2594);
-    freq.put("нт", 7170);
-    freq.put("нэ", 255);
-    freq.put("нь", 1439);
-    freq.put("ня", 13784);
-    freq.put("ню", 590);
-    freq.put("нш", 1383);
-    freq.put("ны", 24501);
-    freq.put("зую", 42);
-    freq.put("не", 14849);
-    freq.put("нд", 4334);
-    freq.put("нз", 213);
-    freq.put("нж", 145);
-    freq.put("зуе", 154);
-    freq.put("на", 62781);
-    freq.put("нг", 2417);
-    freq.put("нв", 280);
-    freq.put("нн", 12483);
-    freq.put("нм", 57);
-    freq.put("но", 5812);
-    freq.put("зум", 108);
-    freq.put("нл", 153);
-    freq.put("нк", 3531);
-    freq.put("Ста", 837);
-    freq.put("Ств", 130);
-    freq.put(" М ", 135);
-    freq.put("Сто", 71);
-    freq.put("абр", 743);
-    freq.put("абс", 296);
-    freq.put("абу", 454);
-    freq.put("абх", 72);
-    freq.put("абш", 46);
-    freq.put("абы", 210);
-    freq.put("абя", 137);
-    freq.put("абі", 494);
-    freq.put("ыўс", 114);
-    freq.put("аг ", 427);
-    freq.put("рпе", 51);
-    freq.put("рпа", 91);
-    freq.put("ўпа", 112);
-    freq.put("аху", 48);
-    freq.put("узс", 385);
-    freq.put("зэ ", 57);
-    freq.put("α ", 45);
-    freq.put(" Су", 572);
-    freq.put("рпу", 66);
-    freq.put(" Тр", 487);
-    freq.put(" Ту", 418);
-    freq.put(" Тэ", 405);
-    freq.put(" Ты", 162);
-    freq.put("сьм", 574);
-    freq.put("сье", 34);
-    freq.put("сьб", 42);
-    freq.put("мпу", 31);
-    freq.put("мпі", 436);
-    freq.put("ц", 65139);
-    freq.put("мпа", 587);
-    freq.put("мпе", 801);
-    freq.put("мпл", 238);
-    freq.put(" Та", 918);
-    freq.put("пры", 4477);
-    freq.put("фр ", 142);
-    freq.put("цёр", 128);
-    freq.put("йдэ", 41);
-    freq.put("іўн", 573);
-    freq.put("юдо", 31);
-    freq.put("юдв", 49);
-    freq.put("уе ", 410);
-    freq.put("юдз", 212);
-    freq.put("юдж", 245);
-    freq.put(" зо", 263);
-    freq.put("йдж", 113);
-    freq.put("йдз", 63);
-    freq.put("йда", 59);
-    freq.put(" Ф ", 40);
-    freq.put("цёл", 80);
-    freq.put("цём", 57);
-    freq.put("цёв", 40);
-    freq.put("мі ", 4252);
-    freq.put("укі", 156);
-    freq.put("укт", 343);
-    freq.put("уку", 241);
-    freq.put("укр", 163);
-    freq.put("укц", 127);
-    freq.put("М", 8254);
-    freq.put("іпі", 50);
-    freq.put("іпр", 37);
-    freq.put("іпт", 78);
-    freq.put("нея", 54);
-    freq.put("ьмо", 89);
-    freq.put("іпе", 788);
-    freq.put("іпа", 132);
-    freq.put("іпо", 51);
-    freq.put(" Зі", 75);
-    freq.put("укл", 134);
-    freq.put("ск", 32988);
-    freq.put("уко", 399);
-    freq.put("ука", 750);
-    freq.put("см", 632);
-    freq.put("Ёрк", 98);
-    freq.put("сп", 4911);
-    freq.put("Кру", 114);
-    freq.put(" пі", 748);
-    freq.put(" пя", 286);
-    freq.put(" пэ", 212);
-    freq.put(" пы", 88);
-    freq.put("эчк", 64);
-    freq.put(" пт", 95);
-    freq.put(" пу", 542);
-    freq.put("эчн", 37);
-    freq.put(" пс", 174);
-    freq.put("шэў", 52);
-    freq.put("рчэ", 40);
-    freq.put("фаў", 43);
-    freq.put("фат", 78);
-    freq.put("фас", 39);
-    freq.put("фар", 746);
-    freq.put("шэр", 198);
-    freq.put("фаз", 30);
-    freq.put("шэн", 257);
-    freq.put("фав", 101);
-    freq.put("шэл", 31);
-    freq.put("фан", 213);
-    freq.put("фам", 46);
-    freq.put("фал", 335);
-    freq.put("фак", 153);
-    freq.put("фай", 58);
-    freq.put("Бе́", 34);
-    freq.put("ін ", 2246);
-    freq.put(" по", 2485);
-    freq.put("сё", 587);
-    freq.put("Ы ", 63);
-    freq.put("эчч", 42);
-    freq.put(" пл", 1268);
-    freq.put("эчы", 416);
-    freq.put(" пе", 3180);
-    freq.put(" па", 17924);
-    freq.put("ум ", 113);
-    freq.put("шве", 120);
-    freq.put("Вер", 263);
-    freq.put("Вес", 89);
-    freq.put("шва", 57);
-    freq.put("ыхо", 173);
-    freq.put("ння", 4888);
-    freq.put("нню", 151);
-    freq.put("нны", 764);
-    freq.put("нну", 31);
-    freq.put("ыха", 417);
-    freq.put("Юл", 39);
-    freq.put("Юн", 40);
-    freq.put("Юп", 32);
-    freq.put("фот", 48);
-    freq.put("ن", 52);
-    freq.put("Юр", 114);
-    freq.put("ыа ", 59);
-    freq.put("нно", 59);
-    freq.put("нне", 3662);
-    freq.put("нна", 1111);
-    freq.put("Вел", 57);
-    freq.put("Вен", 303);
-    freq.put("ыхі", 46);
-    freq.put("каў", 1655);
-    freq.put("каш", 191);
-    freq.put("кая", 4879);
-    freq.put("каю", 106);
-    freq.put("кас", 1504);
-    freq.put("кар", 2662);
-    freq.put("кат", 800);
-    freq.put("ках", 365);
-    freq.put("каф", 63);
-    freq.put("кач", 60);
-    freq.put("кац", 363);
-    freq.put("гва", 163);
-    freq.put("Між", 200);
-    freq.put("Мін", 1405);
-    freq.put("Міл", 93);
-    freq.put("Мік", 376);
-    freq.put("Міх", 296);
-    freq.put("Міс", 35);
-    freq.put("Мір", 48);
-    freq.put("Міё", 106);
-    freq.put(" мо", 2674);
-    freq.put("кай", 7316);
-    freq.put("кал", 2808);
-    freq.put("как", 108);
-    freq.put("кан", 3564);
-    freq.put("кам", 3002);
-    freq.put("кап", 368);
-    freq.put("каб", 346);
-    freq.put("каа", 143);
-    freq.put("каг", 5433);
-    freq.put("кав", 1920);
-    freq.put("кае", 1402);
-    freq.put("кад", 430);
-    freq.put("каз", 602);
-    freq.put("аяў", 129);
-    freq.put("псе", 61);
-    freq.put("гую", 31);
-    freq.put("гуш", 56);
-    freq.put("пса", 33);
-    freq.put("гуч", 52);
-    freq.put("гуц", 88);
-    freq.put("гус", 121);
-    freq.put("гур", 233);
-    freq.put("гут", 78);
-    freq.put("аяц", 37);
-    freq.put("аяр", 72);
-    freq.put("энш", 43);
-    freq.put("шск", 180);
-    freq.put("энс", 289);
-    freq.put("энт", 2451);
-    freq.put("псі", 125);
-    freq.put("аян", 158);
-    freq.put("аяк", 33);
-    freq.put("аяз", 52);
-    freq.put("аяв", 406);
-    freq.put("Уяў", 46);
-    freq.put("гун", 397);
-    freq.put("гум", 94);
-    freq.put("йра", 59);
-    freq.put("гул", 940);
-    freq.put("гук", 158);
-    freq.put("губ", 426);
-    freq.put("гуа", 44);
-    freq.put("се ", 546);
-    freq.put("Шат", 60);
-    freq.put("Шар", 115);
-    freq.put("ўчы", 174);
-    freq.put("Іа", 140);
-    freq.put("Ів", 480);
-    freq.put("Іг", 116);
-    freq.put("Ід", 30);
-    freq.put("Іе", 57);
-    freq.put("Із", 111);
-    freq.put("Іл", 117);
-    freq.put("Ім", 122);
-    freq.put("Ін", 536);
-    freq.put("Іо", 69);
-    freq.put("м2 ", 191);
-    freq.put("шкі", 164);
-    freq.put("іў ", 447);
-    freq.put("Іў", 33);
-    freq.put("Ір", 191);
-    freq.put("Іс", 362);
-    freq.put("Іт", 183);
-    freq.put("ўча", 114);
-    freq.put("Шам", 39);
-    freq.put("тую", 93);
-    freq.put("туя", 37);
-    freq.put("туш", 146);
-    freq.put("туц", 162);
-    freq.put("туч", 89);
-    freq.put("ае ", 6575);
-    freq.put("тус", 111);
-    freq.put("тут", 200);
-    freq.put("сло", 741);
-    freq.put("сла", 1683);
-    freq.put("сле", 422);
-    freq.put("еор", 81);
-    freq.put("Гай", 61);
-    freq.put("Гал", 354);
-    freq.put("Гам", 50);
-    freq.put("Ган", 190);
-    freq.put("Габ", 62);
-    freq.put("Гав", 41);
-    freq.put("Гад", 35);
-    freq.put("Гаў", 30);
-    freq.put("ю", 11076);
-    freq.put("еог", 43);
-    freq.put("Гар", 332);
-    freq.put("Гас", 47);
-    freq.put("еол", 42);
-    freq.put("зя ", 455);
-    freq.put("слы", 67);
-    freq.put("дэ ", 286);
-    freq.put("сля", 710);
-    freq.put("слу", 503);
-    freq.put("тум", 49);
-    freq.put("тун", 104);
-    freq.put("туп", 594);
-    freq.put("тул", 181);
-    freq.put("туд", 626);
-    freq.put("туе", 73);
-    freq.put("туа", 124);
-    freq.put("слі", 318);
-    freq.put("туг", 120);
-    freq.put("азд", 323);
-    freq.put("азе", 634);
-    freq.put("азв", 1711);
-    freq.put("азг", 126);
-    freq.put("аза", 1066);
-    freq.put("азб", 127);
-    freq.put("азо", 211);
-    freq.put("азм", 1428);
-    freq.put("азн", 1144);
-    freq.put("азл", 75);
-    freq.put("хаў", 215);
-    freq.put("хаі", 115);
-    freq.put("Чэр", 57);
-    freq.put("Чэх", 91);
-    freq.put("хат", 84);
-    freq.put("хар", 728);
-    freq.put("хас", 91);
-    freq.put("хап", 42);
-    freq.put("хам", 220);
-    freq.put("хан", 374);
-    freq.put("хак", 32);
-    freq.put("хал", 230);
-    freq.put("хай", 107);
-    freq.put("хаз", 46);
-    freq.put("хад", 862);
-    freq.put("хав", 450);
-    freq.put("ό", 32);
-    freq.put("хаа", 32);
-    freq.put("Эст", 80);
-    freq.put("азі", 760);
-    freq.put("азё", 127);
-    freq.put("бн ", 43);
-    freq.put("Я ", 158);
-    freq.put("азу", 217);
-    freq.put("азр", 70);
-    freq.put("азы", 358);
-    freq.put("Абр", 46);
-    freq.put("Абс", 37);
-    freq.put("Абу", 50);
-    freq.put("Абх", 31);
-    freq.put("Вял", 903);
-    freq.put("ўпл", 64);
-    freq.put("ўпе", 45);
-    freq.put("Вяд", 52);
-    freq.put("Ф", 2468);
-    freq.put("бшч", 40);
-    freq.put("Вяр", 81);
-    freq.put("ўпр", 52);
-    freq.put("Вяч", 42);
-    freq.put("Аба", 61);
-    freq.put("Абд", 38);
-    freq.put("сім", 420);
-    freq.put("сін", 570);
-    freq.put("сіп", 70);
-    freq.put("сій", 793);
-    freq.put("сік", 147);
-    freq.put("сіл", 557);
-    freq.put("сід", 84);
-    freq.put("сіб", 34);
-    freq.put("сіг", 44);
-    freq.put(" Шы", 106);
-    freq.put("Ча", 571);
-    freq.put(" Шэ", 79);
-    freq.put("Пру", 78);
-    freq.put(" Шу", 72);
-    freq.put("Прэ", 174);
-    freq.put(" Шч", 95);
-    freq.put("Пры", 438);
-    freq.put("дра", 974);
-    freq.put("дро", 462);
-    freq.put("мач", 107);
-    freq.put("кор", 157);
-    freq.put("саю", 212);
-    freq.put("энк", 70);
-    freq.put("дру", 589);
-    freq.put("дрэ", 274);
-    freq.put("дры", 359);
-    freq.put(" Шл", 42);
-    freq.put(" Шк", 42);
-    freq.put("сіў", 103);
-    freq.put("Пра", 650);
-    freq.put(" Шо", 34);
-    freq.put("ёка", 85);
-    freq.put(" Шв", 207);
-    freq.put("Про", 67);
-    freq.put(" Ша", 385);
-    freq.put("нц ", 82);
-    freq.put("сія", 315);
-    freq.put("сіф", 127);
-    freq.put("сіх", 294);
-    freq.put("сіц", 224);
-    freq.put("січ", 82);
-    freq.put("сір", 32);
-    freq.put("сіс", 1015);
-    freq.put("сіт", 336);
-    freq.put("кір", 980);
-    freq.put("тба", 101);
-    freq.put("тбо", 310);
-    freq.put("Зел", 58);
-    freq.put("Зем", 41);
-    freq.put("нфл", 68);
-    freq.put("нфа", 228);
-    freq.put("нфе", 120);
-    freq.put(" Ба", 1651);
-    freq.put("ыпр", 130);
-    freq.put("ілу", 50);
-    freq.put("уар", 156);
-    freq.put("уат", 42);
-    freq.put("уац", 45);
-    freq.put("2 ", 217);
-    freq.put("эжы", 102);
-    freq.put("эжж", 203);
-    freq.put("эжн", 41);
-    freq.put("уал", 226);
-    freq.put("уан", 131);
-    freq.put("ски", 89);
-    freq.put("Ці", 239);
-    freq.put("Асм", 35);
-    freq.put("чыг", 304);
-    freq.put("чыв", 208);
-    freq.put("ўсі", 153);
-    freq.put("ско", 859);
-    freq.put("ўст", 1023);
-    freq.put("ўсх", 860);
-    freq.put("ўсю", 269);
-    freq.put("ўся", 866);
-    freq.put("яво", 392);
-    freq.put("Р", 5235);
-    freq.put("яве", 153);
-    freq.put("ява", 586);
-    freq.put("гда", 48);
-    freq.put("яві", 163);
-    freq.put("явы", 153);
-    freq.put("ўсе", 89);
-    freq.put("ўск", 3679);
-    freq.put("гу ", 559);
-    freq.put("ая ", 13807);
-    freq.put(" Ім", 122);
-    freq.put("сеа", 35);
-    freq.put("сев", 40);
-    freq.put("сее", 65);
-    freq.put("сед", 82);
-    freq.put("сез", 34);
-    freq.put("сей", 796);
-    freq.put("сел", 2211);
-    freq.put("сек", 217);
-    freq.put("сен", 375);
-    freq.put("сем", 146);
-    freq.put("Гом", 454);
-    freq.put("Гол", 36);
-    freq.put("І ", 296);
-    freq.put(" Ос", 70);
-    freq.put(" Ор", 114);
-    freq.put(" Ол", 47);
-    freq.put(" Об", 45);
-    freq.put("Гор", 184);
-    freq.put("сер", 318);
-    freq.put("сет", 133);
-    freq.put("сец", 101);
-    freq.put("сея", 46);
-    freq.put("оро", 68);
-    freq.put("сеў", 125);
-    freq.put("аем", 301);
-    freq.put("аен", 477);
-    freq.put("аек", 178);
-    freq.put("чыр", 128);
-    freq.put("аев", 124);
-    freq.put("зяў", 95);
-    freq.put(" Бо", 341);
-    freq.put("ьды", 85);
-    freq.put("зяч", 49);
-    freq.put("зяц", 391);
-    freq.put("зяс", 32);
-    freq.put("зяр", 1792);
-    freq.put("ьдэ", 38);
-    freq.put("зят", 58);
-    freq.put("зян", 266);
-    freq.put("зям", 388);
-    freq.put("ьда", 75);
-    freq.put("зяй", 44);
-    freq.put("зял", 400);
-    freq.put("зяк", 44);
-    freq.put("хво", 107);
-    freq.put("зяв", 33);
-    freq.put("Чук", 33);
-    freq.put("ье ", 83);
-    freq.put(" ы ", 100);
-    freq.put("аец", 2167);
-    freq.put("ту ", 1693);
-    freq.put("аеў", 118);
-    freq.put("бны", 340);
-    freq.put("Яс", 39);
-    freq.put("Яр", 66);
-    freq.put("Яў", 82);
-    freq.put("аз ", 472);
-    freq.put("бні", 46);
-    freq.put("ени", 61);
-    freq.put("сі́", 50);
-    freq.put(" No ", 57);
-    freq.put(" мы", 117);
-    freq.put("ха ", 245);
-    freq.put("Яп", 81);
-    freq.put("Ян", 367);
-    freq.put("Ям", 41);
-    freq.put("Як", 195);
-    freq.put("Яз", 34);
-    freq.put("бна", 235);
-    freq.put("Яе", 55);
-    freq.put("Яг", 110);
-    freq.put("мы ", 1359);
-    freq.put(" Ці", 239);
-    freq.put("Блі", 44);
-    freq.put("фта", 68);
-    freq.put(" Цы", 56);
-    freq.put(" Цэ", 401);
-    freq.put(" Ця", 65);
-    freq.put(" Цю", 41);
-    freq.put("мля", 250);
-    freq.put("млі", 534);
-    freq.put("дца", 30);
-    freq.put("млё", 38);
-    freq.put("ту́", 33);
-    freq.put("млн", 125);
-    freq.put("мле", 150);
-    freq.put("Аб ", 96);
-    freq.put(" Ца", 125);
-    freq.put(" Цв", 59);
-    freq.put(" Це", 57);
-    freq.put("ёда", 95);
-    freq.put("Бла", 52);
-    freq.put("нці", 345);
-    freq.put("ФК ", 31);
-    freq.put(" Дв", 64);
-    freq.put("нцт", 37);
-    freq.put("нцу", 452);
-    freq.put("нцы", 2031);
-    freq.put("сі ", 1539);
-    freq.put("нцэ", 175);
-    freq.put("фіі", 161);
-    freq.put("тге", 32);
-    freq.put("тга", 46);
-    freq.put("з", 64745);
-    freq.put("др ", 193);
-    freq.put("Фёд", 86);
-    freq.put(" ві", 721);
-    freq.put("нца", 490);
-    freq.put("нце", 68);
-    freq.put("нци", 40);
-    freq.put("нцк", 126);
-    freq.put("нцл", 51);
-    freq.put("нцо", 47);
-    freq.put("ёк ", 48);
-    freq.put("пск", 158);
-    freq.put("ісе", 188);
-    freq.put("доц", 70);
-    freq.put("дос", 69);
-    freq.put("дор", 154);
-    freq.put("ібі", 151);
-    freq.put("доў", 627);
-    freq.put("доб", 287);
-    freq.put("дов", 424);
-    freq.put("дон", 117);
-    freq.put("дом", 780);
-    freq.put("дой", 44);
-    freq.put("дол", 266);
-    freq.put("док", 218);
-    freq.put("іда", 556);
-    freq.put("лфа", 67);
-    freq.put("ідж", 39);
-    freq.put("Пол", 649);
-    freq.put(" ва", 3036);
-    freq.put("Аса", 71);
-    freq.put("Асв", 33);
-    freq.put("Кур", 123);
-    freq.put("ідн", 142);
-    freq.put("ывё", 196);
-    freq.put("ыві", 285);
-    freq.put("Асн", 87);
-    freq.put("Асо", 37);
-    freq.put("ывы", 117);
-    freq.put("ывя", 62);
-    freq.put("юры", 152);
-    freq.put("ыву", 398);
-    freq.put("ыво", 108);
-    freq.put("Асі", 65);
-    freq.put("юрк", 35);
-    freq.put("уа ", 131);
-    freq.put("ыва", 1475);
-    freq.put("юра", 33);
-    freq.put("ыве", 151);
-    freq.put("Аст", 223);
-    freq.put("Куз", 45);
-    freq.put("Куб", 73);
-    freq.put("Кун", 31);
-    freq.put("Куп", 70);
-    freq.put("Кул", 80);
-    freq.put("іву", 41);
-    freq.put("Пор", 52);
-    freq.put("Поў", 44);
-    freq.put("Эф", 48);
-    freq.put("Эс", 132);
-    freq.put("Эр", 123);
-    freq.put("Эт", 43);
-    freq.put("Іга", 31);
-    freq.put("эс ", 214);
-    freq.put("ўсё", 136);
-    freq.put("цве", 104);
-    freq.put("Ігн", 51);
-    freq.put("дкі", 174);
-    freq.put("Ш", 1379);
-    freq.put("іс ", 491);
-    freq.put("дкр", 292);
-    freq.put("дку", 149);
-    freq.put("эдэ", 45);
-    freq.put("ν", 65);
-    freq.put("увя", 206);
-    freq.put("эдк", 60);
-    freq.put("дка", 786);
-    freq.put("ува", 305);
-    freq.put("НР ", 42);
-    freq.put("эдн", 559);
-    freq.put("эда", 84);
-    freq.put("эдж", 31);
-    freq.put("эдз", 133);
-    freq.put("ісы", 38);
-    freq.put("дко", 97);
-    freq.put("ыд ", 79);
-    freq.put("цвя", 62);
-    freq.put("Эд", 135);
-    freq.put("цвё", 148);
-    freq.put("Эн", 140);
-    freq.put("Эм", 75);
-    freq.put("Эп", 30);
-    freq.put("Эй", 61);
-    freq.put("Эл", 192);
-    freq.put("Эк", 93);
-    freq.put("рт", 2987);
-    freq.put("ру", 10643);
-    freq.put("рс", 2953);
-    freq.put("рц", 963);
-    freq.put("рч", 466);
-    freq.put("рф", 258);
-    freq.put("рх", 1664);
-    freq.put("ры", 25049);
-    freq.put("рш", 2066);
-    freq.put("ря", 37);
-    freq.put("рь", 36);
-    freq.put("рэ", 9816);
-    freq.put("пу ", 210);
-    freq.put("Ахо", 34);
-    freq.put("ічн", 2832);
-    freq.put("шу ", 44);
-    freq.put("іча", 776);
-    freq.put("ічб", 51);
-    freq.put("ічв", 76);
-    freq.put("ічэ", 97);
-    freq.put("філ", 515);
-    freq.put("ічы", 1087);
-    freq.put("Кні", 32);
-    freq.put("Ахр", 43);
-    freq.put("эяў", 40);
-    freq.put("рв", 1276);
-    freq.put("рг", 2921);
-    freq.put("ра", 59018);
-    freq.put("рб", 1246);
-    freq.put("рж", 1940);
-    freq.put("рз", 57);
-    freq.put("рд", 1479);
-    freq.put("ре", 128);
-    freq.put("рк", 2219);
-    freq.put("рл", 915);
-    freq.put("ри", 76);
-    freq.put("ро", 10931);
-    freq.put("рп", 271);
-    freq.put("рм", 2824);
-    freq.put("рн", 4232);
-    freq.put("пны", 99);
-    freq.put("гчы", 152);
-    freq.put("пні", 51);
-    freq.put("жне", 56);
-    freq.put("жна", 1108);
-    freq.put("ыжа", 187);
-    freq.put("ыжо", 79);
-    freq.put("ідс", 100);
-    freq.put("ыжс", 80);
-    freq.put("жні", 678);
-    freq.put("ыжы", 79);
-    freq.put("жня", 492);
-    freq.put("ві ", 86);
-    freq.put("жны", 395);
-    freq.put("пна", 208);
-    freq.put("іды", 128);
-    freq.put("ідэ", 762);
-    freq.put("Віз", 38);
-    freq.put("Від", 37);
-    freq.put("Віл", 536);
-    freq.put("Вік", 220);
-    freq.put("Він", 85);
-    freq.put("ьц", 237);
-    freq.put("ьт ", 46);
-    freq.put("ем ", 1111);
-    freq.put("рго", 45);
-    freq.put("Віт", 99);
-    freq.put("Віс", 45);
-    freq.put("Вір", 44);
-    freq.put(" э ", 103);
-    freq.put("Віц", 1141);
-    freq.put("Віш", 36);
-    freq.put("тс ", 34);
-    freq.put("твы", 206);
-    freq.put("спе", 752);
-    freq.put(" яш", 70);
-    freq.put("спа", 1748);
-    freq.put("спо", 205);
-    freq.put("у́", 226);
-    freq.put("спл", 95);
-    freq.put("еян", 343);
-    freq.put(" яў", 1242);
-    freq.put("ай ", 16454);
-    freq.put("ب", 44);
-    freq.put("екц", 149);
-    freq.put("екс", 575);
-    freq.put("ект", 1364);
-    freq.put("еку", 144);
-    freq.put("екі", 99);
-    freq.put("ека", 926);
-    freq.put("спі", 264);
-    freq.put("еяў", 44);
-    freq.put(" яп", 81);
-    freq.put(" ям", 55);
-    freq.put(" ян", 268);
-    freq.put(" як", 7719);
-    freq.put("спр", 614);
-    freq.put("спя", 205);
-    freq.put(" яз", 30);
-    freq.put(" яд", 446);
-    freq.put(" яе", 424);
-    freq.put("спы", 59);
-    freq.put(" яг", 723);
-    freq.put("алт", 219);
-    freq.put("алу", 455);
-    freq.put("алц", 35);
-    freq.put("алф", 69);
-    freq.put("алы", 395);
-    freq.put("алю", 472);
-    freq.put("аля", 1924);
-    freq.put("аль", 6275);
-    freq.put("ўсп", 40);
-    freq.put("алё", 433);
-    freq.put("алі", 5925);
-    freq.put("ўн ", 39);
-    freq.put("Ор", 115);
-    freq.put("Ос", 70);
-    freq.put("зы ", 196);
-    freq.put("п", 64237);
-    freq.put("Ол", 47);
-    freq.put("Об", 46);
-    freq.put("алг", 145);
-    freq.put("ала", 5165);
-    freq.put("юк ", 30);
-    freq.put("алд", 123);
-    freq.put("але", 2819);
-    freq.put("алк", 311);
-    freq.put("Сел", 65);
-    freq.put("Сен", 282);
-    freq.put("алм", 32);
-    freq.put("Выд", 107);
-    freq.put("Лаб", 31);
-    freq.put("ўга", 150);
-    freq.put("ьб", 623);
-    freq.put("ўге", 39);
-    freq.put("Вык", 52);
-    freq.put("ьп", 196);
-    freq.put("ьн", 8178);
-    freq.put("Лын", 63);
-    freq.put("ьва", 251);
-    freq.put("ьве", 58);
-    freq.put("аўз", 83);
-    freq.put("ьво", 49);
-    freq.put("ьві", 36);
-    freq.put("узк", 72);
-    freq.put("ол ", 242);
-    freq.put("ўгі", 43);
-    freq.put("Выс", 59);
-    freq.put("уіз", 30);
-    freq.put("афр", 72);
-    freq.put("Выш", 121);
-    freq.put("фю", 46);
-    freq.put("фэ", 38);
-    freq.put("фы", 43);
-    freq.put("ойс", 391);
-    freq.put("фт", 149);
-    freq.put("фу", 751);
-    freq.put("фр", 1094);
-    freq.put("фс", 178);
-    freq.put("Е", 967);
-    freq.put("фі", 2892);
-    freq.put("фо", 1035);
-    freq.put("ойл", 68);
-    freq.put("фм", 31);
-    freq.put("фл", 219);
-    freq.put("ойм", 55);
-    freq.put("ойн", 174);
-    freq.put("фе", 1353);
-    freq.put("нт ", 1089);
-    freq.put("фг", 60);
-    freq.put("фа", 2158);
-    freq.put("эса", 237);
-    freq.put("эсе", 69);
-    freq.put("эсл", 37);
-    freq.put("эск", 65);
-    freq.put("эсп", 1028);
-    freq.put("шла", 63);
-    freq.put("егр", 33);
-    freq.put("іск", 272);
-    freq.put("ісл", 622);
-    freq.put("ісп", 148);
-    freq.put("ыды", 166);
-    freq.put("ісв", 77);
-    freq.put("Укр", 346);
-    freq.put("ыдр", 64);
-    freq.put("ыду", 32);
-    freq.put("ыдн", 114);
-    freq.put("іся", 383);
-    freq.put("ісь", 524);
-    freq.put("іст", 5440);
-    freq.put("ісу", 138);
-    freq.put("ыдж", 35);
-    freq.put("ыдз", 89);
-    freq.put("ыда", 586);
-    freq.put("цке", 33);
-    freq.put("эд ", 41);
-    freq.put("я ", 41999);
-    freq.put("ісі", 144);
-    freq.put("йк ", 31);
-    freq.put("Э ", 162);
-    freq.put("эсі", 84);
-    freq.put("эсу", 93);
-    freq.put("эст", 329);
-    freq.put("эсц", 472);
-    freq.put("эсы", 55);
-    freq.put("пул", 185);
-    freq.put("пун", 211);
-    freq.put("пуб", 1092);
-    freq.put("Усе", 61);
-    freq.put("йцы", 42);
-    freq.put("эя ", 101);
-    freq.put("шук", 44);
-    freq.put("іч ", 1813);
-    freq.put("л", 107097);
-    freq.put("юцц", 826);
-    freq.put("юць", 1219);
-    freq.put("юцы", 204);
-    freq.put("шую", 100);
-    freq.put("р ", 8413);
-    freq.put("пуш", 97);
-    freq.put("йца", 179);
-    freq.put("пус", 286);
-    freq.put("пур", 47);
-    freq.put("пут", 118);
-    freq.put("Усх", 299);
-    freq.put("іўс", 309);
-    freq.put("рфа", 75);
-    freq.put("ыж ", 147);
-    freq.put("Фан", 33);
-    freq.put("ул", 4252);
-    freq.put("ук", 2840);
-    freq.put("уй", 708);
-    freq.put("уп", 2662);
-    freq.put("уо", 39);
-    freq.put("ун", 2595);
-    freq.put("ум", 1845);
-    freq.put("уг", 1749);
-    freq.put("ув", 661);
-    freq.put("уб", 2361);
-    freq.put("уа", 876);
-    freq.put("уз", 2405);
-    freq.put("уж", 949);
-    freq.put("уе", 697);
-    freq.put("уд", 3044);
-    freq.put("уш", 792);
-    freq.put("уя", 156);
-    freq.put("ую", 2004);
-    freq.put("уэ", 182);
-    freq.put("ут", 2125);
-    freq.put("ус", 7690);
-    freq.put("ур", 4702);
-    freq.put("уч", 2333);
-    freq.put("уц", 840);
-    freq.put("ух", 1300);
-    freq.put("уф", 57);
-    freq.put("уў", 94);
-    freq.put("Фар", 88);
-    freq.put("уі", 235);
-    freq.put("Шве", 195);
-    freq.put(" эф", 94);
-    freq.put(" эр", 88);
-    freq.put(" эс", 223);
-    freq.put(" эт", 255);
-    freq.put("Б", 8592);
-    freq.put("Гва", 32);
-    freq.put("тст", 85);
-    freq.put("емы", 128);
-    freq.put("емя", 67);
-    freq.put("ему", 35);
-    freq.put("емс", 200);
-    freq.put("хіл", 162);
-    freq.put("емі", 76);
-    freq.put("емл", 186);
-    freq.put("емо", 34);
-    freq.put("емн", 279);
-    freq.put("О́", 34);
-    freq.put("ема", 399);
-    freq.put("емб", 96);
-    freq.put("еме", 390);
-    freq.put("тсв", 36);
-    freq.put("тск", 39);
-    freq.put("Гві", 83);
-    freq.put(" эв", 42);
-    freq.put(" эм", 132);
-    freq.put(" эн", 252);
-    freq.put(" эп", 189);
-    freq.put(" эк", 619);
-    freq.put(" эл", 732);
-    freq.put("айк", 127);
-    freq.put("айл", 229);
-    freq.put("айм", 553);
-    freq.put("айн", 1132);
-    freq.put("айп", 40);
-    freq.put("айб", 633);
-    freq.put("айв", 169);
-    freq.put("айг", 109);
-    freq.put("айд", 196);
-    freq.put("ея ", 205);
-    freq.put("сп ", 68);
-    freq.put("цый", 2536);
-    freq.put("ўшч", 203);
-    freq.put("Піт", 34);
-    freq.put("ек ", 379);
-    freq.put("Піс", 33);
-    freq.put("Па ", 106);
-    freq.put("цыв", 36);
-    freq.put("упа", 693);
-    freq.put(" я ", 253);
-    freq.put("айш", 137);
-    freq.put("айр", 30);
-    freq.put("айс", 651);
-    freq.put("айт", 121);
-    freq.put("айц", 37);
-    freq.put("ўне", 160);
-    freq.put("ўна", 2889);
-    freq.put("ўно", 1229);
-    freq.put("Агу", 123);
-    freq.put("цыя", 3532);
-    freq.put("еге", 93);
-    freq.put("зык", 252);
-    freq.put("Арэ", 66);
-    freq.put("цыс", 212);
-    freq.put("зыв", 199);
-    freq.put("цыт", 34);
-    freq.put("цё ", 144);
-    freq.put("зыр", 36);
-    freq.put("уцк", 176);
-    freq.put("зых", 57);
-    freq.put("зыч", 248);
-    freq.put("цку", 97);
-    freq.put("Сця", 111);
-    freq.put("ўні", 1515);
-    freq.put("ал ", 1148);
-    freq.put("Вэс", 31);
-    freq.put("ўну", 205);
-    freq.put("О ", 42);
-    freq.put("ўня", 520);
-    freq.put("Ага", 40);
-    freq.put("ўны", 2127);
-    freq.put("олу", 57);
-    freq.put("олы", 137);
-    freq.put("оль", 3544);
-    freq.put("олю", 87);
-    freq.put("оля", 117);
-    freq.put("олі", 412);
-    freq.put("віў", 68);
-    freq.put("Э́", 32);
-    freq.put("зях", 38);
-    freq.put("дтр", 103);
-    freq.put("чу ", 122);
-    freq.put("хвя", 42);
-    freq.put("ола", 898);
-    freq.put("оле", 590);
-    freq.put("олк", 101);
-    freq.put("олл", 62);
-    freq.put("оло", 34);
-    freq.put("аіс", 77);
-    freq.put("нтэ", 506);
-    freq.put("аіх", 32);
-    freq.put("аіц", 43);
-    freq.put("хва", 168);
-    freq.put("нтр", 2037);
-    freq.put("нту", 231);
-    freq.put("Энц", 43);
-    freq.put("ула", 640);
-    freq.put("нтн", 93);
-    freq.put("нто", 252);
-    freq.put("нтк", 34);
-    freq.put("аіл", 170);
-    freq.put("аік", 72);
-    freq.put("аін", 1401);
-    freq.put("аім", 131);
-    freq.put("ф ", 562);
-    freq.put("опы", 172);
-    freq.put("опу", 39);
-    freq.put("No", 57);
-    freq.put("опі", 208);
-    freq.put("Хам", 32);
-    freq.put("Хан", 47);
-    freq.put("Хал", 54);
-    freq.put(" Юр", 113);
-    freq.put("ёму", 50);
-    freq.put("Хаб", 33);
-    freq.put("ым ", 4439);
-    freq.put("упс", 101);
-    freq.put("нр ", 51);
-    freq.put("дво", 206);
-    freq.put(" Юл", 39);
-    freq.put("ёмн", 55);
-    freq.put(" Юн", 40);
-    freq.put(" Юп", 32);
-    freq.put("лай", 291);
-    freq.put("Хац", 62);
-    freq.put("Хар", 162);
-    freq.put("Хас", 32);
-    freq.put("лам", 1134);
-    freq.put("фел", 53);
-    freq.put("опк", 116);
-    freq.put("опл", 77);
-    freq.put("опе", 260);
-    freq.put("опа", 181);
-    freq.put("тле", 87);
-    freq.put("тла", 447);
-    freq.put("ца ", 7588);
-    freq.put("лат", 639);
-    freq.put(" ў ", 12102);
-    freq.put("дня", 1510);
-    freq.put("Зго", 36);
-    freq.put("нюю", 74);
-    freq.put("ітв", 364);
-    freq.put("нюс", 33);
-    freq.put("Лет", 56);
-    freq.put("Лес", 33);
-    freq.put("ьфі", 32);
-    freq.put("у", 69696);
-    freq.put("Ру", 544);
-    freq.put("Леп", 73);
-    freq.put("Лео", 31);
-    freq.put("Лен", 134);
-    freq.put("ьфа", 47);
-    freq.put("уд ", 92);
-    freq.put("Лей", 38);
-    freq.put("Лед", 37);
-    freq.put("Лев", 31);
-    freq.put("Леа", 81);
-    freq.put("тлі", 121);
-    freq.put(" ма", 4822);
-    freq.put("тлу", 63);
-    freq.put(" мм", 40);
-    freq.put("Шыр", 30);
-    freq.put("льё", 104);
-    freq.put("льф", 177);
-    freq.put("шру", 35);
-    freq.put("льц", 199);
-    freq.put("льч", 60);
-    freq.put("льс", 2814);
-    freq.put("льт", 973);
-    freq.put("ужч", 110);
-    freq.put("лья", 387);
-    freq.put("льш", 1287);
-    freq.put("джу", 31);
-    freq.put("льд", 344);
-    freq.put("лье", 156);
-    freq.put("льз", 39);
-    freq.put("ужк", 33);
-    freq.put("льб", 470);
-    freq.put("льв", 276);
-    freq.put("льг", 258);
-    freq.put("льм", 432);
-    freq.put("льн", 8149);
-    freq.put("льп", 179);
-    freq.put("джа", 1111);
-    freq.put("льк", 1055);
-    freq.put("джв", 117);
-    freq.put("фга", 60);
-    freq.put("Ізр", 36);
-    freq.put("Рэч", 185);
-    freq.put("Рэс", 681);
-    freq.put("жын", 850);
-    freq.put("По", 888);
-    freq.put("Пл", 389);
-    freq.put("Пе", 1092);
-    freq.put("Па", 3939);
-    freq.put("ийс", 35);
-    freq.put("оя ", 84);
-    freq.put("эал", 245);
-    freq.put("эат", 326);
-    freq.put("эар", 138);
-    freq.put("Пі", 365);
-    freq.put("Пё", 48);
-    freq.put("Пя", 247);
-    freq.put("Пу", 184);
-    freq.put("Гэт", 219);
-    freq.put("Пс", 113);
-    freq.put("Пр", 1420);
-    freq.put("тэ́", 50);
-    freq.put("ыя ", 6913);
-    freq.put("ырв", 224);
-    freq.put("Рэд", 37);
-    freq.put("Рэн", 41);
-    freq.put("Рэй", 114);
-    freq.put("Зім", 49);
-    freq.put("Чле", 50);
-    freq.put(" мэ", 314);
-    freq.put("ыка", 2360);
-    freq.put("ыкл", 683);
-    freq.put("ыко", 173);
-    freq.put("ыкм", 66);
-    freq.put("ρ", 69);
-    freq.put("ыкі", 644);
-    freq.put("ыкт", 44);
-    freq.put("ыку", 220);
-    freq.put("ыкц", 41);
-    freq.put("пцы", 85);
-    freq.put(" б ", 51);
-    freq.put("ыён", 71);
-    freq.put("ыём", 49);
-    freq.put("раё", 3274);
-    freq.put("раі", 1483);
-    freq.put("раў", 2804);
-    freq.put("рат", 2113);
-    freq.put("рас", 3424);
-    freq.put("рар", 163);
-    freq.put("рач", 308);
-    freq.put("рац", 3895);
-    freq.put("рах", 583);
-    freq.put("раф", 1293);
-    freq.put("раш", 497);
-    freq.put("рая", 208);
-    freq.put("раю", 151);
-    freq.put("раэ", 88);
-    freq.put("хн", 791);
-    freq.put("хм", 102);
-    freq.put("Л ", 227);
-    freq.put("хл", 80);
-    freq.put("хе", 391);
-    freq.put("бля", 160);
-    freq.put("ха", 4143);
-    freq.put("хв", 367);
-    freq.put("хэ", 45);
-    freq.put("тэ ", 100);
-    freq.put("эт ", 592);
-    freq.put("хц", 33);
-    freq.put("хс", 124);
-    freq.put("хр", 563);
-    freq.put("ху", 607);
-    freq.put("хт", 257);
-    freq.put("хі", 1811);
-    freq.put("раг", 1224);
-    freq.put("рав", 4860);
-    freq.put("раб", 1067);
-    freq.put("раа", 138);
-    freq.put("раз", 3612);
-    freq.put("раж", 876);
-    freq.put("рае", 492);
-    freq.put("рад", 6456);
-    freq.put("рал", 3142);
-    freq.put("рак", 2876);
-    freq.put("рай", 431);
-    freq.put("рап", 1181);
-    freq.put("ран", 4359);
-    freq.put("рам", 3652);
-    freq.put("сут", 186);
-    freq.put("сус", 349);
-    freq.put("сур", 87);
-    freq.put("суч", 367);
-    freq.put("сух", 38);
-    freq.put("суш", 72);
-    freq.put("ут ", 157);
-    freq.put("суэ", 38);
-    freq.put("тыф", 92);
-    freq.put("тых", 277);
-    freq.put("тыц", 139);
-    freq.put("тыч", 2178);
-    freq.put("тыр", 303);
-    freq.put("тыс", 656);
-    freq.put("тыт", 400);
-    freq.put("тыя", 488);
-    freq.put("ром", 167);
-    freq.put("тыі", 326);
-    freq.put("ежы", 274);
-    freq.put("ежс", 91);
-    freq.put("тыў", 566);
-    freq.put("ежн", 891);
-    freq.put("ежа", 471);
-    freq.put("тыд", 139);
-    freq.put("тыз", 209);
-    freq.put(" Рэ", 1239);
-    freq.put("тыв", 191);
-    freq.put("тыг", 33);
-    freq.put("тым", 602);
-    freq.put("тын", 293);
-    freq.put("тып", 286);
-    freq.put("тый", 268);
-    freq.put("тык", 1179);
-    freq.put("тыл", 415);
-    freq.put("ан ", 1909);
-    freq.put("сув", 222);
-    freq.put("суб", 116);
-    freq.put("суа", 160);
-    freq.put("суз", 66);
-    freq.put("суд", 303);
-    freq.put("сул", 111);
-    freq.put("сук", 160);
-    freq.put("суп", 569);
-    freq.put("сун", 57);
-    freq.put("сум", 220);
-    freq.put("апя", 146);
-    freq.put("апы", 108);
-    freq.put("апт", 82);
-    freq.put("апу", 348);
-    freq.put("апр", 848);
-    freq.put("апс", 76);
-    freq.put("апі", 1093);
-    freq.put("с ", 3675);
-    freq.put("йлі", 73);
-    freq.put("ьм ", 84);
-    freq.put("йла", 175);
-    freq.put("йле", 30);
-    freq.put("цяж", 94);
-    freq.put("яр ", 55);
-    freq.put("цяб", 49);
-    freq.put("цяг", 564);
-    freq.put("апо", 596);
-    freq.put("апн", 37);
-    freq.put("апл", 184);
-    freq.put("цян", 105);
-    freq.put("апе", 902);
-    freq.put("апа", 2199);
-    freq.put("тна", 1628);
-    freq.put("цяп", 492);
-    freq.put("тне", 47);
-    freq.put("тно", 38);
-    freq.put("тве", 363);
-    freq.put("Элі", 43);
-    freq.put("нры", 133);
-    freq.put("Эль", 54);
-    freq.put("Эле", 66);
-    freq.put("ём ", 174);
-    freq.put("нра", 42);
-    freq.put("у́р", 44);
-    freq.put("іге", 70);
-    freq.put("тні", 440);
-    freq.put("ты́", 50);
-    freq.put("оп ", 102);
-    freq.put("тну", 47);
-    freq.put("тны", 941);
-    freq.put("тня", 39);
-    freq.put("ашы", 397);
-    freq.put("цаз", 33);
-    freq.put("іго", 53);
-    freq.put("цаг", 144);
-    freq.put("цав", 416);
-    freq.put("цам", 194);
-    freq.put("цай", 112);
-    freq.put("цал", 62);
-    freq.put("эві", 231);
-    freq.put("а́ў", 41);
-    freq.put("а́р", 113);
-    freq.put("а́т", 62);
-    freq.put("удс", 78);
-    freq.put("а́ц", 45);
-    freq.put("уду", 80);
-    freq.put("удэ", 74);
-    freq.put("уды", 327);
-    freq.put("удж", 99);
-    freq.put("ьф ", 42);
-    freq.put("а́д", 52);
-    freq.put("ню ", 447);
-    freq.put("а́й", 37);
-    freq.put("удо", 269);
-    freq.put("а́л", 90);
-    freq.put("а́м", 42);
-    freq.put("а́н", 212);
-    freq.put("цах", 66);
-    freq.put("цац", 125);
-    freq.put("цар", 683);
-    freq.put("цат", 55);
-    freq.put("цяч", 161);
-    freq.put("цяр", 265);
-    freq.put("цаў", 283);
-    freq.put("Рыч", 37);
-    freq.put("іха", 511);
-    freq.put("іхі", 77);
-    freq.put("ι", 62);
-    freq.put("ль ", 1701);
-    freq.put("і", 169659);
-    freq.put("дж ", 79);
-    freq.put("Рыг", 102);
-    freq.put("Рыа", 33);
-    freq.put("Рыб", 40);
-    freq.put("Рым", 304);
-    freq.put("ыяс", 39);
-    freq.put("ыяр", 65);
-    freq.put("ыят", 141);
-    freq.put("ыях", 86);
-    freq.put("ыяц", 111);
-    freq.put("ыяў", 124);
-    freq.put("язн", 86);
-    freq.put("эа ", 44);
-    freq.put("шча", 2660);
-    freq.put("Доб", 41);
-    freq.put("Дом", 40);
-    freq.put("П ", 232);
-    freq.put("ий ", 86);
-    freq.put("ра́", 118);
-    freq.put("шчэ", 289);
-    freq.put("шчы", 957);
-    freq.put("ояс", 81);
-    freq.put("яза", 226);
-    freq.put("ыяй", 435);
-    freq.put("ыял", 1227);
-    freq.put("ыяк", 33);
-    freq.put("ыян", 1122);
-    freq.put("ыям", 151);
-    freq.put("ыяп", 33);
-    freq.put("ыяг", 66);
-    freq.put("ыяв", 100);
-    freq.put("ыяд", 366);
-    freq.put("дбы", 229);
-    freq.put("Мер", 60);
-    freq.put("Мес", 128);
-    freq.put("Мет", 49);
-    freq.put("Мех", 32);
-    freq.put("ык ", 824);
-    freq.put("Мед", 53);
-    freq.put("Мек", 82);
-    freq.put("Мел", 76);
-    freq.put("Мен", 64);
-    freq.put("цт", 1504);
-    freq.put("ыё ", 61);
-    freq.put("сно", 769);
-    freq.put("сна", 2020);
-    freq.put("сне", 507);
-    freq.put(" ёс", 47);
-    freq.put("Брэ", 598);
-    freq.put("Бру", 67);
-    freq.put("тэт", 556);
-    freq.put("тэр", 2649);
-    freq.put("Ла", 829);
-    freq.put("тэц", 57);
-    freq.put("тэч", 54);
-    freq.put("Ле", 683);
-    freq.put("тэх", 269);
-    freq.put("ць", 7312);
-    freq.put("х ", 15664);
-    freq.put("ця", 2819);
-    freq.put("Лё", 48);
-    freq.put("Лі", 1199);
-    freq.put("Лу", 406);
-    freq.put("тэг", 133);
-    freq.put("тэа", 343);
-    freq.put("тэз", 77);
-    freq.put("Лы", 80);
-    freq.put("тэл", 312);
-    freq.put("тэй", 104);
-    freq.put("Ля", 149);
-    freq.put("Лю", 307);
-    freq.put("тэм", 1339);
-    freq.put("Ль", 65);
-    freq.put("Бро", 41);
-    freq.put(" ёй", 52);
-    freq.put("Бра", 464);
-    freq.put(" ём", 118);
-    freq.put(" ён", 129);
-    freq.put("сні", 247);
-    freq.put("сны", 602);
-    freq.put("ра ", 4184);
-    freq.put("сня", 485);
-    freq.put("сну", 159);
-    freq.put("анф", 172);
-    freq.put("анх", 33);
-    freq.put("анц", 2215);
-    freq.put("анч", 224);
-    freq.put("анр", 142);
-    freq.put("анс", 3131);
-    freq.put("ант", 1752);
-    freq.put("ану", 302);
-    freq.put("Слу", 149);
-    freq.put("анэ", 43);
-    freq.put("аня", 264);
-    freq.put("анш", 76);
-    freq.put("аны", 3987);
-    freq.put("ані", 3515);
-    freq.put("анё", 37);
-    freq.put("́ні", 41);
-    freq.put("Ням", 41);
-    freq.put("Чыр", 98);
-    freq.put("ты ", 1868);
-    freq.put("Чыг", 38);
-    freq.put("еж ", 40);
-    freq.put("су ", 592);
-    freq.put("фск", 78);
-    freq.put("анд", 2183);
-    freq.put("ане", 1064);
-    freq.put("анж", 53);
-    freq.put("анз", 63);
-    freq.put("ана", 7055);
-    freq.put("Сло", 113);
-    freq.put("анв", 53);
-    freq.put("анг", 1195);
-    freq.put("анн", 4907);
-    freq.put("ано", 1080);
-    freq.put("Сла", 248);
-    freq.put("ани", 32);
-    freq.put("анк", 934);
-    freq.put("Азі", 142);
-    freq.put("ўбц", 70);
-    freq.put("ятэ", 110);
-    freq.put("лёт", 110);
-    freq.put("вяс", 75);
-    freq.put("сб", 167);
-    freq.put("са", 12017);
-    freq.put("св", 2617);
-    freq.put("се", 5393);
-    freq.put("сд", 71);
-    freq.put("си", 82);
-    freq.put("сл", 4490);
-    freq.put("ьма", 234);
-    freq.put("сн", 4808);
-    freq.put("лёў", 516);
-    freq.put("ьме", 447);
-    freq.put("со", 1846);
-    freq.put("сс", 250);
-    freq.put("ср", 316);
-    freq.put("су", 3789);
-    freq.put("ст", 27493);
-    freq.put("сх", 1825);
-    freq.put("сф", 343);
-    freq.put("сч", 47);
-    freq.put("сц", 10396);
-    freq.put("сш", 32);
-    freq.put("сы", 912);
-    freq.put("сэ", 307);
-    freq.put("сь", 1283);
-    freq.put("ся", 4481);
-    freq.put("сю", 398);
-    freq.put("лёг", 73);
-    freq.put("лёв", 121);
-    freq.put("йл ", 32);
-    freq.put("сі", 7449);
-    freq.put("лёк", 132);
-    freq.put("лёй", 35);
-    freq.put("ьмі", 165);
-    freq.put("лён", 142);
-    freq.put("лём", 64);
-    freq.put("Азе", 89);
-    freq.put("ап ", 77);
-    freq.put("Спі", 69);
-    freq.put("едв", 57);
-    freq.put("еда", 674);
-    freq.put("едж", 93);
-    freq.put("едз", 328);
-    freq.put("еде", 32);
-    freq.put("еди", 46);
-    freq.put("едо", 61);
-    freq.put("едн", 400);
-    freq.put("ца", 9811);
-    freq.put("едр", 89);
-    freq.put("едс", 97);
-    freq.put("едч", 125);
-    freq.put("еды", 498);
-    freq.put("едэ", 307);
-    freq.put("це", 3476);
-    freq.put("Спа", 70);
-    freq.put("юль", 64);
-    freq.put("гі", 6093);
-    freq.put("цо", 753);
-    freq.put("гэ", 971);
-    freq.put("гу", 3321);
-    freq.put("гт", 76);
-    freq.put("гс", 285);
-    freq.put("гр", 4265);
-    freq.put("гч", 178);
-    freq.put("Аля", 496);
-    freq.put("Аль", 284);
-    freq.put("Алі", 228);
-    freq.put("Фра", 759);
-    freq.put("́ва", 59);
-    freq.put("Фрэ", 53);
-    freq.put("Фры", 98);
-    freq.put("ед ", 82);
-    freq.put("Ала", 75);
-    freq.put(" а ", 858);
-    freq.put("Алж", 32);
-    freq.put("Але", 202);
-    freq.put("гл", 2109);
-    freq.put("гк", 95);
-    freq.put("ги", 31);
-    freq.put("го", 8747);
-    freq.put("гн", 670);
-    freq.put("гм", 145);
-    freq.put("гг", 306);
-    freq.put("гв", 234);
-    freq.put("га", 21781);
-    freq.put("ге", 2584);
-    freq.put("гд", 76);
-    freq.put("он ", 809);
-    freq.put("фія", 130);
-    freq.put("да́", 30);
-    freq.put("фіч", 343);
-    freq.put("фіц", 453);
-    freq.put("фіс", 33);
-    freq.put("фір", 84);
-    freq.put("огі", 911);
-    freq.put("фіт", 31);
-    freq.put("огр", 117);
-    freq.put("огу", 152);
-    freq.put("іва", 1149);
-    freq.put(" вё", 1407);
-    freq.put("іве", 411);
-    freq.put("іво", 44);
-    freq.put(" ву", 873);
-    freq.put(" вэ", 36);
-    freq.put(" вя", 1655);
-    freq.put(" вы", 5525);
-    freq.put(" ве", 1629);
-    freq.put("іві", 136);
-    freq.put("́ст", 49);
-    freq.put(" во", 4990);
-    freq.put("цу ", 97);
-    freq.put("нь ", 939);
-    freq.put("івы", 106);
-    freq.put("ў", 58450);
-    freq.put("огл", 63);
-    freq.put("ого", 101);
-    freq.put("ога", 1381);
-    freq.put("фін", 234);
-    freq.put("М ", 197);
-    freq.put("фік", 291);
-    freq.put("фіз", 409);
-    freq.put("фіг", 54);
-    freq.put("піт", 148);
-    freq.put("пір", 160);
-    freq.put("піс", 1890);
-    freq.put("піц", 42);
-    freq.put("піч", 78);
-    freq.put("піш", 60);
-    freq.put("пія", 271);
-    freq.put("зд ", 36);
-    freq.put("піё", 71);
-    freq.put("Яка", 68);
-    freq.put("аўш", 169);
-    freq.put("аўс", 2256);
-    freq.put("аўр", 311);
-    freq.put("аўт", 883);
-    freq.put("аўч", 175);
-    freq.put("аўц", 186);
-    freq.put("утн", 258);
-    freq.put("аўл", 939);
-    freq.put("аўк", 412);
-    freq.put("аўн", 3985);
-    freq.put("аўм", 52);
-    freq.put("аўп", 58);
-    freq.put("аўб", 89);
-    freq.put("аўа", 48);
-    freq.put("аўг", 96);
-    freq.put("аўв", 262);
-    freq.put("аўд", 1238);
-    freq.put("лю ", 217);
-    freq.put("аўж", 623);
-    freq.put("́ ", 153);
-    freq.put("мфа", 39);
-    freq.put("Яку", 53);
-    freq.put("пік", 63);
-    freq.put("піл", 108);
-    freq.put("пій", 176);
-    freq.put("пін", 123);
-    freq.put("яна", 1588);
-    freq.put("яне", 387);
-    freq.put("янд", 109);
-    freq.put("янк", 128);
-    freq.put("цка", 2405);
-    freq.put("яно", 107);
-    freq.put("янн", 465);
-    freq.put("уш ", 48);
-    freq.put("да ", 6125);
-    freq.put("яшч", 695);
-    freq.put("яшс", 37);
-    freq.put("яшт", 30);
-    freq.put("д", 88540);
-    freq.put("ртв", 30);
-    freq.put("ртн", 170);
-    freq.put("рто", 55);
-    freq.put("ртр", 48);
-    freq.put("рту", 314);
-    freq.put("ртэ", 115);
-    freq.put("рты", 915);
-    freq.put("яшк", 63);
-    freq.put("янё", 36);
-    freq.put("т ", 7345);
-    freq.put("яні", 255);
-    freq.put("цкі", 2207);
-    freq.put("яну", 90);
-    freq.put("янт", 92);
-    freq.put("янс", 1005);
-    freq.put("Іль", 44);
-    freq.put("янц", 69);
-    freq.put("яны", 233);
-    freq.put("янш", 30);
-    freq.put("яня", 89);
-    freq.put("кша", 50);
-    freq.put("Цар", 109);
-    freq.put("эн ", 241);
-    freq.put("іяд", 73);
-    freq.put("іяг", 41);
-    freq.put("іям", 44);
-    freq.put("іян", 989);
-    freq.put("іяй", 352);
-    freq.put("іял", 283);
-    freq.put("эма", 1009);
-    freq.put("эмб", 70);
-    freq.put("эме", 130);
-    freq.put("дзя", 3175);
-    freq.put("эмп", 342);
-    freq.put("эмн", 34);
-    freq.put("лаб", 170);
-    freq.put("лав", 2186);
-    freq.put("лаг", 1240);
-    freq.put("лад", 4246);
-    freq.put("лае", 232);
-    freq.put("лаж", 48);
-    freq.put("лаз", 48);
-    freq.put("два", 455);
-    freq.put("лак", 571);
-    freq.put("лал", 85);
-    freq.put("две", 39);
-    freq.put("лан", 1480);
-    freq.put("лап", 147);
-    freq.put("лар", 4146);
-    freq.put("лас", 5310);
-    freq.put("ино", 32);
-    freq.put("эмі", 569);
-    freq.put("лах", 114);
-    freq.put("лац", 808);
-    freq.put("лач", 197);
-    freq.put("лаш", 34);
-    freq.put("дву", 320);
-    freq.put("лая", 249);
-    freq.put("эму", 54);
-    freq.put("лаі", 41);
-    freq.put("эмы", 327);
-    freq.put("лаў", 1484);
-    freq.put("дві", 87);
-    freq.put("іях", 55);
-    freq.put("іяц", 95);
-    freq.put("іят", 155);
-    freq.put("кшы", 87);
-    freq.put("оса", 335);
 
-    init2();
-  }
-  private static void init2() {
-    
-    freq.put("осе", 63);
-    freq.put("оск", 142);
-    freq.put("осл", 41);
-    freq.put("рм ", 62);
-    freq.put("осн", 210);
-    freq.put("пет", 49);
-    freq.put("пес", 113);
-    freq.put("пер", 4891);
-    freq.put("печ", 123);
-    freq.put("пец", 311);
-    freq.put("Ніг", 36);
-    freq.put("Нід", 76);
-    freq.put("Ніж", 80);
-    freq.put("Нік", 87);
-    freq.put("Ніл", 34);
-    freq.put("ТА ", 45);
-    freq.put("пел", 311);
-    freq.put("пек", 164);
-    freq.put("пей", 363);
-    freq.put("осі", 490);
-    freq.put("пен", 719);
-    freq.put("пег", 37);
-    freq.put("пед", 349);
-    freq.put("ост", 1529);
-    freq.put("осу", 30);
-    freq.put("осс", 55);
-    freq.put("осц", 73);
-    freq.put("осы", 34);
-    freq.put("Свя", 325);
-    freq.put("ося", 134);
-    freq.put("ось", 82);
-    freq.put("Сва", 80);
-    freq.put("ча ", 1294);
-    freq.put("рдэ", 205);
-    freq.put("рды", 292);
-    freq.put("Све", 80);
-    freq.put("Каб", 38);
-    freq.put("2", 222);
-    freq.put("кі ", 14880);
-    freq.put("рдо", 33);
-    freq.put("рдз", 123);
-    freq.put("рдж", 210);
-    freq.put("рда", 311);
-    freq.put("НА ", 41);
-    freq.put("ўзр", 102);
-    freq.put("ўзя", 31);
-    freq.put("Айч", 72);
-    freq.put("зён", 92);
-    freq.put("Ляв", 35);
-    freq.put("а", 476323);
-    freq.put("зёў", 37);
-    freq.put("Лях", 35);
-    freq.put("зёр", 154);
-    freq.put("ўзд", 83);
-    freq.put("ó", 55);
-    freq.put("ўза", 145);
-    freq.put("ўзб", 187);
-    freq.put("ўзв", 91);
-    freq.put("ўзг", 44);
-    freq.put("ўзн", 203);
-    freq.put("оні", 592);
-    freq.put("онц", 209);
-    freq.put("онч", 116);
-    freq.put("онт", 189);
-    freq.put("ону", 89);
-    freq.put("онс", 378);
-    freq.put("оня", 35);
-    freq.put("онь", 51);
-    freq.put("онэ", 34);
-    freq.put("оны", 406);
-    freq.put("зра", 114);
-    freq.put(" аў", 797);
-    freq.put(" ат", 756);
-    freq.put(" ас", 2349);
-    freq.put(" ар", 2408);
-    freq.put(" ац", 77);
-    freq.put(" ах", 185);
-    freq.put(" аф", 462);
-    freq.put(" аэ", 48);
-    freq.put(" аг", 618);
-    freq.put(" ав", 136);
-    freq.put(" аб", 3880);
-    freq.put(" аз", 378);
-    freq.put(" аж", 145);
-    freq.put(" ад", 10307);
-    freq.put(" ал", 913);
-    freq.put(" ак", 1753);
-    freq.put(" ай", 36);
-    freq.put(" ап", 1033);
-    freq.put(" ан", 1157);
-    freq.put(" ам", 566);
-    freq.put("Неа", 57);
-    freq.put("Нев", 49);
-    freq.put("Неп", 45);
-    freq.put("Нек", 40);
-    freq.put("онз", 44);
-    freq.put("онд", 304);
-    freq.put("оне", 284);
-    freq.put("онв", 122);
-    freq.put("онг", 85);
-    freq.put("она", 1170);
-    freq.put("онн", 249);
-    freq.put("онк", 376);
-    freq.put("ўе ", 54);
-    freq.put("г ", 3423);
-    freq.put("Мі", 2674);
-    freq.put("І", 2788);
-    freq.put("Му", 281);
-    freq.put("Мс", 47);
-    freq.put("Мю", 63);
-    freq.put("Мя", 206);
-    freq.put("Мэ", 75);
-    freq.put("ньё", 47);
-    freq.put("ьцы", 55);
-    freq.put("ньс", 60);
-    freq.put("ньч", 33);
-    freq.put("нья", 66);
-    freq.put("ньв", 72);
-    freq.put("цуг", 40);
-    freq.put("цуе", 34);
-    freq.put("цуз", 393);
-    freq.put("ньк", 103);
-    freq.put("цук", 80);
-    freq.put("ьца", 62);
-    freq.put("Ме", 635);
-    freq.put("Ма", 3445);
-    freq.put("Мо", 281);
-    freq.put("Мн", 77);
-    freq.put("Ми", 33);
-    freq.put("ог ", 290);
-    freq.put("́с", 155);
-    freq.put("ла́", 83);
-    freq.put("́т", 222);
-    freq.put("́х", 33);
-    freq.put("́ч", 95);
-    freq.put("́ц", 101);
-    freq.put("́ш", 40);
-    freq.put("́я", 52);
-    freq.put("КП ", 37);
-    freq.put("рок", 460);
-    freq.put("́ў", 115);
-    freq.put("шын", 689);
-    freq.put("яюц", 362);
-    freq.put("яюч", 31);
-    freq.put("бка", 55);
-    freq.put("люц", 203);
-    freq.put("люч", 427);
-    freq.put("лют", 543);
-    freq.put("люс", 169);
-    freq.put("люм", 31);
-    freq.put("люн", 45);
-    freq.put("люк", 49);
-    freq.put("аў ", 9498);
-    freq.put("люд", 206);
-    freq.put("люе", 39);
-    freq.put("афі", 1143);
-    freq.put("люб", 177);
-    freq.put("́б", 68);
-    freq.put("́г", 55);
-    freq.put("́в", 144);
-    freq.put("́е", 31);
-    freq.put("́д", 176);
-    freq.put("Іер", 37);
-    freq.put("́ж", 33);
-    freq.put("́й", 133);
-    freq.put("́л", 322);
-    freq.put("зды", 64);
-    freq.put("́н", 612);
-    freq.put("́м", 154);
-    freq.put("́п", 49);
-    freq.put("тф", 109);
-    freq.put("тх", 43);
-    freq.put("тц", 487);
-    freq.put("Пач", 85);
-    freq.put("тр", 12824);
-    freq.put("тс", 278);
-    freq.put("Пат", 104);
-    freq.put("ту", 6779);
-    freq.put("ть", 48);
-    freq.put("тэ", 7510);
-    freq.put("Цвя", 36);
-    freq.put("ты", 11072);
-    freq.put("ян ", 332);
-    freq.put("шко", 229);
-    freq.put("Паў", 894);
-    freq.put("цк ", 88);
-    freq.put("рт ", 429);
-    freq.put("даз", 186);
-    freq.put("даж", 45);
-    freq.put("дае", 875);
-    freq.put("дад", 439);
-    freq.put("даг", 305);
-    freq.put("дав", 1271);
-    freq.put("даб", 158);
-    freq.put("дап", 329);
-    freq.put("дан", 1090);
-    freq.put("дам", 903);
-    freq.put("дал", 738);
-    freq.put("дак", 464);
-    freq.put("дай", 113);
-    freq.put("дач", 307);
-    freq.put("дац", 166);
-    freq.put("дах", 370);
-    freq.put("дат", 368);
-    freq.put("дас", 689);
-    freq.put("дар", 1418);
-    freq.put("эор", 118);
-    freq.put("даю", 210);
-    freq.put("ушы", 86);
-    freq.put("ушэ", 118);
-    freq.put("́ўс", 36);
-    freq.put("даё", 38);
-    freq.put("даў", 1254);
-    freq.put("Пад", 288);
-    freq.put("те", 95);
-    freq.put("Паз", 36);
-    freq.put("та", 31179);
-    freq.put("Паб", 48);
-    freq.put("Пав", 174);
-    freq.put("Паг", 47);
-    freq.put("Пам", 75);
-    freq.put("Пан", 144);
-    freq.put("то", 7311);
-    freq.put("Пап", 142);
-    freq.put("ти", 86);
-    freq.put("Пак", 87);
-    freq.put("Пал", 388);
-    freq.put("ія ", 4542);
-    freq.put("плі", 220);
-    freq.put("плу", 31);
-    freq.put("плы", 203);
-    freq.put("пля", 167);
-    freq.put("ла ", 3061);
-    freq.put("ыме", 210);
-    freq.put("Ува", 526);
-    freq.put("Зна", 343);
-    freq.put("ыма", 875);
-    freq.put("ымо", 107);
-    freq.put("ымк", 73);
-    freq.put("ымл", 191);
-    freq.put("эм ", 217);
-    freq.put("ымі", 1190);
-    freq.put("ч", 37944);
-    freq.put("ымс", 349);
-    freq.put("ыму", 63);
-    freq.put("ымя", 164);
-    freq.put("ымы", 48);
-    freq.put("пла", 855);
-    freq.put("пле", 396);
-    freq.put("пло", 496);
-    freq.put("шал", 228);
-    freq.put("рві", 68);
-    freq.put("ос ", 96);
-    freq.put("шап", 143);
-    freq.put("шаг", 235);
-    freq.put("рве", 616);
-    freq.put("рва", 276);
-    freq.put("рво", 254);
-    freq.put("пе ", 200);
-    freq.put(" Шт", 168);
-    freq.put("чам", 89);
-    freq.put("чан", 2305);
-    freq.put("чап", 49);
-    freq.put("чай", 685);
-    freq.put("чак", 79);
-    freq.put("чал", 1466);
-    freq.put("чад", 46);
-    freq.put("чае", 1271);
-    freq.put("Н", 4388);
-    freq.put("чав", 104);
-    freq.put("чаг", 223);
-    freq.put("ўя ", 59);
-    freq.put("чаю", 302);
-    freq.put("чая", 168);
-    freq.put("рэт", 277);
-    freq.put("чац", 201);
-    freq.put("чар", 217);
-    freq.put("час", 3889);
-    freq.put("чат", 753);
-    freq.put("ссе", 42);
-    freq.put("чаў", 382);
-    freq.put("чаі", 36);
-    freq.put("сси", 50);
-    freq.put("рд ", 202);
-    freq.put("Тун", 38);
-    freq.put("ёрд", 110);
-    freq.put("Тул", 35);
-    freq.put("Тув", 32);
-    freq.put("Лід", 78);
-    freq.put("Лів", 74);
-    freq.put("Ліб", 53);
-    freq.put("Ліп", 51);
-    freq.put("ржы", 72);
-    freq.put("Лін", 55);
-    freq.put("бвя", 46);
-    freq.put("Н ", 265);
-    freq.put("и", 1496);
-    freq.put("ржа", 1780);
-    freq.put("Ліх", 48);
-    freq.put("Літ", 562);
-    freq.put("бве", 37);
-    freq.put("Ліс", 58);
-    freq.put("гат", 262);
-    freq.put("ы́н", 31);
-    freq.put("ело", 76);
-    freq.put("Тур", 212);
-    freq.put("А ", 1119);
-    freq.put("елл", 57);
-    freq.put("схі", 48);
-    freq.put("рта", 827);
-    freq.put("ух ", 312);
-    freq.put("Рат", 35);
-    freq.put("а ", 88294);
-    freq.put("ела", 4780);
-    freq.put("Раг", 57);
-    freq.put("Раб", 33);
-    freq.put("Раз", 357);
-    freq.put("Рад", 201);
-    freq.put("Рак", 44);
-    freq.put("Рай", 34);
-    freq.put("Ран", 43);
-    freq.put("Рам", 144);
-    freq.put("ёры", 41);
-    freq.put("схо", 1715);
-    freq.put("еха", 201);
-    freq.put("зда", 183);
-    freq.put("́р", 378);
-    freq.put("ёрт", 83);
-    freq.put("ёрс", 116);
-    freq.put("Як ", 59);
-    freq.put("эды", 47);
-    freq.put("здз", 434);
-    freq.put("еап", 68);
-    freq.put("еам", 62);
-    freq.put("еан", 101);
-    freq.put("Дру", 237);
-    freq.put("еал", 241);
-    freq.put("еад", 175);
-    freq.put("Дры", 52);
-    freq.put("еаг", 223);
-    freq.put("еаб", 77);
-    freq.put("Дра", 174);
-    freq.put("еаф", 56);
-    freq.put("еах", 32);
-    freq.put("еар", 44);
-    freq.put("еас", 40);
-    freq.put("цьк", 137);
-    freq.put("здо", 209);
-    freq.put("хта", 71);
-    freq.put("хто", 75);
-    freq.put("і ", 58295);
-    freq.put("Сін", 113);
-    freq.put("Сіл", 69);
-    freq.put("Сід", 36);
-    freq.put("уве", 98);
-    freq.put("Сіб", 83);
-    freq.put("йна", 2334);
-    freq.put("шаш", 38);
-    freq.put("йне", 598);
-    freq.put("іа ", 63);
-    freq.put("шая", 428);
-    freq.put("дкл", 40);
-    freq.put("йно", 57);
-    freq.put("об ", 85);
-    freq.put("йны", 1940);
-    freq.put("Апо", 37);
-    freq.put("йні", 230);
-    freq.put("Сіц", 39);
-    freq.put("Сір", 48);
-    freq.put("Сіс", 34);
-    freq.put("Апа", 65);
-    freq.put(" д ", 140);
-    freq.put("хтэ", 48);
-    freq.put("шац", 78);
-    freq.put("іжн", 532);
-    freq.put("озу", 34);
-    freq.put("іжз", 90);
-    freq.put("ств", 3011);
-    freq.put("озы", 49);
-    freq.put("озі", 32);
-    freq.put("жу ", 80);
-    freq.put("озе", 737);
-    freq.put("іжэ", 142);
-    freq.put("ар ", 2922);
-    freq.put("оза", 151);
-    freq.put("озв", 130);
-    freq.put("озн", 730);
-    freq.put("стк", 1092);
-    freq.put("нш ", 251);
-    freq.put("і́", 438);
-    freq.put("Ў ", 50);
-    freq.put("елу", 78);
-    freq.put("за ", 1735);
-    freq.put(" уз", 603);
-    freq.put("стц", 455);
-    freq.put("атф", 48);
-    freq.put("атс", 54);
-    freq.put("атр", 1017);
-    freq.put("ату", 1343);
-    freq.put("атэ", 865);
-    freq.put(" жн", 460);
-    freq.put("аты", 1984);
-    freq.put(" жо", 180);
-    freq.put(" жу", 103);
-    freq.put("ата", 3068);
-    freq.put("атг", 40);
-    freq.put("атв", 197);
-    freq.put("атн", 416);
-    freq.put("атм", 101);
-    freq.put(" жы", 989);
-    freq.put("ато", 738);
-    freq.put("учы", 257);
-    freq.put("атл", 254);
-    freq.put("атк", 704);
-    freq.put("жск", 315);
-    freq.put("Злу", 82);
-    freq.put("зву", 125);
-    freq.put("бі", 2224);
-    freq.put("звю", 77);
-    freq.put("звя", 245);
-    freq.put("звы", 602);
-    freq.put("зві", 633);
-    freq.put("бр", 2197);
-    freq.put("бу", 2823);
-    freq.put("бт", 56);
-    freq.put("бх", 117);
-    freq.put("гла", 428);
-    freq.put("бц", 95);
-    freq.put("бш", 52);
-    freq.put("бы", 2365);
-    freq.put("гло", 33);
-    freq.put("бэ", 77);
-    freq.put("бя", 646);
-    freq.put("бю", 66);
-    freq.put("рца", 227);
-    freq.put("рце", 47);
-    freq.put("клі", 336);
-    freq.put("нжа", 30);
-    freq.put("клю", 409);
-    freq.put("кля", 65);
-    freq.put("эк ", 122);
-    freq.put("клу", 135);
-    freq.put("кло", 152);
-    freq.put("рці", 271);
-    freq.put("кле", 198);
-    freq.put("нжы", 76);
-    freq.put("кла", 3660);
-    freq.put("Шум", 36);
-    freq.put("Фі", 332);
-    freq.put("рцы", 279);
-    freq.put("рць", 34);
-    freq.put("ба", 5443);
-    freq.put("бв", 120);
-    freq.put("бе", 4364);
-    freq.put("бд", 58);
-    freq.put("гля", 462);
-    freq.put("бк", 122);
-    freq.put("бн", 719);
-    freq.put("бм", 219);
-    freq.put("глы", 221);
-    freq.put("бо", 4954);
-    freq.put("зве", 264);
-    freq.put("цов", 221);
-    freq.put("зва", 1439);
-    freq.put("зво", 96);
-    freq.put(" Сп", 211);
-    freq.put("яйс", 53);
-    freq.put(" Со", 294);
-    freq.put("а́", 924);
-    freq.put("оч ", 40);
-    freq.put("здр", 30);
-    freq.put("Х", 1401);
-    freq.put("́ль", 140);
-    freq.put(" Б ", 46);
-    freq.put("лда", 90);
-    freq.put("́лі", 32);
-    freq.put("д ", 10468);
-    freq.put(" Сы", 99);
-    freq.put("́з", 80);
-    freq.put("уюц", 168);
-    freq.put("уюч", 170);
-    freq.put("́ла", 68);
-    freq.put("́к", 138);
-    freq.put("СР ", 622);
-    freq.put("ечы", 53);
-    freq.put("чва", 227);
-    freq.put("Пах", 37);
-    freq.put("ечч", 50);
-    freq.put("тч", 93);
-    freq.put("уча", 1302);
-    freq.put("Пар", 705);
-    freq.put("Пас", 465);
-    freq.put("Не", 404);
-    freq.put("Фе", 357);
-    freq.put("Пёт", 42);
-    freq.put("Но", 545);
-    freq.put("Ні", 416);
-    freq.put("Нё", 167);
-    freq.put("Паш", 31);
-    freq.put("Ну", 53);
-    freq.put("Мн ", 60);
-    freq.put("Нь", 152);
-    freq.put("Ня", 136);
-    freq.put("ьпт", 105);
-    freq.put("ечн", 315);
-    freq.put("ечв", 63);
-    freq.put("еча", 228);
-    freq.put("яж", 631);
-    freq.put("ав", 24165);
-    freq.put("аг", 18572);
-    freq.put("аа", 869);
-    freq.put("аб", 8896);
-    freq.put("аж", 1831);
-    freq.put("аз", 9009);
-    freq.put("ад", 32444);
-    freq.put("ае", 10030);
-    freq.put("ак", 13739);
-    freq.put("ал", 28306);
-    freq.put("ай", 20752);
-    freq.put("ао", 89);
-    freq.put("ап", 6765);
-    freq.put("ам", 21680);
-    freq.put("ан", 36845);
-    freq.put("еве", 88);
-    freq.put("ева", 416);
-    freq.put("κ", 42);
-    freq.put("аё", 3668);
-    freq.put("аі", 2176);
-    freq.put("ы", 118059);
-    freq.put("евя", 259);
-    freq.put("аў", 21479);
-    freq.put("евы", 492);
-    freq.put("ат", 12022);
-    freq.put("ау", 201);
-    freq.put("еві", 720);
-    freq.put("ас", 31713);
-    freq.put("ац", 10890);
-    freq.put("ач", 5085);
-    freq.put("аф", 2471);
-    freq.put("ах", 8341);
-    freq.put("аш", 1750);
-    freq.put("аю", 2424);
-    freq.put("ая", 14817);
-    freq.put("аэ", 617);
-    freq.put("уша", 177);
-    freq.put("ькл", 58);
-    freq.put("Ант", 340);
-    freq.put("ько", 58);
-    freq.put("ька", 616);
-    freq.put(" в ", 373);
-    freq.put("ькі", 547);
-    freq.put("Анд", 301);
-    freq.put("Ана", 147);
-    freq.put("Анг", 202);
-    freq.put("ушк", 152);
-    freq.put("С", 9356);
-    freq.put("йн ", 559);
-    freq.put("обр", 245);
-    freq.put("обы", 110);
-    freq.put("ушч", 117);
-    freq.put("іа", 101);
-    freq.put("іб", 727);
-    freq.put("ів", 1891);
-    freq.put("іг", 1188);
-    freq.put("обі", 129);
-    freq.put("іе", 329);
-    freq.put("іж", 1777);
-    freq.put("із", 2983);
-    freq.put("ій", 2080);
-    freq.put("ік", 11276);
-    freq.put("іл", 5214);
-    freq.put("ім", 8758);
-    freq.put("ін", 16835);
-    freq.put("іо", 72);
-    freq.put("іп", 1297);
-    freq.put("ір", 3214);
-    freq.put("іс", 9875);
-    freq.put("іт", 6367);
-    freq.put("іу", 81);
-    freq.put("іф", 481);
-    freq.put("іх", 3946);
-    freq.put("іц", 8617);
-    freq.put("іч", 6799);
-    freq.put("іш", 941);
-    freq.put(" дж", 42);
-    freq.put(" дв", 577);
-    freq.put("ію", 227);
-    freq.put("ія", 6781);
-    freq.put("іё", 860);
-    freq.put("оба", 223);
-    freq.put("іі", 4241);
-    freq.put("обе", 185);
-    freq.put("обл", 3140);
-    freq.put("іў", 1431);
-    freq.put("обн", 458);
-    freq.put("мцы", 31);
-    freq.put("жур", 124);
-    freq.put("ару", 4203);
-    freq.put("арт", 1932);
-    freq.put("ьту", 662);
-    freq.put("ншэ", 34);
-    freq.put("арч", 180);
-    freq.put("арц", 287);
-    freq.put("арх", 894);
-    freq.put("арф", 111);
-    freq.put("ары", 4467);
-    freq.put("ншч", 41);
-    freq.put("ьты", 44);
-    freq.put("арш", 438);
-    freq.put("ьтэ", 79);
-    freq.put("арэ", 1373);
-    freq.put("іж ", 800);
-    freq.put("арг", 1088);
-    freq.put("арв", 289);
-    freq.put("арб", 274);
-    freq.put("ара", 8031);
-    freq.put("оз ", 66);
-    freq.put("ард", 622);
-    freq.put("арл", 434);
-    freq.put("арк", 1254);
-    freq.put("арп", 126);
-    freq.put("аро", 3560);
-    freq.put("нша", 275);
-    freq.put("арм", 931);
-    freq.put("жуе", 147);
-    freq.put(" Кі", 525);
-    freq.put(" Кё", 43);
-    freq.put("яш", 892);
-    freq.put("ях", 892);
-    freq.put("зам", 797);
-    freq.put("зан", 604);
-    freq.put("зап", 343);
-    freq.put("зай", 303);
-    freq.put("зак", 547);
-    freq.put("зал", 840);
-    freq.put("зад", 208);
-    freq.put("зае", 168);
-    freq.put("япо", 71);
-    freq.put("заа", 65);
-    freq.put("заб", 355);
-    freq.put("зав", 692);
-    freq.put("заг", 140);
-    freq.put("Люб", 93);
-    freq.put("КЛ ", 153);
-    freq.put(" ж ", 44);
-    freq.put("кні", 237);
-    freq.put("кня", 620);
-    freq.put("кну", 31);
-    freq.put("рфе", 43);
-    freq.put("тб", 427);
-    freq.put("кно", 33);
-    freq.put("тв", 6285);
-    freq.put("тг", 94);
-    freq.put("кне", 86);
-    freq.put("тм", 256);
-    freq.put("ат ", 1090);
-    freq.put("тн", 3231);
-    freq.put("заў", 206);
-    freq.put("ς ", 92);
-    freq.put("ä", 36);
-    freq.put("заі", 76);
-    freq.put("тк", 2679);
-    freq.put("заф", 37);
-    freq.put("зах", 1565);
-    freq.put("зац", 879);
-    freq.put("зач", 37);
-    freq.put("зар", 298);
-    freq.put("зас", 856);
-    freq.put("зат", 176);
-    freq.put("у ", 19210);
-    freq.put("гл ", 215);
-    freq.put("кце", 66);
-    freq.put("Гул", 82);
-    freq.put("Гуд", 31);
-    freq.put("Гуа", 37);
-    freq.put("яй ", 1865);
-    freq.put("экз", 32);
-    freq.put("эка", 586);
-    freq.put("экв", 68);
-    freq.put("экл", 74);
-    freq.put(" Кв", 68);
-    freq.put("экі", 51);
-    freq.put("экс", 382);
-    freq.put("экт", 408);
-    freq.put("кл ", 37);
-    freq.put("кцё", 104);
-    freq.put("Гус", 45);
-    freq.put("кцы", 679);
-    freq.put("б ", 2028);
-    freq.put("кця", 42);
-    freq.put("оча", 174);
-    freq.put("очн", 1301);
-    freq.put("Кот", 56);
-    freq.put("Кос", 53);
-    freq.put("Кор", 61);
-    freq.put("до", 3197);
-    freq.put("дп", 797);
-    freq.put("дм", 1511);
-    freq.put("дн", 9295);
-    freq.put("дк", 1551);
-    freq.put("дл", 2283);
-    freq.put("ди", 71);
-    freq.put("дж", 1883);
-    freq.put("дз", 18517);
-    freq.put("дд", 862);
-    freq.put("де", 84);
-    freq.put("дв", 1143);
-    freq.put("Джа", 96);
-    freq.put("да", 18005);
-    freq.put("дб", 306);
-    freq.put("ую ", 1665);
-    freq.put(" Бі", 324);
-    freq.put("Джэ", 138);
-    freq.put("дэ", 3622);
-    freq.put("ды", 5698);
-    freq.put("дш", 127);
-    freq.put("дц", 76);
-    freq.put("дч", 642);
-    freq.put("дх", 71);
-    freq.put("дт", 151);
-    freq.put("ду", 2439);
-    freq.put("др", 2869);
-    freq.put("дс", 2693);
-    freq.put("Коб", 63);
-    freq.put("Кол", 94);
-    freq.put("Кон", 96);
-    freq.put("очы", 92);
-    freq.put("еўр", 259);
-    freq.put("еўс", 579);
-    freq.put("кту", 520);
-    freq.put("Да ", 97);
-    freq.put("еўш", 30);
-    freq.put("ктэ", 102);
-    freq.put("кты", 816);
-    freq.put("ох ", 197);
-    freq.put(" ру", 1442);
-    freq.put("урк", 111);
-    freq.put("урм", 58);
-    freq.put("урн", 782);
-    freq.put("уро", 105);
-    freq.put(" ры", 483);
-    freq.put("урб", 54);
-    freq.put("ург", 667);
-    freq.put("́йс", 31);
-    freq.put(" рэ", 2517);
-    freq.put("яца", 63);
-    freq.put("яце", 119);
-    freq.put("яцк", 83);
-    freq.put(" Г ", 45);
-    freq.put("яцо", 46);
-    freq.put("яцц", 398);
-    freq.put("яцы", 211);
-    freq.put("яць", 430);
-    freq.put("яцэ", 30);
-    freq.put(" ра", 10048);
-    freq.put("яці", 230);
-    freq.put("урэ", 103);
-    freq.put("урс", 217);
-    freq.put("урт", 170);
-    freq.put("уру", 128);
-    freq.put("лжы", 44);
-    freq.put("урц", 80);
-    freq.put("еўд", 119);
-    freq.put("кта", 1443);
-    freq.put("выр", 334);
-    freq.put("еўк", 39);
-    freq.put("еўн", 55);
-    freq.put("Два", 35);
-    freq.put("выя", 653);
-    freq.put(" Ел", 61);
-    freq.put(" Ев", 53);
-    freq.put(" Ег", 84);
-    freq.put(" Еў", 558);
-    freq.put("ба ", 510);
-    freq.put(" Ер", 37);
-    freq.put("буд", 1120);
-    freq.put("бул", 77);
-    freq.put("буй", 538);
-    freq.put("бун", 34);
-    freq.put("ркс", 63);
-    freq.put("рку", 199);
-    freq.put("ркт", 118);
-    freq.put("ркі", 214);
-    freq.put(" Фі", 332);
-    freq.put("НК ", 32);
-    freq.put(" м ", 254);
-    freq.put("рко", 150);
-    freq.put("нве", 70);
-    freq.put("рке", 68);
-    freq.put("е́", 450);
-    freq.put("рка", 692);
-    freq.put("ркв", 402);
-    freq.put("бут", 52);
-    freq.put("бус", 59);
-    freq.put("бур", 560);
-    freq.put("бух", 81);
-    freq.put("сы ", 421);
-    freq.put("дэа", 114);
-    freq.put("ыр ", 127);
-    freq.put("дэв", 39);
-    freq.put("дэз", 44);
-    freq.put("дэй", 36);
-    freq.put("дэк", 132);
-    freq.put("дэл", 294);
-    freq.put("дэм", 452);
-    freq.put("Р ", 841);
-    freq.put("есі", 182);
-    freq.put("есь", 100);
-    freq.put("еся", 232);
-    freq.put("есс", 53);
-    freq.put("есу", 59);
-    freq.put("ест", 449);
-    freq.put("есц", 548);
-    freq.put("ма ", 2875);
-    freq.put("Пят", 174);
-    freq.put("Яра", 46);
-    freq.put("аця", 421);
-    freq.put(" То", 178);
-    freq.put("есл", 74);
-    freq.put("еск", 133);
-    freq.put("есн", 394);
-    freq.put("есп", 198);
-    freq.put("еса", 335);
-    freq.put("есе", 141);
-    freq.put("дэр", 576);
-    freq.put("дэс", 79);
-    freq.put("дэт", 58);
-    freq.put("дэф", 34);
-    freq.put("дэш", 59);
-    freq.put("і́т", 35);
-    freq.put("і́ч", 30);
-    freq.put(" Са", 2073);
-    freq.put(" бе", 2454);
-    freq.put("мва", 278);
-    freq.put("ва", 33008);
-    freq.put("во", 9515);
-    freq.put("ви", 57);
-    freq.put("ві", 8605);
-    freq.put("вё", 1793);
-    freq.put("Кро", 42);
-    freq.put("ву", 3438);
-    freq.put("вэ", 108);
-    freq.put("вю", 96);
-    freq.put("вя", 4191);
-    freq.put("вы", 12287);
-    freq.put("шас", 202);
-    freq.put("і́л", 54);
-    freq.put("і́м", 31);
-    freq.put("і́н", 81);
-    freq.put("е ", 25291);
-    freq.put("ід ", 269);
-    freq.put("ма́", 46);
-    freq.put("Ева", 47);
-    freq.put("нір", 73);
-    freq.put("йбо", 342);
-    freq.put("ое ", 673);
-    freq.put("ш ", 1277);
-    freq.put("оў ", 2155);
-    freq.put("ікл", 86);
-    freq.put("іко", 345);
-    freq.put("Жло", 40);
-    freq.put("іка", 5067);
-    freq.put("іке", 71);
-    freq.put(" и ", 63);
-    freq.put(" Кэ", 34);
-    freq.put("гі ", 761);
-    freq.put("ью ", 132);
-    freq.put("аф ", 303);
-    freq.put("утв", 136);
-    freq.put("ікш", 40);
-    freq.put("іку", 591);
-    freq.put("ікт", 192);
-    freq.put("ікс", 86);
-    freq.put("ікр", 121);
-    freq.put("ікі", 2066);
-    freq.put("жае", 100);
-    freq.put("жад", 35);
-    freq.put("жаз", 36);
-    freq.put("шша", 103);
-    freq.put("жав", 783);
-    freq.put("жан", 1498);
-    freq.put("жам", 104);
-    freq.put("жай", 50);
-    freq.put("жал", 129);
-    freq.put("жак", 46);
-    freq.put("утк", 158);
-    freq.put("фла", 43);
-    freq.put("фло", 53);
-    freq.put("шня", 176);
-    freq.put("цы ", 2248);
-    freq.put("уто", 41);
-    freq.put("нд ", 341);
-    freq.put(" кн", 861);
-    freq.put(" км", 1724);
-    freq.put(" ко", 1332);
-    freq.put(" кл", 716);
-    freq.put(" ке", 83);
-    freq.put("шні", 335);
-    freq.put("рш ", 53);
-    freq.put(" ка", 7695);
-    freq.put(" кв", 242);
-    freq.put(" кр", 2605);
-    freq.put(" ку", 1012);
-    freq.put("шне", 38);
-    freq.put(" кі", 1465);
-    freq.put("шна", 53);
-    freq.put("ял ", 95);
-    freq.put("зм ", 261);
-    freq.put("жаў", 1206);
-    freq.put("жах", 134);
-    freq.put("жац", 116);
-    freq.put("жас", 54);
-    freq.put("жар", 86);
-    freq.put("жаю", 38);
-    freq.put("оха", 43);
-    freq.put("Даг", 34);
-    freq.put("Дав", 61);
-    freq.put("Даб", 35);
-    freq.put("Дан", 168);
-    freq.put("Дам", 96);
-    freq.put("Дал", 81);
-    freq.put("Дак", 32);
-    freq.put(" т", 8672);
-    freq.put(" у", 11407);
-    freq.put("яц ", 34);
-    freq.put(" с", 26333);
-    freq.put(" ц", 4761);
-    freq.put(" ч", 5895);
-    freq.put(" ф", 4334);
-    freq.put(" х", 2143);
-    freq.put(" Гв", 117);
-    freq.put(" ы", 117);
-    freq.put(" ш", 3423);
-    freq.put(" ю", 424);
-    freq.put(" я", 11707);
-    freq.put(" э", 2782);
-    freq.put(" ё", 408);
-    freq.put(" і", 19538);
-    freq.put("ур ", 219);
-    freq.put("ця ", 408);
-    freq.put(" ў", 17485);
-    freq.put(" Т", 2867);
-    freq.put(" У", 4132);
-    freq.put(" Р", 5209);
-    freq.put(" С", 9303);
-    freq.put(" Ц", 1176);
-    freq.put(" Ч", 1342);
-    freq.put(" Ф", 2466);
-    freq.put(" Х", 1395);
-    freq.put(" Ш", 1370);
-    freq.put(" Гё", 32);
-    freq.put(" Ю", 447);
-    freq.put("́й ", 37);
-    freq.put(" Э", 1219);
-    freq.put(" в", 20270);
-    freq.put(" г", 17488);
-    freq.put(" а", 28939);
-    freq.put(" б", 9342);
-    freq.put(" ж", 2285);
-    freq.put(" яр", 61);
-    freq.put(" д", 14769);
-    freq.put(" е", 1212);
-    freq.put(" к", 17833);
-    freq.put(" л", 6416);
-    freq.put(" и", 101);
-    freq.put(" й", 163);
-    freq.put(" о", 649);
-    freq.put(" п", 38487);
-    freq.put(" м", 14304);
-    freq.put(" н", 20337);
-    freq.put("еў ", 221);
-    freq.put(" Ё", 256);
-    freq.put(" І", 2776);
-    freq.put("Дас", 37);
-    freq.put("кт ", 501);
-    freq.put("охі", 105);
-    freq.put(" В", 7277);
-    freq.put(" Г", 6150);
-    freq.put(" А", 9208);
-    freq.put(" Б", 8564);
-    freq.put(" Ж", 711);
-    freq.put(" З", 4012);
-    freq.put(" Д", 4856);
-    freq.put(" Е", 965);
-    freq.put(" К", 7552);
-    freq.put(" Л", 4191);
-    freq.put(" И", 31);
-    freq.put(" О", 463);
-    freq.put("оху", 38);
-    freq.put(" М", 8226);
-    freq.put(" Н", 4258);
-    freq.put("ярх", 173);
-    freq.put("Сын", 58);
-    freq.put("Лак", 38);
-    freq.put("хне", 46);
-    freq.put(" бр", 453);
-    freq.put("бая", 112);
-    freq.put("бат", 144);
-    freq.put("бар", 893);
-    freq.put("бас", 819);
-    freq.put("бац", 162);
-    freq.put("бач", 189);
-    freq.put("бах", 55);
-    freq.put("баў", 171);
-    freq.put("хні", 375);
-    freq.put("бак", 228);
-    freq.put("бал", 536);
-    freq.put("бай", 181);
-    freq.put("бап", 36);
-    freq.put("бам", 143);
-    freq.put("бан", 311);
-    freq.put("бав", 334);
-    freq.put("баг", 198);
-    freq.put("хня", 226);
-    freq.put("баб", 34);
-    freq.put("баз", 238);
-    freq.put("бад", 56);
-    freq.put("чор", 104);
-    freq.put("бу ", 146);
-    freq.put("сыр", 39);
-    freq.put("сыч", 37);
-    freq.put("рк ", 226);
-    freq.put("сын", 301);
-    freq.put("чов", 42);
-    freq.put("уты", 148);
-    freq.put("чон", 96);
-    freq.put("юнх", 35);
-    freq.put("лон", 439);
-    freq.put("ел ", 417);
-    freq.put("нёў", 49);
-    freq.put("нёр", 31);
-    freq.put("ман", 2590);
-    freq.put("мам", 214);
-    freq.put("мал", 1400);
-    freq.put("мак", 480);
-    freq.put("май", 341);
-    freq.put("маз", 69);
-    freq.put("мае", 634);
-    freq.put("мад", 1096);
-    freq.put("маг", 617);
-    freq.put("мав", 332);
-    freq.put("маб", 200);
-    freq.put("маа", 73);
-    freq.put("мая", 668);
-    freq.put("маю", 180);
-    freq.put("нёв", 1100);
-    freq.put("маш", 171);
-    freq.put("нёй", 114);
-    freq.put("мац", 545);
-    freq.put("мах", 255);
-    freq.put("маф", 32);
-    freq.put("нён", 30);
-    freq.put("мат", 1644);
-    freq.put("мас", 1455);
-    freq.put("мар", 929);
-    freq.put("маў", 568);
-    freq.put("маё", 123);
-    freq.put("юна", 45);
-    freq.put("ес ", 134);
-    freq.put("еў", 1380);
-    freq.put("еі", 228);
-    freq.put("хро", 47);
-    freq.put("ея", 1488);
-    freq.put("ею", 82);
-    freq.put("еш", 1319);
-    freq.put("ех", 281);
-    freq.put("еф", 213);
-    freq.put("еч", 786);
-    freq.put("ец", 6721);
-    freq.put("ес", 3121);
-    freq.put("ер", 16326);
-    freq.put("хра", 195);
-    freq.put("ет", 5693);
-    freq.put("в ", 651);
-    freq.put("йго", 77);
-    freq.put("м", 80493);
-    freq.put("лоз", 54);
-    freq.put(" ا", 31);
-    freq.put("Лат", 156);
-    freq.put("ен", 14262);
-    freq.put("ем", 3080);
-    freq.put("еп", 689);
-    freq.put("ео", 244);
-    freq.put("ей", 4598);
-    freq.put("хры", 259);
-    freq.put("ел", 10718);
-    freq.put("ек", 3716);
-    freq.put("ее", 273);
-    freq.put("ед", 2980);
-    freq.put("ез", 980);
-    freq.put("еж", 1840);
-    freq.put("еб", 1674);
-    freq.put("еа", 1244);
-    freq.put("ег", 782);
-    freq.put("ев", 2049);
-    freq.put(" Зб", 38);
-    freq.put("шы", 3576);
-    freq.put("шш", 109);
-    freq.put("ідз", 114);
-    freq.put("шэ", 1094);
-    freq.put("шт", 2236);
-    freq.put("шу", 258);
-    freq.put("шр", 45);
-    freq.put("шс", 182);
-    freq.put("шц", 37);
-    freq.put("шч", 4023);
-    freq.put("ідо", 45);
-    freq.put("спу", 895);
-    freq.put("цен", 184);
-    freq.put("оен", 144);
-    freq.put("шк", 819);
-    freq.put("шл", 459);
-    freq.put("іду", 74);
-    freq.put("шо", 244);
-    freq.put("шп", 54);
-    freq.put("шм", 285);
-    freq.put("шн", 668);
-    freq.put("шв", 208);
-    freq.put(" яв", 210);
-    freq.put("ша", 3465);
-    freq.put("яту", 36);
-    freq.put("жва", 153);
-    freq.put("Сер", 145);
-    freq.put("ік ", 2492);
-    freq.put("оўн", 2915);
-    freq.put("В", 7342);
-    freq.put("оўл", 100);
-    freq.put("оўк", 398);
-    freq.put("оўж", 103);
-    freq.put("оўе", 34);
-    freq.put("оўд", 505);
-    freq.put("оўг", 107);
-    freq.put("оўв", 949);
-    freq.put("гію", 57);
-    freq.put("гія", 464);
-    freq.put("шлю", 55);
-    freq.put("шля", 240);
-    freq.put("жчы", 122);
-    freq.put("гіч", 776);
-    freq.put("гіх", 67);
-    freq.put("гіт", 60);
-    freq.put("гіс", 1076);
-    freq.put("гіі", 584);
-    freq.put("шлі", 56);
-    freq.put("афт", 113);
-    freq.put("афс", 99);
-    freq.put("гіё", 482);
-    freq.put("афо", 91);
-    freq.put("афе", 383);
-    freq.put("афа", 204);
-    freq.put("гіп", 182);
-    freq.put("гім", 217);
-    freq.put("гін", 290);
-    freq.put("гіл", 482);
-    freq.put("гій", 254);
-    freq.put("гід", 137);
-    freq.put("гіе", 38);
-    freq.put("оўя", 68);
-    freq.put("оўш", 103);
-    freq.put("оўч", 74);
-    freq.put("оўц", 109);
-    freq.put("оўт", 45);
-    freq.put("оўс", 1453);
-    freq.put("ура", 904);
-    freq.put("ялу", 38);
-    freq.put("змы", 35);
-    freq.put("змя", 546);
-    freq.put("ялы", 42);
-    freq.put("зму", 220);
-    freq.put("Інт", 50);
-    freq.put("яль", 796);
-    freq.put("яля", 353);
-    freq.put("Інс", 48);
-    freq.put("ялё", 105);
-    freq.put("гно", 35);
-    freq.put("жа ", 784);
-    freq.put("ялі", 2149);
-    freq.put("гне", 145);
-    freq.put("змі", 91);
-    freq.put("гна", 166);
-    freq.put("рша", 1006);
-    freq.put("ндл", 116);
-    freq.put("цык", 158);
-    freq.put("цыл", 82);
-    freq.put("ндо", 51);
-    freq.put("цын", 226);
-    freq.put("цып", 245);
-    freq.put("нда", 1112);
-    freq.put("УС ", 34);
-    freq.put("ндж", 78);
-    freq.put("ндз", 171);
-    freq.put("ўшы", 89);
-    freq.put("цыз", 44);
-    freq.put("нды", 965);
-    freq.put("ндш", 53);
-    freq.put("ўша", 77);
-    freq.put("цыю", 259);
-    freq.put("ндэ", 214);
-    freq.put("цыр", 61);
-    freq.put("нду", 192);
-    freq.put("ндр", 744);
-    freq.put("ндс", 225);
-    freq.put("цыф", 52);
-    freq.put("ршы", 811);
-    freq.put("ршэ", 37);
-    freq.put("ршу", 41);
-    freq.put("цыё", 31);
-    freq.put("ршр", 31);
-    freq.put("ршч", 30);
-    freq.put("цыі", 2503);
-    freq.put("гня", 32);
-    freq.put("гну", 101);
-    freq.put("урд", 30);
-    freq.put("яла", 328);
-    freq.put("яле", 332);
-    freq.put("зма", 295);
-    freq.put("гні", 159);
-    freq.put("Інд", 323);
-    freq.put("ялк", 49);
-    freq.put("зме", 1256);
-    freq.put("яло", 214);
-    freq.put(" Ру", 542);
-    freq.put("жжа", 180);
-    freq.put("фей", 37);
-    freq.put("фек", 106);
-    freq.put("ёсц", 92);
-    freq.put("фен", 53);
-    freq.put("пшы", 52);
-    freq.put("феа", 95);
-    freq.put("фед", 192);
-    freq.put("ац ", 273);
-    freq.put(" ме", 2353);
-    freq.put("жыў", 83);
-    freq.put("ьш ", 609);
-    freq.put("Ры", 689);
-    freq.put(" мн", 195);
-    freq.put("ыры", 264);
-    freq.put(" мл", 171);
-    freq.put("ырэ", 97);
-    freq.put("Рэ", 1240);
-    freq.put("жыр", 115);
-    freq.put("жыс", 87);
-    freq.put("жыт", 606);
-    freq.put("жых", 180);
-    freq.put("жыц", 675);
-    freq.put(" мі", 1461);
-    freq.put("жык", 38);
-    freq.put("жыл", 138);
-    freq.put("жым", 43);
-    freq.put("ل", 59);
-    freq.put("жыв", 797);
-    freq.put("ыра", 568);
-    freq.put("Ра", 2126);
-    freq.put(" му", 1079);
-    freq.put("Ре", 36);
-    freq.put(" мя", 737);
-    freq.put("ырк", 37);
-    freq.put(" ег", 36);
-    freq.put("Ро", 320);
-    freq.put("ыро", 599);
-    freq.put("ёса", 45);
-    freq.put("фер", 392);
-    freq.put("фес", 334);
-    freq.put("яе ", 959);
-    freq.put("ёск", 1369);
-    freq.put("жжы", 106);
-    freq.put("язь", 214);
-    freq.put("язя", 117);
-    freq.put("язы", 37);
-    freq.put("У ", 1179);
-    freq.put("язі", 138);
-    freq.put("язё", 36);
-    freq.put("наж", 67);
-    freq.put("наз", 1297);
-    freq.put("над", 802);
-    freq.put("нае", 1972);
-    freq.put("нав", 3652);
-    freq.put("наг", 4177);
-    freq.put("наа", 95);
-    freq.put("наб", 196);
-    freq.put("цям", 68);
-    freq.put("нап", 797);
-    freq.put("нам", 1895);
-    freq.put("нан", 896);
-    freq.put("нак", 1052);
-    freq.put("нал", 1926);
-    freq.put("цяк", 95);
-    freq.put("най", 6530);
-    freq.put("ашк", 119);
-    freq.put("ашо", 115);
-    freq.put("ашн", 160);
-    freq.put("аша", 212);
-    freq.put("наі", 45);
-    freq.put("ς", 92);
-    freq.put(" т ", 97);
-    freq.put("ашэ", 186);
-    freq.put("наў", 1579);
-    freq.put("ашт", 270);
-    freq.put("цяў", 304);
-    freq.put("ашч", 90);
-    freq.put("нац", 795);
-    freq.put("нач", 2424);
-    freq.put("наф", 78);
-    freq.put("нах", 1481);
-    freq.put("нат", 810);
-    freq.put("нар", 2378);
-    freq.put("нас", 3781);
-    freq.put("наю", 68);
-    freq.put("ная", 6074);
-    freq.put("цяя", 32);
-    freq.put("наш", 157);
-    freq.put("ва́", 72);
-    freq.put("язм", 34);
-    freq.put("язк", 91);
-    freq.put("язе", 68);
-    freq.put("язд", 33);
-    freq.put("Лім", 36);
-    freq.put("язв", 36);
-    freq.put("цё", 527);
-    freq.put("сві", 118);
-    freq.put("Глы", 92);
-    freq.put("лка", 481);
-    freq.put("цу", 695);
-    freq.put("цц", 7048);
-    freq.put(" лі", 3277);
-    freq.put("цы", 12398);
-    freq.put("лко", 140);
-    freq.put("цэ", 2811);
-    freq.put("цю", 521);
-    freq.put("свя", 457);
-    freq.put("кев", 125);
-    freq.put("уда", 842);
-    freq.put("кед", 46);
-    freq.put("кел", 90);
-    freq.put("кей", 34);
-    freq.put(" фу", 636);
-    freq.put("кен", 85);
-    freq.put("ято", 188);
-    freq.put("ятн", 67);
-    freq.put("ие ", 34);
-    freq.put("ятл", 130);
-    freq.put("́нс", 53);
-    freq.put(" фі", 1050);
-    freq.put("́нт", 33);
-    freq.put("ята", 449);
-    freq.put("́нк", 35);
-    freq.put("́нн", 77);
-    freq.put("яты", 367);
-    freq.put("́на", 107);
-    freq.put("́нд", 44);
-    freq.put("ятр", 215);
-    freq.put("кет", 98);
-    freq.put(" фо", 700);
-    freq.put("кер", 97);
-    freq.put("кес", 53);
-    freq.put(" фл", 106);
-    freq.put(" фе", 301);
-    freq.put(" фа", 795);
-    freq.put("сва", 769);
-    freq.put("лку", 30);
-    freq.put("цв", 329);
-    freq.put("све", 1154);
-    freq.put("цз", 30);
-    freq.put("ци", 85);
-    freq.put("цк", 4854);
-    freq.put("цл", 89);
-    freq.put("цн", 128);
-    freq.put("сво", 95);
-    freq.put("лкі", 125);
-    freq.put("Гла", 34);
-    freq.put("аат", 32);
-    freq.put("аас", 39);
-    freq.put("аар", 138);
-    freq.put("аах", 61);
-    freq.put(" Сн", 35);
-    freq.put("Сев", 35);
-    freq.put("удн", 108);
-    freq.put("ааб", 71);
-    freq.put("аад", 60);
-    freq.put("аал", 79);
-    freq.put("аак", 85);
-    freq.put("аап", 31);
-    freq.put("аан", 87);
-    freq.put("аам", 69);
-    freq.put("Ліч", 30);
-    freq.put("ало", 2183);
-    freq.put("зро", 259);
-    freq.put("Суд", 78);
-    freq.put("Сул", 40);
-    freq.put("Суп", 40);
-    freq.put("роў", 900);
-    freq.put("роі", 115);
-    freq.put("рош", 60);
-    freq.put("роя", 63);
-    freq.put("рос", 361);
-    freq.put("рор", 55);
-    freq.put("рот", 334);
-    freq.put("рох", 295);
-    freq.put("роф", 48);
-    freq.put("роч", 138);
-    freq.put("роц", 118);
-    freq.put("рой", 196);
-    freq.put("рол", 391);
-    freq.put("Іта", 181);
-    freq.put("рон", 906);
-    freq.put("ф", 10706);
-    freq.put("роп", 490);
-    freq.put("ся ", 2113);
-    freq.put("роб", 290);
-    freq.put("рог", 240);
-    freq.put("ров", 373);
-    freq.put("рое", 105);
-    freq.put("род", 3426);
-    freq.put("роз", 984);
-    freq.put("рож", 172);
-    freq.put("Сус", 148);
-    freq.put("Сур", 50);
-    freq.put("зры", 30);
-    freq.put("зру", 31);
-    freq.put("бме", 144);
-    freq.put("фы ", 42);
-    freq.put(" Ір", 191);
-    freq.put("сэр", 63);
-    freq.put("мм ", 36);
-    freq.put("К ", 275);
-    freq.put("сэн", 134);
-    freq.put("ырс", 102);
-    freq.put(" ет", 37);
-    freq.put("К", 7590);
-    freq.put("мон", 295);
-    freq.put("мом", 78);
-    freq.put("мой", 79);
-    freq.put("мол", 94);
-    freq.put("моз", 62);
-    freq.put("мож", 328);
-    freq.put("Фу", 78);
-    freq.put("Фр", 942);
-    freq.put("мов", 1411);
-    freq.put("Бак", 50);
-    freq.put("Бал", 278);
-    freq.put(" Св", 629);
-    freq.put("Бай", 31);
-    freq.put(" Се", 721);
-    freq.put("Бан", 112);
-    freq.put("Бав", 38);
-    freq.put("Баг", 151);
-    freq.put(" Ск", 316);
-    freq.put("Баб", 131);
-    freq.put(" См", 208);
-    freq.put("Баз", 42);
-    freq.put("Бад", 41);
-    freq.put("Фё", 88);
-    freq.put(" Ст", 1398);
-    freq.put("моў", 515);
-    freq.put(" Сц", 149);
-    freq.put("Бат", 116);
-    freq.put("Бар", 415);
-    freq.put("Бас", 63);
-    freq.put("Бац", 35);
-    freq.put(" Сэ", 74);
-    freq.put(" Ся", 452);
-    freq.put("Фо", 111);
-    freq.put(" Сё", 36);
-    freq.put("Фл", 151);
-    freq.put(" Сі", 613);
-    freq.put("моц", 142);
-    freq.put("мос", 80);
-    freq.put("мор", 762);
-    freq.put("Фа", 244);
-    freq.put("мот", 32);
-    freq.put("юза", 248);
-    freq.put("юзн", 56);
-    freq.put(" ле", 894);
-    freq.put("км ", 1532);
-    freq.put("́я ", 42);
-    freq.put("三", 64);
-    freq.put("рхі", 679);
-    freq.put("ва ", 8065);
-    freq.put("зоў", 76);
-    freq.put("яец", 1049);
-    freq.put("зор", 310);
-    freq.put("мо́", 45);
-    freq.put("Рас", 1001);
-    freq.put("аца", 428);
-    freq.put("ацв", 173);
-    freq.put("аце", 270);
-    freq.put("ьша", 283);
-    freq.put("БЭ ", 105);
-    freq.put("ацк", 790);
-    freq.put("нва", 169);
-    freq.put("ацо", 360);
-    freq.put("ьшч", 339);
-    freq.put("р", 154977);
-    freq.put("ацу", 102);
-    freq.put("ацт", 372);
-    freq.put("ацц", 355);
-    freq.put("ацы", 4682);
-    freq.put("ацэ", 692);
-    freq.put("аць", 1171);
-    freq.put("Шча", 33);
-    freq.put("аці", 682);
-    freq.put("жы ", 561);
-    freq.put("зов", 65);
-    freq.put("ысв", 121);
-    freq.put("зол", 32);
-    freq.put("зон", 180);
-    freq.put("�", 105);
-    freq.put("кры", 1245);
-    freq.put("крэ", 211);
-    freq.put("рь ", 31);
-    freq.put("кру", 661);
-    freq.put("цюр", 50);
-    freq.put("Ул", 389);
-    freq.put("Ук", 401);
-    freq.put("ута", 457);
-    freq.put("утб", 383);
-    freq.put("Уп", 83);
-    freq.put("Уо", 37);
-    freq.put("Ун", 98);
-    freq.put("ыск", 161);
-    freq.put("Уг", 30);
-    freq.put("Ув", 552);
-    freq.put("Уа", 33);
-    freq.put("Уз", 161);
-    freq.put("Уд", 47);
-    freq.put(" тр", 1350);
-    freq.put(" ту", 251);
-    freq.put(" тэ", 2497);
-    freq.put("аш ", 100);
-    freq.put(" ты", 1078);
-    freq.put("ярд", 97);
-    freq.put("ярж", 1773);
-    freq.put("яра", 106);
-    freq.put("ярб", 192);
-    freq.put("на ", 17606);
-    freq.put("ярг", 131);
-    freq.put("кза", 108);
-    freq.put("ярн", 291);
-    freq.put("яро", 602);
-    freq.put("ярк", 84);
-    freq.put("ёта", 59);
-    freq.put("ярч", 34);
-    freq.put("ярс", 90);
-    freq.put("ярэ", 1124);
-    freq.put("ярш", 99);
-    freq.put("яры", 181);
-    freq.put(" та", 2480);
-    freq.put(" тв", 254);
-    freq.put(" то", 500);
-    freq.put(" тл", 57);
-    freq.put(" тк", 71);
-    freq.put("уту", 45);
-    freq.put("утр", 270);
-    freq.put("Уш", 147);
-    freq.put("Уя", 46);
-    freq.put("Уэ", 58);
-    freq.put("Ут", 130);
-    freq.put("Ус", 473);
-    freq.put("Ур", 133);
-    freq.put("кро", 265);
-    freq.put("кра", 2744);
-    freq.put("Уі", 88);
-    freq.put("лк ", 36);
-    freq.put(" Зе", 129);
-    freq.put(" Зв", 134);
-    freq.put(" Зг", 49);
-    freq.put(" За", 1695);
-    freq.put("Ж", 712);
-    freq.put(" Зо", 46);
-    freq.put(" Зм", 35);
-    freq.put(" Зн", 359);
-    freq.put(" Зл", 90);
-    freq.put("ке ", 88);
-    freq.put("гот", 54);
-    freq.put("эф", 375);
-    freq.put("ойц", 50);
-    freq.put("ойч", 33);
-    freq.put("́н ", 123);
-    freq.put(" Зу", 37);
-    freq.put(" Зя", 276);
-    freq.put(" Зэ", 37);
-    freq.put("ц ", 1222);
-    freq.put("ро́", 88);
-    freq.put("Тэр", 131);
-    freq.put("бса", 45);
-    freq.put("Тэх", 38);
-    freq.put("бсл", 33);
-    freq.put("бск", 1337);
-    freq.put("Жыт", 72);
-    freq.put("Тэў", 32);
-    freq.put("рмі", 576);
-    freq.put("асс", 55);
-    freq.put("рхо", 135);
-    freq.put("нза", 92);
-    freq.put("рму", 141);
-    freq.put("рмя", 74);
-    freq.put("рмы", 154);
-    freq.put("рме", 204);
-    freq.put("аа ", 39);
-    freq.put("рма", 1475);
-    freq.put("рмо", 63);
-    freq.put("рмл", 35);
-    freq.put("юю ", 81);
-    freq.put("рыв", 479);
-    freq.put("асы", 229);
-    freq.put("рха", 160);
-    freq.put("Жыг", 36);
-    freq.put("Мюн", 42);
-    freq.put("Тэа", 57);
-    freq.put("бст", 113);
-    freq.put("Тэл", 33);
-    freq.put("чкі", 63);
-    freq.put("сяч", 164);
-    freq.put("сяц", 266);
-    freq.put("сям", 290);
-    freq.put("сят", 35);
-    freq.put("сяс", 38);
-    freq.put("сяр", 743);
-    freq.put("ой ", 2080);
-    freq.put("йшы", 640);
-    freq.put("сяд", 69);
-    freq.put("сяг", 183);
-    freq.put("лес", 293);
-    freq.put("сяб", 146);
-    freq.put("ро ", 135);
-    freq.put("сян", 32);
-    freq.put("уяў", 79);
-    freq.put("сял", 312);
-    freq.put("сяк", 50);
-    freq.put("леў", 427);
-    freq.put("чко", 34);
-    freq.put("чка", 240);
-    freq.put("юбі", 36);
-    freq.put("юбу", 33);
-    freq.put("юбы", 39);
-    freq.put("ёгк", 72);
-    freq.put("сэ ", 50);
-    freq.put("юба", 40);
-    freq.put("юбл", 30);
-    freq.put("юбо", 62);
-    freq.put(" С ", 171);
-    freq.put("еак", 31);
-    freq.put("мо ", 35);
-    freq.put("Ф ", 108);
-    freq.put("Дрэ", 42);
-    freq.put("лля", 60);
-    freq.put("юз ", 108);
-    freq.put("на́", 70);
-    freq.put("ваё", 154);
-    freq.put("ваі", 138);
-    freq.put("Э", 1251);
-    freq.put("уйн", 554);
-    freq.put("ваў", 1106);
-    freq.put("вас", 848);
-    freq.put("вар", 1944);
-    freq.put("ват", 447);
-    freq.put("вах", 1304);
-    freq.put("вач", 104);
-    freq.put("вац", 531);
-    freq.put("вая", 1270);
-    freq.put("ваю", 780);
-    freq.put("ваб", 190);
-    freq.put("ваа", 45);
-    freq.put("ваг", 936);
-    freq.put("вав", 147);
-    freq.put("вае", 2219);
-    freq.put("вад", 780);
-    freq.put("ваз", 172);
-    freq.put("важ", 304);
-    freq.put("вай", 1892);
-    freq.put("вал", 2596);
-    freq.put("вак", 529);
-    freq.put("ван", 5507);
-    freq.put("вам", 708);
-    freq.put("вап", 166);
-    freq.put("уйс", 99);
-    freq.put("вюх", 50);
-    freq.put("ойд", 68);
-    freq.put("Фін", 89);
-    freq.put("Філ", 168);
-    freq.put("чж", 37);
-    freq.put("че", 68);
-    freq.put("чв", 241);
-    freq.put("чб", 54);
-    freq.put("ча", 13660);
-    freq.put("чо", 416);
-    freq.put("чн", 9223);
-    freq.put("чл", 236);
-    freq.put("чк", 368);
-    freq.put("чи", 37);
-    freq.put("цін", 853);
-    freq.put("цім", 35);
-    freq.put("ціл", 66);
-    freq.put("ул ", 192);
-    freq.put("цій", 30);
-    freq.put("ціг", 30);
-    freq.put("ців", 165);
-    freq.put("ція", 285);
-    freq.put("ціш", 47);
-    freq.put("ціч", 60);
-    freq.put("ш", 19107);
-    freq.put("ціс", 208);
-    freq.put("цір", 58);
-    freq.put("чч", 134);
-    freq.put("ціў", 77);
-    freq.put("чу", 415);
-    freq.put("Эду", 53);
-    freq.put("чэ", 2728);
-    freq.put("во ", 63);
-    freq.put("чы", 6916);
-    freq.put("імк", 39);
-    freq.put("імн", 166);
-    freq.put("імп", 856);
-    freq.put("імо", 142);
-    freq.put("Аўс", 313);
-    freq.put("іма", 433);
-    freq.put("Аўт", 109);
-    freq.put("іме", 169);
-    freq.put("эйд", 31);
-    freq.put("цце", 84);
-    freq.put("уно", 46);
-    freq.put("луж", 384);
-    freq.put("луб", 158);
-    freq.put("луа", 46);
-    freq.put("луг", 119);
-    freq.put("лун", 37);
-    freq.put("лум", 136);
-    freq.put("луп", 44);
-    freq.put("эцы", 117);
-    freq.put("унг", 38);
-    freq.put("эця", 83);
-    freq.put(" А ", 146);
-    freq.put("эці", 122);
-    freq.put("уні", 487);
-    freq.put("ыт ", 149);
-    freq.put("яху", 32);
-    freq.put("луч", 648);
-    freq.put("луц", 110);
-    freq.put("лус", 51);
-    freq.put("эце", 54);
-    freq.put("эцк", 106);
-    freq.put("уну", 114);
-    freq.put("луш", 45);
-    freq.put("унс", 31);
-    freq.put("імё", 33);
-    freq.put("імі", 1234);
-    freq.put("імы", 97);
-    freq.put("імя", 488);
-    freq.put("імс", 67);
-    freq.put("Аўг", 67);
-    freq.put("імф", 33);
-    freq.put("ыба", 232);
-    freq.put("ыбе", 91);
-    freq.put("ыбл", 59);
-    freq.put("ыбо", 181);
-    freq.put("гг ", 305);
-    freq.put("О", 468);
-    freq.put("но ", 301);
-    freq.put("ыфі", 155);
-    freq.put("цэ ", 249);
-    freq.put("існ", 467);
-    freq.put("ыфе", 42);
-    freq.put("іса", 804);
-    freq.put("Зэл", 30);
-    freq.put("ыбі", 169);
-    freq.put("ыбу", 110);
-    freq.put("ыбт", 45);
-    freq.put("ыбс", 49);
-    freq.put("оід", 96);
-    freq.put("ыбы", 56);
-    freq.put("оін", 53);
-    freq.put("жка", 98);
-    freq.put("ІЧ ", 105);
-    freq.put("гет", 138);
-    freq.put("Укл", 35);
-    freq.put("ягі", 51);
-    freq.put("нма", 33);
-    freq.put("ягр", 71);
-    freq.put("ягу", 126);
-    freq.put("ўт ", 31);
-    freq.put("Сім", 77);
-    freq.put("ісц", 94);
-    freq.put("ягл", 114);
-    freq.put("ягн", 240);
-    freq.put("яго", 770);
-    freq.put("яга", 544);
-    freq.put("ягв", 50);
-    freq.put("гее", 35);
-    freq.put("Фла", 98);
-    freq.put("геа", 367);
-    freq.put("гео", 49);
-    freq.put("са ", 1269);
-    freq.put("гем", 48);
-    freq.put("гел", 224);
-    freq.put("гей", 129);
-    freq.put("ужэ", 30);
-    freq.put("лоп", 70);
-    freq.put("лом", 97);
-    freq.put("Хо", 164);
-    freq.put("лок", 66);
-    freq.put("лой", 77);
-    freq.put("Хе", 102);
-    freq.put("но́", 48);
-    freq.put("лод", 318);
-    freq.put("лов", 725);
-    freq.put("Ха", 567);
-    freq.put("лоб", 64);
-    freq.put("яўл", 1586);
-    freq.put("яўн", 109);
-    freq.put(" шы", 308);
-    freq.put("ўро", 326);
-    freq.put(" шэ", 196);
-    freq.put(" шу", 37);
-    freq.put(" шт", 1465);
-    freq.put(" шч", 151);
-    freq.put("ўра", 723);
-    freq.put(" шл", 309);
-    freq.put(" шк", 246);
-    freq.put(" шп", 30);
-    freq.put("ав ", 52);
-    freq.put("ўры", 95);
-    freq.put(" шм", 230);
-    freq.put("و", 37);
-    freq.put(" ша", 261);
-    freq.put("ўру", 42);
-    freq.put("яўр", 135);
-    freq.put("яўс", 66);
-    freq.put("Хэ", 35);
-    freq.put("лош", 611);
-    freq.put("лоч", 38);
-    freq.put("лот", 210);
-    freq.put("Хр", 189);
-    freq.put("Ху", 72);
-    freq.put("лос", 295);
-    freq.put("лоў", 785);
-    freq.put("Хі", 103);
-    freq.put("эўн", 216);
-    freq.put(" Не", 402);
-    freq.put(" На", 2174);
-    freq.put(" Но", 542);
-    freq.put(" ун", 308);
-    freq.put("йну", 86);
-    freq.put("ик", 140);
-    freq.put("ил", 41);
-    freq.put("ии", 47);
-    freq.put("ий", 123);
-    freq.put("им", 37);
-    freq.put("ин", 133);
-    freq.put("ие", 40);
-    freq.put("ген", 722);
-    freq.put("адэ", 603);
-    freq.put("ады", 1409);
-    freq.put("адч", 506);
-    freq.put("адц", 54);
-    freq.put("адх", 40);
-    freq.put("аду", 943);
-    freq.put("адт", 144);
-    freq.put("адс", 1751);
-    freq.put("адр", 645);
-    freq.put("тфа", 33);
-    freq.put("тфо", 46);
-    freq.put("Ква", 39);
-    freq.put("ўі ", 33);
-    freq.put("ДР ", 31);
-    freq.put("адп", 774);
-    freq.put("адо", 1034);
-    freq.put("адн", 2536);
-    freq.put("адм", 1131);
-    freq.put("адл", 338);
-    freq.put("адк", 1086);
-    freq.put("вёр", 162);
-    freq.put("вёс", 1402);
-    freq.put("адз", 5516);
-    freq.put("адж", 398);
-    freq.put("са́", 37);
-    freq.put("адг", 94);
-    freq.put("адв", 312);
-    freq.put("адб", 272);
-    freq.put("ада", 5316);
-    freq.put(" Ні", 415);
-    freq.put("ия", 96);
-    freq.put("ит", 52);
-    freq.put("ир", 40);
-    freq.put("ис", 88);
-    freq.put("ич", 94);
-    freq.put(" Ну", 53);
-    freq.put("япе", 460);
-    freq.put(" Ня", 136);
-    freq.put("С ", 476);
-    freq.put("зьк", 33);
-    freq.put("зьм", 47);
-    freq.put("быт", 127);
-    freq.put("быц", 139);
-    freq.put("быў", 528);
-    freq.put("Жэн", 30);
-    freq.put("ды ", 1515);
-    freq.put("был", 962);
-    freq.put("быв", 138);
-    freq.put("во́", 30);
-    freq.put("ўк", 1179);
-    freq.put("ўл", 3014);
-    freq.put("ўм", 227);
-    freq.put("ўн", 8786);
-    freq.put("фст", 74);
-    freq.put("ўп", 308);
-    freq.put("ўа", 58);
-    freq.put("ўб", 129);
-    freq.put("ўв", 1770);
-    freq.put("ўг", 323);
-    freq.put("ўд", 2070);
-    freq.put("ўе", 94);
-    freq.put("ўж", 914);
-    freq.put("ўз", 999);
-    freq.put("бод", 209);
-    freq.put("бож", 46);
-    freq.put("е", 112597);
-    freq.put("сёр", 97);
-    freq.put("бов", 74);
-    freq.put("бог", 105);
-    freq.put("бом", 49);
-    freq.put("бон", 83);
-    freq.put("бой", 321);
-    freq.put("бок", 216);
-    freq.put("бол", 1173);
-    freq.put("боц", 52);
-    freq.put("боч", 67);
-    freq.put("бор", 576);
-    freq.put("бот", 128);
-    freq.put("сён", 59);
-    freq.put("бою", 33);
-    freq.put("сёй", 49);
-    freq.put("ўі", 39);
-    freq.put("ўш", 381);
-    freq.put("ўя", 242);
-    freq.put("ўр", 1544);
-    freq.put("ўс", 7187);
-    freq.put("боў", 71);
-    freq.put("ўц", 335);
-    freq.put("ўч", 312);
-    freq.put("уле", 94);
-    freq.put("воў", 349);
-    freq.put("воі", 57);
-    freq.put("улк", 101);
-    freq.put("ч ", 3324);
-    freq.put(" Кл", 317);
-    freq.put("вот", 46);
-    freq.put("вос", 841);
-    freq.put("вор", 1418);
-    freq.put("воч", 43);
-    freq.put("вол", 277);
-    freq.put("вок", 45);
-    freq.put("вой", 579);
-    freq.put("улі", 503);
-    freq.put("воп", 32);
-    freq.put("вон", 360);
-    freq.put("вог", 104);
-    freq.put("вов", 79);
-    freq.put("воб", 3089);
-    freq.put("воз", 612);
-    freq.put("вое", 106);
-    freq.put("вод", 1328);
-    freq.put("улу", 32);
-    freq.put("улт", 31);
-    freq.put("уль", 2075);
-    freq.put("уля", 403);
-    freq.put("улю", 30);
-    freq.put("улы", 80);
-    freq.put("эўт", 32);
-    freq.put("Род", 35);
-    freq.put("ім ", 4651);
-    freq.put("ыты", 278);
-    freq.put(" оп", 64);
-    freq.put("ытэ", 39);
-    freq.put("ыту", 426);
-    freq.put("ытр", 40);
-    freq.put("лу ", 380);
-    freq.put("ун ", 122);
-    freq.put("Уша", 138);
-    freq.put("ыто", 1491);
-    freq.put("ытм", 32);
-    freq.put("ытн", 638);
-    freq.put("ытв", 208);
-    freq.put(" ор", 442);
-    freq.put("ыта", 1185);
-    freq.put(" от", 37);
-    freq.put("зкі", 180);
-    freq.put("ябр", 96);
-    freq.put("іжа", 58);
-    freq.put("ной", 384);
-    freq.put("нол", 85);
-    freq.put("ном", 347);
-    freq.put("нон", 74);
-    freq.put("ноп", 34);
-    freq.put("нов", 851);
-    freq.put("ног", 256);
-    freq.put("цэв", 61);
-    freq.put("ное", 59);
-    freq.put("нож", 53);
-    freq.put("ло́", 45);
-    freq.put("ноў", 837);
-    freq.put(" х ", 199);
-    freq.put("нор", 90);
-    freq.put("нос", 863);
-    freq.put("нот", 52);
-    freq.put("Мсц", 46);
-    freq.put("цэр", 141);
-    freq.put("ноч", 1322);
-    freq.put("зко", 35);
-    freq.put("ябе", 179);
-    freq.put("оі ", 74);
-    freq.put("зка", 159);
-    freq.put("саў", 422);
-    freq.put("лма", 62);
-    freq.put("сат", 64);
-    freq.put("сар", 415);
-    freq.put("сас", 147);
-    freq.put("сац", 366);
-    freq.put("сач", 32);
-    freq.put("саф", 118);
-    freq.put("сах", 65);
-    freq.put(" цё", 41);
-    freq.put(" ці", 1032);
-    freq.put("кго", 50);
-    freq.put("б", 36341);
-    freq.put(" цу", 71);
-    freq.put("ўто", 83);
-    freq.put("Уся", 30);
-    freq.put(" цы", 196);
-    freq.put("ўта", 839);
-    freq.put(" цэ", 1553);
-    freq.put(" ця", 749);
-    freq.put(" цю", 39);
-    freq.put("ўты", 33);
-    freq.put(" ца", 606);
-    freq.put(" цв", 99);
-    freq.put(" це", 346);
-    freq.put("ўтр", 78);
-    freq.put("сак", 665);
-    freq.put("сал", 344);
-    freq.put("уць", 286);
-    freq.put("сай", 91);
-    freq.put("сап", 189);
-    freq.put("сам", 2712);
-    freq.put("сан", 1228);
-    freq.put("сав", 2289);
-    freq.put("саа", 35);
-    freq.put("саб", 838);
-    freq.put("саж", 83);
-    freq.put("сад", 323);
-    freq.put("уці", 62);
-    freq.put("яг ", 91);
-    freq.put(" Ла", 828);
-    freq.put(" Ле", 682);
-    freq.put("усі", 1545);
-    freq.put("Х ", 80);
-    freq.put("ло ", 328);
-    freq.put("аву", 1291);
-    freq.put("авя", 647);
-    freq.put("ўр ", 36);
-    freq.put("авы", 2369);
-    freq.put("аві", 4026);
-    freq.put("іжс", 42);
-    freq.put("яў ", 1485);
-    freq.put("тцы", 475);
-    freq.put("аве", 4728);
-    freq.put("ава", 9372);
-    freq.put("аво", 1579);
-    freq.put(" Лё", 48);
-    freq.put(" Лі", 1194);
-    freq.put(" Лу", 405);
-    freq.put("еі ", 160);
-    freq.put(" Лы", 79);
-    freq.put(" Лю", 307);
-    freq.put(" Ля", 149);
-    freq.put(" Ль", 65);
-    freq.put("и ", 310);
-    freq.put("хен", 64);
-    freq.put("хем", 35);
-    freq.put("хео", 39);
-    freq.put("хеа", 130);
-    freq.put("ўку", 45);
-    freq.put("ўкр", 56);
-    freq.put("ўкі", 199);
-    freq.put("Іра", 96);
-    freq.put("Ірл", 52);
-    freq.put("ад ", 7315);
-    freq.put("ўка", 663);
-    freq.put("ўкл", 173);
-    freq.put("хец", 34);
-    freq.put("бха", 57);
-    freq.put("бхо", 57);
-    freq.put("дыц", 392);
-    freq.put("дыч", 262);
-    freq.put("дыф", 53);
-    freq.put("дых", 85);
-    freq.put("дыт", 60);
-    freq.put("дыр", 102);
-    freq.put("дыс", 253);
-    freq.put("дыя", 654);
-    freq.put("дыі", 441);
-    freq.put("Са", 2079);
-    freq.put("Св", 634);
-    freq.put("Се", 723);
-    freq.put("дыё", 152);
-    freq.put("зь ", 425);
-    freq.put("Сл", 541);
-    freq.put("Ск", 320);
-    freq.put("Сн", 35);
-    freq.put("См", 209);
-    freq.put("Сп", 213);
-    freq.put("Со", 298);
-    freq.put("γ", 36);
-    freq.put("Яўг", 37);
-    freq.put("Су", 573);
-    freq.put("Ст", 1402);
-    freq.put("Сц", 149);
-    freq.put("Сы", 100);
-    freq.put("бы ", 377);
-    freq.put("Сэ", 75);
-    freq.put("Ся", 453);
-    freq.put("Сё", 36);
-    freq.put("дыз", 55);
-    freq.put("дыд", 69);
-    freq.put("дые", 50);
-    freq.put("дыв", 141);
-    freq.put("дыг", 30);
-    freq.put("Сі", 616);
-    freq.put("дып", 107);
-    freq.put("дым", 121);
-    freq.put("дын", 689);
-    freq.put("дык", 154);
-    freq.put("дый", 177);
-    freq.put("елы", 142);
-    freq.put("бо ", 1680);
-    freq.put("ر", 71);
-    freq.put(" Ул", 389);
-    freq.put("ёзн", 45);
-    freq.put(" Уо", 37);
-    freq.put(" Уп", 83);
-    freq.put(" Ун", 97);
-    freq.put("ў ", 27004);
-    freq.put(" Уа", 33);
-    freq.put(" Уз", 161);
-    freq.put(" Уд", 46);
-    freq.put(" Уш", 147);
-    freq.put(" Уя", 46);
-    freq.put(" Уэ", 58);
-    freq.put(" Ут", 130);
-    freq.put(" Ур", 132);
-    freq.put(" Ус", 473);
-    freq.put("сё ", 101);
-    freq.put(" Уі", 87);
-    freq.put("дчу", 51);
-    freq.put("Юры", 53);
-    freq.put("дчы", 370);
-    freq.put(" жа", 475);
-    freq.put("Гё", 32);
-    freq.put("фут", 394);
-    freq.put("Гі", 276);
-    freq.put("фур", 39);
-    freq.put("Гэ", 231);
-    freq.put("Гу", 346);
-    freq.put("Гр", 1212);
-    freq.put("Гл", 244);
-    freq.put("бмы", 43);
-    freq.put("Гв", 117);
-    freq.put("Га", 1329);
-    freq.put("Ге", 1286);
-    freq.put("фун", 245);
-    freq.put("дча", 218);
-    freq.put("аё ", 37);
-    freq.put("ёлк", 98);
-    freq.put("Псе", 59);
-    freq.put("тат", 1066);
-    freq.put("тах", 236);
-    freq.put("Ром", 38);
-    freq.put("тач", 69);
-    freq.put("тац", 806);
-    freq.put("Роб", 46);
-    freq.put("таш", 31);
-    freq.put("ёла", 252);
-    freq.put("мёр", 61);
-    freq.put("Пск", 33);
-    freq.put("тая", 462);
-    freq.put("таю", 37);
-    freq.put("таі", 63);
-    freq.put("таў", 2626);
-    freq.put("таб", 192);
-    freq.put("мён", 165);
-    freq.put("таг", 1337);
-    freq.put("тав", 1060);
-    freq.put("тае", 238);
-    freq.put("я", 93955);
-    freq.put("таз", 78);
-    freq.put("ёль", 46);
-    freq.put("Рос", 75);
-    freq.put("тал", 2651);
-    freq.put("так", 2399);
-    freq.put("тан", 3373);
-    freq.put("там", 1865);
-    freq.put("тап", 665);
-    freq.put("хі ", 201);
-    freq.put("уп ", 120);
-    freq.put("ці", 8615);
-    freq.put("нхе", 41);
-    freq.put("йш", 1279);
-    freq.put("нха", 30);
-    freq.put("йс", 4300);
-    freq.put("йр", 130);
-    freq.put("йт", 287);
-    freq.put("йх", 78);
-    freq.put("йф", 32);
-    freq.put("йч", 144);
-    freq.put("йц", 290);
-    freq.put("цік", 69);
-    freq.put("йл", 357);
-    freq.put("йк", 385);
-    freq.put("йн", 5926);
-    freq.put("йм", 764);
-    freq.put("йп", 86);
-    freq.put("йб", 708);
-    freq.put("йг", 161);
-    freq.put("йв", 229);
-    freq.put("йд", 344);
-    freq.put("йз", 58);
-    freq.put("á", 81);
-    freq.put("іт ", 248);
-    freq.put("эза", 81);
-    freq.put("ірс", 146);
-    freq.put("іру", 449);
-    freq.put("ірт", 63);
-    freq.put("ірэ", 58);
-    freq.put("эзк", 35);
-    freq.put("іры", 296);
-    freq.put("убл", 1139);
-    freq.put("убк", 59);
-    freq.put("убо", 53);
-    freq.put("убн", 32);
-    freq.put("дпа", 508);
-    freq.put("уба", 203);
-    freq.put("убе", 381);
-    freq.put("этэ", 75);
-    freq.put("эты", 579);
-    freq.put("этр", 36);
-    freq.put("эту", 91);
-    freq.put("ціц", 135);
-    freq.put("й", 39278);
-    freq.put("Т ", 241);
-    freq.put("этн", 227);
-    freq.put("эта", 1496);
-    freq.put("йс ", 35);
-    freq.put("No ", 57);
-    freq.put("эзі", 659);
-    freq.put("дпр", 154);
-    freq.put("убр", 80);
-    freq.put("Атл", 165);
-    freq.put("ірж", 68);
-    freq.put("іра", 1412);
-    freq.put("ірн", 64);
-    freq.put("ірм", 66);
-    freq.put("іро", 98);
-    freq.put("дпі", 97);
-    freq.put("убі", 58);
-    freq.put("юст", 150);
-    freq.put("ыен", 94);
-    freq.put("ыем", 173);
-    freq.put("нк ", 161);
-    freq.put("Ула", 338);
-    freq.put("шты", 34);
-    freq.put("жоў", 89);
-    freq.put("ыев", 35);
-    freq.put("шту", 141);
-    freq.put("жор", 120);
-    freq.put("Кра", 252);
-    freq.put("ышш", 96);
-    freq.put("вяр", 446);
-    freq.put("ышы", 226);
-    freq.put("ышэ", 428);
-    freq.put("пру", 92);
-    freq.put("аю ", 244);
-    freq.put("ышт", 128);
-    freq.put("вят", 632);
-    freq.put("ышч", 84);
-    freq.put("ышк", 40);
-    freq.put("пра", 8243);
-    freq.put("прэ", 764);
-    freq.put("ыша", 94);
-    freq.put("Бял", 42);
-    freq.put("про", 467);
-    freq.put("вич", 33);
-    freq.put("вяц", 105);
-    freq.put("вяч", 32);
-    freq.put("жоз", 35);
-    freq.put("гле", 198);
-    freq.put("Кры", 258);
-    freq.put("Крэ", 41);
-    freq.put("жов", 35);
-    freq.put("жон", 236);
-    freq.put("юса", 40);
-    freq.put("што", 992);
-    freq.put("штк", 32);
-    freq.put("юск", 34);
-    freq.put("шта", 880);
-    freq.put("ник", 45);
-    freq.put("цоў", 501);
-    freq.put("Вол", 122);
-    freq.put("Вой", 50);
-    freq.put("гто", 56);
-    freq.put("йчы", 123);
-    freq.put("Вос", 80);
-    freq.put("Вор", 38);
-    freq.put("ния", 38);
-    freq.put(" П ", 100);
-    freq.put("кіш", 35);
-    freq.put("кія", 2567);
-    freq.put("скр", 254);
-    freq.put("кіт", 215);
-    freq.put("кіс", 310);
-    freq.put("ску", 1200);
-    freq.put("кіх", 2224);
-    freq.put("імб", 47);
-    freq.put("кіі", 104);
-    freq.put("скі", 10869);
-    freq.put("імв", 214);
-    freq.put("кіл", 242);
-    freq.put("аж ", 66);
-    freq.put("кій", 38);
-    freq.put("скл", 2132);
-    freq.put("кіп", 108);
-    freq.put("кін", 402);
-    freq.put("кім", 4288);
-    freq.put("ска", 16444);
-    freq.put("скв", 317);
-    freq.put("ске", 63);
-    freq.put("кіе", 30);
-    freq.put("кід", 79);
-    freq.put("ене", 647);
-    freq.put("енд", 284);
-    freq.put("енз", 37);
-    freq.put("енб", 41);
-    freq.put("ена", 1279);
-    freq.put("енг", 208);
-    freq.put("енн", 3267);
-    freq.put("ено", 51);
-    freq.put("Эры", 35);
-    freq.put("енк", 168);
-    freq.put("тра", 7004);
-    freq.put("тро", 903);
-    freq.put("Саю", 213);
-    freq.put("Сар", 101);
-    freq.put("Сац", 88);
-    freq.put("Саф", 33);
-    freq.put("Сах", 51);
-    freq.put("Сак", 125);
-    freq.put("Сал", 163);
-    freq.put("Сап", 64);
-    freq.put("Сам", 191);
-    freq.put("Сан", 400);
-    freq.put("Сав", 365);
-    freq.put("Саб", 49);
-    freq.put("Сад", 41);
-    freq.put("тру", 617);
-    freq.put("тры", 2608);
-    freq.put("трэ", 416);
-    freq.put("унк", 625);
-    freq.put("енч", 128);
-    freq.put("енц", 288);
-    freq.put("енс", 1325);
-    freq.put("енр", 88);
-    freq.put("ену", 80);
-    freq.put("ент", 1616);
-    freq.put("ень", 745);
-    freq.put("еня", 1327);
-    freq.put("енш", 177);
-    freq.put("ены", 1157);
-    freq.put("ені", 557);
-    freq.put("уне", 30);
-    freq.put("іця", 57);
-    freq.put("унд", 210);
-    freq.put("тві", 140);
-    freq.put("мкн", 63);
-    freq.put("мка", 191);
-    freq.put("уна", 560);
-    freq.put("тву", 57);
-    freq.put("Луч", 36);
-    freq.put(" Хо", 162);
-    freq.put("іцц", 1174);
-    freq.put(" Хе", 102);
-    freq.put(" Ха", 565);
-    freq.put(" Хэ", 35);
-    freq.put(" Хр", 189);
-    freq.put("фу ", 36);
-    freq.put(" Ху", 71);
-    freq.put(" Хі", 102);
-    freq.put("Г ", 109);
-    freq.put("тво", 1132);
-    freq.put("мку", 72);
-    freq.put("тва", 4371);
-    freq.put("бл", 5853);
-    freq.put("мкі", 77);
-    freq.put("хія", 86);
-    freq.put("хір", 44);
-    freq.put("хіт", 334);
-    freq.put("хіч", 44);
-    freq.put("хіі", 92);
-    freq.put("нча", 187);
-    freq.put("глі", 509);
-    freq.put("аёй", 100);
-    freq.put("ёл ", 182);
-    freq.put("аём", 100);
-    freq.put("аён", 3322);
-    freq.put("та ", 4433);
-    freq.put("Бяр", 144);
-    freq.put("нчы", 243);
-    freq.put("аёў", 41);
-    freq.put("оф", 258);
-    freq.put("унь", 55);
-    freq.put("хім", 450);
-    freq.put("хін", 43);
-    freq.put("хіп", 167);
-    freq.put("уны", 57);
-    freq.put("оч", 1686);
-    freq.put("хіе", 35);
-    freq.put("іту", 166);
-    freq.put("ітр", 179);
-    freq.put("іты", 1029);
-    freq.put("ітэ", 996);
-    freq.put("дна", 3085);
-    freq.put("Арт", 72);
-    freq.put("упе", 263);
-    freq.put("дне", 417);
-    freq.put("Арх", 89);
-    freq.put("Ары", 49);
-    freq.put("упл", 113);
-    freq.put("Арш", 82);
-    freq.put("упн", 306);
-    freq.put("дно", 954);
-    freq.put("упо", 197);
-    freq.put("унт", 89);
-    freq.put("эфі", 65);
-    freq.put("ччы", 47);
-    freq.put("чча", 62);
-    freq.put("й ", 23639);
-    freq.put("Ара", 150);
-    freq.put("эфо", 39);
-    freq.put("эфа", 115);
-    freq.put("эфе", 114);
-    freq.put("Арг", 113);
-    freq.put("упр", 395);
-    freq.put("упу", 57);
-    freq.put("дну", 57);
-    freq.put("Ард", 34);
-    freq.put("Арл", 49);
-    freq.put("Арк", 62);
-    freq.put("упы", 287);
-    freq.put("дны", 1083);
-    freq.put("дню", 56);
-    freq.put("Арм", 91);
-    freq.put("днё", 1083);
-    freq.put("іта", 2254);
-    freq.put("дні", 1043);
-    freq.put("упі", 59);
-    freq.put("ітк", 40);
-    freq.put("іто", 758);
-    freq.put("ітн", 260);
-    freq.put("Чаш", 55);
-    freq.put("ыга", 210);
-    freq.put("ыгн", 31);
-    freq.put("ыго", 182);
-    freq.put("Чар", 184);
-    freq.put("Час", 110);
-    freq.put("ыгл", 205);
-    freq.put("эз ", 31);
-    freq.put("Тр", 491);
-    freq.put("Ту", 419);
-    freq.put("Тэ", 408);
-    freq.put("Ты", 162);
-    freq.put("ыцц", 690);
-    freq.put(" еж", 43);
-    freq.put("ыця", 68);
-    freq.put("ыць", 603);
-    freq.put("ыцы", 735);
-    freq.put("йст", 434);
-    freq.put("йсн", 77);
-    freq.put("ыце", 43);
-    freq.put("ыца", 129);
-    freq.put("йск", 3595);
-    freq.put("йсе", 37);
-    freq.put("ыцк", 220);
-    freq.put("йса", 34);
-    freq.put(" ез", 65);
-    freq.put("Та", 924);
-    freq.put("То", 178);
-    freq.put("іму", 60);
-    freq.put("Тл", 30);
-    freq.put("Зям", 240);
-    freq.put("ыгі", 106);
-    freq.put("ір ", 337);
-    freq.put("ыгр", 50);
-    freq.put("ыгу", 330);
-    freq.put("Фер", 95);
-    freq.put("нке", 40);
-    freq.put("нка", 1725);
-    freq.put("нко", 115);
-    freq.put("нкл", 57);
-    freq.put("Вае", 31);
-    freq.put("Вад", 52);
-    freq.put("Ваз", 30);
-    freq.put("юма", 43);
-    freq.put("Вай", 60);
-    freq.put("Вал", 325);
-    freq.put("Ван", 66);
-    freq.put("аюз", 422);
-    freq.put("жэн", 440);
-    freq.put("жэл", 41);
-    freq.put("гро", 73);
-    freq.put("жэй", 178);
-    freq.put("гра", 2633);
-    freq.put("гры", 165);
-    freq.put("грэ", 467);
-    freq.put("гру", 902);
-    freq.put("жэт", 46);
-    freq.put("ь", 30126);
-    freq.put("жэр", 63);
-    freq.put("Ваў", 44);
-    freq.put("Вас", 188);
-    freq.put("Вар", 227);
-    freq.put("Ват", 39);
-    freq.put("пр ", 82);
-    freq.put("ыш ", 58);
-    freq.put("Ваш", 44);
-    freq.put("аюч", 253);
-    freq.put("аюц", 1479);
-    freq.put("нкц", 188);
-    freq.put("нкр", 34);
-    freq.put("нкс", 43);
-    freq.put("нкт", 337);
-    freq.put("нку", 382);
-    freq.put(" Аз", 299);
-    freq.put("шт ", 36);
-    freq.put("нкі", 397);
-    freq.put("жо ", 40);
-    freq.put("Фед", 183);
-    freq.put("мог", 360);
-    freq.put("ўца", 167);
-    freq.put("сды", 35);
-    freq.put("жкі", 44);
-    freq.put("ўцы", 131);
-    freq.put(" Ал", 1435);
-    freq.put(" По", 875);
-    freq.put(" Пл", 387);
-    freq.put(" Пе", 1086);
-    freq.put(" Іг", 116);
-    freq.put(" Па", 3912);
-    freq.put("епа", 260);
-    freq.put("епе", 91);
-    freq.put("епл", 63);
-    freq.put("Т", 2893);
-    freq.put("Сві", 117);
-    freq.put("Каў", 70);
-    freq.put("Каі", 35);
-    freq.put("ажс", 57);
-    freq.put("Каш", 90);
-    freq.put("ажу", 30);
-    freq.put("Кас", 280);
-    freq.put("Кар", 933);
-    freq.put("ажы", 939);
-    freq.put("Кат", 138);
-    freq.put("ажэ", 131);
-    freq.put("Кац", 47);
-    freq.put("Кай", 30);
-    freq.put("ажа", 211);
-    freq.put("Кал", 453);
-    freq.put("Кан", 671);
-    freq.put("Кам", 421);
-    freq.put("Кап", 138);
-    freq.put("ск ", 700);
-    freq.put("Кав", 42);
-    freq.put("ажн", 317);
-    freq.put("Каз", 194);
-    freq.put("ажо", 42);
-    freq.put(" Іо", 69);
-    freq.put("епр", 101);
-    freq.put(" Пі", 364);
-    freq.put("епш", 56);
-    freq.put("уб ", 214);
-    freq.put(" Пё", 48);
-    freq.put(" Пя", 247);
-    freq.put("епі", 62);
-    freq.put(" Пу", 184);
-    freq.put(" Пр", 1407);
-    freq.put(" Пс", 110);
-    freq.put("ьев", 71);
-    freq.put("зюс", 40);
-    freq.put("ен ", 638);
-    freq.put("ызі", 43);
-    freq.put("тр ", 1240);
-    freq.put("та́", 68);
-    freq.put("ьер", 55);
-    freq.put("ьеф", 40);
-    freq.put("км", 1863);
-    freq.put("кн", 1073);
-    freq.put("ко", 6643);
-    freq.put("ки", 209);
-    freq.put("елк", 47);
-    freq.put("кк", 34);
-    freq.put("кл", 5022);
-    freq.put("ке", 820);
-    freq.put("еле", 505);
-    freq.put("кз", 123);
-    freq.put("ка", 49832);
-    freq.put("кв", 1165);
-    freq.put("кг", 75);
-    freq.put("Буг", 33);
-    freq.put(" Ву", 154);
-    freq.put("Буд", 142);
-    freq.put("Бул", 48);
-    freq.put("акі", 2088);
-    freq.put(" юн", 30);
-    freq.put("акш", 62);
-    freq.put("акц", 331);
-    freq.put("акс", 1561);
-    freq.put("акр", 1084);
-    freq.put("аку", 522);
-    freq.put("акт", 1121);
-    freq.put("ако", 854);
-    freq.put("акл", 550);
-    freq.put("аке", 198);
-    freq.put(" юр", 132);
-    freq.put("акз", 80);
-    freq.put(" ют", 157);
-    freq.put("э́н", 57);
-    freq.put("ака", 2837);
-    freq.put("акг", 52);
-    freq.put("Бут", 32);
-    freq.put("Бур", 131);
-    freq.put("цца", 6038);
-    freq.put("еля", 228);
-    freq.put("кэ", 31);
-    freq.put("ель", 3591);
-    freq.put("кш", 189);
-    freq.put("кх", 35);
-    freq.put("кц", 918);
-    freq.put("кр", 5154);
-    freq.put("кс", 3438);
-    freq.put("кт", 4155);
-    freq.put("ку", 6003);
-    freq.put("елі", 671);
-    freq.put("кі", 26642);
-    freq.put("ьбо", 253);
-    freq.put("На ", 214);
-    freq.put("ьбе", 112);
-    freq.put("ьба", 66);
-    freq.put("Г", 6186);
-    freq.put(" е ", 192);
-    freq.put("Дэл", 40);
-    freq.put("Дэм", 65);
-    freq.put("Дэн", 40);
-    freq.put("ўво", 261);
-    freq.put("ўва", 1439);
-    freq.put("ўве", 45);
-    freq.put("Дэр", 76);
-    freq.put("На", 2275);
-    freq.put("ьбі", 51);
-    freq.put("ьбы", 64);
-    freq.put("ьбу", 31);
-    freq.put("ж ", 1358);
-    freq.put("дуі", 38);
-    freq.put("дую", 43);
-    freq.put("дуц", 55);
-    freq.put("дуч", 103);
-    freq.put("дух", 118);
-    freq.put("дур", 41);
-    freq.put("дус", 40);
-    freq.put("ок ", 985);
-    freq.put("гер", 681);
-    freq.put("Адн", 130);
-    freq.put("Адм", 321);
-    freq.put("Адк", 56);
-    freq.put("Адз", 115);
-    freq.put("ёй ", 355);
-    freq.put("Ада", 75);
-    freq.put("Адэ", 60);
-    freq.put("то ", 786);
-    freq.put("Адр", 152);
-    freq.put("тл", 807);
-    freq.put("дум", 130);
-    freq.put("дун", 42);
-    freq.put("дук", 298);
-    freq.put("дуе", 38);
-    freq.put("дуг", 40);
-    freq.put("дуа", 83);
-    freq.put(" No", 57);
-    freq.put("КІ ", 161);
-    freq.put("цэн", 1718);
-    freq.put("Бож", 33);
-    freq.put("Бог", 55);
-    freq.put("Бол", 74);
-    freq.put("іф ", 42);
-    freq.put(" Іт", 182);
-    freq.put("тмі", 53);
-    freq.put("ну ", 554);
-    freq.put("цле", 43);
-    freq.put("ўню", 41);
-    freq.put("тма", 165);
-    freq.put("Яна", 142);
-    freq.put("Бор", 31);
-    freq.put("Бос", 53);
-    freq.put("Янк", 64);
-    freq.put("уг ", 150);
-    freq.put("нса", 317);
-    freq.put("Лаг", 82);
-    freq.put("нсе", 172);
-    freq.put("Лаз", 35);
-    freq.put("нсл", 37);
-    freq.put("нск", 7613);
-    freq.put("Лам", 36);
-    freq.put("Лан", 88);
-    freq.put("нсп", 114);
-    freq.put("нсо", 33);
-    freq.put(" іб", 40);
-    freq.put("АЯ ", 70);
-    freq.put("Ён", 101);
-    freq.put("Іаа", 53);
-    freq.put("эр ", 260);
-    freq.put("Лар", 39);
-    freq.put("нсу", 103);
-    freq.put("нст", 998);
-    freq.put("Эмі", 32);
-    freq.put("то́", 58);
-    freq.put("іц ", 123);
-    freq.put("нсі", 152);
-    freq.put("Лаў", 79);
-    freq.put("эго", 73);
-    freq.put("дле", 447);
-    freq.put("іфі", 109);
-    freq.put("эге", 42);
-    freq.put("уем", 44);
-    freq.put("эга", 57);
-    freq.put("лын", 162);
-    freq.put("лым", 140);
-    freq.put("хрэ", 52);
-    freq.put("ццё", 218);
-    freq.put("лыб", 207);
-    freq.put("лыв", 106);
-    freq.put("цця", 561);
-    freq.put("Бі", 326);
-    freq.put("Бр", 1285);
-    freq.put("Бу", 541);
-    freq.put("Бх", 42);
-    freq.put("Пет", 103);
-    freq.put("Бы", 191);
-    freq.put("Пер", 645);
-    freq.put("Бэ", 35);
-    freq.put("Пец", 178);
-    freq.put("Бя", 222);
-    freq.put("Ба", 1656);
-    freq.put("Бе", 3148);
-    freq.put("Пен", 50);
-    freq.put("Бл", 137);
-    freq.put("Бо", 344);
-    freq.put("длі", 93);
-    freq.put("іфа", 221);
-    freq.put("лыя", 106);
-    freq.put("длё", 68);
-    freq.put("лых", 177);
-    freq.put("эгі", 624);
-    freq.put("іфо", 56);
-    freq.put("уец", 231);
-    freq.put("лыў", 32);
-    freq.put("длю", 110);
-    freq.put("для", 1486);
-    freq.put("эгу", 78);
-    freq.put("эгр", 33);
-    freq.put("ыйш", 51);
-    freq.put("ыйс", 505);
-    freq.put("Дня", 264);
-    freq.put("Д ", 110);
-    freq.put("Чор", 83);
-    freq.put(" Эн", 125);
-    freq.put("А́", 54);
-    freq.put("чэн", 1626);
-    freq.put("чэм", 181);
-    freq.put("λ", 66);
-    freq.put("чэш", 75);
-    freq.put("чэс", 40);
-    freq.put("чэр", 479);
-    freq.put("Упе", 45);
-    freq.put("ыйн", 2263);
-    freq.put("фрэ", 43);
-    freq.put("фры", 266);
-    freq.put("зч", 30);
-    freq.put("зу", 688);
-    freq.put("зс", 483);
-    freq.put("зр", 451);
-    freq.put("зя", 4158);
-    freq.put("зю", 132);
-    freq.put("зэ", 128);
-    freq.put("зь", 559);
-    freq.put("зы", 1062);
-    freq.put("Утв", 84);
-    freq.put("зі", 8552);
-    freq.put("зё", 325);
-    freq.put("геб", 35);
-    freq.put("зз", 41);
-    freq.put("зе", 11615);
-    freq.put("зд", 1019);
-    freq.put("зг", 441);
-    freq.put("зв", 3499);
-    freq.put("зб", 1098);
-    freq.put("за", 11009);
-    freq.put("зо", 741);
-    freq.put("зн", 4975);
-    freq.put("зм", 2754);
-    freq.put("зл", 602);
-    freq.put("зк", 396);
-    freq.put("уў ", 45);
-    freq.put(" Фа", 244);
-    freq.put("Ав", 82);
-    freq.put("Аг", 256);
-    freq.put("Аб", 471);
-    freq.put("Аз", 304);
-    freq.put("Ад", 1085);
-    freq.put("Ак", 373);
-    freq.put("Ал", 1440);
-    freq.put("Ай", 138);
-    freq.put("к ", 10115);
-    freq.put("Ап", 171);
-    freq.put("Ам", 373);
-    freq.put("Ан", 1117);
-    freq.put("бяс", 187);
-    freq.put("бяр", 301);
-    freq.put("ўма", 75);
-    freq.put("ўме", 35);
-    freq.put("ўмо", 74);
-    freq.put("ак ", 2292);
-    freq.put("бяз", 52);
-    freq.put("Аў", 528);
-    freq.put(" Л ", 37);
-    freq.put("Ат", 266);
-    freq.put("Ар", 969);
-    freq.put("Ас", 625);
-    freq.put("Аф", 331);
-    freq.put("Ах", 126);
-    freq.put("Аш", 39);
-    freq.put("лож", 54);
-    freq.put("дст", 894);
-    freq.put("дсу", 60);
-    freq.put("лог", 853);
-    freq.put("ар", 35204);
-    freq.put("дск", 1625);
-    freq.put("Хел", 33);
-    freq.put("жа", 5313);
-    freq.put("жб", 137);
-    freq.put("жв", 171);
-    freq.put("жд", 47);
-    freq.put("жж", 289);
-    freq.put("жз", 90);
-    freq.put("жк", 161);
-    freq.put("ША ", 566);
-    freq.put("жн", 2776);
-    freq.put("жо", 650);
-    freq.put("Ц", 1185);
-    freq.put("тот", 93);
-    freq.put("тор", 2062);
-    freq.put("тоц", 34);
-    freq.put("ока", 620);
-    freq.put("тоў", 1461);
-    freq.put("ο", 115);
-    freq.put("оку", 164);
-    freq.put("окт", 169);
-    freq.put("окс", 43);
-    freq.put("Хры", 110);
-    freq.put("окш", 44);
-    freq.put("тол", 455);
-    freq.put("ток", 742);
-    freq.put("той", 237);
-    freq.put("топ", 66);
-    freq.put("окі", 248);
-    freq.put("тон", 506);
-    freq.put("том", 146);
-    freq.put("тог", 255);
-    freq.put("тов", 160);
-    freq.put("Пух", 35);
-    freq.put("тое", 83);
-    freq.put("тод", 47);
-    freq.put("жс", 338);
-    freq.put("жу", 480);
-    freq.put("жц", 43);
-    freq.put("жч", 122);
-    freq.put("é", 96);
-    freq.put("жы", 4269);
-    freq.put("жэ", 898);
-    freq.put("ду ", 1231);
-    freq.put("ўрэ", 310);
-    freq.put("нты", 853);
-    freq.put(" шо", 33);
-    freq.put("Іву", 34);
-    freq.put("нум", 184);
-    freq.put("нул", 149);
-    freq.put("нук", 66);
-    freq.put("нуе", 87);
-    freq.put(" шв", 128);
-    freq.put("нуў", 62);
-    freq.put("ную", 908);
-    freq.put("Іва", 427);
-    freq.put("нуш", 70);
-    freq.put("нут", 312);
-    freq.put("нус", 50);
-    freq.put("Ян ", 86);
-    freq.put("Ла ", 59);
-    freq.put("нс ", 156);
-    freq.put("іцэ", 151);
-    freq.put("іць", 1259);
-    freq.put("іцы", 1471);
-    freq.put("эев", 32);
-    freq.put("Афі", 65);
-    freq.put("іцу", 40);
-    freq.put("іцт", 980);
-    freq.put("Гіс", 70);
-    freq.put("уго", 354);
-    freq.put("угл", 218);
-    freq.put("іці", 53);
-    freq.put("уга", 532);
-    freq.put("Афр", 194);
-    freq.put("эрц", 69);
-    freq.put("эрф", 32);
-    freq.put("эрт", 47);
-    freq.put("эрс", 264);
-    freq.put("эрэ", 66);
-    freq.put("эры", 1605);
-    freq.put("Пла", 80);
-    freq.put("эрд", 33);
-    freq.put("эрв", 482);
-    freq.put("эра", 883);
-    freq.put("эрб", 100);
-    freq.put("эро", 81);
-    freq.put("эрм", 399);
-    freq.put("эрн", 303);
-    freq.put("эрк", 53);
-    freq.put("эрл", 133);
-    freq.put("нчэ", 55);
-    freq.put("Пло", 225);
-    freq.put("Афг", 43);
-    freq.put("угу", 54);
-    freq.put("Гім", 36);
-    freq.put("іцк", 1083);
-    freq.put("іце", 1246);
-    freq.put("угі", 370);
-    freq.put("іца", 951);
-    freq.put(" Іа", 140);
-    freq.put("ызу", 115);
-    freq.put(" Ів", 480);
-    freq.put(" Іе", 57);
-    freq.put(" Ід", 30);
-    freq.put(" Із", 111);
-    freq.put("ючэ", 51);
-    freq.put(" Іл", 116);
-    freq.put(" Ін", 530);
-    freq.put("лы ", 873);
-    freq.put("ючы", 431);
-    freq.put("ошч", 629);
-    freq.put("лор", 97);
-    freq.put("ошу", 32);
-    freq.put("ошт", 68);
-    freq.put("ошы", 39);
-    freq.put(" Аш", 39);
-    freq.put("чув", 51);
-    freq.put("пты", 114);
-    freq.put("пту", 177);
-    freq.put("пто", 30);
-    freq.put("чуц", 33);
-    freq.put("Ура", 78);
-    freq.put("пта", 184);
-    freq.put("чую", 33);
-    freq.put("Б ", 128);
-    freq.put("оша", 50);
-    freq.put("ошн", 191);
-    freq.put("Уні", 51);
-    freq.put(" Іў", 33);
-    freq.put(" Іс", 359);
-    freq.put("ыза", 257);
-    freq.put("ызв", 59);
-    freq.put("юча", 382);
-    freq.put("ючн", 49);
-    freq.put("ызн", 716);
-    freq.put("ызм", 166);
-    freq.put("До", 265);
-    freq.put("Дн", 291);
-    freq.put("Дл", 38);
-    freq.put("Дж", 533);
-    freq.put("Дз", 898);
-    freq.put("Дв", 64);
-    freq.put("Да", 1323);
-    freq.put("чэ ", 113);
-    freq.put("Еўр", 526);
-    freq.put("ёў", 696);
-    freq.put("ый ", 716);
-    freq.put("юх ", 50);
-    freq.put("Дэ", 368);
-    freq.put("Ды", 176);
-    freq.put("Ду", 237);
-    freq.put("Др", 518);
-    freq.put("ою ", 67);
-    freq.put("Юлі", 32);
-    freq.put("нта", 1999);
-    freq.put("фро", 50);
-    freq.put("Гер", 796);
-    freq.put("н", 205775);
-    freq.put("з ", 9916);
-    freq.put("сий", 33);
-    freq.put("Геа", 51);
-    freq.put("Гео", 81);
-    freq.put("Ген", 210);
-    freq.put("іні", 2163);
-  }
-  
 }
-
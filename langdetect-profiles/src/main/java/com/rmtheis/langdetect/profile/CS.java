@@ -1,2986 +1,15 @@
 package com.rmtheis.langdetect.profile;
 
-import java.util.HashMap;
-
 import com.cybozu.labs.langdetect.util.LangProfile;
-import com.cybozu.labs.langdetect.util.NGram;
 
 public class CS {
   private static final String name = "cs";
-  private static final HashMap<String, Integer> freq = new HashMap<String, Integer>();
-  private static final int[] n_words = new int[NGram.N_GRAM];
 
   public CS() {
-    init();  
   }
 
   public final LangProfile getLangProfile() {
-    return new LangProfile(name, freq, n_words);
+    return Profiles.load(name);
   }
-  
-  private void init() {
-    n_words[0] = 11333226;
-    n_words[1] = 13010717;
-    n_words[2] = 8780627;
 
-    freq.put("ěko", 1330);
-    freq.put("ěkd", 1747);
-    freq.put("tně", 1562);
-    freq.put("ých", 32937);
-    freq.put("ěkt", 1458);
-    freq.put("mě", 22506);
-    freq.put("omá", 2183);
-    freq.put("ali", 6637);
-    freq.put("éri", 1326);
-    freq.put("aur", 1970);
-    freq.put("aut", 3726);
-    freq.put("tím", 1511);
-    freq.put("eče", 1504);
-    freq.put("ící", 14415);
-    freq.put(" Gr", 1717);
-    freq.put("ečn", 6772);
-    freq.put(" Ge", 1446);
-    freq.put(" Ga", 1588);
-    freq.put("dně", 4952);
-    freq.put("upn", 1306);
-    freq.put("rea", 1647);
-    freq.put("Gr", 1729);
-    freq.put("upi", 4594);
-    freq.put("mů", 3291);
-    freq.put("upe", 1451);
-    freq.put("Zá", 1325);
-    freq.put("tí ", 11245);
-    freq.put("Ge", 1462);
-    freq.put("Ga", 1606);
-    freq.put("drá", 1267);
-    freq.put("mž", 1362);
-    freq.put(" ka", 8683);
-    freq.put("me ", 1813);
-    freq.put(" kd", 3115);
-    freq.put(" ke", 1672);
-    freq.put("žov", 1554);
-    freq.put("mno", 2859);
-    freq.put(" kn", 2205);
-    freq.put(" ko", 16866);
-    freq.put(" kl", 3809);
-    freq.put(" km", 3399);
-    freq.put(" kr", 8199);
-    freq.put(" kv", 1829);
-    freq.put(" kt", 24717);
-    freq.put(" ku", 2340);
-    freq.put("řád", 2065);
-    freq.put("dí ", 3801);
-    freq.put("nem", 4884);
-    freq.put("nej", 9246);
-    freq.put("nek", 1332);
-    freq.put("ově", 6255);
-    freq.put("ned", 1356);
-    freq.put("neb", 12487);
-    freq.put("nec", 2031);
-    freq.put("kup", 4964);
-    freq.put("kum", 1330);
-    freq.put("kul", 2572);
-    freq.put("nez", 1422);
-    freq.put("hož", 1183);
-    freq.put("net", 2605);
-    freq.put("áro", 4387);
-    freq.put("ner", 3084);
-    freq.put("nes", 3430);
-    freq.put("nep", 1631);
-    freq.put("med", 1375);
-    freq.put(" k ", 5918);
-    freq.put("mec", 4748);
-    freq.put("ích", 18473);
-    freq.put("mem", 1269);
-    freq.put("íce", 2062);
-    freq.put("men", 11122);
-    freq.put("ors", 1818);
-    freq.put("met", 4900);
-    freq.put("mer", 5988);
-    freq.put("eně", 1924);
-    freq.put("mez", 6394);
-    freq.put("gli", 3394);
-    freq.put("oro", 4330);
-    freq.put("Ze", 1335);
-    freq.put("k", 440118);
-    freq.put("díl", 2411);
-    freq.put("Za", 1646);
-    freq.put("aku", 1247);
-    freq.put("akt", 3867);
-    freq.put("zdí", 1212);
-    freq.put("ako", 12804);
-    freq.put("dro", 2166);
-    freq.put("dra", 2227);
-    freq.put("uča", 1905);
-    freq.put("ake", 1229);
-    freq.put("ku ", 19613);
-    freq.put("zdě", 2035);
-    freq.put("bro", 1589);
-    freq.put("bri", 1805);
-    freq.put("Jeh", 1143);
-    freq.put("ord", 1649);
-    freq.put("bra", 3506);
-    freq.put("dne", 2707);
-    freq.put("ená", 5438);
-    freq.put("ore", 3272);
-    freq.put("dna", 2226);
-    freq.put("m ", 95402);
-    freq.put("při", 7219);
-    freq.put("ené", 4823);
-    freq.put("dno", 8163);
-    freq.put("dni", 1534);
-    freq.put("ení", 16758);
-    freq.put("něm", 4105);
-    freq.put("er ", 7795);
-    freq.put("ip", 4762);
-    freq.put("síd", 1352);
-    freq.put("yšš", 1364);
-    freq.put("ený", 6913);
-    freq.put("nka", 1355);
-    freq.put("Sta", 2172);
-    freq.put("nko", 1306);
-    freq.put("Je ", 2998);
-    freq.put("ová", 16410);
-    freq.put("V", 19456);
-    freq.put("ové", 14190);
-    freq.put("jme", 2592);
-    freq.put("me", 40325);
-    freq.put("eru", 1909);
-    freq.put("erv", 3468);
-    freq.put("ma", 25523);
-    freq.put(" čá", 5494);
-    freq.put("mb", 4786);
-    freq.put("mm", 1350);
-    freq.put(" čí", 2219);
-    freq.put("mo", 29298);
-    freq.put("mn", 8112);
-    freq.put("mi", 28342);
-    freq.put("erz", 1749);
-    freq.put("pře", 14856);
-    freq.put("mu", 15591);
-    freq.put("ere", 2706);
-    freq.put("erg", 1674);
-    freq.put("tna", 1155);
-    freq.put("mp", 4986);
-    freq.put("ms", 3506);
-    freq.put("mr", 1370);
-    freq.put("erm", 2474);
-    freq.put("ern", 7190);
-    freq.put("ero", 6299);
-    freq.put("my", 5631);
-    freq.put("eri", 9740);
-    freq.put("Le", 3365);
-    freq.put("La", 2847);
-    freq.put("Lo", 2548);
-    freq.put("la ", 20221);
-    freq.put("Li", 3491);
-    freq.put("ov ", 3056);
-    freq.put("Lu", 1426);
-    freq.put("ena", 4918);
-    freq.put("hod", 8706);
-    freq.put("enc", 3468);
-    freq.put("end", 1571);
-    freq.put("ene", 4580);
-    freq.put("dní", 18004);
-    freq.put("eni", 2669);
-    freq.put("hol", 1704);
-    freq.put("dné", 1547);
-    freq.put("hok", 1282);
-    freq.put("enn", 2162);
-    freq.put("cí ", 18956);
-    freq.put("hov", 5549);
-    freq.put("Kar", 1595);
-    freq.put("hot", 1459);
-    freq.put("hou", 1879);
-    freq.put("hor", 3514);
-    freq.put("voz", 2714);
-    freq.put("eny", 2102);
-    freq.put(" kř", 2709);
-    freq.put("A", 22558);
-    freq.put("ovs", 3742);
-    freq.put("lan", 4986);
-    freq.put("L ", 1226);
-    freq.put("ůzn", 1758);
-    freq.put("ovy", 1368);
-    freq.put("lac", 1653);
-    freq.put("jmé", 3893);
-    freq.put("prá", 4755);
-    freq.put("ove", 6197);
-    freq.put("lat", 5358);
-    freq.put("lav", 8047);
-    freq.put("ovi", 10902);
-    freq.put("ovn", 5524);
-    freq.put("ovo", 6751);
-    freq.put("las", 7702);
-    freq.put("en ", 12357);
-    freq.put(" če", 12226);
-    freq.put("cím", 1211);
-    freq.put("má", 9760);
-    freq.put(" ča", 2613);
-    freq.put("ho ", 41844);
-    freq.put("mí", 11983);
-    freq.put("erý", 10219);
-    freq.put("mé", 6077);
-    freq.put(" či", 5961);
-    freq.put(" čt", 2423);
-    freq.put("erá", 7485);
-    freq.put("vou", 5924);
-    freq.put("mý", 1831);
-    freq.put("tné", 1153);
-    freq.put("eré", 8410);
-    freq.put(" V ", 3746);
-    freq.put("ráb", 1423);
-    freq.put("rác", 2253);
-    freq.put("zej", 2847);
-    freq.put("šní", 1582);
-    freq.put("rál", 6073);
-    freq.put("zen", 7446);
-    freq.put("zel", 1300);
-    freq.put("zem", 8432);
-    freq.put("zer", 1349);
-    freq.put("rát", 2382);
-    freq.put("oni", 3548);
-    freq.put(" Ho", 2982);
-    freq.put("řad", 2628);
-    freq.put(" Ha", 2917);
-    freq.put(" He", 2194);
-    freq.put("aná", 3560);
-    freq.put("fir", 1363);
-    freq.put("ime", 1223);
-    freq.put("rý", 11309);
-    freq.put(" zá", 11557);
-    freq.put("ňuj", 1462);
-    freq.put("fic", 2581);
-    freq.put("rá", 30974);
-    freq.put("fik", 2015);
-    freq.put("fin", 1574);
-    freq.put("ré", 10396);
-    freq.put("fil", 3337);
-    freq.put(" Va", 1650);
-    freq.put(" dů", 1272);
-    freq.put("ze ", 9310);
-    freq.put(" Ve", 3306);
-    freq.put("rá ", 6574);
-    freq.put("ešn", 1222);
-    freq.put(" Vi", 1986);
-    freq.put("zab", 1246);
-    freq.put("hyb", 1243);
-    freq.put(" Vo", 1286);
-    freq.put("ong", 1188);
-    freq.put(" Vy", 1684);
-    freq.put("ešt", 1436);
-    freq.put("osk", 1491);
-    freq.put("aké", 5289);
-    freq.put("čel", 3765);
-    freq.put("čen", 7616);
-    freq.put("l", 442609);
-    freq.put("até", 1146);
-    freq.put("čet", 1680);
-    freq.put("čes", 6771);
-    freq.put("čer", 2858);
-    freq.put("ons", 4146);
-    freq.put("raž", 1181);
-    freq.put("cká", 6180);
-    freq.put("rt", 11161);
-    freq.put("ru", 27381);
-    freq.put("rv", 11951);
-    freq.put(" zn", 6476);
-    freq.put("rp", 2592);
-    freq.put("rr", 2082);
-    freq.put("rs", 10884);
-    freq.put(" ze", 8914);
-    freq.put(" zd", 2577);
-    freq.put("dst", 2606);
-    freq.put(" za", 18239);
-    freq.put("ry", 11066);
-    freq.put("rz", 2926);
-    freq.put("rd", 6788);
-    freq.put("re", 36192);
-    freq.put("rg", 7113);
-    freq.put("ra", 81349);
-    freq.put("rb", 3000);
-    freq.put("rc", 6965);
-    freq.put("rl", 3217);
-    freq.put("rm", 10574);
-    freq.put("rn", 21334);
-    freq.put("ro", 116857);
-    freq.put("rh", 1365);
-    freq.put("aje", 2039);
-    freq.put("rk", 6663);
-    freq.put("ntr", 2728);
-    freq.put("ntu", 1650);
-    freq.put("nti", 4061);
-    freq.put("ltu", 1148);
-    freq.put("W", 5350);
-    freq.put("nta", 3294);
-    freq.put("ěji", 2384);
-    freq.put("nte", 4199);
-    freq.put("ate", 11112);
-    freq.put("ata", 3060);
-    freq.put("atn", 1969);
-    freq.put("ato", 5121);
-    freq.put("rač", 1242);
-    freq.put(" z ", 20036);
-    freq.put("ati", 10351);
-    freq.put("šíř", 1269);
-    freq.put("atu", 2078);
-    freq.put("r ", 22705);
-    freq.put("ism", 2509);
-    freq.put("isl", 2097);
-    freq.put("íta", 1783);
-    freq.put("ázv", 1186);
-    freq.put("rán", 2154);
-    freq.put("lá ", 1917);
-    freq.put("jí ", 9261);
-    freq.put("tek", 2779);
-    freq.put("osa", 2963);
-    freq.put("nis", 3526);
-    freq.put("rýc", 1165);
-    freq.put("tem", 4570);
-    freq.put("tor", 9066);
-    freq.put("tos", 1217);
-    freq.put("top", 2079);
-    freq.put("teo", 1298);
-    freq.put("tov", 8578);
-    freq.put("tou", 3172);
-    freq.put("tok", 1791);
-    freq.put("toh", 1166);
-    freq.put("xis", 1170);
-    freq.put("ton", 3319);
-    freq.put("tol", 3953);
-    freq.put("tom", 3677);
-    freq.put("skl", 1707);
-    freq.put("kt ", 1234);
-    freq.put(" le", 12637);
-    freq.put("B", 22848);
-    freq.put(" la", 3675);
-    freq.put("ýva", 2863);
-    freq.put(" lo", 3118);
-    freq.put(" li", 8468);
-    freq.put("lát", 1414);
-    freq.put("vyv", 1398);
-    freq.put("ni ", 2504);
-    freq.put("ži", 11885);
-    freq.put("ktu", 2012);
-    freq.put("í", 321621);
-    freq.put("ktr", 2141);
-    freq.put("alý", 1783);
-    freq.put("kti", 3026);
-    freq.put("kte", 27582);
-    freq.put("to ", 14761);
-    freq.put("raf", 2398);
-    freq.put("rad", 5238);
-    freq.put("rab", 1667);
-    freq.put("rac", 4788);
-    freq.put("ran", 13598);
-    freq.put("ší ", 8873);
-    freq.put("ral", 1943);
-    freq.put("ram", 4289);
-    freq.put("raj", 4559);
-    freq.put("rak", 3296);
-    freq.put("rah", 1855);
-    freq.put("rav", 9308);
-    freq.put("rat", 6479);
-    freq.put("ras", 1475);
-    freq.put("raz", 3775);
-    freq.put("rž", 1454);
-    freq.put("rsk", 6183);
-    freq.put("rů ", 3148);
-    freq.put("rš", 2140);
-    freq.put("rů", 8094);
-    freq.put("cíc", 3683);
-    freq.put("nen", 1766);
-    freq.put("ším", 3926);
-    freq.put(" lá", 1294);
-    freq.put("šíc", 3060);
-    freq.put("y", 191798);
-    freq.put("ějš", 4291);
-    freq.put("za ", 5089);
-    freq.put("bsk", 1200);
-    freq.put("rč", 2879);
-    freq.put("ogr", 3240);
-    freq.put("typ", 2401);
-    freq.put("bsa", 1785);
-    freq.put("atř", 2572);
-    freq.put("dok", 1496);
-    freq.put("dol", 1600);
-    freq.put("dom", 1869);
-    freq.put("dob", 7531);
-    freq.put("m", 328621);
-    freq.put("dor", 1289);
-    freq.put("dos", 2695);
-    freq.put("dop", 2114);
-    freq.put("ůže", 1655);
-    freq.put("dov", 6030);
-    freq.put("dou", 1896);
-    freq.put(" Wa", 1184);
-    freq.put("né ", 18438);
-    freq.put("ér", 4128);
-    freq.put("ét", 2091);
-    freq.put("d ", 32945);
-    freq.put(" Wi", 1593);
-    freq.put("éh", 25602);
-    freq.put("ém", 16118);
-    freq.put("él", 1388);
-    freq.put("én", 5964);
-    freq.put("ké ", 30775);
-    freq.put("éd", 1164);
-    freq.put("oci", 2151);
-    freq.put("och", 4480);
-    freq.put("ock", 1389);
-    freq.put("aco", 1432);
-    freq.put("ačo", 2232);
-    freq.put("ačn", 3017);
-    freq.put("ače", 3487);
-    freq.put("hro", 1617);
-    freq.put("abs", 1339);
-    freq.put("ba ", 3672);
-    freq.put(" úz", 3683);
-    freq.put("hra", 7196);
-    freq.put(" ús", 1372);
-    freq.put("pří", 8711);
-    freq.put("dn", 44007);
-    freq.put("do", 40054);
-    freq.put("dl", 11857);
-    freq.put("dm", 3275);
-    freq.put("dk", 3086);
-    freq.put("dh", 1175);
-    freq.put("di", 24806);
-    freq.put("dd", 1592);
-    freq.put("de", 36807);
-    freq.put("db", 1918);
-    freq.put("dc", 2442);
-    freq.put("da", 22450);
-    freq.put("kéh", 13733);
-    freq.put("kém", 5563);
-    freq.put("dy", 13097);
-    freq.put("dv", 6535);
-    freq.put("é ", 80173);
-    freq.put("du", 15000);
-    freq.put("dr", 15992);
-    freq.put("ds", 6618);
-    freq.put("dp", 2177);
-    freq.put("eme", 2383);
-    freq.put("vá ", 12375);
-    freq.put("ak ", 5398);
-    freq.put("bar", 2156);
-    freq.put("žíc", 1641);
-    freq.put("emo", 2184);
-    freq.put("emn", 1840);
-    freq.put("emi", 4395);
-    freq.put("žív", 5443);
-    freq.put("bal", 2672);
-    freq.put(" mě", 10287);
-    freq.put("om ", 1785);
-    freq.put("iž", 5869);
-    freq.put("nut", 2319);
-    freq.put("ěme", 3785);
-    freq.put("nuj", 1460);
-    freq.put("iš", 4295);
-    freq.put("oma", 2266);
-    freq.put("il ", 4856);
-    freq.put("nič", 2090);
-    freq.put("íst", 3954);
-    freq.put("co ", 1224);
-    freq.put("ísl", 1496);
-    freq.put("irm", 1303);
-    freq.put("iro", 1733);
-    freq.put("íse", 1140);
-    freq.put("mun", 1943);
-    freq.put("hrá", 2941);
-    freq.put("ýzn", 2182);
-    freq.put("we", 1453);
-    freq.put("dí", 8010);
-    freq.put("wa", 2470);
-    freq.put("dé", 2586);
-    freq.put("omi", 2447);
-    freq.put("omo", 5000);
-    freq.put(" vr", 1606);
-    freq.put("dá", 9259);
-    freq.put("cký", 12856);
-    freq.put("dý", 1471);
-    freq.put(" In", 2868);
-    freq.put("ř", 105343);
-    freq.put("eln", 3331);
-    freq.put("nu ", 7672);
-    freq.put("ěžn", 1182);
-    freq.put("ile", 1526);
-    freq.put("cou", 2423);
-    freq.put("icí", 1825);
-    freq.put("ila", 2431);
-    freq.put("iln", 1971);
-    freq.put("ilo", 3489);
-    freq.put("ill", 1963);
-    freq.put("ilm", 2591);
-    freq.put("ili", 3988);
-    freq.put("ič", 7118);
-    freq.put("mu ", 8025);
-    freq.put("uni", 2964);
-    freq.put("unk", 1600);
-    freq.put("stv", 6645);
-    freq.put(" me", 11211);
-    freq.put(" ma", 9419);
-    freq.put("éž", 3751);
-    freq.put(" ml", 1339);
-    freq.put(" mn", 2424);
-    freq.put(" mo", 9457);
-    freq.put(" mi", 4779);
-    freq.put(" mu", 2661);
-    freq.put("sah", 2489);
-    freq.put("ií", 2470);
-    freq.put("iá", 5235);
-    freq.put(" my", 1417);
-    freq.put("emě", 2087);
-    freq.put("ana", 4560);
-    freq.put("fra", 2633);
-    freq.put("rga", 2761);
-    freq.put("C ", 2405);
-    freq.put("aču", 2194);
-    freq.put("dě", 13132);
-    freq.put("pro", 30809);
-    freq.put(" úč", 1533);
-    freq.put("dů", 3418);
-    freq.put("ano", 3773);
-    freq.put(" m ", 1247);
-    freq.put("ií ", 2195);
-    freq.put("pri", 1503);
-    freq.put("ani", 8977);
-    freq.put("dsk", 2773);
-    freq.put("els", 2269);
-    freq.put("Ř", 1405);
-    freq.put("Ch", 3956);
-    freq.put("Co", 3211);
-    freq.put("slu", 2567);
-    freq.put("Ca", 2582);
-    freq.put("íle", 1385);
-    freq.put("Ce", 1274);
-    freq.put("n", 728035);
-    freq.put("slo", 9919);
-    freq.put("dř", 2617);
-    freq.put("sle", 3342);
-    freq.put("sla", 4078);
-    freq.put("iz", 8625);
-    freq.put(" má", 2572);
-    freq.put(" mí", 3137);
-    freq.put("is", 36532);
-    freq.put("ir", 8411);
-    freq.put("iu", 2679);
-    freq.put("it", 38607);
-    freq.put("iv", 18333);
-    freq.put("ii", 6209);
-    freq.put("ih", 5555);
-    freq.put("ik", 23953);
-    freq.put("ij", 4185);
-    freq.put("im", 9173);
-    freq.put("il", 27036);
-    freq.put("io", 12386);
-    freq.put("in", 70373);
-    freq.put("ia", 10547);
-    freq.put("ic", 65339);
-    freq.put("ib", 5266);
-    freq.put("ie", 19796);
-    freq.put("id", 15111);
-    freq.put("ig", 6211);
-    freq.put("if", 3335);
-    freq.put("V ", 4585);
-    freq.put("uje", 11818);
-    freq.put("žsk", 1623);
-    freq.put("omě", 1557);
-    freq.put("с", 1165);
-    freq.put("nik", 6308);
-    freq.put("nih", 1649);
-    freq.put("nin", 2133);
-    freq.put("nic", 12884);
-    freq.put("vzd", 1455);
-    freq.put("nie", 1760);
-    freq.put("niz", 2240);
-    freq.put("pěv", 1148);
-    freq.put("Y", 1260);
-    freq.put("i ", 90037);
-    freq.put("bře", 2487);
-    freq.put("niv", 1387);
-    freq.put("nit", 3056);
-    freq.put("Va", 1654);
-    freq.put("Ve", 3321);
-    freq.put("Vi", 2012);
-    freq.put("thu", 1152);
-    freq.put("epu", 2593);
-    freq.put("epr", 1430);
-    freq.put("Vo", 1294);
-    freq.put("Vy", 1686);
-    freq.put("the", 1375);
-    freq.put("rší", 1390);
-    freq.put("olí", 1626);
-    freq.put("elk", 5262);
-    freq.put("eli", 4792);
-    freq.put("hal", 1464);
-    freq.put("elo", 2426);
-    freq.put("han", 1905);
-    freq.put("elm", 1412);
-    freq.put("ela", 2337);
-    freq.put("ele", 12125);
-    freq.put("eř", 2784);
-    freq.put("har", 2922);
-    freq.put("opu", 1150);
-    freq.put("rni", 1331);
-    freq.put("rno", 1887);
-    freq.put("D", 14883);
-    freq.put("opr", 3218);
-    freq.put("ops", 1833);
-    freq.put("rna", 1957);
-    freq.put("tři", 1228);
-    freq.put("ope", 2692);
-    freq.put("opa", 2307);
-    freq.put("opo", 2402);
-    freq.put("opi", 2216);
-    freq.put("rnu", 1168);
-    freq.put("čuj", 2526);
-    freq.put("obí", 2810);
-    freq.put("ha ", 4741);
-    freq.put("el ", 8637);
-    freq.put("tů ", 3433);
-    freq.put("ola", 2087);
-    freq.put("Jed", 1974);
-    freq.put(" Ju", 1242);
-    freq.put("oli", 8828);
-    freq.put("oln", 2388);
-    freq.put("olo", 8650);
-    freq.put(" Jo", 1792);
-    freq.put("ols", 1995);
-    freq.put(" Ji", 2194);
-    freq.put("olu", 2611);
-    freq.put(" Je", 8552);
-    freq.put("oly", 1795);
-    freq.put(" Ja", 4310);
-    freq.put("ick", 33133);
-    freq.put("ici", 3981);
-    freq.put("ich", 6375);
-    freq.put("for", 4925);
-    freq.put("nů", 2947);
-    freq.put("Hr", 1212);
-    freq.put("nš", 1672);
-    freq.put("ica", 1513);
-    freq.put("ípa", 1629);
-    freq.put("ice", 11279);
-    freq.put("ykl", 2523);
-    freq.put("ume", 1179);
-    freq.put(" ně", 9405);
-    freq.put("Ho", 2992);
-    freq.put("bní", 3217);
-    freq.put("umb", 1314);
-    freq.put("umo", 1169);
-    freq.put("Ha", 2931);
-    freq.put("kvě", 1156);
-    freq.put("He", 2201);
-    freq.put("ol ", 1430);
-    freq.put("rné", 1326);
-    freq.put("nč", 1796);
-    freq.put("rní", 7275);
-    freq.put("ple", 1738);
-    freq.put("ně", 45741);
-    freq.put("pla", 3524);
-    freq.put("plo", 2559);
-    freq.put("obn", 3328);
-    freq.put("obo", 2639);
-    freq.put("obl", 4657);
-    freq.put("obj", 2067);
-    freq.put("obi", 2455);
-    freq.put("obd", 1788);
-    freq.put("ic ", 2965);
-    freq.put("obc", 2803);
-    freq.put("o", 890229);
-    freq.put("oba", 1485);
-    freq.put("um ", 4532);
-    freq.put("oby", 3426);
-    freq.put("obv", 2042);
-    freq.put("obu", 1622);
-    freq.put("obr", 2915);
-    freq.put("obs", 1745);
-    freq.put("lej", 1379);
-    freq.put("soc", 1565);
-    freq.put("aha", 1562);
-    freq.put("ána", 2621);
-    freq.put("nné", 1576);
-    freq.put("sof", 1375);
-    freq.put("vě ", 4735);
-    freq.put("áno", 2096);
-    freq.put("nů ", 2566);
-    freq.put("áni", 1332);
-    freq.put("son", 1432);
-    freq.put("ahr", 2506);
-    freq.put("ánu", 1360);
-    freq.put("sou", 17153);
-    freq.put("áns", 1949);
-    freq.put("ány", 1316);
-    freq.put("ole", 10375);
-    freq.put("né", 26518);
-    freq.put("art", 3122);
-    freq.put("ní", 119912);
-    freq.put("čné", 1325);
-    freq.put("ná", 41081);
-    freq.put("rně", 2168);
-    freq.put("gie", 2007);
-    freq.put("gic", 2475);
-    freq.put("ný", 29623);
-    freq.put("gio", 1330);
-    freq.put("gin", 1170);
-    freq.put("gii", 1170);
-    freq.put("věk", 2228);
-    freq.put("án ", 4623);
-    freq.put("ěls", 1244);
-    freq.put(" ná", 11985);
-    freq.put("věd", 2018);
-    freq.put(" Le", 3350);
-    freq.put("ěle", 2558);
-    freq.put("věz", 1289);
-    freq.put("Z", 7679);
-    freq.put("vět", 11745);
-    freq.put("ura", 2035);
-    freq.put("rý ", 8817);
-    freq.put("aze", 2771);
-    freq.put("azy", 2655);
-    freq.put("íro", 1439);
-    freq.put("írk", 1295);
-    freq.put("azu", 1350);
-    freq.put("svě", 5020);
-    freq.put("nno", 1485);
-    freq.put("ání", 9623);
-    freq.put(" Li", 3464);
-    freq.put("ni", 45831);
-    freq.put("nk", 8297);
-    freq.put("pre", 2679);
-    freq.put("nn", 8311);
-    freq.put("no", 57801);
-    freq.put("tit", 2068);
-    freq.put("na", 97771);
-    freq.put("tiv", 5666);
-    freq.put("nc", 16128);
-    freq.put("nd", 14047);
-    freq.put("ne", 57176);
-    freq.put("nf", 2490);
-    freq.put("ng", 13163);
-    freq.put("til", 1384);
-    freq.put("ny", 17200);
-    freq.put("nz", 2252);
-    freq.put("tio", 2588);
-    freq.put("tik", 3154);
-    freq.put("ns", 25831);
-    freq.put("nt", 27386);
-    freq.put("nu", 14720);
-    freq.put("tic", 11897);
-    freq.put(" ni", 2426);
-    freq.put("fot", 2015);
-    freq.put("E", 9868);
-    freq.put(" no", 3710);
-    freq.put("láš", 1492);
-    freq.put(" na", 43193);
-    freq.put(" ne", 33309);
-    freq.put("ť ", 1589);
-    freq.put("umě", 1413);
-    freq.put("elé", 1267);
-    freq.put("tec", 6325);
-    freq.put("obř", 1215);
-    freq.put("ový", 12973);
-    freq.put("n ", 43523);
-    freq.put("ů", 48717);
-    freq.put("azý", 1373);
-    freq.put("rk ", 1359);
-    freq.put("ti ", 14561);
-    freq.put("dů ", 1701);
-    freq.put("roj", 4450);
-    freq.put("rok", 8745);
-    freq.put("rol", 2078);
-    freq.put("rom", 4735);
-    freq.put("ron", 3499);
-    freq.put("osp", 1323);
-    freq.put("rob", 3794);
-    freq.put("roc", 8820);
-    freq.put("čtv", 1158);
-    freq.put("ost", 32198);
-    freq.put("rof", 1452);
-    freq.put("rog", 2059);
-    freq.put("osi", 1402);
-    freq.put("Byl", 1846);
-    freq.put("osm", 1339);
-    freq.put("osl", 4606);
-    freq.put("oso", 3077);
-    freq.put("rop", 5057);
-    freq.put("lla", 1318);
-    freq.put("ros", 9033);
-    freq.put("rot", 4473);
-    freq.put("rou", 3738);
-    freq.put("rov", 17134);
-    freq.put("též", 3726);
-    freq.put("ver", 8833);
-    freq.put("ves", 2177);
-    freq.put("di ", 2989);
-    freq.put("zu ", 1323);
-    freq.put("ved", 2640);
-    freq.put("yva", 1858);
-    freq.put("ven", 9163);
-    freq.put("išt", 1515);
-    freq.put("vel", 5581);
-    freq.put("vem", 1785);
-    freq.put(" do", 19631);
-    freq.put("nž", 1154);
-    freq.put("Š", 3572);
-    freq.put("ro ", 11368);
-    freq.put("ď ", 1420);
-    freq.put("os ", 1967);
-    freq.put("ll ", 1176);
-    freq.put("din", 4766);
-    freq.put("dio", 1325);
-    freq.put("die", 1484);
-    freq.put("ers", 3684);
-    freq.put("dia", 1263);
-    freq.put("dic", 1916);
-    freq.put("p", 289793);
-    freq.put("ón", 1579);
-    freq.put("ve ", 12748);
-    freq.put("ml", 2209);
-    freq.put("div", 1579);
-    freq.put("ict", 1675);
-    freq.put("der", 3512);
-    freq.put("ód", 1198);
-    freq.put("des", 2009);
-    freq.put("M ", 1302);
-    freq.put("ruk", 1449);
-    freq.put("dev", 1882);
-    freq.put("eži", 1875);
-    freq.put("rum", 1222);
-    freq.put("ek ", 7971);
-    freq.put("rub", 1147);
-    freq.put("ámě", 1142);
-    freq.put("než", 1270);
-    freq.put("bo ", 10795);
-    freq.put("sně", 1417);
-    freq.put("rva", 1915);
-    freq.put("era", 5702);
-    freq.put("Me", 3379);
-    freq.put("Ma", 8187);
-    freq.put("Mo", 4597);
-    freq.put("Mi", 4015);
-    freq.put("ež ", 1798);
-    freq.put("O", 10801);
-    freq.put("deb", 1947);
-    freq.put("eko", 2098);
-    freq.put("ekl", 1253);
-    freq.put("bor", 3758);
-    freq.put("bou", 1297);
-    freq.put("bov", 1176);
-    freq.put("boj", 1202);
-    freq.put("bol", 1903);
-    freq.put("ekt", 6413);
-    freq.put("bod", 1239);
-    freq.put("uze", 1855);
-    freq.put("uzs", 2041);
-    freq.put(" Ka", 5019);
-    freq.put(" Ko", 4081);
-    freq.put(" Kl", 1383);
-    freq.put(" Kr", 2542);
-    freq.put("tém", 3602);
-    freq.put("msk", 2845);
-    freq.put("ult", 2459);
-    freq.put(" Ku", 1171);
-    freq.put("ca ", 1459);
-    freq.put("jvě", 1879);
-    freq.put("F", 10603);
-    freq.put("sní", 1788);
-    freq.put("sné", 1153);
-    freq.put("ma ", 3621);
-    freq.put("ámý", 1162);
-    freq.put("Evr", 1575);
-    freq.put("zná", 4232);
-    freq.put("ibl", 1394);
-    freq.put("zní", 1327);
-    freq.put("sé", 1859);
-    freq.put("uli", 1303);
-    freq.put("ulo", 1228);
-    freq.put("sí", 5664);
-    freq.put("sá", 2703);
-    freq.put("ula", 1664);
-    freq.put("té ", 3506);
-    freq.put("zný", 1440);
-    freq.put("obe", 3958);
-    freq.put(" ok", 4623);
-    freq.put(" of", 1957);
-    freq.put("ám ", 1274);
-    freq.put(" od", 14999);
-    freq.put(" ob", 22345);
-    freq.put(" oc", 1666);
-    freq.put("spi", 1842);
-    freq.put(" oz", 5841);
-    freq.put("spo", 10422);
-    freq.put(" ov", 1214);
-    freq.put("ě", 138011);
-    freq.put(" or", 4357);
-    freq.put(" os", 6522);
-    freq.put(" op", 3355);
-    freq.put("kyt", 2072);
-    freq.put("ny ", 15609);
-    freq.put("ňu", 1474);
-    freq.put("s ", 40054);
-    freq.put("mar", 1328);
-    freq.put("mat", 5599);
-    freq.put("ámo", 1148);
-    freq.put("ky ", 27061);
-    freq.put(" o ", 7191);
-    freq.put("sni", 1352);
-    freq.put("zuj", 1535);
-    freq.put("mac", 1223);
-    freq.put("itý", 2115);
-    freq.put("dná", 2916);
-    freq.put("lmi", 1186);
-    freq.put("maj", 1332);
-    freq.put("mal", 2994);
-    freq.put("man", 3894);
-    freq.put("sy", 7700);
-    freq.put("ss", 3706);
-    freq.put("sr", 1708);
-    freq.put("zni", 4038);
-    freq.put("sp", 20097);
-    freq.put("sv", 12247);
-    freq.put("su", 6657);
-    freq.put("st", 145711);
-    freq.put("q", 1288);
-    freq.put("si", 15634);
-    freq.put("sh", 2118);
-    freq.put("so", 35354);
-    freq.put("sn", 8865);
-    freq.put("sm", 8745);
-    freq.put("sl", 22654);
-    freq.put("sc", 4718);
-    freq.put("sb", 1371);
-    freq.put("sa", 15498);
-    freq.put("se", 52884);
-    freq.put("Ru", 1888);
-    freq.put("pís", 1810);
-    freq.put("pův", 2875);
-    freq.put("eá", 1247);
-    freq.put("lsk", 6596);
-    freq.put("Re", 2582);
-    freq.put("sob", 5198);
-    freq.put("Ra", 2507);
-    freq.put("Ro", 3655);
-    freq.put("ejí", 5227);
-    freq.put(" ab", 1328);
-    freq.put("jic", 2414);
-    freq.put("ců ", 1941);
-    freq.put("jin", 3546);
-    freq.put(" ak", 1935);
-    freq.put(" al", 5289);
-    freq.put(" am", 3804);
-    freq.put(" an", 6347);
-    freq.put("gen", 3213);
-    freq.put(" ap", 1198);
-    freq.put(" ar", 3304);
-    freq.put(" as", 2951);
-    freq.put(" at", 1332);
-    freq.put(" au", 3694);
-    freq.put("zař", 1286);
-    freq.put("ent", 12967);
-    freq.put("nol", 1273);
-    freq.put("ri", 39119);
-    freq.put("noh", 2321);
-    freq.put("můž", 1309);
-    freq.put("is ", 3839);
-    freq.put("ěst", 9587);
-    freq.put("R ", 1716);
-    freq.put("not", 3595);
-    freq.put("nou", 8746);
-    freq.put("nov", 9782);
-    freq.put("nor", 2008);
-    freq.put("nos", 13323);
-    freq.put(" a ", 53430);
-    freq.put("zač", 1189);
-    freq.put("áce", 1349);
-    freq.put("ách", 3663);
-    freq.put("šak", 1283);
-    freq.put("em", 54636);
-    freq.put("el", 51949);
-    freq.put("eo", 6058);
-    freq.put("en", 103592);
-    freq.put("ei", 3682);
-    freq.put("eh", 9007);
-    freq.put("ek", 22014);
-    freq.put("ej", 27806);
-    freq.put("ee", 1918);
-    freq.put("ed", 50406);
-    freq.put("eg", 5751);
-    freq.put("ef", 3385);
-    freq.put("ea", 6165);
-    freq.put("ec", 32017);
-    freq.put("eb", 20255);
-    freq.put("ně ", 25254);
-    freq.put("ey", 1497);
-    freq.put("ex", 5658);
-    freq.put("ez", 19185);
-    freq.put("eu", 3247);
-    freq.put("et", 33365);
-    freq.put("ew", 1387);
-    freq.put("ev", 22848);
-    freq.put("ep", 11390);
-    freq.put("es", 44385);
-    freq.put("er", 89316);
-    freq.put("ejm", 2020);
-    freq.put("ejn", 3303);
-    freq.put("eji", 2735);
-    freq.put("oná", 1885);
-    freq.put("ute", 1270);
-    freq.put("lad", 8838);
-    freq.put("bli", 4783);
-    freq.put("ejv", 3622);
-    freq.put("bla", 3565);
-    freq.put("ejs", 2194);
-    freq.put("G", 9505);
-    freq.put("ory", 1722);
-    freq.put("ort", 3045);
-    freq.put("oru", 3220);
-    freq.put("e ", 246825);
-    freq.put("orn", 2809);
-    freq.put("dpo", 1574);
-    freq.put("orm", 4795);
-    freq.put("ýš", 1701);
-    freq.put("ork", 1330);
-    freq.put("ori", 6242);
-    freq.put("org", 3417);
-    freq.put("něj", 4079);
-    freq.put("něk", 4566);
-    freq.put("něl", 1306);
-    freq.put("ůvo", 3624);
-    freq.put("něn", 3988);
-    freq.put("ora", 3762);
-    freq.put("zí ", 4964);
-    freq.put("ej ", 1214);
-    freq.put("ova", 19936);
-    freq.put("usk", 3978);
-    freq.put("etí", 2247);
-    freq.put("aně", 2278);
-    freq.put("zal", 3135);
-    freq.put("xi", 2953);
-    freq.put("hu ", 4702);
-    freq.put(" ří", 3390);
-    freq.put("zah", 1842);
-    freq.put("děn", 1255);
-    freq.put("onc", 1948);
-    freq.put("děl", 3685);
-    freq.put("ona", 3352);
-    freq.put("děj", 2198);
-    freq.put("ané", 4536);
-    freq.put("ond", 1711);
-    freq.put("one", 2668);
-    freq.put("má ", 3426);
-    freq.put("růz", 1961);
-    freq.put("ony", 1528);
-    freq.put("aný", 5688);
-    freq.put("mů ", 1642);
-    freq.put("zas", 1298);
-    freq.put("xt", 1600);
-    freq.put("onu", 1779);
-    freq.put("ial", 1377);
-    freq.put("ian", 1754);
-    freq.put("uko", 1228);
-    freq.put("již", 2514);
-    freq.put(" až", 2786);
-    freq.put("hud", 2458);
-    freq.put("ěný", 1390);
-    freq.put("mát", 1458);
-    freq.put("dě ", 4195);
-    freq.put(" Ze", 1330);
-    freq.put("hum", 1365);
-    freq.put("x ", 2742);
-    freq.put(" Za", 1643);
-    freq.put(" dí", 1705);
-    freq.put("huj", 1855);
-    freq.put("nož", 1329);
-    freq.put("ění", 3741);
-    freq.put("ke ", 1607);
-    freq.put(" ot", 1283);
-    freq.put("mán", 1640);
-    freq.put("čas", 5969);
-    freq.put("ia ", 4182);
-    freq.put(" čl", 2635);
-    freq.put("r", 514188);
-    freq.put("zsk", 2646);
-    freq.put("áln", 9542);
-    freq.put("álo", 2573);
-    freq.put("bí ", 2241);
-    freq.put("ang", 5036);
-    freq.put("pra", 9290);
-    freq.put("álk", 1854);
-    freq.put("sam", 2091);
-    freq.put("áli", 1317);
-    freq.put(" řa", 1815);
-    freq.put("ann", 1847);
-    freq.put("ále", 4254);
-    freq.put("eš", 4400);
-    freq.put(" ře", 4682);
-    freq.put("ank", 1763);
-    freq.put("ant", 5679);
-    freq.put("anu", 1370);
-    freq.put("ež", 8504);
-    freq.put("ý ", 58367);
-    freq.put("ans", 3967);
-    freq.put(" ní", 1455);
-    freq.put("álu", 1211);
-    freq.put("any", 1635);
-    freq.put("sau", 1548);
-    freq.put("Do", 2726);
-    freq.put("eň", 2211);
-    freq.put("Di", 1704);
-    freq.put("ře ", 3029);
-    freq.put("De", 2027);
-    freq.put("Da", 2148);
-    freq.put("zor", 1418);
-    freq.put("е", 1554);
-    freq.put("zov", 3172);
-    freq.put("ýt", 1801);
-    freq.put("ýv", 5852);
-    freq.put("an ", 5076);
-    freq.put("ýs", 1457);
-    freq.put("ýr", 2669);
-    freq.put("sa ", 1633);
-    freq.put(" Zá", 1320);
-    freq.put("ál ", 2023);
-    freq.put("ýz", 2981);
-    freq.put("orů", 1170);
-    freq.put("ýc", 33402);
-    freq.put("ým", 16378);
-    freq.put("eč", 10324);
-    freq.put("řek", 2349);
-    freq.put("řej", 1316);
-    freq.put("řel", 1284);
-    freq.put(" La", 2820);
-    freq.put("řen", 6131);
-    freq.put(" Lo", 2542);
-    freq.put("řec", 3115);
-    freq.put("řeb", 1351);
-    freq.put("řed", 13088);
-    freq.put("D ", 1568);
-    freq.put(" Lu", 1423);
-    freq.put("řez", 1271);
-    freq.put("řes", 3291);
-    freq.put("řet", 1507);
-    freq.put("řev", 1736);
-    freq.put("lný", 1549);
-    freq.put("tka", 3033);
-    freq.put("tko", 1227);
-    freq.put("ší", 18419);
-    freq.put("lní", 11343);
-    freq.put("rmá", 1574);
-    freq.put("lné", 1553);
-    freq.put("oři", 1304);
-    freq.put("lí ", 2188);
-    freq.put("oře", 3041);
-    freq.put("dy ", 11421);
-    freq.put("tky", 1508);
-    freq.put("ělo", 1511);
-    freq.put("Wa", 1205);
-    freq.put("poř", 1288);
-    freq.put("iti", 3568);
-    freq.put("lub", 1957);
-    freq.put("Wi", 1615);
-    freq.put("а", 2293);
-    freq.put("způ", 1462);
-    freq.put(" Hr", 1206);
-    freq.put(" ps", 1456);
-    freq.put(" pr", 44618);
-    freq.put("H", 14139);
-    freq.put("tši", 1374);
-    freq.put("jí", 23302);
-    freq.put(" pa", 10148);
-    freq.put(" pe", 2741);
-    freq.put(" po", 56929);
-    freq.put("já", 1158);
-    freq.put(" pl", 5963);
-    freq.put("ráv", 4812);
-    freq.put("své", 1798);
-    freq.put("oče", 1902);
-    freq.put("ó", 5647);
-    freq.put("poč", 3912);
-    freq.put(" bý", 3017);
-    freq.put("zev", 2458);
-    freq.put("ša", 2373);
-    freq.put("še", 8882);
-    freq.put("ši", 4496);
-    freq.put("šk", 3546);
-    freq.put("ity", 1661);
-    freq.put("šl", 1812);
-    freq.put("šn", 3181);
-    freq.put("oří", 2027);
-    freq.put("rma", 3339);
-    freq.put("lni", 1153);
-    freq.put("št", 7997);
-    freq.put("tu ", 7164);
-    freq.put("j ", 5728);
-    freq.put("rmo", 1370);
-    freq.put("vu ", 2977);
-    freq.put("ytv", 1652);
-    freq.put("ytu", 1246);
-    freq.put("yto", 1723);
-    freq.put("obě", 2552);
-    freq.put("odp", 1587);
-    freq.put("tur", 4631);
-    freq.put("š ", 1248);
-    freq.put("ýt ", 1211);
-    freq.put("tup", 3639);
-    freq.put("ju", 1525);
-    freq.put("jv", 3866);
-    freq.put("js", 11164);
-    freq.put("jm", 7494);
-    freq.put(" pá", 1635);
-    freq.put("jo", 3496);
-    freq.put("ji", 17967);
-    freq.put("je", 121519);
-    freq.put("tud", 1736);
-    freq.put("ja", 17600);
-    freq.put(" pí", 1932);
-    freq.put(" be", 2412);
-    freq.put(" ba", 3819);
-    freq.put("oči", 1195);
-    freq.put(" bo", 3752);
-    freq.put(" bi", 2222);
-    freq.put("P ", 1532);
-    freq.put(" bu", 3054);
-    freq.put("s", 514164);
-    freq.put(" br", 3187);
-    freq.put(" by", 19260);
-    freq.put("poz", 3018);
-    freq.put("íž ", 1472);
-    freq.put("pot", 2565);
-    freq.put("pou", 6174);
-    freq.put("por", 4291);
-    freq.put("pos", 5385);
-    freq.put("pop", 2679);
-    freq.put("pon", 2428);
-    freq.put("pol", 12866);
-    freq.put("pom", 2458);
-    freq.put("poj", 5321);
-    freq.put("imo", 1396);
-    freq.put("ní ", 79844);
-    freq.put("pod", 13049);
-    freq.put("pob", 1330);
-    freq.put("poc", 1426);
-    freq.put(" pě", 1240);
-    freq.put(" šk", 1284);
-    freq.put("až ", 2790);
-    freq.put("ají", 6907);
-    freq.put("říz", 2145);
-    freq.put("ň", 6555);
-    freq.put("íže", 1335);
-    freq.put("níc", 9560);
-    freq.put("ábě", 1152);
-    freq.put(" pů", 4589);
-    freq.put("ník", 6579);
-    freq.put("níh", 7211);
-    freq.put(" př", 29127);
-    freq.put("sva", 1646);
-    freq.put("ažd", 1260);
-    freq.put("ují", 7869);
-    freq.put("ev ", 3656);
-    freq.put("ein", 1192);
-    freq.put("šš", 1500);
-    freq.put("řsk", 2573);
-    freq.put("ům ", 1924);
-    freq.put("iva", 2483);
-    freq.put("vuj", 1416);
-    freq.put("ču", 2648);
-    freq.put("ivo", 2672);
-    freq.put("ivi", 1448);
-    freq.put("oku", 8537);
-    freq.put(" bě", 2145);
-    freq.put(" Me", 3365);
-    freq.put("par", 3389);
-    freq.put("pat", 3635);
-    freq.put(" Ma", 8133);
-    freq.put(" Mo", 4565);
-    freq.put(" Mi", 3991);
-    freq.put("pad", 7309);
-    freq.put("uho", 1206);
-    freq.put("I ", 2501);
-    freq.put("pak", 1199);
-    freq.put("pal", 1582);
-    freq.put("cem", 1899);
-    freq.put("pan", 2500);
-    freq.put("cel", 4240);
-    freq.put("nac", 3724);
-    freq.put("I", 10554);
-    freq.put("yd", 3200);
-    freq.put(" bř", 1481);
-    freq.put("jš", 5173);
-    freq.put("eti", 3348);
-    freq.put("sed", 1877);
-    freq.put("lně", 2708);
-    freq.put("šší", 1462);
-    freq.put("pa ", 1199);
-    freq.put("In", 2920);
-    freq.put("oke", 1629);
-    freq.put("uži", 2255);
-    freq.put("ác", 7677);
-    freq.put("áb", 3286);
-    freq.put("ád", 11483);
-    freq.put("áh", 2531);
-    freq.put("ák", 7074);
-    freq.put("áj", 1550);
-    freq.put("ám", 8120);
-    freq.put("ál", 25430);
-    freq.put("án", 28607);
-    freq.put("tví", 6726);
-    freq.put("áp", 5503);
-    freq.put("ás", 12931);
-    freq.put("ár", 9720);
-    freq.put("át", 14731);
-    freq.put("áv", 12832);
-    freq.put("áz", 13195);
-    freq.put("ím ", 20382);
-    freq.put(" cí", 2459);
-    freq.put("ház", 6195);
-    freq.put("stř", 6161);
-    freq.put("pov", 4058);
-    freq.put("či ", 4977);
-    freq.put("lož", 5290);
-    freq.put("ami", 3729);
-    freq.put("á ", 61028);
-    freq.put("amo", 2812);
-    freq.put("ást", 9035);
-    freq.put("ama", 1900);
-    freq.put("mor", 1679);
-    freq.put("psa", 1291);
-    freq.put("ame", 8001);
-    freq.put("mov", 3077);
-    freq.put("íms", 1206);
-    freq.put("mot", 2793);
-    freq.put("ími", 2048);
-    freq.put("mon", 2073);
-    freq.put("moc", 2506);
-    freq.put("mob", 1461);
-    freq.put("amu", 1194);
-    freq.put("ází", 4141);
-    freq.put("ými", 4161);
-    freq.put("uce", 1140);
-    freq.put("ací", 4252);
-    freq.put("Ně", 1339);
-    freq.put("t", 548551);
-    freq.put("pok", 1746);
-    freq.put("aš", 1639);
-    freq.put("poh", 2575);
-    freq.put("tvr", 1530);
-    freq.put("ezn", 2836);
-    freq.put("ezi", 7262);
-    freq.put("eze", 2667);
-    freq.put("tva", 2695);
-    freq.put("až", 7470);
-    freq.put(" ch", 5478);
-    freq.put(" co", 2133);
-    freq.put(" ce", 6243);
-    freq.put(" ži", 4198);
-    freq.put("ař", 4683);
-    freq.put("uch", 2624);
-    freq.put(" že", 3745);
-    freq.put("lší", 1771);
-    freq.put("zit", 1344);
-    freq.put("Ja", 4326);
-    freq.put("cně", 1190);
-    freq.put("zna", 13601);
-    freq.put("sel", 1714);
-    freq.put("tno", 1779);
-    freq.put("oo", 2643);
-    freq.put("on", 44356);
-    freq.put("om", 27583);
-    freq.put("ol", 47354);
-    freq.put("ok", 26216);
-    freq.put("oj", 17875);
-    freq.put("oi", 2071);
-    freq.put("oh", 13386);
-    freq.put("og", 10937);
-    freq.put("of", 6319);
-    freq.put("oe", 1227);
-    freq.put("od", 69409);
-    freq.put("ač", 14478);
-    freq.put("ob", 47136);
-    freq.put("oa", 1996);
-    freq.put("oz", 27164);
-    freq.put("ox", 1211);
-    freq.put("ow", 2081);
-    freq.put("ov", 112940);
-    freq.put("ou", 73196);
-    freq.put("ot", 27460);
-    freq.put("os", 56160);
-    freq.put("or", 53147);
-    freq.put("op", 21879);
-    freq.put("áš", 2438);
-    freq.put("Ni", 1492);
-    freq.put("bje", 2435);
-    freq.put("zpr", 1480);
-    freq.put("No", 2609);
-    freq.put("Na", 4223);
-    freq.put("Ne", 3393);
-    freq.put("ití", 1214);
-    freq.put("áž", 2247);
-    freq.put("log", 5594);
-    freq.put("her", 2617);
-    freq.put("lok", 1275);
-    freq.put("loh", 1236);
-    freq.put("lon", 1573);
-    freq.put("lom", 1730);
-    freq.put("los", 3409);
-    freq.put("amě", 1185);
-    freq.put("в", 1172);
-    freq.put("lov", 17182);
-    freq.put("lou", 5777);
-    freq.put("ář", 4474);
-    freq.put("hem", 3497);
-    freq.put("mož", 1630);
-    freq.put(" sv", 11047);
-    freq.put("J", 20213);
-    freq.put("dvo", 3395);
-    freq.put("sér", 1644);
-    freq.put("itá", 1643);
-    freq.put("lo ", 9285);
-    freq.put("áč", 1328);
-    freq.put("as ", 2058);
-    freq.put("he ", 2188);
-    freq.put("ohl", 1659);
-    freq.put("oč", 8726);
-    freq.put("ab", 9081);
-    freq.put("ae", 4121);
-    freq.put("ad", 38615);
-    freq.put("ag", 6085);
-    freq.put("af", 3809);
-    freq.put("ai", 4202);
-    freq.put("ah", 10143);
-    freq.put("ak", 35472);
-    freq.put("aj", 15958);
-    freq.put("am", 28407);
-    freq.put("al", 52089);
-    freq.put("an", 76603);
-    freq.put("ap", 12841);
-    freq.put("as", 30808);
-    freq.put("ar", 43773);
-    freq.put("au", 9271);
-    freq.put("at", 54683);
-    freq.put("av", 34552);
-    freq.put("ay", 1595);
-    freq.put("ax", 1424);
-    freq.put("az", 14206);
-    freq.put("žen", 7485);
-    freq.put("býv", 3044);
-    freq.put("být", 1189);
-    freq.put("čin", 2747);
-    freq.put("žel", 1619);
-    freq.put("Au", 1413);
-    freq.put("igi", 1176);
-    freq.put("a ", 217661);
-    freq.put("vé ", 13437);
-    freq.put("oř", 9947);
-    freq.put(" zk", 2698);
-    freq.put("čov", 3019);
-    freq.put("oš", 2365);
-    freq.put("ož", 13354);
-    freq.put("u", 342714);
-    freq.put("smu", 2054);
-    freq.put("alo", 7874);
-    freq.put("all", 1742);
-    freq.put("sch", 2059);
-    freq.put("zí", 7043);
-    freq.put("ale", 6714);
-    freq.put("alb", 1604);
-    freq.put("ala", 3987);
-    freq.put("eda", 1810);
-    freq.put(" dě", 2397);
-    freq.put("ží", 12326);
-    freq.put("aly", 1179);
-    freq.put("žá", 1346);
-    freq.put("běh", 2126);
-    freq.put("als", 1998);
-    freq.put("árn", 3371);
-    freq.put("gr", 6781);
-    freq.put("hy ", 3116);
-    freq.put("ním", 14655);
-    freq.put("tz", 1768);
-    freq.put("ty", 13294);
-    freq.put("tv", 17643);
-    freq.put("tt", 3192);
-    freq.put("tu", 25069);
-    freq.put("tr", 38784);
-    freq.put("ts", 8087);
-    freq.put("tn", 18581);
-    freq.put("to", 60100);
-    freq.put("tl", 6035);
-    freq.put("tm", 1809);
-    freq.put("tk", 8430);
-    freq.put("th", 6153);
-    freq.put("ti", 58581);
-    freq.put("и", 1928);
-    freq.put("te", 85042);
-    freq.put("tb", 1873);
-    freq.put("tc", 1257);
-    freq.put("ta", 58747);
-    freq.put("edi", 5930);
-    freq.put("ium", 1381);
-    freq.put("ři ", 4648);
-    freq.put("áře", 1219);
-    freq.put("edn", 17139);
-    freq.put("al ", 7387);
-    freq.put("zá", 15336);
-    freq.put("bě ", 2724);
-    freq.put("gy", 1560);
-    freq.put(" dř", 1310);
-    freq.put("yso", 1389);
-    freq.put("edm", 1145);
-    freq.put("ert", 1878);
-    freq.put(" Ni", 1486);
-    freq.put("and", 5394);
-    freq.put(" zv", 2770);
-    freq.put(" No", 2595);
-    freq.put("zý", 1387);
-    freq.put(" Na", 4212);
-    freq.put("ků ", 4430);
-    freq.put("teč", 1644);
-    freq.put(" Ne", 3375);
-    freq.put("ge", 8367);
-    freq.put(" zp", 3908);
-    freq.put("př ", 1535);
-    freq.put("íře", 1323);
-    freq.put("t ", 42900);
-    freq.put("odí", 1145);
-    freq.put("ane", 2662);
-    freq.put("tej", 1972);
-    freq.put("ěto", 2030);
-    freq.put("tel", 12611);
-    freq.put("ga", 7746);
-    freq.put("ten", 3204);
-    freq.put("alé", 1624);
-    freq.put("žs", 2453);
-    freq.put("ted", 1925);
-    freq.put("ěta", 1179);
-    freq.put("alá", 1216);
-    freq.put("go", 4942);
-    freq.put("žk", 1495);
-    freq.put("mní", 1927);
-    freq.put("žn", 8213);
-    freq.put("žo", 1725);
-    freq.put("ter", 37331);
-    freq.put("žd", 1803);
-    freq.put("že", 16587);
-    freq.put("tev", 1290);
-    freq.put("tý", 6426);
-    freq.put("abe", 1141);
-    freq.put("ose", 1306);
-    freq.put("eží", 3799);
-    freq.put("tí", 14980);
-    freq.put("lle", 1365);
-    freq.put("té", 13825);
-    freq.put("tá", 14232);
-    freq.put(" ru", 2498);
-    freq.put("čně", 1729);
-    freq.put("lko", 2458);
-    freq.put("te ", 2317);
-    freq.put("K", 19386);
-    freq.put(" ry", 1961);
-    freq.put(" re", 10229);
-    freq.put("apř", 2101);
-    freq.put(" ra", 2856);
-    freq.put("pub", 3056);
-    freq.put("ž ", 17370);
-    freq.put(" ro", 31079);
-    freq.put("š", 60015);
-    freq.put("su ", 2847);
-    freq.put(" Ná", 1395);
-    freq.put("asa", 1162);
-    freq.put("ůž", 1940);
-    freq.put("yst", 4390);
-    freq.put("vic", 2325);
-    freq.put("nýc", 8901);
-    freq.put("vid", 2543);
-    freq.put("tř", 15220);
-    freq.put("běž", 1211);
-    freq.put("ným", 4766);
-    freq.put("vin", 6325);
-    freq.put("vil", 1507);
-    freq.put("alš", 1631);
-    freq.put("vis", 2095);
-    freq.put(" Ně", 1337);
-    freq.put("vc", 2056);
-    freq.put("kýc", 10186);
-    freq.put("ůso", 2743);
-    freq.put("viz", 1532);
-    freq.put("kým", 4999);
-    freq.put("S ", 3112);
-    freq.put("kř", 3224);
-    freq.put("avy", 1957);
-    freq.put("čný", 1279);
-    freq.put("tů", 3818);
-    freq.put("anc", 5148);
-    freq.put("ční", 7738);
-    freq.put("avu", 1943);
-    freq.put("de ", 6350);
-    freq.put("ivn", 3856);
-    freq.put("tš", 4235);
-    freq.put("vi ", 1398);
-    freq.put("tě", 14576);
-    freq.put("ný ", 15629);
-    freq.put("dis", 2494);
-    freq.put("Sp", 2686);
-    freq.put("Sv", 1697);
-    freq.put("Su", 1422);
-    freq.put("St", 6172);
-    freq.put("Sk", 1212);
-    freq.put("Si", 1856);
-    freq.put("So", 3053);
-    freq.put("Sl", 2584);
-    freq.put("Sc", 1219);
-    freq.put("Sa", 3516);
-    freq.put("avs", 1166);
-    freq.put("Se", 3431);
-    freq.put("á", 236804);
-    freq.put(" dn", 2609);
-    freq.put(" dl", 1361);
-    freq.put("kla", 8470);
-    freq.put(" di", 4948);
-    freq.put(" de", 7028);
-    freq.put("klo", 1299);
-    freq.put("avn", 5290);
-    freq.put(" da", 4034);
-    freq.put("klu", 1477);
-    freq.put("avo", 2741);
-    freq.put("del", 3171);
-    freq.put("dem", 3354);
-    freq.put("den", 6683);
-    freq.put("v", 451146);
-    freq.put(" dv", 4297);
-    freq.put(" du", 1944);
-    freq.put("dec", 1456);
-    freq.put(" dr", 8732);
-    freq.put("avi", 3981);
-    freq.put("mž ", 1199);
-    freq.put("ětš", 3901);
-    freq.put("áze", 5164);
-    freq.put("f ", 2962);
-    freq.put("ise", 1488);
-    freq.put("ave", 3850);
-    freq.put("ist", 15778);
-    freq.put("ucí", 1196);
-    freq.put("isk", 2395);
-    freq.put("ryc", 1171);
-    freq.put("ů ", 27572);
-    freq.put("lam", 1157);
-    freq.put("čno", 3388);
-    freq.put("atr", 1563);
-    freq.put("fr", 4738);
-    freq.put("ft", 1555);
-    freq.put("fu", 2046);
-    freq.put("zýv", 1380);
-    freq.put("fy", 1326);
-    freq.put("rče", 1253);
-    freq.put("fa", 3278);
-    freq.put("fe", 4502);
-    freq.put("fi", 13067);
-    freq.put(" rů", 1942);
-    freq.put("fo", 9138);
-    freq.put("a", 764805);
-    freq.put("ům", 2630);
-    freq.put("ůl", 1327);
-    freq.put("klá", 2870);
-    freq.put(" dá", 1402);
-    freq.put("ne ", 3607);
-    freq.put("egi", 1835);
-    freq.put("ůz", 2205);
-    freq.put("ův", 4803);
-    freq.put("ůs", 3997);
-    freq.put("ito", 2582);
-    freq.put("pu ", 1292);
-    freq.put("ká ", 15983);
-    freq.put("uh ", 1827);
-    freq.put("ce ", 37517);
-    freq.put("y ", 96008);
-    freq.put("ite", 5726);
-    freq.put("ita", 3897);
-    freq.put("ok ", 1263);
-    freq.put(" sí", 2537);
-    freq.put("itu", 2506);
-    freq.put("its", 1828);
-    freq.put("stě", 3272);
-    freq.put(" Ob", 1764);
-    freq.put("nto", 3206);
-    freq.put(" Or", 1230);
-    freq.put(" Os", 1166);
-    freq.put("yh", 1425);
-    freq.put("yk", 5878);
-    freq.put("okr", 4661);
-    freq.put("ym", 4086);
-    freq.put("yl", 23502);
-    freq.put("yn", 5498);
-    freq.put("cen", 5710);
-    freq.put("yc", 3822);
-    freq.put("yb", 3071);
-    freq.put("L", 15978);
-    freq.put("it ", 3805);
-    freq.put("oka", 1642);
-    freq.put("yz", 2224);
-    freq.put("ces", 2551);
-    freq.put("yp", 5097);
-    freq.put("ys", 11111);
-    freq.put("yr", 3273);
-    freq.put("yu", 1291);
-    freq.put("yt", 7847);
-    freq.put("oko", 4002);
-    freq.put("yv", 3371);
-    freq.put("lů ", 2152);
-    freq.put("tro", 11520);
-    freq.put("pam", 1204);
-    freq.put("ifi", 1720);
-    freq.put(" sy", 4875);
-    freq.put("ité", 1984);
-    freq.put(" sr", 1447);
-    freq.put(" sp", 14637);
-    freq.put("č", 98194);
-    freq.put(" st", 28273);
-    freq.put(" su", 1768);
-    freq.put(" sk", 7519);
-    freq.put(" si", 3884);
-    freq.put(" sn", 1263);
-    freq.put(" so", 12794);
-    freq.put(" sl", 8492);
-    freq.put(" sm", 2713);
-    freq.put(" sc", 1843);
-    freq.put(" sa", 3585);
-    freq.put("prv", 4970);
-    freq.put(" se", 38618);
-    freq.put("po ", 3633);
-    freq.put("iza", 2404);
-    freq.put("liš", 1271);
-    freq.put("at ", 6248);
-    freq.put("izo", 2349);
-    freq.put("ož ", 2063);
-    freq.put("san", 1523);
-    freq.put("vně", 2710);
-    freq.put("čí ", 1292);
-    freq.put("ký ", 20031);
-    freq.put("ast", 13117);
-    freq.put("lič", 1203);
-    freq.put(" Al", 3081);
-    freq.put(" Am", 1697);
-    freq.put(" An", 3275);
-    freq.put("uhé", 1788);
-    freq.put(" Ar", 2370);
-    freq.put(" As", 1420);
-    freq.put(" Au", 1408);
-    freq.put("ase", 1167);
-    freq.put("ask", 1257);
-    freq.put("kom", 4572);
-    freq.put(" s ", 10437);
-    freq.put("aso", 1587);
-    freq.put("asn", 2528);
-    freq.put("omp", 1767);
-    freq.put("ík ", 3909);
-    freq.put("těž", 1441);
-    freq.put("čít", 2030);
-    freq.put("ků", 5193);
-    freq.put("čís", 1405);
-    freq.put("oži", 1506);
-    freq.put("ožn", 1513);
-    freq.put("w", 9425);
-    freq.put("Ev", 1845);
-    freq.put("ože", 4937);
-    freq.put("le ", 15329);
-    freq.put("Fra", 1982);
-    freq.put("ody", 1671);
-    freq.put("Č", 7702);
-    freq.put("ude", 2608);
-    freq.put("tým", 1477);
-    freq.put(" el", 2125);
-    freq.put(" en", 1401);
-    freq.put("jev", 2523);
-    freq.put("kol", 7494);
-    freq.put("kon", 10573);
-    freq.put("še ", 1844);
-    freq.put(" ex", 2023);
-    freq.put("jed", 12881);
-    freq.put("jej", 4795);
-    freq.put("jek", 1841);
-    freq.put("jeh", 3911);
-    freq.put("kor", 1310);
-    freq.put("jen", 5483);
-    freq.put("jem", 2659);
-    freq.put("omu", 2175);
-    freq.put("yš", 3131);
-    freq.put("vní", 15429);
-    freq.put("odu", 5226);
-    freq.put("nci", 5166);
-    freq.put("Slo", 1556);
-    freq.put("odv", 1246);
-    freq.put("kop", 1321);
-    freq.put("kos", 4285);
-    freq.put("ste", 9093);
-    freq.put("ká", 21030);
-    freq.put("b", 175631);
-    freq.put("sta", 23517);
-    freq.put("stl", 1904);
-    freq.put("kou", 9659);
-    freq.put("ké", 50289);
-    freq.put("sto", 14050);
-    freq.put("sti", 18925);
-    freq.put("yř", 1210);
-    freq.put("stu", 6506);
-    freq.put("šec", 1390);
-    freq.put("str", 16919);
-    freq.put("sts", 1291);
-    freq.put("kov", 11417);
-    freq.put("sty", 1890);
-    freq.put("ký", 35391);
-    freq.put("šen", 2332);
-    freq.put("ka ", 20272);
-    freq.put("lán", 1802);
-    freq.put("zyk", 1998);
-    freq.put("zt", 1618);
-    freq.put("oda", 2197);
-    freq.put("lid", 2928);
-    freq.put("lie", 1691);
-    freq.put("k ", 33844);
-    freq.put("lia", 1350);
-    freq.put("lic", 7730);
-    freq.put("íků", 1200);
-    freq.put("lin", 6175);
-    freq.put("ell", 1825);
-    freq.put("ode", 4045);
-    freq.put("lit", 5959);
-    freq.put("lád", 4346);
-    freq.put("liv", 3315);
-    freq.put("tě ", 5527);
-    freq.put("lis", 4420);
-    freq.put("liz", 1555);
-    freq.put("kac", 1503);
-    freq.put("vna", 1206);
-    freq.put("vno", 1207);
-    freq.put("jso", 6864);
-    freq.put("M", 26754);
-    freq.put("kan", 2047);
-    freq.put("kam", 1509);
-    freq.put("jsk", 2959);
-    freq.put("kar", 1707);
-    freq.put("kap", 1616);
-    freq.put("kat", 3393);
-    freq.put("kaz", 1148);
-    freq.put("The", 1321);
-    freq.put("kc", 3108);
-    freq.put("ka", 39832);
-    freq.put("atk", 1885);
-    freq.put("néh", 5048);
-    freq.put("stá", 6877);
-    freq.put("ke", 11246);
-    freq.put("kd", 5064);
-    freq.put("stí", 6180);
-    freq.put("ki", 3600);
-    freq.put("ko", 71233);
-    freq.put("kn", 3161);
-    freq.put("km", 3641);
-    freq.put("kl", 18948);
-    freq.put("kr", 19435);
-    freq.put("ext", 1409);
-    freq.put("kv", 3857);
-    freq.put("ku", 33102);
-    freq.put("kt", 39344);
-    freq.put("těn", 1733);
-    freq.put("ky", 30906);
-    freq.put("těj", 1439);
-    freq.put("čá", 8501);
-    freq.put("čí", 6991);
-    freq.put("rto", 1577);
-    freq.put("př", 32632);
-    freq.put("rti", 1692);
-    freq.put("rtu", 1152);
-    freq.put("oje", 7276);
-    freq.put("ojo", 1142);
-    freq.put("ojm", 1998);
-    freq.put("mí ", 3982);
-    freq.put("oji", 1192);
-    freq.put(" tě", 2639);
-    freq.put("Ju", 1244);
-    freq.put("ier", 1153);
-    freq.put("nce", 5874);
-    freq.put("Jo", 1796);
-    freq.put("Ji", 2201);
-    freq.put("am ", 2742);
-    freq.put("Je", 8576);
-    freq.put("pů", 6675);
-    freq.put("Če", 5023);
-    freq.put("rt ", 1561);
-    freq.put("pě", 4347);
-    freq.put("mís", 2771);
-    freq.put("mír", 1517);
-    freq.put("iká", 1715);
-    freq.put("mín", 2069);
-    freq.put("oj ", 1676);
-    freq.put("ré ", 7668);
-    freq.put(" tř", 3845);
-    freq.put("ko ", 14736);
-    freq.put("x", 11788);
-    freq.put("stn", 5308);
-    freq.put(" Be", 3213);
-    freq.put("sev", 4239);
-    freq.put("ars", 2390);
-    freq.put("ča", 7771);
-    freq.put("ser", 1773);
-    freq.put("čl", 2919);
-    freq.put(" Bo", 2981);
-    freq.put("čn", 16418);
-    freq.put(" Bi", 1350);
-    freq.put("čk", 4324);
-    freq.put(" Bu", 2094);
-    freq.put("čt", 3695);
-    freq.put("arc", 2227);
-    freq.put("ard", 3288);
-    freq.put("are", 2437);
-    freq.put(" Br", 3935);
-    freq.put("ari", 4139);
-    freq.put("sem", 1612);
-    freq.put("ápa", 4357);
-    freq.put(" By", 2085);
-    freq.put("arm", 1290);
-    freq.put("arn", 1320);
-    freq.put("aro", 4126);
-    freq.put("mo ", 1420);
-    freq.put("je ", 83650);
-    freq.put("rod", 11155);
-    freq.put("vlá", 2701);
-    freq.put("kto", 1589);
-    freq.put("use", 1494);
-    freq.put("ozl", 1181);
-    freq.put("zkr", 2046);
-    freq.put("č ", 2311);
-    freq.put("iku", 2133);
-    freq.put("ikt", 1203);
-    freq.put("iky", 3097);
-    freq.put("ar ", 2605);
-    freq.put("ika", 5332);
-    freq.put("ví ", 7249);
-    freq.put("se ", 32266);
-    freq.put("iko", 2695);
-    freq.put("ikl", 2333);
-    freq.put(" Pr", 7523);
-    freq.put("c", 304749);
-    freq.put(" Pa", 5464);
-    freq.put("vyš", 2053);
-    freq.put("nt ", 3215);
-    freq.put(" Pe", 2516);
-    freq.put(" Pi", 1231);
-    freq.put(" Po", 7138);
-    freq.put(" Pl", 1502);
-    freq.put("ým ", 11479);
-    freq.put("lez", 2008);
-    freq.put("ga ", 1144);
-    freq.put("pr", 57083);
-    freq.put("ps", 5342);
-    freq.put("ty ", 7625);
-    freq.put("pt", 3558);
-    freq.put("pu", 7668);
-    freq.put("py", 1779);
-    freq.put("pc", 1302);
-    freq.put("pa", 25836);
-    freq.put("pe", 15026);
-    freq.put("ph", 1918);
-    freq.put("pi", 14831);
-    freq.put("pn", 3046);
-    freq.put("po", 81579);
-    freq.put("pl", 12514);
-    freq.put(" ty", 2521);
-    freq.put(" tv", 3467);
-    freq.put(" tu", 1727);
-    freq.put(" tr", 6193);
-    freq.put("N", 16476);
-    freq.put(" to", 5957);
-    freq.put("gan", 3061);
-    freq.put(" ti", 1444);
-    freq.put(" th", 1725);
-    freq.put(" te", 10751);
-    freq.put("sko", 9797);
-    freq.put(" ta", 9553);
-    freq.put("ývá", 1959);
-    freq.put("roz", 10708);
-    freq.put("lé ", 2839);
-    freq.put("du ", 8252);
-    freq.put("odě", 2068);
-    freq.put("p ", 4419);
-    freq.put("fun", 1501);
-    freq.put("vod", 8774);
-    freq.put("aří", 2027);
-    freq.put("sy ", 1657);
-    freq.put("psk", 1538);
-    freq.put("vol", 2921);
-    freq.put("rit", 3911);
-    freq.put("ris", 3258);
-    freq.put("voj", 3429);
-    freq.put("rin", 2410);
-    freq.put("arš", 1293);
-    freq.put("vov", 1657);
-    freq.put("rik", 1662);
-    freq.put("vor", 1476);
-    freq.put("rig", 1476);
-    freq.put("rid", 1291);
-    freq.put("rie", 3806);
-    freq.put("ric", 8579);
-    freq.put("kán", 1145);
-    freq.put("ria", 2007);
-    freq.put("tvo", 4249);
-    freq.put("amn", 1598);
-    freq.put("mos", 2024);
-    freq.put("vy ", 4952);
-    freq.put("pá", 2981);
-    freq.put("dru", 7228);
-    freq.put("ac", 26092);
-    freq.put("pí", 3163);
-    freq.put(" tý", 1167);
-    freq.put("vo ", 2147);
-    freq.put("tis", 2205);
-    freq.put(" Př", 2056);
-    freq.put("syn", 1327);
-    freq.put("sys", 2806);
-    freq.put("lig", 1241);
-    freq.put("mou", 1328);
-    freq.put(" té", 5230);
-    freq.put("vyr", 1739);
-    freq.put("vys", 3366);
-    freq.put(" fr", 2890);
-    freq.put(" fu", 1558);
-    freq.put("vyt", 1966);
-    freq.put("kni", 1628);
-    freq.put("kle", 2073);
-    freq.put(" fa", 1772);
-    freq.put("vyd", 1992);
-    freq.put(" fi", 6203);
-    freq.put("vyk", 2012);
-    freq.put("do ", 8212);
-    freq.put(" fo", 4715);
-    freq.put("T", 19206);
-    freq.put(" už", 1794);
-    freq.put("čle", 1629);
-    freq.put("O ", 1633);
-    freq.put("uč", 6510);
-    freq.put("lik", 5494);
-    freq.put("tin", 7629);
-    freq.put("nác", 1291);
-    freq.put("ří", 28277);
-    freq.put("řá", 2554);
-    freq.put("nál", 3115);
-    freq.put("nám", 4897);
-    freq.put("nár", 3570);
-    freq.put("о", 2213);
-    freq.put("náv", 1475);
-    freq.put("náz", 3803);
-    freq.put("rgi", 1143);
-    freq.put("mod", 2374);
-    freq.put("bil", 2518);
-    freq.put("bá", 2585);
-    freq.put("bí", 5183);
-    freq.put("oha", 1909);
-    freq.put("Ob", 1767);
-    freq.put("bý", 4615);
-    freq.put("bit", 1438);
-    freq.put("Os", 1168);
-    freq.put("Or", 1234);
-    freq.put("ná ", 14630);
-    freq.put("už", 12787);
-    freq.put("d", 331353);
-    freq.put("uš", 4102);
-    freq.put("apo", 2941);
-    freq.put("b ", 5436);
-    freq.put("ru ", 6692);
-    freq.put("říž", 1421);
-    freq.put("ého", 25401);
-    freq.put("on ", 7329);
-    freq.put("smě", 1301);
-    freq.put("tuj", 2396);
-    freq.put("ři", 14008);
-    freq.put("ra ", 9350);
-    freq.put("řn", 1352);
-    freq.put("řa", 3989);
-    freq.put("ře", 44896);
-    freq.put("per", 4148);
-    freq.put("pen", 1946);
-    freq.put("yl ", 10326);
-    freq.put("řs", 2960);
-    freq.put("ape", 1349);
-    freq.put("pec", 1647);
-    freq.put("bd", 1995);
-    freq.put("be", 13547);
-    freq.put("ruh", 6961);
-    freq.put("ba", 13431);
-    freq.put("bc", 3044);
-    freq.put("bl", 11541);
-    freq.put("bn", 7303);
-    freq.put("bo", 26250);
-    freq.put("bi", 8921);
-    freq.put("bj", 2483);
-    freq.put("nač", 7033);
-    freq.put("bu", 11101);
-    freq.put("bv", 2259);
-    freq.put("vni", 1709);
-    freq.put("br", 9964);
-    freq.put("bs", 4261);
-    freq.put("rus", 3302);
-    freq.put("kal", 2034);
-    freq.put("by", 26507);
-    freq.put("ť", 3583);
-    freq.put("ř ", 4182);
-    freq.put("yly", 1314);
-    freq.put("ido", 1643);
-    freq.put("idl", 1498);
-    freq.put("yla", 6390);
-    freq.put("ylo", 2929);
-    freq.put("ide", 3474);
-    freq.put("ida", 1748);
-    freq.put("nsk", 18177);
-    freq.put("jn", 5134);
-    freq.put("chl", 1932);
-    freq.put(" uv", 1309);
-    freq.put(" ur", 2603);
-    freq.put(" us", 1203);
-    freq.put(" um", 2673);
-    freq.put(" un", 1389);
-    freq.put("nst", 3785);
-    freq.put("ut ", 1210);
-    freq.put("ci ", 10328);
-    freq.put("ust", 3573);
-    freq.put("u ", 121101);
-    freq.put(" Ch", 3924);
-    freq.put(" Co", 3154);
-    freq.put("lka", 1525);
-    freq.put(" Ca", 2514);
-    freq.put(" Ce", 1267);
-    freq.put("urn", 1235);
-    freq.put("chy", 1469);
-    freq.put("li ", 6590);
-    freq.put(" u ", 3351);
-    freq.put("cia", 1607);
-    freq.put("cie", 2249);
-    freq.put("uz", 6709);
-    freq.put("exi", 1437);
-    freq.put("ut", 14862);
-    freq.put("uv", 3489);
-    freq.put("up", 13452);
-    freq.put("us", 20839);
-    freq.put("ur", 17880);
-    freq.put("um", 13455);
-    freq.put("ul", 12653);
-    freq.put("my ", 2400);
-    freq.put("un", 12543);
-    freq.put("ui", 1687);
-    freq.put("uh", 10244);
-    freq.put("uk", 7056);
-    freq.put("uj", 20016);
-    freq.put("ue", 2392);
-    freq.put("ud", 12808);
-    freq.put("ug", 1937);
-    freq.put("z", 213126);
-    freq.put("ua", 2086);
-    freq.put("uc", 6671);
-    freq.put("ub", 11697);
-    freq.put("říp", 1616);
-    freq.put("řís", 1609);
-    freq.put("řív", 1184);
-    freq.put("Tu", 1161);
-    freq.put("Tr", 2534);
-    freq.put("ď", 2560);
-    freq.put("sté", 3269);
-    freq.put("To", 2275);
-    freq.put("říc", 1240);
-    freq.put("říd", 3286);
-    freq.put("Th", 2120);
-    freq.put("Ti", 1361);
-    freq.put("řík", 1716);
-    freq.put("Te", 3239);
-    freq.put("řím", 2008);
-    freq.put("Ta", 2435);
-    freq.put("A ", 3554);
-    freq.put("Mar", 2760);
-    freq.put(" gr", 1666);
-    freq.put("nad", 3749);
-    freq.put("nak", 1732);
-    freq.put("nan", 1425);
-    freq.put("měn", 2340);
-    freq.put("nal", 3376);
-    freq.put("nam", 6213);
-    freq.put("nar", 1416);
-    freq.put("nas", 1417);
-    freq.put("nap", 3429);
-    freq.put(" ge", 1763);
-    freq.put("nav", 1415);
-    freq.put("nat", 3143);
-    freq.put("gra", 4857);
-    freq.put("naz", 1632);
-    freq.put("že ", 5417);
-    freq.put("bě", 8276);
-    freq.put("ří ", 6262);
-    freq.put("ruž", 1312);
-    freq.put("neš", 1391);
-    freq.put("těl", 1552);
-    freq.put("vzn", 2563);
-    freq.put("svo", 1261);
-    freq.put("ciá", 2350);
-    freq.put("e", 908926);
-    freq.put("age", 1161);
-    freq.put("Am", 1706);
-    freq.put("Al", 3092);
-    freq.put("An", 3282);
-    freq.put("ahu", 2375);
-    freq.put("lu ", 4880);
-    freq.put("As", 1426);
-    freq.put("Ar", 2392);
-    freq.put("ško", 1848);
-    freq.put("lý ", 2387);
-    freq.put("ú", 13969);
-    freq.put("bř", 2940);
-    freq.put(" b", 47368);
-    freq.put(" c", 20381);
-    freq.put("gu", 3569);
-    freq.put(" a", 90604);
-    freq.put(" f", 19925);
-    freq.put(" g", 5629);
-    freq.put(" d", 65217);
-    freq.put(" e", 11656);
-    freq.put(" j", 127655);
-    freq.put(" k", 89036);
-    freq.put(" h", 32176);
-    freq.put(" i", 15946);
-    freq.put(" n", 107131);
-    freq.put(" o", 79037);
-    freq.put(" l", 32594);
-    freq.put(" m", 62986);
-    freq.put(" r", 52674);
-    freq.put(" s", 159790);
-    freq.put(" p", 164476);
-    freq.put(" v", 146123);
-    freq.put(" w", 1272);
-    freq.put(" t", 59923);
-    freq.put(" u", 20743);
-    freq.put(" z", 85758);
-    freq.put("gn", 2020);
-    freq.put("gl", 5355);
-    freq.put("gi", 10280);
-    freq.put("gh", 1578);
-    freq.put(" B", 22644);
-    freq.put(" C", 16189);
-    freq.put(" A", 22443);
-    freq.put(" F", 10496);
-    freq.put(" G", 9381);
-    freq.put(" D", 14695);
-    freq.put(" E", 9809);
-    freq.put(" J", 20168);
-    freq.put(" K", 19243);
-    freq.put(" H", 14014);
-    freq.put(" I", 10456);
-    freq.put(" N", 16390);
-    freq.put(" O", 10658);
-    freq.put(" L", 15894);
-    freq.put(" M", 26594);
-    freq.put(" R", 13762);
-    freq.put(" S", 35443);
-    freq.put(" P", 31807);
-    freq.put(" V", 19363);
-    freq.put(" W", 5251);
-    freq.put(" T", 19078);
-    freq.put(" U", 5519);
-    freq.put(" Z", 7643);
-    freq.put("lky", 2194);
-    freq.put("Nov", 1143);
-    freq.put(" Y", 1252);
-    freq.put("vot", 1529);
-    freq.put("kce", 1649);
-    freq.put("ch ", 62063);
-    freq.put("ed ", 3026);
-    freq.put(" mů", 1354);
-    freq.put("ozá", 1627);
-    freq.put("vla", 2806);
-    freq.put("P", 31985);
-    freq.put("g ", 5595);
-    freq.put("tri", 3505);
-    freq.put("evi", 2322);
-    freq.put("evn", 2175);
-    freq.put("tra", 10732);
-    freq.put("ské", 26627);
-    freq.put("us ", 7285);
-    freq.put("tre", 1691);
-    freq.put("eve", 6187);
-    freq.put("Spo", 1540);
-    freq.put("ry ", 6263);
-    freq.put("tru", 3242);
-    freq.put("zl", 2273);
-    freq.put("zm", 2157);
-    freq.put("zn", 27029);
-    freq.put("zo", 8118);
-    freq.put("zh", 2175);
-    freq.put("zi", 13719);
-    freq.put("zk", 6049);
-    freq.put("zd", 9382);
-    freq.put("ze", 35435);
-    freq.put("odr", 1258);
-    freq.put("ods", 1272);
-    freq.put("za", 24684);
-    freq.put("zb", 2038);
-    freq.put("edí", 1331);
-    freq.put("odi", 2898);
-    freq.put("odl", 3777);
-    freq.put("zy", 3702);
-    freq.put("odn", 14263);
-    freq.put("odo", 4607);
-    freq.put(" ú", 11862);
-    freq.put("zu", 4066);
-    freq.put("zv", 6153);
-    freq.put("zp", 5782);
-    freq.put("ště", 3036);
-    freq.put("zr", 1709);
-    freq.put("zs", 3415);
-    freq.put(" vš", 2884);
-    freq.put("ižn", 3600);
-    freq.put("lké", 1191);
-    freq.put("bdo", 1660);
-    freq.put("lký", 1221);
-    freq.put("rd ", 1372);
-    freq.put("ozd", 2636);
-    freq.put("oze", 3842);
-    freq.put("led", 7715);
-    freq.put("čka", 1735);
-    freq.put("ozn", 6156);
-    freq.put("ozo", 1460);
-    freq.put("ěř", 2184);
-    freq.put("lek", 3907);
-    freq.put("z ", 24530);
-    freq.put("lem", 5693);
-    freq.put("len", 8028);
-    freq.put("ozi", 1341);
-    freq.put("ler", 1221);
-    freq.put("les", 3807);
-    freq.put("let", 9902);
-    freq.put("lev", 1768);
-    freq.put("od ", 15166);
-    freq.put(" vě", 4981);
-    freq.put("em ", 31739);
-    freq.put("ctv", 1837);
-    freq.put("zac", 2566);
-    freq.put("ží ", 4449);
-    freq.put("trá", 2691);
-    freq.put("iž ", 1205);
-    freq.put("ěž", 3582);
-    freq.put("tač", 2083);
-    freq.put("rdi", 1273);
-    freq.put(" Do", 2665);
-    freq.put(" Š", 3567);
-    freq.put(" š", 7349);
-    freq.put(" Di", 1684);
-    freq.put("oce", 9242);
-    freq.put(" De", 2001);
-    freq.put(" Da", 2135);
-    freq.put("ávn", 2176);
-    freq.put("ávi", 1211);
-    freq.put("zde", 1205);
-    freq.put("Vel", 1392);
-    freq.put(" ž", 9995);
-    freq.put("áva", 2824);
-    freq.put(" Ž", 1647);
-    freq.put(" vá", 3060);
-    freq.put("cha", 4867);
-    freq.put("Fr", 2934);
-    freq.put("che", 3452);
-    freq.put("chi", 2422);
-    freq.put("tas", 1264);
-    freq.put(" ví", 2124);
-    freq.put("chn", 2940);
-    freq.put("cho", 11778);
-    freq.put("chr", 1838);
-    freq.put("hrn", 1403);
-    freq.put("cht", 1572);
-    freq.put("chu", 1777);
-    freq.put("ádá", 1824);
-    freq.put("zin", 1828);
-    freq.put("Fi", 1671);
-    freq.put(" Ř", 1403);
-    freq.put(" ř", 11127);
-    freq.put(" vý", 12688);
-    freq.put("spr", 1930);
-    freq.put("Fo", 1409);
-    freq.put("ien", 1656);
-    freq.put("íze", 1985);
-    freq.put(" Ru", 1883);
-    freq.put("ace", 7532);
-    freq.put("trů", 1395);
-    freq.put("f", 46799);
-    freq.put("evš", 1525);
-    freq.put("km ", 2378);
-    freq.put(" Č", 7692);
-    freq.put(" č", 34240);
-    freq.put(" Re", 2567);
-    freq.put(" Ra", 2495);
-    freq.put("zi ", 5006);
-    freq.put(" Ro", 3640);
-    freq.put("aci", 3453);
-    freq.put("tat", 3631);
-    freq.put("tav", 8149);
-    freq.put("ach", 6559);
-    freq.put("tar", 5738);
-    freq.put("р", 1443);
-    freq.put("ičn", 2337);
-    freq.put("oc", 21110);
-    freq.put("zš", 1160);
-    freq.put("očn", 1259);
-    freq.put("tad", 1311);
-    freq.put("záv", 1903);
-    freq.put("his", 2398);
-    freq.put("eno", 6243);
-    freq.put("tac", 1310);
-    freq.put("tal", 4758);
-    freq.put("tan", 5175);
-    freq.put("ly ", 6413);
-    freq.put("ává", 2557);
-    freq.put("tak", 7734);
-    freq.put(" va", 1643);
-    freq.put("chá", 6943);
-    freq.put(" ve", 20353);
-    freq.put("afi", 1777);
-    freq.put(" vi", 2111);
-    freq.put("ném", 2468);
-    freq.put(" vl", 5324);
-    freq.put(" vo", 5885);
-    freq.put("spe", 2260);
-    freq.put("ě ", 45418);
-    freq.put("záp", 4090);
-    freq.put("áda", 1737);
-    freq.put(" vy", 18421);
-    freq.put(" vz", 6214);
-    freq.put("sin", 1775);
-    freq.put("kro", 2033);
-    freq.put("iál", 4186);
-    freq.put("ta ", 12315);
-    freq.put("lež", 2967);
-    freq.put("ěs", 10757);
-    freq.put("ěr", 3724);
-    freq.put("kra", 5687);
-    freq.put("ěv", 1529);
-    freq.put("ět", 15295);
-    freq.put("ěz", 2258);
-    freq.put("zák", 3066);
-    freq.put("šti", 2097);
-    freq.put("ěc", 1612);
-    freq.put("si ", 3518);
-    freq.put("ěd", 3131);
-    freq.put("ěk", 7417);
-    freq.put("ěj", 8834);
-    freq.put("ěh", 2633);
-    freq.put("ěn", 11047);
-    freq.put("ěm", 5852);
-    freq.put("ěl", 9917);
-    freq.put("da ", 6390);
-    freq.put("ens", 7642);
-    freq.put("leč", 4689);
-    freq.put("úz", 3790);
-    freq.put("jno", 1257);
-    freq.put("ús", 1640);
-    freq.put("lf", 1159);
-    freq.put("ld", 2521);
-    freq.put("le", 77448);
-    freq.put("lb", 2945);
-    freq.put("lc", 1721);
-    freq.put("la", 65008);
-    freq.put("ln", 20483);
-    freq.put("lo", 61865);
-    freq.put("ll", 7520);
-    freq.put("lm", 4934);
-    freq.put("lk", 10732);
-    freq.put("li", 57563);
-    freq.put("lt", 4743);
-    freq.put("lu", 15908);
-    freq.put("ls", 8702);
-    freq.put("lz", 1355);
-    freq.put("ly", 9717);
-    freq.put("na ", 53204);
-    freq.put("tný", 1437);
-    freq.put("dal", 3374);
-    freq.put("dan", 2182);
-    freq.put("daj", 1518);
-    freq.put("dat", 3084);
-    freq.put("ema", 1842);
-    freq.put("Pra", 2828);
-    freq.put("l ", 42283);
-    freq.put("nfo", 1282);
-    freq.put(" hr", 6552);
-    freq.put("Pro", 2287);
-    freq.put("éž ", 3711);
-    freq.put(" hu", 3075);
-    freq.put(" hi", 2201);
-    freq.put(" ho", 6862);
-    freq.put(" hl", 5156);
-    freq.put(" ha", 1600);
-    freq.put("sil", 2216);
-    freq.put(" he", 2509);
-    freq.put("ouh", 2082);
-    freq.put("oun", 1766);
-    freq.put("ec ", 4754);
-    freq.put("ouc", 1601);
-    freq.put("oub", 1598);
-    freq.put("oud", 1374);
-    freq.put("hlo", 1435);
-    freq.put("ouz", 3479);
-    freq.put("eň ", 1751);
-    freq.put("ous", 3223);
-    freq.put("hle", 2243);
-    freq.put("oup", 1457);
-    freq.put("h ", 68060);
-    freq.put("hla", 5571);
-    freq.put("out", 2402);
-    freq.put("rez", 1829);
-    freq.put("lá", 15416);
-    freq.put("res", 5841);
-    freq.put("rep", 3246);
-    freq.put("lí", 8097);
-    freq.put("ret", 1327);
-    freq.put("lé", 7239);
-    freq.put("rek", 1273);
-    freq.put("ren", 2252);
-    freq.put("rem", 3700);
-    freq.put("rec", 1925);
-    freq.put("lý", 4646);
-    freq.put("reg", 1788);
-    freq.put("ych", 2524);
-    freq.put("ecn", 1350);
-    freq.put("íns", 1474);
-    freq.put("ou ", 37147);
-    freq.put("eck", 8996);
-    freq.put("eci", 1513);
-    freq.put("ech", 12275);
-    freq.put("utí", 1162);
-    freq.put("ie ", 13367);
-    freq.put("van", 12007);
-    freq.put("lod", 1650);
-    freq.put("g", 61772);
-    freq.put("ndo", 1521);
-    freq.put("ono", 3674);
-    freq.put("re ", 2546);
-    freq.put("Ž", 1649);
-    freq.put("tát", 4498);
-    freq.put("če", 26348);
-    freq.put("ud ", 1221);
-    freq.put("éno", 1417);
-    freq.put("iho", 2925);
-    freq.put("tál", 2187);
-    freq.put(" Ba", 3436);
-    freq.put("tán", 1850);
-    freq.put("éna", 1816);
-    freq.put("lš", 2281);
-    freq.put("asi", 3609);
-    freq.put("lů", 2536);
-    freq.put(" Sp", 2664);
-    freq.put("w ", 1552);
-    freq.put(" Sv", 1696);
-    freq.put(" St", 6100);
-    freq.put(" Su", 1408);
-    freq.put(" Sk", 1209);
-    freq.put(" Si", 1839);
-    freq.put(" So", 3031);
-    freq.put(" Sl", 2578);
-    freq.put(" Sc", 1168);
-    freq.put(" Sa", 3503);
-    freq.put("čo", 3182);
-    freq.put(" Se", 3406);
-    freq.put("Ka", 5031);
-    freq.put("ii ", 5869);
-    freq.put(" v ", 54233);
-    freq.put("či", 11688);
-    freq.put("Ko", 4086);
-    freq.put("čás", 7287);
-    freq.put("Kl", 1430);
-    freq.put("Kr", 2544);
-    freq.put("R", 13848);
-    freq.put("ogi", 4525);
-    freq.put("Ku", 1175);
-    freq.put("eho", 5425);
-    freq.put("rst", 1339);
-    freq.put("úze", 3480);
-    freq.put("udi", 1376);
-    freq.put("udo", 2156);
-    freq.put("úč", 1787);
-    freq.put("ben", 2163);
-    freq.put("ara", 4391);
-    freq.put("bec", 2884);
-    freq.put("cké", 15214);
-    freq.put("bez", 1903);
-    freq.put("ik ", 2696);
-    freq.put("ber", 2768);
-    freq.put("ý", 129650);
-    freq.put("Par", 1206);
-    freq.put("dá ", 2060);
-    freq.put("ouž", 6121);
-    freq.put("sen", 1348);
-    freq.put("py ", 1312);
-    freq.put("sk", 92692);
-    freq.put("ark", 1851);
-    freq.put("rež", 1163);
-    freq.put("mil", 1861);
-    freq.put("lec", 1964);
-    freq.put("min", 3830);
-    freq.put("arl", 1695);
-    freq.put("mic", 2749);
-    freq.put("bur", 1260);
-    freq.put("ín ", 1890);
-    freq.put("mis", 1525);
-    freq.put("dál", 1753);
-    freq.put("dán", 2244);
-    freq.put("dáv", 1525);
-    freq.put("zko", 1259);
-    freq.put("st ", 11395);
-    freq.put(" Ev", 1844);
-    freq.put("ň ", 2419);
-    freq.put("ure", 1155);
-    freq.put("mus", 1983);
-    freq.put("ouč", 4572);
-    freq.put("mi ", 12425);
-    freq.put("cko", 3237);
-    freq.put("uro", 1540);
-    freq.put("uri", 1389);
-    freq.put("uru", 1160);
-    freq.put("Pol", 1195);
-    freq.put("Pod", 1248);
-    freq.put("cky", 4430);
-    freq.put("ury", 1381);
-    freq.put("tý ", 2037);
-    freq.put("ců", 2079);
-    freq.put("Cha", 1224);
-    freq.put("živ", 2602);
-    freq.put("žit", 2707);
-    freq.put("žij", 1345);
-    freq.put("žil", 1490);
-    freq.put("tší", 2640);
-    freq.put("nge", 1442);
-    freq.put("jaz", 2568);
-    freq.put("tní", 9445);
-    freq.put("ngl", 4299);
-    freq.put("vša", 1280);
-    freq.put(" it", 1175);
-    freq.put("vše", 1958);
-    freq.put("ae ", 1943);
-    freq.put("jak", 10723);
-    freq.put(" in", 6001);
-    freq.put("ák ", 1153);
-    freq.put("týc", 2116);
-    freq.put("no ", 7023);
-    freq.put("moř", 3176);
-    freq.put("půs", 2701);
-    freq.put("víc", 1941);
-    freq.put("tba", 1700);
-    freq.put("ng ", 3190);
-    freq.put("h", 259891);
-    freq.put("voř", 3595);
-    freq.put("šin", 1751);
-    freq.put("áko", 1419);
-    freq.put("ákl", 2414);
-    freq.put(" i ", 5273);
-    freq.put("ael", 1206);
-    freq.put("ž", 81570);
-    freq.put("Pr", 7552);
-    freq.put("vš", 5164);
-    freq.put("uto", 4678);
-    freq.put("ebn", 2564);
-    freq.put("ebo", 12455);
-    freq.put("C", 16455);
-    freq.put("vů", 2483);
-    freq.put("Pa", 5499);
-    freq.put("Pe", 2524);
-    freq.put("ede", 6652);
-    freq.put("Pi", 1236);
-    freq.put("Po", 7183);
-    freq.put("Pl", 1516);
-    freq.put("hé ", 1767);
-    freq.put("dla", 1946);
-    freq.put("ome", 3465);
-    freq.put("dle", 4381);
-    freq.put("vší", 1568);
-    freq.put("dlo", 2844);
-    freq.put("et ", 4584);
-    freq.put("Čes", 3563);
-    freq.put("tá ", 1819);
-    freq.put("kem", 3800);
-    freq.put("kej", 1210);
-    freq.put("jov", 2720);
-    freq.put("mě ", 2287);
-    freq.put("vrc", 1706);
-    freq.put("S", 35760);
-    freq.put("ket", 1376);
-    freq.put("vro", 2455);
-    freq.put("tsk", 6630);
-    freq.put("etr", 4039);
-    freq.put("avě", 1439);
-    freq.put("sov", 4194);
-    freq.put("byv", 1815);
-    freq.put("tla", 1310);
-    freq.put("eta", 2522);
-    freq.put("ete", 4466);
-    freq.put("tli", 2690);
-    freq.put("vě", 25419);
-    freq.put("etn", 2128);
-    freq.put("eto", 3093);
-    freq.put("ck", 45489);
-    freq.put("vá", 31782);
-    freq.put("ci", 24104);
-    freq.put("ch", 106800);
-    freq.put("co", 10175);
-    freq.put("cn", 2818);
-    freq.put("vé", 19370);
-    freq.put("ca", 4919);
-    freq.put("ví", 13118);
-    freq.put("ce", 56738);
-    freq.put("cy", 1677);
-    freq.put("oho", 4168);
-    freq.put("jih", 2344);
-    freq.put("cr", 1140);
-    freq.put("vý", 29752);
-    freq.put("cu", 2117);
-    freq.put("ct", 4541);
-    freq.put("blí", 1257);
-    freq.put("vit", 4611);
-    freq.put("rve", 2525);
-    freq.put("mén", 4741);
-    freq.put("výš", 1486);
-    freq.put("byl", 18860);
-    freq.put("ího", 9884);
-    freq.put("Ná", 1404);
-    freq.put("véh", 3281);
-    freq.put("vý ", 6798);
-    freq.put("oti", 3017);
-    freq.put("otk", 1156);
-    freq.put("otn", 1824);
-    freq.put("oto", 6726);
-    freq.put("ota", 1788);
-    freq.put("otb", 1150);
-    freq.put("c ", 9636);
-    freq.put("edo", 3095);
-    freq.put("ote", 2572);
-    freq.put("rvn", 4272);
-    freq.put("oty", 1225);
-    freq.put("vém", 1518);
-    freq.put("čit", 1616);
-    freq.put("ysk", 1190);
-    freq.put("lli", 1334);
-    freq.put("výz", 2611);
-    freq.put("ysl", 1771);
-    freq.put("é", 145384);
-    freq.put("edl", 1223);
-    freq.put("cov", 2906);
-    freq.put("výr", 2025);
-    freq.put("výs", 1250);
-    freq.put("emí", 4275);
-    freq.put("vým", 2640);
-    freq.put("výc", 8997);
-    freq.put("ohy", 1525);
-    freq.put("va", 51428);
-    freq.put(" Fr", 2926);
-    freq.put("ve", 47740);
-    freq.put("cí", 27801);
-    freq.put("nom", 2363);
-    freq.put("vi", 26093);
-    freq.put("vk", 3052);
-    freq.put("vl", 7295);
-    freq.put("uží", 6581);
-    freq.put("vn", 24780);
-    freq.put("vo", 37739);
-    freq.put("ive", 2466);
-    freq.put("vr", 8123);
-    freq.put("vs", 6209);
-    freq.put("vu", 5429);
-    freq.put(" Fi", 1650);
-    freq.put("vy", 26292);
-    freq.put("vz", 6628);
-    freq.put("ava", 3516);
-    freq.put(" Fo", 1382);
-    freq.put("of ", 1489);
-    freq.put("pis", 3803);
-    freq.put("ván", 11057);
-    freq.put("vál", 2700);
-    freq.put("Př", 2063);
-    freq.put("ému", 2422);
-    freq.put("v ", 66402);
-    freq.put("eds", 1915);
-    freq.put("ion", 6938);
-    freq.put("nco", 2679);
-    freq.put("av ", 1604);
-    freq.put("ém ", 11396);
-    freq.put("ont", 3048);
-    freq.put("i", 521717);
-    freq.put(" Tu", 1143);
-    freq.put("ofi", 1587);
-    freq.put(" Tr", 2526);
-    freq.put(" To", 2242);
-    freq.put(" Ti", 1351);
-    freq.put(" Th", 2108);
-    freq.put("učá", 1855);
-    freq.put(" Te", 3210);
-    freq.put(" Ta", 2426);
-    freq.put("ídl", 1751);
-    freq.put("měř", 1748);
-    freq.put("sku", 8770);
-    freq.put("Be", 3232);
-    freq.put("adu", 2552);
-    freq.put("Ba", 3474);
-    freq.put("át ", 2061);
-    freq.put("tře", 8474);
-    freq.put("Bo", 3007);
-    freq.put("sky", 9407);
-    freq.put("Bi", 1362);
-    freq.put("ady", 1580);
-    freq.put("ske", 1405);
-    freq.put("Bu", 2103);
-    freq.put("ade", 3282);
-    freq.put("ska", 4807);
-    freq.put("Br", 3950);
-    freq.put("ada", 3897);
-    freq.put("adn", 6465);
-    freq.put("ado", 1550);
-    freq.put("adl", 1340);
-    freq.put("By", 2085);
-    freq.put("adi", 3651);
-    freq.put("žní", 2919);
-    freq.put("hů", 2019);
-    freq.put("očí", 2254);
-    freq.put("áte", 1666);
-    freq.put("ji ", 4802);
-    freq.put("kří", 1234);
-    freq.put("átn", 2002);
-    freq.put("áto", 1624);
-    freq.put("átk", 2625);
-    freq.put("íva", 3319);
-    freq.put("átu", 1328);
-    freq.put("nás", 2254);
-    freq.put("ad ", 4944);
-    freq.put("krá", 4170);
-    freq.put("bvy", 1413);
-    freq.put("vst", 1754);
-    freq.put("íč", 1699);
-    freq.put("kde", 1621);
-    freq.put("kdy", 3252);
-    freq.put("vsk", 4082);
-    freq.put("uše", 1228);
-    freq.put("tří", 4710);
-    freq.put("est", 7801);
-    freq.put("esp", 1404);
-    freq.put("ský", 19060);
-    freq.put("nd ", 2404);
-    freq.put("ese", 3215);
-    freq.put("ská", 8637);
-    freq.put("iso", 2022);
-    freq.put("eso", 1292);
-    freq.put("esn", 2468);
-    freq.put("riá", 1833);
-    freq.put("esk", 11348);
-    freq.put("esi", 1360);
-    freq.put("dce", 1208);
-    freq.put("íř", 2525);
-    freq.put("ndi", 1883);
-    freq.put("ýro", 1252);
-    freq.put("íš", 1631);
-    freq.put("hů ", 1499);
-    freq.put("ině", 2331);
-    freq.put("nda", 1497);
-    freq.put("nde", 1639);
-    freq.put(" js", 6707);
-    freq.put(" jm", 2892);
-    freq.put("ívá", 2944);
-    freq.put(" ji", 8392);
-    freq.put("by ", 4307);
-    freq.put("es ", 7550);
-    freq.put(" je", 93301);
-    freq.put("íž", 4061);
-    freq.put(" ja", 14129);
-    freq.put("kre", 3334);
-    freq.put("iný", 1514);
-    freq.put("duc", 1342);
-    freq.put("edy", 1655);
-    freq.put("jíc", 10934);
-    freq.put("bu ", 2220);
-    freq.put("iná", 3960);
-    freq.put("vaj", 2879);
-    freq.put(" Če", 5018);
-    freq.put("ubo", 1407);
-    freq.put("měs", 9181);
-    freq.put("měr", 2410);
-    freq.put("val", 7096);
-    freq.put("vac", 2111);
-    freq.put("vad", 1154);
-    freq.put("vaz", 1671);
-    freq.put("rch", 3978);
-    freq.put("urč", 2415);
-    freq.put("var", 2621);
-    freq.put("rce", 1159);
-    freq.put("měl", 2079);
-    freq.put("prů", 1838);
-    freq.put("vat", 8883);
-    freq.put("hy", 6927);
-    freq.put("hr", 15902);
-    freq.put("hv", 1306);
-    freq.put("adě", 2234);
-    freq.put("ht", 2875);
-    freq.put("hu", 12412);
-    freq.put("hi", 7867);
-    freq.put("hn", 5204);
-    freq.put("ho", 73846);
-    freq.put("hl", 13059);
-    freq.put("hm", 1256);
-    freq.put("ha", 16982);
-    freq.put("bud", 1860);
-    freq.put("he", 13421);
-    freq.put("va ", 9872);
-    freq.put("j", 233650);
-    freq.put("dva", 1139);
-    freq.put("hni", 1267);
-    freq.put("íl", 6160);
-    freq.put("iny", 6607);
-    freq.put("pin", 4585);
-    freq.put("int", 2630);
-    freq.put("inu", 3551);
-    freq.put("mys", 1461);
-    freq.put("pic", 1267);
-    freq.put("ins", 4625);
-    freq.put("lm ", 1297);
-    freq.put("inn", 2167);
-    freq.put("ino", 5250);
-    freq.put("ub ", 1463);
-    freq.put("ini", 3264);
-    freq.put("ink", 1380);
-    freq.put("ind", 2184);
-    freq.put("ine", 3495);
-    freq.put("inf", 1536);
-    freq.put("ing", 4248);
-    freq.put("ina", 8223);
-    freq.put("inc", 4325);
-    freq.put("žně", 2362);
-    freq.put("í ", 168172);
-    freq.put("eor", 1444);
-    freq.put("yrá", 1302);
-    freq.put("jší", 4959);
-    freq.put("or ", 5513);
-    freq.put("н", 1523);
-    freq.put("hý", 1516);
-    freq.put("hé", 2618);
-    freq.put("U", 5533);
-    freq.put("jím", 1621);
-    freq.put("ubl", 3299);
-    freq.put("aji", 2410);
-    freq.put("há", 9650);
-    freq.put("in ", 6095);
-    freq.put("íd", 6139);
-    freq.put("íc", 36122);
-    freq.put("íb", 1336);
-    freq.put("ím", 27488);
-    freq.put("bce", 1301);
-    freq.put("ín", 7431);
-    freq.put("íh", 10920);
-    freq.put("ík", 10708);
-    freq.put("íj", 1652);
-    freq.put("ít", 5219);
-    freq.put("ív", 7836);
-    freq.put("íp", 2283);
-    freq.put("ís", 9896);
-    freq.put("ír", 5728);
-    freq.put("o ", 138337);
-    freq.put("íz", 3776);
-  }
-  
 }
-
@@ -1,2776 +1,15 @@
 package com.rmtheis.langdetect.profile;
 
-import java.util.HashMap;
-
 import com.cybozu.labs.langdetect.util.LangProfile;
-import com.cybozu.labs.langdetect.util.NGram;
 
 public class EL {
   private static final String name = "el";
-  private static final HashMap<String, Integer> freq = new HashMap<String, Integer>();
-  private static final int[] n_words = new int[NGram.N_GRAM];
 
   public EL() {
-    init();  
   }
 
   public final LangProfile getLangProfile() {
-    return new LangProfile(name, freq, n_words);
+    return Profiles.load(name);
   }
-  
-  private void init() {
-    n_words[0] = 6375777;
-    n_words[1] = 7261876;
-    n_words[2] = 4927375;
 
-    freq.put("για", 6740);
-    freq.put("ρί", 22933);
-    freq.put("γικ", 1875);
-    freq.put("γιο", 2940);
-    freq.put("γιν", 873);
-    freq.put("ιάδ", 1072);
-    freq.put("μία", 2762);
-    freq.put(" τω", 10299);
-    freq.put("μισ", 919);
-    freq.put("ογρ", 3223);
-    freq.put("ιάν", 812);
-    freq.put("έ", 90196);
-    freq.put(" τρ", 3378);
-    freq.put("ού ", 14320);
-    freq.put("αξι", 781);
-    freq.put(" τί", 845);
-    freq.put(" τέ", 1460);
-    freq.put("ογέ", 1210);
-    freq.put("ό ", 46975);
-    freq.put("αξύ", 1143);
-    freq.put("υψ", 1025);
-    freq.put("ογι", 2141);
-    freq.put("ός ", 18179);
-    freq.put(" τμ", 1047);
-    freq.put("ιάς", 1340);
-    freq.put("μια", 4477);
-    freq.put("ογο", 1295);
-    freq.put("ιάρ", 876);
-    freq.put(" τη", 55058);
-    freq.put("κόρ", 832);
-    freq.put(" τε", 2163);
-    freq.put("μιο", 2230);
-    freq.put("μικ", 5134);
-    freq.put("γισ", 983);
-    freq.put("ίτλ", 825);
-    freq.put("ίτα", 3434);
-    freq.put("αμβ", 1197);
-    freq.put("ίτε", 1304);
-    freq.put("νάμ", 808);
-    freq.put("ίτη", 995);
-    freq.put("Οκτ", 727);
-    freq.put("ρρ", 1307);
-    freq.put(" Πρ", 2843);
-    freq.put("Χα", 1289);
-    freq.put("κ ", 2925);
-    freq.put(" Πό", 722);
-    freq.put("λιό", 666);
-    freq.put("λισ", 1155);
-    freq.put("λιτ", 3281);
-    freq.put("άνω", 1396);
-    freq.put("άσε", 1019);
-    freq.put("άντ", 1482);
-    freq.put("εί ", 5299);
-    freq.put("ρα ", 9620);
-    freq.put("Ευ", 1907);
-    freq.put("το ", 35834);
-    freq.put("Ερ", 804);
-    freq.put("Επ", 1444);
-    freq.put("άζε", 1809);
-    freq.put("ς", 240747);
-    freq.put("Εθ", 920);
-    freq.put("Ελ", 3849);
-    freq.put("Εκ", 838);
-    freq.put("εξά", 752);
-    freq.put("εξα", 953);
-    freq.put("Εί", 1505);
-    freq.put(" τό", 929);
-    freq.put("άνν", 919);
-    freq.put("άνο", 1282);
-    freq.put("άνα", 777);
-    freq.put("άνδ", 657);
-    freq.put("άνε", 1521);
-    freq.put("ιο ", 9017);
-    freq.put("λικ", 6554);
-    freq.put("λιο", 1726);
-    freq.put(" έγ", 922);
-    freq.put("k", 2907);
-    freq.put(" Πά", 1151);
-    freq.put("άς ", 2864);
-    freq.put(" Πα", 4958);
-    freq.put("Χρ", 999);
-    freq.put("λιά", 2019);
-    freq.put(" Πο", 2479);
-    freq.put("ώς", 2026);
-    freq.put("όσο", 1170);
-    freq.put("όσμ", 1304);
-    freq.put("ευρ", 1328);
-    freq.put("ευσ", 1149);
-    freq.put("Η", 13434);
-    freq.put("εν ", 2162);
-    freq.put("ιω", 2086);
-    freq.put(" με", 23063);
-    freq.put("Πρ", 2848);
-    freq.put("m ", 1364);
-    freq.put(" μα", 2448);
-    freq.put("ιώ", 5059);
-    freq.put("ιρ", 6633);
-    freq.put("ιπ", 2073);
-    freq.put("ισ", 25486);
-    freq.put("ις", 13132);
-    freq.put("ιτ", 9070);
-    freq.put("ιχ", 2933);
-    freq.put("ιφ", 1609);
-    freq.put("er ", 1543);
-    freq.put("φερ", 660);
-    freq.put(" μί", 2039);
-    freq.put(" μέ", 5756);
-    freq.put(" μά", 792);
-    freq.put("σία", 5336);
-    freq.put("ιέ", 2080);
-    freq.put("ιά", 10102);
-    freq.put("ιή", 692);
-    freq.put("σίλ", 677);
-    freq.put("Πά", 1152);
-    freq.put("ιθ", 2601);
-    freq.put("ιλ", 8668);
-    freq.put("ικ", 79288);
-    freq.put("ιν", 16499);
-    freq.put("ιμ", 6598);
-    freq.put("ιο", 29123);
-    freq.put("Πε", 2134);
-    freq.put("ια", 39925);
-    freq.put("ιγ", 2579);
-    freq.put("ιβ", 2565);
-    freq.put("ιε", 6521);
-    freq.put("ιδ", 8147);
-    freq.put("ιη", 883);
-    freq.put("ιζ", 1197);
-    freq.put("me", 1201);
-    freq.put("υνή", 706);
-    freq.put("ma", 1208);
-    freq.put("mb", 957);
-    freq.put("μή ", 801);
-    freq.put("όστ", 662);
-    freq.put("ευθ", 751);
-    freq.put("ευκ", 741);
-    freq.put(" φυ", 1533);
-    freq.put("νων", 3168);
-    freq.put("πήρ", 1722);
-    freq.put("ήμα", 3234);
-    freq.put("ρόμ", 822);
-    freq.put("ρόν", 1720);
-    freq.put("ήμε", 1045);
-    freq.put(" Βι", 896);
-    freq.put("ρόε", 683);
-    freq.put("αγι", 742);
-    freq.put("κών", 3899);
-    freq.put("ογί", 3068);
-    freq.put("κη ", 1482);
-    freq.put("αγο", 1254);
-    freq.put("Εθν", 907);
-    freq.put("ά", 106544);
-    freq.put("αγν", 698);
-    freq.put("A", 4125);
-    freq.put("ρχι", 1336);
-    freq.put(" Κό", 910);
-    freq.put("χνη", 657);
-    freq.put("γγρ", 1089);
-    freq.put("ος ", 37511);
-    freq.put("en ", 662);
-    freq.put(" το", 79535);
-    freq.put("σης", 5924);
-    freq.put("ρότ", 966);
-    freq.put("ρόσ", 877);
-    freq.put("ρόπ", 819);
-    freq.put("κεκ", 645);
-    freq.put("νωσ", 4336);
-    freq.put("ιάσ", 850);
-    freq.put("όεδ", 664);
-    freq.put(" τι", 4962);
-    freq.put("Βρί", 1153);
-    freq.put("δυτ", 1257);
-    freq.put("ρό ", 1004);
-    freq.put(" σκ", 2184);
-    freq.put("άκη", 718);
-    freq.put("μεσ", 1074);
-    freq.put(" μο", 3409);
-    freq.put("μετ", 6749);
-    freq.put(" σα", 762);
-    freq.put(" ση", 3591);
-    freq.put(" σε", 9337);
-    freq.put(" Λε", 940);
-    freq.put("κην", 749);
-    freq.put("ρ", 274072);
-    freq.put("ιρι", 1611);
-    freq.put("ιρε", 766);
-    freq.put("κης", 1489);
-    freq.put("ιρα", 723);
-    freq.put(" Λο", 1279);
-    freq.put("ιρά", 1156);
-    freq.put(" όν", 3176);
-    freq.put(" Θε", 1961);
-    freq.put("έπε", 703);
-    freq.put(" σύ", 3950);
-    freq.put(" σπ", 865);
-    freq.put("l", 12659);
-    freq.put(" στ", 39224);
-    freq.put(" συ", 11696);
-    freq.put("απα", 958);
-    freq.put("δυν", 920);
-    freq.put("μεγ", 2940);
-    freq.put("Καρ", 959);
-    freq.put("ιό ", 1664);
-    freq.put("μων", 716);
-    freq.put("δών", 1462);
-    freq.put("ίδι", 1386);
-    freq.put("Ζ", 1967);
-    freq.put("ίδα", 1853);
-    freq.put("ίδε", 1013);
-    freq.put("άμε", 1147);
-    freq.put("ίδη", 788);
-    freq.put("rt", 997);
-    freq.put(" όρ", 2611);
-    freq.put("rs", 663);
-    freq.put("ατί", 1716);
-    freq.put("ατά", 4672);
-    freq.put("θήκ", 739);
-    freq.put("θήν", 1152);
-    freq.put("rd", 715);
-    freq.put("re", 1965);
-    freq.put("ατε", 1300);
-    freq.put("ra", 2129);
-    freq.put("ατα", 6390);
-    freq.put("τών", 2189);
-    freq.put("ατο", 9284);
-    freq.put("ro", 1924);
-    freq.put("ri", 2929);
-    freq.put("ατι", 5266);
-    freq.put("ατρ", 1884);
-    freq.put("ύπο", 1064);
-    freq.put("ατό", 1156);
-    freq.put("W", 1311);
-    freq.put("όλο", 1532);
-    freq.put("όλη", 2622);
-    freq.put(" Τσ", 726);
-    freq.put("όλε", 1360);
-    freq.put("ati", 806);
-    freq.put("μήμ", 1075);
-    freq.put("r ", 2839);
-    freq.put("κά", 15567);
-    freq.put("κέ", 4956);
-    freq.put("κή", 24785);
-    freq.put("κί", 3700);
-    freq.put("κετ", 3212);
-    freq.put(" έδ", 1173);
-    freq.put(" Κε", 764);
-    freq.put("Αυγ", 651);
-    freq.put("κο", 23779);
-    freq.put("κι", 6089);
-    freq.put("κκ", 1326);
-    freq.put("κλ", 5937);
-    freq.put("κδ", 1079);
-    freq.put("κε", 22387);
-    freq.put(" Βρ", 2238);
-    freq.put("κη", 5418);
-    freq.put("κα", 65846);
-    freq.put("Ρο", 774);
-    freq.put(" έλ", 791);
-    freq.put("τοκ", 1571);
-    freq.put("Έλ", 1540);
-    freq.put("τοι", 2194);
-    freq.put("ραγ", 2738);
-    freq.put("ραβ", 1005);
-    freq.put("ραν", 1181);
-    freq.put("ραμ", 2193);
-    freq.put("ρακ", 3111);
-    freq.put("ιού", 2201);
-    freq.put("τοί", 1186);
-    freq.put("ιοχ", 1758);
-    freq.put("εφα", 751);
-    freq.put("ιου", 2729);
-    freq.put("καν", 3494);
-    freq.put("ιος", 4127);
-    freq.put("ιορ", 1283);
-    freq.put("Με ", 1185);
-    freq.put("ιον", 1013);
-    freq.put("B", 2624);
-    freq.put("ιολ", 889);
-    freq.put("ιοι", 954);
-    freq.put("άν ", 930);
-    freq.put("ιοδ", 1147);
-    freq.put("ιογ", 776);
-    freq.put("ρατ", 4809);
-    freq.put("ραφ", 4046);
-    freq.put("ρασ", 2311);
-    freq.put("τού", 2364);
-    freq.put("τος", 5084);
-    freq.put("τοπ", 1407);
-    freq.put("τορ", 3232);
-    freq.put("Έχ", 649);
-    freq.put("του", 50266);
-    freq.put("κό", 26772);
-    freq.put("κύ", 1477);
-    freq.put("κώ", 4252);
-    freq.put(" έχ", 2858);
-    freq.put("κω", 1706);
-    freq.put("γρά", 2441);
-    freq.put("Ρω", 976);
-    freq.put("κυ", 3709);
-    freq.put("κπ", 708);
-    freq.put("κρ", 10237);
-    freq.put("θμό", 1010);
-    freq.put("γρα", 5451);
-    freq.put("thu", 700);
-    freq.put("Αυτ", 975);
-    freq.put("άθε", 1012);
-    freq.put("γω", 3973);
-    freq.put("γώ", 1054);
-    freq.put("γύ", 735);
-    freq.put("γό", 3291);
-    freq.put("γρ", 8625);
-    freq.put("γχ", 1165);
-    freq.put("γυ", 1102);
-    freq.put("όφ", 825);
-    freq.put("όχ", 1299);
-    freq.put("ότ", 13665);
-    freq.put("ός", 18197);
-    freq.put("όσ", 5414);
-    freq.put("όπ", 5405);
-    freq.put("όρ", 8376);
-    freq.put("ούλ", 1020);
-    freq.put("ούν", 3424);
-    freq.put("ούμ", 1108);
-    freq.put("βέρ", 1034);
-    freq.put("ιά ", 3103);
-    freq.put("on ", 1503);
-    freq.put("π", 191347);
-    freq.put("άση", 1198);
-    freq.put("ίως", 1118);
-    freq.put("ούσ", 2748);
-    freq.put("ούς", 3386);
-    freq.put("ούρ", 1307);
-    freq.put("όε", 736);
-    freq.put("όγ", 2701);
-    freq.put("όμ", 7862);
-    freq.put("όν", 10515);
-    freq.put("όκ", 1654);
-    freq.put("όλ", 8233);
-    freq.put("γλ", 3739);
-    freq.put("γκ", 7566);
-    freq.put("γι", 14677);
-    freq.put(" λα", 1212);
-    freq.put("γο", 9693);
-    freq.put("σκο", 2292);
-    freq.put("γν", 4085);
-    freq.put("γμ", 2369);
-    freq.put("γγ", 5019);
-    freq.put("γα", 7366);
-    freq.put(" Χα", 1287);
-    freq.put("m", 7083);
-    freq.put("σκη", 760);
-    freq.put("γε", 9939);
-    freq.put("σκε", 4485);
-    freq.put("νά ", 992);
-    freq.put("γί", 5669);
-    freq.put("γή", 2815);
-    freq.put("γέ", 2710);
-    freq.put("γά", 3661);
-    freq.put(" λέ", 1007);
-    freq.put("ξι", 1797);
-    freq.put("ξο", 1094);
-    freq.put("ξα", 1561);
-    freq.put("ξε", 3656);
-    freq.put("d ", 2124);
-    freq.put("ξη", 2494);
-    freq.put("ξά", 881);
-    freq.put("δομ", 954);
-    freq.put("δον", 679);
-    freq.put("ανό", 2218);
-    freq.put("εμπ", 762);
-    freq.put("ές", 9695);
-    freq.put("ίας", 15390);
-    freq.put("θολ", 2157);
-    freq.put("do", 657);
-    freq.put("Γι", 1598);
-    freq.put("υ", 205289);
-    freq.put("di", 1004);
-    freq.put("Γα", 1202);
-    freq.put("de", 1790);
-    freq.put("νοι", 1353);
-    freq.put("Γε", 2955);
-    freq.put("ίζο", 1090);
-    freq.put("εμι", 793);
-    freq.put("εμο", 808);
-    freq.put("εμβ", 1975);
-    freq.put("αρκ", 848);
-    freq.put("ενε", 1043);
-    freq.put("λλο", 3357);
-    freq.put("ον ", 14807);
-    freq.put("λλι", 1915);
-    freq.put(" Δι", 2396);
-    freq.put("λλε", 843);
-    freq.put("δοσ", 2455);
-    freq.put("λλη", 7119);
-    freq.put("ιμέ", 1283);
-    freq.put("λλα", 1712);
-    freq.put("δου", 1522);
-    freq.put("των", 12537);
-    freq.put("λλί", 726);
-    freq.put("ξύ", 1306);
-    freq.put("Θεσ", 739);
-    freq.put("ιμο", 2191);
-    freq.put("πό ", 21634);
-    freq.put(" φο", 1544);
-    freq.put("ενν", 2479);
-    freq.put("εστ", 833);
-    freq.put("εσσ", 1054);
-    freq.put("Κ", 18111);
-    freq.put("αρί", 2489);
-    freq.put("νυμ", 1332);
-    freq.put(" ξε", 646);
-    freq.put("πού", 867);
-    freq.put("έτο", 668);
-    freq.put("C", 3923);
-    freq.put("μει", 655);
-    freq.put("εση", 1176);
-    freq.put(" Πε", 2131);
-    freq.put("μελ", 883);
-    freq.put("σου", 1542);
-    freq.put("εσα", 886);
-    freq.put("άνι", 1040);
-    freq.put("άστ", 2257);
-    freq.put("μεν", 3875);
-    freq.put("εσί", 785);
-    freq.put("νησ", 3074);
-    freq.put("νης", 3311);
-    freq.put("νητ", 1569);
-    freq.put(" Χρ", 997);
-    freq.put("κόμ", 1163);
-    freq.put("κόλ", 651);
-    freq.put("C ", 687);
-    freq.put("ομά", 4054);
-    freq.put("ομέ", 1196);
-    freq.put("ί", 162652);
-    freq.put("ομα", 4494);
-    freq.put("ιχε", 1339);
-    freq.put("ομη", 811);
-    freq.put("χου", 1973);
-    freq.put("ομι", 2076);
-    freq.put("τι ", 2082);
-    freq.put("ομο", 3665);
-    freq.put("χολ", 997);
-    freq.put("ομό", 796);
-    freq.put("ομώ", 1007);
-    freq.put(" Ιτ", 907);
-    freq.put("ο ", 95107);
-    freq.put("κότ", 1771);
-    freq.put("Co", 724);
-    freq.put("κόσ", 1288);
-    freq.put("κός", 6008);
-    freq.put("χές", 666);
-    freq.put("ναν", 1504);
-    freq.put("n", 18610);
-    freq.put("σύν", 1327);
-    freq.put("σύμ", 1096);
-    freq.put(" Ρο", 774);
-    freq.put("λια", 1551);
-    freq.put("νημ", 1520);
-    freq.put(" ́", 1288);
-    freq.put("is", 1816);
-    freq.put("ir", 779);
-    freq.put("it", 1405);
-    freq.put("αγγ", 1827);
-    freq.put("οβο", 653);
-    freq.put("il", 1191);
-    freq.put("io", 1643);
-    freq.put("in", 3273);
-    freq.put("ia", 1591);
-    freq.put("αγκ", 1429);
-    freq.put("ic", 1794);
-    freq.put("ie", 1115);
-    freq.put("ig", 1086);
-    freq.put("αγμ", 1117);
-    freq.put(" Κύ", 1399);
-    freq.put("ιν ", 1082);
-    freq.put("γο ", 1180);
-    freq.put(" Κω", 831);
-    freq.put("μυθ", 2305);
-    freq.put("γλι", 810);
-    freq.put("νισ", 2798);
-    freq.put("κει", 2368);
-    freq.put(" Κρ", 1401);
-    freq.put("άτα", 711);
-    freq.put("κεν", 791);
-    freq.put("ινω", 851);
-    freq.put(" Ρω", 975);
-    freq.put("κεί", 1744);
-    freq.put(" Κά", 941);
-    freq.put("τ", 474096);
-    freq.put(" Κο", 2560);
-    freq.put("νικ", 14169);
-    freq.put(" Κι", 702);
-    freq.put("νιο", 1219);
-    freq.put("κευ", 1338);
-    freq.put("νια", 1586);
-    freq.put("i ", 1712);
-    freq.put(" Κα", 4954);
-    freq.put("Δεκ", 668);
-    freq.put(" υψ", 758);
-    freq.put("έ ", 738);
-    freq.put("αν ", 18884);
-    freq.put("αγω", 2920);
-    freq.put(" υπ", 5803);
-    freq.put("Περ", 871);
-    freq.put("έτ", 5024);
-    freq.put("έχ", 6163);
-    freq.put("έφ", 948);
-    freq.put("έρ", 12949);
-    freq.put("έπ", 1245);
-    freq.put("έσ", 4850);
-    freq.put("ριά", 922);
-    freq.put("Δη", 1620);
-    freq.put("Δε", 1218);
-    freq.put("έω", 1309);
-    freq.put("αντ", 8056);
-    freq.put("Δή", 1392);
-    freq.put("ενη", 691);
-    freq.put("ενα", 1016);
-    freq.put("Σεπ", 721);
-    freq.put("Ι", 8695);
-    freq.put("ενο", 2214);
-    freq.put("ενι", 1650);
-    freq.put("υν", 14929);
-    freq.put("ένω", 1354);
-    freq.put("αμο", 749);
-    freq.put("έντ", 1717);
-    freq.put("αμμ", 1433);
-    freq.put("ινί", 997);
-    freq.put("ινή", 1455);
-    freq.put("ινα", 787);
-    freq.put("κε ", 8838);
-    freq.put("χρό", 1127);
-    freq.put("ινε", 1173);
-    freq.put("ινη", 1172);
-    freq.put("ευτ", 1808);
-    freq.put("ινι", 1101);
-    freq.put("άβ", 865);
-    freq.put("ινο", 2651);
-    freq.put("υθ", 4332);
-    freq.put("χρο", 1146);
-    freq.put("D", 1964);
-    freq.put("χρι", 1320);
-    freq.put("χρη", 1672);
-    freq.put("νι ", 660);
-    freq.put("ινό", 2461);
-    freq.put("ένν", 695);
-    freq.put(" φω", 763);
-    freq.put("ένο", 3647);
-    freq.put("υδ", 2390);
-    freq.put("ένε", 1716);
-    freq.put("ένη", 1988);
-    freq.put(" εγ", 909);
-    freq.put("ένα", 9814);
-    freq.put("d", 7728);
-    freq.put("εντ", 2485);
-    freq.put("υζ", 915);
-    freq.put("ανέ", 714);
-    freq.put("ανά", 2554);
-    freq.put("ανί", 2957);
-    freq.put("ανή", 1615);
-    freq.put("υα", 2666);
-    freq.put("ενώ", 1366);
-    freq.put("ανι", 4409);
-    freq.put("έδ", 1961);
-    freq.put("άζο", 714);
-    freq.put("έα", 3333);
-    freq.put("υγ", 5531);
-    freq.put("έγ", 3052);
-    freq.put("ενό", 1445);
-    freq.put("έν", 21823);
-    freq.put("έμ", 2360);
-    freq.put("έο", 998);
-    freq.put("έξ", 1325);
-    freq.put("έι", 841);
-    freq.put("έθ", 1065);
-    freq.put("έλ", 6166);
-    freq.put("έκ", 2418);
-    freq.put(" φα", 980);
-    freq.put("θή", 2250);
-    freq.put("κό ", 13722);
-    freq.put("θά", 1066);
-    freq.put("θέ", 3061);
-    freq.put("σήμ", 967);
-    freq.put("θλ", 2017);
-    freq.put("θι", 1852);
-    freq.put("είχ", 1649);
-    freq.put("θο", 6015);
-    freq.put("θμ", 2061);
-    freq.put("θν", 3266);
-    freq.put("an ", 997);
-    freq.put(" ίδ", 940);
-    freq.put("θα", 2622);
-    freq.put("θη", 10944);
-    freq.put("θε", 10322);
-    freq.put("τιμ", 802);
-    freq.put("τιν", 1951);
-    freq.put("τιο", 1754);
-    freq.put("τικ", 22901);
-    freq.put("ετε", 731);
-    freq.put("ετι", 1741);
-    freq.put("τια", 1887);
-    freq.put("ή", 98446);
-    freq.put("Φρ", 703);
-    freq.put("ού", 30889);
-    freq.put("αίτ", 698);
-    freq.put("αίρ", 1304);
-    freq.put("umb", 700);
-    freq.put("οχ", 4794);
-    freq.put("οφ", 4209);
-    freq.put("ου", 129022);
-    freq.put("οτ", 9541);
-    freq.put("οσ", 11327);
-    freq.put("ος", 37589);
-    freq.put("ορ", 21585);
-    freq.put("οπ", 16190);
-    freq.put("οξ", 882);
-    freq.put("ον", 36237);
-    freq.put("ομ", 21099);
-    freq.put("ολ", 23701);
-    freq.put("Φε", 912);
-    freq.put("οι", 21065);
-    freq.put("οθ", 2077);
-    freq.put("αίο", 2174);
-    freq.put("Φι", 704);
-    freq.put("οε", 2833);
-    freq.put("οδ", 7658);
-    freq.put("ογ", 13258);
-    freq.put("οβ", 2978);
-    freq.put("οα", 1081);
-    freq.put("ηγό", 671);
-    freq.put("οί", 10846);
-    freq.put("ανα", 6682);
-    freq.put("οέ", 928);
-    freq.put("ετρ", 2017);
-    freq.put("αμπ", 849);
-    freq.put("ρησ", 2941);
-    freq.put("ρης", 1045);
-    freq.put("τις", 8696);
-    freq.put("ιό", 6367);
-    freq.put("εία", 3700);
-    freq.put("θω", 1118);
-    freq.put("θώ", 1191);
-    freq.put("θό", 672);
-    freq.put("είδ", 966);
-    freq.put("ανε", 2278);
-    freq.put("θρ", 2531);
-    freq.put("είο", 3068);
-    freq.put("o", 18497);
-    freq.put("θυ", 2592);
-    freq.put("βιο", 702);
-    freq.put("βικ", 723);
-    freq.put("H ", 665);
-    freq.put("βιβ", 715);
-    freq.put("σο ", 1455);
-    freq.put("χωρ", 2665);
-    freq.put("δεκ", 905);
-    freq.put(" ήτ", 9263);
-    freq.put("σμό", 3646);
-    freq.put("ήτα", 9260);
-    freq.put("Πό", 722);
-    freq.put(" νό", 1365);
-    freq.put("πόλ", 3996);
-    freq.put("ζου", 798);
-    freq.put("ήτη", 852);
-    freq.put(" ν", 14449);
-    freq.put("σ", 232383);
-    freq.put("πτι", 832);
-    freq.put("mb ", 660);
-    freq.put("πίσ", 2277);
-    freq.put("νίδ", 909);
-    freq.put(" νε", 1091);
-    freq.put("σμο", 3140);
-    freq.put("σμι", 908);
-    freq.put("είς", 773);
-    freq.put(" νο", 3391);
-    freq.put("Ευρ", 1295);
-    freq.put("σμα", 2223);
-    freq.put("σμέ", 1983);
-    freq.put("ανθ", 906);
-    freq.put("έγε", 1024);
-    freq.put("ετά", 1901);
-    freq.put("γλώ", 959);
-    freq.put("οντ", 6287);
-    freq.put("δο ", 1489);
-    freq.put("ισσ", 1380);
-    freq.put("ονό", 1460);
-    freq.put("Βασ", 1048);
-    freq.put(" Ιο", 1482);
-    freq.put("ξ ", 655);
-    freq.put("Θ", 3309);
-    freq.put("θνι", 1551);
-    freq.put("ni", 1477);
-    freq.put("κρά", 1666);
-    freq.put("na", 1567);
-    freq.put("nc", 799);
-    freq.put("nd", 1677);
-    freq.put("ne", 1562);
-    freq.put("ng", 1277);
-    freq.put("κρο", 1257);
-    freq.put("λύτ", 1526);
-    freq.put("κρι", 1532);
-    freq.put("ns", 835);
-    freq.put("nt", 1738);
-    freq.put("κρα", 2747);
-    freq.put("κρό", 1004);
-    freq.put("E", 1941);
-    freq.put("αλύ", 2369);
-    freq.put("άδε", 985);
-    freq.put("ετα", 16396);
-    freq.put("ερ ", 1474);
-    freq.put(" Ιω", 835);
-    freq.put("n ", 4655);
-    freq.put(" Ισ", 1154);
-    freq.put("ονί", 1750);
-    freq.put("θνή", 736);
-    freq.put(" Ο", 19727);
-    freq.put("ονα", 1353);
-    freq.put("Πα", 4994);
-    freq.put("ονδ", 706);
-    freq.put("ονι", 2179);
-    freq.put("ονο", 4835);
-    freq.put("ότε", 4438);
-    freq.put("πρω", 2758);
-    freq.put("V", 1075);
-    freq.put("πρό", 2160);
-    freq.put("ανο", 2939);
-    freq.put("πρώ", 2895);
-    freq.put("ετο", 896);
-    freq.put("σαλ", 862);
-    freq.put("Παρ", 1018);
-    freq.put("ερό", 795);
-    freq.put("σαν", 2104);
-    freq.put("Ν", 8294);
-    freq.put("ότι", 2195);
-    freq.put("θος", 942);
-    freq.put(" μό", 948);
-    freq.put("ά ", 28070);
-    freq.put("υ ", 88180);
-    freq.put("Πο", 2485);
-    freq.put(" βρ", 3003);
-    freq.put(" βό", 838);
-    freq.put("χιλ", 816);
-    freq.put("χικ", 844);
-    freq.put(" βα", 3334);
-    freq.put(" βο", 1444);
-    freq.put(" βι", 1203);
-    freq.put(" βά", 792);
-    freq.put("νστ", 941);
-    freq.put("ιστ", 11061);
-    freq.put("ερι", 10543);
-    freq.put("ερν", 709);
-    freq.put("ερμ", 2853);
-    freq.put("ερο", 6623);
-    freq.put("λλά", 3329);
-    freq.put("ερα", 4072);
-    freq.put("σας", 901);
-    freq.put("εργ", 1600);
-    freq.put("δία", 1566);
-    freq.put("ερε", 1426);
-    freq.put("ερη", 1880);
-    freq.put("ετί", 895);
-    freq.put("p", 4711);
-    freq.put("Τα ", 1230);
-    freq.put("ερά", 780);
-    freq.put("ερί", 3339);
-    freq.put("πρι", 1380);
-    freq.put("ετέ", 733);
-    freq.put("προ", 8229);
-    freq.put("νετ", 1530);
-    freq.put("Το ", 7170);
-    freq.put("νερ", 896);
-    freq.put("νεπ", 771);
-    freq.put("νες", 2492);
-    freq.put("ήμο", 3064);
-    freq.put("χία", 1887);
-    freq.put("πο ", 1799);
-    freq.put("οκ", 6497);
-    freq.put("αία", 2533);
-    freq.put(" ή ", 7834);
-    freq.put(" ζω", 871);
-    freq.put("β", 36747);
-    freq.put("αίν", 1135);
-    freq.put("Ma", 1040);
-    freq.put("ht ", 652);
-    freq.put(" κο", 3790);
-    freq.put("ανδ", 1912);
-    freq.put("με ", 14402);
-    freq.put("γία", 4119);
-    freq.put("νεί", 692);
-    freq.put("κία", 1185);
-    freq.put("νει", 4020);
-    freq.put("κίν", 1235);
-    freq.put(" χα", 1979);
-    freq.put(" χι", 822);
-    freq.put("δρυ", 713);
-    freq.put("δρύ", 879);
-    freq.put("ίρι", 793);
-    freq.put("βε", 2725);
-    freq.put("βη", 749);
-    freq.put("βα", 6377);
-    freq.put("βο", 4803);
-    freq.put("βι", 3507);
-    freq.put("βλ", 1821);
-    freq.put("πα ", 685);
-    freq.put("Ιο", 1485);
-    freq.put(" Μπ", 2698);
-    freq.put("βά", 3473);
-    freq.put("βέ", 1564);
-    freq.put("βί", 1262);
-    freq.put("Ιω", 836);
-    freq.put(" Με", 3720);
-    freq.put("ξη ", 1696);
-    freq.put("χ", 59122);
-    freq.put("F", 1941);
-    freq.put(" Μο", 1622);
-    freq.put("Ισ", 1161);
-    freq.put("Ιτ", 907);
-    freq.put(" Μι", 1148);
-    freq.put("Ό", 1024);
-    freq.put("νη ", 4892);
-    freq.put("βρ", 7265);
-    freq.put("βό", 1236);
-    freq.put(" Μέ", 676);
-    freq.put(" Μά", 1156);
-    freq.put("Δημ", 1529);
-    freq.put("ουλ", 3147);
-    freq.put("δρα", 2109);
-    freq.put("δρο", 2284);
-    freq.put("ίνε", 1855);
-    freq.put(" χρ", 4665);
-    freq.put(" χώ", 2083);
-    freq.put("ντ ", 1585);
-    freq.put(" ο ", 9144);
-    freq.put(" χω", 2280);
-    freq.put("τώ", 3229);
-    freq.put("ρε ", 822);
-    freq.put("τό", 9167);
-    freq.put("τύ", 1372);
-    freq.put("υγγ", 1153);
-    freq.put("τω", 14910);
-    freq.put("υγο", 1001);
-    freq.put("ττ", 1165);
-    freq.put("τυ", 2752);
-    freq.put("υγκ", 1660);
-    freq.put("τρ", 19405);
-    freq.put("ελο", 1356);
-    freq.put("ελλ", 4425);
-    freq.put("είν", 22546);
-    freq.put("ελι", 1033);
-    freq.put("ές ", 9688);
-    freq.put("ελε", 3847);
-    freq.put("είμ", 673);
-    freq.put("Μ", 17575);
-    freq.put("γκό", 699);
-    freq.put("γκρ", 957);
-    freq.put(" μυ", 2558);
-    freq.put(" Σκ", 861);
-    freq.put(" Σι", 796);
-    freq.put("ες ", 14729);
-    freq.put("δή ", 1030);
-    freq.put("s ", 5020);
-    freq.put("ζει", 1250);
-    freq.put("έλη", 777);
-    freq.put("ζετ", 3914);
-    freq.put("έλα", 1017);
-    freq.put("λόγ", 1758);
-    freq.put("έλο", 1016);
-    freq.put(" Στ", 4987);
-    freq.put(" Συ", 1596);
-    freq.put("γκο", 1093);
-    freq.put("γκα", 1052);
-    freq.put("γκε", 929);
-    freq.put("τή", 11346);
-    freq.put("τί", 8764);
-    freq.put("τά", 12970);
-    freq.put("τέ", 8491);
-    freq.put("ss", 802);
-    freq.put("ελφ", 670);
-    freq.put("πελ", 849);
-    freq.put("st", 1761);
-    freq.put("το", 124490);
-    freq.put("si", 952);
-    freq.put("τλ", 1268);
-    freq.put("τι", 46176);
-    freq.put("τζ", 1331);
-    freq.put("τη", 93724);
-    freq.put("τε", 30296);
-    freq.put("se", 995);
-    freq.put("τα", 73796);
-    freq.put(" αγ", 3185);
-    freq.put(" αδ", 879);
-    freq.put(" αε", 736);
-    freq.put(" αθ", 840);
-    freq.put(" αι", 1819);
-    freq.put("φθη", 729);
-    freq.put(" αλ", 2584);
-    freq.put(" αμ", 1021);
-    freq.put(" αν", 12857);
-    freq.put("ρεί", 2767);
-    freq.put("ρει", 4053);
-    freq.put("τλο", 835);
-    freq.put("έως", 769);
-    freq.put("δήμ", 1730);
-    freq.put("α", 554256);
-    freq.put("ίχε", 1140);
-    freq.put(" μπ", 1646);
-    freq.put("γκ ", 753);
-    freq.put("ώς ", 2025);
-    freq.put("ρεσ", 889);
-    freq.put("ρες", 2082);
-    freq.put("ρευ", 659);
-    freq.put("ρετ", 2773);
-    freq.put(" θά", 727);
-    freq.put("ρεύ", 824);
-    freq.put("τ ", 3704);
-    freq.put(" απ", 30213);
-    freq.put(" αρ", 6507);
-    freq.put(" ασ", 3167);
-    freq.put(" ατ", 926);
-    freq.put(" αυ", 4681);
-    freq.put(" αφ", 1044);
-    freq.put("βρί", 4251);
-    freq.put("em", 659);
-    freq.put("el", 1708);
-    freq.put("en", 2808);
-    freq.put("Ά", 2718);
-    freq.put("ed", 859);
-    freq.put("ea", 941);
-    freq.put("et", 1060);
-    freq.put("ντρ", 2342);
-    freq.put("es", 2097);
-    freq.put("er", 4530);
-    freq.put("παγ", 893);
-    freq.put("παι", 1177);
-    freq.put("παλ", 1326);
-    freq.put("παν", 2463);
-    freq.put("διο", 3225);
-    freq.put("παί", 655);
-    freq.put("κής", 8061);
-    freq.put("ώθη", 1056);
-    freq.put("G", 1852);
-    freq.put("φ", 44210);
-    freq.put("σότ", 899);
-    freq.put("e ", 6418);
-    freq.put("παρ", 8016);
-    freq.put("πατ", 824);
-    freq.put("βρο", 795);
-    freq.put("παϊ", 680);
-    freq.put("ρχί", 1672);
-    freq.put(" ομ", 3122);
-    freq.put("ντι", 5956);
-    freq.put("ντο", 2386);
-    freq.put(" οι", 5274);
-    freq.put(" To", 646);
-    freq.put("ντα", 8117);
-    freq.put("είτ", 3867);
-    freq.put("μπε", 1085);
-    freq.put("ντε", 1807);
-    freq.put("ρχο", 1048);
-    freq.put("ντί", 2029);
-    freq.put("ντά", 1383);
-    freq.put("ρχη", 823);
-    freq.put("ρχε", 1183);
-    freq.put("ής ", 18113);
-    freq.put("ρχα", 2526);
-    freq.put(" Αυ", 2137);
-    freq.put("μερ", 4521);
-    freq.put("πον", 1356);
-    freq.put("ποκ", 999);
-    freq.put("πολ", 7906);
-    freq.put("ποι", 5038);
-    freq.put("ποδ", 2435);
-    freq.put(" Λι", 661);
-    freq.put("πογ", 674);
-    freq.put("ποί", 6780);
-    freq.put("Λ", 6273);
-    freq.put("hum", 677);
-    freq.put("x ", 1036);
-    freq.put("νε ", 1648);
-    freq.put("ιφέ", 650);
-    freq.put("ia ", 803);
-    freq.put("μεί", 1099);
-    freq.put("r", 19022);
-    freq.put("ποχ", 850);
-    freq.put("ποτ", 4745);
-    freq.put("που", 20607);
-    freq.put("πος", 1087);
-    freq.put("ποσ", 1036);
-    freq.put("πορ", 2148);
-    freq.put("Κό", 910);
-    freq.put("Κύ", 1401);
-    freq.put("Κω", 831);
-    freq.put("Κυ", 1027);
-    freq.put("σα ", 3872);
-    freq.put("Κρ", 1403);
-    freq.put("μφω", 1019);
-    freq.put("υά", 1396);
-    freq.put("αμέ", 982);
-    freq.put("άζ", 2851);
-    freq.put("υμ", 7534);
-    freq.put("άδ", 6624);
-    freq.put("е", 697);
-    freq.put("άγ", 2736);
-    freq.put("υλ", 5896);
-    freq.put("υκ", 2985);
-    freq.put("άξ", 842);
-    freq.put("άο", 721);
-    freq.put("άμ", 3476);
-    freq.put("άν", 11519);
-    freq.put("άκ", 2900);
-    freq.put("άλ", 9559);
-    freq.put("άθ", 2400);
-    freq.put("άι", 984);
-    freq.put("άφ", 3485);
-    freq.put("άχ", 1258);
-    freq.put("άτ", 7688);
-    freq.put("άς", 2871);
-    freq.put("άσ", 7087);
-    freq.put("άπ", 2212);
-    freq.put("άρ", 7787);
-    freq.put(" φι", 921);
-    freq.put("υτ", 12113);
-    freq.put("υχ", 1680);
-    freq.put("υφ", 1198);
-    freq.put("υρ", 12723);
-    freq.put("υπ", 8507);
-    freq.put("υσ", 11499);
-    freq.put("υς", 13842);
-    freq.put("μορ", 1296);
-    freq.put("αβε", 1016);
-    freq.put("ων", 32748);
-    freq.put("ωμ", 4528);
-    freq.put("Κά", 943);
-    freq.put("καθ", 2426);
-    freq.put("δια", 7984);
-    freq.put("και", 39436);
-    freq.put("Κο", 2565);
-    freq.put("Κι", 702);
-    freq.put("Κε", 764);
-    freq.put("Κα", 4969);
-    freq.put("ην ", 28066);
-    freq.put(" όπ", 2757);
-    freq.put("κές", 3367);
-    freq.put("δύο", 1317);
-    freq.put(" σή", 911);
-    freq.put("Καλ", 850);
-    freq.put("ιωτ", 1177);
-    freq.put("а", 1103);
-    freq.put("κοσ", 762);
-    freq.put("ε", 333395);
-    freq.put("οθε", 1042);
-    freq.put("αθη", 1010);
-    freq.put("μαχ", 648);
-    freq.put("H", 2233);
-    freq.put(" νη", 980);
-    freq.put("μασ", 1431);
-    freq.put(" να", 5646);
-    freq.put("Υπ", 1010);
-    freq.put("νγκ", 862);
-    freq.put("κέν", 650);
-    freq.put("ολυ", 875);
-    freq.put("ϊκή", 860);
-    freq.put("ης ", 54494);
-    freq.put("ήρε", 756);
-    freq.put("Ιτα", 855);
-    freq.put("αστ", 6688);
-    freq.put("κογ", 1034);
-    freq.put("νω ", 758);
-    freq.put("ίση", 1856);
-    freq.put("ηχ", 968);
-    freq.put("ωθ", 777);
-    freq.put("άδα", 3349);
-    freq.put("ητ", 11258);
-    freq.put("ησ", 11936);
-    freq.put("ης", 54552);
-    freq.put("ηρ", 6263);
-    freq.put("ώνη", 931);
-    freq.put("ήρξ", 1088);
-    freq.put("ωγ", 2280);
-    freq.put("ωβ", 791);
-    freq.put("άδο", 1280);
-    freq.put("ωδ", 719);
-    freq.put("κοπ", 1299);
-    freq.put("κορ", 683);
-    freq.put("κος", 1289);
-    freq.put("ώνε", 1144);
-    freq.put("κου", 2843);
-    freq.put("κοι", 2432);
-    freq.put("κού", 6899);
-    freq.put(" Σο", 1128);
-    freq.put("κολ", 1260);
-    freq.put("όδο", 943);
-    freq.put("ϊ", 3454);
-    freq.put("κον", 2063);
-    freq.put("ηγ", 3510);
-    freq.put("οί ", 1669);
-    freq.put("ωρ", 6506);
-    freq.put("ωπ", 2336);
-    freq.put("ην", 37308);
-    freq.put("ημ", 19012);
-    freq.put("ηλ", 4366);
-    freq.put("ηκ", 9969);
-    freq.put("ηθ", 2646);
-    freq.put("ίστ", 2304);
-    freq.put("α ", 122436);
-    freq.put("s", 12992);
-    freq.put("λή ", 1370);
-    freq.put("όγο", 980);
-    freq.put(" ως", 4538);
-    freq.put("εια", 5347);
-    freq.put("ειδ", 2526);
-    freq.put("ειν", 862);
-    freq.put("ύου", 1130);
-    freq.put("ωσ", 8039);
-    freq.put("Ο", 20140);
-    freq.put(" Α ", 894);
-    freq.put("ιαί", 809);
-    freq.put("ως", 10668);
-    freq.put("κας", 811);
-    freq.put("ωτ", 6473);
-    freq.put("ιαν", 1844);
-    freq.put("ιαμ", 1313);
-    freq.put("ιακ", 4564);
-    freq.put("ιαδ", 1030);
-    freq.put("καρ", 1054);
-    freq.put("λώσ", 1078);
-    freq.put("Ο ", 12037);
-    freq.put("λών", 940);
-    freq.put("ιατ", 1212);
-    freq.put("ιαφ", 946);
-    freq.put(" Υπ", 1004);
-    freq.put("ιασ", 1512);
-    freq.put("ιας", 3279);
-    freq.put("χή ", 2299);
-    freq.put("γμα", 1795);
-    freq.put("τισ", 2348);
-    freq.put("Γαλ", 1018);
-    freq.put("ημέ", 1558);
-    freq.put("σσό", 800);
-    freq.put("μη ", 2038);
-    freq.put("νασ", 1113);
-    freq.put("οι ", 6175);
-    freq.put("ειρ", 2701);
-    freq.put("ημι", 2310);
-    freq.put("εισ", 862);
-    freq.put("εις", 3437);
-    freq.put("ειτ", 1270);
-    freq.put("ημο", 3252);
-    freq.put("υαρ", 1339);
-    freq.put("ναυ", 689);
-    freq.put("ημε", 2120);
-    freq.put(" γλ", 1409);
-    freq.put(" γι", 8013);
-    freq.put("τεί", 2724);
-    freq.put(" γα", 745);
-    freq.put("νη", 14939);
-    freq.put(" γε", 4322);
-    freq.put("τει", 1045);
-    freq.put("τελ", 4578);
-    freq.put("τεμ", 808);
-    freq.put(" Ια", 1066);
-    freq.put("μά", 7858);
-    freq.put("επο", 863);
-    freq.put("υστ", 2102);
-    freq.put(" Ma", 1020);
-    freq.put("επι", 5002);
-    freq.put("επα", 2136);
-    freq.put("επί", 3082);
-    freq.put("δ", 87843);
-    freq.put("φυσ", 992);
-    freq.put("υσί", 1021);
-    freq.put("κητ", 870);
-    freq.put("ξε ", 1387);
-    freq.put("νθ", 2946);
-    freq.put("υση", 1190);
-    freq.put("υσα", 1288);
-    freq.put("επτ", 1207);
-    freq.put("υσμ", 1067);
-    freq.put("υσι", 2818);
-    freq.put("τεύ", 1209);
-    freq.put("τερ", 11689);
-    freq.put("τες", 1997);
-    freq.put("τεχ", 1125);
-    freq.put(" Σύ", 1275);
-    freq.put(" γρ", 1532);
-    freq.put(" γυ", 721);
-    freq.put("γωγ", 1517);
-    freq.put("τε ", 2677);
-    freq.put("Τζ", 1148);
-    freq.put("ρυσ", 751);
-    freq.put("γετ", 873);
-    freq.put("Προ", 732);
-    freq.put("νδί", 1002);
-    freq.put("νδι", 887);
-    freq.put("κάν", 679);
-    freq.put("κάθ", 781);
-    freq.put("κάτ", 989);
-    freq.put("κάπ", 806);
-    freq.put("ω", 82386);
-    freq.put("νδρ", 1754);
-    freq.put("ειο", 1827);
-    freq.put("Πρω", 677);
-    freq.put("Πρό", 666);
-    freq.put("χθη", 1072);
-    freq.put("t", 15175);
-    freq.put("οιό", 643);
-    freq.put(" Να", 926);
-    freq.put("οιχ", 1283);
-    freq.put(" Νο", 1695);
-    freq.put("μηχ", 778);
-    freq.put("μητ", 983);
-    freq.put(" σχ", 2338);
-    freq.put("ει ", 13053);
-    freq.put(" O ", 728);
-    freq.put(" Νέ", 832);
-    freq.put("Άγ", 672);
-    freq.put("Ολ", 1010);
-    freq.put("Οκ", 750);
-    freq.put("Οι", 2398);
-    freq.put("ήσο", 649);
-    freq.put("ιλι", 2810);
-    freq.put("ια ", 20899);
-    freq.put("o ", 2523);
-    freq.put("χής", 681);
-    freq.put("Του", 646);
-    freq.put("Οι ", 2013);
-    freq.put("Ου", 930);
-    freq.put("Κατ", 1044);
-    freq.put("Ορ", 745);
-    freq.put("on", 3275);
-    freq.put("om", 903);
-    freq.put("ol", 1227);
-    freq.put("φω", 2505);
-    freq.put("ως ", 10658);
-    freq.put("of", 654);
-    freq.put("ύο ", 1340);
-    freq.put("οιο", 1378);
-    freq.put("ιτο", 998);
-    freq.put("οιν", 2467);
-    freq.put("οικ", 4166);
-    freq.put("ιτι", 2704);
-    freq.put("οιη", 754);
-    freq.put("ou", 924);
-    freq.put("ιτε", 1108);
-    freq.put("os", 875);
-    freq.put("or", 2245);
-    freq.put("οια", 988);
-    freq.put("ιτα", 1283);
-    freq.put("ίζε", 3305);
-    freq.put("ία ", 26814);
-    freq.put("ώσε", 810);
-    freq.put("αρ", 29289);
-    freq.put("απ", 33497);
-    freq.put("ασ", 22621);
-    freq.put("ας", 38338);
-    freq.put("αυ", 7302);
-    freq.put("ατ", 37260);
-    freq.put("αχ", 2612);
-    freq.put("αφ", 9354);
-    freq.put("αϊ", 2364);
-    freq.put("αύ", 1058);
-    freq.put("σί", 8405);
-    freq.put("σή", 1903);
-    freq.put("σέ", 940);
-    freq.put("σά", 1139);
-    freq.put(" Έν", 836);
-    freq.put("σκ", 10283);
-    freq.put("γη", 1772);
-    freq.put("σθ", 1011);
-    freq.put("σο", 6917);
-    freq.put("σμ", 12903);
-    freq.put("ω ", 2903);
-    freq.put("σα", 9280);
-    freq.put("ωση", 2679);
-    freq.put("σε", 22382);
-    freq.put("αΐ", 1011);
-    freq.put("σω", 3204);
-    freq.put("οία", 2635);
-    freq.put("σώ", 1166);
-    freq.put("σύ", 4398);
-    freq.put("η ", 59406);
-    freq.put("σσ", 6194);
-    freq.put("οίο", 3618);
-    freq.put("J", 1156);
-    freq.put("σχ", 3635);
-    freq.put("σφ", 3318);
-    freq.put("συ", 12181);
-    freq.put("οίκ", 1187);
-    freq.put("κο ", 960);
-    freq.put(" Βα", 2096);
-    freq.put("ίπο", 938);
-    freq.put("μπο", 2312);
-    freq.put("αγ", 12802);
-    freq.put("αβ", 3590);
-    freq.put("αε", 1433);
-    freq.put("αδ", 5509);
-    freq.put("ϊκ", 1906);
-    freq.put("αζ", 1934);
-    freq.put("αι", 93478);
-    freq.put("αθ", 7116);
-    freq.put("αλ", 21090);
-    freq.put("ακ", 15045);
-    freq.put("αν", 58537);
-    freq.put("αμ", 10092);
-    freq.put("αο", 903);
-    freq.put("αξ", 3125);
-    freq.put("έκτ", 1194);
-    freq.put("ναι", 23633);
-    freq.put("he ", 670);
-    freq.put("ώσσ", 997);
-    freq.put("αί", 10379);
-    freq.put("Θε", 1962);
-    freq.put("διά", 2910);
-    freq.put("ac", 959);
-    freq.put("αμε", 1031);
-    freq.put("ad", 799);
-    freq.put("ai", 668);
-    freq.put("Έ", 4042);
-    freq.put("ίδο", 723);
-    freq.put("υτή", 1523);
-    freq.put("al", 2276);
-    freq.put(" Τρ", 1615);
-    freq.put("an", 4262);
-    freq.put("as", 1170);
-    freq.put("υτα", 731);
-    freq.put("at", 2084);
-    freq.put("δικ", 4263);
-    freq.put("διε", 2036);
-    freq.put("υτι", 3118);
-    freq.put("υτο", 2715);
-    freq.put("εκτ", 2188);
-    freq.put("εκρ", 827);
-    freq.put("θαν", 924);
-    freq.put("φικ", 1262);
-    freq.put("φιλ", 1198);
-    freq.put("igh", 691);
-    freq.put("a ", 4343);
-    freq.put("ψ", 4318);
-    freq.put("Αγγ", 839);
-    freq.put("καλ", 3288);
-    freq.put("εκδ", 780);
-    freq.put("υβέ", 734);
-    freq.put("εκα", 1164);
-    freq.put("υτό", 1999);
-    freq.put(" Το", 8380);
-    freq.put("ιβλ", 841);
-    freq.put("u", 9674);
-    freq.put(" Τζ", 1148);
-    freq.put(" Τα", 1842);
-    freq.put("ατέ", 1441);
-    freq.put("όντ", 1036);
-    freq.put("ωστ", 3134);
-    freq.put("υνε", 870);
-    freq.put("υνδ", 710);
-    freq.put("υνα", 2074);
-    freq.put("ατη", 1870);
-    freq.put("ώπ", 1387);
-    freq.put("ώρ", 3768);
-    freq.put("υνο", 1544);
-    freq.put("ώσ", 2701);
-    freq.put("tr", 915);
-    freq.put("υνθ", 722);
-    freq.put("to", 1131);
-    freq.put("th", 1729);
-    freq.put("ti", 2250);
-    freq.put("υνέ", 720);
-    freq.put("и", 935);
-    freq.put("υνί", 677);
-    freq.put("te", 1980);
-    freq.put("ta", 1485);
-    freq.put("χε ", 1257);
-    freq.put("ύ", 61448);
-    freq.put("al ", 791);
-    freq.put("ώθ", 1069);
-    freq.put("υντ", 1338);
-    freq.put("ιες", 926);
-    freq.put("ώμ", 1777);
-    freq.put("ών", 20079);
-    freq.put("υλι", 722);
-    freq.put("ώδ", 730);
-    freq.put("ώη", 641);
-    freq.put("εύ", 4761);
-    freq.put("and", 770);
-    freq.put("εό", 1241);
-    freq.put("ge", 831);
-    freq.put("αερ", 700);
-    freq.put("όνι", 1308);
-    freq.put("όνο", 4918);
-    freq.put("t ", 3000);
-    freq.put("υς ", 13808);
-    freq.put("Μπ", 2700);
-    freq.put("ύντ", 1574);
-    freq.put("άτω", 1906);
-    freq.put("βαν", 794);
-    freq.put("ter", 753);
-    freq.put("γάν", 752);
-    freq.put("γάλ", 2004);
-    freq.put("ρίζ", 2399);
-    freq.put("ρίδ", 772);
-    freq.put("ρία", 4134);
-    freq.put("ι ", 112286);
-    freq.put("ρίο", 5068);
-    freq.put("ρίν", 739);
-    freq.put("ες", 14762);
-    freq.put("χη", 2825);
-    freq.put("ρίτ", 724);
-    freq.put("ρίσ", 4287);
-    freq.put("ρίπ", 1019);
-    freq.put("λο ", 3553);
-    freq.put("K", 1166);
-    freq.put("ρίω", 1265);
-    freq.put("ημα", 7616);
-    freq.put("ωπα", 870);
-    freq.put("όπω", 1790);
-    freq.put("ωπο", 844);
-    freq.put("χο", 6422);
-    freq.put("ύνο", 857);
-    freq.put("άτη", 871);
-    freq.put("βασ", 2971);
-    freq.put("άτι", 758);
-    freq.put("άτο", 2114);
-    freq.put("χν", 2772);
-    freq.put(" εμ", 1144);
-    freq.put("τηγ", 801);
-    freq.put(" εξ", 2635);
-    freq.put(" εθ", 1094);
-    freq.put(" ει", 1529);
-    freq.put(" εκ", 4866);
-    freq.put(" ελ", 4400);
-    freq.put("τηκ", 1948);
-    freq.put("τηλ", 655);
-    freq.put("τημ", 2854);
-    freq.put("την", 27288);
-    freq.put("ριν", 2336);
-    freq.put("ριμ", 904);
-    freq.put("ριο", 5568);
-    freq.put(" εί", 24110);
-    freq.put("ριθ", 994);
-    freq.put("ριλ", 1434);
-    freq.put("ρικ", 7396);
-    freq.put("χθ", 1552);
-    freq.put("ρια", 3527);
-    freq.put("ριγ", 689);
-    freq.put("υρω", 883);
-    freq.put("ήθ", 4033);
-    freq.put(" γν", 3012);
-    freq.put("ήκ", 2438);
-    freq.put("ώμα", 1362);
-    freq.put("η", 223442);
-    freq.put("ήμ", 8522);
-    freq.put("πτε", 965);
-    freq.put("ήν", 2806);
-    freq.put("υρά", 671);
-    freq.put("υρί", 1627);
-    freq.put("ίς ", 1391);
-    freq.put("υρι", 1000);
-    freq.put("ότα", 2254);
-    freq.put("υρκ", 776);
-    freq.put("ότη", 3717);
-    freq.put("υρο", 983);
-    freq.put("υρα", 699);
-    freq.put("υργ", 2911);
-    freq.put("σι", 15384);
-    freq.put("λάδ", 2237);
-    freq.put("ριό", 2111);
-    freq.put("λα ", 2059);
-    freq.put("ριφ", 871);
-    freq.put("ρισ", 7036);
-    freq.put("της", 36695);
-    freq.put("τησ", 1537);
-    freq.put("τηρ", 3076);
-    freq.put("ίο ", 4669);
-    freq.put("τητ", 3914);
-    freq.put("v", 2733);
-    freq.put(" ετ", 975);
-    freq.put(" ευ", 1283);
-    freq.put(" εφ", 760);
-    freq.put(" επ", 11178);
-    freq.put(" ερ", 1138);
-    freq.put("Δ", 9926);
-    freq.put("Βε", 785);
-    freq.put("Βα", 2099);
-    freq.put("ουά", 882);
-    freq.put("Βο", 1596);
-    freq.put("Βι", 900);
-    freq.put("f ", 722);
-    freq.put("ουν", 4982);
-    freq.put("ουμ", 1209);
-    freq.put("ουα", 1700);
-    freq.put(" Ο ", 11895);
-    freq.put("ουδ", 1420);
-    freq.put("γορ", 893);
-    freq.put(" Αγ", 2491);
-    freq.put("πει", 1514);
-    freq.put("σπο", 1081);
-    freq.put("πεδ", 722);
-    freq.put("σπα", 974);
-    freq.put(" Ακ", 643);
-    freq.put(" Αλ", 1804);
-    freq.put(" Αμ", 1723);
-    freq.put(" Αν", 3964);
-    freq.put("ύθ", 1852);
-    freq.put("γος", 1565);
-    freq.put("έχε", 3074);
-    freq.put("γου", 2071);
-    freq.put("έχο", 1069);
-    freq.put("κλο", 1123);
-    freq.put("έχρ", 1025);
-    freq.put(" κά", 2601);
-    freq.put("λαδ", 919);
-    freq.put("ό", 136039);
-    freq.put(" Απ", 2366);
-    freq.put(" Αρ", 2641);
-    freq.put(" Ασ", 1614);
-    freq.put("ηχα", 829);
-    freq.put("ν ", 112419);
-    freq.put("αμα", 698);
-    freq.put("περ", 10195);
-    freq.put("κά ", 10264);
-    freq.put("a", 25408);
-    freq.put("us ", 771);
-    freq.put("ουσ", 4557);
-    freq.put("ους", 13764);
-    freq.put("ουρ", 5299);
-    freq.put("Κων", 707);
-    freq.put("μα ", 12255);
-    freq.put("Βρ", 2238);
-    freq.put(" Οκ", 750);
-    freq.put(" Ολ", 1008);
-    freq.put(" Οι", 2387);
-    freq.put("ματ", 10484);
-    freq.put("y ", 1749);
-    freq.put("ου ", 87770);
-    freq.put("ζί", 1027);
-    freq.put("ζα", 1710);
-    freq.put("Β ", 722);
-    freq.put("ζε", 6065);
-    freq.put("ζη", 738);
-    freq.put("ζι", 1237);
-    freq.put("ήρι", 880);
-    freq.put("ολύ", 921);
-    freq.put("ολό", 1136);
-    freq.put("ζο", 2939);
-    freq.put("Ρ", 4090);
-    freq.put("δί", 4576);
-    freq.put("Τσ", 726);
-    freq.put("Τρ", 1616);
-    freq.put("νυ", 1752);
-    freq.put("ντ", 28913);
-    freq.put("όμο", 1617);
-    freq.put("νσ", 1980);
-    freq.put("νό", 10195);
-    freq.put("όμα", 718);
-    freq.put("νώ", 4161);
-    freq.put("νω", 9532);
-    freq.put("όμε", 2708);
-    freq.put("νε", 15475);
-    freq.put("νδ", 5696);
-    freq.put("όμω", 688);
-    freq.put("να", 62303);
-    freq.put("νγ", 910);
-    freq.put("νν", 4891);
-    freq.put("νο", 34560);
-    freq.put("κων", 656);
-    freq.put("νι", 23024);
-    freq.put("L", 2060);
-    freq.put("Το", 8405);
-    freq.put("Με", 3726);
-    freq.put("φή ", 1774);
-    freq.put("νέ", 3576);
-    freq.put("νά", 5541);
-    freq.put("νί", 9927);
-    freq.put("νή", 7879);
-    freq.put("Τα", 1846);
-    freq.put("μαί", 1647);
-    freq.put("ολε", 1313);
-    freq.put("ολη", 1127);
-    freq.put("ολι", 5666);
-    freq.put("ζω", 1103);
-    freq.put("ολλ", 1265);
-    freq.put("Μα", 4471);
-    freq.put("ζό", 1259);
-    freq.put("ολο", 6719);
-    freq.put("μαν", 3924);
-    freq.put("εδ", 3726);
-    freq.put("μαζ", 923);
-    freq.put(" Ου", 928);
-    freq.put("ολέ", 884);
-    freq.put("ολί", 1066);
-    freq.put("ολή", 1110);
-    freq.put("λασ", 1322);
-    freq.put("αση", 2971);
-    freq.put("λατ", 899);
-    freq.put("ασκ", 1313);
-    freq.put("ασι", 3609);
-    freq.put("Χ ", 729);
-    freq.put("γον", 1405);
-    freq.put("ρι ", 2104);
-    freq.put("ασμ", 1014);
-    freq.put("ίου", 12007);
-    freq.put("τη ", 14833);
-    freq.put("ίος", 1746);
-    freq.put("Μι", 1150);
-    freq.put("ασί", 3461);
-    freq.put("ωρί", 1331);
-    freq.put("πρα", 1142);
-    freq.put("κλη", 1528);
-    freq.put("I", 2360);
-    freq.put("ωρι", 2402);
-    freq.put(" έκ", 1202);
-    freq.put("ζ", 19116);
-    freq.put("ωρε", 765);
-    freq.put("αζί", 676);
-    freq.put("τολ", 2689);
-    freq.put("βάν", 1252);
-    freq.put("λέγ", 681);
-    freq.put("ίοδ", 915);
-    freq.put("τομ", 1711);
-    freq.put("τον", 13580);
-    freq.put("λαί", 667);
-    freq.put("ψη", 1336);
-    freq.put("ψε", 1003);
-    freq.put("λαγ", 813);
-    freq.put("λαβ", 1022);
-    freq.put("ώρα", 1560);
-    freq.put("λά ", 1854);
-    freq.put("w", 1649);
-    freq.put("τογ", 1175);
-    freq.put("λαι", 1164);
-    freq.put("γού", 1541);
-    freq.put("λαν", 1780);
-    freq.put("λαμ", 1653);
-    freq.put("εύε", 718);
-    freq.put("λέμ", 640);
-    freq.put("εύο", 1107);
-    freq.put("τσι", 825);
-    freq.put("ππ", 796);
-    freq.put(" Φρ", 703);
-    freq.put("τυπ", 686);
-    freq.put("λού", 2344);
-    freq.put("πτ", 4561);
-    freq.put("λέξ", 905);
-    freq.put("λος", 3446);
-    freq.put("λου", 3295);
-    freq.put("ορο", 1078);
-    freq.put(" Χ ", 688);
-    freq.put("φου", 862);
-    freq.put("πω", 3057);
-    freq.put("φορ", 4132);
-    freq.put("φος", 1513);
-    freq.put("άλι", 654);
-    freq.put("εθο", 675);
-    freq.put("εθν", 2241);
-    freq.put("άλα", 1032);
-    freq.put("ας ", 38230);
-    freq.put("λον", 1147);
-    freq.put("πό", 28476);
-    freq.put("λογ", 7404);
-    freq.put("γέν", 1475);
-    freq.put("b", 4017);
-    freq.put(" Φε", 912);
-    freq.put(" Φι", 702);
-    freq.put("ύς", 3629);
-    freq.put("ύν ", 1686);
-    freq.put("εύτ", 1065);
-    freq.put("στη", 20031);
-    freq.put("βάλ", 748);
-    freq.put("άλο", 1498);
-    freq.put("Αθή", 1140);
-    freq.put("ητέ", 684);
-    freq.put("ητή", 1996);
-    freq.put("ητα", 2938);
-    freq.put("ητε", 799);
-    freq.put("ητι", 2642);
-    freq.put("ητο", 760);
-    freq.put("ρτη", 992);
-    freq.put("στο", 18068);
-    freq.put("λοί", 713);
-    freq.put("χετ", 1198);
-    freq.put("ρτο", 808);
-    freq.put(" δύ", 1562);
-    freq.put("υν ", 3485);
-    freq.put("άλη", 999);
-    freq.put("ρτί", 865);
-    freq.put(" δυ", 1764);
-    freq.put(" δρ", 920);
-    freq.put(" δο", 1194);
-    freq.put(" δι", 13223);
-    freq.put("ώ ", 1686);
-    freq.put(" δε", 3712);
-    freq.put("χεί", 1404);
-    freq.put(" δί", 798);
-    freq.put(" δή", 1731);
-    freq.put("σό", 1919);
-    freq.put("χεδ", 695);
-    freq.put("χει", 4759);
-    freq.put("ρκε", 1056);
-    freq.put("όν ", 1172);
-    freq.put("λές", 766);
-    freq.put("βολ", 1321);
-    freq.put("ρας", 2953);
-    freq.put("ηθυ", 973);
-    freq.put("μ ", 2390);
-    freq.put("Ιου", 1221);
-    freq.put("τέρ", 1900);
-    freq.put("τές", 1644);
-    freq.put("Υ", 1630);
-    freq.put("έλε", 1428);
-    freq.put("Γερ", 1165);
-    freq.put("τέχ", 815);
-    freq.put("ζον", 1351);
-    freq.put("Ή", 969);
-    freq.put("ιεί", 1032);
-    freq.put(" έτ", 734);
-    freq.put("ιλα", 936);
-    freq.put("απο", 6560);
-    freq.put("ιλε", 728);
-    freq.put("σπ", 3490);
-    freq.put("ρές", 813);
-    freq.put("ιλο", 1028);
-    freq.put("απε", 757);
-    freq.put("Α ", 1540);
-    freq.put("Αρχ", 657);
-    freq.put("ιερ", 1150);
-    freq.put("Γεν", 1089);
-    freq.put("τέλ", 1720);
-    freq.put("ιλί", 1034);
-    freq.put(" έρ", 1085);
-    freq.put("γής", 750);
-    freq.put("ηθο", 652);
-    freq.put("κτ", 10513);
-    freq.put(" Β ", 692);
-    freq.put("x", 1425);
-    freq.put("άφο", 2166);
-    freq.put("βου", 1328);
-    freq.put("ροε", 1475);
-    freq.put("ροδ", 662);
-    freq.put("ρογ", 664);
-    freq.put("ροβ", 944);
-    freq.put("ταγ", 1554);
-    freq.put("ταμ", 1209);
-    freq.put("ταν", 14808);
-    freq.put("ταξ", 1725);
-    freq.put("ρομ", 1223);
-    freq.put("ρολ", 823);
-    freq.put("ροκ", 927);
-    freq.put("ταλ", 2606);
-    freq.put("ρη ", 2996);
-    freq.put("σε ", 13475);
-    freq.put("ροέ", 803);
-    freq.put("λής", 941);
-    freq.put(" λό", 896);
-    freq.put("φων", 1670);
-    freq.put("ησι", 2711);
-    freq.put(" Λα", 1229);
-    freq.put("κ", 245170);
-    freq.put("Ηλ", 946);
-    freq.put("To", 652);
-    freq.put("στ", 76523);
-    freq.put("Ηρ", 654);
-    freq.put("c", 7473);
-    freq.put("ών ", 13524);
-    freq.put("Αγί", 679);
-    freq.put("τατ", 1252);
-    freq.put("ροφ", 1412);
-    freq.put("ρου", 6209);
-    freq.put("ροτ", 807);
-    freq.put("ροσ", 3339);
-    freq.put("ταρ", 960);
-    freq.put("τας", 2802);
-    freq.put("ροπ", 1689);
-    freq.put("ρού", 2500);
-    freq.put(" ηλ", 1023);
-    freq.put("οχή", 2609);
-    freq.put("ιών", 3452);
-    freq.put("ρωτ", 3312);
-    freq.put("ρωπ", 1145);
-    freq.put("ρωσ", 834);
-    freq.put(" Γκ", 1274);
-    freq.put(" Γι", 1594);
-    freq.put(" Γο", 753);
-    freq.put(" Γα", 1202);
-    freq.put("Αντ", 1044);
-    freq.put(" Γε", 2953);
-    freq.put("θε ", 885);
-    freq.put("ησί", 1393);
-    freq.put("pe", 702);
-    freq.put("ηρί", 1339);
-    freq.put("N", 1723);
-    freq.put("ηρο", 1562);
-    freq.put("νών", 1557);
-    freq.put("ηρι", 1012);
-    freq.put(" th", 948);
-    freq.put("Ανα", 1441);
-    freq.put("ηρε", 814);
-    freq.put("ρων", 1731);
-    freq.put("ρωμ", 989);
-    freq.put("πηρ", 828);
-    freq.put("τά ", 6317);
-    freq.put("κκλ", 769);
-    freq.put("πιτ", 871);
-    freq.put("γα ", 679);
-    freq.put("λυμ", 1032);
-    freq.put("Τ", 16684);
-    freq.put("ιότ", 2001);
-    freq.put("λπ", 663);
-    freq.put("λφ", 1355);
-    freq.put("λυ", 3470);
-    freq.put("λτ", 890);
-    freq.put("Ελλ", 2950);
-    freq.put("λω", 3053);
-    freq.put(" όλ", 952);
-    freq.put("λώ", 2414);
-    freq.put("λύ", 3607);
-    freq.put("λό", 3924);
-    freq.put("λγ", 684);
-    freq.put("λβ", 741);
-    freq.put("λα", 15386);
-    freq.put(" ότ", 1627);
-    freq.put("λη", 19148);
-    freq.put("λε", 18373);
-    freq.put("Π", 18130);
-    freq.put("λλ", 20970);
-    freq.put("λκ", 1174);
-    freq.put("λι", 20827);
-    freq.put("μό ", 3080);
-    freq.put("λο", 25987);
-    freq.put("Είν", 1389);
-    freq.put("λμ", 1804);
-    freq.put("Ιαν", 723);
-    freq.put("k ", 870);
-    freq.put("λυτ", 817);
-    freq.put("λί", 8413);
-    freq.put("λή", 4583);
-    freq.put("λέ", 5224);
-    freq.put("λά", 7390);
-    freq.put("οει", 1399);
-    freq.put("νο ", 5296);
-    freq.put("αθώ", 989);
-    freq.put("αυρ", 642);
-    freq.put("y", 3535);
-    freq.put("γαλ", 2463);
-    freq.put("αρα", 6192);
-    freq.put("γαν", 1627);
-    freq.put("αρμ", 849);
-    freq.put("αρο", 1166);
-    freq.put("αρι", 2077);
-    freq.put("O ", 936);
-    freq.put("χώρ", 2395);
-    freq.put("τάλ", 737);
-    freq.put("αρά", 1986);
-    freq.put("υμπ", 1569);
-    freq.put("τάθ", 737);
-    freq.put(" μη", 1415);
-    freq.put("τάν", 734);
-    freq.put("ύμα", 648);
-    freq.put("ύμε", 885);
-    freq.put("μός", 2661);
-    freq.put("ι", 405235);
-    freq.put("χα", 7239);
-    freq.put("tio", 831);
-    freq.put("αδε", 988);
-    freq.put("αδι", 1357);
-    freq.put("λ ", 3759);
-    freq.put("ύμφ", 1059);
-    freq.put("μόν", 1144);
-    freq.put("αδή", 866);
-    freq.put("δα ", 3858);
-    freq.put("φε", 2326);
-    freq.put("τάσ", 1170);
-    freq.put("υμο", 1114);
-    freq.put("υμμ", 700);
-    freq.put("υμβ", 739);
-    freq.put("υμα", 785);
-    freq.put("αρτ", 1786);
-    freq.put("αρχ", 6414);
-    freq.put("γασ", 694);
-    freq.put("υπή", 1017);
-    freq.put("δει", 815);
-    freq.put("υπά", 768);
-    freq.put("δελ", 851);
-    freq.put("b ", 924);
-    freq.put("δεν", 1174);
-    freq.put("ρήσ", 959);
-    freq.put("υπο", 3053);
-    freq.put("υπη", 741);
-    freq.put("λίο", 1804);
-    freq.put("λία", 3193);
-    freq.put(" δη", 3127);
-    freq.put("άλλ", 3199);
-    freq.put("θεί", 1506);
-    freq.put("ίες", 2648);
-    freq.put("νώ ", 1108);
-    freq.put("M", 3387);
-    freq.put("O", 1910);
-    freq.put("ώ", 40333);
-    freq.put("θετ", 1279);
-    freq.put("κή ", 16317);
-    freq.put("θερ", 1269);
-    freq.put("θεσ", 1224);
-    freq.put("θεω", 1121);
-    freq.put("ύμ", 4174);
-    freq.put("υπό", 808);
-    freq.put("ς ", 240346);
-    freq.put(" Έχ", 649);
-    freq.put("όδ", 1693);
-    freq.put("δεύ", 817);
-    freq.put(" ον", 2891);
-    freq.put("κατ", 10049);
-    freq.put("δες", 1552);
-    freq.put("ώνυ", 1219);
-    freq.put("φία", 1007);
-    freq.put("σει", 4874);
-    freq.put("τα ", 16925);
-    freq.put("ρο ", 6138);
-    freq.put("Σ", 17983);
-    freq.put("ήκε", 1241);
-    freq.put("Η ", 10508);
-    freq.put("χι", 3395);
-    freq.put("μης", 911);
-    freq.put(" ολ", 648);
-    freq.put(" Αθ", 2042);
-    freq.put(" Co", 711);
-    freq.put(" Νι", 686);
-    freq.put("Ια", 1067);
-    freq.put("κασ", 794);
-    freq.put("χημ", 1273);
-    freq.put(" Αι", 968);
-    freq.put(" η ", 9904);
-    freq.put("κυβ", 687);
-    freq.put("us", 1362);
-    freq.put("ur", 1293);
-    freq.put("um", 1309);
-    freq.put("ul", 682);
-    freq.put("un", 754);
-    freq.put("ώνα", 1750);
-    freq.put("z", 1248);
-    freq.put("σεω", 1071);
-    freq.put("μη", 6074);
-    freq.put("με", 36995);
-    freq.put("μβ", 5397);
-    freq.put("γή ", 1222);
-    freq.put("μα", 35176);
-    freq.put("μο", 26826);
-    freq.put("μμ", 4065);
-    freq.put("μν", 1567);
-    freq.put("μι", 14565);
-    freq.put("Σκ", 862);
-    freq.put("Σι", 796);
-    freq.put("νας", 6220);
-    freq.put("Σο", 1132);
-    freq.put("νατ", 2689);
-    freq.put("ναφ", 1731);
-    freq.put("μή", 3752);
-    freq.put("μί", 4420);
-    freq.put("Σα", 1339);
-    freq.put("μέ", 15352);
-    freq.put("Σε", 1940);
-    freq.put("A ", 657);
-    freq.put("γερ", 916);
-    freq.put(" Μα", 4467);
-    freq.put("οκα", 975);
-    freq.put("μβο", 1003);
-    freq.put("Αρ", 2646);
-    freq.put("Απ", 2382);
-    freq.put("Ασ", 1614);
-    freq.put("Αυ", 2140);
-    freq.put("ώτ", 3447);
-    freq.put("θ", 54925);
-    freq.put("μβά", 1095);
-    freq.put("Αγ", 2492);
-    freq.put("οτέ", 721);
-    freq.put("Αι", 969);
-    freq.put("Αθ", 2048);
-    freq.put("Αλ", 1805);
-    freq.put("Ακ", 644);
-    freq.put("Αν", 3971);
-    freq.put("Αμ", 1723);
-    freq.put("μβρ", 2160);
-    freq.put("οτι", 1757);
-    freq.put("μέτ", 1129);
-    freq.put("οκρ", 2314);
-    freq.put("οτα", 918);
-    freq.put(" πά", 1081);
-    freq.put("οτε", 3981);
-    freq.put(" Βε", 785);
-    freq.put("ναγ", 847);
-    freq.put("e", 26057);
-    freq.put("Σύ", 1280);
-    freq.put("σσε", 911);
-    freq.put(" Βο", 1594);
-    freq.put("νακ", 1377);
-    freq.put("σσα", 2647);
-    freq.put("Συ", 1600);
-    freq.put("Στ", 5008);
-    freq.put("μφ", 2313);
-    freq.put("μυ", 2965);
-    freq.put("μπ", 8431);
-    freq.put("μώ", 1755);
-    freq.put("μό", 8452);
-    freq.put("μω", 1439);
-    freq.put(" a", 888);
-    freq.put(" d", 1163);
-    freq.put(" ισ", 2453);
-    freq.put(" έν", 9401);
-    freq.put(" o", 780);
-    freq.put("ρνη", 961);
-    freq.put("ήσε", 1365);
-    freq.put(" r", 827);
-    freq.put(" s", 849);
-    freq.put(" p", 1168);
-    freq.put("εώ", 702);
-    freq.put("εω", 4500);
-    freq.put(" t", 1268);
-    freq.put("ευ", 8533);
-    freq.put("ετ", 27314);
-    freq.put("εχ", 2179);
-    freq.put("εφ", 1836);
-    freq.put("ερ", 40179);
-    freq.put("επ", 13811);
-    freq.put("εσ", 7584);
-    freq.put("gh", 801);
-    freq.put(" B", 2227);
-    freq.put(" C", 3233);
-    freq.put("χε", 9910);
-    freq.put(" A", 3004);
-    freq.put(" F", 1657);
-    freq.put(" G", 1632);
-    freq.put(" D", 1595);
-    freq.put(" E", 1570);
-    freq.put(" J", 1101);
-    freq.put(" K", 1080);
-    freq.put(" H", 2002);
-    freq.put(" I", 1555);
-    freq.put(" N", 1284);
-    freq.put(" O", 1504);
-    freq.put(" L", 1764);
-    freq.put(" M", 2988);
-    freq.put(" R", 1624);
-    freq.put(" S", 3325);
-    freq.put(" P", 2318);
-    freq.put("ήλ", 1001);
-    freq.put(" V", 798);
-    freq.put(" W", 1185);
-    freq.put(" T", 2305);
-    freq.put(" U", 829);
-    freq.put("χί", 2595);
-    freq.put("χή", 3366);
-    freq.put("χέ", 1462);
-    freq.put("χά", 891);
-    freq.put("ν", 363085);
-    freq.put("ήρ", 4528);
-    freq.put("ής", 18133);
-    freq.put("ήσ", 3271);
-    freq.put("ήτ", 11312);
-    freq.put("γνω", 3224);
-    freq.put("όπο", 2513);
-    freq.put("P", 2832);
-    freq.put("χτ", 889);
-    freq.put("χρ", 6885);
-    freq.put("g ", 1029);
-    freq.put("χώ", 2869);
-    freq.put("χό", 665);
-    freq.put("χω", 3038);
-    freq.put("εν", 19361);
-    freq.put("εμ", 6248);
-    freq.put("εο", 2282);
-    freq.put("εξ", 4958);
-    freq.put("ει", 35123);
-    freq.put("εθ", 3485);
-    freq.put("ελ", 15989);
-    freq.put("εκ", 9726);
-    freq.put("Μο", 1624);
-    freq.put("εζ", 688);
-    freq.put("εα", 1003);
-    freq.put("εγ", 5939);
-    freq.put("εβ", 1575);
-    freq.put("εά", 775);
-    freq.put("εί", 44740);
-    freq.put("Μά", 1161);
-    freq.put("Μέ", 678);
-    freq.put(" ιδ", 2116);
-    freq.put("ρντ", 654);
-    freq.put("ορε", 3059);
-    freq.put("πρ", 20097);
-    freq.put("οργ", 1807);
-    freq.put("ορα", 1218);
-    freq.put("πυ", 748);
-    freq.put("στά", 1775);
-    freq.put("στέ", 1100);
-    freq.put("στή", 4608);
-    freq.put("στί", 782);
-    freq.put("ορι", 2946);
-    freq.put("στε", 4570);
-    freq.put("πικ", 1602);
-    freq.put("Β", 10823);
-    freq.put("στα", 7955);
-    freq.put("πιο", 1239);
-    freq.put("ορί", 3662);
-    freq.put("πια", 723);
-    freq.put("ορέ", 747);
-    freq.put("ορά", 1572);
-    freq.put("στι", 9089);
-    freq.put(" Εθ", 914);
-    freq.put(" Εκ", 836);
-    freq.put(" Ελ", 3840);
-    freq.put("νός", 3015);
-    freq.put("ωνσ", 715);
-    freq.put(" Εί", 1505);
-    freq.put("νότ", 2168);
-    freq.put("έση", 981);
-    freq.put(" εν", 5151);
-    freq.put("ωνα", 1612);
-    freq.put("κυρ", 1539);
-    freq.put("ησε", 2338);
-    freq.put("ηση", 3739);
-    freq.put("ιεθ", 1171);
-    freq.put("ωνι", 2150);
-    freq.put("έστ", 768);
-    freq.put("νόμ", 1784);
-    freq.put(" Ευ", 1907);
-    freq.put(" Επ", 1439);
-    freq.put(" Ερ", 803);
-    freq.put("ωνί", 1735);
-    freq.put("στρ", 4375);
-    freq.put("στό", 2708);
-    freq.put("πισ", 2595);
-    freq.put("πή", 2566);
-    freq.put("πί", 4948);
-    freq.put("πά", 3903);
-    freq.put("πέ", 3142);
-    freq.put("ορφ", 1231);
-    freq.put("ορυ", 783);
-    freq.put("πα", 18678);
-    freq.put("ιός", 767);
-    freq.put("πη", 2710);
-    freq.put("πε", 16079);
-    freq.put("πλ", 7083);
-    freq.put("πι", 10919);
-    freq.put("πο", 60271);
-    freq.put("πν", 700);
-    freq.put("ξύ ", 1208);
-    freq.put("Δήμ", 1366);
-    freq.put(" τα", 7256);
-    freq.put("ελέ", 801);
-    freq.put("ση ", 12367);
-    freq.put("ύσε", 1378);
-    freq.put("ρ ", 3667);
-    freq.put(" πρ", 16846);
-    freq.put("Χ", 5356);
-    freq.put("ικη", 1192);
-    freq.put(" πό", 3153);
-    freq.put("о", 946);
-    freq.put("από", 22187);
-    freq.put(" πέ", 917);
-    freq.put("τσ", 2719);
-    freq.put(" πα", 9674);
-    freq.put(" πε", 9563);
-    freq.put(" πλ", 4421);
-    freq.put(" πι", 1545);
-    freq.put(" πο", 24345);
-    freq.put("νθρ", 1131);
-    freq.put("f", 2440);
-    freq.put("ύστ", 2139);
-    freq.put("ί ", 9847);
-    freq.put("Συν", 780);
-    freq.put("ικα", 3219);
-    freq.put("ικε", 1161);
-    freq.put("γγλ", 2042);
-    freq.put("р", 660);
-    freq.put("γγε", 798);
-    freq.put("ικι", 1228);
-    freq.put("λευ", 2243);
-    freq.put("Παλ", 664);
-    freq.put("λεσ", 1056);
-    freq.put("λες", 910);
-    freq.put("ικο", 9392);
-    freq.put("τήμ", 1493);
-    freq.put("ικά", 10371);
-    freq.put("ικέ", 3180);
-    freq.put("ική", 22548);
-    freq.put("ικί", 910);
-    freq.put(" Ντ", 1192);
-    freq.put("ίσκ", 3610);
-    freq.put("ηλα", 1079);
-    freq.put("ηλε", 1560);
-    freq.put(" ́ ", 1237);
-    freq.put("σι ", 958);
-    freq.put("ακό", 2346);
-    freq.put("ακρ", 1212);
-    freq.put("ακτ", 3182);
-    freq.put("μ", 190953);
-    freq.put("Μεσ", 722);
-    freq.put("εδρ", 932);
-    freq.put("ακο", 1635);
-    freq.put("ακα", 1680);
-    freq.put("ακε", 724);
-    freq.put("μών", 1634);
-    freq.put(" Νό", 654);
-    freq.put("ακά", 695);
-    freq.put("ακή", 1031);
-    freq.put("ίλι", 696);
-    freq.put("οιε", 1122);
-    freq.put("λεί", 3987);
-    freq.put("δη ", 882);
-    freq.put(" Κυ", 1025);
-    freq.put("τήρ", 1568);
-    freq.put("τής", 3962);
-    freq.put("ρά ", 3405);
-    freq.put("ικρ", 1864);
-    freq.put("λεμ", 1535);
-    freq.put("λεκ", 1059);
-    freq.put("λει", 2415);
-    freq.put("ικό", 19394);
-    freq.put("ικώ", 3521);
-    freq.put("εωρ", 1834);
-    freq.put("τή ", 2856);
-    freq.put("ράφ", 2049);
-    freq.put("ράτ", 1685);
-    freq.put("ράς", 805);
-    freq.put("ράσ", 941);
-    freq.put("Α", 27922);
-    freq.put("γων", 2003);
-    freq.put("ιδρ", 1035);
-    freq.put("σια", 1815);
-    freq.put("le", 1892);
-    freq.put("Να", 926);
-    freq.put(" θέ", 1277);
-    freq.put("la", 1782);
-    freq.put("σιλ", 2336);
-    freq.put("lo", 869);
-    freq.put("ll", 1391);
-    freq.put("σιο", 1662);
-    freq.put("τρω", 752);
-    freq.put("li", 1620);
-    freq.put("Νέ", 832);
-    freq.put(" θα", 781);
-    freq.put("γός", 1387);
-    freq.put("σιά", 738);
-    freq.put("φαί", 1221);
-    freq.put(" θρ", 674);
-    freq.put("τρί", 1148);
-    freq.put("φαλ", 712);
-    freq.put("φαι", 2017);
-    freq.put("τρα", 4343);
-    freq.put("φαν", 1114);
-    freq.put("Νό", 654);
-    freq.put("τρο", 5304);
-    freq.put("τρι", 3975);
-    freq.put("έδρ", 1043);
-    freq.put(" Σα", 1339);
-    freq.put("Πολ", 1465);
-    freq.put("l ", 2336);
-    freq.put("ιδι", 2412);
-    freq.put("εδο", 1081);
-    freq.put("ιδή", 920);
-    freq.put("δος", 1488);
-    freq.put("ράμ", 655);
-    freq.put("ράν", 647);
-    freq.put("ράκ", 669);
-    freq.put("δηλ", 1052);
-    freq.put(" Σε", 1934);
-    freq.put("εων", 1309);
-    freq.put("ράγ", 691);
-    freq.put("δημ", 2586);
-    freq.put(" Άγ", 671);
-    freq.put("σημ", 4910);
-    freq.put("ίω", 4466);
-    freq.put("ίχ", 2356);
-    freq.put("ίτ", 8024);
-    freq.put("ίσ", 10180);
-    freq.put("ίς", 1393);
-    freq.put("ίρ", 2411);
-    freq.put("ίπ", 1897);
-    freq.put("Αμε", 923);
-    freq.put("ήθη", 3124);
-    freq.put("Φ", 5011);
-    freq.put("θυσ", 990);
-    freq.put("ρέ", 3880);
-    freq.put("ρά", 13738);
-    freq.put("χαρ", 1871);
-    freq.put("ρή", 2864);
-    freq.put("ρα", 38879);
-    freq.put("ργ", 11016);
-    freq.put("ρβ", 958);
-    freq.put("ρε", 17142);
-    freq.put("ρδ", 1272);
-    freq.put("ρη", 8917);
-    freq.put("ρι", 40112);
-    freq.put("ρθ", 1230);
-    freq.put("ρλ", 780);
-    freq.put("ρκ", 3719);
-    freq.put("ρν", 3338);
-    freq.put("ρμ", 5151);
-    freq.put("ρο", 41731);
-    freq.put("ρξ", 1376);
-    freq.put("χαί", 1771);
-    freq.put("ρξε", 1053);
-    freq.put("ρσ", 1303);
-    freq.put(" π ", 930);
-    freq.put("ρυ", 3661);
-    freq.put("ρτ", 5071);
-    freq.put("ρχ", 9524);
-    freq.put("ρφ", 1653);
-    freq.put("ρω", 9925);
-    freq.put("ρύ", 1952);
-    freq.put("ρό", 9460);
-    freq.put("ρώ", 6736);
-    freq.put("χαν", 1478);
-    freq.put("χαι", 840);
-    freq.put("g", 5100);
-    freq.put("ίο", 20214);
-    freq.put("ίν", 31172);
-    freq.put("ίμ", 2180);
-    freq.put("ίλ", 2453);
-    freq.put("ίκ", 4798);
-    freq.put("ίθ", 1008);
-    freq.put("ίζ", 4719);
-    freq.put("ίε", 2902);
-    freq.put("ίδ", 6660);
-    freq.put("ίγ", 1307);
-    freq.put("ίβ", 669);
-    freq.put("ία", 42781);
-    freq.put("φέρ", 3057);
-    freq.put("δων", 753);
-    freq.put("κτο", 1065);
-    freq.put("κτι", 1278);
-    freq.put("ανώ", 968);
-    freq.put("κτη", 2180);
-    freq.put("έτρ", 1180);
-    freq.put("κτα", 758);
-    freq.put("κτή", 823);
-    freq.put("νού", 1967);
-    freq.put("νος", 3551);
-    freq.put("νορ", 724);
-    freq.put("νου", 4641);
-    freq.put("νοτ", 857);
-    freq.put("οδι", 937);
-    freq.put("συσ", 899);
-    freq.put("οδο", 3299);
-    freq.put("μμα", 1876);
-    freq.put("γ", 101330);
-    freq.put("ίων", 2775);
-    freq.put("ηνο", 892);
-    freq.put("λ", 175427);
-    freq.put("ρον", 3303);
-    freq.put("ght", 666);
-    freq.put("ταθ", 1117);
-    freq.put("οφο", 1172);
-    freq.put("ται", 21198);
-    freq.put("ων ", 25196);
-    freq.put("νό ", 1732);
-    freq.put("R", 1938);
-    freq.put("συγ", 2509);
-    freq.put("συν", 5781);
-    freq.put("συμ", 1798);
-    freq.put("ηνα", 1733);
-    freq.put("νολ", 1206);
-    freq.put("π ", 1661);
-    freq.put("νον", 1006);
-    freq.put("νομ", 10454);
-    freq.put(" Δη", 1617);
-    freq.put("ση", 23543);
-    freq.put(" Δε", 1217);
-    freq.put("υκλ", 727);
-    freq.put(" Δή", 1387);
-    freq.put("κτω", 740);
-    freq.put("κα ", 1888);
-    freq.put("κτρ", 885);
-    freq.put("έτη", 1275);
-    freq.put("αλλ", 4951);
-    freq.put("αλι", 1989);
-    freq.put("αλο", 1928);
-    freq.put("αλα", 2736);
-    freq.put("αλε", 761);
-    freq.put("ΐ", 1269);
-    freq.put("αλί", 1668);
-    freq.put("αλά", 833);
-    freq.put("υλο", 1136);
-    freq.put(" σ", 77620);
-    freq.put(" π", 75432);
-    freq.put(" ρ", 2618);
-    freq.put(" φ", 8389);
-    freq.put(" χ", 14827);
-    freq.put(" τ", 169076);
-    freq.put(" υ", 7977);
-    freq.put("ή ", 39734);
-    freq.put(" ψ", 866);
-    freq.put(" ω", 4856);
-    freq.put("τμ", 1495);
-    freq.put(" ό", 12814);
-    freq.put(" ύ", 1013);
-    freq.put("υλί", 1002);
-    freq.put("θώς", 900);
-    freq.put("ώτο", 1121);
-    freq.put("ώτη", 1214);
-    freq.put(" Σ", 17547);
-    freq.put(" Π", 17476);
-    freq.put(" Ρ", 3989);
-    freq.put(" Φ", 4909);
-    freq.put(" Χ", 5293);
-    freq.put(" Τ", 16381);
-    freq.put(" Υ", 1521);
-    freq.put("κλε", 952);
-    freq.put(" Ω", 1004);
-    freq.put(" ή", 17892);
-    freq.put(" ί", 1230);
-    freq.put(" ά", 5017);
-    freq.put(" έ", 20443);
-    freq.put(" β", 11610);
-    freq.put(" γ", 22099);
-    freq.put(" α", 74025);
-    freq.put(" ζ", 1711);
-    freq.put(" η", 13278);
-    freq.put(" δ", 29475);
-    freq.put(" ε", 62623);
-    freq.put(" κ", 74116);
-    freq.put(" λ", 7381);
-    freq.put(" θ", 8090);
-    freq.put(" ι", 6475);
-    freq.put(" ξ", 1157);
-    freq.put(" ο", 35203);
-    freq.put(" μ", 51074);
-    freq.put("ύτε", 2598);
-    freq.put(" Ά", 2711);
-    freq.put("έγι", 781);
-    freq.put("λεγ", 742);
-    freq.put(" Έ", 4041);
-    freq.put(" Ή", 969);
-    freq.put(" Ό", 1018);
-    freq.put(" Β", 10719);
-    freq.put(" Γ", 10190);
-    freq.put(" Α", 26876);
-    freq.put(" Ζ", 1948);
-    freq.put(" Η", 13284);
-    freq.put(" Δ", 9620);
-    freq.put(" Ε", 14504);
-    freq.put(" Κ", 17657);
-    freq.put(" Λ", 6140);
-    freq.put(" Θ", 3256);
-    freq.put(" Ι", 8408);
-    freq.put("ε ", 49298);
-    freq.put(" Μ", 17373);
-    freq.put(" Ν", 8118);
-    freq.put("οσι", 846);
-    freq.put("δης", 760);
-    freq.put("πλα", 1198);
-    freq.put("πλη", 1610);
-    freq.put("πλε", 822);
-    freq.put("πλο", 1278);
-    freq.put("οση", 738);
-    freq.put("Ε", 15220);
-    freq.put(" Ηλ", 946);
-    freq.put("σφα", 2732);
-    freq.put("έρα", 2072);
-    freq.put("έργ", 1441);
-    freq.put("ha", 1115);
-    freq.put("έρε", 2865);
-    freq.put("έρι", 1085);
-    freq.put("έρν", 854);
-    freq.put("έρο", 1656);
-    freq.put("ωγρ", 700);
-    freq.put(" Ήτ", 719);
-    freq.put(" ακ", 2186);
-    freq.put("ίνα", 24006);
-    freq.put("ρύθ", 842);
-    freq.put("ωγή", 1132);
-    freq.put("έρχ", 675);
-    freq.put("Παν", 1277);
-    freq.put("ίνη", 1713);
-    freq.put("ιδώ", 1125);
-    freq.put("ng ", 653);
-    freq.put("μπι", 1180);
-    freq.put(" Ηρ", 653);
-    freq.put("h", 7717);
-    freq.put("οσω", 886);
-    freq.put("βρα", 834);
-    freq.put("οσπ", 775);
-    freq.put("οστ", 1538);
-    freq.put("οσφ", 2182);
-    freq.put("ύρι", 1436);
-    freq.put("ίνο", 1856);
-    freq.put("νής", 1328);
-    freq.put("νήσ", 732);
-    freq.put("μπα", 642);
-    freq.put("λων", 1650);
-    freq.put("αι ", 81620);
-    freq.put("μος", 2596);
-    freq.put("μοσ", 1084);
-    freq.put("μοπ", 1626);
-    freq.put("τό ", 2629);
-    freq.put("μοτ", 850);
-    freq.put("μου", 4833);
-    freq.put("μού", 4831);
-    freq.put("μέλ", 884);
-    freq.put("μέν", 7654);
-    freq.put("αθλ", 1208);
-    freq.put("μέγ", 746);
-    freq.put("αθο", 890);
-    freq.put("αθμ", 688);
-    freq.put("έα ", 1626);
-    freq.put("μέρ", 1935);
-    freq.put("μέσ", 1359);
-    freq.put("ύς ", 3624);
-    freq.put("μέχ", 973);
-    freq.put("S", 4250);
-    freq.put("θην", 731);
-    freq.put("μοκ", 1030);
-    freq.put("θηκ", 7617);
-    freq.put("μοι", 670);
-    freq.put("μον", 2292);
-    freq.put("να ", 17430);
-    freq.put("μά ", 961);
-    freq.put("νήθ", 2044);
-    freq.put("τρό", 832);
-    freq.put("νήκ", 1169);
-    freq.put("σικ", 3297);
-    freq.put("Νο", 1706);
-    freq.put("τύπ", 651);
-    freq.put("ci", 771);
-    freq.put("ch", 1350);
-    freq.put("co", 859);
-    freq.put("αυτ", 5333);
-    freq.put("ιθμ", 885);
-    freq.put("θέτ", 764);
-    freq.put("Νι", 687);
-    freq.put("ca", 818);
-    freq.put("ce", 966);
-    freq.put("θέσ", 1185);
-    freq.put("ληρ", 1062);
-    freq.put("λησ", 1042);
-    freq.put("λης", 1640);
-    freq.put("λητ", 1184);
-    freq.put("σιμ", 2018);
-    freq.put("κι ", 739);
-    freq.put("ύθη", 1068);
-    freq.put("Ήτα", 715);
-    freq.put("άρι", 1410);
-    freq.put("άρκ", 849);
-    freq.put(" λε", 1503);
-    freq.put("γών", 991);
-    freq.put("ο", 514934);
-    freq.put("εβρ", 814);
-    freq.put("άρτ", 1022);
-    freq.put("am", 1144);
-    freq.put("άρχ", 1270);
-    freq.put("τρε", 1070);
-    freq.put("υθο", 2042);
-    freq.put("γεί", 984);
-    freq.put("ληθ", 1186);
-    freq.put("λην", 6429);
-    freq.put("λημ", 897);
-    freq.put("ar", 3025);
-    freq.put(" θε", 3732);
-    freq.put("ήνα", 1396);
-    freq.put("γεν", 3283);
-    freq.put(" Ορ", 742);
-    freq.put("γει", 1005);
-    freq.put("γεθ", 651);
-    freq.put("ve", 914);
-    freq.put("δας", 1990);
-    freq.put("vi", 759);
-    freq.put("ύε", 938);
-    freq.put("ύδ", 738);
-    freq.put("όρο", 2945);
-    freq.put("όρι", 647);
-    freq.put("ύγ", 1143);
-    freq.put("ύν", 5639);
-    freq.put("όρε", 1336);
-    freq.put("ύο", 2732);
-    freq.put("όρη", 995);
-    freq.put("Ήτ", 719);
-    freq.put("ύλ", 2704);
-    freq.put("ύκ", 1365);
-    freq.put(" κέ", 693);
-    freq.put("δο", 11445);
-    freq.put("Λα", 1230);
-    freq.put("ing", 654);
-    freq.put("Λε", 948);
-    freq.put("δι", 23594);
-    freq.put("δη", 5995);
-    freq.put("Λι", 661);
-    freq.put("δε", 9279);
-    freq.put("Λο", 1279);
-    freq.put("ταφ", 747);
-    freq.put("δα", 7905);
-    freq.put("δή", 3929);
-    freq.put("Έν", 837);
-    freq.put("δά", 972);
-    freq.put("δέ", 1507);
-    freq.put(" κι", 1426);
-    freq.put(" κλ", 1289);
-    freq.put(" κε", 1166);
-    freq.put(" κα", 52893);
-    freq.put("ρος", 5922);
-    freq.put(" κύ", 1020);
-    freq.put(" κό", 2579);
-    freq.put("υβ", 1419);
-    freq.put(" κυ", 2799);
-    freq.put("τασ", 3623);
-    freq.put(" κρ", 1753);
-    freq.put("θλη", 1496);
-    freq.put("δώ", 1804);
-    freq.put("ion", 1164);
-    freq.put("δό", 1968);
-    freq.put("δύ", 1829);
-    freq.put("δω", 1451);
-    freq.put(" άν", 742);
-    freq.put("δυ", 2966);
-    freq.put(" άλ", 1949);
-    freq.put(" ημ", 735);
-    freq.put("δρ", 8223);
-    freq.put("ύτ", 4068);
-    freq.put("ύχ", 810);
-    freq.put("ύφ", 886);
-    freq.put("ύρ", 4445);
-    freq.put("ύπ", 2849);
-    freq.put("ύσ", 5147);
-    freq.put("Ντ", 1194);
-    freq.put("i", 21525);
-    freq.put(" λο", 894);
-    freq.put("φ ", 702);
-    freq.put("εχν", 1145);
-    freq.put(" Έλ", 1540);
-    freq.put("σωπ", 940);
-    freq.put("ύ ", 16375);
-    freq.put("πάρ", 1052);
-    freq.put("ωμα", 2019);
-    freq.put("Μαρ", 1413);
-    freq.put("φρ", 1732);
-    freq.put("φυ", 2356);
-    freq.put("φόρ", 1260);
-    freq.put("ρών", 1362);
-    freq.put("πως", 2026);
-    freq.put("ωμέ", 1015);
-    freq.put("φό", 1995);
-    freq.put("φύ", 644);
-    freq.put("Ω", 1026);
-    freq.put("ρμο", 1033);
-    freq.put("ορτ", 877);
-    freq.put("ασσ", 883);
-    freq.put("ρμα", 2357);
-    freq.put(" μι", 5537);
-    freq.put("αϊκ", 1749);
-    freq.put("T", 2696);
-    freq.put("ηνι", 4662);
-    freq.put("Απο", 822);
-    freq.put("ρώτ", 2338);
-    freq.put("φα", 6317);
-    freq.put("ρώπ", 1017);
-    freq.put("πων", 724);
-    freq.put("φη", 1268);
-    freq.put("φθ", 1094);
-    freq.put("φι", 3786);
-    freq.put("φο", 8165);
-    freq.put("πάν", 921);
-    freq.put("φά", 1435);
-    freq.put("φέ", 4345);
-    freq.put("φή", 2402);
-    freq.put("φί", 1583);
-    freq.put("Αστ", 933);
-    freq.put("ηγο", 953);
-    freq.put("οπτ", 643);
-    freq.put("νίκ", 973);
-    freq.put("Στη", 2306);
-    freq.put("νίο", 894);
-    freq.put("αφε", 651);
-    freq.put("οπό", 828);
-    freq.put("νία", 4805);
-    freq.put("κιν", 1980);
-    freq.put("ξ", 16299);
-    freq.put("κισ", 1099);
-    freq.put("Γκ", 1275);
-    freq.put("ισμ", 7142);
-    freq.put("οπο", 11630);
-    freq.put("ιση", 1365);
-    freq.put("σχο", 662);
-    freq.put("σχε", 1174);
-    freq.put("Έλλ", 1427);
-    freq.put("ννο", 742);
-    freq.put("ννη", 1767);
-    freq.put("τμή", 1027);
-    freq.put("λη ", 4716);
-    freq.put("ννή", 1417);
-    freq.put("es ", 1146);
-    freq.put("Δια", 869);
-    freq.put("αιν", 1733);
-    freq.put("αιο", 1032);
-    freq.put("αιδ", 651);
-    freq.put("μάτ", 1753);
-    freq.put("ίκη", 1461);
-    freq.put("Γ", 10307);
-    freq.put("εκε", 1191);
-    freq.put("ίκο", 1574);
-    freq.put("h ", 975);
-    freq.put("Γο", 754);
-    freq.put("έας", 1468);
-    freq.put("τός", 2183);
-    freq.put("μο ", 3714);
-    freq.put("τότ", 864);
-    freq.put("ht", 808);
-    freq.put("hu", 877);
-    freq.put("hi", 783);
-    freq.put("φέα", 711);
-    freq.put("he", 1545);
-    freq.put("νή ", 1793);
-    freq.put("αιό", 1091);
-    freq.put("αιώ", 1483);
-    freq.put("χος", 1298);
-    freq.put("αιρ", 2790);
-    freq.put("μάζ", 1519);
-    freq.put("μάδ", 1518);
-    freq.put("ηκε", 8651);
-    freq.put(" Η ", 10438);
-    freq.put("ις ", 13118);
-    freq.put("ηκα", 1019);
-    freq.put("ργα", 2610);
-    freq.put(" ου", 1649);
-    freq.put("ργε", 920);
-    freq.put("τίσ", 697);
-    freq.put("ργι", 803);
-    freq.put("ργο", 1794);
-    freq.put("τίτ", 882);
-    freq.put("εγά", 1944);
-    freq.put(" οπ", 6947);
-    freq.put(" ορ", 3515);
-    freq.put("ργί", 829);
-    freq.put("ργά", 995);
-    freq.put("αφο", 1697);
-    freq.put("αφι", 1185);
-    freq.put("βόρ", 789);
-    freq.put("αφέ", 2568);
-    freq.put("αφή", 1070);
-    freq.put("αφί", 785);
-    freq.put("U", 1129);
-    freq.put("τίο", 1122);
-    freq.put("τίν", 835);
-    freq.put("τία", 2320);
-    freq.put("ργό", 1216);
-    freq.put("ωτο", 763);
-    freq.put("ωτι", 1342);
-    freq.put("ωτε", 1561);
-    freq.put("ωτα", 785);
-    freq.put("άπο", 1033);
-    freq.put("Δι", 2406);
-    freq.put("εγα", 1515);
-    freq.put("εγκ", 737);
-  }
-  
 }
-
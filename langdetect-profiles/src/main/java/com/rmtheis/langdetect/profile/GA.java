@@ -1,5916 +1,15 @@
 package com.rmtheis.langdetect.profile;
 
-import java.util.HashMap;
-
 import com.cybozu.labs.langdetect.util.LangProfile;
-import com.cybozu.labs.langdetect.util.NGram;
 
 public class GA {
   private static final String name = "ga";
-  private static final HashMap<String, Integer> freq = new HashMap<String, Integer>();
-  private static final int[] n_words = new int[NGram.N_GRAM];
 
   public GA() {
-    init();  
   }
 
   public final LangProfile getLangProfile() {
-    return new LangProfile(name, freq, n_words);
+    return Profiles.load(name);
   }
-  
-  private void init() {
-    n_words[0] = 1346129;
-    n_words[1] = 1623635;
-    n_words[2] = 1308708;
-
-    freq.put("tír", 606);
-    freq.put("tíl", 50);
-    freq.put("tín", 149);
-    freq.put("tío", 154);
-    freq.put("fur", 17);
-    freq.put("tí ", 809);
-    freq.put(" y ", 28);
-    freq.put(" fé", 577);
-    freq.put("k", 1737);
-    freq.put("péi", 112);
-    freq.put("Lá", 163);
-    freq.put("péa", 48);
-    freq.put("Lí", 32);
-    freq.put("Lé", 53);
-    freq.put("Lú", 395);
-    freq.put("Le", 491);
-    freq.put("La", 609);
-    freq.put("Lo", 614);
-    freq.put("Ll", 24);
-    freq.put("Li", 408);
-    freq.put("Lu", 335);
-    freq.put("Ly", 38);
-    freq.put("hog", 133);
-    freq.put("hod", 30);
-    freq.put("hob", 241);
-    freq.put("hoc", 113);
-    freq.put("hon", 716);
-    freq.put("hol", 348);
-    freq.put("hom", 626);
-    freq.put("ά", 19);
-    freq.put("hoi", 807);
-    freq.put("how", 16);
-    freq.put("hot", 43);
-    freq.put("hor", 473);
-    freq.put("hos", 256);
-    freq.put("hop", 25);
-    freq.put("A", 5367);
-    freq.put("م", 48);
-    freq.put("L ", 51);
-    freq.put("Ö", 14);
-    freq.put("ος ", 28);
-    freq.put("ho ", 34);
-    freq.put("ū", 19);
-    freq.put("hu ", 168);
-    freq.put("fir", 44);
-    freq.put("fis", 60);
-    freq.put("Hit", 18);
-    freq.put("fit", 18);
-    freq.put("ró", 676);
-    freq.put("rú", 779);
-    freq.put("fic", 105);
-    freq.put("fia", 38);
-    freq.put("rá", 2009);
-    freq.put("fid", 30);
-    freq.put("Hig", 22);
-    freq.put("rí", 3930);
-    freq.put("Hil", 25);
-    freq.put("ré", 2568);
-    freq.put("fil", 119);
-    freq.put("Hio", 16);
-    freq.put(" Va", 113);
-    freq.put(" Ve", 93);
-    freq.put(" Vi", 167);
-    freq.put("zab", 15);
-    freq.put(" Vo", 36);
-    freq.put("Mai", 143);
-    freq.put("atá", 1959);
-    freq.put("ató", 45);
-    freq.put("dró", 22);
-    freq.put("mdh", 15);
-    freq.put("íbh", 382);
-    freq.put("rt", 5685);
-    freq.put("ru", 2167);
-    freq.put("rv", 57);
-    freq.put("rw", 39);
-    freq.put("rp", 389);
-    freq.put("rr", 1332);
-    freq.put("rs", 1355);
-    freq.put("fiú", 44);
-    freq.put("smu", 24);
-    freq.put("rx", 21);
-    freq.put("ry", 348);
-    freq.put("rz", 27);
-    freq.put("rd", 1927);
-    freq.put("re", 8800);
-    freq.put("rf", 169);
-    freq.put("rg", 994);
-    freq.put("ra", 9135);
-    freq.put("rb", 776);
-    freq.put("rc", 1015);
-    freq.put("rl", 1840);
-    freq.put("rm", 1323);
-    freq.put("rn", 1077);
-    freq.put("ro", 1820);
-    freq.put("rh", 40);
-    freq.put("ri", 5360);
-    freq.put("sma", 98);
-    freq.put("rk", 221);
-    freq.put(" Ví", 26);
-    freq.put("drá", 86);
-    freq.put("ate", 101);
-    freq.put("nrú", 15);
-    freq.put("atn", 41);
-    freq.put("ato", 56);
-    freq.put("atl", 30);
-    freq.put("atm", 35);
-    freq.put("ath", 2853);
-    freq.put("ati", 172);
-    freq.put("att", 85);
-    freq.put("atu", 25);
-    freq.put("r ", 26836);
-    freq.put("ats", 25);
-    freq.put("ds ", 70);
-    freq.put("Dui", 58);
-    freq.put("Dun", 28);
-    freq.put("Dua", 39);
-    freq.put("Dub", 47);
-    freq.put("Cea", 371);
-    freq.put("Ceo", 53);
-    freq.put("Cen", 23);
-    freq.put("Cel", 18);
-    freq.put("Cei", 73);
-    freq.put("nz ", 20);
-    freq.put(" fr", 394);
-    freq.put("í", 22652);
-    freq.put("Son", 17);
-    freq.put("hua", 936);
-    freq.put("Ass", 25);
-    freq.put("ア", 18);
-    freq.put("Ast", 182);
-    freq.put("Asa", 26);
-    freq.put(" fe", 599);
-    freq.put("х", 18);
-    freq.put("bhs", 39);
-    freq.put("As ", 53);
-    freq.put("lph", 21);
-    freq.put("né ", 24);
-    freq.put("iré", 62);
-    freq.put("irí", 823);
-    freq.put("néi", 221);
-    freq.put("néa", 182);
-    freq.put("X", 81);
-    freq.put("Riv", 17);
-    freq.put("ner", 75);
-    freq.put("Rit", 19);
-    freq.put("Ris", 24);
-    freq.put("Rin", 78);
-    freq.put("Rio", 16);
-    freq.put("Ric", 56);
-    freq.put("Ria", 85);
-    freq.put("irp", 47);
-    freq.put("irs", 353);
-    freq.put("irt", 1857);
-    freq.put("irv", 17);
-    freq.put("iri", 2132);
-    freq.put("irk", 27);
-    freq.put("irl", 227);
-    freq.put("irm", 319);
-    freq.put("irn", 286);
-    freq.put("iro", 33);
-    freq.put("ira", 42);
-    freq.put("irb", 139);
-    freq.put("irc", 279);
-    freq.put("ird", 294);
-    freq.put("ire", 4833);
-    freq.put("irf", 27);
-    freq.put("irg", 383);
-    freq.put("áip", 28);
-    freq.put("cus", 41);
-    freq.put("ir ", 10292);
-    freq.put("and", 712);
-    freq.put("ane", 93);
-    freq.put("TD ", 24);
-    freq.put("fra", 143);
-    freq.put("dhé", 348);
-    freq.put("fri", 80);
-    freq.put("dhá", 244);
-    freq.put("anl", 23);
-    freq.put("dhú", 132);
-    freq.put("dhó", 20);
-    freq.put("ann", 7828);
-    freq.put("cua", 56);
-    freq.put("anh", 18);
-    freq.put("rgi", 106);
-    freq.put("ála", 655);
-    freq.put(" Su", 231);
-    freq.put("cul", 63);
-    freq.put("BC ", 31);
-    freq.put("cui", 390);
-    freq.put("bin", 47);
-    freq.put("dru", 42);
-    freq.put("Nav", 15);
-    freq.put("Din", 17);
-    freq.put("dho", 62);
-    freq.put("dhn", 28);
-    freq.put("dhm", 310);
-    freq.put("dhl", 50);
-    freq.put("dhi", 80);
-    freq.put("dhe", 442);
-    freq.put("dhb", 24);
-    freq.put("dha", 260);
-    freq.put("Béa", 950);
-    freq.put("dhu", 100);
-    freq.put("dhr", 104);
-    freq.put("с", 109);
-    freq.put("ML ", 17);
-    freq.put("bé", 131);
-    freq.put("tz ", 31);
-    freq.put("bia", 125);
-    freq.put("dh ", 5455);
-    freq.put("olá", 174);
-    freq.put("bó", 145);
-    freq.put("oló", 41);
-    freq.put("olú", 33);
-    freq.put("hai", 6276);
-    freq.put("hal", 414);
-    freq.put("ham", 346);
-    freq.put("han", 1176);
-    freq.put("hao", 727);
-    freq.put("hab", 166);
-    freq.put("hac", 666);
-    freq.put("had", 297);
-    freq.put("hae", 331);
-    freq.put("hag", 201);
-    freq.put("hap", 30);
-    freq.put("har", 2134);
-    freq.put("has", 684);
-    freq.put("hat", 707);
-    freq.put("ha ", 3363);
-    freq.put("ola", 1711);
-    freq.put("olc", 90);
-    freq.put("old", 55);
-    freq.put("ole", 55);
-    freq.put("olf", 34);
-    freq.put("olg", 25);
-    freq.put("oli", 70);
-    freq.put(" ío", 64);
-    freq.put("oll", 644);
-    freq.put("olm", 81);
-    freq.put("olo", 58);
-    freq.put("olr", 30);
-    freq.put("ols", 26);
-    freq.put("olt", 377);
-    freq.put("olu", 29);
-    freq.put(" ís", 30);
-    freq.put("haí", 305);
-    freq.put("for", 412);
-    freq.put("fos", 28);
-    freq.put("Lút", 94);
-    freq.put("ume", 17);
-    freq.put("fog", 33);
-    freq.put("uma", 512);
-    freq.put("Lún", 278);
-    freq.put("umm", 17);
-    freq.put("fon", 18);
-    freq.put("foi", 441);
-    freq.put("ol ", 417);
-    freq.put("ον", 16);
-    freq.put(" í ", 1887);
-    freq.put("o", 48493);
-    freq.put("fo ", 28);
-    freq.put("um ", 194);
-    freq.put("Lú ", 20);
-    freq.put("mbl", 503);
-    freq.put("soc", 67);
-    freq.put("mbo", 25);
-    freq.put("mbi", 32);
-    freq.put("Fea", 348);
-    freq.put("soi", 82);
-    freq.put("mbe", 81);
-    freq.put("sol", 68);
-    freq.put("Fei", 128);
-    freq.put("sor", 16);
-    freq.put("Fer", 45);
-    freq.put("mbu", 66);
-    freq.put("mbr", 65);
-    freq.put("so ", 31);
-    freq.put("σ", 40);
-    freq.put("azi", 25);
-    freq.put("aza", 20);
-    freq.put("Sir", 43);
-    freq.put("mbé", 18);
-    freq.put("Sic", 20);
-    freq.put("Sib", 15);
-    freq.put("Sia", 23);
-    freq.put("kha", 23);
-    freq.put("Sio", 65);
-    freq.put("Sin", 55);
-    freq.put("Sim", 55);
-    freq.put("mbó", 35);
-    freq.put("AD ", 23);
-    freq.put("E", 1972);
-    freq.put("アア", 15);
-    freq.put("Idi", 92);
-    freq.put("Ú", 160);
-    freq.put("hó ", 54);
-    freq.put("osp", 42);
-    freq.put("oss", 42);
-    freq.put("osr", 51);
-    freq.put("Byr", 24);
-    freq.put("ost", 375);
-    freq.put("osh", 28);
-    freq.put("osl", 98);
-    freq.put("oso", 32);
-    freq.put("osn", 18);
-    freq.put("osa", 407);
-    freq.put("osc", 122);
-    freq.put("ose", 75);
-    freq.put("osf", 14);
-    freq.put("ver", 165);
-    freq.put("ves", 15);
-    freq.put("ven", 46);
-    freq.put("vel", 29);
-    freq.put("útó", 18);
-    freq.put("vei", 42);
-    freq.put("lra", 80);
-    freq.put("Má", 456);
-    freq.put("hóg", 71);
-    freq.put("hód", 18);
-    freq.put("Mí", 197);
-    freq.put("hói", 282);
-    freq.put("Mé", 25);
-    freq.put("hór", 401);
-    freq.put("hós", 139);
-    freq.put("Mó", 140);
-    freq.put("Mü", 22);
-    freq.put("Mú", 20);
-    freq.put("Tar", 51);
-    freq.put("rgí", 14);
-    freq.put("Tag", 65);
-    freq.put("ve ", 67);
-    freq.put("Tal", 28);
-    freq.put("Tam", 21);
-    freq.put("Tan", 19);
-    freq.put("Tao", 30);
-    freq.put("Tai", 37);
-    freq.put("osú", 142);
-    freq.put("M ", 83);
-    freq.put("rec", 16);
-    freq.put("osó", 14);
-    freq.put("yd ", 20);
-    freq.put("osé", 18);
-    freq.put("osá", 17);
-    freq.put("úth", 153);
-    freq.put("úta", 17);
-    freq.put("géa", 181);
-    freq.put("géi", 147);
-    freq.put("Me", 1284);
-    freq.put("Ma", 1327);
-    freq.put("Mc", 98);
-    freq.put("Mo", 406);
-    freq.put("Mi", 403);
-    freq.put("Mh", 1155);
-    freq.put("Mu", 285);
-    freq.put("uff", 30);
-    freq.put("My", 20);
-    freq.put("Bon", 27);
-    freq.put("ipe", 96);
-    freq.put("ipi", 79);
-    freq.put("ips", 24);
-    freq.put("ipp", 21);
-    freq.put("ipt", 76);
-    freq.put("afa", 69);
-    freq.put("téi", 199);
-    freq.put("téa", 299);
-    freq.put("ip ", 117);
-    freq.put("mba", 240);
-    freq.put("sú", 492);
-    freq.put("só", 186);
-    freq.put("Liv", 18);
-    freq.put("ñ", 23);
-    freq.put("sé", 2086);
-    freq.put("sí", 985);
-    freq.put("sá", 626);
-    freq.put("té ", 28);
-    freq.put("Cé ", 51);
-    freq.put("Mho", 39);
-    freq.put("ipé", 81);
-    freq.put("ipí", 17);
-    freq.put("Whi", 17);
-    freq.put("s ", 29560);
-    freq.put("Céa", 22);
-    freq.put("Mhe", 373);
-    freq.put("Céi", 17);
-    freq.put("sz", 28);
-    freq.put("sy", 34);
-    freq.put("ss", 379);
-    freq.put("sr", 416);
-    freq.put("sp", 789);
-    freq.put("sw", 26);
-    freq.put("su", 1468);
-    freq.put("st", 5067);
-    freq.put("sk", 149);
-    freq.put("si", 3838);
-    freq.put("sh", 1228);
-    freq.put("so", 753);
-    freq.put("sn", 666);
-    freq.put("sm", 219);
-    freq.put("sl", 560);
-    freq.put("sc", 3980);
-    freq.put("sb", 93);
-    freq.put("sa", 7835);
-    freq.put("sg", 76);
-    freq.put("sf", 132);
-    freq.put("se", 3651);
-    freq.put("sd", 35);
-    freq.put("tts", 17);
-    freq.put("ttp", 53);
-    freq.put("Dlí", 35);
-    freq.put("tti", 29);
-    freq.put("tth", 14);
-    freq.put("tto", 23);
-    freq.put("ttl", 27);
-    freq.put("pín", 27);
-    freq.put("pío", 31);
-    freq.put("tte", 89);
-    freq.put(" ph", 761);
-    freq.put("bló", 16);
-    freq.put("blí", 56);
-    freq.put("tt ", 71);
-    freq.put("ách", 270);
-    freq.put("П", 17);
-    freq.put("Jos", 64);
-    freq.put("Joy", 18);
-    freq.put("mór", 457);
-    freq.put("món", 35);
-    freq.put("bli", 926);
-    freq.put("Joe", 27);
-    freq.put("mói", 77);
-    freq.put("Joh", 203);
-    freq.put("hch", 612);
-    freq.put("bla", 511);
-    freq.put("Jon", 27);
-    freq.put("mó ", 604);
-    freq.put("oni", 64);
-    freq.put("onn", 1898);
-    freq.put("ono", 40);
-    freq.put("saí", 406);
-    freq.put("onm", 22);
-    freq.put("onc", 148);
-    freq.put("ona", 897);
-    freq.put("onf", 22);
-    freq.put("ong", 260);
-    freq.put("ond", 268);
-    freq.put("one", 117);
-    freq.put("ony", 50);
-    freq.put("íní", 128);
-    freq.put("onr", 302);
-    freq.put("ons", 354);
-    freq.put("ont", 2217);
-    freq.put(" Zi", 16);
-    freq.put(" Ze", 18);
-    freq.put("on ", 2106);
-    freq.put(" Za", 30);
-    freq.put("sai", 592);
-    freq.put("sao", 275);
-    freq.put("san", 1622);
-    freq.put("sam", 141);
-    freq.put("sal", 68);
-    freq.put("sac", 654);
-    freq.put("sab", 21);
-    freq.put("oná", 62);
-    freq.put("sag", 75);
-    freq.put("sae", 23);
-    freq.put("sad", 54);
-    freq.put("onú", 23);
-    freq.put("íni", 119);
-    freq.put("sas", 19);
-    freq.put("sar", 67);
-    freq.put("íne", 254);
-    freq.put("sat", 24);
-    freq.put("zon", 14);
-    freq.put("ax ", 19);
-    freq.put("sa ", 3740);
-    freq.put("ín ", 561);
-    freq.put("ال", 39);
-    freq.put("É ", 47);
-    freq.put(" bá", 278);
-    freq.put(" bí", 103);
-    freq.put(" bé", 67);
-    freq.put("Éi", 2322);
-    freq.put(" bó", 54);
-    freq.put("Éa", 62);
-    freq.put("aí ", 2937);
-    freq.put("up", 67);
-    freq.put("us", 8283);
-    freq.put("ur", 1536);
-    freq.put("um", 955);
-    freq.put(" b ", 71);
-    freq.put("ul", 621);
-    freq.put("un", 1808);
-    freq.put("aíl", 74);
-    freq.put("aío", 2153);
-    freq.put("aín", 34);
-    freq.put("aíd", 33);
-    freq.put("ue", 219);
-    freq.put(" bP", 203);
-    freq.put("aít", 187);
-    freq.put(" be", 526);
-    freq.put(" ba", 1293);
-    freq.put(" bl", 423);
-    freq.put(" bo", 185);
-    freq.put(" bi", 158);
-    freq.put(" bh", 6443);
-    freq.put(" bu", 524);
-    freq.put("s", 65408);
-    freq.put(" bp", 167);
-    freq.put(" br", 367);
-    freq.put("ivé", 51);
-    freq.put("ní ", 309);
-    freq.put("Réa", 133);
-    freq.put("úrt", 165);
-    freq.put("úrs", 169);
-    freq.put(" Ús", 41);
-    freq.put("úra", 117);
-    freq.put("fig", 207);
-    freq.put("nít", 71);
-    freq.put("fie", 34);
-    freq.put("níc", 30);
-    freq.put("nín", 101);
-    freq.put("nío", 623);
-    freq.put("níl", 49);
-    freq.put("fin", 52);
-    freq.put("fio", 69);
-    freq.put("úr ", 181);
-    freq.put("ive", 99);
-    freq.put("iva", 35);
-    freq.put("ivi", 35);
-    freq.put("δ", 20);
-    freq.put("uic", 175);
-    freq.put("iv ", 26);
-    freq.put("I", 7769);
-    freq.put("Mar", 371);
-    freq.put("Mau", 18);
-    freq.put("Owa", 15);
-    freq.put("Lái", 95);
-    freq.put("Lár", 36);
-    freq.put(" gc", 1511);
-    freq.put(" gn", 249);
-    freq.put("Mah", 18);
-    freq.put("Mak", 15);
-    freq.put("acá", 56);
-    freq.put("Lá ", 25);
-    freq.put("acó", 14);
-    freq.put(" gh", 896);
-    freq.put(" gi", 157);
-    freq.put("ddy", 21);
-    freq.put("ac ", 653);
-    freq.put("ddi", 20);
-    freq.put("ddl", 19);
-    freq.put("dde", 19);
-    freq.put("ez ", 54);
-    freq.put("aca", 623);
-    freq.put("ace", 48);
-    freq.put("ack", 100);
-    freq.put("aci", 53);
-    freq.put("ach", 13609);
-    freq.put("aco", 19);
-    freq.put("acn", 59);
-    freq.put("acl", 31);
-    freq.put("acs", 125);
-    freq.put("acr", 43);
-    freq.put("acu", 209);
-    freq.put("act", 78);
-    freq.put("dd ", 46);
-    freq.put("Ni", 186);
-    freq.put("No", 499);
-    freq.put("Na", 387);
-    freq.put("aí", 5441);
-    freq.put("Ne", 229);
-    freq.put("ة ", 18);
-    freq.put("Nu", 291);
-    freq.put("hew", 16);
-    freq.put("her", 184);
-    freq.put("hes", 67);
-    freq.put("в", 118);
-    freq.put("hea", 3474);
-    freq.put("hel", 99);
-    freq.put("hem", 16);
-    freq.put("hen", 86);
-    freq.put("heo", 669);
-    freq.put("hei", 1299);
-    freq.put("N ", 133);
-    freq.put("he ", 2867);
-    freq.put("aa", 74);
-    freq.put("Né", 26);
-    freq.put("ac", 15816);
-    freq.put("ab", 2446);
-    freq.put("ae", 3237);
-    freq.put("uid", 1064);
-    freq.put("uig", 163);
-    freq.put("af", 197);
-    freq.put("ai", 28977);
-    freq.put("Ná", 110);
-    freq.put("Hol", 53);
-    freq.put("aj", 44);
-    freq.put("am", 5107);
-    freq.put("uil", 876);
-    freq.put("ao", 4221);
-    freq.put("uin", 941);
-    freq.put("ap", 476);
-    freq.put("as", 7371);
-    freq.put("uir", 1098);
-    freq.put("au", 284);
-    freq.put("at", 6355);
-    freq.put("aw", 83);
-    freq.put("av", 283);
-    freq.put("ay", 273);
-    freq.put("ax", 41);
-    freq.put("az", 83);
-    freq.put("uí", 380);
-    freq.put("heá", 241);
-    freq.put("a ", 43319);
-    freq.put("éú ", 20);
-    freq.put("at ", 114);
-    freq.put("ags", 144);
-    freq.put("Fir", 16);
-    freq.put("scl", 50);
-    freq.put("sco", 383);
-    freq.put("scn", 26);
-    freq.put("sci", 152);
-    freq.put("sch", 129);
-    freq.put("sce", 1106);
-    freq.put("sca", 692);
-    freq.put("tS", 312);
-    freq.put("mni", 119);
-    freq.put("Fia", 48);
-    freq.put("tI", 37);
-    freq.put("scu", 23);
-    freq.put("sct", 40);
-    freq.put("Fin", 103);
-    freq.put("mne", 64);
-    freq.put("Fil", 63);
-    freq.put("scr", 521);
-    freq.put("tz", 64);
-    freq.put("Eal", 32);
-    freq.put("göl", 26);
-    freq.put("Ean", 323);
-    freq.put("tw", 33);
-    freq.put("tt", 384);
-    freq.put("Eab", 120);
-    freq.put("tr", 2509);
-    freq.put("ts", 494);
-    freq.put("Eag", 152);
-    freq.put("tn", 113);
-    freq.put("to", 1115);
-    freq.put("tl", 375);
-    freq.put("tm", 76);
-    freq.put("th", 14962);
-    freq.put("ti", 2504);
-    freq.put("tf", 21);
-    freq.put("Eas", 45);
-    freq.put("Ear", 38);
-    freq.put("tb", 247);
-    freq.put("tc", 62);
-    freq.put("ta", 12304);
-    freq.put("odó", 26);
-    freq.put("smi", 37);
-    freq.put("smh", 17);
-    freq.put("sc ", 327);
-    freq.put("t ", 8611);
-    freq.put("scí", 15);
-    freq.put("scé", 347);
-    freq.put("scá", 85);
-    freq.put("mní", 56);
-    freq.put("Smi", 23);
-    freq.put("mná", 23);
-    freq.put("scó", 82);
-    freq.put("íl ", 179);
-    freq.put("tú", 630);
-    freq.put("tó", 758);
-    freq.put("tí", 1793);
-    freq.put("té", 533);
-    freq.put("tá", 3852);
-    freq.put("íle", 271);
-    freq.put("íli", 20);
-    freq.put("ílt", 21);
-    freq.put("vic", 53);
-    freq.put("via", 20);
-    freq.put("vid", 56);
-    freq.put("vie", 19);
-    freq.put("vin", 52);
-    freq.put("vil", 33);
-    freq.put("vis", 41);
-    freq.put("Aus", 24);
-    freq.put("vit", 24);
-    freq.put(" P", 2788);
-    freq.put("ünc", 20);
-    freq.put(" d ", 589);
-    freq.put(" dT", 187);
-    freq.put(" X", 80);
-    freq.put(" do", 1320);
-    freq.put(" dl", 128);
-    freq.put(" di", 196);
-    freq.put(" dh", 1220);
-    freq.put(" de", 4551);
-    freq.put("ata", 651);
-    freq.put(" da", 665);
-    freq.put(" du", 676);
-    freq.put(" dt", 1102);
-    freq.put(" dr", 195);
-    freq.put("tSl", 17);
-    freq.put("tSi", 42);
-    freq.put("tSe", 104);
-    freq.put("tSa", 39);
-    freq.put("tSu", 38);
-    freq.put("úpl", 35);
-    freq.put("úpa", 264);
-    freq.put("ָ", 14);
-    freq.put(" dí", 197);
-    freq.put(" dé", 333);
-    freq.put(" dá", 331);
-    freq.put(" dú", 293);
-    freq.put(" dó", 278);
-    freq.put("itn", 37);
-    freq.put("ito", 21);
-    freq.put("itl", 172);
-    freq.put("ith", 4604);
-    freq.put("iti", 613);
-    freq.put("ite", 2146);
-    freq.put("itc", 21);
-    freq.put("ita", 62);
-    freq.put("itz", 45);
-    freq.put("ity", 81);
-    freq.put("itt", 39);
-    freq.put("itu", 20);
-    freq.put("itr", 218);
-    freq.put("its", 92);
-    freq.put("it ", 669);
-    freq.put(" A ", 89);
-    freq.put("ití", 138);
-    freq.put("ité", 82);
-    freq.put("gfo", 19);
-    freq.put(" Ab", 148);
-    freq.put(" Ac", 123);
-    freq.put(" Ad", 67);
-    freq.put(" Ae", 60);
-    freq.put(" Af", 79);
-    freq.put(" Ag", 59);
-    freq.put(" Ai", 787);
-    freq.put("ō", 29);
-    freq.put(" Am", 200);
-    freq.put(" An", 855);
-    freq.put(" Ao", 620);
-    freq.put(" Ap", 32);
-    freq.put(" Ar", 510);
-    freq.put(" As", 265);
-    freq.put(" At", 140);
-    freq.put(" Au", 67);
-    freq.put("ÁC ", 14);
-    freq.put("ft ", 28);
-    freq.put("w", 1117);
-    freq.put("bhé", 79);
-    freq.put("Fra", 387);
-    freq.put("ол", 16);
-    freq.put("ом", 15);
-    freq.put("он", 24);
-    freq.put("Fre", 40);
-    freq.put("bhá", 244);
-    freq.put("ов", 54);
-    freq.put("Dhá", 14);
-    freq.put("bhú", 16);
-    freq.put("Dhú", 133);
-    freq.put("bhó", 78);
-    freq.put("Bót", 22);
-    freq.put("ág ", 24);
-    freq.put("к", 120);
-    freq.put("dfa", 52);
-    freq.put("ága", 18);
-    freq.put("ор", 16);
-    freq.put("ос", 14);
-    freq.put("ágt", 374);
-    freq.put("Bó ", 14);
-    freq.put("Dho", 65);
-    freq.put("bhl", 1983);
-    freq.put("bho", 90);
-    freq.put("bhn", 402);
-    freq.put("bha", 2405);
-    freq.put("Dhe", 46);
-    freq.put("bhe", 575);
-    freq.put("Dha", 18);
-    freq.put("bhf", 1122);
-    freq.put("Dhu", 42);
-    freq.put("Is ", 5111);
-    freq.put("bhu", 498);
-    freq.put("bht", 84);
-    freq.put("ex ", 32);
-    freq.put("tp ", 53);
-    freq.put("bhF", 112);
-    freq.put("hgh", 63);
-    freq.put("odg", 15);
-    freq.put("bh ", 1159);
-    freq.put("In", 411);
-    freq.put("M", 5923);
-    freq.put("Isl", 17);
-    freq.put("Isa", 18);
-    freq.put("â", 15);
-    freq.put("exa", 49);
-    freq.put("Rát", 50);
-    freq.put("ugh", 92);
-    freq.put("Hal", 38);
-    freq.put("Ham", 35);
-    freq.put("Han", 37);
-    freq.put("ugl", 17);
-    freq.put(" ór", 14);
-    freq.put("ugb", 50);
-    freq.put("uga", 1558);
-    freq.put("uge", 17);
-    freq.put("Hay", 19);
-    freq.put(" ói", 41);
-    freq.put(" ón", 600);
-    freq.put("seá", 101);
-    freq.put("ógá", 48);
-    freq.put("Har", 97);
-    freq.put(" óg", 50);
-    freq.put("ugu", 24);
-    freq.put("ugt", 630);
-    freq.put("о́", 24);
-    freq.put("ug ", 71);
-    freq.put(" ó ", 1226);
-    freq.put("cru", 138);
-    freq.put("rfa", 28);
-    freq.put("cra", 247);
-    freq.put("cre", 91);
-    freq.put("rfi", 21);
-    freq.put("cri", 85);
-    freq.put("rfo", 63);
-    freq.put("cro", 73);
-    freq.put("set", 23);
-    freq.put("ser", 32);
-    freq.put("For", 64);
-    freq.put("sep", 38);
-    freq.put("ógr", 30);
-    freq.put("ógt", 15);
-    freq.put("sey", 40);
-    freq.put("see", 18);
-    freq.put("sea", 1145);
-    freq.put("óga", 179);
-    freq.put("sen", 41);
-    freq.put("Foo", 31);
-    freq.put("Foi", 71);
-    freq.put("sei", 128);
-    freq.put("ue ", 74);
-    freq.put("se ", 1138);
-    freq.put("óg ", 175);
-    freq.put("crú", 31);
-    freq.put("crá", 38);
-    freq.put("cré", 18);
-    freq.put("crí", 673);
-    freq.put("od ", 80);
-    freq.put("xas", 26);
-    freq.put("tiv", 17);
-    freq.put("xan", 25);
-    freq.put("rdu", 18);
-    freq.put("nri", 70);
-    freq.put("nra", 389);
-    freq.put("nre", 31);
-    freq.put("nry", 35);
-    freq.put(" fó", 153);
-    freq.put("mla", 28);
-    freq.put("ctr", 133);
-    freq.put("mle", 33);
-    freq.put(" fú", 16);
-    freq.put("Oll", 155);
-    freq.put(" fá", 646);
-    freq.put("ù", 19);
-    freq.put(" fí", 105);
-    freq.put("amh", 2467);
-    freq.put("vol", 16);
-    freq.put("von", 30);
-    freq.put("nrí", 45);
-    freq.put("héa", 1120);
-    freq.put("nró", 30);
-    freq.put("héi", 849);
-    freq.put("rdo", 44);
-    freq.put("Soc", 18);
-    freq.put("mlá", 60);
-    freq.put(" fu", 504);
-    freq.put("cth", 78);
-    freq.put("Som", 19);
-    freq.put("Sol", 26);
-    freq.put("mlí", 34);
-    freq.put(" fa", 1032);
-    freq.put("Sor", 26);
-    freq.put("Sou", 43);
-    freq.put(" fi", 426);
-    freq.put(" fh", 1406);
-    freq.put(" fl", 33);
-    freq.put(" fo", 815);
-    freq.put("O ", 148);
-    freq.put("nác", 45);
-    freq.put("nád", 57);
-    freq.put("nái", 868);
-    freq.put("nán", 213);
-    freq.put("nál", 147);
-    freq.put("nám", 42);
-    freq.put("nár", 33);
-    freq.put("nát", 222);
-    freq.put("On", 32);
-    freq.put("Ol", 192);
-    freq.put("bá", 362);
-    freq.put("Oi", 439);
-    freq.put("bí", 296);
-    freq.put("Od", 23);
-    freq.put("Oc", 20);
-    freq.put("Ob", 21);
-    freq.put("Ox", 16);
-    freq.put("Ow", 22);
-    freq.put("Ot", 24);
-    freq.put("Os", 120);
-    freq.put("Or", 118);
-    freq.put("bú", 25);
-    freq.put("Op", 26);
-    freq.put("ná ", 1044);
-    freq.put("d", 35722);
-    freq.put("IV ", 29);
-    freq.put("be", 1029);
-    freq.put("Oí", 18);
-    freq.put("ba", 2824);
-    freq.put("bb", 61);
-    freq.put("bl", 1578);
-    freq.put("bo", 363);
-    freq.put("bh", 11551);
-    freq.put("bi", 450);
-    freq.put("bt", 15);
-    freq.put("bu", 707);
-    freq.put("bp", 167);
-    freq.put("br", 1157);
-    freq.put("bs", 46);
-    freq.put("by", 43);
-    freq.put("Fu", 117);
-    freq.put("Osp", 25);
-    freq.put("Ost", 52);
-    freq.put("Khö", 26);
-    freq.put("bP", 203);
-    freq.put("Osc", 19);
-    freq.put("oú ", 35);
-    freq.put("ádú", 57);
-    freq.put(" C ", 40);
-    freq.put("о ", 14);
-    freq.put("ci ", 143);
-    freq.put("gcó", 255);
-    freq.put("u ", 794);
-    freq.put("Fe", 557);
-    freq.put(" Ch", 2590);
-    freq.put(" Ci", 334);
-    freq.put(" Cn", 49);
-    freq.put(" Co", 1382);
-    freq.put(" Cl", 788);
-    freq.put(" Ca", 1052);
-    freq.put(" Ce", 495);
-    freq.put(" Cy", 22);
-    freq.put(" Cr", 398);
-    freq.put(" Cu", 398);
-    freq.put("cia", 133);
-    freq.put("AC ", 14);
-    freq.put("cig", 39);
-    freq.put("ux", 50);
-    freq.put("cie", 25);
-    freq.put("uz", 23);
-    freq.put("uu", 19);
-    freq.put("ut", 560);
-    freq.put("uv", 36);
-    freq.put("cio", 113);
-    freq.put("cin", 312);
-    freq.put("cim", 18);
-    freq.put("cil", 150);
-    freq.put("cis", 192);
-    freq.put("cir", 45);
-    freq.put("uo", 20);
-    freq.put("cip", 31);
-    freq.put("ui", 6290);
-    freq.put("uh", 17);
-    freq.put("uk", 43);
-    freq.put("cit", 27);
-    freq.put("Lí ", 19);
-    freq.put("ud", 441);
-    freq.put("ug", 2486);
-    freq.put("uf", 51);
-    freq.put("ua", 4295);
-    freq.put("uc", 433);
-    freq.put("ub", 394);
-    freq.put("íú ", 73);
-    freq.put("ag ", 2140);
-    freq.put("θ", 18);
-    freq.put(" Cé", 88);
-    freq.put(" Cí", 18);
-    freq.put(" Cá", 50);
-    freq.put("э", 32);
-    freq.put(" Cú", 124);
-    freq.put(" Có", 81);
-    freq.put("ago", 48);
-    freq.put("agn", 79);
-    freq.put("agm", 19);
-    freq.put("agl", 179);
-    freq.put("agh", 478);
-    freq.put("age", 73);
-    freq.put("agc", 16);
-    freq.put("aga", 645);
-    freq.put("ció", 20);
-    freq.put("ué", 20);
-    freq.put("ciú", 86);
-    freq.put("agu", 7542);
-    freq.put("agt", 22);
-    freq.put("uá", 49);
-    freq.put("agr", 310);
-    freq.put("Jim", 41);
-    freq.put("Cón", 21);
-    freq.put("odá", 193);
-    freq.put("b ", 1035);
-    freq.put("leá", 626);
-    freq.put("tri", 301);
-    freq.put("evi", 62);
-    freq.put("tro", 254);
-    freq.put("evo", 14);
-    freq.put("tra", 441);
-    freq.put("eva", 24);
-    freq.put("tre", 362);
-    freq.put("eve", 60);
-    freq.put("rdú", 27);
-    freq.put("rdá", 19);
-    freq.put("rdí", 26);
-    freq.put("tru", 91);
-    freq.put("cté", 51);
-    freq.put("le ", 6126);
-    freq.put("uel", 34);
-    freq.put("uen", 19);
-    freq.put("uee", 24);
-    freq.put("odr", 47);
-    freq.put("odh", 743);
-    freq.put("Blo", 17);
-    freq.put("Bli", 37);
-    freq.put("odo", 22);
-    freq.put("oda", 77);
-    freq.put("Bla", 57);
-    freq.put("ode", 33);
-    freq.put("uer", 27);
-    freq.put("ct ", 18);
-    freq.put("rd ", 1105);
-    freq.put("Cór", 28);
-    freq.put("lea", 1609);
-    freq.put("lec", 18);
-    freq.put("leg", 26);
-    freq.put("lei", 1619);
-    freq.put("lek", 16);
-    freq.put("lem", 28);
-    freq.put("len", 233);
-    freq.put("leo", 208);
-    freq.put("ler", 93);
-    freq.put("les", 180);
-    freq.put("let", 44);
-    freq.put("lev", 17);
-    freq.put("lex", 35);
-    freq.put("ley", 85);
-    freq.put("tré", 177);
-    freq.put("trí", 558);
-    freq.put("rds", 35);
-    freq.put("trá", 247);
-    freq.put("rde", 172);
-    freq.put("cte", 57);
-    freq.put("trú", 23);
-    freq.put("rda", 143);
-    freq.put("cta", 42);
-    freq.put("rdc", 33);
-    freq.put("tró", 28);
-    freq.put("cto", 75);
-    freq.put("rdi", 66);
-    freq.put("rdh", 169);
-    freq.put("sgh", 17);
-    freq.put("о", 212);
-    freq.put("zi ", 14);
-    freq.put("hFr", 49);
-    freq.put("ró ", 41);
-    freq.put("sgö", 26);
-    freq.put("hFi", 19);
-    freq.put("hFo", 15);
-    freq.put("cni", 17);
-    freq.put("μ", 37);
-    freq.put("ról", 47);
-    freq.put("róm", 19);
-    freq.put("rón", 46);
-    freq.put("rói", 314);
-    freq.put("ród", 40);
-    freq.put("róg", 49);
-    freq.put("róc", 18);
-    freq.put("Q", 100);
-    freq.put("afo", 26);
-    freq.put("rót", 49);
-    freq.put("ádr", 77);
-    freq.put("róp", 18);
-    freq.put("rós", 27);
-    freq.put("Ya", 26);
-    freq.put("ché", 598);
-    freq.put("Ont", 15);
-    freq.put("úl", 626);
-    freq.put("úm", 23);
-    freq.put("VI ", 18);
-    freq.put("úi", 3261);
-    freq.put("úd", 355);
-    freq.put("úg", 21);
-    freq.put("úb", 49);
-    freq.put("chí", 120);
-    freq.put("Д", 14);
-    freq.put("út", 197);
-    freq.put("úp", 306);
-    freq.put("úr", 674);
-    freq.put("ús", 719);
-    freq.put("Sa ", 139);
-    freq.put("gcr", 73);
-    freq.put(" h ", 53);
-    freq.put("ú ", 2631);
-    freq.put(" hU", 40);
-    freq.put("za", 84);
-    freq.put(" hI", 155);
-    freq.put(" hO", 88);
-    freq.put(" hA", 434);
-    freq.put(" hE", 204);
-    freq.put("Sai", 92);
-    freq.put("Sao", 103);
-    freq.put("San", 139);
-    freq.put("Sam", 333);
-    freq.put("Sal", 39);
-    freq.put("Sac", 45);
-    freq.put("Sab", 15);
-    freq.put("Sag", 39);
-    freq.put(" hu", 37);
-    freq.put(" ht", 48);
-    freq.put(" hi", 225);
-    freq.put(" ho", 149);
-    freq.put("Sas", 352);
-    freq.put("Sar", 19);
-    freq.put(" ha", 566);
-    freq.put(" he", 103);
-    freq.put("Sat", 14);
-    freq.put("nph", 26);
-    freq.put("Pól", 20);
-    freq.put("ич ", 33);
-    freq.put("ρα", 19);
-    freq.put(" hÉ", 663);
-    freq.put(" hÍ", 55);
-    freq.put(" hÁ", 49);
-    freq.put(" hú", 26);
-    freq.put(" hé", 28);
-    freq.put(" há", 141);
-    freq.put("tát", 339);
-    freq.put("tár", 64);
-    freq.put("tád", 22);
-    freq.put("táb", 174);
-    freq.put("tál", 25);
-    freq.put("tán", 115);
-    freq.put("tái", 738);
-    freq.put("clo", 44);
-    freq.put("Dúc", 24);
-    freq.put("Dúi", 63);
-    freq.put("Dún", 93);
-    freq.put("tá ", 2371);
-    freq.put("pán", 35);
-    freq.put("Y ", 15);
-    freq.put("ck ", 201);
-    freq.put("Sói", 47);
-    freq.put(" El", 96);
-    freq.put(" Em", 35);
-    freq.put(" En", 50);
-    freq.put(" Eo", 356);
-    freq.put(" Ei", 130);
-    freq.put("Cás", 28);
-    freq.put(" Ea", 709);
-    freq.put(" Ex", 17);
-    freq.put(" Eu", 45);
-    freq.put(" Ev", 35);
-    freq.put(" Er", 76);
-    freq.put(" Es", 55);
-    freq.put("cke", 40);
-    freq.put("cki", 21);
-    freq.put("cks", 22);
-    freq.put("cky", 14);
-    freq.put("dbh", 268);
-    freq.put("szo", 14);
-    freq.put("ún", 1833);
-    freq.put("А", 21);
-    freq.put("Pá", 248);
-    freq.put("Pé", 28);
-    freq.put("ae ", 1425);
-    freq.put("Ó", 660);
-    freq.put("úc", 437);
-    freq.put("aes", 47);
-    freq.put("aer", 113);
-    freq.put("aet", 39);
-    freq.put("gba", 47);
-    freq.put("h", 92271);
-    freq.put("aed", 15);
-    freq.put("aei", 796);
-    freq.put("aem", 24);
-    freq.put("ael", 663);
-    freq.put("ja ", 23);
-    freq.put("aen", 85);
-    freq.put("Pr", 303);
-    freq.put("Pu", 37);
-    freq.put("C", 9211);
-    freq.put("Pa", 425);
-    freq.put("Pe", 309);
-    freq.put("Ph", 604);
-    freq.put("Pi", 190);
-    freq.put("Po", 635);
-    freq.put("Pl", 114);
-    freq.put("ا", 87);
-    freq.put("Rí ", 158);
-    freq.put("tso", 36);
-    freq.put("P ", 39);
-    freq.put("etr", 56);
-    freq.put("ets", 16);
-    freq.put("ett", 84);
-    freq.put("etu", 17);
-    freq.put("tsi", 118);
-    freq.put("tla", 91);
-    freq.put("eta", 28);
-    freq.put("tle", 130);
-    freq.put("ete", 77);
-    freq.put("tli", 127);
-    freq.put("eti", 18);
-    freq.put("TÉ ", 39);
-    freq.put("Río", 178);
-    freq.put("ck", 346);
-    freq.put("vá", 31);
-    freq.put("ci", 1417);
-    freq.put("lm", 247);
-    freq.put("co", 2084);
-    freq.put("cn", 208);
-    freq.put("cm", 91);
-    freq.put("cl", 898);
-    freq.put("cc", 47);
-    freq.put("vé", 90);
-    freq.put("lg ", 39);
-    freq.put("ví", 54);
-    freq.put("ce", 4885);
-    freq.put("tsc", 23);
-    freq.put("cy", 33);
-    freq.put("Hea", 28);
-    freq.put("uca", 20);
-    freq.put("cs", 370);
-    freq.put("cr", 1405);
-    freq.put("Hen", 60);
-    freq.put("li", 6865);
-    freq.put("uck", 27);
-    freq.put("Hei", 32);
-    freq.put("uci", 14);
-    freq.put("uch", 302);
-    freq.put("Ger", 46);
-    freq.put("cC", 35);
-    freq.put("cG", 32);
-    freq.put("Gea", 306);
-    freq.put("Geo", 92);
-    freq.put("Gen", 35);
-    freq.put("rb ", 96);
-    freq.put("lgh", 15);
-    freq.put("phí", 17);
-    freq.put("phá", 114);
-    freq.put("lga", 54);
-    freq.put("lge", 761);
-    freq.put("uc ", 20);
-    freq.put("phó", 39);
-    freq.put("ofá", 17);
-    freq.put("rbu", 15);
-    freq.put("rbr", 21);
-    freq.put("rbo", 26);
-    freq.put("rbi", 53);
-    freq.put("rbh", 278);
-    freq.put("rbe", 37);
-    freq.put("eur", 21);
-    freq.put("rba", 184);
-    freq.put("va", 328);
-    freq.put("cé", 763);
-    freq.put("ve", 416);
-    freq.put("cí", 192);
-    freq.put("vi", 359);
-    freq.put("cá", 614);
-    freq.put("ph ", 45);
-    freq.put("vn", 14);
-    freq.put("vo", 75);
-    freq.put("cú", 400);
-    freq.put("vr", 17);
-    freq.put("vs", 40);
-    freq.put("có", 705);
-    freq.put("of ", 150);
-    freq.put("úir", 269);
-    freq.put("úis", 399);
-    freq.put("umb", 45);
-    freq.put("úig", 450);
-    freq.put("úid", 61);
-    freq.put("úic", 75);
-    freq.put("úin", 409);
-    freq.put("úil", 1485);
-    freq.put("v ", 84);
-    freq.put("phi", 39);
-    freq.put("lgé", 23);
-    freq.put("pho", 285);
-    freq.put("eál", 273);
-    freq.put("phl", 74);
-    freq.put("pha", 75);
-    freq.put("lgá", 15);
-    freq.put("eád", 40);
-    freq.put("phe", 133);
-    freq.put("phy", 24);
-    freq.put("phr", 237);
-    freq.put("eár", 16);
-    freq.put("ofa", 122);
-    freq.put("rbó", 47);
-    freq.put("oft", 18);
-    freq.put("кий", 26);
-    freq.put("ر", 41);
-    freq.put("wen", 17);
-    freq.put("mh ", 1936);
-    freq.put("wel", 39);
-    freq.put("wer", 23);
-    freq.put("nvi", 15);
-    freq.put("mhn", 220);
-    freq.put("umh", 128);
-    freq.put("mhl", 221);
-    freq.put("Scé", 14);
-    freq.put("mhi", 314);
-    freq.put("mhf", 40);
-    freq.put("mhg", 44);
-    freq.put("mhd", 145);
-    freq.put("mhe", 469);
-    freq.put("mhb", 105);
-    freq.put("Uil", 36);
-    freq.put("mha", 2867);
-    freq.put("mht", 62);
-    freq.put("mhu", 94);
-    freq.put("mhr", 513);
-    freq.put("mhs", 290);
-    freq.put("mhp", 53);
-    freq.put("vsg", 26);
-    freq.put("hí ", 1705);
-    freq.put("ль", 14);
-    freq.put("ла", 34);
-    freq.put("ле", 18);
-    freq.put("之", 46);
-    freq.put("dhí", 53);
-    freq.put("hír", 114);
-    freq.put("hís", 67);
-    freq.put("híl", 84);
-    freq.put("hín", 94);
-    freq.put("hío", 369);
-    freq.put("híc", 20);
-    freq.put("Sco", 64);
-    freq.put("mhí", 205);
-    freq.put("Sci", 16);
-    freq.put("Sch", 44);
-    freq.put("mhé", 50);
-    freq.put("Sca", 96);
-    freq.put("mhá", 463);
-    freq.put("mhú", 61);
-    freq.put("mhó", 274);
-    freq.put("Scr", 150);
-    freq.put("iní", 139);
-    freq.put("iné", 195);
-    freq.put("iny", 32);
-    freq.put("int", 1223);
-    freq.put("inu", 20);
-    freq.put("inr", 60);
-    freq.put("ins", 402);
-    freq.put("inl", 22);
-    freq.put("inm", 801);
-    freq.put("inn", 3418);
-    freq.put("ino", 76);
-    freq.put("inh", 20);
-    freq.put("ini", 1121);
-    freq.put("ink", 22);
-    freq.put("ind", 132);
-    freq.put("ine", 2867);
-    freq.put("inf", 38);
-    freq.put("ing", 553);
-    freq.put("ina", 1555);
-    freq.put("inb", 24);
-    freq.put("inc", 452);
-    freq.put("eo ", 814);
-    freq.put("óna", 427);
-    freq.put("hph", 63);
-    freq.put("ּ", 16);
-    freq.put("tsí", 19);
-    freq.put("U", 762);
-    freq.put("in ", 9648);
-    freq.put("eoc", 94);
-    freq.put("eog", 109);
-    freq.put("eod", 36);
-    freq.put("eoi", 2441);
-    freq.put("eon", 124);
-    freq.put("eom", 21);
-    freq.put("eol", 1069);
-    freq.put("eos", 35);
-    freq.put("eor", 359);
-    freq.put(" ˈ", 34);
-    freq.put("Léi", 39);
-    freq.put("alm", 34);
-    freq.put("И", 15);
-    freq.put("Tui", 81);
-    freq.put("ali", 175);
-    freq.put("έ", 19);
-    freq.put("ão ", 15);
-    freq.put("alg", 42);
-    freq.put("ren", 116);
-    freq.put("ald", 89);
-    freq.put("ló", 456);
-    freq.put(" Gw", 17);
-    freq.put(" Gu", 114);
-    freq.put(" Gr", 356);
-    freq.put(" Ge", 490);
-    freq.put("Úsá", 39);
-    freq.put(" Ga", 1406);
-    freq.put(" Gn", 25);
-    freq.put(" Go", 230);
-    freq.put(" Gl", 184);
-    freq.put(" Gh", 1129);
-    freq.put(" Gi", 149);
-    freq.put("glé", 50);
-    freq.put("cmh", 19);
-    freq.put("cme", 28);
-    freq.put("glú", 20);
-    freq.put("ree", 55);
-    freq.put("ā", 45);
-    freq.put("alt", 1341);
-    freq.put("د", 34);
-    freq.put("ak ", 15);
-    freq.put("Fr", 485);
-    freq.put("Cr", 445);
-    freq.put("gli", 33);
-    freq.put("cmí", 15);
-    freq.put("glo", 14);
-    freq.put("gla", 380);
-    freq.put("gle", 54);
-    freq.put("áis", 885);
-    freq.put("áir", 1722);
-    freq.put("áim", 58);
-    freq.put("áil", 1302);
-    freq.put("áin", 2550);
-    freq.put("ako", 19);
-    freq.put("áid", 933);
-    freq.put("áig", 19);
-    freq.put("glu", 75);
-    freq.put("áic", 28);
-    freq.put("áib", 37);
-    freq.put("Jer", 36);
-    freq.put("bru", 63);
-    freq.put("bro", 48);
-    freq.put("Jea", 24);
-    freq.put("bri", 171);
-    freq.put("bre", 499);
-    freq.put("bra", 206);
-    freq.put("er ", 853);
-    freq.put("ió ", 67);
-    freq.put("laí", 1250);
-    freq.put("ir", 22505);
-    freq.put("it", 9092);
-    freq.put("ert", 175);
-    freq.put("erv", 17);
-    freq.put("erp", 23);
-    freq.put("err", 112);
-    freq.put("ih", 33);
-    freq.put("ik", 120);
-    freq.put("erd", 48);
-    freq.put("ere", 93);
-    freq.put("erf", 70);
-    freq.put("erg", 65);
-    freq.put("tna", 46);
-    freq.put("era", 154);
-    freq.put("erb", 43);
-    freq.put("erc", 31);
-    freq.put("erl", 77);
-    freq.put("erm", 66);
-    freq.put("ern", 128);
-    freq.put("ero", 49);
-    freq.put("erh", 16);
-    freq.put("eri", 131);
-    freq.put("io", 3173);
-    freq.put("Abh", 106);
-    freq.put("uas", 240);
-    freq.put("uar", 105);
-    freq.put("la ", 2317);
-    freq.put("uat", 139);
-    freq.put("uai", 2599);
-    freq.put("brí", 91);
-    freq.put("uam", 28);
-    freq.put("ual", 155);
-    freq.put("uan", 118);
-    freq.put("uac", 355);
-    freq.put("uad", 53);
-    freq.put("uag", 16);
-    freq.put("ki ", 55);
-    freq.put("ī", 25);
-    freq.put("lam", 183);
-    freq.put("lan", 820);
-    freq.put("lao", 133);
-    freq.put("lah", 15);
-    freq.put("lai", 2053);
-    freq.put("lad", 283);
-    freq.put("lae", 75);
-    freq.put("laf", 29);
-    freq.put("lag", 166);
-    freq.put("frá", 23);
-    freq.put("lab", 207);
-    freq.put("lac", 1652);
-    freq.put("lay", 20);
-    freq.put("lat", 121);
-    freq.put("lau", 20);
-    freq.put("lav", 45);
-    freq.put("mpi", 170);
-    freq.put("lap", 14);
-    freq.put("lar", 224);
-    freq.put("las", 488);
-    freq.put(" rá", 141);
-    freq.put("fré", 32);
-    freq.put("Iúi", 305);
-    freq.put("zer", 17);
-    freq.put("gCa", 115);
-    freq.put("ze ", 17);
-    freq.put("ł", 23);
-    freq.put("gCe", 68);
-    freq.put("gCi", 43);
-    freq.put("ntó", 92);
-    freq.put("gCl", 15);
-    freq.put("gCo", 682);
-    freq.put("nté", 57);
-    freq.put("gCr", 41);
-    freq.put("gCu", 31);
-    freq.put("éan", 937);
-    freq.put("ntá", 73);
-    freq.put("Bhi", 15);
-    freq.put("Bho", 33);
-    freq.put("Bha", 357);
-    freq.put("Bhe", 114);
-    freq.put("l", 55972);
-    freq.put("ítí", 24);
-    freq.put("Bhr", 197);
-    freq.put("Bhu", 117);
-    freq.put("́", 82);
-    freq.put("nt ", 782);
-    freq.put("ít ", 29);
-    freq.put("Chl", 125);
-    freq.put("nty", 14);
-    freq.put("ntr", 159);
-    freq.put("ntu", 65);
-    freq.put("nti", 241);
-    freq.put("nth", 35);
-    freq.put("nto", 113);
-    freq.put("nta", 3920);
-    freq.put("gCú", 110);
-    freq.put("nte", 565);
-    freq.put("Bhé", 114);
-    freq.put("Bhí", 533);
-    freq.put("bás", 179);
-    freq.put("Bhá", 20);
-    freq.put("íth", 89);
-    freq.put("íti", 59);
-    freq.put("bán", 27);
-    freq.put("Bhó", 20);
-    freq.put("bái", 111);
-    freq.put("oí ", 21);
-    freq.put("cúr", 63);
-    freq.put("cúp", 30);
-    freq.put("cúi", 261);
-    freq.put("cúl", 23);
-    freq.put("Óg ", 20);
-    freq.put("oíc", 18);
-    freq.put(" le", 4947);
-    freq.put("B", 7488);
-    freq.put(" la", 460);
-    freq.put(" lo", 308);
-    freq.put(" li", 530);
-    freq.put(" lu", 291);
-    freq.put("Sev", 15);
-    freq.put("Ser", 18);
-    freq.put("Ógl", 34);
-    freq.put("Sea", 356);
-    freq.put("Seo", 77);
-    freq.put("Sei", 86);
-    freq.put("éac", 146);
-    freq.put("Cú", 234);
-    freq.put("tev", 28);
-    freq.put("éab", 116);
-    freq.put("π", 27);
-    freq.put("Qu", 70);
-    freq.put(" lá", 1959);
-    freq.put(" lí", 138);
-    freq.put(" lé", 265);
-    freq.put("Qa", 19);
-    freq.put(" lú", 62);
-    freq.put("Seá", 101);
-    freq.put("sfé", 91);
-    freq.put("d ", 7267);
-    freq.put("em ", 43);
-    freq.put("hru", 236);
-    freq.put("dór", 16);
-    freq.put("hro", 198);
-    freq.put("hri", 328);
-    freq.put("dói", 476);
-    freq.put("hre", 546);
-    freq.put("hra", 1213);
-    freq.put("dóc", 22);
-    freq.put("dn", 21);
-    freq.put("do", 1640);
-    freq.put(" Iú", 336);
-    freq.put("dm", 58);
-    freq.put("dh", 7736);
-    freq.put("di", 2454);
-    freq.put("df", 76);
-    freq.put("dg", 84);
-    freq.put("dd", 146);
-    freq.put("de", 6172);
-    freq.put("db", 293);
-    freq.put("dc", 62);
-    freq.put("da", 3031);
-    freq.put("dy", 102);
-    freq.put("dw", 67);
-    freq.put("dt", 1341);
-    freq.put("du", 779);
-    freq.put("dr", 674);
-    freq.put("ds", 128);
-    freq.put("eme", 32);
-    freq.put("ema", 39);
-    freq.put("emb", 18);
-    freq.put("emo", 20);
-    freq.put("ilí", 349);
-    freq.put("emi", 38);
-    freq.put("ilé", 72);
-    freq.put("emp", 22);
-    freq.put("dT", 187);
-    freq.put("dó ", 211);
-    freq.put("w ", 201);
-    freq.put(" I ", 184);
-    freq.put("il ", 4239);
-    freq.put("hrú", 276);
-    freq.put("hró", 88);
-    freq.put("hrí", 388);
-    freq.put("co ", 63);
-    freq.put("hré", 565);
-    freq.put("hrá", 475);
-    freq.put("we", 124);
-    freq.put("dí", 554);
-    freq.put("wa", 203);
-    freq.put("dé", 521);
-    freq.put("wo", 78);
-    freq.put("wn", 96);
-    freq.put(" Ir", 128);
-    freq.put(" Is", 5161);
-    freq.put(" It", 14);
-    freq.put(" Iv", 17);
-    freq.put("dá", 713);
-    freq.put("ww", 87);
-    freq.put("wt", 17);
-    freq.put(" Il", 46);
-    freq.put(" Im", 262);
-    freq.put(" In", 364);
-    freq.put(" Io", 352);
-    freq.put(" Ia", 276);
-    freq.put(" Id", 99);
-    freq.put("dó", 754);
-    freq.put("wy", 58);
-    freq.put("ilf", 25);
-    freq.put("ilg", 818);
-    freq.put("ild", 34);
-    freq.put("ile", 3808);
-    freq.put("ilb", 41);
-    freq.put("ilc", 72);
-    freq.put("ila", 50);
-    freq.put("ilo", 20);
-    freq.put("ill", 1658);
-    freq.put("ilm", 27);
-    freq.put("ébe", 15);
-    freq.put("ili", 1289);
-    freq.put("ilv", 45);
-    freq.put("ilt", 514);
-    freq.put("cob", 20);
-    freq.put("ils", 248);
-    freq.put("cog", 48);
-    freq.put("coi", 647);
-    freq.put("com", 586);
-    freq.put("col", 164);
-    freq.put("con", 157);
-    freq.put("ópa", 18);
-    freq.put("ai ", 46);
-    freq.put("niú", 176);
-    freq.put("óp ", 28);
-    freq.put("thú", 153);
-    freq.put("ait", 3108);
-    freq.put("aiv", 22);
-    freq.put("thó", 153);
-    freq.put("aip", 101);
-    freq.put("ais", 2778);
-    freq.put("air", 5994);
-    freq.put("aim", 543);
-    freq.put("ail", 3174);
-    freq.put("thí", 114);
-    freq.put("gna", 72);
-    freq.put("thé", 99);
-    freq.put("gne", 64);
-    freq.put("aid", 1852);
-    freq.put("aig", 2716);
-    freq.put("gni", 28);
-    freq.put("thá", 326);
-    freq.put("aib", 509);
-    freq.put("ni ", 60);
-    freq.put("ми", 19);
-    freq.put("éar", 2079);
-    freq.put("Éis", 16);
-    freq.put("Éir", 2239);
-    freq.put("Éid", 18);
-    freq.put("Éig", 34);
-    freq.put("Mün", 20);
-    freq.put("Ré ", 18);
-    freq.put("th ", 2421);
-    freq.put("tsu", 19);
-    freq.put("nin", 41);
-    freq.put("nio", 42);
-    freq.put("nil", 25);
-    freq.put("nim", 85);
-    freq.put("nic", 278);
-    freq.put("nia", 209);
-    freq.put("nig", 486);
-    freq.put("nid", 36);
-    freq.put("nie", 54);
-    freq.put("Y", 140);
-    freq.put("nis", 728);
-    freq.put("niv", 27);
-    freq.put("nit", 168);
-    freq.put("niu", 167);
-    freq.put("gnó", 47);
-    freq.put("thy", 18);
-    freq.put(" Éi", 1640);
-    freq.put("thu", 979);
-    freq.put("ths", 70);
-    freq.put("thr", 797);
-    freq.put("epp", 19);
-    freq.put("tho", 317);
-    freq.put("thn", 307);
-    freq.put("thm", 25);
-    freq.put("thl", 87);
-    freq.put("thi", 663);
-    freq.put("Réi", 59);
-    freq.put("thg", 15);
-    freq.put("thf", 27);
-    freq.put("the", 3504);
-    freq.put("epe", 15);
-    freq.put("thc", 164);
-    freq.put("thb", 46);
-    freq.put("tha", 4634);
-    freq.put("epa", 17);
-    freq.put("dú", 564);
-    freq.put("rn ", 133);
-    freq.put("Oib", 81);
-    freq.put("lc ", 14);
-    freq.put("Gar", 111);
-    freq.put("Gao", 19);
-    freq.put("Gal", 229);
-    freq.put("Gai", 188);
-    freq.put("Gae", 1050);
-    freq.put("Gab", 25);
-    freq.put("Tri", 35);
-    freq.put("rni", 111);
-    freq.put("rno", 16);
-    freq.put("Tro", 44);
-    freq.put("Tra", 56);
-    freq.put("rna", 252);
-    freq.put("Tre", 38);
-    freq.put("rne", 186);
-    freq.put("plá", 39);
-    freq.put("lca", 35);
-    freq.put("rns", 15);
-    freq.put("rnr", 15);
-    freq.put("plí", 36);
-    freq.put("lch", 115);
-    freq.put("bpa", 22);
-    freq.put("fód", 32);
-    freq.put("fói", 40);
-    freq.put("bpl", 21);
-    freq.put("fón", 15);
-    freq.put("Oir", 93);
-    freq.put("fór", 53);
-    freq.put("fós", 55);
-    freq.put("Lea", 169);
-    freq.put("Lee", 32);
-    freq.put("Lei", 85);
-    freq.put("Len", 15);
-    freq.put("Leo", 49);
-    freq.put(" Ed", 71);
-    freq.put("Les", 14);
-    freq.put("rné", 17);
-    freq.put("Trí", 30);
-    freq.put("rní", 19);
-    freq.put("Trá", 40);
-    freq.put("rná", 209);
-    freq.put("ple", 113);
-    freq.put("pla", 221);
-    freq.put("lcá", 58);
-    freq.put("rnó", 52);
-    freq.put("Le ", 36);
-    freq.put("obl", 440);
-    freq.put("obh", 750);
-    freq.put("obi", 26);
-    freq.put("obe", 98);
-    freq.put("oba", 305);
-    freq.put("obr", 83);
-    freq.put("tús", 176);
-    freq.put("túr", 132);
-    freq.put("Cur", 28);
-    freq.put("Cua", 50);
-    freq.put("túi", 132);
-    freq.put("Cun", 15);
-    freq.put("Cum", 170);
-    freq.put("Cui", 121);
-    freq.put("tún", 49);
-    freq.put("wan", 20);
-    freq.put("wal", 16);
-    freq.put("wai", 21);
-    freq.put("way", 37);
-    freq.put("ír ", 462);
-    freq.put("war", 66);
-    freq.put(" né", 46);
-    freq.put(" X ", 22);
-    freq.put(" ní", 458);
-    freq.put(" ná", 1297);
-    freq.put("Ío", 123);
-    freq.put("tú ", 120);
-    freq.put(" nú", 48);
-    freq.put("Ís", 59);
-    freq.put(" nó", 2812);
-    freq.put(" nÉ", 14);
-    freq.put("wa ", 20);
-    freq.put("mth", 59);
-    freq.put("íri", 75);
-    freq.put("íre", 446);
-    freq.put("ür", 27);
-    freq.put(" n ", 179);
-    freq.put("ün", 29);
-    freq.put("hái", 1498);
-    freq.put("hál", 49);
-    freq.put("hán", 441);
-    freq.put("háb", 67);
-    freq.put("hád", 25);
-    freq.put("hág", 33);
-    freq.put("háp", 15);
-    freq.put("hár", 49);
-    freq.put("hás", 82);
-    freq.put("hát", 26);
-    freq.put(" ni", 34);
-    freq.put(" no", 28);
-    freq.put(" na", 8256);
-    freq.put(" ne", 306);
-    freq.put(" nd", 382);
-    freq.put(" ng", 227);
-    freq.put("ə", 39);
-    freq.put(" nu", 480);
-    freq.put(" nI", 25);
-    freq.put("Sk", 30);
-    freq.put(" nO", 20);
-    freq.put(" nA", 40);
-    freq.put(" nE", 15);
-    freq.put(" nD", 124);
-    freq.put(" nG", 425);
-    freq.put("Sgi", 14);
-    freq.put("htá", 92);
-    freq.put("Pó", 40);
-    freq.put("htó", 70);
-    freq.put("htú", 179);
-    freq.put("uío", 293);
-    freq.put("ó ", 5058);
-    freq.put("foc", 169);
-    freq.put("fol", 56);
-    freq.put("н ", 32);
-    freq.put("gua", 61);
-    freq.put("gue", 52);
-    freq.put("ós", 524);
-    freq.put("ór", 1746);
-    freq.put("óp", 56);
-    freq.put("óv", 19);
-    freq.put("ót", 285);
-    freq.put("gus", 7532);
-    freq.put("p", 7714);
-    freq.put("ói", 3006);
-    freq.put("ón", 1301);
-    freq.put("óm", 776);
-    freq.put("ól", 143);
-    freq.put("óc", 115);
-    freq.put("ób", 33);
-    freq.put("óg", 454);
-    freq.put("ód", 167);
-    freq.put("hte", 89);
-    freq.put("hta", 2099);
-    freq.put("hth", 78);
-    freq.put("htt", 53);
-    freq.put("htr", 64);
-    freq.put("ek ", 36);
-    freq.put("г", 35);
-    freq.put("ht ", 2941);
-    freq.put("eks", 14);
-    freq.put("spó", 185);
-    freq.put("spé", 48);
-    freq.put("Séa", 149);
-    freq.put("spá", 57);
-    freq.put(" Ka", 137);
-    freq.put(" Ke", 187);
-    freq.put("ib ", 82);
-    freq.put(" Kh", 43);
-    freq.put(" Ki", 123);
-    freq.put(" Kn", 16);
-    freq.put(" Ko", 48);
-    freq.put(" Kr", 33);
-    freq.put(" Ku", 37);
-    freq.put(" il", 62);
-    freq.put("ca ", 266);
-    freq.put(" im", 729);
-    freq.put("F", 3366);
-    freq.put("ي", 52);
-    freq.put("Sé ", 26);
-    freq.put("aoú", 35);
-    freq.put("ibh", 672);
-    freq.put("ibi", 111);
-    freq.put(" K ", 14);
-    freq.put("ibl", 72);
-    freq.put("cas", 83);
-    freq.put("car", 214);
-    freq.put("cap", 21);
-    freq.put("ibe", 76);
-    freq.put("cat", 333);
-    freq.put("cai", 992);
-    freq.put("cao", 97);
-    freq.put("ghá", 14);
-    freq.put("cam", 73);
-    freq.put("cal", 252);
-    freq.put("cac", 181);
-    freq.put("cab", 30);
-    freq.put("ibr", 504);
-    freq.put("cag", 16);
-    freq.put("ghé", 59);
-    freq.put("cae", 15);
-    freq.put("cad", 202);
-    freq.put("spr", 39);
-    freq.put("sph", 19);
-    freq.put("spi", 78);
-    freq.put("spl", 89);
-    freq.put("spa", 83);
-    freq.put("spe", 143);
-    freq.put("gh ", 2708);
-    freq.put("aog", 45);
-    freq.put("ámh", 113);
-    freq.put("aod", 21);
-    freq.put("aoc", 48);
-    freq.put("aob", 407);
-    freq.put("áma", 128);
-    freq.put("aon", 895);
-    freq.put("aom", 117);
-    freq.put("aol", 452);
-    freq.put("aoi", 1842);
-    freq.put("aot", 134);
-    freq.put("aos", 25);
-    freq.put("aor", 130);
-    freq.put("ght", 98);
-    freq.put("ibé", 23);
-    freq.put("ibí", 99);
-    freq.put("ghr", 185);
-    freq.put("ghs", 14);
-    freq.put("ghd", 172);
-    freq.put("ghe", 310);
-    freq.put("gha", 654);
-    freq.put("caí", 154);
-    freq.put("ghc", 42);
-    freq.put("ghl", 361);
-    freq.put("ghn", 371);
-    freq.put("gho", 20);
-    freq.put("ghi", 177);
-    freq.put("Ru", 470);
-    freq.put("Che", 174);
-    freq.put("Chi", 387);
-    freq.put("no ", 106);
-    freq.put("Ry", 20);
-    freq.put("Chn", 17);
-    freq.put("Cho", 745);
-    freq.put("Jan", 31);
-    freq.put("Re", 192);
-    freq.put("Chr", 206);
-    freq.put("Jam", 111);
-    freq.put("Ra", 236);
-    freq.put("Ro", 461);
-    freq.put("Rh", 17);
-    freq.put("Ri", 337);
-    freq.put("eó", 36);
-    freq.put("ór ", 620);
-    freq.put("asú", 74);
-    freq.put("sof", 18);
-    freq.put("α", 107);
-    freq.put("nol", 15);
-    freq.put("nom", 39);
-    freq.put("non", 20);
-    freq.put("noi", 128);
-    freq.put("nod", 15);
-    freq.put("rlá", 17);
-    freq.put("noc", 72);
-    freq.put("R ", 47);
-    freq.put("nov", 43);
-    freq.put("son", 394);
-    freq.put("nor", 35);
-    freq.put("nos", 23);
-    freq.put("órc", 14);
-    freq.put("óra", 749);
-    freq.put("órs", 81);
-    freq.put("órt", 164);
-    freq.put("em", 248);
-    freq.put("el", 1747);
-    freq.put("eo", 5144);
-    freq.put("en", 2705);
-    freq.put("ei", 8910);
-    freq.put("eh", 31);
-    freq.put("ek", 71);
-    freq.put("Ró", 193);
-    freq.put("ee", 269);
-    freq.put("ed", 379);
-    freq.put("eg", 159);
-    freq.put("ef", 77);
-    freq.put("ea", 25239);
-    freq.put("rl ", 40);
-    freq.put("Rú", 279);
-    freq.put("eb", 101);
-    freq.put("Chó", 43);
-    freq.put("ey", 348);
-    freq.put("ex", 98);
-    freq.put("ez", 71);
-    freq.put("lm ", 60);
-    freq.put("Rí", 362);
-    freq.put("ew", 190);
-    freq.put("ev", 181);
-    freq.put("Ré", 222);
-    freq.put("es", 1134);
-    freq.put("er", 2470);
-    freq.put("س", 25);
-    freq.put("Gla", 76);
-    freq.put("rlo", 46);
-    freq.put("rli", 111);
-    freq.put("rle", 214);
-    freq.put("rla", 1273);
-    freq.put("e ", 26562);
-    freq.put("lmh", 99);
-    freq.put(" К", 15);
-    freq.put("lmo", 15);
-    freq.put("lma", 25);
-    freq.put("lme", 15);
-    freq.put("órá", 63);
-    freq.put("xi", 32);
-    freq.put("úca", 22);
-    freq.put("xa", 66);
-    freq.put("úch", 359);
-    freq.put("xe", 16);
-    freq.put("úcr", 20);
-    freq.put("zar", 14);
-    freq.put("xt", 17);
-    freq.put("Eur", 16);
-    freq.put("Phá", 131);
-    freq.put("yin", 31);
-    freq.put("úc ", 28);
-    freq.put("x ", 157);
-    freq.put("za ", 23);
-    freq.put("mrí", 232);
-    freq.put("mrá", 27);
-    freq.put("Phi", 49);
-    freq.put("Pho", 215);
-    freq.put("Phl", 25);
-    freq.put("Pha", 68);
-    freq.put("Phe", 38);
-    freq.put("Phr", 41);
-    freq.put("bío", 179);
-    freq.put("bít", 82);
-    freq.put("ò", 31);
-    freq.put("mre", 320);
-    freq.put("mra", 22);
-    freq.put("가", 17);
-    freq.put("Wes", 45);
-    freq.put("et ", 98);
-    freq.put("ε", 36);
-    freq.put(" pr", 520);
-    freq.put("на", 27);
-    freq.put(" pu", 29);
-    freq.put("Mhi", 56);
-    freq.put("но", 37);
-    freq.put("Mha", 337);
-    freq.put(" pa", 99);
-    freq.put(" pe", 214);
-    freq.put(" pi", 69);
-    freq.put("Mhu", 157);
-    freq.put(" po", 531);
-    freq.put(" pl", 119);
-    freq.put(" pó", 35);
-    freq.put("Mhí", 40);
-    freq.put(" Úi", 16);
-    freq.put(" Úc", 26);
-    freq.put("Mhá", 43);
-    freq.put(" pá", 201);
-    freq.put(" pé", 22);
-    freq.put("Kra", 14);
-    freq.put("Mhó", 86);
-    freq.put(" pí", 25);
-    freq.put(" Úr", 42);
-    freq.put("α ", 44);
-    freq.put("mbí", 90);
-    freq.put(" Má", 456);
-    freq.put(" Mí", 196);
-    freq.put(" Mé", 25);
-    freq.put("ei ", 24);
-    freq.put(" Mó", 140);
-    freq.put(" Mü", 22);
-    freq.put(" Mú", 20);
-    freq.put("ц", 14);
-    freq.put("eip", 74);
-    freq.put("eis", 2272);
-    freq.put("eir", 1778);
-    freq.put("eit", 1087);
-    freq.put("eic", 489);
-    freq.put("eib", 67);
-    freq.put("eid", 455);
-    freq.put("eig", 136);
-    freq.put("eif", 17);
-    freq.put("eim", 365);
-    freq.put("eil", 1930);
-    freq.put("ein", 197);
-    freq.put("asó", 66);
-    freq.put(" Me", 1282);
-    freq.put(" Ma", 1326);
-    freq.put(" Mc", 98);
-    freq.put(" Mo", 403);
-    freq.put(" Mh", 1153);
-    freq.put(" Mi", 402);
-    freq.put(" Mu", 284);
-    freq.put("cen", 28);
-    freq.put("Sil", 27);
-    freq.put(" My", 20);
-    freq.put("yb", 15);
-    freq.put("cei", 451);
-    freq.put("ux ", 34);
-    freq.put("eth", 90);
-    freq.put(" M ", 16);
-    freq.put("eto", 24);
-    freq.put("ác", 287);
-    freq.put("áb", 389);
-    freq.put("áe", 16);
-    freq.put("ád", 259);
-    freq.put("ág", 444);
-    freq.put("áf", 24);
-    freq.put("ái", 8489);
-    freq.put("am ", 799);
-    freq.put("ps ", 19);
-    freq.put("ám", 250);
-    freq.put("ál", 1018);
-    freq.put("án", 4189);
-    freq.put("áp", 43);
-    freq.put("ás", 613);
-    freq.put("ár", 1109);
-    freq.put("át", 991);
-    freq.put("Her", 56);
-    freq.put("cb", 18);
-    freq.put("ca", 3365);
-    freq.put("ami", 50);
-    freq.put("á ", 8021);
-    freq.put("amm", 39);
-    freq.put("pso", 42);
-    freq.put("amo", 44);
-    freq.put("ást", 38);
-    freq.put("ama", 964);
-    freq.put("amb", 62);
-    freq.put("ame", 171);
-    freq.put("cf", 27);
-    freq.put("ásc", 33);
-    freq.put("ása", 96);
-    freq.put("amp", 203);
-    freq.put("ams", 48);
-    freq.put("amu", 114);
-    freq.put("srá", 131);
-    freq.put("t", 60494);
-    freq.put("ótó", 16);
-    freq.put("áí", 25);
-    freq.put("Hel", 19);
-    freq.put("nm ", 546);
-    freq.put("Ios", 63);
-    freq.put("Ior", 55);
-    freq.put("Ion", 38);
-    freq.put("Iom", 65);
-    freq.put("cu", 1138);
-    freq.put("Iod", 189);
-    freq.put("amá", 22);
-    freq.put("ˈ", 48);
-    freq.put("nma", 16);
-    freq.put("nmn", 111);
-    freq.put("amó", 47);
-    freq.put("nmh", 268);
-    freq.put("sra", 197);
-    freq.put("óta", 81);
-    freq.put("sre", 22);
-    freq.put("óth", 174);
-    freq.put("sru", 24);
-    freq.put("Ada", 23);
-    freq.put("Ado", 17);
-    freq.put("loc", 108);
-    freq.put("log", 67);
-    freq.put("loi", 139);
-    freq.put("lon", 282);
-    freq.put("loo", 18);
-    freq.put("lom", 21);
-    freq.put("lor", 72);
-    freq.put("los", 46);
-    freq.put("low", 25);
-    freq.put("lot", 18);
-    freq.put("lou", 14);
-    freq.put("loy", 15);
-    freq.put("ن", 39);
-    freq.put("J", 910);
-    freq.put("lo ", 74);
-    freq.put("Brú", 19);
-    freq.put("Bré", 15);
-    freq.put("Brá", 20);
-    freq.put("Ísi", 55);
-    freq.put("Esp", 20);
-    freq.put("phé", 19);
-    freq.put("Mul", 17);
-    freq.put("yon", 20);
-    freq.put("Lan", 50);
-    freq.put("Lao", 78);
-    freq.put("Lai", 234);
-    freq.put(" sf", 15);
-    freq.put("Lab", 43);
-    freq.put("Lac", 25);
-    freq.put("Lat", 22);
-    freq.put("Lau", 16);
-    freq.put("Lar", 18);
-    freq.put("c ", 2108);
-    freq.put("Bru", 49);
-    freq.put("La ", 40);
-    freq.put("Bro", 105);
-    freq.put("Bri", 217);
-    freq.put("Bre", 227);
-    freq.put("Bra", 117);
-    freq.put("Ua ", 15);
-    freq.put("mpe", 309);
-    freq.put(" ró", 83);
-    freq.put("mpa", 114);
-    freq.put("mpl", 157);
-    freq.put("mph", 15);
-    freq.put(" rú", 25);
-    freq.put("mpt", 19);
-    freq.put("mpr", 28);
-    freq.put("mps", 56);
-    freq.put(" rí", 368);
-    freq.put(" ré", 1371);
-    freq.put("Uai", 24);
-    freq.put("Uac", 82);
-    freq.put(" r ", 14);
-    freq.put(" ru", 1283);
-    freq.put("mpá", 18);
-    freq.put(" re", 138);
-    freq.put(" ra", 690);
-    freq.put(" ro", 398);
-    freq.put(" ri", 660);
-    freq.put("š", 15);
-    freq.put("yst", 15);
-    freq.put("uéb", 14);
-    freq.put("S ", 72);
-    freq.put("eá ", 311);
-    freq.put("asl", 40);
-    freq.put("Sy", 24);
-    freq.put("fó", 227);
-    freq.put("Sr", 230);
-    freq.put("fú", 18);
-    freq.put("Sp", 350);
-    freq.put("Sw", 14);
-    freq.put("Su", 269);
-    freq.put("St", 806);
-    freq.put("FC ", 14);
-    freq.put("fá", 699);
-    freq.put("Si", 351);
-    freq.put("Sh", 551);
-    freq.put("So", 189);
-    freq.put("Sn", 28);
-    freq.put("Sm", 30);
-    freq.put("Sl", 185);
-    freq.put("Sc", 406);
-    freq.put("fé", 693);
-    freq.put("Sa", 1373);
-    freq.put("Sg", 27);
-    freq.put("fí", 323);
-    freq.put("Se", 734);
-    freq.put("dui", 527);
-    freq.put("f ", 269);
-    freq.put("Féa", 15);
-    freq.put("Féi", 77);
-    freq.put("eg ", 16);
-    freq.put("Sú", 30);
-    freq.put("fr", 651);
-    freq.put("ft", 48);
-    freq.put("fu", 1205);
-    freq.put("Só", 54);
-    freq.put("fy", 18);
-    freq.put("ό", 27);
-    freq.put("fa", 1504);
-    freq.put("Sé", 185);
-    freq.put("hón", 68);
-    freq.put("fe", 932);
-    freq.put("ff", 123);
-    freq.put("fh", 1623);
-    freq.put("fi", 830);
-    freq.put("Sá", 50);
-    freq.put("fl", 50);
-    freq.put("fo", 1220);
-    freq.put("a", 205992);
-    freq.put("egi", 20);
-    freq.put("ego", 31);
-    freq.put("tAb", 14);
-    freq.put("ö", 111);
-    freq.put("ega", 26);
-    freq.put("tAo", 24);
-    freq.put("tAi", 42);
-    freq.put("ege", 29);
-    freq.put("hót", 81);
-    freq.put("ffy", 15);
-    freq.put("ce ", 736);
-    freq.put("y ", 1513);
-    freq.put("Sío", 26);
-    freq.put("Sín", 135);
-    freq.put("ffi", 21);
-    freq.put("os ", 781);
-    freq.put("ffe", 33);
-    freq.put("uve", 14);
-    freq.put(" On", 31);
-    freq.put(" Ol", 168);
-    freq.put(" Oi", 369);
-    freq.put(" Od", 23);
-    freq.put(" Ob", 21);
-    freq.put(" Oc", 18);
-    freq.put(" Ox", 16);
-    freq.put(" Ow", 22);
-    freq.put(" Ot", 23);
-    freq.put(" Or", 112);
-    freq.put(" Os", 95);
-    freq.put(" Op", 26);
-    freq.put("yi", 42);
-    freq.put("yk", 16);
-    freq.put("ym", 43);
-    freq.put("yl", 73);
-    freq.put("yo", 56);
-    freq.put("yn", 135);
-    freq.put("ya", 136);
-    freq.put("rwi", 20);
-    freq.put("yc", 51);
-    freq.put("cel", 32);
-    freq.put("ye", 100);
-    freq.put("yd", 69);
-    freq.put("yg", 21);
-    freq.put("yf", 14);
-    freq.put("asá", 71);
-    freq.put("ces", 38);
-    freq.put("cer", 23);
-    freq.put("yp", 14);
-    freq.put("ys", 107);
-    freq.put("yr", 61);
-    freq.put("yt", 19);
-    freq.put("yw", 35);
-    freq.put("ff ", 26);
-    freq.put("ifr", 59);
-    freq.put(" O ", 116);
-    freq.put("ife", 99);
-    freq.put("iff", 28);
-    freq.put("ifo", 72);
-    freq.put("ifi", 245);
-    freq.put("eái", 390);
-    freq.put("dig", 48);
-    freq.put("Eng", 16);
-    freq.put("as ", 3979);
-    freq.put(" Oí", 17);
-    freq.put("eán", 1781);
-    freq.put("eác", 154);
-    freq.put("ass", 83);
-    freq.put("asr", 26);
-    freq.put("pun", 14);
-    freq.put("asp", 71);
-    freq.put("ceá", 740);
-    freq.put("ast", 501);
-    freq.put("pub", 20);
-    freq.put("asc", 579);
-    freq.put("asa", 1535);
-    freq.put("asg", 16);
-    freq.put("ase", 61);
-    freq.put("asd", 17);
-    freq.put("ask", 20);
-    freq.put("asi", 30);
-    freq.put("ash", 50);
-    freq.put("aso", 16);
-    freq.put("asn", 49);
-    freq.put("asm", 52);
-    freq.put("pus", 14);
-    freq.put(" F ", 85);
-    freq.put("ifí", 195);
-    freq.put("Clo", 33);
-    freq.put("Cli", 497);
-    freq.put("Cla", 68);
-    freq.put("Imp", 113);
-    freq.put("Imr", 156);
-    freq.put("nc ", 149);
-    freq.put("Clu", 118);
-    freq.put("st ", 494);
-    freq.put("liú", 299);
-    freq.put("ncy", 16);
-    freq.put("ncu", 14);
-    freq.put("nch", 428);
-    freq.put("nci", 177);
-    freq.put("Thí", 47);
-    freq.put("nco", 31);
-    freq.put("nca", 121);
-    freq.put("nce", 204);
-    freq.put("Thá", 100);
-    freq.put("ste", 1218);
-    freq.put("dti", 49);
-    freq.put("dto", 27);
-    freq.put("sta", 1246);
-    freq.put("stl", 22);
-    freq.put("stm", 17);
-    freq.put("dta", 63);
-    freq.put("sto", 201);
-    freq.put("sti", 488);
-    freq.put("dte", 287);
-    freq.put("óva", 19);
-    freq.put("stu", 43);
-    freq.put("str", 448);
-    freq.put("dtr", 51);
-    freq.put("dtu", 328);
-    freq.put("ka ", 67);
-    freq.put("God", 16);
-    freq.put("Clá", 26);
-    freq.put("Gob", 16);
-    freq.put("Clú", 19);
-    freq.put("Cló", 22);
-    freq.put("lid", 19);
-    freq.put("lie", 64);
-    freq.put("lif", 258);
-    freq.put("lig", 150);
-    freq.put("Nio", 18);
-    freq.put("lib", 16);
-    freq.put("lic", 201);
-    freq.put("lil", 22);
-    freq.put("húl", 55);
-    freq.put("lin", 417);
-    freq.put("lio", 164);
-    freq.put("húi", 311);
-    freq.put("Nig", 14);
-    freq.put("lit", 361);
-    freq.put("liu", 30);
-    freq.put("liv", 28);
-    freq.put("lip", 69);
-    freq.put("hús", 42);
-    freq.put("húr", 40);
-    freq.put("liz", 19);
-    freq.put("Thu", 219);
-    freq.put("Go ", 71);
-    freq.put("Tho", 176);
-    freq.put("kar", 18);
-    freq.put("ncí", 19);
-    freq.put("Thi", 133);
-    freq.put("rha", 17);
-    freq.put("The", 480);
-    freq.put("Tha", 57);
-    freq.put("dté", 16);
-    freq.put("li ", 52);
-    freq.put("hú ", 144);
-    freq.put("dtí", 383);
-    freq.put("stí", 140);
-    freq.put("dtá", 26);
-    freq.put("sté", 91);
-    freq.put("dtú", 90);
-    freq.put("stó", 65);
-    freq.put("stú", 37);
-    freq.put("ox ", 19);
-    freq.put("ymo", 15);
-    freq.put(" Ái", 88);
-    freq.put(" Ár", 98);
-    freq.put(" Át", 543);
-    freq.put("ã", 17);
-    freq.put("x", 359);
-    freq.put("Dé ", 27);
-    freq.put("Plu", 14);
-    freq.put("wor", 22);
-    freq.put("woo", 34);
-    freq.put("Pla", 56);
-    freq.put("ydd", 20);
-    freq.put("Déi", 15);
-    freq.put("béi", 58);
-    freq.put("Déa", 55);
-    freq.put("béa", 62);
-    freq.put("adu", 21);
-    freq.put("Wal", 73);
-    freq.put("Was", 16);
-    freq.put("War", 22);
-    freq.put(" t ", 559);
-    freq.put("adb", 26);
-    freq.put(" tu", 399);
-    freq.put(" ts", 243);
-    freq.put(" tr", 1087);
-    freq.put("N", 2064);
-    freq.put(" to", 270);
-    freq.put(" ti", 480);
-    freq.put(" th", 2550);
-    freq.put(" te", 1172);
-    freq.put("adl", 17);
-    freq.put(" ta", 838);
-    freq.put("gsú", 141);
-    freq.put(" tS", 311);
-    freq.put(" tO", 20);
-    freq.put(" tI", 37);
-    freq.put(" tA", 117);
-    freq.put("nói", 152);
-    freq.put("nól", 18);
-    freq.put("Bá ", 22);
-    freq.put("nón", 22);
-    freq.put("nóc", 14);
-    freq.put("nód", 16);
-    freq.put("nóg", 29);
-    freq.put("nós", 133);
-    freq.put("nót", 37);
-    freq.put("gs ", 22);
-    freq.put("Gor", 57);
-    freq.put(" tú", 106);
-    freq.put("húd", 16);
-    freq.put("nó ", 2699);
-    freq.put(" tó", 85);
-    freq.put(" tí", 564);
-    freq.put(" té", 207);
-    freq.put("Úda", 15);
-    freq.put(" tá", 647);
-    freq.put("lia", 3592);
-    freq.put("húc", 86);
-    freq.put("Nic", 75);
-    freq.put("bog", 74);
-    freq.put("RC ", 57);
-    freq.put("Nia", 22);
-    freq.put("Már", 312);
-    freq.put("Mái", 98);
-    freq.put("ee ", 87);
-    freq.put("lir", 387);
-    freq.put("nDo", 14);
-    freq.put("mho", 79);
-    freq.put("nDa", 34);
-    freq.put("lis", 292);
-    freq.put("nDe", 15);
-    freq.put("eet", 19);
-    freq.put("eer", 16);
-    freq.put("Má ", 17);
-    freq.put("een", 63);
-    freq.put("idé", 131);
-    freq.put("eed", 16);
-    freq.put("mhc", 392);
-    freq.put(" Qu", 68);
-    freq.put(" Qa", 19);
-    freq.put("з", 23);
-    freq.put("id ", 2038);
-    freq.put("rui", 134);
-    freq.put("run", 22);
-    freq.put("ad ", 2107);
-    freq.put("rum", 55);
-    freq.put("ruc", 68);
-    freq.put("rua", 226);
-    freq.put("ruf", 14);
-    freq.put("rug", 1110);
-    freq.put("rud", 172);
-    freq.put("kan", 18);
-    freq.put("nDú", 32);
-    freq.put("rus", 59);
-    freq.put("rut", 246);
-    freq.put("idt", 208);
-    freq.put("idr", 97);
-    freq.put("ids", 14);
-    freq.put("ido", 20);
-    freq.put("idm", 20);
-    freq.put("idh", 1444);
-    freq.put("idi", 1657);
-    freq.put("idg", 41);
-    freq.put("idd", 27);
-    freq.put("ide", 714);
-    freq.put("idb", 243);
-    freq.put("ida", 56);
-    freq.put("Eli", 30);
-    freq.put("Tú", 25);
-    freq.put("Ell", 16);
-    freq.put("oha", 45);
-    freq.put("Tó", 46);
-    freq.put("Tí", 131);
-    freq.put("Té", 56);
-    freq.put("Tá", 2089);
-    freq.put("ut ", 27);
-    freq.put("naí", 1112);
-    freq.put("El ", 21);
-    freq.put("hUa", 22);
-    freq.put("uta", 20);
-    freq.put("öl", 32);
-    freq.put("uth", 369);
-    freq.put("uti", 18);
-    freq.put("utt", 29);
-    freq.put("Cnu", 23);
-    freq.put("Éad", 37);
-    freq.put("Tu", 566);
-    freq.put("Tr", 269);
-    freq.put("To", 290);
-    freq.put("hIm", 15);
-    freq.put("Th", 1249);
-    freq.put("Ti", 174);
-    freq.put("Cno", 22);
-    freq.put("Te", 461);
-    freq.put("Ta", 319);
-    freq.put("nab", 27);
-    freq.put("nac", 2846);
-    freq.put("nag", 54);
-    freq.put("nad", 430);
-    freq.put("nai", 1426);
-    freq.put("nan", 389);
-    freq.put("nao", 175);
-    freq.put("nal", 159);
-    freq.put("nam", 348);
-    freq.put("nar", 134);
-    freq.put("nas", 642);
-    freq.put("nap", 14);
-    freq.put("nat", 73);
-    freq.put("oon", 34);
-    freq.put("T ", 38);
-    freq.put("na ", 12179);
-    freq.put("Ab", 180);
-    freq.put("e", 80219);
-    freq.put("Ad", 72);
-    freq.put("Ag", 62);
-    freq.put("Af", 126);
-    freq.put("Ai", 875);
-    freq.put("Am", 211);
-    freq.put("Al", 673);
-    freq.put("Ao", 683);
-    freq.put("An", 878);
-    freq.put("Ap", 36);
-    freq.put("As", 333);
-    freq.put("Ar", 549);
-    freq.put("Au", 67);
-    freq.put("At", 157);
-    freq.put("ú", 11150);
-    freq.put("gu", 8062);
-    freq.put("gt", 1166);
-    freq.put("gs", 210);
-    freq.put("gr", 790);
-    freq.put("gy", 22);
-    freq.put("gg", 41);
-    freq.put("gf", 27);
-    freq.put("ge", 2607);
-    freq.put("gd", 28);
-    freq.put("gc", 1529);
-    freq.put("gb", 67);
-    freq.put("ga", 4696);
-    freq.put("Gio", 40);
-    freq.put("gn", 464);
-    freq.put("gm", 31);
-    freq.put("Gil", 20);
-    freq.put("gi", 1171);
-    freq.put("gh", 5251);
-    freq.put("Nol", 338);
-    freq.put("Nob", 19);
-    freq.put("gC", 1143);
-    freq.put("ν", 74);
-    freq.put("arú", 93);
-    freq.put("Nor", 78);
-    freq.put("g ", 4176);
-    freq.put("ene", 80);
-    freq.put("Spr", 18);
-    freq.put("lk ", 16);
-    freq.put("Spi", 26);
-    freq.put("Spo", 16);
-    freq.put("Spe", 25);
-    freq.put("gö", 27);
-    freq.put("zo", 52);
-    freq.put("zh", 29);
-    freq.put("zi", 69);
-    freq.put("ze", 68);
-    freq.put("gú", 29);
-    freq.put("gá", 342);
-    freq.put("gí", 69);
-    freq.put("gé", 329);
-    freq.put("cé ", 113);
-    freq.put("Sí", 182);
-    freq.put("arí", 40);
-    freq.put("yce", 17);
-    freq.put("z ", 155);
-    freq.put("céa", 541);
-    freq.put("céi", 99);
-    freq.put("ра", 26);
-    freq.put("Spá", 239);
-    freq.put("ро", 21);
-    freq.put("wic", 33);
-    freq.put("win", 29);
-    freq.put(" ví", 29);
-    freq.put("Ji", 54);
-    freq.put("ied", 26);
-    freq.put(" va", 18);
-    freq.put(" ve", 45);
-    freq.put(" vi", 31);
-    freq.put(" vo", 28);
-    freq.put("míl", 152);
-    freq.put("mín", 39);
-    freq.put("Páp", 16);
-    freq.put("Pár", 28);
-    freq.put("hlú", 76);
-    freq.put("hló", 128);
-    freq.put("nú ", 75);
-    freq.put("hlí", 29);
-    freq.put("Pád", 61);
-    freq.put("hlé", 82);
-    freq.put("Pái", 139);
-    freq.put("hlá", 205);
-    freq.put("ب", 21);
-    freq.put("míc", 15);
-    freq.put("RA ", 16);
-    freq.put("ç", 26);
-    freq.put("ec ", 22);
-    freq.put("hlu", 153);
-    freq.put("hlo", 95);
-    freq.put("mar", 1718);
-    freq.put("hli", 2004);
-    freq.put("hle", 240);
-    freq.put("hla", 719);
-    freq.put("fre", 342);
-    freq.put("п", 19);
-    freq.put("eco", 18);
-    freq.put("Rúi", 254);
-    freq.put("ech", 43);
-    freq.put("ː", 17);
-    freq.put("ect", 37);
-    freq.put("mad", 253);
-    freq.put("mag", 35);
-    freq.put("rs ", 166);
-    freq.put("mai", 598);
-    freq.put("cy ", 21);
-    freq.put(" Sy", 24);
-    freq.put(" Sr", 217);
-    freq.put("mam", 24);
-    freq.put(" Sp", 350);
-    freq.put(" Sw", 14);
-    freq.put(" St", 802);
-    freq.put("íof", 67);
-    freq.put(" Sk", 30);
-    freq.put(" Sh", 547);
-    freq.put(" Si", 309);
-    freq.put(" Sn", 28);
-    freq.put(" So", 181);
-    freq.put(" Sl", 167);
-    freq.put(" Sm", 30);
-    freq.put(" Sc", 405);
-    freq.put("man", 516);
-    freq.put(" Sg", 27);
-    freq.put(" Se", 630);
-    freq.put("rsm", 24);
-    freq.put("rso", 40);
-    freq.put("rsh", 40);
-    freq.put("rsi", 104);
-    freq.put("rsk", 16);
-    freq.put("rse", 211);
-    freq.put("rsa", 287);
-    freq.put("rsc", 217);
-    freq.put("R", 3017);
-    freq.put("rst", 140);
-    freq.put("bei", 63);
-    freq.put("beo", 79);
-    freq.put("bel", 41);
-    freq.put("bec", 19);
-    freq.put("bea", 484);
-    freq.put("ber", 213);
-    freq.put(" S ", 17);
-    freq.put("bet", 26);
-    freq.put("ão", 15);
-    freq.put("lú ", 248);
-    freq.put("aw ", 16);
-    freq.put(" Sú", 23);
-    freq.put("nÉi", 14);
-    freq.put("ur ", 612);
-    freq.put(" Só", 54);
-    freq.put(" Sé", 182);
-    freq.put(" Sí", 148);
-    freq.put(" Sá", 44);
-    freq.put("rsé", 16);
-    freq.put("lút", 57);
-    freq.put("lúi", 104);
-    freq.put("ה", 23);
-    freq.put("lún", 59);
-    freq.put("lúc", 14);
-    freq.put("lúd", 46);
-    freq.put("awa", 22);
-    freq.put("ure", 45);
-    freq.put("Sái", 26);
-    freq.put("urg", 90);
-    freq.put("ura", 189);
-    freq.put("urb", 96);
-    freq.put("urc", 62);
-    freq.put("url", 38);
-    freq.put("urn", 75);
-    freq.put("uro", 30);
-    freq.put("uri", 53);
-    freq.put("urt", 87);
-    freq.put("urp", 15);
-    freq.put("urr", 39);
-    freq.put("ury", 23);
-    freq.put("Iar", 271);
-    freq.put("nge", 211);
-    freq.put("ngf", 22);
-    freq.put("nga", 974);
-    freq.put("ngl", 144);
-    freq.put("ngn", 22);
-    freq.put("ngo", 25);
-    freq.put("ngh", 86);
-    freq.put("ngi", 39);
-    freq.put("ngt", 83);
-    freq.put("ngu", 44);
-    freq.put("ngr", 50);
-    freq.put("ngs", 41);
-    freq.put("luí", 23);
-    freq.put("Srá", 139);
-    freq.put("tbh", 212);
-    freq.put("tba", 28);
-    freq.put("shr", 63);
-    freq.put("ng ", 349);
-    freq.put("shu", 50);
-    freq.put("sha", 314);
-    freq.put("she", 203);
-    freq.put("shi", 156);
-    freq.put("shl", 100);
-    freq.put("sho", 57);
-    freq.put("ke ", 58);
-    freq.put("tta", 38);
-    freq.put("lus", 40);
-    freq.put("ngá", 45);
-    freq.put("ngé", 45);
-    freq.put("lua", 385);
-    freq.put("lub", 148);
-    freq.put("luc", 142);
-    freq.put("ngó", 117);
-    freq.put("lui", 189);
-    freq.put("л", 108);
-    freq.put("lum", 19);
-    freq.put("lun", 17);
-    freq.put("ken", 22);
-    freq.put("Sra", 58);
-    freq.put("key", 21);
-    freq.put("Sru", 15);
-    freq.put("ket", 22);
-    freq.put("kes", 25);
-    freq.put("ker", 42);
-    freq.put("р ", 23);
-    freq.put("shó", 29);
-    freq.put("shá", 17);
-    freq.put("shí", 50);
-    freq.put("hIn", 39);
-    freq.put("hIo", 62);
-    freq.put("Loc", 214);
-    freq.put("ot ", 44);
-    freq.put("Loi", 15);
-    freq.put("Lon", 181);
-    freq.put("Lor", 30);
-    freq.put("Los", 30);
-    freq.put("Lov", 14);
-    freq.put("Lou", 71);
-    freq.put("An ", 507);
-    freq.put("yal", 16);
-    freq.put("yan", 35);
-    freq.put("oth", 323);
-    freq.put("oto", 30);
-    freq.put("ota", 316);
-    freq.put("otb", 27);
-    freq.put("otr", 21);
-    freq.put("ots", 23);
-    freq.put("ott", 66);
-    freq.put("otu", 20);
-    freq.put("And", 78);
-    freq.put("Ang", 71);
-    freq.put("Ana", 16);
-    freq.put("Ann", 43);
-    freq.put("Ant", 93);
-    freq.put("Anr", 30);
-    freq.put("ya ", 45);
-    freq.put("You", 19);
-    freq.put("otá", 130);
-    freq.put("א", 14);
-    freq.put("i", 133366);
-    freq.put("She", 97);
-    freq.put("Be", 744);
-    freq.put("Ba", 1930);
-    freq.put("Bl", 146);
-    freq.put("Bo", 264);
-    freq.put("Bh", 1538);
-    freq.put("Bi", 171);
-    freq.put("Bu", 392);
-    freq.put("Fái", 49);
-    freq.put("Br", 787);
-    freq.put("orá", 51);
-    freq.put("By", 31);
-    freq.put("Uí", 112);
-    freq.put("B ", 234);
-    freq.put("U ", 28);
-    freq.put("Bá", 48);
-    freq.put("Bí", 112);
-    freq.put("Bé", 956);
-    freq.put("Bó", 57);
-    freq.put("Bú", 28);
-    freq.put("pr", 684);
-    freq.put("ps", 108);
-    freq.put("Ur", 48);
-    freq.put("Ul", 134);
-    freq.put("Un", 145);
-    freq.put("Ui", 83);
-    freq.put("Ua", 134);
-    freq.put("dun", 14);
-    freq.put("óit", 73);
-    freq.put("ea ", 2266);
-    freq.put("h ", 22971);
-    freq.put("óib", 55);
-    freq.put(" Uí", 112);
-    freq.put(" io", 626);
-    freq.put("Míc", 34);
-    freq.put("eai", 31);
-    freq.put("hy", 66);
-    freq.put("eam", 933);
-    freq.put("eal", 1578);
-    freq.put("ean", 6477);
-    freq.put("hr", 4331);
-    freq.put("hs", 439);
-    freq.put("eac", 4120);
-    freq.put("eab", 592);
-    freq.put("eae", 15);
-    freq.put("ead", 1421);
-    freq.put("eag", 1122);
-    freq.put("eaf", 21);
-    freq.put("hk", 20);
-    freq.put("hi", 3686);
-    freq.put("hn", 1628);
-    freq.put("ho", 3923);
-    freq.put("hl", 3740);
-    freq.put("hm", 370);
-    freq.put("hb", 245);
-    freq.put("eap", 208);
-    freq.put("eas", 1483);
-    freq.put("ear", 3955);
-    freq.put("eau", 27);
-    freq.put("eat", 955);
-    freq.put("hd", 373);
-    freq.put("he", 9095);
-    freq.put("mBl", 19);
-    freq.put("mBo", 21);
-    freq.put("dmh", 31);
-    freq.put("mBe", 30);
-    freq.put("hní", 184);
-    freq.put("mBa", 252);
-    freq.put("po", 724);
-    freq.put("te", 7229);
-    freq.put("hnó", 36);
-    freq.put("hI", 157);
-    freq.put("pl", 469);
-    freq.put("mBu", 18);
-    freq.put("hnú", 19);
-    freq.put("hF", 113);
-    freq.put("Mí ", 149);
-    freq.put("mBr", 58);
-    freq.put("hE", 204);
-    freq.put("hn ", 148);
-    freq.put("Jr ", 24);
-    freq.put("hún", 169);
-    freq.put(" Ur", 43);
-    freq.put(" Ul", 132);
-    freq.put(" Un", 136);
-    freq.put(" Ui", 69);
-    freq.put(" Ua", 104);
-    freq.put("hú", 882);
-    freq.put("eaí", 20);
-    freq.put("hó", 1143);
-    freq.put("hö", 28);
-    freq.put("hé", 1982);
-    freq.put("hí", 2469);
-    freq.put("há", 2539);
-    freq.put("hna", 260);
-    freq.put("hne", 600);
-    freq.put("mBé", 150);
-    freq.put("hni", 60);
-    freq.put("hno", 28);
-    freq.put("hÉ", 663);
-    freq.put("hnu", 19);
-    freq.put("hÍ", 55);
-    freq.put("hÁ", 50);
-    freq.put("aud", 27);
-    freq.put("aug", 19);
-    freq.put("Joa", 15);
-    freq.put("aul", 83);
-    freq.put("up ", 17);
-    freq.put("neá", 219);
-    freq.put("aus", 26);
-    freq.put("aur", 29);
-    freq.put("meá", 129);
-    freq.put("móg", 26);
-    freq.put("au ", 32);
-    freq.put("fho", 376);
-    freq.put("fhi", 169);
-    freq.put("fhe", 162);
-    freq.put("ë", 49);
-    freq.put("fha", 173);
-    freq.put("fhu", 70);
-    freq.put("fhr", 56);
-    freq.put("me ", 182);
-    freq.put("íc ", 20);
-    freq.put("nen", 32);
-    freq.put("neo", 447);
-    freq.put("nel", 42);
-    freq.put("nei", 19);
-    freq.put("neg", 14);
-    freq.put("ned", 36);
-    freq.put("nea", 1340);
-    freq.put("ney", 97);
-    freq.put("net", 45);
-    freq.put("ól ", 82);
-    freq.put("nes", 120);
-    freq.put("у", 41);
-    freq.put("mea", 458);
-    freq.put("íci", 16);
-    freq.put("ích", 119);
-    freq.put("íce", 62);
-    freq.put("men", 88);
-    freq.put("mei", 43);
-    freq.put("met", 27);
-    freq.put("mes", 142);
-    freq.put("mer", 79);
-    freq.put("fhí", 42);
-    freq.put("fhé", 430);
-    freq.put("fhá", 105);
-    freq.put("ne ", 3335);
-    freq.put("dri", 103);
-    freq.put("dro", 93);
-    freq.put("dra", 170);
-    freq.put("dre", 124);
-    freq.put("óla", 44);
-    freq.put("fhó", 29);
-    freq.put("St ", 18);
-    freq.put("Shé", 39);
-    freq.put("Á", 813);
-    freq.put("Ste", 88);
-    freq.put("Sta", 139);
-    freq.put("Sto", 43);
-    freq.put("Sti", 47);
-    freq.put("Stu", 20);
-    freq.put("Str", 47);
-    freq.put("V", 513);
-    freq.put("Tim", 32);
-    freq.put("rim", 139);
-    freq.put("Lif", 21);
-    freq.put("Lia", 109);
-    freq.put("Lib", 24);
-    freq.put("Lim", 18);
-    freq.put("Lin", 50);
-    freq.put("Lio", 85);
-    freq.put("Lit", 21);
-    freq.put("ov ", 33);
-    freq.put("cCa", 16);
-    freq.put("Kan", 19);
-    freq.put("Al ", 17);
-    freq.put("cí ", 85);
-    freq.put("Kar", 34);
-    freq.put("Kat", 31);
-    freq.put(" sa", 4679);
-    freq.put("Stá", 384);
-    freq.put("ova", 45);
-    freq.put("ove", 70);
-    freq.put("ovi", 50);
-    freq.put("cío", 21);
-    freq.put("cín", 25);
-    freq.put("All", 35);
-    freq.put("Ali", 19);
-    freq.put("Ale", 50);
-    freq.put("Alb", 377);
-    freq.put("Ala", 73);
-    freq.put("Ára", 86);
-    freq.put("aof", 47);
-    freq.put("Alt", 15);
-    freq.put("cít", 16);
-    freq.put("cís", 24);
-    freq.put("Alp", 16);
-    freq.put("rád", 32);
-    freq.put("rác", 51);
-    freq.put("rán", 608);
-    freq.put("rál", 140);
-    freq.put("rám", 112);
-    freq.put("rái", 750);
-    freq.put("rát", 69);
-    freq.put("rás", 53);
-    freq.put("onl", 192);
-    freq.put("ρ", 66);
-    freq.put("rá ", 172);
-    freq.put("bót", 50);
-    freq.put("bón", 20);
-    freq.put("bói", 55);
-    freq.put("Úi", 18);
-    freq.put("Úd", 15);
-    freq.put("Úc", 31);
-    freq.put("isé", 44);
-    freq.put("isí", 148);
-    freq.put("Úr", 44);
-    freq.put("Ús", 41);
-    freq.put("Wor", 21);
-    freq.put("Wol", 21);
-    freq.put("Woo", 16);
-    freq.put("is ", 8915);
-    freq.put("iss", 59);
-    freq.put("isp", 63);
-    freq.put("ist", 1852);
-    freq.put("isi", 1776);
-    freq.put("ish", 105);
-    freq.put("iso", 33);
-    freq.put("isn", 120);
-    freq.put("ism", 40);
-    freq.put("isl", 100);
-    freq.put("isc", 1361);
-    freq.put("isb", 24);
-    freq.put("isa", 22);
-    freq.put("isf", 50);
-    freq.put("ise", 1193);
-    freq.put("gy ", 14);
-    freq.put("lá ", 1233);
-    freq.put("uái", 30);
-    freq.put("uán", 14);
-    freq.put("ri ", 89);
-    freq.put("lám", 61);
-    freq.put("lán", 235);
-    freq.put("lái", 556);
-    freq.put("lát", 214);
-    freq.put("lár", 422);
-    freq.put("lás", 33);
-    freq.put("ty ", 159);
-    freq.put("do ", 629);
-    freq.put("doi", 23);
-    freq.put("don", 416);
-    freq.put("dol", 27);
-    freq.put("dom", 343);
-    freq.put("doc", 36);
-    freq.put("m", 27549);
-    freq.put("dog", 20);
-    freq.put("dor", 65);
-    freq.put("dos", 18);
-    freq.put(" We", 93);
-    freq.put("Cói", 21);
-    freq.put(" Wa", 161);
-    freq.put(" Wo", 76);
-    freq.put(" Wh", 33);
-    freq.put(" Wi", 221);
-    freq.put(" Wy", 14);
-    freq.put("ba ", 436);
-    freq.put("omá", 246);
-    freq.put("υ", 24);
-    freq.put("omó", 111);
-    freq.put("ον ", 15);
-    freq.put("bar", 115);
-    freq.put("bas", 43);
-    freq.put("unú", 106);
-    freq.put("bad", 23);
-    freq.put("bac", 109);
-    freq.put("ban", 414);
-    freq.put("bal", 290);
-    freq.put("bam", 96);
-    freq.put("bai", 1183);
-    freq.put("om ", 147);
-    freq.put("Rua", 57);
-    freq.put("Rug", 352);
-    freq.put("un ", 599);
-    freq.put("Rus", 14);
-    freq.put("omc", 38);
-    freq.put("omb", 131);
-    freq.put("oma", 307);
-    freq.put("ome", 52);
-    freq.put("omi", 43);
-    freq.put("omh", 2862);
-    freq.put("omo", 20);
-    freq.put("omn", 22);
-    freq.put("omm", 49);
-    freq.put("oml", 86);
-    freq.put("oms", 14);
-    freq.put("omr", 44);
-    freq.put("omp", 156);
-    freq.put("unr", 31);
-    freq.put("uns", 24);
-    freq.put("unt", 128);
-    freq.put("una", 569);
-    freq.put("unc", 40);
-    freq.put("und", 110);
-    freq.put("ung", 63);
-    freq.put("uni", 30);
-    freq.put("baí", 52);
-    freq.put("àid", 20);
-    freq.put("unn", 30);
-    freq.put("iú", 2995);
-    freq.put("ón ", 775);
-    freq.put("ió", 116);
-    freq.put("ía ", 22);
-    freq.put("iá", 23);
-    freq.put("óch", 56);
-    freq.put("C ", 207);
-    freq.put("óng", 28);
-    freq.put("mch", 67);
-    freq.put("ónn", 18);
-    freq.put("óca", 32);
-    freq.put("ι", 51);
-    freq.put("ónt", 14);
-    freq.put("Ci", 377);
-    freq.put("Ch", 2601);
-    freq.put("Co", 2077);
-    freq.put("Cn", 52);
-    freq.put("Cl", 805);
-    freq.put("slu", 19);
-    freq.put("Ca", 1185);
-    freq.put("Ví", 26);
-    freq.put("Ce", 563);
-    freq.put("óis", 269);
-    freq.put("Cy", 22);
-    freq.put("sli", 105);
-    freq.put("áit", 897);
-    freq.put("sle", 131);
-    freq.put("sla", 192);
-    freq.put("Cu", 433);
-    freq.put("iy", 39);
-    freq.put("ix", 45);
-    freq.put("iz", 73);
-    freq.put("iq", 21);
-    freq.put("ip", 561);
-    freq.put("is", 15956);
-    freq.put("Nai", 48);
-    freq.put("iu", 350);
-    freq.put("Nao", 110);
-    freq.put("iv", 271);
-    freq.put("ii", 26);
-    freq.put("Nas", 14);
-    freq.put("Nap", 16);
-    freq.put("ij", 27);
-    freq.put("im", 4227);
-    freq.put("il", 13368);
-    freq.put("Nat", 55);
-    freq.put("in", 22865);
-    freq.put("ia", 8556);
-    freq.put("ic", 4509);
-    freq.put("ib", 1678);
-    freq.put("ie", 631);
-    freq.put("id", 7038);
-    freq.put("ig", 6298);
-    freq.put("if", 738);
-    freq.put("V ", 65);
-    freq.put("Na ", 69);
-    freq.put("ий ", 34);
-    freq.put("kin", 66);
-    freq.put("i ", 7943);
-    freq.put("aka", 23);
-    freq.put("kie", 20);
-    freq.put("Va", 115);
-    freq.put("Cé", 98);
-    freq.put("Ve", 93);
-    freq.put("Cí", 19);
-    freq.put("Vi", 167);
-    freq.put("Cá", 56);
-    freq.put("Vo", 36);
-    freq.put("slí", 29);
-    freq.put("slé", 30);
-    freq.put("Có", 94);
-    freq.put("slá", 31);
-    freq.put("nk ", 33);
-    freq.put("op ", 47);
-    freq.put("yes", 20);
-    freq.put("yer", 38);
-    freq.put("Ar ", 54);
-    freq.put("opt", 22);
-    freq.put("ye ", 18);
-    freq.put("ope", 29);
-    freq.put("opa", 58);
-    freq.put("opc", 14);
-    freq.put(" Éa", 60);
-    freq.put("opo", 21);
-    freq.put("oph", 46);
-    freq.put("Art", 45);
-    freq.put("Ara", 133);
-    freq.put("Arc", 17);
-    freq.put("Ard", 151);
-    freq.put("Are", 14);
-    freq.put("Arm", 66);
-    freq.put("www", 43);
-    freq.put("Tóg", 25);
-    freq.put("eel", 21);
-    freq.put("Dál", 164);
-    freq.put("Dái", 50);
-    freq.put("idí", 295);
-    freq.put("ww ", 43);
-    freq.put("Dá ", 15);
-    freq.put("DN ", 19);
-    freq.put("Z", 115);
-    freq.put("iqu", 19);
-    freq.put("ск", 41);
-    freq.put("ст", 21);
-    freq.put("Win", 32);
-    freq.put("Wil", 138);
-    freq.put("Wik", 16);
-    freq.put("Grú", 25);
-    freq.put("Gré", 160);
-    freq.put("di ", 53);
-    freq.put("dil", 18);
-    freq.put("dim", 32);
-    freq.put("din", 294);
-    freq.put("dio", 40);
-    freq.put("die", 30);
-    freq.put("dif", 40);
-    freq.put("ers", 225);
-    freq.put("dia", 293);
-    freq.put("dic", 27);
-    freq.put("dit", 21);
-    freq.put("dir", 1209);
-    freq.put("dis", 147);
-    freq.put("Gru", 17);
-    freq.put(" Yo", 40);
-    freq.put(" Ya", 26);
-    freq.put(" Ye", 18);
-    freq.put("ery", 28);
-    freq.put("Gre", 42);
-    freq.put("Gra", 99);
-    freq.put("Gro", 24);
-    freq.put("Gri", 35);
-    freq.put("tne", 54);
-    freq.put("β", 19);
-    freq.put("AM ", 43);
-    freq.put("ión", 27);
-    freq.put("hbh", 223);
-    freq.put("bor", 45);
-    freq.put("hba", 15);
-    freq.put("bou", 52);
-    freq.put("boi", 15);
-    freq.put("bol", 50);
-    freq.put("diú", 99);
-    freq.put("boc", 23);
-    freq.put("dió", 66);
-    freq.put("brú", 28);
-    freq.put("ayn", 15);
-    freq.put("aye", 50);
-    freq.put("aya", 22);
-    freq.put("ul ", 152);
-    freq.put("ood", 67);
-    freq.put("Bei", 56);
-    freq.put("Ben", 44);
-    freq.put("Bel", 48);
-    freq.put("sná", 21);
-    freq.put("oom", 21);
-    freq.put("ool", 43);
-    freq.put("Bea", 469);
-    freq.put("ook", 30);
-    freq.put("sné", 54);
-    freq.put("oot", 38);
-    freq.put("oos", 16);
-    freq.put("oor", 30);
-    freq.put("Ber", 55);
-    freq.put("maí", 234);
-    freq.put("ay ", 128);
-    freq.put("ult", 111);
-    freq.put("ulu", 22);
-    freq.put("uli", 38);
-    freq.put("ulo", 15);
-    freq.put("ull", 75);
-    freq.put("ula", 104);
-    freq.put("ulf", 16);
-    freq.put("ulg", 25);
-    freq.put("ule", 17);
-    freq.put("ma ", 472);
-    freq.put("nyi", 30);
-    freq.put("brá", 19);
-    freq.put("mas", 175);
-    freq.put("sne", 60);
-    freq.put("mat", 79);
-    freq.put("sna", 496);
-    freq.put("íos", 602);
-    freq.put("íor", 199);
-    freq.put("íot", 31);
-    freq.put("mac", 612);
-    freq.put("mae", 32);
-    freq.put("íon", 1757);
-    freq.put("íom", 1097);
-    freq.put("íol", 105);
-    freq.put("íoc", 2004);
-    freq.put("íob", 247);
-    freq.put("íog", 60);
-    freq.put("mal", 86);
-    freq.put("mao", 49);
-    freq.put("íod", 679);
-    freq.put("q", 111);
-    freq.put("Edw", 27);
-    freq.put("ny ", 111);
-    freq.put("lse", 63);
-    freq.put("lsc", 185);
-    freq.put("lsa", 41);
-    freq.put("lso", 25);
-    freq.put("lsi", 100);
-    freq.put("lst", 34);
-    freq.put(" ab", 662);
-    freq.put(" ac", 887);
-    freq.put(" ad", 142);
-    freq.put(" ae", 136);
-    freq.put(" ag", 9107);
-    freq.put(" ai", 2945);
-    freq.put(" al", 169);
-    freq.put(" am", 1152);
-    freq.put(" an", 14934);
-    freq.put(" ao", 494);
-    freq.put(" ap", 19);
-    freq.put(" ar", 6072);
-    freq.put(" as", 1109);
-    freq.put(" at", 2168);
-    freq.put("д", 38);
-    freq.put("Shr", 17);
-    freq.put("ls ", 42);
-    freq.put("hOl", 21);
-    freq.put("oró", 83);
-    freq.put("hOi", 42);
-    freq.put("Sha", 212);
-    freq.put("hOs", 21);
-    freq.put("oré", 21);
-    freq.put("Shi", 41);
-    freq.put("Shl", 44);
-    freq.put("Sho", 28);
-    freq.put(" a ", 8371);
-    freq.put("ος", 28);
-    freq.put("hné", 52);
-    freq.put("lsí", 98);
-    freq.put("Lua", 43);
-    freq.put("Luc", 96);
-    freq.put("Lud", 14);
-    freq.put("Lug", 29);
-    freq.put("Lui", 93);
-    freq.put("lsú", 44);
-    freq.put("or ", 345);
-    freq.put("Ken", 62);
-    freq.put("Kel", 29);
-    freq.put("Kea", 20);
-    freq.put("Key", 15);
-    freq.put("Kev", 15);
-    freq.put("Shó", 16);
-    freq.put("G", 4685);
-    freq.put("ory", 25);
-    freq.put("ort", 590);
-    freq.put("oru", 46);
-    freq.put("orr", 167);
-    freq.put("ors", 62);
-    freq.put("orp", 272);
-    freq.put("sór", 14);
-    freq.put("orn", 219);
-    freq.put("oro", 53);
-    freq.put("orl", 75);
-    freq.put("orm", 172);
-    freq.put("sói", 127);
-    freq.put("ork", 35);
-    freq.put("ori", 126);
-    freq.put("orf", 22);
-    freq.put("org", 242);
-    freq.put("ord", 273);
-    freq.put("ore", 96);
-    freq.put("orb", 118);
-    freq.put("orc", 278);
-    freq.put("ora", 509);
-    freq.put("cás", 29);
-    freq.put("cái", 420);
-    freq.put("cán", 103);
-    freq.put("cál", 28);
-    freq.put("rír", 17);
-    freq.put("rís", 49);
-    freq.put("Tír", 114);
-    freq.put("rít", 177);
-    freq.put("ríb", 349);
-    freq.put("ríc", 21);
-    freq.put("ríd", 89);
-    freq.put("ua ", 465);
-    freq.put("rín", 63);
-    freq.put("río", 1887);
-    freq.put("Dí", 30);
-    freq.put("Dé", 102);
-    freq.put("Dá", 246);
-    freq.put("Dú", 193);
-    freq.put("Dó", 33);
-    freq.put("en ", 1506);
-    freq.put("ch", 26341);
-    freq.put("rí ", 1171);
-    freq.put("ríú", 71);
-    freq.put("Do", 507);
-    freq.put("Dl", 37);
-    freq.put("agá", 70);
-    freq.put("Dh", 350);
-    freq.put("Di", 257);
-    freq.put("De", 754);
-    freq.put("Da", 525);
-    freq.put("Du", 229);
-    freq.put("Dr", 164);
-    freq.put("TG ", 26);
-    freq.put("D ", 237);
-    freq.put("ge ", 1840);
-    freq.put("lí ", 340);
-    freq.put("We", 94);
-    freq.put("Wa", 162);
-    freq.put("Wo", 77);
-    freq.put("ábl", 63);
-    freq.put("Wi", 224);
-    freq.put("Wh", 33);
-    freq.put("а", 242);
-    freq.put("Wy", 14);
-    freq.put("ges", 26);
-    freq.put("ger", 72);
-    freq.put("lís", 63);
-    freq.put("lít", 64);
-    freq.put("onó", 59);
-    freq.put("gea", 414);
-    freq.put("lín", 268);
-    freq.put("lío", 233);
-    freq.put("tuá", 17);
-    freq.put("gei", 17);
-    freq.put("geo", 88);
-    freq.put("gen", 61);
-    freq.put("gel", 59);
-    freq.put("Súi", 16);
-    freq.put("ó", 13717);
-    freq.put("tu ", 58);
-    freq.put("j ", 21);
-    freq.put("ain", 7349);
-    freq.put("tur", 96);
-    freq.put("tus", 32);
-    freq.put("tut", 21);
-    freq.put("tui", 74);
-    freq.put("jo", 35);
-    freq.put("ji", 36);
-    freq.put("je", 23);
-    freq.put("ja", 59);
-    freq.put("tug", 303);
-    freq.put("Péi", 18);
-    freq.put("оно", 15);
-    freq.put("cle", 66);
-    freq.put("tua", 318);
-    freq.put("hd ", 21);
-    freq.put("paí", 59);
-    freq.put("É", 2404);
-    freq.put("agó", 420);
-    freq.put("hde", 119);
-    freq.put("hda", 17);
-    freq.put("hdi", 36);
-    freq.put("hdh", 155);
-    freq.put("́ч", 14);
-    freq.put("oi ", 566);
-    freq.put("ntú", 67);
-    freq.put("par", 151);
-    freq.put("pas", 37);
-    freq.put("pat", 36);
-    freq.put("pac", 105);
-    freq.put("pad", 34);
-    freq.put("pag", 31);
-    freq.put("pai", 149);
-    freq.put("pal", 41);
-    freq.put("pan", 23);
-    freq.put("oin", 1191);
-    freq.put("oim", 354);
-    freq.put("oil", 1296);
-    freq.put("A ", 162);
-    freq.put("oig", 99);
-    freq.put("oif", 183);
-    freq.put("oid", 224);
-    freq.put("oic", 136);
-    freq.put("oib", 236);
-    freq.put("oit", 255);
-    freq.put("ois", 848);
-    freq.put("oir", 3309);
-    freq.put("pa ", 431);
-    freq.put("ntí", 102);
-    freq.put("́н", 22);
-    freq.put("mo ", 38);
-    freq.put(" cé", 299);
-    freq.put("Meá", 332);
-    freq.put(" cí", 22);
-    freq.put(" cá", 319);
-    freq.put(" cú", 315);
-    freq.put(" có", 303);
-    freq.put("Fho", 14);
-    freq.put("Fhi", 99);
-    freq.put("Fhe", 48);
-    freq.put("mor", 39);
-    freq.put("Fha", 60);
-    freq.put("mou", 21);
-    freq.put("mot", 24);
-    freq.put("moi", 28);
-    freq.put("ímh", 16);
-    freq.put("mol", 22);
-    freq.put("Drá", 15);
-    freq.put("óbh", 15);
-    freq.put("mod", 31);
-    freq.put("úna", 570);
-    freq.put("únd", 18);
-    freq.put("únm", 24);
-    freq.put("únt", 454);
-    freq.put("то", 18);
-    freq.put("Nei", 30);
-    freq.put("Nea", 38);
-    freq.put("ct", 536);
-    freq.put("Dr ", 17);
-    freq.put("fá ", 15);
-    freq.put("höv", 26);
-    freq.put("Med", 17);
-    freq.put(" ch", 6174);
-    freq.put(" ci", 449);
-    freq.put(" cn", 57);
-    freq.put(" co", 1181);
-    freq.put(" cl", 537);
-    freq.put("Mel", 55);
-    freq.put("Men", 20);
-    freq.put("Mei", 735);
-    freq.put(" ce", 1239);
-    freq.put("Mer", 24);
-    freq.put(" cr", 447);
-    freq.put(" cu", 711);
-    freq.put("hAi", 35);
-    freq.put("Fhé", 16);
-    freq.put("ч", 57);
-    freq.put("hAo", 33);
-    freq.put("fás", 43);
-    freq.put("hAb", 16);
-    freq.put("hAf", 47);
-    freq.put("fái", 240);
-    freq.put("fán", 17);
-    freq.put("Dro", 81);
-    freq.put("Dra", 14);
-    freq.put("hAr", 24);
-    freq.put("hAs", 63);
-    freq.put("Dre", 21);
-    freq.put("fág", 374);
-    freq.put("km ", 105);
-    freq.put(" c ", 38);
-    freq.put("bon", 33);
-    freq.put(" Ío", 95);
-    freq.put(" Ís", 38);
-    freq.put("Ac", 138);
-    freq.put("Áth", 545);
-    freq.put("Ae", 65);
-    freq.put("úsá", 344);
-    freq.put("Ó ", 534);
-    freq.put("ús ", 237);
-    freq.put("pói", 180);
-    freq.put("Ói", 16);
-    freq.put("pór", 40);
-    freq.put("pós", 16);
-    freq.put("Óg", 62);
-    freq.put("ל", 17);
-    freq.put("u", 29979);
-    freq.put("úsa", 108);
-    freq.put("Van", 14);
-    freq.put("Val", 47);
-    freq.put("iu ", 157);
-    freq.put("hy ", 43);
-    freq.put("dú ", 74);
-    freq.put("и", 188);
-    freq.put("ium", 34);
-    freq.put("ύ", 15);
-    freq.put("ius", 114);
-    freq.put("dúc", 72);
-    freq.put("dúi", 243);
-    freq.put("dúl", 59);
-    freq.put("dún", 41);
-    freq.put("dúr", 62);
-    freq.put("cló", 73);
-    freq.put("go", 2060);
-    freq.put("Gin", 21);
-    freq.put("aba", 124);
-    freq.put("gl", 642);
-    freq.put("abe", 33);
-    freq.put("abh", 1558);
-    freq.put("abi", 26);
-    freq.put("abl", 14);
-    freq.put("abo", 23);
-    freq.put("а ", 44);
-    freq.put("K", 695);
-    freq.put("ab ", 562);
-    freq.put("à", 53);
-    freq.put("iúc", 163);
-    freq.put("iúd", 104);
-    freq.put("iúi", 885);
-    freq.put("iúl", 283);
-    freq.put("two", 15);
-    freq.put("iún", 891);
-    freq.put("iúr", 175);
-    freq.put("iút", 14);
-    freq.put("de ", 3405);
-    freq.put("iú ", 460);
-    freq.put("ey ", 289);
-    freq.put("der", 172);
-    freq.put("des", 36);
-    freq.put("hfé", 14);
-    freq.put("dei", 449);
-    freq.put("del", 62);
-    freq.put("den", 1153);
-    freq.put("deo", 76);
-    freq.put("dea", 701);
-    freq.put("csi", 66);
-    freq.put("cse", 49);
-    freq.put("csa", 161);
-    freq.put("Doi", 47);
-    freq.put("Don", 78);
-    freq.put("Dom", 200);
-    freq.put("Dob", 22);
-    freq.put("Dor", 64);
-    freq.put("Dou", 14);
-    freq.put("hfr", 27);
-    freq.put("hfu", 664);
-    freq.put("cs ", 59);
-    freq.put("ry ", 291);
-    freq.put("hfi", 58);
-    freq.put("hfh", 57);
-    freq.put("hfo", 149);
-    freq.put("hfa", 66);
-    freq.put("deá", 44);
-    freq.put("íte", 478);
-    freq.put("hfe", 113);
-    freq.put("ok ", 22);
-    freq.put("Ba ", 684);
-    freq.put("pch", 27);
-    freq.put("Bat", 24);
-    freq.put("Bar", 140);
-    freq.put("Bas", 44);
-    freq.put("ódó", 17);
-    freq.put("Bay", 32);
-    freq.put("oke", 30);
-    freq.put("Ban", 106);
-    freq.put("Bal", 86);
-    freq.put("Bai", 726);
-    freq.put("ód ", 76);
-    freq.put("úl ", 165);
-    freq.put("E ", 51);
-    freq.put("mmy", 33);
-    freq.put("sbu", 25);
-    freq.put("ínt", 26);
-    freq.put("я", 18);
-    freq.put("ake", 39);
-    freq.put("mmo", 23);
-    freq.put("mmi", 21);
-    freq.put("óda", 35);
-    freq.put("Ung", 31);
-    freq.put("mme", 29);
-    freq.put("Uni", 93);
-    freq.put("sbh", 16);
-    freq.put("mma", 33);
-    freq.put("Em", 36);
-    freq.put("El", 97);
-    freq.put("Eo", 495);
-    freq.put("En", 53);
-    freq.put("Ei", 150);
-    freq.put("Ed", 73);
-    freq.put("Ea", 766);
-    freq.put("últ", 26);
-    freq.put("Ex", 17);
-    freq.put("úlr", 31);
-    freq.put("Eu", 46);
-    freq.put("Ev", 36);
-    freq.put("Es", 55);
-    freq.put("Er", 77);
-    freq.put("McG", 26);
-    freq.put("McC", 34);
-    freq.put("gó", 548);
-    freq.put(" en", 17);
-    freq.put(" eo", 211);
-    freq.put(" ei", 675);
-    freq.put("X ", 33);
-    freq.put(" ea", 2630);
-    freq.put(" et", 14);
-    freq.put("kov", 15);
-    freq.put("Í", 207);
-    freq.put("Giú", 44);
-    freq.put("Sli", 87);
-    freq.put("Sla", 28);
-    freq.put("b", 22235);
-    freq.put("zz", 17);
-    freq.put("tA", 118);
-    freq.put("а́", 17);
-    freq.put("k ", 471);
-    freq.put("vír", 30);
-    freq.put("Kin", 36);
-    freq.put("Kil", 36);
-    freq.put("Atl", 73);
-    freq.put("Ath", 59);
-    freq.put("Sló", 23);
-    freq.put("Slé", 27);
-    freq.put("ka", 183);
-    freq.put("ke", 227);
-    freq.put("kk", 18);
-    freq.put("ki", 194);
-    freq.put("kh", 56);
-    freq.put("ko", 112);
-    freq.put("km", 117);
-    freq.put("kl", 45);
-    freq.put("ks", 87);
-    freq.put("kr", 26);
-    freq.put("ku", 55);
-    freq.put("ky", 50);
-    freq.put(" Bá", 46);
-    freq.put(" Bí", 110);
-    freq.put(" Bé", 806);
-    freq.put(" Bó", 52);
-    freq.put("réi", 1345);
-    freq.put("Téa", 54);
-    freq.put("réa", 1091);
-    freq.put("pe", 951);
-    freq.put("Ope", 20);
-    freq.put("ítr", 15);
-    freq.put("ré ", 111);
-    freq.put(" Be", 713);
-    freq.put(" Ba", 1677);
-    freq.put(" Bl", 127);
-    freq.put(" Bo", 242);
-    freq.put(" Bi", 165);
-    freq.put(" Bh", 1534);
-    freq.put(" Bu", 374);
-    freq.put("ik ", 21);
-    freq.put("éi ", 35);
-    freq.put(" Br", 722);
-    freq.put(" By", 31);
-    freq.put("ав", 21);
-    freq.put("ай", 20);
-    freq.put("ан", 35);
-    freq.put("κ", 26);
-    freq.put("éit", 178);
-    freq.put("éiv", 16);
-    freq.put(" B ", 218);
-    freq.put("éis", 462);
-    freq.put("éir", 1174);
-    freq.put("ы", 19);
-    freq.put("éid", 461);
-    freq.put("ika", 15);
-    freq.put("ún ", 707);
-    freq.put("ike", 19);
-    freq.put("éib", 77);
-    freq.put("éim", 366);
-    freq.put("éil", 829);
-    freq.put("iki", 22);
-    freq.put("éin", 788);
-    freq.put("iko", 20);
-    freq.put("ga ", 749);
-    freq.put("Néi", 23);
-    freq.put("léa", 199);
-    freq.put("léi", 437);
-    freq.put("三", 49);
-    freq.put("gat", 20);
-    freq.put("gas", 69);
-    freq.put("gar", 258);
-    freq.put("gao", 46);
-    freq.put("gan", 561);
-    freq.put("gal", 128);
-    freq.put("gai", 436);
-    freq.put("gad", 1739);
-    freq.put("gac", 522);
-    freq.put("gab", 28);
-    freq.put("lba", 399);
-    freq.put("lé ", 37);
-    freq.put("fud", 114);
-    freq.put("fua", 289);
-    freq.put("fun", 18);
-    freq.put("lbe", 35);
-    freq.put("fui", 747);
-    freq.put("sy ", 15);
-    freq.put("Mór", 89);
-    freq.put("Iri", 72);
-    freq.put("Mói", 32);
-    freq.put("Ire", 45);
-    freq.put("С", 21);
-    freq.put("ewa", 22);
-    freq.put("ω", 17);
-    freq.put("ews", 23);
-    freq.put("ewt", 15);
-    freq.put("dge", 49);
-    freq.put("cea", 2323);
-    freq.put("gaí", 93);
-    freq.put("ew ", 88);
-    freq.put("y", 2584);
-    freq.put("mon", 137);
-    freq.put("lda", 20);
-    freq.put("lde", 34);
-    freq.put("ceo", 483);
-    freq.put("ldi", 15);
-    freq.put("ldo", 21);
-    freq.put("ldr", 25);
-    freq.put("ad", 8059);
-    freq.put("rgt", 18);
-    freq.put("cur", 146);
-    freq.put("rga", 146);
-    freq.put("rge", 229);
-    freq.put("ag", 12220);
-    freq.put("rgh", 71);
-    freq.put("cun", 17);
-    freq.put("cum", 194);
-    freq.put("Fhr", 107);
-    freq.put("peá", 30);
-    freq.put("rgn", 54);
-    freq.put("Dil", 14);
-    freq.put("bil", 25);
-    freq.put("ld ", 134);
-    freq.put("Die", 22);
-    freq.put("Dia", 55);
-    freq.put("Dic", 15);
-    freq.put("bit", 81);
-    freq.put("bir", 14);
-    freq.put("bis", 88);
-    freq.put("Dir", 17);
-    freq.put("Dis", 41);
-    freq.put("ábh", 315);
-    freq.put("Ái", 134);
-    freq.put("rg ", 211);
-    freq.put("Ár", 101);
-    freq.put("Át", 545);
-    freq.put("cu ", 204);
-    freq.put("ah", 164);
-    freq.put("oe ", 46);
-    freq.put("per", 79);
-    freq.put("pel", 21);
-    freq.put("rgá", 88);
-    freq.put("pen", 39);
-    freq.put("pei", 268);
-    freq.put("pea", 396);
-    freq.put("Boy", 27);
-    freq.put("Bor", 28);
-    freq.put("Bou", 17);
-    freq.put("O", 1295);
-    freq.put("Boi", 21);
-    freq.put("Bol", 34);
-    freq.put("Diú", 26);
-    freq.put("Boo", 20);
-    freq.put("Bob", 22);
-    freq.put("ς ", 68);
-    freq.put("ä", 37);
-    freq.put("Hum", 14);
-    freq.put("pe ", 40);
-    freq.put("nsh", 22);
-    freq.put("nsi", 157);
-    freq.put("nsk", 16);
-    freq.put("nsl", 20);
-    freq.put("nso", 37);
-    freq.put("nsa", 161);
-    freq.put("nsc", 131);
-    freq.put("nse", 204);
-    freq.put("nsp", 24);
-    freq.put("ush", 22);
-    freq.put("nst", 156);
-    freq.put(" a", 48402);
-    freq.put("gó ", 16);
-    freq.put(" gá", 43);
-    freq.put("uss", 40);
-    freq.put(" gé", 72);
-    freq.put("ns ", 220);
-    freq.put("Flo", 29);
-    freq.put("Fla", 23);
-    freq.put("Ula", 97);
-    freq.put("Fle", 15);
-    freq.put("gór", 363);
-    freq.put("gói", 147);
-    freq.put("gól", 15);
-    freq.put("lyw", 29);
-    freq.put("nsí", 44);
-    freq.put(" gC", 1143);
-    freq.put("New", 90);
-    freq.put("lym", 15);
-    freq.put("lyn", 33);
-    freq.put("Mas", 30);
-    freq.put(" gu", 367);
-    freq.put(" gr", 303);
-    freq.put("Mat", 68);
-    freq.put("Íos", 108);
-    freq.put("Mac", 269);
-    freq.put(" ge", 143);
-    freq.put("Mad", 44);
-    freq.put("Mag", 40);
-    freq.put(" ga", 579);
-    freq.put("Íoc", 14);
-    freq.put(" go", 1885);
-    freq.put(" gl", 224);
-    freq.put("Mal", 52);
-    freq.put("Mao", 38);
-    freq.put("Man", 130);
-    freq.put("ly ", 90);
-    freq.put("hEa", 45);
-    freq.put("Mea", 58);
-    freq.put("hEo", 135);
-    freq.put("hEi", 18);
-    freq.put("Aug", 23);
-    freq.put(" b", 10871);
-    freq.put(" c", 12912);
-    freq.put(" ca", 803);
-    freq.put(" f", 6713);
-    freq.put(" g", 7608);
-    freq.put(" d", 12271);
-    freq.put(" e", 3594);
-    freq.put(" k", 158);
-    freq.put(" h", 3099);
-    freq.put(" i", 18215);
-    freq.put(" n", 15246);
-    freq.put(" o", 1707);
-    freq.put(" l", 8985);
 
-    init2();
-  }
-  private static void init2() {
-    
-    freq.put(" m", 7148);
-    freq.put(" r", 5178);
-    freq.put(" s", 15941);
-    freq.put(" p", 2643);
-    freq.put(" v", 164);
-    freq.put(" w", 69);
-    freq.put(" t", 9735);
-    freq.put(" u", 1021);
-    freq.put(" z", 14);
-    freq.put(" y", 42);
-    freq.put(" B", 6902);
-    freq.put(" C", 8023);
-    freq.put(" A", 4758);
-    freq.put(" F", 3245);
-    freq.put(" G", 4206);
-    freq.put(" D", 3525);
-    freq.put(" E", 1742);
-    freq.put(" J", 910);
-    freq.put(" K", 682);
-    freq.put(" H", 1081);
-    freq.put(" I", 7545);
-    freq.put(" N", 2056);
-    freq.put(" O", 1160);
-    freq.put(" L", 3193);
-    freq.put(" M", 5910);
-    freq.put(" R", 3015);
-    freq.put(" S", 5918);
-    freq.put("séa", 65);
-    freq.put(" Q", 98);
-    freq.put(" V", 510);
-    freq.put(" W", 633);
-    freq.put(" T", 5610);
-    freq.put(" U", 701);
-    freq.put(" Z", 111);
-    freq.put("séi", 59);
-    freq.put(" Y", 140);
-    freq.put("sé ", 1940);
-    freq.put(" á", 890);
-    freq.put(" é", 7791);
-    freq.put(" í", 1985);
-    freq.put(" ó", 1986);
-    freq.put(" ú", 1600);
-    freq.put("hAl", 173);
-    freq.put(" Á", 761);
-    freq.put("hAn", 19);
-    freq.put("séú", 20);
-    freq.put(" É", 1719);
-    freq.put(" Í", 149);
-    freq.put(" Ó", 649);
-    freq.put(" Ö", 14);
-    freq.put(" Ú", 148);
-    freq.put("Org", 16);
-    freq.put("Ord", 25);
-    freq.put("Ora", 17);
-    freq.put("oci", 28);
-    freq.put("och", 2829);
-    freq.put("ock", 58);
-    freq.put(" úd", 122);
-    freq.put(" Do", 485);
-    freq.put(" Dl", 36);
-    freq.put("Ver", 42);
-    freq.put(" Di", 255);
-    freq.put(" Dh", 344);
-    freq.put(" De", 739);
-    freq.put(" Da", 489);
-    freq.put("ii ", 17);
-    freq.put(" Du", 227);
-    freq.put(" Dr", 151);
-    freq.put("gcá", 19);
-    freq.put("cha", 3675);
-    freq.put("chb", 68);
-    freq.put("chd", 28);
-    freq.put("che", 1628);
-    freq.put("gcé", 46);
-    freq.put("chi", 421);
-    freq.put("chl", 544);
-    freq.put("chm", 18);
-    freq.put("chn", 85);
-    freq.put("cho", 1057);
-    freq.put("Fa", 174);
-    freq.put("chr", 402);
-    freq.put("chs", 16);
-    freq.put("cht", 5396);
-    freq.put("chu", 2165);
-    freq.put("Fh", 373);
-    freq.put("Fi", 403);
-    freq.put("gcú", 68);
-    freq.put("Fl", 84);
-    freq.put("Fo", 242);
-    freq.put(" D ", 160);
-    freq.put("ch ", 8976);
-    freq.put("f", 10484);
-    freq.put("F ", 106);
-    freq.put("ric", 942);
-    freq.put(" Dí", 30);
-    freq.put(" Dé", 97);
-    freq.put("dl", 217);
-    freq.put(" Dá", 241);
-    freq.put(" Dú", 161);
-    freq.put(" Dó", 33);
-    freq.put("gca", 128);
-    freq.put("chá", 513);
-    freq.put("Fó", 594);
-    freq.put("gce", 392);
-    freq.put("Yo", 40);
-    freq.put("gci", 53);
-    freq.put("gch", 18);
-    freq.put("Ye", 18);
-    freq.put("gcl", 65);
-    freq.put("gco", 270);
-    freq.put("Fá", 72);
-    freq.put("chó", 321);
-    freq.put("gcu", 132);
-    freq.put("áda", 66);
-    freq.put("Fé", 97);
-    freq.put("chú", 264);
-    freq.put("ר", 17);
-    freq.put("af ", 23);
-    freq.put("ád ", 33);
-    freq.put("da ", 574);
-    freq.put("lf", 136);
-    freq.put("lg", 924);
-    freq.put("ld", 296);
-    freq.put("le", 11033);
-    freq.put("lb", 620);
-    freq.put("lc", 271);
-    freq.put("la", 10153);
-    freq.put("ln", 33);
-    freq.put("lo", 964);
-    freq.put("ll", 4477);
-    freq.put("tse", 67);
-    freq.put("ви", 37);
-    freq.put("lk", 48);
-    freq.put("lh", 37);
-    freq.put("tsa", 41);
-    freq.put("lv", 106);
-    freq.put("lw", 14);
-    freq.put("lt", 2738);
-    freq.put("lu", 1017);
-    freq.put("lr", 97);
-    freq.put("ls", 671);
-    freq.put("lp", 55);
-    freq.put("eut", 17);
-    freq.put("reá", 343);
-    freq.put("tsr", 40);
-    freq.put("eus", 24);
-    freq.put("ly", 208);
-    freq.put("dad", 34);
-    freq.put("dae", 36);
-    freq.put("dac", 276);
-    freq.put("dal", 63);
-    freq.put("dam", 218);
-    freq.put("dan", 122);
-    freq.put("dao", 417);
-    freq.put("dai", 439);
-    freq.put("dat", 54);
-    freq.put("ו", 21);
-    freq.put("dar", 472);
-    freq.put("das", 53);
-    freq.put("day", 18);
-    freq.put("l ", 9412);
-    freq.put("ts ", 73);
-    freq.put("lfa", 28);
-    freq.put("lfo", 14);
-    freq.put("lfr", 17);
-    freq.put("rey", 30);
-    freq.put("lá", 2770);
-    freq.put("rer", 16);
-    freq.put("res", 104);
-    freq.put("Tur", 38);
-    freq.put("lí", 989);
-    freq.put("rew", 25);
-    freq.put("ret", 35);
-    freq.put("lé", 691);
-    freq.put("rek", 22);
-    freq.put("rei", 578);
-    freq.put("Tul", 23);
-    freq.put("reo", 588);
-    freq.put("rel", 65);
-    freq.put("rem", 34);
-    freq.put("Tua", 184);
-    freq.put("rea", 4475);
-    freq.put("lú", 564);
-    freq.put("reg", 26);
-    freq.put("red", 50);
-    freq.put("Tug", 194);
-    freq.put("lf ", 34);
-    freq.put("daí", 220);
-    freq.put("ови", 23);
-    freq.put("que", 47);
-    freq.put("qui", 28);
-    freq.put("uha", 14);
-    freq.put("re ", 2165);
-    freq.put("ud ", 277);
-    freq.put("og ", 142);
-    freq.put("miú", 91);
-    freq.put("ogr", 39);
-    freq.put("ogl", 14);
-    freq.put("uda", 51);
-    freq.put("ogh", 289);
-    freq.put("udd", 19);
-    freq.put("ude", 22);
-    freq.put("oge", 56);
-    freq.put("udi", 21);
-    freq.put("oga", 398);
-    freq.put("udo", 19);
-    freq.put("lim", 385);
-    freq.put("Par", 135);
-    freq.put("Pas", 17);
-    freq.put("Pat", 75);
-    freq.put("Pau", 68);
-    freq.put("Pac", 17);
-    freq.put("Pai", 26);
-    freq.put("Pal", 24);
-    freq.put("Pan", 18);
-    freq.put("Oil", 208);
-    freq.put("mil", 143);
-    freq.put("mio", 137);
-    freq.put("min", 375);
-    freq.put("mia", 46);
-    freq.put("Oif", 26);
-    freq.put("mic", 290);
-    freq.put("Oid", 16);
-    freq.put("mie", 35);
-    freq.put("mid", 17);
-    freq.put("mis", 103);
-    freq.put("mir", 224);
-    freq.put("mit", 76);
-    freq.put(" α", 14);
-    freq.put("ogá", 20);
-    freq.put("mi ", 37);
-    freq.put(" р", 15);
-    freq.put("Mos", 37);
-    freq.put("Mor", 60);
-    freq.put(" ir", 76);
-    freq.put(" is", 4270);
-    freq.put(" it", 46);
-    freq.put("Mou", 21);
-    freq.put("Moo", 22);
-    freq.put("Mon", 181);
-    freq.put(" in", 3888);
-    freq.put("Mol", 14);
-    freq.put(" ia", 1300);
-    freq.put(" id", 903);
-    freq.put(" С", 21);
-    freq.put(" В", 16);
-    freq.put(" А", 21);
-    freq.put("ks ", 25);
-    freq.put(" Д", 14);
-    freq.put(" i ", 6264);
-    freq.put(" И", 15);
-    freq.put(" П", 17);
-    freq.put("öl ", 26);
-    freq.put(" iú", 22);
-    freq.put(" Ói", 14);
-    freq.put(" Óg", 54);
-    freq.put("wl", 15);
-    freq.put("S", 6241);
-    freq.put("wi", 117);
-    freq.put("è", 30);
-    freq.put("ws", 41);
-    freq.put(" Ó ", 534);
-    freq.put("wr", 17);
-    freq.put(" Fó", 592);
-    freq.put("ohn", 167);
-    freq.put(" Fá", 64);
-    freq.put("uib", 54);
-    freq.put(" Fé", 97);
-    freq.put("Ní", 182);
-    freq.put("nIo", 16);
-    freq.put("ys ", 50);
-    freq.put("ohe", 14);
-    freq.put("ak", 145);
-    freq.put("uim", 340);
-    freq.put("cos", 144);
-    freq.put("al", 6550);
-    freq.put("cor", 131);
-    freq.put("cou", 17);
-    freq.put("an", 31829);
-    freq.put("cot", 56);
-    freq.put("uip", 23);
-    freq.put("ɪ", 16);
-    freq.put("uis", 276);
-    freq.put("ar", 22782);
-    freq.put("Hor", 17);
-    freq.put("uit", 1252);
-    freq.put(" Fr", 436);
-    freq.put(" Fu", 111);
-    freq.put(" Fa", 169);
-    freq.put(" Fe", 551);
-    freq.put(" Fi", 384);
-    freq.put(" Fh", 371);
-    freq.put(" Fl", 82);
-    freq.put(" Fo", 226);
-    freq.put("io ", 128);
-    freq.put("vái", 19);
-    freq.put("cod", 26);
-    freq.put("iot", 378);
-    freq.put("ios", 247);
-    freq.put("ior", 150);
-    freq.put("iop", 36);
-    freq.put("ion", 1312);
-    freq.put("iom", 483);
-    freq.put("iol", 50);
-    freq.put("iog", 41);
-    freq.put("iof", 15);
-    freq.put("iod", 20);
-    freq.put("ioc", 151);
-    freq.put("iob", 126);
-    freq.put("wys", 21);
-    freq.put("wyn", 15);
-    freq.put("Can", 62);
-    freq.put("Úrs", 30);
-    freq.put("ес", 16);
-    freq.put("ер", 17);
-    freq.put("adt", 14);
-    freq.put("gmh", 16);
-    freq.put("adr", 74);
-    freq.put("ads", 15);
-    freq.put(" م", 17);
-    freq.put("ady", 15);
-    freq.put("adf", 52);
-    freq.put("add", 28);
-    freq.put("ade", 47);
-    freq.put("в ", 19);
-    freq.put("adc", 24);
-    freq.put("ada", 1067);
-    freq.put("ado", 66);
-    freq.put("Níl", 43);
-    freq.put("м", 39);
-    freq.put("adh", 3910);
-    freq.put("adi", 55);
-    freq.put("Pre", 38);
-    freq.put(" ا", 42);
-    freq.put("ен", 14);
-    freq.put("ек", 14);
-    freq.put("ев", 18);
-    freq.put("Ní ", 122);
-    freq.put("hÉi", 662);
-    freq.put("nja", 20);
-    freq.put("est", 189);
-    freq.put("ess", 89);
-    freq.put("adó", 396);
-    freq.put("adú", 40);
-    freq.put("Co ", 17);
-    freq.put("tma", 53);
-    freq.put("ese", 21);
-    freq.put("esc", 30);
-    freq.put("esa", 23);
-    freq.put("adá", 61);
-    freq.put("eso", 16);
-    freq.put("esi", 19);
-    freq.put("esh", 15);
-    freq.put("dch", 53);
-    freq.put("by ", 34);
-    freq.put("es ", 655);
-    freq.put("三 ", 16);
-    freq.put("В", 16);
-    freq.put("De ", 104);
-    freq.put("rcl", 38);
-    freq.put("rco", 14);
-    freq.put("rch", 211);
-    freq.put("rci", 49);
-    freq.put("rce", 106);
-    freq.put("rca", 315);
-    freq.put("bur", 99);
-    freq.put("bus", 26);
-    freq.put("Der", 45);
-    freq.put("Des", 14);
-    freq.put("Dei", 367);
-    freq.put("bui", 16);
-    freq.put("bun", 439);
-    freq.put("Dem", 25);
-    freq.put("Den", 24);
-    freq.put("Dea", 77);
-    freq.put("bua", 84);
-    freq.put("múi", 17);
-    freq.put("j", 233);
-    freq.put("rc ", 189);
-    freq.put("pin", 38);
-    freq.put("pio", 53);
-    freq.put("pia", 37);
-    freq.put("pic", 45);
-    freq.put("pid", 51);
-    freq.put("Rya", 15);
-    freq.put("ous", 31);
-    freq.put("ub ", 137);
-    freq.put("pir", 179);
-    freq.put("pit", 35);
-    freq.put("oad", 17);
-    freq.put("oan", 17);
-    freq.put("rcá", 36);
-    freq.put("Aca", 46);
-    freq.put("ubs", 20);
-    freq.put("pi ", 15);
-    freq.put("Ach", 57);
-    freq.put("uba", 46);
-    freq.put("ubb", 14);
-    freq.put("buí", 16);
-    freq.put("ubl", 49);
-    freq.put("ubh", 89);
-    freq.put("oa ", 16);
-    freq.put("TV ", 15);
-    freq.put("G ", 74);
-    freq.put("ل", 53);
-    freq.put("י", 36);
-    freq.put("Gw", 18);
-    freq.put("Gu", 127);
-    freq.put("Gr", 417);
-    freq.put("tO", 20);
-    freq.put("Ge", 520);
-    freq.put("Ga", 1705);
-    freq.put("Go", 237);
-    freq.put("Gn", 26);
-    freq.put("Gl", 218);
-    freq.put("Gi", 165);
-    freq.put("Gh", 1136);
-    freq.put(" km", 111);
-    freq.put("mna", 22);
-    freq.put("dí ", 288);
-    freq.put("Fio", 121);
-    freq.put("féa", 120);
-    freq.put("féi", 573);
-    freq.put("ς", 68);
-    freq.put("kel", 20);
-    freq.put("ws ", 28);
-    freq.put("aif", 67);
-    freq.put("Zi", 16);
-    freq.put("Ze", 18);
-    freq.put("ty", 172);
-    freq.put("díl", 15);
-    freq.put("Za", 30);
-    freq.put("dín", 53);
-    freq.put("dío", 88);
-    freq.put("dír", 63);
-    freq.put("dís", 17);
-    freq.put("aic", 689);
-    freq.put("Eac", 31);
-    freq.put("ku ", 25);
-    freq.put("tu", 987);
-    freq.put("tp", 64);
-    freq.put("ená", 60);
-    freq.put("m ", 2796);
-    freq.put("sít", 28);
-    freq.put("sío", 289);
-    freq.put("sín", 66);
-    freq.put("síc", 29);
-    freq.put("mB", 573);
-    freq.put("me", 1225);
-    freq.put("md", 20);
-    freq.put("mg", 14);
-    freq.put("mf", 48);
-    freq.put("ma", 4924);
-    freq.put("mc", 74);
-    freq.put("mb", 1185);
-    freq.put("mm", 166);
-    freq.put("ml", 170);
-    freq.put("mo", 376);
-    freq.put("mn", 295);
-    freq.put("mi", 1584);
-    freq.put("mh", 8902);
-    freq.put("mu", 293);
-    freq.put("mt", 67);
-    freq.put("mp", 948);
-    freq.put("ms", 365);
-    freq.put("mr", 638);
-    freq.put("my", 76);
-    freq.put("sí ", 546);
-    freq.put("ena", 216);
-    freq.put("enb", 18);
-    freq.put("enc", 57);
-    freq.put("end", 83);
-    freq.put("nOi", 18);
-    freq.put("eng", 17);
-    freq.put("enh", 19);
-    freq.put("eni", 51);
-    freq.put("enn", 128);
-    freq.put("eno", 22);
-    freq.put("enr", 49);
-    freq.put("ens", 89);
-    freq.put("ent", 221);
-    freq.put("lte", 433);
-    freq.put("II ", 143);
-    freq.put("nús", 88);
-    freq.put("má", 744);
-    freq.put("mí", 387);
-    freq.put("mé", 353);
-    freq.put("úit", 93);
-    freq.put("mó", 1228);
-    freq.put("núi", 159);
-    freq.put("nún", 35);
-    freq.put("mú", 53);
-    freq.put(" Hu", 86);
-    freq.put(" Hi", 140);
-    freq.put(" Ho", 194);
-    freq.put(" Ha", 296);
-    freq.put(" He", 239);
-    freq.put("ima", 59);
-    freq.put("imb", 35);
-    freq.put("ime", 312);
-    freq.put("cli", 29);
-    freq.put("imf", 18);
-    freq.put("imi", 716);
-    freq.put("imh", 994);
-    freq.put("imm", 26);
-    freq.put("cla", 165);
-    freq.put("imo", 55);
-    freq.put("imn", 120);
-    freq.put("imp", 429);
-    freq.put("ims", 271);
-    freq.put("imr", 401);
-    freq.put("imt", 31);
-    freq.put("clu", 187);
-    freq.put(" H ", 25);
-    freq.put("im ", 440);
-    freq.put(" Hé", 19);
-    freq.put("τ", 48);
-    freq.put("clí", 17);
-    freq.put("gon", 18);
-    freq.put("clé", 67);
-    freq.put("imé", 209);
-    freq.put("imí", 77);
-    freq.put("clá", 107);
-    freq.put("gob", 19);
-    freq.put("clú", 142);
-    freq.put("ajo", 14);
-    freq.put("gos", 16);
-    freq.put("gor", 55);
-    freq.put("W", 639);
-    freq.put("Vic", 66);
-    freq.put("Vin", 17);
-    freq.put("go ", 1892);
-    freq.put("Vil", 15);
-    freq.put("Vir", 27);
-    freq.put("be ", 60);
-    freq.put("nha", 48);
-    freq.put("raí", 921);
-    freq.put("lbá", 32);
-    freq.put("nir", 17);
-    freq.put("К", 15);
-    freq.put("tor", 167);
-    freq.put("tos", 71);
-    freq.put("top", 31);
-    freq.put("tow", 49);
-    freq.put("tok", 16);
-    freq.put("toi", 111);
-    freq.put("ton", 323);
-    freq.put("tol", 18);
-    freq.put("tom", 35);
-    freq.put("tob", 29);
-    freq.put("toc", 35);
-    freq.put("tog", 48);
-    freq.put("Fua", 59);
-    freq.put("Fui", 17);
-    freq.put(" Sa", 1332);
-    freq.put("to ", 131);
-    freq.put("raf", 72);
-    freq.put("rag", 65);
-    freq.put("rad", 543);
-    freq.put("rae", 116);
-    freq.put("rab", 86);
-    freq.put("rac", 1041);
-    freq.put("ran", 640);
-    freq.put("rao", 356);
-    freq.put("ral", 89);
-    freq.put("ram", 134);
-    freq.put("rak", 15);
-    freq.put("rah", 38);
-    freq.put("rai", 2238);
-    freq.put("rav", 21);
-    freq.put("rat", 223);
-    freq.put("rar", 34);
-    freq.put("ras", 586);
-    freq.put("rap", 41);
-    freq.put("lbh", 90);
-    freq.put("lbo", 37);
-    freq.put("gná", 104);
-    freq.put("eph", 65);
-    freq.put("ra ", 1834);
-    freq.put("bst", 23);
-    freq.put("gné", 36);
-    freq.put("gní", 96);
-    freq.put("ép", 16);
-    freq.put("és", 18);
-    freq.put("ér", 37);
-    freq.put("ét", 14);
-    freq.put("éi", 5025);
-    freq.put("él", 14);
-    freq.put("éo", 14);
-    freq.put("én", 18);
-    freq.put("éa", 6775);
-    freq.put("éb", 23);
-    freq.put("ée", 17);
-    freq.put("ég", 14);
-    freq.put("Bin", 21);
-    freq.put("Bio", 15);
-    freq.put("Bil", 27);
-    freq.put("ocl", 57);
-    freq.put("oca", 254);
-    freq.put("Big", 43);
-    freq.put("abr", 55);
-    freq.put("ísí", 16);
-    freq.put("ocs", 92);
-    freq.put("ocr", 39);
-    freq.put("Bir", 28);
-    freq.put(" ús", 341);
-    freq.put(" úr", 105);
-    freq.put("р", 135);
-    freq.put("é ", 9003);
-    freq.put("oc ", 64);
-    freq.put(" ú ", 1012);
-    freq.put("údá", 21);
-    freq.put("éú", 20);
-    freq.put("Pet", 70);
-    freq.put("nus", 32);
-    freq.put("Per", 28);
-    freq.put("Pen", 31);
-    freq.put("Pei", 90);
-    freq.put("nui", 29);
-    freq.put("Pea", 55);
-    freq.put("nua", 572);
-    freq.put("mus", 69);
-    freq.put("mur", 22);
-    freq.put("íst", 16);
-    freq.put("ísl", 16);
-    freq.put("на ", 23);
-    freq.put("ísh", 22);
-    freq.put("íse", 228);
-    freq.put("mun", 25);
-    freq.put("mui", 145);
-    freq.put("úd ", 102);
-    freq.put("ell", 274);
-    freq.put("úda", 213);
-    freq.put("ís ", 182);
-    freq.put(" me", 369);
-    freq.put("之 ", 27);
-    freq.put(" ma", 2135);
-    freq.put(" mb", 882);
-    freq.put(" mn", 21);
-    freq.put(" mo", 107);
-    freq.put(" mh", 955);
-    freq.put(" mi", 457);
-    freq.put(" mu", 97);
-    freq.put(" mB", 573);
-    freq.put("ί", 36);
-    freq.put("Leó", 14);
-    freq.put(" m ", 25);
-    freq.put("Cru", 51);
-    freq.put("Cra", 92);
-    freq.put("Cre", 44);
-    freq.put("Cri", 31);
-    freq.put("Cro", 66);
-    freq.put("n", 112182);
-    freq.put(" má", 90);
-    freq.put(" mí", 271);
-    freq.put(" mé", 92);
-    freq.put(" mó", 1033);
-    freq.put(" mú", 31);
-    freq.put("ح", 14);
-    freq.put("Crí", 132);
-    freq.put("tSí", 34);
-    freq.put("icé", 38);
-    freq.put("eli", 66);
-    freq.put("elo", 57);
-    freq.put("icí", 106);
-    freq.put("elm", 20);
-    freq.put("elb", 39);
-    freq.put("ela", 302);
-    freq.put("elf", 14);
-    freq.put("eld", 65);
-    freq.put("ele", 76);
-    freq.put("Hé", 19);
-    freq.put("plé", 24);
-    freq.put("cná", 17);
-    freq.put("els", 60);
-    freq.put("elt", 152);
-    freq.put("D", 3670);
-    freq.put("el ", 546);
-    freq.put("ywo", 25);
-    freq.put("Lyn", 18);
-    freq.put(" Ju", 72);
-    freq.put(" Jr", 24);
-    freq.put(" Jo", 392);
-    freq.put(" Ji", 54);
-    freq.put("bpo", 38);
-    freq.put(" Je", 87);
-    freq.put("obá", 17);
-    freq.put(" Ja", 245);
-    freq.put("ick", 139);
-    freq.put("éal", 1141);
-    freq.put("ici", 351);
-    freq.put("ich", 719);
-    freq.put("ico", 53);
-    freq.put("icn", 56);
-    freq.put("icm", 54);
-    freq.put("icl", 81);
-    freq.put("éad", 1071);
-    freq.put("ica", 132);
-    freq.put("ice", 1644);
-    freq.put("Hu", 87);
-    freq.put("Hi", 140);
-    freq.put("Tá ", 2060);
-    freq.put("Ho", 194);
-    freq.put("cna", 87);
-    freq.put("ics", 128);
-    freq.put("icr", 56);
-    freq.put("Ha", 296);
-    freq.put("éas", 293);
-    freq.put("He", 239);
-    freq.put("hsc", 29);
-    freq.put("hsa", 44);
-    freq.put("hsf", 34);
-    freq.put("hse", 111);
-    freq.put("hsh", 62);
-    freq.put("rsá", 56);
-    freq.put("hsp", 79);
-    freq.put("hst", 33);
-    freq.put(" J ", 15);
-    freq.put("ic ", 568);
-    freq.put("H ", 53);
-    freq.put("Tái", 16);
-    freq.put("ánd", 17);
-    freq.put("nÉ", 14);
-    freq.put("nní", 68);
-    freq.put("aha", 38);
-    freq.put("ána", 1388);
-    freq.put("nné", 19);
-    freq.put("ánc", 23);
-    freq.put("ánm", 44);
-    freq.put("ppi", 17);
-    freq.put("Nái", 100);
-    freq.put("aho", 27);
-    freq.put("nná", 276);
-    freq.put("ánt", 45);
-    freq.put("nnú", 15);
-    freq.put("ánr", 41);
-    freq.put("áns", 33);
-    freq.put("né", 446);
-    freq.put("git", 32);
-    freq.put("gis", 154);
-    freq.put("ní", 1203);
-    freq.put("tiú", 375);
-    freq.put("gip", 32);
-    freq.put("ná", 2686);
-    freq.put("eys", 19);
-    freq.put("nç", 15);
-    freq.put("gig", 26);
-    freq.put("nú", 375);
-    freq.put("gid", 19);
-    freq.put("gia", 23);
-    freq.put("gio", 95);
-    freq.put("gin", 265);
-    freq.put("nó", 3141);
-    freq.put("ah ", 42);
-    freq.put("án ", 2509);
-    freq.put("Vol", 22);
-    freq.put("hÍs", 21);
-    freq.put("hÍo", 25);
-    freq.put("nno", 36);
-    freq.put("nI", 25);
-    freq.put("nnm", 15);
-    freq.put("nnl", 27);
-    freq.put("nni", 557);
-    freq.put("nO", 21);
-    freq.put("nnf", 20);
-    freq.put("nne", 1006);
-    freq.put("nD", 124);
-    freq.put("nE", 15);
-    freq.put("nna", 2785);
-    freq.put("nG", 433);
-    freq.put("nny", 46);
-    freq.put("nnu", 27);
-    freq.put("nnt", 268);
-    freq.put("nns", 21);
-    freq.put("ós ", 247);
-    freq.put("nh", 89);
-    freq.put("ni", 2645);
-    freq.put("nj", 39);
-    freq.put("nk", 107);
-    freq.put("nl", 294);
-    freq.put("nm", 973);
-    freq.put("nn", 13453);
-    freq.put("no", 556);
-    freq.put("tit", 122);
-    freq.put("na", 20087);
-    freq.put("nb", 151);
-    freq.put("nc", 1202);
-    freq.put("nd", 1981);
-    freq.put("giú", 420);
-    freq.put("nf", 133);
-    freq.put("tis", 104);
-    freq.put("til", 72);
-    freq.put("ny", 183);
-    freq.put("nz", 50);
-    freq.put("tio", 296);
-    freq.put("np", 33);
-    freq.put("tie", 23);
-    freq.put("nr", 644);
-    freq.put("tig", 135);
-    freq.put("nt", 6330);
-    freq.put("nu", 707);
-    freq.put("nv", 31);
-    freq.put("nw", 29);
-    freq.put("éam", 173);
-    freq.put("óst", 232);
-    freq.put("nn ", 8140);
-    freq.put("cnu", 17);
-    freq.put("ósa", 37);
-    freq.put("n ", 44303);
-    freq.put("ti ", 132);
-    freq.put("éag", 793);
-    freq.put("arx", 20);
-    freq.put("roi", 637);
-    freq.put("lly", 96);
-    freq.put("rok", 18);
-    freq.put("rol", 45);
-    freq.put("rom", 262);
-    freq.put("ron", 135);
-    freq.put("roo", 19);
-    freq.put("lls", 203);
-    freq.put("roc", 87);
-    freq.put("rod", 23);
-    freq.put("rog", 54);
-    freq.put("lli", 518);
-    freq.put("llo", 69);
-    freq.put("ob ", 24);
-    freq.put("llm", 62);
-    freq.put("rop", 32);
-    freq.put("lla", 935);
-    freq.put("ros", 108);
-    freq.put("rot", 96);
-    freq.put("rou", 48);
-    freq.put("rov", 34);
-    freq.put("row", 44);
-    freq.put("че", 14);
-    freq.put("Dal", 29);
-    freq.put("Dam", 30);
-    freq.put("Dan", 89);
-    freq.put("Dao", 73);
-    freq.put("Dai", 34);
-    freq.put("Dav", 75);
-    freq.put("cne", 34);
-    freq.put("Dar", 147);
-    freq.put("Qué", 14);
-    freq.put("Cia", 62);
-    freq.put("ro ", 90);
-    freq.put("Cio", 16);
-    freq.put("Cin", 46);
-    freq.put("Cil", 132);
-    freq.put("Cit", 56);
-    freq.put("ll ", 1866);
-    freq.put("icu", 19);
-    freq.put("ict", 334);
-    freq.put("hfó", 38);
-    freq.put("llú", 34);
-    freq.put("roí", 25);
-    freq.put("lló", 16);
-    freq.put("Rep", 16);
-    freq.put("Rei", 34);
-    freq.put("Ren", 19);
-    freq.put("llí", 62);
-    freq.put("llá", 36);
-    freq.put("Rea", 41);
-    freq.put("Reg", 14);
-    freq.put("Red", 20);
-    freq.put("thd", 15);
-    freq.put("ı", 15);
-    freq.put("Que", 32);
-    freq.put("Qui", 16);
-    freq.put("Aga", 17);
-    freq.put("Ciú", 36);
-    freq.put("ð", 28);
-    freq.put("sh ", 132);
-    freq.put("mst", 20);
-    freq.put("msi", 78);
-    freq.put("msh", 17);
-    freq.put("mse", 115);
-    freq.put("msa", 14);
-    freq.put("bpá", 25);
-    freq.put("úba", 28);
-    freq.put("Eva", 15);
-    freq.put("Eve", 20);
-    freq.put("ms ", 24);
-    freq.put(" on", 26);
-    freq.put(" ol", 129);
-    freq.put("Mil", 49);
-    freq.put("Mio", 27);
-    freq.put("Min", 33);
-    freq.put(" of", 143);
-    freq.put("Mic", 162);
-    freq.put(" ob", 69);
-    freq.put("Mid", 25);
-    freq.put(" ot", 23);
-    freq.put(" or", 279);
-    freq.put(" os", 81);
-    freq.put("rú ", 278);
-    freq.put("dé ", 34);
-    freq.put("fís", 212);
-    freq.put("fío", 57);
-    freq.put("msí", 64);
-    freq.put("ky ", 41);
-    freq.put("ark", 117);
-    freq.put("rúd", 20);
-    freq.put("rúc", 52);
-    freq.put("déi", 40);
-    freq.put("rún", 65);
-    freq.put("déa", 414);
-    freq.put("rúi", 83);
-    freq.put("το", 15);
-    freq.put("rús", 14);
-    freq.put("rúp", 255);
-    freq.put("sái", 497);
-    freq.put("sán", 45);
-    freq.put("sál", 14);
-    freq.put("sác", 17);
-    freq.put("sás", 15);
-    freq.put("sár", 23);
-    freq.put("gta", 637);
-    freq.put("ppe", 27);
-    freq.put("gth", 443);
-    freq.put("ahe", 17);
-    freq.put("gto", 41);
-    freq.put("ánn", 32);
-    freq.put("و", 29);
-    freq.put("övs", 26);
-    freq.put("gt ", 23);
-    freq.put("ик", 15);
-    freq.put("ий", 37);
-    freq.put("Róm", 117);
-    freq.put("Rói", 56);
-    freq.put("φ", 26);
-    freq.put("ài", 32);
-    freq.put("ɛ", 15);
-    freq.put("dso", 14);
-    freq.put("gir", 14);
-    freq.put("ич", 35);
-    freq.put("anç", 14);
-    freq.put("prá", 19);
-    freq.put("aná", 386);
-    freq.put("prí", 405);
-    freq.put("má ", 30);
-    freq.put("pró", 88);
-    freq.put("anó", 82);
-    freq.put("anú", 140);
-    freq.put("iam", 415);
-    freq.put("ial", 677);
-    freq.put("ian", 964);
-    freq.put("iai", 2569);
-    freq.put("iad", 874);
-    freq.put("iag", 42);
-    freq.put("iac", 136);
-    freq.put("iab", 149);
-    freq.put("iat", 624);
-    freq.put("ias", 115);
-    freq.put("iar", 1266);
-    freq.put("más", 38);
-    freq.put("hug", 337);
-    freq.put("mát", 17);
-    freq.put("hub", 28);
-    freq.put("huc", 17);
-    freq.put("hul", 73);
-    freq.put("hum", 273);
-    freq.put("hun", 734);
-    freq.put("hui", 1613);
-    freq.put("hut", 20);
-    freq.put("hur", 315);
-    freq.put("hus", 58);
-    freq.put("mái", 372);
-    freq.put("Mis", 38);
-    freq.put("mán", 258);
-    freq.put("gil", 38);
-    freq.put(" Lá", 163);
-    freq.put(" Lí", 32);
-    freq.put("ia ", 680);
-    freq.put(" Lé", 53);
-    freq.put("ن ", 19);
-    freq.put("r", 82828);
-    freq.put(" Lú", 395);
-    freq.put("pre", 46);
-    freq.put("lóg", 58);
-    freq.put("anf", 24);
-    freq.put("ang", 1024);
-    freq.put("pra", 40);
-    freq.put("ana", 2087);
-    freq.put("anb", 49);
-    freq.put("anc", 353);
-    freq.put("lón", 22);
-    freq.put("anm", 43);
-    freq.put("pro", 19);
-    freq.put("ano", 191);
-    freq.put("pri", 56);
-    freq.put("ani", 113);
-    freq.put("lói", 259);
-    freq.put("lóv", 14);
-    freq.put("anu", 67);
-    freq.put("т", 81);
-    freq.put("lór", 25);
-    freq.put("anr", 74);
-    freq.put("ans", 231);
-    freq.put("ált", 86);
-    freq.put("any", 20);
-    freq.put("anz", 22);
-    freq.put(" áb", 129);
-    freq.put(" áf", 23);
-    freq.put(" ái", 498);
-    freq.put("ás ", 419);
-    freq.put(" ár", 46);
-    freq.put("е", 136);
-    freq.put("an ", 16537);
-    freq.put("ló ", 37);
-    freq.put("huí", 244);
-    freq.put("ál ", 251);
-    freq.put(" á ", 180);
-    freq.put(" Le", 483);
-    freq.put(" La", 605);
-    freq.put(" Lo", 611);
-    freq.put(" Ll", 24);
-    freq.put(" Li", 406);
-    freq.put(" Lu", 335);
-    freq.put(" Ly", 37);
-    freq.put("rmó", 19);
-    freq.put("nla", 210);
-    freq.put("rmá", 327);
-    freq.put("nle", 19);
-    freq.put("nli", 38);
-    freq.put("rmé", 23);
-    freq.put("dy ", 84);
-    freq.put("ss ", 98);
-    freq.put("ч ", 34);
-    freq.put("H", 1083);
-    freq.put("sso", 60);
-    freq.put("ssi", 66);
-    freq.put("sse", 71);
-    freq.put("ssa", 61);
-    freq.put("rmu", 15);
-    freq.put("rma", 359);
-    freq.put("rme", 66);
-    freq.put("rmh", 95);
-    freq.put("rmi", 88);
-    freq.put("rmo", 22);
-    freq.put("rml", 62);
-    freq.put("rm ", 191);
-    freq.put("ln ", 15);
-    freq.put("rki", 19);
-    freq.put("por", 56);
-    freq.put("pos", 23);
-    freq.put("pop", 47);
-    freq.put("pol", 359);
-    freq.put("poi", 71);
-    freq.put("pob", 89);
-    freq.put("ном", 14);
-    freq.put("Bur", 29);
-    freq.put("Bus", 17);
-    freq.put("нов", 15);
-    freq.put("Bui", 33);
-    freq.put("Bun", 205);
-    freq.put("Bul", 20);
-    freq.put("nA", 42);
-    freq.put("Bua", 24);
-    freq.put("Aer", 41);
-    freq.put("nnc", 59);
-    freq.put("Iú", 345);
-    freq.put("hIa", 25);
-    freq.put("и́", 22);
-    freq.put("nnr", 29);
-    freq.put("б", 29);
-    freq.put("Buí", 18);
-    freq.put("I ", 379);
-    freq.put("Is", 5163);
-    freq.put("Ir", 130);
-    freq.put("It", 14);
-    freq.put("Iv", 17);
-    freq.put("Im", 285);
-    freq.put("Il", 49);
-    freq.put("Io", 441);
-    freq.put("tiu", 19);
-    freq.put("Ia", 309);
-    freq.put("Ib", 14);
-    freq.put("Id", 105);
-    freq.put("bPa", 18);
-    freq.put("bPe", 17);
-    freq.put("bPo", 90);
-    freq.put("ne", 5883);
-    freq.put("bPr", 17);
-    freq.put("tir", 335);
-    freq.put("ng", 2368);
-    freq.put("tim", 310);
-    freq.put("tin", 198);
-    freq.put("oí", 60);
-    freq.put("ns", 1273);
-    freq.put("Pil", 15);
-    freq.put("Pin", 38);
-    freq.put("Pia", 16);
-    freq.put("Pic", 15);
-    freq.put("Pie", 43);
-    freq.put("tia", 170);
-    freq.put("oú", 35);
-    freq.put("Pir", 16);
-    freq.put("tic", 139);
-    freq.put("bPá", 43);
-    freq.put("Úis", 14);
-    freq.put("o ", 4410);
-    freq.put("Jar", 14);
-    freq.put("bhc", 24);
-    freq.put("Rá", 59);
-    freq.put("oo", 309);
-    freq.put("on", 9178);
-    freq.put("om", 4389);
-    freq.put("ol", 4027);
-    freq.put("ok", 119);
-    freq.put("oj", 15);
-    freq.put("oi", 8724);
-    freq.put("oh", 246);
-    freq.put("og", 1022);
-    freq.put("of", 346);
-    freq.put("oe", 87);
-    freq.put("od", 1311);
-    freq.put("oc", 3503);
-    freq.put("ob", 1794);
-    freq.put("oa", 84);
-    freq.put("oz", 32);
-    freq.put("oy", 150);
-    freq.put("ox", 26);
-    freq.put("ow", 261);
-    freq.put("ov", 241);
-    freq.put("ou", 522);
-    freq.put("ot", 1050);
-    freq.put("os", 2328);
-    freq.put("or", 3909);
-    freq.put("op", 291);
-    freq.put("Dón", 21);
-    freq.put("pás", 47);
-    freq.put("γ", 29);
-    freq.put("pái", 517);
-    freq.put("igí", 38);
-    freq.put("igé", 189);
-    freq.put("há ", 229);
-    freq.put("bró", 17);
-    freq.put("丁", 24);
-    freq.put("rva", 21);
-    freq.put("véa", 37);
-    freq.put("rve", 15);
-    freq.put("cbh", 16);
-    freq.put("véi", 51);
-    freq.put("igu", 24);
-    freq.put("igt", 17);
-    freq.put("igg", 14);
-    freq.put("ige", 988);
-    freq.put("iga", 43);
-    freq.put("igo", 16);
-    freq.put("ign", 27);
-    freq.put("Hou", 27);
-    freq.put("igi", 784);
-    freq.put("igh", 3179);
-    freq.put("ig ", 954);
-    freq.put("ée ", 15);
-    freq.put("pto", 20);
-    freq.put("alo", 60);
-    freq.put("all", 1574);
-    freq.put("árs", 39);
-    freq.put("árt", 347);
-    freq.put("alk", 22);
-    freq.put("pti", 15);
-    freq.put("pth", 22);
-    freq.put("teá", 53);
-    freq.put("pte", 41);
-    freq.put("ale", 108);
-    freq.put("alb", 131);
-    freq.put("alc", 59);
-    freq.put("pta", 38);
-    freq.put("ala", 1139);
-    freq.put("ára", 142);
-    freq.put("alv", 19);
-    freq.put("ári", 39);
-    freq.put("fa ", 140);
-    freq.put("alu", 30);
-    freq.put("alr", 23);
-    freq.put("als", 101);
-    freq.put("árn", 34);
-    freq.put(" N ", 85);
-    freq.put("suí", 51);
-    freq.put("hÁi", 46);
-    freq.put("far", 64);
-    freq.put("al ", 1358);
-    freq.put("pt ", 15);
-    freq.put("ár ", 430);
-    freq.put("fai", 206);
-    freq.put("fan", 33);
-    freq.put("fao", 645);
-    freq.put("fac", 71);
-    freq.put("llt", 63);
-    freq.put("fad", 258);
-    freq.put(" Ni", 185);
-    freq.put(" No", 498);
-    freq.put(" Na", 383);
-    freq.put(" Ne", 228);
-    freq.put(" Nu", 290);
-    freq.put("tei", 324);
-    freq.put("Eo ", 105);
-    freq.put("tel", 48);
-    freq.put("tem", 15);
-    freq.put("ten", 53);
-    freq.put("teo", 1066);
-    freq.put("tea", 2655);
-    freq.put("árú", 23);
-    freq.put("ted", 69);
-    freq.put("tee", 15);
-    freq.put("alá", 30);
-    freq.put("llc", 15);
-    freq.put("nbh", 87);
-    freq.put("alú", 82);
-    freq.put("tep", 28);
-    freq.put("ter", 367);
-    freq.put("tes", 48);
-    freq.put("aló", 74);
-    freq.put("nbe", 25);
-    freq.put("sub", 21);
-    freq.put("sua", 60);
-    freq.put("sun", 29);
-    freq.put("sul", 46);
-    freq.put("sui", 1192);
-    freq.put("lle", 424);
-    freq.put("Eoc", 19);
-    freq.put("Eog", 51);
-    freq.put("te ", 2398);
-    freq.put(" Al", 487);
-    freq.put("Eoi", 40);
-    freq.put("Eol", 17);
-    freq.put("Eor", 261);
-    freq.put("faí", 35);
-    freq.put(" Né", 26);
-    freq.put(" Ní", 182);
-    freq.put(" Ná", 110);
-    freq.put("rku", 14);
-    freq.put("rks", 24);
-    freq.put("Tor", 40);
-    freq.put("Tos", 30);
-    freq.put("rke", 35);
-    freq.put("Toi", 20);
-    freq.put("Ton", 21);
-    freq.put("rka", 14);
-    freq.put("Tol", 19);
-    freq.put("Tom", 78);
-    freq.put("Tog", 21);
-    freq.put("ódh", 24);
-    freq.put("η", 30);
-    freq.put("In ", 39);
-    freq.put("rk ", 90);
-    freq.put("úla", 387);
-    freq.put("á", 26187);
-    freq.put("Int", 32);
-    freq.put("Ins", 58);
-    freq.put("Inn", 16);
-    freq.put("Ini", 60);
-    freq.put("v", 1580);
-    freq.put("Ind", 128);
-    freq.put("Inb", 19);
-    freq.put("Inc", 22);
-    freq.put("oyl", 19);
-    freq.put("й", 72);
-    freq.put("oyd", 15);
-    freq.put("oya", 32);
-    freq.put("Áit", 16);
-    freq.put("Gle", 76);
-    freq.put("Áis", 79);
-    freq.put("Áir", 27);
-    freq.put("ν ", 30);
-    freq.put("Glu", 16);
-    freq.put("lhe", 14);
-    freq.put("oy ", 46);
-    freq.put(" sú", 61);
-    freq.put(" só", 70);
-    freq.put(" sé", 1980);
-    freq.put(" sí", 561);
-    freq.put("bhí", 1218);
-    freq.put(" sá", 66);
-    freq.put("ë ", 21);
-    freq.put("ank", 64);
-    freq.put("yn ", 41);
-    freq.put("Fri", 39);
-    freq.put("ant", 1573);
-    freq.put("L", 3210);
-    freq.put("вич", 31);
-    freq.put("Ern", 19);
-    freq.put("Eri", 32);
-    freq.put("Rac", 22);
-    freq.put("Ran", 22);
-    freq.put("yne", 26);
-    freq.put("Ram", 22);
-    freq.put("Rai", 49);
-    freq.put("ës", 14);
-    freq.put("Rat", 26);
-    freq.put("stá", 507);
-    freq.put("Ray", 17);
-    freq.put("Mus", 20);
-    freq.put("Mur", 63);
-    freq.put(" sr", 276);
-    freq.put(" sp", 393);
-    freq.put(" st", 1040);
-    freq.put(" su", 1397);
-    freq.put(" sh", 787);
-    freq.put(" si", 1192);
-    freq.put(" sn", 472);
-    freq.put(" so", 340);
-    freq.put(" sl", 198);
-    freq.put(" sm", 68);
-    freq.put("Mum", 29);
-    freq.put(" sc", 1162);
-    freq.put("Mun", 14);
-    freq.put("Mui", 108);
-    freq.put(" se", 1093);
-    freq.put("iza", 25);
-    freq.put("gur", 328);
-    freq.put("uí ", 65);
-    freq.put("gut", 34);
-    freq.put(" s ", 76);
-    freq.put("kol", 18);
-    freq.put("Uíb", 33);
-    freq.put("cón", 291);
-    freq.put("cói", 80);
-    freq.put("cód", 14);
-    freq.put("cóp", 18);
-    freq.put("cós", 67);
-    freq.put("cór", 164);
-    freq.put("ски", 27);
-    freq.put("Uí ", 79);
-    freq.put("có ", 37);
-    freq.put("Nua", 266);
-    freq.put("nGe", 21);
-    freq.put("nGa", 292);
-    freq.put("nGl", 33);
-    freq.put("LG ", 24);
-    freq.put("nGr", 52);
-    freq.put("ع", 14);
-    freq.put("eff", 24);
-    freq.put("apá", 67);
-    freq.put("rte", 314);
-    freq.put("aró", 146);
-    freq.put("rta", 707);
-    freq.put("rtl", 15);
-    freq.put("rto", 55);
-    freq.put("rti", 96);
-    freq.put("rth", 1771);
-    freq.put("hi ", 227);
-    freq.put("ará", 352);
-    freq.put("rts", 27);
-    freq.put("rtr", 15);
-    freq.put("rty", 31);
-    freq.put("mí ", 94);
-    freq.put("Oíc", 14);
-    freq.put("Ju", 72);
-    freq.put("ies", 49);
-    freq.put("ier", 82);
-    freq.put("iet", 28);
-    freq.put("Jr", 24);
-    freq.put("Jo", 392);
-    freq.put("iel", 96);
-    freq.put("ien", 60);
-    freq.put("Je", 87);
-    freq.put("Ja", 246);
-    freq.put("ieg", 18);
-    freq.put("hip", 47);
-    freq.put("hir", 287);
-    freq.put("his", 511);
-    freq.put("hit", 119);
-    freq.put("rt ", 2182);
-    freq.put("mít", 19);
-    freq.put("hia", 602);
-    freq.put("mío", 44);
-    freq.put("hic", 130);
-    freq.put("hid", 79);
-    freq.put("hie", 19);
-    freq.put("hig", 33);
-    freq.put("hil", 430);
-    freq.put("him", 81);
-    freq.put("hin", 549);
-    freq.put("hio", 429);
-    freq.put(" Pó", 39);
-    freq.put(" Pá", 205);
-    freq.put("ie ", 209);
-    freq.put(" Pé", 25);
-    freq.put("J ", 18);
-    freq.put("arp", 24);
-    freq.put("arr", 979);
-    freq.put("ars", 293);
-    freq.put("art", 2216);
-    freq.put("aru", 23);
-    freq.put("arv", 15);
-    freq.put("rtí", 355);
-    freq.put("ary", 92);
-    freq.put("rté", 20);
-    freq.put("ara", 1215);
-    freq.put("arb", 337);
-    freq.put("arc", 302);
-    freq.put("ard", 1063);
-    freq.put("are", 86);
-    freq.put("arf", 40);
-    freq.put("arg", 165);
-    freq.put("ari", 179);
-    freq.put("ápa", 41);
-    freq.put("arl", 1377);
-    freq.put("arm", 678);
-    freq.put("arn", 274);
-    freq.put("rtú", 33);
-    freq.put("atr", 129);
-    freq.put("hiú", 107);
-    freq.put("ar ", 12570);
-    freq.put(" Pr", 285);
-    freq.put("c", 48153);
-    freq.put(" Pu", 36);
-    freq.put(" Pa", 406);
-    freq.put("Cúi", 194);
-    freq.put(" Pe", 292);
-    freq.put(" Pi", 185);
-    freq.put(" Ph", 599);
-    freq.put(" Po", 543);
-    freq.put(" Pl", 107);
-    freq.put("bhi", 557);
-    freq.put("riú", 336);
-    freq.put("swi", 14);
-    freq.put("óir", 1464);
-    freq.put("pp", 84);
-    freq.put("óip", 36);
-    freq.put("dul", 80);
-    freq.put("óiv", 47);
-    freq.put("pt", 179);
-    freq.put("pu", 104);
-    freq.put("dua", 69);
-    freq.put("dub", 16);
-    freq.put("duc", 14);
-    freq.put("óic", 15);
-    freq.put("pc", 34);
-    freq.put("pa", 1122);
-    freq.put("óig", 90);
-    freq.put("óid", 394);
-    freq.put("ph", 1119);
-    freq.put("pi", 497);
-    freq.put("óin", 227);
-    freq.put("óim", 116);
-    freq.put("óil", 212);
-    freq.put("й ", 53);
-    freq.put("Emi", 14);
-    freq.put("du ", 18);
-    freq.put("p ", 418);
-    freq.put("Fad", 18);
-    freq.put("aro", 41);
-    freq.put("riz", 14);
-    freq.put("Tit", 14);
-    freq.put("rit", 613);
-    freq.put("riu", 30);
-    freq.put("ris", 438);
-    freq.put("rip", 32);
-    freq.put("rin", 795);
-    freq.put("rio", 414);
-    freq.put("ril", 27);
-    freq.put("Tio", 42);
-    freq.put("rik", 16);
-    freq.put("rif", 21);
-    freq.put("rig", 165);
-    freq.put("rid", 144);
-    freq.put("rie", 109);
-    freq.put("rib", 71);
-    freq.put("Tia", 32);
-    freq.put("ria", 919);
-    freq.put("pó", 261);
-    freq.put("bhr", 844);
-    freq.put("pú", 26);
-    freq.put("fút", 14);
-    freq.put("pá", 620);
-    freq.put("pé", 170);
-    freq.put("pí", 75);
-    freq.put("Cos", 39);
-    freq.put("Cor", 193);
-    freq.put("Cou", 24);
-    freq.put("Ill", 14);
-    freq.put("Cog", 108);
-    freq.put("Coi", 126);
-    freq.put("Com", 288);
-    freq.put("Col", 188);
-    freq.put("Coo", 21);
-    freq.put("Con", 1012);
-    freq.put("Ait", 29);
-    freq.put("ь", 28);
-    freq.put("Ais", 61);
-    freq.put("Air", 154);
-    freq.put("Aim", 21);
-    freq.put("Ail", 68);
-    freq.put("Ain", 61);
-    freq.put("Aid", 28);
-    freq.put("Aig", 121);
-    freq.put("Aif", 16);
-    freq.put("Aib", 300);
-    freq.put("bpr", 43);
-    freq.put("gás", 18);
-    freq.put("gán", 133);
-    freq.put("gál", 25);
-    freq.put("gái", 142);
-    freq.put("ت", 14);
-    freq.put("Roi", 64);
-    freq.put("Ron", 28);
-    freq.put("Roa", 15);
-    freq.put("Rob", 88);
-    freq.put("Roc", 23);
-    freq.put("Rod", 16);
-    freq.put("Rog", 14);
-    freq.put("Roy", 25);
-    freq.put("yle", 30);
-    freq.put("Ros", 122);
-    freq.put("wn ", 71);
-    freq.put(" ur", 39);
-    freq.put(" um", 41);
-    freq.put(" ui", 526);
-    freq.put(" ua", 370);
-    freq.put("grú", 149);
-    freq.put("grá", 39);
-    freq.put("gré", 40);
-    freq.put("Fóm", 579);
-    freq.put("å", 17);
-    freq.put("ix ", 29);
-    freq.put("z", 576);
-    freq.put("Thr", 22);
-    freq.put("gre", 39);
-    freq.put("gra", 412);
-    freq.put("gri", 67);
-    freq.put("edd", 25);
-    freq.put("ede", 40);
-    freq.put("edh", 19);
-    freq.put("edi", 38);
-    freq.put("edo", 20);
-    freq.put("rrá", 17);
-    freq.put("edr", 22);
-    freq.put("ко", 39);
-    freq.put("ки", 31);
-    freq.put("rrú", 28);
-    freq.put("edy", 19);
-    freq.put(" ós", 29);
-    freq.put("ed ", 132);
-    freq.put("P", 3001);
-    freq.put("rro", 35);
-    freq.put("rri", 84);
-    freq.put("rre", 71);
-    freq.put("rra", 630);
-    freq.put("ة", 18);
-    freq.put("ciu", 24);
-    freq.put("rry", 95);
-    freq.put("rrt", 19);
-    freq.put("rrs", 58);
-    freq.put(" Bú", 24);
-    freq.put("can", 421);
-    freq.put("rr ", 255);
-    freq.put("app", 15);
-    freq.put("Mik", 20);
-    freq.put("apt", 53);
-    freq.put("aph", 25);
-    freq.put("api", 16);
-    freq.put("apo", 27);
-    freq.put("taí", 552);
-    freq.put("apa", 112);
-    freq.put("ape", 18);
-    freq.put("use", 38);
-    freq.put("usc", 28);
-    freq.put("usa", 33);
-    freq.put("fea", 451);
-    freq.put("feo", 21);
-    freq.put(" oi", 794);
-    freq.put("usk", 14);
-    freq.put("fei", 332);
-    freq.put("ust", 89);
-    freq.put("fer", 28);
-    freq.put(" R ", 39);
-    freq.put("usp", 33);
-    freq.put("Gua", 19);
-    freq.put("Gui", 35);
-    freq.put(" oc", 122);
-    freq.put("ap ", 67);
-    freq.put(" Ru", 470);
-    freq.put("fe ", 57);
-    freq.put("us ", 7938);
-    freq.put(" Ry", 20);
-    freq.put(" Re", 192);
-    freq.put(" Ra", 236);
-    freq.put(" Ro", 460);
-    freq.put(" Ri", 337);
-    freq.put(" Rh", 17);
-    freq.put("tat", 53);
-    freq.put("tap", 16);
-    freq.put("tar", 1806);
-    freq.put("tas", 487);
-    freq.put("ífh", 16);
-    freq.put("apó", 24);
-    freq.put("tad", 69);
-    freq.put("tae", 1311);
-    freq.put("tag", 109);
-    freq.put("tab", 44);
-    freq.put("tac", 773);
-    freq.put("tal", 289);
-    freq.put("tam", 111);
-    freq.put("tan", 292);
-    freq.put("tao", 264);
-    freq.put("tai", 2305);
-    freq.put("sis", 198);
-    freq.put("sir", 78);
-    freq.put("sit", 136);
-    freq.put("Mit", 15);
-    freq.put("sic", 138);
-    freq.put("sib", 26);
-    freq.put("sia", 514);
-    freq.put("dwa", 33);
-    freq.put("sig", 443);
-    freq.put("sie", 17);
-    freq.put("sid", 18);
-    freq.put("meo", 30);
-    freq.put("dwi", 23);
-    freq.put("sio", 159);
-    freq.put("sin", 1068);
-    freq.put("sim", 57);
-    freq.put("sil", 94);
-    freq.put("ta ", 3767);
-    freq.put(" Ró", 193);
-    freq.put(" Rú", 279);
-    freq.put("si ", 38);
-    freq.put(" Rá", 59);
-    freq.put(" Rí", 362);
-    freq.put(" Ré", 221);
-    freq.put("fír", 23);
-    freq.put("Cas", 82);
-    freq.put("Car", 213);
-    freq.put("Cap", 27);
-    freq.put("Cat", 300);
-    freq.put("Cai", 194);
-    freq.put("Cao", 35);
-    freq.put("Ghá", 16);
-    freq.put("Cam", 61);
-    freq.put("Cal", 103);
-    freq.put("Cab", 19);
-    freq.put("Cae", 22);
-    freq.put("Cad", 42);
-    freq.put("ltó", 312);
-    freq.put("nfe", 14);
-    freq.put("nfa", 14);
-    freq.put("ltú", 88);
-    freq.put("Pro", 75);
-    freq.put("Pri", 61);
-    freq.put("nfh", 67);
-    freq.put("cti", 62);
-    freq.put("ltí", 65);
-    freq.put("oui", 57);
-    freq.put("súi", 176);
-    freq.put("sún", 98);
-    freq.put("oun", 65);
-    freq.put("súl", 153);
-    freq.put("oul", 26);
-    freq.put("oug", 50);
-    freq.put("súr", 33);
-    freq.put("our", 113);
-    freq.put("out", 79);
-    freq.put("Aod", 28);
-    freq.put("Aon", 605);
-    freq.put("Aoi", 37);
-    freq.put("lt ", 143);
-    freq.put("Ghu", 20);
-    freq.put("Ghr", 519);
-    freq.put("sú ", 27);
-    freq.put("ou ", 33);
-    freq.put("Ghe", 106);
-    freq.put("Gha", 320);
-    freq.put("Ghl", 88);
-    freq.put("Gho", 18);
-    freq.put("Ghi", 30);
-    freq.put("ltr", 42);
-    freq.put("rfh", 18);
-    freq.put("g", 35594);
-    freq.put("Prí", 87);
-    freq.put("ltb", 209);
-    freq.put("lta", 1256);
-    freq.put("Pró", 17);
-    freq.put("lti", 78);
-    freq.put("lth", 18);
-    freq.put("lto", 55);
-    freq.put("ü", 78);
-    freq.put("K ", 26);
-    freq.put("dTe", 20);
-    freq.put("dTr", 14);
-    freq.put("dTu", 94);
-    freq.put("λ", 62);
-    freq.put("Ka", 139);
-    freq.put("Ke", 192);
-    freq.put("ghu", 53);
-    freq.put("Ki", 125);
-    freq.put("Kh", 43);
-    freq.put("Ko", 50);
-    freq.put("Kn", 16);
-    freq.put("Kr", 33);
-    freq.put("Ku", 37);
-    freq.put("dá ", 242);
-    freq.put("dTí", 21);
-    freq.put("seo", 837);
-    freq.put("tón", 40);
-    freq.put("sel", 32);
-    freq.put("tói", 556);
-    freq.put("tóg", 93);
-    freq.put("tór", 36);
-    freq.put("hp", 68);
-    freq.put("dál", 94);
-    freq.put("dán", 99);
-    freq.put("dái", 241);
-    freq.put("hw", 24);
-    freq.put("dát", 17);
-    freq.put("ht", 5712);
-    freq.put("dár", 15);
-    freq.put("hu", 4839);
-    freq.put("Pow", 27);
-    freq.put("Pot", 15);
-    freq.put("Por", 97);
-    freq.put("Pol", 146);
-    freq.put("Poi", 14);
-    freq.put("Pob", 269);
-    freq.put("Cha", 583);
-    freq.put("hc", 639);
-    freq.put("ha", 17871);
-    freq.put("hf", 1201);
-    freq.put("dlí", 99);
-    freq.put("hg", 74);
-    freq.put("afó", 14);
-    freq.put("dlú", 36);
-    freq.put("hná", 193);
-    freq.put("eá", 2972);
-    freq.put("qu", 91);
-    freq.put(" ww", 43);
-    freq.put("Chu", 175);
-    freq.put("ebe", 20);
-    freq.put("eba", 20);
-    freq.put("hU", 40);
-    freq.put("éip", 14);
-    freq.put("lve", 18);
-    freq.put("dla", 24);
-    freq.put("dle", 41);
-    freq.put("Bío", 106);
-    freq.put("Jac", 51);
-    freq.put("hO", 88);
-    freq.put(" ال", 36);
-    freq.put("gte", 20);
-    freq.put("hA", 434);
-    freq.put("éig", 552);
-    freq.put("éif", 26);
-    freq.put("Úcr", 31);
-    freq.put("éic", 46);
-    freq.put("rpa", 218);
-    freq.put("rpe", 23);
-    freq.put("rph", 42);
-    freq.put("hm ", 163);
-    freq.put("avá", 25);
-    freq.put("rpo", 23);
-    freq.put("méi", 105);
-    freq.put("méa", 226);
-    freq.put("bbe", 22);
-    freq.put("Jul", 20);
-    freq.put("ο", 100);
-    freq.put("rp ", 54);
-    freq.put("hmh", 34);
-    freq.put("hmi", 33);
-    freq.put("hme", 74);
-    freq.put("hma", 28);
-    freq.put("hmc", 14);
-    freq.put(" Tú", 22);
-    freq.put("é", 21077);
-    freq.put(" Tó", 45);
-    freq.put(" Tí", 110);
-    freq.put(" Té", 54);
-    freq.put(" Tá", 2087);
-    freq.put("rlí", 86);
-    freq.put("ē", 22);
-    freq.put("avi", 97);
-    freq.put("ave", 39);
-    freq.put("ava", 69);
-    freq.put(" éi", 443);
-    freq.put(" éa", 781);
-    freq.put(" Tu", 471);
-    freq.put("ble", 36);
-    freq.put(" Tr", 254);
-    freq.put(" To", 282);
-    freq.put(" Ti", 162);
-    freq.put(" Th", 1246);
-    freq.put(" é ", 6560);
-    freq.put(" Te", 438);
-    freq.put(" Ta", 308);
-    freq.put("íde", 34);
-    freq.put("tch", 56);
-    freq.put("át ", 311);
-    freq.put("Far", 31);
-    freq.put("sky", 14);
-    freq.put("Fat", 14);
-    freq.put("Fai", 28);
-    freq.put("ska", 40);
-    freq.put("Fao", 27);
-    freq.put("ómh", 688);
-    freq.put("ski", 48);
-    freq.put("óma", 33);
-    freq.put("Eis", 23);
-    freq.put("íd ", 117);
-    freq.put("T", 5807);
-    freq.put("Eil", 84);
-    freq.put("ndé", 38);
-    freq.put("ndí", 14);
-    freq.put("áta", 69);
-    freq.put("ndá", 65);
-    freq.put("áth", 595);
-    freq.put("ndú", 111);
-    freq.put("sk ", 19);
-    freq.put("ndó", 18);
-    freq.put("Sua", 83);
-    freq.put("ídí", 15);
-    freq.put("Sun", 21);
-    freq.put("Sum", 35);
-    freq.put("Sul", 19);
-    freq.put("Sui", 19);
-    freq.put("Sut", 21);
-    freq.put("Sur", 14);
-    freq.put("siú", 811);
-    freq.put("nd ", 363);
-    freq.put("ómá", 33);
-    freq.put("ndi", 217);
-    freq.put("ndl", 20);
-    freq.put("ndo", 64);
-    freq.put("nda", 522);
-    freq.put("nde", 329);
-    freq.put("ndy", 16);
-    freq.put("nds", 22);
-    freq.put("ndr", 118);
-    freq.put("ndu", 14);
-    freq.put("own", 87);
-    freq.put("owe", 32);
-    freq.put("owa", 27);
-    freq.put("áfa", 23);
-    freq.put("ör", 19);
-    freq.put("owy", 22);
-    freq.put("öv", 27);
-    freq.put("ows", 15);
-    freq.put("Amh", 81);
-    freq.put("vai", 30);
-    freq.put("van", 117);
-    freq.put("val", 28);
-    freq.put("Ama", 63);
-    freq.put("vac", 33);
-    freq.put("vad", 16);
-    freq.put("Ché", 62);
-    freq.put("var", 26);
-    freq.put("ow ", 44);
-    freq.put("ec", 179);
-    freq.put("Tei", 25);
-    freq.put("Tel", 19);
-    freq.put("Ten", 26);
-    freq.put("Teo", 19);
-    freq.put("Tea", 279);
-    freq.put("va ", 51);
-    freq.put("Tex", 30);
-    freq.put("lva", 29);
-    freq.put("Ter", 20);
-    freq.put("lvi", 21);
-    freq.put("íú", 73);
-    freq.put("gí ", 33);
-    freq.put("eu", 111);
-    freq.put("et", 550);
-    freq.put("Chú", 59);
-    freq.put("í ", 10858);
-    freq.put("ep", 165);
-    freq.put("Afr", 106);
-    freq.put("н", 176);
-    freq.put("my ", 60);
-    freq.put("íd", 182);
-    freq.put("íg", 26);
-    freq.put("íf", 18);
-    freq.put("ía", 41);
-    freq.put("íc", 229);
-    freq.put("íb", 395);
-    freq.put("ím", 31);
-    freq.put("íl", 526);
-    freq.put("ío", 6870);
-    freq.put("ín", 1128);
-    freq.put("ít", 709);
-    freq.put("ís", 504);
-    freq.put("ír", 1028);
-    freq.put("lvé", 32);
-  }
-  
 }
-
@@ -1,1860 +1,15 @@
 package com.rmtheis.langdetect.profile;
 
-import java.util.HashMap;
-
 import com.cybozu.labs.langdetect.util.LangProfile;
-import com.cybozu.labs.langdetect.util.NGram;
 
 public class JA {
   private static final String name = "ja";
-  private static final HashMap<String, Integer> freq = new HashMap<String, Integer>();
-  private static final int[] n_words = new int[NGram.N_GRAM];
 
   public JA() {
-    init();  
   }
 
   public final LangProfile getLangProfile() {
-    return new LangProfile(name, freq, n_words);
+    return Profiles.load(name);
   }
-  
-  private void init() {
-    n_words[0] = 10754229;
-    n_words[1] = 8353071;
-    n_words[2] = 5774482;
 
-    freq.put("ああ指", 1536);
-    freq.put("第二", 1891);
-    freq.put("伊", 1406);
-    freq.put("アアあ", 151645);
-    freq.put("定あ", 7748);
-    freq.put("料", 2840);
-    freq.put("生ああ", 4620);
-    freq.put("造", 5408);
-    freq.put("校ああ", 1456);
-    freq.put("あ丈あ", 8854);
-    freq.put("般", 3860);
-    freq.put("記あ", 3151);
-    freq.put("河", 1989);
-    freq.put("あ乱", 3962);
-    freq.put(" 年)", 9287);
-    freq.put("然", 1440);
-    freq.put("対あ", 3405);
-    freq.put("、国", 2207);
-    freq.put("アア』", 6191);
-    freq.put("アア『", 1500);
-    freq.put("アア」", 6705);
-    freq.put("あ一", 16360);
-    freq.put("あ丁", 17347);
-    freq.put("あ不", 14639);
-    freq.put("反", 2686);
-    freq.put("あ三", 1486);
-    freq.put("あ上", 3029);
-    freq.put("あ下", 1378);
-    freq.put("科", 5836);
-    freq.put("戦ああ", 1623);
-    freq.put("あ世", 2331);
-    freq.put("ア地", 1445);
-    freq.put("あ丞", 19819);
-    freq.put("野あ", 1575);
-    freq.put("丁ア", 1890);
-    freq.put("知", 6637);
-    freq.put("号あ", 3953);
-    freq.put("あ中", 9465);
-    freq.put("あ放送", 5748);
-    freq.put(" 『ア", 2743);
-    freq.put("アア連", 2243);
-    freq.put("あ丼", 18051);
-    freq.put("当時", 1631);
-    freq.put("あ主", 4771);
-    freq.put("丁あ", 18102);
-    freq.put("個", 1623);
-    freq.put("ア(あ", 3617);
-    freq.put("衆国あ", 2595);
-    freq.put("大戦", 1559);
-    freq.put("あ他", 2009);
-    freq.put("引", 1979);
-    freq.put("あ付", 1399);
-    freq.put("委員", 1355);
-    freq.put("無", 2728);
-    freq.put("実施", 1278);
-    freq.put("あ代", 2198);
-    freq.put("英 ", 1379);
-    freq.put("。日本", 2210);
-    freq.put("運", 6072);
-    freq.put("あ事", 5294);
-    freq.put("応あ", 1648);
-    freq.put("教", 10820);
-    freq.put("衛", 3099);
-    freq.put("年アア", 1814);
-    freq.put("あ交", 5865);
-    freq.put("与あ", 1930);
-    freq.put("『ああ", 1282);
-    freq.put("アアア", 1729078);
-    freq.put("部あ", 6774);
-    freq.put("基", 5538);
-    freq.put("あ人", 7782);
-    freq.put("佐売", 2092);
-    freq.put("あ位", 2504);
-    freq.put("上", 13976);
-    freq.put("、ああ", 21181);
-    freq.put("あ何", 3230);
-    freq.put("あ佐", 13423);
-    freq.put("あ作", 6813);
-    freq.put("アア公", 1422);
-    freq.put("岩", 1342);
-    freq.put("ああ戦", 1238);
-    freq.put("放送あ", 6907);
-    freq.put("足", 1256);
-    freq.put("中使", 3153);
-    freq.put("あ使", 13500);
-    freq.put("他あ", 1896);
-    freq.put("あ企", 1331);
-    freq.put("衆", 5487);
-    freq.put(" 年(", 5941);
-    freq.put("対象あ", 1241);
-    freq.put("あ休", 17591);
-    freq.put("聖", 2242);
-    freq.put("あ伝", 1495);
-    freq.put("あ会", 1351);
-    freq.put("郡", 4845);
-    freq.put("正式", 1441);
-    freq.put("以下", 1516);
-    freq.put("あ設置", 1507);
-    freq.put("あ呼あ", 8161);
-    freq.put("本ああ", 2442);
-    freq.put("号", 9329);
-    freq.put("移", 1880);
-    freq.put("発", 20771);
-    freq.put("売ああ", 5009);
-    freq.put("消", 1291);
-    freq.put("々あ", 2319);
-    freq.put("称あ", 9039);
-    freq.put("あ近", 1371);
-    freq.put("ア国", 2219);
-    freq.put("産", 5875);
-    freq.put("あ信", 2085);
-    freq.put("者ああ", 4317);
-    freq.put("あ、第", 1316);
-    freq.put("あ世界", 2001);
-    freq.put("あ丈", 32792);
-    freq.put("車", 9144);
-    freq.put("前", 8950);
-    freq.put("アア。", 10631);
-    freq.put("称。", 1304);
-    freq.put("路線", 1359);
-    freq.put("交味あ", 2597);
-    freq.put("賞", 3546);
-    freq.put("あ価", 8783);
-    freq.put("編", 3445);
-    freq.put("何あ", 2412);
-    freq.put("品。", 1238);
-    freq.put("含ああ", 1792);
-    freq.put("丈", 118136);
-    freq.put("再", 1714);
-    freq.put("「", 29647);
-    freq.put("ア番", 2807);
-    freq.put("構成あ", 1846);
-    freq.put("本ア", 2290);
-    freq.put("義", 5850);
-    freq.put("行ああ", 10289);
-    freq.put("水", 5727);
-    freq.put("町", 8545);
-    freq.put("あ地域", 1419);
-    freq.put("あ中あ", 2093);
-    freq.put("所", 11171);
-    freq.put("品あ", 4556);
-    freq.put("旅", 1301);
-    freq.put("重", 4451);
-    freq.put("供あ", 1476);
-    freq.put("呼ああ", 6929);
-    freq.put("あ家律", 1357);
-    freq.put("あ対", 5932);
-    freq.put("団", 7524);
-    freq.put("学", 37448);
-    freq.put("用ああ", 9493);
-    freq.put("成あ", 6012);
-    freq.put("楽あ", 1408);
-    freq.put("全あ", 1427);
-    freq.put("陸", 3351);
-    freq.put("持", 4610);
-    freq.put("技", 5374);
-    freq.put("ア(ア", 4269);
-    freq.put("人ああ", 3885);
-    freq.put("載", 2905);
-    freq.put("予", 2003);
-    freq.put("大会あ", 2008);
-    freq.put("会あ", 6508);
-    freq.put("学ああ", 2317);
-    freq.put("加", 4595);
-    freq.put("手ああ", 1245);
-    freq.put("本あ", 10875);
-    freq.put("基ああ", 1599);
-    freq.put("丞丞", 1742);
-    freq.put("昭和", 3444);
-    freq.put("配", 2845);
-    freq.put("、同", 2022);
-    freq.put("城", 2545);
-    freq.put("丞丈", 2889);
-    freq.put("あ運営", 1448);
-    freq.put("不聯あ", 1405);
-    freq.put("補", 1253);
-    freq.put("江", 2655);
-    freq.put("略", 5228);
-    freq.put("ああ自", 1831);
-    freq.put("前あ", 3176);
-    freq.put("戦", 13450);
-    freq.put(": ", 1725);
-    freq.put("あ間あ", 1859);
-    freq.put("あ流", 1320);
-    freq.put("争", 3320);
-    freq.put("目あ", 4296);
-    freq.put("教休", 1250);
-    freq.put("検", 1870);
-    freq.put("丞", 80623);
-    freq.put("島あ", 1817);
-    freq.put("ああ ", 39188);
-    freq.put("あ起", 2247);
-    freq.put("制", 7969);
-    freq.put("起ああ", 1658);
-    freq.put("ア)あ", 13245);
-    freq.put("子", 14064);
-    freq.put("月あ", 5637);
-    freq.put("開催あ", 2711);
-    freq.put("ア合", 4791);
-    freq.put("あ。ア", 9708);
-    freq.put("時代あ", 3504);
-    freq.put("議", 4992);
-    freq.put("あ活", 3109);
-    freq.put("丞佐", 1535);
-    freq.put("」", 29519);
-    freq.put("あ。あ", 10112);
-    freq.put("製造", 1966);
-    freq.put("場合", 3557);
-    freq.put("有あ", 1810);
-    freq.put("組", 11006);
-    freq.put("ア", 2611969);
-    freq.put("大", 35199);
-    freq.put("名あ", 9335);
-    freq.put("女", 5796);
-    freq.put("支", 3198);
-    freq.put("あ丼あ", 5850);
-    freq.put("あ、大", 2131);
-    freq.put("状", 2926);
-    freq.put("世紀", 2728);
-    freq.put("アア王", 2579);
-    freq.put("問", 2693);
-    freq.put("当", 6576);
-    freq.put("展", 2319);
-    freq.put("線あ", 3253);
-    freq.put("類あ", 2486);
-    freq.put("産あ", 1671);
-    freq.put(" 日 ", 12276);
-    freq.put("話", 3787);
-    freq.put("発生", 1334);
-    freq.put("具", 1237);
-    freq.put("設置あ", 1442);
-    freq.put("機関あ", 1580);
-    freq.put("使あ", 19446);
-    freq.put("線(", 1472);
-    freq.put("語ああ", 3397);
-    freq.put("ああ最", 1780);
-    freq.put("川あ", 1268);
-    freq.put("内", 9686);
-    freq.put("あ機", 2062);
-    freq.put("下あ", 2803);
-    freq.put("場ああ", 3434);
-    freq.put("座", 1332);
-    freq.put("ア公", 1517);
-    freq.put("放送", 10914);
-    freq.put("区", 8504);
-    freq.put("社", 17675);
-    freq.put("あ言", 4181);
-    freq.put("アア合", 4757);
-    freq.put("あ記", 3845);
-    freq.put("味ああ", 1844);
-    freq.put("面", 3571);
-    freq.put("あ設", 5283);
-    freq.put("島県", 1368);
-    freq.put("深", 1258);
-    freq.put("あ基あ", 1594);
-    freq.put("選", 8114);
-    freq.put("系", 6844);
-    freq.put("あ一種", 2121);
-    freq.put("アア大", 2784);
-    freq.put("構造", 1383);
-    freq.put("万", 1628);
-    freq.put("広あ", 1712);
-    freq.put("あ位置", 2381);
-    freq.put("多あ", 4892);
-    freq.put("学校", 6834);
-    freq.put("伝", 3991);
-    freq.put("作家", 1397);
-    freq.put("機能", 1261);
-    freq.put("造ああ", 1673);
-    freq.put("天", 5593);
-    freq.put("風", 1713);
-    freq.put("企業", 2138);
-    freq.put("石", 2879);
-    freq.put("農", 1628);
-    freq.put("営", 4802);
-    freq.put("毎佐", 1485);
-    freq.put("アア選", 2079);
-    freq.put(" あ ", 1635);
-    freq.put("全国", 1795);
-    freq.put("あ設立", 2139);
-    freq.put("野", 8402);
-    freq.put("習", 1334);
-    freq.put("点ああ", 1562);
-    freq.put("機", 12320);
-    freq.put(")ア", 1792);
-    freq.put("高等学", 2175);
-    freq.put("あ関あ", 3802);
-    freq.put("ア王", 2616);
-    freq.put("あ丁あ", 4319);
-    freq.put("家律", 2208);
-    freq.put("界大戦", 1365);
-    freq.put("開", 13989);
-    freq.put("県", 18156);
-    freq.put("『", 21300);
-    freq.put("あ不治", 1330);
-    freq.put("東不", 1238);
-    freq.put("信あ", 4017);
-    freq.put("アア番", 2788);
-    freq.put("あ正", 1615);
-    freq.put("館", 2783);
-    freq.put("本", 36912);
-    freq.put("基あ", 1982);
-    freq.put("部ああ", 1870);
-    freq.put("観", 2376);
-    freq.put("用あ", 12045);
-    freq.put("、現", 2451);
-    freq.put("最あ", 1431);
-    freq.put("語:", 3289);
-    freq.put("時", 14954);
-    freq.put("不ア", 1421);
-    freq.put("過", 1669);
-    freq.put("結", 4672);
-    freq.put("あ多あ", 3964);
-    freq.put("作", 23623);
-    freq.put("員", 5415);
-    freq.put("象ああ", 1255);
-    freq.put("院", 3827);
-    freq.put("日)", 10122);
-    freq.put("日(", 3117);
-    freq.put("華", 1394);
-    freq.put("年あア", 3603);
-    freq.put("送ああ", 5822);
-    freq.put("代表", 2575);
-    freq.put("あ毎", 1746);
-    freq.put("少", 2464);
-    freq.put("年ああ", 7456);
-    freq.put("組佐", 2309);
-    freq.put("あ、)", 1236);
-    freq.put("一価", 1575);
-    freq.put("別", 4976);
-    freq.put("不あ", 8122);
-    freq.put("昭", 3661);
-    freq.put("来あ", 2732);
-    freq.put("車あ", 2896);
-    freq.put("東京", 5181);
-    freq.put("目的", 2889);
-    freq.put("郎", 2090);
-    freq.put("平成 ", 1642);
-    freq.put("教会", 1452);
-    freq.put("用ア", 1581);
-    freq.put("置ああ", 4412);
-    freq.put("アあ ", 4215);
-    freq.put("九", 1493);
-    freq.put("家ああ", 5177);
-    freq.put("離", 1558);
-    freq.put("開ああ", 1704);
-    freq.put("日)あ", 7258);
-    freq.put("あ殺", 2375);
-    freq.put("あ行", 10711);
-    freq.put("計", 5326);
-    freq.put("記休あ", 1285);
-    freq.put("同", 12059);
-    freq.put("ア共", 1242);
-    freq.put(" 年", 95958);
-    freq.put("年あ", 20990);
-    freq.put("太", 2851);
-    freq.put("あ表", 4499);
-    freq.put("活動あ", 2178);
-    freq.put("ああ放", 1785);
-    freq.put(" 丼", 3391);
-    freq.put("現在あ", 4587);
-    freq.put("通称", 1887);
-    freq.put("資", 3066);
-    freq.put("業あ", 4045);
-    freq.put("駅あ", 1276);
-    freq.put("乱あ", 3541);
-    freq.put("年、", 1688);
-    freq.put("、ア", 64525);
-    freq.put("体あ", 6471);
-    freq.put("所あ", 3296);
-    freq.put("問宮", 1556);
-    freq.put("、あ", 21490);
-    freq.put("あ当", 1618);
-    freq.put("和", 9812);
-    freq.put("』", 21225);
-    freq.put("次世界", 1361);
-    freq.put("小説", 1987);
-    freq.put("使用", 3017);
-    freq.put("挙", 1713);
-    freq.put("あ、小", 1427);
-    freq.put("休佐", 1324);
-    freq.put("関", 12598);
-    freq.put("家(", 2915);
-    freq.put("発あ", 3815);
-    freq.put("アア国", 1719);
-    freq.put("位置", 2501);
-    freq.put("))あ", 1638);
-    freq.put("あ製", 2477);
-    freq.put("存在あ", 2940);
-    freq.put("、「", 4201);
-    freq.put("分類", 1336);
-    freq.put("、『", 1828);
-    freq.put("著", 2162);
-    freq.put("休休", 1921);
-    freq.put("因", 1258);
-    freq.put("入", 4949);
-    freq.put("事ああ", 3528);
-    freq.put("ああ日", 4356);
-    freq.put("聯", 10502);
-    freq.put("年ア", 1913);
-    freq.put("対", 8681);
-    freq.put("最", 8063);
-    freq.put("論", 4375);
-    freq.put("関ああ", 4613);
-    freq.put("丈(", 2884);
-    freq.put("送あ", 7525);
-    freq.put("供", 2235);
-    freq.put("あ用あ", 3710);
-    freq.put("最初", 1340);
-    freq.put("アあ", 155866);
-    freq.put("あ西", 1435);
-    freq.put("紀あ", 1438);
-    freq.put("本名", 1618);
-    freq.put("情", 3302);
-    freq.put("発ああ", 2687);
-    freq.put("ア連", 2828);
-    freq.put("界", 7422);
-    freq.put("量", 2343);
-    freq.put("際あ", 1785);
-    freq.put("浜", 1603);
-    freq.put("口", 3431);
-    freq.put("校あ", 3206);
-    freq.put("ア、", 16488);
-    freq.put("ア。", 10635);
-    freq.put("ア」", 6771);
-    freq.put("ア『", 1584);
-    freq.put("ア』", 6210);
-    freq.put("遺", 1795);
-    freq.put("者", 18526);
-    freq.put("受あ", 2030);
-    freq.put("自治", 1375);
-    freq.put("、英語", 1539);
-    freq.put("名", 22983);
-    freq.put("ア。ア", 1791);
-    freq.put("登場あ", 2088);
-    freq.put("あ構", 3048);
-    freq.put("あ起あ", 1522);
-    freq.put(" 大", 1534);
-    freq.put("総合", 1331);
-    freq.put("入あ", 2695);
-    freq.put("文学", 1588);
-    freq.put("使理", 2476);
-    freq.put("年代あ", 1428);
-    freq.put("アア", 2154092);
-    freq.put("ア語 ", 2251);
-    freq.put("委", 1623);
-    freq.put("場あ", 5556);
-    freq.put("あ発表", 1274);
-    freq.put("あ名あ", 1668);
-    freq.put("乱", 13623);
-    freq.put("艦あ", 1387);
-    freq.put("あ他あ", 1258);
-    freq.put("特", 7417);
-    freq.put("休丈", 2771);
-    freq.put("場合あ", 2928);
-    freq.put("要", 4830);
-    freq.put("あ時", 2327);
-    freq.put("崎", 2237);
-    freq.put("会", 27025);
-    freq.put(" あ", 52272);
-    freq.put("ああ)", 35187);
-    freq.put("校(", 1251);
-    freq.put("一般", 3547);
-    freq.put("あ前", 1691);
-    freq.put("学校あ", 2147);
-    freq.put("あ活動", 1498);
-    freq.put("元あ", 1489);
-    freq.put("一種あ", 1572);
-    freq.put("設計", 1269);
-    freq.put("金", 5425);
-    freq.put("アあ丼", 1341);
-    freq.put("丈あ", 27006);
-    freq.put("丈アア", 2349);
-    freq.put("主", 13646);
-    freq.put(" 。", 2126);
-    freq.put("アあ不", 1243);
-    freq.put(" 、", 3623);
-    freq.put("あ映", 1487);
-    freq.put("アあ丈", 2548);
-    freq.put("周", 2042);
-    freq.put(" 『", 8564);
-    freq.put(" 』", 1624);
-    freq.put("アあ丁", 1432);
-    freq.put("アあ一", 1999);
-    freq.put("当ああ", 1803);
-    freq.put("アあ丞", 1512);
-    freq.put("ア=", 3214);
-    freq.put("社あ", 6402);
-    freq.put("作曲家", 1274);
-    freq.put("視", 1426);
-    freq.put("社ア", 1383);
-    freq.put("星", 2861);
-    freq.put("価ああ", 5083);
-    freq.put("客", 1436);
-    freq.put("説", 4782);
-    freq.put("港", 2061);
-    freq.put("表ああ", 2782);
-    freq.put("等", 8344);
-    freq.put("丈ア", 3173);
-    freq.put("あ書", 1761);
-    freq.put("録ああ", 1363);
-    freq.put(" ア", 58543);
-    freq.put("流あ", 1921);
-    freq.put("。アア", 19255);
-    freq.put("あ製造", 1274);
-    freq.put("生あ", 6030);
-    freq.put("念あ", 1283);
-    freq.put("処", 1526);
-    freq.put("提供", 1355);
-    freq.put("殺あ", 2872);
-    freq.put("、", 312995);
-    freq.put("家ア", 2140);
-    freq.put("最初あ", 1276);
-    freq.put("』ああ", 2158);
-    freq.put("導", 2344);
-    freq.put("間", 11298);
-    freq.put("ああ記", 1483);
-    freq.put("ああ設", 1654);
-    freq.put("用", 19757);
-    freq.put("阪", 2944);
-    freq.put("読", 1601);
-    freq.put("アあ作", 1244);
-    freq.put("あ東", 3287);
-    freq.put("情報", 2756);
-    freq.put("裁", 1509);
-    freq.put("品ああ", 1797);
-    freq.put("あ最", 4488);
-    freq.put("始", 3033);
-    freq.put("あ有", 3083);
-    freq.put("児", 1791);
-    freq.put("年(", 6245);
-    freq.put("年)", 9425);
-    freq.put("賞あ", 1603);
-    freq.put("あ本", 3519);
-    freq.put("丈(あ", 1828);
-    freq.put("色", 1827);
-    freq.put("術あ", 1484);
-    freq.put("響", 1740);
-    freq.put("車ああ", 1306);
-    freq.put("代ああ", 2253);
-    freq.put("外あ", 1908);
-    freq.put("清", 1263);
-    freq.put("指", 8229);
-    freq.put("式", 10389);
-    freq.put("ア合衆", 4629);
-    freq.put("経済", 1991);
-    freq.put("あ保", 1720);
-    freq.put("愛", 3173);
-    freq.put("期", 7726);
-    freq.put("家、", 2464);
-    freq.put("家。", 3423);
-    freq.put("行あ", 14000);
-    freq.put("群", 2041);
-    freq.put("事交", 2728);
-    freq.put("設", 10824);
-    freq.put("佐あ", 15860);
-    freq.put("あ登場", 2375);
-    freq.put("久", 1407);
-    freq.put("葉", 3002);
-    freq.put("使究", 4609);
-    freq.put("ああ現", 1367);
-    freq.put("積", 1366);
-    freq.put("富", 1327);
-    freq.put("子ああ", 1318);
-    freq.put("施設", 1651);
-    freq.put("、日本", 6502);
-    freq.put("上あ", 5913);
-    freq.put("信ああ", 2064);
-    freq.put("野球", 2343);
-    freq.put("「ああ", 1846);
-    freq.put("動車", 2200);
-    freq.put("建", 3787);
-    freq.put("言", 6896);
-    freq.put("要あ", 2289);
-    freq.put("超", 1256);
-    freq.put("あ生あ", 1801);
-    freq.put("英語", 4067);
-    freq.put("あ著", 1250);
-    freq.put("名称", 3513);
-    freq.put("語あ", 8268);
-    freq.put("、東", 2694);
-    freq.put("日あ", 17278);
-    freq.put("あ、ア", 42684);
-    freq.put("常", 2950);
-    freq.put("取あ", 2208);
-    freq.put("立", 12201);
-    freq.put("(昭和", 2128);
-    freq.put("合あ", 7017);
-    freq.put("総称", 1629);
-    freq.put(" 分", 1406);
-    freq.put("』(", 8152);
-    freq.put("器", 3147);
-    freq.put("番", 8301);
-    freq.put("」ああ", 7507);
-    freq.put(" 月 ", 44960);
-    freq.put("教育", 2974);
-    freq.put("係あ", 1321);
-    freq.put("有", 6525);
-    freq.put("程", 1685);
-    freq.put("小", 30514);
-    freq.put("美", 2548);
-    freq.put("あ、「", 2860);
-    freq.put("所属", 2119);
-    freq.put("家人", 2908);
-    freq.put("時代", 5531);
-    freq.put("ア選", 2094);
-    freq.put("交あ", 4806);
-    freq.put("空あ", 1393);
-    freq.put("家", 48873);
-    freq.put("団体", 2330);
-    freq.put("ア州", 5899);
-    freq.put("丈丁あ", 1330);
-    freq.put("的あ", 13077);
-    freq.put("、小", 1990);
-    freq.put("あ、あ", 15664);
-    freq.put("付", 3689);
-    freq.put("位置あ", 2308);
-    freq.put("開発あ", 3113);
-    freq.put("業", 15026);
-    freq.put("交通", 1522);
-    freq.put("役", 2410);
-    freq.put("一部あ", 1349);
-    freq.put("株", 3423);
-    freq.put("月", 55829);
-    freq.put("手権", 2431);
-    freq.put("休ああ", 11780);
-    freq.put("あ教", 1976);
-    freq.put(")あ ", 2592);
-    freq.put("在", 13117);
-    freq.put("あ数", 1984);
-    freq.put("在あ", 8533);
-    freq.put("、東京", 1480);
-    freq.put("( ", 12526);
-    freq.put("ああ行", 2651);
-    freq.put("催あ", 3689);
-    freq.put("載ああ", 2044);
-    freq.put("総", 5306);
-    freq.put("本アア", 2199);
-    freq.put("あ交味", 2831);
-    freq.put("目ああ", 1258);
-    freq.put("定ああ", 5359);
-    freq.put("ああ表", 1577);
-    freq.put("あ支", 1653);
-    freq.put("路", 5085);
-    freq.put("英", 9312);
-    freq.put("整", 1308);
-    freq.put("究", 4684);
-    freq.put("あ放", 6620);
-    freq.put("都", 8516);
-    freq.put("あ改", 1615);
-    freq.put("年)あ", 3507);
-    freq.put("世界", 5865);
-    freq.put(" 号", 4482);
-    freq.put("載あ", 2293);
-    freq.put("あ人物", 1374);
-    freq.put("ア系", 1829);
-    freq.put("あ日", 8737);
-    freq.put("育", 4279);
-    freq.put("医", 2840);
-    freq.put("物あ", 5383);
-    freq.put("丁アア", 1421);
-    freq.put("あ文", 2466);
-    freq.put("作品", 5289);
-    freq.put("聞あ", 3281);
-    freq.put("あ務あ", 1339);
-    freq.put("価使", 2601);
-    freq.put("協会", 2160);
-    freq.put("照", 1250);
-    freq.put("あ知あ", 3198);
-    freq.put("活丞", 1276);
-    freq.put("会社", 6167);
-    freq.put("競", 4491);
-    freq.put(") ", 6625);
-    freq.put("あ所", 2803);
-    freq.put("入ああ", 1917);
-    freq.put("あ手", 1859);
-    freq.put("園", 3175);
-    freq.put("売あ", 5710);
-    freq.put("ああ休", 6525);
-    freq.put("電気", 1300);
-    freq.put("а", 1241);
-    freq.put("済", 2489);
-    freq.put("路あ", 1577);
-    freq.put("青", 1618);
-    freq.put("あ成", 1753);
-    freq.put("科学", 1994);
-    freq.put("略称あ", 1402);
-    freq.put("ああ佐", 5045);
-    freq.put("あ戦", 3270);
-    freq.put("形", 7101);
-    freq.put("あ、国", 1738);
-    freq.put("ああ使", 4600);
-    freq.put("丼(", 1739);
-    freq.put("あ『ア", 1268);
-    freq.put("派あ", 1250);
-    freq.put("制作", 1942);
-    freq.put(" (", 4296);
-    freq.put(" )", 9852);
-    freq.put("内ああ", 1292);
-    freq.put("朝", 4495);
-    freq.put("全 ", 1304);
-    freq.put("及あ", 4790);
-    freq.put("不身あ", 2968);
-    freq.put("丼休", 1592);
-    freq.put("京", 8000);
-    freq.put("ああ価", 2294);
-    freq.put("用アア", 1501);
-    freq.put("ああ呼", 3646);
-    freq.put("アア系", 1825);
-    freq.put("学者", 3831);
-    freq.put("使(", 1266);
-    freq.put("流", 4367);
-    freq.put("係", 2046);
-    freq.put("屋", 2375);
-    freq.put("(ああ", 48329);
-    freq.put("度", 5771);
-    freq.put("乗", 1644);
-    freq.put("曜", 3792);
-    freq.put("常あ", 1310);
-    freq.put("部", 17131);
-    freq.put("あ取あ", 1899);
-    freq.put("丞 ", 1754);
-    freq.put("ああ不", 4855);
-    freq.put("ああ丈", 10564);
-    freq.put(" 番", 1554);
-    freq.put("ア放送", 1421);
-    freq.put("小ああ", 3121);
-    freq.put("あアア", 151645);
-    freq.put("ああ丁", 5744);
-    freq.put("ああ一", 3244);
-    freq.put("ああ丞", 6562);
-    freq.put("宮ああ", 1909);
-    freq.put("争あ", 1758);
-    freq.put("ア郡", 1249);
-    freq.put("素", 3072);
-    freq.put("表記", 2830);
-    freq.put("。ア", 19354);
-    freq.put("始ああ", 1913);
-    freq.put("ああ丼", 5871);
-    freq.put("ああ主", 1236);
-    freq.put("曲ああ", 1651);
-    freq.put("(昭", 2135);
-    freq.put("あ指", 5951);
-    freq.put("説あ", 2100);
-    freq.put("あ持", 3443);
-    freq.put("系使", 1769);
-    freq.put("子ア", 1884);
-    freq.put("動", 13267);
-    freq.put("協", 4447);
-    freq.put(" )あ", 8664);
-    freq.put("国ああ", 2054);
-    freq.put("聞", 12087);
-    freq.put("あ戦あ", 1312);
-    freq.put("全", 10040);
-    freq.put("数", 8554);
-    freq.put("連あ", 1360);
-    freq.put("空", 6782);
-    freq.put("国", 40277);
-    freq.put("ああ事", 3171);
-    freq.put("。「", 2184);
-    freq.put("丼丼", 1418);
-    freq.put("後", 10708);
-    freq.put("あ作あ", 1416);
-    freq.put("向", 3485);
-    freq.put("アア州", 5894);
-    freq.put("あ提", 2042);
-    freq.put("名称あ", 2696);
-    freq.put("果", 2006);
-    freq.put("丼丞", 2055);
-    freq.put("あ活丞", 1241);
-    freq.put("ああ交", 2092);
-    freq.put("中", 24049);
-    freq.put("大会", 3699);
-    freq.put("子あ", 3923);
-    freq.put("ああ人", 3676);
-    freq.put("強", 2073);
-    freq.put("丼丁", 1684);
-    freq.put("画", 10139);
-    freq.put("地不", 3338);
-    freq.put("丼丈", 2151);
-    freq.put("会(", 2933);
-    freq.put("。あ", 13106);
-    freq.put("小治", 1760);
-    freq.put("様", 2976);
-    freq.put("語", 21957);
-    freq.put("あ解", 1569);
-    freq.put("、第", 1727);
-    freq.put("曲", 6533);
-    freq.put("島", 7916);
-    freq.put("白", 1686);
-    freq.put("一", 26873);
-    freq.put("際", 6340);
-    freq.put("東京都", 2018);
-    freq.put("興", 1400);
-    freq.put("あ一あ", 4453);
-    freq.put("記", 10247);
-    freq.put("あ聞", 2418);
-    freq.put("発売", 5037);
-    freq.put("郡あ", 1437);
-    freq.put("身", 6802);
-    freq.put("あ聯", 1675);
-    freq.put("式あ", 3352);
-    freq.put("示", 2628);
-    freq.put("言あ", 3035);
-    freq.put("あ者", 1261);
-    freq.put("。現在", 1490);
-    freq.put("限", 2003);
-    freq.put("あ名称", 2151);
-    freq.put("不家", 3233);
-    freq.put("達", 1651);
-    freq.put("ア社", 1403);
-    freq.put("アあ開", 1642);
-    freq.put("あ ", 66354);
-    freq.put("ア州あ", 1713);
-    freq.put("武", 2753);
-    freq.put("名ああ", 2758);
-    freq.put("鉄家", 3515);
-    freq.put("。現", 1855);
-    freq.put("呼", 9439);
-    freq.put("企", 2899);
-    freq.put("含あ", 3008);
-    freq.put("世あ", 2310);
-    freq.put("和 ", 3168);
-    freq.put("ア州ア", 2558);
-    freq.put("気", 4829);
-    freq.put("あ、同", 1707);
-    freq.put("交味", 2982);
-    freq.put("あ丁丈", 1300);
-    freq.put("あ水", 1343);
-    freq.put("第 ", 9134);
-    freq.put(")、ア", 1251);
-    freq.put("あ受あ", 1927);
-    freq.put("あ一部", 1521);
-    freq.put(" 回", 2984);
-    freq.put("あ規", 1437);
-    freq.put("あ音楽", 1319);
-    freq.put("ああ中", 2062);
-    freq.put("分あ", 3773);
-    freq.put("対象", 1561);
-    freq.put("対ああ", 2786);
-    freq.put("東", 13912);
-    freq.put("登", 4069);
-    freq.put("佐県", 1437);
-    freq.put("現", 13270);
-    freq.put("設置", 1708);
-    freq.put("文", 11450);
-    freq.put("倫あ", 5771);
-    freq.put("律", 2571);
-    freq.put("福", 3372);
-    freq.put("催ああ", 3126);
-    freq.put("世", 14223);
-    freq.put("州アア", 2688);
-    freq.put(" 年、", 1517);
-    freq.put("アア)", 16080);
-    freq.put("アア(", 33305);
-    freq.put("経", 5810);
-    freq.put("アア=", 3088);
-    freq.put("作あ", 7059);
-    freq.put("記休", 1374);
-    freq.put("分野", 1390);
-    freq.put("あ対あ", 3165);
-    freq.put("何ああ", 1301);
-    freq.put(" 年あ", 19179);
-    freq.put("丁", 71935);
-    freq.put("航空", 2161);
-    freq.put("世紀あ", 1284);
-    freq.put("あ記休", 1293);
-    freq.put("通あ", 2755);
-    freq.put("会社あ", 2364);
-    freq.put("標", 2070);
-    freq.put(" 年ア", 1448);
-    freq.put("感", 1443);
-    freq.put("関係", 1758);
-    freq.put("利", 4213);
-    freq.put("あ自", 4181);
-    freq.put("代ア", 1373);
-    freq.put("文化", 2253);
-    freq.put("事あ", 9346);
-    freq.put("丁(", 1789);
-    freq.put("技術", 2097);
-    freq.put("他", 3009);
-    freq.put("、現在", 1773);
-    freq.put("競技", 1586);
-    freq.put("営ああ", 1448);
-    freq.put("、大", 2783);
-    freq.put("物", 13688);
-    freq.put("動ああ", 2193);
-    freq.put("ア、ア", 8332);
-    freq.put("命", 2467);
-    freq.put("分野あ", 1258);
-    freq.put("代アア", 1273);
-    freq.put(" ", 2941);
-    freq.put("選手権", 2431);
-    freq.put("あ開催", 2692);
-    freq.put("あ表記", 1710);
-    freq.put("あ大あ", 1447);
-    freq.put("関あ", 5450);
-    freq.put("一種", 2197);
-    freq.put("通信", 1344);
-    freq.put("分ああ", 1730);
-    freq.put("и", 1279);
-    freq.put("派", 2998);
-    freq.put("自動車", 2063);
-    freq.put("アア ", 31584);
-    freq.put("曜日", 2035);
-    freq.put("念", 2270);
-    freq.put("年", 104829);
-    freq.put("ア朝", 1242);
-    freq.put("球", 4459);
-    freq.put("的", 19048);
-    freq.put("五", 1508);
-    freq.put("丈、", 1500);
-    freq.put("界あ", 1868);
-    freq.put("倫", 19778);
-    freq.put("目的あ", 2661);
-    freq.put("張", 1336);
-    freq.put("改", 2906);
-    freq.put("あ建", 2122);
-    freq.put("参", 3018);
-    freq.put("あ広", 2188);
-    freq.put("何", 10362);
-    freq.put("子アア", 1695);
-    freq.put("州", 9754);
-    freq.put("丁 ", 1266);
-    freq.put("王", 7473);
-    freq.put("来", 4168);
-    freq.put("ア( ", 1748);
-    freq.put("火", 1398);
-    freq.put("独", 3082);
-    freq.put("声", 8316);
-    freq.put("米", 2827);
-    freq.put("番組", 5337);
-    freq.put("昭和 ", 2986);
-    freq.put("ああ分", 1352);
-    freq.put("取", 4325);
-    freq.put("設ああ", 2171);
-    freq.put("井", 2181);
-    freq.put("演", 3153);
-    freq.put("国ア", 2658);
-    freq.put("計画", 1610);
-    freq.put("あ参", 1928);
-    freq.put("あ形", 2406);
-    freq.put("あ置", 2229);
-    freq.put("小あ", 7489);
-    freq.put("あ(", 5782);
-    freq.put("あ)", 37153);
-    freq.put("受", 3764);
-    freq.put("現あ", 1628);
-    freq.put("属", 5936);
-    freq.put("手あ", 2666);
-    freq.put("「あ", 2018);
-    freq.put("者ア", 1305);
-    freq.put("式会", 2869);
-    freq.put("ああ特", 1792);
-    freq.put("あ登", 3137);
-    freq.put("送", 12678);
-    freq.put("「ア", 7862);
-    freq.put("知ああ", 3322);
-    freq.put("者あ", 10349);
-    freq.put("県家", 2001);
-    freq.put("丕", 5670);
-    freq.put("種ああ", 1425);
-    freq.put("域あ", 3413);
-    freq.put("欧", 1451);
-    freq.put("報", 4192);
-    freq.put("あ後", 3036);
-    freq.put("者、", 1458);
-    freq.put("者。", 2220);
-    freq.put("南", 6511);
-    freq.put("時間", 1682);
-    freq.put(" 年代", 2242);
-    freq.put(" 世紀", 2518);
-    freq.put("曲家", 1330);
-    freq.put("形あ", 1829);
-    freq.put("中使あ", 2391);
-    freq.put("八", 1560);
-    freq.put("、本", 1964);
-    freq.put("年( ", 2247);
-    freq.put("称", 14999);
-    freq.put("あ構成", 1941);
-    freq.put("国あ", 10614);
-    freq.put("機関", 2979);
-    freq.put("使", 59250);
-    freq.put("あ「ア", 4056);
-    freq.put("各", 2831);
-    freq.put("設あ", 3061);
-    freq.put("。ああ", 12750);
-    freq.put("成 ", 1708);
-    freq.put("ああ「", 7669);
-    freq.put("化", 11592);
-    freq.put("あ属", 1897);
-    freq.put("降", 1592);
-    freq.put("略称", 3022);
-    freq.put("アア、", 16393);
-    freq.put("』(あ", 3555);
-    freq.put("呼あ", 8214);
-    freq.put("ア』あ", 2640);
-    freq.put("ア教", 1868);
-    freq.put("書ああ", 1478);
-    freq.put("病", 1859);
-    freq.put("あ小", 6851);
-    freq.put("共和国", 2495);
-    freq.put("進あ", 1274);
-    freq.put("ア放", 1489);
-    freq.put("合衆", 4737);
-    freq.put("~", 3083);
-    freq.put("ああ公", 1285);
-    freq.put("日", 77379);
-    freq.put("警", 1923);
-    freq.put("系あ", 2247);
-    freq.put("国あア", 1384);
-    freq.put("ああ学", 1481);
-    freq.put("丼ア", 1464);
-    freq.put("銀", 1566);
-    freq.put("前 ", 1371);
-    freq.put(")", 148109);
-    freq.put("ア(", 33336);
-    freq.put("ア)", 16388);
-    freq.put("休アア", 1927);
-    freq.put("。休", 1576);
-    freq.put("催", 4293);
-    freq.put("使ア", 1968);
-    freq.put("「アア", 7790);
-    freq.put("使用あ", 2638);
-    freq.put("十", 1946);
-    freq.put("高あ", 1592);
-    freq.put("手", 10767);
-    freq.put("』(ア", 2402);
-    freq.put("戦争", 2199);
-    freq.put("ああ倫", 1458);
-    freq.put("あ王", 1453);
-    freq.put("期あ", 4322);
-    freq.put("国アア", 2374);
-    freq.put("ア文", 1270);
-    freq.put("会ああ", 2436);
-    freq.put("団体あ", 1276);
-    freq.put("ア使", 2442);
-    freq.put("平", 6377);
-    freq.put("大あ", 3257);
-    freq.put("書", 6577);
-    freq.put("義あ", 2621);
-    freq.put("楽", 6757);
-    freq.put("あ休画", 1355);
-    freq.put("作品あ", 2764);
-    freq.put("あ組", 1899);
-    freq.put("ああ『", 1790);
-    freq.put("ああ」", 2702);
-    freq.put("。", 214195);
-    freq.put("一ああ", 3370);
-    freq.put("あ経", 2414);
-    freq.put("(", 149030);
-    freq.put("ああ。", 128417);
-    freq.put("ああ、", 114147);
-    freq.put("あ結", 2983);
-    freq.put("ああ他", 1319);
-    freq.put("所属あ", 1341);
-    freq.put("存在", 3074);
-    freq.put("、日", 7073);
-    freq.put("物ああ", 1862);
-    freq.put("あ(あ", 1574);
-    freq.put("丈あア", 1286);
-    freq.put("あ統", 1376);
-    freq.put("月 ", 45103);
-    freq.put("あ", 3435630);
-    freq.put("一あ。", 1355);
-    freq.put("有ああ", 1305);
-    freq.put("あああ", 1201680);
-    freq.put("族", 3755);
-    freq.put("隊あ", 1519);
-    freq.put("制あ", 1242);
-    freq.put("日あア", 2005);
-    freq.put("公", 10338);
-    freq.put("権あ", 1708);
-    freq.put("製", 5884);
-    freq.put("湾", 1437);
-    freq.put("丁ああ", 8466);
-    freq.put("。丁", 1388);
-    freq.put("日ああ", 8218);
-    freq.put("あ総", 2605);
-    freq.put("。丈", 2918);
-    freq.put(" 日あ", 15057);
-    freq.put("あアあ", 3890);
-    freq.put("。丞", 1247);
-    freq.put("、)あ", 1731);
-    freq.put("文使", 1758);
-    freq.put("ア不身", 1594);
-    freq.put("あ使あ", 4014);
-    freq.put("ああア", 66491);
-    freq.put("結あ", 1657);
-    freq.put("。丼", 1300);
-    freq.put("連休", 3247);
-    freq.put("丕あ", 1261);
-    freq.put("般あ", 1349);
-    freq.put("丞アア", 1255);
-    freq.put("宮あ", 4230);
-    freq.put("丈ああ", 11397);
-    freq.put("丞(", 2210);
-    freq.put("体", 13204);
-    freq.put("連合", 1965);
-    freq.put("あ続", 1310);
-    freq.put("多あ。", 1570);
-    freq.put("あ」あ", 2473);
-    freq.put("後あ", 4649);
-    freq.put("位あ", 2264);
-    freq.put("質", 3136);
-    freq.put("目", 10668);
-    freq.put("売", 8204);
-    freq.put("丼あ", 19189);
-    freq.put("=ア", 3230);
-    freq.put("死", 5205);
-    freq.put("等学", 2286);
-    freq.put("専門", 1642);
-    freq.put("時あ", 3451);
-    freq.put("数あ", 3827);
-    freq.put("()", 1332);
-    freq.put("写", 1418);
-    freq.put("機あ", 2329);
-    freq.put("接", 2250);
-    freq.put("あ、人", 1506);
-    freq.put("知あ", 3526);
-    freq.put("、英", 3619);
-    freq.put("在位", 1282);
-    freq.put("治", 7454);
-    freq.put("丼", 69358);
-    freq.put("調", 2776);
-    freq.put("ああ地", 2280);
-    freq.put("鉄", 5783);
-    freq.put(" あア", 3298);
-    freq.put("家路", 2125);
-    freq.put("ああ家", 2341);
-    freq.put("博", 1814);
-    freq.put("神", 6975);
-    freq.put("参加", 1290);
-    freq.put("表", 10987);
-    freq.put("不ああ", 3457);
-    freq.put("別あ", 1751);
-    freq.put("司", 1601);
-    freq.put("声ああ", 1329);
-    freq.put("局あ", 2353);
-    freq.put("変", 3794);
-    freq.put("あ立", 1390);
-    freq.put("あ、一", 1711);
-    freq.put("あ、丁", 2287);
-    freq.put("あ、不", 2123);
-    freq.put("あ高", 3598);
-    freq.put("大阪", 2112);
-    freq.put("あ、丈", 4708);
-    freq.put(" ああ", 28860);
-    freq.put("含", 3079);
-    freq.put("ああ全", 1444);
-    freq.put("あ、主", 1290);
-    freq.put("利用あ", 1328);
-    freq.put("あ、中", 1791);
-    freq.put(" 時", 1629);
-    freq.put("あ含あ", 2902);
-    freq.put("競馬", 1452);
-    freq.put("))", 1846);
-    freq.put("理あ", 2327);
-    freq.put("始あ", 2180);
-    freq.put("価あ", 9568);
-    freq.put(" あ、", 7361);
-    freq.put("設立あ", 2048);
-    freq.put("帝国", 1623);
-    freq.put("ああ知", 2352);
-    freq.put("統", 4477);
-    freq.put("優", 2947);
-    freq.put("将", 1891);
-    freq.put("中ああ", 1478);
-    freq.put("あ子", 1693);
-    freq.put("アア教", 1744);
-    freq.put("あ存", 2964);
-    freq.put("実", 7367);
-    freq.put("あ学", 2960);
-    freq.put("丼ああ", 8612);
-    freq.put("横", 1498);
-    freq.put("番組あ", 2493);
-    freq.put("三", 6461);
-    freq.put("あ際", 1362);
-    freq.put("都事", 2774);
-    freq.put("品", 9370);
-    freq.put("論あ", 1674);
-    freq.put("あ国家", 1342);
-    freq.put("種あ", 3083);
-    freq.put("』 ", 1427);
-    freq.put("察", 1679);
-    freq.put("類", 3952);
-    freq.put("あ第", 4428);
-    freq.put("施", 4063);
-    freq.put("可", 2330);
-    freq.put("番組。", 1557);
-    freq.put("アア放", 1421);
-    freq.put("本あア", 1472);
-    freq.put("ああ発", 3602);
-    freq.put("あ目的", 2533);
-    freq.put("門", 4039);
-    freq.put("丼 ", 1638);
-    freq.put("あ、休", 2616);
-    freq.put("不聯", 2198);
-    freq.put("民", 7826);
-    freq.put("ア大", 3211);
-    freq.put("帝", 2972);
-    freq.put("団あ", 1724);
-    freq.put("あ)。", 2164);
-    freq.put("あ)、", 1476);
-    freq.put("間ああ", 1397);
-    freq.put("地ああ", 1883);
-    freq.put("間あ", 6535);
-    freq.put("活", 6032);
-    freq.put("元", 7877);
-    freq.put("あ、佐", 1739);
-    freq.put("象あ", 2019);
-    freq.put("評", 1446);
-    freq.put("比", 1391);
-    freq.put("あ実", 3992);
-    freq.put("応", 3170);
-    freq.put("あ定", 2671);
-    freq.put("ああ目", 1662);
-    freq.put("止あ", 1308);
-    freq.put("あ宮", 4858);
-    freq.put("あ)あ", 31163);
-    freq.put("山", 10018);
-    freq.put("あ存在", 2820);
-    freq.put("あ家", 4670);
-    freq.put("丈丞", 2374);
-    freq.put("安", 3733);
-    freq.put("ああ生", 1691);
-    freq.put("丈丈", 5575);
-    freq.put("受ああ", 1416);
-    freq.put("丈丁", 3527);
-    freq.put("映", 4870);
-    freq.put("丈丼", 3223);
-    freq.put("ああ用", 1755);
-    freq.put("立ああ", 3753);
-    freq.put("あ。日", 1290);
-    freq.put("アああ", 55529);
-    freq.put("場", 13501);
-    freq.put("戸", 3149);
-    freq.put("あ作品", 1789);
-    freq.put("丞(あ", 1427);
-    freq.put("近", 4077);
-    freq.put("佐価", 1425);
-    freq.put("州あ", 2489);
-    freq.put("党", 2623);
-    freq.put("川", 7871);
-    freq.put("食", 1713);
-    freq.put("使究あ", 1369);
-    freq.put(" 丁", 2886);
-    freq.put(" 丈", 5457);
-    freq.put(" アア", 57211);
-    freq.put("アあ、", 4837);
-    freq.put("あ場", 4272);
-    freq.put("丈丈あ", 1676);
-    freq.put(" 世", 5944);
-    freq.put("当あ", 2190);
-    freq.put("任", 2340);
-    freq.put(" 丞", 3334);
-    freq.put("年 ", 51327);
-    freq.put("省", 2816);
-    freq.put(" 代", 2394);
-    freq.put("ああ開", 2170);
-    freq.put("算", 1686);
-    freq.put("あ日本", 7358);
-    freq.put("置あ", 6978);
-    freq.put("休", 80474);
-    freq.put("源", 1888);
-    freq.put("会(あ", 1757);
-    freq.put("佐佐", 1269);
-    freq.put("書あ", 2853);
-    freq.put("親", 1689);
-    freq.put("戦あ", 3394);
-    freq.put("構成", 2233);
-    freq.put("あ声", 3268);
-    freq.put("州ア", 2755);
-    freq.put("あ使用", 2721);
-    freq.put("化ああ", 2739);
-    freq.put("付あ", 2208);
-    freq.put("アあア", 19640);
-    freq.put(" 人", 2934);
-    freq.put("電", 7996);
-    freq.put("あ開発", 3310);
-    freq.put("記ああ", 2072);
-    freq.put("条", 3471);
-    freq.put("、 ", 31983);
-    freq.put("、丞", 3869);
-    freq.put("影", 1589);
-    freq.put("言語", 1842);
-    freq.put("休(", 1962);
-    freq.put("=アア", 3113);
-    freq.put("ああ名", 2507);
-    freq.put("ああ同", 2111);
-    freq.put("丈休", 2694);
-    freq.put("ア。 ", 1580);
-    freq.put("あ神", 1585);
-    freq.put("通", 11192);
-    freq.put("社会", 2785);
-    freq.put("活動", 3023);
-    freq.put("並", 1334);
-    freq.put("あ総称", 1606);
-    freq.put("社ああ", 2086);
-    freq.put("、自", 1350);
-    freq.put("国際", 4256);
-    freq.put(" 佐", 1439);
-    freq.put("あ女", 1848);
-    freq.put("ア」あ", 4452);
-    freq.put("着", 1339);
-    freq.put("ア ", 32799);
-    freq.put("あ発売", 3969);
-    freq.put("あ丞あ", 5276);
-    freq.put("あ変", 2304);
-    freq.put("開催", 3071);
-    freq.put("佐", 59544);
-    freq.put("あ外", 1294);
-    freq.put("務", 6021);
-    freq.put("単", 3157);
-    freq.put("主義", 2043);
-    freq.put("あ多", 5332);
-    freq.put("ア=ア", 3175);
-    freq.put("あ大", 8249);
-    freq.put("丈使", 1243);
-    freq.put("中央", 2121);
-    freq.put("あ天", 1336);
-    freq.put("丞家", 1297);
-    freq.put(" 休", 1652);
-    freq.put("表あ", 3761);
-    freq.put("あ社", 1649);
-    freq.put("動あ", 4507);
-    freq.put("化あ", 4450);
-    freq.put("々", 3019);
-    freq.put("発表あ", 1306);
-    freq.put("あ始", 1317);
-    freq.put("果あ", 1257);
-    freq.put("成ああ", 4644);
-    freq.put("あ。 ", 6469);
-    freq.put("開あ", 1967);
-    freq.put("急", 1371);
-    freq.put("」あ", 19753);
-    freq.put("権", 6128);
-    freq.put("ア語あ", 2144);
-    freq.put("衆国", 4735);
-    freq.put("あ第 ", 2940);
-    freq.put("あ称", 1389);
-    freq.put("あ移", 1304);
-    freq.put("千", 2088);
-    freq.put("佐売あ", 1480);
-    freq.put("交ああ", 1899);
-    freq.put("あ持あ", 3321);
-    freq.put("日( ", 2303);
-    freq.put("属あ", 3978);
-    freq.put("あ場合", 3488);
-    freq.put("立あ", 5248);
-    freq.put("営あ", 2139);
-    freq.put("」、", 1525);
-    freq.put("」。", 1249);
-    freq.put("行不", 1963);
-    freq.put("佐丁", 2480);
-    freq.put("西", 7073);
-    freq.put("指あ。", 1899);
-    freq.put("録あ", 1741);
-    freq.put("劇", 2223);
-    freq.put("合", 22154);
-    freq.put("外", 5603);
-    freq.put(":", 12250);
-    freq.put("造あ", 2715);
-    freq.put("ああ第", 1398);
-    freq.put("録", 3006);
-    freq.put("ア佐", 2436);
-    freq.put("不治", 2327);
-    freq.put("ア作", 1731);
-    freq.put("丈 ", 1322);
-    freq.put("あ発", 11033);
-    freq.put("放", 12785);
-    freq.put("母", 1932);
-    freq.put("和国", 2518);
-    freq.put("ア丁", 1757);
-    freq.put("。日", 2366);
-    freq.put("止", 2016);
-    freq.put("あ、英", 2463);
-    freq.put("あ国際", 1794);
-    freq.put("特あ", 1759);
-    freq.put("体ああ", 2330);
-    freq.put("あ、現", 2057);
-    freq.put("ア休", 2911);
-    freq.put("大学あ", 1847);
-    freq.put(" 月あ", 5223);
-    freq.put("、人", 2001);
-    freq.put("設立", 2500);
-    freq.put("女小", 1372);
-    freq.put("ああ宮", 1422);
-    freq.put("交", 21043);
-    freq.put("アア社", 1262);
-    freq.put("あ目", 3554);
-    freq.put("主あ", 3885);
-    freq.put("近あ", 1367);
-    freq.put("号ああ", 1619);
-    freq.put("あ殺あ", 1580);
-    freq.put("中国", 2514);
-    freq.put("あ国", 6666);
-    freq.put("年代", 2422);
-    freq.put("あ電", 1906);
-    freq.put("、丁", 3572);
-    freq.put("、一", 1931);
-    freq.put("則", 1331);
-    freq.put("、丈", 7156);
-    freq.put("、不", 3337);
-    freq.put("現ア", 1355);
-    freq.put("等あ", 3921);
-    freq.put("あ行あ", 9249);
-    freq.put("(現", 2804);
-    freq.put("令", 1766);
-    freq.put("、中", 2406);
-    freq.put("」(", 2340);
-    freq.put("共", 7413);
-    freq.put("ア語:", 1902);
-    freq.put("味", 3638);
-    freq.put("直", 2224);
-    freq.put("、主", 1393);
-    freq.put("、丼", 4218);
-    freq.put("認", 2658);
-    freq.put("発売あ", 3963);
-    freq.put("宗", 1706);
-    freq.put("式会社", 2868);
-    freq.put("選手", 4697);
-    freq.put("事", 34820);
-    freq.put("第", 13434);
-    freq.put("第二次", 1255);
-    freq.put("隊", 3468);
-    freq.put("構", 5270);
-    freq.put("次世", 1446);
-    freq.put("歌", 3328);
-    freq.put("休ア", 2507);
-    freq.put("ア丼", 2746);
-    freq.put("域", 5560);
-    freq.put("、価", 1248);
-    freq.put("以", 6436);
-    freq.put("続ああ", 1414);
-    freq.put("ア不", 5250);
-    freq.put("義ああ", 1444);
-    freq.put("ア丈", 4131);
-    freq.put("町あ", 2460);
-    freq.put("乱ああ", 1859);
-    freq.put("あ地", 4866);
-    freq.put("器あ", 1492);
-    freq.put("ア丞", 2294);
-    freq.put("開発", 5246);
-    freq.put("家 ", 3003);
-    freq.put("持あ", 3953);
-    freq.put("登場", 2565);
-    freq.put("吉", 1498);
-    freq.put("平成", 1905);
-    freq.put("項あ", 1394);
-    freq.put("、佐", 2726);
-    freq.put("初", 7471);
-    freq.put("土", 3313);
-    freq.put("校", 9373);
-    freq.put("あ知", 3796);
-    freq.put("休あ", 23904);
-    freq.put("あ使究", 1788);
-    freq.put("あ音", 2155);
-    freq.put("人", 34784);
-    freq.put("会議", 1333);
-    freq.put("あ基", 3151);
-    freq.put("界大", 1455);
-    freq.put("高等", 2629);
-    freq.put("あ東京", 1323);
-    freq.put("住", 2454);
-    freq.put("合ああ", 3958);
-    freq.put("、休", 3597);
-    freq.put("大学", 6830);
-    freq.put("ア人", 2775);
-    freq.put("あ不あ", 2773);
-    freq.put("作曲", 2528);
-    freq.put("通ああ", 1426);
-    freq.put("面あ", 1724);
-    freq.put("自動", 2405);
-    freq.put("ア事", 1661);
-    freq.put("休。", 1523);
-    freq.put("護", 2333);
-    freq.put("京都", 3402);
-    freq.put("使ああ", 9134);
-    freq.put("ああ小", 2540);
-    freq.put("広", 4783);
-    freq.put("国家", 3119);
-    freq.put("株式会", 2868);
-    freq.put("特別", 1260);
-    freq.put("続あ", 2112);
-    freq.put("ああ言", 2300);
-    freq.put("成", 12592);
-    freq.put("向ああ", 1587);
-    freq.put("あ言あ", 2286);
-    freq.put("ああ多", 2733);
-    freq.put("曲あ", 2900);
-    freq.put("力", 7128);
-    freq.put("級", 2880);
-    freq.put("〜", 2758);
-    freq.put("員あ", 2076);
-    freq.put("あ利用", 1457);
-    freq.put("ああ大", 3222);
-    freq.put("保", 5439);
-    freq.put("言ああ", 1584);
-    freq.put("約 ", 1619);
-    freq.put("あ呼", 9152);
-    freq.put("あ各", 1270);
-    freq.put("あ同", 5129);
-    freq.put("あ名", 6504);
-    freq.put("あ合", 3012);
-    freq.put("日 ", 12954);
-    freq.put("話あ", 1899);
-    freq.put("人ア", 1242);
-    freq.put("策", 1400);
-    freq.put("非", 1816);
-    freq.put("代", 19956);
-    freq.put("県あ", 2733);
-    freq.put("置", 8277);
-    freq.put("、使", 1676);
-    freq.put("語 ", 3303);
-    freq.put("質あ", 1680);
-    freq.put("松", 2561);
-    freq.put("布", 1306);
-    freq.put("教あ", 1272);
-    freq.put("植", 1547);
-    freq.put("環境", 1290);
-    freq.put("ア選手", 1921);
-    freq.put("不使", 1765);
-    freq.put("続", 3548);
-    freq.put("付ああ", 1616);
-    freq.put("次", 4580);
-    freq.put("地区", 1390);
-    freq.put("在ああ", 4158);
-    freq.put("、)", 1834);
-    freq.put("あ、 ", 22576);
-    freq.put("アア佐", 1706);
-    freq.put("表記あ", 2011);
-    freq.put("組。", 1569);
-    freq.put("アア語", 8298);
-    freq.put("線", 8126);
-    freq.put("地あ", 4409);
-    freq.put("一部", 2055);
-    freq.put("可能", 1378);
-    freq.put("身あ", 4282);
-    freq.put("約", 3788);
-    freq.put("分", 13117);
-    freq.put(")あ、", 47800);
-    freq.put("世界大", 1450);
-    freq.put("与", 2254);
-    freq.put("あ佐あ", 3168);
-    freq.put("年) ", 3918);
-    freq.put("あ略", 1610);
-    freq.put("加ああ", 1583);
-    freq.put("木", 3174);
-    freq.put("あ、丞", 2433);
-    freq.put("進", 3210);
-    freq.put("あ休あ", 5479);
-    freq.put("ああ場", 2933);
-    freq.put("あ作曲", 1773);
-    freq.put("不交", 1422);
-    freq.put("得あ", 1713);
-    freq.put(")ああ", 30137);
-    freq.put("家あ", 12300);
-    freq.put("不身", 4258);
-    freq.put("力あ", 3213);
-    freq.put("(あ", 48841);
-    freq.put("あ生", 5118);
-    freq.put("艦", 4184);
-    freq.put("あ用", 4828);
-    freq.put("音", 7019);
-    freq.put("決", 2408);
-    freq.put("能", 5243);
-    freq.put("(英", 2015);
-    freq.put("二次", 1389);
-    freq.put("丞ああ", 10116);
-    freq.put("事業", 2439);
-    freq.put(")あ", 114771);
-    freq.put("生", 16324);
-    freq.put("究あ", 1391);
-    freq.put("あ上あ", 1542);
-    freq.put("=", 3484);
-    freq.put(")あア", 7291);
-    freq.put("馬", 3385);
-    freq.put("(ア", 21128);
-    freq.put("多ああ", 2150);
-    freq.put("運動", 1644);
-    freq.put("連", 10914);
-    freq.put("あ開", 8435);
-    freq.put("提", 2781);
-    freq.put(")」", 1247);
-    freq.put("あ間", 2317);
-    freq.put(")、", 5848);
-    freq.put(")。", 7779);
-    freq.put("回", 5170);
-    freq.put("起あ", 1745);
-    freq.put("あ関", 6111);
-    freq.put("不不", 1538);
-    freq.put("族あ", 1560);
-    freq.put("台", 3682);
-    freq.put("能あ", 2381);
-    freq.put("あ、丼", 2884);
-    freq.put("境", 2223);
-    freq.put("皇", 3000);
-    freq.put("ああ(", 4198);
-    freq.put("あ属あ", 1826);
-    freq.put("指あ", 4364);
-    freq.put("店", 2005);
-    freq.put("存", 4270);
-    freq.put("領", 3103);
-    freq.put("あ物", 2014);
-    freq.put("央", 2180);
-    freq.put("あ創", 1816);
-    freq.put("度あ", 3326);
-    freq.put("あ特", 3612);
-    freq.put("局", 4799);
-    freq.put("あ分", 4627);
-    freq.put("商", 2606);
-    freq.put("半", 2617);
-    freq.put("、特", 1256);
-    freq.put("あ初", 2158);
-    freq.put("ア番組", 2746);
-    freq.put("合衆国", 4735);
-    freq.put("音楽", 3430);
-    freq.put("江戸", 1490);
-    freq.put("あ利", 1785);
-    freq.put("あ制", 2425);
-    freq.put("丞ア", 1844);
-    freq.put("あ一般", 1707);
-    freq.put("ああ後", 1790);
-    freq.put("二", 5188);
-    freq.put("あ動", 1382);
-    freq.put("丞あ", 21257);
-    freq.put("定", 14058);
-    freq.put("あ務", 1340);
-    freq.put(" 世あ", 1718);
-    freq.put("化学", 1687);
-    freq.put("あ独", 1271);
-    freq.put("由", 2916);
-    freq.put("環", 2235);
-    freq.put("あ認", 1333);
-    freq.put("『アア", 7047);
-    freq.put("殺", 5325);
-    freq.put("天皇", 1405);
-    freq.put(" 日(", 2924);
-    freq.put(" 日)", 9957);
-    freq.put("光", 3006);
-    freq.put("休画", 2321);
-    freq.put("及", 4976);
-    freq.put("位", 7990);
-    freq.put("上ああ", 2005);
-    freq.put("月ああ", 2434);
-    freq.put("あ加", 1535);
-    freq.put("製作", 1647);
-    freq.put("~ ", 2043);
-    freq.put("地域あ", 1988);
-    freq.put("術", 5314);
-    freq.put("学あ", 6550);
-    freq.put("株式", 3061);
-    freq.put("与ああ", 1754);
-    freq.put("紀", 4911);
-    freq.put("理", 11169);
-    freq.put("内あ", 4013);
-    freq.put("あ南", 1637);
-    freq.put("投", 1259);
-    freq.put("等学校", 2276);
-    freq.put("得", 2357);
-    freq.put("あ単", 1416);
-    freq.put("共同", 1280);
-    freq.put("原", 7882);
-    freq.put("あ価使", 1553);
-    freq.put("航", 2825);
-    freq.put("田", 7594);
-    freq.put("防", 2270);
-    freq.put("あ価あ", 2254);
-    freq.put("あ置あ", 2118);
-    freq.put("日本", 21674);
-    freq.put("あ代表", 1400);
-    freq.put("先", 1806);
-    freq.put("大ああ", 1950);
-    freq.put("解", 3594);
-    freq.put("同あ", 1953);
-    freq.put("é", 1545);
-    freq.put("示あ", 1874);
-    freq.put("ア』(", 1980);
-    freq.put("称ああ", 4464);
-    freq.put("あ中使", 2747);
-    freq.put("組佐あ", 1397);
-    freq.put("一あ", 5817);
-    freq.put("殺ああ", 2295);
-    freq.put("制度", 1248);
-    freq.put(" 日", 47110);
-    freq.put("不", 54571);
-    freq.put("あ指あ", 3829);
-    freq.put("あ取", 2481);
-    freq.put("あ受", 2846);
-    freq.put("共和", 2791);
-    freq.put("。 ", 13103);
-    freq.put("代あ", 6798);
-    freq.put("画あ", 2581);
-    freq.put("あ現", 2680);
-    freq.put("両", 2394);
-    freq.put("、アア", 64286);
-    freq.put("人物", 1891);
-    freq.put("あ。丈", 1605);
-    freq.put("属ああ", 2285);
-    freq.put("あ広あ", 1286);
-    freq.put("行", 22080);
-    freq.put("佐ああ", 8185);
-    freq.put("味あ", 2957);
-    freq.put("あ原", 2367);
-    freq.put("象", 3259);
-    freq.put("転", 2711);
-    freq.put("あ、東", 1989);
-    freq.put("創", 2681);
-    freq.put("ア語", 8308);
-    freq.put("的ああ", 3866);
-    freq.put("ああ", 1909463);
-    freq.put("中あ", 5030);
-    freq.put("倫ああ", 2719);
-    freq.put("『ア", 7054);
-    freq.put("務あ", 2872);
-    freq.put("あ運", 3219);
-    freq.put("利用", 1828);
-    freq.put("務ああ", 1643);
-    freq.put("多", 7893);
-    freq.put("ア連休", 1985);
-    freq.put("価", 32733);
-    freq.put("ああ作", 2558);
-    freq.put("日本ア", 2092);
-    freq.put("あ選", 1976);
-    freq.put("アア不", 4656);
-    freq.put("駅", 2902);
-    freq.put("あ、", 216446);
-    freq.put("あ。", 138896);
-    freq.put("アア丈", 2749);
-    freq.put("あ「", 15609);
-    freq.put("あ」", 3632);
-    freq.put("あ『", 3993);
-    freq.put("あ』", 1518);
-    freq.put("地域", 3263);
-    freq.put("業ああ", 1572);
-    freq.put("アア丞", 1556);
-    freq.put("初あ", 3667);
-    freq.put("工", 4508);
-    freq.put("四", 2207);
-    freq.put("(アア", 20979);
-    freq.put("あ通", 3320);
-    freq.put("信", 13921);
-    freq.put("あ丈丈", 1864);
-    freq.put("あ連", 2419);
-    freq.put("あ丈丁", 1285);
-    freq.put("あ倫", 4845);
-    freq.put("アア丼", 1996);
-    freq.put("持ああ", 1475);
-    freq.put("発表", 1469);
-    freq.put("下", 7225);
-    freq.put("声あ", 2287);
-    freq.put("運営", 1939);
-    freq.put("あ含", 2942);
-    freq.put("速", 1858);
-    freq.put("類ああ", 1338);
-    freq.put("師", 2527);
-    freq.put("宮", 21279);
-    freq.put("向あ", 2543);
-    freq.put("谷", 1834);
-    freq.put("あ都", 1640);
-    freq.put("アア事", 1564);
-    freq.put("日本あ", 9641);
-    freq.put("丁丈", 3406);
-    freq.put("聯あ", 3977);
-    freq.put("毎", 2982);
-    freq.put("村", 4202);
-    freq.put("年(昭", 1867);
-    freq.put("高", 11470);
-    freq.put("丁丞", 1826);
-    freq.put("あア", 156757);
-    freq.put("『あ", 1353);
-    freq.put("自", 10797);
-    freq.put("アア人", 2578);
-    freq.put("丁丼", 1794);
-    freq.put("庁", 1327);
-    freq.put("専", 2793);
-    freq.put("あ元", 1846);
-    freq.put("独立", 1445);
-    freq.put("規", 3792);
-    freq.put("』あ", 7906);
-    freq.put("ああ国", 2987);
-    freq.put("アア作", 1525);
-    freq.put(" 年 ", 49544);
-    freq.put("素あ", 1485);
-    freq.put("あ入", 1803);
-    freq.put("あ公", 3342);
-    freq.put("あ全", 3374);
-    freq.put("種", 6006);
-    freq.put("アア使", 2109);
-    freq.put("地", 19745);
-    freq.put("あ共", 2253);
-    freq.put("症", 1381);
-    freq.put("組あ", 3887);
-    freq.put(" 人あ", 1389);
-    freq.put("現在", 6030);
-    freq.put("点", 4161);
-    freq.put("映画", 3085);
-    freq.put("アア休", 2327);
-    freq.put("あ無", 1446);
-    freq.put("旧", 3190);
-    freq.put("社アア", 1256);
-    freq.put(" 月", 53298);
-    freq.put("組ああ", 2099);
-    freq.put("区あ", 2907);
-    freq.put("あ、日", 6150);
-    freq.put("査", 2002);
-    freq.put("あ死", 2199);
-    freq.put("項", 2228);
-    freq.put("あ重", 1969);
-    freq.put("あ金", 1288);
-    freq.put("加あ", 2048);
-    freq.put("推", 1511);
-    freq.put("点あ", 3120);
-    freq.put("人。", 1476);
-    freq.put("丞丁", 2038);
-    freq.put("使アア", 1628);
-    freq.put("於", 1575);
-    freq.put("あ内", 1663);
-    freq.put("作ああ", 4059);
-    freq.put("運営あ", 1562);
-    freq.put("起", 2835);
-    freq.put("女子", 1397);
-    freq.put("丁休", 1545);
-    freq.put("正", 6725);
-    freq.put("波", 1773);
-    freq.put("用語", 1380);
-    freq.put("あ事あ", 1426);
-    freq.put("人あ", 9122);
-    freq.put("。本", 2143);
-    freq.put("理学", 1713);
-  }
-  
 }
-
@@ -1,23080 +1,15 @@
 package com.rmtheis.langdetect.profile;
 
-import java.util.HashMap;
-
 import com.cybozu.labs.langdetect.util.LangProfile;
-import com.cybozu.labs.langdetect.util.NGram;
 
 public class KO {
   private static final String name = "ko";
-  private static final HashMap<String, Integer> freq = new HashMap<String, Integer>();
-  private static final int[] n_words = new int[NGram.N_GRAM];
 
   public KO() {
-    init();
-    init2();
-    init3();
-    init4();
-    init5();
-    init6();
   }
 
   public final LangProfile getLangProfile() {
-    return new LangProfile(name, freq, n_words);
+    return Profiles.load(name);
   }
-  
-  private void init() {
-    n_words[0] = 4985886;
-    n_words[1] = 5984351;
-    n_words[2] = 3260836;
 
-    freq.put("붙은 ", 60);
-    freq.put(" 블로", 143);
-    freq.put("상이 ", 314);
-    freq.put("형적인", 66);
-    freq.put("외에 ", 210);
-    freq.put(" 블록", 76);
-    freq.put("효과적", 73);
-    freq.put("관위", 96);
-    freq.put("분기점", 81);
-    freq.put("어렵", 70);
-    freq.put("교회의", 291);
-    freq.put("일명 ", 77);
-    freq.put("어려", 133);
-    freq.put("관으", 1430);
-    freq.put("원도 ", 290);
-    freq.put("관은", 726);
-    freq.put("관을", 436);
-    freq.put("루트비", 99);
-    freq.put("之三丘", 62);
-    freq.put("머니이", 60);
-    freq.put("관의", 2174);
-    freq.put("민법", 149);
-    freq.put("선정", 259);
-    freq.put("관이", 1515);
-    freq.put(" 중단", 103);
-    freq.put("관인", 90);
-    freq.put("테스트", 133);
-    freq.put("팀이 ", 193);
-    freq.put(" 예언", 71);
-    freq.put("벡터", 159);
-    freq.put(" 옛날", 72);
-    freq.put("비의 ", 135);
-    freq.put("관장", 263);
-    freq.put("분석하", 113);
-    freq.put("체적 ", 96);
-    freq.put("멸망", 116);
-    freq.put("제도이", 151);
-    freq.put(" 출력", 112);
-    freq.put(" 계층", 133);
-    freq.put("윈도", 643);
-    freq.put("사망 ", 84);
-    freq.put("잘 ", 553);
-    freq.put("제도의", 156);
-    freq.put("사와 ", 395);
-    freq.put("사실 ", 77);
-    freq.put("청동", 74);
-    freq.put(" 유고", 73);
-    freq.put("니아에", 65);
-    freq.put("일치", 88);
-    freq.put("교회와", 67);
-    freq.put("몽", 572);
-    freq.put("살 ", 233);
-    freq.put("어류", 77);
-    freq.put(" 중동", 117);
-    freq.put("깊", 200);
-    freq.put("어를", 713);
-    freq.put("어권에", 64);
-    freq.put("머지", 135);
-    freq.put(" 논문", 122);
-    freq.put("발 ", 1144);
-    freq.put("잠수함", 77);
-    freq.put("올림픽", 756);
-    freq.put("펌", 98);
-    freq.put("이언츠", 61);
-    freq.put(" 중대", 70);
-    freq.put("나의 ", 717);
-    freq.put("일컬", 82);
-    freq.put("일컫", 636);
-    freq.put("안토니", 87);
-    freq.put("어릴", 143);
-    freq.put("어린", 285);
-    freq.put("받고 ", 270);
-    freq.put("어리", 167);
-    freq.put("낱말이", 57);
-    freq.put(" 유가", 72);
-    freq.put("란을", 119);
-    freq.put(" 였다", 83);
-    freq.put("구들", 66);
-    freq.put("말", 8244);
-    freq.put(" 필립", 80);
-    freq.put("란의", 103);
-    freq.put("티칸 ", 59);
-    freq.put("ος ", 121);
-    freq.put("어링", 63);
-    freq.put(" 태생", 107);
-    freq.put("마르크", 179);
-    freq.put("란이", 133);
-    freq.put("발된 ", 162);
-    freq.put(" 합류", 148);
-    freq.put(" 亞 ", 77);
-    freq.put(" 편집", 205);
-    freq.put("설립자", 69);
-    freq.put("어머", 290);
-    freq.put("스크리", 94);
-    freq.put(" 등지", 163);
-    freq.put(" 중남", 73);
-    freq.put("여주", 182);
-    freq.put("우도 ", 215);
-    freq.put(" 보통", 720);
-    freq.put("스크립", 98);
-    freq.put("관악", 84);
-    freq.put(" 식물", 383);
-    freq.put("청나", 170);
-    freq.put("제도에", 143);
-    freq.put("이아 ", 80);
-    freq.put("청남", 319);
-    freq.put("수준의", 104);
-    freq.put(" 식민", 417);
-    freq.put("여졌", 92);
-    freq.put("위이다", 181);
-    freq.put("교회에", 135);
-    freq.put("티칸", 62);
-    freq.put("之丁", 1040);
-    freq.put("관에", 348);
-    freq.put("제나", 96);
-    freq.put("섬과", 108);
-    freq.put("서만 ", 126);
-    freq.put("관여", 73);
-    freq.put("문의 ", 316);
-    freq.put(" 합리", 91);
-    freq.put("여진", 185);
-    freq.put("여지", 119);
-    freq.put("랜드", 2035);
-    freq.put(" 회복", 73);
-    freq.put("면서", 1898);
-    freq.put("목의 ", 117);
-    freq.put("지털 ", 477);
-    freq.put("란에", 60);
-    freq.put("학의 ", 951);
-    freq.put("운드 ", 160);
-    freq.put("í", 141);
-    freq.put("굴", 660);
-    freq.put("청년", 158);
-    freq.put(" 군산", 83);
-    freq.put("얄", 66);
-    freq.put("장 ", 5509);
-    freq.put("도모 ", 96);
-    freq.put("느 ", 258);
-    freq.put("젝", 447);
-    freq.put("데에서", 64);
-    freq.put("일체", 116);
-    freq.put("꿈", 119);
-    freq.put("조직 ", 160);
-    freq.put("법에서", 118);
-    freq.put("제품을", 86);
-    freq.put("학상을", 72);
-    freq.put("제품이", 89);
-    freq.put("테이블", 95);
-    freq.put(" 유기", 176);
-    freq.put(" 논리", 244);
-    freq.put("학회는", 214);
-    freq.put(" 예선", 234);
-    freq.put("란스", 62);
-    freq.put("아들로", 224);
-    freq.put("못하는", 67);
-    freq.put("올", 2277);
-    freq.put("게는", 217);
-    freq.put("가로 ", 579);
-    freq.put("무는 ", 91);
-    freq.put(" 군이", 85);
-    freq.put(" 군인", 411);
-    freq.put("택하", 130);
-    freq.put(" 홈 ", 107);
-    freq.put("란시", 124);
-    freq.put(" 출범", 202);
-    freq.put("인가", 135);
-    freq.put(" 군의", 89);
-    freq.put("인간", 782);
-    freq.put("거", 8987);
-    freq.put("다시 ", 463);
-    freq.put(" 태어", 821);
-    freq.put("석의 ", 89);
-    freq.put("인과", 324);
-    freq.put("녀의", 96);
-    freq.put("지리학", 71);
-    freq.put("인공", 464);
-    freq.put("알고리", 206);
-    freq.put(" 태양", 417);
-    freq.put("리시 ", 78);
-    freq.put("제와 ", 152);
-    freq.put("잡", 1143);
-    freq.put("인격", 64);
-    freq.put("성전 ", 62);
-    freq.put(" 출발", 163);
-    freq.put("곳으로", 142);
-    freq.put("이트로", 57);
-    freq.put("류는 ", 92);
-    freq.put("驿", 62);
-    freq.put(" 중랑", 60);
-    freq.put("조선인", 72);
-    freq.put("인구", 3663);
-    freq.put("결된 ", 163);
-    freq.put("은색", 62);
-    freq.put("군은 ", 187);
-    freq.put("면을", 202);
-    freq.put("면은", 81);
-    freq.put("면이", 257);
-    freq.put("계기로", 63);
-    freq.put("투어", 153);
-    freq.put("관계를", 280);
-    freq.put("때에", 310);
-    freq.put("털", 869);
-    freq.put("상호 ", 183);
-    freq.put("교통의", 80);
-    freq.put("씨 ", 474);
-    freq.put("무스", 102);
-    freq.put("분류 ", 142);
-    freq.put("면으", 111);
-    freq.put(" 운반", 62);
-    freq.put("평면", 121);
-    freq.put(" 표기", 452);
-    freq.put("서구 ", 260);
-    freq.put("힌", 432);
-    freq.put("고기 ", 102);
-    freq.put("속한다", 406);
-    freq.put("전문적", 89);
-    freq.put("자기 ", 286);
-    freq.put("대회가", 57);
-    freq.put(" 식별", 121);
-    freq.put("각의 ", 236);
-    freq.put("관습", 89);
-    freq.put("검찰청", 131);
-    freq.put("외한 ", 214);
-    freq.put("이트를", 58);
-    freq.put(" 파키", 145);
-    freq.put("인권", 206);
-    freq.put("관심", 174);
-    freq.put("사무를", 174);
-    freq.put("물질이", 123);
-    freq.put("자들", 1135);
-    freq.put("반을 ", 232);
-    freq.put("씩 ", 192);
-    freq.put("입국", 115);
-    freq.put("입구", 92);
-    freq.put("물질의", 91);
-    freq.put("물질을", 114);
-    freq.put("관세", 134);
-    freq.put("쟁", 2447);
-    freq.put(" 취득", 122);
-    freq.put("란색", 79);
-    freq.put("술적", 188);
-    freq.put("인기", 282);
-    freq.put("역한 ", 65);
-    freq.put(" 율리", 81);
-    freq.put("관이 ", 275);
-    freq.put("丹丁 ", 93);
-    freq.put("늄 ", 94);
-    freq.put("ος", 126);
-    freq.put("《한", 112);
-    freq.put("챔피", 311);
-    freq.put("한민족", 78);
-    freq.put("총독", 192);
-    freq.put("합 ", 1352);
-    freq.put("속이 ", 83);
-    freq.put("원작으", 116);
-    freq.put("무실", 1878);
-    freq.put(" 손꼽", 71);
-    freq.put("베스 ", 74);
-    freq.put("람교", 71);
-    freq.put("사하고", 71);
-    freq.put("추고 ", 107);
-    freq.put("체에 ", 291);
-    freq.put("많다", 296);
-    freq.put("학과를", 67);
-    freq.put(" 예술", 486);
-    freq.put(" 예수", 291);
-    freq.put("간 ", 2583);
-    freq.put("켰", 242);
-    freq.put("평론가", 63);
-    freq.put("민당 ", 69);
-    freq.put("량과 ", 57);
-    freq.put("람과", 66);
-    freq.put("일정", 485);
-    freq.put("일제", 561);
-    freq.put("수용소", 59);
-    freq.put("포가 ", 68);
-    freq.put("평론", 89);
-    freq.put(" 합병", 171);
-    freq.put("살았던", 73);
-    freq.put("면에", 519);
-    freq.put("이비드", 96);
-    freq.put(" 회로", 165);
-    freq.put("령으로", 158);
-    freq.put("면역", 75);
-    freq.put("미에서", 158);
-    freq.put("때의", 171);
-    freq.put("국토해", 108);
-    freq.put("파로 ", 96);
-    freq.put("복음주", 62);
-    freq.put("쏘", 63);
-    freq.put("황을 ", 121);
-    freq.put(" 층에", 435);
-    freq.put("단과 ", 106);
-    freq.put("일종", 722);
-    freq.put("름인 ", 66);
-    freq.put("일이", 470);
-    freq.put("받는", 351);
-    freq.put(" 크", 2443);
-    freq.put(" 큰", 1228);
-    freq.put(" 클", 1230);
-    freq.put("여신", 129);
-    freq.put("정기관", 402);
-    freq.put(" 큐", 81);
-    freq.put("일은", 174);
-    freq.put("툼", 59);
-    freq.put("체하", 137);
-    freq.put("체학", 60);
-    freq.put("일으", 424);
-    freq.put(" 丘倉", 66);
-    freq.put(" 퀴", 87);
-    freq.put(" 퀸", 110);
-    freq.put("착륙", 65);
-    freq.put("컨트롤", 65);
-    freq.put("발음 ", 82);
-    freq.put("표에 ", 65);
-    freq.put(" 퀘", 74);
-    freq.put(" 두루", 60);
-    freq.put("좀", 88);
-    freq.put("어난", 835);
-    freq.put("미합", 62);
-    freq.put("념이", 269);
-    freq.put("른다 ", 763);
-    freq.put("념일", 61);
-    freq.put("처의", 89);
-    freq.put("계속되", 62);
-    freq.put(" 타", 2520);
-    freq.put(" 탁", 97);
-    freq.put(" 탄", 758);
-    freq.put(" 탈", 393);
-    freq.put("우는 ", 262);
-    freq.put(" 탐", 420);
-    freq.put(" 탑", 249);
-    freq.put("미한", 620);
-    freq.put(" 탕", 57);
-    freq.put(" 편성", 112);
-    freq.put(" 태", 2959);
-    freq.put(" 택", 119);
-    freq.put(" 키", 961);
-    freq.put("운동은", 65);
-    freq.put(" 칼 ", 70);
-    freq.put(" 킬", 163);
-    freq.put("정책이", 65);
-    freq.put(" 킹", 119);
-    freq.put("여수", 112);
-    freq.put("일자", 116);
-    freq.put("정책을", 139);
-    freq.put("족과", 104);
-    freq.put("요소를", 93);
-    freq.put("익", 1489);
-    freq.put("정책의", 92);
-    freq.put("티에", 140);
-    freq.put("가치가", 81);
-    freq.put(" 행복", 66);
-    freq.put("아우구", 84);
-    freq.put("시·", 101);
-    freq.put("관측", 213);
-    freq.put("자적인", 76);
-    freq.put("등과 ", 260);
-    freq.put(" 텍", 216);
-    freq.put(" 텐", 79);
-    freq.put(" 텔", 530);
-    freq.put("재의 ", 594);
-    freq.put("너 ", 308);
-    freq.put("之丁 ", 427);
-    freq.put(" 태조", 124);
-    freq.put(" 터", 808);
-    freq.put("퍼스 ", 60);
-    freq.put(" 털", 121);
-    freq.put("영토", 332);
-    freq.put("설이 ", 126);
-    freq.put("밖의 ", 84);
-    freq.put("거 ", 803);
-    freq.put("최하는", 107);
-    freq.put("동으로", 429);
-    freq.put("도입되", 74);
-    freq.put("도입된", 60);
-    freq.put("립트 ", 57);
-    freq.put("힌두교", 117);
-    freq.put(" 퇴", 255);
-    freq.put("티안", 75);
-    freq.put("일원", 193);
-    freq.put("티야", 82);
-    freq.put(" 태종", 83);
-    freq.put("시 ", 11102);
-    freq.put("골프", 78);
-    freq.put(" 년에", 3712);
-    freq.put(" 토", 1698);
-    freq.put("워진 ", 158);
-    freq.put(" 톤", 103);
-    freq.put("대문구", 151);
-    freq.put("카미 ", 64);
-    freq.put("기적 ", 104);
-    freq.put(" 톰", 97);
-    freq.put("가사키", 57);
-    freq.put(" 통", 6217);
-    freq.put(" 연합", 775);
-    freq.put("설계 ", 121);
-    freq.put("일요", 87);
-    freq.put("스템은", 65);
-    freq.put("본거지", 83);
-    freq.put("머스", 152);
-    freq.put("티움", 195);
-    freq.put("스과 ", 57);
-    freq.put("동구 ", 190);
-    freq.put("손자이", 109);
-    freq.put("처에", 159);
-    freq.put("념에", 64);
-    freq.put("밤", 208);
-    freq.put(" 때부", 83);
-    freq.put("력은 ", 109);
-    freq.put("출시", 497);
-    freq.put(" 투", 1343);
-    freq.put(" 툴", 85);
-    freq.put("카가", 116);
-    freq.put("면적", 2044);
-    freq.put("네갈", 68);
-    freq.put("렘 ", 99);
-    freq.put("행된다", 79);
-    freq.put("정책에", 70);
-    freq.put("상태 ", 130);
-    freq.put("작업 ", 64);
-    freq.put("웹 ", 348);
-    freq.put("어는", 597);
-    freq.put(" 연호", 83);
-    freq.put(" 문명", 202);
-    freq.put(" 티", 587);
-    freq.put("래의 ", 272);
-    freq.put(" 틀", 69);
-    freq.put("일에", 2143);
-    freq.put("에너지", 555);
-    freq.put("앨범", 671);
-    freq.put(" 중력", 134);
-    freq.put("카고", 81);
-    freq.put("일어", 991);
-    freq.put("인류학", 75);
-    freq.put("료", 2691);
-    freq.put("일원으", 71);
-    freq.put(" 트", 1409);
-    freq.put(" 특", 3708);
-    freq.put(" 추가", 264);
-    freq.put(" 튀", 144);
-    freq.put("한계", 93);
-    freq.put("부에서", 328);
-    freq.put("보장하", 64);
-    freq.put("티오", 173);
-    freq.put("깊은 ", 79);
-    freq.put("화체육", 1124);
-    freq.put(" 튜", 103);
-    freq.put("르다 ", 174);
-    freq.put(" 예측", 113);
-    freq.put(" 계열", 315);
-    freq.put(" 퍼", 552);
-    freq.put("로가 ", 240);
-    freq.put("관차", 147);
-    freq.put(" 년을", 99);
-    freq.put(" 중립", 59);
-    freq.put("관찰", 160);
-    freq.put(" 하늘", 148);
-    freq.put(" 년의", 255);
-    freq.put(" 구미", 71);
-    freq.put("방해양", 72);
-    freq.put(" 패", 1010);
-    freq.put(" 팩", 61);
-    freq.put(" 팬", 166);
-    freq.put(" 둘째", 114);
-    freq.put(" 팽", 80);
-    freq.put(" 팀", 912);
-    freq.put("산하고", 57);
-    freq.put("주이다", 406);
-    freq.put("롤플레", 72);
-    freq.put("노프", 93);
-    freq.put(" 판", 1566);
-    freq.put(" 팔", 592);
-    freq.put(" 빠르", 144);
-    freq.put(" 빠른", 99);
-    freq.put("르 ", 2357);
-    freq.put(" 팝", 144);
-    freq.put(" 필름", 96);
-    freq.put("티의", 76);
-    freq.put(" 포", 4550);
-    freq.put(" 폭", 878);
-    freq.put(" 폰", 261);
-    freq.put(" 대통", 1037);
-    freq.put(" 마하", 64);
-    freq.put("하는데", 508);
-    freq.put("탄생하", 60);
-    freq.put(" 평", 2091);
-    freq.put(" 폐", 695);
-    freq.put(" 추구", 126);
-    freq.put("선택", 248);
-    freq.put("영상을", 69);
-    freq.put(" 펠", 137);
-    freq.put("저기압", 67);
-    freq.put(" 광학", 73);
-    freq.put(" 군주", 331);
-    freq.put(" 편", 1366);
-    freq.put(" 펼", 268);
-    freq.put(" 펀", 62);
-    freq.put(" 펄", 70);
-    freq.put("평등", 101);
-    freq.put("여섯", 133);
-    freq.put(" 펌", 73);
-    freq.put("최되었", 107);
-    freq.put(" 펑", 85);
-    freq.put("여성", 713);
-    freq.put(" 페", 1515);
-    freq.put("치와 ", 115);
-    freq.put(" 펜", 287);
-    freq.put(" 마틴", 63);
-    freq.put(" 푸", 531);
-    freq.put(" 두번", 84);
-    freq.put("쟁으로", 65);
-    freq.put("문화재", 744);
-    freq.put("大亞", 171);
-    freq.put("三亞 ", 422);
-    freq.put(" 대형", 216);
-    freq.put("정권 ", 76);
-    freq.put("혼", 1062);
-    freq.put(" 표", 2914);
-    freq.put("제나 ", 71);
-    freq.put("미토", 66);
-    freq.put(" 등장", 882);
-    freq.put(" 계승", 325);
-    freq.put("부와 ", 386);
-    freq.put(" 대화", 129);
-    freq.put(" 등이", 930);
-    freq.put(" 퓨", 70);
-    freq.put("大並", 265);
-    freq.put("여왕", 122);
-    freq.put("덜란", 394);
-    freq.put("담고 ", 141);
-    freq.put(" 문법", 92);
-    freq.put(" 등의", 1711);
-    freq.put("용할 ", 375);
-    freq.put("大丘", 81);
-    freq.put(" 등은", 71);
-    freq.put(" 등을", 1621);
-    freq.put("大丁", 104);
-    freq.put("위에 ", 582);
-    freq.put("총리", 508);
-    freq.put("테네그", 93);
-    freq.put("大三", 116);
-    freq.put("평동", 57);
-    freq.put("어드", 104);
-    freq.put("소셜 ", 67);
-    freq.put(" 등으", 490);
-    freq.put("자바 ", 87);
-    freq.put("노트", 95);
-    freq.put("미터", 286);
-    freq.put("라디미", 108);
-    freq.put("의한 ", 415);
-    freq.put("로젝트", 389);
-    freq.put("식적으", 162);
-    freq.put(" 풀", 299);
-    freq.put("바일 ", 130);
-    freq.put(" 풋", 113);
-    freq.put(" 품", 311);
-    freq.put(" 풍", 535);
-    freq.put("표면에", 74);
-    freq.put("금융기", 75);
-    freq.put("〉 ", 274);
-    freq.put("어들", 198);
-    freq.put("파크 ", 92);
-    freq.put("大之", 149);
-    freq.put("없다 ", 290);
-    freq.put(" 할", 1260);
-    freq.put("있는 ", 7557);
-    freq.put(" 핫", 66);
-    freq.put("어디", 66);
-    freq.put(" 합", 1642);
-    freq.put(" 항", 2107);
-    freq.put(" 해", 6139);
-    freq.put(" 핵", 492);
-    freq.put(" 핸", 86);
-    freq.put("학살 ", 67);
-    freq.put(" 핀", 310);
-    freq.put(" 필", 1793);
-    freq.put("넨", 74);
-    freq.put(" 예정", 308);
-    freq.put(" 하", 15057);
-    freq.put(" 학", 3148);
-    freq.put(" 한", 15848);
-    freq.put(" 예전", 119);
-    freq.put(" 서기", 255);
-    freq.put("여자", 435);
-    freq.put("록을 ", 144);
-    freq.put(" 피", 2290);
-    freq.put(" 픽", 92);
-    freq.put("영향", 799);
-    freq.put(" 프", 8266);
-    freq.put("일반 ", 275);
-    freq.put("표현하", 178);
-    freq.put(" 플", 1603);
-    freq.put("출판 ", 83);
-    freq.put("높아", 61);
-    freq.put("선형", 177);
-    freq.put("제작되", 129);
-    freq.put("라", 32052);
-    freq.put(" 헤", 908);
-    freq.put(" 헨", 184);
-    freq.put(" 헬", 298);
-    freq.put("일신", 97);
-    freq.put("영하", 577);
-    freq.put("영한", 96);
-    freq.put("노폴", 62);
-    freq.put("어떻", 123);
-    freq.put("찬 ", 123);
-    freq.put(" 허", 1093);
-    freq.put("찾는", 69);
-    freq.put(" 헌", 637);
-    freq.put("δ", 75);
-    freq.put("어떤", 681);
-    freq.put("어떠", 156);
-    freq.put(" 헝", 262);
-    freq.put("귀", 1039);
-    freq.put(" 향", 878);
-    freq.put("뿌리", 157);
-    freq.put("일스", 114);
-    freq.put(" 행렬", 75);
-    freq.put(" 논란", 122);
-    freq.put(" 했", 855);
-    freq.put(" 행", 4241);
-    freq.put("자에 ", 270);
-    freq.put(" 황", 1758);
-    freq.put("티시", 93);
-    freq.put("기술개", 69);
-    freq.put(" 서구", 220);
-    freq.put(" 등에", 874);
-    freq.put(" 홀", 264);
-    freq.put("려", 5019);
-    freq.put("복음서", 69);
-    freq.put(" 홋", 133);
-    freq.put(" 홈", 481);
-    freq.put(" 홍", 939);
-    freq.put(" 화", 2857);
-    freq.put(" 확", 1802);
-    freq.put(" 환", 1277);
-    freq.put(" 활", 2664);
-    freq.put("일성", 102);
-    freq.put("성에서", 91);
-    freq.put(" 호", 4483);
-    freq.put(" 혹", 1415);
-    freq.put(" 혼", 618);
-    freq.put(" 계산", 280);
-    freq.put(" 혁", 595);
-    freq.put(" 중복", 60);
-    freq.put(" 현", 7804);
-    freq.put("컫", 637);
-    freq.put("강에 ", 127);
-    freq.put(" 혐", 108);
-    freq.put(" 협", 1285);
-    freq.put("영을 ", 122);
-    freq.put(" 형", 3039);
-    freq.put("멸", 484);
-    freq.put(" 혜", 164);
-    freq.put(" 대표", 1228);
-    freq.put(" 중반", 138);
-    freq.put("슈", 1775);
-    freq.put("최적", 97);
-    freq.put("영화", 1822);
-    freq.put(" 마크", 121);
-    freq.put("하고 ", 9739);
-    freq.put("슈팅", 76);
-    freq.put("인물로", 179);
-    freq.put(" 후", 4257);
-    freq.put("팩", 183);
-    freq.put(" 훈", 284);
-    freq.put("생들이", 69);
-    freq.put(" 식량", 97);
-    freq.put(" 횡", 97);
-    freq.put("서술", 88);
-    freq.put(" 효", 1076);
-    freq.put(" 편의", 114);
-    freq.put("함하여", 108);
-    freq.put("래프트", 205);
-    freq.put("했다는", 112);
-    freq.put("백작 ", 70);
-    freq.put("슈퍼", 245);
-    freq.put("도네시", 218);
-    freq.put(" 회", 3401);
-    freq.put(" 획", 175);
-    freq.put("체포", 86);
-    freq.put("인들이", 149);
-    freq.put(" 편이", 112);
-    freq.put(" 흡", 176);
-    freq.put(" 흥", 265);
-    freq.put("대장 ", 64);
-    freq.put(" 희", 405);
-    freq.put(" 중부", 577);
-    freq.put(" 흰", 126);
-    freq.put(" 필라", 63);
-    freq.put("슈트", 99);
-    freq.put(" 블라", 159);
-    freq.put(" 흉", 74);
-    freq.put(" 흐", 416);
-    freq.put(" 흑", 305);
-    freq.put(" 흔", 541);
-    freq.put(" 총회", 98);
-    freq.put(" 흘", 204);
-    freq.put(" 흙", 65);
-    freq.put("웨덴의", 119);
-    freq.put("높이", 655);
-    freq.put("청북", 251);
-    freq.put("치도 ", 124);
-    freq.put(" 대항", 179);
-    freq.put("미트", 96);
-    freq.put("탕", 687);
-    freq.put("밝은", 61);
-    freq.put(" 휴", 496);
-    freq.put(" 대해", 872);
-    freq.put("어라", 65);
-    freq.put("소리를", 144);
-    freq.put("슈티", 64);
-    freq.put("국민 ", 136);
-    freq.put("어린이", 195);
-    freq.put("높은", 480);
-    freq.put("공항 ", 89);
-    freq.put(" 휘", 398);
-    freq.put(" 대하", 366);
-    freq.put(" 대한", 10310);
-    freq.put("밍", 463);
-    freq.put("겨울", 101);
-    freq.put("스만 ", 143);
-    freq.put("하드웨", 180);
-    freq.put("일생", 67);
-    freq.put("일상", 129);
-    freq.put("여야", 90);
-    freq.put("군과 ", 241);
-    freq.put("파리에", 66);
-    freq.put(" 블랙", 148);
-    freq.put("일리아", 483);
-    freq.put("게르", 135);
-    freq.put("대항하", 93);
-    freq.put("시내버", 159);
-    freq.put("셋째 ", 57);
-    freq.put(" 히", 1017);
-    freq.put(" 힌", 195);
-    freq.put(" 힐", 117);
-    freq.put("전주 ", 94);
-    freq.put(" 힘", 385);
-    freq.put(" 힙", 241);
-    freq.put("실의 ", 102);
-    freq.put(" 파악", 100);
-    freq.put("민공", 1009);
-    freq.put("정도이", 95);
-    freq.put("민과", 66);
-    freq.put("음에는", 128);
-    freq.put("받지 ", 116);
-    freq.put(" 조", 9648);
-    freq.put(" 족", 223);
-    freq.put(" 존", 1937);
-    freq.put(" 졸", 350);
-    freq.put("노카", 116);
-    freq.put("정도의", 111);
-    freq.put("투", 4120);
-    freq.put("미국과", 130);
-    freq.put("사소송", 106);
-    freq.put("영주", 89);
-    freq.put(" 젠", 66);
-    freq.put("은행", 538);
-    freq.put("관계가", 119);
-    freq.put("금융 ", 121);
-    freq.put("퓨팅 ", 60);
-    freq.put(" 저", 2089);
-    freq.put(" 적", 1958);
-    freq.put(" 전", 16035);
-    freq.put(" 젊", 120);
-    freq.put(" 절", 733);
-    freq.put(" 외 ", 86);
-    freq.put(" 점", 1342);
-    freq.put(" 접", 1777);
-    freq.put("층의", 89);
-    freq.put("입문", 63);
-    freq.put(" 서대", 93);
-    freq.put("설립허", 405);
-    freq.put(" 제", 14773);
-    freq.put("경기는", 58);
-    freq.put(" 마카", 90);
-    freq.put("종이다", 450);
-    freq.put("했다고", 109);
-    freq.put("은하", 190);
-    freq.put("키보", 78);
-    freq.put(" 주", 18427);
-    freq.put(" 죽", 642);
-    freq.put(" 마치", 120);
-    freq.put(" 죄", 242);
-    freq.put(" 과거", 399);
-    freq.put("영조", 63);
-    freq.put("알렉산", 236);
-    freq.put("음을 ", 323);
-    freq.put("도자로", 59);
-    freq.put("대회를", 64);
-    freq.put(" 좀", 85);
-    freq.put(" 좁", 161);
-    freq.put(" 종", 5121);
-    freq.put("설립하", 135);
-    freq.put(" 좋", 260);
-    freq.put("세기 ", 1033);
-    freq.put("설립한", 221);
-    freq.put(" 좌", 466);
-    freq.put("민간", 303);
-    freq.put("족들", 119);
-    freq.put("장소에", 66);
-    freq.put("하라 ", 165);
-    freq.put("클럽 ", 144);
-    freq.put("영지", 83);
-    freq.put("관현", 159);
-    freq.put("찾기", 70);
-    freq.put("육의 ", 116);
-    freq.put("딘", 221);
-    freq.put("인구 ", 628);
-    freq.put("룬다", 192);
-    freq.put(" 연출", 58);
-    freq.put(" 쥐", 90);
-    freq.put("《스", 59);
-    freq.put(" 브라", 642);
-    freq.put("수업", 92);
-    freq.put(" 준", 801);
-    freq.put(" 줄", 1147);
-    freq.put("수엘", 64);
-    freq.put("최종", 194);
-    freq.put("처리하", 131);
-    freq.put(" 짧", 228);
-    freq.put("면에 ", 269);
-    freq.put("노쿠", 69);
-    freq.put("속으로", 235);
-    freq.put("사무관", 181);
-    freq.put("민국", 7568);
-    freq.put(" 추락", 80);
-    freq.put(" 직", 1757);
-    freq.put("옥", 684);
-    freq.put(" 진", 3320);
-    freq.put("러해살", 77);
-    freq.put(" 질", 809);
-    freq.put("같다 ", 114);
-    freq.put(" 짓", 61);
-    freq.put(" 짐", 132);
-    freq.put(" 집", 1925);
-    freq.put(" 징", 255);
-    freq.put(" 짜", 63);
-    freq.put(" 표면", 218);
-    freq.put("인리", 94);
-    freq.put("모로 ", 86);
-    freq.put("경기도", 912);
-    freq.put(" 기호", 241);
-    freq.put(" 브랜", 223);
-    freq.put("쇠", 250);
-    freq.put(" 즉", 844);
-    freq.put(" 즐", 195);
-    freq.put("대회로", 103);
-    freq.put(" 증", 1529);
-    freq.put(" 전 ", 1060);
-    freq.put("호르몬", 66);
-    freq.put(" 대전", 1030);
-    freq.put("요구하", 87);
-    freq.put(" 파이", 306);
-    freq.put(" 파일", 459);
-    freq.put("체코", 190);
-    freq.put("함은 ", 90);
-    freq.put("제공항", 114);
-    freq.put(" 대조", 67);
-    freq.put("명되었", 154);
-    freq.put("인먼", 269);
-    freq.put("됐으며", 61);
-    freq.put("북쪽 ", 122);
-    freq.put("관하", 360);
-    freq.put("관한", 1484);
-    freq.put("관할", 563);
-    freq.put("日", 322);
-    freq.put("택되었", 69);
-    freq.put("평군", 70);
-    freq.put("평구", 64);
-    freq.put("관해", 84);
-    freq.put("제공하", 545);
-    freq.put("제공한", 140);
-    freq.put("카드", 366);
-    freq.put("는 ", 115688);
-    freq.put("선진", 160);
-    freq.put("참조 ", 61);
-    freq.put("미코", 72);
-    freq.put("로어 ", 69);
-    freq.put("도체 ", 99);
-    freq.put("유사", 363);
-    freq.put("범은 ", 63);
-    freq.put(" 대주", 65);
-    freq.put(" 파장", 70);
-    freq.put("인명", 89);
-    freq.put("끝에 ", 190);
-    freq.put("널리 ", 525);
-    freq.put("평균", 190);
-    freq.put(" 태평", 280);
-    freq.put(" 회계", 74);
-    freq.put("선조", 162);
-    freq.put("평가", 559);
-    freq.put("바 ", 1223);
-    freq.put("《삼", 93);
-    freq.put("자체 ", 74);
-    freq.put("《사", 79);
-    freq.put(" 대중", 469);
-    freq.put("자이자", 420);
-    freq.put("합중국", 79);
-    freq.put("인문", 93);
-    freq.put("인물", 819);
-    freq.put("선전", 130);
-    freq.put("입력", 182);
-    freq.put(" 로드", 134);
-    freq.put("분자 ", 68);
-    freq.put("사람들", 653);
-    freq.put("햄", 124);
-    freq.put(" 유비", 58);
-    freq.put(" 파워", 88);
-    freq.put("추", 3536);
-    freq.put("뉴질", 239);
-    freq.put("당하였", 79);
-    freq.put("미카", 113);
-    freq.put("스피드", 93);
-    freq.put("미치", 144);
-    freq.put("트인 ", 57);
-    freq.put(" 서남", 105);
-    freq.put(" 대지", 68);
-    freq.put("선종", 75);
-    freq.put("쿨", 196);
-    freq.put("노출", 59);
-    freq.put(" 파울", 70);
-    freq.put("주광역", 200);
-    freq.put("전용 ", 96);
-    freq.put("어간", 77);
-    freq.put(" 건강", 182);
-    freq.put("어가", 540);
-    freq.put("량으", 84);
-    freq.put(" 채", 1344);
-    freq.put(" 책", 837);
-    freq.put("미지", 217);
-    freq.put("통계 ", 83);
-    freq.put(" 챔", 308);
-    freq.put("검색 ", 91);
-    freq.put("란트", 70);
-    freq.put("량의", 196);
-    freq.put("함수 ", 148);
-    freq.put("든다", 93);
-    freq.put(" 차", 4515);
-    freq.put(" 착", 270);
-    freq.put(" 찬", 190);
-    freq.put(" 연주", 271);
-    freq.put(" 찰", 178);
-    freq.put("량은", 105);
-    freq.put(" 참", 2071);
-    freq.put(" 찾", 380);
-    freq.put("량을", 270);
-    freq.put(" 창", 2458);
-    freq.put("사적 ", 294);
-    freq.put("량이", 250);
-    freq.put("형에 ", 66);
-    freq.put(" 찍", 69);
-    freq.put(" 로도", 98);
-    freq.put("풀", 607);
-    freq.put("경상남", 479);
-    freq.put("작품으", 141);
-    freq.put("광", 6130);
-    freq.put("카니", 70);
-    freq.put("오스만", 137);
-    freq.put("인보", 77);
-    freq.put("받기", 77);
-    freq.put("티의 ", 76);
-    freq.put("민지 ", 138);
-    freq.put(" 철", 1617);
-    freq.put(" 목록", 249);
-    freq.put("작품이", 311);
-    freq.put(" 첫", 1002);
-    freq.put(" 첨", 172);
-    freq.put(" 청", 1846);
-    freq.put("말리아", 59);
-    freq.put(" 체", 2408);
-    freq.put("실", 7842);
-    freq.put("나오 ", 65);
-    freq.put("작품의", 71);
-    freq.put("더불어", 242);
-    freq.put("작품은", 98);
-    freq.put(" 야스", 61);
-    freq.put("작품을", 152);
-    freq.put(" 처", 2216);
-    freq.put(" 척", 276);
-    freq.put(" 천", 2298);
-    freq.put("체제", 657);
-    freq.put("컴파일", 63);
-    freq.put("법의 ", 384);
-    freq.put("넘", 422);
-    freq.put("체적", 348);
-    freq.put(" 출간", 122);
-    freq.put("카데", 164);
-    freq.put("네덜", 393);
-    freq.put("은행 ", 219);
-    freq.put("세", 16513);
-    freq.put(" 최", 3844);
-    freq.put("당한다", 198);
-    freq.put(" 구리", 102);
-    freq.put("였을", 67);
-    freq.put(" 촬", 156);
-    freq.put("처에서", 63);
-    freq.put(" 초", 3045);
-    freq.put(" 촉", 322);
-    freq.put(" 촌", 94);
-    freq.put("수학적", 106);
-    freq.put("뜻을 ", 186);
-    freq.put("구리", 185);
-    freq.put(" 총", 2665);
-    freq.put("눅", 106);
-    freq.put(" 나와", 88);
-    freq.put(" 취", 867);
-    freq.put("어권", 118);
-    freq.put(" 파생", 136);
-    freq.put(" 유로", 181);
-    freq.put(" 태풍", 365);
-    freq.put(" 군사", 494);
-    freq.put("퓨터의", 102);
-    freq.put("전》 ", 217);
-    freq.put(" 춤", 75);
-    freq.put(" 충", 1498);
-    freq.put("우구스", 84);
-    freq.put("블로그", 77);
-    freq.put("엠", 137);
-    freq.put(" 사무", 2313);
-    freq.put(" 액체", 118);
-    freq.put(" 추", 2201);
-    freq.put(" 축", 1679);
-    freq.put(" 춘", 234);
-    freq.put("본식 ", 161);
-    freq.put("독교 ", 326);
-    freq.put(" 칠", 288);
-    freq.put(" 마주", 96);
-    freq.put(" 침", 590);
-    freq.put(" 칩", 93);
-    freq.put("기자", 720);
-    freq.put(" 칭", 340);
-    freq.put(" 카", 3225);
-    freq.put(" 칸", 291);
-    freq.put(" 칼", 602);
-    freq.put("백화", 66);
-    freq.put(" 치", 1335);
-    freq.put(" 친", 965);
-    freq.put(" 측", 539);
-    freq.put("대중 ", 103);
-    freq.put(" 층", 841);
-    freq.put("작품에", 75);
-    freq.put("우즈베", 76);
-    freq.put(" 광주", 506);
-    freq.put("받고", 279);
-    freq.put("선총", 96);
-    freq.put(" 커", 696);
-    freq.put(" 야생", 70);
-    freq.put("스트이", 111);
-    freq.put(" 컬", 177);
-    freq.put("하우스", 121);
-    freq.put("터가 ", 163);
-    freq.put(" 컴", 1913);
-    freq.put(" 대체", 348);
-    freq.put("술인", 130);
-    freq.put("요 ", 955);
-    freq.put("스트의", 82);
-    freq.put("전히 ", 176);
-    freq.put(" 캠", 159);
-    freq.put(" 캡", 60);
-    freq.put("카나", 127);
-    freq.put("량에", 67);
-    freq.put(" 면역", 63);
-    freq.put("크바 ", 154);
-    freq.put("《아", 100);
-    freq.put(" 캄", 163);
-    freq.put("널드 ", 60);
-    freq.put("항", 4366);
-    freq.put(" 면에", 75);
-    freq.put("톱 ", 100);
-    freq.put(" 캐", 1108);
-    freq.put("세르비", 167);
-    freq.put(" 캔", 83);
-    freq.put(" 캘", 285);
-    freq.put("선출", 248);
-    freq.put(" 유물", 109);
-    freq.put("악을 ", 149);
-    freq.put(" 콤", 104);
-    freq.put(" 콩", 260);
-    freq.put("란토", 57);
-    freq.put(" 코", 2601);
-    freq.put(" 콘", 727);
-    freq.put(" 마지", 456);
-    freq.put(" 콜", 444);
-    freq.put("소에서", 153);
-    freq.put("폴레옹", 142);
-    freq.put("퓨터에", 131);
-    freq.put("고래", 67);
-    freq.put(" 내 ", 198);
-    freq.put(" 케", 706);
-    freq.put(" 태화", 59);
-    freq.put(" 켄", 86);
-    freq.put(" 켈", 106);
-    freq.put("르", 15981);
-    freq.put("시로 ", 1233);
-    freq.put("민공화", 988);
-    freq.put(" 쿠", 694);
-    freq.put(" 쿨", 64);
-    freq.put("지어졌", 61);
-    freq.put("면허", 59);
-    freq.put("압력", 96);
-    freq.put("토스 ", 122);
-    freq.put(" 쿼", 94);
-    freq.put("왕과 ", 60);
-    freq.put("주이며", 69);
-    freq.put("丘丘 ", 120);
-    freq.put("입법", 132);
-    freq.put(" 총칭", 263);
-    freq.put("교의 ", 1022);
-    freq.put("스카르", 62);
-    freq.put(" 파스", 91);
-    freq.put("결과 ", 148);
-    freq.put(" 쾌", 61);
-    freq.put("바른 ", 114);
-    freq.put(" 합격", 78);
-    freq.put("영상", 486);
-    freq.put(" 샌프", 82);
-    freq.put("애나 ", 67);
-    freq.put("총괄", 131);
-    freq.put(" 액션", 106);
-    freq.put("일이 ", 179);
-    freq.put("터는 ", 441);
-    freq.put("황후 ", 99);
-    freq.put("미에", 254);
-    freq.put(" 대수", 150);
-    freq.put("도비", 86);
-    freq.put("말하며", 226);
-    freq.put("붕괴", 176);
-    freq.put(" 마우", 75);
-    freq.put("제조 ", 126);
-    freq.put("다를 ", 70);
-    freq.put("미어", 138);
-    freq.put("노예", 123);
-    freq.put("미얀", 97);
-    freq.put("영사", 61);
-    freq.put("혼동", 64);
-    freq.put("운송", 99);
-    freq.put("업을 ", 671);
-    freq.put("사하는", 206);
-    freq.put(" 샤", 410);
-    freq.put("스템에", 108);
-    freq.put(" 총선", 154);
-    freq.put("미야", 182);
-    freq.put(" 대승", 78);
-    freq.put("수학에", 150);
-    freq.put(" 상", 6949);
-    freq.put(" 새", 1434);
-    freq.put(" 색", 449);
-    freq.put("미아", 149);
-    freq.put(" 약 ", 1207);
-    freq.put(" 샘", 83);
-    freq.put("리소 ", 81);
-    freq.put(" 생", 4620);
-    freq.put("액 ", 125);
-    freq.put(" 대신", 337);
-    freq.put("조합 ", 90);
-    freq.put("인류의", 69);
-    freq.put("츠와", 84);
-    freq.put("체에", 420);
-    freq.put(" 삭", 82);
-    freq.put(" 산", 3915);
-    freq.put(" 삶", 242);
-    freq.put(" 살", 1329);
-    freq.put(" 삼", 1735);
-    freq.put(" 마오", 62);
-    freq.put("커", 1445);
-    freq.put("라톤", 92);
-    freq.put(" 캐릭", 178);
-    freq.put("亂丁 ", 125);
-    freq.put("뉴스", 481);
-    freq.put(" 별자", 112);
-    freq.put("내용의", 62);
-    freq.put("라토", 75);
-    freq.put("많고", 58);
-    freq.put("었고 ", 892);
-    freq.put("노인", 60);
-    freq.put("내용을", 238);
-    freq.put(" 셸", 66);
-    freq.put("내용은", 87);
-    freq.put("노이", 170);
-    freq.put(" 셀", 192);
-    freq.put("청에 ", 72);
-    freq.put("내용이", 162);
-    freq.put(" 셋", 131);
-    freq.put("일환", 97);
-    freq.put("장군", 389);
-    freq.put("노의", 75);
-    freq.put(" 광장", 76);
-    freq.put("기본적", 189);
-    freq.put("슷한", 239);
-    freq.put("о", 480);
-    freq.put("성장 ", 64);
-    freq.put("집트 ", 224);
-    freq.put(" 설", 6591);
-    freq.put(" 섬", 1862);
-    freq.put(" 섭", 109);
-    freq.put("말 ", 452);
-    freq.put(" 성", 6301);
-    freq.put(" 케이", 278);
-    freq.put(" 세", 12291);
-    freq.put(" 섹", 60);
-    freq.put(" 센", 729);
-    freq.put("내용으", 63);
-    freq.put("된 ", 12222);
-    freq.put("선수", 1423);
-    freq.put("판으로", 77);
-    freq.put(" 섞", 117);
-    freq.put(" 서", 10967);
-    freq.put(" 석", 713);
-    freq.put(" 쇠", 160);
-    freq.put(" 마일", 63);
-    freq.put(" 마이", 939);
-    freq.put("버지이", 112);
-    freq.put("尙", 86);
-    freq.put(" 쇼", 552);
-    freq.put("빌헬름", 85);
-    freq.put("경상북", 406);
-    freq.put("군정", 60);
-    freq.put("제하는", 65);
-    freq.put(" 마음", 145);
-    freq.put("선시", 239);
-    freq.put(" 마을", 343);
-    freq.put("럽이", 82);
-    freq.put(" 송", 804);
-    freq.put("지리적", 89);
-    freq.put(" 연애", 57);
-    freq.put("처형", 64);
-    freq.put("헬름 ", 83);
-    freq.put("럽의", 198);
-    freq.put(" 소", 11517);
-    freq.put(" 속", 3191);
-    freq.put(" 손", 892);
-    freq.put(" 솔", 307);
-    freq.put("이틀 ", 64);
-    freq.put(" 연안", 287);
-    freq.put("흑인 ", 59);
-    freq.put(" 마쓰", 270);
-    freq.put(" 쉬", 131);
-    freq.put(" 쉽", 226);
-    freq.put("갤", 95);
-    freq.put("수학의", 99);
-    freq.put("일한", 420);
-    freq.put("일하", 307);
-    freq.put(" 유러", 115);
-    freq.put(" 로부", 64);
-    freq.put(" 유럽", 1117);
-    freq.put("체육", 1359);
-    freq.put(" 술", 278);
-    freq.put("발이 ", 61);
-    freq.put("체의", 621);
-    freq.put(" 숫", 155);
-    freq.put(" 숨", 146);
-    freq.put(" 숭", 142);
-    freq.put(" 숲", 99);
-    freq.put("람이 ", 326);
-    freq.put("못하고", 66);
-    freq.put("닛", 171);
-    freq.put("세부 ", 62);
-    freq.put("산에서", 114);
-    freq.put("사도 ", 73);
-    freq.put("체인", 196);
-    freq.put("체이", 649);
-    freq.put("루어졌", 77);
-    freq.put("요리", 555);
-    freq.put("의하고", 60);
-    freq.put("번호는", 213);
-    freq.put(" 수", 15278);
-    freq.put(" 숙", 319);
-    freq.put(" 순", 1149);
-    freq.put(" 신", 6386);
-    freq.put(" 실", 3412);
-    freq.put("인다", 456);
-    freq.put(" 십", 304);
-    freq.put(" 싱", 605);
-    freq.put(" 싸", 282);
-    freq.put("미이", 133);
-    freq.put("념하", 189);
-    freq.put(" 장 ", 243);
-    freq.put(" 로봇", 182);
-    freq.put("미의", 191);
-    freq.put(" 연예", 76);
-    freq.put(" 시", 17424);
-    freq.put(" 식", 1730);
-    freq.put("드웨어", 181);
-    freq.put(" 스", 7245);
-    freq.put(" 슬", 354);
-    freq.put("이선스", 78);
-    freq.put(" 습", 160);
-    freq.put(" 승", 1448);
-    freq.put("태", 6303);
-    freq.put("수학자", 299);
-    freq.put(" 대상", 627);
-    freq.put(" 슈", 770);
-    freq.put(" 광양", 65);
-    freq.put("안에서", 172);
-    freq.put(" 써", 106);
-    freq.put("률을 ", 89);
-    freq.put(" 대성", 143);
-    freq.put(" 연장", 152);
-    freq.put(" 로베", 67);
-    freq.put("인데", 229);
-    freq.put("동조합", 172);
-    freq.put(" 썼", 110);
-    freq.put(" 연재", 197);
-    freq.put("준 ", 2588);
-    freq.put(" 서로", 499);
-    freq.put("대회는", 163);
-    freq.put("직할시", 78);
-    freq.put("드니 ", 63);
-    freq.put(" 면적", 1943);
-    freq.put(" 대서", 110);
-    freq.put("민법 ", 58);
-    freq.put("틸리", 74);
-    freq.put("업진흥", 67);
-    freq.put("럽게 ", 67);
-    freq.put("임무를", 62);
-    freq.put("미우", 66);
-    freq.put("之三 ", 666);
-    freq.put("체와", 186);
-    freq.put(" 쌀", 75);
-    freq.put("럽에", 218);
-    freq.put("국에 ", 586);
-    freq.put("경기를", 148);
-    freq.put(" 쌍", 317);
-    freq.put(" 쌓", 108);
-    freq.put("질을 ", 426);
-    freq.put("념을 ", 152);
-    freq.put(" 광역", 123);
-    freq.put(" 스키", 157);
-    freq.put("규모 ", 208);
-    freq.put("어버", 79);
-    freq.put("지속적", 117);
-    freq.put("미와", 61);
-    freq.put("인도", 1254);
-    freq.put("노에", 90);
-    freq.put("선생", 91);
-    freq.put("였지", 104);
-    freq.put("선사", 107);
-    freq.put("루어진", 357);
-    freq.put("루어지", 209);
-    freq.put(" 연산", 188);
-    freq.put("력의 ", 179);
-    freq.put("카메", 240);
-    freq.put("협정 ", 78);
-    freq.put("선이", 566);
-    freq.put("선인", 123);
-    freq.put("선은", 242);
-    freq.put("선을", 465);
-    freq.put("체성", 73);
-    freq.put("친 ", 511);
-    freq.put("선의", 737);
-    freq.put("랜드의", 362);
-    freq.put(" 대외", 65);
-    freq.put("선으", 205);
-    freq.put(" 마스", 139);
-    freq.put("할을", 489);
-    freq.put("미소", 59);
-    freq.put("내버스", 159);
-    freq.put("인되", 81);
-    freq.put(" 두고", 421);
-    freq.put(" 대왕", 88);
-    freq.put("가치를", 121);
-    freq.put("일파", 102);
-    freq.put("반대하", 127);
-    freq.put("인들", 571);
-    freq.put(" 두개", 57);
-    freq.put(" 쓰", 2084);
-    freq.put(" 대우", 121);
-    freq.put(" 쓴", 417);
-    freq.put(" 쓸", 74);
-    freq.put("시를 ", 363);
-    freq.put(" 중기", 271);
-    freq.put("또는", 7080);
-    freq.put("했을 ", 143);
-    freq.put("내는 ", 646);
-    freq.put("입을 ", 113);
-    freq.put("뉴욕", 478);
-    freq.put("노스", 368);
-    freq.put(" 후 ", 926);
-    freq.put(" 유네", 90);
-    freq.put("이후 ", 1284);
-    freq.put(" 대원", 80);
-    freq.put(" 애", 1646);
-    freq.put(" 액", 406);
-    freq.put("영업", 166);
-    freq.put(" 앤", 321);
-    freq.put(" 앨", 831);
-    freq.put("유신", 98);
-    freq.put("영에", 132);
-    freq.put(" 앵", 118);
-    freq.put(" 야", 1729);
-    freq.put(" 약", 2469);
-    freq.put(" 아", 13909);
-    freq.put(" 악", 593);
-    freq.put(" 않", 2884);
-    freq.put(" 안", 3009);
-    freq.put("미상", 126);
-    freq.put("영역", 375);
-    freq.put(" 알", 4152);
-    freq.put("회원국", 118);
-    freq.put("니스탄", 150);
-    freq.put(" 암", 698);
-    freq.put(" 압", 445);
-    freq.put(" 앙", 302);
-    freq.put(" 앞", 452);
-    freq.put(" 연속", 241);
-    freq.put("미사", 365);
-    freq.put(" 것 ", 328);
-    freq.put("표기 ", 66);
-    freq.put("영양", 129);
-    freq.put(" 유나", 92);
-    freq.put("사쿠", 75);
-    freq.put(" 대응", 233);
-    freq.put("영어", 955);
-    freq.put(" 연쇄", 64);
-    freq.put(" 서브", 58);
-    freq.put("인디", 287);
-    freq.put(" 엠", 95);
-    freq.put("범한 ", 75);
-    freq.put(" 대장", 118);
-    freq.put("〉", 601);
-    freq.put("쾌", 99);
-    freq.put(" 여", 5825);
-    freq.put(" 역", 3833);
-    freq.put(" 연", 8997);
-    freq.put("율적으", 85);
-    freq.put(" 열", 2188);
-    freq.put(" 염", 317);
-    freq.put("결과로", 66);
-    freq.put(" 없", 1907);
-    freq.put(" 엄", 237);
-    freq.put(" 업", 1023);
-    freq.put(" 기체", 135);
-    freq.put("압 ", 126);
-    freq.put(" 에", 9796);
-    freq.put(" 엑", 221);
-    freq.put("포의", 126);
-    freq.put(" 엔", 883);
-    freq.put(" 엘", 468);
-    freq.put(" 나이", 323);
-    freq.put("위해 ", 2768);
-    freq.put("조지아", 231);
-    freq.put("율적인", 84);
-    freq.put("북아프", 61);
-    freq.put(" 어", 3828);
-    freq.put(" 억", 453);
-    freq.put(" 얻", 540);
-    freq.put(" 언", 2186);
-    freq.put(" 얼", 375);
-    freq.put("비스타", 71);
-    freq.put(" 얇", 61);
-    freq.put(" 몽골", 174);
-    freq.put(" 양", 2789);
-    freq.put("미한다", 599);
-    freq.put("카로", 94);
-    freq.put("영웅", 130);
-    freq.put(" 유도", 157);
-    freq.put(" 총장", 96);
-    freq.put(" 丹之", 113);
-    freq.put("밝혀", 97);
-    freq.put(" 외", 2265);
-    freq.put(" 브로", 98);
-    freq.put("자루", 62);
-    freq.put(" 왼", 84);
-    freq.put(" 광산", 108);
-    freq.put(" 와", 1869);
-    freq.put("면의", 154);
-    freq.put(" 완", 998);
-    freq.put("있지 ", 161);
-    freq.put("퀴", 217);
-    freq.put(" 왔", 270);
-    freq.put(" 왕", 3468);
-    freq.put("청과", 62);
-    freq.put(" 왜", 181);
-    freq.put(" 오", 7708);
-    freq.put(" 옥", 336);
-    freq.put(" 온", 1154);
-    freq.put(" 마산", 139);
-    freq.put(" 옮", 203);
-    freq.put(" 올", 1715);
-    freq.put(" 브레", 111);
-    freq.put(" 산 ", 314);
-    freq.put(" 옷", 75);
-    freq.put(" 옵", 60);
-    freq.put(" 옹", 146);
-    freq.put("크기가", 57);
-    freq.put(" 였", 167);
-    freq.put(" 영", 8578);
-    freq.put(" 옆", 106);
-    freq.put("선형 ", 74);
-    freq.put(" 예", 3334);
-    freq.put("지하 ", 71);
-    freq.put("세청 ", 72);
-    freq.put("포인", 100);
-    freq.put(" 옛", 404);
-    freq.put("니 ", 1434);
-    freq.put(" 로마", 1229);
-    freq.put(" 웨", 474);
-    freq.put(" 웰", 69);
-    freq.put(" 중간", 217);
-    freq.put(" 웹", 637);
-    freq.put("이이다", 59);
-    freq.put(" 움", 282);
-    freq.put("상적 ", 74);
-    freq.put("구지방", 63);
-    freq.put(" 웅", 75);
-    freq.put("·정", 112);
-    freq.put(" 워", 458);
-    freq.put(" 브루", 131);
-    freq.put(" 원", 4962);
-    freq.put("란시스", 115);
-    freq.put(" 월", 24581);
-    freq.put("侶", 558);
-    freq.put("구하여", 62);
-    freq.put("헌법에", 75);
-    freq.put(" 유대", 297);
-    freq.put("노사", 86);
-    freq.put("플로리", 82);
-    freq.put(" 용", 2153);
-    freq.put("현으로", 89);
-    freq.put(" 우", 4532);
-    freq.put("유니온", 66);
-    freq.put(" 운", 3277);
-    freq.put(" 울", 664);
-    freq.put("키아 ", 114);
-    freq.put("자력 ", 84);
-    freq.put("관할하", 116);
-    freq.put("박스 ", 90);
-    freq.put("선양", 152);
-    freq.put(" 요", 2831);
-    freq.put(" 서부", 519);
-    freq.put("바이 ", 61);
-    freq.put("약", 5189);
-    freq.put("칭이다", 298);
-    freq.put(" 파크", 139);
-    freq.put(" 유닉", 93);
-    freq.put("자료를", 144);
-    freq.put("만이 ", 196);
-    freq.put(" 이", 43056);
-    freq.put(" 익", 323);
-    freq.put(" 인", 14925);
-    freq.put(" 일", 35680);
-    freq.put(" 읽", 214);
-    freq.put(" 丘之", 178);
-    freq.put("카를", 321);
-    freq.put(" 을", 2254);
-    freq.put("족문", 173);
-    freq.put("倉丘 ", 68);
-    freq.put("웅 ", 112);
-    freq.put(" 음", 3514);
-    freq.put("이던 ", 135);
-    freq.put(" 丘乙", 71);
-    freq.put(" 응", 652);
-    freq.put("미시", 173);
-    freq.put(" 의", 13217);
-    freq.put("람들", 653);
-    freq.put(" 육", 1054);
-    freq.put(" 윤", 588);
-    freq.put("표현이", 66);
-    freq.put(" 율", 199);
-    freq.put(" 같다", 128);
-    freq.put(" 丘並", 131);
-    freq.put("미스", 278);
-    freq.put("니스트", 163);
-    freq.put("영자", 87);
-    freq.put("아서 ", 221);
-    freq.put("입되", 233);
-    freq.put("황제 ", 355);
-    freq.put(" 융", 126);
-    freq.put(" 계통", 136);
-    freq.put(" 으", 1482);
-    freq.put(" 丘三", 312);
-    freq.put("영장", 73);
-    freq.put(" 위", 16296);
-    freq.put(" 윈", 737);
-    freq.put(" 대안", 79);
-    freq.put(" 윌", 374);
-    freq.put(" 丘丘", 138);
-    freq.put(" 초에", 92);
-    freq.put("영을", 122);
-    freq.put("중간 ", 77);
-    freq.put("자력", 167);
-    freq.put("고려대", 68);
-    freq.put("기술부", 292);
-    freq.put("솔", 474);
-    freq.put("카마", 74);
-    freq.put("영의", 146);
-    freq.put("여한", 139);
-    freq.put("밝히", 70);
-    freq.put("여하", 917);
-    freq.put("両", 683);
-    freq.put("따른 ", 260);
-    freq.put("네마", 59);
-    freq.put("청구", 177);
-    freq.put("여함", 202);
-    freq.put("영이", 82);
-    freq.put("체스", 170);
-    freq.put(" 로렌", 78);
-    freq.put(" 잠", 484);
-    freq.put(" 잡", 554);
-    freq.put(" 장", 5226);
-    freq.put("돈", 384);
-    freq.put("미술", 456);
-    freq.put(" 재", 4073);
-    freq.put(" 잭", 118);
-    freq.put("리코 ", 60);
-    freq.put("공회 ", 118);
-    freq.put(" 丹丘", 70);
-    freq.put(" 잇", 347);
-    freq.put(" 임", 1668);
-    freq.put(" 입", 1910);
-    freq.put(" 있", 30440);
-    freq.put(" 잉", 461);
-    freq.put(" 잎", 227);
-    freq.put("의하", 736);
-    freq.put("카리", 164);
-    freq.put(" 작", 5027);
-    freq.put(" 잔", 258);
-    freq.put(" 잘", 752);
-    freq.put("표한 ", 280);
-    freq.put(" 중구", 353);
-    freq.put("설계", 483);
-    freq.put("상한 ", 61);
-    freq.put("입", 4066);
-    freq.put("눌", 108);
-    freq.put("위가", 175);
-    freq.put("충격", 69);
-    freq.put("공통", 193);
-    freq.put("회는 ", 1632);
-    freq.put("냈으며", 111);
-    freq.put("문제 ", 176);
-    freq.put("혹은 ", 1399);
-    freq.put(" 의미", 1870);
-    freq.put(" 아제", 99);
-    freq.put("구성", 2022);
-    freq.put(" 상표", 91);
-    freq.put("역이다", 379);
-    freq.put("데시 ", 86);
-    freq.put(" 아주", 105);
-    freq.put("구현하", 65);
-    freq.put(" 의무", 187);
-    freq.put(" 상품", 255);
-    freq.put("د", 84);
-    freq.put("죄를 ", 91);
-    freq.put("함하는", 169);
-    freq.put(" 진압", 74);
-    freq.put("구소", 547);
-    freq.put("구속", 114);
-    freq.put("격에 ", 63);
-    freq.put("라에 ", 165);
-    freq.put("버로", 72);
-    freq.put("주로 ", 2407);
-    freq.put(" 채권", 172);
-    freq.put("않을 ", 58);
-    freq.put("컴", 2082);
-    freq.put("위공", 239);
-    freq.put(" 후계", 64);
-    freq.put(" 더욱", 100);
-    freq.put(" 르네", 101);
-    freq.put("버리", 89);
-    freq.put("목표로", 175);
-    freq.put("최고의", 169);
-    freq.put("산으", 200);
-    freq.put("이를테", 61);
-    freq.put(" 호세", 57);
-    freq.put("키에", 115);
-    freq.put("고쿠", 186);
-    freq.put(" 예산", 87);
-    freq.put("노스 ", 128);
-    freq.put("산의", 351);
-    freq.put("차가 ", 177);
-    freq.put("산은", 127);
-    freq.put("산을", 359);
-    freq.put("애를", 72);
-    freq.put("위구", 57);
-    freq.put("산이", 328);
-    freq.put("산인", 85);
-    freq.put(" 순위", 121);
-    freq.put(" 상하", 185);
-    freq.put("연결하", 272);
-    freq.put("산자", 217);
-    freq.put("권력을", 67);
-    freq.put("인근", 202);
-    freq.put("구상", 120);
-    freq.put("문》 ", 124);
-    freq.put("룬", 460);
-    freq.put("롯한 ", 236);
-    freq.put("용차", 86);
-    freq.put("국과 ", 645);
-    freq.put(" 주년", 103);
-    freq.put("버스는", 71);
-    freq.put("ī", 75);
-    freq.put(" 아직", 134);
-    freq.put("층", 1482);
-    freq.put("산재", 60);
-    freq.put("구광역", 218);
-    freq.put("되자", 92);
-    freq.put("계대전", 148);
-    freq.put(" 경기", 2030);
-    freq.put(" 아즈", 91);
-    freq.put("구사", 107);
-    freq.put(" 편찬", 115);
-    freq.put("서태평", 66);
-    freq.put("수도는", 71);
-    freq.put("에게", 2384);
-    freq.put("바", 9518);
-    freq.put("고체", 92);
-    freq.put(" 상호", 668);
-    freq.put(" 주니", 71);
-    freq.put(" 단편", 179);
-    freq.put(" 맞는", 58);
-    freq.put("비주얼", 58);
-    freq.put("외의", 195);
-    freq.put("남아프", 161);
-    freq.put("킷", 112);
-    freq.put("위기", 195);
-    freq.put(" 형태", 1027);
-    freq.put(" 주는", 346);
-    freq.put(" 맞닿", 106);
-    freq.put("么", 100);
-    freq.put("자치단", 144);
-    freq.put("어로는", 135);
-    freq.put(" 동성", 75);
-    freq.put("래는", 286);
-    freq.put("매니", 102);
-    freq.put("빨", 181);
-    freq.put(" 진입", 80);
-    freq.put("공포", 158);
-    freq.put(" 재정", 153);
-    freq.put(" 동서", 118);
-    freq.put("전인 ", 79);
-    freq.put(" 없고", 94);
-    freq.put("키와", 61);
-    freq.put("야에 ", 151);
-    freq.put("프로 ", 559);
-    freq.put("쓰 ", 219);
-    freq.put(" 뉴질", 235);
-    freq.put("친위", 80);
-    freq.put("직전", 64);
-    freq.put(" 경계", 464);
-    freq.put(" 주도", 1756);
-    freq.put("수원시", 104);
-    freq.put("드리히", 131);
-    freq.put("트로이", 97);
-    freq.put(" 헨리", 126);
-    freq.put("품의약", 58);
-    freq.put("웨이의", 60);
-    freq.put("평가하", 59);
-    freq.put("산악", 97);
-    freq.put(" 의료", 229);
-    freq.put("치인 ", 144);
-    freq.put("명하며", 58);
-    freq.put("자치도", 165);
-    freq.put(" 시위", 129);
-    freq.put("우체국", 67);
-    freq.put("였다 ", 5818);
-    freq.put("丁之三", 108);
-    freq.put("하나 ", 294);
-    freq.put("젝트 ", 155);
-    freq.put("싱가포", 89);
-    freq.put("구시", 81);
-    freq.put(" 날짜", 60);
-    freq.put(" 재직", 117);
-    freq.put("따 ", 83);
-    freq.put(" 동생", 173);
-    freq.put("키의", 171);
-    freq.put(" 맞대", 170);
-    freq.put("丁之並", 120);
-    freq.put("산에", 325);
-    freq.put("丁之之", 73);
-    freq.put("거쳐 ", 338);
-    freq.put("산업", 1568);
-    freq.put("메니아", 86);
-    freq.put("구스", 198);
-    freq.put(" 시작", 1908);
-    freq.put(" 재즈", 82);
-    freq.put("되어", 4394);
-    freq.put("울시 ", 92);
-    freq.put("구려 ", 72);
-    freq.put("필요로", 66);
-    freq.put("론을 ", 213);
-    freq.put(" 동인", 124);
-    freq.put(" 동일", 295);
-    freq.put("공했", 63);
-    freq.put("본과", 71);
-    freq.put(" 동이", 75);
-    freq.put("중기 ", 60);
-    freq.put(" 동의", 119);
-    freq.put("심이 ", 111);
-    freq.put("구약", 91);
-    freq.put("본격", 104);
-    freq.put("놓은 ", 145);
-    freq.put(" 말하", 595);
-    freq.put(" 말한", 3392);
-    freq.put("공헌", 123);
-    freq.put(" 허용", 108);
-    freq.put("기관에", 108);
-    freq.put("전체를", 82);
-    freq.put(" 속의", 125);
-    freq.put(" 말해", 112);
-    freq.put("령관", 126);
-    freq.put(" 별명", 121);
-    freq.put(" 동위", 64);
-    freq.put(" 순수", 111);
-    freq.put(" 속이", 74);
-    freq.put("각종 ", 375);
-    freq.put("역과", 296);
-    freq.put("구소 ", 210);
-    freq.put("서와", 99);
-    freq.put("덴마", 200);
-    freq.put("하지만", 557);
-    freq.put("본거", 86);
-    freq.put("업용", 63);
-    freq.put("구역", 938);
-    freq.put("매된", 213);
-    freq.put("매되", 436);
-    freq.put("구나 ", 75);
-    freq.put("단법인", 2067);
-    freq.put("공한", 214);
-    freq.put("으면", 282);
-    freq.put("공학", 446);
-    freq.put("공하", 712);
-    freq.put("으며", 8023);
-    freq.put(" 행동", 333);
-    freq.put("학교의", 215);
-    freq.put("슬람교", 71);
-    freq.put("산시", 419);
-    freq.put("산식", 630);
-    freq.put("래되", 137);
-    freq.put("래된", 291);
-    freq.put("채널이", 57);
-    freq.put("학교이", 155);
-    freq.put("공해", 80);
-    freq.put("공항", 327);
-    freq.put("열차", 260);
-    freq.put(" 동작", 222);
-    freq.put("감을 ", 118);
-    freq.put(" 상태", 747);
-    freq.put(" 배열", 80);
-    freq.put(" 데 ", 719);
-    freq.put("예프", 66);
-    freq.put("퍼드 ", 93);
-    freq.put("싱어", 70);
-    freq.put("치 ", 2632);
-    freq.put(" 용어", 934);
-    freq.put("업으", 181);
-    freq.put("관성", 72);
-    freq.put("업을", 673);
-    freq.put("업은", 134);
-    freq.put("업의", 671);
-    freq.put("술문", 89);
-    freq.put("첫 ", 815);
-    freq.put("또한 ", 786);
-    freq.put(" 동영", 96);
-    freq.put("산부", 140);
-    freq.put("곱", 284);
-    freq.put("리카 ", 773);
-    freq.put("업인", 321);
-    freq.put("으므", 160);
-    freq.put("업이", 475);
-    freq.put(" 은행", 189);
-    freq.put("본국", 57);
-    freq.put("령과", 63);
-    freq.put("건축가", 79);
-    freq.put("문기", 69);
-    freq.put("이르는", 307);
-    freq.put("업자", 222);
-    freq.put("개인 ", 152);
-    freq.put("발하는", 83);
-    freq.put("품을 ", 440);
-    freq.put(" 동원", 67);
-    freq.put("무네", 57);
-    freq.put("τ", 170);
-    freq.put("학교와", 105);
-    freq.put("꼽힌", 72);
-    freq.put("호를 ", 436);
-    freq.put(" 얼굴", 67);
-    freq.put("우주 ", 186);
-    freq.put("이화", 58);
-    freq.put("험 ", 357);
-    freq.put("메가", 77);
-    freq.put(" 아침", 58);
-    freq.put("무는", 91);
-    freq.put("리위", 69);
-    freq.put("계적으", 250);
-    freq.put("브뤼", 58);
-    freq.put(" 아카", 249);
-    freq.put("구의", 1030);
-    freq.put(" 동안", 690);
-    freq.put("고종", 145);
-    freq.put("역을 ", 746);
-    freq.put(" 동아", 274);
-    freq.put("슷하", 194);
-    freq.put("구이", 427);
-    freq.put("능력 ", 85);
-    freq.put("구인", 96);
-    freq.put("학교에", 231);
-    freq.put(" 배우", 373);
-    freq.put("운동량", 60);
-    freq.put("키스", 403);
-    freq.put("브르", 78);
-    freq.put("템에서", 59);
-    freq.put("계적인", 187);
-    freq.put("북서부", 257);
-    freq.put("폴로", 79);
-    freq.put("르에 ", 62);
-    freq.put("브리", 671);
-    freq.put(" 폰 ", 187);
-    freq.put(" 상트", 68);
-    freq.put("보험자", 61);
-    freq.put(" 한정", 80);
-    freq.put("개월 ", 84);
-    freq.put("폭 ", 101);
-    freq.put("고전", 364);
-    freq.put("께 ", 1488);
-    freq.put("산광역", 497);
-    freq.put("단어는", 61);
-    freq.put("고정", 166);
-    freq.put("벼", 128);
-    freq.put("산사", 62);
-    freq.put("문구", 184);
-    freq.put("넷 ", 554);
-    freq.put("마누엘", 65);
-    freq.put("고조", 104);
-    freq.put(" 속에", 242);
-    freq.put("구자", 155);
-    freq.put("회의 ", 1094);
-    freq.put("모두 ", 601);
-    freq.put("채널", 346);
-    freq.put("구장", 488);
-    freq.put("丘並 ", 120);
-    freq.put("으로", 39730);
-    freq.put(" 증진", 256);
-    freq.put("양이 ", 144);
-    freq.put("달의 ", 59);
-    freq.put(" 동양", 311);
-    freq.put("구와", 486);
-    freq.put("육청 ", 61);
-    freq.put("인에 ", 164);
-    freq.put("공회", 208);
-    freq.put("산성", 191);
-    freq.put("의회", 639);
-    freq.put("브레", 203);
-    freq.put("보였", 72);
-    freq.put("터내셔", 76);
-    freq.put("은", 55316);
-    freq.put("레이저", 82);
-    freq.put("문과", 177);
-    freq.put("고지", 182);
-    freq.put("세계 ", 1954);
-    freq.put(" 순서", 114);
-    freq.put("소송 ", 68);
-    freq.put("멀리", 64);
-    freq.put("으며 ", 7980);
-    freq.put("폴리", 363);
-    freq.put("었을 ", 154);
-    freq.put("당", 8583);
-    freq.put("브로", 228);
-    freq.put("케도니", 118);
-    freq.put("숙종", 94);
-    freq.put("곡동 ", 69);
-    freq.put("구원", 461);
-    freq.put("알라", 103);
-    freq.put(" 《 ", 64);
-    freq.put("무대", 221);
-    freq.put(" �", 76);
-    freq.put("톤", 509);
-    freq.put("문가", 203);
-    freq.put("격적", 116);
-    freq.put("로크 ", 62);
-    freq.put("공화", 2272);
-    freq.put("브루", 161);
-    freq.put("시기 ", 87);
-    freq.put("조개", 72);
-    freq.put("업에", 293);
-    freq.put(" 용인", 92);
-    freq.put("정리로", 90);
-    freq.put("프는 ", 76);
-    freq.put("무덤", 62);
-    freq.put("업연", 100);
-    freq.put("몬테네", 93);
-    freq.put("고용", 223);
-    freq.put("옥 ", 109);
-    freq.put("규정에", 101);
-    freq.put("축구", 1084);
-    freq.put(" 해방", 139);
-    freq.put("반화", 65);
-    freq.put(" 해발", 149);
-    freq.put("격자", 62);
-    freq.put("출력 ", 84);
-    freq.put("펙트", 82);
-    freq.put("패의 ", 75);
-    freq.put(" 카이", 174);
-    freq.put("분류된", 61);
-    freq.put("브라", 793);
-    freq.put(" 열린", 474);
-    freq.put("뷔 ", 108);
-    freq.put("론", 3597);
-    freq.put("용에", 213);
-    freq.put(" 의도", 111);
-    freq.put("고원", 88);
-    freq.put(" 진출", 298);
-    freq.put("어지고", 78);
-    freq.put("亞之三", 65);
-    freq.put("스주의", 80);
-    freq.put("격으", 151);
-    freq.put("구지", 95);
-    freq.put(" 주로", 2214);
-    freq.put("래로", 202);
-    freq.put("스에 ", 397);
-    freq.put(" 황후", 99);
-    freq.put("양력 ", 94);
-    freq.put("고양이", 81);
-    freq.put("브란", 69);
-    freq.put("호가", 153);
-    freq.put("너지 ", 209);
-    freq.put("장은 ", 771);
-    freq.put(" 카자", 80);
-    freq.put("성", 22377);
-    freq.put("동맹 ", 104);
-    freq.put("휘는 ", 146);
-    freq.put("브랜", 239);
-    freq.put("수를 ", 679);
-    freq.put("알려", 1678);
-    freq.put(" 아사", 106);
-    freq.put("갖고 ", 272);
-    freq.put("이븐 ", 57);
-    freq.put("브러", 125);
-    freq.put("격이", 190);
-    freq.put("본은 ", 113);
-    freq.put(" 아산", 69);
-    freq.put("격의", 79);
-    freq.put("함께", 1510);
-    freq.put("배를 ", 124);
-    freq.put("역이며", 57);
-    freq.put("알레", 75);
-    freq.put("알렉", 317);
-    freq.put("격을", 325);
-    freq.put(" 남한", 57);
-    freq.put("무부", 172);
-    freq.put("투자 ", 68);
-    freq.put(" 한자", 374);
-    freq.put("서쪽에", 179);
-    freq.put("고있", 175);
-    freq.put(" 남해", 111);
-    freq.put("고자", 344);
-    freq.put(" 휘하", 73);
-    freq.put("구조", 960);
-    freq.put("교사 ", 69);
-    freq.put(" 병합", 69);
-    freq.put("준에 ", 58);
-    freq.put("고는", 199);
-    freq.put("워 ", 326);
-    freq.put("구적", 61);
-    freq.put("안", 8284);
-    freq.put("알리", 180);
-    freq.put("구제", 159);
-    freq.put("식", 10614);
-    freq.put("폴란", 333);
-    freq.put("·문", 85);
-    freq.put("레이오", 85);
-    freq.put("눅스", 105);
-    freq.put("영하고", 172);
-    freq.put(" 아서", 83);
-    freq.put("축가", 82);
-    freq.put("고유", 256);
-    freq.put(" 알파", 121);
-    freq.put(" 뉴스", 181);
-    freq.put("고위", 328);
-    freq.put(" 주를", 95);
-    freq.put("옵", 67);
-    freq.put("래를", 142);
-    freq.put("날 ", 645);
-    freq.put("호국", 61);
-    freq.put(" 한일", 97);
-    freq.put("까", 5090);
-    freq.put("매를", 90);
-    freq.put(" 동쪽", 939);
-    freq.put("고이", 182);
-    freq.put("이토 ", 77);
-    freq.put("고인", 82);
-    freq.put("해군 ", 184);
-    freq.put("관에 ", 201);
-    freq.put("고의", 311);
-    freq.put("개발 ", 675);
-    freq.put("항이다", 64);
-    freq.put("탕으", 335);
-    freq.put("간", 9024);
-    freq.put("몸 ", 59);
-    freq.put("업적", 191);
-    freq.put("구역 ", 205);
-    freq.put("기념하", 175);
-    freq.put("직선", 85);
-    freq.put("용자", 756);
-    freq.put("였던 ", 503);
-    freq.put("아이디", 58);
-    freq.put("이용한", 219);
-    freq.put("중인 ", 239);
-    freq.put("이용하", 540);
-    freq.put("채", 1834);
-    freq.put("당과", 113);
-    freq.put("차 ", 2442);
-    freq.put("이용해", 188);
-    freq.put("격에", 68);
-    freq.put("이용할", 86);
-    freq.put(" 주목", 103);
-    freq.put(" 좀 ", 59);
-    freq.put("용으", 300);
-    freq.put("함경", 91);
-    freq.put("암동 ", 90);
-    freq.put("높", 1411);
-    freq.put("키에 ", 57);
-    freq.put("캘", 291);
-    freq.put("희망", 76);
-    freq.put("트와 ", 207);
-    freq.put("효", 1679);
-    freq.put("조선민", 527);
-    freq.put(" 아시", 766);
-    freq.put(" 재생", 127);
-    freq.put("낼", 133);
-    freq.put("냈다", 532);
-    freq.put("용인", 137);
-    freq.put("함과", 93);
-    freq.put(" 아스", 164);
-    freq.put("용이", 398);
-    freq.put("亂三 ", 194);
-    freq.put("쇼 ", 167);
-    freq.put(" 재산", 268);
-    freq.put("교환 ", 84);
-    freq.put("용의", 233);
-    freq.put("르부르", 74);
-    freq.put(" 국회", 467);
-    freq.put(" 탑승", 57);
-    freq.put("애니", 672);
-    freq.put(" 순천", 93);
-    freq.put("우지", 75);
-    freq.put("래머", 71);
-    freq.put("레이어", 194);
-    freq.put("용은", 159);
-    freq.put("일시적", 63);
-    freq.put("용을", 584);
-    freq.put("즈는 ", 180);
-    freq.put("속을 ", 100);
-    freq.put("공하는", 288);
-    freq.put("댐", 73);
-    freq.put("반하", 117);
-    freq.put("반한", 76);
-    freq.put(" 쓰는", 224);
-    freq.put(" 주민", 210);
-    freq.put(" 황해", 115);
-    freq.put(" 뮌헨", 76);
-    freq.put("고양", 226);
-    freq.put("명인 ", 101);
-    freq.put("프스키", 67);
-    freq.put("슬란드", 102);
-    freq.put(" 동적", 58);
-    freq.put(" 동전", 120);
-    freq.put("고에", 169);
-    freq.put("려서 ", 64);
-    freq.put("도중 ", 60);
-    freq.put(" 갖추", 158);
-    freq.put(" 갖춘", 117);
-    freq.put("전쟁 ", 655);
-    freq.put("명하는", 145);
-    freq.put(" 실패", 143);
-    freq.put("란의 ", 103);
-    freq.put("서쪽은", 82);
-    freq.put("쉽게", 176);
-    freq.put("톨리아", 98);
-    freq.put("서쪽으", 883);
-    freq.put("당구", 102);
-    freq.put("업진", 68);
-    freq.put("업지", 61);
-    freq.put("하의 ", 427);
-    freq.put("명하다", 316);
-    freq.put("칙 ", 237);
-    freq.put("고안", 197);
-    freq.put(" 읽는", 58);
-    freq.put("직위", 91);
-    freq.put("고스", 110);
-    freq.put("점령", 156);
-    freq.put("브", 4958);
-    freq.put("고슬", 67);
-    freq.put("우리 ", 186);
-    freq.put("역사학", 74);
-    freq.put("·비", 57);
-    freq.put("들어졌", 219);
-    freq.put("용소", 61);
-    freq.put("연구관", 133);
-    freq.put("직으", 106);
-    freq.put("업에서", 66);
-    freq.put("직을", 212);
-    freq.put("알베", 57);
-    freq.put("버드", 123);
-    freq.put("현하", 338);
-    freq.put("직의", 93);
-    freq.put("료를 ", 341);
-    freq.put("직이", 307);
-    freq.put("럽", 1862);
-    freq.put("고시", 148);
-    freq.put("직임", 89);
-    freq.put("용성", 58);
-    freq.put("술단", 60);
-    freq.put("구분", 457);
-    freq.put("직자", 136);
-    freq.put("약자 ", 66);
-    freq.put("가리키", 646);
-    freq.put("이그", 62);
-    freq.put("무렵", 74);
-    freq.put("가리킨", 657);
-    freq.put("무력", 69);
-    freq.put("뉘어", 86);
-    freq.put("인한 ", 217);
-    freq.put("무로", 175);
-    freq.put("지고 ", 1032);
-    freq.put("래밍", 301);
-    freq.put("피언십", 167);
-    freq.put("르를", 106);
-    freq.put("속버스", 59);
-    freq.put("구축", 271);
-    freq.put("덕", 1078);
-    freq.put("단을 ", 267);
-    freq.put("장치를", 95);
-    freq.put("젊은", 111);
-    freq.put("빅토리", 101);
-    freq.put("일부터", 916);
-    freq.put("객들", 72);
-    freq.put("알바", 146);
-    freq.put("채무", 169);
-    freq.put("달러", 146);
-    freq.put("과가 ", 110);
-    freq.put("원수", 199);
-    freq.put(" 실행", 293);
-    freq.put("용산", 154);
-    freq.put("고양시", 85);
-    freq.put("열에", 85);
-    freq.put(" 진주", 131);
-    freq.put("뉘어 ", 79);
-    freq.put("작성하", 88);
-    freq.put("몬 ", 213);
-    freq.put("래했다", 68);
-    freq.put(" 법무", 126);
-    freq.put(" 왕복", 62);
-    freq.put(" 별도", 115);
-    freq.put("키지", 131);
-    freq.put("무리", 134);
-    freq.put("연구가", 59);
-    freq.put("임명되", 96);
-    freq.put("셈", 160);
-    freq.put(" 실험", 263);
-    freq.put("설을 ", 221);
-    freq.put("이가", 479);
-    freq.put("됐다 ", 189);
-    freq.put("술대", 62);
-    freq.put(" 재위", 670);
-    freq.put("섭 ", 81);
-    freq.put("외전", 91);
-    freq.put(" 배출", 120);
-    freq.put("루스 ", 303);
-    freq.put("전성", 138);
-    freq.put("발생하", 361);
-    freq.put("발생한", 413);
-    freq.put("스크바", 214);
-    freq.put(" 해리", 88);
-    freq.put("징으로", 70);
-    freq.put("레이시", 146);
-    freq.put("향을 ", 645);
-    freq.put("반포", 61);
-    freq.put(" 뉴욕", 473);
-    freq.put("이곳", 157);
-    freq.put("이고", 1474);
-    freq.put(" 국토", 265);
-    freq.put("마스터", 68);
-    freq.put("직원", 124);
-    freq.put("이게", 62);
-    freq.put("좋은", 148);
-    freq.put("이것", 484);
-    freq.put("무를", 833);
-    freq.put(" 재임", 96);
-    freq.put("무르", 110);
-    freq.put("스타크", 130);
-    freq.put("쳐 ", 1031);
-    freq.put("연", 14124);
-    freq.put("구체", 168);
-    freq.put("매한 ", 208);
-    freq.put("포의 ", 126);
-    freq.put("고사", 138);
-    freq.put("제정되", 152);
-    freq.put("제정된", 104);
-    freq.put("레이션", 267);
-    freq.put(" 법령", 81);
-    freq.put("으나", 1988);
-    freq.put("려하", 124);
-    freq.put("레 ", 617);
-    freq.put("대체로", 110);
-    freq.put("계승하", 58);
-    freq.put(" 파티", 73);
-    freq.put(" 묘호", 66);
-    freq.put("흥에 ", 88);
-    freq.put("초점을", 59);
-    freq.put("가타 ", 92);
-    freq.put("사용 ", 140);
-    freq.put("전했다", 59);
-    freq.put("용되지", 64);
-    freq.put("번역되", 60);
-    freq.put(" 실현", 162);
-    freq.put(" 성경", 194);
-    freq.put("·보", 96);
-    freq.put(" 성격", 204);
-    freq.put("업청", 73);
-    freq.put("로부스", 65);
-    freq.put("항을 ", 212);
-    freq.put(" 배치", 124);
-    freq.put("견", 1448);
-    freq.put("선출하", 127);
-    freq.put("연료", 154);
-    freq.put("업체", 378);
-    freq.put("보상", 91);
-    freq.put("파이터", 67);
-    freq.put("직업", 192);
-    freq.put(" 성공", 441);
-    freq.put("잡지 ", 125);
-    freq.put("투를 ", 79);
-    freq.put(" 성과", 102);
-    freq.put("직에", 115);
-    freq.put(" 아울", 60);
-    freq.put("冲之", 64);
-    freq.put("산주", 225);
-    freq.put("僅三", 105);
-    freq.put("연구기", 185);
-    freq.put("僅丁", 77);
-    freq.put("함마드", 68);
-    freq.put(" 아일", 388);
-    freq.put(" 아인", 68);
-    freq.put(" 아이", 1133);
-    freq.put("구치", 82);
-    freq.put("최대 ", 229);
-    freq.put("고속", 845);
-    freq.put("ن", 119);
-    freq.put("팽창", 61);
-    freq.put("흐", 924);
-    freq.put("회장 ", 94);
-    freq.put("버러", 63);
-    freq.put("이터를", 186);
-    freq.put("이기", 1185);
-    freq.put("흔히", 426);
-    freq.put("르는 ", 1003);
-    freq.put(" 법률", 682);
-    freq.put(" 알프", 80);
-    freq.put(" 한성", 74);
-    freq.put("되지", 653);
-    freq.put("방지 ", 78);
-    freq.put("고성", 119);
-    freq.put(" 왕비", 129);
-    freq.put("열을", 131);
-    freq.put("용수", 83);
-    freq.put("열이", 89);
-    freq.put(" 테르", 57);
-    freq.put("심의", 204);
-    freq.put("고서", 106);
-    freq.put("범이다", 175);
-    freq.put("산지", 293);
-    freq.put("개편되", 114);
-    freq.put(" 남편", 86);
-    freq.put("이진 ", 64);
-    freq.put("살던 ", 66);
-    freq.put(" 파트", 83);
-    freq.put(" 탑재", 107);
-    freq.put("플 ", 168);
-    freq.put("이념", 153);
-    freq.put("위반", 100);
-    freq.put("구기관", 173);
-    freq.put("화재로", 72);
-    freq.put("이노", 91);
-    freq.put(" 빛의", 72);
-    freq.put(" 순환", 84);
-    freq.put("외하", 104);
-    freq.put("해당되", 71);
-    freq.put("무지", 87);
-    freq.put("외한", 225);
-    freq.put("제리", 117);
-    freq.put("임의 ", 182);
-    freq.put("아노 ", 115);
-    freq.put(" 형식", 446);
-    freq.put("그것은", 65);
-    freq.put("지할 ", 97);
-    freq.put("산화", 189);
-    freq.put(" 리 ", 87);
-    freq.put("로구 ", 380);
-    freq.put("메리", 794);
-    freq.put("일인", 105);
-    freq.put("이너", 235);
-    freq.put("팀이다", 183);
-    freq.put(" 진행", 628);
-    freq.put("언을 ", 82);
-    freq.put("민들", 272);
-    freq.put("쇄 ", 106);
-    freq.put("이네", 70);
-    freq.put("신 ", 2121);
-    freq.put("的", 166);
-    freq.put("원과 ", 225);
-    freq.put("메르", 162);
-    freq.put(" 실제", 432);
-    freq.put(" 성능", 96);
-    freq.put("렛", 83);
-    freq.put("위법", 67);
-    freq.put("예산", 117);
-    freq.put("남아있", 64);
-    freq.put("번길 ", 62);
-    freq.put("성하는", 565);
-    freq.put(" 성당", 140);
-    freq.put("현지", 87);
-    freq.put("어트 ", 59);
-    freq.put("예상", 58);
-    freq.put("之亞 ", 205);
-    freq.put(" 의원", 243);
-    freq.put("미합중", 60);
-    freq.put("힘 ", 69);
-    freq.put(" 양주", 57);
-    freq.put("김정", 94);
-    freq.put("구별", 243);
-    freq.put("이끌", 202);
-    freq.put("도한 ", 102);
-    freq.put("일의", 940);
-    freq.put(" 트랜", 212);
-    freq.put("이끄", 118);
-    freq.put("톨릭 ", 174);
-    freq.put("영 ", 1172);
-    freq.put("대백과", 604);
-    freq.put("일을", 556);
-    freq.put("문명", 266);
-    freq.put("공사", 628);
-    freq.put("충북", 60);
-    freq.put("예선", 249);
-    freq.put("충분", 86);
-    freq.put("역사적", 299);
-    freq.put("경찰 ", 105);
-    freq.put(" 실질", 132);
-    freq.put("가대표", 141);
-    freq.put("모는 ", 61);
-    freq.put("다운 ", 138);
-    freq.put("역상으", 142);
-    freq.put("없는 ", 605);
-    freq.put("에밀", 59);
-    freq.put("돈을 ", 58);
-    freq.put("현존", 113);
-    freq.put("정부와", 65);
-    freq.put("원칙으", 57);
-    freq.put("속되어", 95);
-    freq.put("현종", 57);
-    freq.put("학기술", 709);
-    freq.put("메로", 64);
-    freq.put("싱턴", 122);
-    freq.put("안전성", 62);
-    freq.put("린", 3639);
-    freq.put("이나", 3192);
-    freq.put("완전", 346);
-    freq.put("의무를", 57);
-    freq.put("원칙이", 63);
-    freq.put("고대", 997);
-    freq.put("날로그", 71);
-    freq.put("액션 ", 92);
-    freq.put(" 상업", 212);
-    freq.put(" 성동", 57);
-    freq.put("이내", 59);
-    freq.put("드리아", 129);
-    freq.put(" 상에", 106);
-    freq.put("렸던 ", 58);
-    freq.put("속되었", 68);
-    freq.put(" 트라", 148);
-    freq.put("지막 ", 351);
-    freq.put("예수", 361);
-    freq.put("술관 ", 61);
-    freq.put("이던", 150);
-    freq.put("이더", 241);
-    freq.put("속", 9079);
-    freq.put(" 뜻은", 75);
-    freq.put("갔", 159);
-    freq.put("졸", 392);
-    freq.put("함되", 256);
-    freq.put("함된", 182);
-    freq.put("이데", 100);
-    freq.put(" 형사", 105);
-    freq.put("예술", 941);
-    freq.put("구팀", 94);
-    freq.put(" 봉기", 67);
-    freq.put("누구", 78);
-    freq.put("일련의", 181);
-    freq.put(" 경부", 97);
-    freq.put(" 경북", 70);
-    freq.put(" 형상", 83);
-    freq.put("동이 ", 214);
-    freq.put("술가", 133);
-    freq.put("곳은 ", 97);
-    freq.put("깨", 247);
-    freq.put("다섯 ", 151);
-    freq.put("로프", 248);
-    freq.put("본명", 404);
-    freq.put("훈 ", 123);
-    freq.put("술개", 70);
-    freq.put(" 바 ", 139);
-    freq.put("품부 ", 541);
-    freq.put("이동", 495);
-    freq.put(" 상용", 62);
-    freq.put(" 진흥", 250);
-    freq.put("专", 172);
-    freq.put(" 성남", 123);
-    freq.put("이도", 263);
-    freq.put(" 알제", 77);
-    freq.put("술과", 123);
-    freq.put("건축물", 157);
-    freq.put("원한 ", 71);
-    freq.put("려진", 458);
-    freq.put(" 양쪽", 62);
-    freq.put("려지", 128);
-    freq.put("당되", 95);
-    freq.put("당된", 101);
-    freq.put("나와 ", 213);
-    freq.put("갈색", 63);
-    freq.put("관적", 103);
-    freq.put("정부에", 116);
-    freq.put(" 상원", 72);
-    freq.put("주", 32946);
-    freq.put("대", 50380);
-    freq.put(" 합동", 61);
-    freq.put("널 ", 639);
-    freq.put(" 디비", 65);
-    freq.put(" 상으", 64);
-    freq.put(" 배포", 140);
-    freq.put("려졌", 161);
-    freq.put(" 상위", 92);
-    freq.put("어나", 672);
-    freq.put("라엘 ", 114);
-    freq.put("이에 ", 1223);
-    freq.put("원래는", 145);
-    freq.put("술교", 71);
-    freq.put("실제 ", 183);
-    freq.put("공식", 660);
-    freq.put(" 녹색", 130);
-    freq.put("사회에", 170);
-    freq.put("산학", 93);
-    freq.put("닥 ", 58);
-    freq.put("산한", 104);
-    freq.put(" 근처", 198);
-    freq.put(" 상이", 114);
-    freq.put("선포", 63);
-    freq.put("메모", 272);
-    freq.put(" 상인", 70);
-    freq.put("술관", 133);
-    freq.put(" 상을", 58);
-    freq.put("三丘驿", 62);
-    freq.put(" 상의", 104);
-    freq.put("공신", 113);
-    freq.put("오리지", 76);
-    freq.put("데뷔", 278);
-    freq.put(" 단순", 279);
-    freq.put("리아", 4106);
-    freq.put("총리를", 116);
-    freq.put("려주", 69);
-    freq.put("로토콜", 205);
-    freq.put("이니", 195);
-    freq.put("휴대", 208);
-    freq.put(" 상임", 95);
-    freq.put(" 형성", 527);
-    freq.put("글리", 111);
-    freq.put("이다", 44715);
-    freq.put(" 진화", 199);
-    freq.put("것이었", 89);
-    freq.put("면과 ", 135);
-    freq.put("이는", 2179);
-    freq.put("별명", 122);
-    freq.put("율리우", 65);
-    freq.put("선이다", 194);
-    freq.put("학으로", 130);
-    freq.put("셀 ", 135);
-    freq.put("어낸", 69);
-    freq.put("청소년", 337);
-    freq.put("천으로", 103);
-    freq.put("어내", 101);
-    freq.put("호남", 102);
-    freq.put("과는 ", 512);
-    freq.put("에르", 318);
-    freq.put("에른", 140);
-    freq.put("역번", 77);
-    freq.put("이때", 111);
-    freq.put("램으로", 79);
-    freq.put("구한", 114);
-    freq.put("업협", 85);
-    freq.put("구하", 801);
-    freq.put("구할", 69);
-    freq.put("미하", 416);
-    freq.put("키타", 74);
-    freq.put(" 단어", 482);
-    freq.put(" 법정", 244);
-    freq.put("찰청", 251);
-    freq.put("코드 ", 238);
-    freq.put("념을", 152);
-    freq.put("이디", 118);
-    freq.put("공에", 64);
-    freq.put("위로", 336);
-    freq.put(" 오사", 151);
-    freq.put("스탠", 109);
-    freq.put("공업", 378);
-    freq.put("업화", 69);
-    freq.put(" 거두", 92);
-    freq.put(" 국적", 83);
-    freq.put("동하", 683);
-    freq.put("럭", 336);
-    freq.put("공연", 355);
-    freq.put("공여", 69);
-    freq.put("어날", 73);
-    freq.put(" 국제", 2240);
-    freq.put("라고도", 1545);
-    freq.put("합이다", 98);
-    freq.put("블리", 126);
-    freq.put("받", 2627);
-    freq.put("연을 ", 133);
-    freq.put("체험", 108);
-    freq.put("즈와 ", 65);
-    freq.put("계열의", 107);
-    freq.put("에만", 120);
-    freq.put(" 말에", 106);
-    freq.put(" 녹음", 67);
-    freq.put("동차 ", 460);
-    freq.put("념으", 242);
-    freq.put(" 무기", 218);
-    freq.put("에리", 86);
-    freq.put("맞", 936);
-    freq.put("할하는", 82);
-    freq.put("丙三", 80);
-    freq.put("丙丁", 90);
-    freq.put("편 ", 523);
-    freq.put("사건의", 71);
-    freq.put("사건은", 231);
-    freq.put("객관", 70);
-    freq.put("사건을", 260);
-    freq.put("차에 ", 82);
-    freq.put("사건이", 570);
-    freq.put("에로", 64);
-    freq.put("블레", 66);
-    freq.put("함대", 93);
-    freq.put(" 동화", 66);
-    freq.put("체계적", 153);
-    freq.put("갈의", 77);
-    freq.put("장하여", 85);
-    freq.put("남부 ", 379);
-    freq.put("애국", 68);
-    freq.put(" 쓰고", 102);
-    freq.put(" 디렉", 63);
-    freq.put("대적 ", 85);
-    freq.put("블로", 244);
-    freq.put("블록", 95);
-    freq.put("본부", 489);
-    freq.put("시작 ", 73);
-    freq.put("사건으", 140);
-    freq.put("위를", 1049);
-    freq.put("버그", 188);
-    freq.put(" 볼리", 57);
-    freq.put("이드", 728);
-    freq.put("소 ", 1996);
-    freq.put(" 추기", 61);
-    freq.put(" 럭비", 135);
-    freq.put("예언", 76);
-    freq.put("현청", 128);
-    freq.put("당대", 81);
-    freq.put("데미", 171);
-    freq.put(" 상속", 67);
-    freq.put("이듬", 68);
-    freq.put("도를 ", 838);
-    freq.put("이들", 778);
-    freq.put("자본", 288);
-    freq.put("종을 ", 142);
-    freq.put("무가 ", 97);
-    freq.put("블루", 171);
-    freq.put("건담 ", 64);
-    freq.put("충류", 73);
-    freq.put("룡이다", 97);
-    freq.put("명하고", 104);
-    freq.put(" 형이", 88);
-    freq.put("남아시", 146);
-    freq.put("생하였", 144);
-    freq.put("생하여", 71);
-    freq.put("어지는", 358);
-    freq.put("니고 ", 121);
-    freq.put("공작", 278);
-    freq.put("공자", 115);
-    freq.put("특수법", 62);
-    freq.put(" 동해", 190);
-    freq.put("공고 ", 59);
-    freq.put("이라", 4666);
-    freq.put(" 분석", 366);
-    freq.put("틀을 ", 58);
-    freq.put("당나", 184);
-    freq.put("공장", 150);
-    freq.put("호는", 1131);
-    freq.put("임에서", 89);
-    freq.put(" 황제", 690);
-    freq.put("칠", 510);
-    freq.put(" 말의", 90);
-    freq.put("원형 ", 65);
-    freq.put(" 말은", 95);
-    freq.put(" 충돌", 170);
-    freq.put(" 말을", 102);
-    freq.put(" 속한", 669);
-    freq.put("뉘", 227);
-    freq.put(" 채무", 154);
-    freq.put(" 속하", 1012);
-    freq.put("발달", 319);
-    freq.put("반정", 76);
-    freq.put(" 말이", 732);
-    freq.put("노선을", 63);
-    freq.put(" 속해", 183);
-    freq.put("맵", 77);
-    freq.put("리언", 69);
-    freq.put(" 커다", 65);
-    freq.put("에미", 96);
-    freq.put(" 상승", 71);
-    freq.put(" 찾는", 68);
-    freq.put(" 단위", 404);
-    freq.put("공으", 88);
-    freq.put("도덕", 82);
-    freq.put("종특별", 81);
-    freq.put("장하였", 134);
-    freq.put("이런", 131);
-    freq.put("등 ", 2664);
-    freq.put("이러", 633);
-    freq.put("겼", 193);
-    freq.put("가량", 79);
-    freq.put("공의", 311);
-    freq.put("이래", 223);
-    freq.put(" 섬 ", 655);
-    freq.put("산타", 97);
-    freq.put("정식으", 79);
-    freq.put("이란", 1468);
-    freq.put("공인", 185);
-    freq.put(" 남쪽", 933);
-    freq.put("로그 ", 136);
-    freq.put("공익", 127);
-    freq.put("공이", 148);
-    freq.put("리엔", 67);
-    freq.put("세로 ", 103);
-    freq.put("亂之 ", 165);
-    freq.put("영하는", 250);
-    freq.put(" 의견", 96);
-    freq.put("접근", 281);
-    freq.put(" 테", 1319);
-    freq.put("삼 ", 80);
-    freq.put("거에는", 64);
-    freq.put("원군 ", 162);
-    freq.put("데르", 128);
-    freq.put("공용", 107);
-    freq.put("문법", 143);
-    freq.put("구현", 195);
-    freq.put("진구 ", 92);
-    freq.put("참여했", 93);
-    freq.put("공원", 601);
-    freq.put("업한", 67);
-    freq.put("업하", 195);
-    freq.put("구협", 65);
-    freq.put("예인", 65);
-    freq.put("최초 ", 67);
-    freq.put("해 ", 11775);
-    freq.put(" 쓰기", 94);
-    freq.put(" 경로", 93);
-    freq.put("반직", 145);
-    freq.put("충무", 57);
-    freq.put("공예", 112);
-    freq.put("참여하", 278);
-    freq.put("공영", 61);
-    freq.put("호대", 71);
-    freq.put(" 거래", 171);
-    freq.put("갈어", 69);
-    freq.put("창", 3609);
-    freq.put("구회", 87);
-    freq.put("산이다", 72);
-    freq.put("준으로", 442);
-    freq.put("업이다", 206);
-    freq.put("음으로", 564);
-    freq.put(" 의거", 134);
-    freq.put("디나", 115);
-    freq.put("데리", 57);
-    freq.put("예정", 321);
-    freq.put("무게", 90);
-    freq.put("별한 ", 132);
-    freq.put("붙", 797);
-    freq.put(" 충분", 75);
-    freq.put("예전", 122);
-    freq.put("풋볼", 91);
-    freq.put("각형 ", 66);
-    freq.put("이를", 1128);
-    freq.put("이른", 205);
-    freq.put("이르", 700);
-    freq.put("용했", 139);
-    freq.put("옛날", 72);
-    freq.put("ν", 231);
-    freq.put("핵 ", 98);
-    freq.put("타이베", 77);
-    freq.put("반영", 96);
-    freq.put("이뤄", 69);
-    freq.put(" 단지", 69);
-    freq.put("공직", 57);
-    freq.put("에디", 101);
-    freq.put("무공", 61);
-    freq.put("중의원", 106);
-    freq.put("그에 ", 214);
-    freq.put("이용자", 68);
-    freq.put(" 해결", 238);
-    freq.put("왕을 ", 61);
-    freq.put("이마", 124);
-    freq.put(" 성모", 102);
-    freq.put(" 번 ", 635);
-    freq.put("무가", 118);
-    freq.put(" 양산", 93);
-    freq.put("서인 ", 81);
-    freq.put("색의 ", 117);
-    freq.put(" 쓰이", 700);
-    freq.put("향이 ", 94);
-    freq.put("턱", 68);
-    freq.put("점검", 69);
-    freq.put("시인이", 151);
-    freq.put("내각 ", 119);
-    freq.put("릴적", 114);
-    freq.put(" 묘사", 165);
-    freq.put(" 아키", 249);
-    freq.put("용해", 337);
-    freq.put("뒤 ", 432);
-    freq.put("버드 ", 86);
-    freq.put("용할", 380);
-    freq.put("이름", 3683);
-    freq.put("용하", 2610);
-    freq.put("용한", 877);
-    freq.put("무거", 57);
-    freq.put("이리", 104);
-    freq.put(" 넘는", 98);
-    freq.put("이로", 415);
-    freq.put("반은", 59);
-    freq.put("반을", 232);
-    freq.put("고도 ", 1655);
-    freq.put("반의", 263);
-    freq.put("반응", 325);
-    freq.put(" 남아", 516);
-    freq.put(" 양성", 269);
-    freq.put("재위 ", 590);
-    freq.put("더스 ", 76);
-    freq.put("데라", 73);
-    freq.put("반인", 88);
-    freq.put("반이", 289);
-    freq.put("가리아", 156);
-    freq.put("산시 ", 253);
-    freq.put("격의 ", 76);
-    freq.put("주소 ", 90);
-    freq.put(" 해군", 342);
-    freq.put("이렇", 64);
-    freq.put("덜", 472);
-    freq.put("공주", 233);
-    freq.put("변의 ", 108);
-    freq.put("자전거", 100);
-    freq.put("소형 ", 88);
-    freq.put("반으", 349);
-    freq.put(" 재판", 231);
-    freq.put("공제", 58);
-    freq.put("역사상", 171);
-    freq.put("티아", 321);
-    freq.put("공정", 235);
-    freq.put("방으로", 94);
-    freq.put("부천시", 57);
-    freq.put("찰서", 86);
-    freq.put("목은 ", 112);
-    freq.put("공전", 79);
-    freq.put("공적", 170);
-    freq.put("펜", 502);
-    freq.put("무관", 282);
-    freq.put(" 거리", 295);
-    freq.put("에드", 190);
-    freq.put("결되어", 107);
-    freq.put("려시", 129);
-    freq.put("수인 ", 81);
-    freq.put("이루", 1453);
-    freq.put("내지 ", 84);
-    freq.put(" 병역", 76);
-    freq.put("곡가 ", 133);
-    freq.put("현상", 661);
-    freq.put(" 국어", 100);
-    freq.put("파생", 140);
-    freq.put("총리대", 58);
-    freq.put("무국", 71);
-    freq.put("좁은", 114);
-    freq.put("점기", 433);
-    freq.put("발생시", 61);
-    freq.put("센고", 142);
-    freq.put("국군 ", 60);
-    freq.put("득하", 114);
-    freq.put("에라", 85);
-    freq.put("스볼 ", 93);
-    freq.put("ب", 85);
-    freq.put("자니아", 79);
-    freq.put(" 국왕", 338);
-    freq.put("찰스", 137);
-    freq.put("레코드", 185);
-    freq.put("블라", 186);
-    freq.put("이묘", 288);
-    freq.put("파이어", 96);
-    freq.put("철학 ", 391);
-    freq.put(" 실시", 523);
-    freq.put("홈구장", 160);
-    freq.put("호간의", 155);
-    freq.put("려서", 69);
-    freq.put(" 슈팅", 70);
-    freq.put("델로 ", 62);
-    freq.put("트와", 228);
-    freq.put("달린 ", 60);
-    freq.put(" 형제", 214);
-    freq.put("장의 ", 441);
-    freq.put("콘서트", 79);
-    freq.put("별도", 116);
-    freq.put(" 남원", 73);
-    freq.put(" 실수", 85);
-    freq.put("방자치", 117);
-    freq.put("이므", 100);
-    freq.put(" 아티", 99);
-    freq.put("이민", 84);
-    freq.put("이미", 360);
-    freq.put("블랙", 152);
-    freq.put("일부이", 124);
-    freq.put("무기", 312);
-    freq.put(" 양식", 231);
-    freq.put(" 아트", 82);
-    freq.put(" 뿐만", 102);
-    freq.put("격하", 210);
-    freq.put("격한", 92);
-    freq.put("소설이", 157);
-    freq.put("스타일", 126);
-    freq.put("스타인", 141);
-    freq.put("이메", 59);
-    freq.put("메달", 133);
-    freq.put("남으로", 73);
-    freq.put("견된", 179);
-    freq.put(" 남은", 57);
-    freq.put("견되", 279);
-    freq.put("링 ", 477);
-    freq.put("보이 ", 67);
-    freq.put("출범하", 69);
-    freq.put("이면", 165);
-    freq.put("三之亞", 63);
-    freq.put("이며", 7197);
-    freq.put("국제 ", 1037);
-    freq.put("본의 ", 1263);
-    freq.put("메니", 147);
-    freq.put("차례 ", 100);
-    freq.put("군인 ", 129);
-    freq.put("이먼", 60);
-    freq.put(" 아파", 129);
-    freq.put("이머", 65);
-    freq.put("화인민", 476);
-    freq.put("역대", 111);
-    freq.put(" 성립", 280);
-    freq.put("주의를", 168);
-    freq.put(" 팝 ", 93);
-    freq.put("三之並", 215);
-    freq.put("반에", 291);
-    freq.put(" 아폴", 70);
-    freq.put(" 성리", 78);
-    freq.put("춤", 162);
-    freq.put("三之丁", 129);
-    freq.put("주지방", 89);
-    freq.put("꾸", 368);
-    freq.put("三之三", 285);
-    freq.put("판에서", 87);
-    freq.put(" 국장", 81);
-    freq.put(" 한해", 58);
-    freq.put("발하고", 100);
-    freq.put(" 남자", 211);
-    freq.put("수엘라", 63);
-    freq.put("이명", 60);
-    freq.put("시대의", 878);
-    freq.put("현실", 137);
-    freq.put(" 자 ", 216);
-    freq.put("三之之", 161);
-    freq.put("고하", 102);
-    freq.put("고학", 98);
-    freq.put("고한", 57);
-    freq.put("알고", 264);
-    freq.put("에노", 70);
-    freq.put("플레잉", 80);
-    freq.put(" 큰 ", 1157);
-    freq.put("웨일스", 98);
-    freq.put("기여함", 193);
-    freq.put("식경제", 82);
-    freq.put("정확하", 95);
-    freq.put("기여하", 360);
-    freq.put("죄를", 91);
-    freq.put(" 재화", 72);
-    freq.put("론은", 142);
-    freq.put("려의", 143);
-    freq.put(" 주고", 100);
-    freq.put("확한 ", 138);
-    freq.put("리를 ", 1377);
-    freq.put("사인 ", 233);
-    freq.put("에너", 561);
-    freq.put(" 채널", 298);
-    freq.put("역사에", 123);
-    freq.put(" 없다", 375);
-    freq.put("위나", 89);
-    freq.put("역되", 83);
-    freq.put("철", 3109);
-    freq.put(" 주거", 104);
-    freq.put("론을", 213);
-    freq.put("지에서", 319);
-    freq.put(" 왕국", 656);
-    freq.put("매개", 71);
-    freq.put("격파", 66);
-    freq.put("사우스", 167);
-    freq.put("기반 ", 179);
-    freq.put("래가", 61);
-    freq.put("정을 ", 810);
-    freq.put(" 주간", 132);
-    freq.put("른쪽", 57);
-    freq.put(" 상주", 72);
-    freq.put("현에", 128);
-    freq.put(" 없는", 546);
-    freq.put("메디", 104);
-    freq.put(" 남산", 66);
-    freq.put("플레이", 676);
-    freq.put("틴", 890);
-    freq.put("호로", 363);
-    freq.put("스키 ", 291);
-    freq.put(" 병사", 60);
-    freq.put("너", 1765);
-    freq.put("지션은", 60);
-    freq.put(" 한편", 88);
-    freq.put("화방송", 96);
-    freq.put("로이센", 147);
-    freq.put(" 호에", 514);
-    freq.put("환 ", 439);
-    freq.put(" 단체", 752);
-    freq.put("학파 ", 61);
-    freq.put("얻", 540);
-    freq.put("확히 ", 61);
-    freq.put(" 남서", 495);
-    freq.put("이바", 376);
-    freq.put("개신교", 188);
-    freq.put("별된", 62);
-    freq.put(" 주권", 84);
-    freq.put("성구 ", 108);
-    freq.put("보스턴", 85);
-    freq.put(" 남성", 230);
-    freq.put(" 아프", 573);
-    freq.put("등", 12499);
-    freq.put("글라", 119);
-    freq.put("빌딩 ", 490);
-    freq.put(" 주교", 176);
-    freq.put("운동가", 315);
-    freq.put("격투", 81);
-    freq.put("매사추", 92);
-    freq.put("글랜", 378);
-    freq.put("이보", 83);
-    freq.put("이복", 70);
-    freq.put(" 거부", 106);
-    freq.put("고리즘", 197);
-    freq.put("직후", 76);
-    freq.put("현상이", 157);
-    freq.put("호를", 436);
-    freq.put("자치구", 154);
-    freq.put("이버", 362);
-    freq.put(" 왕가", 158);
-    freq.put("호르", 135);
-    freq.put("현상을", 242);
-    freq.put("한반도", 215);
-    freq.put("글러", 60);
-    freq.put(" 상징", 242);
-    freq.put("로미터", 82);
-    freq.put("이벤", 65);
-    freq.put("이베", 186);
-    freq.put("레이트", 129);
-    freq.put(" 간 ", 172);
-    freq.put("후한 ", 94);
-    freq.put("어사전", 65);
-    freq.put("제국의", 612);
-    freq.put("지은 ", 141);
-    freq.put(" 실용", 67);
-    freq.put("구단 ", 75);
-    freq.put("현으", 89);
-    freq.put("예측", 116);
-    freq.put("축물", 164);
-    freq.put("현을", 152);
-    freq.put("현의", 222);
-    freq.put("직하", 135);
-    freq.put("직한", 63);
-    freq.put("직할", 115);
-    freq.put("고타", 71);
-    freq.put("새로운", 612);
-    freq.put("고에 ", 101);
-    freq.put("레이터", 99);
-    freq.put("현이", 155);
-    freq.put("메라", 241);
-    freq.put("람을 ", 297);
-    freq.put(" 쇼핑", 60);
-    freq.put("로나 ", 78);
-    freq.put("배우이", 125);
-    freq.put("국가의", 292);
-    freq.put("·공", 88);
-    freq.put("위는", 290);
-    freq.put("았고 ", 97);
-    freq.put("로파", 60);
-    freq.put("방에서", 152);
-    freq.put("현재", 2814);
-    freq.put("슨", 692);
-    freq.put("현장", 128);
-    freq.put("벌레", 89);
-    freq.put("에도", 1265);
-    freq.put("함하고", 175);
-    freq.put("낸다", 205);
-    freq.put(" 트로", 120);
-    freq.put("·경", 73);
-    freq.put("체로서", 85);
-    freq.put("반사", 163);
-    freq.put(" 주기", 199);
-    freq.put("익보", 67);
-    freq.put("간단히", 170);
-    freq.put("제명", 84);
-    freq.put("속에서", 155);
-    freq.put("습 ", 140);
-    freq.put("역사와", 60);
-    freq.put("위대", 223);
-    freq.put(" 재해", 66);
-    freq.put("이비", 217);
-    freq.put("가이며", 162);
-    freq.put(" 트리", 201);
-    freq.put("레이크", 71);
-    freq.put("페인 ", 307);
-    freq.put("·교", 69);
-    freq.put(" 재학", 57);
-    freq.put("공부하", 58);
-    freq.put(" 양의", 74);
-    freq.put("이블", 337);
-    freq.put("이븐", 59);
-    freq.put("이브", 495);
-    freq.put("중성자", 58);
-    freq.put("황에 ", 67);
-    freq.put("·관", 58);
-    freq.put("본래", 267);
-    freq.put("충돌", 185);
-    freq.put("비전 ", 429);
-    freq.put(" 경남", 74);
-    freq.put("라가 ", 204);
-    freq.put(" 양자", 305);
-    freq.put("럽과 ", 63);
-    freq.put("실 ", 537);
-    freq.put("에다", 73);
-    freq.put("레오 ", 64);
-    freq.put("희곡", 60);
-    freq.put("칭을 ", 179);
-    freq.put(" 성북", 85);
-    freq.put(" 성분", 85);
-    freq.put(" 양재", 71);
-    freq.put("헨티", 187);
-    freq.put("슨의 ", 72);
-    freq.put("변호사", 207);
-    freq.put("폴란드", 330);
-    freq.put("연고로", 70);
-    freq.put("발되", 197);
-    freq.put("사고이", 102);
-    freq.put(" 즐기", 62);
-    freq.put(" 운동", 905);
-    freq.put("에는", 3705);
-    freq.put("분할 ", 73);
-    freq.put("함마", 70);
-    freq.put(" 카타", 66);
-    freq.put("이션", 1407);
-    freq.put(" 주택", 112);
-    freq.put("中之", 85);
-    freq.put("충청", 623);
-    freq.put("본주", 135);
-    freq.put("간된 ", 72);
-    freq.put(" 양력", 106);
-    freq.put("연결되", 159);
-    freq.put("역사를", 147);
-    freq.put("연결된", 112);
-    freq.put("中三", 72);
-    freq.put(" 국방", 227);
-    freq.put("해서는", 187);
-    freq.put("제일 ", 77);
-    freq.put("이센", 174);
-    freq.put("中並", 57);
-    freq.put("이세", 85);
-    freq.put("이성", 133);
-    freq.put("드리드", 67);
-    freq.put("즉 ", 662);
-    freq.put("이선", 105);
-    freq.put(" 이뤄", 69);
-    freq.put("》", 5027);
-    freq.put("별지", 141);
-    freq.put(" 국보", 88);
-    freq.put("고기", 355);
-    freq.put("가루 ", 61);
-    freq.put("丟", 765);
-    freq.put("날", 1685);
-    freq.put("국가를", 123);
-    freq.put("고급", 165);
-    freq.put("축에", 59);
-    freq.put("르바이", 113);
-    freq.put(" 한글", 177);
-    freq.put("익스", 143);
-    freq.put("체는 ", 221);
-    freq.put("나타나", 260);
-    freq.put("이소", 58);
-    freq.put("완전히", 129);
-    freq.put("본적", 361);
-    freq.put("사고로", 88);
-    freq.put("본제", 60);
-    freq.put("작되", 526);
-    freq.put("엘리자", 71);
-    freq.put("고속도", 557);
-    freq.put(" 증기", 82);
-    freq.put("함으", 765);
-    freq.put("겉", 64);
-    freq.put("초", 5803);
-    freq.put("토의 ", 187);
-    freq.put(" 콘스", 180);
-    freq.put("본질", 90);
-    freq.put("막 ", 535);
-    freq.put("시대부", 79);
-    freq.put("용과", 94);
-    freq.put("함이", 112);
-    freq.put("즈의 ", 361);
-    freq.put("이기 ", 244);
-    freq.put("색으로", 87);
-    freq.put("봉한 ", 64);
-    freq.put("방향 ", 69);
-    freq.put("함은", 90);
-    freq.put("함을", 479);
-    freq.put("격기", 81);
-    freq.put("국가로", 150);
-    freq.put("당으", 106);
-    freq.put("이상", 1108);
-    freq.put("丘三", 684);
-    freq.put("치를 ", 548);
-    freq.put("무한", 119);
-    freq.put(" 지형", 89);
-    freq.put("무하", 135);
-    freq.put("체되었", 67);
-    freq.put("벌이", 122);
-    freq.put(" 남북", 317);
-    freq.put(" 남부", 768);
-    freq.put("칙으로", 83);
-    freq.put("벌인", 102);
-    freq.put("났", 694);
-    freq.put("당은", 139);
-    freq.put("당을", 126);
-    freq.put("이산", 85);
-    freq.put("당의", 341);
-    freq.put("이사", 565);
-    freq.put("무함", 67);
-    freq.put("축일", 68);
-    freq.put("합된 ", 92);
-    freq.put("완전한", 90);
-    freq.put("丈", 1178);
-    freq.put("농", 2894);
-    freq.put("역과 ", 276);
-    freq.put("죄의", 58);
-    freq.put("징 ", 234);
-    freq.put("슬로바", 89);
-    freq.put("트》", 61);
-    freq.put("다리 ", 68);
-    freq.put("三亞並", 101);
-    freq.put(" 해협", 157);
-    freq.put("장하는", 775);
-    freq.put("축을", 74);
-    freq.put("민과 ", 61);
-    freq.put("고고", 132);
-    freq.put("공동", 868);
-    freq.put("三亞之", 123);
-    freq.put("위치", 6047);
-    freq.put(" 단독", 80);
-    freq.put("롬 ", 79);
-    freq.put(" 한계", 75);
-    freq.put("자성", 62);
-    freq.put("장군 ", 139);
-    freq.put("건으로", 192);
-    freq.put("레옹 ", 96);
-    freq.put("인적", 116);
-    freq.put("무형", 102);
-    freq.put(" 알렉", 314);
-    freq.put(" 알레", 71);
-    freq.put(" 렌", 152);
-    freq.put("음성 ", 63);
-    freq.put("고가", 145);
-    freq.put("베리아", 142);
-    freq.put("익산", 65);
-    freq.put("어나 ", 278);
-    freq.put("석으로", 73);
-    freq.put(" 콘서", 79);
-    freq.put(" 증권", 93);
-    freq.put("반복", 104);
-    freq.put("주도하", 91);
-    freq.put("텍", 454);
-    freq.put("헬레", 69);
-    freq.put("·철학", 275);
-    freq.put("타이완", 189);
-    freq.put("색으", 87);
-    freq.put("호와", 168);
-    freq.put("아 ", 8561);
-    freq.put("기존의", 250);
-    freq.put("쌀", 100);
-    freq.put("라인 ", 429);
-    freq.put("칼라", 126);
-    freq.put("벌어", 349);
-    freq.put("가하여", 102);
-    freq.put("지도자", 328);
-    freq.put(" 알리", 168);
-    freq.put(" 성서", 95);
-    freq.put(" 근본", 125);
-    freq.put(" 증가", 212);
-    freq.put("호작", 139);
-    freq.put("나라 ", 614);
-    freq.put("이순", 57);
-    freq.put("만을 ", 299);
-    freq.put(" 증거", 174);
-    freq.put(" 법학", 135);
-    freq.put("이수", 87);
-    freq.put("대체하", 94);
-    freq.put("범죄 ", 90);
-    freq.put("생산 ", 224);
-    freq.put("헬리", 65);
-    freq.put("오카 ", 175);
-    freq.put("자금을", 57);
-    freq.put("공단", 148);
-    freq.put("당에", 141);
-    freq.put("마 ", 2884);
-    freq.put("식품 ", 76);
-    freq.put("이시", 344);
-    freq.put("이식", 83);
-    freq.put("용기", 122);
-    freq.put("영토를", 59);
-    freq.put(" 엄밀", 69);
-    freq.put("떤", 684);
-    freq.put("단계에", 81);
-    freq.put("함양", 88);
-    freq.put("악 ", 699);
-    freq.put("받게 ", 57);
-    freq.put("문제", 1052);
-    freq.put("반부", 115);
-    freq.put("고구", 210);
-    freq.put("이슈", 60);
-    freq.put(" 한국", 5417);
-    freq.put(" 주파", 92);
-    freq.put("호이", 192);
-    freq.put(" 경찰", 296);
-    freq.put("이승", 80);
-    freq.put("함에", 145);
-    freq.put(" 맨해", 60);
-    freq.put("이슬", 422);
-    freq.put(" 수호", 59);
-    freq.put("이스", 2082);
-    freq.put("호사", 248);
-    freq.put("이안", 76);
-    freq.put("이아", 356);
-    freq.put("키스탄", 273);
-    freq.put("함수", 560);
-    freq.put("스타리", 76);
-    freq.put("반면", 95);
-    freq.put("충주", 70);
-    freq.put("거인 ", 70);
-    freq.put("생활의", 64);
-    freq.put("들목 ", 196);
-    freq.put(" 아가", 58);
-    freq.put("당시", 1347);
-    freq.put("위조", 60);
-    freq.put("기념물", 120);
-    freq.put(" 성우", 86);
-    freq.put("강한 ", 187);
-    freq.put("이에", 1970);
-    freq.put("것이다", 1291);
-    freq.put(" 파", 4031);
-    freq.put("이었", 2244);
-    freq.put(" 디지", 563);
-    freq.put("일부를", 110);
-    freq.put("공유하", 89);
-    freq.put(" 겸 ", 249);
-    freq.put("당수", 72);
-    freq.put("그림을", 66);
-    freq.put("제프 ", 99);
-    freq.put(" 디즈", 98);
-    freq.put("학습 ", 59);
-    freq.put(" 딴 ", 76);
-    freq.put(" 근무", 128);
-    freq.put("이언", 277);
-    freq.put("연구에", 78);
-    freq.put("이어", 1308);
-    freq.put(" 필리", 448);
-    freq.put(" 주요", 741);
-    freq.put("축소", 72);
-    freq.put("위주", 70);
-    freq.put("작이 ", 58);
-    freq.put(" 탐구", 62);
-    freq.put("구원은", 154);
-    freq.put(" 뉴기", 71);
-    freq.put("에만 ", 119);
-    freq.put("였으나", 406);
-    freq.put("모여 ", 116);
-    freq.put("국가보", 77);
-    freq.put("설가이", 93);
-    freq.put("산을 ", 359);
-    freq.put("우스 ", 629);
-    freq.put("래했", 80);
-    freq.put(" 성인", 182);
-    freq.put("익을", 208);
-    freq.put("콜", 1028);
-    freq.put("였다", 6029);
-    freq.put("갈라", 146);
-    freq.put(" 성의", 77);
-    freq.put(" 계약", 327);
-    freq.put("로프로", 79);
-    freq.put(" 성은", 94);
-    freq.put("널은 ", 82);
-    freq.put("항공 ", 158);
-    freq.put(" 디젤", 62);
-    freq.put("갈래", 67);
-    freq.put("일부로", 118);
-    freq.put("공되", 110);
-    freq.put("호선", 457);
-    freq.put("호세", 67);
-    freq.put("계약을", 87);
-    freq.put(" 성장", 260);
-    freq.put("래한", 155);
-    freq.put("사람이", 649);
-    freq.put("정부는", 58);
-    freq.put("로만 ", 108);
-    freq.put("춰", 72);
-    freq.put("반민", 78);
-    freq.put("마에 ", 93);
-    freq.put("성의 ", 571);
-    freq.put("시대를", 133);
-    freq.put("축산", 260);
-    freq.put("래프", 324);
-    freq.put("년부터", 1634);
-    freq.put(" 국립", 899);
-    freq.put("소설로", 59);
-    freq.put("알프", 91);
-    freq.put("리킨다", 654);
-    freq.put("공과대", 62);
-    freq.put("늦", 65);
-    freq.put("매한", 223);
-    freq.put("매하", 265);
-    freq.put("트어 ", 82);
-    freq.put("출생하", 68);
-    freq.put("바다 ", 113);
-    freq.put("당사", 230);
-    freq.put("이의", 934);
-    freq.put("호스", 99);
-    freq.put("의학 ", 91);
-    freq.put("립적인", 63);
-    freq.put("이은", 66);
-    freq.put("경계로", 137);
-    freq.put("이인", 77);
-    freq.put("이이", 176);
-    freq.put("이익", 326);
-    freq.put(" 뒤를", 83);
-    freq.put("뒷", 122);
-    freq.put("비상", 121);
-    freq.put(" 날개", 87);
-    freq.put("성경 ", 87);
-    freq.put(" 말라", 128);
-    freq.put("지기 ", 88);
-    freq.put("이유", 337);
-    freq.put("간인 ", 57);
-    freq.put("리다 ", 103);
-    freq.put(" 알바", 142);
-    freq.put("유로 ", 235);
-    freq.put("침 ", 97);
-    freq.put("괴하", 71);
-    freq.put(" 쇼군", 110);
-    freq.put("모", 11378);
-    freq.put("졸업", 318);
-    freq.put("호수", 201);
-    freq.put("신라 ", 149);
-    freq.put("이잔", 109);
-    freq.put("타낸 ", 57);
-    freq.put("이자", 2950);
-    freq.put("태에서", 98);
-    freq.put(" 상당", 502);
-    freq.put("원래의", 69);
-    freq.put("갈등", 59);
-    freq.put("해안에", 90);
-    freq.put("이재", 61);
-    freq.put("사우루", 135);
-    freq.put("고지로", 66);
-    freq.put("볼", 1272);
-    freq.put("채택", 233);
-    freq.put("이완", 207);
-    freq.put("나가와", 69);
-    freq.put("여서", 479);
-    freq.put("이와", 378);
-    freq.put("헨리 ", 107);
-    freq.put(" 상대", 501);
-    freq.put("시리즈", 1281);
-    freq.put("이외", 210);
-    freq.put(" 경주", 328);
-    freq.put("칙에 ", 86);
-    freq.put("프트 ", 483);
-    freq.put("之丁並", 63);
-    freq.put("서부터", 164);
-    freq.put(" 국무", 229);
-    freq.put(" 류", 171);
-    freq.put("이였", 67);
-    freq.put("之丁丁", 66);
-    freq.put("냥", 141);
-    freq.put("之丁三", 123);
-    freq.put(" 거의", 351);
-    freq.put("이올", 125);
-    freq.put("이온", 234);
-    freq.put("연구와", 136);
-    freq.put("이오", 499);
-    freq.put("토론토", 96);
-    freq.put("당선", 166);
-    freq.put("도르 ", 69);
-    freq.put(" 국민", 1106);
-    freq.put("이웃", 70);
-    freq.put("태가 ", 128);
-    freq.put(" 남미", 66);
-    freq.put("증 ", 222);
-    freq.put("키텍처", 131);
-    freq.put("편", 2910);
-    freq.put("정할 ", 104);
-    freq.put(" 경제", 1255);
-    freq.put("지낸 ", 207);
-    freq.put("익에", 79);
-    freq.put(" 경전", 153);
-    freq.put("르토 ", 64);
-    freq.put("란드의", 272);
-    freq.put("연구원", 419);
-    freq.put("르며 ", 194);
-    freq.put("이우", 80);
-    freq.put("직공", 120);
-    freq.put("이용", 1588);
-    freq.put("외국", 418);
-    freq.put("에야", 80);
-    freq.put(" 경쟁", 314);
-    freq.put("때부터", 94);
-    freq.put("공립", 95);
-    freq.put("산기", 92);
-    freq.put(" 거점", 62);
-    freq.put("역사", 1691);
-    freq.put(" 거제", 77);
-    freq.put("역삼", 95);
-    freq.put("외교", 422);
-    freq.put(" 실내", 91);
-    freq.put("견을", 57);
-    freq.put("역상", 157);
-    freq.put("예로", 129);
-    freq.put("전통 ", 182);
-    freq.put(" 단말", 62);
-    freq.put("이중", 126);
-    freq.put("몇몇 ", 106);
-    freq.put(" 제 ", 4289);
-    freq.put("진 ", 4958);
-    freq.put("되기", 565);
-    freq.put("임진왜", 116);
-    freq.put("이징", 189);
-    freq.put("이집", 416);
-    freq.put("스타디", 113);
-    freq.put("이진", 103);
-    freq.put("이지", 1231);
-    freq.put(" 경인", 69);
-    freq.put("배 ", 369);
-    freq.put("운", 8938);
-    freq.put(" 말리", 67);
-    freq.put("에어", 186);
-    freq.put(" 거주", 394);
-    freq.put("후부", 73);
-    freq.put("이즈", 350);
-    freq.put("뉴스》", 133);
-    freq.put("술회", 66);
-    freq.put("예루", 109);
-    freq.put(" 경유", 69);
-    freq.put("미법", 59);
-    freq.put("로이드", 134);
-    freq.put("측 ", 145);
-    freq.put("반으로", 349);
-    freq.put(" 없이", 247);
-    freq.put("역소", 73);
-    freq.put("크로아", 167);
-    freq.put(" 말레", 203);
-    freq.put("데이", 1328);
-    freq.put("파키스", 153);
-    freq.put("이조", 77);
-    freq.put("이족", 65);
-    freq.put(" 충청", 610);
-    freq.put("吾", 169);
-    freq.put("이제", 109);
-    freq.put("문신", 350);
-    freq.put("이정", 63);
-    freq.put(" 없으", 149);
-    freq.put("이점", 63);
-    freq.put(" 말로", 338);
-    freq.put("이전", 987);
-    freq.put("이저", 329);
-    freq.put("사후 ", 103);
-    freq.put(" 경우", 1814);
-    freq.put("예를", 245);
-    freq.put("작한 ", 541);
-    freq.put("공룡", 180);
-    freq.put("동에서", 90);
-    freq.put("외곽", 60);
-    freq.put("둥이", 68);
-    freq.put("역설", 57);
-    freq.put("이주", 163);
-    freq.put(" 권한", 175);
-    freq.put("俘 ", 76);
-    freq.put("외계", 90);
-    freq.put("습을 ", 166);
-    freq.put("장이다", 475);
-    freq.put("공로", 98);
-    freq.put("본선", 122);
-    freq.put(" 경영", 338);
-    freq.put("이종", 60);
-    freq.put("위에", 756);
-    freq.put("삶을", 67);
-    freq.put("덧", 84);
-    freq.put("품이 ", 87);
-    freq.put("구축하", 85);
-    freq.put("음반", 546);
-    freq.put("삶의", 108);
-    freq.put("려는", 295);
-    freq.put(" 서식", 301);
-    freq.put(" 갖고", 277);
-    freq.put("에이", 482);
-    freq.put("조로 ", 180);
-    freq.put("성한다", 77);
-    freq.put("현대", 875);
-    freq.put("피에르", 97);
-    freq.put("에의", 112);
-    freq.put("재한 ", 154);
-    freq.put(" 성적", 226);
-    freq.put(" 탄생", 197);
-    freq.put("나인 ", 170);
-    freq.put(" 성전", 89);
-    freq.put("버트", 260);
-    freq.put("본식", 170);
-    freq.put("되거", 99);
-    freq.put("사고는", 93);
-    freq.put("유적 ", 73);
-    freq.put("블이", 59);
-    freq.put("위와", 98);
-    freq.put("둔", 452);
-    freq.put("역시", 1578);
-    freq.put("수권 ", 164);
-    freq.put("른바", 71);
-    freq.put("》을 ", 87);
-    freq.put("및", 5896);
-    freq.put("반드", 90);
-    freq.put("세력을", 62);
-    freq.put("성직자", 104);
-    freq.put("공무", 742);
-    freq.put("되고", 1487);
-    freq.put("》를 ", 132);
-    freq.put("문서", 608);
-    freq.put("호칭", 116);
-    freq.put(" 성주", 57);
-    freq.put(" 디자", 437);
-    freq.put(" 리", 3407);
-    freq.put("장하며", 59);
-    freq.put("현동", 109);
-    freq.put("위원", 1545);
-    freq.put("각 ", 1502);
-    freq.put("기를 ", 1415);
-    freq.put("산과", 197);
-    freq.put("뉜다", 143);
-    freq.put("사인", 290);
-    freq.put("후에 ", 504);
-    freq.put("부동산", 93);
-    freq.put("북서태", 59);
-    freq.put("산광", 498);
-    freq.put("이용되", 115);
-    freq.put("문사", 91);
-    freq.put("판", 4057);
-    freq.put("있었고", 57);
-    freq.put("국들", 75);
-    freq.put("메시", 170);
-    freq.put("기자 ", 326);
-    freq.put(" 곤충", 91);
-    freq.put("공모", 103);
-    freq.put("술하", 154);
-    freq.put("술한", 115);
-    freq.put("임은 ", 107);
-    freq.put("호쿠", 61);
-    freq.put("젤 ", 96);
-    freq.put(" 소설", 770);
-    freq.put("위의", 342);
-    freq.put("메스", 59);
-    freq.put("초기 ", 285);
-    freq.put("법은 ", 260);
-    freq.put("래된 ", 286);
-    freq.put("산군", 133);
-    freq.put(" 탄소", 90);
-    freq.put("보한다", 522);
-    freq.put("위인", 79);
-    freq.put("위이", 229);
-    freq.put(" 풋볼", 90);
-    freq.put("데에", 273);
-    freq.put("싱턴 ", 94);
-    freq.put("위임", 83);
-    freq.put("별시", 2275);
-    freq.put("산권", 82);
-    freq.put("물이다", 498);
-    freq.put("갈리", 113);
-    freq.put(" 없었", 105);
-    freq.put("에우", 80);
-    freq.put("있고 ", 893);
-    freq.put(" 없어", 111);
-    freq.put(" 채용", 77);
-    freq.put("치아 ", 63);
-    freq.put("슷한 ", 237);
-    freq.put("사장", 277);
-    freq.put("역사는", 67);
-    freq.put("원회 ", 556);
-    freq.put("렇게 ", 88);
-    freq.put("시리아", 214);
-    freq.put(" 성직", 123);
-    freq.put(" 성질", 259);
-    freq.put("것이며", 93);
-    freq.put(" 거창", 60);
-    freq.put("문장", 149);
-    freq.put("좌우", 61);
-    freq.put(" 대회", 1040);
-    freq.put("공부", 145);
-    freq.put(" 멤", 202);
-    freq.put("혹은", 1401);
-    freq.put("а", 488);
-    freq.put("멀티", 173);
-    freq.put("예방", 135);
-    freq.put("방영되", 154);
-    freq.put("문자", 743);
-    freq.put("업기", 117);
-    freq.put("구관", 145);
-    freq.put("행정 ", 844);
-    freq.put("빌", 1411);
-    freq.put(" 배경", 215);
-    freq.put("에선", 73);
-    freq.put("호주", 113);
-    freq.put("구광", 218);
-    freq.put("이론에", 160);
-    freq.put("에서", 29088);
-    freq.put("丁亞 ", 110);
-    freq.put(" 라 ", 285);
-    freq.put("데시", 125);
-    freq.put("단한 ", 186);
-    freq.put("싱가", 102);
-    freq.put("테르 ", 63);
-    freq.put("문으", 196);
-    freq.put("베", 5169);
-    freq.put("국내외", 132);
-    freq.put("본명 ", 192);
-    freq.put("서양 ", 162);
-    freq.put("라루스", 57);
-    freq.put("슴", 118);
-    freq.put("령에", 131);
-    freq.put("구권", 57);
-    freq.put(" 익산", 65);
-    freq.put("법률에", 63);
-    freq.put("위상", 207);
-    freq.put(" 국내", 570);
-    freq.put("문인", 134);
-    freq.put("말라위", 74);
-    freq.put("비교적", 115);
-    freq.put(" 근대", 279);
-    freq.put("호조", 94);
-    freq.put("령어", 129);
-    freq.put("문이", 527);
-    freq.put(" 거쳐", 379);
-    freq.put("문은", 98);
-    freq.put("년마다", 62);
-    freq.put("문을", 285);
-    freq.put("문의", 337);
-    freq.put("세의 ", 523);
-    freq.put("데스", 339);
-    freq.put("업발전", 65);
-    freq.put("중세 ", 186);
-    freq.put("공법", 70);
-    freq.put("현된", 68);
-    freq.put("안전부", 66);
-    freq.put(" 남녀", 64);
-    freq.put("스펙트", 61);
-    freq.put(" 의회", 263);
-    freq.put("애플", 275);
-    freq.put("국가들", 151);
-    freq.put("떻", 123);
-    freq.put("위성", 291);
-    freq.put("구간", 259);
-    freq.put("글을", 102);
-    freq.put("반대", 455);
-    freq.put(" 권력", 168);
-    freq.put("라스 ", 165);
-    freq.put("역에", 1144);
-    freq.put(" 동기", 77);
-    freq.put("구개", 146);
-    freq.put("본어", 215);
-    freq.put("축제", 166);
-    freq.put("남아메", 109);
-    freq.put(" 충주", 65);
-    freq.put(" 곧 ", 122);
-    freq.put(" 상류", 70);
-    freq.put(" 상륙", 76);
-    freq.put(" 탄자", 80);
-    freq.put("亂", 4287);
-    freq.put("즌 ", 240);
-    freq.put("저수지", 79);
-    freq.put("반도", 781);
-    freq.put("넓", 520);
-    freq.put("운데에", 81);
-    freq.put(" 황도", 62);
-    freq.put(" 배구", 64);
-    freq.put(" 단백", 169);
-    freq.put("이천", 64);
-    freq.put("크로소", 373);
-    freq.put(" 잘 ", 546);
-    freq.put("칼리", 211);
-    freq.put("이너 ", 95);
-    freq.put("밴드 ", 173);
-    freq.put("항상 ", 79);
-    freq.put("구경", 84);
-    freq.put(" 동구", 140);
-    freq.put("전", 32225);
-    freq.put("기원후", 57);
-    freq.put(" 형법", 118);
-    freq.put("이코", 123);
-    freq.put("업가", 98);
-    freq.put("으키", 165);
-    freq.put(" 동굴", 66);
-    freq.put("령이", 322);
-    freq.put("으킨", 137);
-    freq.put("령은", 67);
-    freq.put("령을", 243);
-    freq.put("령의", 138);
-    freq.put("별이", 83);
-    freq.put(" 함", 2804);
-    freq.put("장되", 154);
-    freq.put("고속버", 59);
-    freq.put("정부를", 59);
-    freq.put("전적 ", 75);
-    freq.put("법률의", 65);
-    freq.put("전차 ", 64);
-    freq.put("연고지", 92);
-    freq.put("당주", 83);
-    freq.put("리기도", 228);
-    freq.put("예비", 145);
-    freq.put("법률이", 85);
-    freq.put(" 거치", 92);
-    freq.put("영화는", 78);
-    freq.put("문에", 1412);
-    freq.put("메일", 86);
-    freq.put("메인", 168);
-    freq.put("선언", 288);
-    freq.put("메이", 1331);
-    freq.put(" 마포", 164);
-    freq.put("국경 ", 65);
-    freq.put("싱글", 400);
-    freq.put("개편하", 94);
-    freq.put("술탄", 80);
-    freq.put(" 낮은", 182);
-    freq.put("위스", 240);
-    freq.put("ч", 103);
-    freq.put("로이다", 326);
-    freq.put("업계", 106);
-    freq.put("센트럴", 124);
-    freq.put(" 익스", 106);
-    freq.put("별자", 389);
-    freq.put(" 의해", 2065);
-    freq.put(" 경성", 105);
-    freq.put("발트 ", 82);
-    freq.put("크로스", 85);
-    freq.put("업과", 191);
-    freq.put(" 의학", 175);
-    freq.put(" 분야", 1053);
-    freq.put("함께 ", 1469);
-    freq.put(" 의한", 371);
-    freq.put(" 배급", 88);
-    freq.put(" 허가", 248);
-    freq.put(" 휘는", 138);
-    freq.put("케", 2788);
-    freq.put("이치", 249);
-    freq.put("국내에", 69);
-    freq.put("업관", 61);
-    freq.put(" 경상", 930);
-    freq.put("내어 ", 68);
-    freq.put("이카", 88);
-    freq.put(" 靑", 75);
-    freq.put("차의 ", 172);
-    freq.put("구글", 106);
-    freq.put("데서", 86);
-    freq.put("시에는", 136);
-    freq.put("제정한", 62);
-    freq.put("평가를", 70);
-    freq.put("국불교", 141);
-    freq.put("구기", 227);
-    freq.put("가된 ", 579);
-    freq.put(" 남동", 554);
-    freq.put("접해", 436);
-    freq.put("학교가", 70);
-    freq.put("밖에 ", 144);
-    freq.put("본이", 148);
-    freq.put(" 국도", 176);
-    freq.put("토리아", 108);
-    freq.put("조를 ", 342);
-    freq.put("타공공", 108);
-    freq.put("본은", 114);
-    freq.put(" 동계", 163);
-    freq.put("접한", 492);
-    freq.put("본을", 178);
-    freq.put("본의", 1265);
-    freq.put("국은 ", 385);
-    freq.put("키기 ", 205);
-    freq.put("역으", 485);
-    freq.put("이커", 104);
-    freq.put("탄티", 148);
-    freq.put("역을", 746);
-    freq.put("번역하", 66);
-    freq.put("역은", 412);
-    freq.put("에스", 534);
-    freq.put("황 ", 673);
-    freq.put(" 얼음", 64);
-    freq.put("역의", 628);
-    freq.put(" 넘어", 117);
-    freq.put("핀의 ", 74);
-    freq.put("역이", 801);
-    freq.put("미", 17448);
-    freq.put(" 디스", 332);
-    freq.put("역인", 112);
-    freq.put("매사", 94);
-    freq.put("기여를", 92);
-    freq.put("이바지", 269);
-    freq.put("슈타", 211);
-    freq.put("丙之 ", 191);
-    freq.put(" 팔라", 87);
-    freq.put("재가", 173);
-    freq.put("충", 2231);
-    freq.put("수정", 259);
-    freq.put("직무", 110);
-    freq.put(" 황금", 95);
-    freq.put("원 ", 4524);
-    freq.put("라인", 656);
-    freq.put(" 혈액", 72);
-    freq.put("일어 ", 137);
-    freq.put(" 국가", 2932);
-    freq.put(" 동대", 115);
-    freq.put("쳐서 ", 141);
-    freq.put("폭", 1205);
-    freq.put("이터", 1189);
-    freq.put("외하고", 65);
-    freq.put(" 丁倉", 83);
-    freq.put("반기", 87);
-    freq.put("듯", 149);
-    freq.put("·수", 74);
-    freq.put(" 별칭", 84);
-    freq.put("리트어", 69);
-    freq.put("버전", 329);
-    freq.put("시호는", 324);
-    freq.put("않지만", 68);
-    freq.put("표현한", 83);
-    freq.put("스피어", 79);
-    freq.put("а ", 76);
-    freq.put("·시", 65);
-    freq.put(" 속도", 241);
-    freq.put("기원전", 1034);
-    freq.put(" 법원", 151);
-    freq.put("벤 ", 68);
-    freq.put("위로 ", 281);
-    freq.put("콕", 119);
-    freq.put(" 국경", 502);
-    freq.put("토머스", 70);
-    freq.put("민에게", 63);
-    freq.put("업단", 115);
-    freq.put("고비", 130);
-    freq.put(" 남겼", 58);
-    freq.put("드에서", 276);
-    freq.put("이토", 133);
-    freq.put("공격 ", 71);
-    freq.put("학교는", 93);
-    freq.put("불렸다", 153);
-    freq.put(" 國三", 150);
-    freq.put("독 ", 328);
-    freq.put(" 국군", 59);
-    freq.put(" 아르", 573);
-    freq.put("축구 ", 742);
-    freq.put("지역이", 326);
-    freq.put(" 國並", 101);
-    freq.put("미크", 58);
-    freq.put("서부의", 58);
-    freq.put("이클", 251);
-    freq.put("이크", 941);
-    freq.put(" 남구", 129);
-    freq.put(" 법의", 69);
-    freq.put(" 丘 ", 87);
-    freq.put("버지", 661);
-    freq.put("㎢이다", 412);
-    freq.put("레이블", 111);
-    freq.put("무엇", 78);
-  }
-  private static void init2() {
-    
-    freq.put(" 주소", 166);
-    freq.put("유학", 156);
-    freq.put(" 법인", 125);
-    freq.put("채용", 84);
-    freq.put(" 법이", 73);
-    freq.put("열린", 478);
-    freq.put("해당한", 149);
-    freq.put("열리", 280);
-    freq.put("무역", 348);
-    freq.put("해당하", 270);
-    freq.put("유한", 279);
-    freq.put(" 해안", 258);
-    freq.put("므로 ", 457);
-    freq.put("소설가", 209);
-    freq.put("온타리", 105);
-    freq.put("비교하", 63);
-    freq.put("이탈", 1138);
-    freq.put("그가 ", 220);
-    freq.put("이타", 167);
-    freq.put(" 남극", 113);
-    freq.put("렬 ", 143);
-    freq.put(" 아마", 238);
-    freq.put(" 해양", 438);
-    freq.put("여의", 138);
-    freq.put(" 아리", 130);
-    freq.put("방의 ", 527);
-    freq.put("구나", 78);
-    freq.put("어로서", 101);
-    freq.put("점에", 478);
-    freq.put("선후", 58);
-    freq.put(" 아름", 145);
-    freq.put(" 해에", 93);
-    freq.put("호하", 246);
-    freq.put("일시", 120);
-    freq.put(" 주식", 300);
-    freq.put("산된", 107);
-    freq.put("래시", 96);
-    freq.put("꾸는 ", 60);
-    freq.put("시픽 ", 95);
-    freq.put("사용", 5124);
-    freq.put("이퍼", 110);
-    freq.put("체제의", 76);
-    freq.put("비즈니", 135);
-    freq.put(" 정상", 182);
-    freq.put("무용", 185);
-    freq.put(" 아메", 328);
-    freq.put(" 한번", 60);
-    freq.put("구대", 120);
-    freq.put(" 해외", 278);
-    freq.put("무원", 831);
-    freq.put("이파", 70);
-    freq.put(" 국기", 175);
-    freq.put("환", 3339);
-    freq.put("이팅", 121);
-    freq.put("자치시", 91);
-    freq.put("침", 1007);
-    freq.put("비시", 110);
-    freq.put("래스", 164);
-    freq.put("무소 ", 98);
-    freq.put("해와 ", 164);
-    freq.put("스웨덴", 355);
-    freq.put(" 해와", 61);
-    freq.put("족의 ", 403);
-    freq.put(" 근교", 75);
-    freq.put("）", 98);
-    freq.put("져 ", 1995);
-    freq.put(" 해운", 73);
-    freq.put("인권 ", 61);
-    freq.put("시킨 ", 207);
-    freq.put("이들을", 80);
-    freq.put("구동", 102);
-    freq.put(" 재료", 157);
-    freq.put("재건", 66);
-    freq.put(" 한반", 214);
-    freq.put("이들의", 125);
-    freq.put("호협", 62);
-    freq.put("줄여서", 375);
-    freq.put("초구", 256);
-    freq.put("발하여", 147);
-    freq.put("산드", 170);
-    freq.put("지역으", 204);
-    freq.put("장치이", 90);
-    freq.put("무와", 74);
-    freq.put("접적", 132);
-    freq.put("호환", 91);
-    freq.put("접전", 71);
-    freq.put(" 콘텐", 143);
-    freq.put("호화", 96);
-    freq.put("팀", 1526);
-    freq.put("포를 ", 110);
-    freq.put("무자", 113);
-    freq.put("점유", 74);
-    freq.put("해진다", 88);
-    freq.put("당했", 130);
-    freq.put("고분", 99);
-    freq.put("널이다", 102);
-    freq.put(" 왕실", 92);
-    freq.put("무장", 362);
-    freq.put("글을 ", 102);
-    freq.put("점이", 420);
-    freq.put("관인 ", 84);
-    freq.put("함해", 71);
-    freq.put("정상적", 60);
-    freq.put("단어이", 100);
-    freq.put("식물의", 97);
-    freq.put(" 아무", 102);
-    freq.put(" 용도", 92);
-    freq.put("판매 ", 90);
-    freq.put("함하", 555);
-    freq.put("앤", 486);
-    freq.put("함한", 517);
-    freq.put("점의", 91);
-    freq.put(" 인 ", 395);
-    freq.put("점은", 112);
-    freq.put(" 부터", 293);
-    freq.put("점을", 418);
-    freq.put("웹", 654);
-    freq.put("·서", 57);
-    freq.put("흔히 ", 416);
-    freq.put("랫동안", 75);
-    freq.put("조선시", 218);
-    freq.put(" 아미", 102);
-    freq.put("무위", 67);
-    freq.put("희생", 100);
-    freq.put("이틀", 169);
-    freq.put(" 근거", 256);
-    freq.put("구단", 288);
-    freq.put("서부에", 508);
-    freq.put(" 의정", 119);
-    freq.put("퉁", 60);
-    freq.put("콘스탄", 176);
-    freq.put("무의", 163);
-    freq.put("호흡", 62);
-    freq.put("구는", 2663);
-    freq.put("해졌다", 113);
-    freq.put(" 의존", 77);
-    freq.put("무인", 90);
-    freq.put("프톨레", 68);
-    freq.put("나 ", 11468);
-    freq.put("·소", 58);
-    freq.put("양시 ", 144);
-    freq.put("당하", 866);
-    freq.put("당한", 473);
-    freq.put("이한", 134);
-    freq.put("결승", 176);
-    freq.put("이하", 446);
-    freq.put(" 묵", 81);
-    freq.put("옌", 106);
-    freq.put("판타지", 99);
-    freq.put("이해", 346);
-    freq.put("발매", 1060);
-    freq.put("무사", 118);
-    freq.put("년대 ", 557);
-    freq.put(" 편입", 97);
-    freq.put("정구 ", 74);
-    freq.put("민당", 124);
-    freq.put("운동에", 85);
-    freq.put("무상", 72);
-    freq.put("연구하", 376);
-    freq.put(" 갖는", 232);
-    freq.put("키나", 206);
-    freq.put(" 아바", 62);
-    freq.put("가했다", 70);
-    freq.put("조선에", 59);
-    freq.put("활동 ", 273);
-    freq.put(" 드림", 64);
-    freq.put(" 해산", 87);
-    freq.put("형법 ", 64);
-    freq.put("객체", 131);
-    freq.put("의회는", 86);
-    freq.put("있었던", 279);
-    freq.put("ан", 66);
-    freq.put("만화 ", 211);
-    freq.put("터스 ", 74);
-    freq.put("호크", 61);
-    freq.put("활의 ", 71);
-    freq.put("이행", 148);
-    freq.put(" 묘", 385);
-    freq.put("되는", 3370);
-    freq.put(" 아버", 489);
-    freq.put("죽을", 61);
-    freq.put("죽은", 134);
-    freq.put("죽음", 150);
-    freq.put(" 해상", 198);
-    freq.put("요시 ", 90);
-    freq.put(" 주에", 722);
-    freq.put(" 줄 ", 89);
-    freq.put("산대", 62);
-    freq.put("·이", 73);
-    freq.put("있었다", 516);
-    freq.put("래에", 165);
-    freq.put("·일", 61);
-    freq.put("같이 ", 509);
-    freq.put(" 주었", 87);
-    freq.put(" 해석", 322);
-    freq.put(" 해서", 99);
-    freq.put("물학 ", 86);
-    freq.put(" 주연", 98);
-    freq.put("견한 ", 100);
-    freq.put("之三之", 190);
-    freq.put("주식회", 205);
-    freq.put("완공", 68);
-    freq.put("일과", 149);
-    freq.put("·의", 63);
-    freq.put("역사가", 122);
-    freq.put("산더", 62);
-    freq.put("·유", 61);
-    freq.put("아에서", 342);
-    freq.put("야 ", 1639);
-    freq.put("이름에", 98);
-    freq.put("표적 ", 60);
-    freq.put("선하", 86);
-    freq.put("구되", 67);
-    freq.put(" 주어", 275);
-    freq.put("키의 ", 170);
-    freq.put(" 카메", 218);
-    freq.put("之三三", 426);
-    freq.put("之三丁", 121);
-    freq.put("절에 ", 78);
-    freq.put(" 양국", 63);
-    freq.put("유행", 121);
-    freq.put("일본 ", 2149);
-    freq.put("맹 ", 398);
-    freq.put("되도", 63);
-    freq.put(" 개척", 103);
-    freq.put("고무", 61);
-    freq.put("법상 ", 135);
-    freq.put("고문", 120);
-    freq.put("유통 ", 76);
-    freq.put("알아", 118);
-    freq.put("무성", 57);
-    freq.put(" 증명", 166);
-    freq.put(" 대립", 97);
-    freq.put("시안 ", 86);
-    freq.put("무선", 162);
-    freq.put("과정 ", 135);
-    freq.put("산동", 187);
-    freq.put("컵에", 64);
-    freq.put("생명 ", 64);
-    freq.put("국가가", 96);
-    freq.put("이풀", 105);
-    freq.put(" 잇는", 267);
-    freq.put("之三亞", 92);
-    freq.put("핫", 70);
-    freq.put(" 아부", 59);
-    freq.put("뷰", 194);
-    freq.put("현과", 109);
-    freq.put("낮은 ", 181);
-    freq.put("호텔", 166);
-    freq.put("조선의", 232);
-    freq.put("나는 ", 720);
-    freq.put("약 ", 1839);
-    freq.put("니아와", 58);
-    freq.put("상에 ", 382);
-    freq.put("매우", 478);
-    freq.put("니다 ", 190);
-    freq.put("운동장", 67);
-    freq.put(" 아비", 83);
-    freq.put("무슬", 67);
-    freq.put("구라", 68);
-    freq.put("채소", 57);
-    freq.put(" 카를", 260);
-    freq.put("끄", 190);
-    freq.put(" 카르", 178);
-    freq.put(" 왕자", 123);
-    freq.put(" 재배", 113);
-    freq.put("타이틀", 140);
-    freq.put(" 아브", 60);
-    freq.put(" 알고", 262);
-    freq.put("덮", 120);
-    freq.put(" 작위", 102);
-    freq.put("키는", 1068);
-    freq.put(" 혈", 203);
-    freq.put("무신", 111);
-    freq.put(" 왕의", 63);
-    freq.put("고려", 896);
-    freq.put(" 카리", 88);
-    freq.put("트로닉", 61);
-    freq.put(" 주와", 621);
-    freq.put("늘", 901);
-    freq.put("보안 ", 111);
-    freq.put(" 왕이", 223);
-    freq.put("논란이", 57);
-    freq.put("운동으", 60);
-    freq.put("첼", 120);
-    freq.put(" 우편", 108);
-    freq.put("티스", 235);
-    freq.put("운동을", 238);
-    freq.put(" 섬이", 161);
-    freq.put("시내", 295);
-    freq.put("운동의", 127);
-    freq.put(" 왕위", 174);
-    freq.put(" 왕으", 89);
-    freq.put("가와 ", 443);
-    freq.put("듬", 206);
-    freq.put("나게 ", 58);
-    freq.put("운동이", 163);
-    freq.put("식적인", 111);
-    freq.put("과", 26837);
-    freq.put("고로", 318);
-    freq.put("아누스", 72);
-    freq.put("조선왕", 60);
-    freq.put("용으로", 300);
-    freq.put("매장", 77);
-    freq.put("고리", 445);
-    freq.put("니아의", 174);
-    freq.put("테니스", 103);
-    freq.put("둘 ", 109);
-    freq.put("무슬림", 67);
-    freq.put("무대신", 61);
-    freq.put("출할 ", 58);
-    freq.put(" 주자", 62);
-    freq.put("걸 ", 59);
-    freq.put(" 물 ", 110);
-    freq.put("역이었", 65);
-    freq.put("삼국 ", 84);
-    freq.put("건을 ", 482);
-    freq.put("려가", 88);
-    freq.put(" 주장", 603);
-    freq.put("간다 ", 126);
-    freq.put("려고", 144);
-    freq.put(" 주의", 999);
-    freq.put("래의", 273);
-    freq.put("이동하", 97);
-    freq.put(" 성향", 66);
-    freq.put("·연", 85);
-    freq.put("이후", 1816);
-    freq.put("기인 ", 130);
-    freq.put(" 주이", 140);
-    freq.put(" 주인", 242);
-    freq.put("이름으", 571);
-    freq.put("연구회", 81);
-    freq.put("래이", 139);
-    freq.put("이름은", 905);
-    freq.put("이름을", 619);
-    freq.put("매일", 93);
-    freq.put("이름의", 95);
-    freq.put("고르", 135);
-    freq.put("성은 ", 337);
-    freq.put("고를", 213);
-    freq.put("국가기", 78);
-    freq.put("리코", 146);
-    freq.put("공한다", 129);
-    freq.put("이름인", 68);
-    freq.put("접촉", 83);
-    freq.put("이름이", 757);
-    freq.put("나에서", 75);
-    freq.put("련된 ", 456);
-    freq.put("점차", 84);
-    freq.put("저 ", 691);
-    freq.put(" 당 ", 135);
-    freq.put(" 주주", 79);
-    freq.put("면의 ", 154);
-    freq.put("구르", 74);
-    freq.put("구를", 602);
-    freq.put(" 카라", 126);
-    freq.put(" 법칙", 215);
-    freq.put("자치주", 85);
-    freq.put("멜로", 63);
-    freq.put("에피", 155);
-    freq.put("매주", 81);
-    freq.put(" 동물", 531);
-    freq.put("하면 ", 687);
-    freq.put("주변 ", 114);
-    freq.put("작사 ", 62);
-    freq.put("대이다", 77);
-    freq.put(" 해체", 141);
-    freq.put("구마", 87);
-    freq.put(" 재단", 468);
-    freq.put("관직", 120);
-    freq.put("탄에", 62);
-    freq.put("구매", 106);
-    freq.put("술원", 71);
-    freq.put("통하여", 478);
-    freq.put("구름", 70);
-    freq.put("데서 ", 76);
-    freq.put(" 주제", 250);
-    freq.put("투에", 168);
-    freq.put("정리이", 69);
-    freq.put(" 아날", 71);
-    freq.put(" 아내", 168);
-    freq.put("키백", 58);
-    freq.put("이터베", 227);
-    freq.put("외부", 238);
-    freq.put(" 아나", 248);
-    freq.put("알제", 77);
-    freq.put("鬪", 67);
-    freq.put("픈", 291);
-    freq.put("정부기", 114);
-    freq.put("술이", 263);
-    freq.put(" 주지", 67);
-    freq.put("구로", 546);
-    freq.put(" 진보", 117);
-    freq.put("의된 ", 59);
-    freq.put(" 상관", 89);
-    freq.put("술은", 76);
-    freq.put("술을", 417);
-    freq.put("의하면", 109);
-    freq.put("메탈", 156);
-    freq.put("업무", 727);
-    freq.put("술의", 455);
-    freq.put("메타", 96);
-    freq.put("본토", 85);
-    freq.put("크로프", 81);
-    freq.put("위한", 2059);
-    freq.put("위하", 1705);
-    freq.put("닝", 259);
-    freq.put("구려", 197);
-    freq.put("가지 ", 694);
-    freq.put("계 ", 4339);
-    freq.put("탱", 122);
-    freq.put(" 의식", 186);
-    freq.put("위해", 3093);
-    freq.put("카데미", 148);
-    freq.put("무총", 163);
-    freq.put("극장 ", 74);
-    freq.put("용될", 69);
-    freq.put("기술과", 58);
-    freq.put("용되", 1573);
-    freq.put("용된", 671);
-    freq.put("좌파", 64);
-    freq.put(" 왕조", 583);
-    freq.put(" 왕족", 171);
-    freq.put("톰", 149);
-    freq.put(" 방", 5542);
-    freq.put("㎢이며", 85);
-    freq.put("브웨", 59);
-    freq.put("위험", 212);
-    freq.put("고라", 68);
-    freq.put(" 동명", 90);
-    freq.put("외버", 131);
-    freq.put("술자", 98);
-    freq.put(" 무슬", 66);
-    freq.put("러의 ", 97);
-    freq.put("덴의", 130);
-    freq.put("탄을", 70);
-    freq.put(" 경험", 163);
-    freq.put("회장", 306);
-    freq.put("탄의", 170);
-    freq.put("·조", 86);
-    freq.put("위협", 78);
-    freq.put("버스", 1087);
-    freq.put("ви", 93);
-    freq.put(" 드라", 584);
-    freq.put(" 밀", 1074);
-    freq.put("버시", 57);
-    freq.put("고등", 647);
-    freq.put("중소기", 146);
-    freq.put("견한", 104);
-    freq.put("견하", 126);
-    freq.put("크스주", 60);
-    freq.put("·전", 81);
-    freq.put("관점", 111);
-    freq.put("용량", 87);
-    freq.put(" 경향", 146);
-    freq.put("견해", 92);
-    freq.put("전체의", 66);
-    freq.put("된다 ", 2822);
-    freq.put("인사", 262);
-    freq.put(" 동맹", 199);
-    freq.put("글로벌", 433);
-    freq.put(" 아닌", 443);
-    freq.put(" 아니", 980);
-    freq.put("멤버", 200);
-    freq.put(" 드래", 82);
-    freq.put("뉴욕 ", 303);
-    freq.put("붙인 ", 79);
-    freq.put("삼", 2361);
-    freq.put("구미", 92);
-    freq.put(" 바", 4874);
-    freq.put(" 드러", 122);
-    freq.put("탄자", 83);
-    freq.put("업적을", 72);
-    freq.put("학교를", 131);
-    freq.put(" 밝", 338);
-    freq.put("한때 ", 76);
-    freq.put(" 의사", 412);
-    freq.put("구멍", 69);
-    freq.put("열도", 82);
-    freq.put("의적인", 85);
-    freq.put("티에 ", 60);
-    freq.put("준의 ", 153);
-    freq.put("정부가", 179);
-    freq.put("메트", 127);
-    freq.put("술서기", 141);
-    freq.put(" 동력", 61);
-    freq.put("방어", 137);
-    freq.put("강으로", 96);
-    freq.put(" 허리", 151);
-    freq.put("오가 ", 92);
-    freq.put("북구 ", 168);
-    freq.put("·중", 79);
-    freq.put("접속", 115);
-    freq.put("류를 ", 300);
-    freq.put("주의 ", 2545);
-    freq.put(" 보", 8766);
-    freq.put(" 복", 1706);
-    freq.put("램이", 268);
-    freq.put("술연", 115);
-    freq.put("레이드", 84);
-    freq.put("족은 ", 109);
-    freq.put("비치 ", 261);
-    freq.put("격되", 57);
-    freq.put("램의", 106);
-    freq.put(" 아돌", 57);
-    freq.put("궤", 302);
-    freq.put("분 ", 768);
-    freq.put("술에", 154);
-    freq.put(" 볼", 809);
-    freq.put(" 아동", 142);
-    freq.put("램을", 192);
-    freq.put("환으로", 121);
-    freq.put("램으", 79);
-    freq.put(" 호주", 106);
-    freq.put("학교로", 108);
-    freq.put("열대", 208);
-    freq.put(" 카드", 233);
-    freq.put("책임을", 92);
-    freq.put("내의 ", 242);
-    freq.put(" 한때", 92);
-    freq.put("유가 ", 79);
-    freq.put(" 의장", 114);
-    freq.put("자치체", 176);
-    freq.put("별한", 142);
-    freq.put("레이더", 57);
-    freq.put("별하", 152);
-    freq.put(" 걸친", 86);
-    freq.put("매체", 185);
-    freq.put("촉진", 252);
-    freq.put(" 구 ", 910);
-    freq.put("토해양", 108);
-    freq.put("령하", 64);
-    freq.put("미의 ", 189);
-    freq.put("슈퍼 ", 89);
-    freq.put("오기", 78);
-    freq.put("인민", 1273);
-    freq.put("되며", 571);
-    freq.put(" 해전", 102);
-    freq.put("우수", 283);
-    freq.put("되면", 541);
-    freq.put("장하고", 143);
-    freq.put(" 계속", 310);
-    freq.put("조선총", 95);
-    freq.put(" 한다", 3550);
-    freq.put(" 된 ", 602);
-    freq.put(" 쓰여", 83);
-    freq.put(" 주체", 106);
-    freq.put("산면", 109);
-    freq.put("트의 ", 617);
-    freq.put("무제", 84);
-    freq.put(" 아들", 897);
-    freq.put("나치 ", 142);
-    freq.put("겠", 90);
-    freq.put(" 벤", 222);
-    freq.put("위키", 154);
-    freq.put("딱", 94);
-    freq.put(" 아드", 72);
-    freq.put("목이다", 93);
-    freq.put("만드는", 271);
-    freq.put("용노", 84);
-    freq.put("탄소", 127);
-    freq.put(" 해주", 60);
-    freq.put("카스 ", 79);
-    freq.put("위탁", 115);
-    freq.put(" 봉사", 58);
-    freq.put("쪽 ", 908);
-    freq.put("마법", 87);
-    freq.put("속해 ", 143);
-    freq.put(" 대학", 1552);
-    freq.put("기의 ", 1762);
-    freq.put("물의 ", 727);
-    freq.put("è", 77);
-    freq.put("의자 ", 89);
-    freq.put("공군", 148);
-    freq.put("공국", 116);
-    freq.put("담", 2045);
-    freq.put(" 허브", 61);
-    freq.put("품에 ", 127);
-    freq.put(" 수립", 238);
-    freq.put("부기관", 105);
-    freq.put("밖", 309);
-    freq.put("마로 ", 78);
-    freq.put("스와 ", 613);
-    freq.put("산문", 69);
-    freq.put(" 맞추", 106);
-    freq.put("산물", 335);
-    freq.put("공격", 404);
-    freq.put(" 벼", 76);
-    freq.put(" 킬로", 101);
-    freq.put(" 주축", 65);
-    freq.put("구밀", 163);
-    freq.put("버에", 60);
-    freq.put(" 단계", 303);
-    freq.put("공과", 122);
-    freq.put("고도", 1752);
-    freq.put("공공", 459);
-    freq.put("닝 ", 121);
-    freq.put(" 시초", 66);
-    freq.put("공고", 79);
-    freq.put("의료기", 64);
-    freq.put("공개", 410);
-    freq.put("브스", 61);
-    freq.put(" 철도", 572);
-    freq.put(" 주최", 206);
-    freq.put("탄생", 209);
-    freq.put("멸종", 98);
-    freq.put("공간", 766);
-    freq.put("키르", 123);
-    freq.put("랜", 2761);
-    freq.put("래한 ", 106);
-    freq.put("풀 ", 129);
-    freq.put(" 채택", 232);
-    freq.put(" 범", 953);
-    freq.put("템의 ", 139);
-    freq.put("왕국 ", 201);
-    freq.put("역한", 78);
-    freq.put("역학", 339);
-    freq.put("역하", 120);
-    freq.put("역할", 607);
-    freq.put("만과 ", 66);
-    freq.put("거대", 185);
-    freq.put("뷰 ", 75);
-    freq.put("현과 ", 107);
-    freq.put("드시 ", 89);
-    freq.put("문화", 5237);
-    freq.put("중생대", 120);
-    freq.put("업발", 66);
-    freq.put("예금", 73);
-    freq.put("발표되", 107);
-    freq.put("르고 ", 392);
-    freq.put(" 법적", 136);
-    freq.put("프가 ", 107);
-    freq.put(" 한나", 93);
-    freq.put("в ", 66);
-    freq.put("절 ", 333);
-    freq.put("수나 ", 68);
-    freq.put("춘천", 122);
-    freq.put("외무", 92);
-    freq.put("문헌", 145);
-    freq.put(" 법조", 68);
-    freq.put("적·", 123);
-    freq.put("대개 ", 139);
-    freq.put("용도", 148);
-    freq.put("경으로", 205);
-    freq.put("데타", 127);
-    freq.put("서도 ", 661);
-    freq.put("장하기", 60);
-    freq.put("전기 ", 326);
-    freq.put(" 걸쳐", 620);
-    freq.put("키며", 125);
-    freq.put("보스니", 124);
-    freq.put("별히", 78);
-    freq.put("·철", 281);
-    freq.put(" 쓰인", 357);
-    freq.put("술사", 85);
-    freq.put("출하여", 68);
-    freq.put("적 ", 6488);
-    freq.put("로드 ", 165);
-    freq.put("되는데", 137);
-    freq.put(" 동부", 560);
-    freq.put(" 동북", 136);
-    freq.put("문하", 118);
-    freq.put("문학", 996);
-    freq.put("포트", 180);
-    freq.put("좌표", 82);
-    freq.put("학적 ", 572);
-    freq.put("소장은", 80);
-    freq.put("명하였", 122);
-    freq.put("책은 ", 69);
-    freq.put("당에 ", 75);
-    freq.put(" 아라", 177);
-    freq.put("직된", 74);
-    freq.put(" 말기", 330);
-    freq.put("크래프", 177);
-    freq.put(" 동방", 166);
-    freq.put("베타 ", 78);
-    freq.put("최 ", 64);
-    freq.put("겨진다", 96);
-    freq.put(" 팔레", 125);
-    freq.put("애인", 203);
-    freq.put("춘추", 91);
-    freq.put("객이", 82);
-    freq.put("냈으", 120);
-    freq.put("카와 ", 236);
-    freq.put("술서", 149);
-    freq.put("에티", 108);
-    freq.put("체로", 624);
-    freq.put("여함을", 171);
-    freq.put("공급", 250);
-    freq.put("밭", 81);
-    freq.put("공기", 688);
-    freq.put("산림", 320);
-    freq.put("애자", 58);
-    freq.put(" 쓰였", 116);
-    freq.put("비아 ", 592);
-    freq.put("산리", 59);
-    freq.put("특수한", 100);
-    freq.put("에트", 351);
-    freq.put("남 ", 651);
-    freq.put("이러한", 453);
-    freq.put(" 아랍", 266);
-    freq.put("작으로", 431);
-    freq.put(" 아래", 375);
-    freq.put("론과", 135);
-    freq.put(" 론", 58);
-    freq.put("리청", 92);
-    freq.put(" 롤", 179);
-    freq.put("형태 ", 63);
-    freq.put(" 혐의", 64);
-    freq.put(" 롯", 72);
-    freq.put("두는 ", 58);
-    freq.put(" 롱", 64);
-    freq.put(" 총리", 306);
-    freq.put("인조", 157);
-    freq.put("카와", 268);
-    freq.put("경계를", 120);
-    freq.put("최적화", 72);
-    freq.put("술문화", 87);
-    freq.put("노비", 106);
-    freq.put("끌고 ", 65);
-    freq.put("나지 ", 80);
-    freq.put("먼", 1045);
-    freq.put(" 로", 5189);
-    freq.put(" 록", 326);
-    freq.put("《동", 63);
-    freq.put("네오", 95);
-    freq.put("랐다", 87);
-    freq.put("자동 ", 86);
-    freq.put(" 유출", 60);
-    freq.put(" 레", 2242);
-    freq.put(" 년간", 235);
-    freq.put("미분", 165);
-    freq.put("조", 17636);
-    freq.put("곳", 1654);
-    freq.put("카오", 100);
-    freq.put("인접", 487);
-    freq.put("인정", 511);
-    freq.put(" 봉", 588);
-    freq.put(" 루", 1582);
-    freq.put(" 행해", 125);
-    freq.put(" 년과", 115);
-    freq.put("였는", 131);
-    freq.put(" 연방", 722);
-    freq.put("《대", 78);
-    freq.put("선민", 529);
-    freq.put(" 행하", 123);
-    freq.put("사람으", 156);
-    freq.put("주도 ", 249);
-    freq.put("冲 ", 93);
-    freq.put("남성 ", 89);
-    freq.put("닉스", 176);
-    freq.put("사람의", 207);
-    freq.put(" 년경", 335);
-    freq.put("우시", 59);
-    freq.put("사람은", 77);
-    freq.put(" 계기", 111);
-    freq.put("흥", 1435);
-    freq.put(" 계급", 193);
-    freq.put("카운", 74);
-    freq.put("카우", 76);
-    freq.put("인종", 158);
-    freq.put("린다 ", 670);
-    freq.put("카의", 270);
-    freq.put("기술자", 91);
-    freq.put(" 르", 285);
-    freq.put("네이", 376);
-    freq.put(" 를", 2001);
-    freq.put("카인", 59);
-    freq.put("카이", 616);
-    freq.put("슭", 65);
-    freq.put("僅 ", 60);
-    freq.put("린 ", 1716);
-    freq.put("네의", 71);
-    freq.put("해가 ", 130);
-    freq.put("딸", 420);
-    freq.put("일까", 746);
-    freq.put("일기", 79);
-    freq.put("이상의", 447);
-    freq.put(" 서술", 85);
-    freq.put("였던", 503);
-    freq.put("야로 ", 92);
-    freq.put(" 뤼", 59);
-    freq.put("이상이", 81);
-    freq.put("영리", 199);
-    freq.put(" 유체", 74);
-    freq.put("주요한", 65);
-    freq.put(" 맡", 725);
-    freq.put(" 매", 2433);
-    freq.put(" 맥", 407);
-    freq.put(" 맨", 215);
-    freq.put("주하는", 151);
-    freq.put(" 맺", 219);
-    freq.put("홍보 ", 87);
-    freq.put(" 맹", 113);
-    freq.put("전문가", 188);
-    freq.put("계획 ", 143);
-    freq.put(" 링", 189);
-    freq.put("인지", 345);
-    freq.put(" 막", 816);
-    freq.put(" 많", 2225);
-    freq.put(" 만", 6286);
-    freq.put(" 말", 7151);
-    freq.put("교·", 290);
-    freq.put(" 맛", 124);
-    freq.put(" 맞", 858);
-    freq.put(" 망", 371);
-    freq.put("족에", 140);
-    freq.put("민경", 63);
-    freq.put("카자", 100);
-    freq.put(" 린", 107);
-    freq.put(" 릴", 78);
-    freq.put("도·", 76);
-    freq.put("인력", 158);
-    freq.put("《뉴", 90);
-    freq.put("네임", 79);
-    freq.put("회를 ", 455);
-    freq.put("축산식", 105);
-    freq.put("인증", 178);
-    freq.put(" 광범", 84);
-    freq.put("일군", 61);
-    freq.put("수아 ", 63);
-    freq.put(" 계곡", 100);
-    freq.put(" 함수", 391);
-    freq.put(" 면", 2578);
-    freq.put(" 멸", 242);
-    freq.put("마쓰다", 198);
-    freq.put(" 멀", 265);
-    freq.put(" 년까", 1209);
-    freq.put("압축", 117);
-    freq.put("스프레", 81);
-    freq.put(" 메", 2219);
-    freq.put(" 멕", 332);
-    freq.put(" 멘", 88);
-    freq.put(" 파라", 163);
-    freq.put(" 멜", 173);
-    freq.put("사람에", 109);
-    freq.put(" 머", 458);
-    freq.put(" 먹", 353);
-    freq.put(" 먼", 230);
-    freq.put("지부 ", 95);
-    freq.put(" 마법", 66);
-    freq.put("앞에 ", 58);
-    freq.put("노바", 67);
-    freq.put("문자 ", 261);
-    freq.put(" 之乙", 108);
-    freq.put("노보", 62);
-    freq.put("읽는", 62);
-    freq.put(" 문헌", 108);
-    freq.put("정당 ", 75);
-    freq.put(" 표준", 763);
-    freq.put(" 척추", 95);
-    freq.put("노벨", 252);
-    freq.put(" 파란", 59);
-    freq.put(" 모", 6818);
-    freq.put(" 목", 4311);
-    freq.put(" 몬", 267);
-    freq.put(" 몰", 372);
-    freq.put("결성", 349);
-    freq.put("되어 ", 4088);
-    freq.put(" 못", 580);
-    freq.put(" 몸", 407);
-    freq.put(" 몽", 316);
-    freq.put(" 몇", 341);
-    freq.put(" 명", 7874);
-    freq.put("초기", 696);
-    freq.put("잃", 128);
-    freq.put("기술서", 144);
-    freq.put("통령 ", 409);
-    freq.put("되던 ", 89);
-    freq.put("사관 ", 76);
-    freq.put("카야", 118);
-    freq.put("족으", 212);
-    freq.put("불렀다", 77);
-    freq.put("탑승", 57);
-    freq.put(" 丈三", 77);
-    freq.put("영미", 83);
-    freq.put("선로", 99);
-    freq.put("달성하", 68);
-    freq.put("족의", 411);
-    freq.put("쳤다", 142);
-    freq.put("정안전", 64);
-    freq.put("족은", 109);
-    freq.put(" 묶", 123);
-    freq.put("족을", 151);
-    freq.put(" 무", 4302);
-    freq.put("파의 ", 209);
-    freq.put(" 묻", 68);
-    freq.put(" 문", 7777);
-    freq.put(" 물", 2886);
-    freq.put("릿 ", 94);
-    freq.put("족이", 405);
-    freq.put("족인", 57);
-    freq.put("받는 ", 236);
-    freq.put("일간", 105);
-    freq.put("일가", 59);
-    freq.put(" 대륙", 393);
-    freq.put(" 붉", 127);
-    freq.put("일곱", 97);
-    freq.put("윌리", 271);
-    freq.put("카에", 232);
-    freq.put(" 대리", 110);
-    freq.put("총회", 148);
-    freq.put(" 미", 9777);
-    freq.put(" 유치", 74);
-    freq.put(" 믿", 184);
-    freq.put(" 민", 2788);
-    freq.put("용과 ", 88);
-    freq.put(" 뮤", 321);
-    freq.put("乙之 ", 116);
-    freq.put("한민국", 7350);
-    freq.put(" 서사", 93);
-    freq.put("노부", 168);
-    freq.put("녀의 ", 96);
-    freq.put("업인이", 86);
-    freq.put(" 뮌", 99);
-    freq.put("르헨티", 187);
-    freq.put("예수교", 59);
-    freq.put("영문", 119);
-    freq.put(" 유지", 523);
-    freq.put(" 사기", 64);
-    freq.put("단에 ", 234);
-    freq.put(" 뱀", 75);
-    freq.put("활 ", 172);
-    freq.put("제임스", 214);
-    freq.put("р", 321);
-    freq.put("강이 ", 84);
-    freq.put("미리", 145);
-    freq.put(" 밥", 73);
-    freq.put("델 ", 199);
-    freq.put("아어 ", 389);
-    freq.put("해외 ", 140);
-    freq.put(" 배", 2328);
-    freq.put(" 백", 1337);
-    freq.put(" 밴", 412);
-    freq.put(" 서유", 66);
-    freq.put("착하", 100);
-    freq.put("체를", 704);
-    freq.put("착한", 88);
-    freq.put(" 대비", 138);
-    freq.put("체르", 60);
-    freq.put(" 및", 5809);
-    freq.put(" 밑", 142);
-    freq.put(" 밖", 243);
-    freq.put("네수", 64);
-    freq.put(" 박", 1386);
-    freq.put(" 받", 1853);
-    freq.put(" 반", 3359);
-    freq.put("�", 268);
-    freq.put(" 발", 8680);
-    freq.put("유니버", 126);
-    freq.put("카시", 93);
-    freq.put("레일리", 489);
-    freq.put("강원도", 332);
-    freq.put("련하여", 63);
-    freq.put("미를", 235);
-    freq.put("세포의", 69);
-    freq.put(" 목적", 2802);
-    freq.put(" 본", 2950);
-    freq.put("亞亞 ", 112);
-    freq.put("미르", 208);
-    freq.put("기간 ", 297);
-    freq.put(" 변", 2214);
-    freq.put(" 챔피", 295);
-    freq.put(" 별", 990);
-    freq.put("네시", 339);
-    freq.put(" 병", 912);
-    freq.put(" 빼", 98);
-    freq.put("본에서", 359);
-    freq.put(" 베", 2451);
-    freq.put("름이 ", 380);
-    freq.put(" 중화", 785);
-    freq.put("템에", 113);
-    freq.put("亂三並", 62);
-    freq.put("네스", 338);
-    freq.put("유를 ", 151);
-    freq.put("여금", 57);
-    freq.put("고전 ", 139);
-    freq.put("스마트", 110);
-    freq.put("한나라", 81);
-    freq.put("더 ", 1406);
-    freq.put(" 벽", 136);
-    freq.put("다", 127946);
-    freq.put(" 버", 1308);
-    freq.put("亂三三", 97);
-    freq.put(" 번", 5470);
-    freq.put(" 벌", 737);
-    freq.put(" 벗", 132);
-    freq.put("여기", 352);
-    freq.put(" 법", 2859);
-    freq.put("카스", 306);
-    freq.put(" 로스", 253);
-    freq.put("ί", 112);
-    freq.put("三万", 69);
-    freq.put("종교 ", 464);
-    freq.put("행에 ", 116);
-    freq.put(" 은 ", 18128);
-    freq.put(" 연맹", 288);
-    freq.put("기술의", 232);
-    freq.put(" 문학", 506);
-    freq.put("기술을", 263);
-    freq.put("노무", 59);
-    freq.put("경기이", 114);
-    freq.put("요일 ", 146);
-    freq.put(" 봄", 131);
-    freq.put("기술이", 179);
-    freq.put("기술인", 74);
-    freq.put("큰 ", 1169);
-    freq.put("믿", 187);
-    freq.put("기초 ", 68);
-    freq.put("람", 3445);
-    freq.put("노미", 136);
-    freq.put("경제 ", 436);
-    freq.put("종교·", 271);
-    freq.put(" 광물", 68);
-    freq.put("경기장", 259);
-    freq.put("미로", 269);
-    freq.put(" 셋째", 71);
-    freq.put(" 등기", 66);
-    freq.put(" 유적", 194);
-    freq.put(" 유전", 388);
-    freq.put("승 ", 599);
-    freq.put(" 서울", 3544);
-    freq.put("찰청 ", 197);
-    freq.put(" 파나", 61);
-    freq.put(" 부", 9201);
-    freq.put(" 북", 4515);
-    freq.put(" 분", 5145);
-    freq.put(" 불", 4668);
-    freq.put("로벌 ", 412);
-    freq.put(" 붕", 186);
-    freq.put(" 등급", 161);
-    freq.put(" 붙", 702);
-    freq.put(" 빠", 372);
-    freq.put(" 빨", 157);
-    freq.put(" 대백", 573);
-    freq.put(" 빵", 61);
-    freq.put(" 추상", 113);
-    freq.put("응을 ", 89);
-    freq.put(" 빅", 231);
-    freq.put(" 빈", 391);
-    freq.put(" 빌", 529);
-    freq.put("유고슬", 66);
-    freq.put("로 ", 67654);
-    freq.put(" 빛", 315);
-    freq.put(" 빙", 124);
-    freq.put("방의", 550);
-    freq.put("템의", 139);
-    freq.put("노력", 131);
-    freq.put("亞之 ", 255);
-    freq.put("템을", 168);
-    freq.put("템은", 65);
-    freq.put(" 문화", 3374);
-    freq.put("템이", 180);
-    freq.put("전할 ", 64);
-    freq.put(" 브", 1829);
-    freq.put("제자유", 65);
-    freq.put(" 블", 858);
-    freq.put("킨다 ", 728);
-    freq.put("닿아", 111);
-    freq.put("스트라", 255);
-    freq.put("성된 ", 636);
-    freq.put("나톨리", 87);
-    freq.put("여겨", 282);
-    freq.put(" 파동", 83);
-    freq.put("거는", 139);
-    freq.put(" 로서", 72);
-    freq.put("네상", 85);
-    freq.put(" 뻗", 111);
-    freq.put(" 대법", 85);
-    freq.put("게이트", 71);
-    freq.put("여가", 61);
-    freq.put("카라", 247);
-    freq.put("입출", 70);
-    freq.put(" 마련", 126);
-    freq.put("여개", 65);
-    freq.put("여객", 267);
-    freq.put(" 대변", 60);
-    freq.put(" 서양", 207);
-    freq.put("니어 ", 84);
-    freq.put("카사", 70);
-    freq.put("발명", 165);
-    freq.put("라노 ", 78);
-    freq.put("주어지", 59);
-    freq.put("법이다", 392);
-    freq.put("주어진", 139);
-    freq.put(" 등과", 227);
-    freq.put("노르", 399);
-    freq.put("크리스", 321);
-    freq.put("태는 ", 61);
-    freq.put("인류", 317);
-    freq.put(" 뽑", 105);
-    freq.put("술연구", 104);
-    freq.put("안구 ", 63);
-    freq.put("함된 ", 80);
-    freq.put(" 마리", 480);
-    freq.put("패 ", 76);
-    freq.put(" 뼈", 65);
-    freq.put("문이다", 346);
-    freq.put("선박", 143);
-    freq.put("선발", 112);
-    freq.put("챔피언", 309);
-    freq.put("챔", 331);
-    freq.put(" 마르", 422);
-    freq.put("선보", 70);
-    freq.put("객", 963);
-    freq.put("청하", 95);
-    freq.put(" 대부", 829);
-    freq.put("의에 ", 179);
-    freq.put("섯", 386);
-    freq.put(" 뿐", 232);
-    freq.put("균형", 133);
-    freq.put("기술에", 58);
-    freq.put("형식 ", 59);
-    freq.put("노리", 119);
-    freq.put(" 중학", 70);
-    freq.put("나기 ", 67);
-    freq.put("정동 ", 164);
-    freq.put("터에서", 152);
-    freq.put("네소", 58);
-    freq.put("기술연", 67);
-    freq.put("체의 ", 618);
-    freq.put("할 ", 5085);
-    freq.put("유일한", 211);
-    freq.put("유일하", 126);
-    freq.put("람들에", 76);
-    freq.put(" 유엔", 66);
-    freq.put("순", 2152);
-    freq.put(" 끼", 191);
-    freq.put("여러 ", 1385);
-    freq.put(" 끊", 84);
-    freq.put(" 끈", 60);
-    freq.put(" 개조", 140);
-    freq.put(" 유역", 93);
-    freq.put("네치", 59);
-    freq.put("작가 ", 277);
-    freq.put(" 끝", 706);
-    freq.put("가하였", 118);
-    freq.put("남시 ", 83);
-    freq.put("스트리", 632);
-    freq.put("골든", 61);
-    freq.put(" 도쿠", 173);
-    freq.put("선대", 74);
-    freq.put("수 ", 7565);
-    freq.put("괄하는", 86);
-    freq.put("록하였", 99);
-    freq.put("스트를", 69);
-    freq.put("곳에서", 166);
-    freq.put(" 로켓", 129);
-    freq.put("선도", 157);
-    freq.put("인상", 83);
-    freq.put(" 중", 15239);
-    freq.put("파리 ", 176);
-    freq.put("도입하", 78);
-    freq.put(" 날", 631);
-    freq.put("원에 ", 338);
-    freq.put("적이 ", 256);
-    freq.put(" 남", 6428);
-    freq.put(" 납", 167);
-    freq.put(" 낮", 336);
-    freq.put("치로 ", 163);
-    freq.put(" 낭", 128);
-    freq.put(" 낳", 116);
-    freq.put(" 낱", 228);
-    freq.put(" 내", 4309);
-    freq.put(" 낸", 132);
-    freq.put("네치아", 57);
-    freq.put(" 모든", 1118);
-    freq.put("포 ", 705);
-    freq.put("동부에", 445);
-    freq.put(" 나", 7418);
-    freq.put(" 낙", 348);
-    freq.put(" 추측", 96);
-    freq.put("체되", 102);
-    freq.put("단체 ", 215);
-    freq.put("관급", 89);
-    freq.put("미들", 57);
-    freq.put(" 노", 3844);
-    freq.put(" 녹", 420);
-    freq.put(" 논", 982);
-    freq.put(" 대대", 58);
-    freq.put(" 년", 48504);
-    freq.put("부터 ", 5567);
-    freq.put("미드", 124);
-    freq.put("성동 ", 77);
-    freq.put(" 넣", 235);
-    freq.put(" 네", 2034);
-    freq.put(" 넥", 74);
-    freq.put(" 꼬리", 58);
-    freq.put("평화", 337);
-    freq.put(" 넷", 115);
-    freq.put("섬에", 271);
-    freq.put("년으로", 59);
-    freq.put(" 너", 176);
-    freq.put(" 표시", 264);
-    freq.put("즈로 ", 87);
-    freq.put(" 넓", 459);
-    freq.put(" 널", 543);
-    freq.put(" 대덕", 65);
-    freq.put(" 넘", 356);
-    freq.put("퍼", 1823);
-    freq.put("럿", 63);
-    freq.put(" 부 ", 168);
-    freq.put(" 마라", 96);
-    freq.put("뮌", 153);
-    freq.put(" 과학", 1159);
-    freq.put(" 회화", 73);
-    freq.put("형", 7186);
-    freq.put("스트로", 176);
-    freq.put(" 뇌", 233);
-    freq.put("용될 ", 69);
-    freq.put("살이풀", 102);
-    freq.put("용했다", 68);
-    freq.put("지", 53776);
-    freq.put("구하는", 390);
-    freq.put("한의 ", 141);
-    freq.put(" 서쪽", 905);
-    freq.put(" 지", 18217);
-    freq.put("배하는", 77);
-    freq.put(" 그와", 88);
-    freq.put("던에", 74);
-    freq.put(" 놀", 187);
-    freq.put("리아 ", 2068);
-    freq.put(" 대도", 60);
-    freq.put("노란", 66);
-    freq.put(" 농", 2185);
-    freq.put(" 높", 1360);
-    freq.put(" 놓", 344);
-    freq.put("노래", 459);
-    freq.put("포유류", 74);
-    freq.put(" 대동", 68);
-    freq.put("기술적", 76);
-    freq.put("관광", 1592);
-    freq.put(" 뉴", 1506);
-    freq.put("丘", 5494);
-    freq.put(" 초 ", 138);
-    freq.put("직으로", 106);
-    freq.put("년마", 62);
-    freq.put(" 마드", 70);
-    freq.put("질로 ", 92);
-    freq.put("스크톱", 69);
-    freq.put("대기 ", 87);
-    freq.put(" 키르", 89);
-    freq.put("이라 ", 885);
-    freq.put(" 유입", 69);
-    freq.put("و", 102);
-    freq.put(" 누", 647);
-    freq.put(" 눈", 259);
-    freq.put("관구", 95);
-    freq.put(" 총독", 86);
-    freq.put("인수", 210);
-    freq.put("일으킨", 137);
-    freq.put("케이", 822);
-    freq.put("케인", 158);
-    freq.put("란과", 57);
-    freq.put("일으키", 165);
-    freq.put("람들은", 61);
-    freq.put(" 다", 9191);
-    freq.put(" 닥", 60);
-    freq.put(" 단", 4273);
-    freq.put(" 닮", 58);
-    freq.put(" 달", 1640);
-    freq.put(" 닭", 57);
-    freq.put("물 ", 1678);
-    freq.put("보여주", 101);
-    freq.put(" 닿", 61);
-    freq.put("어트", 94);
-    freq.put(" 니", 852);
-    freq.put(" 닌", 150);
-    freq.put("농업인", 62);
-    freq.put("노드", 76);
-    freq.put("인식", 243);
-    freq.put(" 닛", 81);
-    freq.put("능한 ", 349);
-    freq.put(" 유인", 76);
-    freq.put(" 유일", 468);
-    freq.put("깃", 99);
-    freq.put(" 늦", 61);
-    freq.put("세기경", 68);
-    freq.put(" 능", 471);
-    freq.put("인스", 118);
-    freq.put(" 같이", 483);
-    freq.put("인슈", 60);
-    freq.put("어드벤", 57);
-    freq.put(" 같은", 1691);
-    freq.put("ич", 83);
-    freq.put(" 통상", 134);
-    freq.put(" 느", 260);
-    freq.put(" 는", 22679);
-    freq.put(" 늘", 155);
-    freq.put("캐롤라", 68);
-    freq.put(" 덧", 76);
-    freq.put(" 덩", 92);
-    freq.put(" 덮", 105);
-    freq.put(" 데", 3003);
-    freq.put(" 덴", 317);
-    freq.put("영동", 84);
-    freq.put(" 델", 206);
-    freq.put("아스 ", 84);
-    freq.put(" 예금", 57);
-    freq.put("팝 ", 104);
-    freq.put(" 더", 1674);
-    freq.put(" 덕", 284);
-    freq.put("뼈 ", 57);
-    freq.put(" 추출", 59);
-    freq.put("이트 ", 656);
-    freq.put("수록된", 81);
-    freq.put(" 대", 30352);
-    freq.put("수록되", 127);
-    freq.put(" 댄", 143);
-    freq.put(" 유용", 63);
-    freq.put("물관이", 96);
-    freq.put("ن ", 67);
-    freq.put(" 서적", 93);
-    freq.put("비에 ", 63);
-    freq.put("짧은 ", 150);
-    freq.put("율을 ", 155);
-    freq.put(" 돼", 72);
-    freq.put("수행 ", 60);
-    freq.put("섬유", 95);
-    freq.put(" 독", 3941);
-    freq.put(" 돈", 178);
-    freq.put("직의 ", 93);
-    freq.put(" 돌", 648);
-    freq.put("디언 ", 96);
-    freq.put(" 돕", 101);
-    freq.put("섬으", 166);
-    freq.put(" 동", 9304);
-    freq.put("모하기", 104);
-    freq.put("섬을", 86);
-    freq.put("관계", 1290);
-    freq.put("고려의", 79);
-    freq.put("섬의", 133);
-    freq.put("입사", 58);
-    freq.put("개된 ", 81);
-    freq.put("퓨터를", 66);
-    freq.put("섬이", 172);
-    freq.put("관과", 175);
-    freq.put("뿐이", 69);
-    freq.put(" 둥", 104);
-    freq.put("입을", 113);
-    freq.put("의해 ", 1904);
-    freq.put("입은", 77);
-    freq.put("롤 ", 88);
-    freq.put(" 운항", 58);
-    freq.put("사하였", 95);
-    freq.put("우승 ", 162);
-    freq.put("수도권", 102);
-    freq.put(" 마다", 65);
-    freq.put("국도 ", 142);
-    freq.put("르러", 58);
-    freq.put("일제강", 66);
-    freq.put("카의 ", 270);
-    freq.put("영등", 168);
-    freq.put(" 두", 3055);
-    freq.put(" 파르", 82);
-    freq.put(" 목사", 116);
-    freq.put(" 둔", 309);
-    freq.put("입이", 70);
-    freq.put(" 둘", 552);
-    freq.put(" 될", 193);
-    freq.put("데이 ", 96);
-    freq.put("仗", 58);
-    freq.put(" 소니", 105);
-    freq.put("하우", 219);
-    freq.put("버지는", 99);
-    freq.put("대회에", 121);
-    freq.put(" 되", 3560);
-    freq.put("점으로", 208);
-    freq.put(" 된", 1374);
-    freq.put("검", 1618);
-    freq.put(" 들", 1303);
-    freq.put("품의", 327);
-    freq.put("미노", 144);
-    freq.put(" 등", 10121);
-    freq.put("람으", 164);
-    freq.put("서유럽", 60);
-    freq.put(" 드", 1545);
-    freq.put(" 득", 75);
-    freq.put("럭비", 137);
-    freq.put(" 뒤", 936);
-    freq.put("丘亞 ", 97);
-    freq.put("미네", 81);
-    freq.put("람이", 690);
-    freq.put(" 뒷", 121);
-    freq.put("영되", 313);
-    freq.put("영된", 120);
-    freq.put("람을", 297);
-    freq.put("람은", 92);
-    freq.put("입장", 148);
-    freq.put(" 파리", 324);
-    freq.put("족주", 88);
-    freq.put(" 유성", 164);
-    freq.put(" 운행", 339);
-    freq.put("丞 ", 58);
-    freq.put("립을 ", 177);
-    freq.put("람의", 253);
-    freq.put(" 목소", 63);
-    freq.put("야마 ", 336);
-    freq.put("품은", 147);
-    freq.put("달에 ", 101);
-    freq.put("나미", 178);
-    freq.put(" 땅", 251);
-    freq.put(" 때", 4328);
-    freq.put("말해 ", 85);
-    freq.put("파는 ", 76);
-    freq.put("어하", 99);
-    freq.put("대만 ", 63);
-    freq.put("옹호", 75);
-    freq.put(" 따", 3445);
-    freq.put(" 딴", 80);
-    freq.put(" 딸", 364);
-    freq.put("갖추고", 82);
-    freq.put("생기는", 109);
-    freq.put(" 유사", 324);
-    freq.put("미나", 192);
-    freq.put("어항", 124);
-    freq.put(" 디", 2243);
-    freq.put("모스크", 232);
-    freq.put("회에 ", 290);
-    freq.put("체나", 63);
-    freq.put(" 뮤직", 150);
-    freq.put(" 뮤지", 132);
-    freq.put("품이", 502);
-    freq.put(" 대략", 109);
-    freq.put("본으", 94);
-    freq.put("노동", 651);
-    freq.put("인에", 349);
-    freq.put("丁之 ", 446);
-    freq.put(" 떠", 221);
-    freq.put("호에 ", 574);
-    freq.put("도가 ", 497);
-    freq.put(" 떨", 873);
-    freq.put("도어 ", 73);
-    freq.put("의원을", 113);
-    freq.put("인어", 137);
-    freq.put(" 부하", 57);
-    freq.put(" 대량", 101);
-    freq.put("이도 ", 156);
-    freq.put(" 식품", 226);
-    freq.put("의원이", 92);
-    freq.put("정도를", 60);
-    freq.put(" 뿌", 163);
-    freq.put("반한 ", 62);
-    freq.put("목에 ", 210);
-    freq.put("륙에 ", 70);
-    freq.put("카가 ", 78);
-    freq.put("민주 ", 136);
-    freq.put(" 손자", 147);
-    freq.put("㎢ ", 1457);
-    freq.put("암살", 118);
-    freq.put("무와 ", 69);
-    freq.put("층에 ", 431);
-    freq.put("냐 ", 176);
-    freq.put("고려시", 129);
-    freq.put("하위", 156);
-    freq.put("생하는", 237);
-    freq.put("공식 ", 315);
-    freq.put("반민족", 66);
-    freq.put(" 또", 8172);
-    freq.put("람에", 161);
-    freq.put(" 서초", 356);
-    freq.put(" 뛰", 288);
-    freq.put(" 취하", 75);
-    freq.put("면과", 138);
-    freq.put("기서 ", 119);
-    freq.put("경기에", 89);
-    freq.put("때까", 243);
-    freq.put("인원", 74);
-    freq.put("아날로", 71);
-    freq.put("인용", 176);
-    freq.put(" 추정", 261);
-    freq.put("제하여", 61);
-    freq.put("대회이", 310);
-    freq.put(" 낙엽", 63);
-    freq.put("비롯해", 85);
-    freq.put("국", 45098);
-    freq.put("비롯하", 108);
-    freq.put("비롯한", 246);
-    freq.put(" 뚜", 58);
-    freq.put("대회의", 76);
-    freq.put(" 띠", 142);
-    freq.put(" 부품", 80);
-    freq.put("어휘", 60);
-    freq.put("아이 ", 66);
-    freq.put(" 가입", 175);
-    freq.put("인인", 120);
-    freq.put(" 추진", 344);
-    freq.put("인이", 4001);
-    freq.put(" 락", 86);
-    freq.put("미니", 258);
-    freq.put(" 유신", 72);
-    freq.put(" 띄", 61);
-    freq.put("인은", 257);
-    freq.put("인을", 537);
-    freq.put("인의", 1113);
-    freq.put(" 뜨", 65);
-    freq.put("그룹 ", 318);
-    freq.put("인으", 806);
-    freq.put(" 뜻", 2081);
-    freq.put("타는 ", 77);
-    freq.put("랍 ", 91);
-    freq.put("튜디오", 194);
-    freq.put(" 소유", 309);
-    freq.put("선되", 118);
-    freq.put("미는", 124);
-    freq.put("丁", 10402);
-    freq.put("여겨진", 95);
-    freq.put("여겨지", 132);
-    freq.put("체는", 221);
-    freq.put(" 러", 1462);
-    freq.put(" 럭", 156);
-    freq.put(" 런", 332);
-    freq.put("∼ ", 117);
-    freq.put("카지", 59);
-    freq.put(" 야마", 192);
-    freq.put("안의 ", 228);
-    freq.put("케스", 103);
-    freq.put("ر", 100);
-    freq.put(" 연대", 172);
-    freq.put("먼저", 128);
-    freq.put(" 키보", 71);
-    freq.put("합으로", 111);
-    freq.put("평택", 84);
-    freq.put("인재", 122);
-    freq.put("이시아", 128);
-    freq.put(" 랩", 96);
-    freq.put(" 랭", 89);
-    freq.put("텐 ", 76);
-    freq.put(" 랴", 57);
-    freq.put("템은 ", 65);
-    freq.put(" 란", 706);
-    freq.put("도자이", 65);
-    freq.put(" 람", 83);
-    freq.put(" 랑", 74);
-    freq.put("인자", 89);
-    freq.put("사하여", 75);
-    freq.put(" 랜", 122);
-    freq.put("광주광", 201);
-    freq.put(" 연결", 746);
-    freq.put("결을", 132);
-    freq.put("떠한 ", 154);
-    freq.put("어져", 637);
-    freq.put(" 편리", 65);
-    freq.put("리한 ", 169);
-    freq.put(" 군대", 254);
-    freq.put("여명", 94);
-    freq.put(" 과천", 67);
-    freq.put(" 중시", 60);
-    freq.put("어졌", 507);
-    freq.put(" 연고", 210);
-    freq.put(" 몇 ", 197);
-    freq.put("티벌", 59);
-    freq.put("었으며", 1637);
-    freq.put(" 관악", 81);
-    freq.put("잎은", 109);
-    freq.put("어족", 218);
-    freq.put("티베", 160);
-    freq.put("체국", 70);
-    freq.put("뿐만", 235);
-    freq.put(" 연계", 84);
-    freq.put(" 중심", 1728);
-    freq.put("게오", 79);
-    freq.put("드르 ", 75);
-    freq.put("미국", 5159);
-    freq.put("속도 ", 68);
-    freq.put("구역상", 152);
-    freq.put("중", 19356);
-    freq.put("미군", 124);
-    freq.put("캠퍼", 91);
-    freq.put("인을 ", 537);
-    freq.put("많아", 58);
-    freq.put("백질 ", 70);
-    freq.put("구간이", 72);
-    freq.put("후", 8266);
-    freq.put("협력 ", 130);
-    freq.put("총연", 66);
-    freq.put("표되었", 92);
-    freq.put(" 출전", 165);
-    freq.put("할한", 336);
-    freq.put(" 군도", 61);
-    freq.put("종과 ", 71);
-    freq.put("스어 ", 438);
-    freq.put("머리", 313);
-    freq.put("라디오", 334);
-    freq.put("카를 ", 215);
-    freq.put(" 마찬", 135);
-    freq.put("방식 ", 87);
-    freq.put(" 끌", 148);
-    freq.put(" 문서", 489);
-    freq.put("판의 ", 77);
-    freq.put("체가", 469);
-    freq.put("게임", 2275);
-    freq.put("선조 ", 80);
-    freq.put(" 호 ", 622);
-    freq.put("선에 ", 199);
-    freq.put("셜 ", 158);
-    freq.put(" 쪽", 266);
-    freq.put("쪽", 5565);
-    freq.put(" 월 ", 22165);
-    freq.put("족하", 252);
-    freq.put(" 연극", 159);
-    freq.put("족한", 81);
-    freq.put("하임", 58);
-    freq.put("녀는", 98);
-    freq.put("á", 169);
-    freq.put("책의 ", 157);
-    freq.put("효과를", 107);
-    freq.put(" 운전", 103);
-    freq.put("국어로", 84);
-    freq.put("반대로", 62);
-    freq.put("인물이", 326);
-    freq.put("해지는", 107);
-    freq.put("회이다", 450);
-    freq.put("족행", 61);
-    freq.put("포한", 64);
-    freq.put("설립되", 451);
-    freq.put("설립된", 2612);
-    freq.put("체결", 240);
-    freq.put(" 연관", 129);
-    freq.put("й", 118);
-    freq.put(" 밖의", 74);
-    freq.put("간된", 75);
-    freq.put("군에서", 97);
-    freq.put("강점기", 429);
-    freq.put("짐", 242);
-    freq.put("게이", 356);
-    freq.put(" 난 ", 119);
-    freq.put("체계", 709);
-    freq.put("어지", 702);
-    freq.put(" 연구", 2349);
-    freq.put("之丙之", 157);
-    freq.put("미가", 155);
-    freq.put("예로 ", 72);
-    freq.put("양으로", 132);
-    freq.put("제학자", 107);
-    freq.put("쟁은 ", 76);
-    freq.put("체고", 109);
-    freq.put("트 ", 6929);
-    freq.put("졌으나", 61);
-    freq.put("랄 ", 61);
-    freq.put("연안에", 133);
-    freq.put("동쪽으", 984);
-    freq.put("밴", 506);
-    freq.put("럽게", 67);
-    freq.put("주와 ", 707);
-    freq.put("연합 ", 418);
-    freq.put("럽과", 65);
-    freq.put(" 중생", 144);
-    freq.put("처분", 130);
-    freq.put("도시에", 84);
-    freq.put("란드", 1305);
-    freq.put("청사", 253);
-    freq.put("닫", 65);
-    freq.put("에피소", 110);
-    freq.put(" 광고", 196);
-    freq.put("때는", 184);
-    freq.put("외", 4313);
-    freq.put("북아메", 178);
-    freq.put(" 연기", 182);
-    freq.put("수행", 909);
-    freq.put("이론 ", 210);
-    freq.put("많이", 591);
-    freq.put("사자 ", 61);
-    freq.put("인으로", 806);
-    freq.put("많은", 1276);
-    freq.put("심적", 69);
-    freq.put("총장", 195);
-    freq.put("체고비", 106);
-    freq.put("총재", 61);
-    freq.put("티븐", 77);
-    freq.put(" 보이", 420);
-    freq.put("릭스 ", 81);
-    freq.put("샌", 195);
-    freq.put("많으", 66);
-    freq.put("티브", 220);
-    freq.put("중의 ", 536);
-    freq.put(" 문신", 338);
-    freq.put("필 ", 124);
-    freq.put("일부", 2152);
-    freq.put(" 행위", 568);
-    freq.put("칠 ", 70);
-    freq.put(" 마그", 88);
-    freq.put("앤젤레", 101);
-    freq.put("관되", 68);
-    freq.put(" 중소", 133);
-    freq.put("죄의 ", 57);
-    freq.put(" 밖에", 125);
-    freq.put(" 수치", 83);
-    freq.put("애를 ", 72);
-    freq.put("여름", 122);
-    freq.put("처벌", 87);
-    freq.put("청소", 381);
-    freq.put("슬란", 124);
-    freq.put("받지", 126);
-    freq.put("카프", 65);
-    freq.put("일방", 62);
-    freq.put("짧", 228);
-    freq.put("일반", 1994);
-    freq.put("자인 ", 552);
-    freq.put("일보", 361);
-    freq.put("주이", 578);
-    freq.put(" 중서", 84);
-    freq.put("일본", 4937);
-    freq.put(" 중성", 88);
-    freq.put("터널 ", 62);
-    freq.put(" 중세", 272);
-    freq.put(" 서태", 96);
-    freq.put(" 등록", 235);
-    freq.put("여를", 144);
-    freq.put("타고 ", 84);
-    freq.put("리면", 59);
-    freq.put(" 도 ", 370);
-    freq.put("산과 ", 144);
-    freq.put("차례의", 95);
-    freq.put(" 냉", 157);
-    freq.put(" 중요", 799);
-    freq.put("협약 ", 74);
-    freq.put("민주", 1442);
-    freq.put("계열 ", 117);
-    freq.put(" 거", 3157);
-    freq.put(" 대기", 219);
-    freq.put("청원", 71);
-    freq.put(" 건", 2744);
-    freq.put(" 걸", 1004);
-    freq.put(" 원형", 97);
-    freq.put(" 붕괴", 168);
-    freq.put("총선", 155);
-    freq.put("영과", 63);
-    freq.put(" 갤", 90);
-    freq.put("막", 1783);
-    freq.put("가장 ", 2202);
-    freq.put(" 계몽", 59);
-    freq.put(" 개 ", 1973);
-    freq.put("말의 ", 116);
-    freq.put(" 가", 18345);
-    freq.put(" 각", 2309);
-    freq.put("란다", 72);
-    freq.put(" 갈", 698);
-    freq.put("교이다", 212);
-    freq.put("뉴기", 78);
-    freq.put("무의 ", 132);
-    freq.put(" 값", 267);
-    freq.put(" 감", 1783);
-    freq.put(" 갑", 208);
-    freq.put(" 갖", 887);
-    freq.put(" 강", 4617);
-    freq.put("게시", 63);
-    freq.put(" 같", 2403);
-    freq.put(" 개", 12530);
-    freq.put(" 객", 258);
-    freq.put(" 고", 8430);
-    freq.put(" 곡", 823);
-    freq.put(" 곧", 169);
-    freq.put(" 곤", 198);
-    freq.put("민족", 1125);
-    freq.put(" 골", 477);
-    freq.put(" 곳", 1375);
-    freq.put(" 곰", 60);
-    freq.put(" 곱", 95);
-    freq.put(" 공", 10814);
-    freq.put("도스 ", 66);
-    freq.put("범 ", 366);
-    freq.put("한에", 57);
-    freq.put(" 계", 3522);
-    freq.put(" 총괄", 120);
-    freq.put("기고 ", 87);
-    freq.put("수화", 58);
-    freq.put(" 과정", 755);
-    freq.put(" 겪", 88);
-    freq.put(" 행성", 260);
-    freq.put(" 겨", 197);
-    freq.put(" 격", 403);
-    freq.put("념물", 120);
-    freq.put(" 결", 2608);
-    freq.put("폼 ", 65);
-    freq.put("울산광", 189);
-    freq.put(" 겹", 79);
-    freq.put(" 경", 10290);
-    freq.put(" 것", 7525);
-    freq.put(" 검", 993);
-    freq.put("민정", 107);
-    freq.put("카트", 104);
-    freq.put(" 겉", 64);
-    freq.put(" 게", 2860);
-    freq.put(" 겐", 93);
-    freq.put("물과 ", 174);
-    freq.put("크기의", 78);
-    freq.put("먼트", 452);
-    freq.put(" 국", 11641);
-    freq.put(" 굳", 62);
-    freq.put("어촌", 137);
-    freq.put(" 굴", 151);
-    freq.put(" 취임", 66);
-    freq.put(" 교", 6257);
-    freq.put(" 중장", 65);
-    freq.put("민지", 365);
-    freq.put("오다", 102);
-    freq.put("발전 ", 299);
-    freq.put(" 멤버", 192);
-    freq.put(" 둘러", 256);
-    freq.put("й ", 90);
-    freq.put(" 행사", 339);
-    freq.put("청자", 73);
-    freq.put(" 괴", 232);
-    freq.put(" 두었", 68);
-    freq.put("광부 ", 1095);
-    freq.put("각각 ", 274);
-    freq.put("청장", 193);
-    freq.put(" 관", 8286);
-    freq.put("말한다", 3380);
-    freq.put("래에 ", 110);
-    freq.put("희", 960);
-    freq.put("스터미", 113);
-    freq.put("랜스", 139);
-    freq.put(" 광", 2185);
-    freq.put("네팔", 64);
-    freq.put("권리 ", 62);
-    freq.put(" 균", 198);
-    freq.put("청은", 176);
-    freq.put("포츠 ", 283);
-    freq.put("三之 ", 901);
-    freq.put("없고", 95);
-    freq.put(" 그", 13695);
-    freq.put(" 극", 746);
-    freq.put("청의", 110);
-    freq.put(" 근", 1629);
-    freq.put("견되었", 130);
-    freq.put(" 귀", 590);
-    freq.put(" 담당", 539);
-    freq.put(" 년마", 59);
-    freq.put("영국", 2099);
-    freq.put("낮", 351);
-    freq.put("청이", 131);
-    freq.put(" 침입", 81);
-    freq.put("머니는", 107);
-    freq.put("품에", 167);
-    freq.put(" 규", 1420);
-    freq.put("카페", 78);
-    freq.put(" 중의", 484);
-    freq.put(" 종 ", 214);
-    freq.put(" 천 ", 124);
-    freq.put("말기 ", 110);
-    freq.put(" 중이", 151);
-    freq.put("심 ", 452);
-    freq.put("민중", 107);
-    freq.put(" 중인", 117);
-    freq.put("강과 ", 246);
-    freq.put(" 권", 1787);
-    freq.put("일명", 83);
-    freq.put(" 난", 587);
-    freq.put("청으", 59);
-    freq.put(" 서해", 142);
-    freq.put(" 깨", 169);
-    freq.put("있는데", 320);
-    freq.put("선구", 92);
-    freq.put(" 깃", 81);
-    freq.put(" 김", 1910);
-    freq.put("마드리", 66);
-    freq.put("송하는", 91);
-    freq.put(" 깊", 185);
-    freq.put(" 까", 271);
-    freq.put("선교", 176);
-    freq.put("렴", 153);
-    freq.put(" 대개", 167);
-    freq.put("지중해", 127);
-    freq.put(" 기", 21288);
-    freq.put(" 긴", 363);
-    freq.put(" 길", 1008);
-    freq.put(" 어 ", 61);
-    freq.put("샌프", 83);
-    freq.put("처리", 574);
-    freq.put(" 금", 1723);
-    freq.put("시즌 ", 224);
-    freq.put(" 긍", 64);
-    freq.put("티모", 92);
-    freq.put("카타", 138);
-    freq.put("처를", 60);
-    freq.put("리조", 116);
-    freq.put("월부터", 252);
-    freq.put("신성", 225);
-    freq.put("해살이", 124);
-    freq.put(" 대공", 148);
-    freq.put("일리", 688);
-    freq.put("악기 ", 166);
-    freq.put("대성 ", 58);
-    freq.put("굽", 77);
-    freq.put("크리트", 128);
-    freq.put("회원의", 67);
-    freq.put("선거", 1124);
-    freq.put("청에", 126);
-    freq.put(" 꽃", 178);
-    freq.put("일로", 231);
-    freq.put(" 중에", 696);
-    freq.put("여부", 101);
-    freq.put("기술하", 75);
-    freq.put(" 꼬", 116);
-    freq.put(" 대구", 602);
-    freq.put("일련", 190);
-    freq.put(" 꼽", 102);
-    freq.put("제로 ", 572);
-    freq.put(" 문인", 57);
-    freq.put("순 ", 180);
-    freq.put("일렉", 99);
-    freq.put("선고", 72);
-    freq.put(" 합쳐", 178);
-    freq.put("丑", 412);
-    freq.put(" 문자", 616);
-    freq.put("밝", 341);
-    freq.put("선과", 230);
-    freq.put(" 꿈", 78);
-    freq.put(" 문장", 142);
-    freq.put("열의 ", 161);
-    freq.put("재연구", 60);
-    freq.put("구하고", 183);
-    freq.put("게서", 76);
-    freq.put("높은 ", 477);
-    freq.put(" 회전", 155);
-    freq.put(" 중앙", 1159);
-    freq.put("연맹이", 57);
-    freq.put("법칙 ", 74);
-    freq.put(" 꾸", 91);
-    freq.put("망원경", 111);
-    freq.put(" 대규", 162);
-    freq.put("촌 ", 246);
-    freq.put("티드", 127);
-    freq.put("ко", 62);
-    freq.put(" 문제", 899);
-    freq.put("술이 ", 63);
-    freq.put(" 출생", 337);
-    freq.put("처럼", 463);
-    freq.put("금 ", 663);
-    freq.put("순한 ", 97);
-    freq.put("평의", 64);
-    freq.put(" 유행", 117);
-    freq.put(" 회장", 211);
-    freq.put("큰", 1271);
-    freq.put(" 파괴", 164);
-    freq.put("늘날", 414);
-    freq.put(" 곡은", 71);
-    freq.put("노선의", 63);
-    freq.put(" 곡을", 68);
-    freq.put("일러", 233);
-    freq.put(" 회의", 273);
-    freq.put("모니터", 62);
-    freq.put(" 부흥", 64);
-    freq.put(" 건전", 249);
-    freq.put("노선이", 141);
-    freq.put("어사", 104);
-    freq.put(" 곡이", 150);
-    freq.put("경우 ", 678);
-    freq.put("때로", 134);
-    freq.put("시상", 135);
-    freq.put(" 목표", 359);
-    freq.put("암호", 151);
-    freq.put("결한 ", 67);
-    freq.put("뉴스 ", 176);
-    freq.put("수법", 94);
-    freq.put("월", 25278);
-    freq.put(" 운송", 76);
-    freq.put("콥", 103);
-    freq.put("일랜", 486);
-    freq.put("효율", 286);
-    freq.put("졌으며", 172);
-    freq.put("之且 ", 96);
-    freq.put("싸움", 90);
-    freq.put("어서", 782);
-    freq.put("현대 ", 369);
-    freq.put("侏", 196);
-    freq.put(" 예방", 102);
-    freq.put(" 회원", 584);
-    freq.put("미국에", 434);
-    freq.put("을에", 58);
-    freq.put("민에", 93);
-    freq.put("씨", 1169);
-    freq.put("칭한다", 172);
-    freq.put("래픽 ", 199);
-    freq.put("인텔", 213);
-    freq.put("폐기", 68);
-    freq.put("은퇴", 57);
-    freq.put("인터", 1169);
-    freq.put(" 캄보", 74);
-    freq.put("의회에", 71);
-    freq.put("리에서", 329);
-    freq.put("썼", 127);
-    freq.put("이트에", 84);
-    freq.put("권 ", 1513);
-    freq.put("행동을", 107);
-    freq.put("관계에", 153);
-    freq.put("태풍 ", 215);
-    freq.put("서에 ", 154);
-    freq.put(" 불안", 63);
-    freq.put("三亂", 531);
-    freq.put(" 면이", 112);
-    freq.put("평원", 75);
-    freq.put("겼다", 112);
-    freq.put("기지 ", 76);
-    freq.put(" 대칭", 110);
-    freq.put("코나미", 58);
-    freq.put("효 ", 88);
-    freq.put(" 파견", 97);
-    freq.put("손으로", 97);
-    freq.put("산군 ", 87);
-    freq.put(" 연료", 112);
-    freq.put("단백질", 180);
-    freq.put("변경 ", 58);
-    freq.put("인쇄", 185);
-    freq.put(" 출신", 971);
-    freq.put("하 ", 1115);
-    freq.put(" 출시", 471);
-    freq.put("로스 ", 346);
-    freq.put("청주", 162);
-    freq.put("서로 ", 648);
-    freq.put("민운", 60);
-    freq.put("터로 ", 147);
-    freq.put("쳐져", 57);
-    freq.put("평안", 88);
-    freq.put("만으로", 117);
-    freq.put("커다란", 64);
-    freq.put("머니", 414);
-    freq.put("평야", 69);
-    freq.put(" 합성", 230);
-    freq.put(" 필수", 58);
-    freq.put("칸", 851);
-    freq.put("찾아", 159);
-    freq.put(" 중점", 61);
-    freq.put("평양", 609);
-    freq.put("였지만", 104);
-    freq.put("흰색", 64);
-    freq.put("보급 ", 119);
-    freq.put("미를 ", 234);
-    freq.put("크에서", 153);
-    freq.put("양수산", 143);
-    freq.put("었으나", 628);
-    freq.put("어스", 174);
-    freq.put("영이 ", 63);
-    freq.put("인트", 215);
-    freq.put("국인들", 59);
-    freq.put("렉산드", 154);
-    freq.put("압하", 71);
-    freq.put(" 시점", 66);
-    freq.put("륭", 84);
-    freq.put(" 평등", 60);
-    freq.put("아들인", 70);
-    freq.put("아들이", 502);
-    freq.put("처드", 110);
-    freq.put("丙 ", 228);
-    freq.put("미하는", 189);
-    freq.put("팔레스", 104);
-    freq.put(" 민중", 86);
-    freq.put("투스 ", 105);
-    freq.put("건이 ", 129);
-    freq.put(" 유효", 82);
-    freq.put("또한", 786);
-    freq.put("해", 24304);
-    freq.put("어가 ", 375);
-    freq.put("총칭", 263);
-    freq.put(" 예비", 61);
-    freq.put("민이", 137);
-    freq.put("분", 9424);
-    freq.put(" 전국", 513);
-    freq.put(" 과의", 71);
-    freq.put("미국의", 1693);
-    freq.put("나톨", 89);
-    freq.put(" 불 ", 168);
-    freq.put(" 첫번", 85);
-    freq.put(" 시조", 152);
-    freq.put("민의", 388);
-    freq.put("민을", 66);
-    freq.put("미국인", 172);
-    freq.put("쳐진", 69);
-    freq.put("미국이", 72);
-    freq.put("을이", 57);
-    freq.put("농림수", 538);
-    freq.put("등록 ", 59);
-    freq.put("그 ", 5244);
-    freq.put("스트레", 553);
-    freq.put(" 언론", 305);
-    freq.put(" 유형", 175);
-    freq.put("의회의", 78);
-    freq.put("적에 ", 98);
-    freq.put("이트이", 90);
-    freq.put("체들", 133);
-    freq.put("때문", 1343);
-    freq.put("힌다 ", 87);
-    freq.put("이트의", 60);
-    freq.put(" 수직", 64);
-    freq.put("셔", 528);
-    freq.put(" 합의", 125);
-    freq.put("롯해 ", 76);
-    freq.put("리학의", 82);
-    freq.put("혜", 431);
-    freq.put("원주민", 78);
-    freq.put("콘텐츠", 192);
-    freq.put("였기", 64);
-    freq.put("관문", 69);
-    freq.put("름의 ", 136);
-    freq.put(" 예를", 204);
-    freq.put("티나", 260);
-    freq.put("잉글", 396);
-    freq.put("민사", 140);
-    freq.put(" 수집", 187);
-    freq.put(" 유통", 251);
-    freq.put("층 ", 466);
-    freq.put("악단이", 78);
-    freq.put("문서는", 80);
-    freq.put("탕으로", 335);
-    freq.put("군에 ", 299);
-    freq.put(" 손해", 107);
-    freq.put("최되는", 68);
-    freq.put("리학자", 290);
-    freq.put(" 합작", 67);
-    freq.put("생물 ", 118);
-    freq.put("람에게", 86);
-    freq.put("내에", 828);
-    freq.put("도시를", 74);
-    freq.put(" 앤드", 80);
-    freq.put("전자 ", 409);
-    freq.put(" 온 ", 216);
-    freq.put(" 출연", 182);
-    freq.put(" 논의", 77);
-    freq.put("쟁에 ", 89);
-    freq.put("인해", 494);
-    freq.put("사무소", 268);
-    freq.put("여러", 1623);
-    freq.put("사람을", 267);
-    freq.put("질적인", 82);
-    freq.put("인하", 333);
-    freq.put("인한", 241);
-    freq.put("발로 ", 61);
-    freq.put("ο", 310);
-    freq.put("껍", 85);
-    freq.put("대구광", 218);
-    freq.put("여래", 59);
-    freq.put("어야", 172);
-    freq.put("때부", 94);
-    freq.put(" 예로", 96);
-    freq.put("인프", 61);
-    freq.put("민속", 159);
-    freq.put("일", 45548);
-    freq.put("상실", 57);
-    freq.put("倉", 3517);
-    freq.put(" 논쟁", 99);
-    freq.put("세와 ", 160);
-    freq.put("《글", 317);
-    freq.put("티노", 156);
-    freq.put("관목", 62);
-    freq.put("받으", 61);
-    freq.put(" 표현", 714);
-    freq.put("어에", 445);
-    freq.put("소가 ", 256);
-    freq.put("에", 103036);
-    freq.put(" 예루", 104);
-    freq.put(" 위임", 72);
-    freq.put("받을", 102);
-    freq.put("어업", 225);
-    freq.put("균", 820);
-    freq.put("린의 ", 67);
-    freq.put(" 행정", 2058);
-    freq.put("키기", 265);
-    freq.put("케팅", 130);
-    freq.put("싸고", 92);
-    freq.put("입한", 122);
-    freq.put("입학", 90);
-    freq.put("전철", 111);
-    freq.put("벗", 142);
-    freq.put("때의 ", 171);
-    freq.put("젤", 356);
-    freq.put("없고 ", 95);
-    freq.put("어온", 57);
-    freq.put("어오", 76);
-    freq.put("민스", 65);
-    freq.put("어와", 363);
-    freq.put("번의 ", 336);
-    freq.put("大並三", 80);
-    freq.put("사무실", 1870);
-    freq.put("비슷하", 194);
-    freq.put("인형", 87);
-    freq.put("리학에", 160);
-    freq.put("미주", 57);
-    freq.put("기독교", 722);
-    freq.put("결에", 59);
-    freq.put("전문대", 61);
-    freq.put("미래", 237);
-    freq.put("관리", 2036);
-    freq.put("심으로", 693);
-    freq.put("경과 ", 111);
-    freq.put("어원", 140);
-    freq.put("제도를", 150);
-    freq.put("티누", 78);
-    freq.put("민회", 89);
-    freq.put("여되", 60);
-    freq.put("혼합", 151);
-    freq.put(" 곡선", 103);
-    freq.put("였고", 684);
-    freq.put(" 필요", 634);
-    freq.put(" 중추", 105);
-    freq.put("코미디", 122);
-    freq.put("북부에", 293);
-    freq.put("괴되", 57);
-    freq.put("한편 ", 73);
-    freq.put("관련", 1378);
-    freq.put("람들을", 90);
-    freq.put("마련", 128);
-    freq.put("어의", 702);
-    freq.put("초 ", 560);
-    freq.put("어인", 161);
-    freq.put("어이", 939);
-    freq.put(" 회 ", 430);
-    freq.put(" 년대", 956);
-    freq.put(" 출입", 97);
-    freq.put(" 목포", 112);
-    freq.put("였으", 1734);
-    freq.put("《고", 72);
-    freq.put(" 운영", 1278);
-    freq.put(" 담", 1163);
-    freq.put("찍", 137);
-    freq.put("이묘로", 166);
-    freq.put("어있", 255);
-    freq.put(" 당", 2886);
-    freq.put(" 년도", 79);
-    freq.put("국토관", 71);
-    freq.put(" 군벌", 59);
-    freq.put("평생", 67);
-    freq.put("받았", 547);
-    freq.put("식의 ", 484);
-    freq.put(" 운용", 154);
-    freq.put("받아", 531);
-    freq.put("오스트", 938);
-    freq.put("량과", 69);
-    freq.put("주하고", 96);
-    freq.put("테이션", 199);
-    freq.put("제도로", 95);
-    freq.put(" 가마", 103);
-    freq.put(" 안토", 103);
-    freq.put("스톤 ", 59);
-    freq.put(" 제조", 389);
-    freq.put("아시", 1288);
-    freq.put("亟", 76);
-    freq.put("방영된", 79);
-    freq.put("제주시", 75);
-    freq.put("나폴", 191);
-    freq.put("누어 ", 109);
-    freq.put("인시", 91);
-    freq.put("프트의", 82);
-    freq.put("람들이", 226);
-    freq.put("유구", 70);
-    freq.put("진정", 61);
-    freq.put(" 제정", 501);
-    freq.put("원한다", 72);
-    freq.put("전통적", 268);
-    freq.put("아스", 346);
-    freq.put("재해 ", 65);
-    freq.put(" 제주", 484);
-    freq.put("경주 ", 115);
-    freq.put("난을 ", 59);
-    freq.put("동이다", 346);
-    freq.put(" 바닷", 63);
-    freq.put("프스", 170);
-    freq.put(" 홍콩", 226);
-    freq.put("진주", 148);
-    freq.put("트럴 ", 117);
-    freq.put(" 바닥", 59);
-    freq.put(" 바다", 321);
-    freq.put("나파", 113);
-    freq.put("회로 ", 295);
-    freq.put("증을", 98);
-    freq.put("살고 ", 126);
-    freq.put("반적으", 847);
-    freq.put(" 자문", 64);
-    freq.put("에서는", 2546);
-    freq.put("스니아", 124);
-    freq.put("로버트", 170);
-    freq.put("성경의", 62);
-    freq.put("튼 ", 196);
-    freq.put("연구 ", 736);
-    freq.put("칙이다", 82);
-    freq.put("선이 ", 276);
-    freq.put(" 루트", 124);
-    freq.put(" 민주", 647);
-    freq.put("활동했", 136);
-    freq.put("편되", 118);
-    freq.put("측정", 243);
-    freq.put("상", 21682);
-    freq.put("소들", 74);
-    freq.put(" 大", 668);
-    freq.put("시작된", 195);
-    freq.put("시작되", 382);
-    freq.put(" 조합", 232);
-    freq.put("로그래", 368);
-    freq.put("로그램", 1142);
-    freq.put("나트", 57);
-    freq.put("소드", 129);
-    freq.put("나가 ", 143);
-    freq.put("이 ", 37893);
-    freq.put("의를 ", 445);
-    freq.put("마시", 117);
-    freq.put("뒤를", 89);
-    freq.put("국제명", 67);
-    freq.put("원래 ", 383);
-    freq.put("력으로", 173);
-    freq.put("대주교", 92);
-    freq.put("임워크", 62);
-    freq.put("는다는", 74);
-    freq.put("소되", 63);
-    freq.put("신라의", 85);
-    freq.put("뿔", 93);
-    freq.put("나다의", 116);
-    freq.put("반이다", 146);
-    freq.put("공산당", 201);
-    freq.put("프트웨", 808);
-    freq.put("활동한", 114);
-    freq.put("활동하", 431);
-    freq.put("마스", 330);
-    freq.put("불교의", 418);
-    freq.put("간의", 1187);
-    freq.put("날에는", 70);
-    freq.put(" 성 ", 737);
-    freq.put(" 인텔", 209);
-    freq.put(" 자매", 61);
-    freq.put("호", 10715);
-    freq.put("익 ", 246);
-    freq.put("업", 9251);
-    freq.put("우스의", 77);
-    freq.put("다목적", 58);
-    freq.put(" 바뀌", 168);
-    freq.put("벤트", 72);
-    freq.put(" 리눅", 99);
-    freq.put("주축", 66);
-    freq.put("설가 ", 74);
-    freq.put("나토", 79);
-    freq.put("어파", 69);
-    freq.put("가능한", 325);
-    freq.put("가능하", 380);
-    freq.put(" 인터", 1102);
-    freq.put("아산", 86);
-    freq.put(" 자리", 455);
-    freq.put("농수산", 67);
-    freq.put("드를 ", 373);
-    freq.put(" 발원", 164);
-    freq.put("주최", 210);
-    freq.put(" 루터", 58);
-    freq.put("월에", 803);
-    freq.put(" 자를", 83);
-    freq.put("약품", 127);
-    freq.put("각적", 77);
-    freq.put("농구 ", 70);
-    freq.put("트에 ", 193);
-    freq.put("열리는", 184);
-    freq.put("하며", 3518);
-    freq.put("당과 ", 104);
-    freq.put("이동 ", 119);
-    freq.put("계약 ", 89);
-    freq.put("레고", 91);
-    freq.put("각지", 87);
-    freq.put("티드 ", 85);
-    freq.put("개봉한", 58);
-    freq.put("나타", 1198);
-    freq.put("실베", 102);
-    freq.put("번주 ", 58);
-    freq.put(" 자료", 390);
-    freq.put("이해하", 86);
-    freq.put(" 뿐 ", 75);
-    freq.put("열의", 161);
-    freq.put(" 발음", 225);
-    freq.put("리투아", 94);
-    freq.put("주체", 150);
-    freq.put("되었지", 87);
-    freq.put("해되", 60);
-    freq.put(" 압축", 113);
-    freq.put("의거 ", 83);
-    freq.put("록이다", 99);
-    freq.put("없이 ", 416);
-    freq.put("가톨릭", 535);
-    freq.put(" 던", 104);
-    freq.put("곡한 ", 151);
-    freq.put("신도", 198);
-    freq.put(" 적절", 82);
-    freq.put("약한", 190);
-    freq.put("권력", 210);
-    freq.put("약하", 110);
-    freq.put("나키", 64);
-    freq.put("圓三", 73);
-    freq.put("판은 ", 76);
-    freq.put("화가이", 84);
-    freq.put("」", 186);
-    freq.put("전투 ", 320);
-    freq.put("왜란", 118);
-    freq.put("구원 ", 202);
-    freq.put("국방송", 84);
-    freq.put(" 지중", 131);
-    freq.put("재판소", 104);
-    freq.put("약했", 96);
-    freq.put(" 창출", 78);
-    freq.put("뇌", 397);
-    freq.put("아서", 237);
-    freq.put("라북도", 260);
-    freq.put("짜", 260);
-    freq.put("하로 ", 57);
-    freq.put("둥", 406);
-    freq.put("마산", 169);
-    freq.put("임했다", 113);
-    freq.put("이스트", 150);
-    freq.put(" 출", 3768);
-    freq.put("마사", 281);
-    freq.put("마의", 295);
-    freq.put("식품의", 90);
-    freq.put("해당 ", 227);
-    freq.put("아웃", 101);
-    freq.put("마음", 149);
-    freq.put("마을", 459);
-    freq.put("될", 754);
-    freq.put("마인", 99);
-    freq.put("마일", 89);
-    freq.put("활용하", 92);
-    freq.put("마이", 1302);
-    freq.put("찰", 1432);
-    freq.put("신들", 162);
-    freq.put("나라의", 375);
-    freq.put("프와", 64);
-    freq.put("찬가지", 135);
-    freq.put("이집트", 409);
-    freq.put("대응하", 136);
-    freq.put("나라이", 90);
-    freq.put("아울", 62);
-    freq.put("공격하", 60);
-    freq.put("아우", 283);
-    freq.put("마에서", 71);
-    freq.put("호 ", 2171);
-    freq.put(" 리듬", 66);
-    freq.put("아와", 401);
-    freq.put("고대 ", 811);
-    freq.put("육군 ", 150);
-    freq.put(" 악기", 149);
-    freq.put("丈丁", 89);
-    freq.put("받았으", 82);
-    freq.put(" 발생", 1103);
-    freq.put("지도 ", 237);
-    freq.put("일을 ", 555);
-    freq.put("받게", 60);
-    freq.put("타이 ", 170);
-    freq.put("맷", 142);
-    freq.put("악을", 150);
-    freq.put("마자", 90);
-    freq.put("서초동", 58);
-    freq.put("예수 ", 112);
-    freq.put("악의", 207);
-    freq.put("샘", 118);
-    freq.put(" 발사", 235);
-    freq.put("기도 ", 3458);
-    freq.put("소년", 531);
-    freq.put("소녀", 133);
-    freq.put("야이다", 152);
-    freq.put("아오", 102);
-    freq.put("삼동", 102);
-    freq.put("악이", 91);
-    freq.put("유는 ", 91);
-    freq.put("징으", 70);
-    freq.put("배출", 125);
-    freq.put("산이 ", 146);
-    freq.put("업이 ", 195);
-    freq.put("에서도", 483);
-    freq.put("한문", 65);
-    freq.put("마와", 68);
-    freq.put("활약하", 64);
-    freq.put(" 바라", 115);
-    freq.put("활약한", 126);
-    freq.put("개발과", 79);
-    freq.put("창한", 58);
-    freq.put("장군이", 119);
-    freq.put("천주교", 125);
-    freq.put("원한", 148);
-    freq.put(" 있게", 303);
-    freq.put("소나", 91);
-    freq.put("지함을", 85);
-    freq.put("아있", 148);
-    freq.put("징이", 263);
-    freq.put(" 했던", 64);
-    freq.put("프의", 110);
-    freq.put(" 있고", 843);
-    freq.put("악원", 61);
-    freq.put(" 인형", 68);
-    freq.put("나라와", 67);
-    freq.put(" 옆에", 57);
-    freq.put("하려고", 72);
-    freq.put("사단 ", 91);
-    freq.put("죄 ", 281);
-    freq.put("군", 9174);
-    freq.put("징을", 98);
-    freq.put("마오", 77);
-    freq.put("얀", 299);
-    freq.put("고종 ", 91);
-    freq.put("기존 ", 131);
-    freq.put("아의", 1952);
-    freq.put(" 관료", 212);
-    freq.put("거에 ", 119);
-    freq.put("뇌 ", 72);
-    freq.put("해당", 812);
-    freq.put("부의 ", 953);
-    freq.put("아일", 569);
-    freq.put("처음으", 371);
-    freq.put("아인", 232);
-    freq.put("아이", 1321);
-    freq.put("백제의", 59);
-    freq.put("佇", 187);
-    freq.put("해는", 67);
-    freq.put("진출", 340);
-    freq.put(" 바람", 140);
-    freq.put("깝", 68);
-    freq.put("카리브", 78);
-    freq.put(" 도", 8642);
-    freq.put("마우", 104);
-    freq.put(" 제출", 84);
-    freq.put("마운", 61);
-    freq.put("활약했", 89);
-    freq.put("불교사", 82);
-    freq.put("항공사", 85);
-    freq.put("날개", 106);
-    freq.put("실리", 112);
-    freq.put("다르게", 104);
-    freq.put(" 바둑", 89);
-    freq.put(" 인하", 140);
-    freq.put(" 인한", 143);
-    freq.put("함 ", 501);
-    freq.put(" 亂 ", 146);
-    freq.put(" 창조", 192);
-    freq.put("막으", 95);
-    freq.put("판매하", 166);
-    freq.put("권과 ", 96);
-    freq.put("원활", 70);
-    freq.put("주지", 232);
-    freq.put("관한 ", 1431);
-    freq.put(" 인해", 475);
-    freq.put("막의", 105);
-    freq.put("합이 ", 96);
-    freq.put("단계 ", 74);
-    freq.put("막을", 84);
-    freq.put("방향으", 165);
-    freq.put("아메리", 675);
-    freq.put("차가", 214);
-    freq.put("소년 ", 186);
-    freq.put("벌 ", 585);
-    freq.put("당 ", 2124);
-    freq.put("마에", 203);
-    freq.put(" 요새", 71);
-    freq.put("총", 3611);
-    freq.put("골라", 80);
-    freq.put("말은 ", 132);
-    freq.put("원후", 60);
-    freq.put("배치", 148);
-    freq.put("나라에", 236);
-    freq.put("갑 ", 72);
-    freq.put("초의 ", 683);
-    freq.put("개명", 89);
-    freq.put("코드는", 96);
-    freq.put("원회", 1095);
-    freq.put("상남도", 478);
-    freq.put("両並", 87);
-    freq.put("주주", 795);
-    freq.put("아에", 642);
-    freq.put("계의 ", 803);
-    freq.put("네", 5012);
-    freq.put("両三", 99);
-    freq.put(" 자본", 218);
-    freq.put("소는", 346);
-    freq.put(" 컨", 381);
-    freq.put("도이다", 379);
-    freq.put("장되어", 72);
-    freq.put("플라", 427);
-    freq.put("즉위", 118);
-    freq.put("처음에", 146);
-    freq.put("両之", 103);
-    freq.put(" 출판", 450);
-    freq.put("화민국", 208);
-    freq.put("소닉", 71);
-    freq.put("디자이", 77);
-    freq.put("델", 977);
-    freq.put("차관", 122);
-    freq.put("디자인", 463);
-    freq.put("아니다", 144);
-    freq.put("쇼군", 122);
-    freq.put(" 컵", 92);
-    freq.put("플랫", 190);
-    freq.put("라고 ", 2752);
-    freq.put("마쓰", 345);
-    freq.put("아야", 80);
-    freq.put("토에 ", 57);
-    freq.put("플랜", 61);
-    freq.put("플래", 146);
-    freq.put("베리 ", 112);
-    freq.put("플러", 120);
-    freq.put(" 자발", 83);
-    freq.put("징역", 61);
-    freq.put("신라", 377);
-    freq.put("황제", 796);
-    freq.put("주제", 335);
-    freq.put("태에 ", 107);
-    freq.put("乱", 136);
-    freq.put("주전", 67);
-    freq.put("실록", 97);
-    freq.put("해남", 60);
-    freq.put("주적", 67);
-    freq.put("것", 8442);
-    freq.put("도쿠가", 148);
-    freq.put(" 자동", 798);
-    freq.put(" 설계", 434);
-    freq.put("방은 ", 58);
-    freq.put("청사 ", 99);
-    freq.put("플레", 847);
-    freq.put("위원장", 186);
-    freq.put("재하", 725);
-    freq.put("재학", 69);
-    freq.put("복합 ", 62);
-    freq.put(" 생물", 516);
-    freq.put("배상", 72);
-    freq.put(" 민속", 126);
-    freq.put("분포", 314);
-    freq.put("서는 ", 3203);
-    freq.put(" 코믹", 74);
-    freq.put("치구", 161);
-    freq.put("운데 ", 1085);
-    freq.put(" 倉", 1228);
-    freq.put("조는 ", 153);
-    freq.put("플로", 271);
-    freq.put("분파", 90);
-    freq.put(" 창원", 193);
-    freq.put("캄", 196);
-    freq.put("치권", 60);
-    freq.put("주일", 76);
-    freq.put("황이", 118);
-    freq.put("주인", 347);
-    freq.put("적화", 77);
-    freq.put("도화", 58);
-    freq.put("황의", 113);
-    freq.put("역 ", 2192);
-    freq.put(" 僅", 104);
-    freq.put("치에 ", 239);
-    freq.put("임과", 78);
-    freq.put("주의", 4317);
-    freq.put("동에 ", 602);
-    freq.put("옛 ", 293);
-    freq.put("황을", 121);
-    freq.put("본 ", 2748);
-    freq.put("플루", 90);
-    freq.put(" 傭", 293);
-    freq.put("지널 ", 58);
-    freq.put(" 제사", 70);
-    freq.put("리라", 82);
-    freq.put("펼쳐", 96);
-    freq.put("퓨", 1797);
-    freq.put("주위", 137);
-    freq.put("계통", 173);
-    freq.put("치가", 564);
-    freq.put(" 창의", 90);
-    freq.put("시정", 103);
-    freq.put("버지니", 97);
-    freq.put("행정안", 64);
-    freq.put("바트", 73);
-    freq.put("특별", 3191);
-    freq.put(" 兌", 119);
-    freq.put("동아시", 126);
-    freq.put(" 차단", 59);
-    freq.put("법률 ", 166);
-    freq.put(" 자는", 478);
-    freq.put("령 ", 1058);
-    freq.put("탑", 422);
-    freq.put("소보", 57);
-    freq.put("서양에", 67);
-    freq.put("주요", 747);
-    freq.put("별 ", 439);
-    freq.put("리포니", 249);
-    freq.put(" 민사", 90);
-    freq.put("저작권", 130);
-    freq.put("신망", 70);
-    freq.put("플리", 188);
-    freq.put("소방", 114);
-    freq.put("엑스", 201);
-    freq.put("설되었", 185);
-    freq.put("인이었", 103);
-    freq.put("민간인", 66);
-    freq.put(" 센트", 165);
-    freq.put("주와", 720);
-    freq.put("건축 ", 91);
-    freq.put("슬람 ", 141);
-    freq.put(" 《글", 315);
-    freq.put("것을 ", 2109);
-    freq.put(" 창작", 141);
-    freq.put(" 冲", 247);
-    freq.put(" 떠나", 66);
-    freq.put("메 ", 160);
-    freq.put("구조를", 175);
-    freq.put("국경을", 303);
-    freq.put("치고", 191);
-    freq.put(" 생명", 334);
-    freq.put("주였", 57);
-    freq.put("당이", 352);
-    freq.put(" 바로", 243);
-    freq.put("주연", 137);
-    freq.put("글 ", 394);
-    freq.put("싸여", 64);
-    freq.put("주에", 945);
-    freq.put(" 센터", 199);
-    freq.put("황에", 133);
-    freq.put("폭격", 74);
-    freq.put("아주", 160);
-    freq.put(" 리메", 64);
-    freq.put("개봉", 161);
-    freq.put("주었", 136);
-    freq.put("주어", 317);
-    freq.put("주얼", 72);
-    freq.put("진수", 64);
-    freq.put("펼친", 93);
-    freq.put("근로자", 82);
-    freq.put("훈련", 219);
-    freq.put(" 라오", 74);
-    freq.put("끼", 482);
-    freq.put("좌 ", 100);
-    freq.put("남해", 125);
-    freq.put("진시", 95);
-    freq.put(" 자녀", 61);
-    freq.put("마지", 479);
-    freq.put("석", 3098);
-    freq.put("음력 ", 492);
-    freq.put("남한", 59);
-    freq.put("상은 ", 241);
-    freq.put(" 제시", 244);
-    freq.put("아주 ", 103);
-    freq.put("밴드이", 74);
-    freq.put("특수 ", 78);
-    freq.put("토리 ", 100);
-    freq.put("닐", 137);
-    freq.put("즌이", 138);
-    freq.put(" 생리", 73);
-    freq.put("이티드", 93);
-    freq.put("해부", 71);
-    freq.put("팀은 ", 106);
-    freq.put(" 라우", 71);
-    freq.put("근무", 149);
-    freq.put("자와 ", 463);
-    freq.put("유래된", 87);
-    freq.put("국내 ", 265);
-    freq.put("류와 ", 147);
-    freq.put("현청 ", 126);
-    freq.put("목으로", 232);
-    freq.put("아지", 116);
-    freq.put("아직", 137);
-    freq.put("상부", 76);
-    freq.put(" 라이", 756);
-    freq.put("월에 ", 731);
-    freq.put(" 바르", 206);
-    freq.put(" 라인", 139);
-    freq.put("치기", 91);
-    freq.put("해발", 152);
-    freq.put("절한", 80);
-    freq.put("실제로", 191);
-    freq.put("령은 ", 67);
-    freq.put(" 십자", 179);
-    freq.put("도군", 69);
-    freq.put("해방", 192);
-    freq.put("있", 31718);
-    freq.put("문 ", 1427);
-    freq.put("해병", 58);
-    freq.put(" 창업", 69);
-    freq.put("적하", 72);
-    freq.put("신문", 591);
-    freq.put("구조물", 73);
-    freq.put(" 유명", 895);
-    freq.put("마주", 117);
-    freq.put("인에게", 123);
-    freq.put("적합", 98);
-    freq.put("되자 ", 84);
-    freq.put("베이 ", 167);
-    freq.put("본명은", 189);
-    freq.put("인이자", 288);
-    freq.put("만", 12443);
-    freq.put("俘", 194);
-    freq.put("헤이", 247);
-    freq.put("소비", 693);
-    freq.put("ال", 101);
-    freq.put("쳤다 ", 134);
-    freq.put("었던", 889);
-    freq.put(" 발족", 205);
-    freq.put("낸 ", 543);
-    freq.put("했는", 102);
-    freq.put("계한", 64);
-    freq.put(" 바빌", 60);
-    freq.put(" 적이", 69);
-    freq.put("계하", 113);
-    freq.put("계학", 71);
-    freq.put("乙丘 ", 89);
-    freq.put("문제가", 87);
-    freq.put(" 적은", 107);
-    freq.put("마의 ", 282);
-    freq.put("위 ", 2320);
-    freq.put("때까지", 243);
-    freq.put("잠시", 62);
-    freq.put("남편", 86);
-    freq.put(" 까지", 200);
-    freq.put(" 자란", 59);
-    freq.put("마케", 253);
-    freq.put(" 吾", 77);
-    freq.put("크로 ", 125);
-    freq.put(" 발전", 1652);
-    freq.put("소말", 61);
-    freq.put("했다", 3819);
-    freq.put("편리", 65);
-    freq.put(" 창시", 139);
-    freq.put("동아일", 75);
-    freq.put("충 ", 115);
-    freq.put("리된", 63);
-    freq.put("아침", 62);
-    freq.put("소를 ", 405);
-    freq.put(" 자라", 124);
-    freq.put("마쿠", 85);
-    freq.put(" 간단", 314);
-    freq.put("거에서", 68);
-    freq.put("그마", 69);
-    freq.put("혼인", 75);
-    freq.put("소를", 405);
-    freq.put("미와 ", 58);
-    freq.put("프의 ", 110);
-    freq.put("쓰기", 124);
-    freq.put(" 리버", 60);
-    freq.put("측에", 78);
-    freq.put("미르 ", 149);
-    freq.put("잠수", 99);
-    freq.put("마치", 202);
-    freq.put(" 제약", 63);
-    freq.put("개월", 142);
-    freq.put("진압", 79);
-    freq.put("황실", 61);
-    freq.put("블 ", 323);
-    freq.put("코드를", 100);
-    freq.put("신부", 105);
-    freq.put("과거", 402);
-    freq.put("신분", 132);
-    freq.put("주시", 655);
-    freq.put("주식", 354);
-    freq.put("마카", 106);
-    freq.put("입자", 336);
-    freq.put("았으", 301);
-    freq.put("개로 ", 124);
-    freq.put("작곡가", 402);
-    freq.put("배에", 64);
-    freq.put(" 채 ", 79);
-    freq.put("각자", 67);
-    freq.put("에 ", 60715);
-    freq.put("르체고", 106);
-    freq.put("배열", 85);
-    freq.put("저항", 165);
-    freq.put("각을", 142);
-    freq.put("츠 ", 974);
-    freq.put("소련", 350);
-    freq.put("각의", 239);
-    freq.put("진에", 166);
-    freq.put("캐나다", 542);
-    freq.put("신인 ", 126);
-    freq.put("각이", 151);
-    freq.put("었다", 9042);
-    freq.put("되었으", 1444);
-    freq.put("했던", 889);
-    freq.put(" 제어", 219);
-    freq.put("되었을", 105);
-    freq.put(" 적용", 417);
-    freq.put("었는", 201);
-    freq.put("돔", 57);
-    freq.put("분화", 119);
-    freq.put(" 홍수", 68);
-    freq.put("미널", 258);
-    freq.put("치한 ", 2915);
-    freq.put("금의 ", 358);
-    freq.put("칭", 3334);
-    freq.put("소로", 258);
-    freq.put("하로", 70);
-    freq.put("아나톨", 89);
-    freq.put(" 제외", 403);
-    freq.put("진왜", 117);
-    freq.put("해를", 394);
-    freq.put(" 리비", 141);
-    freq.put("동한 ", 119);
-    freq.put("원회에", 81);
-    freq.put("원이 ", 411);
-    freq.put("쓰고", 114);
-    freq.put("특성을", 91);
-    freq.put("진영", 77);
-    freq.put("증진", 435);
-    freq.put("성인 ", 111);
-    freq.put("데 ", 4107);
-    freq.put("면은 ", 81);
-    freq.put("주소", 193);
-    freq.put("레스 ", 275);
-    freq.put("동영상", 97);
-    freq.put("초기에", 174);
-    freq.put("並丘 ", 162);
-    freq.put("등록", 321);
-    freq.put("둥 ", 134);
-    freq.put("마추", 91);
-    freq.put("靑", 123);
-    freq.put("분한", 71);
-    freq.put(" 적어", 66);
-    freq.put("분하", 183);
-    freq.put("신비", 78);
-    freq.put("얻는", 95);
-    freq.put("주석", 120);
-    freq.put("분할", 143);
-    freq.put(" 떨어", 835);
-    freq.put("해리", 93);
-    freq.put(" 라스", 58);
-    freq.put("고와 ", 63);
-    freq.put("분해", 122);
-    freq.put("맺", 226);
-    freq.put("해로", 105);
-    freq.put(" 제이", 81);
-    freq.put("도와 ", 396);
-    freq.put("진을", 324);
-    freq.put("프로그", 1505);
-    freq.put("진은", 66);
-    freq.put("각에", 105);
-    freq.put("진의", 113);
-    freq.put("계화", 120);
-    freq.put("르의 ", 305);
-    freq.put(" 폭탄", 71);
-    freq.put("라면 ", 101);
-    freq.put("견 ", 139);
-    freq.put("국문화", 83);
-    freq.put("в", 283);
-    freq.put("진이", 164);
-    freq.put("레고리", 71);
-    freq.put("였다고", 86);
-    freq.put("가를 ", 483);
-    freq.put("주사", 146);
-    freq.put(" 國", 341);
-    freq.put(" 워크", 74);
-    freq.put(" 창설", 237);
-    freq.put(" 圓", 305);
-    freq.put("진으", 71);
-    freq.put("마찬", 135);
-    freq.put("테면 ", 61);
-    freq.put("심지는", 190);
-    freq.put("어학", 198);
-    freq.put("였다가", 68);
-    freq.put("합회는", 84);
-    freq.put("털이 ", 79);
-    freq.put("계획", 601);
-    freq.put("진입", 88);
-    freq.put(" 백과", 71);
-    freq.put("여할 ", 326);
-    freq.put(" 어드", 76);
-    freq.put("소의 ", 297);
-    freq.put("끼리", 100);
-    freq.put("도이며", 276);
-    freq.put("소멸", 82);
-    freq.put(" 제작", 1250);
-    freq.put(" 제자", 112);
-    freq.put("폰 ", 320);
-    freq.put(" 제임", 214);
-    freq.put(" 경 ", 182);
-    freq.put("일본어", 214);
-    freq.put(" 발표", 766);
-    freq.put("과정에", 270);
-    freq.put("쓰다", 206);
-    freq.put("아티", 246);
-    freq.put("제주특", 160);
-    freq.put("의적", 274);
-    freq.put("쓰는", 237);
-    freq.put("월간 ", 75);
-    freq.put("성으로", 264);
-    freq.put("레비", 475);
-    freq.put("아트", 145);
-    freq.put("일본에", 462);
-    freq.put("맹에", 60);
-    freq.put("면으로", 111);
-    freq.put("傀", 77);
-    freq.put("의제", 61);
-    freq.put("속적으", 84);
-    freq.put("매 ", 354);
-    freq.put("캔", 130);
-    freq.put("자치 ", 104);
-    freq.put("야에", 433);
-    freq.put("했기", 61);
-    freq.put("이름 ", 428);
-    freq.put("원생", 66);
-    freq.put("원상", 70);
-    freq.put("마포", 172);
-    freq.put("원산", 135);
-    freq.put(" 줄여", 450);
-    freq.put("바탕으", 333);
-    freq.put("알 ", 228);
-    freq.put("속적인", 79);
-    freq.put("원사", 88);
-    freq.put("어로 ", 1139);
-    freq.put("래 ", 1320);
-    freq.put(" 당주", 81);
-    freq.put("之並 ", 569);
-    freq.put(" 주 ", 4010);
-    freq.put("주가 ", 198);
-    freq.put("산된 ", 75);
-    freq.put("약으", 104);
-    freq.put("덤 ", 58);
-    freq.put("치되", 225);
-    freq.put("나시", 87);
-    freq.put("후의 ", 318);
-    freq.put("군주 ", 60);
-    freq.put("팬", 246);
-    freq.put("아폴", 74);
-    freq.put("탁", 475);
-    freq.put("약이", 262);
-    freq.put(" 조약", 551);
-    freq.put("계적", 562);
-    freq.put("창설", 240);
-    freq.put(" 인수", 172);
-    freq.put("하나다", 64);
-    freq.put("었기", 138);
-    freq.put("하나님", 89);
-    freq.put("약의", 117);
-    freq.put("나스", 130);
-    freq.put("약을", 246);
-    freq.put("조선 ", 921);
-    freq.put("활동에", 80);
-    freq.put("약은", 85);
-    freq.put("알려져", 958);
-    freq.put("즐", 322);
-    freq.put(" 인식", 217);
-    freq.put("정구역", 186);
-    freq.put("약자", 201);
-    freq.put("착", 921);
-    freq.put("축물 ", 62);
-    freq.put("운동 ", 385);
-    freq.put("마틴", 68);
-    freq.put("년대에", 224);
-    freq.put("주의인", 510);
-    freq.put("날로", 118);
-    freq.put("아파", 201);
-    freq.put("셋", 215);
-    freq.put("체계를", 103);
-    freq.put("려진 ", 441);
-    freq.put("공유 ", 71);
-    freq.put("마트", 201);
-    freq.put(" 검은", 120);
-    freq.put(" 인스", 61);
-    freq.put("너지를", 107);
-    freq.put(" 왕 ", 308);
-    freq.put("원소", 347);
-    freq.put("야이", 202);
-    freq.put("표적인", 377);
-    freq.put("하위 ", 107);
-    freq.put("자역학", 77);
-    freq.put("레바", 60);
-    freq.put("차로", 318);
-    freq.put("야의", 315);
-    freq.put("절차", 197);
-    freq.put(" 막대", 80);
-    freq.put("차례", 334);
-    freq.put("전반적", 63);
-    freq.put("· ", 502);
-    freq.put("어이며", 75);
-    freq.put(" 계획", 467);
-    freq.put("분지", 84);
-    freq.put(" 닌텐", 122);
-    freq.put("개를 ", 145);
-    freq.put("러를", 61);
-    freq.put("재에 ", 70);
-    freq.put("멕시", 360);
-    freq.put("아키", 326);
-    freq.put(" 군 ", 386);
-    freq.put("했고", 365);
-    freq.put("三乘 ", 99);
-    freq.put("크스 ", 85);
-    freq.put("통일 ", 78);
-    freq.put("되며 ", 566);
-    freq.put(" 인쇄", 158);
-    freq.put("소규모", 61);
-    freq.put("물학자", 103);
-    freq.put("바지함", 89);
-    freq.put("아크", 78);
-    freq.put("과정을", 292);
-    freq.put("창시", 143);
-    freq.put("서대문", 75);
-    freq.put("원시", 421);
-    freq.put("바지하", 107);
-    freq.put("역이 ", 202);
-    freq.put("우이다", 123);
-    freq.put("일본이", 57);
-    freq.put("나서", 96);
-    freq.put(" 매일", 60);
-    freq.put("맹이", 84);
-    freq.put("합되어", 80);
-    freq.put("일본인", 94);
-    freq.put("신", 14225);
-    freq.put("치러", 226);
-    freq.put("영미법", 57);
-    freq.put("춘 ", 196);
-    freq.put("마토", 82);
-    freq.put("일본의", 1226);
-    freq.put("릇", 64);
-    freq.put("ов", 121);
-    freq.put("차르", 58);
-    freq.put("무함마", 66);
-    freq.put("ああ ", 309);
-    freq.put("밑에", 68);
-    freq.put("마크", 376);
-    freq.put("품", 4217);
-    freq.put("포르투", 247);
-    freq.put("あ", 1627);
-    freq.put("양을 ", 259);
-    freq.put(" 검역", 63);
-    freq.put("희 ", 216);
-    freq.put("잭슨", 68);
-    freq.put("아토", 68);
-    freq.put("뇨", 62);
-    freq.put("ор", 58);
-    freq.put("해는 ", 66);
-    freq.put(" 마케", 230);
-    freq.put("아테", 131);
-    freq.put("줄여 ", 63);
-    freq.put(" 인상", 58);
-    freq.put(" 조작", 128);
-    freq.put("프톨", 69);
-    freq.put("겪", 88);
-    freq.put("져서", 63);
-    freq.put("었고", 896);
-    freq.put("태평양", 418);
-    freq.put("모가 ", 127);
-    freq.put("활동이", 95);
-    freq.put("수산물", 73);
-    freq.put("활동을", 468);
-    freq.put("약에", 115);
-    freq.put(" 인사", 173);
-    freq.put("열차 ", 88);
-    freq.put("따왔다", 64);
-    freq.put("단어 ", 74);
-    freq.put("점 ", 566);
-    freq.put(" 샌", 184);
-    freq.put("놓여", 60);
-    freq.put("근무하", 84);
-    freq.put(" 해 ", 409);
-    freq.put("식물 ", 196);
-    freq.put("서울지", 61);
-    freq.put("랭", 236);
-    freq.put("丼", 110);
-    freq.put("주당 ", 171);
-    freq.put("세계대", 169);
-    freq.put("면", 9744);
-    freq.put("아에 ", 243);
-    freq.put("咀", 213);
-    freq.put("나의", 720);
-    freq.put(" 조사", 590);
-    freq.put("메인 ", 87);
-    freq.put("나인", 191);
-    freq.put("나일", 67);
-    freq.put(" 《대", 64);
-    freq.put("나이", 2105);
-    freq.put(" 사", 27351);
-    freq.put(" 인재", 83);
-    freq.put(" 여부", 76);
-    freq.put("두 ", 2443);
-    freq.put("따라", 2057);
-    freq.put(" 루이", 396);
-    freq.put(" 조상", 79);
-    freq.put(" 조성", 287);
-    freq.put(" 조세", 64);
-    freq.put("라보", 58);
-    freq.put(" 조선", 2644);
-    freq.put("리트 ", 176);
-    freq.put("져있", 131);
-    freq.put("칭으로", 286);
-    freq.put("송되었", 59);
-    freq.put(" 삽", 115);
-    freq.put("남쪽", 977);
-    freq.put("강력한", 114);
-    freq.put("족보", 60);
-    freq.put("수산부", 104);
-    freq.put("문제에", 105);
-    freq.put("나우", 78);
-    freq.put(" 블루", 149);
-    freq.put("론적 ", 99);
-    freq.put("장치 ", 174);
-    freq.put("렉", 716);
-    freq.put("나와", 256);
-    freq.put("다는 ", 1779);
-    freq.put("삼국시", 89);
-    freq.put("권익보", 58);
-    freq.put("였을 ", 64);
-    freq.put("바키", 98);
-    freq.put("나왔", 84);
-    freq.put("원에", 608);
-    freq.put("야생", 75);
-    freq.put("창업", 76);
-    freq.put("설한 ", 86);
-    freq.put("질에 ", 69);
-    freq.put("도", 42958);
-    freq.put("중립", 69);
-    freq.put("나였", 70);
-    freq.put(" 자금", 128);
-    freq.put(" 인용", 64);
-    freq.put(" 자기", 443);
-    freq.put("뮤직 ", 109);
-    freq.put("大", 1261);
-    freq.put("편되면", 82);
-    freq.put("나오", 543);
-    freq.put("마리 ", 98);
-    freq.put("마하", 117);
-    freq.put(" 검사", 233);
-    freq.put("븐 ", 128);
-    freq.put("나에", 147);
-    freq.put("가능성", 147);
-    freq.put("주고 ", 119);
-    freq.put("제를 ", 765);
-    freq.put(" 之", 4377);
-    freq.put(" 자극", 96);
-    freq.put("생산하", 159);
-    freq.put("성당 ", 102);
-    freq.put("프로듀", 150);
-    freq.put("남지", 88);
-    freq.put(" 乙", 1383);
-    freq.put(" 법 ", 85);
-    freq.put("국제교", 61);
-    freq.put(" 両", 199);
-    freq.put(" 並", 3333);
-    freq.put(" 中", 269);
-    freq.put("반드시", 88);
-    freq.put("징", 1361);
-    freq.put("사각형", 73);
-    freq.put(" 丹", 1249);
-    freq.put("서부 ", 369);
-    freq.put(" 一", 101);
-    freq.put(" 丁", 2901);
-    freq.put(" 万", 65);
-    freq.put(" 검색", 137);
-    freq.put(" 三", 5820);
-    freq.put(" 셰", 135);
-    freq.put(" 丑", 173);
-    freq.put(" 丕", 104);
-    freq.put(" 丘", 1641);
-    freq.put(" 丙", 282);
-    freq.put(" 丞", 90);
-    freq.put(" 丟", 262);
-    freq.put(" 번길", 63);
-    freq.put("나아", 108);
-    freq.put("액을 ", 97);
-    freq.put("미쓰", 125);
-    freq.put("미야 ", 93);
-    freq.put("창원", 207);
-    freq.put("아니라", 536);
-    freq.put("전기적", 63);
-    freq.put(" 仕", 88);
-    freq.put("놓은", 145);
-    freq.put("차별", 151);
-    freq.put("송국 ", 85);
-    freq.put("치도", 175);
-    freq.put("구소는", 106);
-    freq.put(" 亳", 67);
-    freq.put("악하", 95);
-    freq.put(" 人", 94);
-    freq.put(" 亂", 1372);
-    freq.put("웠", 203);
-    freq.put(" 亀", 76);
-    freq.put(" 于", 69);
-    freq.put("롯한", 246);
-    freq.put("배경으", 124);
-    freq.put(" 亞", 903);
-    freq.put("적지", 100);
-    freq.put("약성", 129);
-    freq.put("광역시", 1449);
-    freq.put("원이", 1024);
-    freq.put("원인", 277);
-    freq.put("남서쪽", 252);
-    freq.put("항구 ", 67);
-    freq.put("러진 ", 169);
-    freq.put(" 佇", 65);
-    freq.put("상에서", 235);
-    freq.put("원의", 775);
-    freq.put("창의", 108);
-    freq.put("덴의 ", 130);
-    freq.put("원은", 649);
-    freq.put("원을", 809);
-    freq.put(" 佛", 82);
-    freq.put("僅", 349);
-    freq.put("녀 ", 215);
-    freq.put("원으", 778);
-    freq.put("징하", 82);
-    freq.put("다에서", 81);
-    freq.put("송의 ", 131);
-    freq.put("레르", 65);
-    freq.put(" 자격", 186);
-    freq.put("계층", 171);
-    freq.put(" 사회", 2075);
-    freq.put(" 선", 5904);
-    freq.put("아하", 63);
-    freq.put("낚", 60);
-    freq.put("치는", 396);
-    freq.put("왜란 ", 94);
-    freq.put("야시", 57);
-    freq.put("곳으", 142);
-    freq.put("목과 ", 70);
-    freq.put(" 俘", 77);
-    freq.put("아프", 916);
-    freq.put("야스", 153);
-    freq.put(" 자가", 81);
-    freq.put(" 侶", 151);
-    freq.put("몰도", 68);
-    freq.put("원장", 376);
-    freq.put("원자", 600);
-    freq.put("원작", 230);
-    freq.put("창작", 170);
-    freq.put("국제공", 130);
-    freq.put(" 侏", 88);
-    freq.put("채 ", 187);
-    freq.put("닮", 58);
-    freq.put("원조", 101);
-    freq.put("창조", 274);
-    freq.put("세스 ", 128);
-    freq.put("과학", 2295);
-    freq.put("지위를", 75);
-    freq.put("객 ", 182);
-    freq.put("문제로", 78);
-    freq.put("약칭", 420);
-    freq.put("소장 ", 152);
-    freq.put("원정", 112);
-    freq.put("적용", 431);
-    freq.put("합성어", 91);
-    freq.put("남자", 215);
-    freq.put("남작", 57);
-    freq.put("원제", 94);
-    freq.put("다르다", 167);
-    freq.put("원전", 1057);
-    freq.put("소규", 61);
-    freq.put("분을 ", 409);
-    freq.put("남인", 67);
-    freq.put("주관하", 162);
-    freq.put("원주", 176);
-    freq.put("차단", 60);
-    freq.put("프린스", 68);
-    freq.put("요", 6682);
-    freq.put("등급", 177);
-    freq.put("입된 ", 104);
-    freq.put("등기", 113);
-    freq.put("남의", 129);
-    freq.put(" 당사", 200);
-    freq.put("소관", 1922);
-    freq.put("버 ", 622);
-    freq.put("남은", 84);
-    freq.put("계속", 320);
-    freq.put("남으", 73);
-    freq.put("듈", 72);
-    freq.put("에선 ", 72);
-    freq.put("기원 ", 60);
-    freq.put(" 데뷔", 275);
-    freq.put("동차가", 80);
-    freq.put("차는", 139);
-    freq.put("위원회", 1083);
-    freq.put("저서", 111);
-    freq.put("본과 ", 65);
-    freq.put("쪽에", 725);
-    freq.put(" 당선", 156);
-    freq.put("남원", 74);
-    freq.put("대구지", 67);
-    freq.put("새로 ", 127);
-    freq.put("낱", 236);
-    freq.put("걸친", 86);
-    freq.put("황후", 208);
-    freq.put("생명체", 80);
-    freq.put("적자", 77);
-    freq.put("절을", 58);
-    freq.put("했던 ", 888);
-    freq.put("하면서", 761);
-    freq.put("적재", 58);
-    freq.put("절이", 80);
-    freq.put("텍스트", 85);
-    freq.put("태로 ", 448);
-    freq.put("적은", 2124);
-    freq.put("랑스에", 91);
-    freq.put("손", 1670);
-    freq.put("적의", 174);
-    freq.put("주화", 87);
-    freq.put("학적인", 134);
-    freq.put("소가", 271);
-    freq.put("류에 ", 144);
-    freq.put("색은 ", 70);
-    freq.put("원지", 101);
-    freq.put("적이", 892);
-    freq.put("적인", 4818);
-    freq.put("소개", 184);
-    freq.put("난 ", 1514);
-    freq.put("첫번", 86);
-    freq.put("몬드", 71);
-    freq.put("학적으", 169);
-    freq.put("계사", 104);
-    freq.put("쿤", 100);
-    freq.put("전기의", 97);
-    freq.put("인트 ", 75);
-    freq.put("물은 ", 154);
-    freq.put("쉽", 270);
-    freq.put("적으", 6892);
-    freq.put("계산", 303);
-    freq.put("장르의", 62);
-    freq.put(" 센서", 58);
-    freq.put("저수", 94);
-    freq.put(" 섬과", 100);
-    freq.put("진의 ", 108);
-    freq.put("제정 ", 71);
-    freq.put("저술", 150);
-    freq.put("임의의", 76);
-    freq.put("남에", 64);
-    freq.put("해군", 428);
-    freq.put(" 조카", 75);
-    freq.put("사용된", 476);
-    freq.put("삼국", 365);
-    freq.put("사용되", 1174);
-    freq.put("심리학", 178);
-    freq.put("연의 ", 81);
-    freq.put("남양", 87);
-    freq.put("등과", 273);
-    freq.put("감독이", 123);
-    freq.put("년간 ", 196);
-    freq.put(" 있도", 441);
-    freq.put("왕국이", 67);
-    freq.put("교를 ", 330);
-    freq.put(" 인지", 119);
-    freq.put("좌", 857);
-    freq.put("분석", 483);
-    freq.put("공용어", 70);
-    freq.put("폭발", 174);
-    freq.put("선스", 81);
-    freq.put("저스", 73);
-    freq.put("주한", 124);
-    freq.put("왕국의", 244);
-    freq.put("주하", 399);
-    freq.put("冲", 466);
-    freq.put(" 라", 5313);
-    freq.put("패로 ", 61);
-    freq.put("번역 ", 68);
-    freq.put("남아", 651);
-    freq.put("레드", 242);
-    freq.put("경하였", 58);
-    freq.put("접 ", 423);
-    freq.put("차남", 68);
-    freq.put("교토 ", 66);
-    freq.put(" 당시", 1308);
-    freq.put(" 인증", 117);
-    freq.put("료이다", 66);
-    freq.put("나중", 141);
-    freq.put("어이다", 784);
-    freq.put(" 있던", 474);
-    freq.put("렀다", 179);
-    freq.put("따른", 285);
-    freq.put("러한 ", 557);
-    freq.put("우고 ", 113);
-    freq.put("풀이", 93);
-    freq.put("프로레", 124);
-    freq.put(" 백만", 60);
-    freq.put("나며 ", 96);
-    freq.put("적에", 131);
-    freq.put("하려는", 180);
-    freq.put("정도로", 127);
-    freq.put("추기경", 60);
-    freq.put("일반직", 142);
-    freq.put("조정 ", 98);
-    freq.put(" 있는", 7503);
-    freq.put("나주", 65);
-    freq.put("삼각", 154);
-    freq.put("항이 ", 78);
-    freq.put(" 인조", 152);
-    freq.put("분산", 123);
-    freq.put("계수", 70);
-    freq.put(" 인접", 485);
-    freq.put("해가", 156);
-    freq.put(" 있다", 14657);
-    freq.put("세워졌", 73);
-    freq.put("적어", 75);
-    freq.put("위해서", 284);
-    freq.put("식하는", 102);
-    freq.put("배포", 144);
-    freq.put("이온 ", 68);
-    freq.put("히", 4751);
-    freq.put(" 의 ", 5102);
-    freq.put("소기", 175);
-    freq.put("도이기", 66);
-    freq.put("쟁과 ", 63);
-    freq.put("쪽의", 188);
-    freq.put("소금", 62);
-    freq.put("쪽은", 318);
-    freq.put("걸쳐", 621);
-    freq.put("등교", 82);
-    freq.put("쪽으", 3081);
-    freq.put("절에", 116);
-    freq.put("따로", 85);
-    freq.put("삼고", 63);
-    freq.put("우에는", 147);
-    freq.put("소송법", 99);
-    freq.put("해결", 279);
-    freq.put("하나로", 1278);
-    freq.put("계승", 345);
-    freq.put("기부터", 151);
-    freq.put("가사", 265);
-    freq.put("분자", 304);
-    freq.put("신경", 249);
-    freq.put(" 조정", 209);
-    freq.put("람과 ", 57);
-    freq.put(" 조제", 62);
-    freq.put("종사하", 78);
-    freq.put("계약", 484);
-    freq.put(" 바깥", 84);
-    freq.put(" 조절", 103);
-    freq.put("신고", 75);
-    freq.put(" 조조", 61);
-    freq.put("제품 ", 138);
-    freq.put("분쟁", 215);
-    freq.put("뻗", 112);
-    freq.put("정하여", 167);
-    freq.put(" 원격", 57);
-    freq.put("신과", 128);
-    freq.put("니이다", 60);
-    freq.put("톨릭교", 272);
-    freq.put(" 방향", 321);
-    freq.put("뉴", 2112);
-    freq.put("컷", 121);
-    freq.put("의적 ", 151);
-    freq.put("측하", 71);
-    freq.put("제이다", 258);
-    freq.put("소와 ", 115);
-    freq.put("구축 ", 59);
-    freq.put("계에", 1064);
-    freq.put("분으", 162);
-    freq.put(" 조종", 81);
-    freq.put(" 막부", 162);
-    freq.put("계열", 387);
-    freq.put("眞", 108);
-    freq.put("넓은 ", 249);
-    freq.put("냈", 722);
-    freq.put("분을", 409);
-    freq.put("분은", 160);
-    freq.put("레니", 104);
-    freq.put("각형", 159);
-    freq.put("분의", 455);
-    freq.put("륙", 763);
-    freq.put("램 ", 396);
-    freq.put("허 ", 115);
-    freq.put("항 ", 503);
-    freq.put("익을 ", 208);
-    freq.put("三三並", 435);
-    freq.put("분이", 366);
-    freq.put(" 제품", 480);
-    freq.put("물학적", 58);
-    freq.put("전체 ", 252);
-    freq.put("진한", 63);
-    freq.put("진하", 250);
-    freq.put("배했", 65);
-    freq.put("且 ", 206);
-    freq.put("남시", 112);
-    freq.put(" 제한", 242);
-    freq.put(" 수의", 96);
-    freq.put("진해", 69);
-    freq.put("亳 ", 89);
-    freq.put("으", 50795);
-    freq.put(" 생긴", 156);
-    freq.put(" 생기", 166);
-    freq.put("주특", 163);
-    freq.put("치로", 193);
-    freq.put("그리스", 1462);
-    freq.put("탄 ", 632);
-    freq.put("관에서", 127);
-    freq.put(" 설립", 4416);
-    freq.put("뻗어", 76);
-    freq.put("령의 ", 138);
-    freq.put("하지 ", 1309);
-    freq.put("덴 ", 238);
-    freq.put("나치", 255);
-    freq.put("리단", 71);
-    freq.put("형의 ", 232);
-    freq.put("해하는", 84);
-    freq.put(" 리그", 1028);
-    freq.put("로는 ", 3890);
-    freq.put("웃 ", 62);
-    freq.put("차량", 357);
-    freq.put("릴적 ", 113);
-    freq.put("워드", 249);
-    freq.put("일본제", 58);
-    freq.put("나카", 127);
-    freq.put("뉴욕의", 60);
-    freq.put("개발되", 172);
-    freq.put("치료", 253);
-    freq.put("개발된", 147);
-    freq.put("배하", 244);
-    freq.put(" 고르", 57);
-    freq.put("생의 ", 215);
-    freq.put("만들 ", 66);
-    freq.put("기술로", 69);
-    freq.put("쯤", 58);
-    freq.put(" 바꾸", 196);
-    freq.put("창출", 92);
-    freq.put(" 조직", 785);
-    freq.put(" 조지", 462);
-    freq.put(" 워싱", 115);
-    freq.put("마니아", 199);
-    freq.put("등의 ", 1883);
-    freq.put("퍼레이", 61);
-    freq.put("제목으", 67);
-    freq.put(" 적합", 91);
-    freq.put("계의", 805);
-    freq.put("진화", 280);
-    freq.put("가지의", 94);
-    freq.put(" 유래", 578);
-    freq.put("원칙", 340);
-    freq.put("당에서", 58);
-    freq.put("코스트", 84);
-    freq.put("계인", 107);
-    freq.put("계이", 169);
-    freq.put("세계를", 63);
-    freq.put("술 ", 1167);
-    freq.put("가로서", 123);
-    freq.put(" 설명", 374);
-    freq.put("분에", 266);
-    freq.put("계유", 60);
-    freq.put("소비에", 317);
-    freq.put("접해 ", 411);
-    freq.put("분열", 122);
-    freq.put("레나", 119);
-    freq.put("삼국지", 82);
-    freq.put(" 결과", 470);
-    freq.put("신기", 142);
-    freq.put("안양시", 65);
-    freq.put("태를 ", 373);
-    freq.put("폭력", 166);
-    freq.put("그녀의", 76);
-    freq.put("저우", 183);
-    freq.put("션을 ", 118);
-    freq.put("남성", 246);
-    freq.put(" 별 ", 66);
-    freq.put("소기업", 149);
-    freq.put("계자", 130);
-    freq.put("남서", 500);
-    freq.put("단체가", 70);
-    freq.put(" 라트", 76);
-    freq.put("둘째", 114);
-    freq.put("폴 ", 159);
-    freq.put(" 멕시", 326);
-    freq.put("브 ", 1116);
-    freq.put("계와", 142);
-    freq.put(" 결국", 129);
-    freq.put("황태", 64);
-    freq.put("주택", 185);
-    freq.put("레지스", 65);
-    freq.put("턴", 933);
-    freq.put("레네", 63);
-    freq.put("남산", 76);
-    freq.put("갈의 ", 77);
-    freq.put(" 심", 1298);
-    freq.put("인구의", 90);
-    freq.put("산지방", 80);
-    freq.put(" 대사", 173);
-    freq.put(" 값을", 58);
-    freq.put(" 생각", 309);
-    freq.put("치면", 57);
-    freq.put("신은 ", 98);
-    freq.put("저자", 156);
-    freq.put("저작", 265);
-    freq.put("결국 ", 113);
-    freq.put("각하", 172);
-    freq.put("정리 ", 264);
-    freq.put("유러피", 111);
-    freq.put("각한", 97);
-    freq.put("측", 1172);
-    freq.put(" 바그", 80);
-    freq.put("정하였", 105);
-    freq.put("글이다", 95);
-    freq.put(" 생겼", 60);
-    freq.put(" 인천", 505);
-    freq.put(" 생겨", 141);
-    freq.put(" 래", 122);
-    freq.put(" 긴 ", 204);
-    freq.put("티베트", 129);
-    freq.put("전반에", 79);
-    freq.put("세한 ", 63);
-    freq.put("렐", 151);
-    freq.put("우가 ", 328);
-    freq.put("자신들", 66);
-    freq.put("두루", 66);
-    freq.put(" 후보", 221);
-    freq.put("패의", 75);
-    freq.put(" 앤 ", 149);
-    freq.put("승에", 60);
-    freq.put("잡고", 156);
-    freq.put("할", 7046);
-    freq.put("수적", 127);
-    freq.put("로와", 192);
-    freq.put("니오 ", 65);
-    freq.put("는다", 1118);
-    freq.put(" 담고", 149);
-    freq.put(" 부지", 65);
-    freq.put("멕시코", 351);
-    freq.put("화하는", 131);
-    freq.put("ā", 193);
-    freq.put("종료", 106);
-    freq.put("정동이", 148);
-    freq.put("자라고", 70);
-    freq.put("이고 ", 1432);
-    freq.put("형식이", 60);
-    freq.put("로운", 756);
-    freq.put("로우", 91);
-    freq.put("용하지", 112);
-    freq.put("항목", 94);
-    freq.put(" 빌딩", 89);
-    freq.put("수주", 83);
-    freq.put("형식의", 79);
-    freq.put(" 전달", 242);
-    freq.put("정동으", 58);
-    freq.put("조부", 69);
-    freq.put("형식으", 115);
-    freq.put("말리", 164);
-    freq.put("亂亞 ", 92);
-    freq.put(" 후반", 207);
-    freq.put(" 장면", 76);
-    freq.put("순화", 57);
-    freq.put("진출하", 105);
-    freq.put("포지", 121);
-    freq.put("순환", 168);
-    freq.put("부른다", 562);
-    freq.put("종류", 648);
-    freq.put("말로", 462);
-    freq.put("템 ", 507);
-    freq.put("인먼트", 266);
-    freq.put("수준", 267);
-    freq.put("로의", 623);
-    freq.put("어져 ", 580);
-    freq.put("장애인", 188);
-    freq.put("로이", 916);
-    freq.put("활약", 341);
-    freq.put(" 확산", 127);
-    freq.put("말레", 213);
-    freq.put("에트 ", 311);
-    freq.put("라는 ", 3491);
-    freq.put("로자", 119);
-    freq.put("수지", 162);
-    freq.put("수직", 77);
-    freq.put("시행되", 95);
-    freq.put("인터페", 232);
-    freq.put("수집", 212);
-    freq.put("토", 6975);
-    freq.put("트페", 72);
-    freq.put(" 부정", 201);
-    freq.put("미어리", 61);
-    freq.put("활에", 69);
-    freq.put("바닷", 63);
-    freq.put("는데", 1842);
-    freq.put(" 부족", 243);
-    freq.put("방정식", 221);
-    freq.put("바다", 409);
-    freq.put("바닥", 88);
-    freq.put("범한", 75);
-    freq.put("범하", 94);
-    freq.put(" 전도", 66);
-    freq.put("백악기", 102);
-    freq.put("바니", 158);
-    freq.put("표기법", 77);
-    freq.put("포구", 341);
-    freq.put("금", 4364);
-    freq.put("순한", 104);
-    freq.put("경제자", 60);
-    freq.put("다만 ", 77);
-    freq.put("조사하", 74);
-    freq.put("㎡", 66);
-    freq.put(" 개화", 61);
-    freq.put(" 몬테", 130);
-    freq.put("기술 ", 470);
-    freq.put("경기 ", 281);
-    freq.put("닉 ", 179);
-    freq.put("바노", 62);
-    freq.put("더욱", 101);
-    freq.put("종이 ", 160);
-    freq.put("폐 ", 75);
-    freq.put("외버스", 131);
-    freq.put(" 개혁", 224);
-    freq.put(" 를 ", 1994);
-    freq.put("승자", 99);
-    freq.put(" 전남", 74);
-    freq.put("리도", 58);
-    freq.put("승인", 162);
-    freq.put("리아가", 58);
-    freq.put(" 접촉", 74);
-    freq.put("존하는", 140);
-    freq.put("내장", 79);
-    freq.put("섭", 330);
-    freq.put("승을", 297);
-    freq.put("자에게", 301);
-    freq.put("년에", 3786);
-    freq.put("음에 ", 134);
-    freq.put("츠를 ", 86);
-    freq.put(" 죄 ", 83);
-    freq.put(" 장로", 61);
-    freq.put("경제의", 97);
-    freq.put("니버", 155);
-    freq.put("종목", 228);
-    freq.put("츠가 ", 73);
-    freq.put("삶을 ", 67);
-    freq.put(" 어항", 59);
-    freq.put("비드 ", 116);
-    freq.put(" 짧은", 155);
-    freq.put("델이", 112);
-    freq.put("丞", 224);
-    freq.put("바뀌", 172);
-    freq.put(" 로버", 203);
-    freq.put(" 확실", 69);
-    freq.put("승용", 69);
-    freq.put("시카고", 77);
-    freq.put("아", 34158);
-    freq.put("파인 ", 61);
-    freq.put("활의", 75);
-    freq.put("로아", 218);
-    freq.put(" 서 ", 81);
-    freq.put("주도는", 958);
-    freq.put("로야", 96);
-    freq.put("룽", 97);
-    freq.put("물질", 647);
-    freq.put("관심을", 87);
-    freq.put("오고 ", 79);
-    freq.put("더이", 67);
-    freq.put(" 졸업", 314);
-    freq.put("잘", 775);
-    freq.put("미리 ", 99);
-    freq.put(" 천황", 402);
-    freq.put("로어", 89);
-    freq.put("바나", 90);
-    freq.put("가족 ", 81);
-    freq.put("린스", 117);
-    freq.put("림", 3191);
-    freq.put("찰스 ", 128);
-    freq.put("로에", 225);
-    freq.put("항만", 156);
-    freq.put("결을 ", 132);
-    freq.put("丕 ", 102);
-    freq.put("스케 ", 67);
-    freq.put("접전을", 65);
-    freq.put("분야", 1297);
-    freq.put("룬 ", 185);
-    freq.put("세포 ", 173);
-    freq.put(" 장르", 269);
-    freq.put("즉", 849);
-    freq.put("조류", 112);
-    freq.put("통령으", 73);
-    freq.put("니메", 636);
-    freq.put("시권", 58);
-    freq.put("점의 ", 91);
-    freq.put("수한 ", 277);
-    freq.put("었던 ", 886);
-    freq.put("조르", 59);
-    freq.put("경비", 85);
-    freq.put("니며", 81);
-    freq.put("켄 ", 72);
-    freq.put("족 ", 952);
-    freq.put("공의 ", 248);
-    freq.put("신과 ", 111);
-    freq.put("거구", 248);
-    freq.put("바라", 259);
-    freq.put("통령이", 192);
-    freq.put("스튜디", 195);
-    freq.put("계획에", 64);
-    freq.put("통령의", 87);
-    freq.put("필드", 112);
-    freq.put("통령을", 141);
-    freq.put("두번", 86);
-    freq.put("분포하", 147);
-    freq.put("쪽으로", 3077);
-    freq.put("万", 311);
-    freq.put("포인트", 69);
-    freq.put("무소장", 62);
-    freq.put("이후로", 131);
-    freq.put("발음", 233);
-    freq.put("초등학", 97);
-    freq.put("바람", 163);
-    freq.put("낸", 788);
-    freq.put("린에", 77);
-    freq.put(" 장비", 172);
-    freq.put("로시", 141);
-    freq.put("반응을", 70);
-    freq.put("통이 ", 84);
-    freq.put("연합회", 169);
-    freq.put("말부", 57);
-    freq.put("시국", 65);
-    freq.put("조리", 96);
-    freq.put("반도의", 107);
-    freq.put("획", 1122);
-    freq.put("조로", 212);
-    freq.put("너가", 67);
-    freq.put("소스 ", 199);
-    freq.put("활성", 267);
-    freq.put("가치 ", 92);
-    freq.put("에르 ", 123);
-    freq.put(" 부처", 87);
-    freq.put(" 부천", 92);
-    freq.put("준비", 133);
-    freq.put(" 입장", 142);
-    freq.put("선을 ", 465);
-    freq.put("거가", 75);
-    freq.put(" 전라", 664);
-    freq.put("시공", 102);
-    freq.put("르기", 616);
-    freq.put(" 입자", 250);
-    freq.put("후기", 490);
-    freq.put("되어있", 155);
-    freq.put(" 부착", 61);
-    freq.put("본에 ", 135);
-    freq.put("바키아", 85);
-    freq.put("시간", 1006);
-    freq.put("시가", 359);
-    freq.put("시각", 172);
-    freq.put(" 전략", 271);
-    freq.put("불린다", 546);
-    freq.put("현에 ", 78);
-    freq.put(" 개통", 168);
-    freq.put("모델 ", 116);
-    freq.put("수출", 221);
-    freq.put("패스", 68);
-    freq.put("정당이", 122);
-    freq.put(" 내는", 102);
-    freq.put(" 엑스", 155);
-    freq.put("넘어", 123);
-    freq.put("롯데", 72);
-    freq.put("물체", 288);
-    freq.put("수치", 89);
-    freq.put("앵글", 61);
-    freq.put("패션", 100);
-    freq.put("바디", 62);
-    freq.put(" 내무", 66);
-    freq.put("이상 ", 271);
-    freq.put("컵의 ", 85);
-    freq.put("역임했", 134);
-    freq.put("공식적", 231);
-    freq.put("린의", 68);
-    freq.put("네 ", 732);
-    freq.put("나오는", 326);
-    freq.put("자료 ", 141);
-    freq.put("더스", 149);
-    freq.put("린이", 257);
-    freq.put("의해서", 178);
-    freq.put("조물", 104);
-    freq.put("반도에", 120);
-    freq.put(" 확장", 327);
-    freq.put("카 ", 2034);
-    freq.put("룡이", 113);
-    freq.put("독을 ", 96);
-    freq.put("역임하", 186);
-    freq.put("역임한", 62);
-    freq.put("의에서", 83);
-    freq.put("천", 5793);
-    freq.put(" 확인", 346);
-    freq.put("로사", 75);
-    freq.put("친목", 162);
-    freq.put(" 옮겨", 85);
-    freq.put("별도의", 74);
-    freq.put("계획을", 62);
-    freq.put("리사무", 72);
-    freq.put("뽑", 108);
-    freq.put(" 폐지", 323);
-    freq.put("심판", 171);
-    freq.put(" 종파", 171);
-    freq.put("터에 ", 207);
-    freq.put("포츠", 546);
-    freq.put("민주주", 682);
-    freq.put("항복", 61);
-    freq.put("계획이", 79);
-    freq.put("원예", 81);
-    freq.put("로서", 3082);
-    freq.put("고유의", 69);
-    freq.put("이런 ", 124);
-    freq.put("목", 6926);
-    freq.put("황제로", 69);
-    freq.put("는다 ", 996);
-    freq.put("로세", 432);
-    freq.put("т", 190);
-    freq.put(" 호환", 88);
-    freq.put("』", 119);
-    freq.put("르가", 186);
-    freq.put("시하였", 95);
-    freq.put("바둑", 111);
-    freq.put("형태의", 265);
-    freq.put("당한 ", 273);
-    freq.put("國", 1227);
-    freq.put(" 접전", 68);
-    freq.put(" 산맥", 264);
-    freq.put(" 로 ", 1417);
-    freq.put("로소", 400);
-    freq.put("시기", 468);
-    freq.put("룹이다", 116);
-    freq.put("사람 ", 176);
-    freq.put("르고", 464);
-    freq.put("있지만", 276);
-    freq.put("톤 ", 252);
-    freq.put(" 산림", 264);
-    freq.put("쉽게 ", 173);
-    freq.put(" 외래", 64);
-    freq.put("조명", 72);
-    freq.put("주도이", 258);
-    freq.put("여", 21379);
-    freq.put("국민", 1323);
-    freq.put("그룹이", 170);
-    freq.put("분류군", 63);
-    freq.put(" 돼지", 64);
-    freq.put("그룹의", 105);
-    freq.put(" 부속", 114);
-    freq.put("졌고 ", 82);
-  }
-  private static void init3() {
-    
-    freq.put("경주시", 80);
-    freq.put("정치가", 329);
-    freq.put("인 ", 17705);
-    freq.put("큐", 382);
-    freq.put("н ", 64);
-    freq.put("이었다", 1368);
-    freq.put("초대 ", 388);
-    freq.put(" 부설", 61);
-    freq.put("수상", 476);
-    freq.put("물건", 208);
-    freq.put("람이다", 230);
-    freq.put("로스트", 70);
-    freq.put("융", 702);
-    freq.put("도자 ", 82);
-    freq.put(" 부서", 58);
-    freq.put("쪽과 ", 149);
-    freq.put("번호 ", 230);
-    freq.put("인·", 87);
-    freq.put("흥을 ", 81);
-    freq.put("수사", 246);
-    freq.put(" 윌리", 269);
-    freq.put("합금", 58);
-    freq.put("수산", 1050);
-    freq.put("막을 ", 84);
-    freq.put("로켓", 139);
-    freq.put(" 보편", 88);
-    freq.put("㎢이", 539);
-    freq.put(" 부산", 765);
-    freq.put(" 전문", 804);
-    freq.put("니라", 554);
-    freq.put("三丘 ", 326);
-    freq.put("자리를", 100);
-    freq.put("바이러", 161);
-    freq.put("로코", 155);
-    freq.put("조되", 83);
-    freq.put("ي", 163);
-    freq.put("조된", 63);
-    freq.put("끄는", 125);
-    freq.put("들인 ", 119);
-    freq.put("률", 1185);
-    freq.put(" 부상", 120);
-    freq.put("게임의", 112);
-    freq.put("딘 ", 125);
-    freq.put(" 빌보", 65);
-    freq.put("상호간", 218);
-    freq.put("수성", 148);
-    freq.put("대회 ", 303);
-    freq.put(" 것들", 82);
-    freq.put("丟丁", 65);
-    freq.put("티아 ", 137);
-    freq.put("뛰어난", 130);
-    freq.put("기초를", 61);
-    freq.put("곳에 ", 630);
-    freq.put("丟並", 76);
-    freq.put("수소", 134);
-    freq.put(" 통해", 1669);
-    freq.put(" 확정", 107);
-    freq.put("멍", 84);
-    freq.put(" 많아", 58);
-    freq.put("국에는", 66);
-    freq.put("丟之", 69);
-    freq.put(" 통합", 613);
-    freq.put(" 통한", 430);
-    freq.put(" 통하", 497);
-    freq.put("준다", 217);
-    freq.put("이었던", 250);
-    freq.put("수송", 152);
-    freq.put("리와 ", 419);
-    freq.put("허용", 114);
-    freq.put(" 들이", 58);
-    freq.put("원에서", 238);
-    freq.put("합과", 70);
-    freq.put(" 전력", 146);
-    freq.put("펑", 115);
-    freq.put("오타", 75);
-    freq.put("포시", 139);
-    freq.put(" 방문", 137);
-    freq.put(" 장남", 113);
-    freq.put("α", 368);
-    freq.put("만들어", 1188);
-    freq.put("바른", 136);
-    freq.put("왈", 71);
-    freq.put("바르", 450);
-    freq.put("만들었", 181);
-    freq.put("합격", 100);
-    freq.put("수수", 82);
-    freq.put("서태지", 87);
-    freq.put("포스", 282);
-    freq.put("두는", 59);
-    freq.put("수술", 79);
-    freq.put(" 전례", 131);
-    freq.put("자체를", 63);
-    freq.put("전되", 64);
-    freq.put("시립", 76);
-    freq.put("바리", 82);
-    freq.put("스를 ", 979);
-    freq.put("수시", 75);
-    freq.put("동대문", 97);
-    freq.put("수신", 110);
-    freq.put("의원 ", 442);
-    freq.put("않았으", 59);
-    freq.put("하키", 105);
-    freq.put("س", 58);
-    freq.put("신에 ", 117);
-    freq.put("시된 ", 202);
-    freq.put("일요일", 80);
-    freq.put("터키 ", 238);
-    freq.put("인된", 61);
-    freq.put("일이다", 180);
-    freq.put(" 통화", 141);
-    freq.put("적인 ", 4808);
-    freq.put("할시", 83);
-    freq.put(" 내부", 320);
-    freq.put("괄", 288);
-    freq.put("육과학", 285);
-    freq.put("맡은 ", 78);
-    freq.put("미디 ", 96);
-    freq.put("시드니", 63);
-    freq.put("디", 7187);
-    freq.put("피드 ", 77);
-    freq.put("어진", 2055);
-    freq.put(" 들어", 754);
-    freq.put("종대", 66);
-    freq.put("뿐 ", 113);
-    freq.put("립하는", 77);
-    freq.put("모모야", 63);
-    freq.put("바로", 295);
-    freq.put(" 최소", 174);
-    freq.put(" 방면", 68);
-    freq.put("입 ", 284);
-    freq.put(" 전류", 87);
-    freq.put("우승을", 222);
-    freq.put(" 외무", 89);
-    freq.put("람 ", 490);
-    freq.put("합군", 122);
-    freq.put("혼 ", 107);
-    freq.put(" 년부", 1632);
-    freq.put("청나라", 162);
-    freq.put("간격", 58);
-    freq.put("역으로", 485);
-    freq.put("된다", 2991);
-    freq.put(" 많으", 66);
-    freq.put("작되어", 105);
-    freq.put("즈에", 211);
-    freq.put(" 많은", 1059);
-    freq.put("작되었", 341);
-    freq.put("역번호", 77);
-    freq.put("간고", 62);
-    freq.put("공학 ", 155);
-    freq.put("간과", 147);
-    freq.put("비잔티", 171);
-    freq.put(" 많이", 589);
-    freq.put("가", 55413);
-    freq.put("됐", 304);
-    freq.put("리아에", 188);
-    freq.put(" 주변", 342);
-    freq.put(" 온타", 105);
-    freq.put("핀란드", 235);
-    freq.put("발굴", 181);
-    freq.put("던 ", 4707);
-    freq.put("칭이 ", 130);
-    freq.put("물관 ", 160);
-    freq.put("회에서", 510);
-    freq.put("합하여", 263);
-    freq.put("но", 66);
-    freq.put(" 부여", 249);
-    freq.put("자동차", 777);
-    freq.put(" 강력", 160);
-    freq.put("다루는", 196);
-    freq.put("멤", 213);
-    freq.put("발달하", 67);
-    freq.put("리아어", 250);
-    freq.put("용하여", 659);
-    freq.put(" 보호", 689);
-    freq.put("독자적", 97);
-    freq.put("러리 ", 73);
-    freq.put("섬 ", 744);
-    freq.put("불어 ", 253);
-    freq.put("고려 ", 339);
-    freq.put("집행형", 59);
-    freq.put(" 수송", 124);
-    freq.put("니다", 213);
-    freq.put("수행을", 57);
-    freq.put(" 받아", 431);
-    freq.put("니는", 215);
-    freq.put("사법 ", 61);
-    freq.put("쟁력 ", 98);
-    freq.put("큐 ", 96);
-    freq.put("지하는", 209);
-    freq.put("브랜드", 212);
-    freq.put("권한", 204);
-    freq.put("동부 ", 460);
-    freq.put("일렉트", 97);
-    freq.put("수아", 82);
-    freq.put("포에", 131);
-    freq.put("종교적", 110);
-    freq.put("벡", 239);
-    freq.put("케 ", 324);
-    freq.put("물자", 101);
-    freq.put("크와 ", 130);
-    freq.put("섬이다", 96);
-    freq.put("술하는", 60);
-    freq.put("요미", 57);
-    freq.put("세기부", 84);
-    freq.put("발간", 137);
-    freq.put("라남도", 362);
-    freq.put("생물의", 77);
-    freq.put("르면 ", 308);
-    freq.put("할아", 61);
-    freq.put("지사 ", 62);
-    freq.put("삼성 ", 130);
-    freq.put("문구 ", 138);
-    freq.put("바빌", 62);
-    freq.put("오스 ", 205);
-    freq.put("경제적", 182);
-    freq.put("아이슬", 98);
-    freq.put(" 방법", 913);
-    freq.put("아이스", 118);
-    freq.put("평균 ", 104);
-    freq.put("배우 ", 114);
-    freq.put("수에", 273);
-    freq.put("장기", 260);
-    freq.put("수여", 200);
-    freq.put("발과", 99);
-    freq.put("결 ", 234);
-    freq.put("물이", 1091);
-    freq.put("조나", 82);
-    freq.put(" 외부", 231);
-    freq.put("물인", 66);
-    freq.put("북쪽", 976);
-    freq.put("승전", 168);
-    freq.put("물의", 738);
-    freq.put("물을", 636);
-    freq.put("물은", 155);
-    freq.put("발견", 763);
-    freq.put("살고", 132);
-    freq.put("수와", 199);
-    freq.put("로젝", 410);
-    freq.put("말라", 199);
-    freq.put("또 ", 312);
-    freq.put("모하고", 162);
-    freq.put(" 접속", 105);
-    freq.put(" 내륙", 67);
-    freq.put(" 부작", 91);
-    freq.put(" 전반", 229);
-    freq.put(" 비교", 314);
-    freq.put(" 밑에", 65);
-    freq.put("수였", 72);
-    freq.put("부터의", 66);
-    freq.put("단체이", 367);
-    freq.put("프를 ", 82);
-    freq.put("믹", 261);
-    freq.put(" 통틀", 103);
-    freq.put("단체의", 76);
-    freq.put("베키스", 65);
-    freq.put("이언트", 66);
-    freq.put("승용차", 65);
-    freq.put(" 비극", 78);
-    freq.put("수원", 294);
-    freq.put("리아의", 735);
-    freq.put(" 부위", 68);
-    freq.put("장관", 476);
-    freq.put(" 것도", 74);
-    freq.put("캠퍼스", 89);
-    freq.put("결과를", 92);
-    freq.put("픽", 1356);
-    freq.put(" 내리", 81);
-    freq.put(" 부인", 212);
-    freq.put("딕 ", 78);
-    freq.put("수요", 138);
-    freq.put("요로", 94);
-    freq.put("수용", 253);
-    freq.put("대하여", 393);
-    freq.put("암동", 115);
-    freq.put("웰", 170);
-    freq.put("친다", 61);
-    freq.put("장교", 142);
-    freq.put("종", 10038);
-    freq.put(" 참가", 722);
-    freq.put("하프", 78);
-    freq.put("장경", 65);
-    freq.put("수의", 777);
-    freq.put("반도체", 99);
-    freq.put("목에서", 71);
-    freq.put("수인", 135);
-    freq.put(" 서비", 842);
-    freq.put("인공 ", 105);
-    freq.put("수이", 764);
-    freq.put("수익", 107);
-    freq.put("國 ", 227);
-    freq.put("돼지", 84);
-    freq.put("선왕", 86);
-    freq.put("장과", 268);
-    freq.put("하학", 186);
-    freq.put("텔", 1214);
-    freq.put("포자", 65);
-    freq.put(" 내려", 165);
-    freq.put("물에", 348);
-    freq.put(" 보험", 236);
-    freq.put("용하였", 172);
-    freq.put("변경하", 100);
-    freq.put("작가이", 229);
-    freq.put(" 입출", 70);
-    freq.put(" 眞", 65);
-    freq.put("리아와", 111);
-    freq.put("반이 ", 63);
-    freq.put("주의는", 98);
-    freq.put("유한 ", 186);
-    freq.put(" 비공", 72);
-    freq.put("탈리아", 1095);
-    freq.put("각각의", 117);
-    freq.put("로즈", 93);
-    freq.put(" 전북", 64);
-    freq.put(" 전부", 159);
-    freq.put("포이", 65);
-    freq.put("장갑", 60);
-    freq.put(" 씨", 235);
-    freq.put("조달", 91);
-    freq.put("망한 ", 84);
-    freq.put("고가 ", 108);
-    freq.put("조는", 153);
-    freq.put("킹 ", 248);
-    freq.put("요르", 77);
-    freq.put(" 초연", 67);
-    freq.put("수입", 226);
-    freq.put("로지", 186);
-    freq.put("수자", 76);
-    freq.put("장거", 57);
-    freq.put(" 보한", 520);
-    freq.put("보급하", 100);
-    freq.put("포유", 91);
-    freq.put(" 참고", 71);
-    freq.put("인정하", 121);
-    freq.put("수장", 102);
-    freq.put("판사 ", 69);
-    freq.put("경을 ", 557);
-    freq.put("기하학", 185);
-    freq.put(" 천연", 128);
-    freq.put("획을 ", 70);
-    freq.put("체인 ", 128);
-    freq.put(" 옛 ", 292);
-    freq.put("말기에", 91);
-    freq.put("심에", 93);
-    freq.put("등은 ", 87);
-    freq.put(" 호선", 451);
-    freq.put("鎭", 93);
-    freq.put("거를", 112);
-    freq.put("스로 ", 388);
-    freq.put("시리", 1561);
-    freq.put(" 은하", 175);
-    freq.put("겸 ", 297);
-    freq.put("수주의", 71);
-    freq.put("순위", 140);
-    freq.put("시마", 348);
-    freq.put("장동", 67);
-    freq.put("지하기", 153);
-    freq.put("회원 ", 168);
-    freq.put("프레임", 130);
-    freq.put(" 지속", 294);
-    freq.put("수단이", 125);
-    freq.put("연맹 ", 267);
-    freq.put("로회", 57);
-    freq.put("수단은", 92);
-    freq.put(" 않았", 277);
-    freq.put("르미", 76);
-    freq.put("조 ", 2368);
-    freq.put(" 어원", 87);
-    freq.put("승하", 152);
-    freq.put(" 두 ", 1616);
-    freq.put("승한", 65);
-    freq.put("약품안", 57);
-    freq.put(" 않아", 113);
-    freq.put(" 우승", 675);
-    freq.put(" 천안", 91);
-    freq.put("필수", 60);
-    freq.put("보면 ", 81);
-    freq.put("수단으", 59);
-    freq.put(" 대의", 90);
-    freq.put("시를", 363);
-    freq.put(" 산화", 93);
-    freq.put(" 각자", 58);
-    freq.put("쓸", 88);
-    freq.put("꼽히", 75);
-    freq.put("거리", 759);
-    freq.put(" 도심", 76);
-    freq.put("았다 ", 914);
-    freq.put("르메", 125);
-    freq.put("거로", 219);
-    freq.put("倖", 139);
-    freq.put("착 ", 90);
-    freq.put(" 선포", 61);
-    freq.put("공화당", 68);
-    freq.put("조건", 316);
-    freq.put("르면", 329);
-    freq.put("르며", 194);
-    freq.put("학원 ", 257);
-    freq.put(" 도시", 2717);
-    freq.put("시즌이", 135);
-    freq.put("작을 ", 162);
-    freq.put(" 도스", 70);
-    freq.put("활하", 69);
-    freq.put("조가", 162);
-    freq.put("조각", 242);
-    freq.put("이》", 70);
-    freq.put("시간에", 90);
-    freq.put("분류되", 81);
-    freq.put(" 끝난", 64);
-    freq.put("느님", 102);
-    freq.put(" 끝나", 75);
-    freq.put("범에", 61);
-    freq.put("친구", 113);
-    freq.put("쳐진 ", 60);
-    freq.put(" 지급", 139);
-    freq.put("균 ", 216);
-    freq.put(" 것과", 188);
-    freq.put("심부", 90);
-    freq.put("체나 ", 63);
-    freq.put("아시리", 63);
-    freq.put("시로", 1329);
-    freq.put("금지", 206);
-    freq.put("이에른", 91);
-    freq.put("카미", 146);
-    freq.put("승을 ", 297);
-    freq.put("르몬", 72);
-    freq.put("르모", 65);
-    freq.put("상태로", 92);
-    freq.put("기타공", 108);
-    freq.put("패하", 101);
-    freq.put("너무", 67);
-    freq.put("다루고", 124);
-    freq.put(" 보좌", 58);
-    freq.put("시뮬", 120);
-    freq.put("스의 ", 2137);
-    freq.put("활화", 61);
-    freq.put("살던", 66);
-    freq.put("무에 ", 90);
-    freq.put("품질", 176);
-    freq.put("니가", 164);
-    freq.put("로", 96384);
-    freq.put("심장", 74);
-    freq.put("시민", 455);
-    freq.put("시미", 57);
-    freq.put("심을", 206);
-    freq.put("트사", 71);
-    freq.put("사후", 160);
-    freq.put("르만", 187);
-    freq.put("르마", 127);
-    freq.put(" 종이", 322);
-    freq.put("말기의", 111);
-    freq.put(" 롯데", 68);
-    freq.put(" 개월", 137);
-    freq.put(" 개원", 65);
-    freq.put(" 종을", 67);
-    freq.put("亨", 114);
-    freq.put("지하고", 206);
-    freq.put(" 중 ", 2659);
-    freq.put("몰", 624);
-    freq.put("심이", 158);
-    freq.put(" 종의", 95);
-    freq.put(" 않을", 60);
-    freq.put("니고", 130);
-    freq.put(" 보전", 117);
-    freq.put(" 않은", 394);
-    freq.put(" 않으", 216);
-    freq.put("상이다", 365);
-    freq.put(" 보존", 342);
-    freq.put(" 보조", 161);
-    freq.put(" 종으", 82);
-    freq.put(" 통칭", 251);
-    freq.put(" 후기", 424);
-    freq.put("합되", 136);
-    freq.put(" 통치", 299);
-    freq.put("청 ", 1596);
-    freq.put(" 도서", 212);
-    freq.put("심으", 693);
-    freq.put("장남", 121);
-    freq.put("원대학", 60);
-    freq.put(" 개인", 584);
-    freq.put("후로", 193);
-    freq.put(" 호수", 187);
-    freq.put("간되", 110);
-    freq.put("남자 ", 113);
-    freq.put("품종", 97);
-    freq.put("상태를", 182);
-    freq.put("하철 ", 179);
-    freq.put("림청", 142);
-    freq.put("너먼", 74);
-    freq.put("로피", 98);
-    freq.put(" 개의", 1532);
-    freq.put("장난", 59);
-    freq.put("가르침", 80);
-    freq.put("윈 ", 68);
-    freq.put("황의 ", 111);
-    freq.put("시모", 119);
-    freq.put("개최하", 103);
-    freq.put("필", 2371);
-    freq.put("로하", 57);
-    freq.put("그는 ", 921);
-    freq.put("조금", 122);
-    freq.put("르렀", 74);
-    freq.put("조기", 91);
-    freq.put("며 ", 20765);
-    freq.put("러운 ", 114);
-    freq.put("리케인", 119);
-    freq.put("리케이", 107);
-    freq.put("범으", 68);
-    freq.put("아로 ", 63);
-    freq.put("힘", 444);
-    freq.put("미널이", 72);
-    freq.put(" 호스", 85);
-    freq.put(" 어업", 104);
-    freq.put("가하는", 151);
-    freq.put("범인", 79);
-    freq.put("시간이", 97);
-    freq.put("하지", 1949);
-    freq.put("느끼", 75);
-    freq.put(" 개장", 93);
-    freq.put("외에도", 132);
-    freq.put("시간을", 87);
-    freq.put("범을", 60);
-    freq.put("범은", 64);
-    freq.put("주요 ", 619);
-    freq.put("감", 2792);
-    freq.put("두고", 457);
-    freq.put("시부", 72);
-    freq.put("사로", 662);
-    freq.put("속이다", 111);
-    freq.put("β", 61);
-    freq.put("미디어", 463);
-    freq.put("침해", 108);
-    freq.put("함으로", 764);
-    freq.put("그래프", 117);
-    freq.put("필요", 647);
-    freq.put("백과사", 636);
-    freq.put("철학", 918);
-    freq.put("영원", 61);
-    freq.put(" 도입", 355);
-    freq.put("포시 ", 85);
-    freq.put("그래픽", 309);
-    freq.put("로프 ", 73);
-    freq.put(" 토마", 98);
-    freq.put("합뉴", 77);
-    freq.put(" 약간", 124);
-    freq.put("설치한", 64);
-    freq.put("쳐서", 143);
-    freq.put(" 유동", 58);
-    freq.put(" 통제", 86);
-    freq.put("여섯 ", 109);
-    freq.put(" 웹사", 127);
-    freq.put("스", 47455);
-    freq.put("미스 ", 121);
-    freq.put("로트", 65);
-    freq.put("종과", 75);
-    freq.put("관이다", 925);
-    freq.put(" 장기", 194);
-    freq.put("트웨", 825);
-    freq.put(" 월에", 788);
-    freq.put("거부", 132);
-    freq.put("가이자", 300);
-    freq.put("를테면", 61);
-    freq.put("채무자", 67);
-    freq.put("트워", 614);
-    freq.put("례의 ", 123);
-    freq.put("두개", 63);
-    freq.put("두가", 58);
-    freq.put("종결", 57);
-    freq.put("회적 ", 239);
-    freq.put("르비", 233);
-    freq.put("종교", 1302);
-    freq.put("합동", 105);
-    freq.put(" 토론", 158);
-    freq.put("북조", 69);
-    freq.put("립하고", 77);
-    freq.put(" 도움", 142);
-    freq.put("연합의", 90);
-    freq.put("총 ", 953);
-    freq.put("시베", 62);
-    freq.put("육관광", 1111);
-    freq.put(" 종사", 119);
-    freq.put(" 개성", 96);
-    freq.put("발된", 170);
-    freq.put("음", 8005);
-    freq.put("순수", 115);
-    freq.put("트인", 71);
-    freq.put(" 개설", 79);
-    freq.put("꼽힌다", 72);
-    freq.put(" 개선", 238);
-    freq.put("트이", 390);
-    freq.put("심사", 156);
-    freq.put("트의", 618);
-    freq.put(" 도요", 85);
-    freq.put("시바", 74);
-    freq.put("로페", 81);
-    freq.put(" 淸", 90);
-    freq.put("두교", 119);
-    freq.put("프레스", 87);
-    freq.put(" 도와", 123);
-    freq.put(" 쿼크", 66);
-    freq.put("이론이", 166);
-    freq.put("게오르", 73);
-    freq.put("용인시", 67);
-    freq.put("대표팀", 149);
-    freq.put("간단", 335);
-    freq.put("사자의", 62);
-    freq.put("간다", 177);
-    freq.put("이론의", 70);
-    freq.put("이론을", 75);
-    freq.put("이론은", 70);
-    freq.put("스플레", 121);
-    freq.put(" 마사", 186);
-    freq.put("방식으", 206);
-    freq.put("립에 ", 79);
-    freq.put("어졌다", 315);
-    freq.put("민의 ", 363);
-    freq.put("발라", 85);
-    freq.put("래는 ", 286);
-    freq.put("소리 ", 122);
-    freq.put("룡 ", 75);
-    freq.put("남이다", 68);
-    freq.put("방식이", 202);
-    freq.put("순서", 137);
-    freq.put("육과정", 69);
-    freq.put("패턴", 74);
-    freq.put("이었고", 95);
-    freq.put("살라", 75);
-    freq.put("한데", 57);
-    freq.put("거구에", 103);
-    freq.put("방식의", 98);
-    freq.put("안된 ", 100);
-    freq.put("점은 ", 106);
-    freq.put("방식을", 150);
-    freq.put("빛의 ", 78);
-    freq.put("로크", 88);
-    freq.put(" 비디", 406);
-    freq.put("틴어", 370);
-    freq.put("사항", 240);
-    freq.put("게 ", 7497);
-    freq.put(" 있기", 213);
-    freq.put("하천", 174);
-    freq.put(" 개신", 191);
-    freq.put("하철", 238);
-    freq.put(" 개시", 84);
-    freq.put("로키", 66);
-    freq.put("아과 ", 60);
-    freq.put("캐논", 62);
-    freq.put("로타", 76);
-    freq.put(" 획득", 133);
-    freq.put("르부", 80);
-    freq.put("인물 ", 119);
-    freq.put("승팀", 125);
-    freq.put("항공", 848);
-    freq.put("종로", 421);
-    freq.put("워드 ", 182);
-    freq.put(" 풀 ", 69);
-    freq.put("캐나", 550);
-    freq.put("약을 ", 246);
-    freq.put("말기", 395);
-    freq.put("시의 ", 1040);
-    freq.put("르바", 197);
-    freq.put("세에 ", 126);
-    freq.put("佐", 64);
-    freq.put("속한 ", 330);
-    freq.put("초명은", 71);
-    freq.put("후반", 218);
-    freq.put("던", 5053);
-    freq.put("로테", 59);
-    freq.put("도권 ", 73);
-    freq.put("추원 ", 57);
-    freq.put("항구", 135);
-    freq.put("듭", 58);
-    freq.put("칩", 118);
-    freq.put(" 토머", 69);
-    freq.put("곽", 179);
-    freq.put("료로 ", 215);
-    freq.put(" 장관", 274);
-    freq.put("페", 3911);
-    freq.put("트어", 154);
-    freq.put("장된", 112);
-    freq.put("각류 ", 61);
-    freq.put(" 입학", 80);
-    freq.put("로토", 241);
-    freq.put("규모가", 68);
-    freq.put("민족문", 161);
-    freq.put("후보", 250);
-    freq.put(" 체계", 535);
-    freq.put(" 체결", 226);
-    freq.put(" 장교", 115);
-    freq.put("패키", 72);
-    freq.put("흘러", 172);
-    freq.put("연안 ", 64);
-    freq.put("조직된", 71);
-    freq.put("헬", 461);
-    freq.put("간단한", 90);
-    freq.put("랜 ", 157);
-    freq.put("준공", 69);
-    freq.put("트에", 514);
-    freq.put(" 장군", 295);
-    freq.put("르베", 87);
-    freq.put("립대학", 73);
-    freq.put("렀", 295);
-    freq.put("계와 ", 138);
-    freq.put("행", 10972);
-    freq.put("발적", 105);
-    freq.put("하수", 77);
-    freq.put(" 부통", 85);
-    freq.put("이것을", 92);
-    freq.put(" 보스", 263);
-    freq.put("이것은", 282);
-    freq.put("어려운", 65);
-    freq.put("이것이", 59);
-    freq.put("선에", 397);
-    freq.put("르데", 87);
-    freq.put("행한다", 126);
-    freq.put("게임에", 95);
-    freq.put("여하여", 59);
-    freq.put("어 ", 13255);
-    freq.put("룡", 457);
-    freq.put("민주화", 70);
-    freq.put("수상했", 86);
-    freq.put("그러한", 104);
-    freq.put("리에 ", 892);
-    freq.put("효소", 123);
-    freq.put("수상하", 96);
-    freq.put("서에서", 124);
-    freq.put("청북도", 246);
-    freq.put("르도", 108);
-    freq.put("케도", 119);
-    freq.put(" 보수", 175);
-    freq.put("포크", 112);
-    freq.put("보의 ", 153);
-    freq.put("살리", 87);
-    freq.put("행된 ", 137);
-    freq.put(" 저술", 147);
-    freq.put("겸", 469);
-    freq.put(" 개체", 141);
-    freq.put("올라 ", 62);
-    freq.put("하시", 85);
-    freq.put("시노", 86);
-    freq.put(" 웹 ", 345);
-    freq.put("기타 ", 345);
-    freq.put("그는", 921);
-    freq.put("하는 ", 18164);
-    freq.put("종종 ", 128);
-    freq.put("살렘", 109);
-    freq.put("발로", 78);
-    freq.put("시나", 175);
-    freq.put("乙乙 ", 66);
-    freq.put("들도 ", 99);
-    freq.put(" 무력", 62);
-    freq.put("롤플", 72);
-    freq.put("히어로", 65);
-    freq.put(" 개최", 744);
-    freq.put("대법원", 73);
-    freq.put(" 천체", 219);
-    freq.put("출판되", 65);
-    freq.put("발렌", 61);
-    freq.put("之倉 ", 121);
-    freq.put("발레", 115);
-    freq.put("려가 ", 67);
-    freq.put("터페이", 229);
-    freq.put(" 호조", 68);
-    freq.put("층에", 486);
-    freq.put("르니", 86);
-    freq.put("금속", 226);
-    freq.put("십 ", 167);
-    freq.put("방사선", 62);
-    freq.put("의인민", 505);
-    freq.put("랴", 119);
-    freq.put("르단", 65);
-    freq.put("방사성", 62);
-    freq.put("르다", 274);
-    freq.put("과를 ", 382);
-    freq.put(" 서북", 81);
-    freq.put("르는", 1030);
-    freq.put(" 욕", 102);
-    freq.put("방해", 160);
-    freq.put("장면", 96);
-    freq.put("주특별", 162);
-    freq.put("비에트", 309);
-    freq.put("포터", 121);
-    freq.put(" 레닌", 99);
-    freq.put("포털", 72);
-    freq.put("여서 ", 467);
-    freq.put("리처드", 110);
-    freq.put("이라크", 126);
-    freq.put(" 개칭", 76);
-    freq.put("트가 ", 377);
-    freq.put("르노", 173);
-    freq.put("합병", 195);
-    freq.put("드로이", 60);
-    freq.put(" 유니", 282);
-    freq.put("홈", 507);
-    freq.put("시도", 203);
-    freq.put("이야기", 454);
-    freq.put("트족", 57);
-    freq.put("얼음", 64);
-    freq.put("이에서", 435);
-    freq.put(" 간", 2103);
-    freq.put("질적 ", 91);
-    freq.put("합법", 65);
-    freq.put("잘못", 97);
-    freq.put("르네", 183);
-    freq.put("하버드", 67);
-    freq.put(" 보상", 64);
-    freq.put("팩트", 77);
-    freq.put("지의 ", 915);
-    freq.put("간부", 65);
-    freq.put("시대", 2951);
-    freq.put("네르", 65);
-    freq.put("的 ", 81);
-    freq.put(" 얼마", 78);
-    freq.put("이론적", 57);
-    freq.put(" 통영", 63);
-    freq.put("요가", 94);
-    freq.put(" 접하", 505);
-    freq.put("요건", 96);
-    freq.put(" 접한", 376);
-    freq.put(" 은", 18917);
-    freq.put("並 ", 3956);
-    freq.put("도모를", 115);
-    freq.put("장르", 283);
-    freq.put("보존 ", 138);
-    freq.put(" 접해", 75);
-    freq.put("페르시", 179);
-    freq.put("티", 5222);
-    freq.put("카르", 370);
-    freq.put(" 도중", 97);
-    freq.put(" 비롯", 537);
-    freq.put("시는", 274);
-    freq.put("봄", 175);
-    freq.put("층을", 58);
-    freq.put(" 읍", 148);
-    freq.put("탄의 ", 170);
-    freq.put("대중교", 58);
-    freq.put("원시 ", 244);
-    freq.put("층이", 72);
-    freq.put(" 비례", 62);
-    freq.put("수이자", 73);
-    freq.put("룬다 ", 177);
-    freq.put("옹 ", 166);
-    freq.put("암", 1495);
-    freq.put("並並 ", 551);
-    freq.put("하마 ", 73);
-    freq.put("겐", 407);
-    freq.put("보이는", 153);
-    freq.put("시다", 76);
-    freq.put("시간 ", 432);
-    freq.put("리학 ", 218);
-    freq.put("많이 ", 589);
-    freq.put(" 내각", 396);
-    freq.put(" 특히", 654);
-    freq.put("천의 ", 86);
-    freq.put(" 유", 10518);
-    freq.put("전자의", 59);
-    freq.put("자의 ", 1228);
-    freq.put("크에 ", 114);
-    freq.put("문》", 144);
-    freq.put("스크 ", 410);
-    freq.put(" 사고", 438);
-    freq.put("侶三", 70);
-    freq.put("거구제", 58);
-    freq.put("리", 49017);
-    freq.put("설이다", 223);
-    freq.put("양주시", 57);
-    freq.put(" 과", 4291);
-    freq.put("래픽스", 66);
-    freq.put("노선", 512);
-    freq.put(" 통일", 365);
-    freq.put(" 수술", 59);
-    freq.put("뱅", 123);
-    freq.put("르나", 166);
-    freq.put("순천", 97);
-    freq.put("요구", 295);
-    freq.put("계된 ", 80);
-    freq.put("여했", 135);
-    freq.put("악단 ", 108);
-    freq.put("여하였", 106);
-    freq.put("여행", 192);
-    freq.put("국어 ", 241);
-    freq.put("네상스", 84);
-    freq.put("입된", 112);
-    freq.put("돼", 177);
-    freq.put("장로", 122);
-    freq.put("쇼", 889);
-    freq.put("밀", 2017);
-    freq.put("심지", 489);
-    freq.put("글라데", 64);
-    freq.put("하였", 7094);
-    freq.put("패키지", 72);
-    freq.put("사할 ", 58);
-    freq.put("떻게 ", 119);
-    freq.put("성부 ", 74);
-    freq.put(" 전기", 671);
-    freq.put("쟁에서", 112);
-    freq.put(" 도쿄", 425);
-    freq.put(" 않지", 68);
-    freq.put("범주", 67);
-    freq.put(" 심사", 67);
-    freq.put("관련이", 94);
-    freq.put("하와", 112);
-    freq.put(" 토너", 70);
-    freq.put("오브", 295);
-    freq.put(" 삽입", 61);
-    freq.put("했다 ", 3529);
-    freq.put("아들 ", 170);
-    freq.put(" 개정", 186);
-    freq.put(" 전까", 100);
-    freq.put("관계 ", 273);
-    freq.put("권에", 285);
-    freq.put("범죄", 410);
-    freq.put(" 丘丁", 182);
-    freq.put("바꾸", 197);
-    freq.put("지인 ", 141);
-    freq.put(" 외계", 79);
-    freq.put("그이", 134);
-    freq.put("계속 ", 137);
-    freq.put("품으", 223);
-    freq.put("의회 ", 231);
-    freq.put("그의", 1129);
-    freq.put("л", 238);
-    freq.put("동은 ", 194);
-    freq.put("미널 ", 87);
-    freq.put(" 견", 241);
-    freq.put("민 ", 686);
-    freq.put("하원", 98);
-    freq.put("품을", 440);
-    freq.put("화하기", 61);
-    freq.put("미국 ", 2327);
-    freq.put("을 ", 57193);
-    freq.put(" 과 ", 1102);
-    freq.put("로로 ", 225);
-    freq.put("거두", 93);
-    freq.put("네트", 660);
-    freq.put("비영리", 167);
-    freq.put(" 천주", 117);
-    freq.put("수필", 57);
-    freq.put("클리드", 62);
-    freq.put("수하", 240);
-    freq.put("수학", 984);
-    freq.put("수한", 297);
-    freq.put(" 보장", 178);
-    freq.put(" 외교", 366);
-    freq.put(" 겸", 396);
-    freq.put("수함", 92);
-    freq.put(" 외국", 347);
-    freq.put("수집 ", 85);
-    freq.put("코스 ", 158);
-    freq.put(" 敎", 71);
-    freq.put(" 보잉", 63);
-    freq.put("경우에", 367);
-    freq.put("시드", 120);
-    freq.put("하의", 429);
-    freq.put("바깥", 84);
-    freq.put("데이터", 858);
-    freq.put("미생", 82);
-    freq.put(" 종종", 129);
-    freq.put("하인", 110);
-    freq.put("답", 174);
-    freq.put("하일", 70);
-    freq.put("할하", 144);
-    freq.put("금액", 59);
-    freq.put("하이", 710);
-    freq.put("화된 ", 280);
-    freq.put(" 日", 116);
-    freq.put("시된", 222);
-    freq.put("시되", 344);
-    freq.put("권은 ", 114);
-    freq.put("하자", 244);
-    freq.put(" 종족", 57);
-    freq.put("포하", 234);
-    freq.put(" 보유", 223);
-    freq.put("그와", 139);
-    freq.put("포항", 188);
-    freq.put("포함", 1770);
-    freq.put("가이다", 1033);
-    freq.put("제시하", 89);
-    freq.put("합물", 165);
-    freq.put("제시한", 63);
-    freq.put("금에", 66);
-    freq.put("상대적", 107);
-    freq.put("친환", 81);
-    freq.put("설계되", 58);
-    freq.put("여할", 326);
-    freq.put("설계된", 59);
-    freq.put(" 종전", 57);
-    freq.put("장비", 214);
-    freq.put("폴", 1296);
-    freq.put("레스타", 99);
-    freq.put("보급을", 72);
-    freq.put("얀마 ", 62);
-    freq.put("먹는", 147);
-    freq.put("련이 ", 125);
-    freq.put("눈", 377);
-    freq.put("화하고", 69);
-    freq.put("작", 11270);
-    freq.put("용되어", 68);
-    freq.put("캐릭", 191);
-    freq.put(" 전개", 206);
-    freq.put("권자", 142);
-    freq.put("그에", 296);
-    freq.put("물품", 90);
-    freq.put(" 토대", 84);
-    freq.put("아직 ", 93);
-    freq.put("학과 ", 472);
-    freq.put("並之 ", 482);
-    freq.put("르디", 177);
-    freq.put("요하다", 73);
-    freq.put("차관급", 64);
-    freq.put(" 구", 9126);
-    freq.put("후부터", 65);
-    freq.put(" 통신", 479);
-    freq.put("수형", 93);
-    freq.put("용되었", 289);
-    freq.put(" 듀", 145);
-    freq.put("니와 ", 61);
-    freq.put(" 군", 3102);
-    freq.put("수호", 86);
-    freq.put("현대의", 80);
-    freq.put("포드 ", 79);
-    freq.put("권으", 128);
-    freq.put("타임 ", 62);
-    freq.put(" 각지", 78);
-    freq.put("권위", 161);
-    freq.put("젝트", 419);
-    freq.put("태풍으", 59);
-    freq.put("현대자", 68);
-    freq.put("년을 ", 193);
-    freq.put("는가", 88);
-    freq.put("바그", 84);
-    freq.put("거래", 321);
-    freq.put("권이", 270);
-    freq.put("권익", 212);
-    freq.put("수행하", 444);
-    freq.put(" 전공", 90);
-    freq.put("산으로", 200);
-    freq.put("수행한", 79);
-    freq.put("권을", 623);
-    freq.put("권은", 116);
-    freq.put("시라", 107);
-    freq.put("자라는", 57);
-    freq.put("전을 ", 820);
-    freq.put("태풍이", 71);
-    freq.put("권의", 270);
-    freq.put("뤄", 108);
-    freq.put(" 방글", 64);
-    freq.put("금으", 71);
-    freq.put("금융", 485);
-    freq.put("경제학", 303);
-    freq.put("우승팀", 125);
-    freq.put("평 ", 133);
-    freq.put("옆에", 62);
-    freq.put("금의", 358);
-    freq.put("램이다", 179);
-    freq.put(" 잃", 123);
-    freq.put("용의 ", 212);
-    freq.put("마를 ", 96);
-    freq.put(" 보여", 231);
-    freq.put("합리", 119);
-    freq.put("금은", 170);
-    freq.put("생물학", 287);
-    freq.put("금을", 242);
-    freq.put("되었", 8669);
-    freq.put("케다", 64);
-    freq.put(" 호칭", 116);
-    freq.put(" 복지", 133);
-    freq.put("금이", 141);
-    freq.put(" 비밀", 142);
-    freq.put("로스앤", 97);
-    freq.put("르드", 132);
-    freq.put(" 브리", 239);
-    freq.put("하얀", 74);
-    freq.put("일대에", 115);
-    freq.put(" 부호", 199);
-    freq.put("잎은 ", 109);
-    freq.put("합류", 148);
-    freq.put(" 자", 10494);
-    freq.put(" 서버", 233);
-    freq.put(" 도착", 65);
-    freq.put("코프 ", 86);
-    freq.put("디지털", 568);
-    freq.put("캐롤", 76);
-    freq.put("양경찰", 118);
-    freq.put("하에", 362);
-    freq.put(" 곡 ", 60);
-    freq.put("정되는", 135);
-    freq.put(" 각종", 385);
-    freq.put("하여", 10590);
-    freq.put(" 레드", 100);
-    freq.put("일러 ", 99);
-    freq.put("물학", 358);
-    freq.put(" 보안", 191);
-    freq.put("노선 ", 97);
-    freq.put("염", 794);
-    freq.put(" 부활", 95);
-    freq.put("궤도 ", 71);
-    freq.put(" 전투", 1219);
-    freq.put("권리", 429);
-    freq.put("시즘", 60);
-    freq.put("시즌", 581);
-    freq.put("일제 ", 401);
-    freq.put("연합뉴", 77);
-    freq.put("시즈", 65);
-    freq.put("대중화", 66);
-    freq.put("비는 ", 92);
-    freq.put("간으", 125);
-    freq.put("천동 ", 70);
-    freq.put("간을", 392);
-    freq.put("간은", 170);
-    freq.put("니메이", 622);
-    freq.put("시지", 134);
-    freq.put("출입국", 71);
-    freq.put("반적인", 257);
-    freq.put("사회 ", 554);
-    freq.put(" 많고", 58);
-    freq.put(" 빌헬", 87);
-    freq.put("령으", 158);
-    freq.put("간인", 100);
-    freq.put("간이", 504);
-    freq.put("하면", 1454);
-    freq.put("하루 ", 70);
-    freq.put("체결된", 76);
-    freq.put("거지", 151);
-    freq.put("하모", 62);
-    freq.put("화산 ", 89);
-    freq.put(" 도덕", 66);
-    freq.put("트는", 279);
-    freq.put("메탈 ", 76);
-    freq.put("때 ", 2169);
-    freq.put(" 보면", 65);
-    freq.put("시행하", 82);
-    freq.put("즈이다", 127);
-    freq.put("너지", 586);
-    freq.put("트니", 100);
-    freq.put(" 용산", 140);
-    freq.put("상의 ", 1371);
-    freq.put("주얼 ", 63);
-    freq.put("떻게", 123);
-    freq.put(" 도달", 62);
-    freq.put("파", 8561);
-    freq.put("어날 ", 66);
-    freq.put(" 전파", 198);
-    freq.put("추구하", 83);
-    freq.put("지아 ", 174);
-    freq.put("도쿄", 436);
-    freq.put("거점", 73);
-    freq.put("구개발", 124);
-    freq.put("통계학", 58);
-    freq.put("거제", 96);
-    freq.put("물질 ", 102);
-    freq.put("용도로", 77);
-    freq.put("합작", 74);
-    freq.put("충청남", 311);
-    freq.put(" 웨일", 79);
-    freq.put("장식", 115);
-    freq.put("장시", 86);
-    freq.put("컵", 693);
-    freq.put("임하였", 204);
-    freq.put(" 보물", 126);
-    freq.put("시점", 75);
-    freq.put("발생", 1139);
-    freq.put("합이", 240);
-    freq.put("조지 ", 208);
-    freq.put("시적", 140);
-    freq.put("시절", 216);
-    freq.put("합의", 328);
-    freq.put(" 호남", 99);
-    freq.put("거주", 408);
-    freq.put("만들기", 94);
-    freq.put("장수", 156);
-    freq.put("합은", 87);
-    freq.put("합을", 202);
-    freq.put("립과 ", 82);
-    freq.put("합으", 111);
-    freq.put("하므", 81);
-    freq.put(" 비스", 147);
-    freq.put("바티", 117);
-    freq.put(" 우에", 75);
-    freq.put(" 비슷", 450);
-    freq.put("용되며", 85);
-    freq.put("효력", 77);
-    freq.put("시조", 180);
-    freq.put("경우를", 91);
-    freq.put("발사", 358);
-    freq.put(" 널리", 529);
-    freq.put(" 불린", 584);
-    freq.put("ㆍ", 388);
-    freq.put("티움 ", 158);
-    freq.put(" 불리", 901);
-    freq.put(" 층 ", 246);
-    freq.put("지적 ", 62);
-    freq.put("장소", 328);
-    freq.put("씨의", 120);
-    freq.put("향", 3265);
-    freq.put("자기장", 84);
-    freq.put("다란", 88);
-    freq.put("교통 ", 183);
-    freq.put("하려", 361);
-    freq.put("그의 ", 1128);
-    freq.put("못", 710);
-    freq.put("ρ", 207);
-    freq.put("그리", 2785);
-    freq.put("그림", 313);
-    freq.put("그린", 273);
-    freq.put(" 접근", 267);
-    freq.put("상적인", 119);
-    freq.put("면 ", 3592);
-    freq.put("트남", 408);
-    freq.put("동방 ", 109);
-    freq.put("롤라이", 60);
-    freq.put(" 둘 ", 80);
-    freq.put("후지", 177);
-    freq.put("캘리포", 248);
-    freq.put("그를", 132);
-    freq.put("장성", 72);
-    freq.put("르지", 156);
-    freq.put("데에 ", 162);
-    freq.put(" 궤", 202);
-    freq.put("안한 ", 113);
-    freq.put("건은", 246);
-    freq.put("열대 ", 90);
-    freq.put("인터내", 76);
-    freq.put("대서양", 169);
-    freq.put("광주 ", 85);
-    freq.put("스텔", 113);
-    freq.put("발과 ", 93);
-    freq.put("간에", 601);
-    freq.put("하루", 140);
-    freq.put("상호작", 138);
-    freq.put(" 읍 ", 79);
-    freq.put("법에 ", 402);
-    freq.put("리한다", 63);
-    freq.put(" 레지", 112);
-    freq.put("최고 ", 196);
-    freq.put("장사", 59);
-    freq.put("그루", 101);
-    freq.put("재로 ", 182);
-    freq.put("바퀴", 74);
-    freq.put("그룹", 828);
-    freq.put("법", 11136);
-    freq.put("합에", 109);
-    freq.put("이프 ", 175);
-    freq.put("인터넷", 668);
-    freq.put("대표로", 57);
-    freq.put("하류", 64);
-    freq.put(" 궁", 394);
-    freq.put("의", 128021);
-    freq.put("허가", 742);
-    freq.put("본사는", 86);
-    freq.put("만들고", 94);
-    freq.put(" 어디", 65);
-    freq.put("를린 ", 83);
-    freq.put("하를", 74);
-    freq.put("하르", 159);
-    freq.put(" 불렸", 246);
-    freq.put("관이었", 166);
-    freq.put(" 전통", 766);
-    freq.put(" 호는", 364);
-    freq.put("르주", 61);
-    freq.put("하리", 63);
-    freq.put(" 비상", 102);
-    freq.put(" 컴파", 63);
-    freq.put("그로", 269);
-    freq.put(" 불렀", 138);
-    freq.put("시시", 71);
-    freq.put(" 개량", 110);
-    freq.put("하마", 145);
-    freq.put(" 어떻", 123);
-    freq.put(" 보르", 102);
-    freq.put("그려", 165);
-    freq.put("어졌으", 85);
-    freq.put("프레드", 80);
-    freq.put("롯하", 108);
-    freq.put(" 어떤", 681);
-    freq.put(" 어떠", 156);
-    freq.put("그레", 393);
-    freq.put("요하", 229);
-    freq.put("바탕", 457);
-    freq.put("그렇", 75);
-    freq.put("간되었", 75);
-    freq.put("되도록", 63);
-    freq.put("롯해", 85);
-    freq.put("바타", 69);
-    freq.put("적이고", 205);
-    freq.put("르코", 77);
-    freq.put(" 초기", 674);
-    freq.put("처리 ", 166);
-    freq.put("키나와", 91);
-    freq.put(" 끝에", 201);
-    freq.put("대성당", 95);
-    freq.put("금은 ", 161);
-    freq.put(" 전혀", 90);
-    freq.put("정권을", 71);
-    freq.put(" 전형", 79);
-    freq.put("장자", 107);
-    freq.put("경영 ", 97);
-    freq.put("때에는", 117);
-    freq.put("살았", 134);
-    freq.put(" 비율", 114);
-    freq.put("수가", 629);
-    freq.put(" 참의", 90);
-    freq.put(" 컴퓨", 1671);
-    freq.put("살아", 160);
-    freq.put("외에", 406);
-    freq.put("르케", 65);
-    freq.put(" 부근", 222);
-    freq.put(" 방해", 63);
-    freq.put("바흐", 101);
-    freq.put(" 레코", 213);
-    freq.put("유전학", 62);
-    freq.put(" 전환", 128);
-    freq.put(" 전화", 182);
-    freq.put("이완 ", 109);
-    freq.put("조직이", 140);
-    freq.put("발에", 122);
-    freq.put("장으", 586);
-    freq.put("시초", 70);
-    freq.put("조직의", 65);
-    freq.put("하노", 64);
-    freq.put("후쿠", 167);
-    freq.put("조직을", 68);
-    freq.put("보가 ", 128);
-    freq.put("경찰청", 120);
-    freq.put("위계", 74);
-    freq.put("르쿠", 64);
-    freq.put("때에 ", 170);
-    freq.put(" 좋은", 135);
-    freq.put("사스 ", 116);
-    freq.put("포가", 72);
-    freq.put("조직으", 61);
-    freq.put(" 대가", 98);
-    freq.put("장인", 245);
-    freq.put("장이", 1191);
-    freq.put("있었으", 214);
-    freq.put("로구", 410);
-    freq.put("까지", 4684);
-    freq.put("있는지", 77);
-    freq.put("장을", 941);
-    freq.put(" 전후", 94);
-    freq.put(" 판정", 70);
-    freq.put("장은", 773);
-    freq.put(" 어느", 236);
-    freq.put("장의", 447);
-    freq.put(" 비잔", 182);
-    freq.put("르치", 74);
-    freq.put("게서 ", 71);
-    freq.put("려운 ", 66);
-    freq.put("캐스", 57);
-    freq.put("수교", 103);
-    freq.put("틴어 ", 259);
-    freq.put("트남의", 86);
-    freq.put(" 개념", 737);
-    freq.put("르카", 91);
-    freq.put("르침", 80);
-    freq.put("건강 ", 58);
-    freq.put("시청", 223);
-    freq.put("일반적", 1125);
-    freq.put("토가", 60);
-    freq.put("트라", 796);
-    freq.put(" 부과", 61);
-    freq.put("잡지", 250);
-    freq.put("중점", 70);
-    freq.put("맡고 ", 193);
-    freq.put("어떠한", 155);
-    freq.put(" 비영", 167);
-    freq.put("거창", 63);
-    freq.put("거쳐", 379);
-    freq.put("역삼동", 82);
-    freq.put("용하고", 267);
-    freq.put("심", 4418);
-    freq.put("설립 ", 259);
-    freq.put("떠", 388);
-    freq.put("화를 ", 1060);
-    freq.put("트란", 76);
-    freq.put("트랄", 57);
-    freq.put("필라", 72);
-    freq.put("트랙", 134);
-    freq.put("트랜", 257);
-    freq.put("포괄", 108);
-    freq.put(" 월드", 600);
-    freq.put("수권", 213);
-    freq.put("트럭", 83);
-    freq.put("홍", 1228);
-    freq.put("트럼", 73);
-    freq.put("트럴", 128);
-    freq.put("은 ", 53620);
-    freq.put(" 만주", 134);
-    freq.put("발의", 72);
-    freq.put("발을", 206);
-    freq.put("품부", 596);
-    freq.put("발이", 87);
-    freq.put("간섭", 83);
-    freq.put("사·", 132);
-    freq.put("술을 ", 417);
-    freq.put("간선", 71);
-    freq.put("존의 ", 270);
-    freq.put("물과", 183);
-    freq.put(" 글", 778);
-    freq.put(" 가을", 65);
-    freq.put("물고", 100);
-    freq.put("포트 ", 65);
-    freq.put("살인", 141);
-    freq.put("살이", 176);
-    freq.put("벨라루", 58);
-    freq.put(" 보병", 96);
-    freq.put("맥에", 68);
-    freq.put("수기", 70);
-    freq.put("장에", 759);
-    freq.put(" 끝이", 59);
-    freq.put("이라고", 1978);
-    freq.put("시켜", 325);
-    freq.put("미에 ", 63);
-    freq.put("하버", 84);
-    freq.put("래로 ", 181);
-    freq.put("란 ", 2827);
-    freq.put("시켰", 170);
-    freq.put("인정받", 89);
-    freq.put("쟁을 ", 247);
-    freq.put("청의 ", 110);
-    freq.put("시코", 429);
-    freq.put("발자", 127);
-    freq.put("장애", 383);
-    freq.put("요크", 80);
-    freq.put("매되었", 349);
-    freq.put(" 초고", 57);
-    freq.put("장안", 65);
-    freq.put(" 참여", 607);
-    freq.put("장악", 78);
-    freq.put("제공 ", 74);
-    freq.put(" 첫 ", 814);
-    freq.put("머니 ", 100);
-    freq.put("거치", 92);
-    freq.put(" 않다", 148);
-    freq.put("관 ", 2189);
-    freq.put("관의 ", 2170);
-    freq.put(" 불법", 159);
-    freq.put("특징이", 235);
-    freq.put("교회 ", 398);
-    freq.put("용하기", 171);
-    freq.put(" 전해", 249);
-    freq.put(" 보컬", 132);
-    freq.put(" 않는", 847);
-    freq.put(" 전한", 60);
-    freq.put(" 전하", 166);
-    freq.put("특징을", 85);
-    freq.put("발원", 228);
-    freq.put("하부", 85);
-    freq.put("마이크", 612);
-    freq.put("제도 ", 358);
-    freq.put("병이", 85);
-    freq.put("씨식", 95);
-    freq.put("체적으", 123);
-    freq.put("관·", 148);
-    freq.put("물관", 507);
-    freq.put("티브 ", 148);
-    freq.put("ск", 57);
-    freq.put("명을 ", 535);
-    freq.put("터이다", 170);
-    freq.put("합성", 289);
-    freq.put("올바른", 82);
-    freq.put("시카", 195);
-    freq.put("르체", 115);
-    freq.put("달한 ", 64);
-    freq.put("체적인", 105);
-    freq.put("시칠", 59);
-    freq.put("경로", 111);
-    freq.put(" 담은", 65);
-    freq.put("저", 3863);
-    freq.put("독으로", 61);
-    freq.put("조하", 271);
-    freq.put("왕이 ", 131);
-    freq.put("조한", 146);
-    freq.put(" 도미", 66);
-    freq.put("말해", 114);
-    freq.put("어린 ", 76);
-    freq.put(" 보는", 142);
-    freq.put("효과 ", 100);
-    freq.put("표기하", 113);
-    freq.put("립되어", 101);
-    freq.put("조합", 512);
-    freq.put("조항", 62);
-    freq.put("립되었", 460);
-    freq.put("웨덴 ", 161);
-    freq.put(" 보다", 233);
-    freq.put(" 개방", 107);
-    freq.put("흘러드", 76);
-    freq.put(" 개발", 2267);
-    freq.put("호이다", 121);
-    freq.put(" 호르", 78);
-    freq.put("아와 ", 370);
-    freq.put("머 ", 157);
-    freq.put("례를 ", 88);
-    freq.put("하늘", 174);
-    freq.put(" 체포", 79);
-    freq.put("않고 ", 518);
-    freq.put("하느", 121);
-    freq.put("하는", 18789);
-    freq.put("급제", 92);
-    freq.put("시설", 711);
-    freq.put("본사를", 78);
-    freq.put("정되었", 453);
-    freq.put("정되어", 273);
-    freq.put("화의 ", 697);
-    freq.put(" 토양", 84);
-    freq.put("그대", 267);
-    freq.put("반에 ", 227);
-    freq.put("하다", 2005);
-    freq.put("속도로", 609);
-    freq.put("올 ", 130);
-    freq.put("본", 10004);
-    freq.put("말하", 599);
-    freq.put("両 ", 166);
-    freq.put("경찰서", 86);
-    freq.put("여진 ", 140);
-    freq.put("발족", 210);
-    freq.put("하고자", 204);
-    freq.put("하고있", 61);
-    freq.put(" 장편", 91);
-    freq.put("시사", 106);
-    freq.put("용되는", 630);
-    freq.put("승격", 131);
-    freq.put(" 도모", 650);
-    freq.put("하던", 522);
-    freq.put("도청", 90);
-    freq.put(" 호로", 200);
-    freq.put(" 칭호", 106);
-    freq.put("가져", 156);
-    freq.put("하드 ", 77);
-    freq.put("낙동강", 59);
-    freq.put("대통령", 1050);
-    freq.put(" 보도", 103);
-    freq.put(" 개봉", 160);
-    freq.put("본적인", 119);
-    freq.put("르시", 280);
-    freq.put(" 레슬", 75);
-    freq.put(" 레스", 71);
-    freq.put("어도 ", 114);
-    freq.put(" 후한", 109);
-    freq.put("본적은", 117);
-    freq.put("기하고", 59);
-    freq.put("어가는", 73);
-    freq.put("본적으", 80);
-    freq.put("하도", 295);
-    freq.put("속도를", 65);
-    freq.put(" 년 ", 39188);
-    freq.put("어릴적", 114);
-    freq.put("상대방", 151);
-    freq.put("잡아", 77);
-    freq.put("빌보드", 64);
-    freq.put("승객", 82);
-    freq.put("르스", 205);
-    freq.put("반대 ", 73);
-    freq.put("키아", 237);
-    freq.put("물이나", 96);
-    freq.put("경우는", 71);
-    freq.put("웹사", 130);
-    freq.put(" 뛰어", 203);
-    freq.put("예", 5314);
-    freq.put(" 보내", 142);
-    freq.put("려시대", 128);
-    freq.put("로가", 256);
-    freq.put("본부 ", 174);
-    freq.put("일반의", 63);
-    freq.put("트레", 777);
-    freq.put(" 도마", 78);
-    freq.put("합쳐", 178);
-    freq.put("д", 121);
-    freq.put("어와 ", 330);
-    freq.put(" 동시", 463);
-    freq.put(" 칭하", 80);
-    freq.put("일반인", 59);
-    freq.put("드컵 ", 186);
-    freq.put("합체", 119);
-    freq.put("트롤", 86);
-    freq.put("乘", 609);
-    freq.put("권도", 62);
-    freq.put("르세", 70);
-    freq.put("복 ", 311);
-    freq.put("트로", 845);
-    freq.put("칠리", 66);
-    freq.put("하나", 4082);
-    freq.put("그녀", 205);
-    freq.put("ó", 126);
-    freq.put("트루", 135);
-    freq.put("후속", 211);
-    freq.put("유", 15783);
-    freq.put("술이다", 157);
-    freq.put("후손", 130);
-    freq.put("여 ", 11527);
-    freq.put(" 비즈", 134);
-    freq.put(" 몇몇", 116);
-    freq.put("종특", 81);
-    freq.put("티미", 122);
-    freq.put("조화", 108);
-    freq.put(" 참전", 79);
-    freq.put("니의 ", 167);
-    freq.put("칠레", 106);
-    freq.put(" 산하", 461);
-    freq.put("시스", 1777);
-    freq.put("헤르체", 107);
-    freq.put("종파", 173);
-    freq.put("로교", 66);
-    freq.put("필름", 113);
-    freq.put("경우도", 213);
-    freq.put("트를", 421);
-    freq.put("콘", 1127);
-    freq.put("트르", 93);
-    freq.put("필리", 478);
-    freq.put(" 비전", 65);
-    freq.put("그나", 76);
-    freq.put("필립", 81);
-    freq.put(" 비정", 120);
-    freq.put(" 참조", 105);
-    freq.put("매년", 365);
-    freq.put(" 각 ", 779);
-    freq.put("트리", 1178);
-    freq.put("트릭", 104);
-    freq.put(" 비주", 67);
-    freq.put(" 각본", 88);
-    freq.put(" 온라", 297);
-    freq.put("램", 1320);
-    freq.put(" 도로", 444);
-    freq.put("장점", 74);
-    freq.put("너스", 57);
-    freq.put("임위원", 62);
-    freq.put("책", 2191);
-    freq.put(" 등 ", 2330);
-    freq.put("부에 ", 2000);
-    freq.put("잡이", 62);
-    freq.put(" 토요", 69);
-    freq.put("렇게", 90);
-    freq.put("장조", 63);
-    freq.put("로그", 1803);
-    freq.put("크가 ", 117);
-    freq.put(" 샤를", 130);
-    freq.put("거스", 89);
-    freq.put("이룬다", 93);
-    freq.put("촌동", 62);
-    freq.put("르의", 306);
-    freq.put("후의", 318);
-    freq.put("그런", 74);
-    freq.put("졸업하", 144);
-    freq.put("시어", 65);
-    freq.put("르이", 139);
-    freq.put(" 개로", 82);
-    freq.put("라도", 290);
-    freq.put("말한", 3393);
-    freq.put("후인", 57);
-    freq.put("성장하", 60);
-    freq.put("후이", 122);
-    freq.put(" 천만", 60);
-    freq.put("충청북", 246);
-    freq.put("걀", 59);
-    freq.put("그램", 1195);
-    freq.put("시에", 1534);
-    freq.put(" 어머", 279);
-    freq.put(" 레이", 539);
-    freq.put("두", 5194);
-    freq.put(" 불러", 104);
-    freq.put("바이트", 101);
-    freq.put("법정동", 157);
-    freq.put("심리", 312);
-    freq.put("트비", 181);
-    freq.put("그래", 891);
-    freq.put("그랜", 101);
-    freq.put("그랑", 78);
-    freq.put("거에", 255);
-    freq.put("그라", 318);
-    freq.put(" 교수", 480);
-    freq.put(" 월부", 254);
-    freq.put("영상 ", 190);
-    freq.put("니티", 109);
-    freq.put(" 종류", 641);
-    freq.put("투르크", 97);
-    freq.put("셉", 104);
-    freq.put("르자", 62);
-    freq.put("많", 2444);
-    freq.put("시아", 3207);
-    freq.put("시안", 117);
-    freq.put("티 ", 784);
-    freq.put("룸", 158);
-    freq.put(" 개를", 59);
-    freq.put("쓰이고", 88);
-    freq.put("밖에", 180);
-    freq.put("관료이", 65);
-    freq.put("종하", 70);
-    freq.put("민운동", 60);
-    freq.put("르와", 82);
-    freq.put(" 레오", 139);
-    freq.put(" 종료", 104);
-    freq.put("페르디", 70);
-    freq.put("종합", 594);
-    freq.put("미아 ", 71);
-    freq.put("상태이", 66);
-    freq.put("등교육", 72);
-    freq.put("케인 ", 80);
-    freq.put("준화", 118);
-    freq.put("圓 ", 266);
-    freq.put("탄자니", 77);
-    freq.put("하라", 255);
-    freq.put("곡으로", 120);
-    freq.put("시하고", 125);
-    freq.put("츠의 ", 100);
-    freq.put("종 ", 2005);
-    freq.put(" 와 ", 1259);
-    freq.put("상대로", 69);
-    freq.put("영화제", 129);
-    freq.put("후원", 128);
-    freq.put("아마추", 89);
-    freq.put(" 종로", 405);
-    freq.put("먹는 ", 101);
-    freq.put("르웨", 217);
-    freq.put(" 상황", 261);
-    freq.put("령", 3201);
-    freq.put(" 개막", 77);
-    freq.put("전문 ", 280);
-    freq.put("부인 ", 190);
-    freq.put("침공", 92);
-    freq.put("니스 ", 252);
-    freq.put("와는 ", 313);
-    freq.put("출판사", 141);
-    freq.put("작업을", 98);
-    freq.put(" 홈즈", 59);
-    freq.put("장치", 620);
-    freq.put("하인리", 70);
-    freq.put("시자", 111);
-    freq.put("시작", 1913);
-    freq.put("거의", 471);
-    freq.put("랑", 3926);
-    freq.put("국인 ", 365);
-    freq.put("거이", 70);
-    freq.put("거인", 110);
-    freq.put("변경되", 110);
-    freq.put("시장", 721);
-    freq.put("키우", 65);
-    freq.put("니크", 67);
-    freq.put(" 어렵", 70);
-    freq.put(" 어려", 133);
-    freq.put(" 보드", 68);
-    freq.put("맥", 997);
-    freq.put("올린 ", 87);
-    freq.put("기적인", 70);
-    freq.put("르에", 154);
-    freq.put("시위", 145);
-    freq.put("수단 ", 74);
-    freq.put("스미스", 64);
-    freq.put("후에", 722);
-    freq.put(" 체험", 72);
-    freq.put("인정되", 99);
-    freq.put("우", 13058);
-    freq.put(" 산타", 90);
-    freq.put("스터 ", 402);
-    freq.put("기적으", 76);
-    freq.put("시의", 1064);
-    freq.put(" 계 ", 88);
-    freq.put("최종 ", 111);
-    freq.put("하드", 336);
-    freq.put("동의 ", 429);
-    freq.put("시이", 748);
-    freq.put("하자 ", 138);
-    freq.put("시인", 445);
-    freq.put(" 개명", 89);
-    freq.put("합적", 124);
-    freq.put("줄", 1396);
-    freq.put("그들", 327);
-    freq.put("간적", 65);
-    freq.put("간접", 88);
-    freq.put("법무부", 66);
-    freq.put("시우", 69);
-    freq.put("연의", 96);
-    freq.put("북한 ", 74);
-    freq.put("자에서", 67);
-    freq.put("여하는", 229);
-    freq.put(" 종목", 202);
-    freq.put("하계 ", 200);
-    freq.put("일 ", 19527);
-    freq.put("항하", 173);
-    freq.put("성에 ", 315);
-    freq.put("항해", 93);
-    freq.put("관급 ", 76);
-    freq.put("굴 ", 183);
-    freq.put(" 입구", 69);
-    freq.put("장착", 83);
-    freq.put("정책 ", 233);
-    freq.put("상태에", 175);
-    freq.put("이언 ", 67);
-    freq.put("밖의", 84);
-    freq.put("대는 ", 203);
-    freq.put("마드 ", 89);
-    freq.put("시오", 180);
-    freq.put("시온", 61);
-    freq.put("트워크", 561);
-    freq.put(" 어릴", 143);
-    freq.put(" 어린", 266);
-    freq.put("념 ", 104);
-    freq.put("시와", 405);
-    freq.put("거운", 99);
-    freq.put("합중", 92);
-    freq.put("처 ", 416);
-    freq.put(" 맥 ", 79);
-    freq.put("시외", 223);
-    freq.put("등록되", 68);
-    freq.put("간주", 126);
-    freq.put("색을 ", 142);
-    freq.put("사장 ", 72);
-    freq.put("니치", 57);
-    freq.put("붉", 133);
-    freq.put("점", 4065);
-    freq.put("축구단", 96);
-    freq.put("장편", 92);
-    freq.put("수로", 616);
-    freq.put("이라면", 58);
-    freq.put("아닌 ", 431);
-    freq.put("사대", 81);
-    freq.put("분류하", 120);
-    freq.put("수론", 65);
-    freq.put("가의 ", 726);
-    freq.put("니카", 153);
-    freq.put("벳", 78);
-    freq.put("종족", 62);
-    freq.put(" 통과", 189);
-    freq.put("작가로", 60);
-    freq.put("태이다", 143);
-    freq.put("종전", 66);
-    freq.put("之乙 ", 132);
-    freq.put("단체를", 65);
-    freq.put("대구 ", 108);
-    freq.put("합회", 170);
-    freq.put(" 통계", 268);
-    freq.put("릉 ", 110);
-    freq.put("수렴", 66);
-    freq.put(" 비판", 173);
-    freq.put("비로 ", 77);
-    freq.put("패러", 91);
-    freq.put("포로", 194);
-    freq.put(" 비평", 80);
-    freq.put(" 중국", 2024);
-    freq.put(" 방송", 1132);
-    freq.put("면에서", 220);
-    freq.put(" 초명", 73);
-    freq.put("리아를", 70);
-    freq.put("션으로", 78);
-    freq.put("종종", 130);
-    freq.put(" 전신", 162);
-    freq.put("강을 ", 180);
-    freq.put(" 부르", 974);
-    freq.put(" 내장", 76);
-    freq.put("마쓰 ", 58);
-    freq.put("환의 ", 69);
-    freq.put("니콘", 62);
-    freq.put("니콜", 165);
-    freq.put("격으로", 151);
-    freq.put("니코", 105);
-    freq.put("기본 ", 174);
-    freq.put("포맷", 122);
-    freq.put("간호", 75);
-    freq.put("여하고", 161);
-    freq.put("찾", 410);
-    freq.put("위에서", 153);
-    freq.put("키나파", 72);
-    freq.put("허브", 67);
-    freq.put("니케", 131);
-    freq.put("로라", 126);
-    freq.put("라다", 70);
-    freq.put("단체로", 153);
-    freq.put("수많", 217);
-    freq.put("할리", 69);
-    freq.put("할린", 58);
-    freq.put("바스", 196);
-    freq.put("동물 ", 185);
-    freq.put("마르 ", 85);
-    freq.put("받는다", 110);
-    freq.put("포르", 483);
-    freq.put(" 방사", 170);
-    freq.put("순히 ", 106);
-    freq.put("포를", 110);
-    freq.put("요일", 287);
-    freq.put("요인", 96);
-    freq.put(" 제안", 202);
-    freq.put("지지 ", 191);
-    freq.put(" 내용", 717);
-    freq.put(" 비트", 267);
-    freq.put("바실", 66);
-    freq.put("스트 ", 1046);
-    freq.put("수리", 211);
-    freq.put("지리 ", 83);
-    freq.put(" 것처", 82);
-    freq.put("수립", 264);
-    freq.put(" 흰색", 64);
-    freq.put("개최되", 218);
-    freq.put("루어 ", 63);
-    freq.put("진으로", 71);
-    freq.put("데이비", 123);
-    freq.put("수면", 90);
-    freq.put("빈", 832);
-    freq.put("한해", 67);
-    freq.put("간한", 58);
-    freq.put("간하", 67);
-    freq.put("오피스", 122);
-    freq.put("직접", 511);
-    freq.put("은행이", 86);
-    freq.put("족이다", 137);
-    freq.put("라니", 63);
-    freq.put("체가 ", 464);
-    freq.put("잉 ", 170);
-    freq.put(" 전사", 114);
-    freq.put("제와", 162);
-    freq.put("독교의", 109);
-    freq.put("간행", 103);
-    freq.put("적이며", 61);
-    freq.put(" 부문", 169);
-    freq.put(" 장점", 70);
-    freq.put(" 전산", 106);
-    freq.put(" 하우", 120);
-    freq.put(" 내에", 577);
-    freq.put("퓨터 ", 987);
-    freq.put("급을 ", 162);
-    freq.put("로드", 367);
-    freq.put("물론", 141);
-    freq.put(" 확대", 221);
-    freq.put("수목", 78);
-    freq.put("전자기", 148);
-    freq.put("물로", 548);
-    freq.put("지하철", 230);
-    freq.put("치되었", 68);
-    freq.put("량을 ", 270);
-    freq.put("록된 ", 160);
-    freq.put("프", 15322);
-    freq.put("조치", 133);
-    freq.put(" 전설", 193);
-    freq.put(" 후쿠", 159);
-    freq.put(" 신청", 73);
-    freq.put("준정", 82);
-    freq.put("용하며", 100);
-    freq.put("모 ", 847);
-    freq.put(" 면 ", 100);
-    freq.put("행동 ", 67);
-    freq.put("조카", 85);
-    freq.put("사적인", 86);
-    freq.put("강조하", 64);
-    freq.put("림수산", 539);
-    freq.put("량 ", 637);
-    freq.put("함수의", 80);
-    freq.put("움이", 79);
-    freq.put("리의 ", 865);
-    freq.put("홋카", 126);
-    freq.put("흘", 226);
-    freq.put(" 체제", 509);
-    freq.put("까이", 70);
-    freq.put(" 키 ", 71);
-    freq.put("사적으", 114);
-    freq.put("때는 ", 184);
-    freq.put("쓰이는", 420);
-    freq.put("죽", 799);
-    freq.put("이었지", 81);
-    freq.put("더라", 88);
-    freq.put("자신이", 152);
-    freq.put(" 전송", 205);
-    freq.put("작품 ", 175);
-    freq.put("래", 5947);
-    freq.put(" 유학", 142);
-    freq.put("합하", 407);
-    freq.put("합한", 173);
-    freq.put("자신의", 370);
-    freq.put(" 유한", 96);
-    freq.put("《 ", 66);
-    freq.put("버트 ", 241);
-    freq.put(" 방식", 744);
-    freq.put("드니", 128);
-    freq.put("형은 ", 84);
-    freq.put("솔로", 157);
-    freq.put("여하기", 269);
-    freq.put("물류", 61);
-    freq.put("시하는", 199);
-    freq.put("린다", 701);
-    freq.put("릉", 452);
-    freq.put("발한", 597);
-    freq.put("발하", 523);
-    freq.put("금강", 116);
-    freq.put("본부는", 115);
-    freq.put("발해", 78);
-    freq.put(" 부분", 688);
-    freq.put(" 체코", 189);
-    freq.put("바위", 87);
-    freq.put("될 ", 726);
-    freq.put("성된다", 104);
-    freq.put(" 방안", 58);
-    freq.put("수반", 73);
-    freq.put("라노", 165);
-    freq.put("요시", 396);
-    freq.put("바의", 87);
-    freq.put("살해", 175);
-    freq.put("처에 ", 89);
-    freq.put("베스트", 178);
-    freq.put("로는", 3896);
-    freq.put(" 전용", 143);
-    freq.put(" 보기", 59);
-    freq.put("조지", 513);
-    freq.put("조직", 975);
-    freq.put("경우가", 270);
-    freq.put("러가 ", 71);
-    freq.put(" 방언", 173);
-    freq.put("이며 ", 7170);
-    freq.put(" 방어", 109);
-    freq.put("묵", 131);
-    freq.put(" 보급", 405);
-    freq.put("κ", 112);
-    freq.put("시적으", 65);
-    freq.put("ы", 64);
-    freq.put(" 장치", 478);
-    freq.put("돼 ", 80);
-    freq.put("가들이", 99);
-    freq.put("로니", 159);
-    freq.put("발행", 355);
-    freq.put(" 될 ", 180);
-    freq.put("가들의", 84);
-    freq.put(" 들면", 62);
-    freq.put(" 전원", 79);
-    freq.put("효과", 428);
-    freq.put("장소 ", 58);
-    freq.put("윌", 390);
-    freq.put("술부 ", 260);
-    freq.put("바오", 74);
-    freq.put("세기에", 313);
-    freq.put("있게 ", 311);
-    freq.put("조조", 79);
-    freq.put(" 후지", 163);
-    freq.put("북쪽은", 67);
-    freq.put("사망했", 57);
-    freq.put("북쪽으", 560);
-    freq.put("조정", 332);
-    freq.put("조제", 92);
-    freq.put("짓", 174);
-    freq.put("조적", 99);
-    freq.put("조절", 138);
-    freq.put("애", 2683);
-    freq.put("노프 ", 58);
-    freq.put(" 전의", 63);
-    freq.put("럽에서", 169);
-    freq.put("자리에", 188);
-    freq.put("함된다", 101);
-    freq.put("사망하", 111);
-    freq.put("사망한", 67);
-    freq.put("용되기", 81);
-    freq.put(" 외에", 213);
-    freq.put("둘째 ", 87);
-    freq.put("오피아", 86);
-    freq.put(" 전자", 881);
-    freq.put("법이 ", 149);
-    freq.put(" 시를", 88);
-    freq.put("신의 ", 935);
-    freq.put("로동", 69);
-    freq.put("분석 ", 120);
-    freq.put("로도", 729);
-    freq.put("조종", 82);
-    freq.put(" 전쟁", 1259);
-    freq.put("웨스트", 211);
-    freq.put("목이 ", 67);
-    freq.put(" 비해", 209);
-    freq.put(" 방위", 104);
-    freq.put(" 초반", 121);
-    freq.put("장했", 136);
-    freq.put("올리", 188);
-    freq.put(" 내셔", 136);
-    freq.put("비를 ", 208);
-    freq.put("올린", 122);
-    freq.put("올림", 844);
-    freq.put("름으로", 597);
-    freq.put("클럽이", 60);
-    freq.put("금까", 92);
-    freq.put("생으로", 111);
-    freq.put(" 보고", 251);
-    freq.put("웨스턴", 61);
-    freq.put("속씨식", 90);
-    freq.put("요새", 77);
-    freq.put("하거", 696);
-    freq.put("소에 ", 141);
-    freq.put("하게", 2062);
-    freq.put("로나", 143);
-    freq.put("침략", 84);
-    freq.put("당은 ", 139);
-    freq.put(" 장착", 83);
-    freq.put("유전자", 195);
-    freq.put("단은 ", 440);
-    freq.put(" 보건", 205);
-    freq.put("하계", 214);
-    freq.put("도모할", 62);
-    freq.put(" 불구", 96);
-    freq.put("장해", 59);
-    freq.put(" 비행", 271);
-    freq.put("하고", 10067);
-    freq.put(" 불교", 744);
-    freq.put("바에", 127);
-    freq.put("어의 ", 700);
-    freq.put("장한", 379);
-    freq.put("장학", 77);
-    freq.put("장하", 1342);
-    freq.put("허리", 158);
-    freq.put("도모하", 352);
-    freq.put(" 약칭", 414);
-    freq.put("화하여", 111);
-    freq.put("자발적", 68);
-    freq.put("검역소", 69);
-    freq.put(" 방영", 369);
-    freq.put("이곳에", 70);
-    freq.put("로네", 72);
-    freq.put(" 요코", 84);
-    freq.put("년", 50612);
-    freq.put(" 불과", 64);
-    freq.put("용되고", 286);
-    freq.put("무라", 196);
-    freq.put("정도 ", 616);
-    freq.put("르트 ", 344);
-    freq.put("하구", 63);
-    freq.put("그것", 304);
-    freq.put("양한 ", 767);
-    freq.put("어선", 74);
-    freq.put(" 전압", 65);
-    freq.put("보다는", 163);
-    freq.put("요성", 113);
-    freq.put("세기의", 90);
-    freq.put("니지", 109);
-    freq.put("올려", 58);
-    freq.put("북쪽에", 130);
-    freq.put(" 산지", 91);
-    freq.put(" 불가", 312);
-    freq.put(" 보관", 104);
-    freq.put(" 전역", 168);
-    freq.put("기하는", 100);
-    freq.put("르메니", 81);
-    freq.put("향악단", 90);
-    freq.put("올로", 60);
-    freq.put(" 홈페", 62);
-    freq.put("그가", 220);
-    freq.put("자리잡", 146);
-    freq.put("근", 3205);
-    freq.put("발효", 94);
-    freq.put(" 전에", 217);
-    freq.put("황제이", 83);
-    freq.put("활발", 97);
-    freq.put(" 펜실", 91);
-    freq.put("올랐", 113);
-    freq.put("니와", 67);
-    freq.put("조약", 652);
-    freq.put("례", 1168);
-    freq.put("두산", 85);
-    freq.put("지하였", 117);
-    freq.put(" 장식", 99);
-    freq.put("로비", 221);
-    freq.put("대주", 148);
-    freq.put(" 확립", 183);
-    freq.put("승부", 68);
-    freq.put("몰도바", 68);
-    freq.put("니온", 70);
-    freq.put("형태로", 346);
-    freq.put(" 개가", 76);
-    freq.put("니오", 102);
-    freq.put("조에", 276);
-    freq.put("조하는", 89);
-    freq.put(" 장수", 124);
-    freq.put("박람회", 78);
-    freq.put("조업", 97);
-    freq.put("받을 ", 101);
-    freq.put("부한 ", 73);
-    freq.put("첸", 85);
-    freq.put(" 것에", 181);
-    freq.put(" 종교", 1217);
-    freq.put("통계청", 58);
-    freq.put("주도로", 122);
-    freq.put("수나", 99);
-    freq.put("간지", 80);
-    freq.put("주의에", 98);
-    freq.put(" 방지", 187);
-    freq.put("항시", 79);
-    freq.put(" 천문", 270);
-    freq.put("흑", 351);
-    freq.put("이유는", 64);
-    freq.put("조어", 71);
-    freq.put("니우", 69);
-    freq.put("바이올", 96);
-    freq.put("총리 ", 123);
-    freq.put("올라", 211);
-    freq.put("바이오", 87);
-    freq.put("니의", 167);
-    freq.put(" 산이", 64);
-    freq.put(" 방정", 183);
-    freq.put(" 높은", 470);
-    freq.put(" 개국", 359);
-    freq.put("이후에", 218);
-    freq.put(" 않고", 534);
-    freq.put(" 높이", 619);
-    freq.put(" 개교", 77);
-    freq.put("니이", 111);
-    freq.put("톰 ", 68);
-    freq.put("극 ", 392);
-    freq.put("시킬", 102);
-    freq.put(" 초대", 479);
-    freq.put("시킨", 292);
-    freq.put(" 후에", 392);
-    freq.put("바이잔", 107);
-    freq.put("시타", 80);
-    freq.put("르투", 301);
-    freq.put("並亂 ", 230);
-    freq.put("더불", 242);
-    freq.put(" 개관", 128);
-    freq.put("지닌 ", 149);
-    freq.put("술로 ", 87);
-    freq.put(" 총 ", 839);
-    freq.put("유닉스", 93);
-    freq.put("대하는", 92);
-    freq.put("선되었", 89);
-    freq.put("르티", 105);
-    freq.put("피터 ", 60);
-    freq.put("액션", 116);
-    freq.put("후인 ", 57);
-    freq.put("심각", 57);
-    freq.put("되고 ", 1458);
-    freq.put("르트", 563);
-    freq.put("요코", 91);
-    freq.put("곡의 ", 107);
-    freq.put("럴", 253);
-    freq.put(" 시마", 63);
-    freq.put("잡한", 94);
-    freq.put("로바", 151);
-    freq.put(" 대 ", 2047);
-    freq.put("신하여", 63);
-    freq.put("혈", 413);
-    freq.put("조의", 562);
-    freq.put(" 각국", 128);
-    freq.put("포니", 304);
-    freq.put(" 것인", 82);
-    freq.put("요청", 103);
-    freq.put(" 것이", 2545);
-    freq.put("겠다", 82);
-    freq.put("조이", 169);
-    freq.put(" 것은", 475);
-    freq.put(" 것을", 1889);
-    freq.put(" 전제", 81);
-    freq.put("안에 ", 523);
-    freq.put(" 후원", 123);
-    freq.put("분으로", 162);
-    freq.put(" 것으", 1465);
-    freq.put("국에서", 1555);
-    freq.put("아있는", 62);
-    freq.put("주의의", 142);
-    freq.put(" 비", 6448);
-    freq.put(" 부동", 119);
-    freq.put("뉴 ", 162);
-    freq.put("벤처 ", 66);
-    freq.put("시판", 68);
-    freq.put("어느 ", 223);
-    freq.put("율적 ", 57);
-    freq.put("로버", 215);
-    freq.put("주의자", 203);
-    freq.put("로벌", 433);
-    freq.put("난", 2693);
-    freq.put("수단", 483);
-    freq.put(" 부대", 178);
-    freq.put("수다", 87);
-    freq.put(" 힘을", 80);
-    freq.put("로베", 142);
-    freq.put(" 온도", 178);
-    freq.put("조작", 149);
-    freq.put("항상", 88);
-    freq.put(" 입력", 181);
-    freq.put(" 전주", 245);
-    freq.put("할당", 116);
-    freq.put("수는", 372);
-    freq.put("더블", 67);
-    freq.put("반직 ", 94);
-    freq.put("바지", 303);
-    freq.put("않으며", 102);
-    freq.put(" 장소", 242);
-    freq.put("포도", 114);
-    freq.put("바이에", 102);
-    freq.put(" 높아", 61);
-    freq.put("조와", 122);
-    freq.put("일반화", 65);
-    freq.put("니아", 1877);
-    freq.put("포동", 68);
-    freq.put("용", 15333);
-    freq.put("시트", 81);
-    freq.put("슬라비", 71);
-    freq.put("헌법 ", 117);
-    freq.put("르크", 924);
-    freq.put("항성", 207);
-    freq.put(" 산악", 85);
-    freq.put("오사카", 137);
-    freq.put("랜드 ", 1148);
-    freq.put("선 ", 3009);
-    freq.put(" 개별", 96);
-    freq.put("주의와", 98);
-    freq.put("패배", 83);
-    freq.put("롤라", 89);
-    freq.put(" 부담", 83);
-    freq.put("소프트", 1324);
-    freq.put("법학자", 59);
-    freq.put("산에 ", 201);
-    freq.put("시티", 207);
-    freq.put("슬라브", 70);
-    freq.put("친일", 133);
-    freq.put("그래머", 64);
-    freq.put(" 그룹", 609);
-    freq.put("가수이", 107);
-    freq.put("는지", 249);
-    freq.put("플라이", 63);
-    freq.put("구에", 986);
-    freq.put("부터는", 174);
-    freq.put("니에", 124);
-    freq.put("수도", 1289);
-    freq.put("수동", 96);
-    freq.put("로부", 1256);
-    freq.put("정치인", 881);
-    freq.put("맞추어", 57);
-    freq.put("르타", 206);
-    freq.put(" 산업", 792);
-    freq.put("익보호", 63);
-    freq.put("롤러", 79);
-    freq.put("丘三之", 57);
-    freq.put(" 않기", 58);
-    freq.put("아이들", 108);
-    freq.put("문자를", 85);
-    freq.put(" 전직", 83);
-    freq.put("르키", 132);
-    freq.put("틴 ", 360);
-    freq.put("호로 ", 311);
-    freq.put("거하", 226);
-    freq.put("포드", 131);
-    freq.put("시했", 60);
-    freq.put("시행", 387);
-    freq.put("립하여", 100);
-    freq.put("질의 ", 262);
-    freq.put("족에 ", 107);
-    freq.put("낳", 117);
-    freq.put("텐도", 125);
-    freq.put("아어로", 59);
-    freq.put("준으", 443);
-    freq.put("뱀", 171);
-    freq.put(" С", 60);
-    freq.put("승리", 273);
-    freq.put("준을", 139);
-    freq.put(" 흘러", 172);
-    freq.put("시험", 488);
-    freq.put("수되", 71);
-    freq.put("준의", 154);
-    freq.put("대형 ", 188);
-    freq.put(" 체육", 101);
-    freq.put("조성", 326);
-    freq.put("조세", 77);
-    freq.put("조선", 2884);
-    freq.put("위를 ", 1049);
-    freq.put("준이", 188);
-    freq.put(" К", 57);
-    freq.put("준인", 62);
-    freq.put("니터", 63);
-    freq.put(" 중종", 67);
-    freq.put(" 방출", 92);
-    freq.put("니시", 132);
-    freq.put("램을 ", 192);
-    freq.put(" 연 ", 60);
-    freq.put("서비스", 980);
-    freq.put("골 ", 227);
-    freq.put("말에", 148);
-    freq.put("시픽", 100);
-    freq.put("수들", 238);
-    freq.put("로몬", 89);
-    freq.put(" 주된", 89);
-    freq.put("시한", 333);
-    freq.put("서면", 90);
-    freq.put("시하", 616);
-    freq.put(" 산스", 84);
-    freq.put("포되", 112);
-    freq.put("민주당", 259);
-    freq.put("그대로", 248);
-    freq.put("쪽의 ", 187);
-    freq.put("규모의", 148);
-    freq.put("력이 ", 338);
-    freq.put("품들", 89);
-    freq.put("현을 ", 152);
-    freq.put("북부 ", 315);
-    freq.put("니스", 713);
-    freq.put("민경제", 59);
-    freq.put(" 너무", 67);
-    freq.put(" 월간", 68);
-    freq.put("두에", 64);
-    freq.put(" 확보", 146);
-    freq.put("회는", 1632);
-    freq.put("항으", 97);
-    freq.put("두었", 122);
-    freq.put("지구의", 118);
-    freq.put("체 ", 1944);
-    freq.put("카를로", 81);
-    freq.put("항을", 212);
-    freq.put("국장 ", 61);
-    freq.put("두어", 97);
-    freq.put("수학 ", 153);
-    freq.put(" 부등", 76);
-    freq.put("라오스", 74);
-    freq.put("물러", 57);
-    freq.put(" 개미", 68);
-    freq.put("항의", 92);
-    freq.put("그래밍", 301);
-    freq.put("곡", 2975);
-    freq.put(" 후속", 211);
-    freq.put("이래 ", 159);
-    freq.put("항이", 169);
-    freq.put("万 ", 91);
-    freq.put(" 후손", 130);
-    freq.put("이었으", 387);
-    freq.put("조상", 99);
-    freq.put("그러나", 356);
-    freq.put("유전체", 77);
-    freq.put("종에", 80);
-    freq.put("제조업", 81);
-    freq.put("펴", 73);
-    freq.put("슈 ", 248);
-    freq.put("나로 ", 1168);
-    freq.put("처럼 ", 457);
-    freq.put("델리", 75);
-    freq.put("미 ", 1244);
-    freq.put("승려", 122);
-    freq.put("상당", 532);
-    freq.put(" 장의", 150);
-    freq.put("랐다 ", 84);
-    freq.put("차는 ", 139);
-    freq.put("로미", 125);
-    freq.put("조사", 870);
-    freq.put("대원군", 58);
-    freq.put("말이", 844);
-    freq.put(" 전차", 91);
-    freq.put("후한", 126);
-    freq.put("로렌", 92);
-    freq.put("었기 ", 131);
-    freq.put("로레", 146);
-    freq.put("부여하", 82);
-    freq.put("트가", 392);
-    freq.put("말은", 132);
-    freq.put("말을", 157);
-    freq.put("집트의", 91);
-    freq.put("르를 ", 106);
-    freq.put(" ا", 105);
-    freq.put("之並亞", 199);
-    freq.put("로로", 266);
-    freq.put("이론과", 70);
-    freq.put("결성되", 75);
-    freq.put("물들", 160);
-    freq.put("르프", 78);
-    freq.put("표", 6870);
-    freq.put(" アア", 171);
-    freq.put("접적으", 61);
-    freq.put(" 많다", 296);
-    freq.put("수들이", 80);
-    freq.put(" 입법", 102);
-    freq.put(" 도구", 194);
-    freq.put(" 전철", 72);
-    freq.put("크립트", 86);
-    freq.put("럽 ", 802);
-    freq.put(" 전체", 567);
-    freq.put("之並之", 139);
-    freq.put("요제", 75);
-    freq.put("플라스", 132);
-    freq.put("르헨", 201);
-    freq.put("모로코", 75);
-    freq.put("괴 ", 95);
-    freq.put(" 내지", 88);
-    freq.put("버지 ", 158);
-    freq.put(" 초등", 93);
-    freq.put("응", 1476);
-    freq.put("준에", 93);
-    freq.put("之並丁", 69);
-    freq.put("인지 ", 119);
-    freq.put("트를 ", 420);
-    freq.put("之並並", 158);
-    freq.put("뛰", 296);
-    freq.put("울대", 190);
-    freq.put(" 약자", 169);
-    freq.put("종을", 142);
-    freq.put("종은", 82);
-    freq.put("종의", 527);
-    freq.put("연합군", 116);
-    freq.put("패로", 64);
-    freq.put("수라", 68);
-    freq.put("종이", 791);
-    freq.put("포럼", 115);
-    freq.put(" 산성", 63);
-    freq.put("丹之 ", 65);
-    freq.put(" 링크", 71);
-    freq.put(" 월까", 163);
-    freq.put("수록 ", 68);
-    freq.put("써", 1331);
-    freq.put("로를", 314);
-    freq.put("종으", 458);
-    freq.put("않았다", 134);
-    freq.put(" 내전", 128);
-    freq.put("같은 ", 1766);
-    freq.put("액을", 97);
-    freq.put("식량", 124);
-    freq.put("시호", 371);
-    freq.put("인류 ", 64);
-    freq.put("로리", 196);
-    freq.put("얼", 821);
-    freq.put(" 장안", 62);
-    freq.put(" 장악", 76);
-    freq.put("로망", 63);
-    freq.put("립하였", 147);
-    freq.put("류의 ", 468);
-    freq.put("항에", 121);
-    freq.put("로만", 123);
-    freq.put("니티 ", 64);
-    freq.put("종자", 67);
-    freq.put("로마", 1459);
-    freq.put("들은 ", 1170);
-    freq.put(" 장애", 251);
-    freq.put("간과 ", 140);
-    freq.put("다의 ", 251);
-    freq.put("소송을", 60);
-    freq.put("시작한", 212);
-    freq.put("시작하", 474);
-    freq.put(" 흐름", 133);
-    freq.put("친환경", 81);
-    freq.put("세계의", 336);
-    freq.put("특허", 119);
-    freq.put("장으로", 586);
-    freq.put("회의원", 323);
-    freq.put("소행", 127);
-    freq.put("계를", 823);
-    freq.put("시작해", 80);
-    freq.put("날짜", 67);
-    freq.put("치안", 73);
-    freq.put("적절", 91);
-    freq.put("치아", 129);
-    freq.put("시킨다", 73);
-    freq.put("프로스", 78);
-    freq.put("해석하", 67);
-    freq.put("해석학", 116);
-    freq.put("신탁", 73);
-    freq.put("편하", 134);
-    freq.put("카", 9618);
-    freq.put("닷", 134);
-    freq.put("인기를", 112);
-    freq.put(" 있지", 409);
-    freq.put("리카에", 152);
-    freq.put("수록", 388);
-    freq.put(" 인도", 1080);
-    freq.put("소피", 62);
-    freq.put("소프", 1375);
-    freq.put(" 바티", 91);
-    freq.put("싱 ", 188);
-    freq.put("였기 ", 60);
-    freq.put("특한", 83);
-    freq.put(" 라고", 1124);
-    freq.put(" 용 ", 77);
-    freq.put("라와 ", 158);
-    freq.put("시작했", 235);
-    freq.put(" 배 ", 81);
-    freq.put("앙", 2107);
-    freq.put("치에", 313);
-    freq.put("일어나", 250);
-    freq.put("일어난", 375);
-    freq.put(" 데에", 168);
-    freq.put("둘러", 259);
-    freq.put(" 흐르", 180);
-    freq.put(" 내의", 129);
-    freq.put("일어났", 108);
-    freq.put("오랜 ", 123);
-    freq.put("소한", 93);
-    freq.put("소하", 122);
-    freq.put("계적 ", 102);
-    freq.put("행정구", 264);
-    freq.put("티노폴", 57);
-    freq.put("나님", 90);
-    freq.put("가지로", 201);
-    freq.put("國之", 115);
-    freq.put("워졌", 78);
-    freq.put("카에 ", 110);
-    freq.put("나다", 684);
-    freq.put("보험 ", 71);
-    freq.put("체와 ", 151);
-    freq.put("물", 10422);
-    freq.put("아름다", 121);
-    freq.put("國並", 202);
-    freq.put("김 ", 69);
-    freq.put("레코", 236);
-    freq.put("해협", 171);
-    freq.put("능력을", 155);
-    freq.put("나는", 746);
-    freq.put("國丁", 85);
-    freq.put("구 ", 8696);
-    freq.put("능력이", 74);
-    freq.put("國三", 298);
-    freq.put("모든 ", 1110);
-    freq.put("복을 ", 86);
-    freq.put("크이다", 81);
-    freq.put("힘을 ", 86);
-    freq.put("나뉘", 181);
-    freq.put("나뉜", 158);
-    freq.put("본군", 86);
-    freq.put("넷을", 59);
-    freq.put("방", 12878);
-    freq.put("전하고", 83);
-    freq.put("나눈", 68);
-    freq.put("주기", 300);
-    freq.put("나누", 202);
-    freq.put("싼 ", 93);
-    freq.put("아일보", 76);
-    freq.put(" 런던", 288);
-    freq.put("구·", 91);
-    freq.put("라에서", 173);
-    freq.put("國亞", 57);
-    freq.put("해한", 72);
-    freq.put("해하", 221);
-    freq.put("리카의", 183);
-    freq.put("알려졌", 143);
-    freq.put(" 창건", 80);
-    freq.put("분리", 365);
-    freq.put("자나 ", 108);
-    freq.put("당나라", 170);
-    freq.put("업 ", 1759);
-    freq.put("시기에", 129);
-    freq.put("진행", 633);
-    freq.put(" 데이", 1061);
-    freq.put(" 리투", 93);
-    freq.put(" 창간", 97);
-    freq.put("치의", 242);
-    freq.put("大之 ", 76);
-    freq.put("특히", 654);
-    freq.put("並亞 ", 397);
-    freq.put("치인", 905);
-    freq.put("주권", 127);
-    freq.put("차적", 58);
-    freq.put("치이", 165);
-    freq.put("주군", 206);
-    freq.put("저명", 67);
-    freq.put(" 바탕", 449);
-    freq.put(" 퍼시", 104);
-    freq.put("창당", 94);
-    freq.put("낌", 58);
-    freq.put("따서", 170);
-    freq.put("뉴기니", 78);
-    freq.put("클래식", 69);
-    freq.put("신들의", 66);
-    freq.put("창달", 122);
-    freq.put("주국", 154);
-    freq.put("창단", 248);
-    freq.put("우주의", 58);
-    freq.put("주교", 442);
-    freq.put("비디오", 466);
-    freq.put("나노", 70);
-    freq.put(" 썼다", 61);
-    freq.put("므로", 460);
-    freq.put("리이다", 317);
-    freq.put("사위원", 70);
-    freq.put("분류", 756);
-    freq.put("레슬링", 130);
-    freq.put("개인의", 86);
-    freq.put("주광", 202);
-    freq.put("클래스", 59);
-    freq.put("개인이", 78);
-    freq.put("주관", 327);
-    freq.put(" 《아", 76);
-    freq.put("람에 ", 59);
-    freq.put("차종", 112);
-    freq.put("주공", 78);
-    freq.put("글랜드", 374);
-    freq.put("블랙 ", 57);
-    freq.put("주고", 191);
-    freq.put("자회사", 108);
-    freq.put(" 속 ", 64);
-    freq.put("회의에", 88);
-    freq.put("개인용", 83);
-    freq.put("괴", 686);
-    freq.put("넷에", 63);
-    freq.put("적분", 127);
-    freq.put(" 동 ", 488);
-    freq.put("치와", 131);
-    freq.put("상임위", 62);
-    freq.put(" 야구", 716);
-    freq.put("원대", 91);
-    freq.put("구려의", 58);
-    freq.put("본관", 553);
-    freq.put("알려지", 101);
-    freq.put(" 전승", 126);
-    freq.put("주거", 121);
-    freq.put("알려진", 400);
-    freq.put("코에서", 61);
-    freq.put(" 생태", 163);
-    freq.put("물리", 852);
-    freq.put("원동", 67);
-    freq.put("학교 ", 1462);
-    freq.put("소형", 129);
-    freq.put("원도", 356);
-    freq.put("채널 ", 133);
-    freq.put("차지", 589);
-    freq.put("등학", 492);
-    freq.put("프로세", 418);
-    freq.put("등한", 57);
-    freq.put("육을 ", 217);
-    freq.put("치원", 65);
-    freq.put("소화", 114);
-    freq.put("계몽", 70);
-    freq.put("자음", 68);
-    freq.put("주가", 248);
-    freq.put("시절 ", 80);
-    freq.put(" 폭발", 156);
-    freq.put("남미", 85);
-    freq.put("실이 ", 60);
-    freq.put(" 제거", 141);
-    freq.put("인구밀", 163);
-    freq.put("소통", 90);
-    freq.put("도의 ", 1235);
-    freq.put("폭스", 71);
-    freq.put("삼동 ", 85);
-    freq.put("치인이", 484);
-    freq.put("잭", 163);
-    freq.put("배경", 222);
-    freq.put("치세", 62);
-    freq.put("라를 ", 184);
-    freq.put("통과 ", 82);
-    freq.put("웨이 ", 207);
-    freq.put(" 백인", 62);
-    freq.put(" 결혼", 171);
-    freq.put("피트", 60);
-    freq.put("이터 ", 437);
-    freq.put("치인으", 223);
-    freq.put("트로 ", 289);
-    freq.put(" 제공", 975);
-    freq.put("따위", 130);
-    freq.put(" 제고", 88);
-    freq.put(" 백작", 125);
-    freq.put("진과", 118);
-    freq.put("직을 ", 211);
-    freq.put("진공", 59);
-    freq.put("사기 ", 58);
-    freq.put("하나이", 1414);
-    freq.put("하나인", 156);
-    freq.put("키 ", 1509);
-    freq.put("쓰였", 116);
-    freq.put("입한 ", 113);
-    freq.put("러드는", 78);
-    freq.put("우주선", 91);
-    freq.put("루", 6886);
-    freq.put("하나의", 423);
-    freq.put("각기", 59);
-    freq.put("녹", 472);
-    freq.put(" 속씨", 88);
-    freq.put(" 와이", 160);
-    freq.put(" 제국", 1197);
-    freq.put("켜", 465);
-    freq.put("스위스", 188);
-    freq.put("진구", 106);
-    freq.put(" 부른", 608);
-    freq.put(" 생활", 496);
-    freq.put("공한 ", 83);
-    freq.put("무늬", 117);
-    freq.put("붙어", 138);
-    freq.put("태생의", 62);
-    freq.put("붙었", 64);
-    freq.put("만년 ", 186);
-    freq.put("외 ", 526);
-    freq.put("병", 2570);
-    freq.put("러싸고", 66);
-    freq.put("붙여", 262);
-    freq.put("부부", 74);
-    freq.put("술로", 114);
-    freq.put("등포", 159);
-    freq.put("프로이", 170);
-    freq.put("남면", 62);
-    freq.put("亞三 ", 239);
-    freq.put("쓰이", 716);
-    freq.put("쓰인", 360);
-    freq.put("하나였", 68);
-    freq.put("따온", 72);
-    freq.put("따왔", 76);
-    freq.put("분비", 61);
-    freq.put(" 진 ", 93);
-    freq.put(" 민간", 289);
-    freq.put("신해", 58);
-    freq.put("세대 ", 267);
-    freq.put("풀로", 95);
-    freq.put("해튼", 63);
-    freq.put(" 새로", 744);
-    freq.put("신하", 183);
-    freq.put("신학", 397);
-    freq.put("일드", 67);
-    freq.put("신한", 74);
-    freq.put(" 는 ", 22667);
-    freq.put("어진 ", 1828);
-    freq.put("지구에", 121);
-    freq.put("수", 29032);
-    freq.put("기가 ", 609);
-    freq.put("산 ", 2364);
-    freq.put("글로 ", 110);
-    freq.put(" 제기", 143);
-    freq.put("소포", 62);
-    freq.put("품 ", 726);
-    freq.put(" 인디", 276);
-    freq.put(" 막의", 74);
-    freq.put("되었고", 629);
-    freq.put(" 백악", 117);
-    freq.put("르와 ", 76);
-    freq.put("별시 ", 2065);
-    freq.put(" 적극", 94);
-    freq.put("신호", 329);
-    freq.put("배급", 90);
-    freq.put("산·", 76);
-    freq.put("드이다", 163);
-    freq.put("각각", 410);
-    freq.put("움", 1073);
-    freq.put("흡", 255);
-    freq.put(" 겨울", 100);
-    freq.put("았고", 97);
-    freq.put("았으며", 218);
-    freq.put("신화", 440);
-    freq.put(" 《삼", 92);
-    freq.put("三丘三", 78);
-    freq.put("내외 ", 104);
-    freq.put(" 《사", 76);
-    freq.put(" 결합", 308);
-    freq.put("마치 ", 141);
-    freq.put("나들", 306);
-    freq.put("카자흐", 73);
-    freq.put("특", 6554);
-    freq.put("쓰여", 83);
-    freq.put("수를", 679);
-    freq.put("두었다", 75);
-    freq.put("제부 ", 75);
-    freq.put("있던 ", 494);
-    freq.put("판매되", 66);
-    freq.put("빠르게", 93);
-    freq.put("에도 ", 1237);
-    freq.put("리즈로", 71);
-    freq.put("영", 13611);
-    freq.put(" 수록", 335);
-    freq.put("프로야", 90);
-    freq.put(" 데스", 111);
-    freq.put("설명하", 178);
-    freq.put("총괄하", 84);
-    freq.put("달을 ", 122);
-    freq.put("각국", 139);
-    freq.put("공업 ", 91);
-    freq.put("치스", 72);
-    freq.put("르에서", 63);
-    freq.put("丟 ", 282);
-    freq.put(" 폭력", 128);
-    freq.put("오키나", 93);
-    freq.put("신흥", 75);
-    freq.put("붙은", 60);
-    freq.put("념하기", 58);
-    freq.put("헌", 1331);
-    freq.put("치시", 115);
-    freq.put("레지", 140);
-    freq.put(" 엔진", 327);
-    freq.put("규", 2589);
-    freq.put("원래", 605);
-    freq.put("세계사", 60);
-    freq.put("붙인", 86);
-    freq.put("원회가", 79);
-    freq.put("붙이", 74);
-    freq.put("족문화", 157);
-    freq.put(" 간호", 57);
-    freq.put(" あ", 325);
-    freq.put("레옹", 150);
-    freq.put("업인 ", 92);
-    freq.put("반발", 61);
-    freq.put("원로", 84);
-    freq.put("의자들", 60);
-    freq.put("레온", 77);
-    freq.put("저우 ", 125);
-    freq.put("레오", 247);
-    freq.put("리야 ", 76);
-    freq.put("환하", 122);
-    freq.put("치해 ", 314);
-    freq.put("식으로", 605);
-    freq.put("최대의", 181);
-    freq.put(" 《", 4309);
-    freq.put(" 》", 621);
-    freq.put(" 〈", 549);
-    freq.put(" 『", 98);
-    freq.put(" 「", 147);
-    freq.put(" 퍼져", 67);
-    freq.put(" 인문", 59);
-    freq.put(" 인물", 662);
-    freq.put("도사 ", 75);
-    freq.put(" 당나", 182);
-    freq.put(" 해당", 773);
-    freq.put("왕가의", 62);
-    freq.put("레우", 79);
-    freq.put("亞亂 ", 111);
-    freq.put("한자 ", 153);
-    freq.put(" 인민", 184);
-    freq.put("당의 ", 340);
-    freq.put(" ア", 198);
-    freq.put("개 ", 2483);
-    freq.put(" 발견", 731);
-    freq.put("진하고", 72);
-    freq.put("합", 7081);
-    freq.put("디렉터", 60);
-    freq.put("나무", 576);
-    freq.put(" 발굴", 168);
-    freq.put("폴레", 162);
-    freq.put("저널", 109);
-    freq.put("트는 ", 279);
-    freq.put("월까", 163);
-    freq.put("딸이", 133);
-    freq.put("방과 ", 134);
-    freq.put("레의", 65);
-    freq.put("더라도", 75);
-    freq.put("실행 ", 66);
-    freq.put("기여 ", 85);
-    freq.put(" 낱말", 204);
-    freq.put("레인", 196);
-    freq.put("개국", 380);
-    freq.put("레일", 572);
-    freq.put("레이", 2571);
-    freq.put("셰", 320);
-    freq.put("丁丘 ", 202);
-    freq.put("슈타인", 136);
-    freq.put("분당", 74);
-    freq.put("식공룡", 68);
-    freq.put("레잉", 82);
-    freq.put("명단 ", 58);
-    freq.put("같", 2537);
-    freq.put("레임", 136);
-    freq.put("증기", 111);
-    freq.put("피언컵", 95);
-    freq.put("실현", 165);
-    freq.put("스에서", 445);
-    freq.put("나며", 97);
-    freq.put("치체", 194);
-    freq.put("쿄", 510);
-    freq.put("창립", 248);
-    freq.put(" 인명", 72);
-    freq.put("사용자", 630);
-    freq.put("교사상", 96);
-    freq.put("진다 ", 599);
-    freq.put("원리", 261);
-    freq.put("년대부", 66);
-    freq.put("무소는", 58);
-    freq.put("나머", 129);
-    freq.put("안으로", 82);
-    freq.put(" 쪽 ", 114);
-    freq.put("전하였", 96);
-    freq.put("나마", 61);
-    freq.put(" 인류", 278);
-    freq.put("증권", 184);
-    freq.put("리이며", 65);
-    freq.put("실행", 302);
-    freq.put("앙에 ", 58);
-    freq.put(" 요크", 70);
-    freq.put("억", 684);
-    freq.put("수산식", 513);
-    freq.put("낭만", 64);
-    freq.put("계대", 179);
-    freq.put(" 루마", 188);
-    freq.put(" 날 ", 143);
-    freq.put("나리", 168);
-    freq.put(" 글을", 71);
-    freq.put("마포구", 144);
-    freq.put("위탁집", 59);
-    freq.put("실험", 314);
-    freq.put("큼", 124);
-    freq.put("죽은 ", 131);
-    freq.put("옥스", 58);
-    freq.put("아일랜", 478);
-    freq.put(" 설치", 696);
-    freq.put("인구는", 2448);
-    freq.put("캐릭터", 185);
-    freq.put("나를", 121);
-    freq.put("나르", 103);
-    freq.put("일대", 304);
-    freq.put(" 컨트", 101);
-    freq.put("발원하", 120);
-    freq.put("사라", 234);
-    freq.put("프로젝", 410);
-    freq.put("실하", 58);
-    freq.put("並倉", 230);
-    freq.put("侃", 89);
-    freq.put("과이", 162);
-    freq.put(" 뉴 ", 66);
-    freq.put("직 ", 904);
-    freq.put("정하는", 363);
-    freq.put("이로 ", 257);
-    freq.put(" 백제", 157);
-    freq.put("이저 ", 232);
-    freq.put("과일", 57);
-    freq.put("차세", 59);
-    freq.put("새롭게", 76);
-    freq.put("차선", 57);
-    freq.put("레아", 111);
-    freq.put("유래했", 74);
-    freq.put("大丘 ", 63);
-    freq.put("항공기", 266);
-    freq.put("권리를", 141);
-    freq.put(" 모로", 109);
-    freq.put("멀티미", 78);
-    freq.put("링크", 113);
-    freq.put(" 인력", 88);
-    freq.put("그녀는", 86);
-    freq.put("월간", 108);
-    freq.put(" 질병", 153);
-    freq.put("화성 ", 63);
-    freq.put("나타난", 144);
-    freq.put("사랑", 297);
-    freq.put("증가", 223);
-    freq.put("나로", 1319);
-    freq.put("워싱", 117);
-    freq.put("전하게", 65);
-    freq.put("뜻한다", 497);
-    freq.put("나타낸", 182);
-    freq.put(" 간행", 78);
-    freq.put("나타내", 437);
-    freq.put("일에서", 154);
-    freq.put("유래한", 138);
-    freq.put(" ㎢", 2029);
-    freq.put("꽃", 296);
-    freq.put("고의 ", 280);
-    freq.put("가지는", 177);
-    freq.put("계는", 211);
-    freq.put("도동 ", 93);
-    freq.put("증거", 195);
-    freq.put(" ㎞", 62);
-    freq.put("았으나", 73);
-    freq.put("야를", 102);
-    freq.put("개발에", 94);
-    freq.put(" 있어", 761);
-    freq.put("험에 ", 74);
-    freq.put("남동", 614);
-    freq.put("개최된", 194);
-    freq.put("날에", 128);
-    freq.put("사연구", 82);
-    freq.put("ч ", 81);
-    freq.put("차와", 65);
-    freq.put("남도", 1277);
-    freq.put("르디난", 61);
-    freq.put("도록 ", 1040);
-    freq.put("포니아", 254);
-    freq.put("캘리", 254);
-    freq.put("량으로", 84);
-    freq.put("과이다", 71);
-    freq.put(" 있었", 1191);
-    freq.put("구이다", 327);
-    freq.put("보물 ", 70);
-    freq.put("실패", 146);
-    freq.put("칙을", 131);
-    freq.put("는", 119185);
-    freq.put(" 아케", 110);
-    freq.put("있도록", 441);
-    freq.put("차원", 316);
-    freq.put("레슬", 216);
-    freq.put("임에 ", 72);
-    freq.put("칙이", 149);
-    freq.put("레스", 841);
-    freq.put("레시", 93);
-    freq.put("새", 1818);
-    freq.put("치지", 83);
-    freq.put("전쟁이", 130);
-    freq.put("서쪽 ", 159);
-    freq.put(" 설정", 173);
-    freq.put("퇴적", 60);
-    freq.put("전쟁을", 114);
-    freq.put("서버", 242);
-    freq.put("레슬러", 60);
-    freq.put("칙으", 83);
-    freq.put("남대", 69);
-    freq.put("전쟁의", 144);
-    freq.put("아기", 73);
-    freq.put("이유로", 136);
-    freq.put("구역으", 111);
-    freq.put("적도", 104);
-    freq.put("나뉘어", 85);
-    freq.put("치적", 263);
-    freq.put("，", 74);
-    freq.put("차이", 655);
-    freq.put("남단", 82);
-    freq.put(" 드 ", 245);
-    freq.put("절대", 92);
-    freq.put("탕 ", 82);
-    freq.put("차의", 173);
-    freq.put("야로", 143);
-    freq.put("꼬", 171);
-    freq.put("제시", 329);
-    freq.put("스티븐", 77);
-    freq.put("구역이", 121);
-    freq.put("구할 ", 67);
-    freq.put("계된", 88);
-    freq.put("바라 ", 72);
-    freq.put("계되", 101);
-    freq.put(" 자회", 101);
-    freq.put("보》 ", 158);
-    freq.put(" 조류", 83);
-    freq.put("구역은", 158);
-    freq.put("업에 ", 215);
-    freq.put("단의 ", 266);
-    freq.put("조이다", 111);
-    freq.put("나비", 119);
-    freq.put("히로시", 66);
-    freq.put("용 ", 1999);
-    freq.put(" 조리", 61);
-    freq.put("산소", 74);
-    freq.put("되는 ", 3192);
-    freq.put("악기", 342);
-    freq.put("과와 ", 58);
-    freq.put("절도", 60);
-    freq.put("차장", 60);
-    freq.put("원부", 65);
-    freq.put("치주", 107);
-    freq.put("並國", 285);
-    freq.put("퍼드", 118);
-    freq.put("곡은 ", 123);
-    freq.put(" 잭슨", 67);
-    freq.put("프가", 223);
-    freq.put("칙에", 97);
-    freq.put("아과", 121);
-    freq.put("마구", 74);
-    freq.put("머", 1633);
-    freq.put("고구려", 194);
-    freq.put("개발자", 101);
-    freq.put("라우저", 117);
-    freq.put("가운데", 1210);
-    freq.put("전쟁에", 156);
-    freq.put("고 ", 30643);
-    freq.put(" 번호", 380);
-    freq.put(" 있으", 3188);
-    freq.put("벌", 1869);
-    freq.put(" 된다", 760);
-    freq.put("날이", 62);
-    freq.put("컫는", 618);
-    freq.put("개발을", 139);
-    freq.put("마그", 94);
-    freq.put("날의", 126);
-    freq.put("연수", 157);
-    freq.put("쪽은 ", 318);
-    freq.put("아가", 452);
-    freq.put("》은", 258);
-    freq.put("악구", 59);
-    freq.put(" 있음", 85);
-    freq.put("람회", 84);
-    freq.put(" 있을", 254);
-    freq.put("얇", 61);
-    freq.put("개발원", 63);
-    freq.put("나라가", 92);
-    freq.put("숙 ", 91);
-    freq.put("치되어", 106);
-    freq.put("γ", 80);
-    freq.put(" 환자", 90);
-    freq.put("세계적", 310);
-    freq.put("마가", 184);
-    freq.put("레이 ", 338);
-    freq.put("유네스", 90);
-    freq.put("악과", 60);
-    freq.put("득 ", 112);
-    freq.put("악가", 125);
-    freq.put("협", 3198);
-    freq.put("분된", 74);
-    freq.put("분되", 78);
-    freq.put("부문 ", 76);
-    freq.put("격 ", 421);
-    freq.put("몬스", 58);
-    freq.put("생태계", 74);
-    freq.put("차에", 128);
-    freq.put("지마 ", 65);
-    freq.put("아군", 73);
-    freq.put(" 역을", 64);
-    freq.put("스티벌", 59);
-    freq.put("나바", 64);
-    freq.put("아닌", 450);
-    freq.put("힙합 ", 161);
-    freq.put("해의", 187);
-    freq.put("쪽과", 149);
-    freq.put("신사", 180);
-    freq.put("최초의", 614);
-    freq.put("어나는", 167);
-    freq.put("並之之", 99);
-    freq.put("아다", 74);
-    freq.put("예 ", 316);
-    freq.put("이를 ", 1065);
-    freq.put(" 번주", 318);
-    freq.put("並之並", 167);
-    freq.put("용어", 1083);
-    freq.put("치하", 2020);
-    freq.put("치학", 71);
-    freq.put("치한", 3549);
-    freq.put("아는", 197);
-    freq.put("並之三", 173);
-    freq.put("도쿄 ", 329);
-    freq.put("並之丁", 59);
-    freq.put("념이다", 176);
-    freq.put("신장 ", 61);
-    freq.put(" 신자", 91);
-    freq.put("소에", 318);
-    freq.put("치해", 358);
-    freq.put("진료", 73);
-    freq.put(" 투르", 130);
-    freq.put("프는", 77);
-    freq.put("려오", 65);
-    freq.put("디오", 1235);
-    freq.put("가는 ", 557);
-    freq.put("잠비", 104);
-    freq.put("공군 ", 73);
-    freq.put("안전 ", 96);
-    freq.put(" 바실", 65);
-    freq.put("아누", 93);
-    freq.put("해자", 124);
-    freq.put("위성 ", 107);
-    freq.put("해있", 127);
-    freq.put("사들이", 79);
-    freq.put("학", 20317);
-    freq.put("소아", 88);
-    freq.put("드로 ", 276);
-    freq.put("골", 1102);
-    freq.put("편에", 104);
-    freq.put(" 바스", 71);
-    freq.put("아돌", 57);
-    freq.put("로듀", 151);
-    freq.put("해왔", 62);
-    freq.put("세계화", 76);
-    freq.put("아동", 169);
-    freq.put("해와", 166);
-    freq.put("시는 ", 274);
-    freq.put("해외", 283);
-    freq.put("신속", 78);
-    freq.put(" 말 ", 208);
-    freq.put("등장", 884);
-    freq.put("제주도", 96);
-    freq.put("물에 ", 244);
-    freq.put(" 번째", 1969);
-    freq.put("테스 ", 76);
-    freq.put("마누", 86);
-    freq.put("악단", 271);
-    freq.put(" 번지", 619);
-    freq.put("받았다", 382);
-    freq.put("놀", 416);
-    freq.put("신선", 60);
-    freq.put("퇴하", 73);
-    freq.put("之亂 ", 185);
-    freq.put("나라는", 63);
-    freq.put("마니", 282);
-    freq.put("류이다", 187);
-    freq.put("丕", 293);
-    freq.put("터리 ", 112);
-    freq.put(" 섬을", 79);
-    freq.put(" 생식", 58);
-    freq.put("등으", 538);
-    freq.put("청주시", 71);
-    freq.put("지며 ", 169);
-    freq.put("윈도 ", 523);
-    freq.put(" 단 ", 185);
-    freq.put("공 ", 940);
-    freq.put("마다", 425);
-    freq.put(" 섬의", 117);
-    freq.put("정식 ", 393);
-    freq.put(" 섬유", 63);
-    freq.put("등의", 1888);
-    freq.put("마는", 64);
-    freq.put("등은", 87);
-    freq.put("등을", 1777);
-    freq.put("갔다", 90);
-    freq.put(" 섬으", 146);
-    freq.put("진리", 60);
-    freq.put("해발 ", 137);
-    freq.put("등이", 1018);
-    freq.put("행정부", 79);
-    freq.put("해운", 88);
-    freq.put("배를", 124);
-    freq.put("산맥", 321);
-    freq.put("들의 ", 1830);
-    freq.put("남극", 119);
-    freq.put("소재", 625);
-    freq.put("로디", 91);
-    freq.put("편으", 97);
-    freq.put("막대", 84);
-    freq.put("해야", 257);
-    freq.put("고슬라", 66);
-    freq.put("남부의", 85);
-    freq.put("소자", 103);
-    freq.put("대적인", 85);
-    freq.put("갈 ", 248);
-    freq.put(" 부모", 106);
-    freq.put(" 생성", 251);
-    freq.put("아나", 434);
-    freq.put("편이", 180);
-    freq.put("오전 ", 100);
-    freq.put(" 싸움", 60);
-    freq.put("크", 10562);
-    freq.put("아날", 73);
-    freq.put("시작으", 155);
-    freq.put("편의", 170);
-    freq.put("사건 ", 437);
-    freq.put("아내", 271);
-    freq.put("대적으", 83);
-    freq.put("신시", 65);
-    freq.put("이기도", 812);
-    freq.put("소유", 337);
-    freq.put("슬람", 295);
-    freq.put(" 전세", 104);
-    freq.put("해에", 225);
-    freq.put("남구", 433);
-    freq.put("루마니", 186);
-    freq.put("특이", 82);
-    freq.put("소위", 58);
-    freq.put("열사", 59);
-    freq.put("편입", 100);
-    freq.put("도에서", 324);
-    freq.put("섬의 ", 133);
-    freq.put(" 형 ", 90);
-    freq.put("노르웨", 212);
-    freq.put("틀", 1105);
-    freq.put(" 리스", 112);
-    freq.put("특유", 61);
-    freq.put("청남도", 310);
-    freq.put("해양", 758);
-    freq.put("소이", 246);
-    freq.put("그와 ", 129);
-    freq.put("합을 ", 202);
-    freq.put(" 《한", 67);
-    freq.put("해서 ", 1198);
-    freq.put("고속 ", 76);
-    freq.put("곡이 ", 62);
-    freq.put("슬러", 133);
-    freq.put("받은", 358);
-    freq.put("소의", 301);
-    freq.put("람의 ", 253);
-    freq.put("국제적", 222);
-    freq.put(" 자주", 201);
-    freq.put(" 홍보", 159);
-    freq.put("실천", 166);
-    freq.put("주변", 352);
-    freq.put(" 섬에", 254);
-    freq.put("적극", 95);
-    freq.put("등에", 962);
-    freq.put(" 결성", 335);
-    freq.put("남겼", 58);
-    freq.put(" 폭격", 62);
-    freq.put("전통문", 78);
-    freq.put("프로토", 225);
-    freq.put("측면", 113);
-    freq.put("마쿠라", 73);
-    freq.put("젤레", 109);
-    freq.put("적은 ", 2122);
-    freq.put("의료 ", 61);
-    freq.put("통과하", 60);
-    freq.put("켰다", 167);
-    freq.put("인", 47192);
-    freq.put("질랜드", 239);
-    freq.put("각류", 82);
-    freq.put("동차이", 57);
-    freq.put("월드", 684);
-    freq.put("三丁之", 138);
-    freq.put("동차의", 79);
-    freq.put("아노", 202);
-    freq.put("출한 ", 110);
-    freq.put("마나", 106);
-    freq.put(" 생산", 1061);
-    freq.put(" 자전", 132);
-    freq.put("되었다", 5986);
-    freq.put("소와", 122);
-    freq.put("루아", 114);
-    freq.put("놀이", 209);
-    freq.put("뜻으로", 193);
-    freq.put(" 상 ", 162);
-    freq.put("소송", 393);
-    freq.put("주민", 357);
-    freq.put("타낸다", 124);
-    freq.put("버그 ", 126);
-    freq.put("호간", 219);
-    freq.put("편성", 139);
-    freq.put("마라", 171);
-    freq.put("자본주", 105);
-    freq.put("림청 ", 130);
-    freq.put("소속", 1553);
-    freq.put("배", 4005);
-    freq.put("스부르", 91);
-    freq.put("並人", 80);
-    freq.put("론과 ", 129);
-    freq.put("등식", 95);
-    freq.put("계관", 69);
-    freq.put("예비치", 64);
-    freq.put("칼 ", 114);
-    freq.put("애나", 90);
-    freq.put("並亞", 687);
-    freq.put(" 제반", 57);
-    freq.put("並亂", 444);
-    freq.put("십자", 249);
-    freq.put("소설", 947);
-    freq.put("였고 ", 681);
-    freq.put("팅", 740);
-    freq.put("늄", 159);
-    freq.put("즈를 ", 119);
-    freq.put("증대", 108);
-    freq.put("실을 ", 195);
-    freq.put(" 신 ", 151);
-    freq.put("並乙", 240);
-    freq.put("족과 ", 94);
-    freq.put("산스크", 81);
-    freq.put("진보", 157);
-    freq.put("가마쿠", 67);
-    freq.put("보디", 132);
-    freq.put("乙亞 ", 60);
-    freq.put("다고 ", 1194);
-    freq.put("並丹", 89);
-    freq.put("주문", 90);
-    freq.put("並両", 95);
-    freq.put("並並", 1269);
-    freq.put("특성", 272);
-    freq.put("재일", 59);
-    freq.put("並丘", 363);
-    freq.put("좁은 ", 114);
-    freq.put("국과학", 73);
-    freq.put("並丁", 729);
-    freq.put("並丈", 68);
-    freq.put("並三", 1954);
-    freq.put("소셜", 82);
-    freq.put("소사", 75);
-    freq.put("났으며", 113);
-    freq.put("왜성", 61);
-    freq.put(" 바이", 697);
-    freq.put("並並之", 99);
-    freq.put("동일한", 145);
-    freq.put("라과", 75);
-    freq.put(" 민법", 129);
-    freq.put("아랍", 275);
-    freq.put("해수", 92);
-    freq.put("고와", 65);
-    freq.put("계가", 271);
-    freq.put("구조에", 62);
-    freq.put("이벤트", 59);
-    freq.put("아래", 399);
-    freq.put("並並並", 118);
-    freq.put(" 바위", 64);
-    freq.put("주목", 108);
-    freq.put("폭포", 71);
-    freq.put("올바", 113);
-    freq.put("신에", 201);
-    freq.put("並並三", 168);
-    freq.put("侶 ", 207);
-    freq.put("해시", 144);
-    freq.put("선정되", 73);
-    freq.put("라고", 4349);
-    freq.put(" 자치", 673);
-    freq.put("프란", 258);
-    freq.put("제명 ", 69);
-    freq.put("궐", 79);
-    freq.put("프랜", 72);
-    freq.put("지기도", 75);
-    freq.put("타이거", 62);
-    freq.put("프랑", 2551);
-    freq.put("프랭", 62);
-    freq.put("계곡", 114);
-    freq.put("아라", 308);
-    freq.put("관할한", 325);
-    freq.put("분기", 161);
-    freq.put(" 신이", 79);
-    freq.put("근거하", 73);
-    freq.put("헤르", 222);
-    freq.put("신약", 75);
-    freq.put("미생물", 76);
-    freq.put("並並亞", 75);
-    freq.put(" 신인", 71);
-    freq.put("정해진", 101);
-    freq.put("신앙", 167);
-    freq.put("훈장", 68);
-    freq.put("삼성", 344);
-    freq.put("숙종 ", 62);
-    freq.put("신용", 161);
-    freq.put("아드", 146);
-    freq.put("딩 ", 636);
-    freq.put("한글 ", 77);
-    freq.put("인이며", 112);
-    freq.put("아들", 1116);
-    freq.put("전화 ", 176);
-    freq.put("저기", 73);
-    freq.put(" 선조", 133);
-    freq.put("기법이", 65);
-    freq.put("각본", 92);
-    freq.put(" 간접", 70);
-    freq.put("폭탄", 88);
-    freq.put("해서", 1485);
-    freq.put("해석", 435);
-    freq.put("른 ", 3003);
-    freq.put("마디", 57);
-    freq.put("것이 ", 936);
-    freq.put("업무를", 406);
-    freq.put("실질", 136);
-    freq.put("수소 ", 62);
-    freq.put(" 농구", 95);
-    freq.put("크게 ", 346);
-    freq.put("주를", 291);
-    freq.put("관ㆍ", 62);
-    freq.put("원칙 ", 76);
-    freq.put("었지", 266);
-    freq.put(" 발달", 304);
-    freq.put("문대학", 65);
-    freq.put("속기관", 448);
-    freq.put(" 간주", 115);
-    freq.put("캄보", 77);
-    freq.put("거래 ", 75);
-    freq.put("지막으", 64);
-    freq.put("셔널 ", 194);
-    freq.put("급이 ", 64);
-    freq.put(" 사운", 155);
-    freq.put("심의 ", 122);
-    freq.put(" 압력", 91);
-    freq.put("소스", 310);
-    freq.put("신장", 127);
-    freq.put("료가 ", 69);
-    freq.put("별로 ", 156);
-    freq.put("남아 ", 134);
-    freq.put("정부 ", 492);
-    freq.put("입출력", 62);
-    freq.put("설", 10723);
-    freq.put("동남아", 110);
-    freq.put("신자", 135);
-    freq.put("승", 3768);
-    freq.put("기계 ", 100);
-    freq.put("행을 ", 299);
-    freq.put(" 치러", 226);
-    freq.put(" 잘못", 97);
-    freq.put("헤미", 57);
-    freq.put("했지", 130);
-    freq.put("아카데", 151);
-    freq.put("흥원 ", 58);
-    freq.put(" 자체", 292);
-    freq.put("생산된", 72);
-    freq.put("생산되", 114);
-    freq.put("분과", 114);
-    freq.put("소시", 75);
-    freq.put("계기", 156);
-    freq.put("혁", 1204);
-    freq.put("마드", 193);
-    freq.put("네수엘", 63);
-    freq.put("출범", 212);
-    freq.put("힘을", 86);
-    freq.put("발트", 112);
-    freq.put("신으", 438);
-    freq.put("해상", 245);
-    freq.put("주로", 2465);
-    freq.put("실적", 80);
-    freq.put("실제", 435);
-    freq.put("노의 ", 74);
-    freq.put("매매", 71);
-    freq.put("소수", 273);
-    freq.put("주력", 61);
-    freq.put("신이", 763);
-    freq.put("신인", 167);
-    freq.put(" 빛을", 61);
-    freq.put("신은", 100);
-    freq.put("포항시", 66);
-    freq.put("신을", 369);
-    freq.put(" 협상", 60);
-    freq.put(" 창립", 241);
-    freq.put("해살", 124);
-    freq.put("해산", 95);
-    freq.put("특수", 392);
-    freq.put(" 센고", 139);
-    freq.put("신의", 975);
-    freq.put("되었는", 98);
-    freq.put("야구", 985);
-    freq.put("었을", 161);
-    freq.put("젠", 397);
-    freq.put("가가 ", 278);
-    freq.put(" 양 ", 88);
-    freq.put(" 조각", 203);
-    freq.put("자가 ", 1294);
-    freq.put("∼", 121);
-    freq.put("후에는", 149);
-    freq.put(" 조건", 224);
-    freq.put("페인의", 159);
-    freq.put("우에 ", 227);
-    freq.put("활동과", 61);
-    freq.put(" 넓은", 226);
-    freq.put("울주군", 82);
-    freq.put("신주", 76);
-    freq.put("아몬", 59);
-    freq.put("었으", 2299);
-    freq.put("아목", 89);
-    freq.put("之之丁", 97);
-    freq.put(" 넓이", 75);
-    freq.put("헤드", 71);
-    freq.put("사고 ", 119);
-    freq.put("·연구", 60);
-    freq.put("만화가", 103);
-    freq.put("아메", 712);
-    freq.put("신적", 108);
-    freq.put(" 적도", 79);
-    freq.put("신전", 61);
-    freq.put("찰 ", 199);
-    freq.put("팔 ", 66);
-    freq.put("신정", 80);
-    freq.put("차트", 146);
-    freq.put("성한 ", 265);
-    freq.put("신조", 82);
-    freq.put("너먼트", 71);
-    freq.put("실이", 117);
-    freq.put("실을", 195);
-    freq.put("실은", 1894);
-    freq.put("재한다", 193);
-    freq.put("실의", 105);
-    freq.put("발생 ", 60);
-    freq.put("편찬", 136);
-    freq.put("실용", 73);
-    freq.put("생명과", 67);
-    freq.put("워크", 714);
-    freq.put("이다 ", 44553);
-    freq.put("경에 ", 256);
-    freq.put("팜", 57);
-    freq.put("이안 ", 61);
-    freq.put("재정", 215);
-    freq.put("현 ", 2291);
-    freq.put("드", 16369);
-    freq.put(" 자신", 748);
-    freq.put("아미", 126);
-    freq.put(" 카운", 60);
-    freq.put("았던", 129);
-    freq.put(" 제네", 68);
-    freq.put("하기", 4401);
-    freq.put("역사 ", 258);
-    freq.put("원회는", 112);
-    freq.put("단순히", 106);
-    freq.put("르웨이", 214);
-    freq.put(" 간의", 259);
-    freq.put("나온 ", 159);
-    freq.put("바일", 167);
-    freq.put("습을", 167);
-    freq.put("했으", 992);
-    freq.put("습이", 87);
-    freq.put("그에서", 63);
-    freq.put("얻었", 76);
-    freq.put("바이", 1137);
-    freq.put("기기 ", 100);
-    freq.put("얻어", 102);
-    freq.put("마이오", 85);
-    freq.put("폐지", 328);
-    freq.put("댄스 ", 74);
-    freq.put("했을", 154);
-    freq.put("문을 ", 285);
-    freq.put("완 ", 175);
-    freq.put("마모", 59);
-    freq.put("아문", 73);
-    freq.put("아무", 106);
-    freq.put("액체", 118);
-    freq.put(" 조기", 59);
-    freq.put("프레", 585);
-    freq.put("뜻의 ", 103);
-    freq.put("마를", 97);
-    freq.put("온", 2639);
-    freq.put("마르", 609);
-    freq.put("약간", 124);
-    freq.put("매된 ", 209);
-    freq.put("환으", 121);
-    freq.put("젊은 ", 80);
-    freq.put(" 조금", 94);
-    freq.put("이들 ", 222);
-    freq.put("복원", 94);
-    freq.put("환을", 105);
-    freq.put("앙행정", 163);
-    freq.put("프로", 4269);
-    freq.put("직공무", 113);
-    freq.put(" ∼", 97);
-    freq.put("나라를", 93);
-    freq.put(" 결정", 636);
-    freq.put("실업", 129);
-    freq.put("심지이", 98);
-    freq.put("실에", 130);
-    freq.put("판에 ", 66);
-    freq.put("현상 ", 62);
-    freq.put("아로", 119);
-    freq.put("환자", 123);
-    freq.put("진단", 77);
-    freq.put(" 알 ", 152);
-    freq.put("진다", 650);
-    freq.put("와서 ", 62);
-    freq.put("제천", 67);
-    freq.put("원을 ", 808);
-    freq.put("오는 ", 541);
-    freq.put("아레", 72);
-    freq.put("영토 ", 78);
-    freq.put("산드리", 57);
-    freq.put("방지하", 84);
-    freq.put(" 자세", 74);
-    freq.put("덱", 63);
-    freq.put("핵심", 159);
-    freq.put("마리", 562);
-    freq.put("키며 ", 125);
-    freq.put("ü", 183);
-    freq.put("월부", 255);
-    freq.put(" 생존", 104);
-    freq.put("아마", 286);
-    freq.put(" 자생", 67);
-    freq.put("례에 ", 90);
-    freq.put("사용한", 491);
-    freq.put("사용하", 1482);
-    freq.put("레프", 79);
-    freq.put(" 줄기", 140);
-    freq.put("약한 ", 189);
-    freq.put("품이다", 304);
-    freq.put("사용할", 205);
-    freq.put("사용해", 88);
-    freq.put("얻은", 80);
-    freq.put("딴", 97);
-    freq.put("산드로", 63);
-    freq.put("계승 ", 114);
-    freq.put("나라로", 69);
-    freq.put("야기", 519);
-    freq.put("민들이", 87);
-    freq.put("아름", 151);
-    freq.put("났다", 419);
-    freq.put("려 ", 970);
-    freq.put("했었", 83);
-    freq.put("아리", 224);
-    freq.put(" 자산", 102);
-    freq.put(" 자살", 101);
-    freq.put("민들의", 77);
-    freq.put("프를", 84);
-    freq.put(" 제대", 57);
-    freq.put("수사 ", 66);
-    freq.put("진동", 81);
-    freq.put("프리", 1512);
-    freq.put("갔다 ", 76);
-    freq.put("아를", 253);
-    freq.put("단순한", 93);
-    freq.put("아르", 723);
-    freq.put("프린", 151);
-    freq.put("사용했", 107);
-    freq.put("스가 ", 772);
-    freq.put("해체", 142);
-    freq.put(" 머리", 222);
-    freq.put("주되", 65);
-    freq.put("파구 ", 139);
-    freq.put(" 간에", 91);
-    freq.put("창건", 81);
-    freq.put("롬비", 71);
-    freq.put(" 롤플", 72);
-    freq.put("비해 ", 202);
-    freq.put("군인이", 191);
-    freq.put("신체", 167);
-    freq.put("가리 ", 150);
-    freq.put("주도", 1871);
-    freq.put("러나 ", 375);
-    freq.put("특징", 490);
-    freq.put("황도", 75);
-    freq.put(" 국 ", 173);
-    freq.put("군인으", 72);
-    freq.put("몬테", 144);
-    freq.put("광범", 88);
-    freq.put("창간", 101);
-    freq.put("림을 ", 114);
-    freq.put(" 발렌", 60);
-    freq.put("영된 ", 101);
-    freq.put(" 발레", 96);
-    freq.put(" 회사", 809);
-    freq.put("개발한", 476);
-    freq.put("아비", 128);
-    freq.put("원과", 233);
-    freq.put("원고", 58);
-    freq.put("막부", 166);
-    freq.put("시대 ", 1109);
-    freq.put(" 자이", 125);
-    freq.put(" 창당", 93);
-    freq.put(" 창달", 98);
-    freq.put("슬림", 73);
-    freq.put(" 창단", 225);
-    freq.put("아브", 61);
-    freq.put("슬링", 138);
-    freq.put("탈", 2257);
-    freq.put("원경", 141);
-    freq.put("마스 ", 131);
-    freq.put("원격", 59);
-    freq.put(" 자유", 815);
-    freq.put("편집", 254);
-    freq.put(" 리처", 111);
-    freq.put("원군", 252);
-    freq.put(" 자원", 213);
-    freq.put("창군", 88);
-    freq.put("히는 ", 130);
-    freq.put("슬레", 59);
-    freq.put("주당", 264);
-    freq.put("증명", 181);
-    freq.put("후로 ", 162);
-    freq.put("놓고", 102);
-    freq.put("원구", 83);
-    freq.put("원국", 135);
-    freq.put("줄기는", 57);
-    freq.put("편적", 65);
-    freq.put("발했", 61);
-    freq.put("로닉", 61);
-    freq.put("뒤에", 153);
-    freq.put("택시 ", 63);
-    freq.put("칸 ", 384);
-    freq.put("분에 ", 187);
-    freq.put(" 번역", 439);
-    freq.put("슬로", 221);
-    freq.put("갈리아", 61);
-    freq.put("주는", 689);
-    freq.put("뛰어", 204);
-    freq.put("실시", 535);
-    freq.put(" 인기", 260);
-    freq.put("부", 33314);
-    freq.put("된다는", 107);
-    freq.put("지에 ", 707);
-    freq.put("컴퓨팅", 102);
-    freq.put("소설 ", 296);
-    freq.put("스타 ", 243);
-    freq.put("실수", 92);
-    freq.put("소관의", 1872);
-    freq.put("리기 ", 163);
-    freq.put("말에 ", 88);
-    freq.put("특한 ", 81);
-    freq.put("트에서", 297);
-    freq.put("시에 ", 1035);
-    freq.put("철학자", 224);
-    freq.put("나기", 90);
-    freq.put("특정", 766);
-    freq.put("일부 ", 510);
-    freq.put(" 자에", 59);
-    freq.put("성군 ", 116);
-    freq.put(" 자연", 687);
-    freq.put("주의적", 180);
-    freq.put(" 인구", 3560);
-    freq.put("숨", 182);
-    freq.put("사가 ", 831);
-    freq.put("통", 12139);
-    freq.put("발표", 789);
-    freq.put("홋카이", 126);
-    freq.put("아버", 569);
-    freq.put("임한 ", 86);
-    freq.put(" 여객", 163);
-    freq.put(" 여개", 62);
-    freq.put("반 ", 1275);
-    freq.put("란을 ", 119);
-    freq.put("게", 11654);
-    freq.put("해진", 265);
-    freq.put("해지", 305);
-    freq.put("주년", 107);
-    freq.put("인이다", 2750);
-    freq.put(" 인근", 199);
-    freq.put(" 라는", 949);
-    freq.put(" 인권", 151);
-    freq.put("원", 21744);
-    freq.put("관료", 227);
-    freq.put("각되", 72);
-    freq.put("아바", 91);
-    freq.put("식품부", 594);
-    freq.put(" 발명", 156);
-    freq.put(" 간섭", 72);
-    freq.put("하므로", 81);
-    freq.put("해졌", 152);
-    freq.put("마뱀", 70);
-    freq.put("호사 ", 85);
-    freq.put("잇는 ", 257);
-    freq.put("나고", 178);
-    freq.put(" 엔터", 268);
-    freq.put("이용 ", 83);
-    freq.put("해제", 83);
-    freq.put("나게", 61);
-    freq.put("닉", 426);
-    freq.put("루의", 66);
-    freq.put("아부", 73);
-    freq.put(" 인간", 752);
-    freq.put("등지", 173);
-    freq.put("해전", 114);
-    freq.put("해적", 58);
-    freq.put("천광역", 247);
-    freq.put("해져", 64);
-    freq.put("터를 ", 399);
-    freq.put("주나", 75);
-    freq.put("실상", 172);
-    freq.put(" 개편", 301);
-    freq.put("국방부", 74);
-    freq.put("련을 ", 63);
-    freq.put("해주", 158);
-    freq.put("쇼핑", 78);
-    freq.put("컴퓨터", 1613);
-    freq.put("행정동", 192);
-    freq.put("н", 337);
-    freq.put(" 인공", 238);
-    freq.put(" 생체", 57);
-    freq.put("속에 ", 300);
-    freq.put("나가", 628);
-    freq.put("내각의", 69);
-    freq.put("나간", 63);
-    freq.put(" 번이", 131);
-    freq.put(" 관구", 68);
-    freq.put("내각이", 64);
-    freq.put(" 번의", 314);
-    freq.put("시인 ", 178);
-    freq.put("항공모", 59);
-    freq.put("처음", 1265);
-    freq.put("제적으", 88);
-    freq.put("낱말", 206);
-    freq.put("었지만", 266);
-    freq.put("프랑수", 66);
-    freq.put("왕조 ", 222);
-    freq.put("亞之", 492);
-    freq.put(" 숭배", 60);
-    freq.put("대학교", 1503);
-    freq.put("도메", 83);
-    freq.put("권과", 106);
-    freq.put("민족주", 86);
-    freq.put("亞丘", 99);
-    freq.put("로서의", 214);
-    freq.put("제적인", 115);
-    freq.put("확보", 154);
-    freq.put("亞三", 599);
-    freq.put("회주의", 311);
-    freq.put("항으로", 97);
-    freq.put("亞丁", 182);
-    freq.put("회주", 311);
-    freq.put("센터에", 60);
-    freq.put("인간 ", 162);
-    freq.put("들이다", 337);
-    freq.put("한국", 5662);
-    freq.put("亞並", 511);
-    freq.put("하여 ", 10358);
-    freq.put("이스를", 85);
-    freq.put("갖는 ", 164);
-    freq.put("회전", 178);
-    freq.put("이드 ", 468);
-    freq.put("회적", 302);
-    freq.put("도는 ", 1874);
-    freq.put("보내는", 62);
-    freq.put("프랑스", 2191);
-    freq.put("난다 ", 199);
-    freq.put(" 물리", 729);
-    freq.put("亞亞", 176);
-    freq.put("편에 ", 81);
-    freq.put("닌", 1054);
-    freq.put("倉三 ", 204);
-    freq.put("亞亂", 216);
-    freq.put(" 특정", 747);
-    freq.put("무형문", 79);
-    freq.put("판에", 167);
-    freq.put("개통", 175);
-    freq.put("도모", 729);
-    freq.put("우구", 91);
-    freq.put("서사", 106);
-    freq.put("식회사", 205);
-    freq.put("군청", 66);
-    freq.put("한강", 205);
-    freq.put("끝에", 210);
-    freq.put("제의 ", 613);
-    freq.put("붓", 60);
-    freq.put(" 특징", 490);
-    freq.put("력을 ", 1046);
-    freq.put("졌다 ", 803);
-    freq.put("우수성", 57);
-    freq.put("히어", 69);
-    freq.put("서기관", 301);
-    freq.put("독일 ", 770);
-    freq.put("웅", 321);
-    freq.put("서서", 57);
-    freq.put("립운동", 226);
-    freq.put("웨어를", 99);
-    freq.put("과목", 73);
-    freq.put(" 침해", 88);
-    freq.put("루마", 207);
-    freq.put(" 물론", 123);
-    freq.put("지이다", 426);
-    freq.put(" 맡은", 78);
-    freq.put("기록 ", 133);
-    freq.put("임", 6953);
-    freq.put("려고 ", 142);
-    freq.put("언트", 67);
-    freq.put("러한", 558);
-    freq.put("중화", 873);
-    freq.put("루는 ", 422);
-    freq.put("ά", 91);
-    freq.put("독립", 1230);
-    freq.put("러해", 78);
-    freq.put("도시가", 58);
-    freq.put("도미", 81);
-    freq.put("석사", 85);
-    freq.put("방검찰", 64);
-    freq.put("م", 122);
-    freq.put("루를", 71);
-    freq.put("기둥", 76);
-    freq.put("흐 ", 135);
-    freq.put("엘", 1142);
-    freq.put("서가 ", 115);
-    freq.put("정된", 594);
-    freq.put("정되", 1028);
-    freq.put("탈린", 65);
-    freq.put("족", 4176);
-    freq.put("탈리", 1166);
-    freq.put("지원을", 145);
-    freq.put("러피", 111);
-    freq.put("국이다", 140);
-    freq.put("발매되", 369);
-    freq.put("판으", 77);
-    freq.put("발매된", 203);
-    freq.put("도로", 1920);
-    freq.put("도록", 1047);
-    freq.put("설에 ", 116);
-    freq.put("혀 ", 208);
-    freq.put("끄는 ", 125);
-    freq.put(" 울산", 328);
-    freq.put("판이", 166);
-    freq.put("출시한", 118);
-    freq.put("문이 ", 99);
-    freq.put("높이 ", 126);
-    freq.put("사회주", 304);
-    freq.put("판의", 82);
-  }
-  private static void init4() {
-    
-    freq.put("판은", 76);
-    freq.put("건설되", 84);
-    freq.put("판을", 143);
-    freq.put(" 구로", 190);
-    freq.put("중해", 135);
-    freq.put("과를", 382);
-    freq.put("서식", 307);
-    freq.put(" 노동", 422);
-    freq.put("사회적", 296);
-    freq.put("물로 ", 459);
-    freq.put("팡", 90);
-    freq.put("중학", 110);
-    freq.put("임과 ", 71);
-    freq.put("즈 ", 1704);
-    freq.put("사진", 268);
-    freq.put("월드 ", 285);
-    freq.put("경찰", 561);
-    freq.put("사지", 81);
-    freq.put(" 乙 ", 95);
-    freq.put("앙정", 74);
-    freq.put("와 ", 15664);
-    freq.put("개편", 325);
-    freq.put("서스", 92);
-    freq.put("상위 ", 110);
-    freq.put("기장 ", 96);
-    freq.put("화예술", 214);
-    freq.put("사전", 1026);
-    freq.put("사적", 555);
-    freq.put(" 크게", 351);
-    freq.put("사절", 60);
-    freq.put("중학교", 87);
-    freq.put("사정", 140);
-    freq.put("한글", 194);
-    freq.put("붉은", 121);
-    freq.put("사제", 90);
-    freq.put("화되어", 83);
-    freq.put("북한", 235);
-    freq.put("》를", 132);
-    freq.put("하키 ", 77);
-    freq.put("루고 ", 252);
-    freq.put("도를", 839);
-    freq.put("도르", 185);
-    freq.put("감독 ", 133);
-    freq.put("광산", 147);
-    freq.put("루미", 72);
-    freq.put("乞", 60);
-    freq.put("丹倉", 60);
-    freq.put("항에 ", 88);
-    freq.put("화되었", 81);
-    freq.put("행되고", 89);
-    freq.put("라크 ", 131);
-    freq.put("사조", 84);
-    freq.put("를", 36449);
-    freq.put(" 글로", 188);
-    freq.put("요한 ", 1062);
-    freq.put(" 맡아", 66);
-    freq.put("도마", 97);
-    freq.put("닿아 ", 81);
-    freq.put("쓴다 ", 92);
-    freq.put("러", 8043);
-    freq.put("박", 2316);
-    freq.put(" 맡았", 269);
-    freq.put("총칭이", 130);
-    freq.put("고고학", 81);
-    freq.put("든다 ", 84);
-    freq.put("끝이", 62);
-    freq.put("ア", 1597);
-    freq.put(" 능력", 290);
-    freq.put("과로", 156);
-    freq.put("넷", 970);
-    freq.put(" 구매", 95);
-    freq.put("들과 ", 470);
-    freq.put("위치 ", 109);
-    freq.put("도리", 106);
-    freq.put(" 구마", 64);
-    freq.put("개한", 63);
-    freq.put("르이며", 70);
-    freq.put("개하", 180);
-    freq.put("말하면", 59);
-    freq.put("왕후 ", 114);
-    freq.put("가 ", 25131);
-    freq.put("통을 ", 190);
-    freq.put("판서", 64);
-    freq.put("융합", 89);
-    freq.put("중에서", 493);
-    freq.put("발표하", 134);
-    freq.put("발표한", 276);
-    freq.put("정된 ", 457);
-    freq.put("록의 ", 66);
-    freq.put("광장", 110);
-    freq.put("수비", 112);
-    freq.put("되지 ", 512);
-    freq.put("영국과", 68);
-    freq.put(" 근로", 105);
-    freq.put("발표했", 57);
-    freq.put("립된 ", 2847);
-    freq.put(" 항상", 88);
-    freq.put("군주", 362);
-    freq.put("가·", 97);
-    freq.put("판소", 126);
-    freq.put("천황", 417);
-    freq.put("석에", 88);
-    freq.put("산한 ", 76);
-    freq.put("분이 ", 204);
-    freq.put("三倉 ", 159);
-    freq.put("三乙 ", 170);
-    freq.put("온천", 62);
-    freq.put("실행하", 64);
-    freq.put(" 금지", 145);
-    freq.put("확립", 194);
-    freq.put("체를 ", 702);
-    freq.put("케이션", 201);
-    freq.put("력으", 173);
-    freq.put("이스볼", 109);
-    freq.put("이하 ", 136);
-    freq.put(" 홋카", 126);
-    freq.put("츠의", 100);
-    freq.put(" 丹三", 149);
-    freq.put(" 丹丁", 139);
-    freq.put("들고", 156);
-    freq.put(" 복리", 66);
-    freq.put("들과", 539);
-    freq.put("의학", 321);
-    freq.put("식적", 310);
-    freq.put(" 항성", 196);
-    freq.put("의한", 468);
-    freq.put("력이", 427);
-    freq.put("서를 ", 347);
-    freq.put("력을", 1047);
-    freq.put("의할", 59);
-    freq.put("마와 ", 59);
-    freq.put("리적 ", 251);
-    freq.put("력은", 109);
-    freq.put(" 丹並", 115);
-    freq.put("사카", 280);
-    freq.put("력의", 188);
-    freq.put("의해", 2089);
-    freq.put("서에", 300);
-    freq.put("독부", 116);
-    freq.put("족한 ", 72);
-    freq.put(" 노드", 65);
-    freq.put("쿨 ", 70);
-    freq.put("판사", 210);
-    freq.put("서열", 68);
-    freq.put("시켜 ", 262);
-    freq.put("력자", 59);
-    freq.put("의도동", 78);
-    freq.put("서양", 389);
-    freq.put("확률", 208);
-    freq.put("달 ", 337);
-    freq.put("다란 ", 85);
-    freq.put("법원 ", 127);
-    freq.put("영국군", 62);
-    freq.put("경주", 361);
-    freq.put("사촌", 66);
-    freq.put("얼 ", 291);
-    freq.put(" 색 ", 76);
-    freq.put(" 북극", 76);
-    freq.put("광역", 1560);
-    freq.put("개", 15756);
-    freq.put("정동", 479);
-    freq.put("석으", 73);
-    freq.put(" 여행", 159);
-    freq.put("도로가", 62);
-    freq.put("석유", 108);
-    freq.put("정도", 1147);
-    freq.put("이번 ", 130);
-    freq.put("히스", 77);
-    freq.put("미로 ", 169);
-    freq.put("석의", 89);
-    freq.put("석을", 172);
-    freq.put("즈니스", 133);
-    freq.put("도바", 121);
-    freq.put("서예", 61);
-    freq.put("광양", 81);
-    freq.put("석이", 169);
-    freq.put("그라드", 91);
-    freq.put("공사 ", 223);
-    freq.put("서원", 70);
-    freq.put("벨기에", 181);
-    freq.put(" 북구", 110);
-    freq.put("사추", 98);
-    freq.put("시민 ", 74);
-    freq.put("뜻하", 537);
-    freq.put("뜻한", 519);
-    freq.put("짧은", 155);
-    freq.put("홋", 134);
-    freq.put(" 노란", 64);
-    freq.put(" 노래", 446);
-    freq.put(" 구별", 240);
-    freq.put("경제", 1825);
-    freq.put("태를", 373);
-    freq.put("서울", 3628);
-    freq.put("경전", 188);
-    freq.put("창군 ", 59);
-    freq.put("의는 ", 204);
-    freq.put("영화를", 78);
-    freq.put(" 즉위", 118);
-    freq.put("개화", 66);
-    freq.put("정당", 438);
-    freq.put("어떤 ", 676);
-    freq.put("서의", 944);
-    freq.put(" 우라", 85);
-    freq.put("계로 ", 314);
-    freq.put("었는데", 175);
-    freq.put("서이", 286);
-    freq.put("강이다", 118);
-    freq.put("서인", 123);
-    freq.put("경지", 70);
-    freq.put("사찰", 89);
-    freq.put("벽", 406);
-    freq.put("σ", 105);
-    freq.put("낸다 ", 189);
-    freq.put(" 테마", 80);
-    freq.put("개혁", 328);
-    freq.put("서유", 74);
-    freq.put("양군 ", 70);
-    freq.put("확률 ", 66);
-    freq.put(" 혁신", 98);
-    freq.put(" 란 ", 635);
-    freq.put("천하", 69);
-    freq.put("디에", 99);
-    freq.put("사천", 61);
-    freq.put("들기", 109);
-    freq.put(" 구분", 433);
-    freq.put("츠에", 83);
-    freq.put(" 깊은", 74);
-    freq.put("모의 ", 211);
-    freq.put(" 제일", 119);
-    freq.put("태로", 481);
-    freq.put("도부", 57);
-    freq.put("뿐", 444);
-    freq.put("조가 ", 151);
-    freq.put("영화로", 104);
-    freq.put("올랐다", 64);
-    freq.put("넘는", 103);
-    freq.put("서장", 59);
-    freq.put("립적", 128);
-    freq.put("건복지", 107);
-    freq.put("력에", 199);
-    freq.put("三大", 142);
-    freq.put("회사", 1398);
-    freq.put("때로 ", 69);
-    freq.put("모여", 147);
-    freq.put("와라 ", 58);
-    freq.put("콩고", 162);
-    freq.put(" 책임", 221);
-    freq.put("모에", 58);
-    freq.put(" 수학", 787);
-    freq.put("옴", 62);
-    freq.put("공화정", 72);
-    freq.put(" 노르", 359);
-    freq.put("직", 4986);
-    freq.put("경우", 1823);
-    freq.put("모어", 73);
-    freq.put("서적", 136);
-    freq.put("앞", 482);
-    freq.put(" 강과", 184);
-    freq.put("틀 ", 149);
-    freq.put("립자", 112);
-    freq.put("모양", 499);
-    freq.put("망 ", 267);
-    freq.put("정부", 1875);
-    freq.put("식에", 220);
-    freq.put("모야", 73);
-    freq.put("타워 ", 79);
-    freq.put("부로부", 57);
-    freq.put("운영되", 116);
-    freq.put(" 책으", 80);
-    freq.put("뒤를 ", 85);
-    freq.put("도달", 64);
-    freq.put("립을", 177);
-    freq.put("지난 ", 127);
-    freq.put("모아", 148);
-    freq.put(" 지표", 99);
-    freq.put("세인트", 105);
-    freq.put("역학에", 87);
-    freq.put(" 구단", 114);
-    freq.put("통칭은", 57);
-    freq.put(" 책이", 152);
-    freq.put("도는", 1874);
-    freq.put("시", 47707);
-    freq.put("위하 ", 73);
-    freq.put("혁 ", 104);
-    freq.put(" 수행", 872);
-    freq.put("소득", 173);
-    freq.put(" 노리", 66);
-    freq.put("경영", 484);
-    freq.put("과대", 160);
-    freq.put("》는", 360);
-    freq.put("들이며", 112);
-    freq.put("육상 ", 106);
-    freq.put(" 우르", 62);
-    freq.put("정복", 111);
-    freq.put("정보", 2086);
-    freq.put("상인 ", 81);
-    freq.put("펼친 ", 88);
-    freq.put(" 대만", 99);
-    freq.put("경쟁", 408);
-    freq.put("정변", 61);
-    freq.put("립운", 266);
-    freq.put(" 지향", 127);
-    freq.put("내에 ", 438);
-    freq.put("팀인 ", 106);
-    freq.put("리지널", 66);
-    freq.put("과는", 512);
-    freq.put("정법", 122);
-    freq.put(" 테러", 91);
-    freq.put(" 노력", 128);
-    freq.put("레드 ", 122);
-    freq.put("정벌", 59);
-    freq.put("식에 ", 147);
-    freq.put("경이", 223);
-    freq.put("군에", 440);
-    freq.put("가하고", 96);
-    freq.put("신청", 95);
-    freq.put("환경에", 149);
-    freq.put("경인", 98);
-    freq.put("도동", 111);
-    freq.put("사스", 150);
-    freq.put("해체되", 61);
-    freq.put("것에 ", 138);
-    freq.put("사슬", 60);
-    freq.put("경의", 245);
-    freq.put("경을", 557);
-    freq.put("경은", 67);
-    freq.put("당이다", 139);
-    freq.put(" 지하", 383);
-    freq.put("텐도 ", 71);
-    freq.put("급에 ", 117);
-    freq.put("화한 ", 163);
-    freq.put("적도 ", 70);
-    freq.put("위와 ", 92);
-    freq.put("경으", 205);
-    freq.put("눈에", 57);
-    freq.put("범을 ", 60);
-    freq.put("三國", 301);
-    freq.put("경유", 80);
-    freq.put("사시", 168);
-    freq.put(" 우리", 336);
-    freq.put("사실", 538);
-    freq.put(" 민족", 808);
-    freq.put("정받", 96);
-    freq.put("헨", 491);
-    freq.put("왕이었", 76);
-    freq.put("무료", 103);
-    freq.put("지이며", 179);
-    freq.put(" 특성", 245);
-    freq.put("식의", 488);
-    freq.put(" 금융", 393);
-    freq.put("식을", 715);
-    freq.put("식은", 204);
-    freq.put("사서", 100);
-    freq.put("식이", 641);
-    freq.put("립에", 85);
-    freq.put("사선", 118);
-    freq.put("식인", 80);
-    freq.put("루는", 434);
-    freq.put("광지", 58);
-    freq.put("광진", 58);
-    freq.put("사성", 112);
-    freq.put("루이 ", 211);
-    freq.put("유하고", 203);
-    freq.put("있다 ", 14608);
-    freq.put("이면서", 108);
-    freq.put("식으", 607);
-    freq.put(" 무게", 59);
-    freq.put(" 울주", 85);
-    freq.put("모임", 172);
-    freq.put(" 솔로", 142);
-    freq.put("인다 ", 433);
-    freq.put("일보》", 157);
-    freq.put("사소", 200);
-    freq.put("모이", 107);
-    freq.put(" 무거", 57);
-    freq.put("기준 ", 2089);
-    freq.put("모의", 222);
-    freq.put("모음", 164);
-    freq.put("급되", 106);
-    freq.put("지질학", 58);
-    freq.put("계", 15438);
-    freq.put("음 ", 1500);
-    freq.put(" 특수", 377);
-    freq.put("화재 ", 280);
-    freq.put("도나", 71);
-    freq.put("포구 ", 295);
-    freq.put("털이", 89);
-    freq.put("서쪽", 1399);
-    freq.put("앵", 203);
-    freq.put("영향을", 487);
-    freq.put("로켓 ", 60);
-    freq.put("식재", 59);
-    freq.put("환경의", 58);
-    freq.put("경연", 59);
-    freq.put("大亞之", 73);
-    freq.put("군의", 841);
-    freq.put("광주", 542);
-    freq.put("군은", 187);
-    freq.put("군을", 273);
-    freq.put("환경을", 119);
-    freq.put("경에", 408);
-    freq.put("군이", 624);
-    freq.put("뜨", 161);
-    freq.put("군인", 461);
-    freq.put("요소", 392);
-    freq.put("색의", 117);
-    freq.put("명으로", 376);
-    freq.put("잔티", 172);
-    freq.put("못 ", 69);
-    freq.put("왕의 ", 270);
-    freq.put("색은", 70);
-    freq.put("색을", 143);
-    freq.put("도네", 236);
-    freq.put("색이", 139);
-    freq.put("군으", 160);
-    freq.put("니콜라", 139);
-    freq.put("조나 ", 59);
-    freq.put("논", 1278);
-    freq.put("여졌다", 78);
-    freq.put("읍 ", 503);
-    freq.put("법인의", 65);
-    freq.put("丙", 894);
-    freq.put("법인이", 2000);
-    freq.put("디스크", 171);
-    freq.put("사사", 122);
-    freq.put(" 교 ", 197);
-    freq.put("정비", 150);
-    freq.put("런던 ", 156);
-    freq.put("사상", 1612);
-    freq.put("히코", 61);
-    freq.put("블라디", 122);
-    freq.put("형 ", 1793);
-    freq.put("체이다", 555);
-    freq.put("내로 ", 72);
-    freq.put("봉기", 75);
-    freq.put("법인으", 81);
-    freq.put("발현", 63);
-    freq.put("셔널", 254);
-    freq.put(" 지휘", 383);
-    freq.put("데스 ", 135);
-    freq.put("사위", 127);
-    freq.put("격이 ", 107);
-    freq.put(" 섬들", 62);
-    freq.put("하게 ", 1996);
-    freq.put("사유", 116);
-    freq.put("변을 ", 61);
-    freq.put("비극", 79);
-    freq.put("어떻게", 123);
-    freq.put("싸고 ", 90);
-    freq.put("정립", 97);
-    freq.put(" 지키", 86);
-    freq.put(" 테니", 98);
-    freq.put("정리", 695);
-    freq.put("방국", 87);
-    freq.put("했는데", 97);
-    freq.put("벡터 ", 62);
-    freq.put(" 빈 ", 109);
-    freq.put("사의", 845);
-    freq.put("시와 ", 384);
-    freq.put(" 차트", 125);
-    freq.put("품과", 60);
-    freq.put("뜻은 ", 77);
-    freq.put("사이", 3510);
-    freq.put("사일", 246);
-    freq.put("건 ", 812);
-    freq.put("사자", 349);
-    freq.put("비교", 324);
-    freq.put("샌프란", 83);
-    freq.put("미터 ", 147);
-    freq.put("계를 ", 823);
-    freq.put(" 금속", 188);
-    freq.put("컵의", 85);
-    freq.put(" 노부", 118);
-    freq.put("몽 ", 74);
-    freq.put(" 소개", 178);
-    freq.put("군산", 96);
-    freq.put("말하는", 177);
-    freq.put("亂丘 ", 69);
-    freq.put(" 베트", 372);
-    freq.put("독특한", 83);
-    freq.put("군사", 580);
-    freq.put("재했던", 158);
-    freq.put("태는", 61);
-    freq.put("으므로", 160);
-    freq.put("사였", 94);
-    freq.put("놓", 470);
-    freq.put(" 소규", 60);
-    freq.put("丁亂 ", 154);
-    freq.put("판정", 86);
-    freq.put("민국 ", 4370);
-    freq.put("도라", 117);
-    freq.put("비공", 80);
-    freq.put(" 누구", 77);
-    freq.put("사와", 428);
-    freq.put(" 잠수", 90);
-    freq.put("서초", 359);
-    freq.put("모양을", 68);
-    freq.put(" 권리", 410);
-    freq.put("오가", 148);
-    freq.put("》에 ", 263);
-    freq.put("회에", 827);
-    freq.put(" 응용", 360);
-    freq.put("양에 ", 120);
-    freq.put("오고", 97);
-    freq.put(" 협약", 108);
-    freq.put("각종", 393);
-    freq.put("석을 ", 172);
-    freq.put(" 잠시", 62);
-    freq.put("α ", 114);
-    freq.put("현재까", 179);
-    freq.put("사운", 168);
-    freq.put("사우", 425);
-    freq.put("방검", 64);
-    freq.put("자연적", 68);
-    freq.put("사회의", 194);
-    freq.put("방과", 160);
-    freq.put(" 소관", 1915);
-    freq.put("방공", 70);
-    freq.put("비가", 127);
-    freq.put("정렬", 62);
-    freq.put("사원", 206);
-    freq.put("험이 ", 59);
-    freq.put(" 노벨", 241);
-    freq.put("본이 ", 103);
-    freq.put("식사", 62);
-    freq.put("것과 ", 178);
-    freq.put("농구", 128);
-    freq.put("군을 ", 273);
-    freq.put("찬", 711);
-    freq.put("경상", 955);
-    freq.put("씨의 ", 120);
-    freq.put("군수", 86);
-    freq.put("이션을", 57);
-    freq.put("아사", 140);
-    freq.put("이션의", 58);
-    freq.put("존재했", 183);
-    freq.put(" 조화", 72);
-    freq.put("회원", 649);
-    freq.put("이션이", 144);
-    freq.put(" 베타", 95);
-    freq.put("존재하", 508);
-    freq.put("니즘", 123);
-    freq.put("존재한", 228);
-    freq.put(" 판타", 104);
-    freq.put("이스라", 226);
-    freq.put("나로서", 116);
-    freq.put("카이도", 140);
-    freq.put("사업", 1551);
-    freq.put("디스플", 113);
-    freq.put("정무", 57);
-    freq.put(" 소금", 58);
-    freq.put("三倉", 449);
-    freq.put("사에", 878);
-    freq.put("활동", 1928);
-    freq.put("회와", 251);
-    freq.put("사연", 96);
-    freq.put("연구개", 126);
-    freq.put("옆", 120);
-    freq.put("반의 ", 260);
-    freq.put("이거", 210);
-    freq.put("앙에", 77);
-    freq.put("온의", 63);
-    freq.put("모시", 69);
-    freq.put("방글", 64);
-    freq.put("경되었", 98);
-    freq.put("섬과 ", 107);
-    freq.put("모습", 277);
-    freq.put(" 급 ", 610);
-    freq.put("모스", 327);
-    freq.put(" 윤리", 120);
-    freq.put("농가", 60);
-    freq.put(" 지류", 128);
-    freq.put("구", 31163);
-    freq.put("하를 ", 73);
-    freq.put("앙아", 113);
-    freq.put(" 독립", 1158);
-    freq.put(" 之丁", 474);
-    freq.put("민족의", 109);
-    freq.put("정의 ", 333);
-    freq.put("랑수아", 66);
-    freq.put("겸임", 57);
-    freq.put("민족이", 83);
-    freq.put(" 특이", 78);
-    freq.put("확대", 271);
-    freq.put("꿀", 77);
-    freq.put("기동", 137);
-    freq.put("경성", 115);
-    freq.put("질과 ", 83);
-    freq.put("탁집", 59);
-    freq.put("회이", 521);
-    freq.put(" 특유", 59);
-    freq.put("고스 ", 58);
-    freq.put("회의", 1793);
-    freq.put("주는 ", 678);
-    freq.put("몇", 457);
-    freq.put("천시", 356);
-    freq.put("제적", 455);
-    freq.put("경제부", 95);
-    freq.put(" 북미", 97);
-    freq.put("알바니", 106);
-    freq.put(" 之丘", 236);
-    freq.put("일컫는", 617);
-    freq.put("져서 ", 63);
-    freq.put("三亞", 989);
-    freq.put("내셔", 215);
-    freq.put("표이", 142);
-    freq.put("집", 3847);
-    freq.put("이슬란", 101);
-    freq.put("중장", 67);
-    freq.put(" 쓴다", 97);
-    freq.put("중재", 63);
-    freq.put("이슬람", 294);
-    freq.put("三人", 96);
-    freq.put("개성", 108);
-    freq.put("판하", 95);
-    freq.put("アア ", 190);
-    freq.put("개설", 104);
-    freq.put("개선", 303);
-    freq.put("루어져", 306);
-    freq.put("三乙", 351);
-    freq.put("三乘", 139);
-    freq.put("중이", 356);
-    freq.put("봉", 1368);
-    freq.put("중인", 249);
-    freq.put("서태", 158);
-    freq.put("三之", 2117);
-    freq.put("다국", 61);
-    freq.put("한불", 58);
-    freq.put("의사", 510);
-    freq.put("중의", 646);
-    freq.put("영국령", 58);
-    freq.put("틱 ", 146);
-    freq.put("중을", 67);
-    freq.put("三丙", 67);
-    freq.put("三丘", 745);
-    freq.put("三丟", 89);
-    freq.put("의상", 66);
-    freq.put("일에 ", 1924);
-    freq.put("三三", 4055);
-    freq.put("三丈", 107);
-    freq.put("조사 ", 371);
-    freq.put("三丁", 1471);
-    freq.put("공원이", 117);
-    freq.put("따라서", 342);
-    freq.put("코 ", 1075);
-    freq.put("三丹", 134);
-    freq.put("립한 ", 329);
-    freq.put("티오피", 85);
-    freq.put("다와 ", 69);
-    freq.put(" 수출", 183);
-    freq.put("三両", 110);
-    freq.put("三並", 2154);
-    freq.put("한반", 216);
-    freq.put(" 항해", 59);
-    freq.put("움직", 247);
-    freq.put("러에", 64);
-    freq.put("극작가", 87);
-    freq.put("국회의", 347);
-    freq.put("의성", 63);
-    freq.put("북위", 64);
-    freq.put(" 여신", 124);
-    freq.put("비나", 140);
-    freq.put("보통 ", 571);
-    freq.put("케이프", 74);
-    freq.put("북유", 57);
-    freq.put("중요", 802);
-    freq.put("인구가", 178);
-    freq.put("三侶", 71);
-    freq.put("현재는", 456);
-    freq.put("이어지", 79);
-    freq.put("북으", 70);
-    freq.put(" 소년", 140);
-    freq.put(" 소녀", 88);
-    freq.put("언스", 130);
-    freq.put("리고 ", 1415);
-    freq.put("작이다", 110);
-    freq.put("한번", 67);
-    freq.put(" 카스", 160);
-    freq.put("양식 ", 64);
-    freq.put("하와이", 79);
-    freq.put("삶", 243);
-    freq.put(" 여수", 102);
-    freq.put("언십", 167);
-    freq.put("험", 1933);
-    freq.put("취", 1270);
-    freq.put("들로", 549);
-    freq.put("오나", 76);
-    freq.put("于 ", 68);
-    freq.put(" 또한", 784);
-    freq.put("대수학", 86);
-    freq.put("중에", 1098);
-    freq.put("파일 ", 247);
-    freq.put("풍 ", 312);
-    freq.put(" 겸임", 57);
-    freq.put("질은 ", 90);
-    freq.put("도로로", 74);
-    freq.put("급격", 65);
-    freq.put("며", 20876);
-    freq.put("러운", 114);
-    freq.put("낙엽", 63);
-    freq.put("떠한", 155);
-    freq.put("프랑크", 230);
-    freq.put("천사", 64);
-    freq.put("튀", 186);
-    freq.put("슨이 ", 59);
-    freq.put(" 여섯", 126);
-    freq.put("장관을", 107);
-    freq.put(" 지칭", 299);
-    freq.put(" 여성", 671);
-    freq.put("품안", 66);
-    freq.put("중앙", 1401);
-    freq.put("오도", 95);
-    freq.put("보유하", 119);
-    freq.put("막부 ", 71);
-    freq.put("쿠데타", 107);
-    freq.put("장관이", 63);
-    freq.put("해안 ", 100);
-    freq.put("턴 ", 549);
-    freq.put("각을 ", 142);
-    freq.put("츠키", 72);
-    freq.put("표이다", 71);
-    freq.put("의식", 267);
-    freq.put("서트", 83);
-    freq.put("통합하", 160);
-    freq.put("북아", 337);
-    freq.put("들목", 286);
-    freq.put("독이 ", 70);
-    freq.put("의약품", 99);
-    freq.put(" 이중", 112);
-    freq.put("구분하", 130);
-    freq.put(" 丁之", 391);
-    freq.put("낭", 223);
-    freq.put("倉丁 ", 151);
-    freq.put(" 리더", 83);
-    freq.put(" 丁乙", 148);
-    freq.put("재산 ", 60);
-    freq.put(" 丁並", 314);
-    freq.put("개수", 58);
-    freq.put("비스이", 77);
-    freq.put("태계", 75);
-    freq.put("레이스", 190);
-    freq.put("아라비", 118);
-    freq.put("조약 ", 210);
-    freq.put("비는", 93);
-    freq.put(" 丁丁", 355);
-    freq.put(" 丁三", 472);
-    freq.put(" 모니", 75);
-    freq.put(" 丁丘", 176);
-    freq.put("려졌다", 93);
-    freq.put("개시", 97);
-    freq.put("소", 20178);
-    freq.put("강", 6713);
-    freq.put("태가", 129);
-    freq.put("러의", 97);
-    freq.put("오니", 86);
-    freq.put("척 ", 91);
-    freq.put("약칭 ", 297);
-    freq.put(" 농산", 100);
-    freq.put("개신", 194);
-    freq.put("이란 ", 1323);
-    freq.put("들면", 80);
-    freq.put("아나 ", 116);
-    freq.put(" 丁亂", 112);
-    freq.put(" 궁전", 116);
-    freq.put("지원하", 329);
-    freq.put("오늘", 448);
-    freq.put("오는", 554);
-    freq.put("쿠오카", 77);
-    freq.put(" 丁亞", 83);
-    freq.put("리티 ", 77);
-    freq.put("중국의", 313);
-    freq.put("률 ", 308);
-    freq.put("자이다", 1129);
-    freq.put(" 소득", 100);
-    freq.put("중국인", 65);
-    freq.put("재 ", 2451);
-    freq.put(" 구글", 105);
-    freq.put("오에서", 59);
-    freq.put(" 강남", 325);
-    freq.put(" 여자", 305);
-    freq.put("유하는", 80);
-    freq.put("라트 ", 74);
-    freq.put("석학", 150);
-    freq.put("석하", 208);
-    freq.put("丘乙 ", 101);
-    freq.put("노쿠니", 65);
-    freq.put(" 죽은", 130);
-    freq.put(" 죽음", 141);
-    freq.put("루고", 261);
-    freq.put("언이", 107);
-    freq.put("로듀서", 129);
-    freq.put(" 확률", 198);
-    freq.put(" 수준", 219);
-    freq.put("언을", 82);
-    freq.put("청으로", 59);
-    freq.put("오디", 190);
-    freq.put("네의 ", 71);
-    freq.put("뜻이", 250);
-    freq.put(" 핵심", 157);
-    freq.put("외부 ", 93);
-    freq.put("보도", 136);
-    freq.put("그를 ", 132);
-    freq.put("내어", 79);
-    freq.put("뜻의", 103);
-    freq.put("뜻은", 77);
-    freq.put("뜻을", 186);
-    freq.put("루가", 93);
-    freq.put("서울대", 188);
-    freq.put(" 멸종", 93);
-    freq.put("뜻으", 193);
-    freq.put("협 ", 123);
-    freq.put("비디", 498);
-    freq.put(" 지적", 134);
-    freq.put("기업에", 73);
-    freq.put(" 네 ", 279);
-    freq.put(" 지점", 194);
-    freq.put(" 지정", 819);
-    freq.put("어났다", 277);
-    freq.put("활성화", 218);
-    freq.put(" 여의", 113);
-    freq.put("후속작", 75);
-    freq.put("비드", 137);
-    freq.put("중심", 1840);
-    freq.put("서해", 154);
-    freq.put(" 지지", 202);
-    freq.put(" 지진", 67);
-    freq.put(" 지질", 87);
-    freq.put("중시", 81);
-    freq.put("콩고 ", 134);
-    freq.put("히토", 70);
-    freq.put("텍사스", 130);
-    freq.put("우수한", 99);
-    freq.put("하며 ", 3509);
-    freq.put("갖추", 158);
-    freq.put("갖춘", 117);
-    freq.put("독교", 722);
-    freq.put("나서 ", 76);
-    freq.put(" 물건", 200);
-    freq.put("결승전", 133);
-    freq.put("락하", 73);
-    freq.put("의약", 116);
-    freq.put(" 수정", 210);
-    freq.put("펄", 94);
-    freq.put("천의", 92);
-    freq.put(" 앨범", 615);
-    freq.put("천을", 85);
-    freq.put("제이 ", 61);
-    freq.put(" 얻었", 76);
-    freq.put("천이", 116);
-    freq.put("세포", 573);
-    freq.put("정이었", 81);
-    freq.put(" 유리", 168);
-    freq.put("년경 ", 243);
-    freq.put("중구 ", 288);
-    freq.put(" 역 ", 190);
-    freq.put("마", 15987);
-    freq.put("이라는", 1497);
-    freq.put("비되", 67);
-    freq.put("의에", 273);
-    freq.put("지니아", 101);
-    freq.put("다룬 ", 72);
-    freq.put("천으", 103);
-    freq.put("도시로", 1022);
-    freq.put(" 여왕", 102);
-    freq.put(" 물고", 76);
-    freq.put("준정부", 80);
-    freq.put(" 무대", 132);
-    freq.put("개의", 1771);
-    freq.put("오라", 68);
-    freq.put("丈三", 117);
-    freq.put("러시", 1282);
-    freq.put(" 따로", 85);
-    freq.put("발", 14073);
-    freq.put("센고쿠", 141);
-    freq.put("히트", 99);
-    freq.put(" 구간", 223);
-    freq.put("개인", 627);
-    freq.put("흐스탄", 57);
-    freq.put("丈並", 101);
-    freq.put("러싸", 178);
-    freq.put("기업인", 182);
-    freq.put("내의", 242);
-    freq.put("기업이", 229);
-    freq.put("의와", 146);
-    freq.put("도가", 518);
-    freq.put("丈之", 100);
-    freq.put("히틀", 64);
-    freq.put("번 ", 888);
-    freq.put(" 차종", 107);
-    freq.put(" 북부", 662);
-    freq.put("러스", 472);
-    freq.put("기업의", 151);
-    freq.put("내이", 69);
-    freq.put("丁乙 ", 118);
-    freq.put("중소", 176);
-    freq.put("촬영", 165);
-    freq.put("중국에", 167);
-    freq.put("사추세", 98);
-    freq.put("캐", 1331);
-    freq.put("산부 ", 97);
-    freq.put(" 균형", 110);
-    freq.put("언어", 1505);
-    freq.put("육", 5384);
-    freq.put("록은 ", 122);
-    freq.put("광학", 98);
-    freq.put(" 농어", 113);
-    freq.put("도공", 91);
-    freq.put("중성", 112);
-    freq.put(" 농업", 387);
-    freq.put("오랫", 76);
-    freq.put("중세", 273);
-    freq.put("개입", 58);
-    freq.put("의원", 853);
-    freq.put("려져 ", 976);
-    freq.put("샤", 806);
-    freq.put("한민", 7437);
-    freq.put("중서", 88);
-    freq.put("오랜", 130);
-    freq.put("개장", 97);
-    freq.put("오래", 309);
-    freq.put("언에", 58);
-    freq.put("티나 ", 145);
-    freq.put(" 차지", 583);
-    freq.put("도교", 185);
-    freq.put("도구", 218);
-    freq.put("후쿠오", 77);
-    freq.put("천연", 139);
-    freq.put("리드리", 128);
-    freq.put("중생", 157);
-    freq.put("시키", 987);
-    freq.put("리가 ", 556);
-    freq.put("그림 ", 81);
-    freq.put("경", 17015);
-    freq.put(" 넣어", 82);
-    freq.put(" 강동", 61);
-    freq.put("아가 ", 238);
-    freq.put("의의", 352);
-    freq.put("주었다", 103);
-    freq.put(" 강도", 61);
-    freq.put("케이팅", 98);
-    freq.put("나고 ", 122);
-    freq.put("북서", 597);
-    freq.put(" 얻어", 102);
-    freq.put("내외", 188);
-    freq.put("무총리", 119);
-    freq.put("력한", 156);
-    freq.put("의인", 546);
-    freq.put("력하", 175);
-    freq.put("동인 ", 74);
-    freq.put("쿠 ", 497);
-    freq.put("개원", 65);
-    freq.put("크를 ", 175);
-    freq.put("국대학", 78);
-    freq.put("구대회", 70);
-    freq.put("의자", 305);
-    freq.put("천안", 97);
-    freq.put("동양사", 141);
-    freq.put("협회는", 600);
-    freq.put("의장", 161);
-    freq.put("내용", 752);
-    freq.put("도권", 125);
-    freq.put("지되었", 235);
-    freq.put("소로 ", 203);
-    freq.put("망을 ", 100);
-    freq.put("스카 ", 184);
-    freq.put("과가", 110);
-    freq.put("다이라", 201);
-    freq.put("형태를", 152);
-    freq.put("식한", 134);
-    freq.put(" 차원", 250);
-    freq.put("식하", 203);
-    freq.put("오를", 110);
-    freq.put("오른", 100);
-    freq.put("오르", 366);
-    freq.put("：", 84);
-    freq.put("의정", 233);
-    freq.put("정규", 416);
-    freq.put("모험", 72);
-    freq.put("맺은", 57);
-    freq.put("오류", 90);
-    freq.put(" 북동", 561);
-    freq.put("추어 ", 149);
-    freq.put("만에 ", 232);
-    freq.put("널이", 171);
-    freq.put("양자 ", 62);
-    freq.put("가인 ", 211);
-    freq.put("교육과", 397);
-    freq.put("亞並 ", 263);
-    freq.put("한때", 92);
-    freq.put("검은 ", 78);
-    freq.put("정권", 313);
-    freq.put("널은", 82);
-    freq.put("널을", 66);
-    freq.put("걸", 1105);
-    freq.put("의존", 91);
-    freq.put(" 환경", 782);
-    freq.put(" 수여", 189);
-    freq.put("룹 ", 318);
-    freq.put("정구", 335);
-    freq.put("모함", 111);
-    freq.put("센 ", 259);
-    freq.put("농민", 122);
-    freq.put("모할", 70);
-    freq.put("모하", 434);
-    freq.put("씩", 216);
-    freq.put("정교", 193);
-    freq.put(" 수업", 58);
-    freq.put("비를", 209);
-    freq.put("온타", 106);
-    freq.put("오리", 350);
-    freq.put("록된", 166);
-    freq.put("록되", 319);
-    freq.put("교수이", 104);
-    freq.put("지지하", 61);
-    freq.put("내지", 117);
-    freq.put("례 ", 297);
-    freq.put(" 핀란", 212);
-    freq.put("대에는", 126);
-    freq.put(" 소련", 332);
-    freq.put("표로 ", 284);
-    freq.put("정관", 93);
-    freq.put("정과", 206);
-    freq.put("렌 ", 169);
-    freq.put("믹스", 156);
-    freq.put(" 지역", 3302);
-    freq.put(" 업적", 116);
-    freq.put(" 소말", 61);
-    freq.put("내전", 134);
-    freq.put("개조", 143);
-    freq.put(" 지었", 64);
-    freq.put("아래에", 87);
-    freq.put("터", 15066);
-    freq.put("오로", 122);
-    freq.put(" 베이", 535);
-    freq.put("정계", 61);
-    freq.put(" 아우", 255);
-    freq.put("정경", 76);
-    freq.put("개정", 217);
-    freq.put("성립된", 61);
-    freq.put(" 지어", 146);
-    freq.put("국립공", 185);
-    freq.put(" 누르", 169);
-    freq.put("귀 ", 64);
-    freq.put(" 소리", 267);
-    freq.put("섬으로", 166);
-    freq.put("대고 ", 174);
-    freq.put("년을", 193);
-    freq.put("비례", 72);
-    freq.put("비로", 129);
-    freq.put("잔", 750);
-    freq.put("년의", 324);
-    freq.put("록되어", 194);
-    freq.put("비롯", 537);
-    freq.put("이어서", 70);
-    freq.put("원의원", 81);
-    freq.put(" 차이", 388);
-    freq.put("직접적", 93);
-    freq.put("년이", 209);
-    freq.put("人", 513);
-    freq.put("μ", 101);
-    freq.put("환을 ", 105);
-    freq.put("사상을", 91);
-    freq.put("의지", 73);
-    freq.put("음은 ", 101);
-    freq.put("사상의", 73);
-    freq.put("식품", 996);
-    freq.put("모리 ", 253);
-    freq.put("록되었", 91);
-    freq.put("랑스어", 228);
-    freq.put("사상이", 110);
-    freq.put(" 휴대", 208);
-    freq.put("방문", 160);
-    freq.put("랑스와", 71);
-    freq.put(" 헬리", 60);
-    freq.put("륨 ", 85);
-    freq.put("쿠니 ", 89);
-    freq.put(" 수익", 76);
-    freq.put(" 크라", 154);
-    freq.put("뜻이다", 146);
-    freq.put("천주", 138);
-    freq.put(" 지원", 890);
-    freq.put("립허", 405);
-    freq.put("촉진 ", 60);
-    freq.put("시코 ", 197);
-    freq.put("상적으", 63);
-    freq.put("중추", 123);
-    freq.put("들도", 100);
-    freq.put(" 이치", 73);
-    freq.put("지대에", 91);
-    freq.put("립했", 99);
-    freq.put("교육기", 98);
-    freq.put("슐", 101);
-    freq.put(" 값이", 70);
-    freq.put("사토", 62);
-    freq.put("립한", 356);
-    freq.put("립하", 482);
-    freq.put("양부 ", 86);
-    freq.put(" 소멸", 81);
-    freq.put("별", 5261);
-    freq.put("통칭하", 65);
-    freq.put(" 수장", 78);
-    freq.put("농림", 676);
-    freq.put("현대에", 59);
-    freq.put("널에", 59);
-    freq.put("쳤", 211);
-    freq.put(" 수입", 181);
-    freq.put("핵", 714);
-    freq.put("보교환", 61);
-    freq.put("론은 ", 142);
-    freq.put("천지", 81);
-    freq.put("랑스의", 605);
-    freq.put("교류 ", 167);
-    freq.put("모토 ", 158);
-    freq.put("경험", 178);
-    freq.put("언제", 60);
-    freq.put("향상과", 135);
-    freq.put("방면", 99);
-    freq.put("경향", 176);
-    freq.put("함을 ", 479);
-    freq.put(" 여주", 68);
-    freq.put(" 수영", 134);
-    freq.put("행이 ", 113);
-    freq.put("즌", 623);
-    freq.put("다이묘", 287);
-    freq.put("해도", 129);
-    freq.put("면이다", 122);
-    freq.put("사키", 131);
-    freq.put(" 지은", 141);
-    freq.put("아니스", 70);
-    freq.put("경하", 130);
-    freq.put(" 객관", 69);
-    freq.put(" 수원", 209);
-    freq.put("푸 ", 69);
-    freq.put("므", 521);
-    freq.put(" 수용", 208);
-    freq.put("발행되", 71);
-    freq.put("정기", 592);
-    freq.put("론에서", 229);
-    freq.put("중요 ", 61);
-    freq.put("빙", 357);
-    freq.put("식회", 208);
-    freq.put("사태", 109);
-    freq.put("티누스", 77);
-    freq.put("둔 ", 252);
-    freq.put(" 선 ", 178);
-    freq.put(" 지위", 222);
-    freq.put("모형", 163);
-    freq.put(" 베어", 58);
-    freq.put(" 수요", 109);
-    freq.put("어를 ", 713);
-    freq.put("개최", 745);
-    freq.put("적이다", 168);
-    freq.put("임이다", 401);
-    freq.put("게임이", 455);
-    freq.put(" 지상", 157);
-    freq.put("게임은", 64);
-    freq.put("게임을", 126);
-    freq.put("남쪽으", 574);
-    freq.put("툴", 145);
-    freq.put("닌텐", 124);
-    freq.put("철도의", 57);
-    freq.put("석하는", 74);
-    freq.put("기나 ", 97);
-    freq.put("앙회", 62);
-    freq.put("아니아", 146);
-    freq.put("남쪽은", 77);
-    freq.put("엑", 271);
-    freq.put("모토", 300);
-    freq.put("게임으", 157);
-    freq.put("모습을", 123);
-    freq.put("미하며", 79);
-    freq.put("프라 ", 59);
-    freq.put("누르", 181);
-    freq.put("늘어", 87);
-    freq.put("구성된", 325);
-    freq.put("음반이", 168);
-    freq.put("구성되", 572);
-    freq.put("등학교", 448);
-    freq.put("사히", 61);
-    freq.put("누리", 83);
-    freq.put("ا", 266);
-    freq.put("품은 ", 147);
-    freq.put("대부터", 165);
-    freq.put("방부", 88);
-    freq.put("일과 ", 143);
-    freq.put("스앤젤", 97);
-    freq.put("모터", 117);
-    freq.put(" 펼친", 93);
-    freq.put("부를 ", 654);
-    freq.put("거나 ", 1548);
-    freq.put(" 수소", 95);
-    freq.put(" 소방", 94);
-    freq.put("음악에", 71);
-    freq.put("읽", 225);
-    freq.put("조인", 125);
-    freq.put(" 특허", 114);
-    freq.put("러진", 185);
-    freq.put("러지", 66);
-    freq.put("언츠", 61);
-    freq.put("하느님", 102);
-    freq.put(" 강릉", 100);
-    freq.put("증을 ", 98);
-    freq.put("행되는", 98);
-    freq.put("변화 ", 64);
-    freq.put("丹之", 209);
-    freq.put("욕의", 65);
-    freq.put("丹乙", 84);
-    freq.put("수립 ", 59);
-    freq.put("만한 ", 99);
-    freq.put("민족행", 60);
-    freq.put("오토 ", 64);
-    freq.put("지》", 67);
-    freq.put("정서 ", 66);
-    freq.put("치체를", 60);
-    freq.put("립트", 86);
-    freq.put("丹並", 154);
-    freq.put("다중 ", 70);
-    freq.put("명령어", 128);
-    freq.put("丹三", 207);
-    freq.put("라운 ", 61);
-    freq.put("생산자", 98);
-    freq.put("丹丁", 217);
-    freq.put("헝가리", 248);
-    freq.put("성남시", 83);
-    freq.put("丹丘", 102);
-    freq.put("덴", 904);
-    freq.put("이는 ", 2155);
-    freq.put("사회", 2727);
-    freq.put("긍", 81);
-    freq.put("한나", 105);
-    freq.put("기업청", 60);
-    freq.put("유클리", 61);
-    freq.put("아의 ", 1952);
-    freq.put(" 수상", 426);
-    freq.put("방법", 1110);
-    freq.put("설치 ", 74);
-    freq.put("철 ", 398);
-    freq.put(" 수사", 159);
-    freq.put("비밀", 157);
-    freq.put("개척", 110);
-    freq.put("보호를", 80);
-    freq.put(" 수산", 175);
-    freq.put(" 먹는", 127);
-    freq.put("언컵", 95);
-    freq.put("개체", 157);
-    freq.put("유럽과", 60);
-    freq.put("오버", 82);
-    freq.put("에게서", 75);
-    freq.put("丹亞", 73);
-    freq.put("회학", 141);
-    freq.put(" 농촌", 225);
-    freq.put("된", 15250);
-    freq.put("영리 ", 121);
-    freq.put("중지", 63);
-    freq.put(" 무료", 100);
-    freq.put(" 지식", 486);
-    freq.put(" 지시", 73);
-    freq.put(" 펼쳐", 96);
-    freq.put("평", 3725);
-    freq.put("亞倉", 61);
-    freq.put("음악이", 74);
-    freq.put("사한", 280);
-    freq.put("사하", 732);
-    freq.put("그려져", 89);
-    freq.put("천체", 227);
-    freq.put("으면 ", 156);
-    freq.put("음악을", 113);
-    freq.put("사할", 112);
-    freq.put("야구 ", 394);
-    freq.put("음악의", 121);
-    freq.put("철도역", 58);
-    freq.put(" 소비", 642);
-    freq.put("사했", 72);
-    freq.put("㎞", 62);
-    freq.put("표에", 93);
-    freq.put("책 ", 401);
-    freq.put("품으로", 223);
-    freq.put("홈페이", 65);
-    freq.put("지했다", 169);
-    freq.put(" 무렵", 70);
-    freq.put("졌으", 236);
-    freq.put("남쪽에", 112);
-    freq.put("並乙 ", 122);
-    freq.put("부르키", 72);
-    freq.put("스포츠", 528);
-    freq.put("회화", 87);
-    freq.put(" 지수", 62);
-    freq.put("원하", 678);
-    freq.put("모티", 57);
-    freq.put("어인 ", 140);
-    freq.put("묘", 914);
-    freq.put("달리 ", 397);
-    freq.put("에서의", 511);
-    freq.put("대가 ", 240);
-    freq.put("도시는", 118);
-    freq.put("개칭", 76);
-    freq.put("앙행", 163);
-    freq.put("이자 ", 2852);
-    freq.put("끊", 85);
-    freq.put(" 무리", 83);
-    freq.put("괄하", 139);
-    freq.put("용자 ", 266);
-    freq.put("중종", 67);
-    freq.put("비트 ", 196);
-    freq.put("렸으며", 77);
-    freq.put(" 수신", 86);
-    freq.put(" 위탁", 113);
-    freq.put("장을 ", 940);
-    freq.put("다》", 68);
-    freq.put("세이 ", 81);
-    freq.put("사회학", 136);
-    freq.put("창설되", 77);
-    freq.put("식이다", 352);
-    freq.put("립했다", 63);
-    freq.put("쿠", 2769);
-    freq.put("강화 ", 81);
-    freq.put(" 차세", 58);
-    freq.put("판이 ", 87);
-    freq.put("중적", 79);
-    freq.put("한다", 14560);
-    freq.put("의미 ", 59);
-    freq.put("이블 ", 130);
-    freq.put("블", 1922);
-    freq.put("제안", 211);
-    freq.put("치된 ", 243);
-    freq.put("특정한", 270);
-    freq.put("제약", 76);
-    freq.put("축 ", 318);
-    freq.put(" 나뉘", 181);
-    freq.put("아자", 83);
-    freq.put("설화", 59);
-    freq.put("조의 ", 556);
-    freq.put("완", 1509);
-    freq.put(" 하여", 729);
-    freq.put("작 ", 890);
-    freq.put("자신", 773);
-    freq.put("지방 ", 781);
-    freq.put(" 최신", 57);
-    freq.put("과사전", 636);
-    freq.put("근대 ", 136);
-    freq.put("페리", 114);
-    freq.put("공동 ", 225);
-    freq.put("자식", 84);
-    freq.put(" 만족", 131);
-    freq.put(" 하에", 107);
-    freq.put("제에", 429);
-    freq.put("연안", 304);
-    freq.put("학문적", 57);
-    freq.put("메시지", 94);
-    freq.put("제연", 82);
-    freq.put("자수", 84);
-    freq.put(" 낸 ", 84);
-    freq.put("노래를", 60);
-    freq.put("연애", 59);
-    freq.put("내고 ", 139);
-    freq.put("식한 ", 96);
-    freq.put(" 영향", 784);
-    freq.put("丁倉", 187);
-    freq.put("용이다", 73);
-    freq.put(" 현과", 87);
-    freq.put("재지는", 153);
-    freq.put("스기", 80);
-    freq.put("병원", 361);
-    freq.put("제어", 265);
-    freq.put("アアア", 910);
-    freq.put("바르 ", 85);
-    freq.put("교파", 61);
-    freq.put(" 축제", 131);
-    freq.put("양성을", 74);
-    freq.put("전에는", 239);
-    freq.put("련이", 137);
-    freq.put("보병", 102);
-    freq.put("투는", 161);
-    freq.put("원수 ", 69);
-    freq.put(" 三乙", 140);
-    freq.put("련의", 320);
-    freq.put("보보", 58);
-    freq.put("대의 ", 1668);
-    freq.put(" 三之", 750);
-    freq.put("이외의", 104);
-    freq.put("련을", 64);
-    freq.put("료에 ", 73);
-    freq.put("셀", 498);
-    freq.put("학자들", 180);
-    freq.put("병원 ", 128);
-    freq.put("새롭", 78);
-    freq.put("상당 ", 305);
-    freq.put("성시 ", 68);
-    freq.put(" 나눈", 68);
-    freq.put("시설을", 69);
-    freq.put(" 三並", 676);
-    freq.put("다른 ", 2094);
-    freq.put(" 三丘", 352);
-    freq.put("만나는", 64);
-    freq.put("시설이", 123);
-    freq.put("병의", 61);
-    freq.put("어내는", 57);
-    freq.put(" 三三", 1459);
-    freq.put("사이 ", 125);
-    freq.put("병을", 93);
-    freq.put(" 三丁", 609);
-    freq.put(" 협정", 151);
-    freq.put(" 댄스", 86);
-    freq.put("업은 ", 103);
-    freq.put(" 매개", 67);
-    freq.put("기사 ", 106);
-    freq.put(" 다중", 111);
-    freq.put("포스트", 82);
-    freq.put("그것을", 99);
-    freq.put("행으로", 73);
-    freq.put("숭", 331);
-    freq.put("론에 ", 135);
-    freq.put("많고 ", 57);
-    freq.put("피해", 356);
-    freq.put("울러", 57);
-    freq.put("무원 ", 354);
-    freq.put("행성이", 82);
-    freq.put("출된", 104);
-    freq.put("곳에", 821);
-    freq.put("출되", 164);
-    freq.put("물고기", 88);
-    freq.put("토관", 72);
-    freq.put(" 三亞", 219);
-    freq.put("피하", 88);
-    freq.put("굳", 64);
-    freq.put("이사 ", 68);
-    freq.put("르토", 132);
-    freq.put(" 三亂", 164);
-    freq.put("국왕이", 80);
-    freq.put("자산", 166);
-    freq.put("자살", 104);
-    freq.put("기법", 290);
-    freq.put("뀌", 174);
-    freq.put("제의", 631);
-    freq.put("스과", 112);
-    freq.put("倉並 ", 110);
-    freq.put("표적", 496);
-    freq.put("자사", 95);
-    freq.put("제이", 524);
-    freq.put("국 ", 12549);
-    freq.put("제일", 134);
-    freq.put("제인", 138);
-    freq.put("亳", 204);
-    freq.put("선수로", 140);
-    freq.put("기병", 61);
-    freq.put("교통", 744);
-    freq.put("홍보", 199);
-    freq.put("교토", 91);
-    freq.put("양력", 120);
-    freq.put("×", 65);
-    freq.put("정부의", 282);
-    freq.put("기보", 62);
-    freq.put("로봇", 217);
-    freq.put("기본", 591);
-    freq.put("명 ", 4495);
-    freq.put("자생", 114);
-    freq.put("연장", 227);
-    freq.put("연재", 221);
-    freq.put("예전에", 64);
-    freq.put("기반", 832);
-    freq.put("리스 ", 961);
-    freq.put(" 석유", 97);
-    freq.put("연을", 133);
-    freq.put("었다는", 78);
-    freq.put("연이", 74);
-    freq.put(" 하위", 142);
-    freq.put("국·", 107);
-    freq.put("제자", 224);
-    freq.put("제작", 1329);
-    freq.put("제임", 217);
-    freq.put(" 하인", 90);
-    freq.put("감염", 98);
-    freq.put(" 하이", 338);
-    freq.put("스가", 801);
-    freq.put("광범위", 81);
-    freq.put("릭터", 187);
-    freq.put("언어 ", 291);
-    freq.put("움을", 181);
-    freq.put("보에 ", 94);
-    freq.put("중서부", 70);
-    freq.put("기부", 230);
-    freq.put("쪽에 ", 528);
-    freq.put("선수를", 64);
-    freq.put("콜라 ", 66);
-    freq.put("탐구", 65);
-    freq.put("앨범 ", 191);
-    freq.put("제외", 408);
-    freq.put("말이 ", 72);
-    freq.put("설한", 95);
-    freq.put(" 영화", 1571);
-    freq.put("설하", 120);
-    freq.put(" 신체", 155);
-    freq.put(" 슬로", 136);
-    freq.put("연하", 111);
-    freq.put("곳의", 66);
-    freq.put(" 시가", 100);
-    freq.put("兌", 396);
-    freq.put("보교", 91);
-    freq.put("제였", 72);
-    freq.put("곳은", 97);
-    freq.put("곳을", 106);
-    freq.put("르기 ", 103);
-    freq.put("곳이", 283);
-    freq.put(" 하원", 92);
-    freq.put("대략 ", 95);
-    freq.put("무라 ", 94);
-    freq.put("소련 ", 87);
-    freq.put("자세", 81);
-    freq.put(" 안티", 91);
-    freq.put("람으로", 164);
-    freq.put(" 하였", 775);
-    freq.put("백과", 766);
-    freq.put("요르단", 59);
-    freq.put("이외에", 93);
-    freq.put("브러리", 89);
-    freq.put("표지", 57);
-    freq.put("연예", 123);
-    freq.put("병역", 76);
-    freq.put(" 하와", 84);
-    freq.put(" 명제", 57);
-    freq.put("국의 ", 7793);
-    freq.put(" 공주", 130);
-    freq.put("《글로", 315);
-    freq.put("터페", 234);
-    freq.put("리아는", 57);
-    freq.put("토관리", 71);
-    freq.put("연쇄", 70);
-    freq.put("제작자", 87);
-    freq.put("떡", 75);
-    freq.put(" 기니", 64);
-    freq.put(" 각각", 403);
-    freq.put("관광 ", 81);
-    freq.put(" 건국", 186);
-    freq.put(" 기능", 764);
-    freq.put("연소", 68);
-    freq.put("연속", 265);
-    freq.put("자원", 529);
-    freq.put("단위로", 101);
-    freq.put("엄 ", 340);
-    freq.put("보리", 111);
-    freq.put("구조 ", 121);
-    freq.put("퍼런", 57);
-    freq.put("방이 ", 101);
-    freq.put("없었", 109);
-    freq.put("하에서", 122);
-    freq.put("보를", 504);
-    freq.put("보르", 185);
-    freq.put("자였", 253);
-    freq.put(" 영토", 326);
-    freq.put("왕족", 171);
-    freq.put("왕조", 659);
-    freq.put("전으로", 231);
-    freq.put("여자 ", 201);
-    freq.put("생대 ", 149);
-    freq.put(" 공정", 172);
-    freq.put("연세", 57);
-    freq.put("터테인", 265);
-    freq.put("자와", 521);
-    freq.put("상담", 89);
-    freq.put(" 공전", 62);
-    freq.put(" 공적", 69);
-    freq.put("강과", 253);
-    freq.put("지배하", 161);
-    freq.put("석기 ", 98);
-    freq.put(" 석사", 65);
-    freq.put("자재", 65);
-    freq.put("자자", 71);
-    freq.put("능", 2952);
-    freq.put(" 기동", 58);
-    freq.put("번지 ", 352);
-    freq.put(" 에 ", 3968);
-    freq.put("기까", 238);
-    freq.put(" 기독", 683);
-    freq.put(" 기도", 110);
-    freq.put("일정한", 279);
-    freq.put("리미어", 109);
-    freq.put(" 평면", 83);
-    freq.put("양과 ", 150);
-    freq.put(" 붙인", 76);
-    freq.put("이전의", 127);
-    freq.put("미는 ", 124);
-    freq.put("于", 245);
-    freq.put("연산", 224);
-    freq.put("드컵", 316);
-    freq.put("덤", 174);
-    freq.put("이후의", 91);
-    freq.put("동기", 179);
-    freq.put("교회", 1206);
-    freq.put(" 명칭", 907);
-    freq.put("보로", 179);
-    freq.put("피터", 77);
-    freq.put("자유", 977);
-    freq.put("자율", 111);
-    freq.put("교황", 497);
-    freq.put("교환", 215);
-    freq.put("만 ", 5041);
-    freq.put("기물", 83);
-    freq.put("보컬 ", 70);
-    freq.put("상도", 117);
-    freq.put("자이", 2068);
-    freq.put("자인", 870);
-    freq.put(" 애니", 636);
-    freq.put("입은 ", 73);
-    freq.put("네이버", 142);
-    freq.put("상동", 61);
-    freq.put("乙三 ", 190);
-    freq.put("자의", 1247);
-    freq.put(" 공중", 106);
-    freq.put(" 기대", 78);
-    freq.put("제사", 194);
-    freq.put("쓴 ", 323);
-    freq.put("있는", 7991);
-    freq.put("제강점", 66);
-    freq.put("디젤", 71);
-    freq.put("돈을", 58);
-    freq.put("동국", 64);
-    freq.put("동구", 281);
-    freq.put("교로 ", 167);
-    freq.put("악에", 82);
-    freq.put("그이다", 93);
-    freq.put("편이 ", 71);
-    freq.put("동군", 61);
-    freq.put(" 변동", 57);
-    freq.put("동굴", 86);
-    freq.put("와이 ", 67);
-    freq.put("걸쳐 ", 536);
-    freq.put("교향", 157);
-    freq.put("원형", 177);
-    freq.put("별로", 160);
-    freq.put("크의 ", 348);
-    freq.put("파로", 128);
-    freq.put("있다", 15164);
-    freq.put("전부 ", 107);
-    freq.put("스탄티", 147);
-    freq.put("운드", 310);
-    freq.put("병사", 95);
-    freq.put("상남", 484);
-    freq.put("교하", 132);
-    freq.put("딴 ", 82);
-    freq.put("기로", 698);
-    freq.put("기록", 1098);
-    freq.put("전한 ", 445);
-    freq.put("성질을", 132);
-    freq.put("터테", 274);
-    freq.put("보물", 134);
-    freq.put(" 산소", 61);
-    freq.put("르지 ", 83);
-    freq.put(" 다카", 170);
-    freq.put("자어", 57);
-    freq.put("러를 ", 61);
-    freq.put("공산", 474);
-    freq.put("집 ", 514);
-    freq.put("기름", 86);
-    freq.put("재가 ", 151);
-    freq.put("인도네", 219);
-    freq.put(" 귀족", 241);
-    freq.put("터키", 426);
-    freq.put("곡하", 125);
-    freq.put("곡한", 152);
-    freq.put("기리", 116);
-    freq.put("자연", 787);
-    freq.put("구를 ", 601);
-    freq.put("자열", 60);
-    freq.put("동가", 358);
-    freq.put("파르", 244);
-    freq.put("파를", 146);
-    freq.put("임스 ", 235);
-    freq.put("동강", 89);
-    freq.put("있도", 442);
-    freq.put("자역", 86);
-    freq.put("자에", 659);
-    freq.put("열린 ", 403);
-    freq.put("불가능", 81);
-    freq.put("지한 ", 61);
-    freq.put("긴다", 73);
-    freq.put(" 신주", 59);
-    freq.put("파리", 365);
-    freq.put("동계", 192);
-    freq.put(" 다케", 102);
-    freq.put("니어", 177);
-    freq.put(" 붙어", 133);
-    freq.put("출", 6229);
-    freq.put("했으며", 734);
-    freq.put(" 기념", 453);
-    freq.put("보면", 93);
-    freq.put("보전 ", 62);
-    freq.put("고자 ", 296);
-    freq.put("동과", 336);
-    freq.put("디즈", 107);
-    freq.put("오의 ", 93);
-    freq.put("있던", 494);
-    freq.put(" 붙여", 234);
-    freq.put("째 ", 1900);
-    freq.put("이크로", 588);
-    freq.put("통신사", 68);
-    freq.put("앗", 139);
-    freq.put("佛", 194);
-    freq.put("이전에", 294);
-    freq.put("같다", 132);
-    freq.put("기를", 1419);
-    freq.put("양부", 117);
-    freq.put(" 신조", 74);
-    freq.put("동경", 61);
-    freq.put("용하는", 892);
-    freq.put("디지", 599);
-    freq.put("입하였", 66);
-    freq.put("치하고", 1297);
-    freq.put("공하였", 61);
-    freq.put("동하고", 132);
-    freq.put("라이 ", 172);
-    freq.put(" 신장", 97);
-    freq.put("三丁 ", 581);
-    freq.put("이더 ", 126);
-    freq.put("루가 ", 76);
-    freq.put("연출", 61);
-    freq.put("화", 22028);
-    freq.put("일한 ", 393);
-    freq.put("일까지", 745);
-    freq.put("류인 ", 79);
-    freq.put("선수단", 172);
-    freq.put("디우", 62);
-    freq.put("태조 ", 87);
-    freq.put(" 축소", 69);
-    freq.put("술한 ", 81);
-    freq.put("처", 4102);
-    freq.put("고이다", 107);
-    freq.put("준이다", 67);
-    freq.put("제출", 94);
-    freq.put("구의 ", 1000);
-    freq.put(" 신의", 77);
-    freq.put("공기 ", 138);
-    freq.put("세한", 64);
-    freq.put("회민주", 65);
-    freq.put(" 헤르", 204);
-    freq.put("디움", 88);
-    freq.put("좁", 164);
-    freq.put("보드", 262);
-    freq.put("투명", 71);
-    freq.put(" 공연", 289);
-    freq.put("익에 ", 75);
-    freq.put(" 공여", 67);
-    freq.put("널", 1956);
-    freq.put("방송하", 72);
-    freq.put("콘서", 84);
-    freq.put(" 신용", 132);
-    freq.put("드스", 58);
-    freq.put(" 하천", 129);
-    freq.put(" 공업", 167);
-    freq.put(" 위협", 73);
-    freq.put("롭게 ", 172);
-    freq.put("델로", 83);
-    freq.put("념물 ", 77);
-    freq.put("드시", 125);
-    freq.put("텐", 677);
-    freq.put("전시 ", 66);
-    freq.put("파라", 208);
-    freq.put("포함한", 517);
-    freq.put("포함하", 554);
-    freq.put("양대", 68);
-    freq.put("포함해", 70);
-    freq.put("문화를", 243);
-    freq.put(" 열차", 200);
-    freq.put(" 다섯", 189);
-    freq.put("표는 ", 100);
-    freq.put("파란", 62);
-    freq.put("양동", 61);
-    freq.put(" 축산", 110);
-    freq.put("디자", 541);
-    freq.put("적의 ", 167);
-    freq.put("풋볼 ", 85);
-    freq.put("양도", 65);
-    freq.put("일환으", 83);
-    freq.put("려의 ", 141);
-    freq.put("학파", 157);
-    freq.put("출발", 166);
-    freq.put("함한다", 221);
-    freq.put("성하였", 153);
-    freq.put("기라", 71);
-    freq.put("성화 ", 93);
-    freq.put("않은 ", 396);
-    freq.put("이익을", 123);
-    freq.put(" 기본", 560);
-    freq.put("렌", 918);
-    freq.put("성하여", 117);
-    freq.put("이타마", 68);
-    freq.put("용에 ", 191);
-    freq.put("랩", 147);
-    freq.put(" 다스", 119);
-    freq.put(" 공원", 222);
-    freq.put("건의 ", 226);
-    freq.put("묶", 127);
-    freq.put("회사 ", 324);
-    freq.put("림픽", 766);
-    freq.put("자주", 224);
-    freq.put(" 다시", 472);
-    freq.put(" 공용", 96);
-    freq.put(" 위해", 3054);
-    freq.put("합에 ", 76);
-    freq.put(" 기법", 166);
-    freq.put("본주의", 134);
-    freq.put("치가이", 174);
-    freq.put(" 위한", 1962);
-    freq.put("기들", 73);
-    freq.put(" 위하", 1580);
-    freq.put("기되", 97);
-    freq.put("상법", 81);
-    freq.put(" 다수", 252);
-    freq.put("베르 ", 73);
-    freq.put("보라", 58);
-    freq.put("키지 ", 73);
-    freq.put("기구로", 81);
-    freq.put("콘스", 196);
-    freq.put("자적", 159);
-    freq.put("자전", 175);
-    freq.put("코리아", 162);
-    freq.put("丁並並", 65);
-    freq.put("네바", 84);
-    freq.put("라비아", 197);
-    freq.put("생각하", 93);
-    freq.put(" 신앙", 144);
-    freq.put(" 명성", 112);
-    freq.put("부통령", 87);
-    freq.put(" 기반", 744);
-    freq.put("투르", 163);
-    freq.put(" 공예", 66);
-    freq.put("쓴", 426);
-    freq.put(" 위험", 192);
-    freq.put("투를", 79);
-    freq.put(" 신약", 73);
-    freq.put("변경", 400);
-    freq.put(" 히트", 60);
-    freq.put("년이 ", 104);
-    freq.put("뮤니", 177);
-    freq.put("왕자", 127);
-    freq.put("보가", 134);
-    freq.put("정신 ", 68);
-    freq.put("전이 ", 205);
-    freq.put("사학위", 59);
-    freq.put(" 공장", 112);
-    freq.put("생", 10052);
-    freq.put(" 늘어", 84);
-    freq.put("돌아가", 62);
-    freq.put("이익에", 60);
-    freq.put(" 공작", 263);
-    freq.put("디아", 393);
-    freq.put(" 히틀", 63);
-    freq.put("키프", 58);
-    freq.put("퍼레", 61);
-    freq.put("상북", 422);
-    freq.put("왕으", 142);
-    freq.put(" 공인", 132);
-    freq.put("디언", 175);
-    freq.put(" 공익", 122);
-    freq.put("디어", 563);
-    freq.put("대대", 66);
-    freq.put("나급 ", 176);
-    freq.put("송파구", 154);
-    freq.put(" 공의", 61);
-    freq.put("아테네", 86);
-    freq.put("엘 ", 358);
-    freq.put("벗어", 103);
-    freq.put(" 공을", 98);
-    freq.put("왕위", 174);
-    freq.put("사학자", 68);
-    freq.put("이남", 57);
-    freq.put("왕이", 422);
-    freq.put("ö", 136);
-    freq.put("차지했", 173);
-    freq.put("투로", 114);
-    freq.put("했기 ", 58);
-    freq.put(" 공유", 240);
-    freq.put("길이", 553);
-    freq.put("종목에", 75);
-    freq.put("이올린", 74);
-    freq.put("왕의", 270);
-    freq.put("입하여", 105);
-    freq.put("길을", 64);
-    freq.put("현악단", 131);
-    freq.put("왕을", 61);
-    freq.put("공하여", 84);
-    freq.put("기는", 959);
-    freq.put("당하는", 446);
-    freq.put("눔", 57);
-    freq.put(" 슬라", 77);
-    freq.put("ε", 146);
-    freq.put("기능", 861);
-    freq.put("학회", 466);
-    freq.put(" 공산", 365);
-    freq.put(" 공사", 132);
-    freq.put("기니", 172);
-    freq.put("엔진이", 58);
-    freq.put("불가리", 157);
-    freq.put("대자동", 69);
-    freq.put(" 하지", 445);
-    freq.put("엔진을", 65);
-    freq.put("기다", 78);
-    freq.put("지금의", 259);
-    freq.put("역시의", 94);
-    freq.put("소니", 139);
-    freq.put(" 명이", 852);
-    freq.put("디스", 467);
-    freq.put("지금은", 121);
-    freq.put(" 명을", 174);
-    freq.put("킨", 1373);
-    freq.put("파는", 76);
-    freq.put(" 명의", 647);
-    freq.put("혔", 85);
-    freq.put("도인 ", 130);
-    freq.put("류를", 301);
-    freq.put("드의", 964);
-    freq.put(" 명으", 136);
-    freq.put("원소 ", 72);
-    freq.put("아어", 558);
-    freq.put("문화방", 94);
-    freq.put("떨어져", 174);
-    freq.put("드이", 229);
-    freq.put("자치", 1144);
-    freq.put("三爲", 60);
-    freq.put("컬", 664);
-    freq.put("드인", 87);
-    freq.put("倉 ", 985);
-    freq.put("훼", 98);
-    freq.put("어느", 238);
-    freq.put("관", 22357);
-    freq.put(" 타고", 80);
-    freq.put(" 之之", 450);
-    freq.put("기경", 136);
-    freq.put(" 다양", 968);
-    freq.put("떨어진", 577);
-    freq.put("제조", 448);
-    freq.put("떨어지", 62);
-    freq.put("연주", 311);
-    freq.put("표율", 67);
-    freq.put("제정", 539);
-    freq.put("보나", 64);
-    freq.put(" 之三", 810);
-    freq.put("표의", 64);
-    freq.put("기도", 3690);
-    freq.put("기독", 739);
-    freq.put("드워", 117);
-    freq.put("지 ", 12819);
-    freq.put(" 之並", 680);
-    freq.put("보내", 172);
-    freq.put(" 점 ", 68);
-    freq.put("했으나", 251);
-    freq.put("룹", 837);
-    freq.put(" 之丹", 65);
-    freq.put("드웨", 238);
-    freq.put("점에 ", 197);
-    freq.put("리비아", 152);
-    freq.put("왕성", 75);
-    freq.put("기대", 121);
-    freq.put("중남부", 58);
-    freq.put("토르 ", 81);
-    freq.put("번길", 63);
-    freq.put("제주", 546);
-    freq.put("스러운", 81);
-    freq.put(" 之亂", 157);
-    freq.put("둑", 155);
-    freq.put("구체적", 132);
-    freq.put("연적", 84);
-    freq.put("드와", 268);
-    freq.put(" 만에", 155);
-    freq.put(" 之亞", 129);
-    freq.put(" 때의", 151);
-    freq.put("파도", 65);
-    freq.put("대와 ", 262);
-    freq.put(" 명예", 164);
-    freq.put("준을 ", 139);
-    freq.put("출력", 193);
-    freq.put("방송통", 78);
-    freq.put("파동", 100);
-    freq.put("자체", 347);
-    freq.put(" 並乙", 106);
-    freq.put("기나", 120);
-    freq.put(" 신속", 77);
-    freq.put(" 並之", 464);
-    freq.put("머지 ", 99);
-    freq.put(" 공식", 585);
-    freq.put("드어", 129);
-    freq.put("점기 ", 106);
-    freq.put("채택하", 69);
-    freq.put("컬러", 63);
-    freq.put("글로", 653);
-    freq.put("컬럼", 77);
-    freq.put(" 다운", 92);
-    freq.put(" 명에", 64);
-    freq.put("타가", 60);
-    freq.put("드에", 481);
-    freq.put("전략 ", 114);
-    freq.put(" 並丘", 167);
-    freq.put(" 並丁", 313);
-    freq.put(" 並三", 570);
-    freq.put("왕실", 105);
-    freq.put("상록", 72);
-    freq.put("빠", 443);
-    freq.put(" · ", 456);
-    freq.put("켜 ", 348);
-    freq.put(" 並並", 376);
-    freq.put("초구 ", 243);
-    freq.put("서식하", 112);
-    freq.put("서식한", 105);
-    freq.put("선수들", 135);
-    freq.put("상과 ", 312);
-    freq.put("타고", 165);
-    freq.put("アア", 1184);
-    freq.put(" 신설", 178);
-    freq.put(" 자바", 143);
-    freq.put(" 기록", 1008);
-    freq.put(" 신성", 183);
-    freq.put("타공", 116);
-    freq.put("연장 ", 111);
-    freq.put("파나", 80);
-    freq.put("구장 ", 97);
-    freq.put(" 협의", 101);
-    freq.put("ˈ", 80);
-    freq.put(" 본관", 550);
-    freq.put("硏", 108);
-    freq.put(" 並亞", 126);
-    freq.put(" 並亂", 164);
-    freq.put("녕", 139);
-    freq.put("파냐", 96);
-    freq.put("이루고", 127);
-    freq.put("세트", 80);
-    freq.put("보니", 57);
-    freq.put("필리프", 61);
-    freq.put("이끌어", 63);
-    freq.put(" 신사", 98);
-    freq.put("프에", 98);
-    freq.put("역은 ", 410);
-    freq.put("보다", 1010);
-    freq.put("장이 ", 399);
-    freq.put("보는", 250);
-    freq.put("숫자", 148);
-    freq.put(" 때에", 297);
-    freq.put("상륙", 81);
-    freq.put("상류", 71);
-    freq.put(" 기리", 96);
-    freq.put(" 본격", 104);
-    freq.put("필리핀", 358);
-    freq.put("디션", 57);
-    freq.put("즈》", 67);
-    freq.put("피오", 64);
-    freq.put(" 측면", 110);
-    freq.put(" 기름", 70);
-    freq.put(" 위키", 130);
-    freq.put("목적 ", 106);
-    freq.put("다 ", 111349);
-    freq.put("학하", 70);
-    freq.put(" 폴 ", 107);
-    freq.put("실로", 87);
-    freq.put("과거 ", 210);
-    freq.put("단히 ", 190);
-    freq.put(" 본거", 85);
-    freq.put("기념", 619);
-    freq.put(" 다음", 656);
-    freq.put("업하였", 82);
-    freq.put(" 헤비", 59);
-    freq.put("통해서", 112);
-    freq.put(" 질서", 67);
-    freq.put("학문이", 118);
-    freq.put("앤드", 86);
-    freq.put(" 다이", 676);
-    freq.put(" 달하", 98);
-    freq.put("새로", 765);
-    freq.put("제한", 327);
-    freq.put("제하", 242);
-    freq.put("제학", 350);
-    freq.put("진은 ", 66);
-    freq.put("천황의", 64);
-    freq.put("지식 ", 88);
-    freq.put("슷", 450);
-    freq.put("터장", 63);
-    freq.put("를테", 61);
-    freq.put("젠 ", 160);
-    freq.put("길이 ", 175);
-    freq.put("제프", 122);
-    freq.put(" 並倉", 88);
-    freq.put("둘", 641);
-    freq.put("신뢰", 98);
-    freq.put("국철도", 85);
-    freq.put("울의 ", 64);
-    freq.put("강릉", 107);
-    freq.put("동물", 811);
-    freq.put(" 건립", 120);
-    freq.put(" 스마", 121);
-    freq.put("타니", 105);
-    freq.put("이루는", 173);
-    freq.put(" 영역", 323);
-    freq.put("연한", 93);
-    freq.put("거운 ", 93);
-    freq.put("기금", 119);
-    freq.put("之之 ", 481);
-    freq.put("기기", 316);
-    freq.put(" 영업", 143);
-    freq.put("첨", 248);
-    freq.put("당하기", 83);
-    freq.put("늬", 121);
-    freq.put(" 하프", 69);
-    freq.put("신호를", 88);
-    freq.put("연합", 1184);
-    freq.put(" 육상", 128);
-    freq.put("단 ", 1654);
-    freq.put("터의", 386);
-    freq.put("문서에", 61);
-    freq.put(" 영어", 930);
-    freq.put("타는", 77);
-    freq.put("보관", 133);
-    freq.put("비나 ", 82);
-    freq.put(" 스리", 80);
-    freq.put("터이", 208);
-    freq.put("동안 ", 746);
-    freq.put(" 이수", 74);
-    freq.put("간으로", 125);
-    freq.put(" 영양", 101);
-    freq.put("피어", 124);
-    freq.put("세청", 93);
-    freq.put("피언", 426);
-    freq.put("인인 ", 98);
-    freq.put("탑재", 111);
-    freq.put("설이", 415);
-    freq.put("설을", 222);
-    freq.put("설은", 95);
-    freq.put(" 육성", 259);
-    freq.put("타난", 144);
-    freq.put("설의", 132);
-    freq.put("동면", 71);
-    freq.put("보고", 314);
-    freq.put("롬비아", 69);
-    freq.put("스토리", 150);
-    freq.put("쥐", 185);
-    freq.put("三國 ", 87);
-    freq.put("릭스", 107);
-    freq.put("피에", 185);
-    freq.put("르키나", 72);
-    freq.put(" 위치", 5975);
-    freq.put("화제 ", 72);
-    freq.put("상했다", 89);
-    freq.put(" 그의", 924);
-    freq.put("등에서", 329);
-    freq.put("丁並之", 61);
-    freq.put("보건", 323);
-    freq.put("남의 ", 128);
-    freq.put("텔레", 541);
-    freq.put("석이 ", 101);
-    freq.put(" 안산", 100);
-    freq.put("동명", 97);
-    freq.put("ό", 88);
-    freq.put("터와", 150);
-    freq.put("이브 ", 214);
-    freq.put("강력", 160);
-    freq.put("타낸", 182);
-    freq.put("제품", 561);
-    freq.put("丁並三", 108);
-    freq.put("교수", 610);
-    freq.put("피아", 520);
-    freq.put("주장", 609);
-    freq.put("보와 ", 132);
-    freq.put(" 류큐", 57);
-    freq.put("통 ", 1329);
-    freq.put(" 건물", 348);
-    freq.put("박물관", 464);
-    freq.put("동류", 60);
-    freq.put("스볼", 110);
-    freq.put("축", 3493);
-    freq.put("자키", 58);
-    freq.put("토콜 ", 80);
-    freq.put("랙", 360);
-    freq.put("주재", 60);
-    freq.put("파가", 72);
-    freq.put("본을 ", 178);
-    freq.put("움을 ", 181);
-    freq.put("터에", 367);
-    freq.put("스베", 93);
-    freq.put("군이 ", 366);
-    freq.put("학위를", 104);
-    freq.put("기계", 386);
-    freq.put(" 찰스", 137);
-    freq.put("볼리", 68);
-    freq.put("제휴", 62);
-    freq.put("주자", 204);
-    freq.put("악의 ", 190);
-    freq.put("문서이", 58);
-    freq.put("파괴", 182);
-    freq.put("기고", 122);
-    freq.put(" 올랐", 110);
-    freq.put("당하고", 80);
-    freq.put("기갑", 60);
-    freq.put("파견", 103);
-    freq.put("용산구", 85);
-    freq.put("응 ", 113);
-    freq.put("기가", 643);
-    freq.put("두번째", 73);
-    freq.put("기간", 605);
-    freq.put("인텔 ", 106);
-    freq.put(" 올라", 148);
-    freq.put("학연", 123);
-    freq.put("동맹", 284);
-    freq.put(" 스미", 84);
-    freq.put("땅", 275);
-    freq.put("학적", 904);
-    freq.put("마추어", 90);
-    freq.put("율리", 85);
-    freq.put(" 평균", 159);
-    freq.put("타나", 395);
-    freq.put(" 렌즈", 75);
-    freq.put("자크", 65);
-    freq.put("홀 ", 76);
-    freq.put("타내", 438);
-    freq.put("리나 ", 165);
-    freq.put("스바", 64);
-    freq.put("스박", 60);
-    freq.put("현한", 123);
-    freq.put("쟁이 ", 102);
-    freq.put("뼈", 195);
-    freq.put("억원", 67);
-    freq.put("시티 ", 116);
-    freq.put("빌보", 67);
-    freq.put(" 그에", 142);
-    freq.put("양성하", 72);
-    freq.put("련하", 119);
-    freq.put("스탄의", 136);
-    freq.put("안한", 115);
-    freq.put("련한", 87);
-    freq.put("애플리", 100);
-    freq.put(" 거대", 183);
-    freq.put(" 평가", 365);
-    freq.put("곡선", 132);
-    freq.put("파구", 159);
-    freq.put(" 之倉", 147);
-    freq.put("까지 ", 3943);
-    freq.put("병합", 73);
-    freq.put("륜", 185);
-    freq.put("교사", 363);
-    freq.put("병하", 65);
-    freq.put("동력", 113);
-    freq.put("스부", 93);
-    freq.put("질 ", 802);
-    freq.put("그램을", 190);
-    freq.put("세츠", 103);
-    freq.put("기관", 3227);
-    freq.put("미상 ", 70);
-    freq.put("그램의", 101);
-    freq.put(" 영웅", 113);
-    freq.put("화에 ", 525);
-    freq.put("그램이", 267);
-    freq.put("산하", 736);
-    freq.put("설에", 180);
-    freq.put("정보 ", 449);
-    freq.put("사일 ", 104);
-    freq.put("기이", 523);
-    freq.put("위키백", 58);
-    freq.put("보급", 496);
-    freq.put("제회", 58);
-    freq.put(" 교황", 491);
-    freq.put("고쿠 ", 157);
-    freq.put("업의 ", 668);
-    freq.put("연호", 88);
-    freq.put("피의", 87);
-    freq.put("기구", 741);
-    freq.put(" 스몰", 57);
-    freq.put(" 빼앗", 59);
-    freq.put("누", 1558);
-    freq.put("강서구", 79);
-    freq.put("로몬 ", 72);
-    freq.put("제국과", 91);
-    freq.put("속은 ", 58);
-    freq.put("펑크", 69);
-    freq.put("並國三", 63);
-    freq.put("밀 ", 162);
-    freq.put("본으로", 94);
-    freq.put("끌었", 93);
-    freq.put(" 패러", 89);
-    freq.put("자회", 144);
-    freq.put("째로 ", 479);
-    freq.put("비가 ", 106);
-    freq.put("대통", 1071);
-    freq.put("명이 ", 605);
-    freq.put(" 본래", 266);
-    freq.put("교장", 78);
-    freq.put("유대인", 130);
-    freq.put("스몰", 61);
-    freq.put("농산물", 130);
-    freq.put("초에 ", 110);
-    freq.put("토론", 166);
-    freq.put("교이", 272);
-    freq.put("교인", 98);
-    freq.put("세는 ", 97);
-    freq.put("자협", 82);
-    freq.put("교의", 1054);
-    freq.put(" 안에", 305);
-    freq.put("부산 ", 108);
-    freq.put("섹", 86);
-    freq.put("꺼", 75);
-    freq.put("토로", 115);
-    freq.put("개국 ", 83);
-    freq.put("교육", 2560);
-    freq.put(" 콜롬", 89);
-    freq.put(" 안양", 112);
-    freq.put(" 콜로", 74);
-    freq.put("계에 ", 486);
-    freq.put("말의", 116);
-    freq.put(" 가 ", 1852);
-    freq.put("곡이", 253);
-    freq.put("스미", 145);
-    freq.put("식을 ", 714);
-    freq.put("곡은", 123);
-    freq.put("교원", 80);
-    freq.put("곡을", 163);
-    freq.put("토마", 125);
-    freq.put("세종", 317);
-    freq.put("지류인", 60);
-    freq.put("교·철", 266);
-    freq.put("곡의", 107);
-    freq.put("피소", 115);
-    freq.put("타라", 76);
-    freq.put("전국 ", 139);
-    freq.put("핀", 882);
-    freq.put("온의 ", 60);
-    freq.put("태의 ", 331);
-    freq.put("화·", 76);
-    freq.put("토리", 469);
-    freq.put("곡으", 120);
-    freq.put("켓", 371);
-    freq.put("並倉 ", 90);
-    freq.put("상스 ", 59);
-    freq.put("변동", 70);
-    freq.put("亞三並", 82);
-    freq.put("토를", 102);
-    freq.put(" 영상", 317);
-    freq.put("교와", 220);
-    freq.put("亞三三", 101);
-    freq.put("노 ", 946);
-    freq.put("랫폼", 184);
-    freq.put("세조", 81);
-    freq.put("화 ", 3719);
-    freq.put("시민들", 57);
-    freq.put("자흐", 77);
-    freq.put("신교 ", 109);
-    freq.put("들기 ", 69);
-    freq.put("피스", 241);
-    freq.put("교역", 61);
-    freq.put("교에", 493);
-    freq.put(" 안의", 57);
-    freq.put("맡아", 66);
-    freq.put("리스도", 198);
-    freq.put("줄 ", 149);
-    freq.put("름에 ", 102);
-    freq.put("맡았", 269);
-    freq.put("빌리", 113);
-    freq.put("용된다", 504);
-    freq.put("필요하", 96);
-    freq.put("필요한", 311);
-    freq.put(" 일하", 99);
-    freq.put("무로 ", 104);
-    freq.put("치하는", 172);
-    freq.put("선수가", 86);
-    freq.put("동하는", 170);
-    freq.put("봇 ", 74);
-    freq.put("개선 ", 77);
-    freq.put("이므로", 99);
-    freq.put("양과", 174);
-    freq.put("《뉴스", 59);
-    freq.put("영되었", 153);
-    freq.put("신이다", 266);
-    freq.put("백만", 74);
-    freq.put("설은 ", 94);
-    freq.put("스로", 529);
-    freq.put("양계", 70);
-    freq.put("동북", 139);
-    freq.put("동부", 1119);
-    freq.put("양경", 128);
-    freq.put("제작한", 315);
-    freq.put("제작하", 177);
-    freq.put("염 ", 118);
-    freq.put("토머", 72);
-    freq.put("나가는", 87);
-    freq.put("스레", 59);
-    freq.put("컬럼비", 62);
-    freq.put("끈 ", 67);
-    freq.put("양군", 100);
-    freq.put("번째 ", 1634);
-    freq.put(" 화석", 129);
-    freq.put("토미", 114);
-    freq.put("양국", 72);
-    freq.put("양구", 62);
-    freq.put("스만", 162);
-    freq.put("스마", 263);
-    freq.put("학명은", 70);
-    freq.put("현존하", 104);
-    freq.put("스리", 201);
-    freq.put("택되", 100);
-    freq.put("타디", 124);
-    freq.put(" 並國", 241);
-    freq.put("동방", 208);
-    freq.put("교향악", 94);
-    freq.put("스를", 979);
-    freq.put("보기", 184);
-    freq.put("클럽", 362);
-    freq.put("곡에", 64);
-    freq.put("아랍어", 113);
-    freq.put("클래", 142);
-    freq.put("최초로", 360);
-    freq.put("성이다", 196);
-    freq.put("선수권", 182);
-    freq.put("자하", 69);
-    freq.put("로바키", 85);
-    freq.put("입이 ", 60);
-    freq.put("제트", 78);
-    freq.put("그램으", 79);
-    freq.put("乙丁 ", 151);
-    freq.put("클로", 182);
-    freq.put("상급", 60);
-    freq.put("이탈리", 1091);
-    freq.put("있게", 320);
-    freq.put("공신 ", 59);
-    freq.put(" 년이", 145);
-    freq.put("설치", 714);
-    freq.put(" 건너", 96);
-    freq.put("클론", 67);
-    freq.put("동대", 173);
-    freq.put(" 음료", 60);
-    freq.put("동계 ", 168);
-    freq.put("왔", 670);
-    freq.put("클레", 211);
-    freq.put("사진 ", 92);
-    freq.put(" 실천", 136);
-    freq.put(" 위의", 84);
-    freq.put("결정하", 131);
-    freq.put("있고", 900);
-    freq.put(" 만큼", 59);
-    freq.put("학습", 221);
-    freq.put("존 ", 728);
-    freq.put("빌라", 66);
-    freq.put("중심부", 67);
-    freq.put(" 음력", 494);
-    freq.put(" 질환", 60);
-    freq.put("에티오", 85);
-    freq.put("예술가", 65);
-    freq.put("몬", 786);
-    freq.put("획득", 137);
-    freq.put("대상으", 305);
-    freq.put(" 기기", 139);
-    freq.put("맡은", 78);
-    freq.put("섬에 ", 188);
-    freq.put(" 신흥", 72);
-    freq.put("학술", 418);
-    freq.put("세아", 63);
-    freq.put("대상이", 87);
-    freq.put("이지 ", 498);
-    freq.put(" 기금", 68);
-    freq.put("싼", 122);
-    freq.put("스러", 103);
-    freq.put("론으로", 87);
-    freq.put("스럽", 73);
-    freq.put("표팀", 149);
-    freq.put("상으로", 821);
-    freq.put("어있는", 86);
-    freq.put(" 공헌", 115);
-    freq.put("之並三", 216);
-    freq.put("힌다", 88);
-    freq.put("버스터", 121);
-    freq.put(" 본명", 394);
-    freq.put("강남", 335);
-    freq.put("로야구", 89);
-    freq.put("콘텐", 200);
-    freq.put("어있다", 103);
-    freq.put(" 변경", 370);
-    freq.put("三亂 ", 228);
-    freq.put("태양 ", 74);
-    freq.put(" 안정", 204);
-    freq.put("런스", 86);
-    freq.put(" 안전", 386);
-    freq.put("리즈 ", 556);
-    freq.put("륙의", 69);
-    freq.put("스라", 342);
-    freq.put("진흥 ", 62);
-    freq.put("동단", 59);
-    freq.put("좀 ", 61);
-    freq.put("어난 ", 785);
-    freq.put(" 공학", 187);
-    freq.put("동당", 117);
-    freq.put(" 커피", 78);
-    freq.put("타미", 69);
-    freq.put(" 신호", 310);
-    freq.put(" 육지", 73);
-    freq.put("템이다", 123);
-    freq.put("출간", 124);
-    freq.put(" 신화", 415);
-    freq.put("대전에", 70);
-    freq.put("으로의", 77);
-    freq.put("팀으로", 74);
-    freq.put("끌어", 118);
-    freq.put("클린", 94);
-    freq.put("클리", 189);
-    freq.put(" 올바", 113);
-    freq.put("장된 ", 102);
-    freq.put(" 위원", 421);
-    freq.put("상가", 172);
-    freq.put("학상", 204);
-    freq.put("학생", 582);
-    freq.put("의할 ", 57);
-    freq.put("타로", 108);
-    freq.put("강동", 69);
-    freq.put("스토니", 68);
-    freq.put("진과 ", 113);
-    freq.put(" 기계", 313);
-    freq.put("강도", 90);
-    freq.put("세자", 103);
-    freq.put("졌", 1373);
-    freq.put("시아 ", 1643);
-    freq.put("지정한", 88);
-    freq.put("지정하", 64);
-    freq.put("학사", 169);
-    freq.put("ç", 72);
-    freq.put("전개", 214);
-    freq.put("왕후", 204);
-    freq.put("학살", 146);
-    freq.put("권에 ", 140);
-    freq.put("족하였", 143);
-    freq.put("일보 ", 109);
-    freq.put("출하였", 98);
-    freq.put(" 공화", 1170);
-    freq.put("있기", 222);
-    freq.put("짜 ", 61);
-    freq.put("상경", 57);
-    freq.put("출신 ", 245);
-    freq.put("램의 ", 106);
-    freq.put("상계", 62);
-    freq.put("빌딩", 554);
-    freq.put("세인", 151);
-    freq.put("드워드", 102);
-    freq.put(" 신학", 305);
-    freq.put("세이", 380);
-    freq.put(" 기갑", 57);
-    freq.put("세의", 524);
-    freq.put("상공", 144);
-    freq.put(" 기간", 439);
-    freq.put("상과", 358);
-    freq.put(" 위에", 358);
-    freq.put("상관", 120);
-    freq.put("방송을", 83);
-    freq.put("음주의", 62);
-    freq.put("방송의", 67);
-    freq.put("륙에", 126);
-    freq.put("세우", 158);
-    freq.put("개되었", 111);
-    freq.put("세운", 225);
-    freq.put(" 히스", 59);
-    freq.put("증권 ", 60);
-    freq.put("타르", 237);
-    freq.put("방송이", 79);
-    freq.put("타를", 77);
-    freq.put("루살렘", 108);
-    freq.put("세웠", 108);
-    freq.put(" 반 ", 121);
-    freq.put("재단법", 390);
-    freq.put("택", 1124);
-    freq.put("세워", 323);
-    freq.put("상국", 58);
-    freq.put("곳을 ", 106);
-    freq.put("당선되", 96);
-    freq.put(" 골든", 60);
-    freq.put("화이다", 369);
-    freq.put("지면서", 85);
-    freq.put("타마", 167);
-    freq.put("아즈치", 65);
-    freq.put(" 달성", 171);
-    freq.put(" 기구", 396);
-    freq.put("영의 ", 109);
-    freq.put("丹", 2134);
-    freq.put(" 건담", 75);
-    freq.put("문학상", 112);
-    freq.put(" 따 ", 65);
-    freq.put("로봇 ", 68);
-    freq.put("힙합", 222);
-    freq.put("동남", 213);
-    freq.put("청장은", 97);
-    freq.put("교정", 87);
-    freq.put("빙 ", 74);
-    freq.put("세와", 166);
-    freq.put("타리", 335);
-    freq.put("폰", 647);
-    freq.put("교적", 271);
-    freq.put("기능 ", 112);
-    freq.put("담 ", 279);
-    freq.put("곤충", 101);
-    freq.put("〈", 607);
-    freq.put("용해 ", 222);
-    freq.put("표현", 736);
-    freq.put("학원", 440);
-    freq.put("스니", 152);
-    freq.put("었다가", 169);
-    freq.put("으면서", 126);
-    freq.put("문학의", 69);
-    freq.put(" 올리", 108);
-    freq.put("자유주", 102);
-    freq.put(" 올림", 799);
-    freq.put("스는", 657);
-    freq.put("문학자", 106);
-    freq.put("산하의", 96);
-    freq.put("학자로", 168);
-    freq.put(" 멀티", 170);
-    freq.put(" 음반", 525);
-    freq.put(" 영지", 58);
-    freq.put("세서", 262);
-    freq.put(" 매년", 364);
-    freq.put(" 움직", 247);
-    freq.put("었다고", 153);
-    freq.put("방송사", 59);
-    freq.put("본선 ", 60);
-    freq.put("페 ", 146);
-    freq.put("플래시", 78);
-    freq.put("반도 ", 306);
-    freq.put("료되", 58);
-    freq.put(" 영조", 60);
-    freq.put("심에 ", 61);
-    freq.put("스도", 241);
-    freq.put("워크 ", 327);
-    freq.put(" 공통", 185);
-    freq.put("일스 ", 70);
-    freq.put("수원 ", 77);
-    freq.put("학자", 2335);
-    freq.put("붙어 ", 106);
-    freq.put("세상", 147);
-    freq.put("삽입", 62);
-    freq.put("피지", 85);
-    freq.put("으키는", 87);
-    freq.put(" 토지", 194);
-    freq.put("한불교", 58);
-    freq.put("학은", 215);
-    freq.put("학을", 385);
-    freq.put("학의", 956);
-    freq.put("할한다", 328);
-    freq.put("토노", 77);
-    freq.put(" 영주", 76);
-    freq.put("대교구", 66);
-    freq.put("케스트", 70);
-    freq.put("문화교", 73);
-    freq.put("투기", 161);
-    freq.put(" 명확", 90);
-    freq.put("학이", 346);
-    freq.put("튜디", 195);
-    freq.put("화시키", 67);
-    freq.put("학위", 158);
-    freq.put("으로써", 965);
-    freq.put("부분에", 132);
-    freq.put("토너", 74);
-    freq.put("학으", 130);
-    freq.put("째", 2610);
-    freq.put("이버 ", 210);
-    freq.put("오픈 ", 155);
-    freq.put(" 위성", 197);
-    freq.put("통문화", 79);
-    freq.put("류 ", 1253);
-    freq.put("논의", 106);
-    freq.put("구와 ", 470);
-    freq.put(" ∼ ", 97);
-    freq.put("丁亂", 313);
-    freq.put(" 본부", 184);
-    freq.put(" 만화", 581);
-    freq.put("타바", 73);
-    freq.put("丁亞", 282);
-    freq.put(" 승용", 68);
-    freq.put("점차 ", 76);
-    freq.put("설적", 60);
-    freq.put("스나", 102);
-    freq.put("지로 ", 816);
-    freq.put("丁人", 80);
-    freq.put("치하며", 277);
-    freq.put("스스로", 208);
-    freq.put("丁之", 1054);
-    freq.put("丁丁之", 67);
-    freq.put("준다 ", 198);
-    freq.put("丁乙", 272);
-    freq.put("캠", 218);
-    freq.put("행위를", 267);
-    freq.put("내", 7694);
-    freq.put("논쟁", 109);
-    freq.put("문학에", 61);
-    freq.put("丁丁丁", 59);
-    freq.put("丁三", 1278);
-    freq.put("丁丈", 69);
-    freq.put("丁丁三", 77);
-    freq.put("종은 ", 81);
-    freq.put("용노동", 84);
-    freq.put("丁且", 87);
-    freq.put("丁丘", 425);
-    freq.put("운행 ", 58);
-    freq.put("傭 ", 180);
-    freq.put("히틀러", 64);
-    freq.put("롯", 651);
-    freq.put("丁丹", 114);
-    freq.put("세스", 264);
-    freq.put("네스코", 91);
-    freq.put(" 공포", 138);
-    freq.put("학에", 1132);
-    freq.put(" 협회", 248);
-    freq.put("칭 ", 682);
-    freq.put(" 현대", 825);
-    freq.put("아를 ", 247);
-    freq.put("않는다", 348);
-    freq.put("메리칸", 121);
-    freq.put("터스", 138);
-    freq.put("교체", 59);
-    freq.put(" 매니", 71);
-    freq.put("표한", 304);
-    freq.put("부분을", 239);
-    freq.put("표하", 378);
-    freq.put("부분은", 122);
-    freq.put("부분의", 331);
-    freq.put("공개 ", 76);
-    freq.put("페라이", 66);
-    freq.put(" 三倉", 199);
-    freq.put("과학기", 696);
-    freq.put("부분이", 237);
-    freq.put(" 피부", 85);
-    freq.put("丙之", 212);
-    freq.put("투갈", 235);
-    freq.put("쌓", 116);
-    freq.put("스노", 76);
-    freq.put("표했", 61);
-    freq.put("으로서", 1111);
-    freq.put(" 승인", 135);
-    freq.put("홀로", 69);
-    freq.put("시험 ", 132);
-    freq.put("교차", 238);
-    freq.put("차원 ", 181);
-    freq.put("자들 ", 77);
-    freq.put("토대", 96);
-    freq.put("부지방", 64);
-    freq.put("관으로", 1430);
-    freq.put(" 위상", 193);
-    freq.put("마이클", 102);
-    freq.put("힌두", 145);
-    freq.put("토를 ", 102);
-    freq.put("지어 ", 59);
-    freq.put(" 공과", 57);
-    freq.put(" 공공", 336);
-    freq.put("감 ", 193);
-    freq.put("두고 ", 439);
-    freq.put("차로이", 131);
-    freq.put("톡", 100);
-    freq.put("공하기", 71);
-    freq.put("세부", 108);
-    freq.put("교동", 80);
-    freq.put("리스에", 76);
-    freq.put("교도", 126);
-    freq.put(" 기후", 202);
-    freq.put("상호", 734);
-    freq.put("왕과", 64);
-    freq.put("상품 ", 73);
-    freq.put("학명", 176);
-    freq.put("상화", 104);
-    freq.put("리칸 ", 115);
-    freq.put("상황", 295);
-    freq.put("피드", 122);
-    freq.put(" 기획", 174);
-    freq.put("스나 ", 83);
-    freq.put(" 현청", 128);
-    freq.put("재단은", 166);
-    freq.put("출한", 142);
-    freq.put("상회", 64);
-    freq.put("출하", 502);
-    freq.put("스칼", 83);
-    freq.put("스칸", 67);
-    freq.put("스카", 534);
-    freq.put("뮤니티", 87);
-    freq.put("가상 ", 104);
-    freq.put("해시 ", 75);
-    freq.put("벨", 1138);
-    freq.put("행위이", 57);
-    freq.put("피아노", 101);
-    freq.put("슬", 1694);
-    freq.put("출할", 58);
-    freq.put(" 변하", 73);
-    freq.put("왕가", 164);
-    freq.put("상대", 588);
-    freq.put("술회관", 61);
-    freq.put("토착", 58);
-    freq.put("논리", 281);
-    freq.put(" 공개", 359);
-    freq.put("타리오", 112);
-    freq.put("타스", 72);
-    freq.put(" 미 ", 80);
-    freq.put(" 승려", 122);
-    freq.put("아제", 124);
-    freq.put("섯 ", 281);
-    freq.put("례로 ", 60);
-    freq.put(" 공간", 529);
-    freq.put("점이다", 97);
-    freq.put("스쿨", 82);
-    freq.put("스쿠", 71);
-    freq.put("향상시", 75);
-    freq.put("변의", 108);
-    freq.put("남서부", 201);
-    freq.put("치하여", 88);
-    freq.put(" 그러", 510);
-    freq.put("사형", 99);
-    freq.put("미가 ", 133);
-    freq.put("변이", 82);
-    freq.put(" 매체", 153);
-    freq.put("열렸다", 111);
-    freq.put("엔터", 311);
-    freq.put("자는 ", 1091);
-    freq.put(" 그래", 457);
-    freq.put("송을 ", 189);
-    freq.put(" 그랜", 97);
-    freq.put("주시 ", 444);
-    freq.put(" 승리", 259);
-    freq.put("교는", 208);
-    freq.put("》은 ", 258);
-    freq.put("토르", 148);
-    freq.put("택시", 93);
-    freq.put(" 공군", 133);
-    freq.put("강조", 121);
-    freq.put(" 영등", 165);
-    freq.put("ل", 186);
-    freq.put("유래되", 83);
-    freq.put(" 음성", 147);
-    freq.put(" 그라", 116);
-    freq.put("곡동", 96);
-    freq.put("스코", 803);
-    freq.put("리게 ", 92);
-    freq.put("사운드", 156);
-    freq.put("왕국", 706);
-    freq.put("성하기", 80);
-    freq.put("키텍", 134);
-    freq.put("강제", 215);
-    freq.put(" 히로", 126);
-    freq.put("강점", 455);
-    freq.put("스케", 361);
-    freq.put("학문", 497);
-    freq.put(" 밝은", 60);
-    freq.put("행위에", 64);
-    freq.put(" 애플", 267);
-    freq.put("붕", 269);
-    freq.put("화와 ", 320);
-    freq.put("중심으", 672);
-    freq.put("관련하", 58);
-    freq.put("관련한", 66);
-    freq.put("공산주", 198);
-    freq.put(" 그들", 324);
-    freq.put("천시 ", 225);
-    freq.put("웃", 221);
-    freq.put("헌 ", 139);
-    freq.put("끌", 362);
-    freq.put("논문", 137);
-    freq.put("근에 ", 191);
-    freq.put("스리랑", 67);
-    freq.put("동중", 64);
-    freq.put(" 음식", 283);
-    freq.put("상표", 111);
-    freq.put("중심이", 78);
-    freq.put("설된", 124);
-    freq.put("설되", 275);
-    freq.put("임을 ", 405);
-    freq.put(" 패션", 82);
-    freq.put("상품", 332);
-    freq.put("능 ", 323);
-    freq.put("목을 ", 213);
-    freq.put(" 안동", 112);
-    freq.put("듬해", 68);
-    freq.put("년과 ", 135);
-    freq.put("체", 12407);
-    freq.put("룹의 ", 106);
-    freq.put("리스의", 233);
-    freq.put("전사 ", 94);
-    freq.put("악", 3379);
-    freq.put("시스코", 114);
-    freq.put(" 공기", 186);
-    freq.put("범으로", 68);
-    freq.put(" 킹 ", 69);
-    freq.put(" 본선", 116);
-    freq.put("리핀 ", 247);
-    freq.put("치하였", 59);
-    freq.put(" 공급", 227);
-    freq.put("공하고", 126);
-    freq.put("동하였", 160);
-    freq.put("성하고", 147);
-    freq.put("전》", 368);
-    freq.put("물건을", 96);
-    freq.put("켈", 258);
-    freq.put("구밀도", 162);
-    freq.put(" 달린", 64);
-    freq.put("피아니", 63);
-    freq.put("접하고", 189);
-    freq.put("별법", 78);
-    freq.put(" 倉之", 119);
-    freq.put(" 위반", 87);
-    freq.put("동조", 206);
-    freq.put("으로부", 448);
-    freq.put(" 신경", 196);
-    freq.put("동적", 145);
-    freq.put("동전", 186);
-    freq.put("약에 ", 90);
-    freq.put("상학", 60);
-    freq.put("상하", 394);
-    freq.put("킬로", 125);
-    freq.put("상한", 79);
-    freq.put("점성술", 118);
-    freq.put(" 본사", 229);
-    freq.put(" 집 ", 170);
-    freq.put("설된 ", 121);
-    freq.put("상해", 61);
-    freq.put("십자군", 103);
-    freq.put("율적", 242);
-    freq.put("상했", 97);
-    freq.put("절하", 80);
-    freq.put("변에", 132);
-    freq.put("지를 ", 1014);
-    freq.put("업한 ", 64);
-    freq.put("아즈", 110);
-    freq.put("학자이", 807);
-    freq.put("학자인", 136);
-    freq.put(" 기하", 177);
-    freq.put(" 변화", 441);
-    freq.put(" 변환", 220);
-    freq.put("토콜", 205);
-    freq.put("워진", 166);
-    freq.put(" 변호", 184);
-    freq.put("증가하", 70);
-    freq.put(" 에어", 174);
-    freq.put("축을 ", 74);
-    freq.put("신이자", 75);
-    freq.put(" 변형", 122);
-    freq.put("타와", 67);
-    freq.put("세리", 64);
-    freq.put("랍", 361);
-    freq.put("다케", 114);
-    freq.put("률이다", 60);
-    freq.put("과적으", 61);
-    freq.put("厥", 67);
-    freq.put("표기", 489);
-    freq.put("술부", 294);
-    freq.put("형문화", 146);
-    freq.put("υ", 78);
-    freq.put("목록이", 78);
-    freq.put("풀로 ", 63);
-    freq.put("메", 5400);
-    freq.put("변수", 210);
-    freq.put(" 현존", 112);
-    freq.put(" 그는", 841);
-    freq.put(" 축구", 957);
-    freq.put("실험 ", 62);
-    freq.put(" 패의", 57);
-    freq.put("향상을", 130);
-    freq.put("타워", 123);
-    freq.put("타원", 94);
-    freq.put("울특", 2233);
-    freq.put(" 경마", 60);
-    freq.put(" 건축", 501);
-    freq.put(" 본인", 73);
-    freq.put("상트", 78);
-    freq.put("번의", 336);
-    freq.put("각이 ", 58);
-    freq.put(" 때까", 219);
-    freq.put("가스 ", 119);
-    freq.put("메리 ", 61);
-    freq.put("세를", 145);
-    freq.put("계산 ", 77);
-    freq.put("과로 ", 135);
-    freq.put("세르", 275);
-    freq.put("서관 ", 112);
-    freq.put(" 러시", 1253);
-    freq.put("번이", 145);
-    freq.put("타우", 94);
-    freq.put("타운", 164);
-    freq.put("파트 ", 89);
-    freq.put("우치 ", 58);
-    freq.put("자원 ", 102);
-    freq.put("럼 ", 613);
-    freq.put("터는", 441);
-    freq.put("토로 ", 68);
-    freq.put("타의", 139);
-    freq.put("토지", 226);
-    freq.put("업하고", 81);
-    freq.put("타이", 1114);
-    freq.put("타인", 408);
-    freq.put("타일", 144);
-    freq.put("정교회", 151);
-    freq.put("했고 ", 365);
-    freq.put("몇몇", 116);
-    freq.put(" 상수", 101);
-    freq.put("돌프", 99);
-    freq.put("닥", 218);
-    freq.put("타의 ", 138);
-    freq.put("케팅 ", 75);
-    freq.put(" 매주", 80);
-    freq.put("이른바", 70);
-    freq.put("세력", 252);
-    freq.put("지금까", 89);
-    freq.put("름", 4869);
-    freq.put("천문학", 192);
-    freq.put(" 안드", 171);
-    freq.put("급하고", 62);
-    freq.put("산동 ", 114);
-    freq.put("토모", 60);
-    freq.put(" 음악", 1252);
-    freq.put("반적", 1188);
-    freq.put("타임", 197);
-    freq.put("타입", 74);
-    freq.put(" 그대", 262);
-    freq.put("타자", 78);
-    freq.put("정은 ", 136);
-    freq.put("라의 ", 696);
-    freq.put(" 현지", 86);
-    freq.put("세로", 166);
-    freq.put("산의 ", 346);
-    freq.put("리》", 59);
-    freq.put("스주", 85);
-    freq.put("피스 ", 81);
-    freq.put("표가", 57);
-    freq.put("향상에", 76);
-    freq.put(" 스코", 288);
-    freq.put(" 기타", 617);
-    freq.put("실시하", 164);
-    freq.put("번에", 76);
-    freq.put(" 스케", 164);
-    freq.put(" 위를", 178);
-    freq.put("니며 ", 81);
-    freq.put("사원 ", 75);
-    freq.put(" 타임", 92);
-    freq.put("예루살", 108);
-    freq.put("역", 14028);
-    freq.put("계로", 351);
-    freq.put(" 타자", 72);
-    freq.put("번역", 488);
-    freq.put("터널", 153);
-    freq.put("곡들", 64);
-    freq.put(" 타이", 816);
-    freq.put("백질", 181);
-    freq.put(" 타인", 112);
-    freq.put("터넷", 668);
-    freq.put("국을 ", 477);
-    freq.put(" 영동", 66);
-    freq.put("불 ", 296);
-    freq.put("출판", 563);
-    freq.put("상태", 852);
-    freq.put("안보", 81);
-    freq.put("교들", 65);
-    freq.put("카고 ", 57);
-    freq.put("乙並 ", 132);
-    freq.put("터내", 78);
-    freq.put(" 벨라", 91);
-    freq.put(" 타원", 89);
-    freq.put(" 스카", 114);
-    freq.put("산맥 ", 122);
-    freq.put(" 三國", 102);
-    freq.put("학부", 176);
-    freq.put("히고 ", 66);
-    freq.put("백제", 182);
-    freq.put("로써 ", 1184);
-    freq.put("최", 4895);
-    freq.put("동차", 918);
-    freq.put("인데 ", 220);
-    freq.put(" 위로", 69);
-    freq.put("으로만", 64);
-    freq.put(" 그녀", 204);
-    freq.put("람은 ", 91);
-    freq.put("타에", 65);
-    freq.put("드가", 250);
-    freq.put("추 ", 144);
-    freq.put("인민 ", 73);
-    freq.put("이루어", 990);
-    freq.put(" 히브", 111);
-    freq.put("중부에", 219);
-    freq.put("동천", 62);
-    freq.put("투표", 309);
-    freq.put("동청", 79);
-    freq.put("진에 ", 121);
-    freq.put("동체", 258);
-    freq.put("보험", 439);
-    freq.put("뮬레", 141);
-    freq.put("레비전", 409);
-    freq.put("곡면", 66);
-    freq.put("써 ", 1207);
-    freq.put(" 건설", 517);
-    freq.put("기회", 128);
-    freq.put("기획", 281);
-    freq.put(" 타지", 75);
-    freq.put("백인", 67);
-    freq.put("설비", 81);
-    freq.put("연극", 189);
-    freq.put(" 트레", 142);
-    freq.put("제국", 1585);
-    freq.put("소리", 483);
-    freq.put("률의 ", 82);
-    freq.put("방송된", 59);
-    freq.put("방송되", 109);
-    freq.put("기후", 219);
-    freq.put("보행", 57);
-    freq.put("맡", 729);
-    freq.put("사에서", 413);
-    freq.put("공유", 261);
-    freq.put("성 ", 4445);
-    freq.put("상트페", 66);
-    freq.put("보한", 539);
-    freq.put("보하", 152);
-    freq.put("런던", 299);
-    freq.put("쿼크", 68);
-    freq.put("기호", 268);
-    freq.put("전해지", 88);
-    freq.put("스와", 739);
-    freq.put("칭은 ", 476);
-    freq.put("튼", 328);
-    freq.put("연구", 3821);
-    freq.put("설의 ", 132);
-    freq.put("백작", 129);
-    freq.put("기화", 84);
-    freq.put("스오", 59);
-    freq.put("이맥스", 73);
-    freq.put("연관", 142);
-    freq.put("초기의", 150);
-    freq.put("강서", 89);
-    freq.put("미술 ", 75);
-    freq.put("팅 ", 469);
-    freq.put("도서관", 240);
-    freq.put("자였다", 159);
-    freq.put("준", 5183);
-    freq.put("선거 ", 137);
-    freq.put("실질적", 115);
-    freq.put("연계", 123);
-    freq.put("공을", 239);
-    freq.put("제거", 152);
-    freq.put(" 하게", 69);
-    freq.put("교황 ", 314);
-    freq.put("연과", 73);
-    freq.put("연고", 218);
-    freq.put("숲", 113);
-    freq.put("피부", 86);
-    freq.put("제강", 74);
-    freq.put("얀마", 118);
-    freq.put(" 하고", 784);
-    freq.put("산하는", 104);
-    freq.put("념", 1682);
-    freq.put("토어", 58);
-    freq.put("연결", 758);
-    freq.put("소니 ", 75);
-    freq.put(" 단일", 156);
-    freq.put(" 평화", 277);
-    freq.put(" 하계", 203);
-    freq.put("토양", 96);
-    freq.put("장인물", 96);
-    freq.put("시킬 ", 95);
-    freq.put(" 자랑", 66);
-    freq.put("동시", 546);
-    freq.put("픽에 ", 123);
-    freq.put("스이", 308);
-    freq.put("제공", 1150);
-    freq.put("제인 ", 105);
-    freq.put("획에", 68);
-    freq.put("스의", 2139);
-    freq.put("도로이", 159);
-    freq.put("로운 ", 749);
-    freq.put("합리적", 59);
-    freq.put("학대", 110);
-    freq.put("거리 ", 240);
-    freq.put(" 하거", 107);
-    freq.put("임시정", 57);
-    freq.put("스위", 294);
-    freq.put("쓰는 ", 227);
-    freq.put(" 투어", 114);
-    freq.put(" 현에", 71);
-    freq.put(" 본질", 83);
-    freq.put("고유 ", 58);
-    freq.put("전혀 ", 90);
-    freq.put("백악", 117);
-    freq.put(" 이 ", 6364);
-    freq.put("잔티움", 169);
-    freq.put(" 매장", 60);
-    freq.put("단되었", 80);
-    freq.put(" 홀로", 66);
-    freq.put("샤를 ", 93);
-    freq.put("동서", 126);
-    freq.put("번지", 621);
-    freq.put("교리", 113);
-    freq.put("번째", 2258);
-    freq.put("크 ", 3097);
-    freq.put("편을 ", 77);
-    freq.put("토요", 82);
-    freq.put("동성", 165);
-    freq.put("교를", 330);
-    freq.put("해주는", 74);
-    freq.put("산업 ", 379);
-    freq.put("오페라", 314);
-    freq.put("님 ", 88);
-    freq.put("중기의", 177);
-    freq.put(" 히데", 85);
-    freq.put("클라", 364);
-    freq.put("령에 ", 106);
-    freq.put("수도이", 101);
-    freq.put("세라", 64);
-    freq.put("산당 ", 105);
-    freq.put("수도인", 69);
-    freq.put("야기 ", 98);
-    freq.put("타인의", 82);
-    freq.put("록에 ", 92);
-    freq.put("문으로", 196);
-    freq.put(" 이와", 206);
-    freq.put("三倉三", 63);
-    freq.put("윈", 893);
-    freq.put("획이", 86);
-    freq.put("보훈", 113);
-    freq.put("라질 ", 121);
-    freq.put("획을", 70);
-    freq.put("기니 ", 77);
-    freq.put("터베", 257);
-    freq.put("여성 ", 225);
-    freq.put("스에", 917);
-    freq.put(" 매우", 478);
-    freq.put("三人 ", 61);
-    freq.put(" 캘리", 251);
-    freq.put("과에 ", 283);
-    freq.put("식문화", 60);
-    freq.put(" 가리", 1469);
-    freq.put("셜", 299);
-    freq.put("제기", 237);
-    freq.put(" 丹 ", 77);
-    freq.put("싱", 1106);
-    freq.put(" 현의", 154);
-    freq.put("파하", 69);
-    freq.put("타지", 184);
-    freq.put(" 현재", 2800);
-    freq.put("스앤", 101);
-    freq.put("이른다", 109);
-    freq.put("스박스", 60);
-    freq.put("예의", 63);
-    freq.put("커 ", 224);
-    freq.put("제에서", 125);
-    freq.put("동생", 282);
-    freq.put("남도 ", 1094);
-    freq.put(" 하기", 275);
-    freq.put("亀 ", 88);
-    freq.put("황금", 99);
-    freq.put("교로", 205);
-    freq.put("트리 ", 144);
-    freq.put("²", 131);
-    freq.put("토의", 195);
-    freq.put(" 본적", 119);
-    freq.put("려는 ", 293);
-    freq.put("기한", 151);
-    freq.put("연금", 63);
-    freq.put("안군 ", 67);
-    freq.put("연기", 258);
-    freq.put("동사", 97);
-    freq.put("보호", 994);
-    freq.put(" 스스", 212);
-    freq.put("무관 ", 85);
-    freq.put("동산", 156);
-    freq.put(" 되는", 598);
-    freq.put(" 준 ", 71);
-    freq.put("동은", 199);
-    freq.put("동을", 1013);
-    freq.put("율이", 70);
-    freq.put("동의", 526);
-    freq.put("원회의", 88);
-    freq.put("타나는", 152);
-    freq.put("강에", 164);
-    freq.put(" 위대", 99);
-    freq.put("동인", 172);
-    freq.put("동일", 302);
-    freq.put("타카", 106);
-    freq.put("동이", 750);
-    freq.put("율을", 155);
-    freq.put("발굴 ", 71);
-    freq.put("이전까", 77);
-    freq.put("스스", 259);
-    freq.put("동위", 88);
-    freq.put("미술관", 126);
-    freq.put("아카", 282);
-    freq.put("문서를", 72);
-    freq.put("터미", 267);
-    freq.put("보통", 876);
-    freq.put("사카 ", 146);
-    freq.put("동으", 429);
-    freq.put("자기", 738);
-    freq.put("세네", 84);
-    freq.put("파트", 241);
-    freq.put(" 乙之", 125);
-    freq.put("남", 10366);
-    freq.put(" 乙乙", 65);
-    freq.put("자금", 194);
-    freq.put(" 乙並", 99);
-    freq.put("파티", 108);
-    freq.put("동작", 235);
-    freq.put("동자", 198);
-    freq.put("자유롭", 67);
-    freq.put("트라 ", 199);
-    freq.put(" 乙三", 188);
-    freq.put("리눅스", 103);
-    freq.put("대신을", 63);
-    freq.put(" 乙丁", 159);
-    freq.put("피로", 70);
-    freq.put("설명", 378);
-    freq.put("동장", 81);
-    freq.put(" 현상", 583);
-    freq.put("자유로", 59);
-    freq.put(" 乙丘", 109);
-    freq.put("쪽에서", 93);
-    freq.put("량에 ", 62);
-    freq.put("아제르", 103);
-    freq.put("사건에", 107);
-    freq.put("론이다", 163);
-    freq.put("킨다", 751);
-    freq.put(" 매사", 94);
-    freq.put("슈팅 ", 70);
-    freq.put("타케", 96);
-    freq.put("댄스", 109);
-    freq.put("동영", 106);
-    freq.put(" 달러", 131);
-    freq.put(" 咀", 127);
-    freq.put("丫 ", 62);
-    freq.put("별자리", 112);
-    freq.put("위대한", 96);
-    freq.put("国", 85);
-    freq.put("으로도", 374);
-    freq.put("리그이", 116);
-    freq.put("값 ", 73);
-    freq.put("동원", 102);
-    freq.put("뮤", 598);
-    freq.put("리그의", 168);
-    freq.put("베 ", 197);
-    freq.put(" 볼 ", 404);
-    freq.put("자유를", 60);
-    freq.put("산되었", 75);
-    freq.put(" 달라", 106);
-    freq.put("합과 ", 58);
-    freq.put("메이크", 70);
-    freq.put("이징 ", 127);
-    freq.put("잡고 ", 153);
-    freq.put("一", 284);
-    freq.put("동아", 323);
-    freq.put("소수 ", 73);
-    freq.put("자격", 236);
-    freq.put(" 그루", 89);
-    freq.put(" 딸 ", 100);
-    freq.put(" 亞之", 103);
-    freq.put("출하는", 157);
-    freq.put("터리", 174);
-    freq.put("여야 ", 87);
-    freq.put("토스", 227);
-    freq.put("파크", 221);
-    freq.put(" 스위", 277);
-    freq.put("자고", 60);
-    freq.put(" 영문", 107);
-    freq.put(" 亞並", 142);
-    freq.put("보편", 89);
-    freq.put(" 건의", 89);
-    freq.put(" 亞三", 197);
-    freq.put("교부", 78);
-    freq.put("亞 ", 1949);
-    freq.put("널을 ", 66);
-    freq.put("파키", 163);
-    freq.put("강이", 240);
-    freq.put("로부터", 1174);
-    freq.put(" 그로", 78);
-    freq.put(" 영미", 82);
-    freq.put("동에", 723);
-    freq.put("옛", 409);
-    freq.put(" 흑해", 77);
-    freq.put("강의", 343);
-    freq.put("세대", 442);
-    freq.put("자가", 1369);
-    freq.put("살", 2436);
-    freq.put("자간", 58);
-    freq.put("로마 ", 867);
-    freq.put("강을", 182);
-    freq.put("강은", 66);
-    freq.put("강으", 96);
-    freq.put(" 그레", 286);
-    freq.put(" 현실", 117);
-    freq.put(" 그렇", 75);
-    freq.put("동양", 321);
-    freq.put("남부", 952);
-    freq.put("탐사", 115);
-    freq.put("남북", 337);
-    freq.put("터를", 399);
-    freq.put(" 그려", 163);
-    freq.put("논란", 123);
-    freq.put("온다 ", 69);
-    freq.put(" 亞亂", 72);
-    freq.put("倉三三", 66);
-    freq.put("복지 ", 67);
-    freq.put("발전시", 125);
-    freq.put("양항", 61);
-    freq.put("리그에", 124);
-    freq.put("양학", 62);
-    freq.put("양하", 218);
-    freq.put("강원", 385);
-    freq.put("세는", 97);
-    freq.put("자극", 108);
-    freq.put("자유민", 74);
-    freq.put("스속", 105);
-    freq.put("교법", 60);
-    freq.put("채택되", 89);
-    freq.put("휘 ", 79);
-    freq.put("라라", 69);
-    freq.put(" 그림", 284);
-    freq.put(" 그린", 258);
-    freq.put(" 뜻하", 527);
-    freq.put("세계에", 387);
-    freq.put(" 뜻한", 499);
-    freq.put("근처에", 117);
-    freq.put("첩 ", 70);
-    freq.put(" 스웨", 362);
-    freq.put(" 그를", 80);
-    freq.put("자군", 113);
-    freq.put("시청 ", 67);
-    freq.put("터로", 173);
-    freq.put("도마뱀", 70);
-    freq.put("화국 ", 933);
-    freq.put("설립", 4441);
-    freq.put("자국", 131);
-    freq.put(" 평택", 82);
-    freq.put("사령관", 124);
-    freq.put("현", 10322);
-    freq.put("르비아", 166);
-    freq.put("변화", 514);
-    freq.put("음의 ", 177);
-    freq.put("변환", 239);
-    freq.put("송", 3868);
-    freq.put(" 기원", 1309);
-    freq.put("출연", 224);
-    freq.put("뮤지", 139);
-    freq.put("뮤직", 175);
-    freq.put("и", 464);
-    freq.put("왕복", 96);
-    freq.put("세균", 108);
-    freq.put("디아 ", 131);
-    freq.put("랑 ", 252);
-    freq.put("깔", 123);
-    freq.put("변형", 136);
-    freq.put("문화사", 76);
-    freq.put("표면", 243);
-    freq.put(" 다룬", 160);
-    freq.put(" 다루", 441);
-    freq.put("고등학", 392);
-    freq.put("원인이", 59);
-    freq.put("년에 ", 3322);
-    freq.put("변호", 218);
-    freq.put("정한 ", 1015);
-    freq.put(" 헌법", 409);
-    freq.put("상용", 93);
-    freq.put("겨", 1106);
-    freq.put("주군 ", 164);
-    freq.put(" 밝혀", 97);
-    freq.put("방송공", 57);
-    freq.put("화로 ", 269);
-    freq.put("양쪽", 63);
-    freq.put("상원", 88);
-    freq.put("커뮤니", 173);
-    freq.put(" 명문", 58);
-    freq.put("녀는 ", 98);
-    freq.put("달", 3219);
-    freq.put("홈 ", 112);
-    freq.put("경에서", 129);
-    freq.put("론 ", 1033);
-    freq.put("상위", 159);
-    freq.put("버스를", 60);
-    freq.put("아르 ", 58);
-    freq.put("대전광", 266);
-    freq.put(" 위기", 77);
-    freq.put("방송국", 244);
-    freq.put("투스", 187);
-    freq.put(" 다리", 217);
-    freq.put("종의 ", 525);
-    freq.put("있어", 778);
-    freq.put("佇 ", 72);
-    freq.put(" 밝히", 70);
-    freq.put("상으", 822);
-    freq.put("토니아", 73);
-    freq.put("녀", 836);
-    freq.put(" 다만", 62);
-    freq.put("상을", 1272);
-    freq.put("드의 ", 963);
-    freq.put("론의 ", 239);
-    freq.put("제되", 75);
-    freq.put("있었", 1211);
-    freq.put(" 기장", 60);
-    freq.put("상의", 1384);
-    freq.put(" 기재", 70);
-    freq.put(" 기자", 613);
-    freq.put(" 명명", 148);
-    freq.put("자동", 1079);
-    freq.put("세계", 3906);
-    freq.put("울의", 68);
-    freq.put("딸이다", 74);
-    freq.put("상이", 873);
-    freq.put(" 하드", 309);
-    freq.put("상인", 149);
-    freq.put("기념일", 61);
-    freq.put(" 공부", 118);
-    freq.put("람들의", 90);
-    freq.put("상임", 117);
-    freq.put("한국 ", 743);
-    freq.put("렀다 ", 170);
-    freq.put("상자", 197);
-    freq.put("목 ", 781);
-    freq.put("상장", 64);
-    freq.put("세가", 270);
-    freq.put(" 캐논", 60);
-    freq.put("제들", 91);
-    freq.put(" 협력", 288);
-    freq.put("언", 4279);
-    freq.put(" 때문", 1317);
-    freq.put("연구를", 213);
-    freq.put(" 신비", 72);
-    freq.put("연되", 60);
-    freq.put("홍콩", 229);
-    freq.put("퍼스", 194);
-    freq.put("간을 ", 392);
-    freq.put("정과 ", 186);
-    freq.put(" 다른", 2061);
-    freq.put(" 다르", 415);
-    freq.put(" 신분", 107);
-    freq.put("저장 ", 80);
-    freq.put("림 ", 455);
-    freq.put("힙", 246);
-    freq.put("기체", 184);
-    freq.put("제라", 64);
-    freq.put(" 세 ", 1630);
-    freq.put("타크", 164);
-    freq.put("드리", 485);
-    freq.put("래를 ", 142);
-    freq.put("드어 ", 66);
-    freq.put("출자", 57);
-    freq.put("같은", 1786);
-    freq.put("표로", 306);
-    freq.put("출입", 201);
-    freq.put("청은 ", 173);
-    freq.put("련되", 65);
-    freq.put("련된", 461);
-    freq.put(" 본토", 83);
-    freq.put("출장", 65);
-    freq.put("같이", 515);
-    freq.put("타타", 84);
-    freq.put("렇", 142);
-    freq.put("전에서", 232);
-    freq.put("양주", 113);
-    freq.put("출을", 84);
-    freq.put("출하기", 61);
-    freq.put("호와 ", 151);
-    freq.put("출이", 71);
-    freq.put("민이 ", 110);
-    freq.put("외의 ", 195);
-    freq.put("я", 64);
-    freq.put("아케", 128);
-    freq.put(" 때로", 79);
-    freq.put("세에", 183);
-    freq.put(" 乙倉", 62);
-    freq.put("드르", 92);
-    freq.put(" 김영", 81);
-    freq.put("드를", 373);
-    freq.put("점이 ", 245);
-    freq.put("보", 17044);
-    freq.put("왕비", 137);
-    freq.put("국어", 699);
-    freq.put(" 전시", 258);
-    freq.put("앤젤", 102);
-    freq.put("변하", 108);
-    freq.put(" 세네", 79);
-    freq.put(" 기여", 1107);
-    freq.put("번이다", 102);
-    freq.put("보컬", 139);
-    freq.put("컴퓨", 1719);
-    freq.put("맥 ", 265);
-    freq.put(" 기억", 140);
-    freq.put("공중", 115);
-    freq.put("묘 ", 112);
-    freq.put("국세", 95);
-    freq.put("생 ", 830);
-    freq.put("통의 ", 259);
-    freq.put("드루", 67);
-    freq.put("암 ", 229);
-    freq.put("듯이 ", 69);
-    freq.put("규정하", 103);
-    freq.put("인도양", 80);
-    freq.put("반면 ", 75);
-    freq.put("기초", 552);
-    freq.put("드레", 194);
-    freq.put("있으", 3281);
-    freq.put("양지", 59);
-    freq.put("상어", 65);
-    freq.put(" 기아", 103);
-    freq.put("핵심 ", 64);
-    freq.put("디부", 57);
-    freq.put("상업", 234);
-    freq.put("드로", 556);
-    freq.put("상에", 642);
-    freq.put(" 명령", 322);
-    freq.put("있음", 88);
-    freq.put("인도에", 68);
-    freq.put("기호 ", 76);
-    freq.put("있을", 258);
-    freq.put("지가 ", 477);
-    freq.put("나나", 64);
-    freq.put("작권", 131);
-    freq.put("어도", 167);
-    freq.put("자녀", 65);
-    freq.put("예술의", 117);
-    freq.put("울에", 84);
-    freq.put("문대", 131);
-    freq.put("인천 ", 74);
-    freq.put("투입", 66);
-    freq.put("더욱 ", 87);
-    freq.put("명이며", 67);
-    freq.put("린이 ", 101);
-    freq.put("투자", 326);
-    freq.put("상수", 192);
-    freq.put("제였다", 63);
-    freq.put(" 공룡", 99);
-    freq.put("마가 ", 85);
-    freq.put("보증", 59);
-    freq.put("투쟁", 105);
-    freq.put("메이지", 127);
-    freq.put("치시 ", 58);
-    freq.put(" 승격", 131);
-    freq.put("이맥", 82);
-    freq.put("제네", 71);
-    freq.put("터의 ", 386);
-    freq.put("호세 ", 58);
-    freq.put("과학에", 60);
-    freq.put("나", 29545);
-    freq.put(" 공로", 79);
-    freq.put("주최하", 113);
-    freq.put("상스", 90);
-    freq.put("되기도", 259);
-    freq.put("상승", 79);
-    freq.put(" 신문", 265);
-    freq.put("제후", 83);
-    freq.put("상북도", 406);
-    freq.put("테 ", 299);
-    freq.put("읍", 818);
-    freq.put("배우", 453);
-    freq.put("컴파", 63);
-    freq.put(" 기술", 1634);
-    freq.put("점과", 85);
-    freq.put("상식", 83);
-    freq.put("상시", 144);
-    freq.put(" 투쟁", 64);
-    freq.put("투이", 162);
-    freq.put("현한 ", 91);
-    freq.put("울시", 173);
-    freq.put("담은 ", 79);
-    freq.put("학기", 729);
-    freq.put("경쟁 ", 61);
-    freq.put("출생", 339);
-    freq.put("화학 ", 222);
-    freq.put("융기관", 72);
-    freq.put("돌아", 199);
-    freq.put("자랑", 69);
-    freq.put("문화에", 102);
-    freq.put("빠른 ", 100);
-    freq.put("병대", 98);
-    freq.put("자란", 69);
-    freq.put(" 하나", 3925);
-    freq.put("재지이", 107);
-    freq.put(" 공립", 83);
-    freq.put("미니 ", 62);
-    freq.put("치가로", 67);
-    freq.put(" 으로", 1449);
-    freq.put("교", 18288);
-    freq.put("보좌", 71);
-    freq.put("결정되", 69);
-    freq.put("별히 ", 78);
-    freq.put("박테리", 63);
-    freq.put("인들에", 65);
-    freq.put("샹", 63);
-    freq.put("투기 ", 72);
-    freq.put("장한다", 129);
-    freq.put("기구이", 161);
-    freq.put("랫동", 75);
-    freq.put("메이저", 161);
-    freq.put("С", 60);
-    freq.put("번호", 560);
-    freq.put("보존", 422);
-    freq.put("끼리 ", 67);
-    freq.put("보조", 194);
-    freq.put("접하며", 306);
-    freq.put("독립 ", 282);
-    freq.put("亞", 4771);
-    freq.put("유지 ", 127);
-    freq.put("디미", 126);
-    freq.put("목소리", 65);
-    freq.put("보정", 59);
-    freq.put("자라", 247);
-    freq.put(" 에우", 58);
-    freq.put("소유하", 90);
-    freq.put("보전", 215);
-    freq.put(" 찾아", 157);
-    freq.put("일곱 ", 76);
-    freq.put("완성", 213);
-    freq.put("책을 ", 239);
-    freq.put("학계", 119);
-    freq.put("연도", 64);
-    freq.put("기종", 131);
-    freq.put("펙", 119);
-    freq.put("과학의", 105);
-    freq.put("표준 ", 235);
-    freq.put("지와 ", 314);
-    freq.put("션 ", 1251);
-    freq.put("무실은", 1845);
-    freq.put(" 기생", 98);
-    freq.put(" 기상", 201);
-    freq.put("가포르", 89);
-    freq.put("학과", 608);
-    freq.put("디렉", 63);
-    freq.put("시이다", 491);
-    freq.put("재를 ", 220);
-    freq.put(" 투입", 65);
-    freq.put("쫓", 57);
-    freq.put("큼 ", 96);
-    freq.put("동", 26013);
-    freq.put("유성구", 90);
-    freq.put(" 기사", 214);
-    freq.put("·사", 104);
-    freq.put("인조 ", 92);
-    freq.put(" 열도", 76);
-    freq.put("세종특", 81);
-    freq.put("亞並三", 64);
-    freq.put("기점", 130);
-    freq.put("외교 ", 73);
-    freq.put("제도", 1306);
-    freq.put("기적", 272);
-    freq.put("기전", 79);
-    freq.put("울산", 345);
-    freq.put("팬 ", 60);
-    freq.put("문화와", 78);
-    freq.put(" 열대", 176);
-    freq.put("투아", 129);
-    freq.put("양체", 81);
-    freq.put(" 투자", 238);
-    freq.put("연대", 266);
-    freq.put(" 아테", 125);
-    freq.put("과학자", 114);
-    freq.put("빛", 405);
-    freq.put("기존", 438);
-    freq.put("길을 ", 64);
-    freq.put("양천", 58);
-    freq.put(" 헤이", 198);
-    freq.put("문화예", 200);
-    freq.put("포스 ", 94);
-    freq.put("亀", 254);
-    freq.put("정규 ", 302);
-    freq.put("돌이", 75);
-    freq.put("리스티", 104);
-    freq.put("요가 ", 84);
-    freq.put("랫", 313);
-    freq.put(" 커뮤", 155);
-    freq.put("공연 ", 73);
-    freq.put("드벤", 58);
-    freq.put(" 신뢰", 95);
-    freq.put("출신", 1014);
-    freq.put(" 하느", 107);
-    freq.put(" 하는", 2411);
-    freq.put(" 하다", 597);
-    freq.put("기지", 219);
-    freq.put("리스트", 199);
-    freq.put("노동 ", 64);
-    freq.put("이론", 1040);
-    freq.put(" 기소", 61);
-    freq.put("상속", 91);
-    freq.put("제작된", 176);
-    freq.put("명칭이", 208);
-    freq.put("기준", 2706);
-    freq.put("과학원", 110);
-    freq.put("학교", 2885);
-    freq.put("있어서", 333);
-    freq.put("명칭을", 111);
-    freq.put("명칭은", 335);
-    freq.put("주간", 164);
-    freq.put("문화의", 338);
-    freq.put("야에서", 263);
-    freq.put("렵", 166);
-    freq.put("제단", 60);
-    freq.put("제는", 261);
-    freq.put("추진 ", 78);
-    freq.put("정하고", 231);
-    freq.put(" 공무", 329);
-    freq.put("학관", 65);
-    freq.put(" 멀리", 60);
-    freq.put("산은 ", 120);
-    freq.put("문화유", 176);
-    freq.put("명칭으", 130);
-    freq.put("인들을", 66);
-    freq.put("인들은", 69);
-    freq.put(" 변수", 131);
-    freq.put("인들의", 133);
-    freq.put(" 스테", 207);
-    freq.put("생한다", 87);
-    freq.put("되지만", 116);
-    freq.put(" 영국", 2073);
-    freq.put("보에", 135);
-    freq.put(" 때는", 150);
-    freq.put(" 하부", 75);
-    freq.put("보여", 239);
-    freq.put("丈 ", 353);
-    freq.put("기원", 1347);
-    freq.put("리오 ", 289);
-    freq.put("비", 15033);
-    freq.put("작용을", 104);
-    freq.put("연대 ", 75);
-    freq.put("피고", 92);
-    freq.put(" 이기", 80);
-    freq.put("노벨 ", 164);
-    freq.put("파와", 71);
-    freq.put("양수", 197);
-    freq.put("인근에", 94);
-    freq.put("효율적", 195);
-    freq.put("품안전", 65);
-    freq.put("시한 ", 262);
-    freq.put("표는", 100);
-    freq.put("보안", 263);
-    freq.put("보아", 63);
-    freq.put("시대에", 456);
-    freq.put("파울", 88);
-    freq.put(" 만나", 155);
-    freq.put("부 ", 7536);
-    freq.put("오와 ", 60);
-    freq.put("양식", 325);
-    freq.put("양시", 233);
-    freq.put("편하여", 83);
-    freq.put(" 친일", 132);
-    freq.put("를린", 149);
-    freq.put("기와", 342);
-    freq.put("제부", 107);
-    freq.put("파소 ", 63);
-    freq.put("파워", 96);
-    freq.put(" 스톡", 57);
-    freq.put(" 스토", 195);
-    freq.put("문화적", 145);
-    freq.put("체코 ", 66);
-    freq.put(" 젊은", 107);
-    freq.put(" 신라", 319);
-    freq.put("드는", 706);
-    freq.put(" 명단", 126);
-    freq.put("주선", 105);
-    freq.put("사업자", 63);
-    freq.put("대 ", 7820);
-    freq.put(" 스크", 137);
-    freq.put("를로", 97);
-    freq.put("도바 ", 94);
-    freq.put(" 하버", 79);
-    freq.put(" 질량", 159);
-    freq.put("기장", 468);
-    freq.put("기재", 80);
-    freq.put(" 만년", 216);
-    freq.put("과학적", 147);
-    freq.put("다수의", 139);
-    freq.put("제반", 61);
-    freq.put("진이다", 61);
-    freq.put("파이", 647);
-    freq.put("가에 ", 200);
-    freq.put("파일", 554);
-    freq.put("파인", 105);
-    freq.put("국고", 62);
-    freq.put("콤", 255);
-    freq.put(" 공항", 153);
-    freq.put("파의", 210);
-    freq.put("파장", 76);
-    freq.put("자문", 126);
-    freq.put("향 ", 296);
-    freq.put("기관으", 991);
-    freq.put("즘의", 66);
-    freq.put("토해", 114);
-    freq.put(" 스탠", 103);
-    freq.put("엔진", 374);
-    freq.put("사업으", 67);
-    freq.put("즘이", 67);
-    freq.put("제법", 87);
-    freq.put("사업을", 303);
-    freq.put("기관이", 951);
-    freq.put("기의", 1771);
-    freq.put("용어 ", 87);
-    freq.put("동가이", 124);
-    freq.put("사업의", 104);
-    freq.put("제외한", 225);
-    freq.put("박 ", 148);
-    freq.put("송된 ", 57);
-    freq.put("제외하", 103);
-    freq.put("시상식", 63);
-    freq.put("면서 ", 1800);
-    freq.put("토프", 60);
-    freq.put(" 평원", 63);
-    freq.put("기인", 192);
-    freq.put("기관의", 141);
-    freq.put("사업이", 73);
-    freq.put("딸로", 82);
-    freq.put("기관을", 79);
-    freq.put("그", 19235);
-    freq.put("연방", 786);
-    freq.put("업으로", 181);
-    freq.put("빌헬", 89);
-    freq.put(" 亂並", 156);
-    freq.put("페이 ", 59);
-    freq.put("국령 ", 69);
-    freq.put("이룬", 139);
-    freq.put(" 스파", 150);
-    freq.put(" 다니", 91);
-    freq.put(" 그것", 304);
-    freq.put(" 협동", 102);
-    freq.put("틀랜드", 245);
-    freq.put("보자", 82);
-    freq.put("빠르", 149);
-    freq.put("보잉", 66);
-    freq.put("빠른", 101);
-    freq.put("주장하", 234);
-    freq.put(" 다다", 76);
-    freq.put("주장한", 106);
-    freq.put("설가", 221);
-    freq.put(" 평안", 87);
-    freq.put("보장", 241);
-    freq.put("자료", 546);
-    freq.put("인된 ", 59);
-    freq.put("제어 ", 96);
-    freq.put("보의", 154);
-    freq.put("설과", 91);
-    freq.put("보고 ", 146);
-    freq.put("실내", 104);
-    freq.put("인과 ", 273);
-    freq.put("석과 ", 60);
-    freq.put(" 스포", 456);
-    freq.put("보인", 174);
-    freq.put(" 평양", 179);
-    freq.put("보이", 571);
-    freq.put("되면서", 411);
-    freq.put("상청", 115);
-    freq.put("양상", 57);
-    freq.put("델이다", 57);
-    freq.put(" 남양", 79);
-    freq.put("양산", 105);
-    freq.put(" 그가", 158);
-    freq.put("압", 954);
-    freq.put(" 스펙", 67);
-    freq.put(" 스페", 757);
-    freq.put("데미 ", 77);
-    freq.put("양사", 193);
-    freq.put("자로", 1208);
-    freq.put("리대신", 59);
-    freq.put("보유", 232);
-    freq.put("주민들", 79);
-    freq.put("대부", 1072);
-    freq.put("보원", 72);
-    freq.put("대용 ", 70);
-    freq.put("자리", 1002);
-    freq.put("지정된", 110);
-    freq.put("화이트", 83);
-    freq.put("지정되", 305);
-    freq.put("기어", 60);
-    freq.put("기억", 172);
-    freq.put("수도회", 61);
-    freq.put("이의 ", 892);
-    freq.put("양성", 389);
-    freq.put("기에", 2090);
-    freq.put("단위이", 64);
-    freq.put("퍼져", 67);
-    freq.put("사업에", 67);
-    freq.put("자매", 75);
-    freq.put("기업", 1321);
-    freq.put("템", 1444);
-    freq.put("파악", 100);
-    freq.put(" 亂丘", 69);
-    freq.put("틱", 267);
-    freq.put(" 명나", 109);
-    freq.put("치적 ", 191);
-    freq.put("기여", 1114);
-    freq.put("원들", 183);
-    freq.put("협동조", 95);
-    freq.put("터가", 166);
-    freq.put(" 이야", 437);
-    freq.put("보와", 133);
-    freq.put("메라 ", 83);
-    freq.put("탐험", 74);
-    freq.put("스핀", 66);
-    freq.put("스하", 127);
-    freq.put(" 스티", 145);
-    freq.put("자르", 81);
-    freq.put("기압", 128);
-    freq.put("홉", 95);
-    freq.put("자를", 1003);
-    freq.put("스피", 342);
-    freq.put(" 스튜", 250);
-    freq.put("기아", 138);
-    freq.put("급하는", 96);
-    freq.put("스플", 201);
-    freq.put("스프", 195);
-    freq.put("파에", 127);
-    freq.put(" 스트", 337);
-    freq.put(" 기초", 518);
-    freq.put(" 가면", 65);
-    freq.put("드래", 93);
-    freq.put(" 스핀", 57);
-    freq.put("네덜란", 393);
-    freq.put("스틴", 60);
-    freq.put("스티", 592);
-    freq.put("스틱", 113);
-    freq.put("제르", 165);
-    freq.put("제를", 766);
-    freq.put("연맹", 487);
-  }
-  private static void init5() {
-    
-    freq.put("기스", 70);
-    freq.put("났으", 129);
-    freq.put("파수", 93);
-    freq.put("기슭", 65);
-    freq.put("문화체", 1127);
-    freq.put("나라", 1940);
-    freq.put(" 신도", 90);
-    freq.put(" 스프", 81);
-    freq.put("기시", 64);
-    freq.put("스트", 3813);
-    freq.put("들에 ", 340);
-    freq.put("향력을", 65);
-    freq.put("트랜스", 130);
-    freq.put("스튜", 256);
-    freq.put(" 스피", 206);
-    freq.put(" 일 ", 16662);
-    freq.put("드러", 189);
-    freq.put("파스", 130);
-    freq.put("기수", 80);
-    freq.put("토크", 67);
-    freq.put("입하는", 64);
-    freq.put("강한", 188);
-    freq.put("강하", 127);
-    freq.put(" 흑인", 105);
-    freq.put("기술", 2933);
-    freq.put("홍수", 94);
-    freq.put("스투", 75);
-    freq.put("메이션", 621);
-    freq.put("시스템", 1332);
-    freq.put(" 만드", 275);
-    freq.put("확대 ", 72);
-    freq.put(" 만들", 1714);
-    freq.put(" 만든", 918);
-    freq.put("드라", 851);
-    freq.put("보성", 57);
-    freq.put(" 하류", 58);
-    freq.put("당시에", 146);
-    freq.put("파시", 83);
-    freq.put("번째로", 469);
-    freq.put("시장에", 144);
-    freq.put("스포", 707);
-    freq.put("양이", 303);
-    freq.put("끌고", 66);
-    freq.put("제로", 721);
-    freq.put(" 측정", 234);
-    freq.put("리크 ", 66);
-    freq.put("동화", 155);
-    freq.put("스폰", 57);
-    freq.put(" 존 ", 356);
-    freq.put(" 밴드", 336);
-    freq.put("양의", 505);
-    freq.put("니가 ", 122);
-    freq.put("양을", 259);
-    freq.put("제국에", 76);
-    freq.put("픈 ", 178);
-    freq.put(" 丁 ", 138);
-    freq.put(" 이어", 589);
-    freq.put("양으", 132);
-    freq.put("있지", 448);
-    freq.put("마이다", 107);
-    freq.put("전송 ", 81);
-    freq.put("보살", 73);
-    freq.put("뮤니케", 86);
-    freq.put(" 육군", 269);
-    freq.put("스페", 888);
-    freq.put("스펙", 70);
-    freq.put(" 열렸", 185);
-    freq.put(" 뜻의", 103);
-    freq.put("채권", 223);
-    freq.put("스퍼", 73);
-    freq.put("처의 ", 89);
-    freq.put(" 뜻을", 185);
-    freq.put("기상청", 109);
-    freq.put("옮겨", 85);
-    freq.put(" 뜻이", 249);
-    freq.put("오래된", 193);
-    freq.put("출전", 170);
-    freq.put("활을 ", 172);
-    freq.put("군사 ", 206);
-    freq.put("양재", 76);
-    freq.put("에스토", 68);
-    freq.put("양자", 317);
-    freq.put("스파", 404);
-    freq.put("연령", 60);
-    freq.put(" 뜻으", 193);
-    freq.put("리즘 ", 90);
-    freq.put("안 ", 2071);
-    freq.put("상적", 276);
-    freq.put("표된", 100);
-    freq.put("찌", 102);
-    freq.put("표되", 128);
-    freq.put("바의 ", 87);
-    freq.put(" 하얀", 72);
-    freq.put("자베", 74);
-    freq.put("병력", 63);
-    freq.put("동한", 158);
-    freq.put("처드 ", 102);
-    freq.put("스탈", 89);
-    freq.put("스탄", 838);
-    freq.put("스타", 1367);
-    freq.put("붙여진", 80);
-    freq.put("동해", 218);
-    freq.put("기사", 297);
-    freq.put("형이 ", 118);
-    freq.put("국가대", 143);
-    freq.put("따로 ", 85);
-    freq.put("스키", 554);
-    freq.put("기생", 113);
-    freq.put("기상", 277);
-    freq.put("교는 ", 208);
-    freq.put("곡가", 419);
-    freq.put(" 벨기", 181);
-    freq.put("유대교", 67);
-    freq.put(" 기종", 88);
-    freq.put("전광역", 266);
-    freq.put("말을 ", 157);
-    freq.put("엽", 300);
-    freq.put("당시의", 130);
-    freq.put("스크", 1207);
-    freq.put(" 기존", 437);
-    freq.put("릭교", 272);
-    freq.put("받아 ", 360);
-    freq.put("교구", 291);
-    freq.put("디난", 62);
-    freq.put("통신망", 69);
-    freq.put("자바", 152);
-    freq.put("노래이", 97);
-    freq.put("자발", 97);
-    freq.put("럼비", 69);
-    freq.put("킴", 109);
-    freq.put("동했", 140);
-    freq.put("시이며", 121);
-    freq.put("울주", 88);
-    freq.put("위의 ", 333);
-    freq.put("것 ", 343);
-    freq.put("교관", 186);
-    freq.put("三 ", 5345);
-    freq.put("대신하", 67);
-    freq.put("상주", 112);
-    freq.put(" 병원", 123);
-    freq.put("보시", 70);
-    freq.put("교과", 83);
-    freq.put(" 티베", 152);
-    freq.put("뿐만 ", 208);
-    freq.put("기소", 84);
-    freq.put(" 공동", 773);
-    freq.put("술에 ", 87);
-    freq.put("스톤", 109);
-    freq.put("스토", 637);
-    freq.put("스톡", 64);
-    freq.put("국으", 324);
-    freq.put("득", 672);
-    freq.put("한", 70049);
-    freq.put("자군 ", 57);
-    freq.put("에스파", 105);
-    freq.put("보스", 329);
-    freq.put("맡고", 199);
-    freq.put("리히 ", 247);
-    freq.put("기서", 167);
-    freq.put("시장을", 66);
-    freq.put("유명해", 61);
-    freq.put("제국이", 104);
-    freq.put("양에", 292);
-    freq.put("스테", 623);
-    freq.put("시장이", 77);
-    freq.put("강화", 343);
-    freq.put("파소", 76);
-    freq.put("제국을", 60);
-    freq.put("유명한", 333);
-    freq.put("스템", 1334);
-    freq.put("유명하", 406);
-    freq.put("붙여졌", 67);
-    freq.put(" 뒤에", 143);
-    freq.put("사를 ", 1011);
-    freq.put("보수", 235);
-    freq.put("까운 ", 156);
-    freq.put("상징", 246);
-    freq.put("스턴", 325);
-    freq.put(" 하며", 678);
-    freq.put("스터", 863);
-    freq.put(" 하면", 179);
-    freq.put(" 평생", 57);
-    freq.put("에스페", 64);
-    freq.put("울지", 66);
-    freq.put("얻은 ", 80);
-    freq.put("런", 983);
-    freq.put("교가", 179);
-    freq.put(" 기준", 2663);
-    freq.put("제목", 268);
-    freq.put("개념", 759);
-    freq.put("지정", 864);
-    freq.put("러드", 105);
-    freq.put(" 우크", 191);
-    freq.put("국의", 7823);
-    freq.put("긴", 797);
-    freq.put("헝가", 249);
-    freq.put(" 무용", 112);
-    freq.put("분된다", 62);
-    freq.put("트페테", 64);
-    freq.put("중랑", 61);
-    freq.put("증진에", 72);
-    freq.put(" 並 ", 184);
-    freq.put("관장하", 182);
-    freq.put("북도 ", 876);
-    freq.put("건은 ", 246);
-    freq.put("푸", 1058);
-    freq.put("언덕", 81);
-    freq.put("교류를", 138);
-    freq.put("촉", 534);
-    freq.put("정해", 250);
-    freq.put("논리적", 58);
-    freq.put("방송", 1655);
-    freq.put("정할", 108);
-    freq.put("정한", 1132);
-    freq.put("정하", 1154);
-    freq.put("생활을", 151);
-    freq.put("국이", 927);
-    freq.put("군과", 252);
-    freq.put("누어", 127);
-    freq.put("경기", 2213);
-    freq.put(" 지방", 2170);
-    freq.put("비서", 71);
-    freq.put(" 지배", 541);
-    freq.put("누엘", 65);
-    freq.put(" 대본", 114);
-    freq.put("중앙회", 62);
-    freq.put("단독", 80);
-    freq.put("내부에", 78);
-    freq.put("관과 ", 150);
-    freq.put("천동", 110);
-    freq.put("베네치", 57);
-    freq.put("빼앗", 60);
-    freq.put("성을 ", 1294);
-    freq.put("론》", 70);
-    freq.put("종사", 195);
-    freq.put(" 금강", 82);
-    freq.put("어났으", 91);
-    freq.put(" 소속", 1527);
-    freq.put(" 강에", 91);
-    freq.put("및 ", 5874);
-    freq.put("둘러싸", 178);
-    freq.put(" 무장", 257);
-    freq.put(" 북쪽", 939);
-    freq.put("비사", 81);
-    freq.put(" 소송", 210);
-    freq.put(" 수반", 64);
-    freq.put("아시아", 1039);
-    freq.put("아시안", 64);
-    freq.put("농수", 73);
-    freq.put(" 무인", 69);
-    freq.put("에서만", 99);
-    freq.put("리키며", 63);
-    freq.put("방사", 203);
-    freq.put(" 소셜", 77);
-    freq.put("식공", 81);
-    freq.put("식과", 187);
-    freq.put("체육관", 1157);
-    freq.put("오사", 185);
-    freq.put("곡이다", 130);
-    freq.put("기에 ", 1427);
-    freq.put("식경", 89);
-    freq.put("귀족 ", 88);
-    freq.put("모가", 149);
-    freq.put("코어 ", 106);
-    freq.put("원장은", 99);
-    freq.put("경과", 169);
-    freq.put("제", 29441);
-    freq.put(" 차별", 95);
-    freq.put("나들목", 286);
-    freq.put("경계", 516);
-    freq.put("생활에", 67);
-    freq.put("달하는", 148);
-    freq.put("倉亞", 80);
-    freq.put(" 강원", 365);
-    freq.put("뮌헨", 76);
-    freq.put("대표하", 220);
-    freq.put("倉亂", 100);
-    freq.put(" 소스", 183);
-    freq.put("가진 ", 547);
-    freq.put("역대 ", 70);
-    freq.put(" 춘추", 67);
-    freq.put("倉乙", 106);
-    freq.put("정이다", 317);
-    freq.put("따서 ", 170);
-    freq.put("대변", 64);
-    freq.put("倉之", 304);
-    freq.put("립국", 88);
-    freq.put(" 철학", 533);
-    freq.put("의는", 204);
-    freq.put("양하고", 63);
-    freq.put("숫", 164);
-    freq.put("乙丁", 307);
-    freq.put("倉丘", 124);
-    freq.put("정하지", 57);
-    freq.put("니아 ", 1248);
-    freq.put("倉三", 482);
-    freq.put("시도 ", 60);
-    freq.put("倉丁", 326);
-    freq.put("자로서", 148);
-    freq.put(" 소수", 212);
-    freq.put("들", 14979);
-    freq.put("티스트", 94);
-    freq.put("이니아", 108);
-    freq.put("증진을", 113);
-    freq.put("倉並", 271);
-    freq.put("립공", 193);
-    freq.put("출시되", 154);
-    freq.put("출시된", 71);
-    freq.put("립과", 102);
-    freq.put(" 무역", 240);
-    freq.put("부적", 74);
-    freq.put("К", 57);
-    freq.put("조건을", 75);
-    freq.put("삭", 178);
-    freq.put(" 수비", 88);
-    freq.put(" 무엇", 78);
-    freq.put("팔라", 113);
-    freq.put("발매하", 71);
-    freq.put("년부", 1645);
-    freq.put("발매한", 190);
-    freq.put("등포구", 133);
-    freq.put(" 之 ", 340);
-    freq.put("비스", 1259);
-    freq.put(" 춘천", 113);
-    freq.put("비슷", 450);
-    freq.put("三", 20984);
-    freq.put("내는", 669);
-    freq.put("내부의", 59);
-    freq.put("란드어", 81);
-    freq.put("정확", 287);
-    freq.put("정화", 73);
-    freq.put(" 침략", 81);
-    freq.put(" 코르", 132);
-    freq.put("접한 ", 137);
-    freq.put("오시", 78);
-    freq.put("파르트", 58);
-    freq.put(" 강의", 193);
-    freq.put("란드에", 64);
-    freq.put("오스", 1498);
-    freq.put("내셔널", 212);
-    freq.put("평양에", 104);
-    freq.put("의도", 237);
-    freq.put("농산", 152);
-    freq.put(" 강을", 88);
-    freq.put("방식", 893);
-    freq.put(" 강이", 197);
-    freq.put("테인먼", 266);
-    freq.put("소장", 374);
-    freq.put(" 노트", 65);
-    freq.put("중앙행", 163);
-    freq.put("배구", 85);
-    freq.put("거하여", 108);
-    freq.put("렉산더", 61);
-    freq.put("영어 ", 539);
-    freq.put("입되었", 102);
-    freq.put("의되", 83);
-    freq.put("의된", 97);
-    freq.put(" 수를", 81);
-    freq.put("비에", 454);
-    freq.put(" 무신", 103);
-    freq.put("중동", 130);
-    freq.put("베트 ", 83);
-    freq.put("중도", 73);
-    freq.put("잇는", 270);
-    freq.put("것도 ", 92);
-    freq.put("프트", 1666);
-    freq.put("정통", 92);
-    freq.put(" 여러", 1622);
-    freq.put("윤 ", 93);
-    freq.put("안과 ", 124);
-    freq.put("낙동", 61);
-    freq.put("편으로", 96);
-    freq.put("르투갈", 235);
-    freq.put("러나", 429);
-    freq.put("회계", 133);
-    freq.put("법과 ", 132);
-    freq.put("로에 ", 104);
-    freq.put("방안", 91);
-    freq.put("입되어", 66);
-    freq.put("비어", 60);
-    freq.put("방언", 181);
-    freq.put("비아", 1009);
-    freq.put("기억 ", 70);
-    freq.put("대지", 106);
-    freq.put("오염", 119);
-    freq.put(" 독특", 101);
-    freq.put("최근 ", 95);
-    freq.put("언론인", 132);
-    freq.put(" 수많", 217);
-    freq.put("회가", 354);
-    freq.put("북단", 60);
-    freq.put("현재의", 485);
-    freq.put("오에", 131);
-    freq.put("도공사", 78);
-    freq.put(" 수리", 128);
-    freq.put("훌", 63);
-    freq.put("한지", 68);
-    freq.put("금에 ", 58);
-    freq.put("방에", 589);
-    freq.put("중대", 89);
-    freq.put("벌어진", 238);
-    freq.put("상시키", 58);
-    freq.put("의와 ", 140);
-    freq.put("한정", 88);
-    freq.put("발표된", 92);
-    freq.put("한제", 218);
-    freq.put("테니", 137);
-    freq.put("나이 ", 96);
-    freq.put("중단", 108);
-    freq.put("서울시", 173);
-    freq.put(" 열리", 279);
-    freq.put("쟁 ", 829);
-    freq.put("사기", 229);
-    freq.put("북대", 84);
-    freq.put("포하는", 115);
-    freq.put("개된", 94);
-    freq.put("인에서", 57);
-    freq.put("개되", 181);
-    freq.put(" 지리", 258);
-    freq.put("관은 ", 726);
-    freq.put("형으로", 179);
-    freq.put("켓 ", 162);
-    freq.put(" 수렴", 58);
-    freq.put("너가 ", 60);
-    freq.put("봉사", 97);
-    freq.put("역의 ", 612);
-    freq.put(" 강서", 86);
-    freq.put(" 소아", 74);
-    freq.put("해양 ", 65);
-    freq.put("북도", 1000);
-    freq.put(" 멸망", 115);
-    freq.put("북동", 589);
-    freq.put("검 ", 84);
-    freq.put("크가", 121);
-    freq.put("회관", 224);
-    freq.put("어머니", 289);
-    freq.put("《한국", 70);
-    freq.put("리우스", 221);
-    freq.put(" 촉진", 190);
-    freq.put("에서부", 139);
-    freq.put("질", 3981);
-    freq.put("흥 ", 176);
-    freq.put("다이아", 64);
-    freq.put("맨", 507);
-    freq.put("물을 ", 636);
-    freq.put("방으", 94);
-    freq.put("사관", 271);
-    freq.put("오일", 61);
-    freq.put("오이", 168);
-    freq.put("늘날 ", 214);
-    freq.put("러다", 58);
-    freq.put("지점에", 130);
-    freq.put("통적으", 123);
-    freq.put("현재에", 63);
-    freq.put("오의", 95);
-    freq.put("방위", 167);
-    freq.put("아인 ", 67);
-    freq.put("방인", 58);
-    freq.put("칭하는", 246);
-    freq.put("방이", 189);
-    freq.put(" 무사", 83);
-    freq.put("방법원", 75);
-    freq.put("비잔", 183);
-    freq.put("비자", 254);
-    freq.put("통적인", 164);
-    freq.put(" 지명", 221);
-    freq.put("방은", 68);
-    freq.put("방을", 182);
-    freq.put("치된", 254);
-    freq.put("비의", 141);
-    freq.put(" 차례", 291);
-    freq.put("널리", 610);
-    freq.put("개량", 160);
-    freq.put("농업", 544);
-    freq.put("방자", 121);
-    freq.put("규 ", 410);
-    freq.put("비이", 110);
-    freq.put(" 탐사", 100);
-    freq.put("집합을", 57);
-    freq.put("이오스", 98);
-    freq.put("농어", 139);
-    freq.put("템을 ", 168);
-    freq.put("학이 ", 90);
-    freq.put("비율", 126);
-    freq.put(" 앞에", 89);
-    freq.put("비유", 59);
-    freq.put("집합이", 107);
-    freq.put("사가", 957);
-    freq.put("사각", 96);
-    freq.put("편집 ", 64);
-    freq.put("루지야", 62);
-    freq.put("력과 ", 185);
-    freq.put("벨 ", 321);
-    freq.put(" 할 ", 828);
-    freq.put("오와", 86);
-    freq.put("리어 ", 186);
-    freq.put(" 베르", 258);
-    freq.put("방영", 378);
-    freq.put(" 베를", 141);
-    freq.put("콜로", 109);
-    freq.put("파가 ", 58);
-    freq.put("중남", 73);
-    freq.put("인은 ", 257);
-    freq.put(" 소장", 152);
-    freq.put("비용", 150);
-    freq.put(" 소재", 587);
-    freq.put("널로", 65);
-    freq.put("사건", 1923);
-    freq.put("사거", 86);
-    freq.put("콜롬", 91);
-    freq.put("출된 ", 86);
-    freq.put("종로구", 365);
-    freq.put("욱 ", 152);
-    freq.put("누스", 263);
-    freq.put("름 ", 818);
-    freq.put("사격", 73);
-    freq.put("한다 ", 13903);
-    freq.put("방법으", 220);
-    freq.put(" 판매", 505);
-    freq.put("년에서", 224);
-    freq.put("방법을", 165);
-    freq.put("비영", 173);
-    freq.put(" 무선", 135);
-    freq.put("사고", 593);
-    freq.put("교수로", 84);
-    freq.put("비오", 69);
-    freq.put("매를 ", 89);
-    freq.put("사과", 105);
-    freq.put("방법이", 266);
-    freq.put("남은 ", 81);
-    freq.put("컫는다", 300);
-    freq.put("사학", 226);
-    freq.put("위공무", 227);
-    freq.put("동쪽은", 73);
-    freq.put("국가에", 207);
-    freq.put("개를", 146);
-    freq.put("최후의", 62);
-    freq.put("판관", 57);
-    freq.put(" 원 ", 160);
-    freq.put("부속 ", 57);
-    freq.put("비즈", 153);
-    freq.put("내륙", 89);
-    freq.put("의로", 182);
-    freq.put(" 곳 ", 60);
-    freq.put(" 편 ", 84);
-    freq.put("인슈타", 59);
-    freq.put("콜라", 224);
-    freq.put("측정하", 101);
-    freq.put("히고", 71);
-    freq.put("다중", 115);
-    freq.put(" 미토", 58);
-    freq.put("《삼국", 90);
-    freq.put("기여할", 296);
-    freq.put("공공기", 200);
-    freq.put(" 항공", 685);
-    freq.put(" 텔레", 470);
-    freq.put("대학에", 115);
-    freq.put("개막", 77);
-    freq.put("라틴 ", 103);
-    freq.put("이스테", 112);
-    freq.put("딩", 848);
-    freq.put("수법인", 62);
-    freq.put("지배", 563);
-    freq.put("오지", 91);
-    freq.put("내리", 117);
-    freq.put("의료", 334);
-    freq.put("정확한", 116);
-    freq.put(" 나 ", 149);
-    freq.put("제대", 96);
-    freq.put("국사 ", 69);
-    freq.put("견을 ", 57);
-    freq.put(" 농민", 87);
-    freq.put("방지", 261);
-    freq.put("록에", 122);
-    freq.put(" 항구", 132);
-    freq.put("개로", 133);
-    freq.put(" 차량", 299);
-    freq.put(" 여명", 78);
-    freq.put("집단이", 82);
-    freq.put("방정", 311);
-    freq.put("이미지", 182);
-    freq.put("비주", 93);
-    freq.put("내려", 193);
-    freq.put(" 이고", 250);
-    freq.put("방전", 97);
-    freq.put("자연과", 58);
-    freq.put("내로", 74);
-    freq.put("대인 ", 123);
-    freq.put("짐 ", 75);
-    freq.put("는지 ", 96);
-    freq.put("오전", 108);
-    freq.put("이", 165423);
-    freq.put("의를", 445);
-    freq.put("리키는", 517);
-    freq.put("판결", 150);
-    freq.put("와의 ", 292);
-    freq.put("루터", 61);
-    freq.put("않다 ", 121);
-    freq.put(" 복합", 146);
-    freq.put(" 좌표", 69);
-    freq.put("막의 ", 105);
-    freq.put("계는 ", 211);
-    freq.put("태화", 59);
-    freq.put("현악", 203);
-    freq.put("었", 13976);
-    freq.put("비전", 604);
-    freq.put("운영하", 421);
-    freq.put("비정", 124);
-    freq.put("확한", 140);
-    freq.put("확하", 150);
-    freq.put("천문", 324);
-    freq.put("마티", 65);
-    freq.put("루트", 166);
-    freq.put("·기", 95);
-    freq.put("대학을", 73);
-    freq.put("대학의", 118);
-    freq.put("클라이", 98);
-    freq.put(" 맡고", 199);
-    freq.put(" 》 ", 203);
-    freq.put(" 여름", 113);
-    freq.put("내무", 67);
-    freq.put("리브 ", 93);
-    freq.put("대학이", 119);
-    freq.put(" 도메", 76);
-    freq.put("행되었", 179);
-    freq.put("교에 ", 115);
-    freq.put("환경", 1224);
-    freq.put("한의", 189);
-    freq.put("계이다", 139);
-    freq.put("한을", 120);
-    freq.put("갖는", 232);
-    freq.put("속의 ", 605);
-    freq.put("한이", 100);
-    freq.put("북방", 63);
-    freq.put("한일", 104);
-    freq.put("입하", 329);
-    freq.put("비슷한", 239);
-    freq.put("중부", 615);
-    freq.put("대학으", 61);
-    freq.put("한자", 411);
-    freq.put("저지", 133);
-    freq.put("느", 753);
-    freq.put("정치 ", 296);
-    freq.put("웹사이", 130);
-    freq.put("개미", 141);
-    freq.put("동쪽에", 157);
-    freq.put("독특", 101);
-    freq.put(" 농림", 654);
-    freq.put("도시이", 464);
-    freq.put("러브", 90);
-    freq.put("인디언", 128);
-    freq.put("덴마크", 199);
-    freq.put("역에서", 460);
-    freq.put("쓰인 ", 79);
-    freq.put("지상 ", 78);
-    freq.put("도시의", 101);
-    freq.put(" 북서", 591);
-    freq.put("란이 ", 83);
-    freq.put("동량", 72);
-    freq.put("졌다", 865);
-    freq.put("중복", 64);
-    freq.put("천만", 67);
-    freq.put("태풍", 371);
-    freq.put("부는 ", 372);
-    freq.put("학생들", 151);
-    freq.put("키와 ", 57);
-    freq.put("의문", 59);
-    freq.put("스템 ", 494);
-    freq.put("확히", 75);
-    freq.put("명나라", 109);
-    freq.put("의무", 269);
-    freq.put(" 학생", 355);
-    freq.put("대해서", 237);
-    freq.put(" 삶을", 67);
-    freq.put("료 ", 646);
-    freq.put("언론", 352);
-    freq.put(" 조에", 97);
-    freq.put(" 삶의", 108);
-    freq.put("내면", 60);
-    freq.put("대에서", 249);
-    freq.put("성공적", 59);
-    freq.put("천리", 76);
-    freq.put("급하", 294);
-    freq.put("위는 ", 290);
-    freq.put("급한", 91);
-    freq.put("록의", 66);
-    freq.put("록을", 144);
-    freq.put("록은", 122);
-    freq.put("대학원", 221);
-    freq.put(" 학사", 67);
-    freq.put("디오에", 59);
-    freq.put("록이", 179);
-    freq.put("밥", 125);
-    freq.put("북부", 794);
-    freq.put("름은 ", 937);
-    freq.put("밍 ", 299);
-    freq.put("생되", 69);
-    freq.put("폐", 1040);
-    freq.put("클라우", 75);
-    freq.put("칙", 994);
-    freq.put("겨 ", 191);
-    freq.put("황", 3546);
-    freq.put("중반", 143);
-    freq.put(" 카페", 68);
-    freq.put("널드", 63);
-    freq.put("의미", 1879);
-    freq.put(" 발행", 329);
-    freq.put("오를 ", 79);
-    freq.put("들어", 2018);
-    freq.put("체스터", 79);
-    freq.put(" 구현", 181);
-    freq.put("한성", 103);
-    freq.put(" 지냈", 558);
-    freq.put("되거나", 99);
-    freq.put("북면", 63);
-    freq.put("팔레", 130);
-    freq.put("들여", 122);
-    freq.put("아타", 75);
-    freq.put("서가", 119);
-    freq.put(" 지내", 96);
-    freq.put(" 지낸", 214);
-    freq.put("태평", 463);
-    freq.put("들었", 219);
-    freq.put("도로와", 66);
-    freq.put(" 지나", 284);
-    freq.put("들에", 883);
-    freq.put(" 지난", 146);
-    freq.put(" 강제", 192);
-    freq.put("림픽에", 158);
-    freq.put(" 강점", 383);
-    freq.put("름다운", 96);
-    freq.put("대륙에", 112);
-    freq.put("내부", 331);
-    freq.put("테리아", 58);
-    freq.put("참가하", 322);
-    freq.put("방출", 95);
-    freq.put("참가한", 160);
-    freq.put(" 느끼", 75);
-    freq.put("이스하", 64);
-    freq.put("수여하", 88);
-    freq.put(" 판단", 139);
-    freq.put("도회", 85);
-    freq.put("의병", 59);
-    freq.put(" 북위", 59);
-    freq.put("식은 ", 203);
-    freq.put(" 강조", 120);
-    freq.put("껍질", 59);
-    freq.put("시에서", 270);
-    freq.put("락", 940);
-    freq.put("집을 ", 67);
-    freq.put("년도", 117);
-    freq.put(" 주가", 75);
-    freq.put("외전화", 76);
-    freq.put("군으로", 160);
-    freq.put("눅스 ", 72);
-    freq.put("해로 ", 77);
-    freq.put("습", 1034);
-    freq.put("이부", 78);
-    freq.put("서구", 357);
-    freq.put("유 ", 819);
-    freq.put("비스를", 298);
-    freq.put("개발", 2877);
-    freq.put("공화국", 2091);
-    freq.put("독하", 86);
-    freq.put("서관", 272);
-    freq.put("베네수", 63);
-    freq.put("영국에", 154);
-    freq.put("원자 ", 102);
-    freq.put("러리", 161);
-    freq.put("도로의", 196);
-    freq.put("타로 ", 84);
-    freq.put("개방", 130);
-    freq.put("원이다", 371);
-    freq.put("개별", 97);
-    freq.put("대학생", 58);
-    freq.put(" 大丁", 58);
-    freq.put("내버", 165);
-    freq.put(" 大三", 77);
-    freq.put("한산", 83);
-    freq.put("으나 ", 1984);
-    freq.put("임 ", 1301);
-    freq.put(" 大並", 205);
-    freq.put("북미", 98);
-    freq.put("한사", 58);
-    freq.put("루프", 57);
-    freq.put("년대", 962);
-    freq.put("코가 ", 60);
-    freq.put("족을 ", 151);
-    freq.put("하다 ", 1598);
-    freq.put("석과", 66);
-    freq.put("항의 ", 71);
-    freq.put("육 ", 627);
-    freq.put(" 버전", 294);
-    freq.put("거로 ", 203);
-    freq.put("구성요", 67);
-    freq.put("대륙의", 64);
-    freq.put("타크래", 128);
-    freq.put(" 줄이", 91);
-    freq.put("생들", 178);
-    freq.put(" 지니", 158);
-    freq.put(" 지닌", 190);
-    freq.put("스템의", 137);
-    freq.put("물에서", 66);
-    freq.put("丘驿", 62);
-    freq.put("원숭", 77);
-    freq.put("궁전", 122);
-    freq.put("기한 ", 75);
-    freq.put("구성원", 169);
-    freq.put(" 을 ", 2159);
-    freq.put("러시아", 1259);
-    freq.put("츠가", 74);
-    freq.put("에게는", 108);
-    freq.put("서기", 467);
-    freq.put("농촌", 268);
-    freq.put("오케", 99);
-    freq.put(" 차남", 67);
-    freq.put("막으로", 89);
-    freq.put(" 길이", 462);
-    freq.put(" 북아", 293);
-    freq.put("과하", 139);
-    freq.put(" 수도", 1216);
-    freq.put(" 발현", 62);
-    freq.put("장기 ", 92);
-    freq.put("죄", 910);
-    freq.put("력과", 186);
-    freq.put("우와 ", 60);
-    freq.put("들인", 129);
-    freq.put("들이", 3059);
-    freq.put("보기 ", 63);
-    freq.put("들을", 1666);
-    freq.put(" 테크", 122);
-    freq.put("들은", 1170);
-    freq.put("들의", 1832);
-    freq.put("국에", 2267);
-    freq.put("광고", 267);
-    freq.put("도한", 130);
-    freq.put("도하", 306);
-    freq.put("오카", 257);
-    freq.put("학연구", 99);
-    freq.put("석기", 155);
-    freq.put(" 지도", 570);
-    freq.put("패", 1550);
-    freq.put("청", 5830);
-    freq.put("수영 ", 75);
-    freq.put("문", 17304);
-    freq.put("운 ", 2130);
-    freq.put("주에 ", 640);
-    freq.put(" 三 ", 313);
-    freq.put("라로 ", 118);
-    freq.put(" 베네", 192);
-    freq.put("물리 ", 92);
-    freq.put("국역", 58);
-    freq.put("과정이", 135);
-    freq.put(" 구하", 94);
-    freq.put(" 수단", 217);
-    freq.put("전형적", 62);
-    freq.put("비치", 319);
-    freq.put("장남이", 65);
-    freq.put("력", 5587);
-    freq.put("모바일", 151);
-    freq.put(" 실업", 107);
-    freq.put(" ·", 941);
-    freq.put("낮은", 183);
-    freq.put("얻는 ", 71);
-    freq.put("영국의", 714);
-    freq.put("중력", 144);
-    freq.put("념으로", 242);
-    freq.put("핀 ", 359);
-    freq.put(" 지대", 176);
-    freq.put("광객", 71);
-    freq.put("책에 ", 96);
-    freq.put(" 수는", 94);
-    freq.put("병을 ", 93);
-    freq.put("대부분", 788);
-    freq.put(" 잎은", 103);
-    freq.put("독점", 82);
-    freq.put("장에서", 426);
-    freq.put("오", 14295);
-    freq.put("정에", 737);
-    freq.put("사무", 2780);
-    freq.put("사물", 97);
-    freq.put("령이 ", 148);
-    freq.put("책이다", 168);
-    freq.put("대표이", 78);
-    freq.put(" 일컫", 636);
-    freq.put(" 노선", 481);
-    freq.put("년까", 1214);
-    freq.put("케이드", 87);
-    freq.put("봉한", 65);
-    freq.put("번", 6501);
-    freq.put("무선 ", 97);
-    freq.put("공룡이", 97);
-    freq.put("언십 ", 93);
-    freq.put(" ㎢이", 537);
-    freq.put("정안", 94);
-    freq.put("傭三", 85);
-    freq.put("오토", 172);
-    freq.put("업체 ", 73);
-    freq.put("누스 ", 182);
-    freq.put("군벌", 62);
-    freq.put(" 물질", 502);
-    freq.put("丁 ", 3345);
-    freq.put("참가했", 85);
-    freq.put("丁丁 ", 409);
-    freq.put(" 무형", 61);
-    freq.put("회로", 482);
-    freq.put("서남", 114);
-    freq.put("랑스", 2207);
-    freq.put(" 잠비", 60);
-    freq.put("씨식물", 94);
-    freq.put("오클", 62);
-    freq.put("선", 15146);
-    freq.put("판되", 77);
-    freq.put(" 카트", 59);
-    freq.put("맞대고", 167);
-    freq.put("η", 94);
-    freq.put(" 발효", 85);
-    freq.put("법상의", 86);
-    freq.put(" 독일", 2033);
-    freq.put(" 우선", 79);
-    freq.put("사회민", 64);
-    freq.put(" 수가", 104);
-    freq.put("이오프", 76);
-    freq.put("루지", 119);
-    freq.put(" 독재", 77);
-    freq.put("랄", 216);
-    freq.put(" 지구", 803);
-    freq.put("식별", 124);
-    freq.put("썼다", 75);
-    freq.put("비크", 81);
-    freq.put("럽의 ", 196);
-    freq.put(" 트랙", 87);
-    freq.put("사모", 61);
-    freq.put(" 독자", 160);
-    freq.put(" 강한", 138);
-    freq.put(" 강하", 79);
-    freq.put("오키", 160);
-    freq.put("노미야", 60);
-    freq.put("군부", 82);
-    freq.put("회를", 455);
-    freq.put("밝은 ", 60);
-    freq.put("스코틀", 228);
-    freq.put("모바", 156);
-    freq.put("롱", 332);
-    freq.put("치", 17866);
-    freq.put("보호하", 179);
-    freq.put("경보", 91);
-    freq.put("비평", 114);
-    freq.put("차를", 208);
-    freq.put("년과", 139);
-    freq.put(" 구제", 77);
-    freq.put("해를 ", 391);
-    freq.put("도전", 67);
-    freq.put("вич", 79);
-    freq.put("도적", 126);
-    freq.put("용한 ", 474);
-    freq.put(" 구조", 750);
-    freq.put("구분되", 71);
-    freq.put("구분된", 68);
-    freq.put(" 우수", 237);
-    freq.put("정자", 73);
-    freq.put("사르", 183);
-    freq.put("년경", 335);
-    freq.put("사를", 1012);
-    freq.put("정일", 58);
-    freq.put("단이다", 349);
-    freq.put("정인", 93);
-    freq.put("정이", 736);
-    freq.put("사상가", 98);
-    freq.put("슨이", 67);
-    freq.put(" 분 ", 172);
-    freq.put("합한 ", 160);
-    freq.put("오폴", 57);
-    freq.put("슨의", 72);
-    freq.put("정의", 966);
-    freq.put("사리", 79);
-    freq.put("무역 ", 89);
-    freq.put("도주", 98);
-    freq.put(" 발간", 125);
-    freq.put("이러스", 164);
-    freq.put("정을", 810);
-    freq.put("사립", 113);
-    freq.put("정은", 146);
-    freq.put("정으", 195);
-    freq.put("서는", 3206);
-    freq.put(" 강화", 298);
-    freq.put("년간", 256);
-    freq.put("사마", 121);
-    freq.put("사막", 121);
-    freq.put("한을 ", 120);
-    freq.put("사망", 432);
-    freq.put("비판", 182);
-    freq.put("크라이", 244);
-    freq.put(" 판결", 111);
-    freq.put("속하는", 814);
-    freq.put(" 지금", 536);
-    freq.put("오페", 337);
-    freq.put("딸로 ", 77);
-    freq.put("이번", 163);
-    freq.put("조한 ", 117);
-    freq.put("（", 82);
-    freq.put(" 주관", 308);
-    freq.put("아케이", 78);
-    freq.put("휘", 984);
-    freq.put("려운", 69);
-    freq.put("교육자", 122);
-    freq.put("정원", 147);
-    freq.put("전 ", 5853);
-    freq.put("중앙아", 113);
-    freq.put("사령", 195);
-    freq.put("속 ", 1432);
-    freq.put("사례", 68);
-    freq.put("서대", 130);
-    freq.put("회민", 65);
-    freq.put("도중", 100);
-    freq.put("앙리", 61);
-    freq.put("경북", 127);
-    freq.put("경부", 199);
-    freq.put("비트", 348);
-    freq.put("학대학", 68);
-    freq.put("도지", 99);
-    freq.put("서도", 675);
-    freq.put(" 무함", 67);
-    freq.put("해결하", 97);
-    freq.put(" 무한", 103);
-    freq.put("거를 ", 112);
-    freq.put(" 권익", 198);
-    freq.put("업단지", 59);
-    freq.put("통합되", 76);
-    freq.put("약으로", 104);
-    freq.put(" 권위", 133);
-    freq.put("사료", 78);
-    freq.put(" 탐험", 69);
-    freq.put(" 차관", 105);
-    freq.put("과정", 1002);
-    freq.put("사회를", 100);
-    freq.put("교육의", 108);
-    freq.put("과제", 59);
-    freq.put("가나 ", 114);
-    freq.put(" 노스", 140);
-    freq.put("실로 ", 59);
-    freq.put("교육을", 199);
-    freq.put("과적", 120);
-    freq.put(" 혹은", 1388);
-    freq.put(" 특별", 638);
-    freq.put("여의도", 98);
-    freq.put("의정부", 87);
-    freq.put("랍어 ", 64);
-    freq.put("지역", 3831);
-    freq.put("갖고", 277);
-    freq.put("오하", 85);
-    freq.put("대한 ", 2759);
-    freq.put("비행", 326);
-    freq.put("끝난", 64);
-    freq.put("끝나", 75);
-    freq.put("오피", 231);
-    freq.put("회복", 162);
-    freq.put("모리", 571);
-    freq.put("신이며", 66);
-    freq.put("방하", 123);
-    freq.put("오픈", 264);
-    freq.put("오프", 166);
-    freq.put("급의 ", 111);
-    freq.put("모를", 206);
-    freq.put("많다 ", 288);
-    freq.put("모르", 159);
-    freq.put("비하", 168);
-    freq.put("연극 ", 67);
-    freq.put("방향", 410);
-    freq.put("확정", 119);
-    freq.put("방행", 151);
-    freq.put("비해", 227);
-    freq.put("디어 ", 334);
-    freq.put("유럽에", 197);
-    freq.put("정성", 106);
-    freq.put("워", 2364);
-    freq.put("출생 ", 118);
-    freq.put("가수 ", 210);
-    freq.put("개가 ", 134);
-    freq.put(" 복제", 75);
-    freq.put("정서", 149);
-    freq.put("가였다", 74);
-    freq.put("丘之 ", 172);
-    freq.put("여한 ", 90);
-    freq.put("토니", 210);
-    freq.put(" 마", 7115);
-    freq.put("졌고", 82);
-    freq.put("조와 ", 117);
-    freq.put("들이자", 64);
-    freq.put("음악가", 117);
-    freq.put("생생", 58);
-    freq.put("정상", 286);
-    freq.put("점과 ", 81);
-    freq.put("우디아", 57);
-    freq.put(" 소행", 123);
-    freq.put("정사", 185);
-    freq.put("게임기", 80);
-    freq.put("픽 ", 726);
-    freq.put("정적 ", 84);
-    freq.put("농협", 62);
-    freq.put("서울특", 2233);
-    freq.put("퓨터", 1617);
-    freq.put("로서는", 102);
-    freq.put("영향력", 151);
-    freq.put("육성 ", 90);
-    freq.put("다음으", 96);
-    freq.put("승팀 ", 85);
-    freq.put(" 물체", 225);
-    freq.put("모로", 214);
-    freq.put("도쿠", 187);
-    freq.put("공간 ", 182);
-    freq.put(" 소프", 898);
-    freq.put("지어", 207);
-    freq.put("탈출", 64);
-    freq.put(" 또는", 7044);
-    freq.put("나누어", 113);
-    freq.put("허가된", 536);
-    freq.put("마트폰", 75);
-    freq.put("열 ", 422);
-    freq.put(" 소피", 59);
-    freq.put("성공회", 174);
-    freq.put("히는", 131);
-    freq.put("시되어", 63);
-    freq.put("멘", 418);
-    freq.put("리 ", 8468);
-    freq.put("성공하", 63);
-    freq.put("부이다", 121);
-    freq.put("금까지", 91);
-    freq.put("비히", 129);
-    freq.put("사이다", 504);
-    freq.put("유럽의", 184);
-    freq.put("태지", 103);
-    freq.put("른바 ", 70);
-    freq.put("싱글 ", 166);
-    freq.put("도착", 72);
-    freq.put("식물", 650);
-    freq.put("식문", 64);
-    freq.put("사회복", 58);
-    freq.put("시되었", 188);
-    freq.put("원구 ", 57);
-    freq.put("사부", 61);
-    freq.put("간에서", 92);
-    freq.put(" 구체", 160);
-    freq.put("식민", 428);
-    freq.put("발에 ", 103);
-    freq.put("리·", 102);
-    freq.put(" 더 ", 942);
-    freq.put("탄", 2414);
-    freq.put("즈에서", 95);
-    freq.put("경력", 62);
-    freq.put(" 소형", 113);
-    freq.put("해군의", 95);
-    freq.put("설정", 185);
-    freq.put("륵", 60);
-    freq.put("술과 ", 112);
-    freq.put("도체", 168);
-    freq.put(" 사 ", 101);
-    freq.put(" 우익", 62);
-    freq.put("사바", 60);
-    freq.put("태종", 105);
-    freq.put("면적은", 1793);
-    freq.put(" 시 ", 1062);
-    freq.put("센터는", 143);
-    freq.put("정신", 481);
-    freq.put("정식", 676);
-    freq.put("정시", 83);
-    freq.put("작된 ", 349);
-    freq.put("경마", 75);
-    freq.put("대규모", 179);
-    freq.put(" 노예", 114);
-    freq.put("모모", 86);
-    freq.put("오호", 62);
-    freq.put("제는 ", 260);
-    freq.put("우를 ", 179);
-    freq.put("과천", 96);
-    freq.put("만화이", 72);
-    freq.put("중해 ", 78);
-    freq.put("남북 ", 100);
-    freq.put("사법", 297);
-    freq.put("정", 32064);
-    freq.put("철도공", 82);
-    freq.put("장이었", 82);
-    freq.put("오후", 131);
-    freq.put(" 구축", 257);
-    freq.put("중에는", 97);
-    freq.put("퓨팅", 102);
-    freq.put("》의 ", 292);
-    freq.put("국가이", 133);
-    freq.put("판단", 150);
-    freq.put("도움을", 80);
-    freq.put("정수", 173);
-    freq.put("태조", 138);
-    freq.put("히데", 106);
-    freq.put("사보", 77);
-    freq.put("아파트", 117);
-    freq.put("사본", 71);
-    freq.put("태자", 84);
-    freq.put("서로", 775);
-    freq.put("루살", 113);
-    freq.put("성립하", 64);
-    freq.put("다음과", 165);
-    freq.put("교육청", 88);
-    freq.put("인종 ", 68);
-    freq.put("톱", 213);
-    freq.put("우 ", 2451);
-    freq.put("링", 1187);
-    freq.put("나모", 58);
-    freq.put("한하", 72);
-    freq.put("주인공", 208);
-    freq.put("법 ", 1604);
-    freq.put("양의 ", 498);
-    freq.put(" 우정", 89);
-    freq.put("나에 ", 58);
-    freq.put("래가 ", 59);
-    freq.put("丁丁", 864);
-    freq.put(" 우주", 613);
-    freq.put(" 항복", 59);
-    freq.put("도시", 3144);
-    freq.put("소속 ", 308);
-    freq.put("부처", 108);
-    freq.put("격을 ", 325);
-    freq.put("도심", 95);
-    freq.put(" 테오", 77);
-    freq.put("종파 ", 71);
-    freq.put("만든 ", 839);
-    freq.put("게는 ", 216);
-    freq.put("인어 ", 69);
-    freq.put(" 정 ", 183);
-    freq.put("사도", 176);
-    freq.put("러가", 176);
-    freq.put("개발사", 89);
-    freq.put("광물", 81);
-    freq.put("태의", 337);
-    freq.put("먼 ", 217);
-    freq.put("호텔 ", 84);
-    freq.put("영화의", 83);
-    freq.put("사동", 76);
-    freq.put("태이", 177);
-    freq.put("문명 ", 78);
-    freq.put("도스", 130);
-    freq.put(" 침공", 92);
-    freq.put("영화이", 249);
-    freq.put("분야 ", 184);
-    freq.put("릭교회", 264);
-    freq.put("리얼 ", 67);
-    freq.put("서류", 82);
-    freq.put("표준", 828);
-    freq.put("모든", 1119);
-    freq.put("모드", 98);
-    freq.put("서를", 347);
-    freq.put("모듈", 69);
-    freq.put(" 함 ", 107);
-    freq.put("독성", 71);
-    freq.put("처를 ", 60);
-    freq.put("운영에", 81);
-    freq.put("정체", 133);
-    freq.put("문에 ", 1313);
-    freq.put("식되", 65);
-    freq.put("정청", 74);
-    freq.put("까운", 158);
-    freq.put("건물이", 107);
-    freq.put("품의 ", 269);
-    freq.put("丁並", 785);
-    freq.put("연방의", 172);
-    freq.put("급의", 120);
-    freq.put("록한", 139);
-    freq.put("록하", 240);
-    freq.put("사는", 701);
-    freq.put("구인 ", 59);
-    freq.put("급은", 66);
-    freq.put("서만", 132);
-    freq.put("급을", 163);
-    freq.put("모두", 692);
-    freq.put("급이", 114);
-    freq.put("인의 ", 1094);
-    freq.put("정책", 908);
-    freq.put("중기", 285);
-    freq.put(" 일제", 542);
-    freq.put("르시아", 205);
-    freq.put("무장 ", 114);
-    freq.put("허", 1930);
-    freq.put("생이다", 99);
-    freq.put("정착", 170);
-    freq.put("사다", 97);
-    freq.put("급으", 81);
-    freq.put("사단", 1910);
-    freq.put(" 테이", 155);
-    freq.put("서리", 63);
-    freq.put(" 우즈", 92);
-    freq.put(" 객체", 126);
-    freq.put("여했다", 68);
-    freq.put("태양", 433);
-    freq.put(" 칠레", 103);
-    freq.put("속하며", 146);
-    freq.put("치구 ", 58);
-    freq.put("루스", 522);
-    freq.put("태어", 822);
-    freq.put(" 복원", 82);
-    freq.put("렬", 396);
-    freq.put("학에 ", 189);
-    freq.put("태에", 207);
-    freq.put("량", 2327);
-    freq.put("케이블", 113);
-    freq.put("회담", 74);
-    freq.put("영화에", 74);
-    freq.put("닌텐도", 124);
-    freq.put("회당", 58);
-    freq.put("모래", 91);
-    freq.put("루시", 73);
-    freq.put("들어 ", 501);
-    freq.put("정에 ", 426);
-    freq.put("턴의 ", 58);
-    freq.put("본래 ", 178);
-    freq.put("나면", 62);
-    freq.put("생으", 111);
-    freq.put("송 ", 796);
-    freq.put("모라", 68);
-    freq.put("발행하", 79);
-    freq.put("도상", 81);
-    freq.put("히브", 114);
-    freq.put("중국", 2218);
-    freq.put("중구", 359);
-    freq.put("온다", 87);
-    freq.put("중교", 61);
-    freq.put("치한다", 628);
-    freq.put("문신이", 114);
-    freq.put(" 붉은", 115);
-    freq.put("게르만", 68);
-    freq.put("사키 ", 99);
-    freq.put("르크의", 62);
-    freq.put("당했다", 95);
-    freq.put("서명", 92);
-    freq.put("왕족으", 63);
-    freq.put("도사", 155);
-    freq.put("곤", 459);
-    freq.put("경되", 110);
-    freq.put("톨레", 83);
-    freq.put("주니어", 77);
-    freq.put("위가 ", 174);
-    freq.put("급에", 136);
-    freq.put("통치하", 66);
-    freq.put(" 구성", 1965);
-    freq.put("라마 ", 280);
-    freq.put("확장", 333);
-    freq.put("츠를", 86);
-    freq.put("라위", 80);
-    freq.put("율", 1139);
-    freq.put("북구", 223);
-    freq.put("부분으", 81);
-    freq.put("중계", 60);
-    freq.put("삽", 121);
-    freq.put("지막", 450);
-    freq.put("乎", 59);
-    freq.put("도서", 352);
-    freq.put("톨리", 110);
-    freq.put("톨릭", 545);
-    freq.put("과사", 639);
-    freq.put(" 복잡", 211);
-    freq.put("왔다 ", 379);
-    freq.put("거나", 1557);
-    freq.put("가문 ", 83);
-    freq.put(" 새롭", 78);
-    freq.put("맨 ", 157);
-    freq.put("사나", 120);
-    freq.put("학술 ", 98);
-    freq.put("구에서", 361);
-    freq.put("정치", 2288);
-    freq.put("일의 ", 934);
-    freq.put(" 구속", 101);
-    freq.put("체계 ", 105);
-    freq.put(" 복음", 136);
-    freq.put("신도시", 92);
-    freq.put("북극", 86);
-    freq.put("온도", 198);
-    freq.put("확인", 373);
-    freq.put("퍼시픽", 98);
-    freq.put("렸다 ", 419);
-    freq.put("국세청", 71);
-    freq.put("사냥", 61);
-    freq.put("립된", 2855);
-    freq.put("립되", 628);
-    freq.put("비히 ", 100);
-    freq.put("전과 ", 393);
-    freq.put("중간", 227);
-    freq.put("급시", 77);
-    freq.put("개교", 78);
-    freq.put("의가", 147);
-    freq.put("확산", 137);
-    freq.put("도와", 470);
-    freq.put("투갈어", 68);
-    freq.put(" 테스", 96);
-    freq.put("이스에", 70);
-    freq.put("정직", 60);
-    freq.put("정지", 148);
-    freq.put("릴 ", 239);
-    freq.put("도였", 83);
-    freq.put(" 복사", 102);
-    freq.put("사단법", 1681);
-    freq.put("개관", 130);
-    freq.put("지는 ", 2020);
-    freq.put(" 구와", 86);
-    freq.put("무 ", 858);
-    freq.put("행 ", 946);
-    freq.put("의거", 140);
-    freq.put("지니고", 81);
-    freq.put("모노", 103);
-    freq.put("사람", 2438);
-    freq.put("도움", 144);
-    freq.put("핑 ", 85);
-    freq.put("중화 ", 71);
-    freq.put("자베스", 57);
-    freq.put("도원", 152);
-    freq.put("의견", 100);
-    freq.put("과의", 611);
-    freq.put(" 글자", 146);
-    freq.put("급수", 72);
-    freq.put("히로", 187);
-    freq.put(" 물에", 69);
-    freq.put("객이 ", 71);
-    freq.put("倉倉", 133);
-    freq.put("종합 ", 162);
-    freq.put("팀에", 70);
-    freq.put("판매", 556);
-    freq.put(" 노출", 57);
-    freq.put("도요", 90);
-    freq.put("오케스", 66);
-    freq.put("어리그", 61);
-    freq.put("뉜다 ", 141);
-    freq.put("추측", 97);
-    freq.put("립대", 87);
-    freq.put("본관은", 510);
-    freq.put("정주", 71);
-    freq.put("스텔 ", 62);
-    freq.put("루어", 1049);
-    freq.put("푸아", 98);
-    freq.put("도의", 1257);
-    freq.put("》이", 131);
-    freq.put("단법", 2075);
-    freq.put("내각", 453);
-    freq.put("고용노", 84);
-    freq.put("언급", 141);
-    freq.put("》을", 87);
-    freq.put("따", 3543);
-    freq.put("도인", 180);
-    freq.put("도이", 817);
-    freq.put("》의", 292);
-    freq.put("빨간", 59);
-    freq.put("표 ", 478);
-    freq.put(" 구이", 74);
-    freq.put("개가", 139);
-    freq.put(" 팀이", 267);
-    freq.put(" 팀인", 83);
-    freq.put("모나", 69);
-    freq.put(" 팀은", 59);
-    freq.put(" 팀을", 65);
-    freq.put("é", 560);
-    freq.put("루에", 65);
-    freq.put(" 복소", 94);
-    freq.put("루었", 69);
-    freq.put(" 구의", 119);
-    freq.put("국가와", 63);
-    freq.put("불구하", 86);
-    freq.put("정조", 73);
-    freq.put("단계", 343);
-    freq.put(" 여기", 344);
-    freq.put("시가 ", 252);
-    freq.put("소인", 65);
-    freq.put(" 고 ", 93);
-    freq.put(" 항만", 73);
-    freq.put("르네상", 84);
-    freq.put("과와", 60);
-    freq.put("구성하", 492);
-    freq.put("도입", 373);
-    freq.put("논리학", 71);
-    freq.put("서부", 1232);
-    freq.put("서북", 82);
-    freq.put("도자", 409);
-    freq.put("질이 ", 162);
-    freq.put("정전", 83);
-    freq.put("정적", 273);
-    freq.put("내고", 151);
-    freq.put(" 세로", 127);
-    freq.put("서비", 984);
-    freq.put("고급 ", 121);
-    freq.put("과에", 332);
-    freq.put("터미널", 258);
-    freq.put("성적을", 87);
-    freq.put(" 독점", 68);
-    freq.put("팀으", 74);
-    freq.put("팀은", 106);
-    freq.put("팀을", 101);
-    freq.put(" 물을", 74);
-    freq.put("확실", 95);
-    freq.put("서브", 58);
-    freq.put("경남", 138);
-    freq.put(" 물이", 74);
-    freq.put("중앙정", 74);
-    freq.put(" 억원", 58);
-    freq.put("광부", 1133);
-    freq.put("능이 ", 86);
-    freq.put("연속 ", 101);
-    freq.put("팀이", 414);
-    freq.put("팀인", 106);
-    freq.put("노폴리", 62);
-    freq.put("모델", 475);
-    freq.put(" 알아", 113);
-    freq.put("之之並", 118);
-    freq.put("한편", 89);
-    freq.put("부이며", 90);
-    freq.put("이스의", 66);
-    freq.put("之之三", 178);
-    freq.put(" 북한", 208);
-    freq.put("왕이다", 132);
-    freq.put(" 항목", 84);
-    freq.put("근 ", 449);
-    freq.put("디즈니", 97);
-    freq.put(" 복수", 110);
-    freq.put("之之之", 104);
-    freq.put("명과 ", 133);
-    freq.put("온라", 299);
-    freq.put("《", 5040);
-    freq.put(" 여겨", 280);
-    freq.put("대표적", 477);
-    freq.put("사된", 69);
-    freq.put("사되", 110);
-    freq.put("체제 ", 143);
-    freq.put("과대학", 155);
-    freq.put("관리 ", 537);
-    freq.put("영역 ", 58);
-    freq.put("내기", 127);
-    freq.put("독으", 61);
-    freq.put("모니", 182);
-    freq.put("관련된", 425);
-    freq.put("르크스", 130);
-    freq.put("진을 ", 324);
-    freq.put("독을", 96);
-    freq.put("태생", 110);
-    freq.put("군대", 278);
-    freq.put("웨어이", 75);
-    freq.put("독의", 116);
-    freq.put("라 ", 7177);
-    freq.put("네시아", 285);
-    freq.put(" 구약", 88);
-    freq.put("일로 ", 158);
-    freq.put("지역 ", 878);
-    freq.put("찰이", 62);
-    freq.put("이팅 ", 102);
-    freq.put("융기", 85);
-    freq.put("모는", 61);
-    freq.put("독일", 2061);
-    freq.put("독이", 170);
-    freq.put("야", 6719);
-    freq.put("휴대용", 67);
-    freq.put("웨어의", 74);
-    freq.put(" 패배", 83);
-    freq.put("권", 5693);
-    freq.put("군도", 75);
-    freq.put("취 ", 74);
-    freq.put("현동 ", 88);
-    freq.put("독자", 172);
-    freq.put("도에", 874);
-    freq.put(" 송 ", 74);
-    freq.put("독재", 105);
-    freq.put("도역", 63);
-    freq.put("천군", 186);
-    freq.put("교관이", 68);
-    freq.put("엔터테", 273);
-    freq.put("쇼군 ", 68);
-    freq.put("》에", 434);
-    freq.put("천구", 94);
-    freq.put("천국", 78);
-    freq.put("천광", 247);
-    freq.put(" 구역", 567);
-    freq.put("丁並 ", 336);
-    freq.put("루이", 519);
-    freq.put("도양", 84);
-    freq.put("사들", 245);
-    freq.put(" 혁명", 479);
-    freq.put(" 때 ", 1805);
-    freq.put(" 세의", 435);
-    freq.put(" 구에", 103);
-    freq.put("도어", 105);
-    freq.put("략 ", 236);
-    freq.put("길이는", 187);
-    freq.put(" 못하", 260);
-    freq.put("불리는", 292);
-    freq.put(" 못한", 122);
-    freq.put(" 미생", 74);
-    freq.put("랑크", 259);
-    freq.put(" 규정", 454);
-    freq.put(" 규제", 69);
-    freq.put("지구", 953);
-    freq.put("후기의", 231);
-    freq.put("國三三", 57);
-    freq.put("临", 105);
-    freq.put("지관", 81);
-    freq.put("실시되", 64);
-    freq.put("실시된", 74);
-    freq.put("성적", 290);
-    freq.put("행할 ", 135);
-    freq.put("성전", 187);
-    freq.put(" 기관", 864);
-    freq.put(" 미사", 275);
-    freq.put("표준화", 112);
-    freq.put("클 ", 181);
-    freq.put("론토", 100);
-    freq.put("군이다", 165);
-    freq.put("에는 ", 3701);
-    freq.put(" 업체", 175);
-    freq.put("감사", 119);
-    freq.put("㎢", 2033);
-    freq.put("까지도", 76);
-    freq.put("성주", 100);
-    freq.put("유지하", 156);
-    freq.put("걸친 ", 83);
-    freq.put("독립하", 59);
-    freq.put("성종", 71);
-    freq.put(" 못했", 94);
-    freq.put("탠", 112);
-    freq.put("추구", 133);
-    freq.put("것은 ", 829);
-    freq.put("좋은 ", 139);
-    freq.put(" 얻은", 80);
-    freq.put("고위공", 230);
-    freq.put("이지만", 374);
-    freq.put(" 반면", 95);
-    freq.put("丘三 ", 214);
-    freq.put("하였으", 1353);
-    freq.put("단히", 190);
-    freq.put("지가", 490);
-    freq.put("지각", 64);
-    freq.put("알제리", 72);
-    freq.put("근대", 297);
-    freq.put("겼다 ", 99);
-    freq.put("지개", 84);
-    freq.put("구로 ", 407);
-    freq.put("추원", 63);
-    freq.put("온라인", 297);
-    freq.put("성직", 128);
-    freq.put("성지", 76);
-    freq.put("스테이", 248);
-    freq.put("성질", 285);
-    freq.put("지고", 1085);
-    freq.put("래밍 ", 212);
-    freq.put("》 ", 2725);
-    freq.put("동체 ", 85);
-    freq.put("감소", 107);
-    freq.put("쟁이다", 79);
-    freq.put(" 크다", 72);
-    freq.put("之丘 ", 282);
-    freq.put("돌", 1249);
-    freq.put("지게", 172);
-    freq.put("임시 ", 75);
-    freq.put("국주", 73);
-    freq.put("영에 ", 111);
-    freq.put("화된", 293);
-    freq.put("화되", 254);
-    freq.put(" 세포", 385);
-    freq.put("불이", 70);
-    freq.put("북동쪽", 269);
-    freq.put("참의", 100);
-    freq.put("까지는", 225);
-    freq.put(" 공격", 386);
-    freq.put("추어", 204);
-    freq.put("리스어", 391);
-    freq.put("모양이", 89);
-    freq.put(" 미시", 127);
-    freq.put("모양의", 161);
-    freq.put(" 이제", 64);
-    freq.put("전철 ", 57);
-    freq.put(" 이정", 57);
-    freq.put("차를 ", 208);
-    freq.put("농어촌", 104);
-    freq.put("중부 ", 251);
-    freq.put(" 이전", 899);
-    freq.put("립", 9031);
-    freq.put("분에서", 63);
-    freq.put("모양으", 92);
-    freq.put("목포", 121);
-    freq.put("벨리", 83);
-    freq.put("아동 ", 67);
-    freq.put(" 가락", 78);
-    freq.put("타 ", 1864);
-    freq.put("자원을", 67);
-    freq.put(" 활동", 1538);
-    freq.put(" 미스", 154);
-    freq.put("건", 6543);
-    freq.put("자원의", 107);
-    freq.put(" 따르", 395);
-    freq.put(" 따른", 279);
-    freq.put("만의 ", 176);
-    freq.put("만과", 68);
-    freq.put("유형문", 67);
-    freq.put(" 이종", 59);
-    freq.put("프트가", 61);
-    freq.put(" 이주", 143);
-    freq.put("레잉 ", 75);
-    freq.put("별자치", 252);
-    freq.put(" 가량", 60);
-    freq.put(" 미술", 327);
-    freq.put("감시", 118);
-    freq.put("스캐", 63);
-    freq.put(" 기회", 105);
-    freq.put("丁三 ", 412);
-    freq.put("亂丁", 320);
-    freq.put("군대를", 57);
-    freq.put("亂三", 545);
-    freq.put("亂丘", 135);
-    freq.put("亂並", 388);
-    freq.put("섬", 2116);
-    freq.put("불어", 280);
-    freq.put("가한 ", 185);
-    freq.put("홈페", 65);
-    freq.put("참여", 643);
-    freq.put("지금", 541);
-    freq.put("지급", 150);
-    freq.put("나온", 207);
-    freq.put("다고", 1243);
-    freq.put("亂之", 408);
-    freq.put("계청", 60);
-    freq.put("별지방", 128);
-    freq.put(" 청주", 153);
-    freq.put("나뉜다", 143);
-    freq.put("亂乙", 88);
-    freq.put("지기", 214);
-    freq.put("근에서", 110);
-    freq.put("택 ", 158);
-    freq.put(" 좌우", 58);
-    freq.put("밀라", 58);
-    freq.put("亂亂", 108);
-    freq.put("급", 4129);
-    freq.put("생태", 212);
-    freq.put("亂亞", 162);
-    freq.put("텔레비", 412);
-    freq.put("능성", 166);
-    freq.put("적용된", 77);
-    freq.put("적용되", 101);
-    freq.put("다가", 955);
-    freq.put("데뷔 ", 105);
-    freq.put(" 이즈", 59);
-    freq.put("묻", 74);
-    freq.put("출 ", 296);
-    freq.put("불안", 74);
-    freq.put("뷔", 356);
-    freq.put("단하", 227);
-    freq.put("헤", 1267);
-    freq.put("단한", 192);
-    freq.put("향상 ", 127);
-    freq.put(" 본 ", 154);
-    freq.put(" 이집", 402);
-    freq.put(" 이진", 78);
-    freq.put(" 이지", 96);
-    freq.put("남동쪽", 276);
-    freq.put("페루", 70);
-    freq.put("련", 2464);
-    freq.put("송공사", 57);
-    freq.put("보편적", 59);
-    freq.put(" 준정", 80);
-    freq.put("퀸", 127);
-    freq.put(" 미쓰", 88);
-    freq.put("어에 ", 175);
-    freq.put("매하는", 108);
-    freq.put("스》 ", 220);
-    freq.put("라이브", 286);
-    freq.put("신이 ", 258);
-    freq.put("연구소", 525);
-    freq.put("워크를", 60);
-    freq.put(" 벌어", 349);
-    freq.put("빼", 105);
-    freq.put("요로 ", 75);
-    freq.put("테크", 171);
-    freq.put("회", 16026);
-    freq.put(" 현장", 98);
-    freq.put("질량", 179);
-    freq.put("용된 ", 167);
-    freq.put("없이", 431);
-    freq.put("론으", 87);
-    freq.put("並三國", 84);
-    freq.put("스티안", 65);
-    freq.put("아르헨", 188);
-    freq.put("질랜", 239);
-    freq.put("리안 ", 121);
-    freq.put("홍콩 ", 113);
-    freq.put("세종 ", 61);
-    freq.put("성체", 67);
-    freq.put("없으", 154);
-    freq.put("학자 ", 830);
-    freq.put("소행성", 117);
-    freq.put("아르메", 80);
-    freq.put("생산한", 69);
-    freq.put("생화", 64);
-    freq.put("단편", 181);
-    freq.put("작전 ", 71);
-    freq.put("시키는", 366);
-    freq.put("생활", 791);
-    freq.put("방글라", 64);
-    freq.put("동기 ", 74);
-    freq.put("히브리", 114);
-    freq.put("성이 ", 557);
-    freq.put("랑하", 95);
-    freq.put("르가 ", 94);
-    freq.put("중심 ", 210);
-    freq.put(" 미얀", 92);
-    freq.put(" 乘", 159);
-    freq.put("화나", 80);
-    freq.put("베를린", 147);
-    freq.put("비행기", 106);
-    freq.put("면을 ", 202);
-    freq.put("묘호", 73);
-    freq.put("시칠리", 59);
-    freq.put("노", 7620);
-    freq.put("즈", 4475);
-    freq.put("밑", 146);
-    freq.put("렸으", 99);
-    freq.put("리핀의", 59);
-    freq.put("원하고", 76);
-    freq.put("작하여", 246);
-    freq.put(" 미야", 70);
-    freq.put(" 가나", 171);
-    freq.put("페르", 483);
-    freq.put("с", 201);
-    freq.put("호선의", 73);
-    freq.put("통되", 70);
-    freq.put("손해", 112);
-    freq.put("공기관", 197);
-    freq.put("능이", 137);
-    freq.put("흥과 ", 58);
-    freq.put("맨해튼", 63);
-    freq.put("목표", 383);
-    freq.put("능을", 413);
-    freq.put("선과 ", 211);
-    freq.put("생한", 515);
-    freq.put("생하", 591);
-    freq.put(" 집안", 60);
-    freq.put("회사가", 85);
-    freq.put("이브러", 106);
-    freq.put("변을", 61);
-    freq.put("화동", 78);
-    freq.put("것이라", 157);
-    freq.put("유래하", 101);
-    freq.put("화도", 69);
-    freq.put("의가 ", 145);
-    freq.put("랑크 ", 135);
-    freq.put("작하였", 243);
-    freq.put("드 ", 7173);
-    freq.put("작의 ", 72);
-    freq.put("류로", 226);
-    freq.put("실에 ", 74);
-    freq.put("변 ", 297);
-    freq.put("없어", 112);
-    freq.put("곧", 180);
-    freq.put("彦", 59);
-    freq.put(" 규칙", 165);
-    freq.put(" 丈", 484);
-    freq.put("추세", 127);
-    freq.put("투아니", 93);
-    freq.put("명이다", 422);
-    freq.put("박사 ", 73);
-    freq.put("교단", 121);
-    freq.put("양사상", 138);
-    freq.put("말로 ", 363);
-    freq.put("모를 ", 205);
-    freq.put(" 벌이", 59);
-    freq.put(" 벌인", 98);
-    freq.put("태어났", 310);
-    freq.put("생했", 81);
-    freq.put(" 유산", 69);
-    freq.put("태어나", 175);
-    freq.put("태어난", 296);
-    freq.put("화당", 76);
-    freq.put("젊", 125);
-    freq.put("류하다", 77);
-    freq.put("목으", 232);
-    freq.put("상품을", 66);
-    freq.put("화유산", 156);
-    freq.put("씬", 77);
-    freq.put("선시대", 218);
-    freq.put("상품의", 60);
-    freq.put("후 ", 3176);
-    freq.put("원하기", 109);
-    freq.put("차로 ", 128);
-    freq.put(" 그런", 74);
-    freq.put("류하는", 80);
-    freq.put("화는", 234);
-    freq.put("저장하", 84);
-    freq.put("감을", 118);
-    freq.put(" 반발", 61);
-    freq.put("추상", 117);
-    freq.put(" 가능", 764);
-    freq.put("숙", 641);
-    freq.put(" 완공", 67);
-    freq.put(" 반복", 102);
-    freq.put(" 가는", 110);
-    freq.put("래되었", 95);
-    freq.put("밀도", 557);
-    freq.put("도니아", 125);
-    freq.put(" 되었", 1574);
-    freq.put("가상의", 121);
-    freq.put(" 건조", 136);
-    freq.put("재단 ", 121);
-    freq.put("은하 ", 58);
-    freq.put("담배", 65);
-    freq.put("주간 ", 66);
-    freq.put("육기관", 94);
-    freq.put("행위 ", 176);
-    freq.put("감정", 123);
-    freq.put("됨", 160);
-    freq.put("베어", 68);
-    freq.put(" 반대", 427);
-    freq.put("관광객", 71);
-    freq.put("기까지", 238);
-    freq.put(" 자국", 94);
-    freq.put("새 ", 176);
-    freq.put("안하", 96);
-    freq.put("화국이", 115);
-    freq.put(" 이승", 76);
-    freq.put(" 이슬", 305);
-    freq.put(" 이스", 433);
-    freq.put(" 망원", 101);
-    freq.put(" 저지", 85);
-    freq.put("화국의", 592);
-    freq.put("도하는", 89);
-    freq.put(" 반도", 513);
-    freq.put("박테", 79);
-    freq.put("발전을", 350);
-    freq.put("원으로", 777);
-    freq.put("신문》", 123);
-    freq.put("한국불", 125);
-    freq.put("이풀로", 78);
-    freq.put("냐", 427);
-    freq.put("자니", 97);
-    freq.put("휘자", 123);
-    freq.put(" 발트", 81);
-    freq.put("호에", 620);
-    freq.put("성산", 69);
-    freq.put("크스", 277);
-    freq.put(" 이시", 95);
-    freq.put("불리며", 153);
-    freq.put("페테르", 78);
-    freq.put("성사", 84);
-    freq.put("커스", 115);
-    freq.put("스파이", 76);
-    freq.put("솔로몬", 76);
-    freq.put("담당", 568);
-    freq.put("트리스", 63);
-    freq.put("펜실", 91);
-    freq.put("감각", 102);
-    freq.put("부통", 99);
-    freq.put("한다는", 384);
-    freq.put("성서", 193);
-    freq.put("이베리", 109);
-    freq.put("사에 ", 412);
-    freq.put(" 공국", 74);
-    freq.put(" 딸이", 114);
-    freq.put("통로", 60);
-    freq.put("거이다", 64);
-    freq.put("림축산", 107);
-    freq.put("신설되", 74);
-    freq.put(" 에게", 145);
-    freq.put("부터", 5834);
-    freq.put("지스터", 88);
-    freq.put("통은 ", 64);
-    freq.put("고는 ", 197);
-    freq.put("로마의", 132);
-    freq.put("화방", 117);
-    freq.put("강 ", 1090);
-    freq.put("통령", 1141);
-    freq.put("신호 ", 86);
-    freq.put(" 일환", 93);
-    freq.put("류되", 96);
-    freq.put("까지를", 69);
-    freq.put("류된", 67);
-    freq.put("화국에", 206);
-    freq.put("추출", 65);
-    freq.put("발전에", 578);
-    freq.put("염병", 62);
-    freq.put(" 청소", 291);
-    freq.put(" 집중", 134);
-    freq.put("징이다", 166);
-    freq.put("성수", 74);
-    freq.put(" 점성", 173);
-    freq.put("성술", 118);
-    freq.put("헌정", 58);
-    freq.put("메리카", 560);
-    freq.put(" 크리", 494);
-    freq.put("성시", 131);
-    freq.put(" 이산", 64);
-    freq.put(" 이사", 315);
-    freq.put("딕", 142);
-    freq.put("베이", 1145);
-    freq.put("키보드", 63);
-    freq.put("정보를", 393);
-    freq.put("애플 ", 68);
-    freq.put("제에 ", 283);
-    freq.put(" 학교", 399);
-    freq.put("집권", 101);
-    freq.put("값이", 110);
-    freq.put("시외전", 76);
-    freq.put("공주 ", 71);
-    freq.put("三三 ", 1345);
-    freq.put("리그 ", 853);
-    freq.put("텔 ", 308);
-    freq.put("통문", 80);
-    freq.put("값을", 97);
-    freq.put("미얀마", 91);
-    freq.put(" 이상", 1002);
-    freq.put("질로", 116);
-    freq.put(" 청사", 77);
-    freq.put(" 이성", 104);
-    freq.put(" 크레", 128);
-    freq.put("리즈는", 127);
-    freq.put("홀름", 57);
-    freq.put("로마에", 76);
-    freq.put("페란", 60);
-    freq.put("단속", 75);
-    freq.put(" 집적", 64);
-    freq.put("공개되", 85);
-    freq.put("르게 ", 297);
-    freq.put("율 ", 154);
-    freq.put(" 倉並", 114);
-    freq.put(" 倉丘", 63);
-    freq.put("리엄 ", 215);
-    freq.put("동 ", 5208);
-    freq.put(" 倉三", 242);
-    freq.put(" 倉丁", 148);
-    freq.put(" 크로", 292);
-    freq.put("대신 ", 324);
-    freq.put("힌 ", 149);
-    freq.put("丁人 ", 68);
-    freq.put("트라이", 124);
-    freq.put("플랫폼", 184);
-    freq.put("터넷 ", 430);
-    freq.put("료의 ", 83);
-    freq.put(" 살고", 132);
-    freq.put("부패", 65);
-    freq.put("페라", 351);
-    freq.put("동쪽", 1485);
-    freq.put("화합물", 130);
-    freq.put(" 크루", 115);
-    freq.put("볼 ", 700);
-    freq.put("레의 ", 65);
-    freq.put(" 倉亂", 57);
-    freq.put("크와", 139);
-    freq.put("부품", 104);
-    freq.put("리튼 ", 69);
-    freq.put(" 현 ", 1849);
-    freq.put(" 이온", 105);
-    freq.put(" 이오", 58);
-    freq.put("三亞三", 128);
-    freq.put("거리에", 131);
-    freq.put("국으로", 324);
-    freq.put("국기", 252);
-    freq.put("축이", 59);
-    freq.put("여성의", 88);
-    freq.put("획 ", 208);
-    freq.put(" 이외", 199);
-    freq.put("니라 ", 509);
-    freq.put(" 가르", 250);
-    freq.put("대하", 654);
-    freq.put("대학", 3157);
-    freq.put("통부", 57);
-    freq.put("대한", 10786);
-    freq.put("대항", 184);
-    freq.put("작가", 798);
-    freq.put("합된", 94);
-    freq.put("야마", 570);
-    freq.put("대해", 906);
-    freq.put("구치 ", 63);
-    freq.put("안토", 110);
-    freq.put("판을 ", 143);
-    freq.put("화를", 1063);
-    freq.put("지방과", 88);
-    freq.put("벨라", 135);
-    freq.put("대행", 62);
-    freq.put("작과", 77);
-    freq.put(" 따라", 2041);
-    freq.put("작곡", 859);
-    freq.put("치이다", 129);
-    freq.put(" 이용", 1530);
-    freq.put("류는", 92);
-    freq.put("세네갈", 68);
-    freq.put("세츠 ", 90);
-    freq.put("토 ", 1338);
-    freq.put("일본식", 166);
-    freq.put("선거에", 114);
-    freq.put(" 반란", 141);
-    freq.put("향하", 118);
-    freq.put("지방검", 64);
-    freq.put(" 이웃", 64);
-    freq.put("르기까", 96);
-    freq.put("지방국", 73);
-    freq.put("크의", 348);
-    freq.put(" 이유", 297);
-    freq.put("그린 ", 169);
-    freq.put("기는 ", 947);
-    freq.put("성애", 87);
-    freq.put("크이", 135);
-    freq.put("색", 2020);
-    freq.put(" 이익", 269);
-    freq.put("오디오", 134);
-    freq.put("이클 ", 128);
-    freq.put("대표", 1493);
-    freq.put(" 이의", 67);
-    freq.put("응하여", 78);
-    freq.put(" 청원", 63);
-    freq.put("른", 4259);
-    freq.put(" 가로", 154);
-    freq.put("각", 5239);
-    freq.put("성에", 448);
-    freq.put("수도 ", 546);
-    freq.put("타인 ", 187);
-    freq.put("화로", 327);
-    freq.put("중심의", 73);
-    freq.put("지냈으", 100);
-    freq.put(" 활발", 97);
-    freq.put("밀리", 163);
-    freq.put(" 이자", 142);
-    freq.put("시스 ", 159);
-    freq.put("일은 ", 171);
-    freq.put("중을 ", 67);
-    freq.put("뿌", 188);
-    freq.put("님의", 97);
-    freq.put("부하", 241);
-    freq.put("부학", 61);
-    freq.put("부한", 79);
-    freq.put("산업의", 264);
-    freq.put("성어", 114);
-    freq.put("법을 ", 510);
-    freq.put("亞丁 ", 83);
-    freq.put("산업을", 71);
-    freq.put("않는 ", 497);
-    freq.put("님이", 60);
-    freq.put("화민", 221);
-    freq.put("국가", 3195);
-    freq.put(" 술탄", 78);
-    freq.put("어스 ", 86);
-    freq.put(" 가문", 299);
-    freq.put("잇", 387);
-    freq.put("차이가", 126);
-    freq.put("발의 ", 57);
-    freq.put("발한 ", 578);
-    freq.put("선교사", 68);
-    freq.put("공기업", 62);
-    freq.put("웠다", 116);
-    freq.put("선거인", 76);
-    freq.put("명가", 99);
-    freq.put("あ ", 337);
-    freq.put("이나 ", 3015);
-    freq.put("추진", 396);
-    freq.put("발전소", 109);
-    freq.put("성원", 193);
-    freq.put(" 엘리", 185);
-    freq.put("연주자", 75);
-    freq.put(" 미치", 120);
-    freq.put(" 임기", 78);
-    freq.put(" 임금", 138);
-    freq.put("랙 ", 101);
-    freq.put("참전", 80);
-    freq.put("명과", 183);
-    freq.put(" 친위", 73);
-    freq.put("국경", 557);
-    freq.put("부호", 224);
-    freq.put("영한 ", 59);
-    freq.put(" 미카", 72);
-    freq.put("국계", 88);
-    freq.put("화물", 206);
-    freq.put("성요", 67);
-    freq.put("트리아", 442);
-    freq.put("스 ", 13453);
-    freq.put("참조", 109);
-    freq.put(" 가미", 74);
-    freq.put("부활", 98);
-    freq.put("성우", 110);
-    freq.put("성운", 59);
-    freq.put("덩", 135);
-    freq.put("레마", 102);
-    freq.put("국공", 136);
-    freq.put("국과", 776);
-    freq.put("넷을 ", 59);
-    freq.put("로아티", 131);
-    freq.put("국관", 64);
-    freq.put("성의", 584);
-    freq.put("따온 ", 72);
-    freq.put("성은", 337);
-    freq.put("성을", 1294);
-    freq.put("대형", 256);
-    freq.put("원숭이", 76);
-    freq.put(" 亂丁", 147);
-    freq.put("성이", 936);
-    freq.put("성인", 258);
-    freq.put("안티", 93);
-    freq.put(" 亂三", 239);
-    freq.put("촬", 196);
-    freq.put("동지", 68);
-    freq.put("피", 5014);
-    freq.put("호작용", 139);
-    freq.put("차와 ", 63);
-    freq.put("베스", 344);
-    freq.put("타내는", 318);
-    freq.put("치단", 151);
-    freq.put("동진", 82);
-    freq.put("구는 ", 2663);
-    freq.put("국교", 130);
-    freq.put("대화", 239);
-    freq.put("하이 ", 171);
-    freq.put("그들은", 74);
-    freq.put("성으", 264);
-    freq.put(" 亂之", 174);
-    freq.put("백 ", 172);
-    freq.put("국군", 183);
-    freq.put("그들의", 150);
-    freq.put("화면", 122);
-    freq.put("질병", 167);
-    freq.put("대회", 1337);
-    freq.put("힐", 206);
-    freq.put("並丁三", 78);
-    freq.put("크에", 279);
-    freq.put("제학 ", 83);
-    freq.put("바니아", 130);
-    freq.put("추정", 272);
-    freq.put(" 반드", 89);
-    freq.put("뜻", 2127);
-    freq.put("並丁並", 60);
-    freq.put("추적", 79);
-    freq.put("성자", 131);
-    freq.put("빌 ", 184);
-    freq.put(" 한강", 168);
-    freq.put("트비히", 100);
-    freq.put("並丁之", 93);
-    freq.put(" 알려", 1676);
-    freq.put("명한 ", 534);
-    freq.put("닉스 ", 124);
-    freq.put("부흥", 81);
-    freq.put(" 이에", 430);
-    freq.put("크어", 57);
-    freq.put("성장", 335);
-    freq.put(" 이었", 171);
-    freq.put("컨트", 120);
-    freq.put("어야 ", 159);
-    freq.put(" 에디", 95);
-    freq.put("럼비아", 66);
-    freq.put("애 ", 160);
-    freq.put("사", 52637);
-    freq.put("대중", 546);
-    freq.put("었다 ", 8595);
-    freq.put("되", 20943);
-    freq.put("처음 ", 669);
-    freq.put("대사 ", 83);
-    freq.put("림수", 541);
-    freq.put("목소", 65);
-    freq.put("언어는", 67);
-    freq.put(" 싱어", 64);
-    freq.put("돌 ", 128);
-    freq.put("지게 ", 159);
-    freq.put("업무 ", 115);
-    freq.put("권이 ", 170);
-    freq.put("엔 ", 200);
-    freq.put("호선 ", 244);
-    freq.put("진화 ", 77);
-    freq.put("고객", 146);
-    freq.put("오늘날", 414);
-    freq.put("르기도", 285);
-    freq.put("즘의 ", 66);
-    freq.put("부정", 220);
-    freq.put("부제", 59);
-    freq.put("명단", 130);
-    freq.put("대서", 179);
-    freq.put("노동자", 160);
-    freq.put("지부", 157);
-    freq.put("차이다", 148);
-    freq.put("명칭 ", 96);
-    freq.put("대교 ", 83);
-    freq.put("문화 ", 681);
-    freq.put(" 일체", 59);
-    freq.put("부조", 64);
-    freq.put("부족", 250);
-    freq.put("대적", 271);
-    freq.put("한국사", 95);
-    freq.put("국대", 144);
-    freq.put("대전", 1323);
-    freq.put("목사", 132);
-    freq.put("왕으로", 142);
-    freq.put("방을 ", 182);
-    freq.put("단장", 102);
-    freq.put(" 亂倉", 78);
-    freq.put("션으", 79);
-    freq.put("부지", 240);
-    freq.put("亂並 ", 148);
-    freq.put(" 감정", 108);
-    freq.put("션은", 114);
-    freq.put("표준이", 73);
-    freq.put("션을", 118);
-    freq.put("션의", 93);
-    freq.put("仕", 271);
-    freq.put("평화 ", 62);
-    freq.put("지바", 88);
-    freq.put("맛", 168);
-    freq.put("과학 ", 369);
-    freq.put("지방", 3019);
-    freq.put("대조", 88);
-    freq.put("션이", 221);
-    freq.put("단으", 253);
-    freq.put("생식", 87);
-    freq.put("생시", 83);
-    freq.put("리는 ", 1318);
-    freq.put("있으면", 59);
-    freq.put("있으며", 2859);
-    freq.put("쪽에는", 101);
-    freq.put("사거리", 82);
-    freq.put("단위", 503);
-    freq.put("국도", 235);
-    freq.put("단일", 159);
-    freq.put("단이", 638);
-    freq.put(" 에드", 185);
-    freq.put("족이 ", 130);
-    freq.put("단의", 275);
-    freq.put("박정", 58);
-    freq.put("다비", 69);
-    freq.put("말이다", 630);
-    freq.put("들로 ", 446);
-    freq.put("사나 ", 68);
-    freq.put("단은", 441);
-    freq.put(" 미터", 113);
-    freq.put("단을", 267);
-    freq.put("류가", 157);
-    freq.put("용이 ", 226);
-    freq.put(" 일치", 69);
-    freq.put("엘리", 216);
-    freq.put(" 달리", 473);
-    freq.put("회사로", 118);
-    freq.put("것처", 82);
-    freq.put("손실", 63);
-    freq.put("라이언", 123);
-    freq.put("생성", 266);
-    freq.put("랑수", 68);
-    freq.put("술개발", 68);
-    freq.put("라이며", 60);
-    freq.put("탁집행", 59);
-    freq.put("해에 ", 167);
-    freq.put("계선", 74);
-    freq.put("시코의", 88);
-    freq.put("검사 ", 107);
-    freq.put("국내", 616);
-    freq.put("래하였", 76);
-    freq.put(" 일컬", 82);
-    freq.put("화학자", 72);
-    freq.put("차이나", 64);
-    freq.put("테오", 100);
-    freq.put("여기서", 132);
-    freq.put("동과 ", 314);
-    freq.put(" 세상", 123);
-    freq.put("것의 ", 67);
-    freq.put("독립을", 81);
-    freq.put("피해자", 88);
-    freq.put("명나", 114);
-    freq.put("기구 ", 245);
-    freq.put("사실을", 90);
-    freq.put("컨", 597);
-    freq.put("단어", 494);
-    freq.put("독립운", 225);
-    freq.put("수다 ", 66);
-    freq.put("丘丁 ", 189);
-    freq.put("к", 231);
-    freq.put("술은 ", 76);
-    freq.put("고비나", 106);
-    freq.put("남이", 161);
-    freq.put("퍼 ", 383);
-    freq.put("투로 ", 104);
-    freq.put("디미르", 96);
-    freq.put("회사를", 67);
-    freq.put(" 비용", 109);
-    freq.put("단에", 340);
-    freq.put("화국", 2106);
-    freq.put("한국시", 112);
-    freq.put("류군", 65);
-    freq.put("펀", 122);
-    freq.put("국농", 82);
-    freq.put("헬름", 103);
-    freq.put("테이", 563);
-    freq.put(" 돌아", 168);
-    freq.put("테일", 72);
-    freq.put("테인", 310);
-    freq.put("투 ", 527);
-    freq.put("작동", 101);
-    freq.put("량의 ", 196);
-    freq.put("중이다", 171);
-    freq.put("상을 ", 1272);
-    freq.put("전에 ", 1190);
-    freq.put("션에", 87);
-    freq.put("록", 4253);
-    freq.put("생산", 1237);
-    freq.put("묘사", 175);
-    freq.put("팀을 ", 101);
-    freq.put("페이지", 237);
-    freq.put(" 빅토", 126);
-    freq.put("생의", 222);
-    freq.put("생을", 123);
-    freq.put("지류", 134);
-    freq.put(" 에너", 453);
-    freq.put("한국어", 281);
-    freq.put("부천", 98);
-    freq.put("생이", 317);
-    freq.put(" 살던", 66);
-    freq.put("지르", 60);
-    freq.put("출연하", 62);
-    freq.put("지를", 1015);
-    freq.put(" 일정", 464);
-    freq.put(" 세와", 139);
-    freq.put("상징하", 77);
-    freq.put("日三", 105);
-    freq.put("쉬 ", 68);
-    freq.put("목에", 288);
-    freq.put("통한 ", 448);
-    freq.put("작된", 385);
-    freq.put("령을 ", 243);
-    freq.put("한국에", 288);
-    freq.put("경이 ", 113);
-    freq.put("라이버", 78);
-    freq.put("지마", 92);
-    freq.put("예술 ", 247);
-    freq.put("지만", 2443);
-    freq.put("비아의", 150);
-    freq.put("대출", 63);
-    freq.put("단순", 280);
-    freq.put("부착", 63);
-    freq.put("제국 ", 423);
-    freq.put(" 세우", 109);
-    freq.put(" 세운", 200);
-    freq.put("듀", 325);
-    freq.put("생자", 65);
-    freq.put("지름", 79);
-    freq.put(" 세워", 312);
-    freq.put("룸 ", 70);
-    freq.put("들었다", 123);
-    freq.put(" 일종", 701);
-    freq.put(" 범위", 193);
-    freq.put("만명", 119);
-    freq.put(" 세웠", 103);
-    freq.put("지리", 373);
-    freq.put("론에", 369);
-    freq.put("편이다", 60);
-    freq.put(" 삼국", 254);
-    freq.put("다목", 60);
-    freq.put("텍사", 130);
-    freq.put("도지사", 58);
-    freq.put("메달 ", 69);
-    freq.put("재하였", 61);
-    freq.put("지로", 949);
-    freq.put("층을 ", 58);
-    freq.put("니버스", 58);
-    freq.put("구스타", 61);
-    freq.put("림이", 95);
-    freq.put("대책", 66);
-    freq.put("로도 ", 664);
-    freq.put("사실상", 154);
-    freq.put("민간 ", 90);
-    freq.put(" 점령", 153);
-    freq.put("림의", 63);
-    freq.put(" 倉倉", 67);
-    freq.put("림을", 114);
-    freq.put(" 세인", 106);
-    freq.put(" 삼고", 59);
-    freq.put(" 세이", 184);
-    freq.put("태양계", 61);
-    freq.put("사이드", 109);
-    freq.put("갑", 443);
-    freq.put(" 미하", 64);
-    freq.put(" 삼각", 141);
-    freq.put("함에 ", 123);
-    freq.put("부총", 58);
-    freq.put(" 미합", 61);
-    freq.put(" 슈퍼", 229);
-    freq.put("할아버", 61);
-    freq.put("지한다", 100);
-    freq.put("스틱 ", 69);
-    freq.put("대체", 365);
-    freq.put("주를 ", 291);
-    freq.put("긴 ", 534);
-    freq.put("벨기", 186);
-    freq.put("안정", 303);
-    freq.put("리위원", 62);
-    freq.put("집단", 449);
-    freq.put("다면", 173);
-    freq.put("안전", 674);
-    freq.put("기후 ", 77);
-    freq.put(" 쿠데", 103);
-    freq.put("군사적", 69);
-    freq.put("션은 ", 114);
-    freq.put("다리", 327);
-    freq.put("문적", 150);
-    freq.put("울 ", 554);
-    freq.put("여기에", 152);
-    freq.put("푸른", 64);
-    freq.put(" 폴리", 129);
-    freq.put(" 집필", 59);
-    freq.put("푸르", 142);
-    freq.put("상 ", 4129);
-    freq.put("스도의", 64);
-    freq.put("인도 ", 427);
-    freq.put("언어들", 71);
-    freq.put(" 집합", 390);
-    freq.put("테스", 290);
-    freq.put("명된", 68);
-    freq.put("명되", 255);
-    freq.put("론이", 279);
-    freq.put("론인", 135);
-    freq.put("미지 ", 78);
-    freq.put("다만", 82);
-    freq.put("다마", 68);
-    freq.put("론의", 239);
-    freq.put("즐기", 62);
-    freq.put("생에", 69);
-    freq.put("재까지", 179);
-    freq.put("있어 ", 371);
-    freq.put(" 학년", 60);
-    freq.put("극을 ", 92);
-    freq.put("쓰고 ", 113);
-    freq.put("목이", 209);
-    freq.put("한국인", 156);
-    freq.put("다를", 71);
-    freq.put(" 기 ", 194);
-    freq.put("다른", 2127);
-    freq.put(" 에도", 489);
-    freq.put(" 집행", 129);
-    freq.put("다르", 492);
-    freq.put(" 되어", 644);
-    freq.put("목의", 117);
-    freq.put("개념이", 228);
-    freq.put("응용 ", 195);
-    freq.put("한국의", 765);
-    freq.put("목은", 112);
-    freq.put("목을", 213);
-    freq.put("텍스", 122);
-    freq.put("한이 ", 81);
-    freq.put("랑이", 109);
-    freq.put("손자", 185);
-    freq.put("키백과", 58);
-    freq.put("아는 ", 196);
-    freq.put("지며", 169);
-    freq.put("한다고", 160);
-    freq.put("랑을", 65);
-    freq.put("지면", 175);
-    freq.put("이가 ", 440);
-    freq.put("쓴다", 98);
-    freq.put("원인 ", 98);
-    freq.put("담고", 149);
-    freq.put("다룬", 160);
-    freq.put("다루", 444);
-    freq.put("관련 ", 511);
-    freq.put("대칭", 171);
-    freq.put("알파", 123);
-    freq.put(" 에는", 69);
-    freq.put(" 한 ", 3539);
-    freq.put("손으", 98);
-    freq.put("종으로", 458);
-    freq.put("상청 ", 78);
-    freq.put("고교", 84);
-    freq.put("손이", 173);
-    freq.put("지명", 245);
-    freq.put("붙여 ", 64);
-    freq.put(" 세에", 95);
-    freq.put("네그로", 106);
-    freq.put("능한", 354);
-    freq.put("능하", 401);
-    freq.put(" 덴마", 189);
-    freq.put("丫", 150);
-    freq.put("위대 ", 64);
-    freq.put("안에", 740);
-    freq.put("지휘관", 62);
-    freq.put("성되어", 523);
-    freq.put("반", 9065);
-    freq.put("웨스", 286);
-    freq.put("부사", 121);
-    freq.put("사이를", 61);
-    freq.put("복리", 93);
-    freq.put("부산", 804);
-    freq.put("대성", 249);
-    freq.put("략", 655);
-    freq.put("참", 2285);
-    freq.put("줄기", 211);
-    freq.put(" 폴란", 330);
-    freq.put("부상", 150);
-    freq.put("총선 ", 59);
-    freq.put("안양", 115);
-    freq.put("엄밀", 70);
-    freq.put("료와 ", 63);
-    freq.put("문제를", 243);
-    freq.put("실시간", 101);
-    freq.put("남녀", 66);
-    freq.put("성되었", 222);
-    freq.put("가에서", 199);
-    freq.put("화권", 68);
-    freq.put(" 프톨", 67);
-    freq.put("페이스", 345);
-    freq.put("라이나", 257);
-    freq.put("팝", 166);
-    freq.put(" 완도", 63);
-    freq.put("화교", 105);
-    freq.put("염기", 67);
-    freq.put("명명", 152);
-    freq.put("이야", 497);
-    freq.put("주교 ", 119);
-    freq.put("업연구", 87);
-    freq.put(" 감소", 102);
-    freq.put("프란시", 116);
-    freq.put("시장 ", 205);
-    freq.put("빈 ", 332);
-    freq.put("拼", 71);
-    freq.put("화관", 60);
-    freq.put("이센 ", 70);
-    freq.put("당시 ", 1027);
-    freq.put("부속", 120);
-    freq.put("류하고", 65);
-    freq.put("적을", 427);
-    freq.put("론적", 143);
-    freq.put("대까지", 71);
-    freq.put("국무", 264);
-    freq.put("휴", 649);
-    freq.put("트리트", 107);
-    freq.put("겹", 91);
-    freq.put("국문", 157);
-    freq.put("어났", 456);
-    freq.put("박사", 214);
-    freq.put("홈즈", 59);
-    freq.put("지되", 322);
-    freq.put("것을", 2110);
-    freq.put("향상", 599);
-    freq.put("드라마", 492);
-    freq.put("명문", 66);
-    freq.put("부산광", 308);
-    freq.put(" 일에", 1863);
-    freq.put("했", 6623);
-    freq.put(" 가격", 195);
-    freq.put("것은", 830);
-    freq.put("전이다", 158);
-    freq.put("것의", 67);
-    freq.put("부서", 74);
-    freq.put("부선", 57);
-    freq.put("시키기", 187);
-    freq.put("부설", 70);
-    freq.put("야의 ", 314);
-    freq.put("한국전", 116);
-    freq.put("대사", 358);
-    freq.put("것인", 86);
-    freq.put("목적", 2924);
-    freq.put("것이", 2686);
-    freq.put("틴어로", 69);
-    freq.put("대상", 709);
-    freq.put(" 가공", 207);
-    freq.put(" 일어", 792);
-    freq.put("깥", 84);
-    freq.put("컬 ", 194);
-    freq.put("드인 ", 58);
-    freq.put("화강", 75);
-    freq.put("관을 ", 436);
-    freq.put("관광부", 1127);
-    freq.put("노래 ", 87);
-    freq.put("것으", 1506);
-    freq.put("淸", 143);
-    freq.put("화가", 521);
-    freq.put(" 감사", 72);
-    freq.put("바로 ", 210);
-    freq.put("단체", 1326);
-    freq.put("휘하", 198);
-    freq.put("넣어", 89);
-    freq.put("번주이", 218);
-    freq.put("부스", 118);
-    freq.put("스페인", 683);
-    freq.put(" 임명", 212);
-    freq.put("스페이", 72);
-    freq.put("릭", 1201);
-    freq.put("툰", 121);
-    freq.put("국령", 72);
-    freq.put("지라", 98);
-    freq.put("ể", 108);
-    freq.put("선수 ", 168);
-    freq.put("양 ", 1169);
-    freq.put("동물이", 83);
-    freq.put("부시", 91);
-    freq.put("표하는", 228);
-    freq.put("명령", 365);
-    freq.put(" 세조", 70);
-    freq.put("동물의", 147);
-    freq.put("준이 ", 89);
-    freq.put("안의", 235);
-    freq.put("만든", 919);
-    freq.put(" 일원", 183);
-    freq.put("언어로", 146);
-    freq.put(" 세종", 300);
-    freq.put(" 존재", 1242);
-    freq.put(" 쿠바", 79);
-    freq.put("안을", 183);
-    freq.put("복무", 64);
-    freq.put("발전하", 100);
-    freq.put("안이", 117);
-    freq.put("만드", 289);
-    freq.put(" 일요", 83);
-    freq.put("것처럼", 82);
-    freq.put("신성 ", 109);
-    freq.put("됐다", 193);
-    freq.put("재하지", 105);
-    freq.put("안으", 82);
-    freq.put("라이다", 188);
-    freq.put("웨", 2585);
-    freq.put("않아 ", 81);
-    freq.put(" 뜻 ", 130);
-    freq.put(" 이탈", 1113);
-    freq.put("국기는", 74);
-    freq.put("러스 ", 211);
-    freq.put(" ال", 89);
-    freq.put("앤 ", 156);
-    freq.put("함한 ", 296);
-    freq.put(" 일을", 310);
-    freq.put("대수", 239);
-    freq.put(" 범죄", 367);
-    freq.put("욱", 203);
-    freq.put(" 범주", 66);
-    freq.put("센", 1955);
-    freq.put("작물", 136);
-    freq.put("황이 ", 66);
-    freq.put("른다", 783);
-    freq.put("라이더", 86);
-    freq.put("박스", 126);
-    freq.put("차이를", 67);
-    freq.put(" 일으", 392);
-    freq.put(" 가까", 264);
-    freq.put("데", 8452);
-    freq.put("다드", 63);
-    freq.put("시키고", 183);
-    freq.put("있으나", 300);
-    freq.put(" 가깝", 67);
-    freq.put(" 감시", 80);
-    freq.put("되면 ", 130);
-    freq.put(" 임무", 131);
-    freq.put("토너먼", 71);
-    freq.put("보고서", 76);
-    freq.put("국립", 960);
-    freq.put("대승", 104);
-    freq.put(" 일자", 88);
-    freq.put("화기", 123);
-    freq.put("함되어", 129);
-    freq.put("끝", 732);
-    freq.put("대시", 62);
-    freq.put("대신", 635);
-    freq.put("원하는", 219);
-    freq.put("형성되", 118);
-    freq.put("형성된", 99);
-    freq.put(" 피고", 86);
-    freq.put("로레슬", 124);
-    freq.put("레마이", 67);
-    freq.put("신화에", 220);
-    freq.put("단위 ", 102);
-    freq.put("렘", 205);
-    freq.put("험자", 75);
-    freq.put("미이다", 94);
-    freq.put("져", 2433);
-    freq.put("지노", 57);
-    freq.put("수와 ", 188);
-    freq.put("나지", 103);
-    freq.put("선은 ", 236);
-    freq.put("대안", 86);
-    freq.put("선으로", 205);
-    freq.put("지널", 67);
-    freq.put(" 에르", 95);
-    freq.put("반부터", 67);
-    freq.put("향에", 72);
-    freq.put(" 일생", 60);
-    freq.put(" 일상", 122);
-    freq.put("쿠가와", 148);
-    freq.put("지식경", 85);
-    freq.put("불리기", 218);
-    freq.put(" 존속", 100);
-    freq.put("이거나", 117);
-    freq.put("명에 ", 142);
-    freq.put("변", 3473);
-    freq.put("제리 ", 77);
-    freq.put("험을", 187);
-    freq.put(" 학문", 432);
-    freq.put("대에", 1339);
-    freq.put("라드 ", 121);
-    freq.put("록》", 64);
-    freq.put("향악", 104);
-    freq.put("안성", 60);
-    freq.put("지방법", 71);
-    freq.put("대역", 76);
-    freq.put("엘라", 90);
-    freq.put(" 이후", 1760);
-    freq.put("험이", 169);
-    freq.put("트비아", 70);
-    freq.put("한국철", 84);
-    freq.put("성하", 1173);
-    freq.put("화가 ", 316);
-    freq.put("亂倉", 143);
-    freq.put(" 크기", 356);
-    freq.put("통계", 363);
-    freq.put("레임워", 62);
-    freq.put("대왕 ", 100);
-    freq.put("수로 ", 513);
-    freq.put("통과", 270);
-    freq.put("베타", 109);
-    freq.put("並三亞", 95);
-    freq.put("화학적", 86);
-    freq.put("다는", 1787);
-    freq.put("베키", 68);
-    freq.put("다다", 78);
-    freq.put("부에", 2420);
-    freq.put("다니", 145);
-    freq.put("안산", 110);
-    freq.put("뮤지컬", 91);
-    freq.put(" 학명", 174);
-    freq.put("부여", 260);
-    freq.put("행정기", 403);
-    freq.put("지냈", 559);
-    freq.put("독립적", 105);
-    freq.put("並三丁", 85);
-    freq.put("並三三", 352);
-    freq.put("부아", 90);
-    freq.put("웨이", 486);
-    freq.put("정보기", 60);
-    freq.put(" 훈련", 135);
-    freq.put("사이버", 92);
-    freq.put("성했", 93);
-    freq.put("지나", 378);
-    freq.put("지난", 146);
-    freq.put("로와 ", 177);
-    freq.put("트이다", 286);
-    freq.put("성향", 92);
-    freq.put("지내", 104);
-    freq.put("並三之", 182);
-    freq.put("지낸", 215);
-    freq.put("보 ", 1353);
-    freq.put("성화", 282);
-    freq.put("파 ", 1076);
-    freq.put("술에서", 64);
-    freq.put("바티칸", 62);
-    freq.put("확립하", 58);
-    freq.put("기·", 85);
-    freq.put("국방", 338);
-    freq.put("리며 ", 216);
-    freq.put("지대", 330);
-    freq.put("해야 ", 228);
-    freq.put("자를 ", 1000);
-    freq.put("並亞三", 75);
-    freq.put("부원", 64);
-    freq.put("대응", 252);
-    freq.put("대의", 1701);
-    freq.put("並亞並", 57);
-    freq.put("주기 ", 97);
-    freq.put("대이", 136);
-    freq.put("대인", 254);
-    freq.put("불리고", 64);
-    freq.put("부였", 63);
-    freq.put(" 조치", 94);
-    freq.put("지도", 837);
-    freq.put("신화의", 72);
-    freq.put("박이", 57);
-    freq.put(" 일시", 89);
-    freq.put("롬", 294);
-    freq.put("향으", 228);
-    freq.put("커피", 96);
-    freq.put("기관 ", 423);
-    freq.put("소이다", 165);
-    freq.put("용어이", 331);
-    freq.put("지동", 62);
-    freq.put("사업 ", 385);
-    freq.put("대장", 219);
-    freq.put("자협회", 65);
-    freq.put("기 ", 12721);
-    freq.put("부와", 395);
-    freq.put("삼각형", 57);
-    freq.put("之", 14530);
-    freq.put("회가 ", 352);
-    freq.put("벽 ", 98);
-    freq.put("향이", 127);
-    freq.put("서초구", 253);
-    freq.put("향을", 646);
-    freq.put("즘 ", 268);
-    freq.put("국보", 135);
-    freq.put("향의", 75);
-    freq.put("만나", 155);
-    freq.put("안시", 66);
-    freq.put("만들", 1730);
-    freq.put("웨어", 1107);
-    freq.put("부자", 61);
-    freq.put("부작", 96);
-    freq.put("딜", 107);
-    freq.put("》는 ", 359);
-    freq.put("추정되", 104);
-    freq.put("만년", 233);
-    freq.put("추정된", 67);
-    freq.put("부장", 172);
-    freq.put("작용 ", 98);
-    freq.put("다나", 107);
-    freq.put("대와", 275);
-    freq.put(" 이해", 327);
-    freq.put("황해", 119);
-    freq.put("대왕", 208);
-    freq.put("베트", 571);
-    freq.put("징하는", 66);
-    freq.put(" 이하", 307);
-    freq.put(" 검찰", 106);
-    freq.put("단지", 227);
-    freq.put("켰다 ", 152);
-    freq.put("부위", 94);
-    freq.put("지니", 319);
-    freq.put("국불", 143);
-    freq.put("지닌", 190);
-    freq.put("자", 37700);
-    freq.put(" 푸에", 67);
-    freq.put("림축", 110);
-    freq.put("질과", 85);
-    freq.put("대용", 96);
-    freq.put("대우", 165);
-    freq.put("이크 ", 192);
-    freq.put("째로", 481);
-    freq.put("천군 ", 115);
-    freq.put(" 크고", 91);
-    freq.put("대원", 153);
-    freq.put("지는", 2060);
-    freq.put("고리 ", 71);
-    freq.put("부의", 976);
-    freq.put("생체", 62);
-    freq.put("지능", 93);
-    freq.put(" 친환", 78);
-    freq.put("부이", 295);
-    freq.put("넓게", 76);
-    freq.put("부인", 395);
-    freq.put("우의 ", 106);
-    freq.put("전파", 285);
-    freq.put(" 되지", 86);
-    freq.put("않았", 277);
-    freq.put(" 원정", 83);
-    freq.put("갈", 1359);
-    freq.put(" 원제", 62);
-    freq.put("ич ", 79);
-    freq.put("않아", 117);
-    freq.put("몽골", 207);
-    freq.put("재되", 117);
-    freq.put("아니", 1250);
-    freq.put("조금 ", 68);
-    freq.put("탄을 ", 70);
-    freq.put("흥에", 88);
-    freq.put("그로 ", 130);
-    freq.put("주주의", 702);
-    freq.put("농업 ", 98);
-    freq.put("敎 ", 92);
-    freq.put("건강", 248);
-    freq.put("大亞 ", 63);
-    freq.put("맡았으", 76);
-    freq.put(" 오페", 308);
-    freq.put(" 원조", 65);
-    freq.put("코나", 75);
-    freq.put("검역", 179);
-    freq.put("맞는", 62);
-    freq.put("진행된", 77);
-    freq.put("진행되", 197);
-    freq.put("례로", 68);
-    freq.put("내기 ", 85);
-    freq.put("방법 ", 120);
-    freq.put("다이 ", 78);
-    freq.put("름으", 597);
-    freq.put("름을", 721);
-    freq.put("름은", 938);
-    freq.put("이미 ", 149);
-    freq.put("쟁에", 206);
-    freq.put("름의", 136);
-    freq.put("당으로", 105);
-    freq.put("오후 ", 120);
-    freq.put("쿠라", 165);
-    freq.put("기에서", 318);
-    freq.put("어에서", 253);
-    freq.put("맞닿", 106);
-    freq.put("육성하", 58);
-    freq.put(" 원주", 160);
-    freq.put("름인", 68);
-    freq.put("름이", 849);
-    freq.put("궤도", 196);
-    freq.put("유출", 66);
-    freq.put("맞는 ", 58);
-    freq.put(" 시호", 361);
-    freq.put("미디", 615);
-    freq.put("맞대", 170);
-    freq.put("방 ", 1689);
-    freq.put("프리미", 129);
-    freq.put("전투", 1249);
-    freq.put("사한 ", 256);
-    freq.put("건국", 190);
-    freq.put(" 메모", 266);
-    freq.put("세웠다", 74);
-    freq.put(" 분포", 280);
-    freq.put("을", 57826);
-    freq.put("분은 ", 160);
-    freq.put("오 ", 2121);
-    freq.put("늘날의", 100);
-    freq.put("따르", 402);
-    freq.put("초가 ", 61);
-    freq.put("래하", 136);
-    freq.put("약간 ", 80);
-    freq.put("세워진", 147);
-    freq.put("윗", 76);
-    freq.put("코노", 61);
-    freq.put("리히", 298);
-    freq.put("겐 ", 159);
-    freq.put(" 분파", 90);
-    freq.put("는데 ", 1814);
-    freq.put("집합 ", 96);
-    freq.put("례를", 88);
-    freq.put("벗어나", 80);
-    freq.put("독이다", 59);
-    freq.put("코네", 66);
-    freq.put("소재지", 313);
-    freq.put("호주 ", 71);
-    freq.put("초등", 129);
-    freq.put("동했다", 59);
-    freq.put("하거나", 693);
-    freq.put("민국과", 113);
-    freq.put(" 나중", 141);
-    freq.put("「", 184);
-    freq.put("름이다", 364);
-    freq.put("않을", 60);
-    freq.put(" 사라", 147);
-    freq.put("않은", 399);
-    freq.put(" 메리", 77);
-    freq.put("겨지", 139);
-    freq.put("제한 ", 74);
-    freq.put("쟁으", 65);
-    freq.put("겨진", 136);
-    freq.put("쟁은", 76);
-    freq.put("쟁을", 248);
-    freq.put("쟁의", 208);
-    freq.put("짝", 66);
-    freq.put("름에", 203);
-    freq.put("않으", 216);
-    freq.put(" 오토", 147);
-    freq.put("분과 ", 75);
-    freq.put("쟁이", 241);
-    freq.put("일에는", 57);
-    freq.put("́", 127);
-    freq.put("육청", 92);
-    freq.put("모할 ", 63);
-    freq.put(" 쓴 ", 317);
-    freq.put("능을 ", 412);
-    freq.put("것에", 206);
-    freq.put("흥을", 81);
-    freq.put("발견하", 88);
-    freq.put("정치적", 249);
-    freq.put("전통", 832);
-    freq.put(" 시행", 352);
-    freq.put("검은", 129);
-    freq.put("생존", 118);
-    freq.put("의사 ", 123);
-    freq.put("사이며", 98);
-    freq.put("밀도는", 453);
-    freq.put("후반 ", 84);
-    freq.put(" 사람", 2374);
-    freq.put(" 시험", 291);
-    freq.put(" 사랑", 216);
-    freq.put(" 기지", 96);
-    freq.put("리프", 182);
-    freq.put("스코 ", 228);
-    freq.put("치했", 87);
-    freq.put("국계 ", 80);
-    freq.put("유치", 96);
-    freq.put("흥원", 108);
-    freq.put("리핀", 364);
-    freq.put("테", 4250);
-    freq.put("실베이", 80);
-    freq.put("리한", 242);
-    freq.put("리하", 714);
-    freq.put("리학", 967);
-    freq.put(" 오키", 113);
-    freq.put("공동으", 122);
-    freq.put("공", 20325);
-    freq.put("량이다", 57);
-    freq.put("믹스 ", 77);
-    freq.put("강의 ", 289);
-    freq.put("펠", 315);
-    freq.put("혹", 1549);
-    freq.put("꾸는", 62);
-    freq.put("π", 78);
-    freq.put("현재 ", 1569);
-    freq.put("래픽", 327);
-    freq.put("향신", 67);
-    freq.put(" 급격", 65);
-    freq.put("모델로", 73);
-    freq.put("자로 ", 938);
-    freq.put("늘날에", 73);
-    freq.put("등에 ", 576);
-    freq.put("임즈", 102);
-    freq.put(" 직무", 110);
-    freq.put("치체 ", 79);
-    freq.put("표를 ", 238);
-    freq.put("코드", 673);
-    freq.put("리투", 109);
-    freq.put("애인 ", 68);
-    freq.put("래스카", 63);
-    freq.put(" 인정", 430);
-    freq.put("먼저 ", 125);
-    freq.put("丘倉", 118);
-    freq.put("임진", 131);
-    freq.put("이오 ", 93);
-    freq.put(" 향상", 440);
-    freq.put(" 포맷", 119);
-    freq.put("작했다", 157);
-    freq.put("남부에", 295);
-    freq.put("등급 ", 68);
-    freq.put("토미 ", 72);
-    freq.put("전히", 177);
-    freq.put("보호 ", 293);
-    freq.put("아인슈", 58);
-    freq.put("최소", 174);
-    freq.put("남구 ", 380);
-    freq.put("유지", 641);
-    freq.put(" 화물", 115);
-    freq.put("결", 4818);
-    freq.put("리튼", 79);
-    freq.put("타마 ", 101);
-    freq.put(" 강 ", 510);
-    freq.put(" 결승", 157);
-    freq.put("리트", 432);
-    freq.put("명명되", 59);
-    freq.put(" 희곡", 57);
-    freq.put("리잡고", 88);
-    freq.put("크고 ", 90);
-    freq.put("쿠데", 107);
-    freq.put(" 포르", 340);
-    freq.put("콩 ", 169);
-    freq.put("인접해", 357);
-    freq.put("열을 ", 131);
-    freq.put("부르기", 284);
-    freq.put("리티", 185);
-    freq.put("내부 ", 106);
-    freq.put(" 분화", 88);
-    freq.put("루아 ", 64);
-    freq.put("전혀", 91);
-    freq.put("징을 ", 98);
-    freq.put("라서 ", 346);
-    freq.put("협회 ", 346);
-    freq.put("乘 ", 269);
-    freq.put("검사", 367);
-    freq.put("록한 ", 134);
-    freq.put("가공의", 109);
-    freq.put("검색", 157);
-    freq.put("수많은", 217);
-    freq.put("로에서", 97);
-    freq.put("전환", 157);
-    freq.put("전화", 322);
-    freq.put("유적", 246);
-    freq.put("유전", 485);
-    freq.put("륨", 139);
-    freq.put("베이징", 158);
-    freq.put(" 놓여", 58);
-    freq.put("롭게", 172);
-    freq.put("증진 ", 102);
-    freq.put("덕 ", 151);
-    freq.put("유주", 119);
-    freq.put("넣", 275);
-    freq.put("신학자", 96);
-    freq.put(" 시티", 84);
-    freq.put("전후", 101);
-    freq.put("아프리", 752);
-    freq.put("단으로", 253);
-    freq.put("멕", 373);
-    freq.put("최상", 86);
-    freq.put("식과 ", 176);
-    freq.put("들에게", 459);
-    freq.put("렉터", 64);
-    freq.put("리포", 321);
-    freq.put(" 화면", 108);
-    freq.put(" 오호", 60);
-    freq.put("봉 ", 181);
-    freq.put(" 포로", 65);
-    freq.put("언어를", 125);
-    freq.put("븐", 182);
-    freq.put("초대", 489);
-    freq.put("성격을", 73);
-    freq.put("란드 ", 706);
-    freq.put("속한", 740);
-    freq.put("속하", 1183);
-    freq.put("부르고", 80);
-    freq.put("와", 17969);
-    freq.put(" 원칙", 300);
-    freq.put("전한", 509);
-    freq.put("전하", 663);
-    freq.put("전학", 81);
-    freq.put("드와 ", 234);
-    freq.put("궁 ", 201);
-    freq.put("전함", 71);
-    freq.put("리크", 106);
-    freq.put("전할", 66);
-    freq.put("수의 ", 736);
-    freq.put("전해", 286);
-    freq.put("방행정", 150);
-    freq.put("전했", 92);
-    freq.put("재는", 563);
-    freq.put(" 오하", 61);
-    freq.put("불교 ", 309);
-    freq.put("원장 ", 135);
-    freq.put(" 나카", 79);
-    freq.put("리키", 700);
-    freq.put(" 사도", 134);
-    freq.put("키", 6923);
-    freq.put(" 심각", 57);
-    freq.put("리킨", 658);
-    freq.put("의미를", 182);
-    freq.put(" 나치", 207);
-    freq.put("초동", 59);
-    freq.put("리타", 117);
-    freq.put(" 오픈", 259);
-    freq.put(" 오프", 61);
-    freq.put(" 인종", 139);
-    freq.put("생을 ", 121);
-    freq.put(" 역대", 77);
-    freq.put("사이클", 132);
-    freq.put("재단", 793);
-    freq.put(" 오피", 88);
-    freq.put("틸", 257);
-    freq.put(" 교구", 126);
-    freq.put("우크라", 193);
-    freq.put("풍", 1318);
-    freq.put("낼 ", 127);
-    freq.put("냈다 ", 524);
-    freq.put("운전", 120);
-    freq.put("다룬다", 88);
-    freq.put("협동", 167);
-    freq.put("테르부", 65);
-    freq.put(" 선보", 66);
-    freq.put(" 캠퍼", 62);
-    freq.put("물리적", 166);
-    freq.put("전세계", 81);
-    freq.put("띠", 194);
-    freq.put("견된 ", 134);
-    freq.put(" 교과", 67);
-    freq.put("위인 ", 74);
-    freq.put("책으로", 129);
-    freq.put("즌이다", 79);
-    freq.put("의미로", 213);
-    freq.put(" 네덜", 389);
-    freq.put("고있다", 120);
-    freq.put("리토", 63);
-    freq.put("해양수", 137);
-    freq.put("생활 ", 136);
-    freq.put("크톱", 69);
-    freq.put(" 분할", 95);
-    freq.put("왕위 ", 75);
-    freq.put("션의 ", 92);
-    freq.put(" 선박", 128);
-    freq.put(" 놓은", 85);
-    freq.put(" 분해", 71);
-    freq.put(" 선발", 106);
-    freq.put("육지", 116);
-    freq.put("서울 ", 354);
-    freq.put("나다 ", 436);
-    freq.put(" 사는", 188);
-    freq.put("최신", 58);
-    freq.put("첨가", 59);
-    freq.put("가가", 352);
-    freq.put(" 선도", 76);
-    freq.put("최초", 1069);
-    freq.put(" 코트", 97);
-    freq.put("재배", 144);
-    freq.put("투이다", 152);
-    freq.put(" 절대", 86);
-    freq.put(" 페리", 59);
-    freq.put("족행위", 60);
-    freq.put("일종이", 264);
-    freq.put("임에", 183);
-    freq.put("작은 ", 650);
-    freq.put("우크", 207);
-    freq.put("가게", 78);
-    freq.put("신을 ", 369);
-    freq.put("핀의", 74);
-    freq.put(" 페르", 414);
-    freq.put("코로", 88);
-    freq.put(" 원산", 126);
-    freq.put("영국 ", 794);
-    freq.put("가격", 229);
-    freq.put("г", 82);
-    freq.put(" 프로", 3860);
-    freq.put("유엔", 67);
-    freq.put("팽", 145);
-    freq.put("가경", 58);
-    freq.put("규칙", 225);
-    freq.put("장했다", 79);
-    freq.put("가고", 100);
-    freq.put("공동체", 220);
-    freq.put(" 모습", 262);
-    freq.put("육원", 57);
-    freq.put("가공", 315);
-    freq.put("전달하", 101);
-    freq.put("丁倉 ", 81);
-    freq.put(" 모스", 252);
-    freq.put("행하", 1296);
-    freq.put("초반", 121);
-    freq.put(" 페루", 67);
-    freq.put("행한", 306);
-    freq.put("선에서", 160);
-    freq.put("머리 ", 75);
-    freq.put("운영", 1427);
-    freq.put("리프 ", 97);
-    freq.put("신설", 186);
-    freq.put(" 정통", 81);
-    freq.put(" 길 ", 123);
-    freq.put("행해", 164);
-    freq.put("소비자", 202);
-    freq.put("행할", 139);
-    freq.put("원후 ", 60);
-    freq.put(" 미나", 115);
-    freq.put("앞에", 101);
-    freq.put("코리", 211);
-    freq.put("터와 ", 146);
-    freq.put("흔", 563);
-    freq.put("없으며", 74);
-    freq.put("면이 ", 103);
-    freq.put("육을", 218);
-    freq.put("대륙 ", 89);
-    freq.put("가구", 64);
-    freq.put("지관리", 66);
-    freq.put("사이타", 67);
-    freq.put("으킨 ", 120);
-    freq.put("림픽 ", 413);
-    freq.put("육의", 120);
-    freq.put(" 포드", 63);
-    freq.put(" 골프", 64);
-    freq.put("설치된", 235);
-    freq.put("설치되", 170);
-    freq.put("코르", 181);
-    freq.put("들 ", 1322);
-    freq.put("난을", 59);
-    freq.put("행과 ", 57);
-    freq.put("권으로", 128);
-    freq.put("춘", 568);
-    freq.put("구글 ", 68);
-    freq.put("라운드", 96);
-    freq.put("조에 ", 202);
-    freq.put("송파", 188);
-    freq.put("육자", 126);
-    freq.put("검찰", 214);
-    freq.put("렉트로", 73);
-    freq.put("운용", 176);
-    freq.put("해방 ", 60);
-    freq.put("자주 ", 141);
-    freq.put("행했", 102);
-    freq.put("있기 ", 171);
-    freq.put(" 코퍼", 58);
-    freq.put(" 사법", 159);
-    freq.put("폼", 238);
-    freq.put("출발하", 59);
-    freq.put(" 취급", 129);
-    freq.put("잉", 715);
-    freq.put(" 원수", 138);
-    freq.put("도로 ", 981);
-    freq.put("유인", 88);
-    freq.put("임자", 75);
-    freq.put("라트비", 70);
-    freq.put("유민주", 67);
-    freq.put("라하", 106);
-    freq.put("가기", 142);
-    freq.put("유의", 257);
-    freq.put("행형", 63);
-    freq.put("가까", 268);
-    freq.put("련한 ", 84);
-    freq.put("대에 ", 921);
-    freq.put(" 최고", 577);
-    freq.put("가깝", 67);
-    freq.put("라프", 68);
-    freq.put("대해 ", 649);
-    freq.put("임위", 64);
-    freq.put(" 작품", 1113);
-    freq.put("통틀어", 103);
-    freq.put("임으", 241);
-    freq.put("있을 ", 239);
-    freq.put("벤처", 112);
-    freq.put("임을", 405);
-    freq.put("임은", 109);
-    freq.put(" 원시", 110);
-    freq.put("별칭", 85);
-    freq.put("임의", 297);
-    freq.put("취하", 134);
-    freq.put("유입", 79);
-    freq.put("之丁之", 91);
-    freq.put("유자", 93);
-    freq.put("임이", 597);
-    freq.put("之両", 59);
-    freq.put("之並", 1657);
-    freq.put("코미", 140);
-    freq.put("코믹", 87);
-    freq.put("족으로", 212);
-    freq.put("송통", 78);
-    freq.put("정상 ", 60);
-    freq.put("之丹", 143);
-    freq.put("유와", 57);
-    freq.put("어서 ", 645);
-    freq.put("之三", 2090);
-    freq.put("之丈", 89);
-    freq.put("之且", 109);
-    freq.put("之丙", 209);
-    freq.put("之丘", 553);
-    freq.put("얼굴", 69);
-    freq.put(" 최근", 299);
-    freq.put("립공원", 182);
-    freq.put("세를 ", 145);
-    freq.put("之之", 1269);
-    freq.put("之乙", 257);
-    freq.put("교에서", 366);
-    freq.put("원산지", 59);
-    freq.put("圓", 737);
-    freq.put(" 좁은", 114);
-    freq.put("之亂", 405);
-    freq.put("용자들", 92);
-    freq.put(" 처음", 1260);
-    freq.put("우편", 143);
-    freq.put("근하", 60);
-    freq.put("쿠바", 94);
-    freq.put("之亞", 451);
-    freq.put("유용", 65);
-    freq.put("여왕 ", 58);
-    freq.put("역에 ", 645);
-    freq.put("乙 ", 1163);
-    freq.put("열", 3577);
-    freq.put("후기 ", 150);
-    freq.put("서기 ", 77);
-    freq.put("료이", 131);
-    freq.put(" 사르", 73);
-    freq.put("三並 ", 896);
-    freq.put("전투이", 155);
-    freq.put(" 감염", 75);
-    freq.put("섞", 131);
-    freq.put("첫", 1006);
-    freq.put("결혼", 181);
-    freq.put("월 ", 22349);
-    freq.put("표된 ", 94);
-    freq.put("료의", 83);
-    freq.put("이르기", 105);
-    freq.put("유성", 172);
-    freq.put("스템을", 165);
-    freq.put("재로", 240);
-    freq.put("초를", 88);
-    freq.put("스템이", 178);
-    freq.put("거는 ", 139);
-    freq.put("맹", 992);
-    freq.put("라파", 96);
-    freq.put("해안", 395);
-    freq.put(" 송파", 169);
-    freq.put("않지", 68);
-    freq.put("시뮬레", 108);
-    freq.put(" 사막", 116);
-    freq.put(" 사마", 97);
-    freq.put(" 요구", 281);
-    freq.put(" 사망", 418);
-    freq.put("없", 2196);
-    freq.put("재료", 225);
-    freq.put("마노", 70);
-    freq.put("丑 ", 151);
-    freq.put("협력", 477);
-    freq.put("법적 ", 132);
-    freq.put(" 사립", 104);
-    freq.put("험의", 59);
-    freq.put("쓰", 3096);
-    freq.put("록 ", 1898);
-    freq.put("흡수", 105);
-    freq.put("레닌", 105);
-    freq.put("운수", 104);
-    freq.put("식이 ", 173);
-    freq.put(" 모음", 140);
-    freq.put("깊은", 85);
-    freq.put("법학", 195);
-    freq.put("료와", 64);
-    freq.put(" 사례", 65);
-    freq.put("납", 236);
-    freq.put("행하고", 204);
-    freq.put("숭이", 78);
-    freq.put("한 ", 36846);
-    freq.put("라틴어", 370);
-    freq.put(" 》은", 86);
-    freq.put(" 관할", 541);
-    freq.put("·", 6405);
-    freq.put("초로", 518);
-    freq.put("의미는", 59);
-    freq.put("협의회", 158);
-    freq.put("임상", 62);
-    freq.put(" 관해", 73);
-    freq.put(" 사령", 113);
-    freq.put("대학 ", 618);
-    freq.put("재를", 220);
-    freq.put(" 관하", 68);
-    freq.put(" 관한", 1386);
-    freq.put("라틴", 522);
-    freq.put("라티", 92);
-    freq.put("회와 ", 238);
-    freq.put("도시 ", 600);
-    freq.put("전동차", 102);
-    freq.put("검정", 63);
-    freq.put("즘", 584);
-    freq.put("역인 ", 105);
-    freq.put("톨", 856);
-    freq.put(" 곳에", 683);
-    freq.put("中", 433);
-    freq.put(" 나아", 105);
-    freq.put(" 정한", 85);
-    freq.put(" 정하", 119);
-    freq.put("라트", 181);
-    freq.put("유산", 310);
-    freq.put("보》", 174);
-    freq.put("구별하", 80);
-    freq.put("주파", 110);
-    freq.put(" 모임", 130);
-    freq.put(" 정해", 170);
-    freq.put("글", 2723);
-    freq.put("전까지", 207);
-    freq.put("철의 ", 57);
-    freq.put("국민경", 58);
-    freq.put("또", 8222);
-    freq.put("베이스", 456);
-    freq.put("묘로 ", 171);
-    freq.put("감독의", 83);
-    freq.put("철도", 871);
-    freq.put(" 관현", 152);
-    freq.put("우호", 59);
-    freq.put("기회를", 64);
-    freq.put("약의 ", 117);
-    freq.put("성학", 57);
-    freq.put("라테", 80);
-    freq.put("에른 ", 64);
-    freq.put("프리드", 163);
-    freq.put("일하게", 128);
-    freq.put("행형 ", 62);
-    freq.put("성한", 344);
-    freq.put("월까지", 163);
-    freq.put(" 사물", 92);
-    freq.put(" 포도", 92);
-    freq.put("롤", 575);
-    freq.put("디오 ", 872);
-    freq.put("단일 ", 104);
-    freq.put("집단 ", 101);
-    freq.put("주에서", 249);
-    freq.put("통치 ", 72);
-    freq.put("규정", 490);
-    freq.put("규제", 83);
-    freq.put(" 메디", 66);
-    freq.put("편을", 77);
-    freq.put("기》", 151);
-    freq.put("즈가", 129);
-    freq.put("산림청", 142);
-    freq.put("리드 ", 197);
-    freq.put("전투에", 151);
-    freq.put("료에", 110);
-    freq.put("몸", 435);
-    freq.put(" 나왔", 80);
-    freq.put(" 나온", 189);
-    freq.put(" 정확", 274);
-    freq.put("임이 ", 89);
-    freq.put("맨해", 63);
-    freq.put(" 나오", 450);
-    freq.put(" 받고", 185);
-    freq.put("쿠르", 111);
-    freq.put("세가 ", 207);
-    freq.put("슬라", 250);
-    freq.put("육상", 138);
-    freq.put("안을 ", 183);
-    freq.put("결성한", 67);
-    freq.put(" 곳이", 274);
-    freq.put("할을 ", 488);
-    freq.put("육성", 326);
-    freq.put("가고 ", 59);
-    freq.put("욕의 ", 65);
-    freq.put("라크", 271);
-    freq.put(" 모아", 120);
-    freq.put(" 가장", 2276);
-    freq.put("임스", 290);
-    freq.put("산식품", 614);
-    freq.put("재무", 115);
-    freq.put("공무원", 718);
-    freq.put("남군", 59);
-    freq.put(" 곳을", 76);
-    freq.put("조성 ", 57);
-    freq.put("동쪽 ", 179);
-    freq.put("그레고", 75);
-    freq.put("협력을", 97);
-    freq.put(" 곳으", 130);
-    freq.put("결하", 438);
-    freq.put("결한", 100);
-    freq.put("임시", 210);
-    freq.put("메모리", 266);
-    freq.put("종류로", 101);
-    freq.put("듀서", 131);
-    freq.put(" 원인", 186);
-    freq.put("선총독", 94);
-    freq.put("결합", 346);
-    freq.put(" 혼합", 144);
-    freq.put("술적 ", 124);
-    freq.put(" 원작", 227);
-    freq.put(" 원자", 518);
-    freq.put("서이다", 247);
-    freq.put("人 ", 246);
-    freq.put("초명", 74);
-    freq.put("화에서", 184);
-    freq.put("놓고 ", 101);
-    freq.put("김해", 119);
-    freq.put(" 모여", 146);
-    freq.put(" 모양", 452);
-    freq.put("라키", 103);
-    freq.put("라데시", 106);
-    freq.put(" 효소", 84);
-    freq.put("풍부", 92);
-    freq.put("부근에", 142);
-    freq.put("자이언", 74);
-    freq.put("송하", 166);
-    freq.put("행하기", 192);
-    freq.put("우정", 123);
-    freq.put("법조", 75);
-    freq.put("즈는", 180);
-    freq.put("우저", 126);
-    freq.put("가되", 103);
-    freq.put("추세츠", 96);
-    freq.put("가된", 598);
-    freq.put("송통신", 78);
-    freq.put("리오", 529);
-    freq.put("제교", 76);
-    freq.put("중추원", 62);
-    freq.put("리올", 65);
-    freq.put("리온", 117);
-    freq.put(" 관점", 110);
-    freq.put("공간에", 115);
-    freq.put(" 시이", 157);
-    freq.put("리와", 436);
-    freq.put("국민당", 74);
-    freq.put("최하", 230);
-    freq.put(" 시인", 309);
-    freq.put("즈니", 258);
-    freq.put(" 우 ", 320);
-    freq.put("키고", 232);
-    freq.put("와는", 313);
-    freq.put("멜", 262);
-    freq.put("법정", 263);
-    freq.put("만큼 ", 89);
-    freq.put(" 시의", 190);
-    freq.put("면적 ", 89);
-    freq.put("세운 ", 205);
-    freq.put("법전", 58);
-    freq.put("법적", 239);
-    freq.put("립허가", 405);
-    freq.put("티스 ", 63);
-    freq.put("들에서", 74);
-    freq.put(" 시장", 413);
-    freq.put("라쿠", 58);
-    freq.put(" 포괄", 107);
-    freq.put("픽에", 161);
-    freq.put(" 받는", 232);
-    freq.put("건복", 108);
-    freq.put("부르며", 106);
-    freq.put("뢰", 281);
-    freq.put("리우", 347);
-    freq.put("포함되", 256);
-    freq.put("녁", 59);
-    freq.put("형문", 163);
-    freq.put("농림축", 109);
-    freq.put("높이는", 372);
-    freq.put("리원", 62);
-    freq.put("문가 ", 75);
-    freq.put("가들", 383);
-    freq.put("유롭게", 61);
-    freq.put("우주", 734);
-    freq.put("애니메", 619);
-    freq.put("라카", 115);
-    freq.put("선민주", 511);
-    freq.put("싱글이", 108);
-    freq.put("화나 ", 70);
-    freq.put("장에 ", 303);
-    freq.put("격", 2956);
-    freq.put("리로 ", 428);
-    freq.put("전술", 58);
-    freq.put("유럽 ", 636);
-    freq.put(" 제목", 256);
-    freq.put(" 고체", 87);
-    freq.put("年", 139);
-    freq.put("헨티나", 186);
-    freq.put(" 시외", 158);
-    freq.put("코", 6706);
-    freq.put(" 정지", 85);
-    freq.put("리의", 878);
-    freq.put("류가 ", 152);
-    freq.put("의하는", 116);
-    freq.put(" 오스", 1097);
-    freq.put("닭", 75);
-    freq.put("리이", 430);
-    freq.put(" 시와", 120);
-    freq.put("並三並", 166);
-    freq.put("헤비", 60);
-    freq.put("리인", 91);
-    freq.put("리자", 271);
-    freq.put("우즈", 100);
-    freq.put("본사", 255);
-    freq.put("리잡", 147);
-    freq.put("극적", 138);
-    freq.put("아티아", 132);
-    freq.put("전승", 143);
-    freq.put("전시", 500);
-    freq.put(" 향하", 60);
-    freq.put("달되", 59);
-    freq.put(" 관직", 109);
-    freq.put("포", 9485);
-    freq.put("전신", 167);
-    freq.put(" 희망", 65);
-    freq.put("정적인", 117);
-    freq.put("결정", 751);
-    freq.put("보인다", 123);
-    freq.put(" 분산", 111);
-    freq.put("之國", 69);
-    freq.put("전설", 222);
-    freq.put("전선", 133);
-    freq.put("之圓", 61);
-    freq.put("전세", 108);
-    freq.put(" 교리", 89);
-    freq.put("혁명", 621);
-    freq.put("우루스", 147);
-    freq.put("속성", 78);
-    freq.put("와나", 75);
-    freq.put(" 투표", 249);
-    freq.put("갖는다", 62);
-    freq.put("근처", 198);
-    freq.put("집이다", 61);
-    freq.put("전소", 133);
-    freq.put("다음 ", 231);
-    freq.put("힐 ", 59);
-    freq.put("려대", 69);
-    freq.put("웨일", 116);
-    freq.put("들이 ", 2342);
-    freq.put("전송", 216);
-    freq.put(" 첨단", 85);
-    freq.put("달라", 143);
-    freq.put("음력", 497);
-    freq.put("공간의", 61);
-    freq.put(" 교류", 254);
-    freq.put("망명", 76);
-    freq.put("공간을", 116);
-    freq.put(" 놀이", 123);
-    freq.put("떠나", 66);
-    freq.put("공간이", 89);
-    freq.put(" 시에", 386);
-    freq.put("티안 ", 64);
-    freq.put(" 오세", 84);
-    freq.put(" 심리", 249);
-    freq.put("화적 ", 138);
-    freq.put("치단체", 145);
-    freq.put("그리고", 1096);
-    freq.put("향에 ", 59);
-    freq.put("향의 ", 74);
-    freq.put("무기 ", 82);
-    freq.put("년으", 59);
-    freq.put("동생이", 135);
-    freq.put("확인 ", 117);
-    freq.put("대로 ", 879);
-    freq.put("국이 ", 616);
-    freq.put("용자가", 142);
-    freq.put("리안", 159);
-    freq.put("유주의", 100);
-    freq.put("행하는", 526);
-    freq.put("분의 ", 454);
-    freq.put("섬을 ", 86);
-    freq.put("복", 3536);
-    freq.put("리야", 146);
-    freq.put("가라", 155);
-    freq.put("가락", 137);
-    freq.put("합의 ", 217);
-    freq.put("들어지", 82);
-    freq.put("들어진", 480);
-    freq.put("장과 ", 256);
-    freq.put(" 화가", 164);
-    freq.put("전사", 228);
-    freq.put(" 저명", 67);
-    freq.put("관리청", 88);
-    freq.put("국무총", 119);
-    freq.put("신교", 225);
-    freq.put("구협회", 61);
-    freq.put("리어", 346);
-    freq.put("옹", 454);
-    freq.put("리얼", 106);
-    freq.put("전산", 136);
-    freq.put("리엄", 263);
-    freq.put("도에 ", 499);
-    freq.put("최후", 86);
-    freq.put("의미가", 67);
-    freq.put("리에", 1417);
-    freq.put("적으로", 6876);
-    freq.put("굿", 62);
-    freq.put("레", 10369);
-    freq.put("전위", 69);
-    freq.put(" 터미", 91);
-    freq.put("살인 ", 59);
-    freq.put("속이", 290);
-    freq.put(" 관찰", 132);
-    freq.put("속인", 60);
-    freq.put("랑카", 81);
-    freq.put("속을", 100);
-    freq.put("속은", 58);
-    freq.put(" 정체", 105);
-    freq.put(" 박사", 165);
-    freq.put("전으", 231);
-    freq.put("속의", 608);
-    freq.put("전을", 821);
-    freq.put("행정", 2568);
-    freq.put("전은", 327);
-    freq.put("임으로", 241);
-    freq.put("설로", 162);
-    freq.put("전의", 505);
-    freq.put("속으", 235);
-    freq.put("렉산", 237);
-    freq.put("혁명 ", 188);
-    freq.put("전인", 95);
-    freq.put("전이", 516);
-    freq.put("권을 ", 623);
-    freq.put(" 했으", 125);
-    freq.put("미로는", 60);
-    freq.put("교육 ", 543);
-    freq.put("가나", 261);
-    freq.put("전자", 1283);
-    freq.put("리스", 2842);
-    freq.put("우체", 68);
-    freq.put(" ああ", 304);
-    freq.put(" 정착", 154);
-    freq.put(" 오이", 81);
-    freq.put("교문", 57);
-    freq.put("전쟁", 1436);
-    freq.put(" 정책", 576);
-    freq.put("리시", 222);
-    freq.put(" 권 ", 193);
-    freq.put("종합적", 78);
-    freq.put("속작", 76);
-    freq.put("댄", 184);
-    freq.put(" 고종", 129);
-    freq.put("카에서", 101);
-    freq.put(" 흔히", 425);
-    freq.put("낙", 450);
-    freq.put("톨레마", 65);
-    freq.put("之倉", 297);
-    freq.put(" 분자", 245);
-    freq.put(" 힙합", 219);
-    freq.put("행중", 61);
-    freq.put("정·", 70);
-    freq.put("물체의", 76);
-    freq.put(" 분쟁", 188);
-    freq.put("범위", 305);
-    freq.put("타난다", 90);
-    freq.put("가노", 67);
-    freq.put("났다 ", 378);
-    freq.put(" 고전", 325);
-    freq.put("국립 ", 152);
-    freq.put(" 시스", 1156);
-    freq.put("키가", 93);
-    freq.put(" 고정", 158);
-    freq.put("이르러", 58);
-    freq.put("전용", 189);
-    freq.put(" 최대", 527);
-    freq.put("기록되", 116);
-    freq.put("꾼", 109);
-    freq.put("와라", 117);
-    freq.put("슨 ", 398);
-    freq.put("정 ", 3475);
-    freq.put("전원", 97);
-    freq.put("건립", 125);
-    freq.put(" 고조", 84);
-    freq.put("쿼", 162);
-    freq.put(" 관측", 187);
-    freq.put("분이다", 91);
-    freq.put(" 시설", 392);
-    freq.put(" 작전", 169);
-    freq.put("험에", 93);
-    freq.put(" 최남", 61);
-    freq.put("법칙", 261);
-    freq.put("이치 ", 126);
-    freq.put("발매 ", 81);
-    freq.put("ι", 218);
-    freq.put("홀", 471);
-    freq.put(" 게임", 2058);
-    freq.put("우치", 86);
-    freq.put("건설 ", 140);
-    freq.put("속씨", 93);
-    freq.put("잉글랜", 374);
-    freq.put("러피언", 110);
-    freq.put("전압", 72);
-    freq.put("중앙 ", 206);
-    freq.put("김천", 58);
-    freq.put("쿄 ", 369);
-    freq.put("취지", 64);
-    freq.put("렉스", 73);
-    freq.put("아트 ", 64);
-    freq.put("정된다", 136);
-    freq.put(" 선교", 139);
-    freq.put("가는", 573);
-    freq.put(" 힌두", 143);
-    freq.put("가능", 974);
-    freq.put("리사", 226);
-    freq.put(" 선구", 63);
-    freq.put("라진", 68);
-    freq.put(" 게이", 242);
-    freq.put("속에", 468);
-    freq.put("라지", 147);
-    freq.put("고를 ", 213);
-    freq.put("라질", 223);
-    freq.put(" 정치", 2113);
-    freq.put("가니", 157);
-    freq.put("에드워", 105);
-    freq.put("전에", 1678);
-    freq.put("전역", 201);
-    freq.put("가다", 72);
-    freq.put(" 밀도", 372);
-    freq.put("싸", 555);
-    freq.put("라즈", 65);
-    freq.put("가대", 160);
-    freq.put("권의 ", 269);
-    freq.put("동가 ", 129);
-    freq.put("데일", 69);
-    freq.put(" 선고", 68);
-    freq.put("並", 12874);
-    freq.put("토에", 143);
-    freq.put("대표 ", 142);
-    freq.put("ア ", 202);
-    freq.put("알", 4503);
-    freq.put("범이", 273);
-    freq.put(" 분열", 80);
-    freq.put("이즈 ", 185);
-    freq.put("건물", 382);
-    freq.put("형법", 133);
-    freq.put("대자", 83);
-    freq.put("형벌", 57);
-    freq.put("가며 ", 64);
-    freq.put("업체이", 81);
-    freq.put("리소", 182);
-    freq.put("나이트", 65);
-    freq.put("재는 ", 561);
-    freq.put(" 언제", 60);
-    freq.put(" 시사", 57);
-    freq.put(" 메가", 61);
-    freq.put("잠", 605);
-    freq.put("심을 ", 205);
-    freq.put("거대한", 110);
-    freq.put(" 선거", 866);
-    freq.put("릴", 663);
-    freq.put("간에 ", 460);
-    freq.put("현이 ", 70);
-    freq.put("가도", 58);
-    freq.put("나이티", 86);
-    freq.put("코의 ", 222);
-    freq.put("픽스", 83);
-    freq.put(" 라틴", 503);
-    freq.put("혔다", 58);
-    freq.put("셋째", 71);
-    freq.put("략적", 66);
-    freq.put("청이 ", 90);
-    freq.put(" 게오", 73);
-    freq.put(" ㎢ ", 1456);
-    freq.put("행의 ", 135);
-    freq.put(" 시상", 122);
-    freq.put("즈에 ", 111);
-    freq.put("지역을", 380);
-    freq.put("라이", 2502);
-    freq.put("지역은", 111);
-    freq.put("제가", 451);
-    freq.put("임했", 179);
-    freq.put("웨어 ", 581);
-    freq.put("마케팅", 128);
-    freq.put(" 고양", 209);
-    freq.put("유해", 57);
-    freq.put("재개", 63);
-    freq.put("화재단", 118);
-    freq.put("지역의", 387);
-    freq.put("리츠", 81);
-    freq.put(" 나타", 1132);
-    freq.put("정보교", 91);
-    freq.put("라의", 696);
-    freq.put(" 정사", 64);
-    freq.put(" 저널", 82);
-    freq.put("유하", 391);
-    freq.put(" 코스", 197);
-    freq.put("지역인", 66);
-    freq.put("취임", 66);
-    freq.put("년까지", 1214);
-    freq.put("사립 ", 60);
-    freq.put("부르는", 270);
-    freq.put("영역을", 65);
-    freq.put("대를 ", 566);
-    freq.put("에의 ", 102);
-    freq.put("뉜", 158);
-    freq.put("리치", 164);
-    freq.put("이들이", 88);
-    freq.put("이듬해", 68);
-    freq.put("이들은", 168);
-    freq.put("리지 ", 202);
-    freq.put("리카", 1441);
-    freq.put(" 요리", 491);
-    freq.put("흐름", 139);
-    freq.put("문에서", 86);
-    freq.put("극", 2043);
-    freq.put("탈 ", 268);
-    freq.put("리칸", 149);
-    freq.put("중국어", 136);
-    freq.put("흐르", 181);
-    freq.put("명확", 97);
-    freq.put("관리자", 123);
-  }
-  private static void init6() {
-    
-    freq.put("루 ", 753);
-    freq.put("하기도", 550);
-    freq.put(" 억 ", 226);
-    freq.put("튜", 408);
-    freq.put("씬 ", 58);
-    freq.put(" 요르", 61);
-    freq.put("니", 10368);
-    freq.put(" 작용", 292);
-    freq.put("스하키", 63);
-    freq.put("법상", 248);
-    freq.put("단조", 57);
-    freq.put("경은 ", 67);
-    freq.put(" 고안", 196);
-    freq.put("법사", 70);
-    freq.put("임한", 108);
-    freq.put("임하", 316);
-    freq.put("있다는", 230);
-    freq.put("라자", 84);
-    freq.put("관하여", 88);
-    freq.put("신문 ", 168);
-    freq.put("교관 ", 61);
-    freq.put("가보", 96);
-    freq.put(" 칼리", 148);
-    freq.put("리케", 256);
-    freq.put("머스 ", 117);
-    freq.put("여를 ", 144);
-    freq.put("첨단", 94);
-    freq.put(" 사건", 1669);
-    freq.put("욕", 736);
-    freq.put("초가", 64);
-    freq.put(" 관세", 105);
-    freq.put("팀 ", 383);
-    freq.put("롱 ", 111);
-    freq.put("빅토", 130);
-    freq.put("행한 ", 180);
-    freq.put("우선", 90);
-    freq.put("라와", 192);
-    freq.put("제거하", 73);
-    freq.put(" 시카", 80);
-    freq.put("관현악", 157);
-    freq.put("사의 ", 834);
-    freq.put(" 작은", 643);
-    freq.put("라오", 172);
-    freq.put("성적 ", 116);
-    freq.put("산구 ", 126);
-    freq.put("즈미", 73);
-    freq.put("등을 ", 1775);
-    freq.put(" 사가", 107);
-    freq.put("창원시", 139);
-    freq.put("함과 ", 91);
-    freq.put(" 교단", 70);
-    freq.put("수에 ", 166);
-    freq.put("스인", 78);
-    freq.put("투갈 ", 67);
-    freq.put("행에", 142);
-    freq.put("젤레스", 103);
-    freq.put("션이다", 124);
-    freq.put("뮬", 208);
-    freq.put("근의", 142);
-    freq.put(" 둔 ", 199);
-    freq.put("라운", 208);
-    freq.put("빅", 263);
-    freq.put("라우", 429);
-    freq.put("이스 ", 652);
-    freq.put("각국의", 60);
-    freq.put("의의 ", 313);
-    freq.put("특별법", 73);
-    freq.put("초과", 70);
-    freq.put("제곱", 73);
-    freq.put("초고", 65);
-    freq.put("丘之", 421);
-    freq.put(" 팀 ", 177);
-    freq.put("먼트 ", 231);
-    freq.put("라야", 78);
-    freq.put("송사", 95);
-    freq.put("물리학", 446);
-    freq.put("丘乙", 185);
-    freq.put("콜롬비", 70);
-    freq.put(" 언어", 1410);
-    freq.put(" 정식", 444);
-    freq.put("패션 ", 61);
-    freq.put("제고", 109);
-    freq.put("재까", 179);
-    freq.put("丘丁", 429);
-    freq.put("丘丘", 278);
-    freq.put("丘並", 322);
-    freq.put("도 ", 19093);
-    freq.put("운항", 73);
-    freq.put("이르렀", 73);
-    freq.put(" 정신", 352);
-    freq.put("위치를", 101);
-    freq.put(" 정수", 130);
-    freq.put(" 고위", 306);
-    freq.put("지역에", 787);
-    freq.put(" 관습", 82);
-    freq.put("운행", 351);
-    freq.put("리처", 147);
-    freq.put("구에 ", 582);
-    freq.put(" 고유", 247);
-    freq.put("라에", 374);
-    freq.put("산물 ", 91);
-    freq.put("우승", 695);
-    freq.put("대군", 106);
-    freq.put("라엘", 229);
-    freq.put("우스", 1158);
-    freq.put("반란", 144);
-    freq.put("때로는", 64);
-    freq.put("노동조", 80);
-    freq.put("즈로", 101);
-    freq.put("丘亂", 138);
-    freq.put("전지", 147);
-    freq.put("전직", 85);
-    freq.put("체제에", 91);
-    freq.put("丘亞", 147);
-    freq.put("영역에", 73);
-    freq.put("셔 ", 93);
-    freq.put("칼", 897);
-    freq.put("구관으", 65);
-    freq.put(" 일이", 219);
-    freq.put(" 처형", 61);
-    freq.put("행의", 136);
-    freq.put("진흥", 630);
-    freq.put("관하였", 59);
-    freq.put("학에서", 938);
-    freq.put("전적", 194);
-    freq.put("전제", 91);
-    freq.put("행을", 299);
-    freq.put(" 나폴", 174);
-    freq.put("보드 ", 159);
-    freq.put("근에", 408);
-    freq.put(" 고용", 157);
-    freq.put("행이", 179);
-    freq.put("시오 ", 93);
-    freq.put("정에서", 302);
-    freq.put(" 고원", 69);
-    freq.put("들어서", 94);
-    freq.put("행위", 930);
-    freq.put("속적", 207);
-    freq.put("행으", 73);
-    freq.put("작곡한", 149);
-    freq.put(" 모터", 106);
-    freq.put("작곡하", 118);
-    freq.put(" 분지", 73);
-    freq.put("유형", 215);
-    freq.put("당이 ", 130);
-    freq.put("엽 ", 65);
-    freq.put("베르", 797);
-    freq.put("출을 ", 84);
-    freq.put(" 시청", 126);
-    freq.put("관위는", 85);
-    freq.put("쿠가", 151);
-    freq.put("정의된", 86);
-    freq.put("정의되", 69);
-    freq.put("행자", 83);
-    freq.put("유효", 82);
-    freq.put(" 오전", 103);
-    freq.put("중화인", 472);
-    freq.put(" 폴", 656);
-    freq.put(" 작업", 288);
-    freq.put("과 ", 18300);
-    freq.put("고로 ", 237);
-    freq.put("이끄는", 118);
-    freq.put("즈를", 119);
-    freq.put("담당한", 59);
-    freq.put("전주", 277);
-    freq.put("담당하", 386);
-    freq.put("네그", 122);
-    freq.put(" 모토", 78);
-    freq.put(" 윈도", 635);
-    freq.put("之大", 89);
-    freq.put("안드레", 67);
-    freq.put("대한제", 216);
-    freq.put(" 고속", 345);
-    freq.put("양", 9401);
-    freq.put("마다 ", 357);
-    freq.put("식별 ", 61);
-    freq.put("중교통", 58);
-    freq.put("완도", 69);
-    freq.put("라마이", 104);
-    freq.put(" 모형", 148);
-    freq.put("안드로", 92);
-    freq.put("가로", 847);
-    freq.put("並之", 1226);
-    freq.put("달리", 502);
-    freq.put("곡하였", 67);
-    freq.put("달린", 72);
-    freq.put("극에", 58);
-    freq.put("캄보디", 75);
-    freq.put(" 함양", 74);
-    freq.put(" 고성", 109);
-    freq.put("운영 ", 417);
-    freq.put("페스티", 62);
-    freq.put("김영", 83);
-    freq.put("였으며", 1303);
-    freq.put(" 오케", 84);
-    freq.put("매주 ", 79);
-    freq.put("유통", 346);
-    freq.put("대외", 71);
-    freq.put("가루", 139);
-    freq.put("가문의", 115);
-    freq.put("행사", 447);
-    freq.put("확보하", 72);
-    freq.put("리하여", 91);
-    freq.put("접한다", 355);
-    freq.put("코가", 63);
-    freq.put("체계이", 67);
-    freq.put("분야에", 384);
-    freq.put("유클", 61);
-    freq.put("나중에", 137);
-    freq.put("럭비 ", 120);
-    freq.put("仕三", 62);
-    freq.put("소재하", 88);
-    freq.put("결의", 140);
-    freq.put(" 원하", 87);
-    freq.put("님의 ", 89);
-    freq.put("건너", 96);
-    freq.put("류", 4914);
-    freq.put("카이 ", 111);
-    freq.put("결이", 61);
-    freq.put("행성", 432);
-    freq.put(" 혼인", 73);
-    freq.put("가르", 365);
-    freq.put("여러가", 94);
-    freq.put("가를", 483);
-    freq.put("니케이", 87);
-    freq.put("전직 ", 79);
-    freq.put("근거로", 57);
-    freq.put("신으로", 438);
-    freq.put("전력 ", 61);
-    freq.put("주된 ", 92);
-    freq.put(" 존스", 65);
-    freq.put("라시", 210);
-    freq.put("법에", 547);
-    freq.put("가리", 1920);
-    freq.put("르크 ", 449);
-    freq.put(" 오카", 66);
-    freq.put("김일", 103);
-    freq.put("우에", 529);
-    freq.put("유키", 92);
-    freq.put("가마", 120);
-    freq.put("통에 ", 62);
-    freq.put(" 관여", 73);
-    freq.put("라스", 508);
-    freq.put("송이", 144);
-    freq.put("달려", 57);
-    freq.put("송을", 189);
-    freq.put("저장", 344);
-    freq.put("서버 ", 134);
-    freq.put("송의", 131);
-    freq.put("문신 ", 143);
-    freq.put("작용하", 94);
-    freq.put("건물 ", 86);
-    freq.put("ああ", 1092);
-    freq.put("리적", 466);
-    freq.put("연방 ", 286);
-    freq.put("극장", 238);
-    freq.put(" 먼저", 127);
-    freq.put(" 함으", 81);
-    freq.put("약성경", 63);
-    freq.put("단지 ", 89);
-    freq.put("취소", 59);
-    freq.put("극작", 92);
-    freq.put("즈베", 96);
-    freq.put("료하", 61);
-    freq.put(" 이행", 101);
-    freq.put(" 정원", 86);
-    freq.put(" 원활", 65);
-    freq.put("우와", 70);
-    freq.put("크는 ", 102);
-    freq.put("체계에", 64);
-    freq.put("헝", 266);
-    freq.put("라서", 389);
-    freq.put("가며", 64);
-    freq.put("가면", 128);
-    freq.put("관리소", 120);
-    freq.put("재산권", 68);
-    freq.put("뒤에 ", 105);
-    freq.put("인용 ", 127);
-    freq.put("건담", 81);
-    freq.put("법원", 385);
-    freq.put(" 시즌", 547);
-    freq.put(" 작사", 165);
-    freq.put("극이", 61);
-    freq.put(" 터널", 91);
-    freq.put("스》", 261);
-    freq.put("극을", 92);
-    freq.put("급 ", 1684);
-    freq.put(" 결의", 95);
-    freq.put("법인", 2460);
-    freq.put("법이", 695);
-    freq.put("험이다", 74);
-    freq.put("서와 ", 94);
-    freq.put(" 작성", 314);
-    freq.put("법의", 401);
-    freq.put("전차", 161);
-    freq.put(" 관위", 91);
-    freq.put(" 코어", 59);
-    freq.put(" 작센", 73);
-    freq.put("우유", 59);
-    freq.put("민을 ", 66);
-    freq.put("법을", 510);
-    freq.put("가문", 317);
-    freq.put("법은", 260);
-    freq.put(" 시절", 186);
-    freq.put("법으", 406);
-    freq.put("기로 ", 619);
-    freq.put("우의", 129);
-    freq.put("창시자", 86);
-    freq.put(" 고시", 62);
-    freq.put("우이", 219);
-    freq.put("우익", 68);
-    freq.put("송에", 109);
-    freq.put("문서 ", 147);
-    freq.put("점을 ", 418);
-    freq.put("산성 ", 74);
-    freq.put("우자", 69);
-    freq.put(" 모험", 70);
-    freq.put("소속으", 82);
-    freq.put(" 관장", 217);
-    freq.put("분야의", 248);
-    freq.put("리즈", 1369);
-    freq.put("가지가", 83);
-    freq.put("리즘", 285);
-    freq.put("전청", 59);
-    freq.put("영화 ", 632);
-    freq.put("분야이", 162);
-    freq.put("관리사", 94);
-    freq.put("틀러", 85);
-    freq.put("태 ", 322);
-    freq.put("전체", 673);
-    freq.put("나폴레", 142);
-    freq.put("틀란", 68);
-    freq.put(" 정의", 672);
-    freq.put("리지", 401);
-    freq.put(" 쿠르", 73);
-    freq.put("소속이", 111);
-    freq.put("틀랜", 270);
-    freq.put("소속의", 361);
-    freq.put("못한 ", 89);
-    freq.put("김씨", 66);
-    freq.put(" 감각", 84);
-    freq.put("정치학", 71);
-    freq.put("퇴", 541);
-    freq.put("가미", 121);
-    freq.put(" 인체", 78);
-    freq.put("교류", 510);
-    freq.put("얼마", 78);
-    freq.put("동시에", 375);
-    freq.put("약은 ", 85);
-    freq.put(" 고분", 81);
-    freq.put(" 사항", 165);
-    freq.put(" 관련", 1271);
-    freq.put("전대", 71);
-    freq.put("육기", 102);
-    freq.put("이때 ", 93);
-    freq.put("락 ", 201);
-    freq.put("달에", 108);
-    freq.put("법론", 58);
-    freq.put("법원에", 72);
-    freq.put("스이다", 194);
-    freq.put("우려", 58);
-    freq.put("사항을", 108);
-    freq.put("코타", 86);
-    freq.put(" 사하", 60);
-    freq.put("법령", 101);
-    freq.put("단이 ", 202);
-    freq.put(" 시라", 58);
-    freq.put("우로", 109);
-    freq.put(" 요소", 324);
-    freq.put(" 분당", 67);
-    freq.put("일랜드", 482);
-    freq.put(" 텍사", 129);
-    freq.put("서 ", 35405);
-    freq.put(" 역할", 582);
-    freq.put("분야로", 104);
-    freq.put("용한다", 393);
-    freq.put("유나이", 86);
-    freq.put("속도", 891);
-    freq.put("휘하는", 77);
-    freq.put("행복", 77);
-    freq.put("프라", 535);
-    freq.put(" 밀양", 57);
-    freq.put(" 역학", 81);
-    freq.put("у", 110);
-    freq.put("그루지", 65);
-    freq.put("워싱턴", 116);
-    freq.put("전도", 170);
-    freq.put("행법", 63);
-    freq.put("병과", 64);
-    freq.put("전동", 176);
-    freq.put("리되어", 97);
-    freq.put("안산시", 60);
-    freq.put("유권", 118);
-    freq.put("구가 ", 427);
-    freq.put("층의 ", 88);
-    freq.put("우루", 219);
-    freq.put("공사의", 74);
-    freq.put("위", 24705);
-    freq.put("모아 ", 105);
-    freq.put("법률", 748);
-    freq.put(" 정립", 87);
-    freq.put("하다고", 79);
-    freq.put(" 오다", 74);
-    freq.put(" 정리", 561);
-    freq.put("라비", 303);
-    freq.put("석 ", 585);
-    freq.put("유사한", 151);
-    freq.put("유사하", 81);
-    freq.put("능하다", 188);
-    freq.put("랑을 ", 65);
-    freq.put("부등식", 78);
-    freq.put(" 오늘", 444);
-    freq.put("았", 1705);
-    freq.put("재한", 349);
-    freq.put("코토", 79);
-    freq.put(" 했다", 544);
-    freq.put("유가", 172);
-    freq.put("우르", 146);
-    freq.put(" 코미", 128);
-    freq.put("십", 781);
-    freq.put("용은 ", 157);
-    freq.put("우를", 179);
-    freq.put("재해", 152);
-    freq.put("값을 ", 97);
-    freq.put("매우 ", 477);
-    freq.put("라브", 117);
-    freq.put(" 색을", 60);
-    freq.put("가야", 126);
-    freq.put("유고", 84);
-    freq.put("무를 ", 833);
-    freq.put(" 풍부", 90);
-    freq.put("공작 ", 150);
-    freq.put("재했", 212);
-    freq.put(" 관리", 1066);
-    freq.put("리랑", 80);
-    freq.put("플리케", 102);
-    freq.put("분야를", 77);
-    freq.put("소는 ", 346);
-    freq.put("並丁 ", 256);
-    freq.put("우리", 506);
-    freq.put("하다가", 230);
-    freq.put("건축", 557);
-    freq.put("가에", 444);
-    freq.put("가지고", 705);
-    freq.put("진행하", 112);
-    freq.put(" 즉 ", 662);
-    freq.put("전달", 281);
-    freq.put("독의 ", 116);
-    freq.put("공모함", 59);
-    freq.put("전당", 60);
-    freq.put("민", 16451);
-    freq.put("가였", 116);
-    freq.put("치에서", 60);
-    freq.put("력 ", 1905);
-    freq.put("근본", 126);
-    freq.put("예정이", 232);
-    freq.put("음주", 74);
-    freq.put("증", 2825);
-    freq.put("리되", 201);
-    freq.put("가오", 62);
-    freq.put("리적인", 105);
-    freq.put("형질", 59);
-    freq.put(" 호텔", 130);
-    freq.put("코틀", 235);
-    freq.put("가와", 549);
-    freq.put("코트", 155);
-    freq.put("재화", 72);
-    freq.put("이하의", 127);
-    freq.put("재활", 72);
-    freq.put(" 텍스", 81);
-    freq.put("리적으", 85);
-    freq.put("협회", 1182);
-    freq.put("달을", 122);
-    freq.put("가요", 88);
-    freq.put("달의", 59);
-    freq.put("타지 ", 89);
-    freq.put("뒤", 1008);
-    freq.put(" 효과", 357);
-    freq.put("강남구", 284);
-    freq.put("가우", 57);
-    freq.put("가운", 1240);
-    freq.put("법원이", 60);
-    freq.put("드는 ", 685);
-    freq.put("리드", 424);
-    freq.put("육과", 405);
-    freq.put("특별자", 254);
-    freq.put("리들", 59);
-    freq.put("리듬", 79);
-    freq.put("라북", 263);
-    freq.put("령이다", 76);
-    freq.put(" 요시", 226);
-    freq.put(" 관문", 58);
-    freq.put("루의 ", 66);
-    freq.put(" 종합", 466);
-    freq.put("육관", 1166);
-    freq.put("옮", 206);
-    freq.put(" 코리", 125);
-    freq.put("당구 ", 75);
-    freq.put("의로 ", 155);
-    freq.put("가을", 69);
-    freq.put("법무", 134);
-    freq.put("스는 ", 657);
-    freq.put("대고", 184);
-    freq.put("육군", 281);
-    freq.put("유기", 217);
-    freq.put("흐스", 60);
-    freq.put("가의", 732);
-    freq.put(" 밤", 177);
-    freq.put("라바", 138);
-    freq.put(" 사형", 76);
-    freq.put("가이", 1724);
-    freq.put("가인", 226);
-    freq.put("세서 ", 65);
-    freq.put("코퍼", 63);
-    freq.put("임금", 151);
-    freq.put("가입", 188);
-    freq.put("가자", 80);
-    freq.put(" 사후", 156);
-    freq.put("전남", 92);
-    freq.put("가장", 2280);
-    freq.put(" 뿌리", 139);
-    freq.put("메르 ", 60);
-    freq.put("임기", 171);
-    freq.put("지역번", 77);
-    freq.put("광 ", 234);
-    freq.put(" 새 ", 102);
-    freq.put("와서", 75);
-    freq.put("형제", 253);
-    freq.put(" 시드", 98);
-    freq.put("웠다 ", 98);
-    freq.put("발견되", 256);
-    freq.put("발견된", 167);
-    freq.put("필름 ", 57);
-    freq.put("형적", 101);
-    freq.put("리눅", 103);
-    freq.put("절", 1922);
-    freq.put(" 나고", 67);
-    freq.put("여러해", 77);
-    freq.put("스어", 694);
-    freq.put("행하여", 85);
-    freq.put("건조", 153);
-    freq.put(" 고리", 78);
-    freq.put(" 시대", 2063);
-    freq.put("시켰다", 116);
-    freq.put(" 항 ", 96);
-    freq.put("강제 ", 60);
-    freq.put(" 오랜", 130);
-    freq.put(" 오래", 309);
-    freq.put("감독을", 67);
-    freq.put("건전", 253);
-    freq.put("친", 1771);
-    freq.put(" 오랫", 76);
-    freq.put("번주", 320);
-    freq.put(" 정보", 1417);
-    freq.put(" 정복", 93);
-    freq.put("三三亞", 275);
-    freq.put("전라", 669);
-    freq.put("필드 ", 75);
-    freq.put("행렬", 102);
-    freq.put("三三亂", 104);
-    freq.put("라미", 123);
-    freq.put("리는", 1356);
-    freq.put("천을 ", 85);
-    freq.put("倣", 128);
-    freq.put("령과 ", 60);
-    freq.put("독일어", 182);
-    freq.put("가산", 81);
-    freq.put("히 ", 2784);
-    freq.put("전략", 331);
-    freq.put("각한 ", 85);
-    freq.put("가상", 319);
-    freq.put("독일에", 106);
-    freq.put("수도원", 123);
-    freq.put("리니", 123);
-    freq.put("즈니 ", 71);
-    freq.put("그레이", 201);
-    freq.put("즈와", 76);
-    freq.put("리다", 169);
-    freq.put(" 나가", 269);
-    freq.put("三三丘", 91);
-    freq.put("뀌었", 102);
-    freq.put("곰", 87);
-    freq.put(" 시도", 132);
-    freq.put("三三丁", 204);
-    freq.put("산구", 164);
-    freq.put("달성", 181);
-    freq.put("三三三", 746);
-    freq.put("라면", 117);
-    freq.put("리대", 73);
-    freq.put("중에 ", 471);
-    freq.put("투표를", 67);
-    freq.put("판 ", 692);
-    freq.put(" 정부", 1251);
-    freq.put("가서", 87);
-    freq.put("가설", 126);
-    freq.put("평가 ", 122);
-    freq.put("순히", 106);
-    freq.put("수적 ", 58);
-    freq.put("최된 ", 172);
-    freq.put("보화", 79);
-    freq.put("학년", 63);
-    freq.put("리더", 98);
-    freq.put("전투기", 110);
-    freq.put("료기", 76);
-    freq.put(" 倉 ", 57);
-    freq.put("션", 2286);
-    freq.put("극복", 58);
-    freq.put("룩", 203);
-    freq.put(" 소 ", 58);
-    freq.put(" 받은", 244);
-    freq.put(" 받을", 65);
-    freq.put("샤 ", 153);
-    freq.put("가속", 96);
-    freq.put("기장을", 58);
-    freq.put("와의", 292);
-    freq.put("코하", 57);
-    freq.put(" 고려", 852);
-    freq.put("기장이", 86);
-    freq.put("스턴 ", 192);
-    freq.put("재", 12501);
-    freq.put("센터 ", 405);
-    freq.put("갱", 78);
-    freq.put("려져", 1058);
-    freq.put("위자", 61);
-    freq.put("와이", 323);
-    freq.put("와인", 57);
-    freq.put(" 사태", 68);
-    freq.put("즈의", 362);
-    freq.put("흑인", 107);
-    freq.put("특히 ", 652);
-    freq.put("동을 ", 1013);
-    freq.put("하여야", 74);
-    freq.put("자연 ", 134);
-    freq.put("국민의", 235);
-    freq.put("즈이", 155);
-    freq.put(" 밤 ", 74);
-    freq.put(" 잉글", 370);
-    freq.put("코프", 157);
-    freq.put("였", 9350);
-    freq.put("라르", 90);
-    freq.put("이중 ", 62);
-    freq.put("라를", 184);
-    freq.put("가수", 461);
-    freq.put("의하여", 356);
-    freq.put("탁 ", 81);
-    freq.put("위치에", 98);
-    freq.put("붉은 ", 71);
-    freq.put("친위대", 72);
-    freq.put("송법", 108);
-    freq.put("독일의", 688);
-    freq.put("건전한", 206);
-    freq.put("탄소 ", 65);
-    freq.put(" 최상", 86);
-    freq.put(" 네트", 572);
-    freq.put("관리를", 117);
-    freq.put("체제를", 101);
-    freq.put("지원 ", 253);
-    freq.put("丛", 58);
-    freq.put("리나", 257);
-    freq.put("가스", 350);
-    freq.put(" 요인", 73);
-    freq.put("근로", 136);
-    freq.put("원이었", 68);
-    freq.put("가슴", 62);
-    freq.put("넘는 ", 95);
-    freq.put("트", 19866);
-    freq.put(" 고문", 87);
-    freq.put("기하", 531);
-    freq.put("라마", 640);
-    freq.put("왼쪽", 64);
-    freq.put("또는 ", 7073);
-    freq.put("기록이", 62);
-    freq.put(" 정비", 99);
-    freq.put("라리", 104);
-    freq.put(" 오디", 174);
-    freq.put(" 제도", 983);
-    freq.put("가시", 211);
-    freq.put("기록을", 88);
-    freq.put(" 나급", 177);
-    freq.put("기록은", 61);
-    freq.put("성리학", 82);
-    freq.put("주파수", 89);
-    freq.put("기장에", 74);
-    freq.put("플", 2945);
-    freq.put("투는 ", 161);
-    freq.put("재판", 339);
-    freq.put("제적 ", 226);
-    freq.put("인간의", 257);
-    freq.put("횡", 121);
-    freq.put("라로", 150);
-    freq.put("인간이", 102);
-    freq.put("흑해 ", 60);
-    freq.put("로서 ", 2731);
-    freq.put("릿", 184);
-    freq.put("중화민", 210);
-    freq.put("때", 4902);
-    freq.put("칙을 ", 131);
-    freq.put("국민에", 61);
-    freq.put(" 급제", 82);
-    freq.put("료가", 69);
-    freq.put(" 받았", 408);
-    freq.put(" 또 ", 308);
-    freq.put("왕조의", 225);
-    freq.put("속된", 176);
-    freq.put("속되", 249);
-    freq.put("리노", 143);
-    freq.put("통합 ", 160);
-    freq.put(" 시내", 231);
-    freq.put("원자력", 149);
-    freq.put("특별시", 2267);
-    freq.put("라루", 63);
-    freq.put("험을 ", 187);
-    freq.put(" 시나", 74);
-    freq.put(" 교차", 215);
-    freq.put("전은 ", 325);
-    freq.put("행하였", 97);
-    freq.put(" 네팔", 63);
-    freq.put("포로 ", 81);
-    freq.put("원자로", 90);
-    freq.put("리브", 160);
-    freq.put(" 함경", 88);
-    freq.put("쿠스 ", 111);
-    freq.put("전문", 1050);
-    freq.put("음식", 352);
-    freq.put(" 저서", 110);
-    freq.put("행되", 505);
-    freq.put("리비", 231);
-    freq.put("행된", 216);
-    freq.put("식에서", 64);
-    freq.put("온 ", 1060);
-    freq.put("내에서", 352);
-    freq.put("최근에", 153);
-    freq.put("회 ", 3813);
-    freq.put(" 더블", 62);
-    freq.put("것에서", 61);
-    freq.put("흥군", 61);
-    freq.put("산", 15857);
-    freq.put(" 게르", 105);
-    freq.put("스이며", 63);
-    freq.put("루이스", 129);
-    freq.put("설치하", 82);
-    freq.put(" 포항", 151);
-    freq.put(" 포함", 1756);
-    freq.put("민국에", 562);
-    freq.put("열이 ", 57);
-    freq.put("최근", 299);
-    freq.put("민족 ", 187);
-    freq.put(" 희생", 96);
-    freq.put("켄", 203);
-    freq.put("흥과", 58);
-    freq.put("척", 639);
-    freq.put("해양경", 119);
-    freq.put("으로는", 2876);
-    freq.put("형식", 491);
-    freq.put("사전 ", 487);
-    freq.put("찬가", 157);
-    freq.put(" 메트", 66);
-    freq.put("이션 ", 833);
-    freq.put("력한 ", 146);
-    freq.put(" 적분", 68);
-    freq.put("함", 6807);
-    freq.put("혐의", 73);
-    freq.put("어진다", 212);
-    freq.put(" 고등", 369);
-    freq.put("전면", 62);
-    freq.put("센터", 804);
-    freq.put("술의 ", 445);
-    freq.put("건에", 176);
-    freq.put(" 스타", 592);
-    freq.put("가축", 73);
-    freq.put("대한불", 58);
-    freq.put("떨", 893);
-    freq.put("영어권", 66);
-    freq.put("매년 ", 363);
-    freq.put("급은 ", 65);
-    freq.put("않고", 536);
-    freq.put("펼", 268);
-    freq.put("주변의", 60);
-    freq.put(" 혼동", 64);
-    freq.put("확", 2379);
-    freq.put("주한 ", 63);
-    freq.put(" 직후", 72);
-    freq.put("량은 ", 105);
-    freq.put("최고", 599);
-    freq.put("쟁과", 63);
-    freq.put(" 코나", 66);
-    freq.put("부호 ", 101);
-    freq.put("센트", 222);
-    freq.put("리바", 71);
-    freq.put(" 함대", 59);
-    freq.put("혁신", 147);
-    freq.put("규격", 148);
-    freq.put("민국의", 2300);
-    freq.put(" 뻗어", 76);
-    freq.put("전류", 94);
-    freq.put("등장인", 96);
-    freq.put("가치", 461);
-    freq.put("라디", 509);
-    freq.put(" 오리", 271);
-    freq.put(" 정당", 373);
-    freq.put("만든다", 72);
-    freq.put("티미디", 76);
-    freq.put("값", 459);
-    freq.put("노이 ", 65);
-    freq.put("리버", 108);
-    freq.put("우는", 273);
-    freq.put("의미하", 328);
-    freq.put("의미한", 603);
-    freq.put(" 오류", 88);
-    freq.put("강화하", 64);
-    freq.put("요한", 1121);
-    freq.put("벤", 610);
-    freq.put("리베", 90);
-    freq.put("갖춘 ", 115);
-    freq.put(" 오른", 92);
-    freq.put(" 오르", 201);
-    freq.put("치를", 548);
-    freq.put(" 화학", 486);
-    freq.put("계가 ", 265);
-    freq.put("인이 ", 565);
-    freq.put("형성", 570);
-    freq.put("형을 ", 227);
-    freq.put("터베이", 229);
-    freq.put("앙 ", 331);
-    freq.put("텐츠", 220);
-    freq.put(" 웨이", 59);
-    freq.put("리보", 100);
-    freq.put(" 화합", 132);
-    freq.put("리본", 58);
-    freq.put(" 분리", 348);
-    freq.put("유체", 83);
-    freq.put("건의", 278);
-    freq.put("생이 ", 83);
-    freq.put("판타", 113);
-    freq.put("량이 ", 162);
-    freq.put(" 더불", 242);
-    freq.put("건을", 482);
-    freq.put("트폰", 76);
-    freq.put(" 선택", 204);
-    freq.put("사 ", 5233);
-    freq.put("건이", 681);
-    freq.put("전력", 195);
-    freq.put("형상", 96);
-    freq.put(" 교사", 123);
-    freq.put("다양체", 72);
-    freq.put("전례", 156);
-    freq.put("주변에", 81);
-    freq.put("형사", 139);
-    freq.put(" 메탈", 133);
-    freq.put(" 정도", 1045);
-    freq.put(" 메타", 86);
-    freq.put("건으", 192);
-    freq.put("취득", 125);
-    freq.put("않기", 58);
-    freq.put("름과", 57);
-    freq.put("마을 ", 150);
-    freq.put("리하는", 212);
-    freq.put("보다 ", 794);
-    freq.put("비 ", 1194);
-    freq.put("잡한 ", 94);
-    freq.put("라드", 158);
-    freq.put("계급", 233);
-    freq.put("국적 ", 77);
-    freq.put("어", 34822);
-    freq.put("컵 ", 410);
-    freq.put(" 최초", 1056);
-    freq.put(" 전동", 120);
-    freq.put("우도", 237);
-    freq.put("음성", 162);
-    freq.put(" 받지", 79);
-    freq.put(" 분류", 697);
-    freq.put("음서", 80);
-    freq.put("궁", 939);
-    freq.put("마지막", 447);
-    freq.put("가적", 80);
-    freq.put("정으로", 195);
-    freq.put("라데", 146);
-    freq.put("월드컵", 315);
-    freq.put("가정", 341);
-    freq.put("륙의 ", 69);
-    freq.put(" 암살", 118);
-    freq.put("음원", 65);
-    freq.put("색 ", 724);
-    freq.put("눈 ", 92);
-    freq.put("丁三亞", 60);
-    freq.put("》에서", 140);
-    freq.put("가졌", 76);
-    freq.put(" 화폐", 85);
-    freq.put("리메", 102);
-    freq.put("왜", 332);
-    freq.put("군 ", 3195);
-    freq.put("가족", 289);
-    freq.put("리며", 220);
-    freq.put(" 놓고", 87);
-    freq.put("환경 ", 270);
-    freq.put("형인", 57);
-    freq.put("연한 ", 80);
-    freq.put("형이", 378);
-    freq.put("－", 78);
-    freq.put("특별지", 138);
-    freq.put("丁三之", 151);
-    freq.put(" 포터", 82);
-    freq.put(" 시뮬", 113);
-    freq.put(" 포털", 64);
-    freq.put("소속되", 78);
-    freq.put("소속된", 73);
-    freq.put("형의", 233);
-    freq.put("꼭", 124);
-    freq.put("리모", 80);
-    freq.put(" 교육", 1812);
-    freq.put("양에서", 166);
-    freq.put("형을", 227);
-    freq.put("형은", 85);
-    freq.put("형으", 179);
-    freq.put("즈치", 65);
-    freq.put("맥스", 130);
-    freq.put(" 시민", 365);
-    freq.put("우드", 176);
-    freq.put("핑", 263);
-    freq.put("丁三三", 197);
-    freq.put("丁三丁", 74);
-    freq.put(" 언덕", 79);
-    freq.put(" 밀집", 64);
-    freq.put("위생", 71);
-    freq.put("법인 ", 238);
-    freq.put("丁三並", 143);
-    freq.put(" 심장", 68);
-    freq.put(" 초점", 101);
-    freq.put("우디", 104);
-    freq.put("위하여", 1507);
-    freq.put("팔", 900);
-    freq.put("亂 ", 1513);
-    freq.put("정하기", 94);
-    freq.put("급으로", 81);
-    freq.put(" 밀접", 73);
-    freq.put("왔으며", 92);
-    freq.put("중심지", 446);
-    freq.put("금을 ", 242);
-    freq.put("역학 ", 84);
-    freq.put("것으로", 1506);
-    freq.put("닌 ", 658);
-    freq.put("더", 3069);
-    freq.put(" 요청", 100);
-    freq.put("식 ", 2547);
-    freq.put("건설", 619);
-    freq.put(" 주위", 126);
-    freq.put(" 암석", 66);
-    freq.put("털 ", 563);
-    freq.put("기준으", 386);
-    freq.put("음이", 197);
-    freq.put("예보", 65);
-    freq.put("라기 ", 58);
-    freq.put(" 시모", 72);
-    freq.put("음을", 324);
-    freq.put("대부 ", 69);
-    freq.put("음은", 101);
-    freq.put("음의", 177);
-    freq.put("가지", 2292);
-    freq.put(" 오브", 259);
-    freq.put("가진", 654);
-    freq.put("기준이", 62);
-    freq.put(" 작동", 93);
-    freq.put(" 포크", 98);
-    freq.put(" 선형", 142);
-    freq.put("음으", 564);
-    freq.put("라는", 3492);
-    freq.put("틀어", 112);
-    freq.put("럼", 922);
-    freq.put("리미", 169);
-    freq.put(" 심의", 80);
-    freq.put("결되", 247);
-    freq.put("결된", 216);
-    freq.put("혐", 136);
-    freq.put("다가 ", 862);
-    freq.put("형에", 86);
-    freq.put(" 최종", 192);
-    freq.put("김", 2072);
-    freq.put(" 코드", 377);
-    freq.put(" 고도", 101);
-    freq.put("ω", 66);
-    freq.put("런던에", 68);
-    freq.put("리로", 509);
-    freq.put("가서 ", 69);
-    freq.put("원전 ", 1040);
-    freq.put(" 고대", 982);
-    freq.put("망원", 114);
-    freq.put(" 저장", 326);
-    freq.put("파이다", 83);
-    freq.put("전부", 292);
-    freq.put("전북", 82);
-    freq.put("변에 ", 94);
-    freq.put(" 시리", 1297);
-    freq.put("중요한", 537);
-    freq.put("중요하", 63);
-    freq.put(" 저작", 244);
-    freq.put(" 저자", 149);
-    freq.put(" 최적", 94);
-    freq.put("송되", 126);
-    freq.put("송된", 69);
-    freq.put("로의 ", 620);
-    freq.put("경 ", 1590);
-    freq.put("틀어 ", 87);
-    freq.put("틀을", 58);
-    freq.put("丘三三", 90);
-    freq.put("망을", 100);
-    freq.put("전반", 248);
-    freq.put("아디", 57);
-    freq.put(" 포트", 118);
-    freq.put("단편 ", 96);
-    freq.put("丘三並", 57);
-    freq.put("발되었", 131);
-    freq.put("음에", 319);
-    freq.put("한제국", 216);
-    freq.put(" 웨스", 246);
-    freq.put("립·", 64);
-    freq.put("촉진하", 68);
-    freq.put(" 오버", 65);
-    freq.put("본에", 513);
-    freq.put("관악구", 58);
-    freq.put(" 시로", 87);
-    freq.put("우라", 154);
-    freq.put("리를", 1378);
-    freq.put("행동", 388);
-    freq.put("누르고", 122);
-    freq.put(" 책 ", 74);
-    freq.put("받은 ", 355);
-    freq.put("성과 ", 408);
-    freq.put("관하는", 129);
-    freq.put(" 박물", 283);
-    freq.put("음악", 1495);
-    freq.put("구가", 459);
-    freq.put("넣어 ", 72);
-    freq.put(" 몰도", 67);
-    freq.put("먹", 424);
-    freq.put("결성된", 112);
-    freq.put("리만", 74);
-    freq.put("리마", 98);
-    freq.put("부대 ", 58);
-    freq.put("립 ", 1307);
-    freq.put("라남", 362);
-    freq.put("류로 ", 186);
-    freq.put("속버", 59);
-    freq.put("대한민", 7350);
-    freq.put("라나", 128);
-    freq.put("전보", 64);
-    freq.put("토대로", 59);
-    freq.put("는지를", 90);
-    freq.put("특별한", 118);
-    freq.put("나머지", 129);
-    freq.put("且", 380);
-    freq.put("장", 20415);
-    freq.put("의 ", 113266);
-    freq.put("허가 ", 79);
-    freq.put("하도록", 282);
-    freq.put("자이며", 181);
-    freq.put("정이 ", 195);
-    freq.put("소재로", 63);
-    freq.put("발견한", 90);
-    freq.put("삶의 ", 107);
-    freq.put("敎", 382);
-    freq.put("스어로", 96);
-    freq.put("바뀌었", 102);
-    freq.put("종류의", 195);
-    freq.put("硏之", 94);
-    freq.put(" 처벌", 80);
-    freq.put("종류이", 108);
-    freq.put(" 최후", 85);
-    freq.put("활용", 342);
-    freq.put("왔으", 124);
-    freq.put("달한", 116);
-    freq.put("달하", 316);
-    freq.put(" 사업", 732);
-    freq.put("보로 ", 117);
-    freq.put("행과", 61);
-    freq.put("가진다", 98);
-    freq.put("렌즈", 95);
-    freq.put("스카이", 59);
-    freq.put("글이", 148);
-    freq.put("초에", 140);
-    freq.put("명은 ", 635);
-    freq.put("상하였", 80);
-    freq.put("초연", 81);
-    freq.put(" 고구", 194);
-    freq.put("룰", 113);
-    freq.put("직한 ", 59);
-    freq.put("해협 ", 57);
-    freq.put("최된", 194);
-    freq.put("최되", 220);
-    freq.put("기업 ", 244);
-    freq.put("첩", 200);
-    freq.put("귀족", 311);
-    freq.put("내 ", 913);
-    freq.put("띄", 63);
-    freq.put("라기", 109);
-    freq.put("니는 ", 214);
-    freq.put("하", 77112);
-    freq.put("가하", 646);
-    freq.put("예수의", 57);
-    freq.put("빛을 ", 75);
-    freq.put("가한", 227);
-    freq.put(" 고고", 115);
-    freq.put("카메라", 190);
-    freq.put("성모 ", 93);
-    freq.put(" 처분", 74);
-    freq.put("공을 ", 239);
-    freq.put("가해", 91);
-    freq.put("려져있", 78);
-    freq.put("융 ", 140);
-    freq.put("유발", 57);
-    freq.put(" 언급", 141);
-    freq.put(" 메르", 63);
-    freq.put("쿠오", 85);
-    freq.put("되던", 89);
-    freq.put("가했", 110);
-    freq.put("협약", 154);
-    freq.put("작했으", 59);
-    freq.put("직접 ", 361);
-    freq.put(" 고객", 140);
-    freq.put("상하이", 159);
-    freq.put("취급", 141);
-    freq.put("쿠라 ", 120);
-    freq.put("어는 ", 592);
-    freq.put(" 원리", 213);
-    freq.put("재에", 108);
-    freq.put("따라 ", 1673);
-    freq.put("해진 ", 173);
-    freq.put("률에", 74);
-    freq.put("률에 ", 68);
-    freq.put("재연", 67);
-    freq.put(" 벡", 158);
-    freq.put(" 선진", 141);
-    freq.put(" 작가", 611);
-    freq.put("탑 ", 86);
-    freq.put(" 사이", 2278);
-    freq.put("료를", 341);
-    freq.put("전투를", 62);
-    freq.put("코시", 67);
-    freq.put("교적 ", 222);
-    freq.put("초의", 700);
-    freq.put(" 사유", 70);
-    freq.put("넌", 123);
-    freq.put("코스", 429);
-    freq.put("망", 1651);
-    freq.put(" 역임", 393);
-    freq.put("쑤", 93);
-    freq.put("행기", 130);
-    freq.put(" 치료", 200);
-    freq.put("초이", 60);
-    freq.put("치료 ", 66);
-    freq.put("근거", 264);
-    freq.put("초자", 71);
-    freq.put("선의 ", 720);
-    freq.put("라그", 59);
-    freq.put("잎", 326);
-    freq.put(" 역이", 108);
-    freq.put("메트로", 85);
-    freq.put("약이다", 130);
-    freq.put("후속 ", 76);
-    freq.put(" 역은", 61);
-    freq.put("나아가", 97);
-    freq.put("다양한", 769);
-    freq.put("다양하", 99);
-    freq.put("울", 4973);
-    freq.put("래시 ", 66);
-    freq.put(" 사장", 102);
-    freq.put("특별히", 77);
-    freq.put(" 나머", 129);
-    freq.put(" 벨", 486);
-    freq.put(" 네오", 57);
-    freq.put(" 작곡", 845);
-    freq.put("토성", 62);
-    freq.put("천 ", 830);
-    freq.put(" 사자", 61);
-    freq.put("지냈다", 412);
-    freq.put("재위", 678);
-    freq.put("三丁三", 180);
-    freq.put("운반", 68);
-    freq.put("언 ", 512);
-    freq.put("三丁丁", 115);
-    freq.put("뀌었다", 80);
-    freq.put("유비", 60);
-    freq.put("꼬리", 79);
-    freq.put("三丁並", 115);
-    freq.put(" 모르", 86);
-    freq.put("료로", 247);
-    freq.put("전투로", 106);
-    freq.put(" 선종", 67);
-    freq.put("떨어", 849);
-    freq.put(" 페스", 58);
-    freq.put("률이", 149);
-    freq.put("기에는", 229);
-    freq.put("키는 ", 1035);
-    freq.put("재의", 598);
-    freq.put("률을", 89);
-    freq.put("재이", 59);
-    freq.put("라가", 293);
-    freq.put("중국 ", 1103);
-    freq.put("률의", 82);
-    freq.put("재임", 98);
-    freq.put(" 여 ", 231);
-    freq.put(" 고급", 147);
-    freq.put("약성서", 58);
-    freq.put("並三 ", 685);
-    freq.put("설과 ", 84);
-    freq.put("재자", 79);
-    freq.put("보통신", 129);
-    freq.put("육부", 79);
-    freq.put("근교", 78);
-    freq.put("니카 ", 85);
-    freq.put("협의", 275);
-    freq.put("멘트", 73);
-    freq.put(" 고기", 109);
-    freq.put(" 사원", 114);
-    freq.put("지역과", 116);
-    freq.put(" 네이", 195);
-    freq.put("준인 ", 60);
-    freq.put(" 선전", 63);
-    freq.put(" 사용", 5046);
-    freq.put("뜻 ", 134);
-    freq.put(" 선정", 248);
-    freq.put(" 사우", 191);
-    freq.put(" 나무", 232);
-    freq.put("풍속", 64);
-    freq.put(" 왼쪽", 64);
-    freq.put("활을", 172);
-    freq.put(" 모리", 222);
-    freq.put("레인 ", 73);
-    freq.put("동안", 920);
-    freq.put("우가", 342);
-    freq.put("학이다", 126);
-    freq.put("비스 ", 391);
-    freq.put("유를", 151);
-    freq.put("협상", 84);
-    freq.put("유류", 81);
-    freq.put("재산을", 59);
-    freq.put("이렇게", 62);
-    freq.put(" 페어", 66);
-    freq.put(" 포지", 92);
-    freq.put("이와 ", 277);
-    freq.put("체에서", 108);
-    freq.put("법과", 157);
-    freq.put(" 요한", 197);
-    freq.put("주인 ", 62);
-    freq.put("프리카", 740);
-    freq.put("성북구", 63);
-    freq.put("베트남", 406);
-    freq.put("노카미", 82);
-    freq.put("재산", 389);
-    freq.put("꼽", 179);
-    freq.put(" 역설", 57);
-    freq.put("가타", 160);
-    freq.put(" 잡아", 60);
-    freq.put("兌 ", 199);
-    freq.put("유리", 178);
-    freq.put("착한 ", 79);
-    freq.put("재생", 142);
-    freq.put("러 ", 2371);
-    freq.put(" 관계", 890);
-    freq.put("무장관", 67);
-    freq.put("우고", 127);
-    freq.put("기록한", 116);
-    freq.put("기록하", 192);
-    freq.put("쿠스", 228);
-    freq.put("조사연", 59);
-    freq.put("일본군", 83);
-    freq.put("유롭", 69);
-    freq.put(" 정권", 212);
-    freq.put("풍이", 93);
-    freq.put("아버지", 563);
-    freq.put("개혁 ", 71);
-    freq.put("변조", 64);
-    freq.put("코에", 118);
-    freq.put(" 관광", 330);
-    freq.put("유로", 412);
-    freq.put("나를 ", 121);
-    freq.put(" 정규", 377);
-    freq.put(" 처리", 445);
-    freq.put(" 역사", 1519);
-    freq.put("코어", 137);
-    freq.put("파일을", 68);
-    freq.put(" 역삼", 92);
-    freq.put("풍으", 73);
-    freq.put("물론 ", 117);
-    freq.put("름다", 121);
-    freq.put("토시", 94);
-    freq.put("뮬레이", 141);
-    freq.put("명사", 136);
-    freq.put("쿠시", 66);
-    freq.put("았다", 1000);
-    freq.put("맡았다", 163);
-    freq.put("들이었", 59);
-    freq.put("력에 ", 158);
-    freq.put("법규", 59);
-    freq.put(" 사상", 928);
-    freq.put("가톨", 538);
-    freq.put("백", 2909);
-    freq.put("최남", 61);
-    freq.put("보를 ", 504);
-    freq.put("턴의", 58);
-    freq.put("했지만", 129);
-    freq.put(" 정교", 161);
-    freq.put("글자를", 64);
-    freq.put("기타", 646);
-    freq.put("장관 ", 152);
-    freq.put("리하고", 119);
-    freq.put(" 할당", 112);
-    freq.put("끔", 84);
-    freq.put("혀", 399);
-    freq.put("최대", 550);
-    freq.put("우기", 66);
-    freq.put("센트 ", 61);
-    freq.put("이케", 58);
-    freq.put("야를 ", 102);
-    freq.put("감독하", 72);
-    freq.put("들어가", 153);
-    freq.put(" 모바", 147);
-    freq.put("송공", 59);
-    freq.put("유무", 68);
-    freq.put("많은 ", 1265);
-    freq.put("유물", 138);
-    freq.put(" 선출", 244);
-    freq.put("북 ", 391);
-    freq.put("숭배", 68);
-    freq.put("듯이", 70);
-    freq.put(" 효력", 75);
-    freq.put("소속기", 439);
-    freq.put("위치해", 340);
-    freq.put("들을 ", 1666);
-    freq.put("유민", 79);
-    freq.put(" 페이", 330);
-    freq.put("위치한", 3432);
-    freq.put("위치하", 1705);
-    freq.put(" 정기", 77);
-    freq.put("설로 ", 135);
-    freq.put("임무", 144);
-    freq.put("생긴 ", 128);
-    freq.put(" 亞丁", 62);
-    freq.put("바에서", 60);
-    freq.put("ς ", 268);
-    freq.put("ä", 74);
-    freq.put("결과", 527);
-    freq.put("통상 ", 58);
-    freq.put("임명", 214);
-    freq.put(" 절차", 120);
-    freq.put("왔다", 418);
-    freq.put(" 직전", 63);
-    freq.put("리하기", 81);
-    freq.put(" 숙종", 91);
-    freq.put(" 직접", 507);
-    freq.put("라이터", 66);
-    freq.put(" 역시", 116);
-    freq.put("결국", 131);
-    freq.put(" 사실", 480);
-    freq.put("봇", 228);
-    freq.put("건에 ", 136);
-    freq.put("코이", 72);
-    freq.put("공원 ", 236);
-    freq.put(" 라디", 307);
-    freq.put("드에 ", 180);
-    freq.put("의식 ", 75);
-    freq.put("카드 ", 151);
-    freq.put("코의", 222);
-    freq.put("않다", 149);
-    freq.put("커다", 69);
-    freq.put(" 함께", 1504);
-    freq.put("흑해", 78);
-    freq.put("초식", 67);
-    freq.put("않는", 850);
-    freq.put("송국", 244);
-    freq.put("중 ", 3559);
-    freq.put("나이다", 1203);
-    freq.put("유명", 908);
-    freq.put("가포", 95);
-    freq.put("프가니", 112);
-    freq.put("용자의", 81);
-    freq.put("쓰인다", 281);
-    freq.put("해양부", 103);
-    freq.put(" 화재", 138);
-    freq.put("리기", 520);
-    freq.put(" 잡지", 202);
-    freq.put("핀란", 235);
-    freq.put("물이 ", 315);
-    freq.put("첫번째", 86);
-    freq.put("녹음", 73);
-    freq.put("에서 ", 25246);
-    freq.put("등장하", 542);
-    freq.put("등장한", 143);
-    freq.put("호의", 161);
-    freq.put("의미의", 91);
-    freq.put("썼다 ", 65);
-    freq.put(" 》는", 90);
-    freq.put("이어 ", 549);
-    freq.put("산주의", 205);
-    freq.put("의미이", 69);
-    freq.put("재청", 67);
-    freq.put("명령 ", 61);
-    freq.put("마케도", 118);
-    freq.put("제가 ", 421);
-    freq.put(" 화이", 94);
-    freq.put("변화에", 59);
-    freq.put("류이", 218);
-    freq.put("음악 ", 533);
-    freq.put(" 시기", 380);
-    freq.put("책임", 299);
-    freq.put("야구의", 96);
-    freq.put("조를", 342);
-    freq.put(" 모델", 414);
-    freq.put("亥", 108);
-    freq.put("해의 ", 186);
-    freq.put(" 메시", 150);
-    freq.put(" 사찰", 82);
-    freq.put("윌리엄", 254);
-    freq.put("앨", 898);
-    freq.put("글자", 184);
-    freq.put("변화를", 114);
-    freq.put("로세서", 244);
-    freq.put("잔 ", 168);
-    freq.put("년의 ", 319);
-    freq.put("센서", 66);
-    freq.put("책으", 129);
-    freq.put(" 의하", 461);
-    freq.put(" 심판", 95);
-    freq.put("책을", 239);
-    freq.put("책은", 69);
-    freq.put("로소프", 372);
-    freq.put("왕", 5728);
-    freq.put("책의", 157);
-    freq.put(" 선수", 1292);
-    freq.put("강은 ", 65);
-    freq.put("전의 ", 495);
-    freq.put("주제로", 77);
-    freq.put("늘 ", 65);
-    freq.put("야구장", 186);
-    freq.put(" 직원", 79);
-    freq.put("전투는", 153);
-    freq.put("책이", 259);
-    freq.put("규범", 69);
-    freq.put("의미에", 122);
-    freq.put("리가", 609);
-    freq.put("역임", 393);
-    freq.put("로세스", 161);
-    freq.put(" 교통", 460);
-    freq.put(" 교토", 88);
-    freq.put("멀", 284);
-    freq.put("욕 ", 325);
-    freq.put("분리되", 151);
-    freq.put(" 나는", 112);
-    freq.put(" 포유", 87);
-    freq.put("리게", 121);
-    freq.put("유러", 115);
-    freq.put("유럽", 1343);
-    freq.put(" 암호", 144);
-    freq.put("부르크", 380);
-    freq.put(" 나뉜", 158);
-    freq.put("철의", 57);
-    freq.put("중요성", 72);
-    freq.put("흉", 89);
-    freq.put("해부학", 57);
-    freq.put("치의 ", 225);
-    freq.put("컫는 ", 311);
-    freq.put(" 포인", 78);
-    freq.put("름을 ", 720);
-    freq.put(" 직업", 172);
-    freq.put("리고", 1473);
-    freq.put("정의한", 63);
-    freq.put("정의하", 162);
-    freq.put(" 나누", 200);
-    freq.put("리공", 66);
-    freq.put("유래", 580);
-    freq.put("三三倉", 73);
-    freq.put("양한", 780);
-    freq.put(" 사카", 84);
-    freq.put("갖", 908);
-    freq.put("형태", 1105);
-    freq.put("되었던", 228);
-    freq.put("프라이", 147);
-    freq.put("남쪽 ", 131);
-    freq.put(" 시간", 720);
-    freq.put(" 시각", 159);
-    freq.put("절을 ", 58);
-    freq.put("게임 ", 779);
-    freq.put("자이너", 75);
-    freq.put("철도 ", 369);
-    freq.put("리교", 75);
-    freq.put("책에", 132);
-    freq.put("겨난", 61);
-    freq.put("렌스", 99);
-    freq.put("제로는", 86);
-    freq.put("르만 ", 85);
-    freq.put("지칭한", 98);
-    freq.put("지칭하", 168);
-    freq.put("드》", 58);
-    freq.put("엇", 117);
-    freq.put("데스크", 83);
-    freq.put(" 시공", 71);
-    freq.put("간이 ", 309);
-    freq.put("국가 ", 668);
-    freq.put("음반 ", 194);
-    freq.put(" 시계", 86);
-    freq.put("리그", 1570);
-    freq.put("북", 7080);
-    freq.put("폐지되", 230);
-    freq.put(" 나들", 286);
-    freq.put("규명", 89);
-    freq.put("울대학", 150);
-    freq.put("로스", 851);
-    freq.put("난다", 238);
-    freq.put("규모", 583);
-    freq.put("섬들", 63);
-    freq.put("유네", 90);
-    freq.put("끈", 119);
-    freq.put(" 저항", 140);
-    freq.put("활", 4194);
-    freq.put("화물 ", 67);
-    freq.put("랑스 ", 981);
-    freq.put(" 그리", 2688);
-    freq.put("운데", 1232);
-    freq.put("차지하", 297);
-    freq.put("차지한", 93);
-    freq.put("영어로", 117);
-    freq.put("협조", 69);
-    freq.put("기한다", 67);
-    freq.put(" 선의", 80);
-    freq.put("뚜", 90);
-    freq.put(" 분기", 121);
-    freq.put(" 사진", 217);
-    freq.put(" 지 ", 95);
-    freq.put("운동", 1815);
-    freq.put("래이다", 109);
-    freq.put("빗", 71);
-    freq.put("에게 ", 2107);
-    freq.put("아래 ", 167);
-    freq.put("협정", 206);
-    freq.put(" 메인", 91);
-    freq.put("여객 ", 65);
-    freq.put(" 메이", 433);
-    freq.put("모델이", 91);
-    freq.put("명", 15332);
-    freq.put("개의 ", 1769);
-    freq.put("망한", 94);
-    freq.put("초점", 102);
-    freq.put("천구 ", 60);
-    freq.put("망하", 162);
-    freq.put("례에", 105);
-    freq.put(" 교회", 451);
-    freq.put("육대", 57);
-    freq.put("쟁력", 155);
-    freq.put("전기", 888);
-    freq.put("전까", 209);
-    freq.put(" 수 ", 4761);
-    freq.put("결하는", 245);
-    freq.put("속기", 527);
-    freq.put("등이 ", 948);
-    freq.put("길", 1653);
-    freq.put("거주하", 225);
-    freq.put(" 사전", 183);
-    freq.put(" 사적", 136);
-    freq.put("본인", 182);
-    freq.put("포함된", 182);
-    freq.put(" 사정", 82);
-    freq.put(" 사제", 64);
-    freq.put("양자역", 76);
-    freq.put("리랑카", 66);
-    freq.put("재즈", 85);
-    freq.put("윤리", 162);
-    freq.put(" 모래", 84);
-    freq.put("재지", 325);
-    freq.put("재직", 118);
-    freq.put("합뉴스", 77);
-    freq.put(" 교환", 135);
-    freq.put("였는데", 120);
-    freq.put("학을 ", 385);
-    freq.put("교차로", 174);
-    freq.put("망했", 69);
-    freq.put("발전", 2168);
-    freq.put("환의", 69);
-    freq.put("접하", 574);
-    freq.put("유나", 103);
-    freq.put("가니스", 126);
-    freq.put("三三國", 62);
-    freq.put(" 직선", 63);
-    freq.put(" 모두", 685);
-    freq.put("헨리", 128);
-    freq.put("척추", 104);
-    freq.put("전광", 273);
-    freq.put("향으로", 228);
-    freq.put("못하", 264);
-    freq.put("못한", 122);
-    freq.put(" 교향", 137);
-    freq.put("м", 118);
-    freq.put(" 오후", 126);
-    freq.put("위원 ", 99);
-    freq.put(" 선양", 102);
-    freq.put("기와 ", 326);
-    freq.put("업과 ", 165);
-    freq.put("유대", 321);
-    freq.put("전국", 582);
-    freq.put("환하는", 65);
-    freq.put(" 판 ", 94);
-    freq.put("베이니", 80);
-    freq.put(" 선언", 226);
-    freq.put("생된 ", 67);
-    freq.put("그랜드", 67);
-    freq.put(" 모드", 84);
-    freq.put("긋", 58);
-    freq.put(" 모듈", 58);
-    freq.put("시게", 81);
-    freq.put("전형", 115);
-    freq.put("유도", 196);
-    freq.put("기반으", 258);
-    freq.put("사상 ", 967);
-    freq.put(" 화성", 179);
-    freq.put(" 할리", 61);
-    freq.put("유동", 91);
-    freq.put("기반의", 108);
-    freq.put("로리다", 73);
-    freq.put("기반을", 124);
-    freq.put("단에서", 85);
-    freq.put("년 ", 40320);
-    freq.put("하던 ", 520);
-    freq.put("환이", 100);
-    freq.put("못했", 96);
-    freq.put(" 포스", 152);
-    freq.put("주 ", 6421);
-    freq.put("촌", 871);
-    freq.put(" 벗어", 103);
-    freq.put("누 ", 64);
-    freq.put("캡", 77);
-    freq.put("능하게", 61);
-    freq.put("민사소", 63);
-    freq.put(" 화산", 224);
-    freq.put("콜 ", 173);
-    freq.put("나이며", 210);
-    freq.put("하다는", 80);
-    freq.put(" 터키", 401);
-    freq.put("원의 ", 690);
-    freq.put("마찬가", 135);
-    freq.put("전거", 106);
-    freq.put("리메이", 69);
-    freq.put(" 원래", 602);
-    freq.put("맞추", 113);
-    freq.put(" 나라", 893);
-    freq.put("례의", 129);
-    freq.put("교수 ", 144);
-    freq.put("음식이", 66);
-    freq.put("유니", 298);
-    freq.put("유닉", 93);
-    freq.put("음식을", 58);
-    freq.put("당을 ", 126);
-    freq.put("스케이", 155);
-    freq.put("출이 ", 60);
-    freq.put("가나가", 58);
-    freq.put("았던 ", 129);
-    freq.put("룹이", 172);
-    freq.put("녹색", 141);
-    freq.put("학생 ", 143);
-    freq.put("칠리아", 60);
-    freq.put("페인어", 121);
-    freq.put("시계", 147);
-    freq.put("룹의", 106);
-    freq.put("전과", 411);
-    freq.put("유는", 91);
-    freq.put("전공", 113);
-    freq.put(" 살인", 124);
-    freq.put("복소", 98);
-    freq.put("흐르는", 105);
-    freq.put("국수", 106);
-    freq.put("한국농", 75);
-    freq.put("사로 ", 539);
-    freq.put("브리어", 86);
-    freq.put("호수 ", 60);
-    freq.put("시마 ", 242);
-    freq.put("집이", 101);
-    freq.put("마는 ", 64);
-    freq.put(" 일반", 1861);
-    freq.put("지휘하", 108);
-    freq.put("생대", 183);
-    freq.put("대륙", 468);
-    freq.put(" 차 ", 1230);
-    freq.put("쉬", 296);
-    freq.put("집을", 67);
-    freq.put("제르바", 102);
-    freq.put(" 학자", 250);
-    freq.put("쿠니", 115);
-    freq.put("대를", 566);
-    freq.put("명시", 68);
-    freq.put("용어를", 67);
-    freq.put("나파소", 72);
-    freq.put("화합", 170);
-    freq.put(" 세는", 67);
-    freq.put("화한", 180);
-    freq.put("화하", 463);
-    freq.put("화학", 716);
-    freq.put("맞닿아", 98);
-    freq.put("대리", 167);
-    freq.put(" 일본", 4755);
-    freq.put("복선", 58);
-    freq.put("대립", 98);
-    freq.put("ς", 279);
-    freq.put("대만", 114);
-    freq.put("비이다", 74);
-    freq.put(" 준공", 68);
-    freq.put("국식", 78);
-    freq.put("국시", 294);
-    freq.put("번지에", 231);
-    freq.put("작사", 221);
-    freq.put("부로", 440);
-    freq.put("축하", 152);
-    freq.put("자는", 1092);
-    freq.put(" 학위", 90);
-    freq.put("초로 ", 510);
-    freq.put("로써", 1210);
-    freq.put("표시", 333);
-    freq.put("김일성", 79);
-    freq.put(" 세대", 321);
-    freq.put("트레이", 130);
-    freq.put("트레일", 500);
-    freq.put("부리", 81);
-    freq.put("복사", 130);
-    freq.put("꼴", 114);
-    freq.put("작성", 335);
-    freq.put("작센", 85);
-    freq.put("를 ", 35910);
-    freq.put(" 도교", 68);
-    freq.put("대로", 1018);
-    freq.put("결정 ", 73);
-    freq.put("기호는", 57);
-    freq.put("스파냐", 94);
-    freq.put("핸", 99);
-    freq.put("돈 ", 121);
-    freq.put(" 점차", 84);
-    freq.put("재하는", 271);
-    freq.put("향력", 154);
-    freq.put("독립된", 72);
-    freq.put("딸 ", 107);
-    freq.put("절한 ", 64);
-    freq.put("人三", 93);
-    freq.put("들면 ", 66);
-    freq.put("용어로", 228);
-    freq.put("죽을 ", 57);
-    freq.put(" 캐나", 542);
-    freq.put("회관 ", 166);
-    freq.put(" 일부", 2106);
-    freq.put("다카", 195);
-    freq.put("존스", 69);
-    freq.put("즈가 ", 125);
-    freq.put("지청", 89);
-    freq.put("텍처", 131);
-    freq.put("부르", 1396);
-    freq.put("부른", 614);
-    freq.put("부를", 656);
-    freq.put("창 ", 189);
-    freq.put("자·", 93);
-    freq.put("三並並", 197);
-    freq.put("마로", 110);
-    freq.put(" 살았", 134);
-    freq.put("부모", 121);
-    freq.put("이전 ", 225);
-    freq.put("三並丁", 93);
-    freq.put("대문", 243);
-    freq.put(" 살아", 158);
-    freq.put("三並三", 347);
-    freq.put("휘관", 62);
-    freq.put("정한다", 104);
-    freq.put("정보통", 139);
-    freq.put("목동", 57);
-    freq.put(" 피해", 312);
-    freq.put(" 에이", 242);
-    freq.put(" 임시", 200);
-    freq.put(" 김정", 92);
-    freq.put("집안", 61);
-    freq.put("三並之", 157);
-    freq.put("리자베", 66);
-    freq.put("자 ", 9649);
-    freq.put("범", 2511);
-    freq.put("단되", 119);
-    freq.put("단된", 60);
-    freq.put("국사", 242);
-    freq.put("三並亞", 103);
-    freq.put("뜻하는", 380);
-    freq.put("국산", 101);
-    freq.put("三並亂", 75);
-    freq.put("박물", 478);
-    freq.put("년에는", 218);
-    freq.put("디비", 83);
-    freq.put("집에", 83);
-    freq.put("적용하", 90);
-    freq.put("쓰다이", 179);
-    freq.put("테러", 113);
-    freq.put("코딩", 85);
-    freq.put("화국과", 90);
-    freq.put("발전과", 240);
-    freq.put(" 쉽게", 163);
-    freq.put(" 플로", 151);
-    freq.put("통틀", 103);
-    freq.put("정신적", 68);
-    freq.put("명의 ", 949);
-    freq.put("지칭", 300);
-    freq.put(" 푸른", 60);
-    freq.put("따르는", 60);
-    freq.put("뤼", 174);
-    freq.put("직된 ", 71);
-    freq.put(" 보인", 139);
-    freq.put("호하는", 60);
-    freq.put(" 플레", 499);
-    freq.put("λ", 169);
-    freq.put("크톱 ", 64);
-    freq.put(" 완전", 315);
-    freq.put("손 ", 238);
-    freq.put("명성", 146);
-    freq.put("복수", 116);
-    freq.put("국소", 69);
-    freq.put("드가 ", 238);
-    freq.put("마리아", 248);
-    freq.put("지구 ", 303);
-    freq.put("제작 ", 170);
-    freq.put("지컬", 96);
-    freq.put(" 플루", 58);
-    freq.put("직이는", 74);
-    freq.put("부문", 240);
-    freq.put("직이다", 99);
-    freq.put("엄", 815);
-    freq.put("거가 ", 72);
-    freq.put("해도 ", 118);
-    freq.put("화협", 57);
-    freq.put("약이 ", 77);
-    freq.put("국영", 89);
-    freq.put("풋", 127);
-    freq.put(" 일로", 82);
-    freq.put(" 에서", 1916);
-    freq.put("외국인", 172);
-    freq.put("곳 ", 78);
-    freq.put("타디움", 74);
-    freq.put(" 급", 1151);
-    freq.put("명예", 174);
-    freq.put("국왕", 350);
-    freq.put("성가", 64);
-    freq.put("지중", 143);
-    freq.put("통행", 63);
-    freq.put("é ", 165);
-    freq.put(" 일렉", 96);
-    freq.put("선거구", 247);
-    freq.put("움 ", 309);
-    freq.put("속해", 225);
-    freq.put("앨범이", 199);
-    freq.put("크기", 368);
-    freq.put("국외", 69);
-    freq.put("테나", 69);
-    freq.put(" 일련", 190);
-    freq.put("통한", 472);
-    freq.put("지지", 438);
-    freq.put("사이에", 1050);
-    freq.put("통하", 582);
-    freq.put("지진", 90);
-    freq.put("지질", 112);
-    freq.put(" 가톨", 515);
-    freq.put("산업기", 64);
-    freq.put("성계", 81);
-    freq.put("음과", 236);
-    freq.put(" 규격", 131);
-    freq.put("성공", 519);
-    freq.put("통해", 1678);
-    freq.put("성과", 536);
-    freq.put("통합", 684);
-    freq.put("학회 ", 138);
-    freq.put(" 친구", 98);
-    freq.put("든", 2442);
-    freq.put("성경", 276);
-    freq.put("성격", 206);
-    freq.put("소련의", 131);
-    freq.put("질환", 102);
-    freq.put("之 ", 4501);
-    freq.put("부분", 1658);
-    freq.put("명을", 535);
-    freq.put("명은", 636);
-    freq.put("『", 118);
-    freq.put("명의", 990);
-    freq.put("성군", 196);
-    freq.put("국유", 104);
-    freq.put("대방", 188);
-    freq.put("인체", 87);
-    freq.put("대백", 608);
-    freq.put("명인", 142);
-    freq.put("킹", 435);
-    freq.put("명이", 1234);
-    freq.put("성구", 134);
-    freq.put("국을", 477);
-    freq.put("지적", 171);
-    freq.put("국은", 420);
-    freq.put("乙亂", 105);
-    freq.put("지점", 270);
-    freq.put("국왕 ", 169);
-    freq.put("乙亞", 103);
-    freq.put("아프가", 115);
-    freq.put("래식 ", 58);
-    freq.put(" 학습", 168);
-    freq.put("열렸", 185);
-    freq.put("평양 ", 255);
-    freq.put("명으", 376);
-    freq.put("제 ", 8681);
-    freq.put("혈액", 74);
-    freq.put("국인", 683);
-    freq.put(" 털이", 65);
-    freq.put("乙之", 271);
-    freq.put("언어의", 102);
-    freq.put("乙乙", 117);
-    freq.put("대법", 96);
-    freq.put(" 열 ", 74);
-    freq.put("국장", 157);
-    freq.put("작에", 70);
-    freq.put("언어이", 170);
-    freq.put("지방에", 438);
-    freq.put("노동당", 62);
-    freq.put("하에 ", 228);
-    freq.put("작업", 333);
-    freq.put("정보화", 76);
-    freq.put("지주", 81);
-    freq.put("乙三", 410);
-    freq.put("테네", 224);
-    freq.put(" 학술", 377);
-    freq.put("乙丘", 178);
-    freq.put("위스 ", 122);
-    freq.put("때문이", 153);
-    freq.put("乙並", 232);
-    freq.put("연 ", 555);
-    freq.put("치는 ", 382);
-    freq.put("대본", 115);
-    freq.put(" 일리", 90);
-    freq.put("질학", 58);
-    freq.put("之三並", 196);
-    freq.put("사이의", 380);
-    freq.put("초를 ", 88);
-    freq.put("병 ", 351);
-    freq.put("만족", 167);
-    freq.put(" 피터", 73);
-    freq.put("마루", 87);
-    freq.put("화폐", 97);
-    freq.put("기", 57951);
-    freq.put("역할을", 484);
-    freq.put("시설 ", 150);
-    freq.put("복잡", 213);
-    freq.put("몽골 ", 105);
-    freq.put("당사자", 199);
-    freq.put("렉트", 128);
-    freq.put("수이다", 549);
-    freq.put("련 ", 727);
-    freq.put("성기", 125);
-    freq.put("양성 ", 103);
-    freq.put(" 버지", 75);
-    freq.put("존", 3442);
-    freq.put("이사장", 71);
-    freq.put("인하여", 149);
-    freq.put("등으로", 538);
-    freq.put("무원이", 83);
-    freq.put("만주", 184);
-    freq.put("행성 ", 102);
-    freq.put("넥", 130);
-    freq.put("크고", 102);
-    freq.put(" 이것", 480);
-    freq.put("타르 ", 110);
-    freq.put("사이자", 85);
-    freq.put(" 청구", 123);
-    freq.put("크게", 351);
-    freq.put(" 이곳", 157);
-    freq.put("복음", 190);
-    freq.put(" 일명", 82);
-    freq.put(" 타타", 70);
-    freq.put("작용", 550);
-    freq.put("복을", 86);
-    freq.put("무원으", 224);
-    freq.put("허리케", 119);
-    freq.put("발하였", 89);
-    freq.put("외국어", 63);
-    freq.put("영등포", 159);
-    freq.put(" 김천", 57);
-    freq.put("작이", 256);
-    freq.put("언어에", 73);
-    freq.put("지방이", 59);
-    freq.put("든 ", 2179);
-    freq.put("지방의", 262);
-    freq.put("작의", 72);
-    freq.put(" 및 ", 5806);
-    freq.put("작은", 702);
-    freq.put("작을", 166);
-    freq.put("지방을", 71);
-    freq.put("국악", 57);
-    freq.put("지방으", 60);
-    freq.put("대비", 160);
-    freq.put("때문에", 1177);
-    freq.put("생된", 72);
-    freq.put("되기 ", 267);
-    freq.put("작으", 448);
-    freq.put("탄티노", 86);
-    freq.put("트웨어", 808);
-    freq.put(" 학살", 107);
-    freq.put("통신 ", 286);
-    freq.put("차량 ", 86);
-    freq.put("콰", 92);
-    freq.put("작위", 138);
-    freq.put("주된", 119);
-    freq.put("상은", 243);
-    freq.put("통화", 178);
-    freq.put("있다고", 197);
-    freq.put("치고 ", 176);
-    freq.put("명에", 192);
-    freq.put("트남 ", 220);
-    freq.put("다면 ", 148);
-    freq.put(" 오염", 68);
-    freq.put(" 에스", 395);
-    freq.put("장한 ", 247);
-    freq.put("쇄", 396);
-    freq.put("드라이", 156);
-    freq.put("무에", 108);
-    freq.put("족주의", 88);
-    freq.put("乩 ", 76);
-    freq.put("작자", 143);
-    freq.put("지방자", 116);
-    freq.put("응하", 231);
-    freq.put(" 재무", 111);
-    freq.put(" 임의", 128);
-    freq.put("도니", 163);
-    freq.put("인천", 533);
-    freq.put("돌프 ", 87);
-    freq.put("부로 ", 338);
-    freq.put("지아", 300);
-    freq.put("즈베키", 65);
-    freq.put("로이 ", 96);
-    freq.put(" 만 ", 771);
-    freq.put("콘 ", 142);
-    freq.put("밸", 82);
-    freq.put("인도의", 191);
-    freq.put("지야", 80);
-    freq.put("북서쪽", 240);
-    freq.put("버스 ", 485);
-    freq.put("복지", 390);
-    freq.put("생물", 828);
-    freq.put("밀접", 73);
-    freq.put("작전", 209);
-    freq.put("침입", 91);
-    freq.put(" 점에", 156);
-    freq.put("지었", 74);
-    freq.put("목적으", 2374);
-    freq.put("지에", 1070);
-    freq.put(" 다 ", 148);
-    freq.put("지연", 62);
-    freq.put("만원", 63);
-    freq.put("학문 ", 67);
-    freq.put("총독부", 113);
-    freq.put(" 하루", 107);
-    freq.put("탐", 512);
-    freq.put("화상 ", 61);
-    freq.put("스파르", 60);
-    freq.put("목적이", 96);
-    freq.put("다이", 1163);
-    freq.put("다음", 663);
-    freq.put("목적을", 89);
-    freq.put("목적은", 73);
-    freq.put("다의", 253);
-    freq.put("상황을", 61);
-    freq.put("음료", 81);
-    freq.put("표시하", 91);
-    freq.put("안드", 183);
-    freq.put("만이", 234);
-    freq.put("다운", 233);
-    freq.put(" 되며", 91);
-    freq.put(" 되면", 122);
-    freq.put("만을", 299);
-    freq.put("라이선", 82);
-    freq.put("칭호", 106);
-    freq.put("만의", 176);
-    freq.put("벨트", 79);
-    freq.put("만으", 117);
-    freq.put("점기의", 205);
-    freq.put("거의 ", 466);
-    freq.put(" 임진", 126);
-    freq.put("피소드", 110);
-    freq.put("적", 24870);
-    freq.put("복제", 80);
-    freq.put(" 궤도", 157);
-    freq.put("추기", 89);
-    freq.put("구장이", 90);
-    freq.put("경의 ", 225);
-    freq.put("구장은", 60);
-    freq.put("화재가", 70);
-    freq.put("안되", 84);
-    freq.put("안된", 112);
-    freq.put("웨덴", 355);
-    freq.put("생명", 423);
-    freq.put("합은 ", 87);
-    freq.put(" 록 ", 195);
-    freq.put("구장으", 111);
-    freq.put("목록", 269);
-    freq.put("다와", 77);
-    freq.put("확하게", 91);
-    freq.put("퍼시", 110);
-    freq.put("오래 ", 72);
-    freq.put("국전", 133);
-    freq.put("지은", 150);
-    freq.put("국적", 195);
-    freq.put("면서도", 79);
-    freq.put("날의 ", 126);
-    freq.put("파와 ", 67);
-    freq.put("국정", 128);
-    freq.put("부는", 373);
-    freq.put(" 점을", 70);
-    freq.put("국제", 2470);
-    freq.put("지의", 930);
-    freq.put(" 점이", 100);
-    freq.put("자대", 65);
-    freq.put(" 세력", 190);
-    freq.put("것들", 114);
-    freq.put("지이", 710);
-    freq.put("지인", 168);
-    freq.put("다양", 1016);
-    freq.put("지위", 252);
-    freq.put("뜻하며", 87);
-    freq.put("참고", 72);
-    freq.put("않", 2900);
-    freq.put(" 뷰", 70);
-    freq.put("명제", 72);
-    freq.put("대덕", 70);
-    freq.put("받아들", 112);
-    freq.put("칭한", 198);
-    freq.put("칭하", 436);
-    freq.put(" 완성", 200);
-    freq.put("과거에", 114);
-    freq.put("북으로", 70);
-    freq.put("불과", 67);
-    freq.put("상황에", 103);
-    freq.put(" 점유", 66);
-    freq.put("부담", 95);
-    freq.put("다에", 144);
-    freq.put("단백", 191);
-    freq.put("러가지", 95);
-    freq.put("한국문", 122);
-    freq.put("크다 ", 72);
-    freq.put(" 감독", 595);
-    freq.put("불가", 326);
-    freq.put("직에 ", 77);
-    freq.put("라이스", 87);
-    freq.put("참가", 738);
-    freq.put("조약이", 138);
-    freq.put("푸에", 75);
-    freq.put(" 주석", 95);
-    freq.put("시한다", 59);
-    freq.put("생한 ", 427);
-    freq.put("대도", 73);
-    freq.put("명종", 57);
-    freq.put("노동부", 61);
-    freq.put("지자", 110);
-    freq.put("곧 ", 133);
-    freq.put("께", 1579);
-    freq.put("대동", 97);
-    freq.put("스페란", 59);
-    freq.put(" 남 ", 62);
-    freq.put("입자 ", 81);
-    freq.put("공으로", 88);
-    freq.put("조약으", 67);
-    freq.put("생리", 85);
-    freq.put("하였고", 606);
-    freq.put("지와", 387);
-    freq.put("乘三", 61);
-    freq.put("月", 80);
-    freq.put("엔진 ", 111);
-    freq.put("속된 ", 167);
-    freq.put("개발하", 315);
-    freq.put("묘로", 172);
-    freq.put("만약", 57);
-    freq.put("서", 56814);
-    freq.put("在", 61);
-    freq.put(" 서명", 79);
-    freq.put("지였", 87);
-    freq.put("련의 ", 320);
-    freq.put("부도", 71);
-    freq.put("인민공", 988);
-    freq.put("류하", 347);
-    freq.put("류학", 112);
-    freq.put("류한", 91);
-    freq.put("부동", 151);
-    freq.put("추고", 107);
-    freq.put("복잡한", 88);
-    freq.put("지오", 59);
-    freq.put("용어는", 192);
-    freq.put(" 세르", 235);
-    freq.put("부대", 314);
-    freq.put("진이 ", 64);
-    freq.put("지원", 1263);
-    freq.put("倉之 ", 137);
-    freq.put("대는", 204);
-    freq.put("운행하", 134);
-    freq.put("е", 318);
-    freq.put("만에", 262);
-    freq.put("추가", 282);
-    freq.put("국지", 159);
-    freq.put("간은 ", 169);
-    freq.put("불교", 1054);
-    freq.put(" 명 ", 3052);
-    freq.put("점기에", 78);
-    freq.put("乙", 3650);
-    freq.put("따르면", 285);
-    freq.put("확장 ", 96);
-    freq.put("역시 ", 1264);
-    freq.put("킬로미", 80);
-    freq.put("불구", 99);
-    freq.put("지션", 130);
-    freq.put("명칭", 965);
-    freq.put("추진하", 98);
-    freq.put("형태이", 106);
-    freq.put("렸", 708);
-    freq.put(" 플라", 322);
-    freq.put("산되", 209);
-    freq.put("피해를", 133);
-    freq.put("공립 ", 63);
-    freq.put("돕", 110);
-    freq.put("정신을", 88);
-    freq.put("브리지", 101);
-    freq.put("지선", 61);
-    freq.put("부등", 87);
-    freq.put("닿", 168);
-    freq.put("형이다", 110);
-    freq.put("僅丁 ", 58);
-    freq.put("길 ", 492);
-    freq.put("래식", 78);
-    freq.put("음이 ", 93);
-    freq.put("원하여", 159);
-    freq.put("왕 ", 1238);
-    freq.put("작하고", 60);
-    freq.put(" 플러", 58);
-    freq.put("점에서", 270);
-    freq.put("지속", 297);
-    freq.put("랍어", 117);
-    freq.put("법으로", 406);
-    freq.put("유일", 471);
-    freq.put("인이나", 74);
-    freq.put(" 공 ", 72);
-    freq.put(" 플래", 123);
-    freq.put(" 다목", 59);
-    freq.put(" 촬영", 150);
-    freq.put(" 플랫", 188);
-    freq.put("테레", 67);
-    freq.put("자나", 141);
-    freq.put("식민지", 360);
-    freq.put("경쟁력", 153);
-    freq.put("존하", 237);
-    freq.put("다스", 163);
-    freq.put(" 버스", 279);
-    freq.put("것도", 92);
-    freq.put("대되", 108);
-    freq.put(" 김일", 102);
-    freq.put("테마", 94);
-    freq.put("치가 ", 290);
-    freq.put("후계", 66);
-    freq.put("회사의", 138);
-    freq.put("움직임", 86);
-    freq.put("테리", 169);
-    freq.put("포지션", 88);
-    freq.put(" 흡수", 98);
-    freq.put(" 사단", 1779);
-    freq.put("곳이다", 155);
-    freq.put("회사인", 94);
-    freq.put("회사이", 255);
-    freq.put("다시", 502);
-    freq.put("한국방", 93);
-    freq.put("지상", 185);
-    freq.put("필하", 71);
-    freq.put("페테", 81);
-    freq.put("테르", 345);
-    freq.put(" 미국", 5128);
-    freq.put("움직이", 119);
-    freq.put("다수", 306);
-    freq.put(" 미군", 118);
-    freq.put("푸스", 101);
-    freq.put("덜란드", 394);
-    freq.put("독부 ", 84);
-    freq.put("구약성", 69);
-    freq.put(" 자율", 74);
-    freq.put("키가 ", 87);
-    freq.put("지사", 210);
-    freq.put(" 원소", 289);
-    freq.put("안동", 130);
-    freq.put("디 ", 655);
-    freq.put("집중", 149);
-    freq.put("敎之", 110);
-    freq.put("라이온", 80);
-    freq.put("개념으", 199);
-    freq.put("주민 ", 65);
-    freq.put(" 앙리", 58);
-    freq.put("개념을", 110);
-    freq.put("류큐", 59);
-    freq.put("예를 ", 240);
-    freq.put("카르타", 63);
-    freq.put("박람", 78);
-    freq.put("페트", 58);
-    freq.put("시다 ", 61);
-    freq.put(" 정", 13855);
-    freq.put("다섯", 195);
-    freq.put("담하", 105);
-    freq.put("테면", 61);
-    freq.put("가까이", 69);
-    freq.put("국철", 110);
-    freq.put("안데", 62);
-    freq.put("곱 ", 113);
-    freq.put("대략", 109);
-    freq.put("마크 ", 189);
-    freq.put("수이며", 80);
-    freq.put("대량", 103);
-    freq.put(" 질 ", 78);
-    freq.put(" 집권", 84);
-    freq.put("통해 ", 1561);
-    freq.put("표하였", 66);
-    freq.put("단", 12729);
-    freq.put("르게", 347);
-    freq.put("작해 ", 65);
-    freq.put("명체", 83);
-    freq.put("수가 ", 625);
-    freq.put("맥스 ", 80);
-    freq.put(" 만명", 106);
-    freq.put("됐으", 67);
-    freq.put("지정 ", 159);
-    freq.put("집적", 68);
-    freq.put("울특별", 2233);
-    freq.put("성되는", 97);
-    freq.put(" 김씨", 58);
-    freq.put("丁丹 ", 61);
-    freq.put("밤 ", 79);
-    freq.put("롯하여", 102);
-    freq.put("가까운", 155);
-    freq.put(" 일대", 282);
-    freq.put("지수", 116);
-    freq.put("반은 ", 58);
-    freq.put("단말", 68);
-    freq.put("주니", 101);
-    freq.put(" 세부", 97);
-    freq.put("랐", 156);
-    freq.put("지시", 133);
-    freq.put("지식", 562);
-    freq.put("기관차", 146);
-    freq.put("호의 ", 145);
-    freq.put("진", 12339);
-    freq.put("회사에", 86);
-    freq.put("현하기", 80);
-    freq.put("매", 4904);
-    freq.put("지스", 206);
-    freq.put("질서 ", 65);
-    freq.put("보는 ", 244);
-    freq.put("서의 ", 942);
-    freq.put("커뮤", 174);
-    freq.put("화연", 58);
-    freq.put("킬", 397);
-    freq.put("크메", 76);
-    freq.put("암석", 66);
-    freq.put("뉴질랜", 239);
-    freq.put("근의 ", 141);
-    freq.put("차", 8220);
-    freq.put("화에", 724);
-    freq.put(" 에피", 148);
-    freq.put(" 숫자", 146);
-    freq.put("일정 ", 91);
-    freq.put(" 갈라", 132);
-    freq.put("학명 ", 83);
-    freq.put("렸다", 446);
-    freq.put(" 이며", 915);
-    freq.put(" 일간", 93);
-    freq.put("서》", 62);
-    freq.put("업기술", 80);
-    freq.put(" 가야", 70);
-    freq.put("치러진", 143);
-    freq.put("지배 ", 66);
-    freq.put("아키텍", 133);
-    freq.put("네스 ", 139);
-    freq.put(" 반영", 94);
-    freq.put(" 프리", 592);
-    freq.put(" 활성", 221);
-    freq.put("거리를", 101);
-    freq.put("쌍", 397);
-    freq.put("사는 ", 696);
-    freq.put("문은 ", 97);
-    freq.put(" 프린", 124);
-    freq.put("얀 ", 94);
-    freq.put(" 갈래", 64);
-    freq.put(" 일곱", 88);
-    freq.put("안군", 96);
-    freq.put("안구", 75);
-    freq.put("타", 10431);
-    freq.put("추락", 82);
-    freq.put("폴리스", 134);
-    freq.put("터키의", 77);
-    freq.put("근에는", 98);
-    freq.put("요리 ", 109);
-    freq.put("통상", 199);
-    freq.put("윤", 825);
-    freq.put("안과", 128);
-    freq.put(" 프레", 355);
-    freq.put("일종으", 266);
-    freq.put("도메인", 70);
-    freq.put("없다", 384);
-    freq.put("학은 ", 215);
-    freq.put("없는", 620);
-    freq.put("일종의", 150);
-    freq.put(" 안 ", 111);
-    freq.put(" 학회", 76);
-    freq.put("금이 ", 60);
-    freq.put("선거로", 128);
-    freq.put(" 발매", 1040);
-    freq.put("불러", 105);
-    freq.put("줄이", 100);
-    freq.put("불", 5804);
-    freq.put("곤 ", 148);
-    freq.put("접", 3114);
-    freq.put("밀양", 61);
-    freq.put(" 패턴", 71);
-    freq.put("슬링 ", 88);
-    freq.put("외래", 67);
-    freq.put(" 벡터", 143);
-    freq.put("원은 ", 642);
-    freq.put(" 집단", 362);
-    freq.put(" 이민", 78);
-    freq.put(" 이미", 324);
-    freq.put("부가 ", 501);
-    freq.put("나무 ", 204);
-    freq.put(" 따왔", 76);
-    freq.put("성립", 287);
-    freq.put(" 미네", 57);
-    freq.put("렸던", 58);
-    freq.put("피아 ", 143);
-    freq.put("빵", 82);
-    freq.put("성리", 100);
-    freq.put(" 미니", 154);
-    freq.put(" 살해", 171);
-    freq.put("보건복", 107);
-    freq.put("크로", 1143);
-    freq.put(" 일까", 724);
-    freq.put(" 관심", 162);
-    freq.put("아랍 ", 69);
-    freq.put("술", 6046);
-    freq.put("기》 ", 71);
-    freq.put("라도 ", 249);
-    freq.put("것과", 204);
-    freq.put(" 이렇", 64);
-    freq.put("곡 ", 443);
-    freq.put("수영", 176);
-    freq.put(" 클라", 269);
-    freq.put("질서", 165);
-    freq.put("크레", 166);
-    freq.put("화재", 932);
-    freq.put(" 피아", 207);
-    freq.put("점으", 208);
-    freq.put(" 가이", 129);
-    freq.put("집합", 497);
-    freq.put("화장", 67);
-    freq.put(" 이론", 891);
-    freq.put(" 이로", 113);
-    freq.put("장인 ", 112);
-    freq.put(" 준비", 90);
-    freq.put("집하", 97);
-    freq.put("집필", 60);
-    freq.put("음과 ", 230);
-    freq.put("화인", 552);
-    freq.put("화이", 520);
-    freq.put("나급", 179);
-    freq.put("겔", 142);
-    freq.put("지휘자", 123);
-    freq.put(" 규모", 317);
-    freq.put("화의", 717);
-    freq.put(" 클래", 126);
-    freq.put("로비치", 78);
-    freq.put("크루", 160);
-    freq.put("집행", 234);
-    freq.put(" 클럽", 310);
-    freq.put(" 피에", 140);
-    freq.put(" 이룬", 137);
-    freq.put("작하는", 103);
-    freq.put(" 이루", 1409);
-    freq.put("흙", 94);
-    freq.put("화유", 179);
-    freq.put("문과 ", 115);
-    freq.put("반구", 82);
-    freq.put("랜드에", 119);
-    freq.put("콩", 581);
-    freq.put(" 이러", 460);
-    freq.put("성모", 113);
-    freq.put("럴 ", 180);
-    freq.put("키고 ", 206);
-    freq.put("仕 ", 99);
-    freq.put(" 친목", 158);
-    freq.put("남동부", 196);
-    freq.put("傭", 628);
-    freq.put("넬", 161);
-    freq.put("화원", 71);
-    freq.put("휘는", 146);
-    freq.put("크를", 175);
-    freq.put("군의 ", 818);
-    freq.put("통신", 860);
-    freq.put(" 이를", 700);
-    freq.put(" 기업", 903);
-    freq.put(" 이른", 205);
-    freq.put(" 이르", 661);
-    freq.put("あああ", 724);
-    freq.put("유역", 120);
-    freq.put("복지부", 89);
-    freq.put(" 가와", 79);
-    freq.put("림의 ", 63);
-    freq.put("성문", 74);
-    freq.put("현하는", 126);
-    freq.put("인사 ", 61);
-    freq.put("프 ", 1611);
-    freq.put("화정", 132);
-    freq.put("기초로", 124);
-    freq.put(" 가운", 1193);
-    freq.put("개국이", 87);
-    freq.put("실상 ", 131);
-    freq.put("국토", 367);
-    freq.put("권한을", 66);
-    freq.put("야기를", 124);
-    freq.put("丹 ", 433);
-    freq.put(" 이름", 3638);
-    freq.put("화와", 331);
-    freq.put("하르트", 89);
-    freq.put("교 ", 3766);
-    freq.put("호가 ", 138);
-    freq.put("줄여", 450);
-    freq.put("릭 ", 421);
-    freq.put("乩", 112);
-    freq.put("크리", 684);
-    freq.put("사이트", 392);
-    freq.put("쟁의 ", 196);
-    freq.put("화예", 218);
-    freq.put("감독", 690);
-    freq.put("크림", 80);
-    freq.put("크립", 110);
-    freq.put("타운 ", 91);
-    freq.put("질의", 280);
-    freq.put("논리 ", 71);
-    freq.put(" 가설", 110);
-    freq.put("통에", 86);
-    freq.put("넓이", 80);
-    freq.put(" 미드", 74);
-    freq.put("응용", 379);
-    freq.put("퀘", 136);
-    freq.put("질은", 90);
-    freq.put("질을", 426);
-    freq.put("유에", 59);
-    freq.put("질이", 274);
-    freq.put("상당한", 67);
-    freq.put("까지의", 267);
-    freq.put("넓은", 250);
-    freq.put("독", 6183);
-    freq.put("베리", 361);
-    freq.put("국화", 64);
-    freq.put("대교", 257);
-    freq.put("스탄 ", 326);
-    freq.put("화교류", 59);
-    freq.put("부고", 63);
-    freq.put("구성 ", 124);
-    freq.put("丘 ", 1912);
-    freq.put("대구", 662);
-    freq.put("대국", 94);
-    freq.put("화소", 62);
-    freq.put("표를", 238);
-    freq.put("부과", 108);
-    freq.put("부가", 553);
-    freq.put("국회", 507);
-    freq.put("풍으로", 73);
-    freq.put("하였는", 106);
-    freq.put("선수이", 268);
-    freq.put("자유 ", 190);
-    freq.put("피 ", 342);
-    freq.put("베를", 164);
-    freq.put(" 가속", 74);
-    freq.put("편의 ", 84);
-    freq.put("옷", 147);
-    freq.put("벌인 ", 97);
-    freq.put("정보의", 92);
-    freq.put("복하", 136);
-    freq.put(" 얻는", 95);
-    freq.put(" 활약", 340);
-    freq.put("화성", 207);
-    freq.put("쳐", 1531);
-    freq.put("전라북", 260);
-    freq.put("대규", 180);
-    freq.put("액", 892);
-    freq.put("그램 ", 342);
-    freq.put(" 학파", 104);
-    freq.put("상가 ", 71);
-    freq.put(" 망명", 76);
-    freq.put("복합", 220);
-    freq.put("작품", 1198);
-    freq.put("번에 ", 61);
-    freq.put("하였다", 4731);
-    freq.put("대가", 323);
-    freq.put("작해", 97);
-    freq.put("지방해", 72);
-    freq.put("아티스", 65);
-    freq.put("동안에", 69);
-    freq.put("오세", 131);
-    freq.put("대개", 179);
-    freq.put("말레이", 208);
-    freq.put("작하", 761);
-    freq.put("추는", 61);
-    freq.put("작한", 580);
-    freq.put("정보원", 60);
-    freq.put("무", 13084);
-    freq.put("화상", 154);
-    freq.put(" 영 ", 87);
-    freq.put("하였던", 143);
-    freq.put("화산", 351);
-    freq.put("화사", 143);
-    freq.put("특정 ", 405);
-    freq.put(" 초식", 67);
-    freq.put("스라엘", 216);
-    freq.put("셸", 100);
-    freq.put("부근", 226);
-    freq.put("퐁", 58);
-    freq.put("져있다", 81);
-    freq.put("집트", 409);
-    freq.put(" 가사", 108);
-    freq.put("세기", 1777);
-    freq.put("공이 ", 75);
-    freq.put(" 콩고", 150);
-    freq.put("우드 ", 107);
-    freq.put("계에서", 550);
-    freq.put("성북", 87);
-    freq.put("성부", 135);
-    freq.put("성분", 130);
-    freq.put(" 미디", 308);
-    freq.put(" 가상", 296);
-    freq.put("지방행", 148);
-    freq.put("응을", 89);
-    freq.put("대공", 201);
-    freq.put("작했", 259);
-    freq.put("억 ", 318);
-    freq.put("오브 ", 217);
-    freq.put("빛의", 78);
-    freq.put("산면 ", 79);
-    freq.put("발을 ", 206);
-    freq.put("이티", 216);
-    freq.put("빛을", 75);
-    freq.put("빛이", 59);
-    freq.put(" 이바", 343);
-    freq.put("금으로", 71);
-    freq.put("염색", 75);
-    freq.put("ь", 58);
-    freq.put("설 ", 998);
-    freq.put("크바", 228);
-    freq.put(" 딸로", 65);
-    freq.put("인해 ", 467);
-    freq.put(" 동남", 210);
-    freq.put("통의", 266);
-    freq.put("질에", 101);
-    freq.put(" 홈구", 160);
-    freq.put("통을", 190);
-    freq.put(" 이벤", 57);
-    freq.put("통은", 64);
-    freq.put(" 이베", 69);
-    freq.put("통일", 475);
-    freq.put(" 니콜", 153);
-    freq.put("통이", 170);
-    freq.put("부기", 151);
-    freq.put(" 이번", 134);
-    freq.put("브라질", 214);
-    freq.put(" 이복", 68);
-    freq.put("북동부", 261);
-    freq.put("님", 381);
-    freq.put("률이 ", 74);
-    freq.put(" 그 ", 3864);
-    freq.put("건이다", 462);
-    freq.put("丘亂 ", 62);
-    freq.put("국시리", 95);
-    freq.put("본격적", 88);
-    freq.put("름에서", 87);
-    freq.put("명한", 593);
-    freq.put("명하", 918);
-    freq.put("곡을 ", 163);
-    freq.put(" 업무", 536);
-    freq.put(" 활용", 295);
-    freq.put("화시", 180);
-    freq.put("브리튼", 77);
-    freq.put("커버", 63);
-    freq.put("대기", 340);
-    freq.put("본어 ", 107);
-    freq.put("명해", 88);
-    freq.put(" 가수", 406);
-    freq.put("대까", 71);
-    freq.put("지식을", 78);
-    freq.put(" 미래", 216);
-    freq.put("천황 ", 220);
-    freq.put("국한", 79);
-    freq.put("국하", 80);
-    freq.put("이사회", 105);
-    freq.put("니즘 ", 74);
-    freq.put("이트", 1360);
-    freq.put("국해", 88);
-    freq.put("통용", 58);
-    freq.put("전하는", 152);
-    freq.put("무이", 87);
-    freq.put("란", 5893);
-    freq.put("이베이", 60);
-    freq.put(" 가스", 186);
-    freq.put("언어학", 160);
-    freq.put("전부터", 113);
-    freq.put(" 러브", 58);
-    freq.put("터 ", 8679);
-    freq.put("미사일", 222);
-    freq.put("곡가이", 164);
-    freq.put("어로", 1502);
-    freq.put("명했", 79);
-    freq.put("오랫동", 75);
-    freq.put("광고 ", 99);
-    freq.put("통영", 82);
-    freq.put("현의 ", 217);
-    freq.put(" 에티", 97);
-    freq.put("행사하", 73);
-    freq.put(" 가시", 92);
-    freq.put("베르트", 104);
-    freq.put("좋", 275);
-    freq.put(" 아토", 61);
-    freq.put("지하", 1289);
-    freq.put("지한", 165);
-    freq.put("지할", 102);
-    freq.put("지함", 108);
-    freq.put("부분 ", 310);
-    freq.put("만화", 639);
-    freq.put("무관으", 57);
-    freq.put("칭으", 286);
-    freq.put(" 품종", 76);
-    freq.put("페라 ", 140);
-    freq.put("칭을", 179);
-    freq.put("칭은", 479);
-    freq.put("류와", 152);
-    freq.put("격한 ", 87);
-    freq.put(" 칸 ", 70);
-    freq.put("칭이", 493);
-    freq.put(" 조 ", 468);
-    freq.put("슷하게", 59);
-    freq.put(" 청동", 62);
-    freq.put("브라이", 58);
-    freq.put("지만 ", 2429);
-    freq.put("단기", 81);
-    freq.put("자들이", 347);
-    freq.put("시험이", 69);
-    freq.put("타를 ", 73);
-    freq.put("크다", 86);
-    freq.put("차원의", 57);
-    freq.put(" 삼성", 325);
-    freq.put("자들의", 199);
-    freq.put(" 이는", 558);
-    freq.put(" 효율", 259);
-    freq.put(" 가축", 63);
-    freq.put("자들을", 122);
-    freq.put("자들은", 141);
-    freq.put("지했", 204);
-    freq.put("워크에", 63);
-    freq.put("크는", 102);
-    freq.put(" 이다", 3516);
-    freq.put("지향", 165);
-    freq.put(" 승 ", 122);
-    freq.put("상업 ", 66);
-    freq.put("합류하", 76);
-    freq.put(" 이듬", 68);
-    freq.put("성남", 125);
-    freq.put("파에 ", 57);
-    freq.put("사전》", 334);
-    freq.put("레타", 68);
-    freq.put("지표", 121);
-    freq.put("보디아", 75);
-    freq.put("과의 ", 595);
-    freq.put("爲", 79);
-    freq.put("구팀이", 62);
-    freq.put("베드", 57);
-    freq.put("화체", 1138);
-    freq.put("류의", 468);
-    freq.put("텐츠 ", 92);
-    freq.put("논 ", 119);
-    freq.put(" 미리", 101);
-    freq.put("류인", 86);
-    freq.put(" 품질", 108);
-    freq.put("페어", 82);
-    freq.put("창단되", 64);
-    freq.put("호는 ", 1131);
-    freq.put("리스토", 113);
-    freq.put("감리", 65);
-    freq.put("너무 ", 59);
-    freq.put("진왜란", 116);
-    freq.put("브라우", 133);
-    freq.put("브라운", 81);
-    freq.put("통제", 163);
-    freq.put("인리히", 70);
-    freq.put("연구자", 69);
-    freq.put("존속", 102);
-    freq.put("전시키", 66);
-    freq.put("통적", 314);
-    freq.put("화석", 141);
-    freq.put("섬에서", 72);
-    freq.put(" 이동", 421);
-    freq.put(" 싱가", 97);
-    freq.put("전라남", 362);
-    freq.put("불법", 161);
-    freq.put("응하는", 87);
-    freq.put("이프", 354);
-    freq.put("코틀랜", 227);
-    freq.put("자들에", 142);
-    freq.put("단과", 143);
-    freq.put("지휘", 406);
-    freq.put(" 이끌", 202);
-    freq.put("무부 ", 116);
-    freq.put(" 이끄", 118);
-    freq.put("학·", 96);
-    freq.put("버", 5133);
-    freq.put(" 달 ", 74);
-    freq.put("능력", 467);
-    freq.put("하기 ", 3613);
-    freq.put(" 이나", 121);
-    freq.put("성당", 248);
-    freq.put("형성하", 139);
-    freq.put("성단", 63);
-    freq.put("라이트", 130);
-    freq.put("지면 ", 61);
-    freq.put("들고 ", 146);
-    freq.put("훈", 752);
-    freq.put("베르크", 152);
-    freq.put(" 청년", 105);
-    freq.put("학 ", 3682);
-    freq.put(" 따서", 167);
-    freq.put("성능", 133);
-    freq.put("교구 ", 85);
-    freq.put("스웨", 430);
-    freq.put("불린", 592);
-    freq.put("사》", 106);
-    freq.put("킬 ", 155);
-    freq.put(" 니시", 68);
-    freq.put("문학 ", 248);
-    freq.put("펜실베", 90);
-    freq.put("만한", 100);
-    freq.put(" 청나", 165);
-    freq.put("권에서", 136);
-    freq.put("모야마", 65);
-    freq.put("성대", 78);
-    freq.put("지형", 108);
-    freq.put("질적", 241);
-    freq.put(" 이념", 113);
-    freq.put(" 가치", 372);
-    freq.put("드림", 70);
-    freq.put("성동", 166);
-    freq.put("성도", 116);
-    freq.put("선거는", 100);
-    freq.put("외교관", 176);
-    freq.put("페인", 767);
-    freq.put("페이", 806);
-    freq.put("乙倉", 109);
-    freq.put(" 반사", 111);
-    freq.put("단군", 64);
-    freq.put("떤 ", 678);
-    freq.put("엔", 1496);
-    freq.put("류에", 196);
-    freq.put("금속 ", 93);
-    freq.put("토마스", 59);
-    freq.put("롭", 295);
-    freq.put(" 싱글", 369);
-    freq.put("런 ", 372);
-    freq.put("교가 ", 168);
-    freq.put("발족하", 147);
-    freq.put("산하 ", 318);
-    freq.put(" 베스", 190);
-    freq.put("참모", 66);
-    freq.put(" 견해", 86);
-    freq.put("곳의 ", 66);
-    freq.put("이한 ", 104);
-    freq.put("포함 ", 105);
-    freq.put("파를 ", 146);
-    freq.put("대전 ", 499);
-    freq.put("시아와", 80);
-    freq.put(" 반응", 269);
-    freq.put(" 세기", 1685);
-    freq.put("성되", 956);
-    freq.put("기이다", 399);
-    freq.put("성된", 741);
-    freq.put("국시대", 174);
-    freq.put("진흥에", 83);
-    freq.put("방송 ", 364);
-    freq.put("三三之", 337);
-    freq.put("적을 ", 427);
-    freq.put("리즈에", 127);
-    freq.put("지털", 569);
-    freq.put("왼", 87);
-    freq.put("샤를", 135);
-    freq.put("유의 ", 224);
-    freq.put(" 클리", 72);
-    freq.put("기능을", 346);
-    freq.put(" 뒤 ", 412);
-    freq.put("담은", 79);
-    freq.put("기능이", 91);
-    freq.put("성들", 103);
-    freq.put("베네", 199);
-    freq.put("고", 47107);
-    freq.put(" 가지", 1815);
-    freq.put(" 가진", 647);
-    freq.put(" 따위", 129);
-    freq.put("한국교", 74);
-    freq.put(" 승객", 70);
-    freq.put("라이프", 136);
-    freq.put(" 가져", 155);
-    freq.put("론가", 102);
-    freq.put("시아의", 577);
-    freq.put("화는 ", 234);
-    freq.put("용해서", 66);
-    freq.put("호하고", 60);
-    freq.put(" 가정", 260);
-    freq.put(" 클레", 98);
-    freq.put("크라", 447);
-    freq.put(" 이라", 1915);
-    freq.put("목과", 78);
-    freq.put("냉", 198);
-    freq.put(" 미분", 130);
-    freq.put(" 가족", 215);
-    freq.put("부산지", 60);
-    freq.put("한국과", 105);
-    freq.put(" 되기", 85);
-    freq.put("값이 ", 80);
-    freq.put("생긴", 160);
-    freq.put(" 클로", 116);
-    freq.put("생기", 186);
-    freq.put("등지에", 113);
-    freq.put(" 가졌", 75);
-    freq.put("로를 ", 314);
-    freq.put(" 왔다", 158);
-    freq.put("산당", 204);
-    freq.put("놈", 67);
-    freq.put("세 ", 2296);
-    freq.put("존에", 63);
-    freq.put("간이다", 99);
-    freq.put("출신으", 183);
-    freq.put(" 이래", 213);
-    freq.put("네트워", 601);
-    freq.put("동당 ", 72);
-    freq.put("홈구", 160);
-    freq.put(" 이란", 1010);
-    freq.put("출신의", 366);
-    freq.put("방에 ", 408);
-    freq.put(" 이런", 125);
-    freq.put("밀집", 72);
-    freq.put(" 따온", 72);
-    freq.put("크래", 193);
-    freq.put("간의 ", 1177);
-    freq.put("화제", 218);
-    freq.put("지키", 149);
-    freq.put("실은 ", 1893);
-    freq.put("출신이", 151);
-    freq.put("화점", 66);
-    freq.put("험의 ", 58);
-    freq.put("화적", 211);
-    freq.put(" 세가", 201);
-    freq.put("추리", 70);
-    freq.put("점성", 174);
-    freq.put("만큼", 116);
-    freq.put("츠", 2145);
-    freq.put("과도", 95);
-    freq.put("관리하", 241);
-    freq.put("시외버", 130);
-    freq.put(" 프라", 205);
-    freq.put(" 낭만", 59);
-    freq.put("무소", 302);
-    freq.put("페스", 133);
-    freq.put("루를 ", 71);
-    freq.put(" 헝가", 248);
-    freq.put("클", 2167);
-    freq.put("자리 ", 281);
-    freq.put("산스", 90);
-    freq.put("학부 ", 102);
-    freq.put(" 갈리", 98);
-    freq.put(" 극작", 78);
-    freq.put("불렀", 138);
-    freq.put("으로 ", 33705);
-    freq.put("용을 ", 583);
-    freq.put("불렸", 246);
-    freq.put("타나 ", 60);
-    freq.put(" 극장", 162);
-    freq.put(" 프란", 161);
-    freq.put(" 프랜", 67);
-    freq.put("선진화", 57);
-    freq.put(" 프랑", 2466);
-    freq.put(" 준다", 87);
-    freq.put("병의 ", 61);
-    freq.put("인천광", 247);
-    freq.put(" 세계", 3678);
-    freq.put("리즈이", 119);
-    freq.put(" 피지", 78);
-    freq.put(" 이들", 580);
-    freq.put("다테", 75);
-    freq.put("투에서", 133);
-    freq.put("륙 ", 150);
-    freq.put("헌법", 468);
-    freq.put("진흥을", 64);
-    freq.put("리즈의", 173);
-    freq.put(" 꼭", 115);
-    freq.put("존의", 272);
-    freq.put(" 위 ", 236);
-    freq.put(" 김해", 111);
-    freq.put("그러", 521);
-    freq.put("임워", 63);
-    freq.put("베니", 113);
-    freq.put("불리", 906);
-    freq.put("밴드", 389);
-    freq.put("지로서", 70);
-    freq.put("체로 ", 467);
-    freq.put("생각", 316);
-    freq.put("진흥원", 106);
-    freq.put("교와 ", 209);
-    freq.put("흰", 134);
-    freq.put(" 이때", 111);
-    freq.put("통치", 346);
-    freq.put(" 되고", 141);
-    freq.put("손꼽", 71);
-    freq.put("스테르", 112);
-    freq.put("한국기", 62);
-    freq.put("대상 ", 99);
-    freq.put("시아에", 205);
-    freq.put("생과", 60);
-    freq.put("지나 ", 148);
-    freq.put("통칭", 251);
-    freq.put("수는 ", 371);
-    freq.put(" 한민", 80);
-    freq.put("시아어", 195);
-    freq.put("재하고", 117);
-    freq.put("위한 ", 2048);
-    freq.put("킨 ", 405);
-    freq.put("론이 ", 58);
-    freq.put("호하기", 67);
-    freq.put("생겼", 60);
-    freq.put(" 세균", 89);
-    freq.put("존재", 1248);
-    freq.put("몇 ", 303);
-    freq.put("생겨", 142);
-  }
-  
 }
-
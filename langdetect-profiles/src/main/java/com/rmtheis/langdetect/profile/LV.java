@@ -1,7597 +1,15 @@
 package com.rmtheis.langdetect.profile;
 
-import java.util.HashMap;
-
 import com.cybozu.labs.langdetect.util.LangProfile;
-import com.cybozu.labs.langdetect.util.NGram;
 
 public class LV {
   private static final String name = "lv";
-  private static final HashMap<String, Integer> freq = new HashMap<String, Integer>();
-  private static final int[] n_words = new int[NGram.N_GRAM];
 
   public LV() {
-    init();  
   }
 
   public final LangProfile getLangProfile() {
-    return new LangProfile(name, freq, n_words);
+    return Profiles.load(name);
   }
-  
-  private void init() {
-    n_words[0] = 2106271;
-    n_words[1] = 2428959;
-    n_words[2] = 2036825;
-
-    freq.put("IX ", 48);
-    freq.put("iāņ", 39);
-    freq.put("dnī", 68);
-    freq.put("NO ", 49);
-    freq.put("Lū", 27);
-    freq.put("īsā", 29);
-    freq.put("ņā ", 197);
-    freq.put("HL ", 22);
-    freq.put("ņās", 22);
-    freq.put("Lī", 215);
-    freq.put("lmu", 99);
-    freq.put("ņām", 78);
-    freq.put("Lā", 40);
-    freq.put("k", 78380);
-    freq.put("Lē", 28);
-    freq.put("Ā", 409);
-    freq.put("iān", 89);
-    freq.put("iāc", 169);
-    freq.put("dne", 44);
-    freq.put("dni", 257);
-    freq.put("unā", 343);
-    freq.put("īz ", 81);
-    freq.put("voj", 423);
-    freq.put("Le", 274);
-    freq.put("īšu", 52);
-    freq.put("La", 2106);
-    freq.put("Lo", 258);
-    freq.put("Li", 1187);
-    freq.put("Lu", 187);
-    freq.put("Ly", 26);
-    freq.put("hon", 30);
-    freq.put("hol", 226);
-    freq.put("hom", 35);
-    freq.put("hok", 186);
-    freq.put("hot", 32);
-    freq.put("hor", 75);
-    freq.put("īs ", 468);
-    freq.put("hop", 25);
-    freq.put("uco", 23);
-    freq.put("A", 5495);
-    freq.put("م", 47);
-    freq.put("L ", 193);
-    freq.put("ος ", 59);
-    freq.put("lēc", 25);
-    freq.put("īst", 852);
-    freq.put(" ča", 23);
-    freq.put("īss", 36);
-    freq.put("ū", 7903);
-    freq.put("īsa", 30);
-    freq.put("īsl", 28);
-    freq.put("īsi", 181);
-    freq.put("īsk", 119);
-    freq.put("nzē", 40);
-    freq.put(" V ", 48);
-    freq.put("āzi", 216);
-    freq.put("zam", 111);
-    freq.put("AP ", 26);
-    freq.put("āša", 527);
-    freq.put("Hip", 27);
-    freq.put("fis", 214);
-    freq.put("His", 22);
-    freq.put("Hit", 49);
-    freq.put("fiz", 287);
-    freq.put("zai", 49);
-    freq.put("lēt", 383);
-    freq.put("fic", 294);
-    freq.put("fig", 49);
-    freq.put("fij", 235);
-    freq.put("fik", 181);
-    freq.put("Hil", 23);
-    freq.put("Him", 40);
-    freq.put("fil", 435);
-    freq.put(" Va", 790);
-    freq.put(" Ve", 526);
-    freq.put("ešo", 30);
-    freq.put("upo", 29);
-    freq.put(" Vi", 1347);
-    freq.put(" Vl", 38);
-    freq.put(" Vo", 205);
-    freq.put(" Vu", 40);
-    freq.put("sān", 37);
-    freq.put("ešs", 32);
-    freq.put("ešu", 1242);
-    freq.put("ešv", 29);
-    freq.put("fi ", 28);
-    freq.put("mdo", 23);
-    freq.put("mda", 33);
-    freq.put("mde", 27);
-    freq.put("lpā", 54);
-    freq.put("rt", 4290);
-    freq.put("ru", 7404);
-    freq.put("rv", 1310);
-    freq.put("rp", 1821);
-    freq.put("rr", 239);
-    freq.put("rs", 5613);
-    freq.put("smu", 340);
-    freq.put("sms", 242);
-    freq.put("ry", 160);
-    freq.put("rz", 732);
-    freq.put("smo", 229);
-    freq.put("re", 6968);
-    freq.put("rf", 127);
-    freq.put("rg", 2074);
-    freq.put("ra", 18562);
-    freq.put("rb", 2090);
-    freq.put("rc", 590);
-    freq.put("rl", 568);
-    freq.put("rm", 3278);
-    freq.put("rn", 1729);
-    freq.put("ro", 10142);
-    freq.put("rh", 439);
-    freq.put("ri", 15479);
-    freq.put("rj", 126);
-    freq.put("rk", 1664);
-    freq.put("sēt", 1211);
-    freq.put("atf", 33);
-    freq.put("atg", 171);
-    freq.put("atd", 107);
-    freq.put("ate", 661);
-    freq.put("atb", 314);
-    freq.put("atc", 32);
-    freq.put("ata", 845);
-    freq.put("atn", 153);
-    freq.put("ato", 1405);
-    freq.put("atl", 205);
-    freq.put("atm", 195);
-    freq.put("atj", 54);
-    freq.put("atk", 493);
-    freq.put("ath", 38);
-    freq.put("ati", 895);
-    freq.put("atv", 2153);
-    freq.put("att", 979);
-    freq.put("atu", 973);
-    freq.put("r ", 23056);
-    freq.put("ats", 614);
-    freq.put("atp", 124);
-    freq.put("atz", 132);
-    freq.put("ds ", 1372);
-    freq.put("Dub", 30);
-    freq.put("ešķ", 123);
-    freq.put(" Vā", 354);
-    freq.put("ešā", 114);
-    freq.put("Cen", 195);
-    freq.put("ļūt", 29);
-    freq.put("Cel", 26);
-    freq.put("ļūs", 33);
-    freq.put(" Vē", 121);
-    freq.put("Cet", 27);
-    freq.put("Cer", 41);
-    freq.put("ļūd", 92);
-    freq.put("šīb", 168);
-    freq.put("tīv", 934);
-    freq.put("í", 35);
-    freq.put("nza", 50);
-    freq.put("nzi", 41);
-    freq.put("nzo", 53);
-    freq.put("bīd", 30);
-    freq.put("bīg", 65);
-    freq.put("žoj", 249);
-    freq.put("bīb", 430);
-    freq.put("atā", 330);
-    freq.put("bīn", 33);
-    freq.put("bīt", 96);
-    freq.put("rņ", 171);
-    freq.put("atē", 140);
-    freq.put("bīr", 30);
-    freq.put("bīs", 120);
-    freq.put("ア", 23);
-    freq.put("Ast", 53);
-    freq.put("sēm", 89);
-    freq.put("rž", 79);
-    freq.put("atī", 1487);
-    freq.put("rš", 1224);
-    freq.put("Asi", 33);
-    freq.put("Aso", 76);
-    freq.put("rū", 541);
-    freq.put("atņ", 23);
-    freq.put("х", 31);
-    freq.put("rē", 1505);
-    freq.put("smē", 44);
-    freq.put("rā", 7122);
-    freq.put("smā", 173);
-    freq.put("mīg", 202);
-    freq.put("rķ", 279);
-    freq.put("mīb", 243);
-    freq.put("atš", 186);
-    freq.put("rļ", 24);
-    freq.put("mīn", 84);
-    freq.put("lpu", 76);
-    freq.put("mīl", 44);
-    freq.put("mīk", 32);
-    freq.put("atū", 468);
-    freq.put("lpo", 192);
-    freq.put("mīt", 118);
-    freq.put("smī", 51);
-    freq.put("lpi", 52);
-    freq.put("rģ", 265);
-    freq.put("lpe", 42);
-    freq.put("lpa", 98);
-    freq.put("rī", 5569);
-    freq.put("sēn", 52);
-    freq.put("oīd", 99);
-    freq.put("zti", 66);
-    freq.put("zte", 106);
-    freq.put("tāž", 25);
-    freq.put("tāš", 25);
-    freq.put("ztu", 134);
-    freq.put("ztv", 96);
-    freq.put("frē", 39);
-    freq.put("X", 234);
-    freq.put("frī", 26);
-    freq.put("Rie", 159);
-    freq.put("āks", 485);
-    freq.put("PS ", 25);
-    freq.put("ņji", 23);
-    freq.put("āku", 495);
-    freq.put("ākt", 61);
-    freq.put("āki", 268);
-    freq.put("āko", 642);
-    freq.put("āka", 1716);
-    freq.put("irz", 314);
-    freq.put("irr", 24);
-    freq.put("irs", 599);
-    freq.put("irt", 236);
-    freq.put("iru", 216);
-    freq.put("iri", 558);
-    freq.put("irk", 171);
-    freq.put("irm", 929);
-    freq.put("irn", 124);
-    freq.put("iro", 905);
-    freq.put("ira", 259);
-    freq.put("irb", 90);
-    freq.put("irc", 39);
-    freq.put("ird", 185);
-    freq.put("ire", 99);
-    freq.put("irg", 402);
-    freq.put("tzī", 84);
-    freq.put("āk ", 1029);
-    freq.put("ļēj", 87);
-    freq.put("ir ", 14672);
-    freq.put("pre", 942);
-    freq.put("šru", 52);
-    freq.put("tāt", 740);
-    freq.put("SR ", 106);
-    freq.put("tāp", 79);
-    freq.put("fre", 65);
-    freq.put("tās", 1054);
-    freq.put("fri", 213);
-    freq.put("fro", 69);
-    freq.put("tāz", 22);
-    freq.put("tād", 527);
-    freq.put("tāc", 148);
-    freq.put("tāl", 1306);
-    freq.put("tām", 538);
-    freq.put("tān", 411);
-    freq.put("pro", 1797);
-    freq.put("tāj", 1760);
-    freq.put("tāk", 538);
-    freq.put("pri", 1091);
-    freq.put("kte", 51);
-    freq.put("ņi", 716);
-    freq.put("ant", 1775);
-    freq.put("tā ", 2912);
-    freq.put("uģ", 166);
-    freq.put("rķe", 31);
-    freq.put("rķi", 179);
-    freq.put("bil", 410);
-    freq.put("tza", 38);
-    freq.put("ld ", 81);
-    freq.put("rķu", 27);
-    freq.put("tzi", 22);
-    freq.put("ākš", 30);
-    freq.put("Tra", 108);
-    freq.put("uār", 73);
-    freq.put("uāl", 181);
-    freq.put("irš", 41);
-    freq.put("uāc", 50);
-    freq.put("с", 262);
-    freq.put("bie", 860);
-    freq.put("ākļ", 103);
-    freq.put("irē", 31);
-    freq.put("jko", 24);
-    freq.put("irā", 703);
-    freq.put("irī", 150);
-    freq.put("ākā", 884);
-    freq.put("soš", 166);
-    freq.put("iāl", 1004);
-    freq.put("azā", 276);
-    freq.put("šķu", 61);
-    freq.put("ču ", 517);
-    freq.put("šķi", 792);
-    freq.put("šķe", 37);
-    freq.put("Div", 37);
-    freq.put("šķa", 58);
-    freq.put("hai", 42);
-    freq.put("azī", 447);
-    freq.put("hal", 100);
-    freq.put("ham", 85);
-    freq.put("han", 159);
-    freq.put("soņ", 53);
-    freq.put("hae", 23);
-    freq.put("bni", 61);
-    freq.put("har", 152);
-    freq.put("has", 51);
-    freq.put("hat", 24);
-    freq.put("hau", 35);
-    freq.put("už", 113);
-    freq.put("ha ", 116);
-    freq.put("eb ", 1292);
-    freq.put("ola", 1498);
-    freq.put("olb", 29);
-    freq.put("old", 135);
-    freq.put("ole", 441);
-    freq.put("olf", 57);
-    freq.put("olg", 32);
-    freq.put("Īsl", 26);
-    freq.put("oli", 1155);
-    freq.put(" X ", 41);
-    freq.put("oll", 82);
-    freq.put("olm", 107);
-    freq.put("oln", 31);
-    freq.put("olo", 1146);
-    freq.put("ols", 417);
-    freq.put("olt", 46);
-    freq.put("olu", 413);
-    freq.put("fot", 77);
-    freq.put("umt", 47);
-    freq.put("umv", 39);
-    freq.put("ump", 111);
-    freq.put("for", 1089);
-    freq.put("fos", 41);
-    freq.put("ume", 317);
-    freq.put("umd", 66);
-    freq.put("uma", 1511);
-    freq.put("umb", 191);
-    freq.put("fol", 75);
-    freq.put("uml", 29);
-    freq.put("fon", 280);
-    freq.put("umn", 30);
-    freq.put("umi", 1048);
-    freq.put("ος", 59);
-    freq.put("Cēs", 56);
-    freq.put("ol ", 51);
-    freq.put("Ņ", 124);
-    freq.put("jād", 51);
-    freq.put("mša", 94);
-    freq.put("o", 88352);
-    freq.put("um ", 175);
-    freq.put("mbl", 29);
-    freq.put("Fed", 124);
-    freq.put("mbo", 287);
-    freq.put("sod", 41);
-    freq.put("sof", 59);
-    freq.put("Fen", 23);
-    freq.put("mbe", 47);
-    freq.put("Fel", 22);
-    freq.put("soj", 40);
-    freq.put("som", 91);
-    freq.put("sol", 116);
-    freq.put("son", 503);
-    freq.put("sos", 35);
-    freq.put("sor", 227);
-    freq.put("Fer", 33);
-    freq.put("sot", 106);
-    freq.put("sov", 22);
-    freq.put("IV ", 42);
-    freq.put("ņin", 63);
-    freq.put("mbr", 158);
-    freq.put("az ", 62);
-    freq.put("so ", 75);
-    freq.put("σ", 41);
-    freq.put("kūv", 24);
-    freq.put("ņi ", 361);
-    freq.put("šķī", 179);
-    freq.put("azi", 230);
-    freq.put("azm", 31);
-    freq.put("azn", 207);
-    freq.put("azo", 137);
-    freq.put("aza", 217);
-    freq.put("šķē", 67);
-    freq.put("aze", 46);
-    freq.put("azs", 68);
-    freq.put("azu", 55);
-    freq.put("šķā", 29);
-    freq.put("Sir", 32);
-    freq.put("ūdo", 28);
-    freq.put("ūde", 716);
-    freq.put("olū", 125);
-    freq.put("ūda", 90);
-    freq.put("Sib", 28);
-    freq.put("Sig", 27);
-    freq.put("Sie", 22);
-    freq.put("kho", 57);
-    freq.put("ūdu", 26);
-    freq.put("Sin", 63);
-    freq.put("Sim", 41);
-    freq.put("Sil", 58);
-    freq.put("umš", 52);
-    freq.put("E", 2166);
-    freq.put("umē", 24);
-    freq.put("olī", 129);
-    freq.put("umā", 913);
-    freq.put("olā", 244);
-    freq.put("olē", 98);
-    freq.put("umī", 24);
-    freq.put("osp", 73);
-    freq.put("oss", 48);
-    freq.put("osu", 40);
-    freq.put("ost", 506);
-    freq.put("osi", 149);
-    freq.put("osk", 156);
-    freq.put("osm", 456);
-    freq.put("per", 1152);
-    freq.put("oso", 109);
-    freq.put("osa", 935);
-    freq.put("ose", 88);
-    freq.put("osf", 203);
-    freq.put("Jūl", 32);
-    freq.put("vet", 45);
-    freq.put("ver", 992);
-    freq.put("ves", 531);
-    freq.put("ved", 123);
-    freq.put("vec", 250);
-    freq.put("ven", 961);
-    freq.put("vel", 158);
-    freq.put("un", 12883);
-    freq.put("vej", 30);
-    freq.put("vek", 42);
-    freq.put("vei", 2843);
-    freq.put("ipī", 32);
-    freq.put("os ", 3856);
-    freq.put("Tau", 65);
-    freq.put("Tar", 26);
-    freq.put("Tas", 583);
-    freq.put(" gū", 38);
-    freq.put("ipē", 33);
-    freq.put("ve ", 176);
-    freq.put("Tal", 71);
-    freq.put("Tam", 51);
-    freq.put("Tan", 40);
-    freq.put("Tai", 63);
-    freq.put("Taj", 81);
-    freq.put("Tak", 27);
-    freq.put("M ", 140);
-    freq.put("sē", 2104);
-    freq.put("sā", 1658);
-    freq.put("kāņ", 216);
-    freq.put("zru", 92);
-    freq.put("sī", 1152);
-    freq.put("zra", 210);
-    freq.put("Me", 656);
-    freq.put("Ma", 1352);
-    freq.put("Mo", 497);
-    freq.put("Mi", 487);
-    freq.put("Mu", 257);
-    freq.put("O", 1507);
-    freq.put("My", 39);
-    freq.put("sū", 160);
-    freq.put("ipa", 229);
-    freq.put("ipe", 167);
-    freq.put("aķu", 37);
-    freq.put("ipi", 127);
-    freq.put("ipo", 63);
-    freq.put("ipl", 132);
-    freq.put("ipr", 208);
-    freq.put("ips", 96);
-    freq.put("osū", 27);
-    freq.put("ipt", 115);
-    freq.put("ipu", 70);
-    freq.put("aķe", 127);
-    freq.put("ugo", 30);
-    freq.put("veš", 46);
-    freq.put("ε", 43);
-    freq.put("oģi", 861);
-    freq.put("ip ", 24);
-    freq.put("mba", 149);
-    freq.put("osā", 36);
-    freq.put("gzn", 376);
-    freq.put("gzd", 28);
-    freq.put("Mī", 29);
-    freq.put("ūn", 373);
-    freq.put("Mā", 133);
-    freq.put("Mē", 139);
-    freq.put("s ", 99264);
-    freq.put("Mū", 173);
-    freq.put("zrā", 47);
-    freq.put("Ūd", 31);
-    freq.put("sz", 152);
-    freq.put("sy", 29);
-    freq.put("ss", 1501);
-    freq.put("sr", 95);
-    freq.put("sp", 4072);
-    freq.put("sw", 23);
-    freq.put("sv", 864);
-    freq.put("su", 2355);
-    freq.put("st", 22568);
-    freq.put("sk", 10907);
-    freq.put("sj", 78);
-    freq.put("si", 5921);
-    freq.put("sh", 197);
-    freq.put("so", 1970);
-    freq.put("sn", 958);
-    freq.put("sm", 2964);
-    freq.put("sl", 2038);
-    freq.put("sc", 379);
-    freq.put("sb", 260);
-    freq.put("sa", 11922);
-    freq.put("sg", 86);
-    freq.put("sf", 321);
-    freq.put("se", 3495);
-    freq.put("sd", 451);
-    freq.put("ņra", 135);
-    freq.put(" Zī", 28);
-    freq.put("ttp", 39);
-    freq.put("я ", 56);
-    freq.put("tti", 291);
-    freq.put("tto", 22);
-    freq.put("ttl", 22);
-    freq.put("tta", 34);
-    freq.put("neš", 108);
-    freq.put("tte", 67);
-    freq.put("jie", 1464);
-    freq.put("ša ", 338);
-    freq.put("rzī", 41);
-    freq.put("jis", 272);
-    freq.put("ukš", 120);
-    freq.put("hos", 37);
-    freq.put("onī", 135);
-    freq.put("Že", 35);
-    freq.put("Ža", 46);
-    freq.put("tt ", 106);
-    freq.put("Ži", 23);
-    freq.put("ukā", 121);
-    freq.put("ji ", 637);
-    freq.put("šam", 126);
-    freq.put("šan", 3757);
-    freq.put("šai", 236);
-    freq.put("šah", 27);
-    freq.put("šaj", 205);
-    freq.put("šau", 228);
-    freq.put("šas", 321);
-    freq.put("onē", 180);
-    freq.put("ļsk", 34);
-    freq.put("saž", 44);
-    freq.put("čs ", 40);
-    freq.put("Jor", 27);
-    freq.put("pšu", 22);
-    freq.put("saņ", 59);
-    freq.put("pša", 33);
-    freq.put("blo", 48);
-    freq.put("bli", 610);
-    freq.put("ble", 47);
-    freq.put("bla", 73);
-    freq.put("Jon", 25);
-    freq.put("saī", 148);
-    freq.put("trī", 313);
-    freq.put("ēdu", 26);
-    freq.put("ēdz", 296);
-    freq.put("pš ", 215);
-    freq.put("ēde", 49);
-    freq.put("ēda", 98);
-    freq.put("ēdi", 142);
-    freq.put("jiņ", 29);
-    freq.put("onk", 159);
-    freq.put("oni", 1530);
-    freq.put("onn", 56);
-    freq.put("ono", 626);
-    freq.put("onc", 136);
-    freq.put("ona", 1194);
-    freq.put("onf", 111);
-    freq.put(" Z ", 22);
-    freq.put("ond", 224);
-    freq.put("one", 173);
-    freq.put("onz", 36);
-    freq.put("ony", 39);
-    freq.put("onr", 30);
-    freq.put("ons", 1271);
-    freq.put("onv", 60);
-    freq.put("ont", 491);
-    freq.put("onu", 567);
-    freq.put("mež", 103);
-    freq.put("uku", 836);
-    freq.put("ukt", 791);
-    freq.put("uks", 271);
-    freq.put("uko", 36);
-    freq.put("ukl", 91);
-    freq.put("uki", 42);
-    freq.put("ukc", 69);
-    freq.put("uka", 140);
-    freq.put(" Zo", 72);
-    freq.put(" Zi", 551);
-    freq.put(" če", 400);
-    freq.put(" Ze", 604);
-    freq.put("on ", 659);
-    freq.put(" Za", 124);
-    freq.put("ttī", 266);
-    freq.put(" Zu", 31);
-    freq.put(" Zv", 222);
-    freq.put("rze", 250);
-    freq.put("rza", 50);
-    freq.put("ttē", 198);
-    freq.put("rzi", 284);
-    freq.put("rzs", 23);
-    freq.put("ttā", 196);
-    freq.put("sak", 466);
-    freq.put("saj", 138);
-    freq.put("sai", 857);
-    freq.put("san", 223);
-    freq.put("sam", 248);
-    freq.put("ēdē", 151);
-    freq.put("sac", 442);
-    freq.put("sab", 330);
-    freq.put("sag", 154);
-    freq.put("sad", 310);
-    freq.put("saz", 48);
-    freq.put(" Ci", 203);
-    freq.put("ēdā", 27);
-    freq.put("sas", 1660);
-    freq.put("sar", 747);
-    freq.put("sap", 162);
-    freq.put("sav", 1100);
-    freq.put("ņoj", 49);
-    freq.put("sat", 285);
-    freq.put("zob", 42);
-    freq.put("zod", 22);
-    freq.put("zof", 144);
-    freq.put("lna", 214);
-    freq.put("zol", 154);
-    freq.put("zom", 26);
-    freq.put("zon", 281);
-    freq.put("zop", 22);
-    freq.put("ldī", 542);
-    freq.put("ax ", 25);
-    freq.put("zos", 43);
-    freq.put("zot", 69);
-    freq.put("sa ", 1042);
-    freq.put("blē", 52);
-    freq.put("žīm", 24);
-    freq.put("zo ", 48);
-    freq.put("ال", 32);
-    freq.put("blī", 48);
-    freq.put("Sku", 25);
-    freq.put("Ska", 110);
-    freq.put("Sko", 119);
-    freq.put(" šū", 130);
-    freq.put("lī ", 122);
-    freq.put("vid", 1832);
-    freq.put(" šā", 147);
-    freq.put("zpē", 51);
-    freq.put("ux", 47);
-    freq.put("līn", 460);
-    freq.put("līm", 186);
-    freq.put("līj", 172);
-    freq.put("āsu", 62);
-    freq.put("līg", 392);
-    freq.put("līd", 1562);
-    freq.put("uz", 3239);
-    freq.put("līb", 213);
-    freq.put("līc", 164);
-    freq.put("uu", 163);
-    freq.put("līz", 66);
-    freq.put("Ju", 235);
-    freq.put("ut", 3554);
-    freq.put("līv", 121);
-    freq.put("līt", 444);
-    freq.put("At", 405);
-    freq.put("cin", 303);
-    freq.put("us", 8406);
-    freq.put("Л", 28);
-    freq.put("cil", 946);
-    freq.put("um", 10369);
-    freq.put(" b ", 53);
-    freq.put("cir", 29);
-    freq.put(" Ķī", 169);
-    freq.put("āsa", 252);
-    freq.put("ņģ", 77);
-    freq.put("uh", 49);
-    freq.put("fir", 37);
-    freq.put("ciu", 34);
-    freq.put("uor", 22);
-    freq.put("uj", 549);
-    freq.put("ivī", 107);
-    freq.put("āsi", 27);
-    freq.put(" be", 1390);
-    freq.put(" ba", 1482);
-    freq.put("ivā", 236);
-    freq.put(" bl", 146);
-    freq.put(" bo", 133);
-    freq.put(" bi", 2895);
-    freq.put(" bu", 382);
-    freq.put("s", 178123);
-    freq.put(" br", 766);
-    freq.put("līč", 64);
-    freq.put("māņ", 51);
-    freq.put(" ša", 314);
-    freq.put(" še", 87);
-    freq.put(" ši", 160);
-    freq.put("zpr", 45);
-    freq.put(" šo", 253);
-    freq.put("zpi", 173);
-    freq.put(" št", 206);
-    freq.put("zpl", 262);
-    freq.put("zpa", 78);
-    freq.put("Jēk", 140);
-    freq.put("Jēz", 37);
-    freq.put("fin", 189);
-    freq.put("līš", 88);
-    freq.put("ivd", 29);
-    freq.put("ive", 291);
-    freq.put(" bā", 233);
-    freq.put("iva", 204);
-    freq.put("ivo", 171);
-    freq.put("ivi", 487);
-    freq.put("ivj", 45);
-    freq.put("ivk", 27);
-    freq.put("ivu", 117);
-    freq.put("ivv", 36);
-    freq.put("ivp", 30);
-    freq.put("ivr", 48);
-    freq.put("ivs", 26);
-    freq.put("Jo", 238);
-    freq.put(" bī", 86);
-    freq.put("eša", 400);
-    freq.put("δ", 42);
-    freq.put("tkr", 96);
-    freq.put("ь ", 24);
-    freq.put("I", 2327);
-    freq.put("ešd", 35);
-    freq.put(" gu", 155);
-    freq.put("Mat", 72);
-    freq.put(" Ķe", 55);
-    freq.put(" bū", 407);
-    freq.put("eģe", 52);
-    freq.put("eģi", 394);
-    freq.put("ūmu", 36);
-    freq.put("SV ", 351);
-    freq.put("Nī", 78);
-    freq.put("Mak", 70);
-    freq.put("Nā", 75);
-    freq.put("aš", 1551);
-    freq.put("ezt", 29);
-    freq.put("ezu", 188);
-    freq.put("ezv", 29);
-    freq.put("ezp", 31);
-    freq.put("ezm", 33);
-    freq.put("ezn", 141);
-    freq.put("ezo", 141);
-    freq.put("tvi", 1976);
-    freq.put("ezi", 201);
-    freq.put("ezk", 125);
-    freq.put("ezd", 35);
-    freq.put("eze", 817);
-    freq.put("ezg", 53);
-    freq.put("tva", 158);
-    freq.put("eza", 38);
-    freq.put("až", 1131);
-    freq.put("ac ", 37);
-    freq.put("aņ", 799);
-    freq.put(" žu", 96);
-    freq.put(" ža", 153);
-    freq.put("dda", 35);
-    freq.put(" že", 29);
-    freq.put("Sāk", 57);
-    freq.put("aģ", 126);
-    freq.put("rņu", 41);
-    freq.put("aī", 165);
-    freq.put("rņa", 66);
-    freq.put("aķ", 196);
-    freq.put("ez ", 111);
-    freq.put("aļ", 2174);
-    freq.put("aā", 32);
-    freq.put("aca", 38);
-    freq.put("ace", 507);
-    freq.put("ack", 35);
-    freq.put("aci", 939);
-    freq.put("ach", 47);
-    freq.put("ač", 195);
-    freq.put("aē", 38);
-    freq.put("acu", 34);
-    freq.put("act", 88);
-    freq.put("ly ", 28);
-    freq.put("Ni", 163);
-    freq.put("bje", 249);
-    freq.put("No", 488);
-    freq.put("uil", 24);
-    freq.put("Na", 331);
-    freq.put("Ne", 339);
-    freq.put("bju", 45);
-    freq.put("ة ", 22);
-    freq.put("Nu", 37);
-    freq.put("het", 54);
-    freq.put("ови", 22);
-    freq.put("her", 196);
-    freq.put("в", 222);
-    freq.put("hel", 84);
-    freq.put("hem", 51);
-    freq.put("hen", 64);
-    freq.put("heo", 49);
-    freq.put("hei", 58);
-    freq.put("hek", 42);
-    freq.put("ago", 152);
-    freq.put("agn", 169);
-    freq.put("N ", 114);
-    freq.put(" ēz", 45);
-    freq.put(" ēr", 63);
-    freq.put(" ēt", 31);
-    freq.put(" ēk", 65);
-    freq.put("he ", 281);
-    freq.put(" ēd", 44);
-    freq.put("aa", 123);
-    freq.put("ac", 1971);
-    freq.put("ab", 3333);
-    freq.put("ae", 799);
-    freq.put("ad", 7331);
-    freq.put("ag", 2079);
-    freq.put("af", 317);
-    freq.put("Hon", 23);
-    freq.put("ah", 438);
-    freq.put("Hol", 58);
-    freq.put("aj", 4377);
-    freq.put("am", 7193);
-    freq.put("Hok", 34);
-    freq.put("ao", 99);
-    freq.put("an", 13591);
-    freq.put("ap", 6109);
-    freq.put("as", 46560);
-    freq.put("Hou", 27);
-    freq.put("Hor", 54);
-    freq.put("at", 15301);
-    freq.put("aw", 25);
-    freq.put("av", 4016);
-    freq.put("ay", 138);
-    freq.put("ax", 44);
-    freq.put("az", 1867);
-    freq.put("nīj", 53);
-    freq.put("ijā", 2772);
-    freq.put("acī", 139);
-    freq.put("rņā", 31);
-    freq.put("dū ", 66);
-    freq.put("a ", 45978);
-    freq.put("ezī", 69);
-    freq.put(" zi", 2010);
-    freq.put("at ", 261);
-    freq.put("tvē", 108);
-    freq.put("ūž", 54);
-    freq.put("dūd", 48);
-    freq.put("Ņu", 43);
-    freq.put("tvā", 37);
-    freq.put("Fir", 23);
-    freq.put("sco", 39);
-    freq.put("viš", 195);
-    freq.put("sci", 117);
-    freq.put("klā", 396);
-    freq.put("sce", 66);
-    freq.put("sca", 22);
-    freq.put(" dā", 101);
-    freq.put("mni", 192);
-    freq.put("klē", 111);
-    freq.put("mna", 27);
-    freq.put(" dē", 302);
-    freq.put("Fil", 64);
-    freq.put("rd", 2322);
-    freq.put("zmi", 84);
-    freq.put(" dī", 55);
-    freq.put("ty", 109);
-    freq.put("tv", 2682);
-    freq.put("tw", 38);
-    freq.put("tt", 1263);
-    freq.put("tu", 9581);
-    freq.put("tr", 9995);
-    freq.put("ts", 7290);
-    freq.put("tp", 327);
-    freq.put("klī", 65);
-    freq.put("tn", 1900);
-    freq.put("to", 9558);
-    freq.put("tl", 676);
-    freq.put("dsm", 48);
-    freq.put("tj", 107);
-    freq.put("tk", 771);
-    freq.put("th", 431);
-    freq.put("ti", 16287);
-    freq.put("tf", 75);
-    freq.put("tg", 235);
-    freq.put("td", 205);
-    freq.put("te", 8645);
-    freq.put("tb", 1541);
-    freq.put("tc", 58);
-    freq.put("dsk", 23);
-    freq.put("smi", 429);
-    freq.put("dsi", 206);
-    freq.put("lān", 215);
-    freq.put("sme", 291);
-    freq.put("viļ", 118);
-    freq.put(" zv", 544);
-    freq.put(" s", 20595);
-    freq.put("eiv", 56);
-    freq.put("vič", 61);
-    freq.put(" dž", 28);
-    freq.put("gā ", 654);
-    freq.put("pba", 51);
-    freq.put("sma", 1140);
-    freq.put("t ", 6209);
-    freq.put("eiz", 614);
-    freq.put("ārņ", 54);
-    freq.put("žr", 80);
-    freq.put("žs", 96);
-    freq.put("žu", 691);
-    freq.put("ži", 613);
-    freq.put("žk", 75);
-    freq.put("žm", 27);
-    freq.put("Smi", 29);
-    freq.put("žo", 773);
-    freq.put("ža", 902);
-    freq.put("že", 338);
-    freq.put("nīs", 25);
-    freq.put("āps", 37);
-    freq.put("lāz", 36);
-    freq.put("doņ", 93);
-    freq.put("ž ", 41);
-    freq.put("eik", 735);
-    freq.put("lāp", 55);
-    freq.put("lās", 590);
-    freq.put("vic", 31);
-    freq.put("via", 49);
-    freq.put("vig", 52);
-    freq.put("Aug", 149);
-    freq.put("vie", 6969);
-    freq.put("vij", 2101);
-    freq.put("vik", 41);
-    freq.put("vin", 313);
-    freq.put("vio", 33);
-    freq.put("vil", 371);
-    freq.put("ķēn", 27);
-    freq.put("vir", 905);
-    freq.put("vis", 1620);
-    freq.put("Aus", 451);
-    freq.put("ķēr", 58);
-    freq.put("Aut", 94);
-    freq.put("vit", 157);
-    freq.put("tņ", 104);
-    freq.put("ārš", 275);
-    freq.put(" d ", 35);
-    freq.put("tū", 1454);
-    freq.put("tš", 221);
-    freq.put("vi ", 493);
-    freq.put("tē", 2602);
-    freq.put("zmē", 101);
-    freq.put("tā", 11917);
-    freq.put(" do", 494);
-    freq.put("kle", 136);
-    freq.put("tļ", 184);
-    freq.put("kla", 494);
-    freq.put(" di", 3087);
-    freq.put(" de", 1205);
-    freq.put("klo", 153);
-    freq.put("kli", 573);
-    freq.put(" da", 4272);
-    freq.put("klu", 183);
-    freq.put(" dz", 3456);
-    freq.put("kls", 75);
-    freq.put(" du", 128);
-    freq.put("ģa ", 65);
-    freq.put(" dr", 234);
-    freq.put("doš", 285);
-    freq.put("RS ", 104);
-    freq.put("žū", 26);
-    freq.put("atr", 1790);
-    freq.put("žņ", 118);
-    freq.put("žī", 67);
-    freq.put("žģ", 48);
-    freq.put("ēģi", 168);
-    freq.put("žā", 790);
-    freq.put("ito", 983);
-    freq.put("itl", 241);
-    freq.put("itm", 69);
-    freq.put("ith", 30);
-    freq.put("iti", 844);
-    freq.put("ite", 695);
-    freq.put("ita", 561);
-    freq.put("ity", 36);
-    freq.put("itt", 30);
-    freq.put("itu", 694);
-    freq.put("itr", 232);
-    freq.put("its", 171);
-    freq.put("itp", 32);
-    freq.put(" Mu", 257);
-    freq.put(" Vī", 58);
-    freq.put("ziķ", 104);
-    freq.put("Frī", 41);
-    freq.put("it ", 228);
-    freq.put("omm", 51);
-    freq.put("tro", 2406);
-    freq.put("tra", 1972);
-    freq.put(" A ", 102);
-    freq.put("ām ", 3525);
-    freq.put("fta", 36);
-    freq.put(" Ab", 144);
-    freq.put(" Ac", 82);
-    freq.put(" Ad", 148);
-    freq.put(" Af", 50);
-    freq.put(" Ag", 50);
-    freq.put(" Ah", 36);
-    freq.put(" Ai", 198);
-    freq.put(" Ak", 149);
-    freq.put(" Al", 533);
-    freq.put(" Am", 327);
-    freq.put(" An", 736);
-    freq.put(" Ap", 260);
-    freq.put(" Ar", 519);
-    freq.put(" As", 243);
-    freq.put(" At", 403);
-    freq.put(" Au", 758);
-    freq.put(" Av", 74);
-    freq.put(" Az", 34);
-    freq.put("trs", 398);
-    freq.put("āmi", 68);
-    freq.put("ārī", 93);
-    freq.put("āma", 396);
-    freq.put("tpū", 25);
-    freq.put("ft ", 61);
-    freq.put("w", 553);
-    freq.put("āms", 160);
-    freq.put("āmu", 42);
-    freq.put("Fra", 343);
-    freq.put("ол", 32);
-    freq.put("itū", 160);
-    freq.put("Fre", 87);
-    freq.put("ов", 87);
-    freq.put("ое", 22);
-    freq.put("jer", 106);
-    freq.put("jev", 88);
-    freq.put("jet", 57);
-    freq.put("jeb", 1453);
-    freq.put("jek", 399);
-    freq.put("к", 221);
-    freq.put("jen", 64);
-    freq.put("jel", 23);
-    freq.put("itī", 222);
-    freq.put("itļ", 164);
-    freq.put("itā", 1332);
-    freq.put("aau", 77);
-    freq.put("ор", 37);
-    freq.put("ос", 22);
-    freq.put("šel", 77);
-    freq.put("āmā", 78);
-    freq.put("ex ", 26);
-    freq.put("tp ", 39);
-    freq.put("M", 3974);
-    freq.put("Isl", 22);
-    freq.put("tpe", 28);
-    freq.put("â", 42);
-    freq.put("tpa", 63);
-    freq.put("lnā", 79);
-    freq.put("tpl", 32);
-    freq.put("tpi", 87);
-    freq.put("tpr", 24);
-    freq.put("Hai", 24);
-    freq.put("ugi", 71);
-    freq.put("oju", 1293);
-    freq.put("Hal", 59);
-    freq.put("Ham", 27);
-    freq.put("Han", 77);
-    freq.put("ugl", 76);
-    freq.put("Hab", 30);
-    freq.put("oje", 183);
-    freq.put("oja", 1186);
-    freq.put("ugs", 799);
-    freq.put("ojo", 586);
-    freq.put("Har", 76);
-    freq.put("Hav", 40);
-    freq.put("oji", 109);
-    freq.put("mūn", 33);
-    freq.put("mūk", 26);
-    freq.put("mūs", 296);
-    freq.put("mūr", 69);
-    freq.put("mūz", 468);
-    freq.put("Če", 124);
-    freq.put("Ča", 35);
-    freq.put("Līg", 32);
-    freq.put("Līd", 101);
-    freq.put("ug ", 37);
-    freq.put("Či", 48);
-    freq.put("Ču", 25);
-    freq.put("rfa", 28);
-    freq.put("rfo", 45);
-    freq.put("cro", 67);
-    freq.put("če", 516);
-    freq.put("sev", 271);
-    freq.put("set", 54);
-    freq.put("ses", 362);
-    freq.put("ser", 334);
-    freq.put("For", 93);
-    freq.put("sep", 119);
-    freq.put("čo", 33);
-    freq.put("či", 150);
-    freq.put("sez", 117);
-    freq.put(" fā", 22);
-    freq.put("sed", 36);
-    freq.put("sec", 62);
-    freq.put("čs", 42);
-    freq.put("sen", 630);
-    freq.put("sem", 62);
-    freq.put("sel", 189);
-    freq.put("sek", 324);
-    freq.put("sej", 83);
-    freq.put("sei", 104);
-    freq.put("zkl", 48);
-    freq.put("zka", 34);
-    freq.put("zkr", 193);
-    freq.put("jēd", 148);
-    freq.put("ārr", 75);
-    freq.put("ue ", 35);
-    freq.put("būt", 380);
-    freq.put("būv", 217);
-    freq.put("se ", 542);
-    freq.put("pdz", 192);
-    freq.put("pdr", 26);
-    freq.put("vāj", 43);
-    freq.put("vāk", 140);
-    freq.put("vān", 38);
-    freq.put("vāl", 70);
-    freq.put("vām", 138);
-    freq.put("vāc", 471);
-    freq.put("š ", 1382);
-    freq.put("Čī", 26);
-    freq.put("vār", 1021);
-    freq.put("vās", 151);
-    freq.put("vāv", 76);
-    freq.put("vāt", 107);
-    freq.put("ml ", 23);
-    freq.put("āru", 144);
-    freq.put("tiv", 158);
-    freq.put("Ķīn", 125);
-    freq.put("mūž", 31);
-    freq.put("nri", 78);
-    freq.put("nra", 85);
-    freq.put("ugļ", 37);
-    freq.put("nrs", 66);
-    freq.put("ibī", 64);
-    freq.put("Oli", 250);
-    freq.put("ugā", 140);
-    freq.put("ojā", 198);
-    freq.put("vod", 34);
-    freq.put("īša", 499);
-    freq.put("vol", 130);
-    freq.put("von", 248);
-    freq.put("čū", 27);
-    freq.put("vok", 149);
-    freq.put("vot", 667);
-    freq.put("seš", 62);
-    freq.put("vos", 64);
-    freq.put("ģ", 3732);
-    freq.put("psa", 72);
-    freq.put("vo ", 339);
-    freq.put("rāļ", 69);
-    freq.put("zkā", 32);
-    freq.put("vgo", 31);
-    freq.put("ādē", 157);
-    freq.put("Soc", 53);
-    freq.put(" fr", 351);
-    freq.put(" fu", 829);
-    freq.put("kne", 183);
-    freq.put("Som", 114);
-    freq.put("Sol", 25);
-    freq.put("Son", 25);
-    freq.put(" fa", 282);
-    freq.put(" fe", 288);
-    freq.put(" fi", 803);
-    freq.put(" fl", 69);
-    freq.put(" fo", 740);
-    freq.put("tim", 104);
-    freq.put("ciā", 742);
-    freq.put("uē", 34);
-    freq.put("O ", 256);
-    freq.put("uč", 23);
-    freq.put("āsā", 40);
-    freq.put("īru", 139);
-    freq.put("uā", 341);
-    freq.put("uļ", 295);
-    freq.put("ņr", 139);
-    freq.put("ņs", 60);
-    freq.put("ņu", 2226);
-    freq.put("ņv", 39);
-    freq.put("ņa", 1766);
-    freq.put("ņb", 29);
-    freq.put("īri", 268);
-    freq.put("ņd", 47);
-    freq.put("ņe", 432);
-    freq.put(" Cē", 86);
-    freq.put("ņj", 25);
-    freq.put("ņk", 42);
-    freq.put("ņn", 28);
-    freq.put("ņo", 260);
-    freq.put("On", 42);
-    freq.put("Ol", 289);
-    freq.put("Ok", 85);
-    freq.put("ciņ", 28);
-    freq.put("Oh", 28);
-    freq.put("Og", 53);
-    freq.put("Of", 29);
-    freq.put("Od", 50);
-    freq.put("Ob", 41);
-    freq.put("tsa", 92);
-    freq.put("Ov", 28);
-    freq.put("Ot", 132);
-    freq.put("Os", 199);
-    freq.put("Or", 179);
-    freq.put("Op", 65);
-    freq.put("īra", 120);
-    freq.put("d", 58295);
-    freq.put("uš", 785);
-    freq.put("ii ", 23);
-    freq.put("ijs", 425);
-    freq.put("b ", 1431);
-    freq.put("iju", 1715);
-    freq.put("jās", 923);
-    freq.put("agā", 163);
-    freq.put("jān", 27);
-    freq.put("ija", 12639);
-    freq.put("jām", 1042);
-    freq.put("jāj", 22);
-    freq.put("ije", 54);
-    freq.put("iji", 165);
-    freq.put("škā", 87);
-    freq.put("jāb", 32);
-    freq.put("Vel", 97);
-    freq.put("ū ", 140);
-    freq.put("ēļa", 42);
-    freq.put(" Ž", 134);
-    freq.put("bd", 41);
-    freq.put("be", 3600);
-    freq.put("ba", 7096);
-    freq.put("bb", 37);
-    freq.put("bl", 923);
-    freq.put("bn", 90);
-    freq.put("bo", 2478);
-    freq.put("bi", 5030);
-    freq.put("bj", 321);
-    freq.put("bk", 204);
-    freq.put("ij ", 163);
-    freq.put("bu", 2780);
-    freq.put("bv", 92);
-    freq.put("bp", 134);
-    freq.put("br", 1873);
-    freq.put("bs", 478);
-    freq.put("ārt", 1313);
-    freq.put("by", 23);
-    freq.put("jā ", 4204);
-    freq.put("Fu", 230);
-    freq.put("ūc", 206);
-    freq.put("ūg", 56);
-    freq.put("ūd", 971);
-    freq.put("ūk", 417);
-    freq.put("īkā", 26);
-    freq.put("oģe", 28);
-    freq.put("Ost", 30);
-    freq.put("ūm", 112);
-    freq.put("ūl", 106);
-    freq.put("ūs", 815);
-    freq.put("ūr", 2415);
-    freq.put("Osk", 35);
-    freq.put("ūp", 130);
-    freq.put("Osm", 120);
-    freq.put("ūv", 256);
-    freq.put("ūt", 957);
-    freq.put("ūz", 629);
-    freq.put("ārz", 92);
-    freq.put(" C ", 203);
-    freq.put("о ", 42);
-    freq.put("ci ", 164);
-    freq.put("āra", 470);
-    freq.put("ņš", 324);
-    freq.put("ās ", 6616);
-    freq.put("u ", 34678);
-    freq.put("āre", 82);
-    freq.put(" Ch", 131);
-    freq.put("ņē", 348);
-    freq.put(" Co", 292);
-    freq.put(" Cl", 40);
-    freq.put("dok", 188);
-    freq.put(" Ca", 270);
-    freq.put(" Ce", 344);
-    freq.put("ņā", 297);
-    freq.put("mīd", 29);
-    freq.put("āri", 461);
-    freq.put(" Cr", 39);
-    freq.put(" Cu", 37);
-    freq.put("cia", 105);
-    freq.put("cif", 53);
-    freq.put("cie", 767);
-    freq.put("ņķ", 245);
-    freq.put("cik", 179);
-    freq.put("cij", 3939);
-    freq.put("uv", 1138);
-    freq.put("cio", 768);
-    freq.put("up", 1299);
-    freq.put("cim", 32);
-    freq.put("ur", 8826);
-    freq.put("cis", 561);
-    freq.put("ul", 3970);
-    freq.put("uo", 66);
-    freq.put("cip", 250);
-    freq.put("ui", 330);
-    freq.put("civ", 69);
-    freq.put("uk", 2577);
-    freq.put("cit", 901);
-    freq.put("ue", 159);
-    freq.put("ud", 1801);
-    freq.put("ug", 2904);
-    freq.put("uf", 42);
-    freq.put("ua", 219);
-    freq.put("uc", 777);
-    freq.put("ub", 1129);
-    freq.put("lps", 165);
-    freq.put("bī", 818);
-    freq.put("ķel", 35);
-    freq.put("āču", 68);
-    freq.put("kā ", 4239);
-    freq.put("bā", 1878);
-    freq.put("bē", 351);
-    freq.put("bū", 646);
-    freq.put("ārl", 118);
-    freq.put("kāc", 170);
-    freq.put("kāb", 641);
-    freq.put("ūš", 146);
-    freq.put("agl", 88);
-    freq.put("agi", 39);
-    freq.put("kād", 424);
-    freq.put("kāk", 39);
-    freq.put("kāj", 89);
-    freq.put("age", 107);
-    freq.put("kān", 152);
-    freq.put("kām", 189);
-    freq.put("kāl", 251);
-    freq.put("kās", 1168);
-    freq.put("kār", 1333);
-    freq.put("kāp", 196);
-    freq.put("kāt", 32);
-    freq.put("kāz", 22);
-    freq.put("agu", 84);
-    freq.put("ags", 92);
-    freq.put("agr", 218);
-    freq.put("ziņ", 261);
-    freq.put("bva", 41);
-    freq.put("ev ", 24);
-    freq.put("āro", 74);
-    freq.put("oņa", 59);
-    freq.put("oņi", 162);
-    freq.put("oņu", 145);
-    freq.put("slē", 278);
-    freq.put("gša", 114);
-    freq.put("tri", 1251);
-    freq.put("evi", 1543);
-    freq.put("evn", 29);
-    freq.put("evo", 146);
-    freq.put("CP ", 24);
-    freq.put("eva", 376);
-    freq.put("ziļ", 81);
-    freq.put("tre", 229);
-    freq.put("eve", 83);
-    freq.put("evr", 24);
-    freq.put("evs", 91);
-    freq.put("tru", 1883);
-    freq.put("evu", 397);
-    freq.put("le ", 615);
-    freq.put("uel", 29);
-    freq.put("odz", 39);
-    freq.put("odr", 212);
-    freq.put("ods", 132);
-    freq.put("odu", 575);
-    freq.put("odi", 313);
-    freq.put("Blo", 34);
-    freq.put("odn", 41);
-    freq.put("odo", 337);
-    freq.put("oda", 2367);
-    freq.put("Bla", 25);
-    freq.put("ode", 548);
-    freq.put("uer", 36);
-    freq.put("F ", 117);
-    freq.put("ct ", 32);
-    freq.put("rd ", 116);
-    freq.put("lea", 23);
-    freq.put("lec", 71);
-    freq.put("led", 254);
-    freq.put("lef", 47);
-    freq.put("leg", 36);
-    freq.put("lei", 141);
-    freq.put("lej", 190);
-    freq.put("lek", 1222);
-    freq.put("lem", 358);
-    freq.put("len", 329);
-    freq.put("leo", 70);
-    freq.put("lep", 67);
-    freq.put("ler", 213);
-    freq.put("les", 1626);
-    freq.put("let", 176);
-    freq.put("lev", 95);
-    freq.put("od ", 93);
-    freq.put("lez", 112);
-    freq.put("rdu", 246);
-    freq.put("rds", 349);
-    freq.put("cty", 34);
-    freq.put("rdz", 219);
-    freq.put("rde", 305);
-    freq.put("cte", 48);
-    freq.put("rda", 365);
-    freq.put("rdo", 96);
-    freq.put("rdn", 63);
-    freq.put("rdi", 228);
-    freq.put("cti", 74);
-    freq.put("iķe", 39);
-    freq.put("iķa", 30);
-    freq.put("trā", 1294);
-    freq.put("evā", 40);
-    freq.put("sgr", 33);
-    freq.put("Ukr", 55);
-    freq.put("iķi", 331);
-    freq.put("iķu", 54);
-    freq.put("sga", 35);
-    freq.put("СН ", 64);
-    freq.put("trē", 132);
-    freq.put("evē", 231);
-    freq.put("ziv", 58);
-    freq.put("zit", 58);
-    freq.put("evī", 174);
-    freq.put("zir", 324);
-    freq.put("zis", 229);
-    freq.put("gšē", 65);
-    freq.put("zid", 135);
-    freq.put("zie", 1720);
-    freq.put("zin", 1174);
-    freq.put("zio", 48);
-    freq.put("zil", 123);
-    freq.put("zim", 1926);
-    freq.put("zij", 625);
-    freq.put("zik", 669);
-    freq.put("о", 387);
-    freq.put("rvā", 75);
-    freq.put("trū", 52);
-    freq.put("zi ", 317);
-    freq.put("leģ", 37);
-    freq.put("rdē", 22);
-    freq.put("rdā", 161);
-    freq.put("Blū", 22);
-    freq.put("leč", 51);
-    freq.put("μ", 50);
-    freq.put("rdī", 30);
-    freq.put("sāļ", 43);
-    freq.put("npa", 23);
-    freq.put("Q", 38);
-    freq.put("odī", 31);
-    freq.put("afi", 105);
-    freq.put("mje", 32);
-    freq.put("leņ", 73);
-    freq.put("rdž", 57);
-    freq.put("mju", 201);
-    freq.put("odā", 459);
-    freq.put("VI ", 40);
-    freq.put("ģeo", 161);
-    freq.put("ģen", 236);
-    freq.put("ģel", 28);
-    freq.put("ģer", 123);
-    freq.put("lzs", 43);
-    freq.put("lzi", 33);
-    freq.put("lza", 40);
-    freq.put("lzc", 242);
-    freq.put("Sak", 57);
-    freq.put("Sai", 29);
-    freq.put("Sah", 30);
-    freq.put("San", 93);
-    freq.put("Sam", 35);
-    freq.put("Sal", 189);
-    freq.put("Sac", 23);
-    freq.put("Sab", 29);
-    freq.put("ūli", 71);
-    freq.put("Sae", 27);
-    freq.put("Sad", 27);
-    freq.put("tāļ", 48);
-    freq.put(" hi", 297);
-    freq.put(" ho", 304);
-    freq.put(" hl", 48);
-    freq.put("Sas", 60);
-    freq.put("Sar", 143);
-    freq.put(" ha", 132);
-    freq.put("Sav", 262);
-    freq.put(" he", 218);
-    freq.put("Sat", 49);
-    freq.put("ич ", 26);
-    freq.put("loj", 39);
-    freq.put("vmū", 35);
-    freq.put("ihs", 70);
-    freq.put("lzī", 23);
-    freq.put("ihi", 54);
-    freq.put("iho", 104);
-    freq.put("iha", 58);
-    freq.put("rāt", 492);
-    freq.put("vā", 2847);
-    freq.put("Šķi", 29);
-    freq.put(" ļa", 118);
-    freq.put(" ļo", 206);
-    freq.put("odē", 120);
-    freq.put(" E ", 56);
-    freq.put("ck ", 59);
-    freq.put(" El", 193);
-    freq.put(" Em", 90);
-    freq.put(" En", 121);
-    freq.put(" Ei", 676);
-    freq.put(" Ek", 92);
-    freq.put(" Ed", 95);
-    freq.put(" Eg", 26);
-    freq.put(" Eb", 22);
-    freq.put(" Ex", 28);
-    freq.put(" Ez", 43);
-    freq.put(" Et", 48);
-    freq.put(" Eu", 85);
-    freq.put(" Ev", 42);
-    freq.put(" Eq", 185);
-    freq.put(" Er", 98);
-    freq.put(" Es", 44);
-    freq.put("cke", 32);
-    freq.put("cka", 44);
-    freq.put("cū", 51);
-    freq.put("sze", 116);
-    freq.put("А", 26);
-    freq.put("rbā", 31);
-    freq.put("otn", 222);
-    freq.put("jau", 557);
-    freq.put("jar", 34);
-    freq.put("jas", 8640);
-    freq.put("jap", 53);
-    freq.put("jan", 85);
-    freq.put("ae ", 655);
-    freq.put("jam", 931);
-    freq.put("rbī", 529);
-    freq.put("jak", 65);
-    freq.put("jai", 593);
-    freq.put("jad", 67);
-    freq.put("ši ", 834);
-    freq.put("cī", 1751);
-    freq.put("žņu", 81);
-    freq.put("īņā", 28);
-    freq.put("ucē", 126);
-    freq.put("h", 5764);
-    freq.put("cā", 282);
-    freq.put("šis", 80);
-    freq.put("šim", 31);
-    freq.put("šin", 270);
-    freq.put("rbū", 24);
-    freq.put("aei", 29);
-    freq.put("šif", 27);
-    freq.put("ael", 27);
-    freq.put("ja ", 7647);
-    freq.put("Pr", 574);
-    freq.put("Ps", 29);
-    freq.put("Āzi", 142);
-    freq.put("Pu", 149);
-    freq.put("oma", 1047);
-    freq.put("Pa", 1460);
-    freq.put("Pe", 330);
-    freq.put("Ph", 56);
-    freq.put("Pi", 543);
-    freq.put("Po", 522);
-    freq.put("Pl", 246);
-    freq.put("ا", 101);
-    freq.put("et ", 1093);
-    freq.put("ве", 29);
-    freq.put("vī", 926);
-    freq.put("tsl", 24);
-    freq.put("P ", 315);
-    freq.put("le", 5914);
-    freq.put("iķ", 475);
-    freq.put("ва", 29);
-    freq.put("tsk", 152);
-    freq.put("etr", 698);
-    freq.put("ets", 222);
-    freq.put("žģī", 37);
-    freq.put("etv", 168);
-    freq.put("ett", 58);
-    freq.put("etu", 1584);
-    freq.put("etb", 351);
-    freq.put("tla", 152);
-    freq.put("eta", 734);
-    freq.put("tle", 76);
-    freq.put("ete", 624);
-    freq.put("eth", 26);
-    freq.put("eti", 845);
-    freq.put("etn", 170);
-    freq.put("eto", 1378);
-    freq.put("etl", 29);
-    freq.put("ck", 210);
-    freq.put("ci", 9940);
-    freq.put("ch", 496);
-    freq.put("co", 534);
-    freq.put("Her", 113);
-    freq.put("cl", 78);
-    freq.put("cc", 58);
-    freq.put("lj", 234);
-    freq.put("ca", 1325);
-    freq.put("oč", 89);
-    freq.put("ce", 3798);
-    freq.put("cy", 80);
-    freq.put("ogē", 50);
-    freq.put("uca", 88);
-    freq.put("cs", 106);
-    freq.put("cr", 118);
-    freq.put("Hen", 52);
-    freq.put("cp", 28);
-    freq.put("Hei", 53);
-    freq.put("cu", 688);
-    freq.put("ct", 320);
-    freq.put("Ger", 28);
-    freq.put("īņu", 254);
-    freq.put("udā", 23);
-    freq.put("īņa", 76);
-    freq.put("Geo", 50);
-    freq.put("Gen", 23);
-    freq.put("ls", 6050);
-    freq.put("lgo", 65);
-    freq.put("c ", 1617);
-    freq.put("lge", 25);
-    freq.put("uc ", 316);
-    freq.put("lgr", 44);
-    freq.put("lgs", 36);
-    freq.put("lgt", 25);
-    freq.put("lgu", 44);
-    freq.put("ogā", 71);
-    freq.put("rbu", 231);
-    freq.put("rbs", 88);
-    freq.put("rbo", 531);
-    freq.put("tsp", 162);
-    freq.put("rbi", 268);
-    freq.put("rbe", 87);
-    freq.put("unz", 34);
-    freq.put("rba", 232);
-    freq.put("tlē", 35);
-    freq.put("etē", 183);
-    freq.put("vc", 24);
-    freq.put("vd", 128);
-    freq.put("ve", 6316);
-    freq.put("vg", 67);
-    freq.put("vi", 15879);
-    freq.put("vj", 161);
-    freq.put("vk", 55);
-    freq.put("vl", 36);
-    freq.put("vm", 57);
-    freq.put("vn", 277);
-    freq.put("vo", 2198);
-    freq.put("vp", 135);
-    freq.put("vr", 110);
-    freq.put("etā", 683);
-    freq.put("vu", 1511);
-    freq.put("vv", 135);
-    freq.put("Pū", 23);
-    freq.put("vz", 34);
-    freq.put("of ", 167);
-    freq.put("zgu", 59);
-    freq.put("zgl", 134);
-    freq.put("tlī", 43);
-    freq.put("etī", 89);
-    freq.put("une", 47);
-    freq.put("v ", 977);
-    freq.put("phi", 54);
-    freq.put("yon", 65);
-    freq.put("pha", 38);
-    freq.put("oī", 103);
-    freq.put("nmē", 32);
-    freq.put("Pē", 222);
-    freq.put("ofa", 27);
-    freq.put("ofe", 168);
-    freq.put("ofi", 331);
-    freq.put("ofo", 72);
-    freq.put("ofs", 60);
-    freq.put("Pā", 146);
-    freq.put("oft", 50);
-    freq.put("кий", 32);
-    freq.put("Tā ", 634);
-    freq.put("wer", 27);
-    freq.put("Tās", 150);
-    freq.put("oķ", 34);
-    freq.put("nve", 133);
-    freq.put("nva", 62);
-    freq.put("sār", 68);
-    freq.put("Tāl", 53);
-    freq.put("nvi", 1034);
-    freq.put("sāp", 24);
-    freq.put(" hr", 108);
-    freq.put("sāt", 137);
-    freq.put("umk", 31);
-    freq.put("inž", 48);
-    freq.put("vst", 90);
-    freq.put("gur", 196);
-    freq.put("ēsē", 144);
-    freq.put(" hu", 35);
-    freq.put("inū", 22);
-    freq.put(" ht", 33);
-    freq.put("ēsā", 29);
-    freq.put("inš", 34);
-    freq.put("ībā", 960);
-    freq.put("ēsī", 28);
-    freq.put("ль", 27);
-    freq.put("ла", 30);
-    freq.put("ле", 23);
-    freq.put("之", 22);
-    freq.put("ли", 29);
-    freq.put("fra", 303);
-    freq.put("vs ", 473);
-    freq.put("inī", 182);
-    freq.put("Sco", 41);
-    freq.put("Sci", 36);
-    freq.put("Sch", 39);
-    freq.put("ūni", 45);
-    freq.put(" ju", 119);
-    freq.put("kru", 265);
-    freq.put("inč", 41);
-    freq.put(" jo", 407);
-    freq.put("kri", 985);
-    freq.put("Sau", 200);
-    freq.put(" je", 1511);
-    freq.put("kra", 920);
-    freq.put(" ja", 682);
-    freq.put("inā", 3097);
-    freq.put("kre", 163);
-    freq.put("nvā", 46);
-    freq.put("Kle", 26);
-    freq.put("Kla", 44);
-    freq.put("Kli", 34);
-    freq.put("Klu", 132);
-    freq.put("Ug", 37);
-    freq.put("inu", 278);
-    freq.put("inv", 33);
-    freq.put(" jē", 154);
-    freq.put("ins", 796);
-    freq.put("inn", 34);
-    freq.put("ino", 729);
-    freq.put("inh", 61);
-    freq.put("ini", 1119);
-    freq.put("inj", 23);
-    freq.put("ink", 89);
-    freq.put("ind", 539);
-    freq.put("ine", 633);
-    freq.put("inf", 318);
-    freq.put("ing", 589);
-    freq.put(" jā", 140);
-    freq.put("ina", 1252);
-    freq.put("inc", 281);
-    freq.put("ābē", 84);
-    freq.put("eo ", 63);
-    freq.put("krī", 67);
-    freq.put("ēs ", 404);
-    freq.put("ībi", 22);
-    freq.put("ībn", 58);
-    freq.put("ība", 3544);
-    freq.put("ībe", 36);
-    freq.put("U", 852);
-    freq.put("in ", 197);
-    freq.put("ību", 1222);
-    freq.put("eog", 110);
-    freq.put("eof", 26);
-    freq.put("eod", 60);
-    freq.put("ēsu", 45);
-    freq.put("ēst", 566);
-    freq.put("eon", 61);
-    freq.put("eom", 53);
-    freq.put("eol", 176);
-    freq.put("eos", 34);
-    freq.put("eor", 322);
-    freq.put("eop", 39);
-    freq.put(" jū", 849);
-    freq.put("res", 696);
-    freq.put("rep", 144);
-    freq.put("pto", 59);
-    freq.put("tnē", 293);
-    freq.put("erē", 156);
-    freq.put("pūš", 30);
-    freq.put("brū", 72);
-    freq.put("erā", 709);
-    freq.put("nkā", 234);
-    freq.put("cm ", 47);
-    freq.put("Tuk", 33);
-    freq.put("erģ", 206);
-    freq.put("ren", 387);
-    freq.put("ald", 1013);
-    freq.put("tnī", 27);
-    freq.put("erī", 393);
-    freq.put(" Gv", 31);
-    freq.put(" Gu", 162);
-    freq.put(" Gr", 516);
-    freq.put("nkū", 25);
-    freq.put("lvo", 84);
-    freq.put("vī ", 36);
-    freq.put("erņ", 62);
-    freq.put(" Ge", 158);
-    freq.put("brī", 410);
-    freq.put(" Ga", 455);
-    freq.put(" Go", 172);
-    freq.put(" Gl", 86);
-    freq.put("špu", 29);
-    freq.put(" Gi", 68);
-    freq.put("erš", 24);
-    freq.put("ļi ", 260);
-    freq.put("brā", 110);
-    freq.put("erū", 27);
-    freq.put("ā", 76597);
-    freq.put("šo ", 346);
-    freq.put(" ņe", 38);
-    freq.put("ptu", 237);
-    freq.put("špa", 34);
-    freq.put("tmi", 87);
-    freq.put("د", 35);
-    freq.put("laš", 379);
-    freq.put("šot", 31);
-    freq.put("šos", 132);
-    freq.put("sle", 81);
-    freq.put("gli", 344);
-    freq.put("glo", 94);
-    freq.put("aks", 1610);
-    freq.put("gla", 305);
-    freq.put("gle", 241);
-    freq.put("aku", 213);
-    freq.put("akt", 789);
-    freq.put("aki", 53);
-    freq.put("ako", 151);
-    freq.put("akn", 91);
-    freq.put("akm", 124);
-    freq.put("akl", 47);
-    freq.put("akc", 136);
-    freq.put("aka", 880);
-    freq.put("gls", 48);
-    freq.put("glu", 49);
-    freq.put("ake", 96);
-    freq.put("Jer", 41);
-    freq.put("pūt", 23);
-    freq.put("ix", 47);
-    freq.put("bru", 342);
-    freq.put("bro", 61);
-    freq.put("ņģē", 37);
-    freq.put("bri", 385);
-    freq.put("bre", 171);
-    freq.put("Jel", 80);
-    freq.put("er ", 1104);
-    freq.put(" Gā", 24);
-    freq.put("nka", 173);
-    freq.put("nkc", 180);
-    freq.put("nke", 26);
-    freq.put("nki", 45);
-    freq.put("nko", 53);
-    freq.put("nkr", 126);
-    freq.put("nks", 81);
-    freq.put("nkt", 272);
-    freq.put("nku", 121);
-    freq.put("iv", 1914);
-    freq.put("ert", 417);
-    freq.put("eru", 391);
-    freq.put("erv", 331);
-    freq.put("erp", 67);
-    freq.put("err", 36);
-    freq.put("ers", 1648);
-    freq.put("ery", 29);
-    freq.put("erz", 36);
-    freq.put("erd", 99);
-    freq.put("ere", 536);
-    freq.put("erf", 37);
-    freq.put("erg", 167);
-    freq.put("Cha", 50);
-    freq.put("era", 1626);
-    freq.put("erb", 238);
-    freq.put("erc", 178);
-    freq.put("erl", 157);
-    freq.put("erm", 855);
-    freq.put("ern", 467);
-    freq.put("ero", 595);
-    freq.put("tni", 753);
-    freq.put("eri", 2539);
-    freq.put("erk", 66);
-    freq.put("io", 3152);
-    freq.put("glā", 76);
-    freq.put("uar", 51);
-    freq.put("la ", 3657);
-    freq.put("Abr", 31);
-    freq.put("ual", 31);
-    freq.put("uan", 35);
-    freq.put("akā", 218);
-    freq.put("uag", 22);
-    freq.put("ib", 840);
-    freq.put("akļ", 72);
-    freq.put("ī", 34346);
-    freq.put("lam", 314);
-    freq.put("lan", 766);
-    freq.put("lah", 38);
-    freq.put("lai", 2379);
-    freq.put("laj", 474);
-    freq.put("lak", 285);
-    freq.put("lad", 63);
-    freq.put("lag", 32);
-    freq.put("lab", 686);
-    freq.put("lac", 74);
-    freq.put("lay", 44);
-    freq.put("laz", 38);
-    freq.put("lat", 1524);
-    freq.put("lau", 462);
-    freq.put("lav", 247);
-    freq.put("lap", 246);
-    freq.put("vīb", 202);
-    freq.put("lar", 131);
-    freq.put("las", 2361);
-    freq.put("vīd", 56);
-    freq.put("akš", 415);
-    freq.put("zeb", 60);
-    freq.put("zef", 34);
-    freq.put("Ņuj", 43);
-    freq.put("zej", 232);
-    freq.put("zek", 170);
-    freq.put(" lī", 2107);
-    freq.put("zel", 450);
-    freq.put("ktē", 73);
-    freq.put("zer", 903);
-    freq.put("zes", 430);
-    freq.put("ktā", 172);
-    freq.put(" lā", 230);
-    freq.put("ēļ ", 153);
-    freq.put(" lē", 170);
-    freq.put("ktī", 473);
-    freq.put("pjo", 49);
-    freq.put(" lū", 49);
-    freq.put("pju", 63);
-    freq.put("l", 73126);
-    freq.put("ktū", 291);
-    freq.put("ēļu", 170);
-    freq.put("́", 38);
-    freq.put("Ģe", 106);
-    freq.put("nt ", 98);
-    freq.put("oša", 1342);
-    freq.put("ošo", 147);
-    freq.put("oši", 415);
-    freq.put("ošu", 115);
-    freq.put("ošs", 181);
-    freq.put("kip", 24);
-    freq.put("nts", 925);
-    freq.put("ntr", 875);
-    freq.put("ntu", 416);
-    freq.put("nti", 950);
-    freq.put("nth", 28);
-    freq.put("nto", 950);
-    freq.put("nta", 799);
-    freq.put("nte", 768);
-    freq.put(" ģi", 768);
-    freq.put("lš", 164);
-    freq.put(" ģe", 323);
-    freq.put("mvi", 24);
-    freq.put("tek", 587);
-    freq.put("zeņ", 47);
-    freq.put("kt ", 222);
-    freq.put(" le", 458);
-    freq.put("B", 3355);
-    freq.put(" la", 3298);
-    freq.put(" lo", 437);
-    freq.put(" li", 2852);
-    freq.put(" lv", 27);
-    freq.put(" lu", 115);
-    freq.put("zeļ", 55);
-    freq.put("Ser", 100);
-    freq.put("ktu", 492);
-    freq.put("to ", 1892);
-    freq.put("ktr", 699);
-    freq.put("ļ", 8048);
-    freq.put("kto", 408);
-    freq.put("kti", 662);
-    freq.put("Sen", 122);
-    freq.put("Sem", 34);
-    freq.put("Sel", 26);
-    freq.put("Sek", 22);
-    freq.put("kta", 560);
-    freq.put("ūpn", 62);
-    freq.put(" ūd", 556);
-    freq.put("ntī", 340);
-    freq.put("ntē", 146);
-    freq.put("udu", 86);
-    freq.put("udz", 752);
-    freq.put("ntā", 395);
-    freq.put("π", 29);
-    freq.put("Qu", 25);
-    freq.put("ošā", 198);
-    freq.put("ntū", 58);
-    freq.put("tse", 174);
-    freq.put("ošī", 35);
-    freq.put("uda", 124);
-    freq.put("gnē", 109);
-    freq.put("īd ", 59);
-    freq.put("d ", 1260);
-    freq.put("gnā", 78);
-    freq.put("aiļ", 41);
-    freq.put("em ", 6412);
-    freq.put("ļās", 38);
-    freq.put("ļām", 48);
-    freq.put("hro", 158);
-    freq.put("hri", 23);
-    freq.put("dn", 387);
-    freq.put("do", 4137);
-    freq.put("dl", 81);
-    freq.put("dm", 437);
-    freq.put(" Āg", 35);
-    freq.put("dk", 50);
-    freq.put("dh", 33);
-    freq.put("di", 7508);
-    freq.put("dg", 22);
-    freq.put("dd", 61);
-    freq.put("de", 6326);
-    freq.put("īda", 185);
-    freq.put("da", 13240);
-    freq.put(" Ār", 50);
-    freq.put("dz", 8558);
-    freq.put("īdz", 1603);
-    freq.put("dy", 39);
-    freq.put("dv", 153);
-    freq.put(" Āz", 143);
-    freq.put("dt", 34);
-    freq.put("du", 3460);
-    freq.put("dr", 2632);
-    freq.put("ds", 1737);
-    freq.put("dp", 40);
-    freq.put("īds", 186);
-    freq.put("eme", 2607);
-    freq.put("emd", 28);
-    freq.put("emg", 143);
-    freq.put("aiž", 27);
-    freq.put("ema", 412);
-    freq.put("emb", 176);
-    freq.put("emo", 348);
-    freq.put("emn", 25);
-    freq.put("emi", 389);
-    freq.put("emj", 71);
-    freq.put("PA ", 36);
-    freq.put("emt", 133);
-    freq.put("emp", 493);
-    freq.put("ems", 89);
-    freq.put("aiš", 99);
-    freq.put("w ", 104);
-    freq.put("ņve", 32);
-    freq.put("ūve", 114);
-    freq.put(" I ", 103);
-    freq.put("niķ", 23);
-    freq.put("hīd", 23);
-    freq.put("epā", 130);
-    freq.put("il ", 50);
-    freq.put("te ", 724);
-    freq.put("we", 66);
-    freq.put("wa", 100);
-    freq.put("wo", 40);
-    freq.put(" Ir", 159);
-    freq.put(" Is", 56);
-    freq.put(" It", 130);
-    freq.put("wi", 65);
-    freq.put("ww", 72);
-    freq.put(" Ik", 26);
-    freq.put("ws", 45);
-    freq.put(" Im", 77);
-    freq.put(" In", 594);
-    freq.put(" Ib", 23);
-    freq.put(" Id", 25);
-    freq.put(" Ie", 156);
-    freq.put(" Ig", 193);
-    freq.put("ilg", 175);
-    freq.put("ild", 409);
-    freq.put("ile", 125);
-    freq.put("ilb", 52);
-    freq.put("ilc", 81);
-    freq.put("ila", 297);
-    freq.put("iln", 265);
-    freq.put("ilo", 443);
-    freq.put("ill", 168);
-    freq.put("ilm", 237);
-    freq.put("ilj", 175);
-    freq.put("ilk", 121);
-    freq.put("ilh", 58);
-    freq.put("ili", 579);
-    freq.put("ilv", 752);
-    freq.put("ilt", 346);
-    freq.put("ilu", 127);
-    freq.put("ils", 2044);
-    freq.put("ilp", 256);
-    freq.put(" ra", 2342);
-    freq.put("ilz", 47);
-    freq.put("col", 50);
-    freq.put("con", 50);
-    freq.put("emā", 318);
-    freq.put("dī", 2457);
-    freq.put("īdī", 105);
-    freq.put("emē", 508);
-    freq.put("mbu", 166);
-    freq.put("īdā", 112);
-    freq.put("emī", 84);
-    freq.put("dā", 3118);
-    freq.put("dē", 1715);
-    freq.put("dū", 151);
-    freq.put("šme", 77);
-    freq.put("dž", 490);
-    freq.put("emš", 50);
-    freq.put("aiz", 832);
-    freq.put("dņ", 25);
-    freq.put("ait", 1125);
-    freq.put("aiv", 51);
-    freq.put("aip", 45);
-    freq.put("ais", 4315);
-    freq.put("air", 752);
-    freq.put("aim", 532);
-    freq.put("ail", 137);
-    freq.put("gna", 34);
-    freq.put("aik", 1200);
-    freq.put("aij", 61);
-    freq.put("aie", 25);
-    freq.put("aid", 426);
-    freq.put("aig", 508);
-    freq.put("gni", 35);
-    freq.put("gno", 38);
-    freq.put("aic", 101);
-    freq.put("aib", 25);
-    freq.put("ilā", 148);
-    freq.put("ni ", 1261);
-    freq.put("ми", 22);
-    freq.put("ilē", 113);
-    freq.put("ilī", 94);
-    freq.put("ep ", 41);
-    freq.put("th ", 68);
-    freq.put("nij", 1586);
-    freq.put("nik", 329);
-    freq.put("nin", 84);
-    freq.put("τ", 47);
-    freq.put("nil", 57);
-    freq.put("nim", 128);
-    freq.put("nic", 83);
-    freq.put("nia", 73);
-    freq.put("nif", 36);
-    freq.put("nig", 62);
-    freq.put("nid", 123);
-    freq.put("nie", 3147);
-    freq.put("niz", 488);
-    freq.put("Y", 65);
-    freq.put("nis", 2463);
-    freq.put("nip", 37);
-    freq.put("niv", 242);
-    freq.put("nit", 151);
-    freq.put("ilš", 47);
-    freq.put("ept", 197);
-    freq.put("epu", 444);
-    freq.put("epr", 190);
-    freq.put("eps", 32);
-    freq.put("tho", 40);
-    freq.put("epo", 71);
-    freq.put("epl", 47);
-    freq.put("epj", 76);
-    freq.put("eph", 37);
-    freq.put("epi", 258);
-    freq.put("žs ", 70);
-    freq.put("the", 191);
-    freq.put("epe", 71);
-    freq.put("tha", 41);
-    freq.put("epa", 258);
-    freq.put("šā ", 313);
-    freq.put("rn ", 84);
-    freq.put("mtā", 193);
-    freq.put("Gau", 47);
-    freq.put("Gar", 70);
-    freq.put("Gan", 49);
-    freq.put("Gam", 34);
-    freq.put("Gal", 115);
-    freq.put("Gai", 64);
-    freq.put("Tri", 83);
-    freq.put("šād", 125);
-    freq.put("rni", 347);
-    freq.put("rno", 46);
-    freq.put("Tro", 39);
-    freq.put("šām", 60);
-    freq.put("rna", 307);
-    freq.put("Tre", 69);
-    freq.put("šāk", 184);
-    freq.put("šāv", 22);
-    freq.put("šās", 183);
-    freq.put("rns", 56);
-    freq.put("rnu", 187);
-    freq.put("lci", 93);
-    freq.put("mir", 718);
-    freq.put("bpi", 124);
-    freq.put("zce", 422);
-    freq.put(" nī", 29);
-    freq.put("rša", 176);
-    freq.put("ršo", 29);
-    freq.put("zci", 73);
-    freq.put("rši", 100);
-    freq.put("ršu", 90);
-    freq.put("ršr", 51);
-    freq.put("ūrā", 242);
-    freq.put("Led", 38);
-    freq.put(" nā", 219);
-    freq.put("Lej", 26);
-    freq.put("Leo", 37);
-    freq.put("Let", 23);
-    freq.put("plu", 29);
-    freq.put("rš ", 626);
-    freq.put("ple", 241);
-    freq.put("pla", 1300);
-    freq.put("plo", 77);
-    freq.put("pli", 106);
-    freq.put("obo", 33);
-    freq.put("obl", 72);
-    freq.put("Šve", 65);
-    freq.put("obi", 154);
-    freq.put("obe", 704);
-    freq.put("oba", 54);
-    freq.put("obu", 91);
-    freq.put("obr", 164);
-    freq.put("obs", 66);
-    freq.put("rnī", 124);
-    freq.put("Trī", 27);
-    freq.put("Žan", 29);
-    freq.put("rnā", 130);
-    freq.put("rnē", 53);
-    freq.put("mt ", 26);
-    freq.put("war", 33);
-    freq.put("mpē", 250);
-    freq.put("т", 170);
-    freq.put("mts", 51);
-    freq.put("mtu", 58);
-    freq.put("Odi", 27);
-    freq.put("mti", 48);
-    freq.put("mta", 1054);
-    freq.put("mte", 23);
-    freq.put("ür", 23);
-    freq.put(" n ", 74);
-    freq.put("obā", 56);
-    freq.put("plī", 101);
-    freq.put("plē", 184);
-    freq.put("obī", 23);
-    freq.put("plā", 202);
-    freq.put(" ni", 63);
-    freq.put("umu", 2190);
-    freq.put("kve", 97);
-    freq.put(" no", 9749);
-    freq.put("kva", 316);
-    freq.put(" na", 986);
-    freq.put(" ne", 2383);
-    freq.put("kvi", 68);
-    freq.put("plū", 201);
-    freq.put("ums", 2443);
-    freq.put("ršā", 79);
-    freq.put("ūrs", 28);
-    freq.put("ūrv", 45);
-    freq.put("ūru", 316);
-    freq.put("ūri", 123);
-    freq.put("ūrn", 45);
-    freq.put("ūrm", 32);
-    freq.put("ūra", 1491);
-    freq.put("ūrg", 22);
-    freq.put("Mūs", 71);
-    freq.put("Mūz", 68);
-    freq.put("gu ", 870);
-    freq.put("iši", 31);
-    freq.put("uzņ", 254);
-    freq.put("iša", 70);
-    freq.put("jvi", 27);
-    freq.put("išu", 56);
-    freq.put("īļu", 88);
-    freq.put(" Kā", 157);
-    freq.put("ņ", 7202);
-    freq.put("umm", 30);
-    freq.put("н ", 27);
-    freq.put("āk", 5743);
-    freq.put("umo", 1060);
-    freq.put("gub", 86);
-    freq.put("gua", 28);
-    freq.put("gud", 66);
-    freq.put("gun", 194);
-    freq.put("gum", 401);
-    freq.put("gul", 224);
-    freq.put("gus", 188);
-    freq.put("p", 52161);
-    freq.put("guv", 148);
-    freq.put("uzē", 26);
-    freq.put("htt", 39);
-    freq.put("Ins", 32);
-    freq.put("ek ", 1542);
-    freq.put("г", 53);
-    freq.put("ht ", 30);
-    freq.put("spī", 75);
-    freq.put("eko", 416);
-    freq.put("ekn", 62);
-    freq.put("ekm", 150);
-    freq.put("ekl", 427);
-    freq.put("kss", 117);
-    freq.put("eki", 366);
-    freq.put("eke", 31);
-    freq.put("spē", 1745);
-    freq.put("ekc", 120);
-    freq.put("eka", 402);
-    freq.put("ekv", 109);
-    freq.put("eku", 811);
-    freq.put("ekt", 1750);
-    freq.put("eks", 1397);
-    freq.put("aģi", 37);
-    freq.put("uzl", 72);
-    freq.put("uzm", 28);
-    freq.put("ņķo", 49);
-    freq.put("ņķi", 80);
-    freq.put("uzk", 39);
-    freq.put("uzd", 109);
-    freq.put("uze", 128);
-    freq.put("išņ", 36);
-    freq.put("ņķa", 92);
-    freq.put("uzb", 144);
-    freq.put("uzc", 22);
-    freq.put("uzt", 192);
-    freq.put("uzv", 164);
-    freq.put("uzr", 64);
-    freq.put("uzs", 479);
-    freq.put(" Ka", 1303);
-    freq.put(" Ke", 174);
-    freq.put("Vla", 36);
-    freq.put(" Ki", 234);
-    freq.put(" Ko", 784);
-    freq.put(" Kl", 266);
-    freq.put(" Kr", 1044);
-    freq.put(" Kv", 49);
-    freq.put(" Ku", 433);
-    freq.put("ksa", 250);
-    freq.put("ca ", 396);
-    freq.put("guļ", 52);
-    freq.put("F", 1831);
-    freq.put("ي", 53);
-    freq.put("uz ", 1335);
-    freq.put("aāt", 29);
-    freq.put("ibi", 285);
-    freq.put(" K ", 22);
-    freq.put("ibl", 76);
-    freq.put("ibo", 30);
-    freq.put("cas", 201);
-    freq.put("car", 55);
-    freq.put("ibe", 125);
-    freq.put("cau", 337);
-    freq.put("cat", 29);
-    freq.put("can", 76);
-    freq.put("cam", 74);
-    freq.put("cal", 52);
-    freq.put("cab", 38);
-    freq.put("ibr", 57);
-    freq.put("Mod", 95);
-    freq.put("ibu", 58);
-    freq.put("ao ", 25);
-    freq.put("spr", 198);
-    freq.put("spu", 61);
-    freq.put("ekā", 290);
-    freq.put("spi", 604);
-    freq.put("šs ", 266);
-    freq.put("spl", 61);
-    freq.put("spo", 584);
-    freq.put("spa", 151);
-    freq.put("ļa ", 1215);
-    freq.put("spe", 377);
-    freq.put("QL ", 27);
-    freq.put("ekļ", 537);
-    freq.put("šst", 29);
-    freq.put("ļau", 478);
-    freq.put("ļav", 42);
-    freq.put("ļas", 391);
-    freq.put("ļam", 83);
-    freq.put("šsa", 28);
-    freq.put("ļai", 47);
-    freq.put("ght", 32);
-    freq.put("eķi", 82);
-    freq.put("ekš", 656);
-    freq.put("rēs", 31);
-    freq.put("eķu", 303);
-    freq.put("Ru", 198);
-    freq.put("Jav", 26);
-    freq.put("Jau", 217);
-    freq.put("no ", 5915);
-    freq.put("soc", 383);
-    freq.put("Jap", 129);
-    freq.put("Jan", 40);
-    freq.put("Re", 684);
-    freq.put("Chr", 32);
-    freq.put("Jam", 45);
-    freq.put("Ra", 377);
-    freq.put("Jag", 28);
-    freq.put("Ro", 567);
-    freq.put("Rh", 25);
-    freq.put("Ri", 309);
-    freq.put("mbi", 138);
-    freq.put("α", 118);
-    freq.put("nol", 424);
-    freq.put("nom", 610);
-    freq.put("non", 115);
-    freq.put("Ķe", 55);
-    freq.put("noj", 304);
-    freq.put("nok", 292);
-    freq.put("nod", 505);
-    freq.put("nof", 35);
-    freq.put("nog", 200);
-    freq.put("noa", 58);
-    freq.put("nob", 42);
-    freq.put("noc", 58);
-    freq.put("zaļ", 79);
-    freq.put("R ", 242);
-    freq.put("noz", 696);
-    freq.put("not", 1518);
-    freq.put("nov", 804);
-    freq.put("nop", 85);
-    freq.put("Ja ", 27);
-    freq.put("nos", 1301);
-    freq.put("em", 12435);
-    freq.put("el", 8559);
-    freq.put("eo", 1018);
-    freq.put("en", 17231);
-    freq.put("ei", 6080);
-    freq.put("eh", 574);
-    freq.put("ek", 9435);
-    freq.put("ej", 1682);
-    freq.put("ee", 260);
-    freq.put("ed", 5035);
-    freq.put("eg", 1917);
-    freq.put("Afg", 26);
-    freq.put("ea", 831);
-    freq.put("ec", 2362);
-    freq.put("eb", 2145);
-    freq.put("ey", 101);
-    freq.put("ex", 66);
-    freq.put("ez", 2104);
-    freq.put("eu", 138);
-    freq.put("et", 9035);
-    freq.put("ew", 72);
-    freq.put("ev", 3202);
-    freq.put("ep", 1928);
-    freq.put("es", 13667);
-    freq.put("er", 13266);
-    freq.put("س", 25);
-    freq.put("sī ", 32);
-    freq.put("rlo", 32);
-    freq.put("rli", 126);
-    freq.put("rle", 24);
-    freq.put("rld", 35);
-    freq.put("lms", 33);
-    freq.put("rla", 201);
-    freq.put("e ", 9104);
-    freq.put(" К", 29);
-    freq.put("lma", 269);
-    freq.put("lme", 73);
-    freq.put("rls", 24);
-    freq.put("sīt", 105);
-    freq.put("sīv", 85);
-    freq.put("sīs", 28);
-    freq.put("sīd", 98);
-    freq.put("sīg", 56);
-    freq.put("sīb", 502);
-    freq.put("sīm", 27);
-    freq.put("sīn", 31);
-    freq.put("sīk", 51);
-    freq.put("sīj", 64);
-    freq.put("zan", 24);
-    freq.put("xi", 24);
-    freq.put("zak", 23);
-    freq.put("zah", 57);
-    freq.put("noī", 26);
-    freq.put("Ķī", 170);
-    freq.put("zab", 39);
-    freq.put("usj", 49);
-    freq.put("fi", 2006);
-    freq.put("zav", 27);
-    freq.put("zat", 43);
-    freq.put("zau", 128);
-    freq.put("zar", 328);
-    freq.put("zas", 275);
-    freq.put("xt", 23);
-    freq.put("Eur", 70);
-    freq.put("fl", 161);
-    freq.put("īģe", 36);
-    freq.put("x ", 250);
-    freq.put("noš", 193);
-    freq.put("za ", 232);
-    freq.put("pni", 63);
-    freq.put("pne", 24);
-    freq.put("Rī", 858);
-    freq.put("Rē", 60);
-    freq.put("Rā", 30);
-    freq.put("rlī", 45);
-    freq.put("eš", 2372);
-    freq.put("ež", 1461);
-    freq.put("sīļ", 23);
-    freq.put("Pha", 28);
-    freq.put("eņ", 1120);
-    freq.put("lmā", 69);
-    freq.put("eī", 44);
-    freq.put("ö", 83);
-    freq.put("eģ", 460);
-    freq.put("eļ", 2084);
-    freq.put("eķ", 397);
-    freq.put("eč", 136);
-    freq.put("eā", 550);
-    freq.put("lāč", 85);
-    freq.put("ļie", 252);
-    freq.put(" p ", 50);
-    freq.put("нс", 22);
-    freq.put("ūt ", 294);
-    freq.put(" ps", 120);
-    freq.put(" pr", 3156);
-    freq.put("на", 44);
-    freq.put(" pu", 1266);
-    freq.put("lāņ", 65);
-    freq.put("но", 31);
-    freq.put("ни", 29);
-    freq.put(" pc", 24);
-    freq.put(" pa", 8411);
-    freq.put(" pe", 651);
-    freq.put(" pi", 5908);
-    freq.put(" po", 1148);
-    freq.put(" pl", 1389);
-    freq.put("āpš", 36);
-    freq.put("ūtu", 111);
-    freq.put("lāš", 22);
-    freq.put("ūts", 52);
-    freq.put("ūtn", 56);
-    freq.put("ūto", 32);
-    freq.put("ūti", 73);
-    freq.put("ūte", 28);
-    freq.put("ūta", 126);
-    freq.put("azd", 25);
-    freq.put("uvo", 31);
-    freq.put("zga", 142);
-    freq.put("vu ", 956);
-    freq.put(" Mū", 173);
-    freq.put(" Mā", 133);
-    freq.put("Kru", 113);
-    freq.put("Kri", 714);
-    freq.put("Kro", 35);
-    freq.put(" Mē", 139);
-    freq.put("Kra", 70);
-    freq.put("Kre", 35);
-    freq.put("vul", 71);
-    freq.put("vum", 201);
-    freq.put("vuk", 61);
-    freq.put(" Mī", 29);
-    freq.put("māš", 32);
-    freq.put("α ", 62);
-    freq.put("vus", 141);
-    freq.put("zgā", 25);
-    freq.put(" pī", 83);
-    freq.put("ūtā", 37);
-    freq.put(" pē", 1285);
-    freq.put("lā ", 1304);
-    freq.put("ei ", 338);
-    freq.put(" pā", 1765);
-    freq.put("ūtī", 135);
-    freq.put("ц", 23);
-    freq.put("lle", 160);
-    freq.put(" pū", 63);
-    freq.put("lām", 367);
-    freq.put("eis", 229);
-    freq.put("eir", 180);
-    freq.put("eit", 215);
-    freq.put("lāj", 219);
-    freq.put("lāk", 1056);
-    freq.put("lād", 144);
-    freq.put("lāg", 85);
-    freq.put("lāc", 180);
-    freq.put("CO ", 32);
-    freq.put("eic", 317);
-    freq.put("eib", 23);
-    freq.put("eie", 54);
-    freq.put("eid", 2544);
-    freq.put("eig", 207);
-    freq.put("lāt", 209);
-    freq.put("eih", 26);
-    freq.put("lāv", 61);
-    freq.put("eim", 142);
-    freq.put("eil", 42);
-    freq.put("lār", 401);
-    freq.put("ein", 253);
-    freq.put("pīr", 89);
-    freq.put("Sid", 28);
-    freq.put(" Me", 654);
-    freq.put(" Ma", 1344);
-    freq.put(" Mo", 496);
-    freq.put(" Mi", 483);
-    freq.put("mā ", 1508);
-    freq.put("vē", 3474);
-    freq.put("ūdr", 44);
-    freq.put("tņu", 72);
-    freq.put("Krā", 28);
-    freq.put(" My", 39);
-    freq.put("NS ", 43);
-    freq.put("cek", 125);
-    freq.put("ux ", 33);
-    freq.put("tli", 341);
-    freq.put("mās", 220);
-    freq.put("mār", 102);
-    freq.put(" M ", 45);
-    freq.put("māt", 506);
-    freq.put("vuš", 26);
-    freq.put("māz", 34);
-    freq.put("māc", 507);
-    freq.put("māk", 627);
-    freq.put("māj", 191);
-    freq.put("mām", 145);
-    freq.put("māl", 154);
-    freq.put("mān", 158);
-    freq.put("loņ", 26);
-    freq.put("am ", 2221);
-    freq.put("ps ", 241);
-    freq.put("М", 37);
-    freq.put("loš", 29);
-    freq.put("cm", 65);
-    freq.put("tāv", 1332);
-    freq.put("cb", 46);
-    freq.put("lož", 83);
-    freq.put("ami", 532);
-    freq.put("psk", 78);
-    freq.put("psi", 158);
-    freq.put("amm", 408);
-    freq.put("pso", 28);
-    freq.put("amo", 175);
-    freq.put("ama", 1351);
-    freq.put("amb", 217);
-    freq.put("ame", 775);
-    freq.put("pse", 42);
-    freq.put("amp", 185);
-    freq.put("ams", 603);
-    freq.put("amu", 130);
-    freq.put("pst", 387);
-    freq.put("psu", 31);
-    freq.put("loģ", 845);
-    freq.put("rēķ", 47);
-    freq.put("loī", 24);
-    freq.put("uce", 66);
-    freq.put("t", 118682);
-    freq.put("ģī", 39);
-    freq.put("Rak", 35);
-    freq.put("Hel", 44);
-    freq.put("Brā", 30);
-    freq.put("dz ", 1238);
-    freq.put("tār", 419);
-    freq.put("gūs", 114);
-    freq.put("gūr", 45);
-    freq.put("gūt", 168);
-    freq.put("Brī", 92);
-    freq.put("udē", 94);
-    freq.put("ģē", 120);
-    freq.put("ģēl", 37);
-    freq.put("tdi", 61);
-    freq.put("tda", 95);
-    freq.put("nme", 24);
-    freq.put("nma", 29);
-    freq.put("ģēt", 22);
-    freq.put("ģēr", 24);
-    freq.put("dza", 294);
-    freq.put("ņbr", 28);
-    freq.put("oča", 27);
-    freq.put("sra", 53);
-    freq.put("dze", 1097);
-    freq.put("dzi", 2913);
-    freq.put("oči", 28);
-    freq.put("dzo", 52);
-    freq.put("dzn", 78);
-    freq.put("dzs", 170);
-    freq.put("dzu", 124);
-    freq.put("dzv", 49);
-    freq.put("amī", 170);
-    freq.put("Adr", 25);
-    freq.put("tūc", 93);
-    freq.put("tūk", 66);
-    freq.put("tūt", 53);
-    freq.put("tūr", 1186);
-    freq.put("Ada", 38);
-    freq.put("lob", 58);
-    freq.put("loc", 172);
-    freq.put("log", 309);
-    freq.put("lod", 1255);
-    freq.put("amā", 271);
-    freq.put("lok", 186);
-    freq.put("lon", 250);
-    freq.put("lom", 194);
-    freq.put("lor", 215);
-    freq.put("los", 267);
-    freq.put("lop", 98);
-    freq.put("lov", 125);
-    freq.put("lot", 233);
-    freq.put("loz", 171);
-    freq.put("psē", 31);
-    freq.put("amē", 73);
-    freq.put("āci", 2513);
-    freq.put("ن", 33);
-    freq.put("pu ", 321);
-    freq.put("J", 1801);
-    freq.put("gļu", 239);
-    freq.put("rje", 48);
-    freq.put("rja", 44);
-    freq.put("lo ", 480);
-    freq.put("Ent", 23);
-    freq.put("dzā", 72);
-    freq.put("ācu", 337);
-    freq.put("zāc", 457);
-    freq.put("dzē", 373);
-    freq.put("Lam", 24);
-    freq.put("Lan", 56);
-    freq.put("Lai", 103);
-    freq.put("Lak", 51);
-    freq.put("dzī", 2001);
-    freq.put("Lag", 34);
-    freq.put("Lab", 56);
-    freq.put("tēģ", 40);
-    freq.put("Lat", 1556);
-    freq.put("Lau", 64);
-    freq.put("Lap", 25);
-    freq.put("Lar", 29);
-    freq.put("ģi", 2798);
-    freq.put("lga", 178);
-    freq.put("ģa", 66);
-    freq.put("ģe", 601);
-    freq.put("ģu", 81);
-    freq.put("Bru", 49);
-    freq.put("Bro", 55);
-    freq.put("Bri", 92);
-    freq.put("Bre", 53);
-    freq.put("Bra", 125);
-    freq.put("Sī", 40);
-    freq.put("Sē", 77);
-    freq.put("ОН ", 57);
-    freq.put("Sā", 102);
-    freq.put("mpe", 254);
-    freq.put("mpa", 147);
-    freq.put("mpo", 156);
-    freq.put("mpl", 189);
-    freq.put("mpi", 549);
-    freq.put("mpt", 22);
-    freq.put("mpu", 71);
-    freq.put("mpr", 55);
-    freq.put("mps", 29);
-    freq.put("ģīt", 31);
-    freq.put("osl", 225);
-    freq.put("pul", 349);
-    freq.put("egā", 92);
-    freq.put("fī", 68);
-    freq.put("fē", 229);
-    freq.put("fā", 86);
-    freq.put("ēkā", 56);
-    freq.put(" ru", 206);
-    freq.put("ījā", 106);
-    freq.put("ūvi", 42);
-    freq.put(" re", 2229);
-    freq.put("ēkš", 30);
-    freq.put(" ro", 913);
-    freq.put(" ri", 726);
-    freq.put("š", 16459);
-    freq.put("TS ", 22);
-    freq.put("egū", 271);
-    freq.put("egš", 47);
-    freq.put("āžu", 50);
-    freq.put("jra", 36);
-    freq.put("va", 13478);
-    freq.put("put", 341);
-    freq.put("āža", 23);
-    freq.put("S ", 509);
-    freq.put("mpā", 152);
-    freq.put("asm", 50);
-    freq.put("asl", 59);
-    freq.put("Sy", 41);
-    freq.put("Sp", 308);
-    freq.put("Sv", 222);
-    freq.put("Su", 204);
-    freq.put("St", 811);
-    freq.put("Sk", 318);
-    freq.put("Si", 396);
-    freq.put("Sh", 52);
-    freq.put("So", 292);
-    freq.put("Sn", 22);
-    freq.put("Sm", 71);
-    freq.put("Sl", 112);
-    freq.put("Sc", 140);
-    freq.put("Sa", 1320);
-    freq.put("Se", 449);
-    freq.put("vem", 34);
-    freq.put("liģ", 139);
-    freq.put("vs", 665);
-    freq.put("f ", 227);
-    freq.put("Āge", 33);
-    freq.put(" rī", 133);
-    freq.put("īja", 305);
-    freq.put("īji", 84);
-    freq.put(" rā", 73);
-    freq.put("ūvē", 84);
-    freq.put("īju", 700);
-    freq.put("ēku", 376);
-    freq.put("ēkt", 35);
-    freq.put("fr", 742);
-    freq.put("fs", 184);
-    freq.put("ft", 143);
-    freq.put("fu", 915);
-    freq.put("ēks", 180);
-    freq.put("ό", 36);
-    freq.put("fa", 698);
-    freq.put("ēka", 504);
-    freq.put("fe", 924);
-    freq.put("ff", 54);
-    freq.put("fg", 38);
-    freq.put("ēkl", 37);
-    freq.put("ēko", 23);
-    freq.put("ēki", 215);
-    freq.put(" rū", 113);
-    freq.put("fo", 1630);
-    freq.put("a", 237698);
-    freq.put("oža", 54);
-    freq.put("egs", 36);
-    freq.put("egr", 83);
-    freq.put("egv", 44);
-    freq.put("egu", 482);
-    freq.put("egt", 159);
-    freq.put("egi", 29);
-    freq.put("ego", 210);
-    freq.put("egl", 203);
-    freq.put("ega", 166);
-    freq.put("ege", 31);
-    freq.put("stā", 3123);
-    freq.put("ce ", 431);
-    freq.put("y ", 470);
-    freq.put("uvu", 135);
-    freq.put("uvi", 141);
-    freq.put("stē", 996);
-    freq.put("uva", 357);
-    freq.put("uve", 337);
-    freq.put(" On", 42);
-    freq.put(" Ol", 289);
-    freq.put(" Ok", 85);
-    freq.put(" Oh", 28);
-    freq.put(" Of", 27);
-    freq.put(" Og", 53);
-    freq.put(" Od", 50);
-    freq.put("ncē", 85);
-    freq.put(" Ob", 41);
-    freq.put("stī", 1710);
-    freq.put(" Ov", 27);
-    freq.put(" Ot", 132);
-    freq.put(" Or", 178);
-    freq.put(" Os", 199);
-    freq.put(" Op", 65);
-    freq.put("yi", 22);
-    freq.put("ced", 32);
-    freq.put("ym", 26);
-    freq.put("yl", 66);
-    freq.put("cea", 28);
-    freq.put("yn", 43);
-    freq.put("ya", 64);
-    freq.put("cen", 1090);
-    freq.put("yc", 58);
-    freq.put("cel", 374);
-    freq.put("ye", 62);
-    freq.put("yd", 22);
-    freq.put("yg", 24);
-    freq.put("pīb", 56);
-    freq.put("cet", 115);
-    freq.put("ces", 699);
-    freq.put("cer", 171);
-    freq.put("pīd", 81);
-    freq.put("cep", 69);
-    freq.put("yp", 31);
-    freq.put("ys", 126);
-    freq.put("yr", 30);
-    freq.put("pīn", 23);
-    freq.put("yt", 35);
-    freq.put("pīl", 42);
-    freq.put("ifr", 46);
-    freq.put("ifs", 22);
-    freq.put(" O ", 55);
-    freq.put("stū", 113);
-    freq.put("ife", 75);
-    freq.put("ifo", 180);
-    freq.put("ifi", 245);
-    freq.put("liņ", 107);
-    freq.put("End", 31);
-    freq.put("č", 1638);
-    freq.put("as ", 38125);
-    freq.put("kaķ", 31);
-    freq.put("kaļ", 69);
-    freq.put("āņi", 41);
-    freq.put("ı ", 35);
-    freq.put("āņa", 65);
-    freq.put("pēļ", 144);
-    freq.put("āņu", 468);
-    freq.put("ass", 194);
-    freq.put("pum", 233);
-    freq.put("pun", 290);
-    freq.put("asp", 375);
-    freq.put("asv", 32);
-    freq.put("asu", 217);
-    freq.put("ast", 3489);
-    freq.put("pub", 494);
-    freq.put("asc", 35);
-    freq.put("asa", 1301);
-    freq.put("asf", 22);
-    freq.put("ase", 553);
-    freq.put("ask", 709);
-    freq.put("asi", 550);
-    freq.put("ash", 28);
-    freq.put("aso", 90);
-    freq.put("asn", 297);
-    freq.put("pur", 145);
-    freq.put("pus", 720);
-    freq.put("kaņ", 374);
-    freq.put("ion", 1944);
-    freq.put("dip", 35);
-    freq.put("iol", 177);
-    freq.put("KS ", 29);
-    freq.put("Ima", 40);
-    freq.put("pīļ", 68);
-    freq.put("Imp", 27);
-    freq.put("Pī", 38);
-    freq.put("ceļ", 571);
-    freq.put("žur", 90);
-    freq.put("žus", 34);
-    freq.put("st ", 664);
-    freq.put("tfo", 35);
-    freq.put("žu ", 492);
-    freq.put("nch", 29);
-    freq.put("nci", 571);
-    freq.put("nca", 32);
-    freq.put("nce", 476);
-    freq.put("ste", 1133);
-    freq.put("sta", 3898);
-    freq.put("stl", 22);
-    freq.put("stm", 49);
-    freq.put("stn", 212);
-    freq.put("sto", 1125);
-    freq.put("sti", 2606);
-    freq.put("stu", 1969);
-    freq.put("stv", 62);
-    freq.put("stp", 85);
-    freq.put("rģi", 226);
-    freq.put("str", 3208);
-    freq.put("sts", 1496);
-    freq.put("rģe", 23);
-    freq.put("Gol", 28);
-    freq.put("ka ", 3723);
-    freq.put("God", 26);
-    freq.put("eži", 331);
-    freq.put("asī", 143);
-    freq.put("Got", 33);
-    freq.put("asē", 82);
-    freq.put("Nik", 51);
-    freq.put("lif", 131);
-    freq.put("lig", 100);
-    freq.put("Nin", 27);
-    freq.put("lia", 94);
-    freq.put("lib", 49);
-    freq.put("lic", 208);
-    freq.put("lim", 573);
-    freq.put("lin", 517);
-    freq.put("lio", 99);
-    freq.put("lij", 964);
-    freq.put("lik", 929);
-    freq.put("lit", 895);
-    freq.put("asā", 83);
-    freq.put("2 ", 53);
-    freq.put("ķ", 3799);
-    freq.put("lis", 1779);
-    freq.put("ežo", 374);
-    freq.put("liz", 308);
-    freq.put("kab", 198);
-    freq.put("kad", 430);
-    freq.put("kak", 37);
-    freq.put("kaj", 1054);
-    freq.put("kai", 2823);
-    freq.put("kan", 621);
-    freq.put("kam", 395);
-    freq.put("kal", 1136);
-    freq.put("rhi", 273);
-    freq.put("kar", 1806);
-    freq.put("kap", 301);
-    freq.put("kav", 162);
-    freq.put("kau", 385);
-    freq.put("kat", 1010);
-    freq.put("rha", 55);
-    freq.put("kaz", 48);
-    freq.put("The", 138);
-    freq.put("rhe", 62);
-    freq.put("pēj", 691);
-    freq.put("pēk", 384);
-    freq.put("li ", 1126);
-    freq.put("Bīb", 25);
-    freq.put("pēm", 32);
-    freq.put("pēc", 941);
-    freq.put("pēd", 188);
-    freq.put("pēr", 307);
-    freq.put("pēt", 433);
-    freq.put("rūt", 48);
-    freq.put("rūp", 88);
-    freq.put("rūs", 59);
-    freq.put("Equ", 185);
-    freq.put("rūd", 56);
-    freq.put(" tī", 340);
-    freq.put("rūm", 55);
-    freq.put("rūn", 90);
-    freq.put("rūk", 50);
-    freq.put("Р", 35);
-    freq.put("Vāc", 268);
-    freq.put(" tē", 247);
-    freq.put("vēģ", 76);
-    freq.put("Vār", 66);
-    freq.put("ox ", 29);
-    freq.put(" tā", 1796);
-    freq.put("ābū", 29);
-    freq.put(" tū", 103);
-    freq.put("nču", 194);
-    freq.put("vēš", 46);
-    freq.put("nča", 33);
-    freq.put("x", 396);
-    freq.put("ая ", 29);
-    freq.put("uvē", 31);
-    freq.put("Jāņ", 29);
-    freq.put("wor", 28);
-    freq.put("Ple", 55);
-    freq.put("Pla", 145);
-    freq.put(" īs", 256);
-    freq.put(" īp", 415);
-    freq.put("uvā", 81);
-    freq.put("maš", 145);
-    freq.put("iģi", 165);
-    freq.put("iģe", 27);
-    freq.put("gme", 45);
-    freq.put("War", 28);
-    freq.put(" t ", 61);
-    freq.put("vē ", 134);
-    freq.put("īdi", 166);
-    freq.put("āba", 24);
-    freq.put("ābe", 514);
-    freq.put(" tv", 38);
-    freq.put(" tu", 790);
-    freq.put(" tr", 1203);
-    freq.put("N", 1829);
-    freq.put(" to", 1082);
-    freq.put("ābu", 87);
-    freq.put(" ti", 3365);
-    freq.put(" th", 155);
-    freq.put(" te", 2144);
-    freq.put(" ta", 1745);
-    freq.put("vēr", 790);
-    freq.put("vēs", 501);
-    freq.put("vēt", 425);
-    freq.put("vēc", 27);
-    freq.put("vēj", 244);
-    freq.put("adi", 802);
-    freq.put("vēl", 461);
-    freq.put("vēn", 31);
-    freq.put("jpu", 34);
-    freq.put("ožā", 27);
-    freq.put("Kva", 27);
-    freq.put("Jān", 51);
-    freq.put("gs ", 1150);
-    freq.put("īde", 154);
-    freq.put("lid", 326);
-    freq.put("lie", 3537);
-    freq.put("FA ", 41);
-    freq.put("gst", 733);
-    freq.put("gsn", 33);
-    freq.put("utā", 171);
-    freq.put("Kār", 70);
-    freq.put("iņš", 323);
-    freq.put("ēm ", 819);
-    freq.put("īle", 67);
-    freq.put("īla", 22);
-    freq.put("utī", 62);
-    freq.put("īli", 124);
-    freq.put("ļoš", 38);
-    freq.put("ι", 60);
-    freq.put("lip", 94);
-    freq.put("ee ", 59);
-    freq.put("Kā ", 42);
-    freq.put("lir", 22);
-    freq.put("ēmu", 365);
-    freq.put("ēmi", 221);
-    freq.put("ēma", 558);
-    freq.put("een", 27);
-    freq.put("iņā", 150);
-    freq.put("eej", 99);
-    freq.put("ķe", 541);
-    freq.put("ķīm", 271);
-    freq.put("aķi", 22);
-    freq.put("ķa", 229);
-    freq.put("ķīn", 49);
-    freq.put("ķo", 78);
-    freq.put("ru ", 2726);
-    freq.put("ķīd", 71);
-    freq.put("ķi", 1644);
-    freq.put("svā", 52);
-    freq.put("tuv", 673);
-    freq.put("ķu", 510);
-    freq.put("ķs", 30);
-    freq.put("ķīs", 84);
-    freq.put("ķīr", 23);
-    freq.put("svē", 166);
-    freq.put("svī", 41);
-    freq.put("з", 76);
-    freq.put("id ", 25);
-    freq.put("ruk", 350);
-    freq.put("run", 357);
-    freq.put("Ēr", 64);
-    freq.put("rum", 1852);
-    freq.put("ruc", 33);
-    freq.put("ār ", 34);
-    freq.put("rud", 44);
-    freq.put("ruz", 42);
-    freq.put("Tī", 49);
-    freq.put("rur", 31);
-    freq.put("rus", 878);
-    freq.put("rup", 644);
-    freq.put("rut", 84);
-    freq.put("kas", 6913);
-    freq.put("idz", 312);
-    freq.put("idu", 626);
-    freq.put("idr", 632);
-    freq.put("ids", 336);
-    freq.put("idp", 27);
-    freq.put("idn", 29);
-    freq.put("ido", 1694);
-    freq.put("idm", 53);
-    freq.put("idi", 317);
-    freq.put("idd", 33);
-    freq.put("ide", 638);
-    freq.put("ida", 1167);
-    freq.put("iņu", 475);
-    freq.put("Eli", 48);
-    freq.put("iņs", 42);
-    freq.put("oha", 113);
-    freq.put("Ele", 79);
-    freq.put("iņa", 746);
-    freq.put("iņo", 51);
-    freq.put("iņi", 157);
-    freq.put("iņj", 22);
-    freq.put("ļos", 305);
-    freq.put("ut ", 97);
-    freq.put("ļot", 251);
-    freq.put("šum", 55);
-    freq.put("šus", 57);
-    freq.put("kus", 576);
-    freq.put("ļoj", 28);
-    freq.put("ēmā", 142);
-    freq.put("ušu", 56);
-    freq.put("utb", 797);
-    freq.put("šu ", 1883);
-    freq.put("uta", 279);
-    freq.put("pēl", 736);
-    freq.put("ute", 201);
-    freq.put("Šaj", 103);
-    freq.put("uti", 652);
-    freq.put("utn", 283);
-    freq.put("uto", 580);
-    freq.put("īlī", 22);
-    freq.put("utr", 30);
-    freq.put("uts", 90);
-    freq.put("Šar", 24);
-    freq.put("utv", 22);
-    freq.put("utt", 67);
-    freq.put("utu", 102);
-    freq.put("žku", 26);
-    freq.put("Tu", 367);
-    freq.put("Tr", 348);
-    freq.put("idē", 338);
-    freq.put("To", 528);
-    freq.put("Tj", 24);
-    freq.put("Th", 183);
-    freq.put("Ēģ", 41);
-    freq.put("Te", 412);
-    freq.put("idā", 226);
-    freq.put("nab", 23);
-    freq.put("A ", 493);
-    freq.put("vsk", 63);
-    freq.put("naf", 23);
-    freq.put("nag", 57);
-    freq.put("nad", 66);
-    freq.put("nae", 90);
-    freq.put("naj", 193);
-    freq.put("nak", 85);
-    freq.put("ruā", 39);
-    freq.put("Uz ", 28);
-    freq.put("nal", 235);
-    freq.put("nam", 315);
-    freq.put("nar", 136);
-    freq.put("nas", 3073);
-    freq.put("nav", 456);
-    freq.put("idī", 348);
-    freq.put("nat", 306);
-    freq.put("nau", 117);
-    freq.put("naz", 22);
-    freq.put("ruš", 59);
-    freq.put("ķī", 541);
-    freq.put("tms", 32);
-    freq.put("T ", 118);
-    freq.put("idž", 50);
-    freq.put("Ac", 82);
-    freq.put("Ab", 147);
-    freq.put("dvi", 33);
-    freq.put("Ad", 148);
-    freq.put("ķā", 31);
-    freq.put("svi", 110);
-    freq.put("dve", 34);
-    freq.put("Ah", 37);
-    freq.put("Ak", 154);
-    freq.put("sve", 113);
-    freq.put("ruņ", 155);
-    freq.put("Al", 535);
-    freq.put("An", 739);
-    freq.put("Ap", 260);
-    freq.put("As", 243);
-    freq.put("Ar", 519);
-    freq.put("ķē", 171);
-    freq.put("idū", 60);
-    freq.put("Av", 74);
-    freq.put("Az", 34);
-    freq.put("gv", 152);
-    freq.put("gu", 2538);
-    freq.put("gt", 345);
-    freq.put("gs", 1978);
-    freq.put("gr", 3115);
-    freq.put("gz", 413);
-    freq.put("gg", 39);
-    freq.put("ge", 675);
-    freq.put("gd", 52);
-    freq.put("gb", 23);
-    freq.put("ga", 11955);
-    freq.put("go", 1269);
-    freq.put("gn", 346);
-    freq.put("gm", 103);
-    freq.put("gl", 1302);
-    freq.put("gk", 23);
-    freq.put("gi", 1023);
-    freq.put("gh", 75);
-    freq.put("lko", 184);
-    freq.put("lkl", 39);
-    freq.put("Nok", 22);
-    freq.put("lke", 27);
-    freq.put("Nob", 33);
-    freq.put("lka", 119);
-    freq.put("Not", 22);
-    freq.put("Nov", 61);
-    freq.put("lku", 31);
-    freq.put("ν", 83);
-    freq.put("lks", 97);
-    freq.put("Nor", 163);
-    freq.put("Nos", 50);
-    freq.put("kci", 508);
-    freq.put("g ", 378);
-    freq.put("zš", 91);
-    freq.put("hi ", 25);
-    freq.put("tml", 23);
-    freq.put("No ", 69);
-    freq.put("Spi", 27);
-    freq.put("Spo", 27);
-    freq.put("Spa", 42);
-    freq.put("ņš ", 323);
-    freq.put("Spe", 35);
-    freq.put("zl", 791);
-    freq.put("zm", 1200);
-    freq.put("zn", 964);
-    freq.put("zo", 976);
-    freq.put("zi", 7929);
-    freq.put("zj", 64);
-    freq.put("zk", 332);
-    freq.put("zd", 606);
-    freq.put("ze", 4296);
-    freq.put("zg", 379);
-    freq.put("za", 1506);
-    freq.put("zb", 206);
-    freq.put("zc", 577);
-    freq.put("zz", 61);
-    freq.put("zt", 460);
-    freq.put("zu", 648);
-    freq.put("zv", 1734);
-    freq.put("zp", 657);
-    freq.put("zr", 375);
-    freq.put("zs", 1624);
-    freq.put("ižk", 30);
-    freq.put("iže", 26);
-    freq.put("iža", 92);
-    freq.put("ižu", 32);
-    freq.put(" vā", 1227);
-    freq.put("oze", 115);
-    freq.put("ull", 58);
-    freq.put("oza", 288);
-    freq.put("ozo", 189);
-    freq.put("ulm", 42);
-    freq.put("z ", 3167);
-    freq.put("ло", 25);
-    freq.put("ulb", 50);
-    freq.put(" vē", 1059);
-    freq.put("ozu", 30);
-    freq.put("nīm", 63);
-    freq.put("ulf", 35);
-    freq.put(" vī", 192);
-    freq.put("ulg", 48);
-    freq.put("ра", 42);
-    freq.put("duš", 31);
-    freq.put("ри", 31);
-    freq.put("ро", 53);
-    freq.put("lkņ", 24);
-    freq.put("gž", 90);
-    freq.put("Spē", 56);
-    freq.put("IA ", 51);
-    freq.put("gš", 291);
-    freq.put("OS ", 28);
-    freq.put("Spā", 87);
-    freq.put("gū", 417);
-    freq.put("lkš", 22);
-    freq.put("pš", 285);
-    freq.put("jda", 46);
-    freq.put("gļ", 378);
-    freq.put("lkā", 113);
-    freq.put("Je", 180);
-    freq.put("gē", 101);
-    freq.put("Ja", 606);
-    freq.put("gā", 2261);
-    freq.put("zū", 24);
-    freq.put("ozī", 528);
-    freq.put("inē", 330);
-    freq.put(" va", 7044);
-    freq.put(" ve", 2127);
-    freq.put("ozā", 24);
-    freq.put(" vi", 7158);
-    freq.put("zņ", 392);
-    freq.put(" vo", 159);
-    freq.put(" vu", 52);
-    freq.put("Ļ", 56);
-    freq.put("kro", 296);
-    freq.put("zī", 3820);
-    freq.put("ižā", 28);
-    freq.put("ūzi", 561);
-    freq.put("ičs", 33);
-    freq.put("ūnu", 55);
-    freq.put("zā", 1002);
-    freq.put("ūns", 22);
-    freq.put("pā", 3136);
-    freq.put("zē", 1137);
-    freq.put("zme", 35);
-    freq.put("jni", 88);
-    freq.put("iču", 24);
-    freq.put("ب", 27);
-    freq.put("rsā", 44);
-    freq.put("rsē", 59);
-    freq.put("rsū", 33);
-    freq.put(" Sē", 77);
-    freq.put(" Sā", 102);
-    freq.put("ç", 26);
-    freq.put(" Sī", 40);
-    freq.put("bež", 545);
-    freq.put("urā", 908);
-    freq.put("map", 23);
-    freq.put("uģu", 36);
-    freq.put("hlo", 75);
-    freq.put("ļiņ", 134);
-    freq.put("mar", 276);
-    freq.put("īmi", 343);
-    freq.put("urē", 196);
-    freq.put("īno", 33);
-    freq.put("īni", 507);
-    freq.put("īne", 41);
-    freq.put("īna", 462);
-    freq.put("īnu", 169);
-    freq.put("īns", 285);
-    freq.put("п", 57);
-    freq.put("ece", 209);
-    freq.put("kst", 1947);
-    freq.put("eca", 89);
-    freq.put("eco", 62);
-    freq.put("eck", 45);
-    freq.put("eci", 633);
-    freq.put("ech", 44);
-    freq.put("ecu", 116);
-    freq.put("ect", 70);
-    freq.put("ecp", 24);
-    freq.put("urš", 530);
-    freq.put("adž", 91);
-    freq.put("ežģ", 48);
-    freq.put("cē", 786);
-    freq.put("mad", 68);
-    freq.put("uģa", 52);
-    freq.put("rs ", 2853);
-    freq.put("sūt", 95);
-    freq.put(" Sy", 39);
-    freq.put(" Sp", 307);
-    freq.put(" Sv", 220);
-    freq.put(" St", 793);
-    freq.put(" Su", 203);
-    freq.put(" Sk", 316);
-    freq.put(" Sh", 52);
-    freq.put(" Si", 395);
-    freq.put(" Sn", 22);
-    freq.put(" So", 290);
-    freq.put(" Sl", 112);
-    freq.put(" Sm", 70);
-    freq.put(" Sc", 134);
-    freq.put(" Sa", 1313);
-    freq.put(" Se", 442);
-    freq.put("rsl", 46);
-    freq.put("rsm", 215);
-    freq.put("rsn", 57);
-    freq.put("rso", 354);
-    freq.put("rsi", 451);
-    freq.put("rsk", 108);
-    freq.put("rsd", 23);
-    freq.put("rse", 69);
-    freq.put("rsa", 148);
-    freq.put("R", 3339);
-    freq.put("rst", 685);
-    freq.put("rsu", 128);
-    freq.put("rsv", 73);
-    freq.put("cyo", 60);
-    freq.put("rss", 51);
-    freq.put("bek", 85);
-    freq.put("bei", 323);
-    freq.put("ben", 195);
-    freq.put("bel", 118);
-    freq.put("bed", 22);
-    freq.put("bez", 361);
-    freq.put("ber", 482);
-    freq.put("bes", 245);
-    freq.put(" S ", 101);
-    freq.put("bet", 713);
-    freq.put("are", 686);
-    freq.put("ecī", 715);
-    freq.put("arh", 312);
-    freq.put("ari", 685);
-    freq.put("adē", 277);
-    freq.put("ur ", 573);
-    freq.put("ecā", 200);
-    freq.put("arm", 206);
-    freq.put("bur", 350);
-    freq.put("ecē", 53);
-    freq.put("bus", 88);
-    freq.put("ļin", 31);
-    freq.put("aro", 671);
-    freq.put("BA ", 99);
-    freq.put("nīr", 102);
-    freq.put("Grā", 24);
-    freq.put("﻿", 23);
-    freq.put("īnā", 148);
-    freq.put("čūs", 27);
-    freq.put("urd", 30);
-    freq.put("ure", 246);
-    freq.put("urg", 216);
-    freq.put("īnī", 56);
-    freq.put("urb", 65);
-    freq.put("urc", 141);
-    freq.put("url", 46);
-    freq.put("zmu", 41);
-    freq.put("urn", 303);
-    freq.put("uro", 291);
-    freq.put("uri", 851);
-    freq.put("urj", 22);
-    freq.put("urk", 327);
-    freq.put("urt", 245);
-    freq.put("uru", 1149);
-    freq.put("urv", 97);
-    freq.put("urp", 107);
-    freq.put("urs", 344);
-    freq.put("Del", 44);
-    freq.put("urz", 200);
-    freq.put("otī", 57);
-    freq.put("Den", 34);
-    freq.put("žis", 66);
-    freq.put("bum", 299);
-    freq.put("žie", 84);
-    freq.put("nge", 139);
-    freq.put("nga", 229);
-    freq.put("ngl", 303);
-    freq.put("otā", 1010);
-    freq.put("ngo", 130);
-    freq.put("ngi", 47);
-    freq.put("sh ", 43);
-    freq.put("ngu", 183);
-    freq.put("ngv", 61);
-    freq.put("ngr", 212);
-    freq.put("ngs", 108);
-    freq.put("otē", 115);
-    freq.put("ņda", 33);
-    freq.put("mga", 146);
-    freq.put("nāš", 340);
-    freq.put("tbr", 38);
-    freq.put("tbi", 216);
-    freq.put("fēr", 208);
-    freq.put("tbo", 1157);
-    freq.put("tba", 91);
-    freq.put("ži ", 383);
-    freq.put("ng ", 184);
-    freq.put("dpo", 22);
-    freq.put("shi", 22);
-    freq.put("m2 ", 52);
-    freq.put("sho", 31);
-    freq.put("ke ", 111);
-    freq.put("lup", 35);
-    freq.put("lur", 30);
-    freq.put("lus", 425);
-    freq.put("lut", 87);
-    freq.put("lub", 111);
-    freq.put("luc", 32);
-    freq.put("lud", 54);
-    freq.put("lug", 36);
-    freq.put("л", 187);
-    freq.put("luk", 23);
-    freq.put("lum", 401);
-    freq.put("luo", 34);
-    freq.put("ken", 50);
-    freq.put("kel", 71);
-    freq.put("Dze", 94);
-    freq.put("kej", 204);
-    freq.put("Dzi", 93);
-    freq.put("ket", 457);
-    freq.put("kes", 27);
-    freq.put("ker", 86);
-    freq.put("uum", 27);
-    freq.put("р ", 25);
-    freq.put("lu ", 1807);
-    freq.put("nā ", 1513);
-    freq.put("shē", 40);
-    freq.put("ot ", 1449);
-    freq.put("Lok", 22);
-    freq.put("Lon", 64);
-    freq.put("Lor", 22);
-    freq.put("fga", 33);
-    freq.put("int", 1230);
-    freq.put("krē", 127);
-    freq.put(" Šķ", 45);
-    freq.put("д", 133);
-    freq.put("oth", 36);
-    freq.put("nāc", 166);
-    freq.put("ngā", 136);
-    freq.put("nād", 289);
-    freq.put("oto", 694);
-    freq.put("nāj", 705);
-    freq.put("nāk", 422);
-    freq.put("ote", 602);
-    freq.put("nāl", 1149);
-    freq.put("nām", 427);
-    freq.put("nār", 126);
-    freq.put("nās", 1024);
-    freq.put("nāv", 198);
-    freq.put("inr", 24);
-    freq.put("nāt", 1807);
-    freq.put("otr", 369);
-    freq.put("ūnā", 49);
-    freq.put("ott", 59);
-    freq.put("otu", 305);
-    freq.put("And", 123);
-    freq.put("Ang", 135);
-    freq.put("Ana", 95);
-    freq.put("Ann", 55);
-    freq.put("zsa", 231);
-    freq.put("Ant", 228);
-    freq.put("ngļ", 211);
-    freq.put("Dzī", 27);
-    freq.put("Б", 29);
-    freq.put("krā", 588);
-    freq.put("keā", 336);
-    freq.put("tšķ", 209);
-    freq.put("pī", 487);
-    freq.put("i", 199506);
-    freq.put("sbu", 40);
-    freq.put("ksi", 433);
-    freq.put("riā", 400);
-    freq.put("eaģ", 26);
-    freq.put("hī", 43);
-    freq.put("Be", 447);
-    freq.put("Ba", 1010);
-    freq.put("Bl", 116);
-    freq.put("hē", 85);
-    freq.put("Bo", 341);
-    freq.put("Bi", 333);
-    freq.put("Bu", 240);
-    freq.put("ņos", 47);
-    freq.put("Br", 526);
-    freq.put("hā", 197);
-    freq.put("āfi", 261);
-    freq.put("HK ", 23);
-    freq.put("āfr", 63);
-    freq.put("āfs", 37);
-    freq.put("B ", 133);
-    freq.put(" x ", 60);
-    freq.put(" Čī", 26);
-    freq.put("rūš", 31);
-    freq.put("onā", 1526);
-    freq.put("lnī", 100);
-    freq.put("bā ", 646);
-    freq.put("U ", 122);
-    freq.put("ļve", 81);
-    freq.put("ubs", 106);
-    freq.put("ļvi", 28);
-    freq.put("ģu ", 60);
-    freq.put("ņaz", 78);
-    freq.put("bāt", 57);
-    freq.put("bās", 254);
-    freq.put("Uz", 97);
-    freq.put("bāz", 178);
-    freq.put("Up", 46);
-    freq.put("Ur", 133);
-    freq.put("Ul", 29);
-    freq.put("Un", 191);
-    freq.put("Uk", 57);
-    freq.put("bān", 43);
-    freq.put("dul", 78);
-    freq.put("bāl", 44);
-    freq.put("bām", 208);
-    freq.put("bāj", 44);
-    freq.put("bāk", 295);
-    freq.put("dun", 24);
-    freq.put("iež", 570);
-    freq.put("ņas", 543);
-    freq.put("šie", 334);
-    freq.put("ea ", 66);
-    freq.put("h ", 326);
-    freq.put("cā ", 43);
-    freq.put(" Če", 124);
-    freq.put(" Ča", 35);
-    freq.put("ņak", 24);
-    freq.put("ībv", 37);
-    freq.put(" Či", 48);
-    freq.put("īpa", 426);
-    freq.put(" Ču", 25);
-    freq.put("ņai", 51);
-    freq.put("eak", 105);
-    freq.put("hy", 49);
-    freq.put("eal", 83);
-    freq.put("ean", 79);
-    freq.put("cās", 52);
-    freq.put("hs", 176);
-    freq.put("Jū", 171);
-    freq.put("ht", 159);
-    freq.put("hu", 177);
-    freq.put("cāk", 136);
-    freq.put("pj", 212);
-    freq.put("hi", 1019);
-    freq.put("hn", 345);
-    freq.put("ho", 773);
-    freq.put("cām", 35);
-    freq.put("Bē", 72);
-    freq.put("eap", 54);
-    freq.put("eas", 36);
-    freq.put("ear", 51);
-    freq.put("eau", 46);
-    freq.put("ph", 171);
-    freq.put("he", 981);
-    freq.put("dma", 88);
-    freq.put("dus", 742);
-    freq.put("dmi", 319);
-    freq.put("Bī", 48);
-    freq.put("ņoš", 22);
-    freq.put("hn ", 22);
-    freq.put(" Uz", 96);
-    freq.put("ēsl", 23);
-    freq.put(" Up", 44);
-    freq.put(" Ur", 133);
-    freq.put(" Ul", 29);
-    freq.put(" Un", 191);
-    freq.put(" Uk", 57);
-    freq.put(" Ug", 37);
-    freq.put("ābj", 26);
-    freq.put("eot", 23);
-    freq.put("bāš", 52);
-    freq.put("hni", 146);
-    freq.put("ķen", 35);
-    freq.put("hno", 151);
-    freq.put(" U ", 30);
-    freq.put("tī ", 235);
-    freq.put("auc", 511);
-    freq.put("aud", 1114);
-    freq.put("aug", 1739);
-    freq.put("auk", 1608);
-    freq.put("auj", 444);
-    freq.put("aum", 53);
-    freq.put("aul", 1187);
-    freq.put("up ", 25);
-    freq.put("aun", 922);
-    freq.put("aup", 26);
-    freq.put("aus", 1232);
-    freq.put("aur", 568);
-    freq.put("aut", 1629);
-    freq.put("auv", 33);
-    freq.put("auz", 73);
-    freq.put("ābi", 54);
-    freq.put("eče", 56);
-    freq.put("tīg", 275);
-    freq.put("tīd", 188);
-    freq.put("tīb", 1094);
-    freq.put("nul", 25);
-    freq.put("tīn", 159);
-    freq.put("tīm", 268);
-    freq.put("tīj", 350);
-    freq.put("tīk", 237);
-    freq.put("eču", 47);
-    freq.put("Joh", 102);
-    freq.put("tīt", 1190);
-    freq.put("tīr", 77);
-    freq.put("tīs", 433);
-    freq.put("au ", 159);
-    freq.put("upj", 23);
-    freq.put("Šei", 27);
-    freq.put("upi", 127);
-    freq.put("upe", 293);
-    freq.put("upa", 461);
-    freq.put("upu", 109);
-    freq.put("Šep", 43);
-    freq.put("olk", 110);
-    freq.put("me ", 570);
-    freq.put("žot", 153);
-    freq.put("žor", 51);
-    freq.put("žos", 33);
-    freq.put("žon", 63);
-    freq.put("Iga", 176);
-    freq.put("ovī", 25);
-    freq.put("nen", 247);
-    freq.put("ovē", 187);
-    freq.put("nel", 264);
-    freq.put("nem", 97);
-    freq.put("nej", 92);
-    freq.put("nek", 293);
-    freq.put("nei", 201);
-    freq.put("neg", 80);
-    freq.put("ned", 153);
-    freq.put("neb", 55);
-    freq.put("nec", 44);
-    freq.put("nea", 224);
-    freq.put("ovā", 78);
-    freq.put("nez", 35);
-    freq.put("nev", 218);
-    freq.put("net", 418);
-    freq.put("ner", 698);
-    freq.put("nes", 1590);
-    freq.put("nep", 336);
-    freq.put("med", 310);
-    freq.put("у", 116);
-    freq.put("oru", 295);
-    freq.put("mem", 29);
-    freq.put("mel", 157);
-    freq.put("men", 1391);
-    freq.put("mei", 147);
-    freq.put("meh", 105);
-    freq.put("mek", 209);
-    freq.put("met", 1247);
-    freq.put("mes", 1625);
-    freq.put("mer", 791);
-    freq.put("žo ", 82);
-    freq.put("mez", 28);
-    freq.put("vēk", 693);
-    freq.put("Alū", 46);
-    freq.put("drs", 87);
-    freq.put("dru", 292);
-    freq.put("ne ", 1014);
-    freq.put("dri", 640);
-    freq.put("dro", 640);
-    freq.put("dra", 350);
-    freq.put("dre", 139);
-    freq.put("tīģ", 32);
-    freq.put("auņ", 57);
-    freq.put("upā", 104);
-    freq.put("upē", 50);
-    freq.put("auš", 105);
-    freq.put("upī", 23);
-    freq.put("orc", 49);
-    freq.put("auž", 79);
-    freq.put("Ste", 80);
-    freq.put("kgr", 28);
-    freq.put("Sta", 349);
-    freq.put("tīš", 166);
-    freq.put("Sto", 87);
-    freq.put("ūci", 182);
-    freq.put("Sti", 60);
-    freq.put("kga", 63);
-    freq.put("Stu", 53);
-    freq.put("arž", 51);
-    freq.put("Str", 115);
-    freq.put("V", 3715);
-    freq.put("tīņ", 237);
-    freq.put("Tim", 41);
-    freq.put(" Pā", 146);
-    freq.put("Ēģi", 41);
-    freq.put("Lie", 695);
-    freq.put("Lib", 28);
-    freq.put("Lim", 30);
-    freq.put("Lin", 97);
-    freq.put("Lit", 29);
-    freq.put("Liv", 157);
-    freq.put("rig", 98);
-    freq.put("drā", 113);
-    freq.put("meļ", 1113);
-    freq.put("žoš", 80);
-    freq.put("Kab", 22);
-    freq.put("Kad", 24);
-    freq.put("Kai", 30);
-    freq.put("Kan", 182);
-    freq.put("Kam", 79);
-    freq.put("Kal", 190);
-    freq.put("Kas", 57);
-    freq.put("Kar", 357);
-    freq.put("drī", 349);
-    freq.put("Kap", 52);
-    freq.put("Kau", 72);
-    freq.put("Kat", 99);
-    freq.put("Kaz", 79);
-    freq.put("ovs", 143);
-    freq.put("ova", 643);
-    freq.put("ovg", 31);
-    freq.put("ove", 137);
-    freq.put("ovi", 389);
-    freq.put("All", 36);
-    freq.put("meņ", 339);
-    freq.put("Alf", 40);
-    freq.put("Ale", 93);
-    freq.put("Alb", 79);
-    freq.put("Ala", 26);
-    freq.put("sjū", 46);
-    freq.put("neļ", 30);
-    freq.put("Alt", 55);
-    freq.put("Alp", 29);
-    freq.put("ēž", 23);
-    freq.put("ēš", 773);
-    freq.put("ēņ", 27);
-    freq.put("ρ", 66);
-    freq.put("ēļ", 376);
-    freq.put("ēķ", 56);
-    freq.put("ong", 158);
-    freq.put("ēģ", 190);
-    freq.put("āņ", 597);
-    freq.put("Wor", 39);
-    freq.put("SS ", 24);
-    freq.put("āš", 567);
-    freq.put(" zo", 142);
-    freq.put("gžņ", 89);
-    freq.put(" ze", 740);
-    freq.put(" za", 193);
-    freq.put("zdo", 186);
-    freq.put(" zu", 23);
-    freq.put("is ", 8439);
-    freq.put("āž", 93);
-    freq.put("ādu", 390);
-    freq.put("āds", 129);
-    freq.put("āč", 113);
-    freq.put("zde", 234);
-    freq.put("āde", 246);
-    freq.put("āda", 636);
-    freq.put("ādn", 33);
-    freq.put("ādo", 104);
-    freq.put("īrā", 42);
-    freq.put("ādi", 416);
-    freq.put("ķeš", 66);
-    freq.put("ēcī", 76);
-    freq.put("iss", 145);
-    freq.put("isp", 195);
-    freq.put("isv", 78);
-    freq.put("isu", 253);
-    freq.put("ist", 3658);
-    freq.put("isk", 6070);
-    freq.put("isi", 459);
-    freq.put("ish", 36);
-    freq.put("iso", 147);
-    freq.put("isn", 115);
-    freq.put("ism", 951);
-    freq.put("isl", 163);
-    freq.put("isc", 158);
-    freq.put("isb", 151);
-    freq.put("isa", 605);
-    freq.put("āļ", 238);
-    freq.put("ise", 117);
-    freq.put("ēz", 349);
-    freq.put("ēs", 1279);
-    freq.put("ēr", 3544);
-    freq.put("ēp", 82);
-    freq.put("ēv", 258);
-    freq.put("ēt", 4896);
-    freq.put("ēk", 1496);
-    freq.put("ēj", 4209);
-    freq.put(" ka", 7945);
-    freq.put("ēn", 867);
-    freq.put("ēm", 2242);
-    freq.put("ēl", 2212);
-    freq.put("ēc", 1136);
-    freq.put("ēb", 25);
-    freq.put("ēg", 174);
-    freq.put("ēd", 833);
-    freq.put("ē ", 2668);
-    freq.put("Āb", 22);
-    freq.put("Āf", 113);
-    freq.put("Āg", 35);
-    freq.put("Ād", 23);
-    freq.put("Ār", 50);
-    freq.put("Āz", 143);
-    freq.put("ty ", 51);
-    freq.put("Izr", 29);
-    freq.put("Izv", 72);
-    freq.put("isā", 208);
-    freq.put("ādī", 293);
-    freq.put("āc", 3184);
-    freq.put("āb", 862);
-    freq.put("ēci", 41);
-    freq.put("ād", 3136);
-    freq.put("āg", 215);
-    freq.put("āf", 379);
-    freq.put("īrs", 118);
-    freq.put("do ", 341);
-    freq.put("āj", 3661);
-    freq.put("ām", 4331);
-    freq.put("āl", 5581);
-    freq.put("ān", 2529);
-    freq.put("isī", 84);
-    freq.put("āp", 472);
-    freq.put("ās", 7161);
-    freq.put("ār", 6698);
-    freq.put("āt", 4781);
-    freq.put("āv", 1981);
-    freq.put("āz", 697);
-    freq.put("tyl", 39);
-    freq.put(" zā", 53);
-    freq.put("doj", 533);
-    freq.put("ā ", 23455);
-    freq.put("don", 402);
-    freq.put(" zī", 183);
-    freq.put("dom", 421);
-    freq.put("dob", 64);
-    freq.put("m", 69285);
-    freq.put("ēc ", 930);
-    freq.put("dod", 87);
-    freq.put("doe", 23);
-    freq.put("ķes", 25);
-    freq.put("ķer", 270);
-    freq.put("ķet", 39);
-    freq.put("dor", 118);
-    freq.put("dos", 455);
-    freq.put("dov", 34);
-    freq.put("dow", 29);
-    freq.put("dot", 762);
-    freq.put(" We", 44);
-    freq.put(" Wa", 65);
-    freq.put(" Wo", 56);
-    freq.put(" Wi", 95);
-    freq.put("Cē", 86);
-    freq.put("slā", 344);
-    freq.put("kul", 627);
-    freq.put("ba ", 1526);
-    freq.put("slī", 114);
-    freq.put("aču", 132);
-    freq.put("υ", 22);
-    freq.put(" W ", 26);
-    freq.put("zsv", 33);
-    freq.put("rīš", 55);
-    freq.put("bat", 100);
-    freq.put("bau", 36);
-    freq.put("bar", 192);
-    freq.put("bas", 2875);
-    freq.put("utē", 47);
-    freq.put("baz", 174);
-    freq.put("bag", 46);
-    freq.put("bad", 23);
-    freq.put("bac", 26);
-    freq.put("ban", 81);
-    freq.put("bal", 1602);
-    freq.put("bam", 32);
-    freq.put("baj", 47);
-    freq.put("bak", 69);
-    freq.put("bai", 173);
-    freq.put("Vā", 356);
-    freq.put("om ", 55);
-    freq.put("iž", 275);
-    freq.put("ržu", 43);
-    freq.put("Vē", 122);
-    freq.put("iš", 513);
-    freq.put("Run", 31);
-    freq.put("Rum", 56);
-    freq.put("Rub", 29);
-    freq.put("Vī", 58);
-    freq.put("un ", 9898);
-    freq.put("Svē", 102);
-    freq.put("iņ", 2232);
-    freq.put("omb", 95);
-    freq.put("C", 2145);
-    freq.put("iļ", 351);
-    freq.put("ome", 546);
-    freq.put("omj", 98);
-    freq.put("omi", 730);
-    freq.put("omo", 191);
-    freq.put("Īri", 58);
-    freq.put("oms", 200);
-    freq.put("omp", 487);
-    freq.put("omu", 284);
-    freq.put("omt", 26);
-    freq.put("iģ", 203);
-    freq.put("unr", 34);
-    freq.put("uns", 163);
-    freq.put("unt", 48);
-    freq.put("unu", 158);
-    freq.put("unv", 30);
-    freq.put("iē", 45);
-    freq.put("ņie", 244);
-    freq.put("una", 264);
-    freq.put("unc", 25);
-    freq.put("ič", 143);
-    freq.put("ņģe", 27);
-    freq.put("ung", 150);
-    freq.put("iā", 1355);
-    freq.put("uni", 663);
 
-    init2();
-  }
-  private static void init2() {
-    
-    freq.put("zsk", 600);
-    freq.put("unl", 25);
-    freq.put("uno", 67);
-    freq.put("ņot", 124);
-    freq.put("Ies", 23);
-    freq.put("Ier", 30);
-    freq.put("Iek", 27);
-    freq.put("rī ", 2361);
-    freq.put("Ied", 23);
-    freq.put("C ", 377);
-    freq.put("rīt", 190);
-    freq.put("rīv", 387);
-    freq.put("rīs", 243);
-    freq.put("rīz", 162);
-    freq.put("rīd", 236);
-    freq.put("ērā", 124);
-    freq.put("rīb", 593);
-    freq.put("rīc", 210);
-    freq.put("rīl", 26);
-    freq.put("rīn", 188);
-    freq.put("rīj", 40);
-    freq.put("rīk", 162);
-    freq.put("Ci", 209);
-    freq.put("Ch", 135);
-    freq.put("Co", 292);
-    freq.put("Cl", 54);
-    freq.put("slu", 68);
-    freq.put("Ca", 279);
-    freq.put("Ce", 347);
-    freq.put("slo", 148);
-    freq.put("sli", 399);
-    freq.put("akr", 121);
-    freq.put("Cr", 43);
-    freq.put("sla", 592);
-    freq.put("Cu", 37);
-    freq.put("Nac", 121);
-    freq.put("iz", 8191);
-    freq.put("iq", 24);
-    freq.put("ip", 1361);
-    freq.put("is", 22114);
-    freq.put("ir", 20819);
-    freq.put("iu", 210);
-    freq.put("it", 6916);
-    freq.put("Nam", 26);
-    freq.put("ii", 76);
-    freq.put("ih", 374);
-    freq.put("ik", 8262);
-    freq.put("ij", 18002);
-    freq.put("im", 5227);
-    freq.put("il", 7272);
-    freq.put("Nat", 30);
-    freq.put("in", 12037);
-    freq.put("ia", 987);
-    freq.put("ic", 1972);
-    freq.put("ki ", 1566);
-    freq.put("ie", 43851);
-    freq.put("id", 6988);
-    freq.put("ig", 1651);
-    freq.put("if", 662);
-    freq.put("V ", 507);
-    freq.put("omā", 452);
-    freq.put("omē", 208);
-    freq.put("sau", 2277);
-    freq.put("šēj", 249);
-    freq.put("unī", 25);
-    freq.put("kis", 66);
-    freq.put("kir", 36);
-    freq.put("Sve", 45);
-    freq.put("ий ", 35);
-    freq.put("kij", 77);
-    freq.put("kin", 233);
-    freq.put("kil", 129);
-    freq.put("i ", 20844);
-    freq.put("kia", 33);
-    freq.put("kie", 620);
-    freq.put("Va", 795);
-    freq.put("Ve", 528);
-    freq.put("Vi", 1349);
-    freq.put("Vl", 38);
-    freq.put("Vo", 206);
-    freq.put("Vu", 40);
-    freq.put("nk ", 29);
-    freq.put("op ", 56);
-    freq.put("ājē", 32);
-    freq.put("zor", 28);
-    freq.put("Ar ", 101);
-    freq.put("ājā", 201);
-    freq.put("opt", 86);
-    freq.put("opu", 475);
-    freq.put("opr", 71);
-    freq.put("ops", 93);
-    freq.put("ope", 301);
-    freq.put("opa", 835);
-    freq.put("opl", 68);
-    freq.put("opm", 30);
-    freq.put("opo", 347);
-    freq.put("oph", 40);
-    freq.put("opi", 253);
-    freq.put("Art", 56);
-    freq.put("vda", 91);
-    freq.put("Ara", 25);
-    freq.put("Ard", 29);
-    freq.put("Are", 22);
-    freq.put("Arg", 44);
-    freq.put("Arh", 40);
-    freq.put("Ari", 31);
-    freq.put("Arm", 42);
-    freq.put("www", 36);
-    freq.put("kļo", 52);
-    freq.put("rē ", 110);
-    freq.put("zu ", 183);
-    freq.put("bra", 298);
-    freq.put("āļu", 173);
-    freq.put("ww ", 36);
-    freq.put("āļi", 45);
-    freq.put("rēl", 48);
-    freq.put("zus", 63);
-    freq.put("rēn", 56);
-    freq.put("rēj", 380);
-    freq.put("rēk", 33);
-    freq.put("rēd", 88);
-    freq.put("rēt", 449);
-    freq.put("zul", 164);
-    freq.put("zum", 137);
-    freq.put("Arā", 51);
-    freq.put("āj ", 38);
-    freq.put("opī", 120);
-    freq.put("opē", 176);
-    freq.put("opā", 322);
-    freq.put("Tuv", 48);
-    freq.put("ājp", 22);
-    freq.put("ājs", 680);
-    freq.put("āju", 1139);
-    freq.put("āji", 502);
-    freq.put("opš", 220);
-    freq.put("ājo", 89);
-    freq.put("āja", 844);
-    freq.put("Z", 1747);
-    freq.put("āje", 33);
-    freq.put("zuā", 39);
-    freq.put("fs ", 175);
-    freq.put("zā ", 57);
-    freq.put("ļri", 165);
-    freq.put("ск", 94);
-    freq.put("ст", 46);
-    freq.put(" Qu", 23);
-    freq.put("zān", 65);
-    freq.put("zāl", 65);
-    freq.put("zām", 26);
-    freq.put("zāk", 210);
-    freq.put("Win", 29);
-    freq.put("Wil", 32);
-    freq.put("rēš", 122);
-    freq.put("zās", 75);
-    freq.put("ulē", 350);
-    freq.put("ulā", 424);
-    freq.put("ītu", 205);
-    freq.put("di ", 661);
-    freq.put("ītr", 41);
-    freq.put("īts", 565);
-    freq.put("ulī", 38);
-    freq.put("ītn", 23);
-    freq.put("īto", 115);
-    freq.put("īti", 392);
-    freq.put("īte", 151);
-    freq.put("īta", 808);
-    freq.put("tnu", 123);
-    freq.put("dil", 24);
-    freq.put("dim", 118);
-    freq.put("din", 621);
-    freq.put("dio", 398);
-    freq.put("tns", 112);
-    freq.put("dij", 481);
-    freq.put("dik", 129);
-    freq.put("Ūde", 29);
-    freq.put("die", 2511);
-    freq.put("dif", 53);
-    freq.put("dig", 41);
-    freq.put("dia", 195);
-    freq.put("dib", 246);
-    freq.put("dic", 163);
-    freq.put("dit", 40);
-    freq.put("diu", 34);
-    freq.put("div", 810);
-    freq.put("īt ", 399);
-    freq.put("dir", 59);
-    freq.put("dis", 577);
-    freq.put("znā", 215);
-    freq.put("Gru", 54);
-    freq.put("ežu", 144);
-    freq.put(" Yo", 26);
-    freq.put("snī", 38);
-    freq.put("znē", 22);
-    freq.put("eža", 263);
-    freq.put("maģ", 28);
-    freq.put("Gre", 140);
-    freq.put("Gra", 91);
-    freq.put("Gro", 39);
-    freq.put("Gri", 112);
-    freq.put("tne", 504);
-    freq.put("znī", 263);
-    freq.put("β", 23);
-    freq.put("snē", 32);
-    freq.put("ķī ", 22);
-    freq.put("bo ", 36);
-    freq.put("tna", 35);
-    freq.put("aēl", 30);
-    freq.put("jūt", 39);
-    freq.put("jūr", 881);
-    freq.put("jūl", 25);
-    freq.put("jūd", 35);
-    freq.put("tno", 42);
-    freq.put("bor", 108);
-    freq.put("bos", 35);
-    freq.put("bot", 84);
-    freq.put("bov", 23);
-    freq.put("boj", 283);
-    freq.put("bok", 22);
-    freq.put("bol", 1514);
-    freq.put("bon", 217);
-    freq.put("maņ", 208);
-    freq.put("diā", 75);
-    freq.put("AU ", 30);
-    freq.put("aye", 23);
-    freq.put(" kū", 39);
-    freq.put("ul ", 24);
-    freq.put("Ben", 73);
-    freq.put("Bel", 45);
-    freq.put("diņ", 89);
-    freq.put("ītē", 23);
-    freq.put("Bez", 37);
-    freq.put("oot", 22);
-    freq.put("oor", 77);
-    freq.put("Ber", 134);
-    freq.put("ītā", 552);
-    freq.put("uls", 122);
-    freq.put("ulp", 39);
-    freq.put("Šis", 89);
-    freq.put("ulv", 63);
-    freq.put("ay ", 49);
-    freq.put("ult", 666);
-    freq.put("ulu", 136);
-    freq.put("fli", 29);
-    freq.put("ulk", 243);
-    freq.put("diž", 52);
-    freq.put("uli", 203);
-    freq.put("ulo", 29);
-    freq.put("flo", 42);
-    freq.put("ītī", 76);
-    freq.put("fla", 25);
-    freq.put("ulc", 29);
-    freq.put("nže", 53);
-    freq.put("ula", 397);
-    freq.put("fle", 24);
-    freq.put("Šie", 27);
-    freq.put("uld", 110);
-    freq.put("ule", 823);
-    freq.put("Tē", 78);
-    freq.put("ma ", 2997);
-    freq.put("boļ", 39);
-    freq.put("žkā", 37);
-    freq.put(" ob", 243);
-    freq.put("sng", 29);
-    freq.put("mas", 1459);
-    freq.put("sne", 180);
-    freq.put("mat", 1537);
-    freq.put("sna", 41);
-    freq.put("sno", 53);
-    freq.put("maz", 508);
-    freq.put("sni", 516);
-    freq.put("mac", 23);
-    freq.put("glī", 122);
-    freq.put("sns", 27);
-    freq.put("mag", 255);
-    freq.put("Urs", 73);
-    freq.put("mai", 882);
-    freq.put("end", 388);
-    freq.put("mak", 194);
-    freq.put("ežī", 26);
-    freq.put("mam", 184);
-    freq.put("Grī", 41);
-    freq.put("uģi", 59);
-    freq.put("man", 1880);
-    freq.put("zna", 38);
-    freq.put("zne", 198);
-    freq.put("zni", 156);
-    freq.put("eng", 203);
-    freq.put("zno", 68);
-    freq.put("q", 293);
-    freq.put("ežā", 198);
-    freq.put("Edv", 25);
-    freq.put("Edu", 28);
-    freq.put("ny ", 39);
-    freq.put("Tā", 889);
-    freq.put(" Šā", 65);
-    freq.put("lse", 64);
-    freq.put("tļu", 59);
-    freq.put("lsa", 85);
-    freq.put("lsn", 30);
-    freq.put("lso", 131);
-    freq.put("lsm", 135);
-    freq.put("lsk", 140);
-    freq.put("lsi", 33);
-    freq.put("lst", 1735);
-    freq.put("lsu", 49);
-    freq.put("lss", 53);
-    freq.put("lsp", 34);
-    freq.put(" ab", 209);
-    freq.put(" ac", 105);
-    freq.put(" ad", 392);
-    freq.put(" af", 23);
-    freq.put(" ag", 155);
-    freq.put(" Šī", 134);
-    freq.put(" ai", 846);
-    freq.put(" ak", 503);
-    freq.put(" al", 593);
-    freq.put(" am", 414);
-    freq.put(" an", 722);
-    freq.put(" ap", 4517);
-    freq.put(" ar", 6236);
-    freq.put(" as", 496);
-    freq.put(" at", 4655);
-    freq.put(" au", 2262);
-    freq.put(" av", 171);
-    freq.put("ls ", 2358);
-    freq.put(" a ", 72);
-    freq.put("šža", 24);
-    freq.put(" šī", 215);
-    freq.put("Lut", 24);
-    freq.put("Lud", 28);
-    freq.put("Lug", 27);
-    freq.put("Luk", 24);
-    freq.put("or ", 99);
-    freq.put("Ken", 34);
-    freq.put("Kem", 29);
-    freq.put("Kei", 25);
-    freq.put("Dž", 311);
-    freq.put("Ker", 28);
-    freq.put("orz", 33);
-    freq.put("G", 1835);
-    freq.put("ory", 23);
-    freq.put("orv", 185);
-    freq.put("ort", 723);
-    freq.put(" šķ", 525);
-    freq.put("orr", 39);
-    freq.put("ors", 691);
-    freq.put("orp", 128);
-    freq.put("Dā", 72);
-    freq.put("orn", 222);
-    freq.put("oro", 248);
-    freq.put("orl", 52);
-    freq.put("orm", 1086);
-    freq.put("ork", 107);
-    freq.put("orh", 26);
-    freq.put("ori", 1689);
-    freq.put("orf", 64);
-    freq.put("org", 872);
-    freq.put("ord", 492);
-    freq.put("ore", 247);
-    freq.put("orb", 148);
-    freq.put("Dē", 23);
-    freq.put("ora", 653);
-    freq.put("cem", 35);
-    freq.put("Apv", 89);
-    freq.put("vju", 71);
-    freq.put("vji", 56);
-    freq.put("Apo", 23);
-    freq.put("ša", 5315);
-    freq.put("ēmē", 83);
-    freq.put("ua ", 31);
-    freq.put("uņi", 48);
-    freq.put("uņo", 84);
-    freq.put("ši", 1623);
-    freq.put("zs ", 189);
-    freq.put("Otr", 101);
-    freq.put("uņu", 131);
-    freq.put("lsī", 24);
-    freq.put("kuļ", 50);
-    freq.put("šn", 89);
-    freq.put("zst", 360);
-    freq.put(" Ša", 199);
-    freq.put(" aģ", 61);
-    freq.put("zsp", 47);
-    freq.put(" Še", 104);
-    freq.put(" Ši", 163);
-    freq.put(" Šo", 131);
-    freq.put("šr", 148);
-    freq.put(" Šv", 81);
-    freq.put(" Št", 29);
-    freq.put("zsl", 25);
-    freq.put("št", 354);
-    freq.put("īvp", 28);
-    freq.put("orķ", 25);
-    freq.put("orī", 50);
-    freq.put("Do", 208);
-    freq.put("Di", 679);
-    freq.put("De", 400);
-    freq.put("orē", 91);
-    freq.put("Da", 634);
-    freq.put("2", 54);
-    freq.put("Dz", 229);
-    freq.put("Du", 106);
-    freq.put("Dr", 103);
-    freq.put("orā", 211);
-    freq.put("D ", 170);
-    freq.put("orņ", 38);
-    freq.put("ge ", 89);
-    freq.put("ažā", 482);
-    freq.put("mēģ", 49);
-    freq.put("We", 47);
-    freq.put("Wa", 68);
-    freq.put("Wo", 58);
-    freq.put("Wi", 99);
-    freq.put("а", 390);
-    freq.put("ges", 34);
-    freq.put("ger", 118);
-    freq.put("tļa", 51);
-    freq.put("Ša", 199);
-    freq.put("Še", 104);
-    freq.put("zen", 285);
-    freq.put("tļi", 52);
-    freq.put("Ši", 163);
-    freq.put("tļo", 22);
-    freq.put("Šo", 132);
-    freq.put("Šv", 81);
-    freq.put("Št", 29);
-    freq.put("gej", 38);
-    freq.put("zem", 1268);
-    freq.put("gen", 244);
-    freq.put("mēš", 100);
-    freq.put("gel", 54);
-    freq.put("W ", 36);
-    freq.put("ó", 42);
-    freq.put("uth", 28);
-    freq.put("ņs ", 24);
-    freq.put("īve", 148);
-    freq.put("še", 180);
-    freq.put("šd", 202);
-    freq.put("šg", 29);
-    freq.put("īva", 467);
-    freq.put("īvn", 200);
-    freq.put("īvo", 1046);
-    freq.put("šk", 157);
-    freq.put("īvm", 36);
-    freq.put("šm", 110);
-    freq.put("šl", 112);
-    freq.put("šo", 571);
-    freq.put("īvi", 298);
-    freq.put("šp", 217);
-    freq.put("šs", 357);
-    freq.put("īvu", 146);
-    freq.put("šu", 2014);
-    freq.put("īvs", 154);
-    freq.put("paņ", 40);
-    freq.put("šv", 170);
-    freq.put("tu ", 4075);
-    freq.put("šz", 36);
-    freq.put("j ", 431);
-    freq.put("ujā", 42);
-    freq.put(" Ēr", 64);
-    freq.put("ēgu", 33);
-    freq.put("ēgt", 73);
-    freq.put("ķa ", 175);
-    freq.put("paš", 762);
-    freq.put("tur", 1909);
-    freq.put("ima", 242);
-    freq.put("jt", 24);
-    freq.put("ju", 6450);
-    freq.put("jv", 54);
-    freq.put("tus", 646);
-    freq.put("jp", 49);
-    freq.put("jr", 40);
-    freq.put("js", 1745);
-    freq.put("jl", 29);
-    freq.put("paā", 29);
-    freq.put("jn", 108);
-    freq.put("jo", 2718);
-    freq.put("tul", 280);
-    freq.put("ji", 2430);
-    freq.put("tun", 72);
-    freq.put("jk", 33);
-    freq.put("jd", 65);
-    freq.put("je", 2277);
-    freq.put("tub", 43);
-    freq.put("tuc", 22);
-    freq.put("tud", 188);
-    freq.put("ja", 18785);
-    freq.put("tug", 34);
-    freq.put("paļ", 30);
-    freq.put(" Že", 35);
-    freq.put("tuk", 47);
-    freq.put(" Ža", 46);
-    freq.put("āvu", 149);
-    freq.put("dko", 25);
-    freq.put(" Ži", 23);
-    freq.put("tum", 1336);
-    freq.put("Šī", 134);
-    freq.put("Šķ", 45);
-    freq.put("āvs", 30);
-    freq.put("mē ", 626);
-    freq.put("Šā", 65);
-    freq.put("āvi", 182);
-    freq.put("mēt", 199);
-    freq.put("mēs", 84);
-    freq.put("mēr", 1231);
-    freq.put("mēn", 131);
-    freq.put("mēm", 78);
-    freq.put("mēl", 71);
-    freq.put("mēj", 294);
-    freq.put("mēd", 92);
-    freq.put("ažu", 75);
-    freq.put("ažr", 77);
-    freq.put("aža", 89);
-    freq.put("ažo", 204);
-    freq.put("aži", 139);
-    freq.put("ažk", 37);
-    freq.put("šū", 152);
-    freq.put("Ti", 330);
-    freq.put("ze ", 308);
-    freq.put("ādā", 677);
-    freq.put("jī", 54);
-    freq.put("šž", 26);
-    freq.put("pap", 138);
-    freq.put("par", 3884);
-    freq.put("pas", 2092);
-    freq.put("pat", 548);
-    freq.put("pau", 149);
-    freq.put("pav", 354);
-    freq.put("šņ", 106);
-    freq.put("paz", 430);
-    freq.put("jē", 253);
-    freq.put("paa", 70);
-    freq.put("pab", 25);
-    freq.put("pac", 124);
-    freq.put("pad", 181);
-    freq.put("pag", 415);
-    freq.put("pai", 59);
-    freq.put("pak", 786);
-    freq.put("pal", 445);
-    freq.put("jā", 6443);
-    freq.put("pan", 195);
-    freq.put("oin", 31);
-    freq.put("šģ", 28);
-    freq.put("nac", 383);
-    freq.put("pja", 69);
-    freq.put("šī", 572);
-    freq.put("īvī", 139);
-    freq.put("šķ", 1261);
-    freq.put("jū", 1021);
-    freq.put("tuš", 25);
-    freq.put("ois", 41);
-    freq.put("jš", 27);
-    freq.put("šā", 893);
-    freq.put("īvā", 296);
-    freq.put("pa ", 730);
-    freq.put("šē", 273);
-    freq.put("ujo", 73);
-    freq.put("īvē", 41);
-    freq.put(" Ēģ", 41);
-    freq.put("uja", 223);
-    freq.put("nai", 923);
-    freq.put("nan", 170);
-    freq.put("mo ", 301);
-    freq.put("Ģen", 28);
-    freq.put("Ģeo", 39);
-    freq.put("Ģer", 28);
-    freq.put("ω", 27);
-    freq.put("mor", 220);
-    freq.put("mop", 26);
-    freq.put("mot", 190);
-    freq.put("mok", 98);
-    freq.put("moj", 43);
-    freq.put("mon", 399);
-    freq.put("mom", 24);
-    freq.put("mol", 217);
-    freq.put("moc", 27);
-    freq.put("mob", 84);
-    freq.put("mog", 37);
-    freq.put("mod", 286);
-    freq.put("iļu", 60);
-    freq.put("zla", 642);
-    freq.put("zli", 78);
-    freq.put("km2", 49);
-    freq.put("iļa", 27);
-    freq.put("то", 24);
-    freq.put("iļi", 22);
-    freq.put("Neo", 28);
-    freq.put("Nei", 26);
-    freq.put("Nea", 33);
-    freq.put("New", 31);
-    freq.put("Net", 40);
-    freq.put("Ner", 49);
-    freq.put("Nep", 30);
-    freq.put("Med", 58);
-    freq.put("kme", 260);
-    freq.put(" ci", 2295);
-    freq.put(" co", 68);
-    freq.put(" cm", 50);
-    freq.put("Mel", 144);
-    freq.put("Men", 40);
-    freq.put("Mei", 30);
-    freq.put("Mek", 48);
-    freq.put(" ce", 962);
-    freq.put("Met", 75);
-    freq.put("ža ", 310);
-    freq.put("Mer", 74);
-    freq.put("Mez", 22);
-    freq.put("ч", 56);
-    freq.put(" ķē", 68);
-    freq.put("Dra", 31);
-    freq.put("žas", 293);
-    freq.put("km ", 504);
-    freq.put(" c ", 63);
-    freq.put(" ķī", 292);
-    freq.put("žag", 66);
-    freq.put("žai", 25);
-    freq.put("žan", 122);
-    freq.put("žam", 29);
-    freq.put("zlā", 29);
-    freq.put("iļā", 27);
-    freq.put("na ", 4384);
-    freq.put("iļņ", 141);
-    freq.put("e", 131519);
-    freq.put("moš", 35);
-    freq.put("Ag", 51);
-    freq.put("Af", 50);
-    freq.put("Ai", 200);
-    freq.put("Avo", 25);
-    freq.put("Am", 328);
-    freq.put("eši", 317);
-    freq.put("sva", 373);
-    freq.put("Н", 52);
-    freq.put("cīņ", 106);
-    freq.put(" cū", 37);
-    freq.put(" ķe", 273);
-    freq.put("kmū", 49);
-    freq.put("ēze", 148);
-    freq.put("Au", 759);
-    freq.put("Ovi", 22);
-    freq.put("ēzu", 41);
-    freq.put("kmē", 88);
-    freq.put(" cē", 148);
-    freq.put(" cī", 105);
-    freq.put("kmī", 26);
-    freq.put("u", 101354);
-    freq.put("Vai", 65);
-    freq.put("Van", 50);
-    freq.put("Val", 406);
-    freq.put("Var", 89);
-    freq.put("Vas", 82);
-    freq.put("ānd", 34);
-    freq.put("ws ", 30);
-    freq.put("deļ", 51);
-    freq.put("āna", 615);
-    freq.put("pļa", 22);
-    freq.put("āno", 72);
-    freq.put("āni", 891);
-    freq.put("ānu", 327);
-    freq.put("Н ", 147);
-    freq.put("āns", 365);
-    freq.put("и", 382);
-    freq.put("sē ", 157);
-    freq.put("ium", 46);
-    freq.put("got", 83);
-    freq.put("ius", 102);
-    freq.put("iur", 38);
-    freq.put("deņ", 285);
-    freq.put("aša", 197);
-    freq.put("ašl", 70);
-    freq.put("ašn", 47);
-    freq.put("aši", 302);
-    freq.put("ēln", 72);
-    freq.put("sēs", 30);
-    freq.put("sēr", 135);
-    freq.put("ašu", 167);
-    freq.put("gļi", 38);
-    freq.put("SI ", 51);
-    freq.put("ašs", 53);
-    freq.put("ašr", 63);
-    freq.put(" Rā", 30);
-    freq.put("Zvi", 157);
-    freq.put("Zva", 55);
-    freq.put("aba", 1096);
-    freq.put("abe", 95);
-    freq.put("abi", 630);
-    freq.put("abl", 44);
-    freq.put("abo", 176);
-    freq.put("abp", 131);
-    freq.put("а ", 100);
-    freq.put("abs", 116);
-    freq.put("abu", 136);
-    freq.put("abv", 34);
-    freq.put("K", 4616);
-    freq.put("lki", 33);
-    freq.put("ašā", 181);
-    freq.put("Vaš", 22);
-    freq.put("two", 22);
-    freq.put("ašī", 283);
-    freq.put("de ", 574);
-    freq.put("uļi", 36);
-    freq.put("uļo", 37);
-    freq.put("uļa", 32);
-    freq.put("uļv", 73);
-    freq.put("uļu", 71);
-    freq.put("ey ", 55);
-    freq.put("dep", 138);
-    freq.put("der", 1382);
-    freq.put("des", 875);
-    freq.put("det", 70);
-    freq.put("dev", 375);
-    freq.put("deh", 29);
-    freq.put("dei", 89);
-    freq.put("dej", 161);
-    freq.put("dek", 100);
-    freq.put("del", 244);
-    freq.put("dem", 139);
-    freq.put("den", 1101);
-    freq.put("deo", 95);
-    freq.put("dea", 22);
-    freq.put("deb", 147);
-    freq.put("dec", 38);
-    freq.put("ded", 49);
-    freq.put("def", 128);
-    freq.put("deg", 170);
-    freq.put(" bē", 90);
-    freq.put("Ļe", 28);
-    freq.put("lbā", 28);
-    freq.put("usā", 96);
-    freq.put("abā", 487);
-    freq.put("Don", 29);
-    freq.put("Dom", 61);
-    freq.put("Dob", 31);
-    freq.put("bku", 154);
-    freq.put("abē", 108);
-    freq.put("gēn", 73);
-    freq.put("P", 4759);
-    freq.put("abī", 81);
-    freq.put("cs ", 85);
-    freq.put("ry ", 107);
-    freq.put("Mār", 46);
-    freq.put("koņ", 106);
-    freq.put("ok ", 31);
-    freq.put("Māk", 28);
-    freq.put("koš", 92);
-    freq.put("pci", 27);
-    freq.put("oks", 506);
-    freq.put("Bau", 40);
-    freq.put("Bar", 119);
-    freq.put("Bas", 49);
-    freq.put("uha", 22);
-    freq.put("Baz", 45);
-    freq.put("oka", 339);
-    freq.put("jē ", 37);
-    freq.put("Bab", 25);
-    freq.put("tuā", 134);
-    freq.put("Ban", 57);
-    freq.put("okh", 49);
-    freq.put("Bal", 501);
-    freq.put("okm", 47);
-    freq.put("Bak", 26);
-    freq.put("oko", 208);
-    freq.put("uj ", 134);
-    freq.put("pam", 682);
-    freq.put(" eļ", 37);
-    freq.put("pāņ", 98);
-    freq.put("pc ", 24);
-    freq.put("kā", 9200);
-    freq.put("kē", 55);
-    freq.put("mm ", 35);
-    freq.put("kī", 37);
-    freq.put("E ", 106);
-    freq.put("kļ", 994);
-    freq.put("toz", 23);
-    freq.put("kņ", 114);
-    freq.put("Atš", 29);
-    freq.put("mmu", 74);
-    freq.put("я", 84);
-    freq.put("Ung", 47);
-    freq.put("mme", 33);
-    freq.put("Uni", 125);
-    freq.put("sbi", 144);
-    freq.put("mma", 291);
-    freq.put("Em", 90);
-    freq.put("El", 193);
-    freq.put("kš", 1455);
-    freq.put("En", 123);
-    freq.put("Ei", 677);
-    freq.put("Ek", 93);
-    freq.put("kū", 96);
-    freq.put("Ed", 95);
-    freq.put("Eg", 26);
-    freq.put("Eb", 22);
-    freq.put("Ex", 29);
-    freq.put("Ez", 43);
-    freq.put("Eu", 85);
-    freq.put("Et", 48);
-    freq.put("Ev", 42);
-    freq.put("Eq", 185);
-    freq.put("Es", 44);
-    freq.put("Er", 98);
-    freq.put("okļ", 89);
-    freq.put("pā ", 453);
-    freq.put(" el", 849);
-    freq.put("koh", 29);
-    freq.put(" en", 251);
-    freq.put("koj", 143);
-    freq.put("kom", 1199);
-    freq.put(" ei", 45);
-    freq.put("koo", 61);
-    freq.put(" ek", 494);
-    freq.put(" ef", 77);
-    freq.put("koe", 27);
-    freq.put("kod", 306);
-    freq.put(" eb", 89);
-    freq.put("šļ", 41);
-    freq.put("okā", 278);
-    freq.put("koz", 38);
-    freq.put(" ez", 655);
-    freq.put(" et", 118);
-    freq.put("kop", 1110);
-    freq.put("kos", 513);
-    freq.put("kor", 259);
-    freq.put(" ep", 55);
-    freq.put("kot", 513);
-    freq.put(" er", 23);
-    freq.put(" es", 227);
-    freq.put("pār", 1984);
-    freq.put("pās", 27);
-    freq.put("ūku", 78);
-    freq.put("ūks", 153);
-    freq.put("ūko", 44);
-    freq.put("Slo", 56);
-    freq.put("pāj", 65);
-    freq.put("ūka", 36);
-    freq.put("pām", 68);
-    freq.put("pān", 369);
-    freq.put("b", 30435);
-    freq.put("ko ", 1627);
-    freq.put(" e ", 62);
-    freq.put("Vēr", 24);
-    freq.put("Vēs", 43);
-    freq.put("− ", 42);
-    freq.put("k ", 3032);
-    freq.put("Kir", 46);
-    freq.put("mmē", 68);
-    freq.put("Kij", 27);
-    freq.put("Kin", 77);
-    freq.put("mmā", 27);
-    freq.put("д ", 27);
-    freq.put("uji", 27);
-    freq.put("vna", 31);
-    freq.put("Ata", 28);
-    freq.put("Ato", 22);
-    freq.put("Atl", 83);
-    freq.put("Atk", 35);
-    freq.put("vni", 238);
-    freq.put("Atr", 91);
-    freq.put("kc", 519);
-    freq.put("kb", 27);
-    freq.put("ka", 21595);
-    freq.put("kg", 105);
-    freq.put("ke", 1430);
-    freq.put("kd", 52);
-    freq.put("kk", 49);
-    freq.put("ki", 2861);
-    freq.put("kh", 87);
-    freq.put("ko", 8251);
-    freq.put("kn", 291);
-    freq.put("km", 1006);
-    freq.put("kl", 2204);
-    freq.put("ks", 6047);
-    freq.put("kr", 3493);
-    freq.put("kp", 53);
-    freq.put("kv", 498);
-    freq.put("ku", 9917);
-    freq.put("kt", 4783);
-    freq.put("ky", 24);
-    freq.put("gaļ", 93);
-    freq.put("pe", 2624);
-    freq.put("āvā", 189);
-    freq.put("Ope", 52);
-    freq.put("gaž", 22);
-    freq.put(" Be", 444);
-    freq.put(" Ba", 1003);
-    freq.put(" Bl", 114);
-    freq.put(" Bo", 338);
-    freq.put(" Bi", 327);
-    freq.put(" Bu", 238);
-    freq.put("ik ", 182);
-    freq.put(" Br", 524);
-    freq.put("kts", 634);
-    freq.put("ав", 30);
-    freq.put("ālo", 317);
-    freq.put("dāf", 28);
-    freq.put("lēš", 123);
-    freq.put("dāl", 53);
-    freq.put("dām", 160);
-    freq.put("dān", 30);
-    freq.put("āle", 181);
-    freq.put("dāj", 251);
-    freq.put("ан", 46);
-    freq.put("dāt", 198);
-    freq.put("taļ", 38);
-    freq.put("dāv", 49);
-    freq.put("dār", 218);
-    freq.put("dās", 334);
-    freq.put("κ", 31);
-    freq.put("āls", 579);
-    freq.put("iks", 380);
-    freq.put("ikr", 195);
-    freq.put(" B ", 49);
-    freq.put("iku", 1045);
-    freq.put("ikt", 677);
-    freq.put("ы", 62);
-    freq.put("ар", 38);
-    freq.put("ikg", 62);
-    freq.put("ike", 59);
-    freq.put("ikd", 24);
-    freq.put("iki", 144);
-    freq.put("ozi", 143);
-    freq.put("iko", 225);
-    freq.put("ая", 29);
-    freq.put("ikm", 90);
-    freq.put("ikl", 215);
-    freq.put("īzē", 29);
-    freq.put("dā ", 1681);
-    freq.put("īzā", 35);
-    freq.put("Irā", 62);
-    freq.put("lbu", 171);
-    freq.put("ga ", 1326);
-    freq.put("šdz", 152);
-    freq.put("三", 24);
-    freq.put("šde", 24);
-    freq.put("fu ", 37);
-    freq.put("gav", 387);
-    freq.put("gau", 305);
-    freq.put("gat", 362);
-    freq.put("gas", 1682);
-    freq.put("gar", 786);
-    freq.put("gan", 1451);
-    freq.put("gam", 98);
-    freq.put("gal", 1339);
-    freq.put("gaj", 108);
-    freq.put("gai", 779);
-    freq.put("gad", 2505);
-    freq.put("gab", 646);
-    freq.put("lba", 32);
-    freq.put("fut", 631);
-    freq.put("fun", 189);
-    freq.put("lbe", 128);
-    freq.put("iņķ", 170);
-    freq.put("īze", 130);
-    freq.put("īzi", 177);
-    freq.put("С", 193);
-    freq.put("lēg", 138);
-    freq.put("lēd", 76);
-    freq.put("dāš", 37);
-    freq.put("lēn", 178);
-    freq.put("raz", 76);
-    freq.put("lēl", 48);
-    freq.put("lēm", 141);
-    freq.put("lēj", 178);
-    freq.put("lēk", 87);
-    freq.put("mos", 1307);
-    freq.put("ikā", 1450);
-    freq.put("lēr", 42);
-    freq.put("lēs", 295);
-    freq.put("lēp", 64);
-    freq.put("ре", 36);
-    freq.put(" Bī", 48);
-    freq.put("ālā", 1101);
-    freq.put("ikš", 84);
-    freq.put("Ir ", 43);
-    freq.put(" Bā", 54);
-    freq.put("ālī", 22);
-    freq.put("lē ", 420);
-    freq.put("ew ", 38);
-    freq.put("Ф", 23);
-    freq.put("lgā", 68);
-    freq.put(" Bē", 72);
-    freq.put("y", 1297);
-    freq.put("lda", 256);
-    freq.put("lde", 303);
-    freq.put("ldi", 101);
-    freq.put("ldo", 68);
-    freq.put("ldn", 139);
-    freq.put("bi ", 165);
-    freq.put("lds", 71);
-    freq.put("ldr", 27);
-    freq.put("ldv", 22);
-    freq.put("ldu", 71);
-    freq.put("rgs", 168);
-    freq.put("cus", 46);
-    freq.put("rgu", 304);
-    freq.put("rga", 943);
-    freq.put("rge", 111);
-    freq.put("rgi", 83);
-    freq.put("cum", 72);
-    freq.put("cul", 28);
-    freq.put("rgo", 78);
-    freq.put("bin", 496);
-    freq.put("bio", 155);
-    freq.put("Din", 26);
-    freq.put("nsī", 306);
-    freq.put("bij", 2367);
-    freq.put("bik", 26);
-    freq.put("Die", 362);
-    freq.put("Dig", 22);
-    freq.put("bib", 56);
-    freq.put("Dib", 24);
-    freq.put("biz", 35);
-    freq.put("bit", 116);
-    freq.put("bir", 59);
-    freq.put("bis", 145);
-    freq.put("Dis", 48);
-    freq.put("Ta", 1094);
-    freq.put("īču", 22);
-    freq.put("rg ", 40);
-    freq.put("−", 111);
-    freq.put("cu ", 436);
-    freq.put("nsē", 48);
-    freq.put("Šo ", 72);
-    freq.put("pet", 33);
-    freq.put("Jūr", 108);
-    freq.put("pes", 264);
-    freq.put("pel", 224);
-    freq.put("pen", 158);
-    freq.put("pei", 23);
-    freq.put("pek", 146);
-    freq.put("ped", 72);
-    freq.put("pea", 50);
-    freq.put("pec", 223);
-    freq.put("Bor", 50);
-    freq.put("Bos", 71);
-    freq.put("Šob", 33);
-    freq.put("use", 127);
-    freq.put("Bov", 25);
-    freq.put("oei", 29);
-    freq.put("Bol", 40);
-    freq.put("oen", 27);
-    freq.put("Bon", 23);
-    freq.put(" gā", 212);
-    freq.put("oef", 31);
-    freq.put("ς ", 97);
-    freq.put("ä", 65);
-    freq.put("uso", 49);
-    freq.put("pe ", 174);
-    freq.put("usm", 71);
-    freq.put("nsi", 192);
-    freq.put("nsk", 554);
-    freq.put("nsl", 44);
-    freq.put("nso", 88);
-    freq.put("ldū", 50);
-    freq.put("nsa", 85);
-    freq.put("nse", 131);
-    freq.put("nsf", 27);
-    freq.put("nsg", 24);
-    freq.put("cīj", 23);
-    freq.put("biļ", 23);
-    freq.put("ajā", 2224);
-    freq.put("nsp", 162);
-    freq.put("nss", 27);
-    freq.put("nst", 540);
-    freq.put("nsu", 59);
-    freq.put("nsv", 36);
-    freq.put("mko", 36);
-    freq.put("uss", 395);
-    freq.put(" R ", 37);
-    freq.put("ns ", 4213);
-    freq.put("sdz", 22);
-    freq.put("rgā", 217);
-    freq.put("sda", 48);
-    freq.put("Flo", 40);
-    freq.put("sdi", 356);
-    freq.put("ldā", 34);
-    freq.put("biņ", 28);
-    freq.put("rgļ", 35);
-    freq.put("ldē", 33);
-    freq.put("tve", 395);
-    freq.put("Mas", 145);
-    freq.put("Mar", 393);
-    freq.put(" gr", 1494);
-    freq.put(" gs", 71);
-    freq.put("ūma", 25);
-    freq.put("Maz", 108);
-    freq.put("Mac", 23);
-    freq.put(" ge", 43);
-    freq.put("Mad", 99);
-    freq.put("Mag", 45);
-    freq.put(" ga", 5014);
-    freq.put("Mai", 65);
-    freq.put(" go", 110);
-    freq.put(" gl", 287);
-    freq.put("uiž", 110);
-    freq.put("Mam", 22);
-    freq.put("Mal", 86);
-    freq.put("Man", 129);
-    freq.put(" ch", 25);
-    freq.put(" k", 23420);
-    freq.put("peļ", 35);
-    freq.put("žet", 61);
-    freq.put("žer", 29);
-    freq.put("žes", 28);
-    freq.put("žen", 74);
-    freq.put("žel", 23);
-    freq.put(" g ", 36);
-    freq.put("žei", 43);
-    freq.put(" b", 8086);
-    freq.put(" c", 4249);
-    freq.put(" a", 22507);
-    freq.put(" f", 3413);
-    freq.put(" g", 7521);
-    freq.put(" d", 13444);
-    freq.put(" e", 3216);
-    freq.put(" j", 3868);
-    freq.put("Pēc", 116);
-    freq.put(" h", 1222);
-    freq.put(" i", 26578);
-    freq.put(" n", 13651);
-    freq.put(" o", 3224);
-    freq.put(" l", 9777);
-    freq.put(" m", 8646);
-    freq.put(" r", 6772);
-    freq.put(" Dž", 308);
-    freq.put(" p", 25406);
-    freq.put(" q", 33);
-    freq.put(" v", 19041);
-    freq.put(" w", 93);
-    freq.put(" t", 13126);
-    freq.put(" u", 13570);
-    freq.put(" z", 3907);
-    freq.put(" x", 65);
-    freq.put(" y", 33);
-    freq.put("Pēt", 62);
-    freq.put(" B", 3324);
-    freq.put(" C", 2058);
-    freq.put(" A", 5469);
-    freq.put(" F", 1822);
-    freq.put(" G", 1815);
-    freq.put(" D", 3031);
-    freq.put(" E", 2156);
-    freq.put(" J", 1795);
-    freq.put(" K", 4607);
-    freq.put(" H", 1796);
-    freq.put(" I", 2309);
-    freq.put(" N", 1813);
-    freq.put(" O", 1473);
-    freq.put(" L", 4536);
-    freq.put(" M", 3956);
-    freq.put(" R", 3325);
-    freq.put(" S", 5368);
-    freq.put(" P", 4729);
-    freq.put(" Q", 37);
-    freq.put(" V", 3691);
-    freq.put(" W", 350);
-    freq.put(" T", 4452);
-    freq.put(" U", 847);
-    freq.put(" Z", 1739);
-    freq.put(" X", 228);
-    freq.put(" Y", 64);
-    freq.put("ārē", 202);
-    freq.put("ārā", 289);
-    freq.put("ņēm", 347);
-    freq.put(" Dā", 72);
-    freq.put(" cu", 46);
-    freq.put(" Dē", 23);
-    freq.put("Īr", 60);
-    freq.put("Īs", 48);
-    freq.put("ļ ", 195);
-    freq.put(" Ļe", 28);
-    freq.put("Org", 41);
-    freq.put("ļv", 154);
-    freq.put("ļu", 2107);
-    freq.put("ļr", 180);
-    freq.put("ļs", 48);
-    freq.put("och", 26);
-    freq.put("ock", 58);
-    freq.put("ļd", 32);
-    freq.put("ļe", 71);
-    freq.put("ļa", 2291);
-    freq.put("ļo", 646);
-    freq.put("ļl", 36);
-    freq.put("ļj", 32);
-    freq.put("ļk", 39);
-    freq.put("ļi", 696);
-    freq.put("cūk", 37);
-    freq.put("ēlā", 185);
-    freq.put(" Do", 202);
-    freq.put(" Š", 1042);
-    freq.put(" š", 2083);
-    freq.put("Ver", 44);
-    freq.put("Ves", 70);
-    freq.put(" Di", 673);
-    freq.put(" Ū", 37);
-    freq.put(" ū", 565);
-    freq.put(" De", 398);
-    freq.put(" Da", 629);
-    freq.put("gūš", 56);
-    freq.put("Vec", 107);
-    freq.put("Ven", 119);
-    freq.put(" Du", 106);
-    freq.put(" ž", 311);
-    freq.put(" Dr", 102);
-    freq.put("Vei", 37);
-    freq.put("ārp", 114);
-    freq.put("cha", 72);
-    freq.put("Fr", 536);
-    freq.put("ārs", 844);
-    freq.put(" ņ", 41);
-    freq.put("che", 97);
-    freq.put("ārv", 488);
-    freq.put(" Ņ", 120);
-    freq.put("chi", 53);
-    freq.put("šģi", 28);
-    freq.put("chn", 24);
-    freq.put("cho", 24);
-    freq.put("Fa", 110);
-    freq.put("ārb", 33);
-    freq.put("ārd", 904);
-    freq.put("Fe", 227);
-    freq.put("ārg", 36);
-    freq.put("Fi", 194);
-    freq.put("ārk", 89);
-    freq.put("Fl", 70);
-    freq.put("ārm", 72);
-    freq.put("ārn", 280);
-    freq.put("Fo", 212);
-    freq.put(" Ģ", 128);
-    freq.put(" ģ", 1094);
-    freq.put(" Ī", 131);
-    freq.put(" ī", 702);
-    freq.put(" D ", 68);
-    freq.put(" Ķ", 254);
-    freq.put(" ķ", 663);
-    freq.put(" Ļ", 56);
-    freq.put(" ļ", 329);
-    freq.put("ch ", 124);
-    freq.put(" Ā", 409);
-    freq.put(" ā", 501);
-    freq.put("Ņū", 40);
-    freq.put("f", 8161);
-    freq.put(" Č", 299);
-    freq.put(" č", 467);
-    freq.put(" Ē", 143);
-    freq.put(" ē", 282);
-    freq.put("ļķ", 37);
-    freq.put(" Āb", 22);
-    freq.put("ļļ", 89);
-    freq.put("ļģ", 54);
-    freq.put("ļī", 23);
-    freq.put(" Āf", 113);
-    freq.put("ļē", 91);
-    freq.put("Yo", 26);
-    freq.put(" Ād", 23);
-    freq.put("afa", 26);
-    freq.put("ļā", 656);
-    freq.put("aft", 53);
-    freq.put("afr", 25);
-    freq.put("ļš", 133);
-    freq.put("ļū", 169);
-    freq.put("ļņ", 176);
-    freq.put("ogļ", 73);
-    freq.put("da ", 3140);
-    freq.put("Ē", 143);
-    freq.put("ņu ", 2105);
-    freq.put("īdu", 170);
-    freq.put("lf", 344);
-    freq.put("lg", 521);
-    freq.put("ld", 1879);
-    freq.put("aiņ", 241);
-    freq.put("lb", 519);
-    freq.put("lc", 198);
-    freq.put("la", 14259);
-    freq.put("ln", 1238);
-    freq.put("lo", 5141);
-    freq.put("во", 24);
-    freq.put("lm", 668);
-    freq.put("ви", 41);
-    freq.put("lk", 789);
-    freq.put("lh", 104);
-    freq.put("li", 12111);
-    freq.put("lv", 2188);
-    freq.put("lt", 2348);
-    freq.put("lu", 3183);
-    freq.put("lr", 53);
-    freq.put("īdr", 32);
-    freq.put("lp", 774);
-    freq.put("tsv", 27);
-    freq.put("eut", 31);
-    freq.put("tst", 123);
-    freq.put("tsu", 24);
-    freq.put("lz", 417);
-    freq.put("ķo ", 45);
-    freq.put("eus", 24);
-    freq.put("ly", 68);
-    freq.put("dae", 523);
-    freq.put("dag", 58);
-    freq.put("ņus", 89);
-    freq.put("dab", 346);
-    freq.put("dac", 25);
-    freq.put("dal", 823);
-    freq.put("dam", 271);
-    freq.put("dan", 60);
-    freq.put("udž", 74);
-    freq.put("dai", 150);
-    freq.put("dak", 25);
-    freq.put("dat", 711);
-    freq.put("dau", 771);
-    freq.put("dap", 69);
-    freq.put("dar", 1471);
-    freq.put("das", 2562);
-    freq.put("l ", 908);
-    freq.put("pgā", 32);
-    freq.put("ts ", 6404);
-    freq.put("е ", 61);
-    freq.put("lfa", 193);
-    freq.put("Šād", 55);
-    freq.put("miņ", 109);
-    freq.put("Paš", 73);
-    freq.put("lfr", 22);
-    freq.put("rez", 384);
-    freq.put("emu", 60);
-    freq.put("rer", 29);
-    freq.put("aga", 835);
-    freq.put("Tur", 208);
-    freq.put("ūzu", 22);
-    freq.put("rev", 103);
-    freq.put("sfē", 192);
-    freq.put("ret", 778);
-    freq.put("reu", 25);
-    freq.put("rej", 271);
-    freq.put("rek", 208);
-    freq.put("rei", 822);
-    freq.put("Tul", 26);
-    freq.put("reo", 23);
-    freq.put("rel", 259);
-    freq.put("rem", 185);
-    freq.put("reb", 22);
-    freq.put("rec", 144);
-    freq.put("rea", 246);
-    freq.put("ref", 132);
-    freq.put("reg", 233);
-    freq.put("red", 582);
-    freq.put("ree", 37);
-    freq.put("quu", 124);
-    freq.put("qua", 27);
-    freq.put("que", 29);
-    freq.put("qui", 79);
-    freq.put("vīz", 153);
-    freq.put("ļā ", 507);
-    freq.put("vīr", 237);
-    freq.put("vīt", 70);
-    freq.put("šūn", 142);
-    freq.put("vīn", 52);
-    freq.put("re ", 399);
-    freq.put("Ž", 134);
-    freq.put("miķ", 31);
-    freq.put("vīg", 77);
-    freq.put("pga", 664);
-    freq.put("sās", 67);
-    freq.put("pgr", 35);
-    freq.put("daļ", 1548);
-    freq.put("eāl", 99);
-    freq.put("eān", 337);
-    freq.put("lū", 587);
-    freq.put("hēm", 45);
-    freq.put("lž", 37);
-    freq.put("eāt", 94);
-    freq.put("udr", 142);
-    freq.put("lā", 5128);
-    freq.put("ogu", 116);
-    freq.put("ogs", 183);
-    freq.put("ogr", 713);
-    freq.put("ogl", 96);
-    freq.put("ogo", 65);
-    freq.put("ogn", 46);
-    freq.put("ogi", 122);
-    freq.put("lē", 2235);
-    freq.put("ude", 104);
-    freq.put("daž", 632);
-    freq.put("udi", 282);
-    freq.put("oga", 163);
-    freq.put("udo", 32);
-    freq.put("lī", 4107);
-    freq.put("Pap", 26);
-    freq.put("Par", 468);
-    freq.put("Pas", 386);
-    freq.put("Pat", 54);
-    freq.put("Pau", 41);
-    freq.put("Pav", 27);
-    freq.put("Paz", 31);
-    freq.put("Pad", 103);
-    freq.put("Pak", 46);
-    freq.put("Pal", 61);
-    freq.put("Pan", 44);
-    freq.put("mik", 313);
-    freq.put("mij", 472);
-    freq.put("rež", 135);
-    freq.put("mil", 392);
-    freq.put("mio", 29);
-    freq.put("min", 1418);
-    freq.put("ة", 22);
-    freq.put("mic", 35);
-    freq.put("mie", 997);
-    freq.put("mid", 33);
-    freq.put("mig", 64);
-    freq.put("miz", 31);
-    freq.put("mis", 1428);
-    freq.put("reš", 174);
-    freq.put("mit", 475);
-    freq.put("lfī", 26);
-    freq.put("sfo", 68);
-    freq.put(" α", 37);
-    freq.put("reč", 45);
-    freq.put("reā", 83);
-    freq.put("sfa", 26);
-    freq.put("mi ", 937);
-    freq.put("reģ", 361);
-    freq.put("ksu", 120);
-    freq.put("Moz", 28);
-    freq.put(" iz", 4946);
-    freq.put(" с", 29);
-    freq.put("ksp", 156);
-    freq.put("aģe", 63);
-    freq.put("co ", 36);
-    freq.put("Mos", 23);
-    freq.put("Mor", 85);
-    freq.put(" ir", 14600);
-    freq.put(" is", 92);
-    freq.put(" it", 111);
-    freq.put(" iv", 22);
-    freq.put("Mot", 31);
-    freq.put("kse", 83);
-    freq.put(" ik", 136);
-    freq.put(" il", 190);
-    freq.put("Mon", 122);
-    freq.put(" in", 1344);
-    freq.put("Mol", 50);
-    freq.put("ksm", 118);
-    freq.put("ksl", 373);
-    freq.put("kso", 59);
-    freq.put("ksn", 205);
-    freq.put(" id", 175);
-    freq.put(" ie", 4455);
-    freq.put("ksk", 31);
-    freq.put(" ig", 94);
-    freq.put(" Р", 34);
-    freq.put(" С", 176);
-    freq.put(" Ф", 23);
-    freq.put("īcī", 70);
-    freq.put("šņu", 59);
-    freq.put(" о", 23);
-    freq.put("Nāc", 29);
-    freq.put("īcā", 40);
-    freq.put(" В", 29);
-    freq.put("Čeh", 54);
-    freq.put(" А", 25);
-    freq.put(" Б", 28);
-    freq.put("ks ", 1859);
-    freq.put(" i ", 44);
-    freq.put(" Л", 27);
-    freq.put(" О", 26);
-    freq.put(" М", 37);
-    freq.put(" Н", 52);
-    freq.put(" Iz", 255);
-    freq.put("rēm", 93);
-    freq.put("nēj", 281);
-    freq.put("nēm", 160);
-    freq.put("nēz", 87);
-    freq.put("nēs", 72);
-    freq.put("nēt", 549);
-    freq.put("āpē", 74);
-    freq.put("S", 5447);
-    freq.put(" Iv", 35);
-    freq.put("vri", 37);
-    freq.put("nē ", 308);
-    freq.put(" Il", 59);
-    freq.put("īce", 148);
-    freq.put("uža", 37);
-    freq.put("īca", 276);
-    freq.put("īci", 383);
-    freq.put("ohn", 25);
-    freq.put("oho", 29);
-    freq.put("užu", 32);
-    freq.put(" im", 336);
-    freq.put("uid", 83);
-    freq.put("oļu", 172);
-    freq.put("iba", 66);
-    freq.put("Ērg", 30);
-    freq.put("ai", 16755);
-    freq.put("ēpo", 30);
-    freq.put("ak", 5105);
-    freq.put("Hom", 27);
-    freq.put("ksē", 49);
-    freq.put("cop", 28);
-    freq.put("al", 13877);
-    freq.put("aģē", 26);
-    freq.put("cor", 52);
-    freq.put("ksā", 78);
-    freq.put("cot", 97);
-    freq.put("uis", 38);
-    freq.put("ar", 22107);
-    freq.put("au", 11606);
-    freq.put("ksī", 103);
-    freq.put("yst", 46);
-    freq.put(" Fr", 535);
-    freq.put(" Fu", 230);
-    freq.put("niņ", 82);
-    freq.put(" Fa", 110);
-    freq.put(" Fe", 226);
-    freq.put(" Fi", 190);
-    freq.put(" Fl", 70);
-    freq.put(" Fo", 211);
-    freq.put("io ", 204);
-    freq.put("nēš", 36);
-    freq.put("āpu", 44);
-    freq.put("āpi", 34);
-    freq.put("āpa", 64);
-    freq.put("āpe", 142);
-    freq.put("SO ", 60);
-    freq.put("cog", 76);
-    freq.put("iov", 23);
-    freq.put("iot", 138);
-    freq.put("ios", 84);
-    freq.put("ior", 31);
-    freq.put("iop", 23);
-    freq.put(" F ", 24);
-    freq.put("iom", 40);
-    freq.put("ēzi", 135);
-    freq.put("iok", 51);
-    freq.put("iog", 37);
-    freq.put("iod", 270);
-    freq.put("ioa", 45);
-    freq.put("com", 55);
-    freq.put("jīg", 32);
-    freq.put("buļ", 79);
-    freq.put("aņģ", 36);
-    freq.put("ļda", 25);
-    freq.put(" ķi", 28);
-    freq.put("ес", 31);
-    freq.put("ер", 46);
-    freq.put("adu", 517);
-    freq.put("adr", 151);
-    freq.put("ads", 379);
-    freq.put("bēt", 95);
-    freq.put("gma", 49);
-    freq.put("adz", 161);
-    freq.put("aņā", 78);
-    freq.put("bēr", 112);
-    freq.put("bēm", 82);
-    freq.put("ade", 142);
-    freq.put("bēj", 25);
-    freq.put("ada", 1586);
-    freq.put("adn", 49);
-    freq.put("ado", 609);
-    freq.put("adl", 29);
-    freq.put("adm", 304);
-    freq.put("м", 85);
-    freq.put("aņē", 59);
-    freq.put(" ا", 37);
-    freq.put("eļr", 165);
-    freq.put("eļv", 32);
-    freq.put("eļu", 421);
-    freq.put("eļi", 128);
-    freq.put("eļo", 286);
-    freq.put("eļa", 635);
-    freq.put("eļd", 25);
-    freq.put("eļe", 30);
-    freq.put("ен", 52);
-    freq.put("Mež", 62);
-    freq.put("Ū", 37);
-    freq.put("ad ", 480);
-    freq.put("nja", 39);
-    freq.put("ķi ", 217);
-    freq.put("njo", 28);
-    freq.put("uši", 230);
-    freq.put("ušo", 68);
-    freq.put("uša", 268);
-    freq.put("esv", 35);
-    freq.put("esu", 212);
-    freq.put("est", 937);
-    freq.put("ess", 340);
-    freq.put("esr", 33);
-    freq.put("esp", 338);
-    freq.put("piņ", 42);
-    freq.put("tma", 80);
-    freq.put("ese", 289);
-    freq.put("esc", 24);
-    freq.put("ubā", 54);
-    freq.put("esa", 337);
-    freq.put("eso", 286);
-    freq.put("esn", 43);
-    freq.put("esm", 388);
-    freq.put("esl", 110);
-    freq.put("esk", 278);
-    freq.put("esi", 374);
-    freq.put("tmo", 123);
-    freq.put("ķie", 106);
-    freq.put("ķid", 184);
-    freq.put("ķin", 48);
-    freq.put("ķim", 24);
-    freq.put("ķij", 62);
-    freq.put("ķis", 433);
-    freq.put("ķir", 550);
-    freq.put(" Ņu", 39);
-    freq.put("es ", 8988);
-    freq.put("eļļ", 42);
-    freq.put("В", 29);
-    freq.put("eļģ", 25);
-    freq.put("bu ", 1529);
-    freq.put("rct", 35);
-    freq.put("rco", 80);
-    freq.put("rch", 63);
-    freq.put("rci", 226);
-    freq.put("rce", 59);
-    freq.put("eļā", 42);
-    freq.put("rca", 34);
-    freq.put("aņo", 46);
-    freq.put(" Dz", 227);
-    freq.put("aņi", 61);
-    freq.put("aņd", 30);
-    freq.put("aņe", 35);
-    freq.put("Der", 41);
-    freq.put("Des", 26);
-    freq.put("aņa", 180);
-    freq.put("but", 64);
-    freq.put("Dei", 40);
-    freq.put("bun", 25);
-    freq.put("Dem", 45);
-    freq.put("bul", 250);
-    freq.put("adā", 819);
-    freq.put("aņu", 241);
-    freq.put("eļš", 95);
-    freq.put("bud", 74);
-    freq.put("Deg", 23);
-    freq.put("Iva", 31);
-    freq.put("j", 43124);
-    freq.put("ai ", 5352);
-    freq.put("eļņ", 24);
-    freq.put("adī", 860);
-    freq.put("jš ", 26);
-    freq.put("pij", 105);
-    freq.put("pil", 2275);
-    freq.put("pin", 133);
-    freq.put("pio", 305);
-    freq.put("pie", 4300);
-    freq.put("pig", 22);
-    freq.put("pir", 966);
-    freq.put("pis", 387);
-    freq.put("pit", 151);
-    freq.put("oal", 24);
-    freq.put("oak", 87);
-    freq.put("ubu", 76);
-    freq.put("tmē", 32);
-    freq.put("esē", 107);
-    freq.put(" Ņū", 40);
-    freq.put("pi ", 142);
-    freq.put("ube", 111);
-    freq.put("uba", 77);
-    freq.put("esā", 195);
-    freq.put("Act", 23);
-    freq.put("ubl", 522);
-    freq.put("ubi", 59);
-    freq.put("ubj", 31);
-    freq.put("urģ", 36);
-    freq.put("ušā", 109);
-    freq.put("esī", 292);
-    freq.put("mā", 4269);
-    freq.put("mē", 2975);
-    freq.put("urī", 204);
-    freq.put("kļū", 96);
-    freq.put(" Ģe", 106);
-    freq.put("mī", 785);
-    freq.put("Fiz", 28);
-    freq.put("Oke", 30);
-    freq.put("G ", 59);
-    freq.put("ل", 68);
-    freq.put("י", 25);
-    freq.put("Gv", 31);
-    freq.put("Gu", 165);
-    freq.put("mš", 154);
-    freq.put("Gr", 518);
-    freq.put("zdz", 26);
-    freq.put("mū", 945);
-    freq.put("Ge", 158);
-    freq.put("Ga", 460);
-    freq.put("Go", 173);
-    freq.put("Eze", 42);
-    freq.put("Gl", 88);
-    freq.put("zda", 107);
-    freq.put("Gi", 68);
-    freq.put("Čīl", 23);
-    freq.put("ērš", 71);
-    freq.put(" ke", 72);
-    freq.put(" ki", 241);
-    freq.put(" ko", 4523);
-    freq.put(" kl", 531);
-    freq.put(" km", 554);
-    freq.put(" kr", 1914);
-    freq.put(" kv", 261);
-    freq.put(" ku", 4521);
-    freq.put("enš", 59);
-    freq.put("Fin", 30);
-    freq.put("kuu", 25);
-    freq.put("kut", 36);
-    freq.put("Z ", 47);
-    freq.put("kur", 4124);
-    freq.put("kup", 73);
-    freq.put("kun", 181);
-    freq.put("kum", 1594);
-    freq.put("ain", 809);
-    freq.put("kuk", 32);
-    freq.put("kuj", 25);
-    freq.put("viņ", 404);
-    freq.put("enā", 1113);
-    freq.put("ς", 97);
-    freq.put("ērī", 91);
-    freq.put("enč", 28);
-    freq.put("enē", 213);
-    freq.put("ērķ", 215);
-    freq.put("tz", 181);
-    freq.put("Zo", 72);
-    freq.put("Zi", 554);
-    freq.put("Ze", 604);
-    freq.put("enī", 969);
-    freq.put("Za", 126);
-    freq.put("ļģi", 26);
-    freq.put("ērē", 61);
-    freq.put("Zu", 34);
-    freq.put("Zv", 222);
-    freq.put("ku ", 2253);
-    freq.put("kļu", 259);
-    freq.put("Kok", 40);
-    freq.put("zma", 918);
-    freq.put("Kom", 112);
-    freq.put("Kol", 59);
-    freq.put("Kon", 195);
-    freq.put("Kod", 29);
-    freq.put("kļa", 421);
-    freq.put("Gā", 24);
-    freq.put("Kop", 106);
-    freq.put("Kos", 58);
-    freq.put("Kor", 100);
-    freq.put("kļi", 136);
-    freq.put("m ", 14604);
-    freq.put("tm", 416);
-    freq.put("vpr", 25);
-    freq.put("Ķ", 255);
-    freq.put("vpa", 23);
-    freq.put("vpi", 79);
-    freq.put("me", 8257);
-    freq.put("md", 123);
-    freq.put("mg", 152);
-    freq.put("mf", 62);
-    freq.put("ma", 11255);
-    freq.put("ltu", 221);
-    freq.put("mb", 1027);
-    freq.put("mm", 568);
-    freq.put("ml", 84);
-    freq.put("mo", 3385);
-    freq.put("mn", 294);
-    freq.put("mi", 7529);
-    freq.put("mk", 81);
-    freq.put("mj", 254);
-    freq.put("mu", 4579);
-    freq.put("mt", 1499);
-    freq.put("mv", 67);
-    freq.put("mp", 1937);
-    freq.put("ms", 4163);
-    freq.put("ta", 17648);
-    freq.put("mz", 26);
-    freq.put("ērb", 56);
-    freq.put("ēra", 721);
-    freq.put("ērd", 31);
-    freq.put("ēre", 37);
-    freq.put("ērk", 23);
-    freq.put("ēri", 669);
-    freq.put("ērn", 117);
-    freq.put("ēro", 293);
-    freq.put("ērs", 217);
-    freq.put("ērp", 23);
-    freq.put("ērv", 101);
-    freq.put("ērt", 389);
-    freq.put("ēru", 97);
-    freq.put("ērz", 31);
-    freq.put("ena", 2039);
-    freq.put("enb", 97);
-    freq.put("enc", 397);
-    freq.put(" kņ", 49);
-    freq.put("ene", 1004);
-    freq.put("Zī", 28);
-    freq.put("eni", 1040);
-    freq.put("enk", 331);
-    freq.put("enl", 88);
-    freq.put("enm", 45);
-    freq.put("enn", 52);
-    freq.put("eno", 1358);
-    freq.put("enp", 40);
-    freq.put("enr", 79);
-    freq.put("ens", 2464);
-    freq.put("ent", 2847);
-    freq.put("enu", 734);
-    freq.put("env", 1058);
-    freq.put("m2", 53);
-    freq.put("enz", 110);
-    freq.put("kuš", 110);
-    freq.put("ēr ", 112);
-    freq.put("II ", 185);
-    freq.put(" kļ", 152);
-    freq.put("en ", 402);
-    freq.put(" kā", 2571);
-    freq.put("rīg", 665);
-    freq.put("ltn", 68);
-    freq.put(" Ūd", 31);
-    freq.put("kuģ", 144);
-    freq.put(" Hu", 54);
-    freq.put(" Hi", 232);
-    freq.put(" Ho", 304);
-    freq.put(" Ha", 441);
-    freq.put("toņ", 39);
-    freq.put(" He", 345);
-    freq.put("CH ", 201);
-    freq.put("imb", 308);
-    freq.put("ime", 522);
-    freq.put("imf", 36);
-    freq.put("aļv", 40);
-    freq.put("cle", 31);
-    freq.put("aļu", 335);
-    freq.put("imo", 88);
-    freq.put("imn", 195);
-    freq.put("imp", 593);
-    freq.put("ims", 83);
-    freq.put("āvo", 161);
-    freq.put("imu", 237);
-    freq.put("imt", 1282);
-    freq.put("āvj", 71);
-    freq.put("aļi", 184);
-    freq.put("āvd", 67);
-    freq.put("āve", 205);
-    freq.put("toš", 435);
-    freq.put("āva", 113);
-    freq.put("aļa", 796);
-    freq.put("SA ", 43);
-    freq.put("viā", 31);
-    freq.put(" H ", 140);
-    freq.put("im ", 312);
-    freq.put("toļ", 81);
-    freq.put("čem", 249);
-    freq.put("čet", 144);
-    freq.put("čer", 57);
-    freq.put("āv ", 562);
-    freq.put("aļ ", 30);
-    freq.put("raš", 66);
-    freq.put("šno", 38);
-    freq.put("šni", 32);
-    freq.put("Itā", 112);
-    freq.put("raž", 305);
-    freq.put("nio", 28);
-    freq.put("gol", 71);
-    freq.put("gon", 119);
-    freq.put("god", 68);
-    freq.put("gog", 33);
-    freq.put("ajs", 38);
-    freq.put("aju", 73);
-    freq.put("aji", 783);
-    freq.put("ašv", 86);
-    freq.put("ajo", 724);
-    freq.put("aja", 469);
-    freq.put("gov", 43);
-    freq.put("aje", 41);
-    freq.put("gos", 60);
-    freq.put("gor", 256);
-    freq.put("sēk", 27);
-    freq.put("sēj", 316);
-    freq.put("raķ", 99);
-    freq.put("W", 365);
-    freq.put("sēd", 44);
-    freq.put("raļ", 69);
-    freq.put("Vid", 291);
-    freq.put("Vie", 179);
-    freq.put("Vik", 70);
-    freq.put("Vin", 38);
-    freq.put("go ", 413);
-    freq.put("Vil", 141);
-    freq.put("Vir", 65);
-    freq.put("Vis", 230);
-    freq.put("raē", 35);
-    freq.put("Vit", 48);
-    freq.put("be ", 419);
-    freq.put("nhe", 54);
-    freq.put("nha", 38);
-    freq.put("nhi", 24);
-    freq.put("nir", 27);
-    freq.put("К", 30);
-    freq.put("imš", 47);
-    freq.put("tor", 2083);
-    freq.put("tos", 547);
-    freq.put("top", 326);
-    freq.put("tov", 52);
-    freq.put("tot", 998);
-    freq.put("toj", 671);
-    freq.put("tok", 294);
-    freq.put("ton", 588);
-    freq.put("tol", 346);
-    freq.put("tom", 540);
-    freq.put("tob", 116);
-    freq.put("toc", 137);
-    freq.put("tof", 38);
-    freq.put("tog", 69);
-    freq.put("tod", 192);
-    freq.put("imā", 119);
-    freq.put("Fut", 176);
-    freq.put("aļē", 89);
-    freq.put("āvē", 149);
-    freq.put("imē", 165);
-    freq.put("lūt", 49);
-    freq.put("aļā", 556);
-    freq.put(" Hē", 35);
-    freq.put("aļķ", 22);
-    freq.put("imī", 127);
-    freq.put("āvī", 87);
-    freq.put(" Hā", 28);
-    freq.put("raf", 152);
-    freq.put("rag", 283);
-    freq.put("rad", 1141);
-    freq.put("lbr", 107);
-    freq.put("rab", 128);
-    freq.put("žn", 24);
-    freq.put("ran", 1071);
-    freq.put("ral", 520);
-    freq.put("ram", 1238);
-    freq.put("raj", 717);
-    freq.put("rak", 1567);
-    freq.put("rah", 53);
-    freq.put("rai", 643);
-    freq.put("rav", 242);
-    freq.put("rat", 1049);
-    freq.put("rau", 810);
-    freq.put("rar", 28);
-    freq.put("ras", 4121);
-    freq.put("rap", 69);
-    freq.put("bs ", 212);
-    freq.put("rax", 25);
-    freq.put("goš", 45);
-    freq.put("Sys", 26);
-    freq.put("Viļ", 33);
-    freq.put("Viņ", 206);
-    freq.put("thi", 29);
-    freq.put("ra ", 3874);
-    freq.put("bst", 77);
-    freq.put("bso", 54);
-    freq.put("bsk", 33);
-    freq.put("bse", 25);
-    freq.put("žre", 77);
-    freq.put(" mū", 750);
-    freq.put("pka", 321);
-    freq.put("īgu", 405);
-    freq.put("pko", 110);
-    freq.put("oci", 581);
-    freq.put("Bio", 33);
-    freq.put("Bil", 27);
-    freq.put("oco", 46);
-    freq.put("oca", 32);
-    freq.put("rsp", 142);
-    freq.put("Bie", 67);
-    freq.put("oce", 578);
-    freq.put("abr", 109);
-    freq.put("ocy", 51);
-    freq.put("Biz", 31);
-    freq.put("Bir", 42);
-    freq.put("р", 268);
-    freq.put(" mī", 111);
-    freq.put(" āp", 26);
-    freq.put(" mā", 826);
-    freq.put(" mē", 678);
-    freq.put("īņ", 368);
-    freq.put("nux", 29);
-    freq.put("Pet", 30);
-    freq.put("nus", 295);
-    freq.put("Per", 109);
-    freq.put("Pel", 45);
-    freq.put("Pen", 59);
-    freq.put("num", 139);
-    freq.put("nuk", 32);
-    freq.put("Pek", 25);
-    freq.put("mut", 78);
-    freq.put("īš", 592);
-    freq.put("mus", 558);
-    freq.put("mur", 78);
-    freq.put("vvē", 32);
-    freq.put("fāt", 30);
-    freq.put("muz", 106);
-    freq.put("mug", 77);
-    freq.put("на ", 32);
-    freq.put("mum", 318);
-    freq.put("mul", 121);
-    freq.put("mun", 151);
-    freq.put("mui", 109);
-    freq.put("lša", 104);
-    freq.put("īč", 97);
-    freq.put("tēš", 90);
-    freq.put("zbr", 68);
-    freq.put("lšu", 27);
-    freq.put("nu ", 3157);
-    freq.put("īģ", 38);
-    freq.put("mu ", 2868);
-    freq.put("īļ", 122);
-    freq.put(" me", 1393);
-    freq.put(" ma", 1802);
-    freq.put(" mm", 35);
-    freq.put(" mo", 718);
-    freq.put(" mi", 1711);
-    freq.put(" mu", 445);
-    freq.put("Rēz", 54);
-    freq.put("ūsu", 37);
-    freq.put("ūst", 237);
-    freq.put("ί", 37);
-    freq.put("ūsd", 328);
-    freq.put("ūsm", 68);
-    freq.put("ūsi", 58);
-    freq.put(" m ", 158);
-    freq.put("āga", 57);
-    freq.put("ocē", 27);
-    freq.put("TV ", 22);
-    freq.put("ocī", 54);
-    freq.put("n", 95937);
-    freq.put("pkā", 95);
-    freq.put("ūs ", 24);
-    freq.put("tē ", 318);
-    freq.put("īc", 960);
-    freq.put("īb", 5893);
-    freq.put("īg", 4125);
-    freq.put("īd", 2819);
-    freq.put("īk", 663);
-    freq.put("īj", 1202);
-    freq.put("īn", 1786);
-    freq.put("īm", 2002);
-    freq.put("īl", 317);
-    freq.put("īs", 1871);
-    freq.put("īr", 757);
-    freq.put("īp", 453);
-    freq.put("muš", 43);
-    freq.put("īv", 3050);
-    freq.put("īt", 3369);
-    freq.put("īz", 500);
-    freq.put("tēn", 44);
-    freq.put("tēl", 335);
-    freq.put("tēm", 821);
-    freq.put("tēj", 348);
-    freq.put("tēk", 46);
-    freq.put("zbū", 81);
-    freq.put("tēz", 37);
-    freq.put("rne", 333);
-    freq.put("tēv", 63);
-    freq.put("tēt", 204);
-    freq.put("tēr", 175);
-    freq.put("tēs", 73);
-    freq.put("vva", 94);
-    freq.put("ī ", 3304);
-    freq.put("muļ", 23);
-    freq.put("lce", 40);
-    freq.put("ēte", 130);
-    freq.put("īgs", 407);
-    freq.put(" ād", 29);
-    freq.put("ēta", 1832);
-    freq.put("ētn", 71);
-    freq.put("ēto", 79);
-    freq.put("ēti", 598);
-    freq.put("ētk", 66);
-    freq.put("īga", 1676);
-    freq.put("ētu", 414);
-    freq.put(" ār", 250);
-    freq.put(" āt", 154);
-    freq.put("ētr", 34);
-    freq.put("ēts", 396);
-    freq.put("īgi", 496);
-    freq.put("īgo", 298);
-    freq.put("ķēd", 39);
-    freq.put("elj", 22);
-    freq.put("elk", 50);
-    freq.put("eli", 980);
-    freq.put("eln", 210);
-    freq.put("elo", 182);
-    freq.put("ell", 209);
-    freq.put("elm", 98);
-    freq.put("elb", 111);
-    freq.put("ela", 1449);
-    freq.put("elf", 85);
-    freq.put("elg", 122);
-    freq.put("eld", 81);
-    freq.put("ele", 1367);
-    freq.put("elz", 306);
-    freq.put("els", 567);
-    freq.put("elp", 198);
-    freq.put("elv", 59);
-    freq.put("elt", 409);
-    freq.put("elu", 464);
-    freq.put("ēt ", 252);
-    freq.put("D", 3059);
-    freq.put("OH ", 75);
-    freq.put("zēš", 55);
-    freq.put("rip", 74);
-    freq.put("ahā", 45);
-    freq.put("el ", 113);
-    freq.put("hs ", 112);
-    freq.put("āte", 469);
-    freq.put("āta", 627);
-    freq.put(" Ju", 233);
-    freq.put("āto", 42);
-    freq.put("cēš", 42);
-    freq.put("dži", 70);
-    freq.put("āti", 825);
-    freq.put("viz", 69);
-    freq.put(" Jo", 237);
-    freq.put("ātu", 408);
-    freq.put("ātr", 318);
-    freq.put("āts", 679);
-    freq.put(" Je", 179);
-    freq.put("tiņ", 164);
-    freq.put(" Ja", 604);
-    freq.put("zņe", 149);
-    freq.put("ick", 37);
-    freq.put("ici", 543);
-    freq.put("nū", 52);
-    freq.put("ico", 88);
-    freq.put("icl", 22);
-    freq.put("nš", 154);
-    freq.put("ica", 238);
-    freq.put("ice", 118);
-    freq.put("Hu", 55);
-    freq.put("rio", 330);
-    freq.put("Hi", 235);
-    freq.put("Ho", 305);
-    freq.put("nž", 71);
-    freq.put("ics", 32);
-    freq.put("icr", 40);
-    freq.put("Ha", 442);
-    freq.put("icu", 63);
-    freq.put("He", 346);
-    freq.put("nč", 276);
-    freq.put("āt ", 234);
-    freq.put("nā", 8240);
-    freq.put("āst", 95);
-    freq.put("hst", 50);
-    freq.put("nē", 1546);
-    freq.put(" J ", 40);
-    freq.put("nī", 2204);
-    freq.put("ic ", 183);
-    freq.put("H ", 468);
-    freq.put("aha", 93);
-    freq.put("ahi", 35);
-    freq.put("šla", 74);
-    freq.put("ahr", 22);
-    freq.put("ahs", 67);
-    freq.put("zē ", 172);
-    freq.put("aht", 36);
-    freq.put(" С ", 34);
-    freq.put("git", 41);
-    freq.put("gis", 49);
-    freq.put("elš", 89);
-    freq.put("ātn", 541);
-    freq.put("gie", 240);
-    freq.put("gin", 40);
-    freq.put("zēt", 500);
-    freq.put("ah ", 32);
-    freq.put("zēr", 47);
-    freq.put("zēs", 27);
-    freq.put("elā", 1125);
-    freq.put("ētī", 178);
-    freq.put("zēl", 36);
-    freq.put("elē", 112);
-    freq.put("zēj", 212);
-    freq.put("ura", 1608);
-    freq.put("elī", 103);
-    freq.put("uņ", 333);
-    freq.put("ētā", 792);
-    freq.put("Vol", 134);
-    freq.put("īgā", 813);
-    freq.put("Vor", 36);
-    freq.put("gi ", 519);
-    freq.put("cēm", 41);
-    freq.put("cēl", 179);
-    freq.put("cēn", 32);
-    freq.put("nni", 41);
-    freq.put("cēj", 228);
-    freq.put("nne", 83);
-    freq.put("nna", 118);
-    freq.put("ķu ", 470);
-    freq.put(" Jū", 171);
-    freq.put("cēt", 118);
-    freq.put("ānā", 124);
-    freq.put("nh", 159);
-    freq.put("ni", 10637);
-    freq.put("nj", 103);
-    freq.put("nk", 1409);
-    freq.put("nl", 178);
-    freq.put("nm", 119);
-    freq.put("nn", 366);
-    freq.put("no", 13676);
-    freq.put("tit", 273);
-    freq.put("na", 11100);
-    freq.put("nb", 173);
-    freq.put("nc", 1308);
-    freq.put("nd", 3610);
-    freq.put("ne", 6367);
-    freq.put("nf", 496);
-    freq.put("ng", 2033);
-    freq.put("til", 601);
-    freq.put("ny", 68);
-    freq.put("nz", 252);
-    freq.put("tio", 312);
-    freq.put("tij", 940);
-    freq.put("ES ", 40);
-    freq.put("np", 87);
-    freq.put("tie", 4403);
-    freq.put("nr", 301);
-    freq.put("ns", 6634);
-    freq.put("nt", 6816);
-    freq.put("nu", 3766);
-    freq.put("nv", 1299);
-    freq.put("tic", 277);
-    freq.put("ķus", 35);
-    freq.put("ll", 864);
-    freq.put("Hē", 35);
-    freq.put("cē ", 120);
-    freq.put("nn ", 32);
-    freq.put("ich", 68);
-    freq.put("krū", 64);
-    freq.put("icē", 211);
-    freq.put("Hā", 28);
-    freq.put("icī", 260);
-    freq.put("ātā", 439);
-    freq.put("n ", 12333);
-    freq.put(" Jē", 211);
-    freq.put("ātē", 54);
-    freq.put(" Jā", 93);
-    freq.put("džu", 100);
-    freq.put("roi", 35);
-    freq.put("roj", 521);
-    freq.put("rok", 423);
-    freq.put("rol", 216);
-    freq.put("rom", 435);
-    freq.put("ron", 900);
-    freq.put("roo", 23);
-    freq.put("lls", 27);
-    freq.put("roa", 30);
-    freq.put("rob", 624);
-    freq.put("roc", 512);
-    freq.put("rod", 1744);
-    freq.put("roe", 58);
-    freq.put("rof", 236);
-    freq.put("rog", 545);
-    freq.put("dže", 114);
-    freq.put("roz", 140);
-    freq.put("llo", 82);
-    freq.put("rop", 1052);
-    freq.put("ror", 63);
-    freq.put("ros", 500);
-    freq.put("rot", 765);
-    freq.put("rou", 41);
-    freq.put("rov", 266);
-    freq.put("Dab", 33);
-    freq.put("Dan", 52);
-    freq.put("Dat", 63);
-    freq.put("Dau", 261);
-    freq.put("Dar", 42);
-    freq.put("Š", 1043);
-    freq.put("ro ", 308);
-    freq.put("Cil", 47);
-    freq.put("Cir", 22);
-    freq.put("Cit", 38);
-    freq.put("ll ", 123);
-    freq.put("ict", 31);
-    freq.put("Res", 30);
-    freq.put("Rep", 321);
-    freq.put("pme", 52);
-    freq.put("Rei", 58);
-    freq.put("Ren", 27);
-    freq.put("pma", 68);
-    freq.put("Rec", 23);
-    freq.put("Red", 33);
-    freq.put("ı", 70);
-    freq.put("gļū", 52);
-    freq.put("tī", 5903);
-    freq.put("zsā", 72);
-    freq.put("zīl", 49);
-    freq.put("zīm", 1070);
-    freq.put("zīj", 29);
-    freq.put("Mil", 64);
-    freq.put("neo", 76);
-    freq.put("zīg", 242);
-    freq.put("zīb", 324);
-    freq.put("zīc", 55);
-    freq.put("zīt", 108);
-    freq.put("zīv", 1468);
-    freq.put("zīs", 345);
-    freq.put("roš", 448);
-    freq.put("rož", 23);
-    freq.put("О", 27);
-    freq.put("ngt", 36);
-    freq.put("cīg", 288);
-    freq.put("cīb", 793);
-    freq.put("msu", 24);
-    freq.put("cīn", 190);
-    freq.put("mss", 33);
-    freq.put("cīk", 97);
-    freq.put("Ogr", 36);
-    freq.put("cīt", 112);
-    freq.put("msk", 121);
-    freq.put("Daž", 59);
-    freq.put("msa", 67);
-    freq.put("cīz", 63);
-    freq.put("roī", 36);
-    freq.put("obj", 208);
-    freq.put("cī ", 27);
-    freq.put("džā", 37);
-    freq.put("ms ", 3789);
-    freq.put(" on", 40);
-    freq.put("Mih", 26);
-    freq.put(" ol", 76);
-    freq.put("tiķ", 219);
-    freq.put(" ok", 512);
-    freq.put("Min", 133);
-    freq.put(" of", 307);
-    freq.put(" og", 135);
-    freq.put("Mic", 50);
-    freq.put("Mie", 24);
-    freq.put(" α ", 31);
-    freq.put(" ot", 330);
-    freq.put("Mir", 23);
-    freq.put(" or", 1147);
-    freq.put(" os", 114);
-    freq.put(" op", 221);
-    freq.put("pmū", 26);
-    freq.put("Reģ", 30);
-    freq.put("lmi", 75);
-    freq.put("pmē", 120);
-    freq.put("zīš", 29);
-    freq.put("pmā", 37);
-    freq.put("Zie", 391);
-    freq.put("lsē", 1122);
-    freq.put("Zin", 62);
-    freq.put("Zil", 29);
-    freq.put("gta", 111);
-    freq.put("TP ", 38);
-    freq.put(" ca", 410);
-    freq.put("gto", 46);
-    freq.put("gts", 50);
-    freq.put("gtu", 35);
-    freq.put("و", 37);
-    freq.put("ppl", 37);
-    freq.put("gt ", 56);
-    freq.put("āzē", 88);
-    freq.put("ppu", 25);
-    freq.put(" Lā", 40);
-    freq.put("prū", 42);
-    freq.put("žā ", 38);
-    freq.put("ий", 38);
-    freq.put(" Lē", 28);
-    freq.put("ин", 34);
-    freq.put("ēvs", 32);
-    freq.put("ejn", 76);
-    freq.put("ejo", 81);
-    freq.put("eji", 80);
-    freq.put(" Lī", 215);
-    freq.put("eja", 808);
-    freq.put("eju", 260);
-    freq.put("ejv", 23);
-    freq.put("ejs", 177);
-    freq.put("žās", 33);
-    freq.put("φ", 23);
-    freq.put("prī", 60);
-    freq.put("anī", 82);
-    freq.put("žād", 455);
-    freq.put("žāk", 194);
-    freq.put("žām", 34);
-    freq.put("prā", 125);
-    freq.put("anā", 994);
-    freq.put("anč", 183);
-    freq.put(" Lū", 27);
-    freq.put("ич", 34);
-    freq.put("prē", 65);
-    freq.put("anē", 182);
-    freq.put("С ", 41);
-    freq.put("hu ", 43);
-    freq.put("āze", 265);
-    freq.put("āzu", 50);
-    freq.put("iam", 59);
-    freq.put("ial", 119);
-    freq.put("ian", 220);
-    freq.put("iak", 26);
-    freq.put("šīs", 96);
-    freq.put("šīr", 28);
-    freq.put("iag", 25);
-    freq.put("ča ", 145);
-    freq.put("šīn", 152);
-    freq.put("iaz", 26);
-    freq.put("iat", 108);
-    freq.put("ias", 27);
-    freq.put("hum", 50);
-    freq.put("ia ", 270);
-    freq.put("r", 127678);
-    freq.put("šī ", 103);
-    freq.put("and", 1589);
-    freq.put("ane", 123);
-    freq.put("ang", 611);
-    freq.put("pra", 501);
-    freq.put("ana", 3035);
-    freq.put("anc", 401);
-    freq.put("anl", 23);
-    freq.put("ann", 140);
-    freq.put("ano", 394);
-    freq.put("anh", 30);
-    freq.put("ani", 1185);
-    freq.put("anj", 22);
-    freq.put("ank", 275);
-    freq.put("pru", 34);
-    freq.put("anu", 718);
-    freq.put("anv", 34);
-    freq.put("šre", 66);
-    freq.put("anr", 123);
-    freq.put("ans", 674);
-    freq.put("anz", 65);
-    freq.put("ML ", 46);
-    freq.put("е", 335);
-    freq.put("an ", 784);
-    freq.put("ejā", 89);
-    freq.put(" Le", 272);
-    freq.put(" La", 2100);
-    freq.put(" Lo", 254);
-    freq.put(" Li", 1175);
-    freq.put(" Lu", 187);
-    freq.put("ēvē", 143);
-    freq.put(" Ly", 24);
-    freq.put("pož", 46);
-    freq.put("tka", 280);
-    freq.put("tko", 27);
-    freq.put("tkl", 212);
-    freq.put("IP ", 41);
-    freq.put("tki", 59);
-    freq.put("nla", 94);
-    freq.put("tku", 37);
-    freq.put("nle", 25);
-    freq.put("zēm", 74);
-    freq.put("dy ", 22);
-    freq.put("ss ", 875);
-    freq.put("poš", 65);
-    freq.put("ч ", 32);
-    freq.put("poļ", 35);
-    freq.put("H", 1820);
-    freq.put("ssv", 26);
-    freq.put("ssp", 22);
-    freq.put("sso", 61);
-    freq.put("ssi", 62);
-    freq.put("ssk", 34);
-    freq.put("sse", 108);
-    freq.put("ssa", 247);
-    freq.put("rms", 203);
-    freq.put("rmu", 139);
-    freq.put("lnu", 164);
-    freq.put("lnv", 34);
-    freq.put("lns", 198);
-    freq.put("lno", 58);
-    freq.put("rma", 773);
-    freq.put("lni", 256);
-    freq.put("lnk", 23);
-    freq.put("rme", 418);
-    freq.put("lne", 55);
-    freq.put("rmk", 26);
-    freq.put("rmi", 499);
-    freq.put("ļš ", 124);
-    freq.put("rmo", 304);
-    freq.put("nno", 31);
-    freq.put("uci", 96);
-    freq.put("poz", 106);
-    freq.put("pot", 153);
-    freq.put("por", 630);
-    freq.put("pos", 221);
-    freq.put("pop", 247);
-    freq.put("pon", 210);
-    freq.put("pol", 767);
-    freq.put("poj", 154);
-    freq.put("pok", 25);
-    freq.put("pog", 70);
-    freq.put("pod", 51);
-    freq.put("Bur", 79);
-    freq.put("Bul", 41);
-    freq.put("po ", 65);
-    freq.put("tkā", 47);
-    freq.put("seg", 72);
-    freq.put("ļum", 33);
-    freq.put("okr", 192);
-    freq.put("oku", 309);
-    freq.put("okt", 89);
-    freq.put("б", 51);
-    freq.put("I ", 434);
-    freq.put("ātņ", 41);
-    freq.put("Dān", 37);
-    freq.put("yo", 86);
-    freq.put("XX ", 24);
-    freq.put("Dār", 22);
-    freq.put("rmē", 77);
-    freq.put("Iz", 255);
-    freq.put("tiz", 110);
-    freq.put("Is", 56);
-    freq.put("Ir", 159);
-    freq.put("It", 130);
-    freq.put("Iv", 35);
-    freq.put("Ik", 26);
-    freq.put("rmā", 762);
-    freq.put("Im", 77);
-    freq.put("Il", 62);
-    freq.put("In", 597);
-    freq.put("oke", 542);
-    freq.put("Ib", 23);
-    freq.put("Ie", 161);
-    freq.put("Id", 25);
-    freq.put("Ig", 193);
-    freq.put("rāņ", 44);
-    freq.put(" qu", 23);
-    freq.put("tip", 378);
-    freq.put("oki", 85);
-    freq.put("tir", 195);
-    freq.put("tis", 2277);
-    freq.put("īkš", 28);
-    freq.put("ļņu", 56);
-    freq.put("rāš", 23);
-    freq.put("aīs", 153);
-    freq.put("tin", 593);
-    freq.put("jēj", 29);
-    freq.put("okl", 145);
-    freq.put("ļņa", 76);
-    freq.put("ļņi", 27);
-    freq.put("juš", 280);
-    freq.put("tik", 1958);
-    freq.put("tid", 70);
-    freq.put("ehā", 103);
-    freq.put("tif", 82);
-    freq.put("rpa", 43);
-    freq.put("tig", 30);
-    freq.put("Pil", 83);
-    freq.put("Pie", 153);
-    freq.put("tia", 75);
-    freq.put("dēj", 602);
-    freq.put("Pir", 196);
-    freq.put("Pit", 22);
-    freq.put("ehī", 26);
-    freq.put("nīb", 728);
-    freq.put("nīc", 430);
-    freq.put("nīd", 58);
-    freq.put("nīg", 331);
-    freq.put("и ", 54);
-    freq.put("Kur", 259);
-    freq.put("nīn", 27);
-    freq.put("Sēr", 28);
-    freq.put("Sēl", 24);
-    freq.put("alt", 791);
-    freq.put("Kul", 67);
-    freq.put("nīt", 121);
-    freq.put("gvi", 84);
-    freq.put("igž", 89);
-    freq.put("gva", 31);
-    freq.put("vze", 33);
-    freq.put("o ", 13523);
-    freq.put("igū", 45);
-    freq.put("nī ", 207);
-    freq.put("und", 348);
-    freq.put("ātī", 67);
-    freq.put("igā", 206);
-    freq.put("zcī", 73);
-    freq.put("oo", 225);
-    freq.put("on", 9439);
-    freq.put("om", 4560);
-    freq.put("ol", 6437);
-    freq.put("ok", 3012);
-    freq.put("oj", 3579);
-    freq.put("oi", 175);
-    freq.put("oh", 231);
-    freq.put("og", 1772);
-    freq.put("of", 937);
-    freq.put("oe", 196);
-    freq.put("od", 5344);
-    freq.put("oc", 1480);
-    freq.put("ob", 1666);
-    freq.put("oa", 231);
-    freq.put("rvē", 141);
-    freq.put("oz", 1358);
-    freq.put("oy", 26);
-    freq.put("ox", 43);
-    freq.put("ow", 104);
-    freq.put("ov", 1717);
-    freq.put("ou", 258);
-    freq.put("ot", 8233);
-    freq.put("os", 7017);
-    freq.put("or", 8642);
-    freq.put("op", 3592);
-    freq.put("ju ", 3050);
-    freq.put("īks", 151);
-    freq.put("īkl", 241);
-    freq.put("īko", 106);
-    freq.put("dol", 232);
-    freq.put("Jum", 22);
-    freq.put("īka", 42);
-    freq.put("rāf", 309);
-    freq.put("rāg", 38);
-    freq.put("rād", 816);
-    freq.put("rāb", 117);
-    freq.put("rāc", 432);
-    freq.put("rān", 164);
-    freq.put(" nu", 108);
-    freq.put("rāl", 881);
-    freq.put("rām", 402);
-    freq.put("rāj", 67);
-    freq.put("rāk", 869);
-    freq.put("rāv", 135);
-    freq.put("γ", 49);
-    freq.put("rār", 31);
-    freq.put("rās", 553);
-    freq.put("rāp", 24);
-    freq.put("ehn", 276);
-    freq.put("eho", 29);
-    freq.put("rāz", 74);
-    freq.put("ehi", 58);
-    freq.put("jum", 2601);
-    freq.put("jur", 89);
-    freq.put("jus", 320);
-    freq.put("zšķ", 85);
-    freq.put("rā ", 1557);
-    freq.put("zņē", 241);
-    freq.put("nīš", 44);
-    freq.put("rva", 432);
-    freq.put("cba", 35);
-    freq.put("rve", 210);
-    freq.put("oti", 1556);
-    freq.put("rvi", 327);
-    freq.put("rvs", 22);
-    freq.put("rvu", 63);
-    freq.put("unk", 486);
-    freq.put("sāk", 643);
-    freq.put("sāj", 28);
-    freq.put("igu", 73);
-    freq.put("igs", 27);
-    freq.put("igr", 58);
-    freq.put("sām", 92);
-    freq.put("sāl", 103);
-    freq.put("sāc", 43);
-    freq.put("oģ", 891);
-    freq.put("igz", 407);
-    freq.put("ر", 50);
-    freq.put("ige", 58);
-    freq.put("oļ", 231);
-    freq.put("iga", 284);
-    freq.put("ota", 947);
-    freq.put("igo", 33);
-    freq.put("ign", 102);
-    freq.put("igm", 40);
-    freq.put("igl", 56);
-    freq.put("igi", 68);
-    freq.put("igh", 40);
-    freq.put("Āfr", 113);
-    freq.put("oņ", 431);
-    freq.put("ş", 30);
-    freq.put("ti ", 2942);
-    freq.put("sā ", 333);
-    freq.put("oš", 2487);
-    freq.put("ož", 188);
-    freq.put(" − ", 35);
-    freq.put("aln", 628);
-    freq.put("alo", 1383);
-    freq.put("all", 272);
-    freq.put("alm", 121);
-    freq.put("alk", 231);
-    freq.put("pti", 177);
-    freq.put("ali", 1208);
-    freq.put("alf", 96);
-    freq.put("alg", 97);
-    freq.put("pte", 121);
-    freq.put("ale", 584);
-    freq.put("alb", 172);
-    freq.put("alc", 61);
-    freq.put("pta", 564);
-    freq.put("ala", 1330);
-    freq.put("špi", 125);
-    freq.put("rkš", 28);
-    freq.put("alv", 1226);
-    freq.put("ptv", 61);
-    freq.put("fa ", 173);
-    freq.put("alu", 519);
-    freq.put("als", 1977);
-    freq.put("alp", 208);
-    freq.put("ots", 723);
-    freq.put("džs", 35);
-    freq.put(" N ", 55);
-    freq.put("faz", 23);
-    freq.put("far", 40);
-    freq.put("fas", 28);
-    freq.put("al ", 300);
-    freq.put("fak", 97);
-    freq.put("fai", 36);
-    freq.put("fan", 93);
-    freq.put("llu", 78);
-    freq.put("fal", 45);
-    freq.put("fab", 102);
-    freq.put(" Ni", 163);
-    freq.put("gāļ", 23);
-    freq.put(" No", 486);
-    freq.put(" Na", 328);
-    freq.put(" Ne", 334);
-    freq.put("lli", 182);
-    freq.put("rkā", 93);
-    freq.put("dža", 84);
-    freq.put(" Nu", 37);
-    freq.put("teh", 268);
-    freq.put("tei", 672);
-    freq.put("tej", 47);
-    freq.put("kš ", 48);
-    freq.put("tel", 542);
-    freq.put("tem", 480);
-    freq.put("ten", 587);
-    freq.put("teo", 285);
-    freq.put("teb", 48);
-    freq.put("tec", 92);
-    freq.put("ted", 53);
-    freq.put("nbu", 52);
-    freq.put("teg", 123);
-    freq.put("tep", 65);
-    freq.put("ter", 2575);
-    freq.put("tes", 1146);
-    freq.put("tet", 45);
-    freq.put("lla", 140);
-    freq.put("nbe", 61);
-    freq.put("sug", 619);
-    freq.put("sud", 63);
-    freq.put("sub", 69);
-    freq.put("sun", 42);
-    freq.put("sum", 128);
-    freq.put("sul", 139);
-    freq.put("suv", 25);
-    freq.put("sus", 127);
-    freq.put("sur", 82);
-    freq.put("sup", 49);
-    freq.put("kša", 264);
-    freq.put("kšd", 149);
-    freq.put("kšk", 106);
-    freq.put("ō", 55);
-    freq.put("kšn", 32);
-    freq.put("kšm", 75);
-    freq.put("kšl", 23);
-    freq.put("kšs", 52);
-    freq.put("kšp", 164);
-    freq.put("kšu", 53);
-    freq.put("kšt", 50);
-    freq.put("Džu", 25);
-    freq.put("su ", 834);
-    freq.put("Dže", 88);
-    freq.put("Džo", 145);
-    freq.put("rkt", 251);
-    freq.put("rku", 265);
-    freq.put("ptū", 22);
-    freq.put("alū", 32);
-    freq.put("rks", 248);
-    freq.put("Tor", 80);
-    freq.put("Tos", 31);
-    freq.put("Top", 34);
-    freq.put("rke", 63);
-    freq.put("rka", 377);
-    freq.put("Tom", 55);
-    freq.put("rkl", 58);
-    freq.put("rkn", 35);
-    freq.put("rko", 61);
-    freq.put("sch", 88);
-    freq.put("rki", 73);
-    freq.put(" Nī", 78);
-    freq.put("gāz", 197);
-    freq.put("gāt", 113);
-    freq.put("gās", 198);
-    freq.put("gār", 144);
-    freq.put("gān", 110);
-    freq.put("gām", 215);
-    freq.put("gāl", 68);
-    freq.put("gāk", 229);
-    freq.put("gāj", 129);
-    freq.put("η", 40);
-    freq.put("gād", 124);
-    freq.put("gāc", 40);
-    freq.put("ptī", 28);
-    freq.put("alī", 910);
-    freq.put("rk ", 63);
-    freq.put("To ", 233);
-    freq.put("ebū", 23);
-    freq.put("á", 40);
-    freq.put("Int", 119);
-    freq.put("alā", 492);
-    freq.put("v", 49552);
-    freq.put("Ind", 290);
-    freq.put("Inf", 36);
-    freq.put("Ing", 34);
-    freq.put("alē", 137);
-    freq.put("Inc", 26);
-    freq.put("kšģ", 28);
-    freq.put("suņ", 88);
-    freq.put("kšķ", 38);
-    freq.put("kšā", 24);
-    freq.put("teņ", 82);
-    freq.put("kšē", 181);
-    freq.put("й", 81);
-    freq.put("suā", 44);
-    freq.put("ν ", 22);
-    freq.put("Aka", 34);
-    freq.put("kšž", 25);
-    freq.put("lhe", 59);
-    freq.put("kšņ", 49);
-    freq.put("teā", 78);
-    freq.put("maj", 174);
-    freq.put("Ģ", 128);
-    freq.put(" Īs", 47);
-    freq.put(" Īr", 60);
-    freq.put("mal", 305);
-    freq.put("Fri", 44);
-    freq.put("L", 4567);
-    freq.put("вич", 26);
-    freq.put("Č", 300);
-    freq.put("Ern", 25);
-    freq.put("Eri", 30);
-    freq.put("Rag", 24);
-    freq.put("Rad", 110);
-    freq.put("Mēr", 47);
-    freq.put("Rai", 35);
-    freq.put("Mēn", 64);
-    freq.put("Rau", 22);
-    freq.put(" Nā", 75);
-    freq.put("ācb", 31);
-    freq.put("āca", 27);
-    freq.put("Mus", 124);
-    freq.put("Mur", 22);
-    freq.put(" sp", 2239);
-    freq.put(" sv", 412);
-    freq.put(" st", 3025);
-    freq.put(" su", 879);
-    freq.put(" sk", 1357);
-    freq.put(" sh", 33);
-    freq.put(" si", 1753);
-    freq.put(" sn", 112);
-    freq.put(" so", 351);
-    freq.put(" sl", 596);
-    freq.put(" sm", 289);
-    freq.put(" sc", 42);
-    freq.put(" sa", 6813);
-    freq.put(" sf", 46);
-    freq.put(" se", 1483);
-    freq.put("iza", 170);
-    freq.put("izb", 41);
-    freq.put("izc", 301);
-    freq.put("izd", 376);
-    freq.put("ize", 159);
-    freq.put("izg", 245);
-    freq.put("izi", 513);
-    freq.put("izj", 45);
-    freq.put("izk", 139);
-    freq.put("izl", 692);
-    freq.put("izm", 1077);
-    freq.put("izn", 131);
-    freq.put("izo", 166);
-    freq.put("izp", 558);
-    freq.put("izr", 274);
-    freq.put("izs", 752);
-    freq.put("izt", 200);
-    freq.put("izu", 55);
-    freq.put("izv", 798);
-    freq.put("izz", 43);
-    freq.put(" em", 85);
-    freq.put("kok", 286);
-    freq.put("ējī", 33);
-    freq.put(" s ", 86);
-    freq.put("kol", 578);
-    freq.put("iz ", 254);
-    freq.put("kon", 1216);
-    freq.put("ožu", 58);
-    freq.put("ējā", 633);
-    freq.put("X ", 140);
-    freq.put("kog", 34);
-    freq.put("Rīg", 820);
-    freq.put("ски", 39);
-    freq.put("ско", 22);
-    freq.put("ска", 25);
-    freq.put(" ev", 61);
-    freq.put("kov", 64);
-    freq.put("js ", 1627);
-    freq.put("izņ", 119);
-    freq.put("ējr", 35);
-    freq.put("ējs", 400);
-    freq.put("ējp", 24);
-    freq.put("ēju", 643);
-    freq.put(" sū", 56);
-    freq.put("ēji", 561);
-    freq.put("ējo", 477);
-    freq.put("ēja", 1223);
-    freq.put("ējd", 44);
-    freq.put("izš", 65);
-    freq.put("efs", 31);
-    freq.put("efi", 131);
-    freq.put("efo", 131);
-    freq.put("efa", 30);
-    freq.put("efe", 198);
-    freq.put("izā", 483);
-    freq.put("imi", 811);
-    freq.put("ācī", 199);
-    freq.put("jsi", 45);
-    freq.put(" sī", 84);
-    freq.put("izē", 509);
-    freq.put("ēj ", 73);
-    freq.put(" sē", 228);
-    freq.put("Zel", 41);
-    freq.put("Zem", 525);
-    freq.put("ācē", 37);
-    freq.put("pāc", 26);
-    freq.put(" sā", 685);
-    freq.put("rte", 168);
-    freq.put("rta", 1012);
-    freq.put("rtl", 32);
-    freq.put("rto", 248);
-    freq.put("rtn", 59);
-    freq.put("rti", 792);
-    freq.put("rth", 30);
-    freq.put("rtu", 328);
-    freq.put("rts", 333);
-    freq.put("rtr", 97);
-    freq.put("iez", 227);
-    freq.put("īm ", 246);
-    freq.put("iep", 380);
-    freq.put("ies", 2658);
-    freq.put("ier", 1197);
-    freq.put("iet", 4005);
-    freq.put("iev", 1792);
-    freq.put("iek", 4508);
-    freq.put("iej", 39);
-    freq.put("iem", 8120);
-    freq.put("iel", 3446);
-    freq.put("ien", 7676);
-    freq.put("iea", 35);
-    freq.put("pū", 149);
-    freq.put("iec", 1164);
-    freq.put("ieb", 72);
-    freq.put("iee", 100);
-    freq.put("ied", 2745);
-    freq.put("ieg", 992);
-    freq.put("hip", 128);
-    freq.put("pē", 3898);
-    freq.put("his", 79);
-    freq.put("hit", 143);
-    freq.put("rt ", 437);
-    freq.put("duā", 33);
-    freq.put("hib", 51);
-    freq.put("hic", 23);
-    freq.put("hid", 182);
-    freq.put("hie", 34);
-    freq.put("hij", 70);
-    freq.put("mfo", 25);
-    freq.put("hil", 44);
-    freq.put("him", 44);
-    freq.put("hin", 98);
-    freq.put("īme", 446);
-    freq.put("īmo", 31);
-    freq.put("īmj", 45);
-    freq.put("pļ", 34);
-    freq.put("īmu", 34);
-    freq.put("tgā", 22);
-    freq.put("īms", 40);
-    freq.put("ie ", 1698);
-    freq.put("J ", 48);
-    freq.put("arp", 1342);
-    freq.put("arr", 34);
-    freq.put("ars", 430);
-    freq.put("art", 883);
-    freq.put("aru", 580);
-    freq.put("arv", 25);
-    freq.put("ary", 36);
-    freq.put("pva", 35);
-    freq.put("ara", 2574);
-    freq.put("arb", 1417);
-    freq.put("arc", 143);
-    freq.put("ard", 512);
-    freq.put("švi", 22);
-    freq.put("arg", 217);
-    freq.put("pvi", 404);
-    freq.put("šve", 23);
-    freq.put("arj", 66);
-    freq.put("ark", 821);
-    freq.put("arl", 146);
-    freq.put("šva", 72);
-    freq.put("arn", 121);
-    freq.put("riš", 83);
-    freq.put("nša", 32);
-    freq.put(" P ", 63);
-    freq.put("nšt", 29);
-    freq.put("nšu", 53);
-    freq.put("riņ", 229);
-    freq.put("riķ", 45);
-    freq.put("uus", 124);
-    freq.put("ar ", 6199);
-    freq.put("riģ", 56);
-    freq.put(" Ps", 28);
-    freq.put(" Pr", 570);
-    freq.put("c", 22500);
-    freq.put(" Pu", 147);
-    freq.put("liv", 35);
-    freq.put("itē", 104);
-    freq.put(" Pa", 1447);
-    freq.put(" Pe", 329);
-    freq.put(" Pi", 541);
-    freq.put(" Ph", 55);
-    freq.put(" Po", 516);
-    freq.put(" Pl", 245);
-    freq.put("tgr", 47);
-    freq.put("eņē", 35);
-    freq.put("tga", 132);
-    freq.put("īmē", 659);
-    freq.put("ieņ", 198);
-    freq.put("pr", 4678);
-    freq.put("ps", 1123);
-    freq.put("pp", 139);
-    freq.put("duk", 158);
-    freq.put("pv", 476);
-    freq.put("dum", 173);
-    freq.put("pt", 1346);
-    freq.put("pu", 3008);
-    freq.put("pz", 438);
-    freq.put("dua", 23);
-    freq.put("dub", 73);
-    freq.put("duc", 94);
-    freq.put("īmī", 130);
-    freq.put("dug", 33);
-    freq.put("pb", 92);
-    freq.put("pc", 59);
-    freq.put("pa", 12196);
-    freq.put("pg", 761);
-    freq.put("pd", 241);
-    freq.put("ņam", 33);
-    freq.put("ieš", 1802);
-    freq.put("pk", 534);
-    freq.put("dur", 107);
-    freq.put("pi", 8931);
-    freq.put("pn", 123);
-    freq.put("po", 2922);
-    freq.put("pl", 2446);
-    freq.put("pm", 337);
-    freq.put("й ", 60);
-    freq.put("Emi", 22);
-    freq.put("rtī", 278);
-    freq.put("Jē", 211);
-    freq.put("Jā", 93);
-    freq.put("rtā", 193);
-    freq.put("ieļ", 23);
-    freq.put("du ", 1832);
-    freq.put("ieķ", 378);
-    freq.put("zīd", 65);
-    freq.put("p ", 1187);
-    freq.put("rtē", 197);
-    freq.put("ņa ", 1018);
-    freq.put(" Pē", 221);
-    freq.put("riz", 128);
-    freq.put("riv", 81);
-    freq.put("rit", 1293);
-    freq.put("riu", 29);
-    freq.put("ris", 2568);
-    freq.put("Tir", 25);
-    freq.put("rin", 683);
-    freq.put("arš", 263);
-    freq.put("ril", 99);
-    freq.put("rim", 290);
-    freq.put("rij", 2366);
-    freq.put("rik", 885);
-    freq.put("rih", 80);
-    freq.put("rif", 114);
-    freq.put("Tie", 134);
-    freq.put("rid", 231);
-    freq.put("rie", 3740);
-    freq.put("rib", 107);
-    freq.put("ric", 188);
-    freq.put("Tib", 26);
-    freq.put("ria", 161);
-    freq.put(" Pī", 38);
-    freq.put("Cor", 106);
-    freq.put("spā", 202);
-    freq.put("arī", 2864);
-    freq.put("Com", 69);
-    freq.put("Col", 30);
-    freq.put("ri ", 1063);
-    freq.put("Con", 48);
-    freq.put("arē", 195);
-    freq.put("ekr", 305);
-    freq.put("arā", 580);
-    freq.put(" Pū", 23);
-    freq.put("švā", 48);
-    freq.put("ēķi", 49);
-    freq.put("uzi", 73);
-    freq.put("sal", 1082);
-    freq.put("uzg", 36);
-    freq.put("Aiz", 104);
-    freq.put("ь", 65);
-    freq.put("ljo", 123);
-    freq.put("lja", 61);
-    freq.put("lje", 30);
-    freq.put("grū", 45);
-    freq.put("grē", 114);
-    freq.put("zzi", 39);
-    freq.put("grā", 671);
-    freq.put("Rom", 176);
-    freq.put("Ron", 23);
-    freq.put("Rob", 99);
-    freq.put("Rod", 49);
-    freq.put("yla", 29);
-    freq.put("Ros", 76);
-    freq.put("grī", 79);
-    freq.put("mst", 25);
-    freq.put(" uz", 2903);
-    freq.put(" ut", 55);
-    freq.put(" up", 232);
-    freq.put(" ur", 52);
-    freq.put(" un", 10091);
-    freq.put("roņ", 62);
-    freq.put(" ug", 66);
-    freq.put("zjū", 39);
-    freq.put(" u ", 116);
-    freq.put("ix ", 38);
-    freq.put("z", 35062);
-    freq.put("gru", 596);
-    freq.put("gre", 213);
-    freq.put("gra", 755);
-    freq.put("gro", 67);
-    freq.put("gri", 552);
-    freq.put("−C", 44);
-    freq.put("iča", 38);
-    freq.put("eda", 646);
-    freq.put(" Rē", 60);
-    freq.put("ede", 1042);
-    freq.put("iči", 25);
-    freq.put("ēlu", 113);
-    freq.put("edi", 335);
-    freq.put("edo", 120);
-    freq.put("ēls", 126);
-    freq.put("edr", 685);
-    freq.put("eds", 41);
-    freq.put("ко", 45);
-    freq.put("ēlo", 171);
-    freq.put("ки", 52);
-    freq.put("ēli", 303);
-    freq.put("edu", 254);
-    freq.put("edz", 1195);
-    freq.put("ēle", 379);
-    freq.put("ка", 54);
-    freq.put("ēla", 172);
-    freq.put("uga", 887);
-    freq.put(" Rī", 858);
-    freq.put("ed ", 130);
-    freq.put("vor", 27);
-    freq.put("guš", 31);
-    freq.put("apī", 65);
-    freq.put("usē", 169);
-    freq.put("ēl ", 109);
-    freq.put("roč", 76);
-    freq.put("Pār", 113);
-    freq.put("kņu", 24);
-    freq.put("Pāv", 29);
-    freq.put("usī", 47);
-    freq.put("kņa", 79);
-    freq.put("apā", 234);
-    freq.put(" Rū", 43);
-    freq.put("rri", 36);
-    freq.put("rre", 54);
-    freq.put("rra", 96);
-    freq.put("siņ", 49);
-    freq.put("ugu", 553);
-    freq.put("rac", 100);
-    freq.put("meg", 22);
-    freq.put("išķ", 223);
-    freq.put("tač", 123);
-    freq.put("ūna", 154);
-    freq.put("apz", 415);
-    freq.put("īča", 67);
-    freq.put("apr", 520);
-    freq.put("aps", 483);
-    freq.put("app", 36);
-    freq.put("apv", 358);
-    freq.put("Mik", 53);
-    freq.put("apt", 349);
-    freq.put("apu", 118);
-    freq.put("apj", 56);
-    freq.put("apk", 491);
-    freq.put("aph", 30);
-    freq.put("api", 222);
-    freq.put("apo", 44);
-    freq.put("apl", 157);
-    freq.put("apm", 273);
-    freq.put("apb", 88);
-    freq.put("apa", 727);
-    freq.put("edž", 46);
-    freq.put("apg", 734);
-    freq.put("apd", 220);
-    freq.put("ape", 72);
-    freq.put("fed", 168);
-    freq.put("usd", 32);
-    freq.put("feb", 35);
-    freq.put("usa", 206);
-    freq.put("fen", 84);
-    freq.put("feo", 25);
-    freq.put("fel", 37);
-    freq.put("usl", 182);
-    freq.put("usk", 104);
-    freq.put("fek", 185);
-    freq.put("usi", 609);
-    freq.put("usv", 36);
-    freq.put("usu", 107);
-    freq.put("ust", 2158);
-    freq.put("fer", 133);
-    freq.put("fes", 176);
-    freq.put("usz", 100);
-    freq.put("edī", 123);
-    freq.put("Gui", 25);
-    freq.put("Gul", 51);
-    freq.put("Gus", 31);
-    freq.put(" Н ", 25);
-    freq.put("ēlī", 53);
-    freq.put("ap ", 332);
-    freq.put(" Ru", 196);
-    freq.put("edā", 218);
-    freq.put("fe ", 34);
-    freq.put("us ", 3775);
-    freq.put("ēlē", 492);
-    freq.put(" Re", 681);
-    freq.put("edē", 86);
-    freq.put(" Ra", 371);
-    freq.put(" Ro", 565);
-    freq.put(" Ri", 308);
-    freq.put(" Rh", 25);
-    freq.put("tat", 537);
-    freq.put("tau", 931);
-    freq.put("tav", 303);
-    freq.put("tap", 52);
-    freq.put("tar", 1920);
-    freq.put("tas", 3364);
-    freq.put("tad", 222);
-    freq.put("taf", 30);
-    freq.put("tag", 177);
-    freq.put("tab", 171);
-    freq.put("tac", 309);
-    freq.put("tal", 256);
-    freq.put("tam", 934);
-    freq.put("tan", 395);
-    freq.put("tai", 828);
-    freq.put("taj", 702);
-    freq.put("tak", 124);
-    freq.put("sis", 1127);
-    freq.put("sir", 69);
-    freq.put("sip", 27);
-    freq.put("sit", 335);
-    freq.put("siz", 24);
-    freq.put("sic", 34);
-    freq.put("sib", 36);
-    freq.put("sia", 56);
-    freq.put("sig", 89);
-    freq.put("sif", 65);
-    freq.put("sie", 635);
-    freq.put("sid", 107);
-    freq.put("sik", 99);
-    freq.put("sij", 423);
-    freq.put("sih", 129);
-    freq.put("sio", 148);
-    freq.put("sin", 756);
-    freq.put("sim", 594);
-    freq.put("sil", 229);
-    freq.put("Eko", 28);
-    freq.put("pīt", 24);
-    freq.put("ta ", 6165);
-    freq.put("Eks", 36);
-    freq.put("nds", 68);
-    freq.put("šte", 79);
-    freq.put("šta", 234);
-    freq.put("ndu", 273);
-    freq.put("si ", 826);
-    freq.put("Kā", 157);
-    freq.put("cto", 75);
-    freq.put("Car", 39);
-    freq.put("Cap", 22);
-    freq.put("Cau", 23);
-    freq.put("Can", 86);
-    freq.put("Cam", 27);
-    freq.put("Cal", 37);
-    freq.put("Pre", 78);
-    freq.put("nfe", 88);
-    freq.put("Pra", 58);
-    freq.put("nfo", 273);
-    freq.put("Pro", 228);
-    freq.put("nfl", 40);
-    freq.put("Pri", 121);
-    freq.put("nfi", 27);
-    freq.put(" −", 67);
-    freq.put("nfr", 48);
-    freq.put("oun", 55);
-    freq.put("hān", 110);
-    freq.put("ous", 25);
-    freq.put("our", 37);
-    freq.put("hār", 41);
-    freq.put("out", 44);
-    freq.put("lt ", 35);
-    freq.put("lts", 217);
-    freq.put("ltr", 29);
-    freq.put("g", 29438);
-    freq.put("āgā", 35);
-    freq.put("vab", 47);
-    freq.put("lta", 371);
-    freq.put("lte", 188);
-    freq.put("ltk", 80);
-    freq.put("lti", 424);
-    freq.put("lto", 53);
-    freq.put("ü", 91);
-    freq.put("K ", 99);
-    freq.put("Prā", 22);
-    freq.put("Ame", 197);
-    freq.put("vad", 1354);
-    freq.put("ča", 247);
-    freq.put("voš", 86);
-    freq.put("lūk", 137);
-    freq.put("lūg", 25);
-    freq.put("lūd", 44);
-    freq.put("lūc", 74);
-    freq.put("lūz", 46);
-    freq.put("λ", 61);
-    freq.put("lūs", 138);
-    freq.put("lūp", 24);
-    freq.put("Ka", 1308);
-    freq.put("Ke", 175);
-    freq.put("Ki", 234);
-    freq.put("Ko", 785);
-    freq.put("Kl", 267);
-    freq.put("Kr", 1045);
-    freq.put("Kv", 49);
-    freq.put("Ku", 433);
-    freq.put("ču", 562);
-    freq.put("Prū", 54);
-    freq.put("āgo", 45);
-    freq.put("pīg", 88);
-    freq.put("ltā", 300);
-    freq.put("āgs", 41);
-    freq.put("Bā", 56);
-    freq.put("knē", 45);
-    freq.put("hr", 242);
-    freq.put("ltī", 58);
-    freq.put("āli", 1326);
-    freq.put("Por", 59);
-    freq.put("Pos", 25);
-    freq.put("Pop", 24);
-    freq.put("Pol", 274);
-    freq.put("ал", 24);
-    freq.put("ltū", 225);
-    freq.put("āld", 44);
-    freq.put("hl", 97);
-    freq.put("ēnā", 38);
-    freq.put("hm", 55);
-    freq.put("ēnē", 31);
-    freq.put("āla", 1215);
-    freq.put("dēš", 109);
-    freq.put("eīn", 30);
-    freq.put("ha", 893);
-    freq.put("ēša", 752);
-    freq.put("eat", 203);
-    freq.put("lvu", 57);
-    freq.put("dēļ", 202);
-    freq.put("rpē", 106);
-    freq.put("ālu", 633);
-    freq.put("qu", 266);
-    freq.put("pnī", 27);
-    freq.put("rpā", 40);
-    freq.put(" ww", 36);
-    freq.put("ž", 4793);
-    freq.put("ebe", 168);
-    freq.put("eba", 49);
-    freq.put("ebo", 22);
-    freq.put(" Tē", 78);
-    freq.put("ebi", 87);
-    freq.put("ebk", 175);
-    freq.put("jo ", 387);
-    freq.put("ebr", 247);
-    freq.put("ebs", 44);
-    freq.put(" Tā", 889);
-    freq.put("ikv", 30);
-    freq.put("ļu ", 1814);
-    freq.put("Jac", 27);
-    freq.put(" Tī", 49);
-    freq.put("jor", 71);
-    freq.put("jos", 350);
-    freq.put("jot", 574);
-    freq.put(" ال", 23);
-    freq.put("pzī", 361);
-    freq.put("avī", 79);
-    freq.put("jol", 22);
-    freq.put("jom", 89);
-    freq.put("jon", 751);
-    freq.put("lvi", 41);
-    freq.put("ika", 3320);
-    freq.put("avē", 54);
-    freq.put("ļus", 125);
-    freq.put("ļuv", 123);
-    freq.put("avā", 267);
-    freq.put("rpp", 23);
-    freq.put("rpr", 64);
-    freq.put("rpu", 97);
-    freq.put("rpt", 521);
-    freq.put("dēv", 144);
-    freq.put("či ", 69);
-    freq.put("dēt", 124);
-    freq.put("būs", 22);
-    freq.put("dēs", 22);
-    freq.put("dēn", 29);
-    freq.put("dēl", 80);
-    freq.put("dēm", 188);
-    freq.put("rpe", 30);
-    freq.put("rpi", 90);
-    freq.put("rpl", 24);
-    freq.put("rpo", 72);
-    freq.put("Jug", 32);
-    freq.put("ikn", 25);
-    freq.put("Jur", 42);
-    freq.put("Jup", 83);
-    freq.put("ο", 116);
-    freq.put("čie", 24);
-    freq.put("Bēr", 58);
-    freq.put("rp ", 573);
-    freq.put("hme", 29);
-    freq.put("dē ", 186);
-    freq.put("ēne", 214);
-    freq.put("Nīd", 49);
-    freq.put("ēna", 102);
-    freq.put("é", 81);
-    freq.put("ēni", 174);
-    freq.put("ēnu", 91);
-    freq.put("ēns", 137);
-    freq.put("tja", 44);
-    freq.put("avu", 357);
-    freq.put("avv", 82);
-    freq.put("avp", 76);
-    freq.put("avr", 23);
-    freq.put("avs", 157);
-    freq.put("ē", 27728);
-    freq.put("avo", 299);
-    freq.put("pzi", 58);
-    freq.put("avi", 843);
-    freq.put("ave", 232);
-    freq.put("ava", 1146);
-    freq.put("Zaļ", 27);
-    freq.put("Vul", 29);
-    freq.put("zvi", 325);
-    freq.put("još", 397);
-    freq.put("Čik", 22);
-    freq.put("av ", 331);
-    freq.put(" Tu", 361);
-    freq.put(" Tr", 346);
-    freq.put(" To", 521);
-    freq.put(" Tj", 24);
-    freq.put(" Ti", 329);
-    freq.put(" Th", 177);
-    freq.put("tju", 24);
-    freq.put(" Te", 399);
-    freq.put(" Ta", 1092);
-    freq.put("lvē", 725);
-    freq.put("ņem", 387);
-    freq.put("vaņ", 38);
-    freq.put("eņķ", 69);
-    freq.put("lvā", 83);
-    freq.put("tce", 25);
-    freq.put("sku", 481);
-    freq.put("sks", 400);
-    freq.put("skr", 170);
-    freq.put("Ī", 133);
-    freq.put("ske", 410);
-    freq.put("ska", 4650);
-    freq.put("nor", 435);
-    freq.put("sko", 1104);
-    freq.put("ski", 1153);
-    freq.put("ugš", 195);
-    freq.put("Eir", 595);
-    freq.put("T", 4509);
-    freq.put("šze", 25);
-    freq.put("sk ", 23);
-    freq.put("vaļ", 151);
-    freq.put("kdi", 30);
-    freq.put("Sul", 33);
-    freq.put("Šī ", 93);
-    freq.put("dīt", 668);
-    freq.put("nd ", 206);
-    freq.put("dīz", 28);
-    freq.put("dīg", 518);
-    freq.put("dīb", 475);
-    freq.put("dīc", 65);
-    freq.put("dīn", 38);
-    freq.put("dīj", 452);
-    freq.put("žni", 23);
-    freq.put("zvē", 121);
-    freq.put("ndi", 727);
-    freq.put("ndo", 248);
-    freq.put("nda", 780);
-    freq.put("nde", 437);
-    freq.put("ļļu", 39);
-    freq.put("ndz", 31);
-    freq.put("ļļa", 40);
-    freq.put("ndr", 359);
-    freq.put("Tēr", 50);
-    freq.put("Rū", 43);
-    freq.put("owe", 22);
-    freq.put("ows", 32);
-    freq.put("anš", 45);
-    freq.put("vaj", 267);
-    freq.put("vak", 43);
-    freq.put("vai", 3704);
-    freq.put("van", 198);
-    freq.put("val", 3215);
-    freq.put("vam", 39);
-    freq.put("Ama", 49);
-    freq.put("ģij", 982);
-    freq.put("ģio", 352);
-    freq.put("ģin", 756);
-    freq.put("ģim", 77);
-    freq.put("ģis", 449);
-    freq.put("ģip", 59);
-    freq.put("lv ", 26);
-    freq.put("ģit", 52);
-    freq.put("var", 1672);
-    freq.put("vas", 1579);
-    freq.put("vat", 135);
-    freq.put("ef", 579);
-    freq.put("eņr", 134);
-    freq.put("eņu", 143);
-    freq.put("eņi", 138);
-    freq.put("skā", 2459);
-    freq.put("eņo", 30);
-    freq.put("eņa", 350);
-    freq.put("eņb", 28);
-    freq.put("eņe", 150);
-    freq.put("Teh", 22);
-    freq.put("Tei", 33);
-    freq.put("ģi ", 28);
-    freq.put("Tel", 43);
-    freq.put("Tem", 25);
-    freq.put("Teo", 25);
-    freq.put("va ", 982);
-    freq.put("Tec", 22);
-    freq.put("dva", 54);
-    freq.put("lve", 648);
-    freq.put("lva", 502);
-    freq.put("Ter", 125);
-    freq.put("Tet", 23);
-    freq.put("ndā", 228);
-    freq.put("Šīs", 37);
-    freq.put("ndē", 98);
-    freq.put("ndī", 35);
-    freq.put("zva", 673);
-    freq.put("zve", 584);
-    freq.put("dīš", 155);
-    freq.put("н", 271);
-    freq.put("vā ", 578);
-    freq.put("ūša", 102);
-    freq.put("ūšu", 22);
-    freq.put("oel", 45);
-    freq.put("ndž", 62);
-  }
-  
 }
-
@@ -1,2815 +1,15 @@
 package com.rmtheis.langdetect.profile;
 
-import java.util.HashMap;
-
 import com.cybozu.labs.langdetect.util.LangProfile;
-import com.cybozu.labs.langdetect.util.NGram;
 
 public class ML {
   private static final String name = "ml";
-  private static final HashMap<String, Integer> freq = new HashMap<String, Integer>();
-  private static final int[] n_words = new int[NGram.N_GRAM];
 
   public ML() {
-    init();  
   }
 
   public final LangProfile getLangProfile() {
-    return new LangProfile(name, freq, n_words);
+    return Profiles.load(name);
   }
-  
-  private void init() {
-    n_words[0] = 1303092;
-    n_words[1] = 1392078;
-    n_words[2] = 987774;
 
-    freq.put("നൽ", 278);
-    freq.put(" വ", 10435);
-    freq.put("ുളം", 204);
-    freq.put(" ഭര", 361);
-    freq.put("ർഷത", 185);
-    freq.put(" ഭാ", 1188);
-    freq.put("ഞ", 4086);
-    freq.put("മ ", 394);
-    freq.put("നോ", 770);
-    freq.put("ന്", 30257);
-    freq.put("ഭക്", 141);
-    freq.put("നീ", 1069);
-    freq.put("യപ്", 1110);
-    freq.put("നെ", 1274);
-    freq.put("നേ", 692);
-    freq.put("സോഫ", 142);
-    freq.put("നസ", 256);
-    freq.put("ട്ര", 721);
-    freq.put("നാ", 4964);
-    freq.put("നി", 6348);
-    freq.put("നല", 133);
-    freq.put("നറ", 327);
-    freq.put("ോഡ്", 151);
-    freq.put("ചയ", 168);
-    freq.put("നപ", 369);
-    freq.put("യസ്", 188);
-    freq.put("നന", 662);
-    freq.put("നമ", 1154);
-    freq.put("നയ", 493);
-    freq.put("മ്യ", 161);
-    freq.put("പേര", 707);
-    freq.put("ശേഷ", 320);
-    freq.put("ശേര", 218);
-    freq.put("ുള്", 2528);
-    freq.put("നങ", 658);
-    freq.put("ദേഹ", 453);
-    freq.put(" ഭൂ", 280);
-    freq.put("ദേവ", 242);
-    freq.put("ദേശ", 1461);
-    freq.put("ട്ട", 5142);
-    freq.put("നഗ", 483);
-    freq.put("ൊല", 199);
-    freq.put("ൊള", 210);
-    freq.put("ൊന", 285);
-    freq.put("ൊത", 283);
-    freq.put("ടാക", 287);
-    freq.put("തരം", 239);
-    freq.put("ഉ", 3287);
-    freq.put("ഗങ്", 342);
-    freq.put("n", 3585);
-    freq.put("ഞാറ", 228);
-    freq.put("G", 214);
-    freq.put("്ധത", 135);
-    freq.put("p ", 313);
-    freq.put("സൈ", 220);
-    freq.put("രിൽ", 376);
-    freq.put(" ൽ ", 540);
-    freq.put("നി ", 376);
-    freq.put("്ധി", 284);
-    freq.put("്ധാ", 165);
-    freq.put("നു ", 3729);
-    freq.put("സന്", 155);
-    freq.put("രിട", 191);
-    freq.put("രിച", 602);
-    freq.put("്ടെ", 178);
-    freq.put("ഷ് ", 469);
-    freq.put(" ഘ", 145);
-    freq.put("രിയ", 788);
-    freq.put("രിപ", 260);
-    freq.put("രിന", 226);
-    freq.put("k", 455);
-    freq.put("രിസ", 279);
-    freq.put("്ളത", 321);
-    freq.put("രില", 203);
-    freq.put("ിമാ", 267);
-    freq.put(" ഗണ", 178);
-    freq.put(" ഉൾ", 449);
-    freq.put("്ടണ", 266);
-    freq.put("ഈ", 1751);
-    freq.put("കേ ", 146);
-    freq.put("ിൽ", 7943);
-    freq.put("്ടത", 365);
-    freq.put("്ടി", 1743);
-    freq.put("്ടാ", 1065);
-    freq.put("നെയ", 183);
-    freq.put(" ഗാ", 220);
-    freq.put("ിൻ", 555);
-    freq.put("്ടറ", 139);
-    freq.put("കഴി", 190);
-    freq.put("രംഗ", 221);
-    freq.put("m ", 405);
-    freq.put("്ടം", 148);
-    freq.put("സം", 2540);
-    freq.put("er ", 252);
-    freq.put(" ഇന", 1407);
-    freq.put("ുതി", 335);
-    freq.put("പടി", 267);
-    freq.put("തിര", 1091);
-    freq.put("മറ്", 307);
-    freq.put("ലൂട", 241);
-    freq.put("സംസ", 658);
-    freq.put("സംവ", 186);
-    freq.put("ൈ", 2243);
-    freq.put(" ഉള", 175);
-    freq.put("സംഭ", 157);
-    freq.put("സംബ", 143);
-    freq.put(" ഉപ", 1087);
-    freq.put(" ഉയ", 159);
-    freq.put(" ഉണ", 345);
-    freq.put(" ഉത", 324);
-    freq.put(" ഉദ", 192);
-    freq.put("me", 225);
-    freq.put("നു", 7416);
-    freq.put("ma", 277);
-    freq.put("സംഘ", 223);
-    freq.put("്ട്", 2062);
-    freq.put("mb", 320);
-    freq.put("വേണ", 171);
-    freq.put("സംഗ", 292);
-    freq.put("സംഖ", 216);
-    freq.put("mi", 137);
-    freq.put("വേദ", 193);
-    freq.put(" ഇട", 294);
-    freq.put("പാർ", 143);
-    freq.put("വേഷ", 140);
-    freq.put("ഥമാ", 131);
-    freq.put("വത്", 265);
-    freq.put("യ്", 2647);
-    freq.put("യോ", 2076);
-    freq.put("io", 368);
-    freq.put("്റ്", 2584);
-    freq.put("യേ", 524);
-    freq.put("യെ", 576);
-    freq.put("in", 824);
-    freq.put("യൂ", 920);
-    freq.put("യു", 6606);
-    freq.put("ീയ", 989);
-    freq.put("ൊട", 319);
-    freq.put("സി ", 306);
-    freq.put("ീര", 476);
-    freq.put("ുണ", 1220);
-    freq.put("ള", 18695);
-    freq.put("ീറ", 467);
-    freq.put("ent", 145);
-    freq.put("ലീഷ", 334);
-    freq.put("വലി", 422);
-    freq.put("ളമ", 142);
-    freq.put("A", 497);
-    freq.put("ിസ്", 1202);
-    freq.put("ൺ ", 614);
-    freq.put("ടുവ", 240);
-    freq.put("ഇട", 298);
-    freq.put("ന്ത", 3077);
-    freq.put("ൾപ", 377);
-    freq.put("യങ", 585);
-    freq.put("യക", 899);
-    freq.put("നവ", 539);
-    freq.put("ീസ", 331);
-    freq.put("യയ", 1033);
-    freq.put("യമ", 1442);
-    freq.put(" എല", 187);
-    freq.put("യപ", 1289);
-    freq.put("യന", 858);
-    freq.put("യത", 3000);
-    freq.put("ൾക", 618);
-    freq.put("ല്യ", 139);
-    freq.put("ഴുത", 366);
-    freq.put("യാ", 6131);
-    freq.put("ൃശ", 256);
-    freq.put("ീരത", 159);
-    freq.put("യവ", 498);
-    freq.put("ളത", 1504);
-    freq.put("യല", 155);
-    freq.put("ബ്", 1417);
-    freq.put("ർണ", 557);
-    freq.put("ോ ", 1249);
-    freq.put("വിധ", 550);
-    freq.put("വിദ", 293);
-    freq.put("വിത", 325);
-    freq.put("വിന", 462);
-    freq.put("വിയ", 254);
-    freq.put("വിഭ", 320);
-    freq.put("വിള", 304);
-    freq.put("വില", 388);
-    freq.put("വിഷ", 250);
-    freq.put("വിശ", 604);
-    freq.put("വിവ", 377);
-    freq.put("വിസ", 175);
-    freq.put(" മോ", 137);
-    freq.put("്ന്", 1214);
-    freq.put("ുര", 1360);
-    freq.put(" മു", 1582);
-    freq.put(" മീ", 223);
-    freq.put(" മൂ", 522);
-    freq.put("്നൂ", 143);
-    freq.put(" മേ", 380);
-    freq.put(" മെ", 288);
-    freq.put("നത", 3826);
-    freq.put("വിക", 518);
-    freq.put("ുമ്", 328);
-    freq.put("ഓഫ്", 164);
-    freq.put("വിച", 163);
-    freq.put("വിട", 354);
-    freq.put("പനി", 191);
-    freq.put("ആക", 235);
-    freq.put(" മന", 430);
-    freq.put("മത്", 656);
-    freq.put(" മണ", 230);
-    freq.put("ൊ", 2828);
-    freq.put("പന്", 169);
-    freq.put("ലഭി", 141);
-    freq.put("ചു ", 503);
-    freq.put(" മദ", 178);
-    freq.put(" മഹ", 339);
-    freq.put("്നി", 970);
-    freq.put("ർക", 724);
-    freq.put(" മി", 342);
-    freq.put(" മാ", 1333);
-    freq.put("ഹം ", 356);
-    freq.put(" മര", 285);
-    freq.put(" മല", 1061);
-    freq.put("ായ ", 2610);
-    freq.put("ീറ്", 411);
-    freq.put("വിൽ", 193);
-    freq.put("നട", 732);
-    freq.put("ങൾ ", 1356);
-    freq.put("പാത", 301);
-    freq.put("l", 2378);
-    freq.put("അതി", 433);
-    freq.put("ംക", 276);
-    freq.put("മപഞ", 718);
-    freq.put("്ദു", 211);
-    freq.put("രമാ", 1123);
-    freq.put("ൊര", 233);
-    freq.put("െയാ", 471);
-    freq.put("െയി", 161);
-    freq.put("ീകര", 447);
-    freq.put("്ദ്", 530);
-    freq.put("തത്", 650);
-    freq.put("നക", 609);
-    freq.put("rt", 139);
-    freq.put("ിഹ", 196);
-    freq.put("ർഗ്", 232);
-    freq.put("ിംഗ", 155);
-    freq.put("ിസ", 1623);
-    freq.put("ry", 142);
-    freq.put("re", 445);
-    freq.put("വ", 29294);
-    freq.put("ra", 513);
-    freq.put("ro", 259);
-    freq.put("ri", 601);
-    freq.put("സത", 207);
-    freq.put("നം", 1457);
-    freq.put("ിര", 3940);
-    freq.put("ും ", 8335);
-    freq.put("യനാ", 300);
-    freq.put("ശസ", 408);
-    freq.put("ati", 208);
-    freq.put("ീക്", 294);
-    freq.put("r ", 518);
-    freq.put("െയു", 744);
-    freq.put("രമു", 245);
-    freq.put("െയ്", 1600);
-    freq.put("ൊണ", 430);
-    freq.put("ഗമാ", 450);
-    freq.put("്ദി", 192);
-    freq.put("ശത", 359);
-    freq.put("ശന", 174);
-    freq.put("on ", 337);
-    freq.put("ില ", 173);
-    freq.put("ശയ", 135);
-    freq.put("ശര", 163);
-    freq.put("ഥിത", 865);
-    freq.put("ാശി", 190);
-    freq.put("ശാ", 1071);
-    freq.put("ചക്", 148);
-    freq.put("കളെ", 330);
-    freq.put("ശം", 401);
-    freq.put("കളു", 895);
-    freq.put("എന", 4361);
-    freq.put("ിടക", 167);
-    freq.put("കഥാ", 145);
-    freq.put("ല ", 970);
-    freq.put("ഴ", 3384);
-    freq.put("ശങ", 339);
-    freq.put("ശങ്", 338);
-    freq.put("ഖ ", 135);
-    freq.put("B", 279);
-    freq.put("കെ ", 257);
-    freq.put("േക്", 437);
-    freq.put("താം", 142);
-    freq.put("്ഞാ", 395);
-    freq.put("ബന", 358);
-    freq.put("കളി", 1388);
-    freq.put("കളാ", 321);
-    freq.put("നേത", 186);
-    freq.put("ശീ", 345);
-    freq.put("നേട", 136);
-    freq.put("ശൂ", 214);
-    freq.put("ിടെ", 160);
-    freq.put("ശേ", 646);
-    freq.put("ിട്", 804);
-    freq.put("മീറ", 381);
-    freq.put("ശ്", 1951);
-    freq.put("െല്", 138);
-    freq.put("ൊള്", 135);
-    freq.put("ിക", 9608);
-    freq.put(" സോ", 248);
-    freq.put("ൂന്", 269);
-    freq.put("ർജ", 233);
-    freq.put("കുറ", 545);
-    freq.put("കുള", 420);
-    freq.put("കുവ", 161);
-    freq.put("കുന", 3755);
-    freq.put("ംഖ", 254);
-    freq.put(" സൈ", 131);
-    freq.put("ഴക്", 419);
-    freq.put("കുമ", 280);
-    freq.put("ംഘ", 229);
-    freq.put("ട", 30378);
-    freq.put("കുട", 502);
-    freq.put("വെയ", 137);
-    freq.put("ജ് ", 184);
-    freq.put("ംഭ", 344);
-    freq.put("കുക", 537);
-    freq.put("ചാ", 2146);
-    freq.put("ോമീ", 259);
-    freq.put("ംവ", 207);
-    freq.put("ംശ", 210);
-    freq.put("hum", 268);
-    freq.put("വെള", 233);
-    freq.put("ംസ", 820);
-    freq.put(" സു", 414);
-    freq.put("ശി", 810);
-    freq.put("ലും", 1211);
-    freq.put("ലുക", 166);
-    freq.put("ുൻ", 211);
-    freq.put("ദ് ", 330);
-    freq.put("ചര", 413);
-    freq.put("m", 1762);
-    freq.put("ുർ", 254);
-    freq.put("രകാ", 407);
-    freq.put("ലുള", 500);
-    freq.put("ണു്", 155);
-    freq.put("ംഖ്", 225);
-    freq.put("ംബർ", 289);
-    freq.put("ആ", 4557);
-    freq.put("d ", 539);
-    freq.put("്ധമ", 162);
-    freq.put("വല", 693);
-    freq.put("ർദ്", 196);
-    freq.put("ഉപയ", 669);
-    freq.put("െ", 27110);
-    freq.put("de", 246);
-    freq.put("ഇവ", 544);
-    freq.put("da", 131);
-    freq.put("ംബത", 191);
-    freq.put("ലാ ", 171);
-    freq.put("ഇല", 190);
-    freq.put("ഇര", 190);
-    freq.put("�", 641);
-    freq.put("്ഥ", 3459);
-    freq.put("്ത", 22771);
-    freq.put("്ധ", 1930);
-    freq.put("്ദ", 2047);
-    freq.put("്ഡ", 591);
-    freq.put("ഴിയ", 159);
-    freq.put("്ണ", 1196);
-    freq.put("w ", 236);
-    freq.put("ഫോ", 209);
-    freq.put("്ബ", 173);
-    freq.put("്യ", 11234);
-    freq.put("്മ", 2196);
-    freq.put("്ന", 18960);
-    freq.put("ിയൻ", 295);
-    freq.put("്പ", 9300);
-    freq.put("്വ", 2298);
-    freq.put("്ഷ", 2226);
-    freq.put("്ശ", 389);
-    freq.put("്റ", 10182);
-    freq.put("്ര", 16053);
-    freq.put("്ള", 3597);
-    freq.put("്ല", 4477);
-    freq.put("സര", 276);
-    freq.put("ഇസ", 231);
-    freq.put("്സ", 1373);
-    freq.put("ാരം", 468);
-    freq.put("ാരി", 539);
-    freq.put("ാരാ", 454);
-    freq.put("റാണ", 337);
-    freq.put("ടും", 382);
-    freq.put("ടയി", 180);
-    freq.put("റ", 22910);
-    freq.put("ിയേ", 145);
-    freq.put("ിയെ", 180);
-    freq.put("ിയു", 1173);
-    freq.put("ാരന", 265);
-    freq.put("ാരത", 490);
-    freq.put("്ട", 9563);
-    freq.put("്ഞ", 1123);
-    freq.put("്ങ", 6013);
-    freq.put("ിയോ", 318);
-    freq.put("ഴിക", 261);
-    freq.put("C", 430);
-    freq.put("ധ്യ", 502);
-    freq.put("ിയി", 1237);
-    freq.put("ിയാ", 1791);
-    freq.put("ാര്", 247);
-    freq.put("ിയത", 291);
-    freq.put("്ധ്", 347);
-    freq.put(" In", 137);
-    freq.put("പം ", 271);
-    freq.put("ിയയ", 135);
-    freq.put("ിയമ", 337);
-    freq.put("ാരു", 187);
-    freq.put("ിയന", 152);
-    freq.put("ിയപ", 914);
-    freq.put("കൾ ", 1360);
-    freq.put("സോ", 402);
-    freq.put("മൂഹ", 169);
-    freq.put(" പദ", 316);
-    freq.put("സ്", 11156);
-    freq.put("സൂ", 414);
-    freq.put("മൂല", 253);
-    freq.put("സീ", 147);
-    freq.put("സു", 655);
-    freq.put("സെ", 370);
-    freq.put("സേ", 205);
-    freq.put("ഫല", 133);
-    freq.put("മൂന", 234);
-    freq.put("ിയം", 136);
-    freq.put("ഫി", 226);
-    freq.put(" ഹൈ", 162);
-    freq.put("കൽ", 282);
-    freq.put("ഷന", 151);
-    freq.put("വർ ", 251);
-    freq.put("രിക", 1867);
-    freq.put("ര", 47335);
-    freq.put("ാല ", 148);
-    freq.put("വഴി", 162);
-    freq.put("ൻസ", 353);
-    freq.put("ടി ", 838);
-    freq.put("േഷൻ", 136);
-    freq.put("വംശ", 155);
-    freq.put("ശാല", 131);
-    freq.put("േണ്", 180);
-    freq.put("ശാസ", 704);
-    freq.put(" ഹാ", 165);
-    freq.put(" ഹി", 383);
-    freq.put("എസ്", 144);
-    freq.put("രിത", 358);
-    freq.put("റു ", 169);
-    freq.put("ടുക", 629);
-    freq.put("ിർ", 824);
-    freq.put("ർച്", 198);
-    freq.put("തില", 2687);
-    freq.put("is", 392);
-    freq.put("തിറ", 164);
-    freq.put("it", 348);
-    freq.put("യാക", 148);
-    freq.put("തിപ", 216);
-    freq.put("തിന", 3912);
-    freq.put("ലമാ", 175);
-    freq.put("ഫ്റ", 145);
-    freq.put("ഫ്ര", 256);
-    freq.put("ia", 297);
-    freq.put("ic", 457);
-    freq.put("ie", 161);
-    freq.put("id", 145);
-    freq.put("ig", 259);
-    freq.put("വാക", 237);
-    freq.put("െന്", 699);
-    freq.put("യന്", 328);
-    freq.put("യാസ", 209);
-    freq.put("ടുള", 178);
-    freq.put("യാള", 680);
-    freq.put("ുണ്", 1051);
-    freq.put("തിക", 867);
-    freq.put("യാപ", 286);
-    freq.put("യാന", 412);
-    freq.put("ടുത", 820);
-    freq.put("ടുണ", 196);
-    freq.put("യായ", 924);
-    freq.put("യാണ", 2227);
-    freq.put("ാജ്", 625);
-    freq.put("ടുപ", 172);
-    freq.put("ടുന", 1925);
-    freq.put("തിർ", 138);
-    freq.put("തിൽ", 2321);
-    freq.put("ിഷ", 679);
-    freq.put("ിശ", 915);
-    freq.put("ിവ", 1776);
-    freq.put("ിഴ", 585);
-    freq.put("ിള", 544);
-    freq.put("ില", 11613);
-    freq.put("ിറ", 959);
-    freq.put("ാജാ", 164);
-    freq.put("ിയ", 9237);
-    freq.put("ിമ", 977);
-    freq.put("നടത", 237);
-    freq.put("ിപ", 1879);
-    freq.put("ിന", 8501);
-    freq.put("ിധ", 718);
-    freq.put("i ", 213);
-    freq.put("ിത", 4094);
-    freq.put("ിണ", 277);
-    freq.put("നടന", 157);
-    freq.put("ിട", 1697);
-    freq.put("ിഞ", 391);
-    freq.put("ിജ", 257);
-    freq.put("ിച", 3441);
-    freq.put("ിങ", 411);
-    freq.put("ിഗ", 248);
-    freq.put("തം ", 428);
-    freq.put("സത്", 172);
-    freq.put(" ഫ്", 175);
-    freq.put(" ഭ", 2376);
-    freq.put("ഉത്", 318);
-    freq.put("ൈ ", 191);
-    freq.put("ിം", 358);
-    freq.put("ചേര", 187);
-    freq.put("തപു", 179);
-    freq.put("ഗം", 303);
-    freq.put("്ടയ", 169);
-    freq.put("പെര", 170);
-    freq.put("തപ്", 226);
-    freq.put("ാൻ ", 875);
-    freq.put("രെ ", 495);
-    freq.put("ർക്", 684);
-    freq.put("ഷാ", 253);
-    freq.put("ല", 30821);
-    freq.put("പെട", 3183);
-    freq.put("റയു", 379);
-    freq.put("ൈറ്", 167);
-    freq.put("ഖ്യ", 445);
-    freq.put("D", 213);
-    freq.put("ണ് ", 9312);
-    freq.put("നൽക", 242);
-    freq.put("ംഗ", 1698);
-    freq.put("റു", 1385);
-    freq.put("സർക", 222);
-    freq.put("ടെ ", 2958);
-    freq.put("യി ", 2287);
-    freq.put("ഡി ", 135);
-    freq.put("ൊന്", 268);
-    freq.put("ണക്", 248);
-    freq.put("www", 169);
-    freq.put("റേ", 484);
-    freq.put("റെ", 3559);
-    freq.put("രംഭ", 134);
-    freq.put("കാ", 6054);
-    freq.put("അക", 377);
-    freq.put("രാജ", 994);
-    freq.put("ലി ", 304);
-    freq.put("രാഗ", 175);
-    freq.put("ഇദ", 201);
-    freq.put("thu", 262);
-    freq.put("ാണപ", 194);
-    freq.put("ാറു", 256);
-    freq.put("രായ", 317);
-    freq.put("രാമ", 1573);
-    freq.put("റ്", 6646);
-    freq.put("രാണ", 212);
-    freq.put("രാത", 212);
-    freq.put("രാധ", 160);
-    freq.put("ാറ്", 497);
-    freq.put("മൻ ", 173);
-    freq.put("യകാ", 146);
-    freq.put("ാണി", 500);
-    freq.put("രാള", 187);
-    freq.put("രാവ", 195);
-    freq.put("രാഷ", 322);
-    freq.put("രാശ", 159);
-    freq.put("ാണ്", 9070);
-    freq.put("യക്", 335);
-    freq.put("ാണു", 455);
-    freq.put("കര", 1697);
-    freq.put("തെയ", 178);
-    freq.put("ww ", 169);
-    freq.put("ഇത", 1342);
-    freq.put("ാറി", 215);
-    freq.put("തെക", 351);
-    freq.put("o", 3390);
-    freq.put("കൃഷ", 204);
-    freq.put("ണപ്", 245);
-    freq.put("മരണ", 133);
-    freq.put("ാക", 2271);
-    freq.put("കൃത", 542);
-    freq.put("ണയ", 165);
-    freq.put("ജ", 7532);
-    freq.put("ണമ", 522);
-    freq.put("വൈദ", 160);
-    freq.put("ഹൈ", 165);
-    freq.put("ഹോ", 192);
-    freq.put("കദ", 149);
-    freq.put("ഹ്", 425);
-    freq.put("സങ", 187);
-    freq.put("െൻ", 139);
-    freq.put("െർ", 168);
-    freq.put("െൽ", 155);
-    freq.put("രച", 317);
-    freq.put("രങ", 807);
-    freq.put("െക", 672);
-    freq.put("ഉപ", 1088);
-    freq.put("െങ", 501);
-    freq.put("mb ", 256);
-    freq.put("ഹത", 306);
-    freq.put("വൻ ", 161);
-    freq.put("അവസ", 151);
-    freq.put("ഹി", 1080);
-    freq.put("ഹാ", 862);
-    freq.put("ഹര", 199);
-    freq.put("െര", 246);
-    freq.put("െറ", 681);
-    freq.put("െല", 319);
-    freq.put("െള", 276);
-    freq.put("റി ", 343);
-    freq.put("െസ", 158);
-    freq.put("ച് ", 831);
-    freq.put("ഹം", 374);
-    freq.put("െത", 287);
-    freq.put("വളര", 299);
-    freq.put("ാള ", 284);
-    freq.put("ളത്", 1319);
-    freq.put("െപ", 232);
-    freq.put("െബ", 161);
-    freq.put("െമ", 160);
-    freq.put("ങളാ", 313);
-    freq.put("ശിക", 160);
-    freq.put("ഒര", 4108);
-    freq.put("ഇ", 5473);
-    freq.put("ാൻ", 1060);
-    freq.put("റക", 237);
-    freq.put("കൂട", 756);
-    freq.put("ഒന", 344);
-    freq.put("ni", 239);
-    freq.put("്പെ", 2946);
-    freq.put("ാനമ", 615);
-    freq.put("്പു", 822);
-    freq.put(" ബു", 137);
-    freq.put("no", 135);
-    freq.put("ഗീത", 286);
-    freq.put("ലയു", 182);
-    freq.put(" ബ്", 675);
-    freq.put("nc", 163);
-    freq.put(" ബോ", 172);
-    freq.put("ne", 310);
-    freq.put("ng", 305);
-    freq.put("അർ", 208);
-    freq.put("ഭ്യ", 155);
-    freq.put("tio", 259);
-    freq.put("്സ്", 542);
-    freq.put("രണമ", 149);
-    freq.put("ശിയ", 152);
-    freq.put("nt", 385);
-    freq.put("്പത", 250);
-    freq.put("ur", 239);
-    freq.put("E", 274);
-    freq.put("േ", 13547);
-    freq.put("മദ്", 277);
-    freq.put("ബർ ", 418);
-    freq.put("്പന", 256);
-    freq.put(" ബന", 199);
-    freq.put("അട", 473);
-    freq.put("ലങ്", 374);
-    freq.put("്പര", 163);
-    freq.put("്പറ", 240);
-    freq.put("ലയാ", 752);
-    freq.put("ലയി", 1550);
-    freq.put(" ബി", 227);
-    freq.put(" ബാ", 363);
-    freq.put("്പാ", 674);
-    freq.put("്പി", 1252);
-    freq.put("ഹ്മ", 132);
-    freq.put("അഭ", 217);
-    freq.put("അയ", 178);
-    freq.put("അമ", 421);
-    freq.put("അന", 675);
-    freq.put("അപ", 189);
-    freq.put("n ", 864);
-    freq.put("അത", 670);
-    freq.put("അധ", 210);
-    freq.put("അദ", 350);
-    freq.put("അണ", 160);
-    freq.put("അസ", 137);
-    freq.put("അവ", 661);
-    freq.put("അറ", 909);
-    freq.put("അര", 181);
-    freq.put("അല", 395);
-    freq.put("രാ", 5614);
-    freq.put("്ടർ", 257);
-    freq.put("ാലക", 339);
-    freq.put("ടിൽ", 160);
-    freq.put("ാലം", 169);
-    freq.put("വർഷ", 372);
-    freq.put("ാലി", 392);
-    freq.put("ാലാ", 156);
-    freq.put("നറി", 301);
-    freq.put("തോട", 190);
-    freq.put("മ", 32874);
-    freq.put("ഭ്", 194);
-    freq.put("ാലയ", 259);
-    freq.put("വർഗ", 216);
-    freq.put("ാലത", 252);
-    freq.put("്ടോ", 261);
-    freq.put("ടിയ", 767);
-    freq.put("ാനം", 570);
-    freq.put("ിഭാ", 320);
-    freq.put("ടിര", 215);
-    freq.put("ടില", 180);
-    freq.put("ാലൂ", 542);
-    freq.put("ാലു", 158);
-    freq.put("ടിസ", 180);
-    freq.put("ലച്", 445);
-    freq.put(" ഗു", 264);
-    freq.put("ടിക", 477);
-    freq.put("p", 1477);
-    freq.put("വം ", 264);
-    freq.put("ടിഞ", 226);
-    freq.put("്ടു", 1302);
-    freq.put("ടിച", 133);
-    freq.put(" ആറ", 135);
-    freq.put(" ആര", 244);
-    freq.put(" ആല", 221);
-    freq.put(" ആവ", 187);
-    freq.put("ഫ് ", 323);
-    freq.put(" ആസ", 220);
-    freq.put("ണ്ണ", 973);
-    freq.put("ണ്ഡ", 544);
-    freq.put(" ഗോ", 177);
-    freq.put(" ആണ", 724);
-    freq.put("htt", 234);
-    freq.put(" ആധ", 137);
-    freq.put(" ആദ", 541);
-    freq.put("ങ", 13504);
-    freq.put(" ആന", 214);
-    freq.put("തി ", 1445);
-    freq.put("ഭാവ", 201);
-    freq.put(" ആയ", 406);
-    freq.put("ഭാഷ", 528);
-    freq.put(" ആക", 232);
-    freq.put("ൽക്", 256);
-    freq.put("വാർ", 151);
-    freq.put("ോപ്", 223);
-    freq.put("ണ്ട", 3469);
-    freq.put(" ആം", 188);
-    freq.put("ടു ", 337);
-    freq.put("ുസ്", 374);
-    freq.put("ോസ്", 247);
-    freq.put("ht ", 197);
-    freq.put("ളും", 648);
-    freq.put("ൈക", 178);
-    freq.put("ഇംഗ", 366);
-    freq.put("ംബ", 834);
-    freq.put("ളുട", 947);
-    freq.put("ി ", 10063);
-    freq.put("ടുമ", 147);
-    freq.put("ൈസ", 157);
-    freq.put("ഗ് ", 228);
-    freq.put("ൈറ", 197);
-    freq.put("പഞ്", 1398);
-    freq.put("ൈവ", 271);
-    freq.put("ൈന", 296);
-    freq.put("റയ", 625);
-    freq.put("ൈദ", 208);
-    freq.put("ശ്ച", 178);
-    freq.put("ഘ", 772);
-    freq.put("ശ്യ", 219);
-    freq.put("പോൾ", 223);
-    freq.put("െപ്", 220);
-    freq.put("ക ", 1483);
-    freq.put("്റവ", 566);
-    freq.put("ശ്ശ", 386);
-    freq.put("ശ്വ", 377);
-    freq.put("ശ്ര", 558);
-    freq.put("F", 167);
-    freq.put("എന്", 4356);
-    freq.put("ഗണി", 159);
-    freq.put("ഒരു", 3867);
-    freq.put("ലായ", 359);
-    freq.put("ലാമ", 187);
-    freq.put("ലാണ", 736);
-    freq.put("ലാത", 169);
-    freq.put("ഴ് ", 251);
-    freq.put("പോല", 201);
-    freq.put("രൻ", 214);
-    freq.put("ലാം", 153);
-    freq.put("ണു", 765);
-    freq.put("് ", 30096);
-    freq.put(" of", 235);
-    freq.put("ഴി ", 137);
-    freq.put("ങളെ", 405);
-    freq.put("യ്ക", 431);
-    freq.put("ാർക", 154);
-    freq.put("ttp", 234);
-    freq.put("യ്ത", 319);
-    freq.put("യ്യ", 1468);
-    freq.put("അംഗ", 150);
-    freq.put("s ", 1099);
-    freq.put("ർത്", 1697);
-    freq.put("ൃ", 1848);
-    freq.put(" px", 215);
-    freq.put("ർപ്", 202);
-    freq.put("ിയ ", 1562);
-    freq.put("ഇന്", 1364);
-    freq.put("വായ", 334);
-    freq.put("ght", 209);
-    freq.put("റപ്", 145);
-    freq.put("ss", 146);
-    freq.put("st", 355);
-    freq.put("si", 227);
-    freq.put("ഥവാ", 438);
-    freq.put("ങ്", 7589);
-    freq.put("നയി", 167);
-    freq.put("se", 201);
-    freq.put("കനു", 217);
-    freq.put("കന്", 204);
-    freq.put("റം ", 319);
-    freq.put(" ഈ ", 1593);
-    freq.put("ോഗി", 791);
-    freq.put(" an", 158);
-    freq.put("യർ", 416);
-    freq.put("യൻ", 1031);
-    freq.put("റിൽ", 141);
-    freq.put("ആയി", 224);
-    freq.put("ച്ച", 4631);
-    freq.put("റിക", 201);
-    freq.put("ാളം", 134);
-    freq.put("റിച", 232);
-    freq.put("്ലേ", 201);
-    freq.put("ാളി", 252);
-    freq.put("റിയ", 1715);
-    freq.put("്ലീ", 428);
-    freq.put("ോഗ്", 169);
-    freq.put("റിന", 263);
-    freq.put("െ ", 14490);
-    freq.put("റില", 158);
-    freq.put("ഗ്ല", 445);
-    freq.put("കനാ", 221);
-    freq.put("ഷൻ ", 245);
-    freq.put("്റാ", 444);
-    freq.put("ാളത", 153);
-    freq.put("em", 159);
-    freq.put("el", 240);
-    freq.put("en", 424);
-    freq.put("അ", 8089);
-    freq.put("ടായ", 281);
-    freq.put("ed", 311);
-    freq.put("ea", 262);
-    freq.put(" ഇൻ", 148);
-    freq.put("ec", 168);
-    freq.put("എസ", 156);
-    freq.put("et", 186);
-    freq.put("എല", 190);
-    freq.put("എഴ", 295);
-    freq.put("es", 424);
-    freq.put("er", 794);
-    freq.put("ഭവ", 280);
-    freq.put(" കാ", 1855);
-    freq.put(" കി", 865);
-    freq.put("ോൺ ", 165);
-    freq.put("മ്ര", 188);
-    freq.put(" ww", 169);
-    freq.put(" കഴ", 213);
-    freq.put(" കവ", 234);
-    freq.put("എം", 136);
-    freq.put(" കര", 347);
-    freq.put("പട്", 440);
-    freq.put("ീയ ", 378);
-    freq.put(" കള", 233);
-    freq.put(" കമ", 372);
-    freq.put(" കന", 144);
-    freq.put("എട", 140);
-    freq.put("മ്മ", 1128);
-    freq.put(" കഥ", 180);
-    freq.put("ത്ര", 4088);
-    freq.put("മ്പ", 1717);
-    freq.put(" കണ", 816);
-    freq.put(" ഇവ", 544);
-    freq.put(" ഇല", 190);
-    freq.put(" ഇര", 190);
-    freq.put("e ", 1341);
-    freq.put(" ഇസ", 230);
-    freq.put("യം", 1280);
-    freq.put(" ഇദ", 201);
-    freq.put(" ക്", 1197);
-    freq.put(" ഇത", 1342);
-    freq.put(" കൈ", 147);
-    freq.put(" കൊ", 822);
-    freq.put(" കോ", 957);
-    freq.put(" കെ", 231);
-    freq.put(" കേ", 1543);
-    freq.put(" കീ", 159);
-    freq.put(" കു", 1227);
-    freq.put(" കൂ", 693);
-    freq.put(" കൃ", 254);
-    freq.put(" കർ", 226);
-    freq.put("ഹത്", 297);
-    freq.put("ൈക്", 133);
-    freq.put("ലൂക", 546);
-    freq.put("സഞ്", 150);
-    freq.put(" ഇം", 372);
-    freq.put("ുമു", 219);
-    freq.put("അഥവ", 448);
-    freq.put(" സം", 1809);
-    freq.put(" പ്", 4372);
-    freq.put("ണി", 1469);
-    freq.put("വി", 6428);
-    freq.put(" പോ", 463);
-    freq.put(" പൊ", 392);
-    freq.put("്രം", 725);
-    freq.put(" പേ", 780);
-    freq.put(" പെ", 480);
-    freq.put(" പു", 1278);
-    freq.put(" പൂ", 332);
-    freq.put(" സമ", 812);
-    freq.put(" സഭ", 212);
-    freq.put("യിൽ", 1778);
-    freq.put("ഇൻ", 149);
-    freq.put("രെയ", 158);
-    freq.put("ണാ", 642);
-    freq.put(" സഹ", 208);
-    freq.put(" സസ", 221);
-    freq.put(" സി", 733);
-    freq.put(" സാ", 1185);
-    freq.put("യിക", 256);
-    freq.put(" പട", 612);
-    freq.put(" പഞ", 607);
-    freq.put("താര", 239);
-    freq.put(" സ്", 2807);
-    freq.put("താല", 576);
-    freq.put(" പക", 257);
-    freq.put(" സൂ", 331);
-    freq.put("x ", 258);
-    freq.put(" സെ", 318);
-    freq.put("ത്വ", 330);
-    freq.put("ഭാ", 2218);
-    freq.put("ഇം", 373);
-    freq.put("താണ", 917);
-    freq.put("തായ", 301);
-    freq.put("താന", 186);
-    freq.put("്ഷണ", 214);
-    freq.put(" പി", 660);
-    freq.put(" പാ", 1107);
-    freq.put("യിര", 1399);
-    freq.put("യില", 2744);
-    freq.put(" പഴ", 174);
-    freq.put(" പറ", 573);
-    freq.put(" പര", 747);
-    freq.put(" പല", 234);
-    freq.put("യൂട", 261);
-    freq.put("r", 3549);
-    freq.put(" പന", 151);
-    freq.put(" സർ", 371);
-    freq.put("ഡിയ", 165);
-    freq.put(" പത", 547);
-    freq.put("ുമാ", 1413);
-    freq.put("ലൊന", 171);
-    freq.put("ടെയ", 346);
-    freq.put(" പണ", 151);
-    freq.put("ഇന", 1412);
-    freq.put("and", 176);
-    freq.put("കർ", 533);
-    freq.put("തന്", 625);
-    freq.put("കൾ", 1615);
-    freq.put("ഭര", 449);
-    freq.put("കൻ", 533);
-    freq.put("്ര ", 614);
-    freq.put("ശീയ", 288);
-    freq.put("്ഷത", 297);
-    freq.put("ലിന", 217);
-    freq.put("ലിപ", 166);
-    freq.put("ാടി", 272);
-    freq.put("ൻസ്", 171);
-    freq.put("ലിയ", 569);
-    freq.put("യി", 9140);
-    freq.put("ഹമ", 212);
-    freq.put("ലിക", 373);
-    freq.put("യ", 48687);
-    freq.put("കൻ ", 521);
-    freq.put("ക്", 21779);
-    freq.put("കൈ", 174);
-    freq.put("കോ", 1765);
-    freq.put("കൊ", 1243);
-    freq.put("ാടക", 206);
-    freq.put("കേ", 2116);
-    freq.put("കെ", 542);
-    freq.put("കു", 7634);
-    freq.put("കീ", 288);
-    freq.put("കൃ", 756);
-    freq.put("കൂ", 1037);
-    freq.put("്രദ", 820);
-    freq.put("കി", 3548);
-    freq.put("കൊള", 171);
-    freq.put("an ", 167);
-    freq.put("കസ", 257);
-    freq.put("്രധ", 583);
-    freq.put("കവ", 506);
-    freq.put("കഴ", 243);
-    freq.put("യസ", 303);
-    freq.put("കറ", 301);
-    freq.put("തനം", 152);
-    freq.put("കള", 3150);
-    freq.put("കല", 863);
-    freq.put("കയ", 816);
-    freq.put("കമ", 989);
-    freq.put("കന", 747);
-    freq.put("വടക", 415);
-    freq.put("കപ", 759);
-    freq.put("കഥ", 303);
-    freq.put("കത", 663);
-    freq.put("െട", 3862);
-    freq.put("തെ ", 1217);
-    freq.put("കണ", 938);
-    freq.put("രപ്", 252);
-    freq.put("ാട്", 1178);
-    freq.put("കട", 577);
-    freq.put("കങ", 196);
-    freq.put("കക", 230);
-    freq.put("അമേ", 219);
-    freq.put("ാടു", 187);
-    freq.put("തനാ", 181);
-    freq.put("യറ", 218);
-    freq.put("്രയ", 207);
-    freq.put("യര", 304);
-    freq.put("കം", 672);
-    freq.put("കേന", 314);
-    freq.put("ൂമി", 187);
-    freq.put("ഭരണ", 352);
-    freq.put("്രപ", 199);
-    freq.put("്ട ", 817);
-    freq.put("രം ", 1921);
-    freq.put("ഖ", 1936);
-    freq.put("നെ ", 631);
-    freq.put("കേര", 1281);
-    freq.put("ലേയ", 136);
-    freq.put("ലേക", 222);
-    freq.put("ദു", 403);
-    freq.put("ലേജ", 143);
-    freq.put("ൂടു", 168);
-    freq.put("ദായ", 132);
-    freq.put("H", 218);
-    freq.put("ഗിച", 235);
-    freq.put("ദൈ", 141);
-    freq.put("ൂടെ", 257);
-    freq.put("സം ", 495);
-    freq.put("റഞ്", 136);
-    freq.put("കരി", 544);
-    freq.put("സിസ", 131);
-    freq.put("അത്", 146);
-    freq.put("്രഹ", 203);
-    freq.put("വള", 556);
-    freq.put("വൈ", 359);
-    freq.put("അധി", 169);
-    freq.put("ുന്", 10068);
-    freq.put(" നോ", 233);
-    freq.put("ലണ്", 140);
-    freq.put("േരി", 960);
-    freq.put("കൊല", 162);
-    freq.put(" ന്", 326);
-    freq.put(" നൂ", 265);
-    freq.put("്രജ", 175);
-    freq.put(" നീ", 290);
-    freq.put(" നേ", 376);
-    freq.put(" നെ", 227);
-    freq.put("േരള", 1271);
-    freq.put("സിദ", 345);
-    freq.put("തലസ", 164);
-    freq.put("്രത", 1256);
-    freq.put("ുഴ ", 240);
-    freq.put(" നൽ", 229);
-    freq.put("തിയ", 1314);
-    freq.put("സിയ", 151);
-    freq.put("്രു", 156);
-    freq.put("സിപ", 159);
-    freq.put("സിന", 374);
-    freq.put("്രശ", 364);
-    freq.put("്രവ", 914);
-    freq.put("സില", 142);
-    freq.put("്രര", 148);
-    freq.put("യിട", 223);
-    freq.put("്രാ", 2390);
-    freq.put("്രി", 1522);
-    freq.put(" ശി", 199);
-    freq.put(" ശാ", 428);
-    freq.put("ു", 58406);
-    freq.put("്രേ", 194);
-    freq.put("ടങ്", 577);
-    freq.put(" നട", 599);
-    freq.put(" ശേ", 181);
-    freq.put("വർ", 1764);
-    freq.put(" നഗ", 396);
-    freq.put(" ശ്", 451);
-    freq.put("്രോ", 492);
-    freq.put(" നക", 244);
-    freq.put("െന", 785);
-    freq.put("ൾ ", 3523);
-    freq.put(" നി", 2688);
-    freq.put(" നാ", 1197);
-    freq.put("്മാ", 586);
-    freq.put("്മി", 445);
-    freq.put("േരു", 255);
-    freq.put(" നവ", 174);
-    freq.put("ാൾ ", 197);
-    freq.put("്നെ", 265);
-    freq.put("s", 2723);
-    freq.put("ദത", 182);
-    freq.put("െയ", 3291);
-    freq.put(" നദ", 211);
-    freq.put("്മദ", 157);
-    freq.put("ാമി", 294);
-    freq.put("ാമാ", 133);
-    freq.put("മം", 543);
-    freq.put("ചിട", 172);
-    freq.put("ാമമ", 268);
-    freq.put("ഡല", 261);
-    freq.put("ാമപ", 768);
-    freq.put("ാമത", 404);
-    freq.put("മക", 266);
-    freq.put("ഡി", 791);
-    freq.put("ഡാ", 142);
-    freq.put("ചിര", 413);
-    freq.put("ചിറ", 138);
-    freq.put("ചില", 197);
-    freq.put("മമ", 375);
-    freq.put("മയ", 404);
-    freq.put("മണ", 590);
-    freq.put("മത", 1028);
-    freq.put("മദ", 367);
-    freq.put("മധ", 161);
-    freq.put("മസ", 322);
-    freq.put("മഹ", 381);
-    freq.put("ചിത", 936);
-    freq.put("ദമ", 198);
-    freq.put("മാ", 10411);
-    freq.put("മി", 2147);
-    freq.put("ചിന", 169);
-    freq.put("മറ", 466);
-    freq.put("ചിപ", 139);
-    freq.put("ാമം", 286);
-    freq.put("മൈ", 144);
-    freq.put("ീ", 8295);
-    freq.put("മൊ", 134);
-    freq.put("മോ", 397);
-    freq.put("മ്", 3221);
-    freq.put("മീ", 726);
-    freq.put("മു", 3097);
-    freq.put("മൂ", 870);
-    freq.put("മെ", 621);
-    freq.put("മേ", 980);
-    freq.put("ട് ", 2684);
-    freq.put("ർന്", 390);
-    freq.put("ഡെ", 175);
-    freq.put("ഡോ", 225);
-    freq.put("റത്", 391);
-    freq.put("ഡ്", 914);
-    freq.put("തമ്", 155);
-    freq.put("ാമ്", 413);
-    freq.put("മൻ", 182);
-    freq.put("മർ", 179);
-    freq.put("നിക", 437);
-    freq.put("നിച", 204);
-    freq.put("യ ", 5708);
-    freq.put("നിവ", 495);
-    freq.put("നില", 691);
-    freq.put("നിര", 355);
-    freq.put("നിറ", 179);
-    freq.put("il", 179);
-    freq.put("ണത്", 429);
-    freq.put("ഫ", 2123);
-    freq.put("ബത്", 224);
-    freq.put("ഇതി", 553);
-    freq.put("ുവി", 444);
-    freq.put("നിമ", 172);
-    freq.put("നിയ", 759);
-    freq.put("്നത", 3020);
-    freq.put("നിന", 1060);
-    freq.put("നുമ", 332);
-    freq.put("I", 415);
-    freq.put(" മത", 278);
-    freq.put("നുസ", 192);
-    freq.put("ഷ്യ", 741);
-    freq.put("ത ", 1303);
-    freq.put("ിളി", 317);
-    freq.put("ഷ്ണ", 218);
-    freq.put("നുള", 311);
-    freq.put("നുവ", 212);
-    freq.put("ൂരി", 182);
-    freq.put("നുഷ", 303);
-    freq.put("്നാ", 1196);
-    freq.put(" th", 549);
-    freq.put("ഷ്ട", 557);
-    freq.put(" ഒര", 4105);
-    freq.put("നിർ", 607);
-    freq.put("നിൽ", 228);
-    freq.put("രി ", 963);
-    freq.put("ുനി", 282);
-    freq.put("തിച", 316);
-    freq.put("്ഷ്", 138);
-    freq.put("In", 142);
-    freq.put(" ഒന", 341);
-    freq.put("ലക", 1101);
-    freq.put("ഥയ", 152);
-    freq.put("ം", 26623);
-    freq.put("ധീക", 138);
-    freq.put("ലങ", 375);
-    freq.put("വനന", 179);
-    freq.put(" അർ", 208);
-    freq.put(" മറ", 395);
-    freq.put("ഥി", 968);
-    freq.put("ഥാ", 1753);
-    freq.put("ലം", 722);
-    freq.put("ഥവ", 455);
-    freq.put("ിലവ", 146);
-    freq.put("നൂറ", 277);
-    freq.put("ഥല", 260);
-    freq.put("ലവ", 344);
-    freq.put("്നവ", 135);
-    freq.put("റെ ", 3202);
-    freq.put("ലാ", 2706);
-    freq.put("ലി", 2464);
-    freq.put("ലസ", 248);
-    freq.put("ഥം", 170);
-    freq.put("ലത", 808);
-    freq.put(" ഓഫ", 177);
-    freq.put("ജനു", 148);
-    freq.put("ലണ", 143);
-    freq.put("ലഭ", 229);
-    freq.put("ജന്", 153);
-    freq.put("ലയ", 2792);
-    freq.put("ലന", 318);
-    freq.put("ലപ", 453);
-    freq.put(" അഭ", 214);
-    freq.put(" അമ", 420);
-    freq.put(" അയ", 173);
-    freq.put(" അന", 672);
-    freq.put(" അപ", 189);
-    freq.put(" അത", 659);
-    freq.put(" അഥ", 462);
-    freq.put(" അദ", 348);
-    freq.put(" അധ", 209);
-    freq.put("ർവ്", 178);
-    freq.put(" അണ", 160);
-    freq.put("നൂർ", 159);
-    freq.put("ലെ", 5253);
-    freq.put("ലേ", 789);
-    freq.put(" അസ", 137);
-    freq.put("ലു", 2355);
-    freq.put("ലൂ", 979);
-    freq.put(" അവ", 660);
-    freq.put(" അര", 179);
-    freq.put(" അറ", 908);
-    freq.put(" അല", 394);
-    freq.put("ജനന", 254);
-    freq.put("ില്", 2038);
-    freq.put("രഞ്", 146);
-    freq.put("െടു", 2359);
-    freq.put("ടന്", 213);
-    freq.put("ിലെ", 4614);
-    freq.put("ിലേ", 330);
-    freq.put("വന്", 355);
-    freq.put("ിലൂ", 238);
-    freq.put(" അം", 186);
-    freq.put("ിലു", 1762);
-    freq.put("ഭിച", 159);
-    freq.put(" അട", 472);
-    freq.put("t", 4207);
-    freq.put("വഴ", 173);
-    freq.put(" അക", 377);
-    freq.put("ശസ്", 398);
-    freq.put("ദിയ", 235);
-    freq.put("ദിന", 206);
-    freq.put("ദിവ", 229);
-    freq.put("ജ്ജ", 187);
-    freq.put("ഞ്", 2940);
-    freq.put("ജ്ഞ", 320);
-    freq.put("കു ", 269);
-    freq.put("ണു ", 234);
-    freq.put("ം ", 21178);
-    freq.put(" co", 199);
-    freq.put("ജ്യ", 739);
-    freq.put("ഭ", 5198);
-    freq.put("o ", 216);
-    freq.put("ദിക", 158);
-    freq.put("അദ്", 338);
-    freq.put("ൂര", 435);
-    freq.put("കത്", 528);
-    freq.put("വന", 931);
-    freq.put("മന", 817);
-    freq.put("ദ്വ", 180);
-    freq.put("മപ", 831);
-    freq.put("ദ്ര", 848);
-    freq.put("ോഫ്", 143);
-    freq.put("ദ്യ", 1112);
-    freq.put("്കൽ", 212);
-    freq.put("ദ്ദ", 733);
-    freq.put("ദ്ധ", 1337);
-    freq.put("അം", 186);
-    freq.put("on", 664);
-    freq.put("om", 259);
-    freq.put("ol", 194);
-    freq.put("ഞാ", 426);
-    freq.put("of", 259);
-    freq.put("സരി", 133);
-    freq.put("മണ്", 363);
-    freq.put("നതാ", 252);
-    freq.put("ou", 163);
-    freq.put("പയോ", 768);
-    freq.put("or", 514);
-    freq.put("op", 135);
-    freq.put("ോണ", 319);
-    freq.put("ോഡ", 324);
-    freq.put("വി ", 249);
-    freq.put("ടക്", 856);
-    freq.put("ോത", 321);
-    freq.put("ോഫ", 177);
-    freq.put("ോപ", 434);
-    freq.put("ോന", 149);
-    freq.put("ോയ", 198);
-    freq.put("ോമ", 554);
-    freq.put("ോബ", 223);
-    freq.put("ോള", 566);
-    freq.put("ോല", 414);
-    freq.put("ോറ", 240);
-    freq.put("ോര", 171);
-    freq.put("ോഷ", 199);
-    freq.put("രനാ", 222);
-    freq.put("ോവ", 275);
-    freq.put("ോഴ", 323);
-    freq.put("യയി", 607);
-    freq.put("ോസ", 481);
-    freq.put("ത്", 29067);
-    freq.put("തൊ", 210);
-    freq.put("തോ", 646);
-    freq.put("തെ", 2173);
-    freq.put("തേ", 368);
-    freq.put("്ദേ", 658);
-    freq.put("തൂ", 222);
-    freq.put("ബ", 5674);
-    freq.put("തീ", 783);
-    freq.put("തു", 3776);
-    freq.put("ായ്", 163);
-    freq.put("യങ്", 581);
-    freq.put("ോഗ", 1263);
-    freq.put("ോക", 1283);
-    freq.put("പൊത", 227);
-    freq.put("ോട", 1348);
-    freq.put("ായു", 463);
-    freq.put("ോജ", 148);
-    freq.put("തമ", 1061);
-    freq.put("തയ", 396);
-    freq.put("ായാ", 181);
-    freq.put("ായി", 3609);
-    freq.put("തപ", 458);
-    freq.put("തന", 1444);
-    freq.put("ളോ", 309);
-    freq.put("തത", 746);
-    freq.put("്ന ", 5898);
-    freq.put("ർട്", 250);
-    freq.put("താ", 3666);
-    freq.put("മര", 545);
-    freq.put("റെയ", 243);
-    freq.put("ഷം ", 301);
-    freq.put("ായത", 1564);
-    freq.put("ോൺ", 268);
-    freq.put("തവ", 316);
-    freq.put("തല", 712);
-    freq.put("ോൾ", 398);
-    freq.put("തര", 903);
-    freq.put("ശൂർ", 174);
-    freq.put("യയു", 269);
-    freq.put("രന്", 347);
-    freq.put("ാങ്", 227);
-    freq.put("ായക", 210);
-    freq.put("തം", 452);
-    freq.put("അഥ", 462);
-    freq.put("he ", 334);
-    freq.put("തങ", 173);
-    freq.put("ക", 65976);
-    freq.put("തമി", 248);
-    freq.put("തമാ", 549);
-    freq.put("ഥാപ", 368);
-    freq.put("ac", 198);
-    freq.put("ad", 149);
-    freq.put("am", 238);
-    freq.put("al", 614);
-    freq.put("an", 747);
-    freq.put("as", 248);
-    freq.put("ar", 530);
-    freq.put("at", 600);
-    freq.put("ഗ", 10132);
-    freq.put("പിച", 417);
-    freq.put("ഗങ", 344);
-    freq.put("ഗത", 782);
-    freq.put("ഗണ", 317);
-    freq.put("ഗമ", 519);
-    freq.put("ോഹ", 213);
-    freq.put("ഗവ", 220);
-    freq.put("ഗല", 182);
-    freq.put("ഗര", 457);
-    freq.put("ഗി", 1014);
-    freq.put("ഗാ", 550);
-    freq.put("ോകത", 185);
-    freq.put("നമാ", 873);
-    freq.put("a ", 674);
-    freq.put("c ", 161);
-    freq.put("ഗു", 368);
-    freq.put("ഗീ", 392);
-    freq.put("ഗ്", 3272);
-    freq.put("മല", 1243);
-    freq.put("ഗോ", 498);
-    freq.put("്റി", 828);
-    freq.put("ോക്", 696);
-    freq.put("ൗ", 469);
-    freq.put("ൊണ്", 419);
-    freq.put("്യാ", 1524);
-    freq.put("ഥം ", 166);
-    freq.put("ുംബ", 279);
-    freq.put("കപ്", 708);
-    freq.put("u", 1770);
-    freq.put("ാക്", 1414);
-    freq.put("ർ ", 4755);
-    freq.put("ഉൾപ", 337);
-    freq.put("േശത", 140);
-    freq.put("ാകു", 356);
-    freq.put("വക്", 151);
-    freq.put("േശി", 194);
-    freq.put(" ദേ", 508);
-    freq.put(" ദ്", 241);
-    freq.put("ന ", 6972);
-    freq.put("സൂച", 143);
-    freq.put("േശം", 258);
-    freq.put("tt", 296);
-    freq.put("tr", 153);
-    freq.put("tp", 241);
-    freq.put("ജില", 1519);
-    freq.put("to", 263);
-    freq.put("േശങ", 199);
-    freq.put("th", 747);
-    freq.put("ti", 568);
-    freq.put("്നറ", 289);
-    freq.put("te", 463);
-    freq.put("ാ", 63951);
-    freq.put("ർശ", 261);
-    freq.put("ർഷ", 608);
-    freq.put("ിപ്", 1405);
-    freq.put(" ദക", 157);
-    freq.put("ചരി", 346);
-    freq.put("ഹാര", 204);
-    freq.put("al ", 246);
-    freq.put("കരണ", 329);
-    freq.put("ർദ", 256);
-    freq.put("ർത", 1751);
-    freq.put("വർത", 599);
-    freq.put("ർഡ", 239);
-    freq.put("ർമ", 803);
-    freq.put("എ", 6292);
-    freq.put("പാട", 326);
-    freq.put("ർന", 493);
-    freq.put("ർഗ", 447);
-    freq.put("വകാ", 131);
-    freq.put("പാദ", 161);
-    freq.put("േശ്", 174);
-    freq.put("ർട", 256);
-    freq.put("േശീ", 282);
-    freq.put("ർച", 209);
-    freq.put(" ദി", 368);
-    freq.put("പാല", 480);
-    freq.put("ുപ്", 479);
-    freq.put("t ", 716);
-    freq.put("ൾ", 4761);
-    freq.put("ter", 154);
-    freq.put("ിൽ ", 7420);
-    freq.put("സിക", 356);
-    freq.put("ബ്ര", 460);
-    freq.put("ബ്ല", 277);
-    freq.put("ബ്ള", 167);
-    freq.put("രസ്", 464);
-    freq.put("ദർശ", 140);
-    freq.put("ട ", 916);
-    freq.put("രസി", 277);
-    freq.put("ു് ", 338);
-    freq.put("K", 134);
-    freq.put(" ri", 189);
-    freq.put("ചാര", 301);
-    freq.put("ംവി", 172);
-    freq.put("രദേ", 627);
-    freq.put("ചായ", 1294);
-    freq.put("ാസ", 2241);
-    freq.put("ാഹ", 589);
-    freq.put("ാര", 3963);
-    freq.put("ാറ", 1288);
-    freq.put("ാല", 2916);
-    freq.put("ാള", 1241);
-    freq.put("ാഴ", 297);
-    freq.put("ാവ", 1901);
-    freq.put("ാശ", 745);
-    freq.put("ാഷ", 985);
-    freq.put("ാന", 5014);
-    freq.put("റീ", 135);
-    freq.put("ാപ", 1119);
-    freq.put("ാബ", 224);
-    freq.put("ാഭ", 193);
-    freq.put("ാമ", 3387);
-    freq.put("ായ", 9472);
-    freq.put("റോ", 534);
-    freq.put("ാണ", 10704);
-    freq.put("ാത", 1928);
-    freq.put("സങ്", 186);
-    freq.put("ാദ", 754);
-    freq.put("ാധ", 756);
-    freq.put("ാങ", 229);
-    freq.put("ാച", 293);
-    freq.put("ാജ", 1079);
-    freq.put("ടങ", 583);
-    freq.put("ാട", 2078);
-    freq.put("്ളി", 382);
-    freq.put("ന", 73400);
-    freq.put("ിറ്", 420);
-    freq.put("മേഖ", 168);
-    freq.put("ാഖ", 155);
-    freq.put("ാഗ", 1285);
-    freq.put("ആസ്", 173);
-    freq.put("ിധാ", 325);
-    freq.put("ാം", 1111);
-    freq.put("കി ", 452);
-    freq.put("ടക", 1208);
-    freq.put("വാ ", 463);
-    freq.put("ലോക", 643);
-    freq.put("ശം ", 392);
-    freq.put("ാർ", 1852);
-    freq.put("ാൽ", 616);
-    freq.put("ാൾ", 251);
-    freq.put("റങ", 256);
-    freq.put("ബന്", 340);
-    freq.put("റഞ", 137);
-    freq.put("റം", 434);
-    freq.put("ററ", 173);
-    freq.put("റവ", 704);
-    freq.put("റി", 3562);
-    freq.put("റാ", 1047);
-    freq.put("ാർ ", 676);
-    freq.put("റണ", 147);
-    freq.put("റത", 394);
-    freq.put("v", 415);
-    freq.put("ലോമ", 256);
-    freq.put("റപ", 149);
-    freq.put("ിദ", 770);
-    freq.put("റബ", 175);
-    freq.put("ിറങ", 160);
-    freq.put("റമ", 259);
-    freq.put("മാക", 397);
-    freq.put("ാം ", 756);
-    freq.put("ള്ള", 3418);
-    freq.put("f ", 272);
-    freq.put("ഓ", 760);
-    freq.put("കൽ ", 221);
-    freq.put("ോദ്", 147);
-    freq.put("േത്", 452);
-    freq.put("മാസ", 192);
-    freq.put("മാല", 167);
-    freq.put("മാറ", 260);
-    freq.put("മാര", 358);
-    freq.put("മായ", 3224);
-    freq.put("മാന", 490);
-    freq.put("രമ്", 132);
-    freq.put("്ലെ", 193);
-    freq.put("മാത", 372);
-    freq.put("മാണ", 3756);
-    freq.put("ളരെ", 204);
-    freq.put("്ലാ", 703);
-    freq.put("്ലി", 325);
-    freq.put("പരമ", 221);
-    freq.put("സ് ", 1944);
-    freq.put("ബത", 225);
-    freq.put("ടിന", 182);
-    freq.put("ദ ", 154);
-    freq.put("്ലയ", 1398);
-    freq.put("പരി", 493);
-    freq.put("പരാ", 131);
-    freq.put("രൂപ", 574);
-    freq.put("a", 5004);
-    freq.put("മാർ", 420);
-    freq.put("ീഷ്", 363);
-    freq.put("േതാ", 159);
-    freq.put("്റു", 446);
-    freq.put("പറയ", 460);
-    freq.put(" വാ", 826);
-    freq.put(" വി", 3041);
-    freq.put(" വസ", 228);
-    freq.put("ൂട്", 482);
-    freq.put("്റേ", 221);
-    freq.put("്റെ", 3192);
-    freq.put(" വഴ", 131);
-    freq.put("y ", 432);
-    freq.put("ഇദ്", 200);
-    freq.put(" വര", 613);
-    freq.put(" വല", 423);
-    freq.put(" വള", 462);
-    freq.put("വ്", 1715);
-    freq.put(" വയ", 153);
-    freq.put(" വന", 287);
-    freq.put("നിസ", 191);
-    freq.put("വോ", 132);
-    freq.put("വേ", 1138);
-    freq.put("വെ", 830);
-    freq.put("വു", 2019);
-    freq.put("വീ", 487);
-    freq.put("വൃ", 226);
-    freq.put("ടയ", 443);
-    freq.put("േറ്", 263);
-    freq.put(" വട", 443);
-    freq.put("വൻ", 194);
-    freq.put(" വക", 168);
-    freq.put("പ", 39149);
-    freq.put("യോ ", 322);
-    freq.put("അനു", 271);
-    freq.put("ൂർ", 1703);
-    freq.put("അന്", 287);
-    freq.put("്റർ", 497);
-    freq.put(" വർ", 592);
-    freq.put("വട", 524);
-    freq.put("്റം", 197);
-    freq.put("വച", 214);
-    freq.put("വക", 573);
-    freq.put("തീര", 189);
-    freq.put("L", 186);
-    freq.put("ഓഫ", 177);
-    freq.put("ൂക", 744);
-    freq.put("ശമ", 220);
-    freq.put("ൂട", 1342);
-    freq.put("ൂച", 155);
-    freq.put("വം", 540);
-    freq.put("ൂത", 256);
-    freq.put("ുക ", 185);
-    freq.put("ഭൂമ", 198);
-    freq.put("വാ", 3225);
-    freq.put("വഹ", 163);
-    freq.put("വസ", 973);
-    freq.put("സാധ", 303);
-    freq.put("ൂണ", 183);
-    freq.put("സാന", 195);
-    freq.put("ൂമ", 233);
-    freq.put("വശ", 269);
-    freq.put("ൂന", 329);
-    freq.put("വര", 1681);
-    freq.put("ൂപ", 660);
-    freq.put("സാമ", 424);
-    freq.put("്ററ", 147);
-    freq.put(" വ്", 771);
-    freq.put("വയ", 976);
-    freq.put("വമ", 167);
-    freq.put(" വൈ", 304);
-    freq.put("ൂറ", 506);
-    freq.put("ൂല", 403);
-    freq.put("ൂടി", 333);
-    freq.put("സാഹ", 254);
-    freq.put("വത", 706);
-    freq.put(" വെ", 601);
-    freq.put(" വേ", 548);
-    freq.put(" വീ", 201);
-    freq.put("ൂഹ", 200);
-    freq.put("വണ", 138);
-    freq.put(" വൃ", 131);
-    freq.put("്യങ", 413);
-    freq.put("യുത", 144);
-    freq.put("യുമ", 248);
-    freq.put("രള ", 241);
-    freq.put("്യക", 572);
-    freq.put("യുന", 1398);
-    freq.put("ുടേ", 141);
-    freq.put("ുടെ", 2766);
-    freq.put("യുള", 358);
-    freq.put("പിക", 595);
-    freq.put("ുടു", 255);
-    freq.put("ഞ്ഞ", 800);
-    freq.put("്യം", 593);
-    freq.put("ുട്", 263);
-    freq.put("ഞ്ച", 1999);
-    freq.put("്യസ", 193);
-    freq.put("യും", 2125);
-    freq.put("പിന", 279);
-    freq.put("്യര", 146);
-    freq.put("െത്", 201);
-    freq.put("്യവ", 286);
-    freq.put("്നീ", 591);
-    freq.put("്യപ", 213);
-    freq.put("്യന", 356);
-    freq.put("്യയ", 869);
-    freq.put("്യമ", 802);
-    freq.put("യുട", 1638);
-    freq.put("ൽപ", 280);
-    freq.put("കീഴ", 158);
-    freq.put("്യത", 846);
-    freq.put("ൾക്", 604);
-    freq.put("ുടങ", 281);
-    freq.put("്യോ", 256);
-    freq.put("രധാ", 578);
-    freq.put("്യൂ", 574);
-    freq.put("്യു", 1251);
-    freq.put("്യേ", 240);
-    freq.put("്യൻ", 654);
-    freq.put("തു ", 412);
-    freq.put("പ്ര", 5359);
-    freq.put("പ്റ", 162);
-    freq.put("ട്", 8736);
-    freq.put("പ്പ", 6916);
-    freq.put("ദം ", 215);
-    freq.put("പ്യ", 278);
-    freq.put("w", 903);
-    freq.put("മലപ", 135);
-    freq.put("ഔ", 217);
-    freq.put("ടെ", 3674);
-    freq.put("മലയ", 732);
-    freq.put("ഗസ", 163);
-    freq.put("ിദ്", 640);
-    freq.put("ൽക", 534);
-    freq.put("ഷ്ഠ", 143);
-    freq.put("നാൽ", 247);
-    freq.put("ഇത്", 627);
-    freq.put("കാൻ", 202);
-    freq.put("ദക്", 161);
-    freq.put("ശക", 161);
-    freq.put("്നു", 4523);
-    freq.put("നാട", 633);
-    freq.put("ഖ്", 518);
-    freq.put("തൽ ", 385);
-    freq.put("b", 935);
-    freq.put("യർ ", 285);
-    freq.put("നാണ", 1039);
-    freq.put(" ടെ", 156);
-    freq.put("നും", 1607);
-    freq.put("നായ", 1102);
-    freq.put("നാമ", 420);
-    freq.put("വ്വ", 236);
-    freq.put("ധി", 1094);
-    freq.put("ധാ", 1533);
-    freq.put("്കട", 170);
-    freq.put("ഴക", 439);
-    freq.put("ഭാര", 363);
-    freq.put("ധത", 175);
-    freq.put("്കം", 167);
-    freq.put("ധമ", 209);
-    freq.put("ിരാ", 141);
-    freq.put("ിരി", 844);
-    freq.put("ധന", 255);
-    freq.put("ഴി", 934);
-    freq.put("്കറ", 207);
-    freq.put("്കര", 378);
-    freq.put("ീസ്", 201);
-    freq.put("tp ", 236);
-    freq.put("്കി", 2121);
-    freq.put("്കാ", 2470);
-    freq.put("ഴയ", 224);
-    freq.put("പകര", 152);
-    freq.put("ക് ", 1892);
-    freq.put("ാൽ ", 543);
-    freq.put("്കയ", 184);
-    freq.put("വസ്", 414);
-    freq.put("ി", 86416);
-    freq.put("്കപ", 570);
-    freq.put("ടർ ", 247);
-    freq.put("മിച", 154);
-    freq.put("വസാ", 210);
-    freq.put("മിക", 467);
-    freq.put("M", 384);
-    freq.put("നം ", 1340);
-    freq.put("പക്", 254);
-    freq.put("ീത", 716);
-    freq.put("്കേ", 378);
-    freq.put("ഴ്", 515);
-    freq.put("്കു", 5270);
-    freq.put("്കൃ", 134);
-    freq.put("്കൂ", 155);
-    freq.put("്ക്", 1983);
-    freq.put("ലെയ", 139);
-    freq.put("ബർ", 483);
-    freq.put("്കോ", 591);
-    freq.put("ഴു", 589);
-    freq.put("തീർ", 152);
-    freq.put("ിരു", 2143);
-    freq.put("മിഴ", 237);
-    freq.put("ലെങ", 175);
-    freq.put("മില", 152);
-    freq.put("നുക", 143);
-    freq.put("മിയ", 208);
-    freq.put("മിന", 134);
-    freq.put("ധു", 167);
-    freq.put("ധീ", 204);
-    freq.put("ധ്", 613);
-    freq.put("ഥമ", 194);
-    freq.put("ലവി", 164);
-    freq.put("രതി", 352);
-    freq.put("ടത്", 622);
-    freq.put("ദ", 11612);
-    freq.put("ിചെ", 253);
-    freq.put("ൃശ്", 191);
-    freq.put("നപ്", 274);
-    freq.put("ിച്", 3119);
-    freq.put("ുകൾ", 669);
-    freq.put("ൾപ്", 365);
-    freq.put("ा", 135);
-    freq.put("ശു", 222);
-    freq.put("രശസ", 300);
-    freq.put("കാസ", 134);
-    freq.put("രത്", 1578);
-    freq.put("നാല", 249);
-    freq.put("ലച", 462);
-    freq.put("രതീ", 156);
-    freq.put("ിലാ", 907);
-    freq.put("ിലി", 195);
-    freq.put("ിഡ", 255);
-    freq.put("ഗത്", 599);
-    freq.put("ോട്", 908);
-    freq.put("x", 345);
-    freq.put("ഭാഗ", 860);
-    freq.put("ിത്", 1980);
-    freq.put("്ങി", 542);
-    freq.put("്ങാ", 169);
-    freq.put("്ങള", 3056);
-    freq.put("കമാ", 395);
-    freq.put("്ങന", 152);
-    freq.put("ആം", 188);
-    freq.put("ആര", 244);
-    freq.put("ആറ", 138);
-    freq.put("ആല", 222);
-    freq.put("ആവ", 187);
-    freq.put("ആസ", 222);
-    freq.put("ആണ", 726);
-    freq.put("ആദ", 541);
-    freq.put("ആധ", 137);
-    freq.put("ആന", 248);
-    freq.put("ആയ", 406);
-    freq.put("്ങൾ", 1597);
-    freq.put("ഷത്", 575);
-    freq.put("വും", 1320);
-    freq.put("c", 1838);
-    freq.put("ിതമ", 146);
-    freq.put("റവു", 574);
-    freq.put("്ങ്", 141);
-    freq.put("ാഹി", 294);
-    freq.put("ിതാ", 203);
-    freq.put("വുമ", 350);
-    freq.put("കമ്", 385);
-    freq.put("കോട", 568);
-    freq.put("ോത്", 164);
-    freq.put("രക്", 477);
-    freq.put("ജീവ", 507);
-    freq.put("്രങ", 393);
-    freq.put("കര ", 204);
-    freq.put("ഐ", 333);
-    freq.put("ദി ", 217);
-    freq.put(" ൽ", 544);
-    freq.put("ളോക", 168);
-    freq.put("ീവി", 408);
-    freq.put("px", 216);
-    freq.put("കോഴ", 224);
-    freq.put("പതി", 293);
-    freq.put(" ലെ", 167);
-    freq.put("pe", 169);
-    freq.put("ഈ ", 1594);
-    freq.put(" ലോ", 543);
-    freq.put("പത്", 765);
-    freq.put(" ഡ", 822);
-    freq.put(" ദ", 2030);
-    freq.put(" ധ", 248);
-    freq.put(" ത", 5869);
-    freq.put(" പ", 15081);
-    freq.put(" ഫ", 858);
-    freq.put(" ന", 8054);
-    freq.put(" ലാ", 299);
-    freq.put(" മ", 9063);
-    freq.put(" യ", 1000);
-    freq.put(" ബ", 2531);
-    freq.put("N", 219);
-    freq.put(" ല", 2034);
-    freq.put("മമാ", 310);
-    freq.put(" ര", 2887);
-    freq.put(" റ", 942);
-    freq.put(" ശ", 1879);
-    freq.put(" ഷ", 238);
-    freq.put("രീത", 277);
-    freq.put(" ലഭ", 180);
-    freq.put("ളായ", 311);
-    freq.put(" സ", 10862);
-    freq.put(" ഹ", 1263);
-    freq.put("രീയ", 292);
-    freq.put("ലമ", 351);
-    freq.put("ണി ", 174);
-    freq.put(" ആ", 4494);
-    freq.put(" ഇ", 5444);
-    freq.put("രീക", 374);
-    freq.put(" അ", 8029);
-    freq.put(" ഈ", 1746);
-    freq.put(" ഉ", 3278);
-    freq.put(" എ", 6248);
-    freq.put(" ഏ", 1397);
-    freq.put(" ഒ", 4983);
-    freq.put(" ഓ", 757);
-    freq.put(" ഐ", 325);
-    freq.put("കുപ", 182);
-    freq.put(" ഖ", 305);
-    freq.put(" ഗ", 2980);
-    freq.put(" ഔ", 215);
-    freq.put(" ക", 14030);
-    freq.put(" ച", 4988);
-    freq.put("di", 309);
-    freq.put(" ട", 631);
-    freq.put(" ജ", 4225);
-    freq.put("ച്", 5556);
-    freq.put(" ത്", 183);
-    freq.put("ും", 8705);
-    freq.put("ൊരു", 147);
-    freq.put(" തെ", 531);
-    freq.put("ചെ", 2298);
-    freq.put("ചേ", 581);
-    freq.put(" തൃ", 268);
-    freq.put("ചു", 1255);
-    freq.put(" തു", 591);
-    freq.put(" തീ", 297);
-    freq.put("ഭിന", 146);
-    freq.put("ുക", 4108);
-    freq.put("ുഗ", 147);
-    freq.put("ുഖ", 381);
-    freq.put("rig", 195);
-    freq.put("വ്യ", 986);
-    freq.put("ുട", 4050);
-    freq.put("രൻ ", 203);
-    freq.put("ുത", 2652);
-    freq.put("ഉണ്", 335);
-    freq.put("ുദ", 692);
-    freq.put("ുന", 10596);
-    freq.put("ുപ", 1108);
-    freq.put("ുഭ", 196);
-    freq.put("ുമ", 2460);
-    freq.put("ുറ", 1425);
-    freq.put("ജനി", 202);
-    freq.put("ുള", 2978);
-    freq.put("ുല", 285);
-    freq.put("ുവ", 2148);
-    freq.put("ുഴ", 501);
-    freq.put("ുഷ", 436);
-    freq.put("ുശ", 133);
-    freq.put("ുഹ", 134);
-    freq.put("ുസ", 641);
-    freq.put("ളെ ", 475);
-    freq.put("ുതൽ", 371);
-    freq.put("ു്", 339);
-    freq.put("ചക", 269);
-    freq.put("ാഗങ", 167);
-    freq.put("ാഗത", 387);
-    freq.put(" തമ", 355);
-    freq.put("സഭയ", 152);
-    freq.put("ചന", 269);
-    freq.put("്കള", 257);
-    freq.put(" തന", 303);
-    freq.put("ചത", 464);
-    freq.put("ാഗമ", 334);
-    freq.put("ചലച", 426);
-    freq.put("ഘടന", 192);
-    freq.put(" തി", 720);
-    freq.put(" താ", 982);
-    freq.put("സഭാ", 174);
-    freq.put("ചി", 2735);
-    freq.put("ര് ", 145);
-    freq.put("ുതു", 171);
-    freq.put("y", 840);
-    freq.put("ലീ", 583);
-    freq.put("ൻ", 6054);
-    freq.put("ുത്", 1223);
-    freq.put("ുൽ", 137);
-    freq.put(" തല", 366);
-    freq.put("ചല", 494);
-    freq.put(" തര", 169);
-    freq.put("യേക", 178);
-    freq.put("ളി ", 445);
-    freq.put("ഒ", 5000);
-    freq.put("ല്", 3649);
-    freq.put("്രമ", 1061);
-    freq.put("്ഡല", 230);
-    freq.put("ലൈ", 193);
-    freq.put("നങ്", 656);
-    freq.put("സമാ", 200);
-    freq.put("ലൊ", 242);
-    freq.put("ലോ", 1419);
-    freq.put("ൊല്", 164);
-    freq.put("നഗര", 403);
-    freq.put("ങ്ക", 1271);
-    freq.put("ങ്ങ", 6013);
-    freq.put("്തേ", 231);
-    freq.put("സമു", 201);
-    freq.put("ലത്", 725);
-    freq.put("ിലൊ", 225);
-    freq.put("ഏറ്", 547);
-    freq.put("സമ്", 174);
-    freq.put("ിലോ", 400);
-    freq.put("കും", 421);
-    freq.put("d", 1581);
-    freq.put("ർജ്", 166);
-    freq.put("െട്", 1283);
-    freq.put("ച", 18270);
-    freq.put("ണപ", 319);
-    freq.put("ൂറ്", 264);
-    freq.put("b ", 294);
-    freq.put("ികാ", 247);
-    freq.put("രക", 1280);
-    freq.put("ികള", 716);
-    freq.put("ാനി", 583);
-    freq.put("ാനാ", 214);
-    freq.put("രഞ", 148);
-    freq.put("രജ", 211);
-    freq.put("ണത", 458);
-    freq.put("രം", 2337);
-    freq.put("ാനത", 448);
-    freq.put("ൻ ", 4719);
-    freq.put("ങളി", 1296);
-    freq.put("ികമ", 181);
-    freq.put("ശമാ", 164);
-    freq.put(" ഗ്", 1743);
-    freq.put("ണവ", 186);
-    freq.put("ാനപ", 155);
-    freq.put("റുക", 338);
-    freq.put("രള", 1305);
-    freq.put("രര", 176);
-    freq.put("രശ", 457);
-    freq.put("രവ", 1227);
-    freq.put("ണം", 729);
-    freq.put("രസ", 985);
-    freq.put("രഹ", 238);
-    freq.put("ാനങ", 199);
-    freq.put("രി", 6901);
-    freq.put("രണ", 1938);
-    freq.put("ണങ", 272);
-    freq.put("രദ", 892);
-    freq.put("രധ", 593);
-    freq.put("രത", 2444);
-    freq.put("റും", 178);
-    freq.put("രപ", 409);
-    freq.put("ികം", 150);
-    freq.put("രന", 771);
-    freq.put("രമ", 2024);
-    freq.put("രയ", 465);
-    freq.put("ണക", 349);
-    freq.put("ർമ്", 559);
-    freq.put("ികൾ", 430);
-    freq.put("ടേയ", 132);
-    freq.put("O", 182);
-    freq.put("്രന", 361);
-    freq.put("രൂ", 693);
-    freq.put("രീ", 1446);
-    freq.put("രു", 8550);
-    freq.put("രെ", 725);
-    freq.put("രേ", 448);
-    freq.put("ബാ", 585);
-    freq.put("രോ", 818);
-    freq.put("ര്", 755);
-    freq.put("ണ്", 14451);
-    freq.put("ണൂ", 306);
-    freq.put("ങളു", 891);
-    freq.put("ല്പ", 290);
-    freq.put("്കെ", 229);
-    freq.put("ാനു", 295);
-    freq.put("ിക്", 6093);
-    freq.put("ാന്", 803);
-    freq.put("റ് ", 1265);
-    freq.put("രണ ", 296);
-    freq.put("ൽ", 11771);
-    freq.put("കലാ", 228);
-    freq.put("യം ", 1215);
-    freq.put("റങ്", 254);
-    freq.put("ഒന്", 342);
-    freq.put(" ഏക", 259);
-    freq.put("ഇവി", 189);
-    freq.put("ലം ", 658);
-    freq.put("േ ", 611);
-    freq.put("്കൊ", 183);
-    freq.put(" ഏറ", 601);
-    freq.put("കൊട", 175);
-    freq.put("ഏകദ", 134);
-    freq.put("ൂണി", 149);
-    freq.put("്ച ", 729);
-    freq.put("മഹാ", 304);
-    freq.put("ിശേ", 137);
-    freq.put("us", 255);
-    freq.put("ിശ്", 421);
-    freq.put("um", 390);
-    freq.put("ul", 150);
-    freq.put("രജ്", 131);
-    freq.put("കൊണ", 402);
-    freq.put("ത് ", 4999);
-    freq.put("രുവ", 555);
-    freq.put("ുവന", 251);
-    freq.put("ുവര", 355);
-    freq.put("രുത", 325);
-    freq.put("്കൻ", 384);
-    freq.put("Th", 138);
-    freq.put("രുന", 2242);
-    freq.put("െങ്", 500);
-    freq.put("ഷൻ", 274);
-    freq.put("രുമ", 189);
-    freq.put("ുവാ", 341);
-    freq.put("ഷേ", 485);
-    freq.put("രുക", 338);
-    freq.put("ധ", 5371);
-    freq.put("േഷ്", 132);
-    freq.put("ഷ്", 2365);
-    freq.put("രുട", 311);
-    freq.put("രും", 137);
-    freq.put("ക്ത", 515);
-    freq.put("മങ", 200);
-    freq.put("ഷത", 605);
-    freq.put("ഷണ", 462);
-    freq.put("ഷയ", 312);
-    freq.put("ഷമ", 135);
-    freq.put("പുഴ", 384);
-    freq.put("പുര", 764);
-    freq.put("പുറ", 547);
-    freq.put("ഷര", 160);
-    freq.put("ഷി", 1059);
-    freq.put("ൽപ്", 210);
-    freq.put("പുത", 214);
-    freq.put("ീ ", 761);
-    freq.put("e", 5009);
-    freq.put("ഷം", 305);
-    freq.put("േഷം", 140);
-    freq.put("പള്", 185);
-    freq.put("പുക", 146);
-    freq.put("ഷക", 240);
-    freq.put("്ളോ", 174);
-    freq.put("ോൾ ", 349);
-    freq.put("യമാ", 807);
-    freq.put("ള ", 2840);
-    freq.put("ന് ", 1964);
-    freq.put("്ളു", 150);
-    freq.put(" b", 205);
-    freq.put(" c", 370);
-    freq.put(" a", 486);
-    freq.put(" f", 185);
-    freq.put(" d", 151);
-    freq.put(" e", 167);
-    freq.put(" h", 314);
-    freq.put(" i", 345);
-    freq.put(" n", 149);
-    freq.put(" o", 399);
-    freq.put(" m", 228);
-    freq.put(" r", 294);
-    freq.put(" s", 377);
-    freq.put(" p", 446);
-    freq.put("ഹായ", 132);
-    freq.put("മേര", 234);
-    freq.put(" w", 308);
-    freq.put(" t", 707);
-    freq.put("gh", 231);
-    freq.put(" B", 247);
-    freq.put(" C", 358);
-    freq.put(" A", 386);
-    freq.put(" F", 135);
-    freq.put(" G", 193);
-    freq.put(" D", 163);
-    freq.put(" E", 193);
-    freq.put(" H", 179);
-    freq.put(" I", 298);
-    freq.put(" N", 154);
-    freq.put(" O", 131);
-    freq.put(" L", 160);
-    freq.put(" M", 333);
-    freq.put(" R", 193);
-    freq.put(" S", 374);
-    freq.put(" P", 342);
-    freq.put(" T", 265);
-    freq.put("പങ്", 155);
-    freq.put("്രസ", 612);
-    freq.put("ed ", 198);
-    freq.put("P", 401);
-    freq.put("ണിക", 268);
-    freq.put("g ", 236);
-    freq.put("ങൾക", 243);
-    freq.put("്തമ", 327);
-    freq.put("ണിത", 465);
-    freq.put("us ", 153);
-    freq.put("ണിയ", 184);
-    freq.put("കരു", 191);
-    freq.put("വൃത", 136);
-    freq.put("ടം ", 259);
-    freq.put("le ", 135);
-    freq.put("എല്", 166);
-    freq.put("ോളി", 145);
-    freq.put("ിഴക", 306);
-    freq.put("കാക", 163);
-    freq.put("കാട", 474);
-    freq.put("ു ", 10222);
-    freq.put("കാണ", 507);
-    freq.put("ഉൾ", 449);
-    freq.put("കാന", 330);
-    freq.put("കായ", 240);
-    freq.put("കാര", 1466);
-    freq.put("ളെയ", 186);
-    freq.put("കാല", 744);
-    freq.put("കാവ", 233);
-    freq.put("കാശ", 316);
-    freq.put("ഹ", 4850);
-    freq.put(" കല", 418);
-    freq.put("ിഭ", 450);
-    freq.put("തങ്", 171);
-    freq.put("ിഴ്", 206);
-    freq.put("െക്", 658);
-    freq.put("്തര", 440);
-    freq.put("umb", 269);
-    freq.put("ഖന", 135);
-    freq.put("ഉള", 177);
-    freq.put("ച ", 753);
-    freq.put("ചെറ", 399);
-    freq.put("ഖര", 135);
-    freq.put("ഖല", 214);
-    freq.put("യവസ", 141);
-    freq.put("ഉയ", 159);
-    freq.put("ഉണ", 345);
-    freq.put("ര്യ", 585);
-    freq.put("കാർ", 351);
-    freq.put("ഉത", 324);
-    freq.put("ണൂർ", 281);
-    freq.put("ഉദ", 193);
-    freq.put("്തോ", 380);
-    freq.put("്ലോ", 274);
-    freq.put("്ത്", 4115);
-    freq.put("്തൂ", 145);
-    freq.put("്തീ", 242);
-    freq.put("്തു", 1834);
-    freq.put("്തെ", 1346);
-    freq.put("ൂർ ", 1389);
-    freq.put("ജൂ", 197);
-    freq.put("ജീ", 561);
-    freq.put("ജു", 186);
-    freq.put("േർന", 202);
-    freq.put("അഭി", 173);
-    freq.put("ജ്", 1493);
-    freq.put("ജോ", 210);
-    freq.put("ൃക", 135);
-    freq.put("ൃത", 879);
-    freq.put("സ", 25595);
-    freq.put("മം ", 430);
-    freq.put("ൃഷ", 287);
-    freq.put("സ ", 133);
-    freq.put("്തം", 182);
-    freq.put("പൂർ", 310);
-    freq.put("px ", 213);
-    freq.put("ഏറ", 601);
-    freq.put("്തക", 337);
-    freq.put("്തപ", 248);
-    freq.put("ുദ്", 545);
-    freq.put("്തന", 539);
-    freq.put("ജല", 137);
-    freq.put("f", 703);
-    freq.put("ജാ", 371);
-    freq.put("ജി", 2005);
-    freq.put("്തത", 221);
-    freq.put("്താ", 1357);
-    freq.put("്തി", 9289);
-    freq.put("ജയ", 163);
-    freq.put("ഏക", 259);
-    freq.put("ജന", 1163);
-    freq.put("്തവ", 158);
-    freq.put("പർ", 146);
-    freq.put("ർണ്", 319);
-    freq.put("്രീ", 856);
-    freq.put("ണ", 22285);
-    freq.put("ാവ്", 303);
-    freq.put("ചേർ", 314);
-    freq.put("നദി", 238);
-    freq.put("െറ്", 191);
-    freq.put("ണം ", 720);
-    freq.put("ാധാ", 281);
-    freq.put("ാധി", 232);
-    freq.put("ാവു", 302);
-    freq.put("പ്", 13660);
-    freq.put("പൊ", 466);
-    freq.put("പോ", 1036);
-    freq.put("പെ", 3528);
-    freq.put("പേ", 973);
-    freq.put("പീ", 178);
-    freq.put("പു", 2667);
-    freq.put("നന്", 309);
-    freq.put("പാ", 2340);
-    freq.put("പി", 2507);
-    freq.put("പഴ", 198);
-    freq.put("പര", 1220);
-    freq.put("പറ", 902);
-    freq.put("പല", 318);
-    freq.put("പള", 198);
-    freq.put("ാവാ", 229);
-    freq.put("ാവി", 316);
-    freq.put("പമ", 183);
-    freq.put("പയ", 870);
-    freq.put("പന", 675);
-    freq.put("െറി", 225);
-    freq.put("്ലൂ", 138);
-    freq.put("പത", 1182);
-    freq.put("പദ", 488);
-    freq.put("പണ", 230);
-    freq.put("പഞ", 1399);
-    freq.put("പട", 805);
-    freq.put("പങ", 155);
-    freq.put("ിത ", 164);
-    freq.put("പക", 675);
-    freq.put("നനം", 232);
-    freq.put("ഉള്", 169);
-    freq.put("േഖല", 167);
-    freq.put("എഴു", 292);
-    freq.put("പം", 293);
-    freq.put("േഖ", 487);
-    freq.put("േക", 651);
-    freq.put("െറു", 216);
-    freq.put("േട", 244);
-    freq.put("േജ", 272);
-    freq.put("ാപി", 311);
-    freq.put("രവാ", 158);
-    freq.put("ാപന", 156);
-    freq.put("ോദ", 305);
-    freq.put("േഷ", 809);
-    freq.put("േശ", 1652);
-    freq.put("േവ", 391);
-    freq.put("le", 352);
-    freq.put("േല", 220);
-    freq.put("േറ", 444);
-    freq.put("la", 410);
-    freq.put("lo", 176);
-    freq.put("ll", 179);
-    freq.put("േഹ", 481);
-    freq.put("li", 349);
-    freq.put("േദ", 234);
-    freq.put("കയു", 359);
-    freq.put("േത", 832);
-    freq.put("േണ", 267);
-    freq.put(" ജൂ", 195);
-    freq.put(" ജീ", 407);
-    freq.put("േയ", 868);
-    freq.put("്ച്", 847);
-    freq.put(" ജ്", 148);
-    freq.put(" ജോ", 204);
-    freq.put("േന", 623);
-    freq.put("കാറ", 154);
-    freq.put(" ജി", 1596);
-    freq.put("്ചാ", 1705);
-    freq.put("്ചി", 1394);
-    freq.put("കയി", 197);
-    freq.put("കയാ", 132);
-    freq.put("രവർ", 501);
-    freq.put(" ജന", 950);
-    freq.put("l ", 444);
-    freq.put("േർ", 559);
-    freq.put("രവു", 183);
-    freq.put(" ht", 204);
-    freq.put("തൽ", 420);
-    freq.put("ൃഷ്", 193);
-    freq.put("പൂ", 626);
-    freq.put("തൃശ", 187);
-    freq.put("ൺ", 871);
-    freq.put("്ത ", 630);
-    freq.put("ാപ്", 231);
-    freq.put("ത്ത", 16443);
-    freq.put("ത്ഥ", 385);
-    freq.put("ാസം", 149);
-    freq.put("ത്മ", 171);
-    freq.put("ത്യ", 2047);
-    freq.put("രു ", 4025);
-    freq.put("ണാക", 136);
-    freq.put("ആദ്", 407);
-    freq.put("രങ്", 806);
-    freq.put("ള്", 3452);
-    freq.put("ത്സ", 249);
-    freq.put("ണാട", 139);
-    freq.put("ളു", 2116);
-    freq.put("ളേ", 165);
-    freq.put("h ", 190);
-    freq.put("്ള ", 2181);
-    freq.put("ഥ", 4613);
-    freq.put("ാസമ", 136);
-    freq.put("ധമാ", 139);
-    freq.put("്പൂ", 178);
-    freq.put("േന്", 408);
-    freq.put("ാസി", 297);
-    freq.put("ീർ", 319);
-    freq.put("ഷ ", 141);
-    freq.put("ാസ്", 1047);
-    freq.put("ഇസ്", 226);
-    freq.put(" എം", 133);
-    freq.put("ളക", 192);
-    freq.put(" എട", 138);
-    freq.put("ീക", 980);
-    freq.put("ളം", 676);
-    freq.put("ീട", 157);
-    freq.put("ല്ല", 3043);
-    freq.put(" എന", 4353);
-    freq.put("ളി", 4155);
-    freq.put("ളാ", 873);
-    freq.put("g", 1106);
-    freq.put("ീപ", 245);
-    freq.put("കങ്", 196);
-    freq.put("ീന", 303);
-    freq.put("ളര", 321);
-    freq.put("ന്റ", 3777);
-    freq.put("ളവ", 247);
-    freq.put("ീല", 186);
-    freq.put(" എസ", 137);
-    freq.put("ന്മ", 414);
-    freq.put("ന്യ", 476);
-    freq.put("ന്ന", 18547);
-    freq.put("ീഷ", 499);
-    freq.put("ീഴ", 170);
-    freq.put("ീവ", 642);
-    freq.put(" എറ", 154);
-    freq.put("ന്ഥ", 210);
-    freq.put("ന്ദ", 1121);
-    freq.put("ന്ധ", 586);
-    freq.put(" എഴ", 295);
-    freq.put("കൾക", 240);
-    freq.put("ളില", 1194);
-    freq.put("്വര", 172);
-    freq.put("്വാ", 520);
-    freq.put("സന", 236);
-    freq.put("തൃ", 441);
-    freq.put("്വത", 242);
-    freq.put("സമ", 1136);
-    freq.put("്വയ", 160);
-    freq.put("ളിയ", 253);
-    freq.put("്ഠ", 162);
-    freq.put("അടി", 235);
-    freq.put("ളിക", 406);
-    freq.put("ത", 67027);
-    freq.put("സഭ", 457);
-    freq.put("ൈദ്", 158);
-    freq.put("്ഥല", 260);
-    freq.put("ളിൽ", 1372);
-    freq.put("ർപ", 232);
-    freq.put("ുഷ്", 354);
-    freq.put("R", 240);
-    freq.put("ഫ്", 882);
-    freq.put("്ഥി", 931);
-    freq.put("സസ", 365);
-    freq.put("ങ് ", 236);
-    freq.put("സഹ", 227);
-    freq.put("്വീ", 179);
-    freq.put("സാ", 1870);
-    freq.put(" റോ", 225);
-    freq.put("സി", 2539);
-    freq.put("അക്", 233);
-    freq.put("ൻറ", 218);
-    freq.put("ണ ", 661);
-    freq.put("ഏ", 1399);
-    freq.put("ൻഡ", 203);
-    freq.put("ാത്", 940);
-    freq.put("ാന ", 514);
-    freq.put("രണ്", 518);
-    freq.put("ൻപ", 166);
-    freq.put("ിക ", 723);
-    freq.put("്ണാ", 141);
-    freq.put("ര ", 1278);
-    freq.put("സവ", 164);
-    freq.put("്പോ", 426);
-    freq.put("നക്", 345);
-    freq.put("്ണൂ", 295);
-    freq.put("യ് ", 274);
-    freq.put("രണം", 295);
-    freq.put("ശത്", 307);
-    freq.put("ാതി", 141);
-    freq.put("തി", 15367);
-    freq.put("റ്റ", 5132);
-    freq.put("അറബ", 149);
-    freq.put("ാതന", 248);
-    freq.put("ംസ്", 701);
-    freq.put("രണത", 177);
-    freq.put("ഭൂ", 412);
-    freq.put("ധിക", 430);
-    freq.put("ാ ", 1411);
-    freq.put("റക്", 177);
-    freq.put("്ക", 17340);
-    freq.put("്ഗ", 330);
-    freq.put("വരി", 311);
-    freq.put("ധിയ", 166);
-    freq.put("ാരമ", 247);
-    freq.put(" in", 230);
-    freq.put("ശ", 8287);
-    freq.put("സഞ", 150);
-    freq.put("ോർ", 445);
-    freq.put("വാണ", 177);
-    freq.put("വാത", 177);
-    freq.put("രോഗ", 204);
-    freq.put("വാദ", 195);
-    freq.put("വരെ", 305);
-    freq.put("ഗ്ഗ", 220);
-    freq.put("വരു", 524);
-    freq.put("ഭക", 205);
-    freq.put("്ഷി", 552);
-    freq.put("ഘട", 411);
-    freq.put("്ജ", 323);
-    freq.put("വാസ", 359);
-    freq.put("ng ", 163);
-    freq.put("h", 2313);
-    freq.put("ഭയ", 191);
-    freq.put("ഗ്ര", 2123);
-    freq.put("േയു", 430);
-    freq.put("ാർഡ", 136);
-    freq.put("റ ", 307);
-    freq.put("ലോ ", 133);
-    freq.put("ാർത", 251);
-    freq.put("അല്", 193);
-    freq.put("ഭി", 475);
-    freq.put("്ച", 6932);
-    freq.put("്ഷര", 156);
-    freq.put("േഹം", 278);
-    freq.put("ദർ", 205);
-    freq.put("ീതി", 299);
-    freq.put("ുറം", 199);
-    freq.put("ഡ", 3439);
-    freq.put("േഹത", 162);
-    freq.put("ا", 186);
-    freq.put("തട", 148);
-    freq.put("ുറി", 322);
-    freq.put("ദീ", 159);
-    freq.put("ുറത", 245);
-    freq.put("െബ്", 146);
-    freq.put("യത്", 2606);
-    freq.put("മങ്", 199);
-    freq.put("ഗിക", 587);
-    freq.put("ദ്", 4614);
-    freq.put("ദര", 150);
-    freq.put("രയി", 142);
-    freq.put("സ്യ", 395);
-    freq.put("സ്പ", 221);
-    freq.put("യതി", 155);
-    freq.put("സ്ത", 2267);
-    freq.put("സ്ഥ", 2863);
-    freq.put("ങൾ", 1604);
-    freq.put("ദാ", 495);
-    freq.put("ദി", 1290);
-    freq.put("S", 493);
-    freq.put("സ്സ", 397);
-    freq.put("ുറ്", 170);
-    freq.put("സ്വ", 855);
-    freq.put("്ല ", 256);
-    freq.put("സ്റ", 846);
-    freq.put("സ്ല", 281);
-    freq.put("താവ", 406);
-    freq.put("ww", 338);
-    freq.put("തക", 671);
-    freq.put("ദക", 185);
-    freq.put("േര", 2800);
-    freq.put(" യൂ", 213);
-    freq.put(" യു", 294);
-    freq.put("ദം", 233);
-    freq.put("്ഷേ", 452);
-    freq.put("ൂക്", 727);
-    freq.put("സ്ക", 623);
-    freq.put("ലപ്", 395);
-    freq.put("സസ്", 334);
-    freq.put("ci", 170);
-    freq.put("ch", 206);
-    freq.put("co", 290);
-    freq.put("സർ", 564);
-    freq.put("ca", 205);
-    freq.put("ce", 229);
-    freq.put("na", 310);
-    freq.put("കം ", 627);
-    freq.put("േസ", 147);
-    freq.put("ct", 158);
-    freq.put("ഠ", 364);
-    freq.put("ിഞ്", 388);
-    freq.put("നതി", 539);
-    freq.put("ാഷ്", 369);
-    freq.put("െള്", 180);
-    freq.put("്ചേ", 162);
-    freq.put("്ചു", 944);
-    freq.put("യെ ", 323);
-    freq.put("ാഷയ", 224);
-    freq.put("കവി", 299);
-    freq.put("ൂ", 8137);
-    freq.put("നതു", 269);
-    freq.put("ഥാന", 1185);
-    freq.put("നത്", 2604);
-    freq.put("ണങ്", 272);
-    freq.put("nd", 424);
-    freq.put("റർ ", 428);
-    freq.put("ചത്", 271);
-    freq.put("ർഡ്", 135);
-    freq.put("ളം ", 631);
-    freq.put("ോഴി", 212);
-    freq.put("മുണ", 204);
-    freq.put("ിനാ", 453);
-    freq.put("ിനി", 378);
-    freq.put("മുദ", 221);
-    freq.put("ve", 190);
-    freq.put("മുത", 397);
-    freq.put("ലക്", 585);
-    freq.put("ൃത്", 357);
-    freq.put("മുന", 161);
-    freq.put("മുള", 608);
-    freq.put("മുസ", 161);
-    freq.put("ടം", 274);
-    freq.put("ടി", 3790);
-    freq.put("ടാ", 1306);
-    freq.put("of ", 224);
-    freq.put("തീയ", 195);
-    freq.put("ിൽപ", 165);
-    freq.put("ടവ", 181);
-    freq.put("ടല", 163);
-    freq.put("ടറ", 140);
-    freq.put("ംഗീ", 301);
-    freq.put("ടമ", 180);
-    freq.put("മുഖ", 353);
-    freq.put("ടപ", 165);
-    freq.put("മുക", 147);
-    freq.put("ബ് ", 189);
-    freq.put("ബി", 709);
-    freq.put("ടത", 795);
-    freq.put("ടണ", 268);
-    freq.put("ംഗ്", 542);
-    freq.put("ംഗല", 153);
-    freq.put("റർ", 523);
-    freq.put("ബു", 258);
-    freq.put("ോ", 12821);
-    freq.put("ിതി", 938);
-    freq.put("ബോ", 333);
-    freq.put("ബൈ", 150);
-    freq.put("ion", 318);
-    freq.put("ബി ", 170);
-    freq.put("ടോ", 357);
-    freq.put("ടേ", 223);
-    freq.put("മുൻ", 206);
-    freq.put("ടു", 5165);
-    freq.put("ടീ", 186);
-    freq.put("്ചത", 372);
-    freq.put("ടർ", 374);
-    freq.put("i", 4303);
-    freq.put("കല്", 194);
-    freq.put("ിന്", 5173);
-    freq.put("ിനോ", 212);
-    freq.put("ലകള", 209);
-    freq.put("ിനെ", 479);
-    freq.put("ൃതി", 272);
-    freq.put("ിനു", 1055);
-    freq.put("്പ്", 921);
-    freq.put("വയു", 170);
-    freq.put("ൽ ", 10227);
-    freq.put("ിവർ", 154);
-    freq.put("the", 302);
-    freq.put("ിൻ ", 265);
-    freq.put("കിൽ", 695);
-    freq.put("ഷേത", 398);
-    freq.put("അറി", 618);
-    freq.put("ധാന", 997);
-    freq.put("ൊട്", 150);
-    freq.put("വയം", 133);
-    freq.put("ധാര", 358);
-    freq.put("T", 348);
-    freq.put("കിട", 299);
-    freq.put("ിവസ", 160);
-    freq.put("ിവി", 329);
-    freq.put("ിവാ", 178);
-    freq.put("ർ", 12870);
-    freq.put("ണമാ", 331);
-    freq.put("ിവര", 215);
-    freq.put("കിയ", 350);
-    freq.put("വയാ", 176);
-    freq.put("നോവ", 149);
-    freq.put("കില", 839);
-    freq.put("ിവയ", 235);
-    freq.put("ഗം ", 252);
-    freq.put("കിഴ", 329);
-    freq.put("igh", 217);
-    freq.put("ക്ക", 14730);
-    freq.put("യൻ ", 979);
-    freq.put("ക്ട", 264);
-    freq.put("നീ ", 509);
-    freq.put("വ് ", 420);
-    freq.put("ധ ", 268);
-    freq.put("ുരു", 345);
-    freq.put("നൂ", 483);
-    freq.put("്സി", 291);
-    freq.put("ക്ഷ", 2208);
-    freq.put("മനു", 281);
-    freq.put("ക്ര", 1063);
-    freq.put("ക്ല", 147);
-    freq.put("മന്", 204);
-    freq.put("nd ", 168);
-    freq.put("ൊതു", 218);
-    freq.put("ക്സ", 418);
-    freq.put(" രൂ", 379);
-    freq.put(" രീ", 168);
-    freq.put("്ക ", 209);
-    freq.put("്ശേ", 205);
-    freq.put("ക്യ", 293);
-    freq.put("ഴ ", 264);
-    freq.put("്", 186908);
-    freq.put(" രാ", 1161);
-    freq.put(" രണ", 452);
-    freq.put("ലെ ", 4757);
-    freq.put("ുരം", 260);
-    freq.put("ഗാന", 207);
-    freq.put("ുരാ", 293);
-    freq.put("ാരണ", 361);
-    freq.put(" രച", 157);
-    freq.put("es ", 231);
-    freq.put("മി ", 226);
-    freq.put("റബി", 132);
-    freq.put("യോഗ", 971);
-    freq.put("്ഥം", 135);
-    freq.put("്രക", 715);
-    freq.put("ുകൊ", 132);
-    freq.put("ുക്", 824);
-    freq.put(" കട", 337);
-    freq.put("ഷിക", 304);
-    freq.put("ടാമ", 153);
-    freq.put("ാദ്", 187);
-    freq.put("ങന", 154);
-    freq.put("ഷിയ", 170);
-    freq.put("തുട", 444);
-    freq.put("്ഥമ", 153);
-    freq.put("ns", 149);
-    freq.put("ഷിണ", 161);
-    freq.put("ങി", 552);
-    freq.put("ങാ", 172);
-    freq.put("ങള", 3065);
-    freq.put("്ഥാ", 1534);
-    freq.put(" ഡി", 290);
-    freq.put("ലസ്", 209);
-    freq.put("ht", 515);
-    freq.put("hu", 298);
-    freq.put("hi", 201);
-    freq.put("ാഴ്", 134);
-    freq.put("ha", 244);
-    freq.put("ദേ", 2169);
-    freq.put("he", 539);
-    freq.put("ിഷ്", 341);
-    freq.put("ർവ", 450);
-    freq.put("ൂ ", 136);
-    freq.put("ടന", 619);
-    freq.put("ാദി", 179);
-    freq.put("ുകയ", 410);
-    freq.put("ുകള", 1051);
-    freq.put("ആണ്", 627);
-    freq.put("ഡ് ", 679);
-    freq.put("വ ", 552);
-    freq.put("ുകി", 165);
-    freq.put("ുകാ", 227);
-    freq.put("കണക", 160);
-    freq.put("ചെട", 173);
-    freq.put("രളത", 906);
-    freq.put("രീര", 138);
-    freq.put("എറ", 155);
-    freq.put("ing", 193);
-    freq.put("പി ", 248);
-    freq.put("കറ്", 169);
-    freq.put(" ചേ", 382);
-    freq.put(" ചെ", 1896);
-    freq.put(" ചു", 295);
-    freq.put("ളെ", 751);
-    freq.put("ങിയ", 431);
-    freq.put("ചെയ", 1441);
-    freq.put("ഷ", 7585);
-    freq.put("്യ ", 889);
-    freq.put(" ലി", 203);
-    freq.put("ഫെ", 137);
-    freq.put("ൻറെ", 142);
-    freq.put("തും", 420);
-    freq.put("ദത്", 171);
-    freq.put("മെന", 220);
-    freq.put("നദ", 293);
-    freq.put("തുക", 619);
-    freq.put(" ചി", 892);
-    freq.put(" ചാ", 241);
-    freq.put("ഹിന", 258);
-    freq.put("കണ്", 651);
-    freq.put("ഹിത", 291);
-    freq.put("in ", 185);
-    freq.put(" ചര", 212);
-    freq.put(" ചല", 414);
-    freq.put("ിങ്", 403);
-    freq.put("ിർത", 148);
-    freq.put("ta", 278);
-    freq.put("തുമ", 302);
-    freq.put("തുന", 334);
-    freq.put("ിർമ", 366);
-    freq.put("തുവ", 386);
-    freq.put("തുള", 199);
-    freq.put("പ് ", 643);
-    freq.put("ളാണ", 384);
-  }
-  
 }
-
@@ -1,2607 +1,15 @@
 package com.rmtheis.langdetect.profile;
 
-import java.util.HashMap;
-
 import com.cybozu.labs.langdetect.util.LangProfile;
-import com.cybozu.labs.langdetect.util.NGram;
 
 public class MR {
   private static final String name = "mr";
-  private static final HashMap<String, Integer> freq = new HashMap<String, Integer>();
-  private static final int[] n_words = new int[NGram.N_GRAM];
 
   public MR() {
-    init();  
   }
 
   public final LangProfile getLangProfile() {
-    return new LangProfile(name, freq, n_words);
+    return Profiles.load(name);
   }
-  
-  private void init() {
-    n_words[0] = 573395;
-    n_words[1] = 652939;
-    n_words[2] = 442285;
 
-    freq.put("आ", 6891);
-    freq.put("धिक", 210);
-    freq.put("रति", 74);
-    freq.put("रता", 731);
-    freq.put("झि", 70);
-    freq.put("झा", 550);
-    freq.put("जोड", 73);
-    freq.put("रशि", 112);
-    freq.put("रशा", 97);
-    freq.put("रत्", 99);
-    freq.put("रते", 65);
-    freq.put("रती", 443);
-    freq.put("्ट्", 957);
-    freq.put("ीला", 83);
-    freq.put("रोज", 164);
-    freq.put("शा ", 95);
-    freq.put("खी", 84);
-    freq.put("अधि", 146);
-    freq.put("खे", 276);
-    freq.put("ाही", 306);
-    freq.put("ख्", 538);
-    freq.put("सिक", 101);
-    freq.put("सी ", 115);
-    freq.put("सिद", 219);
-    freq.put("तला", 76);
-    freq.put("ाम ", 369);
-    freq.put("खं", 163);
-    freq.put("६० ", 62);
-    freq.put("वेळ", 85);
-    freq.put("खक", 117);
-    freq.put("प ", 291);
-    freq.put("तले", 94);
-    freq.put("९९", 420);
-    freq.put("९८", 288);
-    freq.put("९७", 177);
-    freq.put("९६", 205);
-    freq.put("९५", 154);
-    freq.put("९४", 175);
-    freq.put("९३", 129);
-    freq.put("९२", 135);
-    freq.put("खन", 94);
-    freq.put("९०", 106);
-    freq.put("ाहत", 75);
-    freq.put("ीती", 162);
-    freq.put("खर", 91);
-    freq.put("खल", 175);
-    freq.put("यवस", 94);
-    freq.put("ाहि", 257);
-    freq.put("खा", 505);
-    freq.put("खि", 83);
-    freq.put("ास", 2359);
-    freq.put("ोत्", 125);
-    freq.put("ोतो", 104);
-    freq.put("ार", 6697);
-    freq.put("ाल", 2412);
-    freq.put("ोते", 752);
-    freq.put("ोती", 123);
-    freq.put("ाव", 2259);
-    freq.put("ाश", 369);
-    freq.put("ाष", 1328);
-    freq.put("ान", 3426);
-    freq.put("जे", 499);
-    freq.put("ाप", 1160);
-    freq.put("जू", 189);
-    freq.put("ाभ", 170);
-    freq.put("जी", 702);
-    freq.put("जु", 275);
-    freq.put("ाठ", 965);
-    freq.put("ाड", 364);
-    freq.put("ाढ", 83);
-    freq.put("ज्", 1646);
-    freq.put("ात", 6409);
-    freq.put("जो", 179);
-    freq.put("ाद", 925);
-    freq.put("ाध", 343);
-    freq.put("ाच", 4155);
-    freq.put("ाज", 2078);
-    freq.put("ाझ", 79);
-    freq.put("ाट", 442);
-    freq.put("पल्", 82);
-    freq.put("कोल", 77);
-    freq.put("ाख", 206);
-    freq.put("ाग", 1046);
-    freq.put("ाई", 239);
-    freq.put("र", 35779);
-    freq.put("ाऊ", 66);
-    freq.put("चित", 727);
-    freq.put("रिल", 109);
-    freq.put("चिन", 184);
-    freq.put("गस्", 118);
-    freq.put("ई ", 267);
-    freq.put("कोण", 88);
-    freq.put("टक", 258);
-    freq.put("चिम", 207);
-    freq.put("ाइ", 80);
-    freq.put("वा ", 653);
-    freq.put("जग", 235);
-    freq.put("जक", 120);
-    freq.put("९८ ", 66);
-    freq.put("पती", 143);
-    freq.put("ळात", 171);
-    freq.put("ळाड", 66);
-    freq.put("रीय", 372);
-    freq.put("जव", 226);
-    freq.put("जल", 91);
-    freq.put("जर", 265);
-    freq.put("जा", 1637);
-    freq.put("जि", 541);
-    freq.put("जस", 63);
-    freq.put("िग्", 108);
-    freq.put("जध", 220);
-    freq.put("ोता", 310);
-    freq.put("जम", 98);
-    freq.put("जय", 81);
-    freq.put("ावण", 64);
-    freq.put("जन", 601);
-    freq.put("्ष ", 149);
-    freq.put(" ७ ", 73);
-    freq.put("छ", 206);
-    freq.put("िको", 101);
-    freq.put("ऊर", 66);
-    freq.put("ंगी", 166);
-    freq.put("ऊन", 63);
-    freq.put("ंग्", 429);
-    freq.put("ुड", 67);
-    freq.put("ंगल", 89);
-    freq.put("िक्", 215);
-    freq.put("ंगा", 332);
-    freq.put("ंगण", 71);
-    freq.put("णता", 197);
-    freq.put("ित ", 454);
-    freq.put("िके", 418);
-    freq.put("ागर", 198);
-    freq.put("ंच ", 100);
-    freq.put("१५ ", 76);
-    freq.put("ागा", 289);
-    freq.put("ुत्", 100);
-    freq.put("ेग", 137);
-    freq.put("ेख", 448);
-    freq.put("ेक", 722);
-    freq.put("०४ ", 63);
-    freq.put("ेट", 491);
-    freq.put("ेज", 75);
-    freq.put("ेच", 757);
-    freq.put("व्", 1218);
-    freq.put("वै", 95);
-    freq.put("वो", 76);
-    freq.put("वे", 911);
-    freq.put("वी", 773);
-    freq.put("वृ", 105);
-    freq.put("वू", 99);
-    freq.put("ेष", 313);
-    freq.put("ेश", 1384);
-    freq.put("ेव", 793);
-    freq.put("ाची", 807);
-    freq.put("ेळ", 324);
-    freq.put("्थ ", 178);
-    freq.put("ेर", 672);
-    freq.put("येष", 193);
-    freq.put("ळ", 2991);
-    freq.put("ेह", 98);
-    freq.put("ेस", 492);
-    freq.put(" जे", 116);
-    freq.put("ेद", 177);
-    freq.put("ेथ", 380);
-    freq.put("ल", 18817);
-    freq.put("ेण", 224);
-    freq.put(" जू", 107);
-    freq.put("ेड", 164);
-    freq.put(" जी", 146);
-    freq.put("ेय", 96);
-    freq.put("ेम", 206);
-    freq.put(" ज्", 461);
-    freq.put("ेब", 175);
-    freq.put(" जो", 163);
-    freq.put("ेप", 128);
-    freq.put("येण", 75);
-    freq.put("ेन", 599);
-    freq.put("वज", 113);
-    freq.put("वट", 66);
-    freq.put("धात", 66);
-    freq.put("वच", 65);
-    freq.put("ओळ", 135);
-    freq.put(" जा", 1062);
-    freq.put("धान", 301);
-    freq.put("धार", 222);
-    freq.put(" जम", 72);
-    freq.put("ाचा", 713);
-    freq.put("वं", 149);
-    freq.put(" जग", 208);
-    freq.put("वि", 1941);
-    freq.put("वा", 3822);
-    freq.put("वस", 571);
-    freq.put("िले", 194);
-    freq.put("वश", 88);
-    freq.put("वर", 1642);
-    freq.put("वळ", 226);
-    freq.put("वल", 308);
-    freq.put("वय", 91);
-    freq.put("वन", 263);
-    freq.put("ाद ", 178);
-    freq.put("वत", 410);
-    freq.put("वड", 312);
-    freq.put("वण", 225);
-    freq.put("ानव", 85);
-    freq.put("बाब", 72);
-    freq.put("असत", 304);
-    freq.put("असण", 73);
-    freq.put("सर्", 792);
-    freq.put("ानल", 114);
-    freq.put("ेस्", 75);
-    freq.put("ानि", 81);
-    freq.put("ाना", 350);
-    freq.put("ानत", 66);
-    freq.put("वले", 122);
-    freq.put("असल", 335);
-    freq.put("असा", 90);
-    freq.put("झ", 981);
-    freq.put("बार", 87);
-    freq.put("ानक", 91);
-    freq.put("ं ", 115);
-    freq.put("ऑफ ", 63);
-    freq.put("ीय ", 1038);
-    freq.put("ानच", 62);
-    freq.put("बाज", 80);
-    freq.put("ानं", 83);
-    freq.put("ठा ", 104);
-    freq.put("ीं", 192);
-    freq.put("ुख ", 209);
-    freq.put("सन ", 83);
-    freq.put("ीक", 319);
-    freq.put("ीच", 727);
-    freq.put("ीज", 85);
-    freq.put("ीण", 65);
-    freq.put("ीठ", 87);
-    freq.put("असू", 247);
-    freq.put("ीत", 755);
-    freq.put("ीप", 214);
-    freq.put("म्य", 205);
-    freq.put("ीन", 664);
-    freq.put("ीम", 234);
-    freq.put("ीय", 1104);
-    freq.put("ील", 3494);
-    freq.put("ीर", 265);
-    freq.put("ानु", 71);
-    freq.put("ानी", 337);
-    freq.put(" १ ", 124);
-    freq.put("ीव", 305);
-    freq.put("ान्", 247);
-    freq.put("ीस", 155);
-    freq.put("पण ", 79);
-    freq.put("सिं", 119);
-    freq.put("ज", 8381);
-    freq.put("ाह्", 62);
-    freq.put("्गा", 89);
-    freq.put("ारक", 98);
-    freq.put("रचन", 71);
-    freq.put("ींच", 65);
-    freq.put("ोर ", 89);
-    freq.put("२५", 80);
-    freq.put("२२", 68);
-    freq.put("२३", 65);
-    freq.put("२८", 64);
-    freq.put("एका", 149);
-    freq.put("२६", 63);
-    freq.put("१ ", 522);
-    freq.put("२०", 603);
-    freq.put("२१", 65);
-    freq.put("ोव्", 196);
-    freq.put("ेरि", 321);
-    freq.put("नाग", 125);
-    freq.put("ावर", 588);
-    freq.put("ळे ", 200);
-    freq.put("तमि", 228);
-    freq.put("परं", 68);
-    freq.put("रुव", 148);
-    freq.put("इ", 1323);
-    freq.put("बई ", 90);
-    freq.put("三", 73);
-    freq.put("्थे", 76);
-    freq.put("रुन", 72);
-    freq.put("रुप", 68);
-    freq.put("िक ", 1026);
-    freq.put("३०", 86);
-    freq.put("ंदू", 116);
-    freq.put("ंदी", 266);
-    freq.put(" ता", 327);
-    freq.put("ंद्", 289);
-    freq.put("ர", 79);
-    freq.put("थवा", 122);
-    freq.put("ंना", 305);
-    freq.put("ोधन", 72);
-    freq.put("्स ", 322);
-    freq.put("े", 31183);
-    freq.put("ंनी", 632);
-    freq.put("पुर", 350);
-    freq.put("गा ", 89);
-    freq.put("ंदर", 105);
-    freq.put("पुत", 63);
-    freq.put("ंदि", 113);
-    freq.put("ंदा", 71);
-    freq.put("हे ", 5167);
-    freq.put("हरा", 269);
-    freq.put("ायन", 99);
-    freq.put("ळ ", 724);
-    freq.put("ाक्", 63);
-    freq.put("ल्ह", 320);
-    freq.put("कंप", 101);
-    freq.put("ञ", 320);
-    freq.put("८० ", 71);
-    freq.put("िष्", 172);
-    freq.put("वित", 108);
-    freq.put("िध ", 64);
-    freq.put("थील", 100);
-    freq.put("१४ ", 80);
-    freq.put("पां", 102);
-    freq.put("ंका", 93);
-    freq.put("ओळख", 133);
-    freq.put("ुस्", 136);
-    freq.put("लाच", 70);
-    freq.put("पाच", 82);
-    freq.put("िणे", 98);
-    freq.put("माव", 85);
-    freq.put("पाण", 105);
-    freq.put("पाद", 66);
-    freq.put("पात", 141);
-    freq.put("णे ", 394);
-    freq.put("्त ", 411);
-    freq.put("८", 1020);
-    freq.put("पाय", 64);
-    freq.put("टिक", 111);
-    freq.put("पाल", 72);
-    freq.put("षा ", 197);
-    freq.put("पार", 155);
-    freq.put("ुप्", 76);
-    freq.put("पास", 320);
-    freq.put("�", 133);
-    freq.put("ाकर", 80);
-    freq.put("ण्य", 949);
-    freq.put("आक", 127);
-    freq.put("आग", 71);
-    freq.put("उ", 1473);
-    freq.put(" झा", 447);
-    freq.put("श्", 798);
-    freq.put("आं", 194);
-    freq.put("२५ ", 73);
-    freq.put("आर", 178);
-    freq.put("आल", 245);
-    freq.put("ब ", 134);
-    freq.put("ब्र", 411);
-    freq.put("आह", 3959);
-    freq.put("आढ", 90);
-    freq.put("आण", 837);
-    freq.put("रस्", 202);
-    freq.put("आध", 103);
-    freq.put("आप", 132);
-    freq.put("आफ", 117);
-    freq.put("ब्द", 139);
-    freq.put("आय", 156);
-    freq.put("रसि", 236);
-    freq.put("रसा", 80);
-    freq.put("ॉ", 916);
-    freq.put("ाव ", 432);
-    freq.put("बिय", 93);
-    freq.put("रदे", 228);
-    freq.put("नच्", 79);
-    freq.put("च ", 843);
-    freq.put("तंत", 167);
-    freq.put("ीर ", 82);
-    freq.put("ार ", 1261);
-    freq.put("वीच", 70);
-    freq.put("ई", 607);
-    freq.put("मं", 347);
-    freq.put("कर ", 232);
-    freq.put("टें", 125);
-    freq.put("मच", 80);
-    freq.put("मज", 82);
-    freq.put("याव", 251);
-    freq.put("टेक", 65);
-    freq.put("आपल", 113);
-    freq.put("मक", 100);
-    freq.put("जास", 142);
-    freq.put("मन", 439);
-    freq.put("मण", 132);
-    freq.put("टेड", 67);
-    freq.put("मद", 153);
-    freq.put("मध", 1532);
-    freq.put("मह", 1126);
-    freq.put(" ले", 317);
-    freq.put("याप", 224);
-    freq.put("वीप", 110);
-    freq.put("की ", 396);
-    freq.put("मा", 2886);
-    freq.put("तर ", 662);
-    freq.put("मर", 604);
-    freq.put("मल", 215);
-    freq.put("अमि", 68);
-    freq.put(" लो", 622);
-    freq.put("मै", 72);
-    freq.put("लोक", 579);
-    freq.put("मो", 679);
-    freq.put("म्", 1246);
-    freq.put("मी", 463);
-    freq.put("मु", 1239);
-    freq.put("मू", 271);
-    freq.put("मृ", 108);
-    freq.put("मॅ", 66);
-    freq.put("मे", 875);
-    freq.put("ृत ", 101);
-    freq.put("भ ", 104);
-    freq.put("९१", 161);
-    freq.put("पना", 113);
-    freq.put("अंत", 115);
-    freq.put(" त्", 1085);
-    freq.put("ुं", 330);
-    freq.put(" तो", 143);
-    freq.put(" ते", 655);
-    freq.put(" तु", 116);
-    freq.put(" ती", 172);
-    freq.put("ळ्य", 142);
-    freq.put("मण ", 66);
-    freq.put("ाण ", 173);
-    freq.put("ुक", 528);
-    freq.put("ुग", 140);
-    freq.put("ुख", 527);
-    freq.put("ुज", 89);
-    freq.put("ुट", 125);
-    freq.put("का ", 542);
-    freq.put("ुण", 210);
-    freq.put("ुढ", 64);
-    freq.put("पर्", 325);
-    freq.put("ुत", 238);
-    freq.put("ुध", 64);
-    freq.put("ुद", 440);
-    freq.put("ुन", 719);
-    freq.put("ुप", 192);
-    freq.put("ुम", 183);
-    freq.put("ुर", 1052);
-    freq.put("ुळ", 257);
-    freq.put("ुल", 420);
-    freq.put("ुव", 264);
-    freq.put("ुष", 125);
-    freq.put("९९६", 63);
-    freq.put("ुस", 491);
-    freq.put("्ले", 93);
-    freq.put("्ली", 63);
-    freq.put("्ला", 198);
-    freq.put("्लि", 183);
-    freq.put("ऊर्", 63);
-    freq.put("२८ ", 62);
-    freq.put("उच्", 113);
-    freq.put("द ", 645);
-    freq.put("परि", 145);
-    freq.put("परा", 78);
-    freq.put(" ३", 209);
-    freq.put("रून", 145);
-    freq.put("ेखक", 117);
-    freq.put(" तय", 65);
-    freq.put(" तम", 233);
-    freq.put("ेखन", 78);
-    freq.put(" तत", 72);
-    freq.put(" ति", 182);
-    freq.put(" ऑस", 91);
-    freq.put("चा ", 1450);
-    freq.put("र् ", 478);
-    freq.put(" तस", 163);
-    freq.put("ॉन ", 63);
-    freq.put("्लं", 83);
-    freq.put("खेळ", 198);
-    freq.put("यक ", 87);
-    freq.put("ाह", 1051);
-    freq.put("ऊ", 224);
-    freq.put("चना", 79);
-    freq.put("थि", 153);
-    freq.put("था", 849);
-    freq.put("्व ", 312);
-    freq.put("ठे ", 245);
-    freq.put(" तर", 237);
-    freq.put("थव", 138);
-    freq.put("लन ", 62);
-    freq.put("थळ", 77);
-    freq.put("ेक ", 319);
-    freq.put("ंती", 82);
-    freq.put(" ११", 78);
-    freq.put("ंत्", 351);
-    freq.put("ाळ", 594);
-    freq.put("को", 604);
-    freq.put("तया", 65);
-    freq.put(" शा", 307);
-    freq.put("च्च", 223);
-    freq.put("कॅ", 149);
-    freq.put("ंतर", 401);
-    freq.put("ंशो", 74);
-    freq.put("ंता", 140);
-    freq.put("थ्", 121);
-    freq.put("भूम", 113);
-    freq.put("शिय", 317);
-    freq.put("टर ", 126);
-    freq.put("च्य", 2911);
-    freq.put("खक ", 110);
-    freq.put("भूत", 65);
-    freq.put(" १४", 90);
-    freq.put("थे", 411);
-    freq.put("थी", 145);
-    freq.put("ाब", 339);
-    freq.put("कू", 79);
-    freq.put("युद", 90);
-    freq.put("रख", 99);
-    freq.put("रग", 70);
-    freq.put("रक", 670);
-    freq.put("रच", 375);
-    freq.put("ाय", 1081);
-    freq.put("रज", 391);
-    freq.put("युन", 102);
-    freq.put("रं", 435);
-    freq.put(" रश", 94);
-    freq.put("११ ", 69);
-    freq.put("युर", 149);
-    freq.put("्यं", 164);
-    freq.put("टार", 107);
-    freq.put("मन ", 141);
-    freq.put("रल", 306);
-    freq.put("रर", 139);
-    freq.put("ाण", 917);
-    freq.put("रश", 254);
-    freq.put("्या", 9729);
-    freq.put("म्र", 173);
-    freq.put("रव", 382);
-    freq.put("टां", 121);
-    freq.put("रस", 797);
-    freq.put("रह", 201);
-    freq.put("रा", 6808);
-    freq.put("रि", 1770);
-    freq.put("्यव", 153);
-    freq.put("्ण ", 136);
-    freq.put("्यप", 104);
-    freq.put("युक", 84);
-    freq.put("ेने", 94);
-    freq.put("रद", 356);
-    freq.put("रध", 68);
-    freq.put("रत", 1594);
-    freq.put("रथ", 65);
-    freq.put("रप", 674);
-    freq.put("रफ", 64);
-    freq.put("रन", 85);
-    freq.put("रम", 767);
-    freq.put("रय", 68);
-    freq.put("रब", 97);
-    freq.put("रभ", 78);
-    freq.put("प्ट", 127);
-    freq.put("इस्", 65);
-    freq.put("ेनि", 72);
-    freq.put("रू", 387);
-    freq.put("री", 2531);
-    freq.put("रु", 575);
-    freq.put("रे", 1413);
-    freq.put("ंघ ", 80);
-    freq.put("रो", 716);
-    freq.put("्यु", 195);
-    freq.put("रॉ", 92);
-    freq.put("्ये", 1183);
-    freq.put("र्", 5914);
-    freq.put("हत्", 160);
-    freq.put("ञा", 188);
-    freq.put("ून ", 1516);
-    freq.put("प्र", 2788);
-    freq.put("ेथी", 97);
-    freq.put("ात ", 2992);
-    freq.put("रण ", 190);
-    freq.put("प्त", 110);
-    freq.put("अथव", 122);
-    freq.put("ाक", 602);
-    freq.put("वर ", 789);
-    freq.put(" एख", 65);
-    freq.put("णां", 79);
-    freq.put(" एक", 1893);
-    freq.put("त्", 5456);
-    freq.put(" एप", 100);
-    freq.put("तो", 665);
-    freq.put("ाउ", 96);
-    freq.put("ते", 2652);
-    freq.put("तू", 362);
-    freq.put("ती", 4269);
-    freq.put("तु", 325);
-    freq.put("ह्य", 743);
-    freq.put("दक्", 266);
-    freq.put("तम", 332);
-    freq.put("तय", 70);
-    freq.put("तप", 146);
-    freq.put("तार", 104);
-    freq.put("तन", 88);
-    freq.put("ताल", 160);
-    freq.put("तद", 128);
-    freq.put("तत", 106);
-    freq.put("नाच", 211);
-    freq.put("नाट", 176);
-    freq.put("ता", 3296);
-    freq.put("ति", 798);
-    freq.put("ेवर", 160);
-    freq.put("्च ", 156);
-    freq.put("टात", 71);
-    freq.put("तस", 223);
-    freq.put("ाँ", 113);
-    freq.put("तव", 72);
-    freq.put("तल", 255);
-    freq.put("ां", 4665);
-    freq.put("तर", 1232);
-    freq.put("शोध", 130);
-    freq.put("ताक", 90);
-    freq.put("थ्व", 73);
-    freq.put("नाव", 453);
-    freq.put("नाह", 82);
-    freq.put("नास", 64);
-    freq.put("तं", 195);
-    freq.put("तः", 94);
-    freq.put("ताच", 344);
-    freq.put("नाड", 71);
-    freq.put("नात", 134);
-    freq.put("तां", 107);
-    freq.put(" ३ ", 78);
-    freq.put("तक", 277);
-    freq.put("नाय", 79);
-    freq.put("नाम", 119);
-    freq.put("पत्", 186);
-    freq.put("शतक", 63);
-    freq.put("आहे", 3954);
-    freq.put("ंसा", 99);
-    freq.put("ण ", 1146);
-    freq.put("व्ह", 547);
-    freq.put("पणे", 87);
-    freq.put("रें", 77);
-    freq.put("व्य", 626);
-    freq.put("ीक ", 118);
-    freq.put("ट", 6169);
-    freq.put("षे", 500);
-    freq.put("्कर", 75);
-    freq.put("षी", 127);
-    freq.put("ष्", 1679);
-    freq.put(" थ", 112);
-    freq.put("नीच", 95);
-    freq.put("वस्", 189);
-    freq.put("षण", 199);
-    freq.put("षय", 121);
-    freq.put("ेच ", 240);
-    freq.put("पक्", 286);
-    freq.put("ारच", 84);
-    freq.put("्कृ", 130);
-    freq.put("षि", 375);
-    freq.put("षा", 600);
-    freq.put("ोल ", 64);
-    freq.put("गोल", 138);
-    freq.put("५०", 65);
-    freq.put("रजी", 94);
-    freq.put("रज्", 107);
-    freq.put("षक", 96);
-    freq.put("ंस्", 364);
-    freq.put("ची ", 1393);
-    freq.put("रीत", 101);
-    freq.put("्ह्", 230);
-    freq.put("ख", 2772);
-    freq.put("ा ", 17571);
-    freq.put(" भा", 1980);
-    freq.put("म्ह", 682);
-    freq.put(" स", 7738);
-    freq.put("्हे", 192);
-    freq.put("रण", 1061);
-    freq.put("वरा", 67);
-    freq.put("व", 16505);
-    freq.put("मंड", 86);
-    freq.put("मंद", 83);
-    freq.put("्यम", 126);
-    freq.put("वर्", 390);
-    freq.put("वात", 562);
-    freq.put("वाद", 207);
-    freq.put("िचा", 69);
-    freq.put("वाप", 201);
-    freq.put("वरू", 76);
-    freq.put("ंबर", 448);
-    freq.put("वरी", 175);
-    freq.put("वाय", 134);
-    freq.put("वार", 452);
-    freq.put("म्म", 64);
-    freq.put("वाल", 80);
-    freq.put("री ", 1362);
-    freq.put("डील", 75);
-    freq.put("ळा ", 98);
-    freq.put("ेन्", 114);
-    freq.put("वास", 154);
-    freq.put("वाह", 173);
-    freq.put("वां", 120);
-    freq.put("रीक", 109);
-    freq.put("्हि", 103);
-    freq.put("्हा", 235);
-    freq.put(" भौ", 66);
-    freq.put("ग्ल", 179);
-    freq.put("ग्र", 670);
-    freq.put("ोत ", 71);
-    freq.put("ग्न", 84);
-    freq.put("ंबई", 124);
-    freq.put("ज ", 339);
-    freq.put("रोप", 113);
-    freq.put("्हण", 631);
-    freq.put("्यत", 102);
-    freq.put("वाज", 104);
-    freq.put("ग्द", 71);
-    freq.put("सून", 460);
-    freq.put("ँ", 308);
-    freq.put("ांप", 219);
-    freq.put("ांन", 910);
-    freq.put("ित्", 984);
-    freq.put("ांब", 110);
-    freq.put("िती", 211);
-    freq.put("ांड", 163);
-    freq.put("्षि", 311);
-    freq.put("्षा", 344);
-    freq.put("ांत", 540);
-    freq.put("्षण", 152);
-    freq.put("ांस", 157);
-    freq.put("ंची", 306);
-    freq.put("पी ", 206);
-    freq.put("ंच्", 531);
-    freq.put("गिर", 64);
-    freq.put("ांव", 124);
-    freq.put(" द ", 78);
-    freq.put("ांच", 1386);
-    freq.put("यत्", 103);
-    freq.put("सार", 316);
-    freq.put("रेल", 183);
-    freq.put("ोणा", 90);
-    freq.put("ांग", 206);
-    freq.put("ांक", 146);
-    freq.put("ु", 7163);
-    freq.put("उच", 118);
-    freq.put("ध्य", 1211);
-    freq.put("िळ ", 165);
-    freq.put("ंग ", 304);
-    freq.put("ोन ", 196);
-    freq.put("१० ", 113);
-    freq.put("उं", 94);
-    freq.put("ीची", 91);
-    freq.put("्यो", 94);
-    freq.put("ाग ", 209);
-    freq.put("उर", 65);
-    freq.put("उल", 75);
-    freq.put("उन", 70);
-    freq.put("्षी", 88);
-    freq.put("्षे", 198);
-    freq.put("रेस", 151);
-    freq.put("िता", 173);
-    freq.put(" झ", 541);
-    freq.put("उत", 389);
-    freq.put("उद", 171);
-    freq.put(" गण", 130);
-    freq.put("बेट", 143);
-    freq.put("्यू", 155);
-    freq.put(" गा", 404);
-    freq.put("मुद", 185);
-    freq.put("म", 15733);
-    freq.put("२७ ", 71);
-    freq.put("ेणा", 90);
-    freq.put("रले", 92);
-    freq.put("ाषे", 285);
-    freq.put("ाष्", 810);
-    freq.put("ृथ", 73);
-    freq.put("ृत", 438);
-    freq.put(" गट", 64);
-    freq.put("बेर", 65);
-    freq.put("ृष", 221);
-    freq.put("रत ", 129);
-    freq.put("ी", 21357);
-    freq.put("एप", 100);
-    freq.put(" उल", 66);
-    freq.put("शाच", 270);
-    freq.put("ाडू", 108);
-    freq.put(" उप", 255);
-    freq.put("डाच", 85);
-    freq.put("ाषा", 187);
-    freq.put(" उत", 384);
-    freq.put(" उद", 168);
-    freq.put(" गे", 212);
-    freq.put(" उच", 118);
-    freq.put("ड्य", 63);
-    freq.put(" गु", 208);
-    freq.put(" ग्", 328);
-    freq.put("ेण्", 83);
-    freq.put(" गो", 192);
-    freq.put("शास", 375);
-    freq.put("शात", 171);
-    freq.put("ील ", 3327);
-    freq.put("एख", 65);
-    freq.put("एक", 1893);
-    freq.put("ृती", 81);
-    freq.put("हें", 134);
-    freq.put("ृत्", 188);
-    freq.put("सभे", 108);
-    freq.put("ीत ", 405);
-    freq.put("सीम", 75);
-    freq.put("पीठ", 86);
-    freq.put("सणा", 80);
-    freq.put("कला", 81);
-    freq.put("हेत", 649);
-    freq.put("फ", 1499);
-    freq.put("९ ", 481);
-    freq.put("प्", 3134);
-    freq.put("पै", 233);
-    freq.put("पॉ", 77);
-    freq.put("पो", 211);
-    freq.put("पॅ", 69);
-    freq.put("पे", 273);
-    freq.put("पी", 379);
-    freq.put("पु", 752);
-    freq.put("पू", 594);
-    freq.put("पृ", 102);
-    freq.put("१९७", 149);
-    freq.put("पा", 1577);
-    freq.put("पि", 254);
-    freq.put("पस", 114);
-    freq.put("पह", 161);
-    freq.put("पश", 225);
-    freq.put("पर", 957);
-    freq.put("यास", 414);
-    freq.put("पल", 219);
-    freq.put("कीय", 113);
-    freq.put("१९८", 221);
-    freq.put("पन", 409);
-    freq.put("पत", 355);
-    freq.put("पद", 339);
-    freq.put("पड", 106);
-    freq.put("पण", 229);
-    freq.put("ख ", 378);
-    freq.put("पट", 647);
-    freq.put("शब्", 122);
-    freq.put("१९५", 124);
-    freq.put("कल्", 115);
-    freq.put("५", 705);
-    freq.put("घटन", 111);
-    freq.put("याल", 203);
-    freq.put("सभा", 231);
-    freq.put("यार", 164);
-    freq.put("पं", 155);
-    freq.put("ं", 13502);
-    freq.put("षी ", 90);
-    freq.put("११", 87);
-    freq.put("१०", 143);
-    freq.put("१९", 1554);
-    freq.put("१८", 321);
-    freq.put("२ ", 421);
-    freq.put("णजे", 209);
-    freq.put("१५", 108);
-    freq.put("१४", 109);
-    freq.put("१३", 94);
-    freq.put("१२", 105);
-    freq.put(" मै", 64);
-    freq.put(" मो", 576);
-    freq.put(" म्", 694);
-    freq.put(" मु", 622);
-    freq.put("ाले", 279);
-    freq.put(" मृ", 78);
-    freq.put(" मू", 114);
-    freq.put("टोब", 135);
-    freq.put(" मे", 240);
-    freq.put("समा", 227);
-    freq.put("्ग ", 233);
-    freq.put("मुख", 511);
-    freq.put("ोर्", 136);
-    freq.put("किं", 328);
-    freq.put("ू", 4430);
-    freq.put("एक ", 1511);
-    freq.put(" मत", 139);
-    freq.put(" मध", 589);
-    freq.put(" मह", 1114);
-    freq.put("समू", 87);
-    freq.put(" मि", 294);
-    freq.put(" मा", 1083);
-    freq.put(" मर", 508);
-    freq.put(" मल", 145);
-    freq.put("सम्", 80);
-    freq.put("याद", 157);
-    freq.put("किन", 92);
-    freq.put("किम", 109);
-    freq.put("नोव", 141);
-    freq.put("किल", 76);
-    freq.put("क्क", 92);
-    freq.put("िका", 572);
-    freq.put("बच्", 64);
-    freq.put(" जि", 352);
-    freq.put("क्ट", 201);
-    freq.put("ुरो", 111);
-    freq.put("िकन", 68);
-    freq.put("ळ्", 150);
-    freq.put("ुर्", 256);
-    freq.put("ुरू", 78);
-    freq.put("ळू", 62);
-    freq.put("ळी", 258);
-    freq.put("ळे", 264);
-    freq.put("्सि", 71);
-    freq.put("क्ष", 1291);
-    freq.put("क्र", 523);
-    freq.put("भ", 4247);
-    freq.put("क्स", 174);
-    freq.put("क्त", 320);
-    freq.put("पदा", 135);
-    freq.put("क्य", 169);
-    freq.put("गाल", 127);
-    freq.put("ंद ", 67);
-    freq.put("पद्", 103);
-    freq.put("गाव", 277);
-    freq.put("नंत", 140);
-    freq.put("राम", 258);
-    freq.put("ळख", 135);
-    freq.put("ळक", 78);
-    freq.put("्शि", 77);
-    freq.put("्स्", 66);
-    freq.put("गात", 319);
-    freq.put("३ ", 377);
-    freq.put("गाय", 92);
-    freq.put("आफ्", 114);
-    freq.put("ुरस", 95);
-    freq.put("ुरा", 109);
-    freq.put("ळा", 565);
-    freq.put(" व ", 1440);
-    freq.put("गाच", 88);
-    freq.put("७", 829);
-    freq.put("ळव", 128);
-    freq.put("गां", 194);
-    freq.put("हर ", 423);
-    freq.put("ळन", 66);
-    freq.put(" मन", 77);
-    freq.put("ळण", 107);
-    freq.put(" ठि", 88);
-    freq.put("ळत", 82);
-    freq.put("शत", 95);
-    freq.put("योग", 175);
-    freq.put("शन", 181);
-    freq.put("शब", 124);
-    freq.put("िल ", 211);
-    freq.put("शर", 79);
-    freq.put("शव", 74);
-    freq.put("ादी", 203);
-    freq.put("शह", 705);
-    freq.put("ाद्", 145);
-    freq.put("शा", 1405);
-    freq.put("शि", 914);
-    freq.put("मोठ", 381);
-    freq.put("सभ", 348);
-    freq.put(" घे", 131);
-    freq.put("ब", 5130);
-    freq.put("षिण", 264);
-    freq.put("्ड ", 88);
-    freq.put("शक", 187);
-    freq.put("्थळ", 62);
-    freq.put("े ", 16291);
-    freq.put("्थि", 115);
-    freq.put("्था", 569);
-    freq.put("ये ", 856);
-    freq.put("धा ", 98);
-    freq.put("ाच ", 165);
-    freq.put("ुन ", 350);
-    freq.put(" घा", 63);
-    freq.put(" घर", 66);
-    freq.put("शी", 422);
-    freq.put("शु", 72);
-    freq.put("महा", 885);
-    freq.put("िशे", 76);
-    freq.put("शे", 245);
-    freq.put("शो", 167);
-    freq.put("६", 758);
-    freq.put("िश्", 136);
-    freq.put("ासु", 84);
-    freq.put(" शक", 86);
-    freq.put("ऑक्", 139);
-    freq.put("व ", 2502);
-    freq.put("महत", 141);
-    freq.put("ुका", 154);
-    freq.put("शिक", 213);
-    freq.put("बा ", 68);
-    freq.put("ंक", 394);
-    freq.put("ंख", 180);
-    freq.put("ंग", 1699);
-    freq.put("ान ", 859);
-    freq.put("ग", 7424);
-    freq.put("ंज", 187);
-    freq.put("ंट", 262);
-    freq.put("ंघ", 431);
-    freq.put("ंच", 1704);
-    freq.put("ंत", 1644);
-    freq.put("ंथ", 109);
-    freq.put("ंद", 1200);
-    freq.put("ंध", 318);
-    freq.put("ंड", 876);
-    freq.put("िन्", 135);
-    freq.put("ंब", 953);
-    freq.put("ंभ", 92);
-    freq.put("ंम", 356);
-    freq.put("ंन", 966);
-    freq.put("ंप", 555);
-    freq.put("भाव", 89);
-    freq.put(" १०", 100);
-    freq.put("ंव", 461);
-    freq.put("ंश", 217);
-    freq.put(" १८", 311);
-    freq.put(" १९", 1529);
-    freq.put(" १६", 113);
-    freq.put(" १७", 121);
-    freq.put("ंस", 555);
-    freq.put(" १५", 99);
-    freq.put(" १२", 89);
-    freq.put(" १३", 81);
-    freq.put(" ५ ", 63);
-    freq.put("सुर", 133);
-    freq.put("सुन", 150);
-    freq.put("सुम", 66);
-    freq.put("वडण", 125);
-    freq.put("यव", 231);
-    freq.put("ी ", 12189);
-    freq.put("ेस ", 273);
-    freq.put("तात", 957);
-    freq.put("ोल्", 72);
-    freq.put("नां", 144);
-    freq.put("श ", 822);
-    freq.put("भे", 177);
-    freq.put("भू", 282);
-    freq.put("भ्", 94);
-    freq.put("भौ", 79);
-    freq.put("करत", 181);
-    freq.put("करण", 522);
-    freq.put("भो", 73);
-    freq.put("करा", 112);
-    freq.put("जरा", 68);
-    freq.put("मत", 229);
-    freq.put("दी", 767);
-    freq.put("ताम", 63);
-    freq.put("तरर", 91);
-    freq.put("म ", 1312);
-    freq.put("तरा", 162);
-    freq.put("दू", 226);
-    freq.put("तळ", 94);
-    freq.put("а", 72);
-    freq.put("काळ", 222);
-    freq.put("३० ", 73);
-    freq.put("वी ", 367);
-    freq.put("होण", 97);
-    freq.put("होत", 1397);
-    freq.put("तरे", 84);
-    freq.put(" शह", 692);
-    freq.put("रूप", 76);
-    freq.put("शेष", 68);
-    freq.put("िला", 170);
-    freq.put("जर्", 134);
-    freq.put("कर्", 219);
-    freq.put("करू", 89);
-    freq.put("करी", 67);
-    freq.put("ऑस्", 91);
-    freq.put("वृत", 90);
-    freq.put("भर", 75);
-    freq.put("भि", 399);
-    freq.put("भा", 2637);
-    freq.put(" २०", 568);
-    freq.put("ें", 768);
-    freq.put("कां", 335);
-    freq.put(" या", 2852);
-    freq.put(" ऑक", 140);
-    freq.put("काच", 171);
-    freq.put("ु ", 263);
-    freq.put("काण", 89);
-    freq.put("कात", 158);
-    freq.put("काद", 84);
-    freq.put("लील", 65);
-    freq.put("काम", 326);
-    freq.put("काय", 62);
-    freq.put("कार", 1020);
-    freq.put("दु", 367);
-    freq.put("काल", 221);
-    freq.put("दृ", 82);
-    freq.put("काश", 148);
-    freq.put("दे", 1492);
-    freq.put("कास", 81);
-    freq.put("काह", 112);
-    freq.put("दो", 255);
-    freq.put("द्", 1977);
-    freq.put("दर", 524);
-    freq.put("र्क", 189);
-    freq.put("दल", 156);
-    freq.put("र्ग", 412);
-    freq.put("दव", 72);
-    freq.put("ुक्", 227);
-    freq.put("र्ज", 148);
-    freq.put("ुसा", 139);
-    freq.put("र्ट", 116);
-    freq.put("दा", 1004);
-    freq.put("दि", 707);
-    freq.put("र्च", 115);
-    freq.put("दन", 81);
-    freq.put("ाचे", 1121);
-    freq.put("ेल", 2762);
-    freq.put("चाल", 111);
-    freq.put("र्श", 238);
-    freq.put("चार", 281);
-    freq.put("दक", 326);
-    freq.put("र्ल", 103);
-    freq.put(" ये", 604);
-    freq.put("ेख ", 111);
-    freq.put("र्स", 68);
-    freq.put(" यु", 309);
-    freq.put("र्त", 217);
-    freq.put("र्थ", 343);
-    freq.put("दं", 76);
-    freq.put("र्ध", 121);
-    freq.put("र्ड", 113);
-    freq.put("र्ण", 231);
-    freq.put("ेल ", 174);
-    freq.put("र्य", 552);
-    freq.put("र्न", 169);
-    freq.put("र्फ", 104);
-    freq.put("्त्", 568);
-    freq.put("्ती", 202);
-    freq.put("्तु", 82);
-    freq.put("्ते", 64);
-    freq.put("ाच्", 1245);
-    freq.put("तो ", 552);
-    freq.put("घ", 1111);
-    freq.put("ेत", 2226);
-    freq.put("भेव", 86);
-    freq.put("िण ", 169);
-    freq.put(" जु", 247);
-    freq.put("र्व", 1106);
-    freq.put("षाच", 186);
-    freq.put("वडू", 94);
-    freq.put("षां", 107);
-    freq.put("येथ", 336);
-    freq.put("र्ष", 184);
-    freq.put("येत", 173);
-    freq.put("ंवा", 298);
-    freq.put("्तक", 79);
-    freq.put("ुद्", 358);
-    freq.put("ाक ", 79);
-    freq.put("फेब", 101);
-    freq.put("सू", 619);
-    freq.put("्ता", 389);
-    freq.put("्ति", 145);
-    freq.put("्ठ ", 232);
-    freq.put("णा ", 114);
-    freq.put("्तर", 330);
-    freq.put("ंवर", 89);
-    freq.put("चौ", 88);
-    freq.put("च्", 3182);
-    freq.put("ः", 232);
-    freq.put("माज", 179);
-    freq.put("बं", 239);
-    freq.put("माच", 73);
-    freq.put("चे", 2243);
-    freq.put("ची", 1602);
-    freq.put("बई", 129);
-    freq.put("रजा", 126);
-    freq.put("बच", 72);
-    freq.put("मां", 206);
-    freq.put("बद", 156);
-    freq.put("बत", 64);
-    freq.put("ाव्", 94);
-    freq.put("माह", 78);
-    freq.put("ावे", 148);
-    freq.put("ाधा", 87);
-    freq.put(" जर", 148);
-    freq.put("र्द", 88);
-    freq.put("बन", 164);
-    freq.put("मार", 537);
-    freq.put("वक", 74);
-    freq.put("बर", 861);
-    freq.put("मान", 677);
-    freq.put("बा", 902);
-    freq.put("बि", 244);
-    freq.put("मात", 178);
-    freq.put("माण", 213);
-    freq.put("बह", 109);
-    freq.put("बे", 403);
-    freq.put("ृ", 896);
-    freq.put(" ऑग", 114);
-    freq.put("बी", 172);
-    freq.put("बु", 115);
-    freq.put("ब्", 696);
-    freq.put("बो", 197);
-    freq.put("चं", 156);
-    freq.put("बॉ", 75);
-    freq.put("ावा", 374);
-    freq.put("ावि", 118);
-    freq.put("ाध्", 84);
-    freq.put("जे ", 259);
-    freq.put("लाप", 66);
-    freq.put("ावल", 82);
-    freq.put("र्म", 630);
-    freq.put("्यक", 342);
-    freq.put("ास ", 473);
-    freq.put("चन", 187);
-    freq.put("ीरा", 80);
-    freq.put("चा", 1991);
-    freq.put("चि", 1243);
-    freq.put("चव", 64);
-    freq.put("चर", 81);
-    freq.put("चल", 81);
-    freq.put("्का", 190);
-    freq.put(" ६ ", 68);
-    freq.put("यंत", 200);
-    freq.put("ापा", 183);
-    freq.put("रवा", 143);
-    freq.put("इति", 65);
-    freq.put("मे ", 125);
-    freq.put("च", 12137);
-    freq.put("लंड", 195);
-    freq.put("जधा", 220);
-    freq.put("पूर", 541);
-    freq.put("अने", 154);
-    freq.put(" जन", 432);
-    freq.put("ेव ", 85);
-    freq.put("्चा", 100);
-    freq.put("्चि", 216);
-    freq.put("त ", 6358);
-    freq.put("िल्", 507);
-    freq.put("ता ", 928);
-    freq.put("साग", 141);
-    freq.put("कडू", 62);
-    freq.put("्चन", 73);
-    freq.put("कडे", 62);
-    freq.put("िवा", 161);
-    freq.put("साठ", 416);
-    freq.put("सात", 110);
-    freq.put("साध", 112);
-    freq.put("साय", 147);
-    freq.put("साम", 328);
-    freq.put("ना ", 828);
-    freq.put("ापी", 79);
-    freq.put("ृष्", 213);
-    freq.put("साह", 175);
-    freq.put("ाप्", 78);
-    freq.put("णप", 91);
-    freq.put("ीका", 68);
-    freq.put("अ", 4895);
-    freq.put("नी ", 1364);
-    freq.put("णत", 272);
-    freq.put("ासक", 92);
-    freq.put("णि", 910);
-    freq.put("णा", 1365);
-    freq.put("वसल", 181);
-    freq.put("बी ", 93);
-    freq.put("ासत", 84);
-    freq.put("ाम", 1731);
-    freq.put("५ ", 430);
-    freq.put("ॅन", 107);
-    freq.put("ेचे", 150);
-    freq.put("ेची", 66);
-    freq.put("ம", 77);
-    freq.put("वसा", 93);
-    freq.put(" रु", 64);
-    freq.put(" रे", 153);
-    freq.put("्क ", 91);
-    freq.put("णज", 221);
-    freq.put(" रो", 269);
-    freq.put("लै ", 119);
-    freq.put("ासि", 69);
-    freq.put("ासा", 570);
-    freq.put("ॅर", 127);
-    freq.put("णक", 97);
-    freq.put("ोला", 81);
-    freq.put("ोलि", 66);
-    freq.put("ष ", 215);
-    freq.put("ास्", 488);
-    freq.put(" रस", 83);
-    freq.put(" रि", 79);
-    freq.put(" रा", 1893);
-    freq.put("ेचा", 92);
-    freq.put("ल्ल", 251);
-    freq.put("न्स", 215);
-    freq.put("न्ह", 93);
-    freq.put("ण्", 982);
-    freq.put("ल्व", 86);
-    freq.put("णू", 264);
-    freq.put("णु", 223);
-    freq.put("णी", 405);
-    freq.put("णे", 550);
-    freq.put(" रं", 86);
-    freq.put("न्म", 293);
-    freq.put("लुक", 126);
-    freq.put("न्न", 159);
-    freq.put("ल्प", 162);
-    freq.put("ल्य", 1022);
-    freq.put("्वर", 132);
-    freq.put("्वि", 88);
-    freq.put("्वा", 1006);
-    freq.put("थ ", 288);
-    freq.put("चन ", 87);
-    freq.put("िद्", 408);
-    freq.put("ेकड", 79);
-    freq.put("ेवा", 214);
-    freq.put("्वज", 70);
-    freq.put("ंपन", 86);
-    freq.put("ंपर", 71);
-    freq.put("ंपा", 63);
-    freq.put(" डि", 141);
-    freq.put("दोन", 169);
-    freq.put("बाद", 98);
-    freq.put("्द ", 119);
-    freq.put("ंघट", 78);
-    freq.put("ेक्", 200);
-    freq.put("ंपै", 165);
-    freq.put("पृथ", 73);
-    freq.put("ुष्", 79);
-    freq.put("मुं", 140);
-    freq.put("ंघा", 242);
-    freq.put("ः ", 139);
-    freq.put("ंड ", 204);
-    freq.put("्वे", 282);
-    freq.put("ाथ", 69);
-    freq.put("्वी", 309);
-    freq.put("राट", 76);
-    freq.put("टा ", 105);
-    freq.put("ातो", 153);
-    freq.put("ात्", 194);
-    freq.put("तका", 129);
-    freq.put("रण्", 354);
-    freq.put("ाती", 1964);
-    freq.put("िरा", 70);
-    freq.put("ातू", 202);
-    freq.put("रणे", 72);
-    freq.put("ाते", 315);
-    freq.put(" च्", 195);
-    freq.put(" चौ", 88);
-    freq.put("ेब्", 104);
-    freq.put(" चे", 120);
-    freq.put(" ची", 128);
-    freq.put("य", 22975);
-    freq.put("रा ", 574);
-    freq.put("र ", 6250);
-    freq.put("ोजी", 152);
-    freq.put("ाखा", 79);
-    freq.put("्य ", 1111);
-    freq.put("घात", 147);
-    freq.put("मिक", 114);
-    freq.put(" चि", 913);
-    freq.put(" चा", 258);
-    freq.put("ेन ", 118);
-    freq.put("ातं", 85);
-    freq.put("ांम", 292);
-    freq.put("िरी", 73);
-    freq.put("ाता", 198);
-    freq.put("िर्", 245);
-    freq.put("ातल", 106);
-    freq.put("९", 2445);
-    freq.put(" चं", 92);
-    freq.put("मिन", 63);
-    freq.put("रील", 210);
-    freq.put("राठ", 475);
-    freq.put("ञ ", 122);
-    freq.put("घाच", 71);
-    freq.put("िली", 83);
-    freq.put("ंख्", 149);
-    freq.put("बां", 115);
-    freq.put("जी ", 439);
-    freq.put("द", 9254);
-    freq.put("तः ", 64);
-    freq.put("नो", 289);
-    freq.put("नै", 75);
-    freq.put("न्", 1414);
-    freq.put("नी", 1612);
-    freq.put("नु", 263);
-    freq.put("ने", 2153);
-    freq.put("नस", 171);
-    freq.put("ना", 2993);
-    freq.put("नि", 1438);
-    freq.put("णि ", 782);
-    freq.put("नल", 207);
-    freq.put("नर", 109);
-    freq.put("नव", 362);
-    freq.put("नम", 96);
-    freq.put("नय", 86);
-    freq.put("नड", 78);
-    freq.put("नद", 208);
-    freq.put("नत", 190);
-    freq.put("नच", 194);
-    freq.put("०", 1926);
-    freq.put("राव", 320);
-    freq.put("नग", 152);
-    freq.put("नक", 199);
-    freq.put("संक", 81);
-    freq.put("विद", 197);
-    freq.put("नं", 194);
-    freq.put("घ ", 103);
-    freq.put(" आर", 162);
-    freq.put(" आल", 243);
-    freq.put(" आश", 86);
-    freq.put(" आह", 3959);
-    freq.put("लाग", 85);
-    freq.put("ारख", 74);
-    freq.put("ऑ", 510);
-    freq.put(" आण", 837);
-    freq.put(" आढ", 90);
-    freq.put(" आध", 97);
-    freq.put(" आफ", 117);
-    freq.put(" आप", 129);
-    freq.put("कवी", 78);
-    freq.put(" आय", 154);
-    freq.put("ारं", 64);
-    freq.put("ारि", 99);
-    freq.put("ारा", 1018);
-    freq.put(" आक", 124);
-    freq.put("ारस", 180);
-    freq.put(" आग", 68);
-    freq.put("अमे", 278);
-    freq.put("से ", 365);
-    freq.put("ांध", 110);
-    freq.put(" आं", 187);
-    freq.put("ारत", 1080);
-    freq.put("ारण", 233);
-    freq.put("ॅरि", 66);
-    freq.put("स्य", 64);
-    freq.put("खाल", 87);
-    freq.put("स्प", 226);
-    freq.put("स्त", 1031);
-    freq.put("स्थ", 759);
-    freq.put("ार्", 1216);
-    freq.put("खाद", 93);
-    freq.put("लां", 197);
-    freq.put("स्व", 512);
-    freq.put("ारे", 318);
-    freq.put("ाणे", 107);
-    freq.put("ारी", 709);
-    freq.put("स्ल", 87);
-    freq.put("खान", 75);
-    freq.put("ेरी", 87);
-    freq.put("स्ट", 559);
-    freq.put("०९ ", 83);
-    freq.put("स्क", 382);
-    freq.put(" ०", 70);
-    freq.put(" १", 2735);
-    freq.put(" ४", 132);
-    freq.put(" ५", 115);
-    freq.put(" २", 1066);
-    freq.put("के ", 109);
-    freq.put(" ८", 95);
-    freq.put(" ९", 93);
-    freq.put(" ६", 115);
-    freq.put(" ७", 115);
-    freq.put("ले ", 1654);
-    freq.put("ऐ", 63);
-    freq.put("९१ ", 71);
-    freq.put(" के", 933);
-    freq.put(" कु", 249);
-    freq.put("मध्", 993);
-    freq.put("रणा", 308);
-    freq.put(" ठ", 228);
-    freq.put(" ड", 419);
-    freq.put(" द", 3178);
-    freq.put(" ध", 461);
-    freq.put(" त", 3644);
-    freq.put("दा ", 131);
-    freq.put(" प", 6615);
-    freq.put(" फ", 822);
-    freq.put(" न", 2997);
-    freq.put(" म", 6902);
-    freq.put(" य", 3998);
-    freq.put(" ब", 2263);
-    freq.put(" भ", 2543);
-    freq.put(" ल", 2032);
-    freq.put(" र", 3046);
-    freq.put("रेक", 125);
-    freq.put(" श", 2241);
-    freq.put(" व", 5406);
-    freq.put("थान", 236);
-    freq.put("रेट", 62);
-    freq.put("थाप", 202);
-    freq.put(" ह", 7628);
-    freq.put("टना", 76);
-    freq.put(" आ", 6783);
-    freq.put(" इ", 1199);
-    freq.put(" अ", 4797);
-    freq.put(" ऊ", 68);
-    freq.put(" ई", 99);
-    freq.put(" उ", 1326);
-    freq.put(" ए", 2269);
-    freq.put(" ओ", 265);
-    freq.put(" ऑ", 506);
-    freq.put(" ख", 774);
-    freq.put(" ग", 1923);
-    freq.put(" औ", 107);
-    freq.put(" क", 6366);
-    freq.put(" च", 2075);
-    freq.put(" छ", 154);
-    freq.put(" घ", 462);
-    freq.put("मंत", 114);
-    freq.put(" ट", 487);
-    freq.put(" ज", 3863);
-    freq.put("गुर", 68);
-    freq.put("याच", 1413);
-    freq.put("िना", 177);
-    freq.put("िनि", 68);
-    freq.put("यो", 389);
-    freq.put("तीं", 64);
-    freq.put("ये", 1927);
-    freq.put("यू", 189);
-    freq.put("यु", 675);
-    freq.put("यी", 118);
-    freq.put("मुल", 69);
-    freq.put("मुळ", 150);
-    freq.put("फ्र", 309);
-    freq.put("यां", 1609);
-    freq.put("४ ", 416);
-    freq.put("तीच", 131);
-    freq.put("इतर", 127);
-    freq.put("१९६", 128);
-    freq.put("१९९", 347);
-    freq.put("तीत", 68);
-    freq.put("१९३", 101);
-    freq.put("१९२", 109);
-    freq.put("्र ", 868);
-    freq.put("१९४", 143);
-    freq.put("तीय", 438);
-    freq.put("१९१", 93);
-    freq.put("ूर्", 429);
-    freq.put("ाने", 765);
-    freq.put("तीन", 98);
-    freq.put("डात", 62);
-    freq.put("ाजी", 169);
-    freq.put("यान", 560);
-    freq.put("याम", 178);
-    freq.put("तील", 2444);
-    freq.put("वान", 200);
-    freq.put(" इं", 409);
-    freq.put("ाज्", 867);
-    freq.put("यात", 1507);
-    freq.put("सरा", 98);
-    freq.put("ाजव", 101);
-    freq.put("यं", 250);
-    freq.put("ाजा", 172);
-    freq.put("यट", 74);
-    freq.put("िय ", 84);
-    freq.put("ाजध", 220);
-    freq.put("यक", 493);
-    freq.put("यम", 237);
-    freq.put("दुस", 164);
-    freq.put("ाजक", 91);
-    freq.put("यप", 140);
-    freq.put("यन", 341);
-    freq.put("दुर", 84);
-    freq.put("यत", 203);
-    freq.put("गळ्", 76);
-    freq.put("यि", 121);
-    freq.put("या", 14036);
-    freq.put("उत्", 376);
-    freq.put("यस", 75);
-    freq.put("्म ", 214);
-    freq.put("ै ", 165);
-    freq.put("िने", 334);
-    freq.put("िनी", 230);
-    freq.put("यल", 98);
-    freq.put("यर", 147);
-    freq.put("ाधि", 74);
-    freq.put("बोध", 67);
-    freq.put("माल", 161);
-    freq.put("ावी", 70);
-    freq.put("धील", 412);
-    freq.put("दू ", 113);
-    freq.put("जन्", 279);
-    freq.put("डू ", 84);
-    freq.put("जनत", 86);
-    freq.put("ाय ", 102);
-    freq.put("िवस", 72);
-    freq.put("िवि", 81);
-    freq.put(" भू", 208);
-    freq.put("वाम", 62);
-    freq.put("िवड", 238);
-    freq.put("रां", 490);
-    freq.put("राच", 427);
-    freq.put("राज", 1474);
-    freq.put("ज्ञ", 320);
-    freq.put("ध ", 495);
-    freq.put("ीन ", 336);
-    freq.put("जा ", 105);
-    freq.put(" कं", 103);
-    freq.put("रान", 176);
-    freq.put(" का", 1385);
-    freq.put(" कि", 683);
-    freq.put("मनी", 88);
-    freq.put("राय", 119);
-    freq.put("ज्य", 1261);
-    freq.put(" कव", 97);
-    freq.put("राण", 185);
-    freq.put(" कर", 956);
-    freq.put("रात", 566);
-    freq.put(" कल", 112);
-    freq.put("राह", 156);
-    freq.put("रास", 112);
-    freq.put(" कम", 84);
-    freq.put("पान", 76);
-    freq.put("ाणा", 214);
-    freq.put(" कथ", 124);
-    freq.put("टक ", 89);
-    freq.put("ऽ", 116);
-    freq.put("राष", 801);
-    freq.put("ोक ", 70);
-    freq.put("ेंद", 165);
-    freq.put("ठिक", 87);
-    freq.put("ाण्", 123);
-    freq.put("यक्", 261);
-    freq.put("ाणी", 153);
-    freq.put(" इस", 89);
-    freq.put("ेळा", 116);
-    freq.put(" क्", 525);
-    freq.put(" इत", 279);
-    freq.put(" कॉ", 122);
-    freq.put("ँग", 72);
-    freq.put(" को", 333);
-    freq.put(" कॅ", 146);
-    freq.put("एप्", 100);
-    freq.put("क ", 4288);
-    freq.put(" कृ", 78);
-    freq.put("ँड", 81);
-    freq.put("टी ", 174);
-    freq.put("कृष", 91);
-    freq.put(" सं", 1488);
-    freq.put(" प्", 2295);
-    freq.put("कृत", 201);
-    freq.put(" पॉ", 75);
-    freq.put(" पो", 147);
-    freq.put("नदी", 146);
-    freq.put("ेंट", 68);
-    freq.put(" पे", 127);
-    freq.put(" पु", 600);
-    freq.put(" पृ", 96);
-    freq.put(" पू", 277);
-    freq.put("आढळ", 87);
-    freq.put(" सप", 137);
-    freq.put(" सम", 640);
-    freq.put("आर्", 98);
-    freq.put("ेंब", 371);
-    freq.put(" सध", 64);
-    freq.put(" सद", 67);
-    freq.put(" सत", 74);
-    freq.put(" सह", 142);
-    freq.put(" सि", 219);
-    freq.put(" सा", 1287);
-    freq.put(" सर", 815);
-    freq.put(" सो", 189);
-    freq.put("ठ ", 317);
-    freq.put(" स्", 1248);
-    freq.put(" पक", 276);
-    freq.put(" सू", 90);
-    freq.put(" सु", 443);
-    freq.put(" सी", 112);
-    freq.put(" से", 175);
-    freq.put("ांद", 82);
-    freq.put("फ ", 180);
-    freq.put("ोबर", 168);
-    freq.put("इं", 419);
-    freq.put("संग", 244);
-    freq.put(" पं", 133);
-    freq.put("ंचे", 348);
-    freq.put(" पि", 143);
-    freq.put(" पा", 818);
-    freq.put("ू ", 729);
-    freq.put(" पश", 206);
-    freq.put(" पर", 492);
-    freq.put("इस", 98);
-    freq.put("इत", 287);
-    freq.put("जून", 124);
-    freq.put(" पत", 76);
-    freq.put(" पद", 228);
-    freq.put(" पड", 69);
-    freq.put("ुरु", 156);
-    freq.put("ंडळ", 71);
-    freq.put("दर्", 246);
-    freq.put(" पट", 81);
-    freq.put("ध", 4679);
-    freq.put("गीत", 150);
-    freq.put("सप्", 140);
-    freq.put("भ्य", 77);
-    freq.put("जगा", 147);
-    freq.put("्रद", 304);
-    freq.put("्पन", 111);
-    freq.put("हिल", 252);
-    freq.put("्पर", 85);
-    freq.put("ढळ", 87);
-    freq.put("्पा", 80);
-    freq.put("हित", 204);
-    freq.put("रच्", 105);
-    freq.put("१", 3312);
-    freq.put("दरम", 106);
-    freq.put("षक ", 73);
-    freq.put("तुर", 76);
-    freq.put("हिं", 378);
-    freq.put("ड ", 671);
-    freq.put("हास", 245);
-    freq.put("िपी", 179);
-    freq.put("हाव", 84);
-    freq.put("२७", 76);
-    freq.put("८९ ", 68);
-    freq.put("घे", 138);
-    freq.put("हाम", 139);
-    freq.put("ापर", 215);
-    freq.put("க", 89);
-    freq.put("मेल", 94);
-    freq.put("हात", 102);
-    freq.put("िम ", 197);
-    freq.put("तून", 246);
-    freq.put("में", 100);
-    freq.put("पहि", 119);
-    freq.put("धन ", 83);
-    freq.put("ाई ", 106);
-    freq.put("्रल", 83);
-    freq.put("ा", 66714);
-    freq.put(" यो", 83);
-    freq.put("यम ", 64);
-    freq.put("ुळे", 148);
-    freq.put("घट", 138);
-    freq.put(" पह", 159);
-    freq.put("ला ", 1877);
-    freq.put("आका", 68);
-    freq.put("देव", 241);
-    freq.put("देश", 972);
-    freq.put("घड", 69);
-    freq.put("घा", 367);
-    freq.put("ियो", 66);
-    freq.put("घर", 90);
-    freq.put("देण", 76);
-    freq.put("्थ", 1118);
-    freq.put("्त", 2563);
-    freq.put("्ध", 714);
-    freq.put("्द", 543);
-    freq.put("्ड", 225);
-    freq.put("्ठ", 301);
-    freq.put("्ण", 384);
-    freq.put("ूर ", 255);
-    freq.put("फो", 62);
-    freq.put("्ब", 125);
-    freq.put("्य", 13761);
-    freq.put("्म", 1315);
-    freq.put("्न", 549);
-    freq.put("्फ", 142);
-    freq.put("्प", 569);
-    freq.put("्व", 2745);
-    freq.put("्ष", 1475);
-    freq.put("्श", 274);
-    freq.put("्र", 9096);
-    freq.put("ऑगस", 114);
-    freq.put("्ह", 1660);
-    freq.put("्स", 788);
-    freq.put("सा ", 185);
-    freq.put("ापन", 141);
-    freq.put(" खे", 215);
-    freq.put("्धत", 82);
-    freq.put("णून", 182);
-    freq.put("िस ", 90);
-    freq.put("्क", 801);
-    freq.put("्ग", 488);
-    freq.put("्झ", 104);
-    freq.put("्ज", 211);
-    freq.put("्ट", 2277);
-    freq.put("्ञ", 320);
-    freq.put("्धा", 165);
-    freq.put("्च", 600);
-    freq.put("िया", 833);
-    freq.put("घेत", 69);
-    freq.put("इंग", 258);
-    freq.put("रिक", 669);
-    freq.put("ि ", 987);
-    freq.put("रिय", 267);
-    freq.put(" खं", 102);
-    freq.put("इंड", 62);
-    freq.put("३", 695);
-    freq.put("रित", 141);
-    freq.put("फळ", 72);
-    freq.put("षण ", 107);
-    freq.put("अर्", 160);
-    freq.put("रिस", 109);
-    freq.put("फि", 95);
-    freq.put("फा", 147);
-    freq.put("२००", 459);
-    freq.put(" हो", 1650);
-    freq.put(" ह्", 509);
-    freq.put(" ही", 801);
-    freq.put("ेश ", 484);
-    freq.put("वता", 101);
-    freq.put(" हे", 1892);
-    freq.put("००९", 79);
-    freq.put("००७", 86);
-    freq.put("्टि", 89);
-    freq.put("्टा", 154);
-    freq.put("अभि", 344);
-    freq.put("रंप", 65);
-    freq.put("श्य", 73);
-    freq.put("रंग", 175);
-    freq.put("न", 18404);
-    freq.put("ंडा", 180);
-    freq.put("ाल ", 196);
-    freq.put("ி", 93);
-    freq.put("पश्", 206);
-    freq.put("वेग", 99);
-    freq.put("्टो", 150);
-    freq.put("तदा", 122);
-    freq.put("६ ", 435);
-    freq.put(" हय", 132);
-    freq.put("अभ्", 70);
-    freq.put("२", 1611);
-    freq.put("्टी", 161);
-    freq.put("्टे", 199);
-    freq.put("वेद", 75);
-    freq.put("आणि", 780);
-    freq.put("वती", 67);
-    freq.put(" हा", 1542);
-    freq.put(" हि", 526);
-    freq.put(" हर", 99);
-    freq.put("वेल", 78);
-    freq.put("वेश", 67);
-    freq.put("०७ ", 92);
-    freq.put("टच", 62);
-    freq.put("भा ", 239);
-    freq.put("झाल", 422);
-    freq.put(" अम", 426);
-    freq.put("ओ", 357);
-    freq.put("सां", 148);
-    freq.put("ैव", 63);
-    freq.put(" फा", 98);
-    freq.put(" फि", 73);
-    freq.put("टि", 297);
-    freq.put("टा", 652);
-    freq.put("ेटा", 76);
-    freq.put("८६", 64);
-    freq.put("८८", 69);
-    freq.put("८९", 125);
-    freq.put("टल", 177);
-    freq.put("८०", 89);
-    freq.put("टर", 206);
-    freq.put(" अत", 140);
-    freq.put("उप", 257);
-    freq.put("टन", 228);
-    freq.put("ुवा", 185);
-    freq.put(" अध", 194);
-    freq.put("ट्", 1360);
-    freq.put("टो", 293);
-    freq.put("ौर", 111);
-    freq.put("टे", 445);
-    freq.put("ंमध", 305);
-    freq.put("टी", 396);
-    freq.put(" फु", 65);
-    freq.put(" फे", 128);
-    freq.put("ुना", 87);
-    freq.put(" फ्", 212);
-    freq.put("असे", 343);
-    freq.put(" अस", 1524);
-    freq.put("ो ", 900);
-    freq.put("विध", 115);
-    freq.put("் ", 95);
-    freq.put("ोठे", 238);
-    freq.put("विन", 71);
-    freq.put("विम", 91);
-    freq.put("विभ", 103);
-    freq.put("विल", 73);
-    freq.put("विष", 207);
-    freq.put("विश", 185);
-    freq.put("विव", 106);
-    freq.put(" अव", 109);
-    freq.put("ुलै", 113);
-    freq.put("७ ", 492);
-    freq.put("त्र", 2148);
-    freq.put("्ने", 69);
-    freq.put("प", 12607);
-    freq.put("ळना", 64);
-    freq.put(" अल", 139);
-    freq.put("विक", 171);
-    freq.put("विच", 82);
-    freq.put("सले", 457);
-    freq.put("विज", 139);
-    freq.put("पनी", 76);
-    freq.put("ठी ", 788);
-    freq.put("ह ", 265);
-    freq.put("यू ", 94);
-    freq.put("्ना", 140);
-    freq.put("ते ", 2330);
-    freq.put("दल ", 81);
-    freq.put("नार", 159);
-    freq.put("४", 690);
-    freq.put("ुला", 65);
-    freq.put("शिव", 108);
-    freq.put("गर ", 134);
-    freq.put("मी ", 268);
-    freq.put("ापू", 104);
-    freq.put("त्त", 815);
-    freq.put("रमा", 263);
-    freq.put("त्न", 66);
-    freq.put("त्प", 68);
-    freq.put("ाट ", 100);
-    freq.put("त्म", 72);
-    freq.put("त्य", 1716);
-    freq.put("० ", 717);
-    freq.put("क", 20151);
-    freq.put("त्व", 365);
-    freq.put("त्स", 89);
-    freq.put("हणू", 177);
-    freq.put("णाच", 69);
-    freq.put("णात", 73);
-    freq.put("मेर", 300);
-    freq.put("पुस", 66);
-    freq.put("ग ", 912);
-    freq.put("१६ ", 75);
-    freq.put("ुख्", 276);
-    freq.put("िर ", 71);
-    freq.put("साल", 226);
-    freq.put("दी ", 549);
-    freq.put("णार", 809);
-    freq.put("साव", 80);
-    freq.put("ா", 90);
-    freq.put("हणज", 210);
-    freq.put("डी ", 137);
-    freq.put("ीस ", 70);
-    freq.put("्दर", 73);
-    freq.put("िषय", 111);
-    freq.put("रम्", 122);
-    freq.put("नता", 99);
-    freq.put("रमु", 208);
-    freq.put("्दा", 73);
-    freq.put("हणत", 183);
-    freq.put("ोग ", 64);
-    freq.put("श्च", 243);
-    freq.put("ेला", 618);
-    freq.put("ेलि", 98);
-    freq.put("हिन", 68);
-    freq.put("औ", 108);
-    freq.put("ाशि", 80);
-    freq.put("ढा", 78);
-    freq.put("शहर", 683);
-    freq.put("चीन", 184);
-    freq.put("पुण", 116);
-    freq.put("कथा", 145);
-    freq.put("ल ", 4586);
-    freq.put("वण्", 85);
-    freq.put("नेश", 67);
-    freq.put("वणा", 82);
-    freq.put("नेव", 132);
-    freq.put("बर्", 157);
-    freq.put("जवळ", 124);
-    freq.put("्ञा", 188);
-    freq.put("नेत", 475);
-    freq.put("नवी", 100);
-    freq.put("कन ", 100);
-    freq.put("ाशी", 94);
-    freq.put("नेक", 163);
-    freq.put("ेले", 852);
-    freq.put("ेली", 343);
-    freq.put("ाळ ", 124);
-    freq.put("ेल्", 528);
-    freq.put("रक्", 111);
-    freq.put("खले", 96);
-    freq.put("वाच", 234);
-    freq.put(" बे", 267);
-    freq.put(" ब्", 283);
-    freq.put(" बो", 108);
-    freq.put("शन ", 88);
-    freq.put("ि", 18218);
-    freq.put("पट ", 338);
-    freq.put(" बद", 64);
-    freq.put("ृथ्", 72);
-    freq.put(" बन", 145);
-    freq.put("ेच्", 192);
-    freq.put(" बर", 139);
-    freq.put(" बि", 111);
-    freq.put(" बा", 493);
-    freq.put(" बह", 106);
-    freq.put(" बं", 158);
-    freq.put("पैक", 208);
-    freq.put("रका", 358);
-    freq.put("षेत", 366);
-    freq.put(" बच", 70);
-    freq.put("शां", 163);
-    freq.put("लेल", 1062);
-    freq.put("लेश", 64);
-    freq.put("एखा", 65);
-    freq.put("केत", 187);
-    freq.put(" दु", 235);
-    freq.put(" दृ", 63);
-    freq.put(" दे", 1033);
-    freq.put("केल", 701);
-    freq.put(" दो", 206);
-    freq.put(" द्", 193);
-    freq.put("रलि", 71);
-    freq.put("लेख", 355);
-    freq.put("ळी ", 148);
-    freq.put("कें", 67);
-    freq.put("केच", 132);
-    freq.put("केट", 130);
-    freq.put("श", 6670);
-    freq.put(" दक", 264);
-    freq.put("हार", 516);
-    freq.put("०८ ", 72);
-    freq.put("்", 211);
-    freq.put("दान", 93);
-    freq.put("था ", 217);
-    freq.put("दार", 306);
-    freq.put(" दर", 173);
-    freq.put("रे ", 511);
-    freq.put(" दि", 467);
-    freq.put(" दा", 117);
-    freq.put("हाय", 65);
-    freq.put("हान", 148);
-    freq.put("टन ", 79);
-    freq.put("दाच", 70);
-    freq.put("ुनी", 63);
-    freq.put("्रं", 90);
-    freq.put("्फ ", 77);
-    freq.put("्रक", 379);
-    freq.put("आंत", 108);
-    freq.put("ॅ", 601);
-    freq.put("्रज", 340);
-    freq.put("िन ", 167);
-    freq.put("्मे", 88);
-    freq.put("ड", 3743);
-    freq.put("्रत", 188);
-    freq.put("्रथ", 62);
-    freq.put("्रण", 89);
-    freq.put("ती ", 831);
-    freq.put("्रम", 557);
-    freq.put("ासू", 218);
-    freq.put("्रप", 582);
-    freq.put("्रश", 146);
-    freq.put("्रव", 174);
-    freq.put("डा ", 115);
-    freq.put("्रा", 1606);
-    freq.put("्रि", 802);
-    freq.put("या ", 6887);
-    freq.put("्रस", 352);
-    freq.put("्रह", 141);
-    freq.put("्रे", 549);
-    freq.put("्री", 882);
-    freq.put("्रु", 153);
-    freq.put("्र्", 109);
-    freq.put("यन ", 212);
-    freq.put("्रो", 151);
-    freq.put("ैक", 225);
-    freq.put("ाज ", 109);
-    freq.put("णी ", 301);
-    freq.put("ियम", 83);
-    freq.put("ियन", 201);
-    freq.put("स ", 1697);
-    freq.put("मूह", 88);
-    freq.put("्मा", 304);
-    freq.put("्मि", 128);
-    freq.put("१९ ", 73);
-    freq.put("य ", 2749);
-    freq.put("्मन", 141);
-    freq.put("ैन", 90);
-    freq.put("ैद", 75);
-    freq.put("ुनि", 101);
-    freq.put("सल्", 84);
-    freq.put("ामा", 334);
-    freq.put("जीव", 120);
-    freq.put("डे ", 134);
-    freq.put("निक", 308);
-    freq.put("अशा", 75);
-    freq.put("ामन", 110);
-    freq.put("ामध", 252);
-    freq.put("ठ", 2153);
-    freq.put("ीवर", 113);
-    freq.put("सें", 161);
-    freq.put("ैकी", 208);
-    freq.put("न ", 5349);
-    freq.put("नगर", 128);
-    freq.put("अशी", 64);
-    freq.put("ाम्", 126);
-    freq.put(" रच", 72);
-    freq.put("ल्स", 80);
-    freq.put("ामु", 161);
-    freq.put("ामी", 72);
-    freq.put("तिस", 79);
-    freq.put("तिह", 109);
-    freq.put("ऋ", 69);
-    freq.put("ेर ", 66);
-    freq.put("सेच", 158);
-    freq.put("ंत ", 465);
-    freq.put("सता", 120);
-    freq.put("निव", 276);
-    freq.put("सेन", 81);
-    freq.put("निस", 85);
-    freq.put("तिक", 153);
-    freq.put("न्य", 422);
-    freq.put("निय", 224);
-    freq.put("भार", 1098);
-    freq.put("सेव", 68);
-    freq.put("अति", 63);
-    freq.put("ो", 8505);
-    freq.put("िभा", 112);
-    freq.put("नुस", 148);
-    freq.put("ष्य", 98);
-    freq.put("ष्ण", 139);
-    freq.put("ष्ठ", 291);
-    freq.put("सते", 145);
-    freq.put("ष्ट", 1050);
-    freq.put("निर", 218);
-    freq.put("सत्", 153);
-    freq.put("सतो", 69);
-    freq.put(" वा", 841);
-    freq.put(" वि", 1279);
-    freq.put(" वस", 293);
-    freq.put(" वर", 325);
-    freq.put("वंश", 67);
-    freq.put("कसं", 90);
-    freq.put("वना", 93);
-    freq.put("९९ ", 71);
-    freq.put("ठी", 879);
-    freq.put("ढ", 440);
-    freq.put("ठे", 307);
-    freq.put(" स ", 136);
-    freq.put("ठ्", 106);
-    freq.put("ीचा", 113);
-    freq.put("कसभ", 296);
-    freq.put("ीच्", 262);
-    freq.put("भिन", 289);
-    freq.put("ूं", 81);
-    freq.put("ीचे", 213);
-    freq.put("ट ", 1322);
-    freq.put("ूक", 85);
-    freq.put("ठव", 67);
-    freq.put("ठा", 219);
-    freq.put("ठि", 103);
-    freq.put("ूच", 81);
-    freq.put("ूत", 126);
-    freq.put("्वत", 172);
-    freq.put("ूम", 143);
-    freq.put("ून", 1612);
-    freq.put("ूप", 102);
-    freq.put(" ४ ", 80);
-    freq.put(" व्", 476);
-    freq.put("ूर", 779);
-    freq.put("ूल", 112);
-    freq.put("इ ", 181);
-    freq.put(" वे", 251);
-    freq.put("ूह", 94);
-    freq.put("ररा", 122);
-    freq.put("१७ ", 70);
-    freq.put("भाष", 512);
-    freq.put("ॉर्", 122);
-    freq.put("दिव", 143);
-    freq.put("दिर", 79);
-    freq.put("दिल", 153);
-    freq.put("ाका", 132);
-    freq.put(" धर", 205);
-    freq.put("िजे", 63);
-    freq.put(" धा", 110);
-    freq.put("गी ", 87);
-    freq.put("दिग", 99);
-    freq.put("लय ", 91);
-    freq.put("द्व", 204);
-    freq.put("्", 44808);
-    freq.put("द्र", 575);
-    freq.put("द्य", 488);
-    freq.put("द्द", 122);
-    freq.put("द्ध", 540);
-    freq.put("दर ", 72);
-    freq.put("ठ्य", 96);
-    freq.put("गेल", 207);
-    freq.put("पर ", 71);
-    freq.put(" टा", 72);
-    freq.put("धर्", 201);
-    freq.put("फु", 80);
-    freq.put("मरा", 500);
-    freq.put("फे", 175);
-    freq.put("ळखल", 119);
-    freq.put("ंट ", 79);
-    freq.put("बहु", 71);
-    freq.put("धी ", 120);
-    freq.put("ाया", 101);
-    freq.put("बंध", 84);
-    freq.put("डून", 170);
-    freq.put("ौ", 422);
-    freq.put("जुल", 121);
-    freq.put("ाठी", 839);
-    freq.put("िश ", 190);
-    freq.put("जुन", 111);
-    freq.put("फ्", 393);
-    freq.put("जन ", 67);
-    freq.put("खंड", 160);
-    freq.put("ायक", 105);
-    freq.put("िहि", 83);
-    freq.put("िहा", 133);
-    freq.put(" ट्", 135);
-    freq.put(" टो", 93);
-    freq.put("पक", 409);
-    freq.put(" टे", 67);
-    freq.put("धल", 79);
-    freq.put("ॉट", 71);
-    freq.put("धर", 260);
-    freq.put("धि", 310);
-    freq.put("धा", 812);
-    freq.put("्ल", 826);
-    freq.put("ॉक", 64);
-    freq.put("जार", 66);
-    freq.put("धत", 108);
-    freq.put("जान", 157);
-    freq.put("जात", 654);
-    freq.put("ॉं", 62);
-    freq.put("जाण", 139);
-    freq.put("धन", 165);
-    freq.put("ोका", 76);
-    freq.put("ोकस", 391);
-    freq.put("ेष्", 213);
-    freq.put("ॉर", 159);
-    freq.put("जाग", 68);
-    freq.put("ॉल", 165);
-    freq.put("क्", 2945);
-    freq.put("ॉन", 105);
-    freq.put("कॉ", 161);
-    freq.put("ष", 4156);
-    freq.put("तसे", 151);
-    freq.put("के", 1566);
-    freq.put(" ऑफ", 67);
-    freq.put("कु", 375);
-    freq.put("की", 630);
-    freq.put("कृ", 301);
-    freq.put("जां", 62);
-    freq.put("कि", 847);
-    freq.put("का", 3922);
-    freq.put("हर्", 68);
-    freq.put("कस", 544);
-    freq.put("कव", 162);
-    freq.put("कश", 95);
-    freq.put("कर", 1579);
-    freq.put(" खा", 206);
-    freq.put("कल", 330);
-    freq.put("कम", 167);
-    freq.put("ेथे", 251);
-    freq.put("कन", 175);
-    freq.put(" इ ", 175);
-    freq.put("कप", 84);
-    freq.put("कथ", 172);
-    freq.put("कत", 150);
-    freq.put("कड", 224);
-    freq.put("कण", 68);
-    freq.put("ह्म", 91);
-    freq.put("श्व", 169);
-    freq.put("आश", 86);
-    freq.put("कक", 66);
-    freq.put("ुंब", 177);
-    freq.put("धे", 84);
-    freq.put("धू", 73);
-    freq.put("धु", 110);
-    freq.put("धी", 622);
-    freq.put("ध्", 1350);
-    freq.put("ीने", 102);
-    freq.put("कं", 129);
-    freq.put("्ट ", 345);
-    freq.put("वत ", 73);
-    freq.put("ेशा", 514);
-    freq.put("ेशि", 132);
-    freq.put("६०", 76);
-    freq.put("ालि", 128);
-    freq.put("ाला", 601);
-    freq.put("बद्", 68);
-    freq.put("रिट", 93);
-    freq.put("जिल", 278);
-    freq.put("ालय", 129);
-    freq.put("ट्र", 1051);
-    freq.put("ेड ", 81);
-    freq.put("ाल्", 170);
-    freq.put("ालु", 126);
-    freq.put("ाली", 458);
-    freq.put("ट्य", 132);
-    freq.put("०० ", 116);
-    freq.put("वे ", 211);
-    freq.put("ट्ट", 87);
-    freq.put(" वन", 73);
-    freq.put("मा ", 144);
-    freq.put("सप", 188);
-    freq.put("सन", 187);
-    freq.put("सम", 806);
-    freq.put("ञान", 146);
-    freq.put("सण", 108);
-    freq.put("सद", 113);
-    freq.put("सध", 64);
-    freq.put("सत", 526);
-    freq.put(" नो", 178);
-    freq.put("सह", 169);
-    freq.put("सा", 2701);
-    freq.put("सि", 714);
-    freq.put(" न्", 105);
-    freq.put("सल", 632);
-    freq.put("सर", 1179);
-    freq.put(" ने", 304);
-    freq.put("१७", 139);
-    freq.put("सव", 108);
-    freq.put("ली ", 1229);
-    freq.put("१६", 128);
-    freq.put("आले", 120);
-    freq.put(" शत", 75);
-    freq.put("ا", 67);
-    freq.put("सं", 1892);
-    freq.put(" शब", 119);
-    freq.put("सच", 99);
-    freq.put(" शर", 73);
-    freq.put("ह", 17826);
-    freq.put("ेट ", 229);
-    freq.put(" शि", 338);
-    freq.put("सक", 135);
-    freq.put("९६ ", 77);
-    freq.put("ुसर", 130);
-    freq.put(" शे", 119);
-    freq.put(" शो", 63);
-    freq.put(" श्", 176);
-    freq.put("ोपा", 104);
-    freq.put("सो", 298);
-    freq.put("सै", 65);
-    freq.put(" नि", 731);
-    freq.put(" ना", 905);
-    freq.put("स्", 3801);
-    freq.put("८ ", 406);
-    freq.put("सी", 265);
-    freq.put("सु", 643);
-    freq.put("से", 980);
-    freq.put(" नव", 130);
-    freq.put("चे ", 2125);
-    freq.put(" नद", 157);
-    freq.put("डण", 186);
-    freq.put("िमा", 152);
-    freq.put("डत", 76);
-    freq.put("डन", 65);
-    freq.put("डम", 84);
-    freq.put("डर", 65);
-    freq.put("डळ", 73);
-    freq.put("डल", 139);
-    freq.put("डव", 71);
-    freq.put("थे ", 276);
-    freq.put("हा ", 1574);
-    freq.put("डि", 310);
-    freq.put("डा", 413);
-    freq.put("रसं", 149);
-    freq.put("स", 18689);
-    freq.put("डच", 80);
-    freq.put("मृत", 96);
-    freq.put("चंद", 96);
-    freq.put("लास", 65);
-    freq.put("संस", 355);
-    freq.put("संश", 79);
-    freq.put("लाव", 113);
-    freq.put("संब", 106);
-    freq.put("लिश", 121);
-    freq.put("संप", 91);
-    freq.put("संत", 74);
-    freq.put("डु", 64);
-    freq.put("डी", 307);
-    freq.put("रू ", 76);
-    freq.put("डू", 298);
-    freq.put("संघ", 417);
-    freq.put("डे", 278);
-    freq.put("डॉ", 73);
-    freq.put("डो", 138);
-    freq.put("संख", 143);
-    freq.put("ड्", 156);
-    freq.put("१३ ", 67);
-    freq.put("उद्", 130);
-    freq.put("िमी", 103);
-    freq.put("िमे", 82);
-    freq.put("मधी", 410);
-    freq.put("् ", 692);
-    freq.put("ख्य", 500);
-    freq.put("मले", 80);
-    freq.put("ेती", 391);
-    freq.put("ेते", 395);
-    freq.put("ेत्", 247);
-    freq.put("ेत ", 845);
-    freq.put("ण", 6906);
-    freq.put("्ध ", 328);
-    freq.put("த", 78);
-    freq.put("२० ", 116);
-    freq.put("िसर", 109);
-    freq.put(" अर", 236);
-    freq.put("िस्", 228);
-    freq.put("िह", 250);
-    freq.put("िस", 721);
-    freq.put("िष", 365);
-    freq.put("िश", 552);
-    freq.put("िव", 770);
-    freq.put("िसे", 127);
-    freq.put("िळ", 425);
-    freq.put("िल", 1282);
-    freq.put("िर", 694);
-    freq.put("िय", 1422);
-    freq.put("िम", 634);
-    freq.put("िभ", 130);
-    freq.put("िब", 126);
-    freq.put("िप", 347);
-    freq.put("िन", 1260);
-    freq.put("िध", 193);
-    freq.put("िद", 477);
-    freq.put("ित", 1967);
-    freq.put("िण", 383);
-    freq.put("िड", 79);
-    freq.put("िट", 204);
-    freq.put("समु", 164);
-    freq.put("ेतल", 69);
-    freq.put("िज", 229);
-    freq.put("िच", 184);
-    freq.put("िग", 160);
-    freq.put("िख", 96);
-    freq.put("िक", 2722);
-    freq.put("ेता", 130);
-    freq.put("िं", 1222);
-    freq.put("ाबा", 143);
-    freq.put("लक", 174);
-    freq.put("लग", 102);
-    freq.put("लच", 92);
-    freq.put("लिक", 135);
-    freq.put("लं", 299);
-    freq.put("ाळी", 71);
-    freq.put("नले", 90);
-    freq.put("लव", 72);
-    freq.put("सध्", 62);
-    freq.put(" ओळ", 134);
-    freq.put("ला", 2983);
-    freq.put("लि", 1122);
-    freq.put("रपट", 518);
-    freq.put("मतद", 118);
-    freq.put("लढ", 74);
-    freq.put("लब", 72);
-    freq.put("गळ", 139);
-    freq.put("लय", 143);
-    freq.put("लन", 141);
-    freq.put("बर ", 537);
-    freq.put(" अभ", 454);
-    freq.put("डणु", 118);
-    freq.put(" अन", 300);
-    freq.put(" अप", 73);
-    freq.put("्ञ ", 122);
-    freq.put(" अथ", 143);
-    freq.put("गर", 430);
-    freq.put("भाग", 467);
-    freq.put(" अण", 68);
-    freq.put("ले", 3399);
-    freq.put("ली", 1530);
-    freq.put("लु", 220);
-    freq.put("लू", 62);
-    freq.put("ाटक", 140);
-    freq.put("ल्", 2173);
-    freq.put(" अश", 180);
-    freq.put("लै", 137);
-    freq.put("ने ", 992);
-    freq.put("लो", 767);
-    freq.put("रंथ", 84);
-    freq.put("ही ", 1273);
-    freq.put("ाळा", 189);
-    freq.put("वळ ", 98);
-    freq.put(" अं", 254);
-    freq.put(" अक", 80);
-    freq.put("ऊन ", 62);
-    freq.put(" मं", 217);
-    freq.put("शी ", 306);
-    freq.put("िंव", 279);
-    freq.put("तत्", 79);
-    freq.put("िंद", 422);
-    freq.put("ंचा", 365);
-    freq.put("थ", 2477);
-    freq.put("कशा", 76);
-    freq.put("िंग", 264);
-    freq.put(" वै", 84);
-    freq.put("मग", 69);
-    freq.put("ऑस", 91);
-    freq.put("ूळ", 67);
-    freq.put("ऑफ", 67);
-    freq.put("पटा", 141);
-    freq.put("ऑक", 141);
-    freq.put("ऑग", 114);
-    freq.put("रक ", 67);
-    freq.put("ोण", 200);
-    freq.put("ोड", 211);
-    freq.put("ोठ", 384);
-    freq.put("ोध", 220);
-    freq.put("ोद", 77);
-    freq.put("बंग", 106);
-    freq.put("ोत", 1519);
-    freq.put("ोप", 280);
-    freq.put("ोन", 394);
-    freq.put("ोय", 88);
-    freq.put("ोम", 148);
-    freq.put("ोब", 307);
-    freq.put("ोळ", 97);
-    freq.put("ोल", 499);
-    freq.put("ोर", 443);
-    freq.put("ोष", 97);
-    freq.put("ोश", 68);
-    freq.put("ोव", 325);
-    freq.put("थित", 69);
-    freq.put("ोह", 121);
-    freq.put("ोस", 168);
-    freq.put("गरी", 78);
-    freq.put("ों", 135);
-    freq.put("हो", 1733);
-    freq.put("ह्", 871);
-    freq.put("त", 27784);
-    freq.put("तान", 226);
-    freq.put("हु", 162);
-    freq.put("ही", 1380);
-    freq.put("हॅ", 73);
-    freq.put("बनव", 83);
-    freq.put("हे", 6136);
-    freq.put("ोग", 276);
-    freq.put("ोक", 697);
-    freq.put("ोच", 112);
-    freq.put("ोट", 232);
-    freq.put("ोज", 285);
-    freq.put("यिक", 66);
-    freq.put("हन", 73);
-    freq.put("हय", 143);
-    freq.put("हम", 90);
-    freq.put("हण", 691);
-    freq.put("मि", 1010);
-    freq.put("हत", 249);
-    freq.put("्न ", 140);
-    freq.put("हस", 71);
-    freq.put("हि", 1219);
-    freq.put("हा", 3206);
-    freq.put("हर", 898);
-    freq.put("हव", 64);
-    freq.put("गरा", 120);
-    freq.put(" २ ", 80);
-    freq.put("डिस", 128);
-    freq.put("तेल", 85);
-    freq.put("श्र", 226);
-    freq.put("डिय", 72);
-    freq.put("ुमा", 140);
-    freq.put("लिह", 91);
-    freq.put("गं", 74);
-    freq.put("ए", 2374);
-    freq.put("दीच", 62);
-    freq.put("लिन", 79);
-    freq.put("लिप", 197);
-    freq.put("लिय", 136);
-    freq.put("गट", 66);
-    freq.put("रम ", 63);
-    freq.put("मिळ", 390);
-    freq.put("गत", 154);
-    freq.put("गण", 286);
-    freq.put("गड", 87);
-    freq.put("गम", 74);
-    freq.put("गप", 74);
-    freq.put("णुक", 137);
-    freq.put("गव", 115);
-    freq.put("१२ ", 81);
-    freq.put("गल", 148);
-    freq.put("ै", 961);
-    freq.put("गि", 172);
-    freq.put("गा", 1549);
-    freq.put("लिं", 80);
-    freq.put(" लि", 318);
-    freq.put("गस", 133);
-    freq.put("गे", 325);
-    freq.put(" ला", 353);
-    freq.put("गू", 80);
-    freq.put("गु", 294);
-    freq.put("गी", 328);
-    freq.put("ग्", 1223);
-    freq.put("गो", 373);
-    freq.put("अं", 259);
-    freq.put("मित", 196);
-    freq.put("००", 610);
-    freq.put("०१", 76);
-    freq.put("अक", 80);
-    freq.put("०४", 65);
-    freq.put("०६", 62);
-    freq.put("०७", 100);
-    freq.put("०८", 75);
-    freq.put("०९", 89);
-    freq.put("अभ", 461);
-    freq.put("अम", 428);
-    freq.put("अन", 311);
-    freq.put("अप", 77);
-    freq.put("अथ", 144);
-    freq.put("अत", 143);
-    freq.put("अध", 195);
-    freq.put("अण", 68);
-    freq.put("हया", 139);
-    freq.put("अस", 1528);
-    freq.put("अव", 109);
-    freq.put("अश", 181);
-    freq.put("अर", 282);
-    freq.put("अल", 143);
-  }
-  
 }
-
@@ -1,5272 +1,15 @@
 package com.rmtheis.langdetect.profile;
 
-import java.util.HashMap;
-
 import com.cybozu.labs.langdetect.util.LangProfile;
-import com.cybozu.labs.langdetect.util.NGram;
 
 public class OC {
   private static final String name = "oc";
-  private static final HashMap<String, Integer> freq = new HashMap<String, Integer>();
-  private static final int[] n_words = new int[NGram.N_GRAM];
 
   public OC() {
-    init();  
   }
 
   public final LangProfile getLangProfile() {
-    return new LangProfile(name, freq, n_words);
+    return Profiles.load(name);
   }
-  
-  private void init() {
-    n_words[0] = 3078170;
-    n_words[1] = 3722665;
-    n_words[2] = 3001577;
-
-    freq.put("rà ", 83);
-    freq.put("Lég", 2117);
-    freq.put("gai", 171);
-    freq.put("alo", 1423);
-    freq.put("rev", 292);
-    freq.put("Léo", 31);
-    freq.put("sco", 643);
-    freq.put("mej", 112);
-    freq.put("òge", 132);
-    freq.put("alm", 197);
-    freq.put("ret", 760);
-    freq.put("mbl", 259);
-    freq.put("ufi", 38);
-    freq.put("sci", 271);
-    freq.put("reu", 187);
-    freq.put("güi", 153);
-    freq.put("ora", 1074);
-    freq.put("rej", 80);
-    freq.put("auc", 459);
-    freq.put("aub", 62);
-    freq.put("tít", 68);
-    freq.put("alh", 792);
-    freq.put("aug", 113);
-    freq.put("auf", 71);
-    freq.put("IX ", 117);
-    freq.put("teï", 84);
-    freq.put("aum", 441);
-    freq.put("blo", 45);
-    freq.put("up ", 59);
-    freq.put("aun", 144);
-    freq.put("auq", 47);
-    freq.put("éri", 87);
-    freq.put("aus", 1235);
-    freq.put("ô", 111);
-    freq.put("aut", 9073);
-    freq.put("éro", 40);
-    freq.put("tai", 367);
-    freq.put("éra", 57);
-    freq.put("ére", 32);
-    freq.put("tín", 82);
-    freq.put("cèu", 47);
-    freq.put("ràc", 41);
-    freq.put(" Gu", 978);
-    freq.put(" Gr", 800);
-    freq.put("ل", 97);
-    freq.put("sca", 587);
-    freq.put("ràl", 31);
-    freq.put("ble", 564);
-    freq.put("tma", 45);
-    freq.put(" Ge", 1150);
-    freq.put("unt", 230);
-    freq.put(" Ga", 959);
-    freq.put("י", 88);
-    freq.put(" Go", 298);
-    freq.put(" Gl", 135);
-    freq.put("ala", 6292);
-    freq.put("èç", 32);
-    freq.put("gir", 53);
-    freq.put(" Gi", 550);
-    freq.put("glè", 43);
-    freq.put("au ", 4821);
-    freq.put("Gu", 980);
-    freq.put("Gr", 802);
-    freq.put("upi", 41);
-    freq.put("ë", 63);
-    freq.put("aiz", 36);
-    freq.put("éli", 43);
-    freq.put("dré", 66);
-    freq.put("Ge", 1152);
-    freq.put("àge", 224);
-    freq.put("Ga", 962);
-    freq.put("ait", 62);
-    freq.put("Go", 301);
-    freq.put("upt", 34);
-    freq.put("Gl", 136);
-    freq.put("upr", 45);
-    freq.put("ups", 298);
-    freq.put("Gi", 557);
-    freq.put("oga", 198);
-    freq.put("ā", 103);
-    freq.put("làn", 41);
-    freq.put("sbo", 56);
-    freq.put(" ka", 69);
-    freq.put("me ", 2332);
-    freq.put("lvi", 36);
-    freq.put("òni", 296);
-    freq.put(" km", 120);
-    freq.put("alv", 128);
-    freq.put("ais", 2325);
-    freq.put("mna", 99);
-    freq.put("è ", 331);
-    freq.put("air", 1225);
-    freq.put("fa ", 170);
-    freq.put("nen", 282);
-    freq.put("nel", 89);
-    freq.put("nem", 86);
-    freq.put("àd", 33);
-    freq.put("nei", 221);
-    freq.put(" y ", 84);
-    freq.put("Pue", 110);
-    freq.put("ned", 115);
-    freq.put("nee", 40);
-    freq.put("Cy", 34);
-    freq.put("د", 40);
-    freq.put("nea", 53);
-    freq.put("orv", 81);
-    freq.put("gna", 361);
-    freq.put("vro", 33);
-    freq.put("Vat", 46);
-    freq.put(" sh", 88);
-    freq.put("ecn", 88);
-    freq.put("nev", 90);
-    freq.put("net", 400);
-    freq.put("Vau", 286);
-    freq.put("ner", 1371);
-    freq.put("nes", 1072);
-    freq.put("Pur", 39);
-    freq.put("À", 62);
-    freq.put("у", 43);
-    freq.put("ς", 124);
-    freq.put("íci", 302);
-    freq.put("èr", 6813);
-    freq.put("ès", 2053);
-    freq.put("èp", 209);
-    freq.put("gne", 382);
-    freq.put("èv", 279);
-    freq.put("èt", 3867);
-    freq.put("èu", 734);
-    freq.put("èj", 44);
-    freq.put("met", 647);
-    freq.put("gil", 35);
-    freq.put("èi", 2693);
-    freq.put("èn", 418);
-    freq.put("orp", 72);
-    freq.put("èl", 1664);
-    freq.put("èm", 656);
-    freq.put("èb", 81);
-    freq.put("èc", 1127);
-    freq.put("èa", 507);
-    freq.put("èg", 760);
-    freq.put("èd", 78);
-    freq.put("aud", 305);
-    freq.put("gli", 94);
-    freq.put("glo", 87);
-    freq.put("Ze", 46);
-    freq.put("k", 1934);
-    freq.put("Za", 338);
-    freq.put("ne ", 2883);
-    freq.put("sla", 174);
-    freq.put("dri", 247);
-    freq.put("dís", 110);
-    freq.put("dro", 194);
-    freq.put(" N ", 33);
-    freq.put("dra", 289);
-    freq.put("rés", 106);
-    freq.put("dre", 853);
-    freq.put("glu", 61);
-    freq.put("Gé", 31);
-    freq.put("Jer", 39);
-    freq.put("vod", 53);
-    freq.put("sso", 782);
-    freq.put("Nac", 78);
-    freq.put("bru", 49);
-    freq.put("lmo", 92);
-    freq.put("Lé", 2167);
-    freq.put("bro", 97);
-    freq.put("orf", 32);
-    freq.put("Jea", 210);
-    freq.put("bri", 847);
-    freq.put("lma", 170);
-    freq.put("bre", 1544);
-    freq.put("des", 1497);
-    freq.put("âti", 47);
-    freq.put("bra", 618);
-    freq.put("m ", 2320);
-    freq.put("rèp", 125);
-    freq.put("aup", 35);
-    freq.put("enè", 258);
-    freq.put("ené", 57);
-    freq.put("sís", 68);
-    freq.put("xte", 130);
-    freq.put("lme", 231);
-    freq.put("üat", 31);
-    freq.put("enò", 47);
-    freq.put("aur", 408);
-    freq.put("er ", 8560);
-    freq.put("ònt", 73);
-    freq.put("ni ", 419);
-    freq.put("Á", 283);
-    freq.put("une", 166);
-    freq.put("riu", 479);
-    freq.put("rla", 434);
-    freq.put("Sta", 47);
-    freq.put("ucc", 318);
-    freq.put("ltr", 56);
-    freq.put("pè ", 40);
-    freq.put("Nan", 42);
-    freq.put("stò", 187);
-    freq.put("auv", 145);
-    freq.put("voi", 79);
-    freq.put("laü", 60);
-    freq.put("cau", 314);
-    freq.put("rcy", 34);
-    freq.put("Str", 56);
-    freq.put("V", 5681);
-    freq.put("sèt", 189);
-    freq.put("ovè", 239);
-    freq.put("riq", 46);
-    freq.put("rry", 33);
-    freq.put("oví", 6200);
-    freq.put("me", 22090);
-    freq.put("Nar", 45);
-    freq.put("erv", 501);
-    freq.put("ma", 18887);
-    freq.put("erq", 48);
-    freq.put("err", 1247);
-    freq.put("mb", 4022);
-    freq.put("mm", 1001);
-    freq.put("mo", 3529);
-    freq.put("mn", 175);
-    freq.put("mi", 5756);
-    freq.put("ery", 51);
-    freq.put("erz", 36);
-    freq.put("mu", 24810);
-    freq.put("mt", 1503);
-    freq.put("erf", 205);
-    freq.put("erg", 344);
-    freq.put("tna", 31);
-    freq.put("mp", 5111);
-    freq.put("ms", 375);
-    freq.put("erc", 422);
-    freq.put("erl", 130);
-    freq.put("im", 4662);
-    freq.put("ern", 707);
-    freq.put("ero", 520);
-    freq.put("my", 82);
-    freq.put("eri", 2095);
-    freq.put("Aba", 68);
-    freq.put("Abb", 39);
-    freq.put("Le", 3709);
-    freq.put("nèa", 121);
-    freq.put("io", 19928);
-    freq.put("Lib", 88);
-    freq.put("La", 4482);
-    freq.put("nèm", 97);
-    freq.put("Lo", 4619);
-    freq.put("Ll", 127);
-    freq.put("in", 32457);
-    freq.put("la ", 49698);
-    freq.put("uat", 487);
-    freq.put("Lh", 212);
-    freq.put("Li", 619);
-    freq.put("Lit", 46);
-    freq.put("nèt", 316);
-    freq.put("ov ", 31);
-    freq.put("Lu", 404);
-    freq.put("ual", 417);
-    freq.put("nès", 75);
-    freq.put("Lis", 61);
-    freq.put("uac", 52);
-    freq.put("èm ", 88);
-    freq.put("rid", 357);
-    freq.put("Tèr", 101);
-    freq.put("ena", 3626);
-    freq.put("ki ", 65);
-    freq.put("end", 824);
-    freq.put("ene", 1761);
-    freq.put("enf", 45);
-    freq.put("eng", 1287);
-    freq.put("hon", 388);
-    freq.put("eni", 801);
-    freq.put("ī", 36);
-    freq.put("hom", 59);
-    freq.put("enl", 44);
-    freq.put("ά", 38);
-    freq.put("Al ", 47);
-    freq.put("hoi", 34);
-    freq.put("Kas", 31);
-    freq.put("Kar", 51);
-    freq.put("enr", 267);
-    freq.put("hou", 53);
-    freq.put("hor", 263);
-    freq.put("hos", 41);
-    freq.put("env", 101);
-    freq.put("mpo", 800);
-    freq.put("eña", 84);
-    freq.put("enz", 95);
-    freq.put("uco", 139);
-    freq.put("Ávi", 258);
-    freq.put("A", 17058);
-    freq.put("lam", 1302);
-    freq.put("lan", 2234);
-    freq.put("م", 73);
-    freq.put("lai", 1924);
-    freq.put("L ", 1011);
-    freq.put("ntp", 92);
-    freq.put("lad", 443);
-    freq.put("ïst", 74);
-    freq.put("laf", 47);
-    freq.put("lag", 152);
-    freq.put("lab", 135);
-    freq.put("sc ", 120);
-    freq.put("òp ", 115);
-    freq.put("ova", 152);
-    freq.put("II ", 443);
-    freq.put("ove", 1153);
-    freq.put("lat", 887);
-    freq.put("lau", 295);
-    freq.put("lav", 242);
-    freq.put("pt ", 39);
-    freq.put("lap", 33);
-    freq.put("èma", 390);
-    freq.put("ος ", 62);
-    freq.put("las", 4321);
-    freq.put("en ", 9729);
-    freq.put("All", 65);
-    freq.put("Alm", 125);
-    freq.put("má", 38);
-    freq.put("mà", 254);
-    freq.put("ho ", 620);
-    freq.put("Ali", 71);
-    freq.put("mí", 39);
-    freq.put("sèl", 726);
-    freq.put("ū", 37);
-    freq.put("Ale", 171);
-    freq.put("mé", 137);
-    freq.put("mè", 681);
-    freq.put("Ala", 217);
-    freq.put("lou", 62);
-    freq.put("òbl", 138);
-    freq.put("erà", 71);
-    freq.put("mó", 122);
-    freq.put("mò", 532);
-    freq.put("rèi", 224);
-    freq.put("erí", 73);
-    freq.put("Alt", 45);
-    freq.put("erè", 38);
-    freq.put("eré", 129);
-    freq.put("Alp", 51);
-    freq.put("mps", 262);
-    freq.put(" V ", 49);
-    freq.put(" Il", 1481);
-    freq.put("ngu", 425);
-    freq.put("lt ", 211);
-    freq.put("fam", 651);
-    freq.put("zen", 57);
-    freq.put("onh", 2264);
-    freq.put(" Hu", 251);
-    freq.put("zer", 48);
-    freq.put(" Hi", 187);
-    freq.put("anç", 1789);
-    freq.put(" Ho", 250);
-    freq.put("rtr", 86);
-    freq.put("ucl", 294);
-    freq.put("onn", 583);
-    freq.put(" Ha", 474);
-    freq.put(" He", 304);
-    freq.put("ono", 337);
-    freq.put("ima", 2010);
-    freq.put("fis", 168);
-    freq.put(" Ba", 2495);
-    freq.put("imb", 140);
-    freq.put("éco", 57);
-    freq.put("cli", 94);
-    freq.put("rò", 1251);
-    freq.put("ró", 118);
-    freq.put("imi", 767);
-    freq.put("cle", 261);
-    freq.put("imm", 62);
-    freq.put("cla", 652);
-    freq.put("rú", 34);
-    freq.put(" rè", 268);
-    freq.put("ssa", 1768);
-    freq.put("imp", 610);
-    freq.put("ims", 46);
-    freq.put("rç", 774);
-    freq.put("rà", 289);
-    freq.put("rá", 51);
-    freq.put("onc", 789);
-    freq.put("çau", 51);
-    freq.put("rí", 571);
-    freq.put("rè", 1761);
-    freq.put("ré", 665);
-    freq.put("rê", 44);
-    freq.put(" zò", 34);
-    freq.put("ρ", 78);
-    freq.put("ze ", 117);
-    freq.put("ona", 2609);
-    freq.put(" Ve", 790);
-    freq.put("glé", 199);
-    freq.put(" Vi", 1778);
-    freq.put("rs ", 2250);
-    freq.put(" fò", 384);
-    freq.put("vi ", 67);
-    freq.put("fig", 59);
-    freq.put(" Vo", 107);
-    freq.put("prè", 378);
-    freq.put("nté", 36);
-    freq.put("ntè", 101);
-    freq.put("ond", 1510);
-    freq.put("teu", 57);
-    freq.put("ntà", 152);
-    freq.put("hè ", 34);
-    freq.put("one", 919);
-    freq.put("Zé", 113);
-    freq.put("im ", 218);
-    freq.put("lac", 863);
-    freq.put("loy", 31);
-    freq.put("l", 154019);
-    freq.put("atè", 164);
-    freq.put("rèm", 163);
-    freq.put("uci", 353);
-    freq.put("ría", 119);
-    freq.put("atò", 88);
-    freq.put("dòn", 50);
-    freq.put("dòc", 111);
-    freq.put("upe", 314);
-    freq.put(" Hé", 45);
-    freq.put("Rom", 238);
-    freq.put("ons", 2249);
-    freq.put("mbo", 148);
-    freq.put("nt ", 20164);
-    freq.put("upa", 80);
-    freq.put("zat", 259);
-    freq.put("nio", 251);
-    freq.put("rt", 19114);
-    freq.put("ru", 1496);
-    freq.put("rv", 750);
-    freq.put("gon", 2448);
-    freq.put("rp", 284);
-    freq.put("rq", 391);
-    freq.put("rr", 4173);
-    freq.put("rs", 3467);
-    freq.put("imè", 37);
-    freq.put("rx", 35);
-    freq.put("ry", 443);
-    freq.put("rz", 116);
-    freq.put("rd", 6276);
-    freq.put("re", 31988);
-    freq.put("rf", 287);
-    freq.put("rg", 3647);
-    freq.put("nic", 6639);
-    freq.put("ra", 39140);
-    freq.put("rb", 847);
-    freq.put("rc", 2136);
-    freq.put("rl", 922);
-    freq.put("rm", 3936);
-    freq.put("rn", 4501);
-    freq.put("ro", 13664);
-    freq.put("rh", 47);
-    freq.put("ri", 15696);
-    freq.put("rj", 48);
-    freq.put("rk", 139);
-    freq.put("uèi", 371);
-    freq.put("miè", 363);
-    freq.put(" Vé", 31);
-    freq.put(" Vè", 35);
-    freq.put("nts", 1155);
-    freq.put("ntr", 2605);
-    freq.put("ntu", 208);
-    freq.put("ied", 58);
-    freq.put("nti", 1389);
-    freq.put("nth", 112);
-    freq.put("Egi", 95);
-    freq.put(" Vò", 137);
-    freq.put("ntm", 31);
-    freq.put("W", 427);
-    freq.put("nta", 4359);
-    freq.put("ntc", 40);
-    freq.put("ntb", 41);
-    freq.put("nte", 1891);
-    freq.put("ntf", 47);
-    freq.put("Vic", 110);
-    freq.put("isy", 50);
-    freq.put("Via", 35);
-    freq.put("Vig", 33);
-    freq.put("Vie", 128);
-    freq.put("iss", 1099);
-    freq.put("ato", 585);
-    freq.put("atl", 36);
-    freq.put("atm", 51);
-    freq.put("Vin", 235);
-    freq.put("go ", 266);
-    freq.put("Vil", 916);
-    freq.put("ati", 1351);
-    freq.put("Vir", 42);
-    freq.put("att", 100);
-    freq.put("atu", 521);
-    freq.put("r ", 18912);
-    freq.put("ats", 1313);
-    freq.put("Vit", 62);
-    freq.put("isl", 90);
-    freq.put("isc", 230);
-    freq.put("isb", 35);
-    freq.put("isa", 358);
-    freq.put("atz", 72);
-    freq.put(" Sp", 49);
-    freq.put("ise", 592);
-    freq.put("Eur", 549);
-    freq.put("raç", 46);
-    freq.put("unh", 240);
-    freq.put("nha", 4659);
-    freq.put("Dun", 37);
-    freq.put("gy ", 47);
-    freq.put("raï", 83);
-    freq.put("nho", 105);
-    freq.put("Duc", 53);
-    freq.put("on ", 24594);
-    freq.put("Due", 31);
-    freq.put("raè", 37);
-    freq.put("nir", 69);
-    freq.put("osa", 795);
-    freq.put("nis", 2372);
-    freq.put("Dur", 48);
-    freq.put("fin", 605);
-    freq.put("xic", 121);
-    freq.put("rèc", 350);
-    freq.put(" gi", 45);
-    freq.put("tor", 1930);
-    freq.put("Cen", 1040);
-    freq.put("top", 84);
-    freq.put("Cel", 47);
-    freq.put("equ", 246);
-    freq.put("xim", 39);
-    freq.put("xin", 31);
-    freq.put("tou", 37);
-    freq.put("xtr", 448);
-    freq.put(" Si", 534);
-    freq.put("nec", 85);
-    freq.put("Cer", 155);
-    freq.put("tol", 370);
-    freq.put("Se ", 260);
-    freq.put("tob", 201);
-    freq.put("toc", 93);
-    freq.put("iòd", 151);
-    freq.put("tog", 71);
-    freq.put("tod", 34);
-    freq.put(" le", 2673);
-    freq.put("B", 8743);
-    freq.put("uip", 89);
-    freq.put("nh ", 330);
-    freq.put(" la", 41345);
-    freq.put("còs", 87);
-    freq.put("et", 5434);
-    freq.put("còp", 193);
-    freq.put(" li", 1068);
-    freq.put("oís", 90);
-    freq.put("laj", 301);
-    freq.put(" lu", 251);
-    freq.put("Fue", 116);
-    freq.put("dep", 12401);
-    freq.put(" fu", 180);
-    freq.put("fil", 404);
-    freq.put("Opa", 57);
-    freq.put("Sev", 121);
-    freq.put("Seu", 48);
-    freq.put("Set", 31);
-    freq.put("lla", 2870);
-    freq.put("Ser", 153);
-    freq.put("Sep", 31);
-    freq.put("í", 9356);
-    freq.put("to ", 379);
-    freq.put("Ità", 103);
-    freq.put("Seg", 500);
-    freq.put("nza", 98);
-    freq.put("deg", 57);
-    freq.put("Sec", 49);
-    freq.put("ias", 824);
-    freq.put("nze", 51);
-    freq.put("Sen", 186);
-    freq.put("Sem", 35);
-    freq.put("Sel", 47);
-    freq.put("nzo", 53);
-    freq.put("ept", 125);
-    freq.put("Sei", 123);
-    freq.put("raf", 328);
-    freq.put("rag", 843);
-    freq.put("rad", 2153);
-    freq.put("epu", 290);
-    freq.put("rab", 385);
-    freq.put("rac", 999);
-    freq.put("vòr", 35);
-    freq.put("三", 50);
-    freq.put(" Èr", 81);
-    freq.put("ral", 1676);
-    freq.put("ram", 552);
-    freq.put("raj", 49);
-    freq.put("rak", 34);
-    freq.put("rah", 36);
-    freq.put("rai", 369);
-    freq.put("rav", 236);
-    freq.put("rat", 1173);
-    freq.put("rau", 469);
-    freq.put("iu ", 785);
-    freq.put("ras", 1281);
-    freq.put("rap", 150);
-    freq.put("dur", 702);
-    freq.put("ipi", 5878);
-    freq.put("î", 31);
-    freq.put("bs ", 590);
-    freq.put("lbo", 39);
-    freq.put("ray", 139);
-    freq.put("Ass", 92);
-    freq.put("tho", 101);
-    freq.put("eud", 60);
-    freq.put("der", 996);
-    freq.put("Ast", 75);
-    freq.put("tet", 109);
-    freq.put("do ", 595);
-    freq.put("fòn", 66);
-    freq.put("òcs", 113);
-    freq.put("fòr", 587);
-    freq.put("sèu", 74);
-    freq.put("òch", 98);
-    freq.put("òci", 50);
-    freq.put("rse", 233);
-    freq.put(" fe", 481);
-    freq.put("Asi", 92);
-    freq.put("scò", 151);
-    freq.put("òca", 235);
-    freq.put("π", 53);
-    freq.put("eug", 36);
-    freq.put("Qu", 724);
-    freq.put("thi", 78);
-    freq.put("ra ", 6741);
-    freq.put("bst", 88);
-    freq.put("uem", 33);
-    freq.put(" lè", 439);
-    freq.put(" fi", 1070);
-    freq.put("sce", 90);
-    freq.put("ipo", 60);
-    freq.put(" lò", 57);
-    freq.put("Qi", 35);
-    freq.put("bse", 51);
-    freq.put("oil", 35);
-    freq.put("ogr", 272);
-    freq.put("the", 1213);
-    freq.put("Pui", 36);
-    freq.put("euf", 55);
-    freq.put(" Tè", 121);
-    freq.put("don", 591);
-    freq.put("dol", 346);
-    freq.put("dom", 180);
-    freq.put("dob", 100);
-    freq.put("doc", 139);
-    freq.put("doa", 213);
-    freq.put("m", 91645);
-    freq.put("nef", 38);
-    freq.put("aén", 42);
-    freq.put(" fo", 2865);
-    freq.put("lpi", 36);
-    freq.put("sun", 62);
-    freq.put("dor", 470);
-    freq.put("dos", 220);
-    freq.put("dop", 36);
-    freq.put("òc ", 433);
-    freq.put("dot", 32);
-    freq.put("dou", 44);
-    freq.put("éz", 58);
-    freq.put("hur", 43);
-    freq.put("ueo", 40);
-    freq.put(" Wa", 128);
-    freq.put("ép", 39);
-    freq.put("és", 3032);
-    freq.put("ér", 307);
-    freq.put("ét", 114);
-    freq.put("d ", 17690);
-    freq.put("év", 131);
-    freq.put("rst", 35);
-    freq.put("ém", 128);
-    freq.put("él", 103);
-    freq.put("éo", 66);
-    freq.put("én", 1369);
-    freq.put("éa", 40);
-    freq.put("éc", 132);
-    freq.put("éb", 35);
-    freq.put("ée", 138);
-    freq.put("éd", 64);
-    freq.put("ég", 2268);
-    freq.put("òt", 612);
-    freq.put("òu", 308);
-    freq.put("Bil", 40);
-    freq.put("òp", 479);
-    freq.put("em ", 103);
-    freq.put("òr", 3898);
-    freq.put("òs", 1461);
-    freq.put("oca", 422);
-    freq.put("Big", 48);
-    freq.put("occ", 874);
-    freq.put("Bie", 46);
-    freq.put("oce", 131);
-    freq.put("а ", 38);
-    freq.put("èpt", 36);
-    freq.put("òd", 428);
-    freq.put("òf", 101);
-    freq.put("òg", 308);
-    freq.put("hri", 72);
-    freq.put("Ua ", 50);
-    freq.put("òb", 627);
-    freq.put("òc", 945);
-    freq.put("òl", 6077);
-    freq.put("òm", 6068);
-    freq.put("òn", 1759);
-    freq.put("ocr", 67);
-    freq.put("hra", 31);
-    freq.put("Bis", 51);
-    freq.put("slo", 39);
-    freq.put("abu", 66);
-    freq.put("р", 105);
-    freq.put("uei", 205);
-    freq.put("dm", 1494);
-    freq.put("dj", 37);
-    freq.put("di", 22328);
-    freq.put("Lui", 34);
-    freq.put("dd", 92);
-    freq.put("de", 99546);
-    freq.put("da", 23684);
-    freq.put("omò", 35);
-    freq.put("dy", 49);
-    freq.put("dv", 35);
-    freq.put("dw", 42);
-    freq.put("tei", 231);
-    freq.put("du", 1890);
-    freq.put("dr", 1717);
-    freq.put("ds", 445);
-    freq.put("èna", 49);
-    freq.put("bat", 363);
-    freq.put("bau", 59);
-    freq.put("ène", 48);
-    freq.put("bas", 550);
-    freq.put("emb", 1034);
-    freq.put("èni", 39);
-    freq.put("emo", 615);
-    freq.put("emn", 92);
-    freq.put("emi", 401);
-    freq.put("ilè", 35);
-    freq.put("Rio", 52);
-    freq.put("èns", 44);
-    freq.put("pòc", 92);
-    freq.put("ò ", 251);
-    freq.put("bac", 197);
-    freq.put("ems", 124);
-    freq.put("ban", 590);
-    freq.put("bal", 324);
-    freq.put("èp ", 155);
-    freq.put("Rib", 65);
-    freq.put("Ric", 71);
-    freq.put("dó ", 44);
-    freq.put("bai", 125);
-    freq.put("ua ", 1132);
-    freq.put("om ", 946);
-    freq.put("w ", 104);
-    freq.put("Pet", 104);
-    freq.put("urv", 34);
-    freq.put("nut", 37);
-    freq.put("èx", 140);
-    freq.put("Per", 332);
-    freq.put("ia ", 15470);
-    freq.put("Pel", 52);
-    freq.put("Pen", 93);
-    freq.put("num", 136);
-    freq.put("Pei", 925);
-    freq.put("Ped", 82);
-    freq.put("oma", 1651);
-    freq.put(" en", 10138);
-    freq.put("nuc", 132);
-    freq.put("ocè", 67);
-    freq.put("yer", 34);
-    freq.put("mec", 61);
-    freq.put("il ", 786);
-    freq.put("mur", 76);
-    freq.put("irt", 35);
-    freq.put("iru", 47);
-    freq.put("un ", 12338);
-    freq.put("iri", 307);
-    freq.put("irl", 52);
-    freq.put("irm", 53);
-    freq.put("iro", 545);
-    freq.put("òmi", 41);
-    freq.put("Nòr", 901);
-    freq.put("íse", 50);
-    freq.put("irc", 97);
-    freq.put("Nòv", 108);
-    freq.put("irg", 43);
-    freq.put("omb", 502);
-    freq.put("we", 99);
-    freq.put("dí", 149);
-    freq.put("urò", 180);
-    freq.put("wa", 187);
-    freq.put("dé", 318);
-    freq.put("wo", 56);
-    freq.put("mei", 438);
-    freq.put(" Ir", 89);
-    freq.put(" Is", 347);
-    freq.put(" It", 143);
-    freq.put("Sam", 73);
-    freq.put("wi", 96);
-    freq.put("ww", 66);
-    freq.put("Ext", 386);
-    freq.put("omp", 1141);
-    freq.put("dú", 58);
-    freq.put(" Im", 51);
-    freq.put(" In", 615);
-    freq.put("omt", 1475);
-    freq.put("ued", 47);
-    freq.put(" Ib", 60);
-    freq.put("là ", 40);
-    freq.put("dò", 258);
-    freq.put("dó", 81);
-    freq.put("Lun", 91);
-    freq.put("elo", 505);
-    freq.put("ema", 1058);
-    freq.put("cos", 225);
-    freq.put("ile", 194);
-    freq.put("ilb", 36);
-    freq.put("ell", 1329);
-    freq.put("tàr", 59);
-    freq.put(" Rò", 233);
-    freq.put("ilo", 311);
-    freq.put("ill", 3563);
-    freq.put("ilm", 74);
-    freq.put("emè", 31);
-    freq.put("ilh", 1057);
-    freq.put("ili", 901);
-    freq.put("ilv", 36);
-    freq.put("una", 33835);
-    freq.put("coc", 40);
-    freq.put("cob", 124);
-    freq.put("údi", 38);
-    freq.put("ils", 86);
-    freq.put("emò", 67);
-    freq.put("ir ", 1104);
-    freq.put("uni", 6294);
-    freq.put("èu ", 468);
-    freq.put("com", 15167);
-    freq.put("col", 540);
-    freq.put("con", 2814);
-    freq.put(" me", 1985);
-    freq.put("ela", 858);
-    freq.put(" ma", 3292);
-    freq.put("ón ", 284);
-    freq.put("iñ", 44);
-    freq.put("had", 352);
-    freq.put("ió", 158);
-    freq.put("iò", 240);
-    freq.put(" mi", 874);
-    freq.put("elg", 72);
-    freq.put("ié", 234);
-    freq.put("iè", 2452);
-    freq.put("Pas", 1611);
-    freq.put("iá", 537);
-    freq.put("ià", 79);
-    freq.put("ele", 689);
-    freq.put("iç", 77);
-    freq.put("san", 476);
-    freq.put("fra", 13762);
-    freq.put("anb", 706);
-    freq.put("fre", 144);
-    freq.put("rga", 620);
-    freq.put("lti", 149);
-    freq.put("fri", 169);
-    freq.put("C ", 419);
-    freq.put("fro", 95);
-    freq.put("obe", 247);
-    freq.put("ί", 39);
-    freq.put("Hé", 46);
-    freq.put("fru", 40);
-    freq.put("sab", 98);
-    freq.put("uve", 206);
-    freq.put(" Gé", 31);
-    freq.put("ai ", 1340);
-    freq.put("sis", 467);
-    freq.put("rge", 605);
-    freq.put("niè", 301);
-    freq.put(" m ", 133);
-    freq.put("tev", 115);
-    freq.put("Cru", 107);
-    freq.put("sag", 70);
-    freq.put("uar", 307);
-    freq.put("rêt", 35);
-    freq.put("uén", 96);
-    freq.put("Cra", 57);
-    freq.put("Cre", 102);
-    freq.put("Cri", 94);
-    freq.put("Cro", 148);
-    freq.put("pru", 41);
-    freq.put("Ci", 363);
-    freq.put("Ch", 5086);
-    freq.put("Co", 8744);
-    freq.put("Cl", 314);
-    freq.put("Vè", 35);
-    freq.put("Vé", 31);
-    freq.put("Ca", 8131);
-    freq.put("gny", 401);
-    freq.put("epò", 91);
-    freq.put("say", 47);
-    freq.put("Ce", 1343);
-    freq.put("n", 259923);
-    freq.put("aim", 56);
-    freq.put("ail", 211);
-    freq.put("Vò", 137);
-    freq.put("ain", 2881);
-    freq.put("elt", 49);
-    freq.put("gla", 255);
-    freq.put("Cr", 553);
-    freq.put("aig", 204);
-    freq.put("gni", 163);
-    freq.put("aia", 105);
-    freq.put("gno", 93);
-    freq.put("Cu", 452);
-    freq.put("ix", 270);
-    freq.put("iz", 1191);
-    freq.put(" mà", 223);
-    freq.put("rtu", 195);
-    freq.put("bio", 180);
-    freq.put("iq", 277);
-    freq.put("ip", 7279);
-    freq.put("is", 13130);
-    freq.put("ir", 5255);
-    freq.put("iu", 1713);
-    freq.put("it", 23179);
-    freq.put("aèl", 39);
-    freq.put("iv", 2627);
-    freq.put("ii", 74);
-    freq.put("Nas", 78);
-    freq.put("ik", 182);
-    freq.put("ij", 118);
-    freq.put("Nav", 178);
-    freq.put("il", 8652);
-    freq.put("Nat", 58);
-    freq.put("Nau", 2156);
-    freq.put("ia", 22148);
-    freq.put("ic", 17778);
-    freq.put("ib", 1212);
-    freq.put("ie", 4120);
-    freq.put("id", 3853);
-    freq.put("ig", 3445);
-    freq.put("if", 1274);
-    freq.put("V ", 197);
-    freq.put("ínc", 6202);
-    freq.put("tra", 3537);
-    freq.put("opr", 98);
-    freq.put("hòu", 73);
-    freq.put("lqu", 75);
-    freq.put("sèg", 475);
-    freq.put("sav", 34);
-    freq.put("req", 36);
-    freq.put(" Ép", 61);
-    freq.put("túd", 35);
-    freq.put("sau", 124);
-    freq.put("big", 64);
-    freq.put("th ", 673);
-    freq.put("с", 69);
-    freq.put("tsu", 48);
-    freq.put("nin", 193);
-    freq.put("τ", 74);
-    freq.put("nil", 203);
-    freq.put("nim", 311);
-    freq.put("Oc", 572);
-    freq.put("nia", 1117);
-    freq.put("nif", 177);
-    freq.put("nig", 38);
-    freq.put("nid", 168);
-    freq.put("Ob", 52);
-    freq.put("niz", 211);
-    freq.put("tz ", 433);
-    freq.put("kin", 65);
-    freq.put("Y", 616);
-    freq.put("i ", 15867);
-    freq.put("nip", 46);
-    freq.put("Air", 196);
-    freq.put("niv", 271);
-    freq.put("nit", 574);
-    freq.put("mil", 859);
-    freq.put("Va", 2563);
-    freq.put("Cé", 41);
-    freq.put("ïsm", 35);
-    freq.put("Ve", 793);
-    freq.put("sme", 559);
-    freq.put("Vi", 1783);
-    freq.put("Cá", 222);
-    freq.put(" L ", 957);
-    freq.put("epr", 257);
-    freq.put("epp", 36);
-    freq.put("Vo", 108);
-    freq.put("ône", 32);
-    freq.put(" Sò", 1106);
-    freq.put("ake", 43);
-    freq.put("eph", 75);
-    freq.put("epi", 70);
-    freq.put("Cò", 758);
-    freq.put("uce", 65);
-    freq.put("gné", 85);
-    freq.put("epc", 44);
-    freq.put("tha", 72);
-    freq.put("epa", 12379);
-    freq.put("nk ", 35);
-    freq.put("yen", 313);
-    freq.put("rn ", 600);
-    freq.put("olí", 32);
-    freq.put(" Jò", 104);
-    freq.put("opl", 33);
-    freq.put("olò", 107);
-    freq.put("via", 426);
-    freq.put("op ", 334);
-    freq.put("mif", 97);
-    freq.put("Ou", 146);
-    freq.put("vig", 130);
-    freq.put("hai", 142);
-    freq.put("elh", 3851);
-    freq.put("eli", 877);
-    freq.put("hal", 115);
-    freq.put("ham", 1745);
-    freq.put("han", 577);
-    freq.put("elm", 51);
-    freq.put("Gav", 33);
-    freq.put("Gau", 54);
-    freq.put("hac", 117);
-    freq.put("Gas", 168);
-    freq.put("Gar", 218);
-    freq.put("haf", 37);
-    freq.put("bis", 85);
-    freq.put("Gan", 45);
-    freq.put("Gal", 291);
-    freq.put("trò", 320);
-    freq.put("hap", 151);
-    freq.put("icò", 38);
-    freq.put("har", 2446);
-    freq.put("Op", 77);
-    freq.put("hat", 107);
-    freq.put("hau", 222);
-    freq.put("hav", 35);
-    freq.put("elu", 70);
-    freq.put("Tri", 68);
-    freq.put("opu", 374);
-    freq.put("rni", 226);
-    freq.put("rnh", 60);
-    freq.put("rno", 131);
-    freq.put("D", 3015);
-    freq.put("Tro", 69);
-    freq.put("ops", 63);
-    freq.put("Tra", 142);
-    freq.put("ye ", 109);
-    freq.put("rna", 2376);
-    freq.put("Tre", 102);
-    freq.put("rne", 890);
-    freq.put("ciè", 63);
-    freq.put("liè", 129);
-    freq.put("ope", 257);
-    freq.put("opa", 331);
-    freq.put("lca", 180);
-    freq.put("rns", 45);
-    freq.put("lco", 84);
-    freq.put("ub ", 67);
-    freq.put(" Éc", 87);
-    freq.put("oph", 52);
-    freq.put("opi", 113);
-    freq.put("noa", 64);
-    freq.put("ige", 81);
-    freq.put("âte", 149);
-    freq.put("Arr", 137);
-    freq.put("med", 303);
-    freq.put("Art", 112);
-    freq.put("obè", 76);
-    freq.put("vis", 457);
-    freq.put("ha ", 9807);
-    freq.put("lei", 659);
-    freq.put("el ", 6033);
-    freq.put("ués", 78);
-    freq.put("ï", 1704);
-    freq.put("Ara", 524);
-    freq.put("rva", 236);
-    freq.put("Arc", 101);
-    freq.put("Ard", 1477);
-    freq.put("Are", 50);
-    freq.put("Arg", 206);
-    freq.put("Ari", 52);
-    freq.put("bn ", 42);
-    freq.put("uez", 31);
-    freq.put("Arm", 90);
-    freq.put("Arn", 42);
-    freq.put("énc", 1098);
-    freq.put("ola", 478);
-    freq.put("hs ", 192);
-    freq.put("olc", 109);
-    freq.put("old", 60);
-    freq.put("ole", 658);
-    freq.put("olf", 78);
-    freq.put(" Ju", 435);
-    freq.put("oli", 1400);
-    freq.put("òme", 238);
-    freq.put("oll", 409);
-    freq.put("abs", 49);
-    freq.put("olo", 1557);
-    freq.put("hèt", 57);
-    freq.put(" Jo", 669);
-    freq.put("ols", 82);
-    freq.put(" Ji", 40);
-    freq.put("olu", 207);
-    freq.put("uil", 534);
-    freq.put(" Je", 290);
-    freq.put(" Zé", 113);
-    freq.put("noc", 68);
-    freq.put(" Ja", 443);
-    freq.put("ick", 43);
-    freq.put("thu", 1068);
-    freq.put("ici", 7215);
-    freq.put("ich", 615);
-    freq.put("ico", 388);
-    freq.put("for", 936);
-    freq.put("icl", 110);
-    freq.put("icc", 107);
-    freq.put("Lei", 127);
-    freq.put("ica", 5974);
-    freq.put("tio", 319);
-    freq.put("Lem", 229);
-    freq.put("Len", 157);
-    freq.put("Hu", 252);
-    freq.put("ume", 684);
-    freq.put("quò", 47);
-    freq.put("Hi", 190);
-    freq.put("uma", 338);
-    freq.put("Ho", 251);
-    freq.put("umb", 1068);
-    freq.put("ics", 424);
-    freq.put("icr", 50);
-    freq.put("fon", 648);
-    freq.put("Ha", 474);
-    freq.put("umi", 109);
-    freq.put("ος", 62);
-    freq.put("icu", 214);
-    freq.put("He", 306);
-    freq.put("Còr", 71);
-    freq.put("Còs", 650);
-    freq.put("rné", 49);
-    freq.put("rnè", 37);
-    freq.put("opò", 42);
-    freq.put("rèa", 36);
-    freq.put(" Xa", 35);
-    freq.put("ple", 392);
-    freq.put("ww ", 33);
-    freq.put("pla", 656);
-    freq.put("iga", 539);
-    freq.put("plo", 115);
-    freq.put("òbr", 241);
-    freq.put(" òb", 173);
-    freq.put("ths", 48);
-    freq.put("pli", 188);
-    freq.put("ouv", 177);
-    freq.put("Le ", 306);
-    freq.put("jèc", 126);
-    freq.put("obj", 130);
-    freq.put("ció", 46);
-    freq.put("obi", 120);
-    freq.put(" òr", 122);
-    freq.put("ic ", 1976);
-    freq.put("oin", 128);
-    freq.put("o", 161819);
-    freq.put("oba", 261);
-    freq.put("ome", 751);
-    freq.put("sfè", 88);
-    freq.put("um ", 285);
-    freq.put("ong", 556);
-    freq.put("H ", 54);
-    freq.put("obr", 308);
-    freq.put("òg ", 107);
-    freq.put("ogè", 64);
-    freq.put("soa", 273);
-    freq.put("Fed", 39);
-    freq.put("aha", 62);
-    freq.put("chu", 56);
-    freq.put("ppe", 83);
-    freq.put("sof", 93);
-    freq.put("mbe", 133);
-    freq.put("Fel", 103);
-    freq.put("som", 58);
-    freq.put("aho", 32);
-    freq.put("son", 2762);
-    freq.put("vad", 247);
-    freq.put(" Et", 94);
-    freq.put("Cue", 282);
-    freq.put("sor", 278);
-    freq.put("Fer", 174);
-    freq.put("Cub", 33);
-    freq.put("ahu", 32);
-    freq.put("IV ", 96);
-    freq.put("opo", 257);
-    freq.put("zad", 207);
-    freq.put("mbr", 943);
-    freq.put("nè", 1054);
-    freq.put("né", 648);
-    freq.put("dèm", 35);
-    freq.put("dèl", 66);
-    freq.put("gis", 174);
-    freq.put("ní", 77);
-    freq.put("gip", 178);
-    freq.put("nà", 193);
-    freq.put("ná", 40);
-    freq.put("deh", 76);
-    freq.put("dèa", 105);
-    freq.put("nç", 2689);
-    freq.put("pèc", 270);
-    freq.put("ign", 995);
-    freq.put("gie", 146);
-    freq.put("gid", 59);
-    freq.put("gic", 245);
-    freq.put(" Er", 238);
-    freq.put("gia", 486);
-    freq.put("gio", 12663);
-    freq.put("gin", 447);
-    freq.put("nò", 6345);
-    freq.put("nó", 33);
-    freq.put("dèr", 179);
-    freq.put("ten", 912);
-    freq.put("tè ", 36);
-    freq.put("so ", 121);
-    freq.put("σ", 57);
-    freq.put("т", 46);
-    freq.put("án ", 197);
-    freq.put("mia", 350);
-    freq.put("Ín", 55);
-    freq.put("mb ", 1868);
-    freq.put("aul", 359);
-    freq.put("noy", 45);
-    freq.put("gov", 418);
-    freq.put("tiè", 258);
-    freq.put("Z", 628);
-    freq.put("teo", 157);
-    freq.put("ute", 168);
-    freq.put("ura", 2109);
-    freq.put("azi", 87);
-    freq.put("azo", 91);
-    freq.put("Vol", 39);
-    freq.put("aza", 102);
-    freq.put("tèt", 124);
-    freq.put("tès", 48);
-    freq.put("aze", 34);
-    freq.put("azz", 45);
-    freq.put("epo", 66);
-    freq.put("gi ", 90);
-    freq.put("tàl", 103);
-    freq.put("mta", 1286);
-    freq.put("tèc", 52);
-    freq.put("urn", 80);
-    freq.put("mte", 199);
-    freq.put("Sis", 35);
-    freq.put("Sir", 39);
-    freq.put("üt", 68);
-    freq.put("uro", 292);
-    freq.put("mbé", 55);
-    freq.put("nni", 138);
-    freq.put("ué ", 38);
-    freq.put(" n ", 193);
-    freq.put("nne", 1157);
-    freq.put("fò", 676);
-    freq.put("nna", 295);
-    freq.put("üe", 33);
-    freq.put("Sig", 38);
-    freq.put(" Li", 613);
-    freq.put("Sie", 97);
-    freq.put("üa", 45);
-    freq.put("ün", 61);
-    freq.put("Sin", 76);
-    freq.put("Sim", 78);
-    freq.put("üi", 154);
-    freq.put("nh", 10699);
-    freq.put("ni", 13728);
-    freq.put("nj", 184);
-    freq.put("nk", 122);
-    freq.put("nl", 119);
-    freq.put("nm", 239);
-    freq.put("nn", 1790);
-    freq.put("no", 3788);
-    freq.put("tit", 766);
-    freq.put("na", 53127);
-    freq.put("nb", 750);
-    freq.put("nc", 28559);
-    freq.put("nd", 7200);
-    freq.put("ne", 7944);
-    freq.put("nf", 619);
-    freq.put("ng", 3633);
-    freq.put("til", 694);
-    freq.put("ny", 672);
-    freq.put("nz", 307);
-    freq.put("ال", 57);
-    freq.put("tid", 441);
-    freq.put("nq", 247);
-    freq.put("nr", 399);
-    freq.put("ns", 21552);
-    freq.put("nt", 33145);
-    freq.put("nu", 720);
-    freq.put("nv", 605);
-    freq.put("giè", 54);
-    freq.put(" ni", 143);
-    freq.put("fot", 124);
-    freq.put("laç", 187);
-    freq.put("E", 5096);
-    freq.put(" no", 1681);
-    freq.put(" na", 1208);
-    freq.put("urs", 116);
-    freq.put("bC ", 39);
-    freq.put("elè", 82);
-    freq.put("squ", 301);
-    freq.put("nn ", 75);
-    freq.put("mun", 24050);
-    freq.put("tec", 189);
-    freq.put("rei", 697);
-    freq.put("oïs", 42);
-    freq.put("ño ", 40);
-    freq.put("bo ", 54);
-    freq.put(" nu", 215);
-    freq.put("sno", 47);
-    freq.put("igh", 185);
-    freq.put("n ", 58500);
-    freq.put("dic", 716);
-    freq.put("Wil", 60);
-    freq.put("mme", 786);
-    freq.put("òm ", 81);
-    freq.put("ren", 2217);
-    freq.put("plu", 82);
-    freq.put("rk ", 77);
-    freq.put("ti ", 196);
-    freq.put("roi", 136);
-    freq.put("roj", 68);
-    freq.put("rol", 186);
-    freq.put("rom", 605);
-    freq.put("Reü", 44);
-    freq.put("Mén", 37);
-    freq.put("lls", 36);
-    freq.put("roa", 49);
-    freq.put("rob", 232);
-    freq.put("roc", 251);
-    freq.put("rod", 301);
-    freq.put("ost", 738);
-    freq.put("rof", 196);
-    freq.put("rog", 167);
-    freq.put("rox", 33);
-    freq.put("fè", 325);
-    freq.put("lli", 476);
-    freq.put("osm", 34);
-    freq.put("ice", 221);
-    freq.put("oso", 150);
-    freq.put("osn", 33);
-    freq.put("rop", 933);
-    freq.put("osc", 151);
-    freq.put("Mér", 32);
-    freq.put("rot", 496);
-    freq.put("che", 708);
-    freq.put("Grè", 53);
-    freq.put("osf", 124);
-    freq.put("Aqu", 345);
-    freq.put("vet", 85);
-    freq.put("gs ", 49);
-    freq.put("ver", 908);
-    freq.put("ves", 359);
-    freq.put("uís", 47);
-    freq.put("Èr", 81);
-    freq.put("Ès", 42);
-    freq.put("Dan", 88);
-    freq.put("di ", 332);
-    freq.put("vín", 6200);
-    freq.put("Dau", 70);
-    freq.put("Dav", 45);
-    freq.put("Les", 192);
-    freq.put("vec", 33);
-    freq.put("Dar", 48);
-    freq.put("ven", 1308);
-    freq.put("vel", 409);
-    freq.put("ó ", 424);
-    freq.put("oid", 37);
-    freq.put("vei", 80);
-    freq.put(" do", 868);
-    freq.put("aïc", 33);
-    freq.put("lé ", 90);
-    freq.put("eru", 112);
-    freq.put("ro ", 506);
-    freq.put("aïn", 83);
-    freq.put("chè", 74);
-    freq.put("Mé", 131);
-    freq.put("Mè", 51);
-    freq.put("Cir", 36);
-    freq.put("pèl", 66);
-    freq.put("aïs", 1189);
-    freq.put("Ciu", 154);
-    freq.put("Mò", 169);
-    freq.put("Jòc", 74);
-    freq.put("ll ", 190);
-    freq.put("umo", 97);
-    freq.put("dil", 140);
-    freq.put("dim", 128);
-    freq.put("gua", 159);
-    freq.put("dio", 116);
-    freq.put("tiá", 72);
-    freq.put("Tar", 196);
-    freq.put("gud", 261);
-    freq.put("ós", 345);
-    freq.put("ór", 41);
-    freq.put("gui", 294);
-    freq.put("ers", 1343);
-    freq.put("pòt", 196);
-    freq.put("gun", 43);
-    freq.put("gul", 94);
-    freq.put("gus", 83);
-    freq.put("p", 65906);
-    freq.put("ge ", 895);
-    freq.put("pi ", 5792);
-    freq.put("ón", 330);
-    freq.put("óm", 45);
-    freq.put("gut", 430);
-    freq.put("Tal", 56);
-    freq.put("diu", 67);
-    freq.put("Tan", 66);
-    freq.put("ict", 327);
-    freq.put("dip", 40);
-    freq.put("Tai", 37);
-    freq.put("dir", 291);
-    freq.put("dis", 556);
-    freq.put("ol ", 382);
-    freq.put("Rey", 37);
-    freq.put("mpa", 1960);
-    freq.put("M ", 44);
-    freq.put(" Yo", 202);
-    freq.put("lló", 152);
-    freq.put("Res", 35);
-    freq.put("Rep", 212);
-    freq.put("cni", 73);
-    freq.put("Rev", 68);
-    freq.put(" Ye", 40);
-    freq.put("Ret", 34);
-    freq.put("osé", 56);
-    freq.put("Zég", 113);
-    freq.put("llé", 110);
-    freq.put("Gre", 54);
-    freq.put("Ren", 117);
-    freq.put("dev", 167);
-    freq.put("re ", 6871);
-    freq.put("Gra", 542);
-    freq.put("Gro", 66);
-    freq.put("Rea", 135);
-    freq.put("Reg", 97);
-    freq.put(" Yv", 230);
-    freq.put("Gri", 41);
-    freq.put("erd", 258);
-    freq.put("biè", 33);
-    freq.put("ere", 657);
-    freq.put("èrt", 212);
-    freq.put("èrv", 37);
-    freq.put("pèa", 134);
-    freq.put("èrs", 821);
-    freq.put("èrr", 604);
-    freq.put("Qua", 55);
-    freq.put("rub", 38);
-    freq.put("èro", 275);
-    freq.put("èrn", 387);
-    freq.put("Que", 274);
-    freq.put("aux", 326);
-    freq.put("oer", 54);
-    freq.put("Qui", 132);
-    freq.put("èra", 1667);
-    freq.put("bn", 51);
-    freq.put("èrc", 71);
-    freq.put("èrb", 43);
-    freq.put("Me", 1435);
-    freq.put("bo", 1030);
-    freq.put("Ma", 7757);
-    freq.put("erb", 145);
-    freq.put("ht ", 179);
-    freq.put("Mo", 2458);
-    freq.put("deo", 71);
-    freq.put("Mi", 625);
-    freq.put("spu", 37);
-    freq.put("bi", 1935);
-    freq.put("Mu", 291);
-    freq.put("gle", 626);
-    freq.put("O", 2847);
-    freq.put("lop", 287);
-    freq.put("erm", 705);
-    freq.put("òba", 216);
-    freq.put("Agu", 76);
-    freq.put("oet", 37);
-    freq.put("deb", 282);
-    freq.put("or ", 2169);
-    freq.put("מ", 41);
-    freq.put("ruz", 102);
-    freq.put("iaS", 106);
-    freq.put("xac", 52);
-    freq.put("diè", 111);
-    freq.put("bu", 549);
-    freq.put(" òm", 263);
-    freq.put("bor", 233);
-    freq.put("bos", 45);
-    freq.put("bot", 56);
-    freq.put("bou", 62);
-    freq.put(" dr", 230);
-    freq.put("Qu ", 240);
-    freq.put("nèu", 169);
-    freq.put("bol", 157);
-    freq.put("bon", 227);
-    freq.put("cha", 1756);
-    freq.put("boc", 34);
-    freq.put("Ròs", 194);
-    freq.put("èr ", 1596);
-    freq.put("Miè", 44);
-    freq.put("pòs", 38);
-    freq.put("ipa", 497);
-    freq.put("Bon", 145);
-    freq.put(" oè", 168);
-    freq.put("ipe", 146);
-    freq.put(" it", 337);
-    freq.put("spò", 66);
-    freq.put("bs", 787);
-    freq.put("évi", 88);
-    freq.put("ipl", 82);
-    freq.put("ngi", 102);
-    freq.put("ipr", 46);
-    freq.put("ipp", 61);
-    freq.put("Lig", 77);
-    freq.put("dia", 2917);
-    freq.put("jap", 63);
-    freq.put("ipt", 143);
-    freq.put("ròl", 175);
-    freq.put("sh ", 403);
-    freq.put("ayo", 84);
-    freq.put(" Ka", 214);
-    freq.put("nèc", 41);
-    freq.put("ae ", 203);
-    freq.put("aye", 386);
-    freq.put("opè", 272);
-    freq.put(" Kh", 62);
-    freq.put(" Ki", 86);
-    freq.put("aya", 51);
-    freq.put(" Ko", 62);
-    freq.put("tés", 38);
-    freq.put("tén", 101);
-    freq.put("ult", 547);
-    freq.put("Lim", 50);
-    freq.put("Vòg", 130);
-    freq.put("ul ", 239);
-    freq.put("ca ", 5514);
-    freq.put("ugn", 32);
-    freq.put("Lin", 100);
-    freq.put(" im", 535);
-    freq.put("zur", 149);
-    freq.put("ip ", 52);
-    freq.put("Lio", 39);
-    freq.put("Ben", 184);
-    freq.put("ngr", 89);
-    freq.put("Bel", 341);
-    freq.put("F", 5887);
-    freq.put(" Fò", 39);
-    freq.put("ool", 40);
-    freq.put("ي", 93);
-    freq.put("uz ", 103);
-    freq.put("obl", 190);
-    freq.put("ma ", 8888);
-    freq.put("mbi", 187);
-    freq.put("mba", 263);
-    freq.put("Ber", 301);
-    freq.put("Bes", 81);
-    freq.put("gau", 64);
-    freq.put(" ib", 53);
-    freq.put("Bet", 42);
-    freq.put("Beu", 33);
-    freq.put("ibi", 97);
-    freq.put("ibl", 140);
-    freq.put("ibo", 67);
-    freq.put("cas", 1062);
-    freq.put("sò", 303);
-    freq.put("cap", 934);
-    freq.put("flu", 216);
-    freq.put("cav", 77);
-    freq.put("Oue", 32);
-    freq.put("cat", 1303);
-    freq.put("ñ", 370);
-    freq.put("fli", 39);
-    freq.put("sé", 166);
-    freq.put("sè", 1778);
-    freq.put("can", 1239);
-    freq.put("sí", 101);
-    freq.put("cal", 548);
-    freq.put("cac", 379);
-    freq.put("Our", 53);
-    freq.put("ibr", 207);
-    freq.put("sà", 33);
-    freq.put("cag", 35);
-    freq.put("ibu", 97);
-    freq.put("cad", 474);
-    freq.put(" on", 331);
-    freq.put("ges", 569);
-    freq.put("sub", 299);
-    freq.put(" om", 59);
-    freq.put("Mil", 111);
-    freq.put("Min", 90);
-    freq.put(" of", 245);
-    freq.put("idr", 83);
-    freq.put("Mic", 99);
-    freq.put("nèr", 127);
-    freq.put(" ob", 276);
-    freq.put(" oc", 1238);
-    freq.put("Mig", 59);
-    freq.put("Roe", 46);
-    freq.put("puè", 251);
-    freq.put("spi", 146);
-    freq.put("spl", 49);
-    freq.put(" ox", 42);
-    freq.put("spo", 201);
-    freq.put("spa", 5845);
-    freq.put("Mis", 39);
-    freq.put("Mir", 72);
-    freq.put(" or", 955);
-    freq.put(" os", 111);
-    freq.put(" op", 216);
-    freq.put("enç", 874);
-    freq.put(" à ", 39);
-    freq.put("ido", 113);
-    freq.put("doi", 35);
-    freq.put("ulh", 279);
-    freq.put("rvi", 328);
-    freq.put("uad", 11238);
-    freq.put("nyi", 43);
-    freq.put("gh ", 32);
-    freq.put("mel", 118);
-    freq.put("s ", 96112);
-    freq.put("oné", 193);
-    freq.put("fíc", 91);
-    freq.put("iás", 39);
-    freq.put("lòc", 67);
-    freq.put("Urg", 77);
-    freq.put("mau", 108);
-    freq.put("din", 15418);
-    freq.put("lòg", 110);
-    freq.put("sna", 31);
-    freq.put("may", 31);
-    freq.put("aon", 73);
-    freq.put("fed", 49);
-    freq.put("rre", 963);
-    freq.put(" o ", 2281);
-    freq.put("sni", 84);
-    freq.put("Uru", 32);
-    freq.put("mac", 199);
-    freq.put("enc", 1705);
-    freq.put("aos", 66);
-    freq.put("lòt", 56);
-    freq.put("mag", 145);
-    freq.put("sL", 46);
-    freq.put("mai", 1330);
-    freq.put("neg", 610);
-    freq.put("lmi", 33);
-    freq.put("maj", 118);
-    freq.put("mam", 112);
-    freq.put("obt", 59);
-    freq.put("man", 3649);
-    freq.put("ibè", 48);
-    freq.put("sy", 192);
-    freq.put("Eda", 83);
-    freq.put("ss", 5579);
-    freq.put("sr", 91);
-    freq.put("sq", 301);
-    freq.put("sp", 7074);
-    freq.put("viá", 51);
-    freq.put("sv", 202);
-    freq.put("su", 3697);
-    freq.put("st", 16741);
-    freq.put("q", 10570);
-    freq.put("enh", 286);
-    freq.put("si", 18508);
-    freq.put("sh", 978);
-    freq.put("so", 5331);
-    freq.put("sn", 278);
-    freq.put("sm", 762);
-    freq.put("sl", 359);
-    freq.put("sc", 3614);
-    freq.put("sb", 130);
-    freq.put("sa", 18332);
-    freq.put("sg", 56);
-    freq.put("sf", 261);
-    freq.put("se", 8113);
-    freq.put("sd", 59);
-    freq.put("Ru", 223);
-    freq.put("eï", 207);
-    freq.put(" aC", 149);
-    freq.put("nno", 52);
-    freq.put("Che", 190);
-    freq.put("ròn", 33);
-    freq.put("Chi", 245);
-    freq.put("eç", 44);
-    freq.put("Jau", 49);
-    freq.put("Jar", 54);
-    freq.put("soc", 342);
-    freq.put("Jap", 36);
-    freq.put("Cho", 53);
-    freq.put("Jan", 45);
-    freq.put("Re", 1255);
-    freq.put("Chr", 70);
-    freq.put("Jam", 43);
-    freq.put("tto", 36);
-    freq.put("Ra", 408);
-    freq.put("tta", 34);
-    freq.put("Ro", 1094);
-    freq.put("eñ", 97);
-    freq.put("Ri", 415);
-    freq.put("tte", 280);
-    freq.put("cof", 31);
-    freq.put("oeu", 43);
-    freq.put("oyo", 40);
-    freq.put("Pèi", 109);
-    freq.put(" ac", 967);
-    freq.put(" ad", 1640);
-    freq.put(" ae", 43);
-    freq.put(" af", 161);
-    freq.put(" ag", 407);
-    freq.put(" ai", 351);
-    freq.put(" aj", 67);
-    freq.put("ubè", 36);
-    freq.put(" al", 1582);
-    freq.put(" am", 1400);
-    freq.put(" an", 1871);
-    freq.put("gto", 35);
-    freq.put("α", 142);
-    freq.put(" aq", 583);
-    freq.put(" ar", 1617);
-    freq.put(" as", 416);
-    freq.put(" at", 406);
-    freq.put("д", 31);
-    freq.put(" av", 465);
-    freq.put("ent", 21219);
-    freq.put("gel", 101);
-    freq.put("coi", 59);
-    freq.put("zè", 36);
-    freq.put("enu", 42);
-    freq.put("nol", 103);
-    freq.put("nom", 1295);
-    freq.put("non", 440);
-    freq.put("nsc", 134);
-    freq.put("Aig", 53);
-    freq.put("noi", 132);
-    freq.put("ls ", 3390);
-    freq.put("و", 44);
-    freq.put("ros", 493);
-    freq.put("sle", 76);
-    freq.put("sol", 386);
-    freq.put("Sha", 46);
-    freq.put("orê", 32);
-    freq.put("nsf", 46);
-    freq.put("orè", 53);
-    freq.put("not", 111);
-    freq.put("Shi", 31);
-    freq.put("nov", 345);
-    freq.put("tt ", 31);
-    freq.put("zé", 37);
-    freq.put("tem", 763);
-    freq.put("nor", 190);
-    freq.put("nos", 382);
-    freq.put(" a ", 4477);
-    freq.put("èri", 342);
-    freq.put("áce", 217);
-    freq.put("sop", 81);
-    freq.put("sos", 288);
-    freq.put("pèr", 267);
-    freq.put("tti", 61);
-    freq.put("did", 59);
-    freq.put("uba", 378);
-    freq.put("mem", 198);
-    freq.put("sot", 66);
-    freq.put("em", 5181);
-    freq.put("el", 17421);
-    freq.put("eo", 3376);
-    freq.put("en", 46066);
-    freq.put("ei", 6600);
-    freq.put("eh", 169);
-    freq.put("Rò", 233);
-    freq.put("ej", 616);
-    freq.put("ee", 158);
-    freq.put("ed", 2324);
-    freq.put("eg", 15763);
-    freq.put("ef", 1015);
-    freq.put("ea", 2458);
-    freq.put("rl ", 31);
-    freq.put("ec", 3352);
-    freq.put("eb", 1208);
-    freq.put("Luc", 77);
-    freq.put("ey", 651);
-    freq.put("ex", 1090);
-    freq.put("ez", 370);
-    freq.put("eu", 4509);
-    freq.put("ft", 315);
-    freq.put("ew", 111);
-    freq.put("ev", 1676);
-    freq.put("eq", 264);
-    freq.put("Ré", 65);
-    freq.put("es", 58416);
-    freq.put("er", 22606);
-    freq.put("Jor", 42);
-    freq.put("Jos", 184);
-    freq.put("Jou", 43);
-    freq.put("ugi", 39);
-    freq.put("sha", 146);
-    freq.put("ròs", 74);
-    freq.put("mós", 102);
-    freq.put("eja", 447);
-    freq.put("nsu", 118);
-    freq.put("Joa", 213);
-    freq.put("س", 45);
-    freq.put("bli", 539);
-    freq.put("dif", 218);
-    freq.put("Joh", 131);
-    freq.put("èas", 132);
-    freq.put("bla", 580);
-    freq.put("Jon", 40);
-    freq.put("àb", 44);
-    freq.put("àc", 90);
-    freq.put("rlo", 94);
-    freq.put("rli", 53);
-    freq.put("àg", 226);
-    freq.put("G", 5110);
-    freq.put("ory", 47);
-    freq.put("rle", 212);
-    freq.put("erp", 107);
-    freq.put("òna", 1180);
-    freq.put("oru", 37);
-    freq.put("àn", 689);
-    freq.put("e ", 125503);
-    freq.put("àl", 159);
-    freq.put("orq", 64);
-    freq.put("àr", 359);
-    freq.put("às", 134);
-    freq.put("orl", 45);
-    freq.put("git", 123);
-    freq.put("àv", 32);
-    freq.put("ork", 59);
-    freq.put("ori", 1622);
-    freq.put("òns", 67);
-    freq.put("org", 1807);
-    freq.put("ord", 464);
-    freq.put("ore", 1291);
-    freq.put("orb", 170);
-    freq.put("orc", 119);
-    freq.put("DN ", 48);
-    freq.put("irè", 46);
-    freq.put("oci", 545);
-    freq.put("èa ", 366);
-    freq.put("xpl", 96);
-    freq.put("az ", 59);
-    freq.put("ak ", 36);
-    freq.put("Mej", 76);
-    freq.put("èmi", 166);
-    freq.put("onj", 42);
-    freq.put("rís", 352);
-    freq.put("ès ", 909);
-    freq.put("xi", 507);
-    freq.put("anà", 104);
-    freq.put("xo", 80);
-    freq.put("lfo", 41);
-    freq.put("onm", 210);
-    freq.put("xc", 66);
-    freq.put("Eug", 41);
-    freq.put("xa", 197);
-    freq.put("anè", 375);
-    freq.put("ané", 82);
-    freq.put("àli", 141);
-    freq.put("xe", 318);
-    freq.put("onz", 77);
-    freq.put("ony", 38);
-    freq.put("prò", 152);
-    freq.put("eog", 65);
-    freq.put("xp", 237);
-    freq.put("onq", 128);
-    freq.put("onv", 207);
-    freq.put("xt", 628);
-    freq.put("xu", 48);
-    freq.put("iam", 109);
-    freq.put("ial", 1064);
-    freq.put("pèt", 52);
-    freq.put("ian", 3021);
-    freq.put("iai", 77);
-    freq.put("Dé", 31);
-    freq.put("iad", 123);
-    freq.put("iag", 46);
-    freq.put("yin", 55);
-    freq.put("iac", 259);
-    freq.put("iab", 31);
-    freq.put("ége", 2119);
-    freq.put("ule", 105);
-    freq.put("lar", 1005);
-    freq.put("iau", 353);
-    freq.put("iat", 335);
-    freq.put("fo", 3436);
-    freq.put("bòl", 172);
-    freq.put("égi", 120);
-    freq.put("iar", 236);
-    freq.put("ejo", 95);
-    freq.put("hue", 46);
-    freq.put("ndu", 140);
-    freq.put("ebo", 65);
-    freq.put("hua", 41);
-    freq.put("xil", 34);
-    freq.put(" Ze", 46);
-    freq.put("hum", 1089);
-    freq.put("x ", 1974);
-    freq.put("èsi", 68);
-    freq.put(" Za", 335);
-    freq.put("lhe", 230);
-    freq.put("za ", 221);
-    freq.put("hut", 43);
-    freq.put("èss", 210);
-    freq.put("suc", 150);
-    freq.put("èst", 809);
-    freq.put("hus", 56);
-    freq.put("dèu", 55);
-    freq.put("jo ", 130);
-    freq.put("dèt", 59);
-    freq.put("erò", 172);
-    freq.put("gèr", 52);
-    freq.put("eró", 50);
-    freq.put("Am", 497);
-    freq.put(" Lé", 2167);
-    freq.put("war", 53);
-    freq.put("ن ", 43);
-    freq.put("Alf", 67);
-    freq.put("r", 178140);
-    freq.put("cra", 181);
-    freq.put("nie", 198);
-    freq.put("egr", 203);
-    freq.put("gèl", 70);
-    freq.put("ehe", 84);
-    freq.put("gèn", 132);
-    freq.put("Ald", 61);
-    freq.put("uk ", 58);
-    freq.put("and", 3177);
-    freq.put("ane", 396);
-    freq.put("sai", 72);
-    freq.put("ang", 789);
-    freq.put("pra", 96);
-    freq.put("ana", 3224);
-    freq.put("Òr", 34);
-    freq.put("Òs", 63);
-    freq.put("sac", 181);
-    freq.put("Alb", 299);
-    freq.put("ann", 465);
-    freq.put("ano", 350);
-    freq.put("anh", 7404);
-    freq.put("ani", 1283);
-    freq.put("anj", 62);
-    freq.put("Alc", 112);
-    freq.put("ant", 5592);
-    freq.put("anu", 194);
-    freq.put("anv", 51);
-    freq.put("ugr", 32);
-    freq.put("anq", 39);
-    freq.put("ans", 1499);
-    freq.put("Òl", 35);
-    freq.put("sar", 288);
-    freq.put("sap", 37);
-    freq.put("any", 72);
-    freq.put("anz", 98);
-    freq.put("sat", 402);
-    freq.put("Do", 999);
-    freq.put("Phi", 44);
-    freq.put("rmi", 174);
-    freq.put("odè", 146);
-    freq.put("Di", 397);
-    freq.put("De", 554);
-    freq.put("zon", 123);
-    freq.put("Da", 464);
-    freq.put("е", 91);
-    freq.put("lhs", 70);
-    freq.put("Du", 252);
-    freq.put("Dr", 116);
-    freq.put("ts ", 3315);
-    freq.put("mmo", 37);
-    freq.put(" Ca", 8120);
-    freq.put("an ", 6766);
-    freq.put("ló ", 157);
-    freq.put("An", 1451);
-    freq.put("ust", 582);
-    freq.put("egl", 44);
-    freq.put("lur", 37);
-    freq.put("rèr", 173);
-    freq.put(" Òs", 63);
-    freq.put("tèr", 585);
-    freq.put("ín ", 140);
-    freq.put("Sèi", 1428);
-    freq.put("rar", 354);
-    freq.put("lbe", 92);
-    freq.put("zo ", 112);
-    freq.put(" Le", 3703);
-    freq.put("luv", 40);
-    freq.put(" La", 4395);
-    freq.put("uss", 423);
-    freq.put(" Lo", 4511);
-    freq.put(" Ll", 127);
-    freq.put("D ", 79);
-    freq.put(" Lh", 212);
-    freq.put(" Lu", 403);
-    freq.put("ò", 23749);
-    freq.put("tze", 42);
-    freq.put("ege", 127);
-    freq.put("axi", 42);
-    freq.put("axo", 36);
-    freq.put("kas", 33);
-    freq.put("rta", 13155);
-    freq.put(" s ", 681);
-    freq.put("rov", 6935);
-    freq.put(" Cr", 553);
-    freq.put(" p ", 45);
-    freq.put("ama", 1038);
-    freq.put("rmè", 174);
-    freq.put("lay", 98);
-    freq.put("dy ", 38);
-    freq.put("ss ", 46);
-    freq.put("lig", 455);
-    freq.put("tiu", 390);
-    freq.put("We", 48);
-    freq.put(" nò", 559);
-    freq.put("Wa", 130);
-    freq.put("Wo", 64);
-    freq.put(" u ", 40);
-    freq.put("iti", 2209);
-    freq.put("lub", 88);
-    freq.put("Wi", 126);
-    freq.put("vid", 283);
-    freq.put("sou", 256);
-    freq.put("а", 172);
-    freq.put("onò", 5652);
-    freq.put("ε", 50);
-    freq.put("itg", 31);
-    freq.put("pti", 114);
-    freq.put("tic", 2241);
-    freq.put("uvr", 69);
-    freq.put(" ps", 64);
-    freq.put(" pr", 9579);
-    freq.put("ssy", 115);
-    freq.put(" pu", 878);
-    freq.put("get", 112);
-    freq.put("ssu", 157);
-    freq.put("H", 1629);
-    freq.put(" px", 992);
-    freq.put("jò", 101);
-    freq.put("jó", 31);
-    freq.put("idu", 33);
-    freq.put(" pa", 2804);
-    freq.put("uta", 8443);
-    freq.put("jè", 131);
-    freq.put("zel", 33);
-    freq.put(" pe", 5867);
-    freq.put("sse", 1163);
-    freq.put("dit", 300);
-    freq.put(" pi", 1069);
-    freq.put("líc", 192);
-    freq.put(" po", 1949);
-    freq.put("gen", 1368);
-    freq.put("seq", 46);
-    freq.put(" pl", 547);
-    freq.put("uin", 254);
-    freq.put("Ép", 61);
-    freq.put("cid", 298);
-    freq.put("Ét", 80);
-    freq.put("lum", 121);
-    freq.put("iqu", 261);
-    freq.put("ó", 1291);
-    freq.put("lun", 98);
-    freq.put(" bò", 44);
-    freq.put("Éc", 87);
-    freq.put("uth", 100);
-    freq.put("mbò", 77);
-    freq.put("àri", 335);
-    freq.put("uti", 461);
-    freq.put("llè", 57);
-    freq.put(" ce", 633);
-    freq.put("rmu", 52);
-    freq.put(" ال", 55);
-    freq.put("cio", 4301);
-    freq.put("ïsa", 33);
-    freq.put("aio", 33);
-    freq.put("cin", 436);
-    freq.put("rma", 2778);
-    freq.put("cim", 38);
-    freq.put("rme", 496);
-    freq.put("fol", 60);
-    freq.put("cil", 153);
-    freq.put("rmo", 212);
-    freq.put("trè", 72);
-    freq.put("cis", 198);
-    freq.put("bèr", 213);
-    freq.put(" b ", 43);
-    freq.put("cir", 91);
-    freq.put("edò", 57);
-    freq.put("xa ", 38);
-    freq.put("tèm", 224);
-    freq.put("ou ", 131);
-    freq.put("bèt", 160);
-    freq.put("pte", 217);
-    freq.put("cip", 6305);
-    freq.put("ink", 33);
-    freq.put("È", 147);
-    freq.put("nhè", 36);
-    freq.put("cié", 133);
-    freq.put("civ", 84);
-    freq.put(" pò", 487);
-    freq.put("tus", 60);
-    freq.put("ciu", 252);
-    freq.put("era", 2929);
-    freq.put("ju", 844);
-    freq.put("tur", 1072);
-    freq.put("cit", 1378);
-    freq.put("tut", 125);
-    freq.put("ssí", 57);
-    freq.put("utz", 81);
-    freq.put("ue ", 4384);
-    freq.put("jo", 1183);
-    freq.put("ssé", 61);
-    freq.put("ji", 91);
-    freq.put("tun", 129);
-    freq.put("je", 204);
-    freq.put("aís", 919);
-    freq.put(" pè", 141);
-    freq.put("tud", 303);
-    freq.put("ja", 1556);
-    freq.put("tug", 85);
-    freq.put(" be", 372);
-    freq.put("z", 4501);
-    freq.put(" ba", 1075);
-    freq.put("fit", 31);
-    freq.put("rsa", 284);
-    freq.put("tui", 120);
-    freq.put(" bl", 177);
-    freq.put(" bo", 197);
-    freq.put(" bi", 342);
-    freq.put("S", 13147);
-    freq.put(" bu", 80);
-    freq.put("α ", 46);
-    freq.put("s", 189623);
-    freq.put("odr", 38);
-    freq.put(" br", 318);
-    freq.put("Pér", 34);
-    freq.put("rèt", 82);
-    freq.put("ssè", 74);
-    freq.put("ètg", 68);
-    freq.put("ys", 98);
-    freq.put("òl ", 572);
-    freq.put("èta", 179);
-    freq.put("pòb", 83);
-    freq.put("pòl", 34);
-    freq.put("pot", 135);
-    freq.put("tar", 828);
-    freq.put("ivè", 236);
-    freq.put("pos", 672);
-    freq.put("èti", 55);
-    freq.put("èth", 118);
-    freq.put("pon", 404);
-    freq.put("màg", 223);
-    freq.put("pol", 825);
-    freq.put("tom", 180);
-    freq.put("ètr", 132);
-    freq.put("ivò", 31);
-    freq.put("poi", 33);
-    freq.put("pod", 189);
-    freq.put("poe", 80);
-    freq.put("pob", 31);
-    freq.put("tub", 32);
-    freq.put(" Ès", 42);
-    freq.put("tuc", 104);
-    freq.put("fic", 1059);
-    freq.put("Bur", 465);
-    freq.put("Bus", 65);
-    freq.put(" Mè", 51);
-    freq.put(" Mé", 131);
-    freq.put(" bè", 99);
-    freq.put("ih", 59);
-    freq.put("ei ", 3270);
-    freq.put("fia", 218);
-    freq.put("Bul", 36);
-    freq.put("paí", 252);
-    freq.put("úri", 34);
-    freq.put("Bue", 195);
-    freq.put("osi", 1268);
-    freq.put("nís", 43);
-    freq.put("èt ", 3267);
-    freq.put("É", 351);
-    freq.put("èxt", 66);
-    freq.put("nfa", 70);
-    freq.put("òps", 95);
-    freq.put("odu", 243);
-    freq.put("clu", 266);
-    freq.put("po ", 79);
-    freq.put("aid", 34);
-    freq.put("ïn", 176);
-    freq.put("eis", 1015);
-    freq.put("eir", 313);
-    freq.put("sòf", 70);
-    freq.put("eit", 949);
-    freq.put("Hil", 71);
-    freq.put("ueu", 64);
-    freq.put("ïd", 67);
-    freq.put("ïc", 92);
-    freq.put("mòr", 375);
-    freq.put("ank", 43);
-    freq.put("eia", 271);
-    freq.put("mòn", 34);
-    freq.put("eid", 37);
-    freq.put("eig", 40);
-    freq.put("lhi", 136);
-    freq.put("ïs", 1308);
-    freq.put("eil", 179);
-    freq.put("èbr", 66);
-    freq.put("ive", 406);
-    freq.put("àni", 474);
-    freq.put("ids", 233);
-    freq.put("iva", 1146);
-    freq.put("éti", 32);
-    freq.put("ivo", 70);
-    freq.put("ivi", 634);
-    freq.put("oi ", 51);
-    freq.put("ivu", 38);
-    freq.put("ced", 195);
-    freq.put("ivr", 38);
-    freq.put("Bar", 566);
-    freq.put("Bas", 740);
-    freq.put("pap", 57);
-    freq.put(" Me", 1431);
-    freq.put("par", 14167);
-    freq.put("pas", 591);
-    freq.put("pat", 224);
-    freq.put("Bap", 37);
-    freq.put("orr", 499);
-    freq.put("chi", 458);
-    freq.put(" Mo", 2455);
-    freq.put(" Mi", 620);
-    freq.put("Òsc", 59);
-    freq.put(" Mu", 290);
-    freq.put("pab", 41);
-    freq.put("eta", 1133);
-    freq.put("pad", 66);
-    freq.put("δ", 31);
-    freq.put("pag", 120);
-    freq.put("I ", 670);
-    freq.put("Sil", 50);
-    freq.put("pal", 394);
-    freq.put("Leo", 2521);
-    freq.put("pan", 7155);
-    freq.put("fs ", 44);
-    freq.put("ntò", 40);
-    freq.put("cqu", 84);
-    freq.put("nac", 495);
-    freq.put("I", 3539);
-    freq.put("Baz", 52);
-    freq.put("ete", 626);
-    freq.put("yd", 48);
-    freq.put("XX ", 89);
-    freq.put("ux ", 640);
-    freq.put("oix", 51);
-    freq.put("ira", 751);
-    freq.put("Eth", 53);
-    freq.put("ois", 708);
-    freq.put("oir", 827);
-    freq.put("nag", 49);
-    freq.put("lib", 254);
-    freq.put("ds ", 401);
-    freq.put("rec", 811);
-    freq.put("tiz", 47);
-    freq.put("vèu", 34);
-    freq.put("etn", 48);
-    freq.put("Is", 349);
-    freq.put("Ir", 89);
-    freq.put("ch ", 633);
-    freq.put("It", 144);
-    freq.put("eto", 237);
-    freq.put("pa ", 453);
-    freq.put("vèl", 120);
-    freq.put("Im", 51);
-    freq.put("Il", 1484);
-    freq.put("In", 619);
-    freq.put("cce", 210);
-    freq.put("ces", 12134);
-    freq.put("uie", 34);
-    freq.put("Ib", 60);
-    freq.put("Ie", 34);
-    freq.put("uja", 65);
-    freq.put("Ig", 31);
-    freq.put("Bac", 48);
-    freq.put("imo", 162);
-    freq.put("và", 34);
-    freq.put("ác", 230);
-    freq.put("nai", 277);
-    freq.put("zim", 49);
-    freq.put(" qu", 7412);
-    freq.put("òrn", 57);
-    freq.put("ort", 1031);
-    freq.put("am ", 266);
-    freq.put("ps ", 736);
-    freq.put("cep", 96);
-    freq.put("òrm", 111);
-    freq.put("án", 257);
-    freq.put("uu ", 33);
-    freq.put("gda", 35);
-    freq.put("ás", 73);
-    freq.put("ár", 38);
-    freq.put("tir", 217);
-    freq.put("oèt", 134);
-    freq.put("rgo", 1687);
-    freq.put("nam", 184);
-    freq.put("Bal", 261);
-    freq.put("oès", 172);
-    freq.put(" cè", 76);
-    freq.put("Her", 110);
-    freq.put("tim", 1753);
-    freq.put("BA ", 32);
-    freq.put("flo", 51);
-    freq.put("nap", 48);
-    freq.put("iós", 82);
-    freq.put("vè", 954);
-    freq.put(" ge", 1027);
-    freq.put("règ", 127);
-    freq.put("iça", 46);
-    freq.put(" cò", 604);
-    freq.put("xua", 33);
-    freq.put("ors", 580);
-    freq.put("ami", 1065);
-    freq.put("á ", 470);
-    freq.put("òrd", 1692);
-    freq.put("amm", 72);
-    freq.put("nat", 944);
-    freq.put("amo", 572);
-    freq.put("ω", 32);
-    freq.put("por", 691);
-    freq.put("amb", 1150);
-    freq.put("ame", 14617);
-    freq.put("oct", 332);
-    freq.put("mou", 39);
-    freq.put("pse", 42);
-    freq.put("naz", 39);
-    freq.put("moi", 47);
-    freq.put("ubl", 395);
-    freq.put("avò", 121);
-    freq.put("mom", 31);
-    freq.put(" go", 269);
-    freq.put("moc", 72);
-    freq.put("amp", 2151);
-    freq.put("ams", 57);
-    freq.put("lés", 268);
-    freq.put("amu", 57);
-    freq.put("lu ", 33);
-    freq.put("mod", 186);
-    freq.put("oï", 132);
-    freq.put("rpa", 40);
-    freq.put("oí", 97);
-    freq.put("tig", 203);
-    freq.put("oé", 48);
-    freq.put("oè", 367);
-    freq.put("oç", 48);
-    freq.put("Pic", 852);
-    freq.put("vò", 279);
-    freq.put("tia", 500);
-    freq.put("acò", 36);
-    freq.put("uc ", 136);
-    freq.put("uru", 44);
-    freq.put("t", 159685);
-    freq.put("lic", 826);
-    freq.put("oes", 80);
-    freq.put("rpe", 32);
-    freq.put("Pir", 140);
-    freq.put("gri", 112);
-    freq.put("utr", 390);
-    freq.put("htt", 37);
-    freq.put("uca", 206);
-    freq.put("oïd", 51);
-    freq.put("Neg", 43);
-    freq.put("pòr", 201);
-    freq.put(" Fé", 32);
-    freq.put(" Cé", 41);
-    freq.put("ngl", 459);
-    freq.put("sen", 1224);
-    freq.put("New", 37);
-    freq.put("uic", 31);
-    freq.put("Neu", 127);
-    freq.put("cq", 101);
-    freq.put("ôte", 34);
-    freq.put("Med", 137);
-    freq.put(" ch", 360);
-    freq.put("ac ", 604);
-    freq.put(" co", 18222);
-    freq.put(" cl", 601);
-    freq.put("Mel", 60);
-    freq.put("Men", 67);
-    freq.put("nfr", 45);
-    freq.put("ànc", 132);
-    freq.put("o ", 26680);
-    freq.put("Meu", 603);
-    freq.put("Met", 55);
-    freq.put("ddi", 45);
-    freq.put("rpo", 41);
-    freq.put("Mes", 163);
-    freq.put("Mer", 127);
-    freq.put(" cr", 691);
-    freq.put("uch", 346);
-    freq.put("orn", 643);
-    freq.put("Mex", 52);
-    freq.put(" cu", 264);
-    freq.put("amè", 50);
-    freq.put("èrm", 191);
-    freq.put("ч", 36);
-    freq.put("ous", 372);
-    freq.put(" ne", 400);
-    freq.put("mpi", 245);
-    freq.put("nme", 221);
-    freq.put("nhò", 5375);
-    freq.put("Dra", 38);
-    freq.put("amó", 109);
-    freq.put("ez ", 214);
-    freq.put("oo", 183);
-    freq.put("on", 47018);
-    freq.put("om", 26454);
-    freq.put("ol", 5854);
-    freq.put("ok", 86);
-    freq.put("oj", 170);
-    freq.put("oi", 1998);
-    freq.put("oh", 209);
-    freq.put("og", 3248);
-    freq.put("of", 749);
-    freq.put("oe", 325);
-    freq.put("od", 1208);
-    freq.put("oc", 2979);
-    freq.put("ob", 2076);
-    freq.put("oa", 1190);
-    freq.put("acs", 31);
-    freq.put("acr", 85);
-    freq.put("acq", 53);
-    freq.put("oz", 378);
-    freq.put("oy", 373);
-    freq.put("ox", 157);
-    freq.put("ow", 97);
-    freq.put("ov", 8378);
-    freq.put("ou", 3064);
-    freq.put("ot", 2492);
-    freq.put("os", 8539);
-    freq.put("or", 14661);
-    freq.put("oq", 94);
-    freq.put("op", 2322);
-    freq.put("Ni", 415);
-    freq.put("bje", 56);
-    freq.put("ys ", 52);
-    freq.put("aç", 310);
-    freq.put("No", 1774);
-    freq.put("aé", 44);
-    freq.put("aè", 50);
-    freq.put("alp", 45);
-    freq.put("rvè", 35);
-    freq.put("aí", 933);
-    freq.put("Ne", 373);
-    freq.put("aï", 1332);
-    freq.put("añ", 112);
-    freq.put("bba", 33);
-    freq.put("orm", 2232);
-    freq.put("Ada", 49);
-    freq.put("Ado", 33);
-    freq.put("lle", 2668);
-    freq.put("aü", 77);
-    freq.put("ung", 60);
-    freq.put("het", 242);
-    freq.put("heu", 104);
-    freq.put("hev", 73);
-    freq.put("loa", 42);
-    freq.put("itè", 91);
-    freq.put("èct", 352);
-    freq.put("Jus", 34);
-    freq.put("alq", 65);
-    freq.put(" Ín", 55);
-    freq.put("loi", 41);
-    freq.put("lon", 1962);
-    freq.put("lol", 31);
-    freq.put("lom", 241);
-    freq.put("lor", 614);
-    freq.put("los", 2192);
-    freq.put("γ", 37);
-    freq.put("в", 88);
-    freq.put("lov", 58);
-    freq.put("lot", 87);
-    freq.put("hec", 31);
-    freq.put("hel", 133);
-    freq.put("hem", 97);
-    freq.put("èch", 52);
-    freq.put("èci", 321);
-    freq.put("hei", 42);
-    freq.put("igè", 48);
-    freq.put("mpu", 303);
-    freq.put("òli", 64);
-    freq.put(" Mò", 168);
-    freq.put("jud", 124);
-    freq.put("ن", 76);
-    freq.put("N ", 143);
-    freq.put("J", 2127);
-    freq.put("jun", 241);
-    freq.put("na ", 39960);
-    freq.put("jul", 234);
-    freq.put("jur", 81);
-    freq.put("jus", 52);
-    freq.put("agl", 36);
-    freq.put(" st", 40);
-    freq.put("umè", 53);
-    freq.put("òls", 41);
-    freq.put("mpr", 233);
-    freq.put("uvè", 47);
-    freq.put("lo ", 18062);
-    freq.put("agi", 139);
-    freq.put("mat", 986);
-    freq.put("Pin", 113);
-    freq.put("iel", 200);
-    freq.put("èc ", 309);
-    freq.put(" si", 12443);
-    freq.put("he ", 1475);
-    freq.put("Avi", 64);
-    freq.put("Ave", 60);
-    freq.put("paï", 75);
-    freq.put("Ava", 46);
-    freq.put("aa", 102);
-    freq.put("ac", 6746);
-    freq.put("ab", 2956);
-    freq.put("ae", 417);
-    freq.put("ad", 20839);
-    freq.put("ag", 2535);
-    freq.put("af", 776);
-    freq.put("Hon", 49);
-    freq.put("ah", 290);
-    freq.put("ak", 238);
-    freq.put("aj", 881);
-    freq.put("am", 21329);
-    freq.put("al", 19100);
-    freq.put("ao", 264);
-    freq.put("an", 52260);
-    freq.put("aq", 830);
-    freq.put("ap", 2753);
-    freq.put("as", 24309);
-    freq.put("Hou", 32);
-    freq.put("Hor", 61);
-    freq.put("at", 21719);
-    freq.put("aw", 105);
-    freq.put("av", 2235);
-    freq.put("ay", 1165);
-    freq.put("ax", 160);
-    freq.put("Nò", 1042);
-    freq.put("az", 497);
-    freq.put("uis", 416);
-    freq.put("Aq", 347);
-    freq.put("aC", 161);
-    freq.put("igr", 69);
-    freq.put("Laf", 39);
-    freq.put("Lag", 46);
-    freq.put("oul", 259);
-    freq.put("aL", 57);
-    freq.put("Lab", 44);
-    freq.put("Lac", 60);
-    freq.put("ر", 71);
-    freq.put("ecè", 47);
-    freq.put("aS", 113);
-    freq.put("ús ", 110);
-    freq.put("ide", 902);
-    freq.put("ota", 571);
-    freq.put("igo", 130);
-    freq.put("Au", 7423);
-    freq.put("Lav", 58);
-    freq.put("igl", 41);
-    freq.put("uir", 117);
-    freq.put("yor", 33);
-    freq.put("Lar", 77);
-    freq.put("At", 206);
-    freq.put("a ", 193654);
-    freq.put("lga", 96);
-    freq.put("sto", 629);
-    freq.put("gol", 85);
-    freq.put("ов", 38);
-    freq.put(" zo", 90);
-    freq.put("Es ", 558);
-    freq.put("clè", 49);
-    freq.put("òr ", 96);
-    freq.put("ל", 40);
-    freq.put("lfò", 103);
-    freq.put(" ga", 417);
-    freq.put("ldi", 32);
-    freq.put("Az", 184);
-    freq.put("at ", 13200);
-    freq.put("Bru", 77);
-    freq.put("La ", 3356);
-    freq.put("otz", 57);
-    freq.put("yo ", 59);
-    freq.put("Bro", 73);
-    freq.put("u", 143591);
-    freq.put("Bri", 236);
-    freq.put("ig ", 56);
-    freq.put("ée ", 103);
-    freq.put("Bre", 179);
-    freq.put("Bra", 200);
-    freq.put("pto", 45);
-    freq.put("Fis", 32);
-    freq.put("all", 585);
-    freq.put("Vai", 31);
-    freq.put("Van", 62);
-    freq.put("sch", 101);
-    freq.put("Val", 1942);
-    freq.put("ali", 2286);
-    freq.put("alf", 88);
-    freq.put("alg", 70);
-    freq.put("ald", 243);
-    freq.put("ale", 1569);
-    freq.put("alb", 133);
-    freq.put("alc", 141);
-    freq.put("pta", 162);
-    freq.put("aju", 69);
-    freq.put("gt", 55);
-    freq.put("alz", 32);
-    freq.put("Var", 98);
-    freq.put("gs", 76);
-    freq.put("alt", 221);
-    freq.put("alu", 104);
-    freq.put("Fin", 38);
-    freq.put("als", 509);
-    freq.put("Fil", 57);
-    freq.put("Gir", 350);
-    freq.put("hy ", 61);
-    freq.put("smo", 49);
-    freq.put("ree", 47);
-    freq.put("ots", 103);
-    freq.put("tz", 547);
-    freq.put("ron", 1640);
-    freq.put("ty", 90);
-    freq.put("abè", 56);
-    freq.put("tw", 31);
-    freq.put("tt", 552);
-    freq.put("tu", 13839);
-    freq.put("tr", 9827);
-    freq.put("ts", 3494);
-    freq.put("tp", 130);
-    freq.put("tn", 68);
-    freq.put("to", 10544);
-    freq.put("tl", 309);
-    freq.put("tm", 159);
-    freq.put("tj", 117);
-    freq.put("th", 3325);
-    freq.put("ti", 11102);
-    freq.put("tf", 58);
-    freq.put("и", 133);
-    freq.put("set", 322);
-    freq.put("te", 12084);
-    freq.put("tb", 170);
-    freq.put("tc", 103);
-    freq.put("ta", 43218);
-    freq.put("edi", 684);
-    freq.put("ium", 61);
-    freq.put("iul", 108);
-    freq.put(" rò", 104);
-    freq.put("far", 212);
-    freq.put("fas", 62);
-    freq.put("mpl", 515);
-    freq.put("ajo", 335);
-    freq.put("fav", 31);
-    freq.put("iud", 119);
-    freq.put("al ", 3172);
-    freq.put("fau", 40);
-    freq.put("yon", 45);
-    freq.put("mpt", 108);
-    freq.put("fai", 51);
-    freq.put("fan", 144);
-    freq.put("gy", 59);
-    freq.put("fal", 39);
-    freq.put("aja", 418);
-    freq.put("fab", 95);
-    freq.put("fac", 162);
-    freq.put("ius", 244);
-    freq.put("iur", 92);
-    freq.put("uid", 129);
-    freq.put("iut", 286);
-    freq.put("mbu", 37);
-    freq.put("ert", 870);
-    freq.put(" Ni", 411);
-    freq.put("gg", 51);
-    freq.put("pre", 1655);
-    freq.put("is ", 4097);
-    freq.put(" No", 1768);
-    freq.put("roy", 88);
-    freq.put(" Na", 2803);
-    freq.put("uòc", 132);
-    freq.put(" Ne", 372);
-    freq.put("ge", 5874);
-    freq.put("dús", 34);
-    freq.put("gd", 57);
-    freq.put("gos", 805);
-    freq.put("eix", 31);
-    freq.put("llo", 502);
-    freq.put("gor", 211);
-    freq.put(" Nu", 75);
-    freq.put("rbu", 32);
-    freq.put("t ", 45298);
-    freq.put("ass", 1923);
-    freq.put("tej", 100);
-    freq.put("alí", 192);
-    freq.put("tel", 3939);
-    freq.put("ga", 4022);
-    freq.put("alè", 111);
-    freq.put("alé", 530);
-    freq.put("tea", 206);
-    freq.put("teb", 71);
-    freq.put("edu", 77);
-    freq.put("ted", 64);
-    freq.put(" Ab", 275);
-    freq.put("alà", 33);
-    freq.put("teg", 108);
-    freq.put("Gio", 37);
-    freq.put(" Ac", 148);
-    freq.put("oro", 309);
-    freq.put("Châ", 176);
-    freq.put("rrè", 158);
-    freq.put("tèl", 113);
-    freq.put("ter", 2078);
-    freq.put("tes", 830);
-    freq.put("alò", 37);
-    freq.put("lbi", 77);
-    freq.put("nbe", 717);
-    freq.put("ça ", 2515);
-    freq.put("aba", 475);
-    freq.put("sue", 54);
-    freq.put("Gil", 38);
-    freq.put("tú", 61);
-    freq.put("abe", 192);
-    freq.put("sua", 37);
-    freq.put("abi", 683);
-    freq.put("sum", 53);
-    freq.put(" Ag", 178);
-    freq.put("tò", 859);
-    freq.put("tó", 86);
-    freq.put("abo", 167);
-    freq.put("abr", 408);
-    freq.put("tí", 312);
-    freq.put("sus", 648);
-    freq.put("gi", 14922);
-    freq.put("tè", 1340);
-    freq.put("té", 244);
-    freq.put("xon", 43);
-    freq.put("tà", 847);
-    freq.put("ccè", 48);
-    freq.put(" ru", 177);
-    freq.put("te ", 1969);
-    freq.put(" Al", 1457);
-    freq.put("K", 656);
-    freq.put("çat", 81);
-    freq.put("ças", 124);
-    freq.put("çar", 42);
-    freq.put("mpè", 181);
-    freq.put(" re", 15164);
-    freq.put("çan", 203);
-    freq.put("çam", 134);
-    freq.put("çal", 159);
-    freq.put(" ra", 388);
-    freq.put("pub", 351);
-    freq.put("çai", 38);
-    freq.put("ouz", 55);
-    freq.put("mul", 105);
-    freq.put(" ro", 514);
-    freq.put("çad", 45);
-    freq.put(" ri", 458);
-    freq.put("òdo", 52);
-    freq.put("vil", 2189);
-    freq.put("ab ", 360);
-    freq.put("à", 2298);
-    freq.put(" Aq", 347);
-    freq.put("obs", 594);
-    freq.put("íli", 31);
-    freq.put(" Ar", 2939);
-    freq.put("qüa", 39);
-    freq.put("ròi", 31);
-    freq.put("Dal", 34);
-    freq.put("uig", 56);
-    freq.put("Dam", 112);
-    freq.put(" Nò", 1042);
-    freq.put("òms", 41);
-    freq.put("Aub", 463);
-    freq.put("Aud", 43);
-    freq.put("Aug", 68);
-    freq.put("Yon", 123);
-    freq.put("Tor", 322);
-    freq.put("och", 154);
-    freq.put("vin", 261);
-    freq.put("Aul", 31);
-    freq.put("rum", 221);
-    freq.put("Tou", 105);
-    freq.put("vir", 226);
-    freq.put("Aup", 285);
-    freq.put("Aus", 106);
-    freq.put("Aur", 542);
-    freq.put("viv", 137);
-    freq.put("Aut", 5711);
-    freq.put("Tol", 504);
-    freq.put("Auv", 61);
-    freq.put("S ", 149);
-    freq.put(" Az", 183);
-    freq.put("suu", 41);
-    freq.put("üni", 52);
-    freq.put("ñas", 33);
-    freq.put("veg", 95);
-    freq.put("mma", 95);
-    freq.put("ull", 114);
-    freq.put("ègl", 518);
-    freq.put(" d ", 12677);
-    freq.put("anc", 17534);
-    freq.put("pur", 155);
-    freq.put("η", 42);
-    freq.put("de ", 69433);
-    freq.put("ègj", 47);
-    freq.put("uèt", 2314);
-    freq.put("Glè", 82);
-    freq.put("iz ", 42);
-    freq.put("Sy", 38);
-    freq.put("ph ", 73);
-    freq.put("atg", 549);
-    freq.put("uno", 42);
-    freq.put("Sp", 50);
-    freq.put("Su", 495);
-    freq.put("St", 177);
-    freq.put("fà", 31);
-    freq.put("Not", 37);
-    freq.put("Si", 540);
-    freq.put("Sh", 136);
-    freq.put("So", 1846);
-    freq.put("rón", 43);
-    freq.put("Sc", 112);
-    freq.put("Sa", 5159);
-    freq.put("Loí", 73);
-    freq.put("fí", 100);
-    freq.put("Se", 1680);
-    freq.put("á", 1227);
-    freq.put("ey ", 557);
-    freq.put("vem", 323);
-    freq.put(" di", 16756);
-    freq.put("Int", 118);
-    freq.put("egò", 54);
-    freq.put(" de", 94265);
-    freq.put("ata", 2295);
-    freq.put("det", 224);
-    freq.put("deu", 1636);
-    freq.put(" da", 2507);
-    freq.put("Ins", 52);
-    freq.put("bur", 67);
-    freq.put("dei", 652);
-    freq.put("uxe", 34);
-    freq.put("del", 7659);
-    freq.put("dem", 484);
-    freq.put("den", 3017);
-    freq.put("v", 23122);
-    freq.put("Ind", 341);
-    freq.put("dea", 113);
-    freq.put(" du", 603);
-    freq.put("dec", 440);
-    freq.put("êt ", 32);
-    freq.put("def", 228);
-    freq.put("avi", 480);
-    freq.put("isp", 86);
-    freq.put("poè", 156);
-    freq.put("èva", 53);
-    freq.put("atj", 58);
-    freq.put("viè", 114);
-    freq.put("ève", 39);
-    freq.put("pro", 7521);
-    freq.put(" z ", 50);
-    freq.put("f ", 432);
-    freq.put(" Fi", 243);
-    freq.put("lal", 72);
-    freq.put("ath", 258);
-    freq.put("é ", 907);
-    freq.put("cò", 908);
-    freq.put("òde", 304);
-    freq.put("pai", 112);
-    freq.put("èvr", 180);
-    freq.put("òn ", 87);
-    freq.put("lh ", 498);
-    freq.put("zar", 166);
-    freq.put("ôt", 35);
-    freq.put("cou", 643);
-    freq.put("isi", 526);
-    freq.put("ava", 829);
-    freq.put("ôn", 38);
-    freq.put("ish", 542);
-    freq.put("sut", 81);
-    freq.put("й", 34);
-    freq.put("Viv", 58);
-    freq.put("oye", 71);
-    freq.put("oya", 71);
-    freq.put("isn", 41);
-    freq.put("fr", 14242);
-    freq.put("fs", 48);
-    freq.put("Don", 87);
-    freq.put("fu", 303);
-    freq.put("Dom", 151);
-    freq.put("Dob", 549);
-    freq.put("Sò", 1106);
-    freq.put("pri", 921);
-    freq.put("uau", 144);
-    freq.put("tó ", 45);
-    freq.put("ό", 42);
-    freq.put("fa", 1782);
-    freq.put("Sé", 33);
-    freq.put("Sè", 1481);
-    freq.put("fe", 1365);
-    freq.put("ff", 184);
-    freq.put("Dor", 61);
-    freq.put("fi", 2733);
-    freq.put("xer", 40);
-    freq.put("Mòs", 154);
-    freq.put("fl", 432);
-    freq.put("Dou", 40);
-    freq.put("a", 442962);
-    freq.put("bar", 405);
-    freq.put(" dí", 48);
-    freq.put("zy ", 35);
-    freq.put("lha", 4931);
-    freq.put("lho", 136);
-    freq.put(" c ", 36);
-    freq.put("cs ", 689);
-    freq.put("egu", 865);
-    freq.put("mar", 1214);
-    freq.put("egi", 12931);
-    freq.put("ego", 923);
-    freq.put("egn", 38);
-    freq.put("çò ", 116);
-    freq.put("ö", 33);
-    freq.put("ega", 484);
-    freq.put("oat", 72);
-    freq.put("èdi", 47);
-    freq.put("oy ", 159);
-    freq.put("ito", 438);
-    freq.put("itm", 34);
-    freq.put("bèl", 45);
-    freq.put("ith", 38);
-    freq.put("ce ", 344);
-    freq.put(" sò", 105);
-    freq.put("y ", 3331);
-    freq.put("Occ", 494);
-    freq.put("ite", 522);
-    freq.put("Oce", 50);
-    freq.put("ffr", 32);
-    freq.put("ita", 5548);
-    freq.put("ffo", 36);
-    freq.put("uvi", 254);
-    freq.put(" sè", 622);
-    freq.put("itz", 174);
-    freq.put("os ", 3412);
-    freq.put("uva", 53);
-    freq.put("itt", 46);
-    freq.put("itu", 11777);
-    freq.put("itr", 108);
-    freq.put("its", 378);
-    freq.put("pid", 64);
-    freq.put(" On", 74);
-    freq.put(" Ol", 200);
-    freq.put(" Om", 39);
-    freq.put("but", 111);
-    freq.put("èxe", 31);
-    freq.put(" Oi", 380);
-    freq.put("uct", 153);
-    freq.put(" l ", 5163);
-    freq.put(" Ob", 52);
-    freq.put(" Oc", 571);
-    freq.put("nto", 550);
-    freq.put("pci", 235);
-    freq.put("tp ", 35);
-    freq.put("Àu", 39);
-    freq.put("uas", 111);
-    freq.put("rcé", 36);
-    freq.put(" Ot", 43);
-    freq.put(" Ou", 146);
-    freq.put(" Or", 895);
-    freq.put(" Os", 103);
-    freq.put(" Op", 76);
-    freq.put("yi", 83);
-    freq.put("zoa", 44);
-    freq.put("Bat", 63);
-    freq.put("Bau", 69);
-    freq.put("ym", 57);
-    freq.put("yl", 99);
-    freq.put("yo", 198);
-    freq.put("yn", 48);
-    freq.put("ya", 284);
-    freq.put("cen", 595);
-    freq.put("yc", 36);
-    freq.put("cel", 662);
-    freq.put("ye", 514);
-    freq.put("L", 17425);
-    freq.put("it ", 949);
-    freq.put("omm", 805);
-    freq.put("Bad", 172);
-    freq.put("cet", 128);
-    freq.put("Bab", 129);
-    freq.put("Era", 66);
-    freq.put("dig", 165);
-    freq.put("XV ", 31);
-    freq.put("Ban", 78);
-    freq.put("Ern", 32);
-    freq.put("yr", 107);
-    freq.put("yu", 44);
-    freq.put("yt", 38);
-    freq.put("cey", 76);
-    freq.put("Bai", 144);
-    freq.put("vC ", 98);
-    freq.put("gue", 598);
-    freq.put("Ran", 42);
-    freq.put("Ram", 120);
-    freq.put(" O ", 37);
-    freq.put("Rai", 57);
-    freq.put("ife", 220);
-    freq.put("exe", 150);
-    freq.put("val", 457);
-    freq.put("ifa", 33);
-    freq.put("die", 198);
-    freq.put("ifo", 41);
-    freq.put("ifi", 687);
-    freq.put(" A ", 222);
-    freq.put("Enc", 43);
-    freq.put("Mus", 117);
-    freq.put("Mur", 48);
-    freq.put("oms", 49);
-    freq.put("ità", 452);
-    freq.put(" su", 3036);
-    freq.put("Un ", 288);
-    freq.put("Enr", 81);
-    freq.put("as ", 15184);
-    freq.put("Ent", 53);
-    freq.put(" so", 3272);
-    freq.put(" sc", 232);
-    freq.put("uda", 727);
-    freq.put(" sa", 845);
-    freq.put("itò", 269);
-    freq.put(" se", 2786);
-    freq.put("iza", 953);
-    freq.put("òri", 562);
-    freq.put("ize", 49);
-    freq.put(" Oè", 36);
-    freq.put("gur", 189);
-    freq.put("izi", 34);
-    freq.put("E ", 110);
-    freq.put("izo", 37);
-    freq.put("uia", 130);
-    freq.put("abl", 364);
-    freq.put("ate", 571);
-    freq.put("bui", 51);
-    freq.put("uí ", 96);
-    freq.put("En ", 283);
-    freq.put("ilò", 121);
-    freq.put("asq", 98);
-    freq.put("asp", 56);
-    freq.put(" Ad", 175);
-    freq.put("pui", 101);
-    freq.put(" Af", 123);
-    freq.put("ast", 4730);
-    freq.put("mmu", 33);
-    freq.put(" Ma", 7742);
-    freq.put(" Ak", 32);
-    freq.put("ō", 32);
-    freq.put(" Am", 495);
-    freq.put(" An", 1441);
-    freq.put("ior", 254);
-    freq.put("asc", 966);
-    freq.put("Una", 139);
-    freq.put("asa", 374);
-    freq.put(" As", 328);
-    freq.put(" At", 202);
-    freq.put(" Au", 7419);
-    freq.put("ase", 112);
-    freq.put("rgu", 189);
-    freq.put("put", 93);
-    freq.put("Uni", 461);
-    freq.put("asi", 347);
-    freq.put("ash", 137);
-    freq.put("aso", 129);
-    freq.put("div", 437);
-    freq.put("asm", 63);
-    freq.put("pus", 341);
-    freq.put("Em", 253);
-    freq.put("El", 293);
-    freq.put("En", 551);
-    freq.put("Ei", 47);
-    freq.put("ifò", 61);
-    freq.put("ion", 18445);
-    freq.put("Ed", 225);
-    freq.put("Eg", 114);
-    freq.put("Ea", 31);
-    freq.put("Ec", 36);
-    freq.put("nfi", 58);
-    freq.put("ft ", 299);
-    freq.put("Ex", 438);
-    freq.put("w", 747);
-    freq.put("tos", 131);
-    freq.put("Eu", 688);
-    freq.put("Et", 97);
-    freq.put("Ev", 32);
-    freq.put("ifè", 110);
-    freq.put(" ef", 38);
-    freq.put("Es", 1880);
-    freq.put("Er", 240);
-    freq.put("le ", 3401);
-    freq.put("Fra", 3029);
-    freq.put("tís", 88);
-    freq.put("Fre", 280);
-    freq.put("gòr", 128);
-    freq.put("Cle", 38);
-    freq.put("Fri", 64);
-    freq.put("Fro", 77);
-    freq.put("Cla", 146);
-    freq.put("hèc", 37);
-    freq.put("pop", 357);
-    freq.put("uen", 894);
-    freq.put("bul", 54);
-    freq.put("tot", 582);
-    freq.put("oiv", 46);
-    freq.put("nc ", 318);
-    freq.put("Clu", 43);
-    freq.put("hèi", 248);
-    freq.put("hèm", 35);
-    freq.put("gò", 226);
-    freq.put(" el", 479);
-    freq.put(" em", 398);
-    freq.put("Niè", 152);
-    freq.put("st ", 1076);
-    freq.put(" ei", 1430);
-    freq.put(" ed", 130);
-    freq.put("oda", 140);
-    freq.put("X ", 234);
-    freq.put(" eg", 135);
-    freq.put("rrò", 159);
-    freq.put(" eb", 110);
-    freq.put(" ec", 180);
-    freq.put("jec", 93);
-    freq.put("xis", 138);
-    freq.put(" ex", 755);
-    freq.put(" Ya", 57);
-    freq.put(" et", 686);
-    freq.put(" eu", 145);
-    freq.put(" ev", 113);
-    freq.put("к", 61);
-    freq.put(" ep", 146);
-    freq.put(" eq", 122);
-    freq.put(" er", 339);
-    freq.put(" es", 32342);
-    freq.put("omu", 18194);
-    freq.put("ncy", 48);
-    freq.put("osò", 108);
-    freq.put("ncr", 41);
-    freq.put("ncs", 33);
-    freq.put("Í", 65);
-    freq.put("ime", 473);
-    freq.put("nch", 1335);
-    freq.put("nci", 9491);
-    freq.put("Isè", 76);
-    freq.put("ncl", 92);
-    freq.put("sòl", 45);
-    freq.put("scu", 636);
-    freq.put("nco", 466);
-    freq.put("oja", 74);
-    freq.put("nca", 2373);
-    freq.put("ueb", 68);
-    freq.put("nce", 12398);
-    freq.put("lèg", 31);
-    freq.put("èi ", 533);
-    freq.put("b", 19727);
-    freq.put("lèc", 84);
-    freq.put("sta", 4123);
-    freq.put("osè", 704);
-    freq.put("aüt", 62);
-    freq.put("Xa", 40);
-    freq.put(" e ", 26928);
-    freq.put("sti", 1953);
-    freq.put("lèi", 155);
-    freq.put("stu", 280);
-    freq.put("lèu", 105);
-    freq.put("Rei", 204);
-    freq.put("lès", 471);
-    freq.put("lèr", 37);
-    freq.put("str", 3122);
-    freq.put("eün", 53);
-    freq.put("jòc", 55);
-    freq.put("spr", 50);
-    freq.put("Gon", 51);
-    freq.put("zz", 80);
-    freq.put("Fré", 44);
-    freq.put("Rem", 39);
-    freq.put("Na", 2806);
-    freq.put("rbò", 47);
-    freq.put("sòr", 57);
-    freq.put("òra", 98);
-    freq.put("Rec", 103);
-    freq.put("Gou", 49);
-    freq.put("ngs", 38);
-    freq.put("vèr", 713);
-    freq.put("rru", 52);
-    freq.put("Gor", 47);
-    freq.put("lid", 389);
-    freq.put("ofr", 31);
-    freq.put("lif", 149);
-    freq.put("k ", 503);
-    freq.put("lia", 947);
-    freq.put("ex ", 59);
-    freq.put("Nim", 31);
-    freq.put("ós ", 333);
-    freq.put("Nic", 85);
-    freq.put("smi", 35);
-    freq.put("lio", 134);
-    freq.put("eft", 274);
-    freq.put("efu", 38);
-    freq.put("lit", 1962);
-    freq.put(" lo", 19448);
-    freq.put("liv", 65);
-    freq.put("lip", 130);
-    freq.put("liq", 45);
-    freq.put("lir", 50);
-    freq.put("efo", 98);
-    freq.put("cci", 1871);
-    freq.put("uer", 371);
-    freq.put("lix", 39);
-    freq.put("efe", 248);
-    freq.put("liz", 562);
-    freq.put("rin", 984);
-    freq.put("Ate", 32);
-    freq.put("uèc", 45);
-    freq.put("nòm", 5673);
-    freq.put("kad", 40);
-    freq.put("Isr", 40);
-    freq.put("Atl", 87);
-    freq.put("rbè", 37);
-    freq.put("M", 13072);
-    freq.put("Ist", 39);
-    freq.put("Tho", 80);
-    freq.put("kar", 50);
-    freq.put("Isi", 39);
-    freq.put("cé ", 57);
-    freq.put("uèr", 451);
-    freq.put("uès", 73);
-    freq.put("Thi", 73);
-    freq.put("Isl", 58);
-    freq.put("nòs", 33);
-    freq.put("esn", 159);
-    freq.put("The", 102);
-    freq.put("nòu", 31);
-    freq.put("nòt", 57);
-    freq.put("ka", 315);
-    freq.put("â", 259);
-    freq.put("stà", 88);
-    freq.put("exc", 63);
-    freq.put("ke", 178);
-    freq.put("exa", 99);
-    freq.put("kk", 45);
-    freq.put("stí", 97);
-    freq.put("ki", 224);
-    freq.put("kh", 99);
-    freq.put("ko", 127);
-    freq.put("sté", 64);
-    freq.put("km", 141);
-    freq.put("kl", 36);
-    freq.put("ks", 38);
-    freq.put("ext", 158);
-    freq.put("exu", 34);
-    freq.put("ku", 68);
-    freq.put("stó", 58);
-    freq.put("Ort", 32);
-    freq.put("stú", 49);
-    freq.put("rte", 374);
-    freq.put("arò", 36);
-    freq.put("òma", 5655);
-    freq.put("Hal", 45);
-    freq.put("Ham", 39);
-    freq.put("Han", 55);
-    freq.put("oèm", 37);
-    freq.put("rév", 39);
-    freq.put("rto", 239);
-    freq.put("gim", 71);
-    freq.put(" Bé", 92);
-    freq.put(" Bè", 54);
-    freq.put("sup", 320);
-    freq.put("arà", 40);
-    freq.put("rbo", 151);
-    freq.put("oje", 36);
-    freq.put("rts", 123);
-    freq.put("arç", 413);
-    freq.put("aré", 56);
-    freq.put("Har", 92);
-    freq.put("aLa", 33);
-    freq.put("Hau", 89);
-    freq.put("ugu", 233);
-    freq.put("Orn", 525);
-    freq.put("ney", 91);
-    freq.put("uai", 78);
-    freq.put("evi", 650);
-    freq.put("scr", 865);
-    freq.put("Ju", 441);
-    freq.put(" Ai", 386);
-    freq.put("ier", 1555);
-    freq.put("ieu", 485);
-    freq.put("iet", 357);
-    freq.put("iev", 101);
-    freq.put("iei", 53);
-    freq.put("Jo", 707);
-    freq.put("iem", 53);
-    freq.put("Ji", 40);
-    freq.put("ien", 662);
-    freq.put("Je", 296);
-    freq.put("Ja", 450);
-    freq.put("ieg", 44);
-    freq.put("hip", 70);
-    freq.put("gió", 46);
-    freq.put("hir", 49);
-    freq.put("his", 69);
-    freq.put("hit", 31);
-    freq.put("rt ", 1973);
-    freq.put("hiv", 37);
-    freq.put("ste", 4489);
-    freq.put("ose", 309);
-    freq.put("uec", 67);
-    freq.put("ère", 480);
-    freq.put("hic", 62);
-    freq.put("hid", 32);
-    freq.put("hie", 115);
-    freq.put(" Áv", 258);
-    freq.put("hil", 233);
-    freq.put("him", 40);
-    freq.put("hin", 328);
-    freq.put("elf", 116);
-    freq.put(" Pò", 59);
-    freq.put("cru", 31);
-    freq.put("òla", 5352);
-    freq.put("uiè", 31);
-    freq.put("rfa", 32);
-    freq.put("ás ", 69);
-    freq.put("oxi", 120);
-    freq.put("uim", 210);
-    freq.put("cre", 539);
-    freq.put("x", 4175);
-    freq.put(" Pé", 45);
-    freq.put(" Pè", 156);
-    freq.put("rfo", 34);
-    freq.put("cro", 210);
-    freq.put("arp", 56);
-    freq.put("Fou", 82);
-    freq.put("arr", 1485);
-    freq.put("ars", 427);
-    freq.put("art", 14863);
-    freq.put("aru", 35);
-    freq.put("For", 186);
-    freq.put("sep", 198);
-    freq.put("rtí", 112);
-    freq.put("ary", 68);
-    freq.put("arz", 38);
-    freq.put(" Bi", 359);
-    freq.put("rtè", 42);
-    freq.put("bé ", 61);
-    freq.put("sex", 45);
-    freq.put(" Bu", 901);
-    freq.put("ara", 4008);
-    freq.put("arb", 335);
-    freq.put("Fog", 240);
-    freq.put("ard", 2251);
-    freq.put("are", 568);
-    freq.put("sea", 33);
-    freq.put("arg", 516);
-    freq.put("ari", 3111);
-    freq.put("Fon", 206);
-    freq.put("ark", 40);
-    freq.put("arl", 571);
-    freq.put("Foi", 53);
-    freq.put("arn", 1994);
-    freq.put("aro", 293);
-    freq.put("vra", 45);
-    freq.put("ïde", 38);
-    freq.put("mo ", 97);
-    freq.put("uso", 45);
-    freq.put("oza", 64);
-    freq.put("use", 209);
-    freq.put("vas", 236);
-    freq.put("Jò", 104);
-    freq.put("rça", 521);
-    freq.put("Ple", 38);
-    freq.put("olh", 60);
-    freq.put("atr", 423);
-    freq.put("Pla", 224);
-    freq.put("ozo", 53);
-    freq.put("ms ", 320);
-    freq.put("κ", 46);
-    freq.put("tro", 761);
-    freq.put(" B ", 45);
-    freq.put("oss", 452);
-    freq.put("ogu", 1839);
-    freq.put("lel", 60);
-    freq.put("lem", 534);
-    freq.put("ar ", 3112);
-    freq.put("ika", 33);
-    freq.put("adu", 642);
-    freq.put("se ", 2066);
-    freq.put("hiè", 117);
-    freq.put("adr", 166);
-    freq.put("iki", 56);
-    freq.put("evo", 167);
-    freq.put("nzi", 55);
-    freq.put("ot ", 532);
-    freq.put(" Pr", 1141);
-    freq.put("c", 100690);
-    freq.put(" Pu", 308);
-    freq.put("fos", 59);
-    freq.put("rç ", 236);
-    freq.put("Far", 48);
-    freq.put(" Pa", 4949);
-    freq.put("mi ", 202);
-    freq.put(" Pe", 1709);
-    freq.put("igu", 526);
-    freq.put("let", 348);
-    freq.put(" Pi", 1459);
-    freq.put(" Ph", 71);
-    freq.put(" Ap", 114);
-    freq.put("rfí", 69);
-    freq.put(" Pl", 290);
-    freq.put("rpr", 60);
-    freq.put("ròb", 222);
-    freq.put("riò", 185);
-    freq.put("oqu", 91);
-    freq.put("lex", 100);
-    freq.put("ka ", 95);
-    freq.put("riè", 392);
-    freq.put("tge", 666);
-    freq.put("òrt", 702);
-    freq.put("lbu", 35);
-    freq.put("War", 36);
-    freq.put("ga ", 1137);
-    freq.put("pr", 10813);
-    freq.put("ps", 898);
-    freq.put("pp", 166);
-    freq.put("ty ", 61);
-    freq.put("dul", 50);
-    freq.put("pt", 634);
-    freq.put("pu", 1970);
-    freq.put("dua", 76);
-    freq.put("px", 994);
-    freq.put("duc", 294);
-    freq.put("dud", 38);
-    freq.put("tiv", 576);
-    freq.put("geo", 134);
-    freq.put("pc", 242);
-    freq.put("pa", 24701);
-    freq.put("nau", 6131);
-    freq.put("pd", 40);
-    freq.put("pe", 8228);
-    freq.put("ph", 249);
-    freq.put("pi", 8257);
-    freq.put("dut", 116);
-    freq.put("po", 3777);
-    freq.put("pl", 1508);
-    freq.put("ved", 88);
-    freq.put("tré", 43);
-    freq.put("nri", 126);
-    freq.put("nro", 31);
-    freq.put("iá ", 424);
-    freq.put("gav", 41);
-    freq.put(" tu", 82);
-    freq.put("gat", 287);
-    freq.put("gas", 569);
-    freq.put(" tr", 1687);
-    freq.put("nre", 198);
-    freq.put("N", 6700);
-    freq.put(" to", 717);
-    freq.put("gan", 568);
-    freq.put("gam", 115);
-    freq.put("gal", 202);
-    freq.put("òrr", 59);
-    freq.put("Emp", 179);
-    freq.put(" ti", 222);
-    freq.put(" th", 1005);
-    freq.put(" te", 1089);
-    freq.put("gad", 335);
-    freq.put("gac", 47);
-    freq.put(" ta", 1088);
-    freq.put("lba", 228);
-    freq.put("adm", 1451);
-    freq.put("nàr", 150);
-    freq.put("fus", 88);
-    freq.put("du ", 206);
-    freq.put("Oli", 120);
-    freq.put("tip", 145);
-    freq.put("fug", 43);
-    freq.put("p ", 1401);
-    freq.put("mal", 365);
-    freq.put("trà", 44);
-    freq.put("fun", 35);
-    freq.put(" fè", 57);
-    freq.put("sma", 95);
-    freq.put("gué", 55);
-    freq.put("ses", 1491);
-    freq.put("vic", 159);
-    freq.put("guè", 2423);
-    freq.put("riz", 168);
-    freq.put("voc", 92);
-    freq.put("riv", 565);
-    freq.put("tiq", 67);
-    freq.put("rit", 2449);
-    freq.put("raq", 92);
-    freq.put("rir", 38);
-    freq.put("ris", 843);
-    freq.put("rip", 130);
-    freq.put("diá", 42);
-    freq.put("Til", 31);
-    freq.put("rio", 445);
-    freq.put("ril", 299);
-    freq.put("rim", 538);
-    freq.put("Irl", 35);
-    freq.put("vor", 61);
-    freq.put("rif", 121);
-    freq.put("Ira", 31);
-    freq.put("exi", 268);
-    freq.put("rie", 830);
-    freq.put("rib", 366);
-    freq.put("ric", 1884);
-    freq.put("ria", 2176);
-    freq.put("pò", 773);
-    freq.put("cés", 1757);
-    freq.put("fag", 32);
-    freq.put("boi", 47);
-    freq.put("raz", 58);
-    freq.put("ceb", 124);
-    freq.put(" Av", 206);
-    freq.put("êt", 46);
-    freq.put("vy ", 37);
-    freq.put("ià ", 43);
-    freq.put("mor", 656);
-    freq.put("pè", 1034);
-    freq.put("pé", 35);
-    freq.put("ssi", 1282);
-    freq.put("ohn", 82);
-    freq.put("Cop", 36);
-    freq.put("Cos", 49);
-    freq.put("Cor", 440);
-    freq.put("Cou", 258);
-    freq.put("tis", 351);
-    freq.put("lie", 333);
-    freq.put("Ill", 1443);
-    freq.put("cea", 207);
-    freq.put(" tò", 61);
-    freq.put("mov", 122);
-    freq.put(" tí", 70);
-    freq.put("íto", 72);
-    freq.put("aña", 58);
-    freq.put("uto", 6111);
-    freq.put(" tè", 317);
-    freq.put("mot", 174);
-    freq.put("Com", 7132);
-    freq.put("Col", 180);
-    freq.put("ri ", 1271);
-    freq.put("Con", 484);
-    freq.put("còr", 235);
-    freq.put("נ", 32);
-    freq.put("Soc", 77);
-    freq.put(" fr", 13804);
-    freq.put("Nu", 76);
-    freq.put("els", 2578);
-    freq.put("còu", 32);
-    freq.put("try", 48);
-    freq.put("ew ", 35);
-    freq.put("Som", 717);
-    freq.put("Sol", 118);
-    freq.put("Son", 406);
-    freq.put(" fa", 1229);
-    freq.put("còc", 34);
-    freq.put("Sos", 32);
-    freq.put("Sor", 236);
-    freq.put("Sou", 96);
-    freq.put("còd", 56);
-    freq.put("lim", 299);
-    freq.put("y", 5143);
-    freq.put("còn", 86);
-    freq.put(" fl", 185);
-    freq.put("còl", 147);
-    freq.put("mon", 1303);
-    freq.put("lda", 45);
-    freq.put("çò", 118);
-    freq.put("lde", 200);
-    freq.put("ipc", 153);
-    freq.put(" Ay", 47);
-    freq.put("mol", 239);
-    freq.put("ldo", 42);
-    freq.put("bi ", 234);
-    freq.put("O ", 129);
-    freq.put("Yve", 221);
-    freq.put("sam", 100);
-    freq.put("mob", 37);
-    freq.put("cod", 34);
-    freq.put("òpr", 52);
-    freq.put("tin", 1331);
-    freq.put("cut", 480);
-    freq.put("cus", 63);
-    freq.put("cur", 93);
-    freq.put("cup", 70);
-    freq.put("üti", 33);
-    freq.put("aç ", 45);
-    freq.put("о", 124);
-    freq.put("cue", 46);
-    freq.put("cud", 94);
-    freq.put("sal", 192);
-    freq.put("cub", 51);
-    freq.put("uze", 55);
-    freq.put("ι", 76);
-    freq.put("rgi", 151);
-    freq.put("cum", 85);
-    freq.put("cul", 708);
-    freq.put("ee ", 37);
-    freq.put("elv", 99);
-    freq.put("bin", 153);
-    freq.put("On", 74);
-    freq.put("Din", 98);
-    freq.put("Ol", 201);
-    freq.put("cem", 260);
-    freq.put("Oi", 380);
-    freq.put("iòt", 35);
-    freq.put("Die", 66);
-    freq.put("bie", 82);
-    freq.put("bè", 483);
-    freq.put("bé", 114);
-    freq.put("Ais", 60);
-    freq.put("Dic", 48);
-    freq.put(" Da", 462);
-    freq.put("bò", 316);
-    freq.put("efa", 45);
-    freq.put("Div", 35);
-    freq.put("Ot", 44);
-    freq.put("gr", 2361);
-    freq.put("Or", 900);
-    freq.put("bú", 31);
-    freq.put("Dis", 31);
-    freq.put("uy ", 62);
-    freq.put("spè", 279);
-    freq.put("pue", 96);
-    freq.put("idú", 32);
-    freq.put("d", 174002);
-    freq.put("nèl", 53);
-    freq.put("dun", 58);
-    freq.put("aça", 252);
-    freq.put("eer", 45);
-    freq.put("rg ", 213);
-    freq.put("idè", 104);
-    freq.put("Áv", 258);
-    freq.put("Kha", 37);
-    freq.put("neu", 221);
-    freq.put("udo", 80);
-    freq.put("ii ", 36);
-    freq.put(" We", 48);
-    freq.put("tie", 249);
-    freq.put("acè", 98);
-    freq.put("b ", 2445);
-    freq.put("mpe", 275);
-    freq.put("uf ", 57);
-    freq.put("Pie", 237);
-    freq.put("ija", 33);
-    freq.put("ld ", 86);
-    freq.put("ça", 3428);
-    freq.put("cif", 75);
-    freq.put("ço", 201);
-    freq.put("lec", 516);
-    freq.put("Èra", 75);
-    freq.put(" Du", 251);
-    freq.put("zz ", 35);
-    freq.put("vol", 460);
-    freq.put(" Qu", 722);
-    freq.put("gjo", 48);
-    freq.put("pet", 203);
-    freq.put("peu", 182);
-    freq.put("rou", 172);
-    freq.put("per", 5803);
-    freq.put("pes", 121);
-    freq.put("pel", 694);
-    freq.put("pen", 443);
-    freq.put("pei", 73);
-    freq.put("nòb", 42);
-    freq.put("rgè", 76);
-    freq.put(" Qi", 35);
-    freq.put("uèl", 87);
-    freq.put("id ", 547);
-    freq.put("pec", 217);
-    freq.put("bd", 52);
-    freq.put("be", 2487);
-    freq.put("aC ", 141);
-    freq.put("run", 88);
-    freq.put("ba", 3842);
-    freq.put("bb", 77);
-    freq.put("Oè", 36);
-    freq.put("bl", 1794);
-    freq.put("ruc", 260);
-    freq.put("Bor", 1380);
-    freq.put("Bos", 60);
-    freq.put("Bou", 278);
-    freq.put("bj", 153);
-    freq.put("rue", 79);
-    freq.put("bt", 80);
-    freq.put("Boi", 216);
-    freq.put("Bol", 66);
-    freq.put("oen", 40);
-    freq.put("br", 3241);
-    freq.put("ç ", 377);
-    freq.put("eux", 207);
-    freq.put("rus", 302);
-    freq.put("rup", 64);
-    freq.put("Boc", 39);
-    freq.put("by", 60);
-    freq.put("rut", 43);
-    freq.put("fec", 116);
-    freq.put("uff", 47);
-    freq.put("Roi", 35);
-    freq.put("ς ", 124);
-    freq.put("ä", 32);
-    freq.put("Ron", 34);
-    freq.put("bC", 41);
-    freq.put("epe", 178);
-    freq.put("Rob", 102);
-    freq.put("Roc", 93);
-    freq.put("Rod", 57);
-    freq.put("Ost", 43);
-    freq.put("Rog", 54);
-    freq.put("Roy", 40);
-    freq.put("Llo", 46);
-    freq.put("nés", 443);
-    freq.put("idi", 247);
-    freq.put("lah", 37);
-    freq.put("Lla", 31);
-    freq.put("Ros", 134);
-    freq.put("pe ", 301);
-    freq.put("Rou", 110);
-    freq.put("ida", 1434);
-    freq.put("nsi", 497);
-    freq.put("fem", 103);
-    freq.put("nsm", 42);
-    freq.put("sfa", 72);
-    freq.put("nso", 131);
-    freq.put(" ut", 276);
-    freq.put("nsa", 283);
-    freq.put(" C ", 33);
-    freq.put("pie", 108);
-    freq.put("ròc", 234);
-    freq.put("nse", 566);
-    freq.put(" ur", 59);
-    freq.put(" us", 76);
-    freq.put(" ul", 51);
-    freq.put(" um", 203);
-    freq.put(" un", 27939);
-    freq.put("vòu", 51);
-    freq.put("Tè", 121);
-    freq.put("nòr", 431);
-    freq.put("nsp", 76);
-    freq.put(" ue", 61);
-    freq.put("lgi", 46);
-    freq.put("ròt", 103);
-    freq.put("nst", 683);
-    freq.put(" ua", 946);
-    freq.put("rig", 852);
-    freq.put("ròp", 247);
-    freq.put(" Ét", 80);
-    freq.put("ut ", 1362);
-    freq.put("ci ", 255);
-    freq.put("sad", 301);
-    freq.put("zig", 34);
-    freq.put("Nob", 94);
-    freq.put("usu", 54);
-    freq.put("zue", 42);
-    freq.put("www", 33);
-    freq.put("chs", 57);
-    freq.put(" Wo", 64);
-    freq.put("lèb", 46);
-    freq.put("cht", 34);
-    freq.put("u ", 11198);
-    freq.put("grè", 379);
-    freq.put("fes", 159);
-    freq.put("aqu", 783);
-    freq.put(" Ch", 5083);
-    freq.put(" Ci", 363);
-    freq.put(" Co", 8732);
-    freq.put(" Cl", 308);
-    freq.put("ña ", 83);
-    freq.put("ns ", 18840);
-    freq.put("El ", 182);
-    freq.put(" Ku", 34);
-    freq.put("tpe", 89);
-    freq.put(" Ce", 1341);
-    freq.put("tru", 442);
-    freq.put(" Cy", 34);
-    freq.put("Flo", 96);
-    freq.put("chy", 52);
-    freq.put("Fla", 58);
-    freq.put("li ", 285);
-    freq.put("Fle", 34);
-    freq.put("sdi", 40);
-    freq.put("zan", 149);
-    freq.put(" Cu", 451);
-    freq.put("cic", 97);
-    freq.put("cia", 10773);
-    freq.put("àci", 89);
-    freq.put("uy", 130);
-    freq.put("ux", 736);
-    freq.put("cie", 257);
-    freq.put("uz", 292);
-    freq.put("uu", 58);
-    freq.put("ut", 17459);
-    freq.put("ix ", 164);
-    freq.put("uv", 664);
-    freq.put("uq", 94);
-    freq.put("up", 1000);
-    freq.put("us", 6376);
-    freq.put("ur", 8670);
-    freq.put("um", 2746);
-    freq.put("ul", 3291);
-    freq.put("uo", 67);
-    freq.put("un", 53503);
-    freq.put("ui", 3254);
-    freq.put("uh", 69);
-    freq.put("uk", 139);
-    freq.put("uj", 120);
-    freq.put("ue", 8192);
-    freq.put("ud", 2151);
-    freq.put("ug", 696);
-    freq.put("uf", 238);
-    freq.put("ua", 14347);
-    freq.put("agò", 49);
-    freq.put("uc", 2199);
-    freq.put("ub", 1611);
-    freq.put("tib", 55);
-    freq.put("stè", 439);
-    freq.put("Tu", 176);
-    freq.put("Tr", 463);
-    freq.put("Gua", 446);
-    freq.put("cer", 529);
-    freq.put("omé", 31);
-    freq.put("To", 1079);
-    freq.put(" uè", 111);
-    freq.put("sul", 239);
-    freq.put("Th", 334);
-    freq.put("Ti", 172);
-    freq.put("zal", 41);
-    freq.put("Te", 585);
-    freq.put("Ta", 497);
-    freq.put("ser", 718);
-    freq.put("A ", 387);
-    freq.put("Mas", 115);
-    freq.put("Mar", 4504);
-    freq.put("Mau", 178);
-    freq.put("Mat", 105);
-    freq.put("nad", 654);
-    freq.put("May", 312);
-    freq.put("Maz", 34);
-    freq.put("nan", 324);
-    freq.put("nal", 1008);
-    freq.put("eza", 51);
-    freq.put("nar", 625);
-    freq.put("nas", 1856);
-    freq.put("Mac", 70);
-    freq.put("gre", 199);
-    freq.put("nav", 163);
-    freq.put("Mad", 134);
-    freq.put("Mag", 113);
-    freq.put("gra", 1109);
-    freq.put("Mai", 517);
-    freq.put("gro", 467);
-    freq.put(" gl", 183);
-    freq.put("nay", 224);
-    freq.put("Mam", 38);
-    freq.put("Mal", 199);
-    freq.put("Man", 1280);
-    freq.put("rds", 48);
-    freq.put("Bea", 265);
-    freq.put("exp", 219);
-    freq.put("viu", 76);
-    freq.put("ovi", 498);
-    freq.put("pau", 617);
-    freq.put("rès", 346);
-    freq.put(" Cá", 222);
-    freq.put(" ci", 758);
-    freq.put("ly ", 307);
-    freq.put("lis", 706);
-    freq.put(" Cò", 758);
-    freq.put("ess", 1060);
-    freq.put("au", 18163);
-    freq.put("ién", 163);
-    freq.put("T ", 46);
-    freq.put("ago", 1035);
-    freq.put("agn", 273);
-    freq.put("Ac", 151);
-    freq.put("Ab", 275);
-    freq.put("e", 340651);
-    freq.put("Ad", 177);
-    freq.put("Ag", 179);
-    freq.put("Af", 124);
-    freq.put("Ai", 387);
-    freq.put("Ak", 33);
-    freq.put("agd", 35);
-    freq.put("uñ", 55);
-    freq.put("Al", 1470);
-    freq.put("aga", 278);
-    freq.put("uò", 230);
-    freq.put("uí", 160);
-    freq.put("Ap", 114);
-    freq.put("As", 329);
-    freq.put("Ar", 2944);
-    freq.put("ué", 272);
-    freq.put("uè", 3433);
-    freq.put("Av", 210);
-    freq.put("Ay", 47);
-    freq.put("sud", 330);
-    freq.put("uç", 37);
-    freq.put("ú", 377);
-    freq.put("agr", 128);
-    freq.put(" b", 2769);
-    freq.put(" c", 26150);
-    freq.put("gu", 4692);
-    freq.put(" a", 20335);
-    freq.put(" f", 20302);
-    freq.put(" g", 3696);
-    freq.put(" d", 128035);
-    freq.put(" e", 74626);
-    freq.put(" j", 1554);
-    freq.put(" k", 276);
-    freq.put(" h", 1311);
-    freq.put(" i", 4221);
-    freq.put(" n", 4452);
-    freq.put(" o", 6109);
-    freq.put(" l", 70509);
-    freq.put(" m", 14778);
-    freq.put(" r", 17109);
-    freq.put(" s", 24220);
-    freq.put(" p", 24466);
-    freq.put(" q", 7419);
-    freq.put(" v", 4031);
-    freq.put(" w", 103);
-    freq.put(" t", 6369);
-    freq.put(" u", 29822);
-    freq.put(" z", 221);
-    freq.put("gn", 1517);
-    freq.put("gm", 53);
-    freq.put(" y", 107);
-    freq.put("pul", 402);
-    freq.put("gj", 62);
-    freq.put("zò", 51);
-    freq.put("gh", 264);
-    freq.put(" B", 8728);
-    freq.put(" C", 26223);
-    freq.put(" A", 16998);
-    freq.put(" F", 5867);
-    freq.put(" G", 5090);
-    freq.put(" D", 2972);
-    freq.put(" E", 5050);
-    freq.put(" J", 2076);
-    freq.put(" K", 645);
-    freq.put(" H", 1616);
-    freq.put(" I", 3530);
-    freq.put(" N", 6685);
-    freq.put(" O", 2837);
-    freq.put(" L", 17188);
-    freq.put(" M", 13043);
-    freq.put(" R", 3841);
-    freq.put(" S", 13009);
-    freq.put(" P", 11133);
-    freq.put(" Q", 776);
-    freq.put(" V", 5668);
-    freq.put(" W", 420);
-    freq.put(" T", 3544);
-    freq.put(" U", 1425);
-    freq.put(" Z", 624);
-    freq.put("Nou", 33);
-    freq.put(" X", 617);
-    freq.put(" Y", 615);
-    freq.put("ν", 105);
-    freq.put("né ", 118);
-    freq.put("Nor", 1370);
-    freq.put("èga", 91);
-    freq.put(" Ru", 222);
-    freq.put("ed ", 108);
-    freq.put("esa", 12439);
-    freq.put("rti", 1588);
-    freq.put(" Fr", 3504);
-    freq.put("Peñ", 35);
-    freq.put("ât", 215);
-    freq.put("P", 11165);
-    freq.put("tue", 32);
-    freq.put("uge", 87);
-    freq.put("g ", 933);
-    freq.put("pun", 135);
-    freq.put("osp", 51);
-    freq.put("tif", 169);
-    freq.put(" Wi", 122);
-    freq.put("Azu", 146);
-    freq.put("oas", 227);
-    freq.put("tri", 841);
-    freq.put("hi ", 73);
-    freq.put("mp ", 110);
-    freq.put("ctò", 140);
-    freq.put("üis", 150);
-    freq.put("ש", 37);
-    freq.put("eva", 416);
-    freq.put("us ", 3269);
-    freq.put("tre", 3685);
-    freq.put("eve", 322);
-    freq.put("lil", 63);
-    freq.put("sé ", 88);
-    freq.put("esi", 933);
-    freq.put("car", 2377);
 
-    init2();
-  }
-  private static void init2() {
-    
-    freq.put("ry ", 376);
-    freq.put("evr", 36);
-    freq.put("tmo", 65);
-    freq.put("ctè", 54);
-    freq.put("rdè", 58);
-    freq.put("rro", 363);
-    freq.put("uel", 730);
-    freq.put(" à", 41);
-    freq.put("zo", 438);
-    freq.put("gó", 50);
-    freq.put(" ç", 120);
-    freq.put("rri", 934);
-    freq.put("ze", 345);
-    freq.put(" è", 1368);
-    freq.put("gü", 182);
-    freq.put("za", 1471);
-    freq.put("rra", 1439);
-    freq.put("ay ", 544);
-    freq.put(" ò", 636);
-    freq.put("odi", 144);
-    freq.put("Nov", 46);
-    freq.put("zy", 40);
-    freq.put("go", 4391);
-    freq.put("odo", 112);
-    freq.put("zt", 41);
-    freq.put("zu", 235);
-    freq.put("gí", 44);
-    freq.put("uev", 177);
-    freq.put("Bla", 136);
-    freq.put("ode", 247);
-    freq.put("gé", 84);
-    freq.put("gè", 321);
-    freq.put("ré ", 180);
-    freq.put(" Re", 1250);
-    freq.put(" À", 62);
-    freq.put(" Á", 282);
-    freq.put("oar", 69);
-    freq.put(" È", 147);
-    freq.put(" É", 350);
-    freq.put("fat", 54);
-    freq.put("cai", 180);
-    freq.put(" Í", 65);
-    freq.put(" Ò", 178);
-    freq.put("òf ", 65);
-    freq.put("rd ", 2373);
-    freq.put("Ori", 107);
-    freq.put("Org", 60);
-    freq.put("hèr", 111);
-    freq.put("ulo", 198);
-    freq.put("sur", 1268);
-    freq.put("èir", 236);
-    freq.put("èis", 174);
-    freq.put("èit", 68);
-    freq.put("cam", 535);
-    freq.put("lef", 320);
-    freq.put("èn ", 174);
-    freq.put("got", 33);
-    freq.put("lej", 66);
-    freq.put("ulm", 62);
-    freq.put("z ", 1178);
-    freq.put("òv", 172);
-    freq.put("len", 1812);
-    freq.put("leo", 174);
-    freq.put("fla", 57);
-    freq.put("ler", 447);
-    freq.put("les", 1438);
-    freq.put("èid", 208);
-    freq.put("leu", 150);
-    freq.put("lev", 145);
-    freq.put("cab", 139);
-    freq.put("od ", 36);
-    freq.put("ley", 82);
-    freq.put("lez", 32);
-    freq.put("èin", 1445);
-    freq.put("rdu", 68);
-    freq.put("ctu", 414);
-    freq.put("ula", 1192);
-    freq.put("zac", 281);
-    freq.put("nço", 150);
-    freq.put("ctr", 210);
-    freq.put("rdr", 152);
-    freq.put("té ", 67);
-    freq.put("rde", 1702);
-    freq.put("ulg", 53);
-    freq.put("gl", 1384);
-    freq.put("cte", 662);
-    freq.put("rda", 376);
-    freq.put("cta", 326);
-    freq.put("rós", 34);
-    freq.put("evò", 34);
-    freq.put("cto", 522);
-    freq.put("rdi", 1144);
-    freq.put("ies", 111);
-    freq.put("enj", 31);
-    freq.put(" Do", 994);
-    freq.put("xan", 43);
-    freq.put("Ver", 287);
-    freq.put("Ves", 57);
-    freq.put(" Di", 378);
-    freq.put("apr", 269);
-    freq.put("aps", 39);
-    freq.put(" De", 544);
-    freq.put("reï", 68);
-    freq.put("apt", 94);
-    freq.put("Veg", 58);
-    freq.put("ran", 20704);
-    freq.put("api", 494);
-    freq.put("apo", 205);
-    freq.put("apl", 111);
-    freq.put("tà ", 129);
-    freq.put("Ven", 245);
-    freq.put("Vel", 73);
-    freq.put("apa", 422);
-    freq.put("rui", 33);
-    freq.put(" Dr", 115);
-    freq.put("ape", 494);
-    freq.put("Hue", 88);
-    freq.put("Fr", 3513);
-    freq.put("feb", 188);
-    freq.put("Fu", 164);
-    freq.put("usa", 760);
-    freq.put("fen", 129);
-    freq.put(" vè", 267);
-    freq.put("fel", 65);
-    freq.put("ao ", 46);
-    freq.put("usi", 594);
-    freq.put("cho", 283);
-    freq.put("rao", 69);
-    freq.put("Fa", 304);
-    freq.put("siá", 154);
-    freq.put(" vò", 75);
-    freq.put("fer", 400);
-    freq.put("Fe", 417);
-    freq.put("Èst", 41);
-    freq.put("zin", 39);
-    freq.put("Fi", 248);
-    freq.put("siè", 118);
-    freq.put("Fl", 225);
-    freq.put("ipè", 85);
-    freq.put("Fo", 859);
-    freq.put("acc", 198);
-    freq.put("zh", 47);
-    freq.put("ba ", 845);
-    freq.put("Gue", 36);
-    freq.put("dà ", 47);
-    freq.put("ró ", 38);
-    freq.put("Gui", 192);
-    freq.put("ión", 56);
-    freq.put("aca", 479);
-    freq.put(" D ", 62);
-    freq.put("riá", 137);
-    freq.put("éon", 47);
-    freq.put("sra", 62);
-    freq.put("ièt", 38);
-    freq.put("tàn", 538);
-    freq.put("ap ", 418);
-    freq.put("px ", 989);
-    freq.put("òts", 39);
-    freq.put("zi", 309);
-    freq.put("ièj", 36);
-    freq.put("ace", 289);
-    freq.put("fe ", 83);
-    freq.put("f", 26504);
-    freq.put("ocu", 127);
-    freq.put("km ", 90);
-    freq.put("pac", 224);
-    freq.put("òi", 172);
-    freq.put("F ", 54);
-    freq.put("ack", 75);
-    freq.put("ièi", 40);
-    freq.put(" Ra", 403);
-    freq.put("zi ", 47);
-    freq.put("enn", 598);
-    freq.put(" Ro", 1090);
-    freq.put(" Ri", 415);
-    freq.put("aci", 3042);
-    freq.put("oz ", 201);
-    freq.put("tat", 10797);
-    freq.put("tau", 1207);
-    freq.put("tav", 88);
-    freq.put("ach", 359);
-    freq.put("tap", 36);
-    freq.put("ièl", 49);
-    freq.put(" Dé", 31);
-    freq.put("do", 3162);
-    freq.put("apò", 33);
-    freq.put("aco", 160);
-    freq.put("ièv", 165);
-    freq.put(" ca", 3857);
-    freq.put("tad", 415);
-    freq.put("apè", 48);
-    freq.put("tag", 139);
-    freq.put("eno", 505);
-    freq.put("tab", 209);
-    freq.put("tac", 389);
-    freq.put("tal", 3244);
-    freq.put("υ", 31);
-    freq.put("sed", 68);
-    freq.put(" ot", 52);
-    freq.put("afl", 61);
-    freq.put("sir", 74);
-    freq.put("Fò", 40);
-    freq.put("afo", 35);
-    freq.put(" ve", 821);
-    freq.put("afi", 279);
-    freq.put("Yo", 202);
-    freq.put("sit", 11914);
-    freq.put("Ya", 57);
-    freq.put("afe", 38);
-    freq.put("aff", 47);
-    freq.put("Ye", 40);
-    freq.put("afa", 71);
-    freq.put(" vo", 282);
-    freq.put("spe", 363);
-    freq.put("sic", 900);
-    freq.put("sib", 97);
-    freq.put("sia", 843);
-    freq.put(" vr", 95);
-    freq.put("sig", 475);
-    freq.put("sif", 195);
-    freq.put("sie", 199);
-    freq.put("sid", 718);
-    freq.put("Fé", 32);
-    freq.put("sio", 844);
-    freq.put("μ", 51);
-    freq.put("afr", 128);
-    freq.put("Yv", 230);
-    freq.put(" va", 817);
-    freq.put("ièr", 1974);
-    freq.put("omè", 146);
-    freq.put("acu", 66);
-    freq.put("vut", 38);
-    freq.put("Guè", 172);
-    freq.put("oha", 76);
-    freq.put("Q", 779);
-    freq.put("enq", 32);
-    freq.put("ián", 71);
-    freq.put("ta ", 7736);
-    freq.put("men", 16089);
-    freq.put(" çò", 111);
-    freq.put("oça", 43);
-    freq.put("siv", 72);
-    freq.put("tòm", 55);
-    freq.put("siu", 42);
-    freq.put("hia", 54);
-    freq.put("ר", 62);
-    freq.put("tòc", 57);
-    freq.put("tòb", 72);
-    freq.put("af ", 38);
-    freq.put("sén", 35);
-    freq.put(" vi", 1621);
-    freq.put("si ", 249);
-    freq.put("ché", 34);
-    freq.put(" Rí", 52);
-    freq.put("ng ", 480);
-    freq.put("ovo", 43);
-    freq.put("tòr", 520);
-    freq.put(" Ré", 65);
-    freq.put("our", 1107);
-    freq.put("VI ", 72);
-    freq.put("da ", 17099);
-    freq.put("úd", 42);
-    freq.put("ens", 1705);
-    freq.put("usc", 80);
-    freq.put("X", 619);
-    freq.put("rdo", 283);
-    freq.put("usè", 197);
-    freq.put("úr", 42);
-    freq.put("ús", 147);
-    freq.put("lf", 384);
-    freq.put("lg", 267);
-    freq.put("ld", 465);
-    freq.put("le", 11349);
-    freq.put("lb", 507);
-    freq.put("lc", 418);
-    freq.put("lèm", 46);
-    freq.put("la", 64495);
-    freq.put("ln", 77);
-    freq.put("ب", 65);
-    freq.put("ll", 7621);
-    freq.put("lm", 580);
-    freq.put("ви", 35);
-    freq.put("lk", 37);
-    freq.put("lh", 6205);
-    freq.put("li", 8982);
-    freq.put("lv", 337);
-    freq.put("age", 185);
-    freq.put("lt", 974);
-    freq.put("lu", 1636);
-    freq.put("ls", 3529);
-    freq.put("lp", 170);
-    freq.put("lq", 77);
-    freq.put("eut", 61);
-    freq.put("euv", 180);
-    freq.put("lz", 52);
-    freq.put("eus", 726);
-    freq.put("ly", 343);
-    freq.put("dad", 366);
-    freq.put("eme", 602);
-    freq.put("dag", 47);
-    freq.put("dab", 329);
-    freq.put("dac", 106);
-    freq.put("Cas", 3801);
-    freq.put("Car", 459);
-    freq.put("dan", 295);
-    freq.put("Cap", 125);
-    freq.put("ú ", 61);
-    freq.put("dai", 67);
-    freq.put("Cau", 103);
-    freq.put("Cat", 855);
-    freq.put("dat", 494);
-    freq.put("dau", 1780);
-    freq.put("dav", 65);
-    freq.put("ו", 70);
-    freq.put("Can", 349);
-    freq.put("Cam", 329);
-    freq.put("Cal", 1769);
-    freq.put("qué", 84);
-    freq.put("Cab", 114);
-    freq.put("quí", 101);
-    freq.put("Cad", 54);
-    freq.put("Pre", 155);
-    freq.put("Sai", 1800);
-    freq.put("nya", 64);
-    freq.put("Pra", 59);
-    freq.put("San", 1128);
-    freq.put("ç", 4161);
-    freq.put("Sal", 597);
-    freq.put("nfo", 133);
-    freq.put("Sab", 44);
-    freq.put("Pro", 538);
-    freq.put("nfl", 142);
-    freq.put("Pri", 152);
-    freq.put("eu ", 1779);
-    freq.put(" hu", 36);
-    freq.put("sin", 592);
-    freq.put("Pru", 39);
-    freq.put("Riv", 85);
-    freq.put(" hi", 122);
-    freq.put("cti", 564);
-    freq.put("bil", 276);
-    freq.put("sim", 270);
-    freq.put("Sas", 36);
-    freq.put("Sar", 711);
-    freq.put(" ha", 146);
-    freq.put("sil", 232);
-    freq.put("Índ", 55);
-    freq.put("Sav", 169);
-    freq.put("Sau", 150);
-    freq.put("oui", 144);
-    freq.put("lfa", 98);
-    freq.put("oun", 50);
-    freq.put("ec ", 130);
-    freq.put("ouc", 70);
-    freq.put("oub", 33);
-    freq.put("oua", 61);
-    freq.put("oug", 66);
-    freq.put("mas", 755);
-    freq.put("oue", 52);
-    freq.put("oud", 52);
-    freq.put("qu ", 2144);
-    freq.put("sne", 109);
-    freq.put("èja", 42);
-    freq.put("sob", 74);
-    freq.put("pam", 91);
-    freq.put("ogn", 76);
-    freq.put("oup", 71);
-    freq.put("bu ", 34);
-    freq.put("out", 124);
-    freq.put("rez", 58);
-    freq.put("cèa", 65);
-    freq.put("rey", 115);
-    freq.put("nça", 2485);
-    freq.put("là", 131);
-    freq.put("lá", 66);
-    freq.put("rer", 99);
-    freq.put("res", 3498);
-    freq.put("Tur", 86);
-    freq.put("lí", 262);
-    freq.put("cèl", 94);
-    freq.put("bad", 157);
-    freq.put("lè", 1085);
-    freq.put("lé", 982);
-    freq.put("cèp", 35);
-    freq.put("òga", 42);
-    freq.put("cèr", 92);
-    freq.put("cès", 120);
-    freq.put("lò", 453);
-    freq.put("ló", 219);
-    freq.put("rel", 436);
-    freq.put("rem", 808);
-    freq.put("reb", 92);
-    freq.put("bab", 70);
-    freq.put("rea", 679);
-    freq.put("ref", 249);
-    freq.put("reg", 12963);
-    freq.put("red", 360);
-    freq.put("emp", 977);
-    freq.put("lob", 71);
-    freq.put("ece", 546);
-    freq.put("maz", 45);
-    freq.put("ecc", 170);
-    freq.put("lf ", 41);
-    freq.put("eca", 199);
-    freq.put("loc", 224);
-    freq.put("eco", 400);
-    freq.put("ixa", 36);
-    freq.put("Cañ", 38);
-    freq.put("ecl", 66);
-    freq.put("eci", 362);
-    freq.put("ech", 315);
-    freq.put("qua", 659);
-    freq.put("nue", 142);
-    freq.put("ecu", 259);
-    freq.put("ect", 627);
-    freq.put("que", 5394);
-    freq.put("ecr", 65);
-    freq.put("ie ", 352);
-    freq.put("qui", 1666);
-    freq.put("onè", 61);
-    freq.put("lòn", 130);
-    freq.put("rfi", 84);
-    freq.put("igò", 79);
-    freq.put("oni", 816);
-    freq.put("rci", 299);
-    freq.put("sèr", 181);
-    freq.put("cri", 973);
-    freq.put("nç ", 45);
-    freq.put("her", 294);
-    freq.put("g", 41848);
-    freq.put(" Òr", 34);
-    freq.put("pig", 39);
-    freq.put("baj", 35);
-    freq.put("tme", 37);
-    freq.put("hes", 193);
-    freq.put("Pré", 52);
-    freq.put("Prè", 103);
-    freq.put("ña", 186);
-    freq.put("lta", 176);
-    freq.put(" hè", 89);
-    freq.put("ñe", 45);
-    freq.put("lte", 81);
-    freq.put("òtl", 89);
-    freq.put(" Òl", 35);
-    freq.put("Ess", 191);
-    freq.put("lto", 61);
-    freq.put("ü", 424);
-    freq.put("ño", 92);
-    freq.put("mad", 811);
-    freq.put(" Be", 1319);
-    freq.put("hòl", 5299);
-    freq.put("mos", 442);
-    freq.put("uli", 230);
-    freq.put("arq", 218);
-    freq.put("òu ", 222);
-    freq.put("arí", 372);
-    freq.put("seu", 151);
-    freq.put("esb", 31);
-    freq.put("ud ", 613);
-    freq.put("cy ", 129);
-    freq.put("éni", 52);
-    freq.put("lph", 35);
-    freq.put("éne", 53);
-    freq.put("às ", 121);
-    freq.put("Paí", 663);
-    freq.put("Paï", 1072);
-    freq.put("mes", 773);
-    freq.put("has", 370);
-    freq.put("pir", 145);
-    freq.put(" Sy", 38);
-    freq.put("arv", 51);
-    freq.put("be ", 172);
-    freq.put("nda", 1729);
-    freq.put(" St", 174);
-    freq.put(" Su", 491);
-    freq.put("oge", 122);
-    freq.put("clo", 65);
-    freq.put(" Sh", 134);
-    freq.put("èca", 62);
-    freq.put(" So", 1846);
-    freq.put(" Bl", 209);
-    freq.put(" Sc", 111);
-    freq.put("λ", 69);
-    freq.put(" Sa", 5152);
-    freq.put(" Bo", 2332);
-    freq.put("mer", 875);
-    freq.put(" Se", 1566);
-    freq.put("udr", 45);
-    freq.put("ght", 173);
-    freq.put("Ka", 217);
-    freq.put("rso", 307);
-    freq.put("rsi", 243);
-    freq.put("Ke", 78);
-    freq.put("òta", 136);
-    freq.put("rté", 35);
-    freq.put("Ki", 89);
-    freq.put("Kh", 65);
-    freq.put("Ko", 63);
-    freq.put("dén", 113);
-    freq.put("nus", 104);
-    freq.put("ogl", 40);
-    freq.put("ogo", 42);
-    freq.put("R", 3854);
-    freq.put("ogi", 572);
-    freq.put("sey", 84);
-    freq.put("Ku", 34);
-    freq.put("rce", 480);
-    freq.put(" Fl", 225);
-    freq.put("vòi", 119);
-    freq.put("udi", 376);
-    freq.put("én ", 75);
-    freq.put("hen", 311);
-    freq.put("vòl", 42);
-    freq.put("vie", 240);
-    freq.put("seg", 572);
-    freq.put("bei", 83);
-    freq.put("ben", 936);
-    freq.put("bel", 206);
-    freq.put("nou", 60);
-    freq.put("lea", 222);
-    freq.put("bea", 74);
-    freq.put("urè", 120);
-    freq.put("bez", 32);
-    freq.put("arc", 1096);
-    freq.put("zòn", 41);
-    freq.put("aSe", 109);
-    freq.put("ber", 668);
-    freq.put("bes", 62);
-    freq.put(" S ", 69);
-    freq.put("bet", 118);
-    freq.put("Par", 614);
-    freq.put("Edi", 57);
-    freq.put("Pat", 91);
-    freq.put("Pau", 152);
-    freq.put("nqu", 236);
-    freq.put("leb", 45);
-    freq.put("ràr", 37);
-    freq.put(" Br", 816);
-    freq.put(" E ", 38);
-    freq.put("urm", 150);
-    freq.put("lin", 1024);
-    freq.put(" I ", 98);
-    freq.put("tòn", 67);
-    freq.put("Pac", 49);
-    freq.put(" ip", 36);
-    freq.put("Pai", 37);
-    freq.put("Pal", 467);
-    freq.put("sem", 405);
-    freq.put("Pan", 55);
-    freq.put("iba", 224);
-    freq.put("sk", 198);
-    freq.put("sel", 301);
-    freq.put("ur ", 2101);
-    freq.put("ck ", 190);
-    freq.put(" Ke", 78);
-    freq.put("min", 2212);
-    freq.put("ة", 31);
-    freq.put("mic", 461);
-    freq.put("jue", 34);
-    freq.put("mie", 243);
-    freq.put("mid", 73);
-    freq.put("mig", 71);
-    freq.put("arm", 345);
-    freq.put("Dep", 33);
-    freq.put(" Sè", 1481);
-    freq.put(" Sé", 33);
-    freq.put("sei", 157);
-    freq.put("bus", 64);
-    freq.put("mis", 322);
-    freq.put("mir", 73);
-    freq.put("Ois", 367);
-    freq.put("mit", 342);
-    freq.put("bic", 33);
-    freq.put(" El", 289);
-    freq.put(" Em", 253);
-    freq.put(" En", 522);
-    freq.put("led", 339);
-    freq.put(" Ei", 47);
-    freq.put("onf", 199);
-    freq.put(" Ed", 223);
-    freq.put("sa ", 15225);
-    freq.put(" Eg", 112);
-    freq.put(" Ea", 31);
-    freq.put(" Ec", 35);
-    freq.put("sfo", 55);
-    freq.put("Ò", 180);
-    freq.put(" Ex", 438);
-    freq.put("ה", 54);
-    freq.put("Các", 217);
-    freq.put(" Eu", 683);
-    freq.put(" Ev", 32);
-    freq.put("Lhè", 206);
-    freq.put("ny ", 511);
-    freq.put("awa", 51);
-    freq.put(" Es", 1877);
-    freq.put("urd", 45);
-    freq.put("ure", 697);
-    freq.put("òva", 147);
-    freq.put("urg", 550);
-    freq.put("Poz", 36);
-    freq.put("mus", 468);
-    freq.put("urb", 74);
-    freq.put("urc", 150);
-    freq.put(" ès", 432);
-    freq.put(" èr", 904);
-    freq.put("Pot", 34);
-    freq.put("Pou", 45);
-    freq.put("Por", 113);
-    freq.put("uri", 434);
-    freq.put("Pop", 52);
-    freq.put("Pon", 211);
-    freq.put(" is", 450);
-    freq.put("Pol", 117);
-    freq.put("Pom", 35);
-    freq.put("urr", 77);
-    freq.put("Poi", 59);
-    freq.put("hn", 115);
-    freq.put("bia", 272);
-    freq.put("dés", 140);
-    freq.put("Pob", 32);
-    freq.put("ury", 47);
-    freq.put("ho", 1657);
-    freq.put("Pò", 59);
-    freq.put("imò", 42);
-    freq.put("Den", 137);
-    freq.put("Cha", 4262);
-    freq.put("ebè", 83);
-    freq.put("uet", 241);
-    freq.put("agu", 233);
-    freq.put("vio", 214);
-    freq.put("ïna", 134);
-    freq.put("ibe", 206);
-    freq.put("Pè", 158);
-    freq.put("Pé", 45);
-    freq.put("leg", 344);
-    freq.put("eda", 247);
-    freq.put("nge", 385);
-    freq.put("luò", 109);
-    freq.put("ear", 357);
-    freq.put("jaz", 36);
-    freq.put("nga", 1026);
-    freq.put("ndé", 178);
-    freq.put("co ", 260);
-    freq.put("Mos", 740);
-    freq.put("Mor", 239);
-    freq.put("jat", 104);
-    freq.put("jau", 40);
-    freq.put("jar", 428);
-    freq.put("jas", 58);
-    freq.put("Mou", 100);
-    freq.put("Mot", 31);
-    freq.put("jan", 275);
-    freq.put("q ", 57);
-    freq.put("Moi", 33);
-    freq.put("jam", 49);
-    freq.put(" il", 253);
-    freq.put("Mon", 1073);
-    freq.put(" in", 1848);
-    freq.put("Mol", 89);
-    freq.put("ièg", 63);
-    freq.put("lué", 48);
-    freq.put("jad", 95);
-    freq.put("èl ", 470);
-    freq.put(" id", 209);
-    freq.put("jac", 33);
-    freq.put("oto", 153);
-    freq.put("ttp", 36);
-    freq.put("no ", 349);
-    freq.put("act", 1069);
-    freq.put("ב", 54);
-    freq.put("ude", 167);
-    freq.put("tèx", 70);
-    freq.put("ush", 41);
-    freq.put("tbo", 36);
-    freq.put("Rus", 86);
-    freq.put("plè", 50);
-    freq.put("etò", 37);
-    freq.put("liu", 67);
-    freq.put("aer", 44);
-    freq.put("qu", 10408);
-    freq.put("shu", 87);
-    freq.put("eü", 56);
-    freq.put("h", 34409);
-    freq.put("ïse", 1125);
-    freq.put("xpr", 72);
-    freq.put("ire", 1967);
-    freq.put(" ww", 33);
-    freq.put("Om", 39);
-    freq.put("she", 113);
-    freq.put(" i ", 274);
-    freq.put("shi", 90);
-    freq.put("etè", 51);
-    freq.put("ael", 90);
-    freq.put("ja ", 295);
-    freq.put("sho", 31);
-    freq.put("Pr", 1142);
-    freq.put("ebe", 80);
-    freq.put("eba", 323);
-    freq.put("Pu", 308);
-    freq.put("ebl", 73);
-    freq.put("RN ", 35);
-    freq.put("C", 26556);
-    freq.put("ke ", 49);
-    freq.put("bte", 45);
-    freq.put("ebu", 105);
-    freq.put("Pa", 4962);
-    freq.put("ebr", 396);
-    freq.put("Pe", 1715);
-    freq.put("ede", 399);
-    freq.put("Ph", 72);
-    freq.put("Pi", 1465);
-    freq.put("Po", 801);
-    freq.put("Pl", 290);
-    freq.put("efi", 168);
-    freq.put("lus", 308);
-    freq.put("lut", 96);
-    freq.put("dè", 588);
-    freq.put("ا", 145);
-    freq.put("ve ", 228);
-    freq.put("udè", 38);
-    freq.put("Jac", 87);
-    freq.put("et ", 1561);
-    freq.put("luc", 226);
-    freq.put("lue", 137);
-    freq.put("lug", 46);
-    freq.put("ngü", 157);
-    freq.put("л", 71);
-    freq.put("òia", 135);
-    freq.put("lul", 108);
-    freq.put("omi", 487);
-    freq.put("rpi", 52);
-    freq.put("jor", 324);
-    freq.put("jos", 193);
-    freq.put("eb ", 35);
-    freq.put("jou", 31);
-    freq.put("eul", 91);
-    freq.put("omo", 169);
-    freq.put("joz", 159);
-    freq.put("tbò", 91);
-    freq.put(" ab", 827);
-    freq.put("P ", 87);
-    freq.put("eun", 58);
-    freq.put("dà", 76);
-    freq.put("vre", 285);
-    freq.put("jog", 161);
-    freq.put("tja", 83);
-    freq.put("eui", 177);
-    freq.put("vri", 114);
-    freq.put("jol", 66);
-    freq.put("ker", 46);
-    freq.put("jon", 76);
-    freq.put("etr", 292);
-    freq.put("ets", 107);
-    freq.put("Zam", 262);
-    freq.put("lly", 256);
-    freq.put("ett", 176);
-    freq.put("etz", 98);
-    freq.put("è", 22524);
-    freq.put("llu", 198);
-    freq.put("qü", 53);
-    freq.put("sov", 173);
-    freq.put("tla", 116);
-    freq.put("cèt", 34);
-    freq.put("tle", 119);
-    freq.put("lo", 24747);
-    freq.put("ws", 32);
-    freq.put("eth", 356);
-    freq.put("eti", 560);
-    freq.put("ah ", 60);
-    freq.put("Río", 52);
-    freq.put("uts", 188);
-    freq.put("ck", 262);
-    freq.put("丁", 40);
-    freq.put("ci", 25301);
-    freq.put("ch", 4257);
-    freq.put("co", 20921);
-    freq.put("cn", 112);
-    freq.put("cm", 45);
-    freq.put("cl", 1419);
-    freq.put("cc", 2198);
-    freq.put("vé", 46);
-    freq.put("ca", 15231);
-    freq.put("Loi", 668);
-    freq.put("Lon", 141);
-    freq.put("ví", 6236);
-    freq.put("ce", 15428);
-    freq.put("Lom", 35);
-    freq.put("Lor", 1001);
-    freq.put("Los", 499);
-    freq.put("cy", 140);
-    freq.put("Est", 573);
-    freq.put("avè", 92);
-    freq.put("euc", 67);
-    freq.put("rém", 37);
-    freq.put("Lou", 141);
-    freq.put("cs", 706);
-    freq.put("cr", 1980);
-    freq.put("Hen", 70);
-    freq.put(" ao", 55);
-    freq.put("òrs", 114);
-    freq.put("Hei", 34);
-    freq.put("cu", 1783);
-    freq.put("ct", 2935);
-    freq.put("Ger", 183);
-    freq.put("vit", 274);
-    freq.put("Jua", 87);
-    freq.put("uò ", 46);
-    freq.put("rve", 88);
-    freq.put("Jud", 34);
-    freq.put("ock", 82);
-    freq.put("tí ", 44);
-    freq.put("Esp", 290);
-    freq.put("Jun", 41);
-    freq.put("Jul", 86);
-    freq.put("uza", 43);
-    freq.put("Jur", 77);
-    freq.put("ai", 8692);
-    freq.put("yan", 46);
-    freq.put("fog", 1553);
-    freq.put("pia", 154);
-    freq.put("Òlt", 34);
-    freq.put("més", 43);
-    freq.put("Geo", 122);
-    freq.put("Gen", 758);
-    freq.put("ο", 154);
-    freq.put(" au", 1936);
-    freq.put("oth", 41);
-    freq.put("oti", 172);
-    freq.put("Lo ", 1955);
-    freq.put("pic", 856);
-    freq.put("bit", 374);
-    freq.put("tua", 11598);
-    freq.put("svo", 139);
-    freq.put("cop", 78);
-    freq.put("òs ", 128);
-    freq.put("otb", 102);
-    freq.put("c ", 4328);
-    freq.put("edo", 391);
-    freq.put("ote", 367);
-    freq.put("ànd", 53);
-    freq.put("psi", 63);
-    freq.put("cor", 589);
-    freq.put("pis", 85);
-    freq.put(" ir", 75);
-    freq.put(" io", 36);
-    freq.put("otr", 101);
-    freq.put("bjè", 95);
-    freq.put("ott", 136);
-    freq.put("otu", 32);
-    freq.put("cot", 69);
-    freq.put("And", 616);
-    freq.put("Ang", 191);
-    freq.put("Ana", 38);
-    freq.put("Anc", 68);
-    freq.put("é", 9018);
-    freq.put("Ann", 51);
-    freq.put("ila", 1315);
-    freq.put("rbr", 88);
-    freq.put("Ant", 320);
-    freq.put("ncé", 1741);
-    freq.put("ar", 36541);
-    freq.put("òda", 31);
-    freq.put("rbi", 121);
-    freq.put("Ans", 37);
-    freq.put("Esc", 190);
-    freq.put("rbe", 122);
-    freq.put("eur", 924);
-    freq.put("òdi", 38);
-    freq.put("ya ", 133);
-    freq.put("rba", 182);
-    freq.put("uit", 469);
-    freq.put("bir", 37);
-    freq.put("va", 4199);
-    freq.put("cé", 1850);
-    freq.put("cè", 540);
-    freq.put(" Fu", 164);
-    freq.put("ve", 4046);
-    freq.put("cí", 78);
-    freq.put("dae", 90);
-    freq.put("òrç", 321);
-    freq.put("vi", 5436);
-    freq.put("cà", 32);
-    freq.put("vo", 954);
-    freq.put(" Fa", 304);
-    freq.put("vr", 509);
-    freq.put("avo", 120);
-    freq.put(" Fe", 415);
-    freq.put("vu", 100);
-    freq.put("có", 42);
-    freq.put("vy", 41);
-    freq.put(" mè", 174);
-    freq.put("Yor", 53);
-    freq.put(" Fo", 856);
-    freq.put("io ", 318);
-    freq.put("coa", 121);
-    freq.put("of ", 115);
-    freq.put("vC", 99);
-    freq.put("tas", 1672);
-    freq.put("edr", 227);
-    freq.put("mès", 88);
-    freq.put("vo ", 47);
-    freq.put("ues", 739);
-    freq.put("émo", 43);
-    freq.put("dal", 889);
-    freq.put("utu", 45);
-    freq.put("dam", 209);
-    freq.put("und", 71);
-    freq.put("uls", 70);
-    freq.put("òpa", 179);
-    freq.put("uqu", 89);
-    freq.put("avC", 97);
-    freq.put("v ", 91);
-    freq.put("opt", 66);
-    freq.put("phi", 40);
-    freq.put("nog", 43);
-    freq.put("ngo", 207);
-    freq.put(" ap", 833);
-    freq.put("Lam", 57);
-    freq.put("iot", 61);
-    freq.put("ios", 152);
-    freq.put("Lan", 163);
-    freq.put("phe", 46);
-    freq.put("iop", 31);
-    freq.put("א", 44);
-    freq.put("vac", 73);
-    freq.put("iol", 384);
-    freq.put("daj", 163);
-    freq.put("oac", 69);
-    freq.put("iod", 52);
-    freq.put("von", 85);
-    freq.put("sas", 573);
-    freq.put("Sa ", 241);
-    freq.put("ont", 2769);
-    freq.put("off", 36);
-    freq.put("ofe", 143);
-    freq.put("i", 194727);
-    freq.put(" Po", 797);
-    freq.put(" Tu", 175);
-    freq.put("ofi", 264);
-    freq.put(" Tr", 461);
-    freq.put(" To", 1076);
-    freq.put("odò", 31);
-    freq.put("Àus", 39);
-    freq.put(" Ti", 171);
-    freq.put(" Th", 332);
-    freq.put("dap", 33);
-    freq.put(" Te", 584);
-    freq.put("ís ", 1752);
-    freq.put(" Ta", 494);
-    freq.put("hol", 32);
-    freq.put("onu", 85);
-    freq.put("isu", 31);
-    freq.put("dar", 309);
-    freq.put("xec", 36);
-    freq.put("xem", 95);
-    freq.put("das", 1278);
-    freq.put(" ie", 42);
-    freq.put("tch", 46);
-    freq.put("què", 290);
-    freq.put(" Va", 2554);
-    freq.put(" Us", 40);
-    freq.put("toi", 84);
-    freq.put("ist", 4477);
-    freq.put("Be", 1324);
-    freq.put("çon", 147);
-    freq.put("çoi", 45);
-    freq.put("Ba", 2497);
-    freq.put("Bl", 210);
-    freq.put("kka", 36);
-    freq.put("Bo", 2332);
-    freq.put("Fav", 32);
-    freq.put("Bi", 360);
-    freq.put("gme", 31);
-    freq.put("Bu", 902);
-    freq.put("ger", 2530);
-    freq.put("ade", 345);
-    freq.put("ska", 59);
-    freq.put("Br", 820);
-    freq.put("ada", 16185);
-    freq.put("Fab", 32);
-    freq.put("ado", 766);
-    freq.put("és ", 2938);
-    freq.put("ski", 53);
-    freq.put("adi", 609);
-    freq.put(" mo", 1341);
-    freq.put("xe ", 70);
-    freq.put(" ا", 64);
-    freq.put("Sòn", 1097);
-    freq.put("nfe", 126);
-    freq.put("nve", 154);
-    freq.put("ein", 375);
-    freq.put("T", 3558);
-    freq.put("nva", 48);
-    freq.put("Lau", 107);
-    freq.put("ucr", 52);
-    freq.put("ofò", 60);
-    freq.put("nvi", 358);
-    freq.put("eïc", 48);
-    freq.put("ndè", 105);
-    freq.put("B ", 57);
-    freq.put("l ", 17362);
-    freq.put(" mu", 6340);
-    freq.put("eïn", 78);
-    freq.put(" jò", 68);
-    freq.put("eïs", 76);
-    freq.put("igi", 592);
-    freq.put("ad ", 272);
-    freq.put(" hr", 37);
-    freq.put("Las", 338);
-    freq.put("ío ", 79);
-    freq.put("nja", 96);
-    freq.put("Sud", 147);
-    freq.put("Suc", 74);
-    freq.put("ui ", 623);
-    freq.put("Sul", 43);
-    freq.put("njo", 46);
-    freq.put("ugè", 38);
-    freq.put("lhè", 137);
-    freq.put("Sur", 31);
-    freq.put("Sup", 47);
-    freq.put("tum", 42);
-    freq.put("su ", 52);
-    freq.put("esv", 172);
-    freq.put("esu", 130);
-    freq.put("est", 2789);
-    freq.put("adò", 116);
-    freq.put("adó", 32);
-    freq.put("esq", 126);
-    freq.put("esp", 6442);
-    freq.put("nd ", 926);
-    freq.put("Bè", 54);
-    freq.put("Bé", 92);
-    freq.put("esf", 47);
-    freq.put("ese", 551);
-    freq.put("esc", 1470);
-    freq.put("iso", 194);
-    freq.put("adà", 32);
-    freq.put("òse", 218);
-    freq.put("eso", 166);
-    freq.put(" ho", 671);
-    freq.put("esm", 63);
-    freq.put("esl", 101);
-    freq.put("adè", 69);
-    freq.put("adé", 38);
-    freq.put("pòd", 90);
-    freq.put("rth", 1093);
-    freq.put(" mò", 365);
-    freq.put("dui", 41);
-    freq.put("之", 63);
-    freq.put("Us", 41);
-    freq.put("Ur", 185);
-    freq.put("Un", 897);
-    freq.put("hât", 178);
-    freq.put("Ua", 50);
-    freq.put("Uc", 49);
-    freq.put("ndi", 1982);
-    freq.put("òt ", 294);
-    freq.put("Sch", 36);
-    freq.put("ndo", 343);
-    freq.put(" ju", 696);
-    freq.put("nde", 828);
-    freq.put("ism", 485);
-    freq.put(" jo", 559);
-    freq.put(" he", 137);
-    freq.put("es ", 31565);
-    freq.put("rug", 57);
-    freq.put("nds", 109);
-    freq.put("ndr", 704);
-    freq.put(" ja", 204);
-    freq.put("lén", 503);
-    freq.put("fèr", 217);
-    freq.put("rén", 131);
-    freq.put("ngt", 51);
-    freq.put("ea ", 141);
-    freq.put("èus", 211);
-    freq.put("èls", 85);
-    freq.put("à ", 442);
-    freq.put("inò", 39);
-    freq.put("òst", 787);
-    freq.put("inè", 243);
-    freq.put("iné", 126);
-    freq.put("èlh", 111);
-    freq.put("De ", 40);
-    freq.put("h ", 2760);
-    freq.put("ton", 6231);
-    freq.put("inà", 46);
-    freq.put("èla", 886);
-    freq.put("vai", 91);
-    freq.put("van", 792);
-    freq.put("ek", 59);
-    freq.put(" Àu", 39);
-    freq.put("vam", 96);
-    freq.put("Ama", 103);
-    freq.put("rcu", 86);
-    freq.put("Amb", 59);
-    freq.put("Ame", 208);
-    freq.put("ía ", 174);
-    freq.put("ubi", 168);
-    freq.put("rcl", 32);
-    freq.put("rco", 159);
-    freq.put("rch", 249);
-    freq.put("tg", 719);
-    freq.put("var", 695);
-    freq.put("ègi", 40);
-    freq.put("sec", 142);
-    freq.put("rca", 491);
-    freq.put("vat", 242);
-    freq.put("vau", 117);
-    freq.put("uns", 57);
-    freq.put("mèn", 60);
-    freq.put("pèi", 45);
-    freq.put("hy", 99);
-    freq.put("eal", 365);
-    freq.put("ean", 444);
-    freq.put("hr", 164);
-    freq.put("hs", 203);
-    freq.put("eac", 88);
-    freq.put("Des", 71);
-    freq.put("eae", 64);
-    freq.put("ead", 130);
-    freq.put("ht", 280);
-    freq.put("hu", 1439);
-    freq.put("hi", 1453);
-    freq.put("Del", 52);
-    freq.put("Dem", 71);
-    freq.put("hl", 41);
-    freq.put("hm", 48);
-    freq.put("pès", 32);
-    freq.put("buc", 46);
-    freq.put("eas", 42);
-    freq.put("ha", 16414);
-    freq.put("eau", 479);
-    freq.put("eat", 295);
-    freq.put("pèu", 66);
-    freq.put("he", 3132);
-    freq.put("dus", 190);
-    freq.put("Tel", 33);
-    freq.put("Tem", 31);
-    freq.put("Ten", 76);
-    freq.put("ped", 70);
-    freq.put("dmi", 1464);
-    freq.put("va ", 1071);
-    freq.put("j", 4255);
-    freq.put("lve", 75);
-    freq.put("oux", 98);
-    freq.put("lva", 170);
-    freq.put("Ter", 306);
-    freq.put("rc ", 153);
-    freq.put("Os", 103);
-    freq.put("oco", 62);
-    freq.put("ê", 113);
-    freq.put("pil", 87);
-    freq.put("iny", 56);
-    freq.put("pin", 312);
-    freq.put("pio", 85);
-    freq.put("int", 2732);
-    freq.put("inu", 98);
-    freq.put("inv", 225);
-    freq.put("Jaé", 40);
-    freq.put("bòs", 41);
-    freq.put("inq", 33);
-    freq.put("rud", 44);
-    freq.put("ins", 15758);
-    freq.put("bòn", 46);
-    freq.put("inn", 68);
-    freq.put("ino", 371);
-    freq.put("inh", 394);
-    freq.put("ini", 2169);
-    freq.put("Rí", 52);
-    freq.put("ind", 481);
-    freq.put("ine", 1443);
-    freq.put("inf", 288);
-    freq.put("ing", 609);
-    freq.put("pit", 463);
-    freq.put("ina", 3800);
-    freq.put("inc", 894);
-    freq.put("hn ", 83);
-    freq.put("eo ", 54);
-    freq.put("sy ", 168);
-    freq.put("í ", 288);
-    freq.put("eor", 233);
-    freq.put("urt", 1224);
-    freq.put("oan", 235);
-    freq.put("oal", 65);
-    freq.put(" Ur", 185);
-    freq.put("ep", 13680);
-    freq.put(" Un", 888);
-    freq.put("eop", 33);
-    freq.put("nhe", 124);
-    freq.put("Afr", 99);
-    freq.put("gís", 34);
-    freq.put("scl", 88);
-    freq.put("н", 103);
-    freq.put(" Ua", 42);
-    freq.put(" Uc", 49);
-    freq.put("tam", 12646);
-    freq.put("Aca", 46);
-    freq.put("rqu", 389);
-    freq.put("uan", 326);
-    freq.put("ubr", 160);
-    freq.put("ubs", 103);
-    freq.put("hò", 5421);
-    freq.put("hó", 50);
-    freq.put("òsa", 229);
-    freq.put("gar", 372);
-    freq.put("ube", 177);
-    freq.put("hè", 603);
-    freq.put("hé", 142);
-    freq.put("U", 1448);
-    freq.put("log", 621);
-    freq.put("uga", 118);
-    freq.put("hâ", 185);
-    freq.put("my ", 58);
-    freq.put("in ", 2401);
-    freq.put(" gu", 212);
-    freq.put("tan", 3260);
-    freq.put("ave", 403);
-    freq.put("ncè", 124);
-    freq.put("mèl", 32);
-    freq.put("ía", 198);
-    freq.put("íc", 315);
-    freq.put("oa ", 393);
-    freq.put("íl", 37);
-    freq.put("ío", 86);
-    freq.put("ín", 6375);
-    freq.put("eon", 2593);
-    freq.put("eom", 34);
-    freq.put("eol", 199);
-    freq.put("eos", 48);
-    freq.put("ít", 77);
-    freq.put("ív", 42);
-    freq.put("ltu", 199);
-    freq.put("ís", 1817);
-    freq.put("eot", 32);
-    freq.put("mèt", 179);
-    freq.put(" gr", 1490);
-    freq.put("mèr", 258);
-    freq.put("rep", 412);
-    freq.put("Oès", 36);
-  }
-  
 }
-
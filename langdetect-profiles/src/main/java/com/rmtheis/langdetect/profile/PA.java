@@ -1,2347 +1,15 @@
 package com.rmtheis.langdetect.profile;
 
-import java.util.HashMap;
-
 import com.cybozu.labs.langdetect.util.LangProfile;
-import com.cybozu.labs.langdetect.util.NGram;
 
 public class PA {
   private static final String name = "pa";
-  private static final HashMap<String, Integer> freq = new HashMap<String, Integer>();
-  private static final int[] n_words = new int[NGram.N_GRAM];
 
   public PA() {
-    init();  
   }
 
   public final LangProfile getLangProfile() {
-    return new LangProfile(name, freq, n_words);
+    return Profiles.load(name);
   }
-  
-  private void init() {
-    n_words[0] = 112478;
-    n_words[1] = 136533;
-    n_words[2] = 89577;
 
-    freq.put("ਜ਼ਿ", 88);
-    freq.put("ਜ਼ਾ", 33);
-    freq.put("ੱਗ", 23);
-    freq.put("ੱਖ", 185);
-    freq.put("ੱਛ", 18);
-    freq.put("ਹਾ", 329);
-    freq.put("ੱਜ", 30);
-    freq.put("ੱਟ", 28);
-    freq.put("ਜ਼ਮ", 12);
-    freq.put("ੈ। ", 755);
-    freq.put("਼੍ਰ", 22);
-    freq.put("ੱਕ", 286);
-    freq.put("ਜ", 2041);
-    freq.put("ਬਰਾ", 15);
-    freq.put("ੱਲ", 52);
-    freq.put("ੱਸ", 22);
-    freq.put("ੱਡ", 45);
-    freq.put("ੱਠ", 21);
-    freq.put("ੱਢ", 13);
-    freq.put("ੱਥ", 25);
-    freq.put("ੱਤ", 172);
-    freq.put("ੱਧ", 49);
-    freq.put("ੱਦ", 25);
-    freq.put("ਰਚ ", 44);
-    freq.put(" ੩੦", 25);
-    freq.put(" ੩੧", 16);
-    freq.put("ੱਚ", 879);
-    freq.put("ਆਨ ", 22);
-    freq.put("ੜ", 191);
-    freq.put("ਹੀ ", 112);
-    freq.put("ਜਰ", 27);
-    freq.put("ਘ ", 72);
-    freq.put("ਨਾ ", 113);
-    freq.put("ਜ਼ੀ", 72);
-    freq.put(" ਰੱ", 19);
-    freq.put("ਇ", 2053);
-    freq.put("ਨੀ ", 107);
-    freq.put("ਣਿ", 62);
-    freq.put("ਣਾ", 137);
-    freq.put("ਏਫ ", 13);
-    freq.put("ਉੱ", 56);
-    freq.put("੧੫", 17);
-    freq.put("ਿਸ ", 72);
-    freq.put("੯ ", 52);
-    freq.put(" ਰੂ", 37);
-    freq.put(" ਰੁ", 23);
-    freq.put(" ਰੇ", 12);
-    freq.put(" ਰੋ", 38);
-    freq.put("ਣਕ", 72);
-    freq.put("ੇ", 3761);
-    freq.put(" ਰਹ", 56);
-    freq.put(" ਰਸ", 75);
-    freq.put(" ਰਿ", 33);
-    freq.put(" ਰਾ", 142);
-    freq.put("mer", 15);
-    freq.put("ਈਡਰ", 15);
-    freq.put("ਉਂ", 46);
-    freq.put("ਉਹ", 56);
-    freq.put("ਉਸ", 76);
-    freq.put("ਫ ", 31);
-    freq.put(" ਰਚ", 14);
-    freq.put("k", 37);
-    freq.put("ਣੀ", 85);
-    freq.put("ਣੇ", 53);
-    freq.put("ne ", 14);
-    freq.put("ਉਨ", 51);
-    freq.put("ਉਪ", 26);
-    freq.put("ਉਣ", 28);
-    freq.put("ਉਤ", 19);
-    freq.put("ਉਦ", 21);
-    freq.put("ਗਤ ", 30);
-    freq.put("ੱਖੀ", 14);
-    freq.put("ਿਕਸ", 14);
-    freq.put("ਯੋ", 27);
-    freq.put(" ਈ ", 16);
-    freq.put("ਆਦਿ", 12);
-    freq.put("ਆਦਾ", 18);
-    freq.put("m ", 58);
-    freq.put("ਮੇਂ", 24);
-    freq.put("ੋਏ ", 45);
-    freq.put("ਣੀ ", 69);
-    freq.put("ਲ", 4004);
-    freq.put("er ", 48);
-    freq.put("ਵਾ ", 26);
-    freq.put("ਬਦ ", 20);
-    freq.put("ਕੱ", 19);
-    freq.put("ਉਸ ", 51);
-    freq.put("ਾਂਦ", 190);
-    freq.put("me", 42);
-    freq.put("ਕਿ ", 66);
-    freq.put("ma", 17);
-    freq.put("mb", 17);
-    freq.put("mi", 19);
-    freq.put("ੱਖਣ", 15);
-    freq.put("mu", 48);
-    freq.put("ੱਖਾ", 16);
-    freq.put("mp", 27);
-    freq.put("ੱਖਰ", 18);
-    freq.put("ੰਤ ", 18);
-    freq.put("ਸਿਆ", 13);
-    freq.put("ਿੱ", 1026);
-    freq.put("ਿੰ", 258);
-    freq.put("ਸਿਖ", 14);
-    freq.put("ਸਿਕ", 33);
-    freq.put("ਰਮ ", 38);
-    freq.put("ਸਿਟ", 36);
-    freq.put("ਅਰਥ", 18);
-    freq.put("ਝ", 61);
-    freq.put("ਸਿਧ", 13);
-    freq.put("ਮਈ ", 41);
-    freq.put("ਫੁਟ", 13);
-    freq.put("ਫਰ", 17);
-    freq.put("ਿਥਿ", 27);
-    freq.put("ਸਿਰ", 19);
-    freq.put("A", 52);
-    freq.put("L ", 13);
-    freq.put("ਿਸ", 263);
-    freq.put("ਿਵ", 98);
-    freq.put("ਿਲ", 265);
-    freq.put("ਿਰ", 130);
-    freq.put("ਿਮ", 51);
-    freq.put("ੀਆਂ", 178);
-    freq.put("ਿਪ", 16);
-    freq.put("ਿਨ", 1162);
-    freq.put("ਿਧ", 20);
-    freq.put("ਿਦ", 23);
-    freq.put("ਿਥ", 45);
-    freq.put("ਿਤ", 204);
-    freq.put("ਿਣ", 20);
-    freq.put("ਿਡ", 14);
-    freq.put("ਂਡ", 36);
-    freq.put("en ", 20);
-    freq.put("ਿਜ", 25);
-    freq.put("ਿਚ", 202);
-    freq.put("ਿਗ", 45);
-    freq.put("ਿਖ", 72);
-    freq.put("ਿਕ", 215);
-    freq.put("ਚ ", 1074);
-    freq.put("ਿਊ", 33);
-    freq.put("ਸਿੰ", 78);
-    freq.put("ਸਿੱ", 77);
-    freq.put("ਇਨ੍", 18);
-    freq.put("ਿਅ", 43);
-    freq.put("ਅਜਿ", 15);
-    freq.put("ਐਗਰ", 22);
-    freq.put("ਰਨਾ", 16);
-    freq.put("ਵੇ", 119);
-    freq.put("ਵੀ", 154);
-    freq.put("ਵੱ", 108);
-    freq.put("ਵੰ", 62);
-    freq.put("ਰ", 5772);
-    freq.put("ਾਈ ", 117);
-    freq.put("ੇ ", 2940);
-    freq.put("ਆਰ ", 21);
-    freq.put("ਵਖ", 19);
-    freq.put("ਵਿ", 1234);
-    freq.put("ਵਾ", 1015);
-    freq.put("ਭ ", 31);
-    freq.put("ੂਪ ", 25);
-    freq.put("l", 256);
-    freq.put("ਵਲ", 39);
-    freq.put(" ੨੫", 13);
-    freq.put("ੰ", 2555);
-    freq.put(" ੨੩", 13);
-    freq.put(" ੨੨", 14);
-    freq.put(" ੨੯", 17);
-    freq.put("ਪੱਛ", 12);
-    freq.put(" ੨੭", 12);
-    freq.put(" ੨੬", 12);
-    freq.put("ੁਝ ", 21);
-    freq.put("ਵਧ", 14);
-    freq.put(" ੨੧", 14);
-    freq.put(" ੨੦", 53);
-    freq.put("ਤਿਹ", 21);
-    freq.put("ੇਡਾ", 24);
-    freq.put(" ਯਾ", 23);
-    freq.put("ਵਰਗ", 12);
-    freq.put("ਡਰਾ", 13);
-    freq.put("ਛ", 70);
-    freq.put("ਸੀ ", 89);
-    freq.put("rt", 24);
-    freq.put("ਾਣ", 249);
-    freq.put("ਂਦੇ", 20);
-    freq.put("at ", 19);
-    freq.put("rs", 22);
-    freq.put("ry", 21);
-    freq.put("ਤਿਕ", 18);
-    freq.put("rd", 17);
-    freq.put("re", 47);
-    freq.put("ra", 24);
-    freq.put("ro", 42);
-    freq.put("ਤਿਆ", 30);
-    freq.put("ri", 64);
-    freq.put("ਂਦਰ", 14);
-    freq.put("ਰੂ ", 145);
-    freq.put("W", 18);
-    freq.put("nte", 17);
-    freq.put("ਂਦਾ", 168);
-    freq.put("ਾਬ ", 99);
-    freq.put("ੀਂ ", 52);
-    freq.put(" ਯੂ", 72);
-    freq.put("ati", 17);
-    freq.put("r ", 72);
-    freq.put("ਆ", 1270);
-    freq.put("ਣਕਾ", 14);
-    freq.put("ਕਰ ", 44);
-    freq.put("ਚਨਾ", 19);
-    freq.put("ਕਤ", 65);
-    freq.put("ਾਈ", 221);
-    freq.put("ਾਲ ", 1369);
-    freq.put("B", 35);
-    freq.put("ਗਏ", 21);
-    freq.put("ਸਾਇ", 73);
-    freq.put("ਚਾਰ", 34);
-    freq.put("ਾਂ", 1630);
-    freq.put("ਸਾਨ", 18);
-    freq.put("ਸਾਰ", 46);
-    freq.put("ੰ ", 328);
-    freq.put("ਸਾਲ", 1144);
-    freq.put("ਸਾਹ", 90);
-    freq.put("੍ਰ", 834);
-    freq.put("ਧਰ", 65);
-    freq.put("ਧਿ", 28);
-    freq.put("ਧਾ", 77);
-    freq.put("ty ", 13);
-    freq.put("ਭਾਸ", 44);
-    freq.put("ਟ੍ਰ", 17);
-    freq.put("ਭਾਰ", 147);
-    freq.put(" ਚੱ", 12);
-    freq.put(" ਚੰ", 37);
-    freq.put("ਭਾਈ", 15);
-    freq.put("ੀਅਮ", 40);
-    freq.put("ਮਨੁ", 16);
-    freq.put("ਮਨੀ", 13);
-    freq.put("ਯਾ", 37);
-    freq.put("ੀਅਤ", 34);
-    freq.put(" ਚੁ", 16);
-    freq.put(" ਚੀ", 38);
-    freq.put("ਾਣਾ", 22);
-    freq.put("ਾਣਿ", 27);
-    freq.put("ੈਕਟ", 16);
-    freq.put("ੰਥ ", 14);
-    freq.put("ਭਾਗ", 17);
-    freq.put("ਾਣੀ", 40);
-    freq.put("ਾਣੂ", 104);
-    freq.put(" ਚਿ", 16);
-    freq.put(" ਚਾ", 51);
-    freq.put("ੋਲ ", 12);
-    freq.put(" ਚਲ", 15);
-    freq.put("ਡਲ ", 18);
-    freq.put("m", 260);
-    freq.put("ਵਾਲ", 96);
-    freq.put("ੱ", 1924);
-    freq.put("ਧੀ", 16);
-    freq.put("ੁਆਰ", 46);
-    freq.put("੨੦੦", 38);
-    freq.put(" ਜੰ", 39);
-    freq.put("d ", 98);
-    freq.put("ਇਥੇ", 16);
-    freq.put("ਵੱਜ", 17);
-    freq.put("ਗਰੇ", 16);
-    freq.put("ਗਰੀ", 415);
-    freq.put("ੈਗਰ", 366);
-    freq.put("ਵੱਖ", 25);
-    freq.put("ਵੱਡ", 34);
-    freq.put(" ਜੇ", 15);
-    freq.put(" ਜੂ", 37);
-    freq.put(" ਜੁ", 64);
-    freq.put(" ਜੀ", 148);
-    freq.put("ਈ ", 351);
-    freq.put("ਵੱਲ", 20);
-    freq.put(" ਜੋ", 96);
-    freq.put(" ਜਰ", 13);
-    freq.put(" ਜਿ", 159);
-    freq.put(" ਜਾ", 364);
-    freq.put(" ਜ਼", 109);
-    freq.put("ਜੁਲ", 54);
-    freq.put("da", 20);
-    freq.put("ਰੇਗ", 15);
-    freq.put("ਬੀਜ", 26);
-    freq.put("ਾੜ", 27);
-    freq.put("ਰੇਜ", 79);
-    freq.put(" ਜਨ", 89);
-    freq.put("ਗਰਾ", 30);
-    freq.put("ਦੋਂ", 17);
-    freq.put("ਟਨ ", 17);
-    freq.put("ਮੀ ", 18);
-    freq.put("ਦੱ", 14);
-    freq.put("ਰਜ ", 32);
-    freq.put("ਜਾਬ", 125);
-    freq.put("ਜਾਤ", 13);
-    freq.put("ਲੈਂ", 19);
-    freq.put("ਿਨ ", 1101);
-    freq.put("ਟ", 625);
-    freq.put("ਸ਼ ", 84);
-    freq.put("ਨਮ ", 32);
-    freq.put("ੋਮਨ", 25);
-    freq.put("ਇਥ", 21);
-    freq.put("ਦੀ", 615);
-    freq.put("ਦੁ", 90);
-    freq.put("ਦੂ", 48);
-    freq.put("ੇ।", 14);
-    freq.put("ਦੇ", 1613);
-    freq.put("ਦੋ", 54);
-    freq.put("ਜਾਂ", 231);
-    freq.put("ਖਣ ", 24);
-    freq.put("C", 59);
-    freq.put("ੀਆ", 241);
-    freq.put("wa", 12);
-    freq.put("ੀਅ", 117);
-    freq.put("wo", 13);
-    freq.put("ਡੀ ", 25);
-    freq.put("ਦਾ", 1748);
-    freq.put("ਦਿ", 1225);
-    freq.put("ੰਪਿ", 40);
-    freq.put("ੀਗ", 18);
-    freq.put(" In", 28);
-    freq.put("ੀਕ", 136);
-    freq.put("ਦਨ", 53);
-    freq.put("ੀਟ", 47);
-    freq.put("ੀਜ", 44);
-    freq.put("ਿੰਗ", 49);
-    freq.put("ੀਦ", 20);
-    freq.put("ੀਤ", 114);
-    freq.put("ੀਪ", 396);
-    freq.put("ੀਨ", 92);
-    freq.put("ੀਮ", 70);
-    freq.put("਼ਬਦ", 26);
-    freq.put("ੀਬ", 34);
-    freq.put("ੀਲ", 39);
-    freq.put("ੀਰ", 67);
-    freq.put("mu ", 47);
-    freq.put("ੀਵ", 67);
-    freq.put("ੀਸ", 29);
-    freq.put("com", 13);
-    freq.put("and", 32);
-    freq.put(" ਲੱ", 19);
-    freq.put("ਊ", 48);
-    freq.put("ਕੇਸ", 12);
-    freq.put("ਤੋ ", 20);
-    freq.put("਼ਾਂ", 36);
-    freq.put("਼ਾਹ", 32);
-    freq.put(" ਲੇ", 15);
-    freq.put(" ਲੀ", 380);
-    freq.put(" ਲੈ", 20);
-    freq.put("ਜੋ ", 82);
-    freq.put("ੇਰ ", 12);
-    freq.put(" ਲਿ", 55);
-    freq.put(" ਲਾ", 29);
-    freq.put("ਤ ", 537);
-    freq.put(" ਲਗ", 21);
-    freq.put("ਨੁ", 33);
-    freq.put("Co", 14);
-    freq.put("ਇਹ ", 527);
-    freq.put("n", 492);
-    freq.put("ਣੂ", 108);
-    freq.put("ਦੇ ", 1528);
-    freq.put(" ਲਈ", 76);
-    freq.put(" ਤੌ", 38);
-    freq.put(" ਤੋ", 497);
-    freq.put("ਿਕਾ", 29);
-    freq.put(" ਤੇ", 160);
-    freq.put("is", 39);
-    freq.put("ir", 14);
-    freq.put("iu", 27);
-    freq.put("it", 46);
-    freq.put("ਯੁ", 14);
-    freq.put("ਾਂਤ", 20);
-    freq.put("ੀਤਾ", 41);
-    freq.put("ਾਂਸ", 16);
-    freq.put("ਉਂਦ", 22);
-    freq.put("io", 41);
-    freq.put("in", 129);
-    freq.put("ia", 36);
-    freq.put("ic", 60);
-    freq.put("ie", 22);
-    freq.put("id", 13);
-    freq.put("ig", 20);
-    freq.put("ਨਿ", 163);
-    freq.put("ਕੜ", 15);
-    freq.put("ਕ੍", 37);
-    freq.put("ਕੌ", 24);
-    freq.put("ਵ", 3164);
-    freq.put("ਕੈ", 22);
-    freq.put("ਕੋ", 104);
-    freq.put("ਕੇ", 135);
-    freq.put("ਕੁ", 80);
-    freq.put("ਕੀ", 517);
-    freq.put(" ਤੱ", 66);
-    freq.put("ਕੂ", 15);
-    freq.put("ੰਦ ", 43);
-    freq.put("ਕਿ", 322);
-    freq.put("ਕਾ", 323);
-    freq.put("ਕਹ", 19);
-    freq.put("ਕਸ", 64);
-    freq.put("ਕਵ", 12);
-    freq.put("ਕਰ", 232);
-    freq.put("ਕਲ", 439);
-    freq.put("ਕਮ", 20);
-    freq.put("ਕਨ", 33);
-    freq.put("i ", 27);
-    freq.put(" ਤਕ", 27);
-    freq.put("ਕਦ", 33);
-    freq.put("ਇਆ।", 31);
-    freq.put("ੱਜੋ", 16);
-    freq.put("ਕਟ", 31);
-    freq.put("੮ ", 73);
-    freq.put("thu", 15);
-    freq.put("ੀਤੀ", 42);
-    freq.put(" ਤਿ", 24);
-    freq.put(" ਤਾ", 41);
-    freq.put("ਕਈ", 21);
-    freq.put(" ੧ ", 21);
-    freq.put("the", 71);
-    freq.put(" ਤਰ", 31);
-    freq.put("ਈ", 490);
-    freq.put("ਜੀਵ", 20);
-    freq.put("ਥਿ", 46);
-    freq.put("ਥਾ", 70);
-    freq.put("ੇਜੀ", 27);
-    freq.put("ਝ ", 29);
-    freq.put("ਜੀਅ", 19);
-    freq.put("ਕੋ ", 15);
-    freq.put("ਲੋਕ", 25);
-    freq.put("ਲੋਗ", 23);
-    freq.put("D", 18);
-    freq.put("ਪੂਰ", 40);
-    freq.put("ੈ", 2081);
-    freq.put("ਗਣਿ", 17);
-    freq.put("ਤਾ ", 184);
-    freq.put("ਲੋਂ", 20);
-    freq.put("ੇਜ਼", 73);
-    freq.put("ਥੋ", 13);
-    freq.put("ੀਮ ", 51);
-    freq.put("ਥੇ", 53);
-    freq.put("੧੭ ", 15);
-    freq.put("ਥੀ", 15);
-    freq.put(" ਛੋ", 14);
-    freq.put("ਲੋਮ", 22);
-    freq.put("ਤੰਬ", 41);
-    freq.put("ਬਣਾ", 43);
-    freq.put("an ", 23);
-    freq.put("ਿੰਡ", 45);
-    freq.put("for", 13);
-    freq.put("ਡਾ ", 35);
-    freq.put("umb", 16);
-    freq.put("ics", 14);
-    freq.put("ੁਣ ", 18);
-    freq.put("ੰਜ ", 22);
-    freq.put("ਿਬ", 77);
-    freq.put("ਂਗ ", 18);
-    freq.put("ਾਜ ", 52);
-    freq.put("ਭਗਤ", 25);
-    freq.put(" ੧੩", 12);
-    freq.put("ੂਨ ", 35);
-    freq.put("ic ", 12);
-    freq.put("ਹਰਿ", 36);
-    freq.put("o", 398);
-    freq.put("ੋਮੀ", 24);
-    freq.put("um ", 31);
-    freq.put("ਡੇ ", 21);
-    freq.put("ੁਲੀ", 15);
-    freq.put("ਚਕ", 12);
-    freq.put("b ", 18);
-    freq.put("ਿ ", 127);
-    freq.put("ਹੋ ", 30);
-    freq.put("ਿਚਾ", 17);
-    freq.put("mb ", 14);
-    freq.put("ਹੈ।", 922);
-    freq.put("੨੪", 14);
-    freq.put("੨੫", 14);
-    freq.put("੨੨", 14);
-    freq.put("੨੩", 13);
-    freq.put("੨੮", 15);
-    freq.put("੨੯", 17);
-    freq.put("੨੬", 13);
-    freq.put("੨੭", 13);
-    freq.put("੨੦", 53);
-    freq.put("੨੧", 14);
-    freq.put("ੁਲਾ", 52);
-    freq.put("ੀਕਾ", 45);
-    freq.put("ਿਤੀ", 12);
-    freq.put("ਸਰੀ", 12);
-    freq.put("ੀਕਲ", 22);
-    freq.put("ਗਈ", 32);
-    freq.put("ੀਕਨ", 13);
-    freq.put("ni", 32);
-    freq.put("ਗਤ", 41);
-    freq.put("ਇਸ ", 693);
-    freq.put("ੀ।", 87);
-    freq.put("na", 37);
-    freq.put("nc", 21);
-    freq.put("nd", 68);
-    freq.put("ne", 28);
-    freq.put("ng", 50);
-    freq.put("tio", 34);
-    freq.put("ਗਲ", 25);
-    freq.put("ਗਰ", 511);
-    freq.put("ਗਿ", 132);
-    freq.put("ਗਾ", 75);
-    freq.put("ns", 26);
-    freq.put("nt", 47);
-    freq.put("ਾਰ ", 238);
-    freq.put("ਗਸ", 65);
-    freq.put("ਗੇ", 24);
-    freq.put("E", 20);
-    freq.put("ਗੂ", 16);
-    freq.put("ਗੁ", 197);
-    freq.put("ਗੀ", 24);
-    freq.put("ਗ੍", 505);
-    freq.put("ਗੋ", 52);
-    freq.put("ਚੋਂ", 38);
-    freq.put("ੀ। ", 55);
-    freq.put("ਈਆਂ", 13);
-    freq.put("ਸਰਕ", 13);
-    freq.put("n ", 137);
-    freq.put("ਿੰਘ", 68);
-    freq.put("ਚਲ", 24);
-    freq.put("ਭੀ ", 15);
-    freq.put("ੇਗ", 24);
-    freq.put("ਚੀਨ", 33);
-    freq.put("ੇਕ", 12);
-    freq.put("ਭੀ", 18);
-    freq.put("ੰਧ ", 16);
-    freq.put("ੇਟ", 14);
-    freq.put("ਭੌ", 12);
-    freq.put("ਾਈਟ", 14);
-    freq.put("ਰਨ ", 81);
-    freq.put("ੇਂ", 94);
-    freq.put("ੇਵ", 52);
-    freq.put("ੇਲ", 44);
-    freq.put("ੇਰ", 47);
-    freq.put("ਬ", 2031);
-    freq.put("ੇਸ", 109);
-    freq.put("ੇਦ", 53);
-    freq.put("ੇਤ", 52);
-    freq.put("ਾਈਡ", 27);
-    freq.put("ੇਡ", 47);
-    freq.put(" ੨ ", 19);
-    freq.put("ਾਈਨ", 29);
-    freq.put("ੇਨ", 27);
-    freq.put("ਭਗ", 29);
-    freq.put("ਆਰਾ", 46);
-    freq.put("ਿਟੀ", 38);
-    freq.put("ers", 16);
-    freq.put("੬", 69);
-    freq.put("p", 124);
-    freq.put("ਭਰ", 22);
-    freq.put("ਇੱਕ", 245);
-    freq.put("ਭਾ", 256);
-    freq.put("ਵ ", 71);
-    freq.put(" ਅਨ", 20);
-    freq.put("ਾਬੀ", 48);
-    freq.put("ਨਿਕ", 18);
-    freq.put("ਰੰਥ", 15);
-    freq.put("ਨਿਆ", 24);
-    freq.put("ਗ", 2047);
-    freq.put("ਨੁੱ", 16);
-    freq.put("ਨਿਵ", 62);
-    freq.put("੧੬ ", 14);
-    freq.put("ੇਦਨ", 48);
-    freq.put("ੁੰਦ", 474);
-    freq.put("ਸੀਅ", 29);
-    freq.put("Ma", 13);
-    freq.put("ht ", 12);
-    freq.put("ਨੁਸ", 12);
-    freq.put("ਾਬਕ", 377);
-    freq.put("ਰੂਪ", 26);
-    freq.put("ਲੱਗ", 14);
-    freq.put("ਰਥ ", 20);
-    freq.put("ਾਬਲ", 23);
-    freq.put("ਦਰਿ", 26);
-    freq.put("ਾਬਾ", 23);
-    freq.put("ਂ", 2880);
-    freq.put(" ਗਣ", 16);
-    freq.put("ਕਰਨ", 55);
-    freq.put("ਕਰਦ", 41);
-    freq.put(" ਉੱ", 56);
-    freq.put(" ਗਰ", 23);
-    freq.put("ਣਕ ", 58);
-    freq.put(" ਗਿ", 86);
-    freq.put("ਜਧਾ", 12);
-    freq.put("ਾਲਾ", 46);
-    freq.put(" ਗਏ", 21);
-    freq.put(" ਗਈ", 32);
-    freq.put("ਕਰਕ", 17);
-    freq.put("ਿਲੇ", 38);
-    freq.put(" ਉਸ", 69);
-    freq.put(" ਉਹ", 51);
-    freq.put("ੂ", 1115);
-    freq.put("ੰਖ", 19);
-    freq.put("ੰਗ", 218);
-    freq.put("F", 29);
-    freq.put("ੰਘ", 85);
-    freq.put("ੰਟ", 22);
-    freq.put("ੰਜ", 177);
-    freq.put(" ਉਨ", 48);
-    freq.put(" ਉਪ", 25);
-    freq.put("ਾਲੀ", 54);
-    freq.put(" ਉਤ", 19);
-    freq.put("ਧਾਂ", 14);
-    freq.put("ਸਾ ", 23);
-    freq.put("ਕਰੋ", 16);
-    freq.put(" ਗੁ", 188);
-    freq.put("ੰਸ", 52);
-    freq.put(" ਗ੍", 436);
-    freq.put(" ਗੋ", 35);
-    freq.put("ਕਰੀ", 18);
-    freq.put("ੰਡ", 502);
-    freq.put("ੰਦ", 618);
-    freq.put("ੰਧ", 36);
-    freq.put("ੰਤ", 85);
-    freq.put("ੰਥ", 18);
-    freq.put("ੰਪ", 49);
-    freq.put("ੰਨ", 45);
-    freq.put("ੰਮ", 32);
-    freq.put("ੰਬ", 155);
-    freq.put("ਕਾਂ", 22);
-    freq.put("ਕਟ ", 14);
-    freq.put("ਖ਼ਸ", 29);
-    freq.put(" of", 43);
-    freq.put("ter", 25);
-    freq.put("ਧ ", 64);
-    freq.put("ੜੇ ", 18);
-    freq.put("ਰਦਾ", 42);
-    freq.put("ਾਣ ", 28);
-    freq.put("ਕਾਬ", 25);
-    freq.put("ਕਾਰ", 103);
-    freq.put("�", 48);
-    freq.put("ਕਾਲ", 30);
-    freq.put("ਿਵੇ", 63);
-    freq.put("ਕਾਸ", 23);
-    freq.put("੨੦ ", 14);
-    freq.put("ੋਲੀ", 19);
-    freq.put("s ", 155);
-    freq.put("ਰਸਿ", 50);
-    freq.put("ਰਸਾ", 69);
-    freq.put("ਰਸ਼", 34);
-    freq.put(" ਚ ", 20);
-    freq.put("ੁਸ਼", 14);
-    freq.put("੨੨ ", 14);
-    freq.put("ਜੇ ", 27);
-    freq.put("ght", 14);
-    freq.put("ਰਦੀ", 16);
-    freq.put("ਰਦੇ", 29);
-    freq.put("੭", 58);
-    freq.put("st", 52);
-    freq.put("ਟਾਂ", 13);
-    freq.put("si", 30);
-    freq.put("sh", 12);
-    freq.put("ਕੌਮ", 15);
-    freq.put("se", 26);
-    freq.put("੍ਹ ", 21);
-    freq.put("ਿਮਨ", 20);
-    freq.put("ਜ਼ ", 52);
-    freq.put("ਡਦ", 12);
-    freq.put(" am", 51);
-    freq.put(" an", 24);
-    freq.put("ੈ।ਇ", 14);
-    freq.put("ent", 21);
-    freq.put("ਬਰ ", 175);
-    freq.put("ਹੀਂ", 44);
-    freq.put("ੀ", 4636);
-    freq.put("ੁੱਖ", 54);
-    freq.put("ੂਬਰ", 34);
-    freq.put("ੰਨ ", 21);
-    freq.put("ਗਸਤ", 63);
-    freq.put("ਨਾਂ", 88);
-    freq.put("ਉੱਤ", 40);
-    freq.put("ੇਵਾ", 19);
-    freq.put("ੌਰ ", 34);
-    freq.put(" a ", 18);
-    freq.put("ਨਾਲ", 179);
-    freq.put("ਨਾਵ", 16);
-    freq.put("ਹੀਨ", 13);
-    freq.put("ਮਰੀ", 43);
-    freq.put("ਹੀਰ", 14);
-    freq.put(" ੩ ", 14);
-    freq.put("ਨਾਨ", 32);
-    freq.put("।ਇਸ", 14);
-    freq.put("ਨਾਮ", 38);
-    freq.put("em", 14);
-    freq.put("el", 41);
-    freq.put("ਫੁ", 23);
-    freq.put("en", 68);
-    freq.put("ei", 12);
-    freq.put("ਪੈਦ", 15);
-    freq.put("ee", 14);
-    freq.put("ed", 45);
-    freq.put("ਣ ", 217);
-    freq.put("ea", 30);
-    freq.put("ec", 17);
-    freq.put("ਲੰਡ", 379);
-    freq.put("et", 19);
-    freq.put("ev", 13);
-    freq.put("ਜਦੋ", 15);
-    freq.put("er", 114);
-    freq.put("ਿਹ", 111);
-    freq.put(" ਖੇ", 84);
-    freq.put("ਿਸਤ", 34);
-    freq.put("ਰਵਰ", 37);
-    freq.put("ਫ", 303);
-    freq.put("ਨੀਆ", 32);
-    freq.put("ਨੀਅ", 13);
-    freq.put("ਿਸ਼", 57);
-    freq.put("ਿਸਾ", 23);
-    freq.put("ਡਿ", 29);
-    freq.put("ਡਾ", 86);
-    freq.put("ਨੀਕ", 15);
-    freq.put("G", 23);
-    freq.put("ਿਸੇ", 29);
-    freq.put("e ", 169);
-    freq.put("ਦੁਆ", 48);
-    freq.put(" ਖ਼", 15);
-    freq.put(" ਖਿ", 13);
-    freq.put(" ਖਾ", 28);
-    freq.put("੫", 77);
-    freq.put("੧੯ ", 14);
-    freq.put("ਫਲ", 16);
-    freq.put("ਦੁਨ", 24);
-    freq.put("ੀਰ ", 33);
-    freq.put("ਫਿ", 21);
-    freq.put("ਫਾ", 21);
-    freq.put("ਫ਼", 106);
-    freq.put("ਮੇ ", 12);
-    freq.put(" ਪੱ", 30);
-    freq.put("ona", 13);
-    freq.put(" ਸਦ", 12);
-    freq.put("ਖ", 660);
-    freq.put("ons", 12);
-    freq.put("ਧਿਆ", 15);
-    freq.put("ੈਲ ", 41);
-    freq.put("ਵਰਤ", 32);
-    freq.put("਼ੁਰ", 27);
-    freq.put("ਉ", 422);
-    freq.put("ਵਰਸ", 36);
-    freq.put("ਵਖ ", 12);
-    freq.put("ਰਥ", 37);
-    freq.put("ਿਟ", 58);
-    freq.put("ਿਆ", 517);
-    freq.put("ਬਾ ", 22);
-    freq.put("ਵਾਨ", 14);
-    freq.put("hum", 14);
-    freq.put("on ", 41);
-    freq.put("ਵਰੀ", 76);
-    freq.put("ਵਾਰ", 49);
-    freq.put("ਸਕਦ", 19);
-    freq.put("ਇਕ ", 86);
-    freq.put("ਵਾਸ", 13);
-    freq.put("ਵਾਂ", 742);
-    freq.put("ਕਿਤ", 57);
-    freq.put("ੱਖ ", 91);
-    freq.put("ia ", 20);
-    freq.put("ੰਤਰ", 46);
-    freq.put("ਕਿਲ", 58);
-    freq.put("r", 400);
-    freq.put("ਕਿਹ", 19);
-    freq.put("ਕਿਸ", 74);
-    freq.put("ਚੌ", 23);
-    freq.put("ਚੋ", 42);
-    freq.put("ਚੇ", 17);
-    freq.put("ਚੀ", 48);
-    freq.put("ਚੁ", 16);
-    freq.put(" ਬੰ", 15);
-    freq.put("ਅਰ ", 17);
-    freq.put(" ਬੇ", 15);
-    freq.put("ਕ੍ਰ", 37);
-    freq.put(" ਬੁ", 18);
-    freq.put(" ਬੀ", 32);
-    freq.put(" ਬ੍", 13);
-    freq.put(" ਬੋ", 36);
-    freq.put("਼ਰਵ", 39);
-    freq.put("ਚੰ", 38);
-    freq.put("ਚੱ", 12);
-    freq.put("ੁ", 1825);
-    freq.put("ਿੰਦ", 69);
-    freq.put(" ਬਣ", 71);
-    freq.put("ਿਉ", 16);
-    freq.put(" ਬਨ", 14);
-    freq.put(" ਬਲ", 14);
-    freq.put(" ਬਰ", 25);
-    freq.put(" ਬਿ", 25);
-    freq.put(" ਬਾ", 492);
-    freq.put(" ਬਹ", 34);
-    freq.put("ਸੀ।", 71);
-    freq.put("ਚਨ", 19);
-    freq.put("ਲੁ", 15);
-    freq.put("ੀਆ ", 53);
-    freq.put("ਚਾ", 99);
-    freq.put("ਚਿ", 28);
-    freq.put("ਖਾਂ", 21);
-    freq.put("੩੧ ", 18);
-    freq.put("ਚਰ", 32);
-    freq.put("੨੧ ", 14);
-    freq.put("ੰਸਾ", 14);
-    freq.put("ਰਹਿ", 56);
-    freq.put("ਤਰੀ", 36);
-    freq.put("ਥ ", 48);
-    freq.put("੨੩ ", 13);
-    freq.put("ਕੋਈ", 24);
-    freq.put(" ਮੰ", 56);
-    freq.put("ੰਸਥ", 15);
-    freq.put("ਜੀ ", 155);
-    freq.put(" ਮੈ", 37);
-    freq.put(" ਮੋ", 24);
-    freq.put(" ਮੌ", 17);
-    freq.put("ੇਂ ", 52);
-    freq.put(" ਮੁ", 481);
-    freq.put(" ਮੀ", 19);
-    freq.put("ਬੇ ", 13);
-    freq.put("ਪੰਜ", 152);
-    freq.put(" ੫", 29);
-    freq.put("ਵੀ ", 125);
-    freq.put(" ਮਨ", 31);
-    freq.put("ਤਾਰ", 18);
-    freq.put("H", 31);
-    freq.put(" ਮਤ", 12);
-    freq.put(" ਮਹ", 95);
-    freq.put(" ਮਸ", 25);
-    freq.put(" ਮਿ", 97);
-    freq.put(" ਮਾ", 131);
-    freq.put("ਤਾਬ", 383);
-    freq.put("ਤਾਨ", 49);
-    freq.put(" ਮਈ", 37);
-    freq.put("ੂੰ ", 327);
-    freq.put("੬ ", 50);
-    freq.put("ਆਬ", 13);
-    freq.put("ਆਮ", 24);
-    freq.put("ਤਾਂ", 61);
-    freq.put("ਰਹੇ", 17);
-    freq.put("ਮੁਤ", 380);
-    freq.put("ੂਨੀ", 19);
-    freq.put("ਵੈ", 22);
-    freq.put("ੇਤੀ", 16);
-    freq.put("ਡਾਂ", 31);
-    freq.put("ਇਆ ", 100);
-    freq.put("ੰਜੀ", 16);
-    freq.put("ਯ", 188);
-    freq.put("ਮੁਖ", 14);
-    freq.put("ਮੁਕ", 29);
-    freq.put(" ੪ ", 15);
-    freq.put("ਗੋਬ", 26);
-    freq.put("ਾਜ਼", 17);
-    freq.put("ਾਜਾ", 13);
-    freq.put("ਮੁੱ", 38);
-    freq.put("ਾਜਧ", 12);
-    freq.put("ੰਜਾ", 127);
-    freq.put("ੜ ", 44);
-    freq.put("ੜਾ ", 14);
-    freq.put("ੇਤਰ", 23);
-    freq.put("z", 13);
-    freq.put("ਜੂ", 46);
-    freq.put("੯", 96);
-    freq.put("s", 328);
-    freq.put("ੂਨਿ", 14);
-    freq.put("ਅਕਤ", 41);
-    freq.put("ਚੌਂ", 12);
-    freq.put("ਸੂਰ", 32);
-    freq.put("ਸੂਬ", 12);
-    freq.put("੨ ", 59);
-    freq.put("ਚ", 1522);
-    freq.put("ਬੋਲ", 29);
-    freq.put("ਅਕ", 61);
-    freq.put("ਪਹਿ", 45);
-    freq.put("ੈਂਡ", 21);
-    freq.put("ਆਵਾ", 13);
-    freq.put("੧੮ ", 12);
-    freq.put("ਗਏ ", 15);
-    freq.put("ਹੋਣ", 23);
-    freq.put("ਘਰ ", 13);
-    freq.put("ਪੱ", 37);
-    freq.put("ਹੋਰ", 25);
-    freq.put("ਿਚ ", 162);
-    freq.put("ਹੋਇ", 70);
-    freq.put("ਿਵਾ", 13);
-    freq.put("ਹੋਈ", 20);
-    freq.put("ਹੋਏ", 48);
-    freq.put("ੋਂ ", 614);
-    freq.put("ਈ।", 12);
-    freq.put("ਅ", 1321);
-    freq.put("Th", 15);
-    freq.put("ਾਰਚ", 41);
-    freq.put("ਾਰਕ", 16);
-    freq.put("ym", 13);
-    freq.put("ੀਕ ", 34);
-    freq.put("ਇਸਦ", 16);
-    freq.put("ਾਰਾ", 51);
-    freq.put(" Ma", 13);
-    freq.put("ਗ ", 162);
-    freq.put("il", 21);
-    freq.put("ੈਦਾ", 18);
-    freq.put("ਹਰ ", 16);
-    freq.put("ੱਕ ", 255);
-    freq.put("ਾਰਨ", 27);
-    freq.put("ਕੰ", 48);
-    freq.put("ਾਰਤ", 101);
-    freq.put("ਗਦ", 22);
-    freq.put("I", 60);
-    freq.put(" ਯ", 133);
-    freq.put("ਅਮਰ", 51);
-    freq.put("ਗਣ", 22);
-    freq.put("ਾਰੇ", 39);
-    freq.put("ਾਰੀ", 54);
-    freq.put("ਿਤ ", 82);
-    freq.put("ਲ੍ਹ", 16);
-    freq.put("In", 29);
-    freq.put("ਏਲ ", 13);
-    freq.put("ਈਟ", 14);
-    freq.put("am ", 12);
-    freq.put("ਹੈ ", 423);
-    freq.put(" ਭਰ", 19);
-    freq.put("ਘ", 134);
-    freq.put(" ਭਾ", 230);
-    freq.put("ਈਆ", 13);
-    freq.put("ਦਾ ", 1619);
-    freq.put("ਖੀ ", 31);
-    freq.put("ਖਿਆ", 40);
-    freq.put(" ਭਗ", 25);
-    freq.put("੩੦ ", 23);
-    freq.put("ਈਡ", 27);
-    freq.put("ਟਰੀ", 23);
-    freq.put("ਮੀਟ", 34);
-    freq.put("ਦੋ ", 25);
-    freq.put("ce", 32);
-    freq.put("ੇਡਦ", 12);
-    freq.put("ਾਉਂ", 14);
-    freq.put(" ਆ", 274);
-    freq.put("ਓ ", 12);
-    freq.put("amu", 47);
-    freq.put("ਵਸ", 16);
-    freq.put("ਤੇ ", 613);
-    freq.put(" ਭੀ", 16);
-    freq.put("ਰੇ ", 75);
-    freq.put(" ਭੌ", 12);
-    freq.put("ਆਣਾ", 27);
-    freq.put("ਬੀ ", 78);
-    freq.put("t", 467);
-    freq.put("ਏ। ", 23);
-    freq.put("ਾਉਣ", 23);
-    freq.put("ਗਰ ", 22);
-    freq.put("ਸ਼ਿ", 19);
-    freq.put("ਸ਼ਾ", 149);
-    freq.put("ਿਨਾ", 26);
-    freq.put("ਸ਼ਹ", 65);
-    freq.put("ਆਮ ", 19);
-    freq.put("ਸ਼ਰ", 12);
-    freq.put("ਸ਼ਬ", 26);
-    freq.put("ਸ਼ਨ", 37);
-    freq.put("ਸ਼ਤ", 17);
-    freq.put("੪ ", 44);
-    freq.put("ਜਾ ", 63);
-    freq.put("ਸ਼ਟ", 21);
-    freq.put(" co", 22);
-    freq.put(" ੨੪", 14);
-    freq.put("ਸ਼ਖ", 29);
-    freq.put("ਥਾਂ", 13);
-    freq.put("o ", 26);
-    freq.put("ਇੰਟ", 13);
-    freq.put("ਛਮ", 12);
-    freq.put("ਵਨ", 21);
-    freq.put(" ੫ ", 15);
-    freq.put("ਦ ", 171);
-    freq.put("ਪਲ", 21);
-    freq.put("ਛੋ", 17);
-    freq.put("on", 91);
-    freq.put("ੀ ", 2902);
-    freq.put("ol", 28);
-    freq.put("of", 44);
-    freq.put("ਡੀਅ", 12);
-    freq.put("ਿਨ੍", 12);
-    freq.put("ਸ਼੍", 23);
-    freq.put("ਰੱਖ", 17);
-    freq.put("ਸ਼ੇ", 16);
-    freq.put("ou", 18);
-    freq.put("ਿਨੇ", 13);
-    freq.put("os", 19);
-    freq.put("or", 54);
-    freq.put("ਸ਼ੁ", 34);
-    freq.put("ਸ਼ੀ", 30);
-    freq.put("ਕੇ ", 100);
-    freq.put("ਸਮ", 81);
-    freq.put("ਜੋਂ", 19);
-    freq.put("ਤੰ", 44);
-    freq.put("ਤੱ", 67);
-    freq.put("ਤੌ", 43);
-    freq.put("ਗੜ", 29);
-    freq.put("ਤੋ", 518);
-    freq.put("ਤੇ", 631);
-    freq.put("ਸਭ", 32);
-    freq.put("ਤੂ", 46);
-    freq.put("ਤੀ", 231);
-    freq.put("ਸਮਾ", 24);
-    freq.put("ਤੋਂ", 485);
-    freq.put("਼ਾ ", 51);
-    freq.put("ਤਮ", 27);
-    freq.put("ਤਪ", 13);
-    freq.put("ਤਨ", 20);
-    freq.put("ਤਤ", 12);
-    freq.put("ਤਾ", 728);
-    freq.put("ਤਿ", 96);
-    freq.put("ਸਮੇ", 23);
-    freq.put("਼ਖ਼", 29);
-    freq.put(" ਘਰ", 13);
-    freq.put("ਤਲ", 37);
-    freq.put("ਨੂੰ", 329);
-    freq.put("ਤਰ", 186);
-    freq.put("ਦੇਸ", 44);
-    freq.put("ਦੇਵ", 25);
-    freq.put("੮", 92);
-    freq.put("ਪਣੇ", 34);
-    freq.put("he ", 69);
-    freq.put("ੀਲ ", 18);
-    freq.put("੧੩ ", 12);
-    freq.put("ਪਣੀ", 15);
-    freq.put("ਤਕ", 48);
-    freq.put("ac", 18);
-    freq.put("ab", 12);
-    freq.put("ad", 16);
-    freq.put("ai", 16);
-    freq.put("ਾਂ ", 1353);
-    freq.put("am", 68);
-    freq.put("al", 54);
-    freq.put("an", 97);
-    freq.put("as", 29);
-    freq.put("ar", 52);
-    freq.put("at", 58);
-    freq.put("ਿਕ ", 134);
-    freq.put("੍ਰਦ", 16);
-    freq.put("ੰਦੀ", 31);
-    freq.put("ੰਦੇ", 65);
-    freq.put("੍ਰਮ", 14);
-    freq.put(" ੧੦", 19);
-    freq.put(" ੧੧", 13);
-    freq.put("੍ਰਾ", 30);
-    freq.put("੍ਰਿ", 60);
-    freq.put(" ੧੬", 17);
-    freq.put(" ੧੭", 16);
-    freq.put(" ੧੪", 15);
-    freq.put(" ੧੫", 16);
-    freq.put("੍ਰਸ", 16);
-    freq.put("੍ਰਹ", 30);
-    freq.put("੍ਰੇ", 90);
-    freq.put("ਪਾਈ", 14);
-    freq.put("ਿਤਾ", 77);
-    freq.put("੍ਰੀ", 65);
-    freq.put("੍ਰੋ", 27);
-    freq.put("੍ਰੈ", 416);
-    freq.put("ੰਦਰ", 40);
-    freq.put("ਂਦੀ", 34);
-    freq.put("ਉਨ੍", 43);
-    freq.put("ਡਰ ", 388);
-    freq.put("ਕ ", 1139);
-    freq.put("ੰਦਾ", 409);
-    freq.put("ਹੇ ", 27);
-    freq.put("u", 236);
-    freq.put("੍ਰੰ", 13);
-    freq.put("ਫ਼ਰ", 40);
-    freq.put("ੇਖ", 36);
-    freq.put("ਦੂਜ", 16);
-    freq.put("੧੧", 14);
-    freq.put("੧੦", 19);
-    freq.put("ੇਲ ", 13);
-    freq.put("੧੯", 42);
-    freq.put("੧੮", 24);
-    freq.put("੧੭", 17);
-    freq.put("੧੬", 17);
-    freq.put(" ਅੰ", 217);
-    freq.put(" ਅੱ", 34);
-    freq.put("੧੩", 12);
-    freq.put("੧੨", 18);
-    freq.put("ਐਗ", 22);
-    freq.put("ty", 14);
-    freq.put(" ਓਲ", 31);
-    freq.put("ਦੂਸ", 12);
-    freq.put("tr", 30);
-    freq.put("ts", 12);
-    freq.put("to", 25);
-    freq.put("th", 116);
-    freq.put("ti", 67);
-    freq.put("te", 65);
-    freq.put("਼", 1111);
-    freq.put("ta", 28);
-    freq.put(" ਅਮ", 64);
-    freq.put("ੇਜ", 108);
-    freq.put("ium", 27);
-    freq.put(" ਅਪ", 47);
-    freq.put(" ਅਤ", 411);
-    freq.put(" ਅਧ", 17);
-    freq.put("al ", 27);
-    freq.put("mpi", 14);
-    freq.put(" ਅਸ", 17);
-    freq.put(" ਅਰ", 39);
-    freq.put("ਨੇ ", 143);
-    freq.put("is ", 22);
-    freq.put("ੂ ", 303);
-    freq.put("ੱਥੇ", 12);
-    freq.put("ge", 13);
-    freq.put(" ਅਜ", 33);
-    freq.put("ਾਦ ", 29);
-    freq.put(" ਅਕ", 54);
-    freq.put(" ਅਗ", 67);
-    freq.put("t ", 72);
-    freq.put("ਿਆਲ", 13);
-    freq.put("ਿਆਰ", 28);
-    freq.put("ਿਆਵ", 14);
-    freq.put("ਿਆਸ", 12);
-    freq.put("ted", 14);
-    freq.put("ਿਆਣ", 31);
-    freq.put("ਿਆਦ", 20);
-    freq.put("ਿਲੀ", 21);
-    freq.put("ਫ੍ਰ", 14);
-    freq.put("ਿਆਨ", 47);
-    freq.put("੍ਹ", 146);
-    freq.put("ੰਡਰ", 381);
-    freq.put("ੰਡਲ", 14);
-    freq.put("ਧ", 297);
-    freq.put("ਤੀ ", 175);
-    freq.put("ਬਲ", 53);
-    freq.put("ੰਡਾ", 15);
-    freq.put("ਿਆਂ", 76);
-    freq.put("੦੮ ", 24);
-    freq.put("ਾਇਲ", 17);
-    freq.put("ਚਲਾ", 12);
-    freq.put("ਉਣ ", 23);
-    freq.put("ੰਡੀ", 26);
-    freq.put("ਾਇਣ", 62);
-    freq.put("ਅੰਦ", 15);
-    freq.put("ਅੰਤ", 31);
-    freq.put("ੇਵ ", 19);
-    freq.put("੧", 273);
-    freq.put("ਅੰਗ", 91);
-    freq.put("ਅੰਕ", 65);
-    freq.put("ਾਇਆ", 59);
-    freq.put("ਬੰਧ", 25);
-    freq.put(" ।", 190);
-    freq.put(" ੬ ", 12);
-    freq.put("ਾਕੀ", 370);
-    freq.put("ਲੇ ", 121);
-    freq.put("ਾ ", 2802);
-    freq.put("ਸੰ", 167);
-    freq.put("਼ਰ", 65);
-    freq.put(" ਏ ", 29);
-    freq.put("ਕਸ ", 17);
-    freq.put("਼ਿ", 116);
-    freq.put("ੱਛਮ", 12);
-    freq.put("ਦਰ ", 34);
-    freq.put("ਟਬਾ", 13);
-    freq.put("ਾਕਿ", 34);
-    freq.put("v", 42);
-    freq.put("Ind", 16);
-    freq.put("ਸਭ ", 25);
-    freq.put("ਦਿਨ", 1097);
-    freq.put("ਸੇ", 97);
-    freq.put("f ", 44);
-    freq.put("ਬਕ", 380);
-    freq.put("ਬਦ", 46);
-    freq.put("ਦਿਆ", 31);
-    freq.put("੫ ", 50);
-    freq.put("ਬਣ", 71);
-    freq.put("ੰਗਰ", 20);
-    freq.put("ੰਗਾ", 15);
-    freq.put("ਰਾ ", 103);
-    freq.put("ਦਰ", 129);
-    freq.put("ਟਾਇ", 14);
-    freq.put("ਬਨ", 25);
-    freq.put("੧੨ ", 16);
-    freq.put("ਬਰ", 215);
-    freq.put("ਬਾ", 578);
-    freq.put("ਬਿ", 55);
-    freq.put("ਬਹ", 34);
-    freq.put("ਬੇ", 32);
-    freq.put("ੋਪ ", 15);
-    freq.put("ਬੀ", 120);
-    freq.put("ਬੁ", 20);
-    freq.put("ਬ੍", 15);
-    freq.put("ਬੋ", 46);
-    freq.put("ਬੈ", 14);
-    freq.put(" ੨੮", 14);
-    freq.put("ਦਿੱ", 27);
-    freq.put("fi", 14);
-    freq.put("ੰਗ੍", 60);
-    freq.put("ਸ੍ਰ", 19);
-    freq.put("fo", 16);
-    freq.put("a", 561);
-    freq.put("cs ", 14);
-    freq.put("ry ", 17);
-    freq.put("ਗਾਂ", 14);
-    freq.put("ਇਣਕ", 56);
-    freq.put("ਬੰ", 44);
-    freq.put("ੁਰ ", 13);
-    freq.put("ਲਣ ", 22);
-    freq.put(" ੧", 210);
-    freq.put("ce ", 16);
-    freq.put(" ੪", 26);
-    freq.put("y ", 61);
-    freq.put(" ੨", 195);
-    freq.put(" ੩", 56);
-    freq.put(" ੮", 15);
-    freq.put(" ੯", 19);
-    freq.put(" ੬", 17);
-    freq.put(" ੭", 14);
-    freq.put("ਐ", 62);
-    freq.put(" Ol", 12);
-    freq.put("ਾ।", 27);
-    freq.put("ਪਤ ", 12);
-    freq.put("ਅਕਾ", 15);
-    freq.put(" ਢ", 16);
-    freq.put(" ਡ", 55);
-    freq.put(" ਦ", 4245);
-    freq.put(" ਧ", 86);
-    freq.put(" ਤ", 951);
-    freq.put(" ਥ", 21);
-    freq.put(" ਪ", 1056);
-    freq.put(" ਫ", 184);
-    freq.put(" ਨ", 1023);
-    freq.put(" ਮ", 1134);
-    freq.put("L", 38);
-    freq.put(" ਬ", 868);
-    freq.put(" ਭ", 339);
-    freq.put(" ਲ", 715);
-    freq.put(" ਰ", 498);
-    freq.put(" ਵ", 2408);
-    freq.put("ਥਾਨ", 18);
-    freq.put(" ਸ", 2699);
-    freq.put(" ਹ", 2872);
-    freq.put("ਟਰ ", 67);
-    freq.put(" ਇ", 1749);
-    freq.put(" ਅ", 1094);
-    freq.put(" ਈ", 30);
-    freq.put(" ਉ", 313);
-    freq.put(" ਏ", 119);
-    freq.put(" ਓ", 47);
-    freq.put(" ਐ", 59);
-    freq.put(" ਖ", 182);
-    freq.put(" ਗ", 918);
-    freq.put(" ਕ", 1460);
-    freq.put(" ਚ", 259);
-    freq.put(" ਛ", 39);
-    freq.put(" ਘ", 42);
-    freq.put(" ਟ", 112);
-    freq.put(" ਜ", 1208);
-    freq.put(" ਝ", 16);
-    freq.put("ਸਪ", 32);
-    freq.put("ਸਫ", 15);
-    freq.put("ਸਨ", 101);
-    freq.put("ਿਰ ", 73);
-    freq.put("ਸਬ", 22);
-    freq.put("ਸਤ ", 69);
-    freq.put("ਸਦ", 49);
-    freq.put("ਸਤ", 207);
-    freq.put("dia", 15);
-    freq.put("ਸਸ", 15);
-    freq.put("ਸਹ", 12);
-    freq.put("ਸਾ", 1477);
-    freq.put("ਸਿ", 313);
-    freq.put("ਸ਼", 623);
-    freq.put("ਸਲ", 51);
-    freq.put(" ਨੂ", 313);
-    freq.put("ਸਰ", 94);
-    freq.put(" ਨੇ", 127);
-    freq.put("ਸਵ", 19);
-    freq.put("ਗੀ ", 17);
-    freq.put("ਸੇ ", 56);
-    freq.put("ੁਸ", 47);
-    freq.put("ਰ ", 1488);
-    freq.put("ਸਟ", 58);
-    freq.put("ਨਕਸ", 15);
-    freq.put("ਮਾ ", 32);
-    freq.put("ੂਰਬ", 14);
-    freq.put("as ", 15);
-    freq.put("ੋਇ", 77);
-    freq.put(" s ", 16);
-    freq.put("ਸੱ", 26);
-    freq.put("ਭਿ", 14);
-    freq.put("੨੬ ", 13);
-    freq.put("ਖ ", 140);
-    freq.put("ਸੋ", 30);
-    freq.put(" ਨਹ", 38);
-    freq.put(" ਨਿ", 106);
-    freq.put(" ਨਾ", 302);
-    freq.put("ਸ੍", 26);
-    freq.put("ਸੂ", 66);
-    freq.put("ਸੀ", 222);
-    freq.put("ਸੁ", 43);
-    freq.put("ਆਨੀ", 21);
-    freq.put(" ਨਵ", 51);
-    freq.put("w", 71);
-    freq.put("ੂਰਜ", 24);
-    freq.put("ਫ੍", 15);
-    freq.put("ੋਣ", 30);
-    freq.put("ੋਡ", 13);
-    freq.put("ੋਈ", 46);
-    freq.put("ੋਧ", 14);
-    freq.put("ਵਨ ", 15);
-    freq.put("ੋਤ", 20);
-    freq.put("ੋਪ", 22);
-    freq.put("ੋਨ", 32);
-    freq.put("ੋਮ", 61);
-    freq.put("ੋਬ", 36);
-    freq.put("ੋਲ", 71);
-    freq.put("ੋਰ", 92);
-    freq.put("ੋਵ", 23);
-    freq.put("ੋਹ", 24);
-    freq.put("ੋਸ", 21);
-    freq.put("ੋਂ", 617);
-    freq.put("st ", 12);
-    freq.put("੭ ", 49);
-    freq.put("ਦ", 5926);
-    freq.put("ਖੇ", 111);
-    freq.put("ੋਏ", 51);
-    freq.put("ੋਗ", 55);
-    freq.put("ੋਕ", 33);
-    freq.put("ੋਚ", 14);
-    freq.put("ੋਟ", 27);
-    freq.put("ੋਜ", 32);
-    freq.put("ਖੋ", 29);
-    freq.put(" ੭ ", 13);
-    freq.put("ਦਾਨ", 17);
-    freq.put("ਇੱ", 255);
-    freq.put("ਦਾਰ", 26);
-    freq.put("nce", 16);
-    freq.put("ਦਾਸ", 19);
-    freq.put("b", 81);
-    freq.put("ਦਾਂ", 14);
-    freq.put("੦", 200);
-    freq.put("ਗ੍ਰ", 502);
-    freq.put("ੰਖਿ", 16);
-    freq.put("str", 14);
-    freq.put("ਹੀ", 203);
-    freq.put("ੋੜ", 31);
-    freq.put("ਬਿੰ", 25);
-    freq.put("ਸਰ ", 20);
-    freq.put("ਕਦੀ", 15);
-    freq.put("ਪਿਊ", 14);
-    freq.put("ਾਨਾ", 31);
-    freq.put("ਸਾਂ", 13);
-    freq.put("ੋੜ ", 16);
-    freq.put("ਪਿਕ", 29);
-    freq.put("ਾਨਕ", 26);
-    freq.put("ਣੂ ", 105);
-    freq.put("k ", 17);
-    freq.put("ਪਿਤ", 20);
-    freq.put("਼ੇ", 19);
-    freq.put("ਬ੍ਰ", 15);
-    freq.put("ਗਿਆ", 104);
-    freq.put("ਟ ", 103);
-    freq.put("ਗਈ ", 25);
-    freq.put("ਸਟ ", 13);
-    freq.put("ਇਲਾ", 16);
-    freq.put("਼ੁ", 43);
-    freq.put("M", 47);
-    freq.put("ਿਆ।", 22);
-    freq.put("੩ ", 43);
-    freq.put("਼੍", 25);
-    freq.put("ਨ੍ਹ", 75);
-    freq.put("ਪ੍ਰ", 176);
-    freq.put("ਹੱਦ", 12);
-    freq.put("ਅ ", 12);
-    freq.put("ਪਿੰ", 41);
-    freq.put("਼ਟਰ", 18);
-    freq.put("ਾਨੀ", 48);
-    freq.put("੧੫ ", 13);
-    freq.put("ਾਮਿ", 15);
-    freq.put("ਯੋਗ", 18);
-    freq.put("ਆਪ ", 24);
-    freq.put("ਰਿ", 221);
-    freq.put("ਕਤੂ", 34);
-    freq.put("੦੦੮", 24);
-    freq.put("ਕਤੀ", 13);
-    freq.put("ymp", 12);
-    freq.put("ਨਸੰ", 13);
-    freq.put("ਲ ", 1735);
-    freq.put("ਬਹੁ", 25);
-    freq.put("ਰੀਸ", 12);
-    freq.put("ਟਿਆ", 13);
-    freq.put("ਲਾ ", 163);
-    freq.put("ਰੀਬ", 18);
-    freq.put("ਰੀਕ", 94);
-    freq.put("ਰਮ", 236);
-    freq.put("ਿਹਾ", 91);
-    freq.put("ੱਚੋ", 29);
-    freq.put("ਰੀਆ", 20);
-    freq.put("ੱਚ ", 827);
-    freq.put("x", 19);
-    freq.put("ੂਲ ", 22);
-    freq.put("ਤਕਨ", 13);
-    freq.put(" ਇੰ", 25);
-    freq.put(" ਇੱ", 255);
-    freq.put("ਦੀਆ", 75);
-    freq.put(" ਕਈ", 21);
-    freq.put("ਕਲਾ", 14);
-    freq.put("ਸੰਖ", 18);
-    freq.put(" ਕਾ", 86);
-    freq.put(" ਕਿ", 260);
-    freq.put(" ਕਹ", 19);
-    freq.put("ਸੰਬ", 52);
-    freq.put(" ਕਰ", 183);
-    freq.put(" ਕਲ", 399);
-    freq.put("ਸੰਤ", 12);
-    freq.put("ਸੰਸ", 37);
-    freq.put("ਯੂ", 73);
-    freq.put("ਯਾ ", 16);
-    freq.put("ੂਲੀ", 19);
-    freq.put("ਕਲਚ", 23);
-    freq.put(" ਇਲ", 20);
-    freq.put("ਅਤੇ", 407);
-    freq.put(" ਇਸ", 723);
-    freq.put(" ਇਹ", 533);
-    freq.put(" ਕੌ", 24);
-    freq.put(" ਕ੍", 23);
-    freq.put(" ਇਤ", 23);
-    freq.put(" ਇਥ", 21);
-    freq.put("ਕਲੰ", 379);
-    freq.put(" ਕੋ", 64);
-    freq.put("ਕੀਤ", 87);
-    freq.put(" ਕੇ", 73);
-    freq.put(" ਕੀ", 109);
-    freq.put(" ਕੁ", 68);
-    freq.put(" ਇਨ", 39);
-    freq.put("ਰੂ", 205);
-    freq.put("c", 194);
-    freq.put(" ਇਕ", 94);
-    freq.put("ਰਕ ", 18);
-    freq.put("ਾਤ ", 23);
-    freq.put("ੈ ", 444);
-    freq.put(" ਹੈ", 1352);
-    freq.put(" ਹੋ", 233);
-    freq.put("ਹਾਸ", 57);
-    freq.put("ਵਿਦ", 16);
-    freq.put(" ਹੀ", 66);
-    freq.put(" ਹੁ", 491);
-    freq.put("ਹਾਰ", 25);
-    freq.put("ਉਹਨ", 12);
-    freq.put("ਹਾਲ", 13);
-    freq.put(" ਹੇ", 15);
-    freq.put("ਜੇ", 38);
-    freq.put("ਹਾਨ", 18);
-    freq.put("ਜੀ", 234);
-    freq.put("ਜੁ", 64);
-    freq.put("ਹੱ", 25);
-    freq.put("ਹੰ", 15);
-    freq.put("ਵਿਸ", 21);
-    freq.put("੨੭ ", 13);
-    freq.put("ਜੋ", 120);
-    freq.put("ਨ।", 476);
-    freq.put("ਰਤਿ", 15);
-    freq.put("ਰਤਾ", 15);
-    freq.put("ਹੋ", 237);
-    freq.put("ਅਦ ", 27);
-    freq.put("ਹੌ", 13);
-    freq.put("ਜੰ", 41);
-    freq.put("ਮ ", 350);
-    freq.put("।ਇ", 25);
-    freq.put("ਪ", 1926);
-    freq.put("ਈਨ", 32);
-    freq.put("ਹੇ", 48);
-    freq.put("ਹਾਈ", 26);
-    freq.put("ਵਿਖ", 22);
-    freq.put("ਵਿਕ", 13);
-    freq.put("pe", 18);
-    freq.put("ਵਿਚ", 200);
-    freq.put("pi", 19);
-    freq.put("po", 12);
-    freq.put("ਹਾਂ", 94);
-    freq.put("ਹਨ", 550);
-    freq.put("ਹਮ", 13);
-    freq.put("ਚਰਲ", 20);
-    freq.put("N", 37);
-    freq.put("ਵਿੱ", 870);
-    freq.put("ਖਣ", 34);
-    freq.put(" ਕੰ", 44);
-    freq.put("ਹਿ", 360);
-    freq.put(" th", 90);
-    freq.put("ਾਅਦ", 30);
-    freq.put("ਹਰ", 67);
-    freq.put("ਹਲ", 14);
-    freq.put("ਸਥ", 50);
-    freq.put("ਰਤੀ", 63);
-    freq.put(" ਹਨ", 519);
-    freq.put("ਜਲ", 16);
-    freq.put("ਕਨ ", 15);
-    freq.put("ਜਾ", 547);
-    freq.put("ਜਿ", 213);
-    freq.put("ਜ਼", 304);
-    freq.put("੪", 62);
-    freq.put("ਜਦ", 23);
-    freq.put("ਜਧ", 12);
-    freq.put(" ਹਾ", 41);
-    freq.put(" ਹਿ", 46);
-    freq.put(" ਹਰ", 55);
-    freq.put("Oly", 12);
-    freq.put("ਜਨ", 116);
-    freq.put("ਿੱਧ", 18);
-    freq.put("ੁਨੀ", 20);
-    freq.put("ਿੱਤ", 44);
-    freq.put("ਗੜ੍", 19);
-    freq.put(" ੮ ", 14);
-    freq.put("ਂਕ", 18);
-    freq.put("ਂਗ", 31);
-    freq.put("ਕ", 3798);
-    freq.put("ੋਈ ", 39);
-    freq.put("rig", 16);
-    freq.put("ਂਟ", 25);
-    freq.put(" ਫਾ", 12);
-    freq.put(" ਫਿ", 18);
-    freq.put(" ਫ਼", 66);
-    freq.put("ਂਤ", 24);
-    freq.put("ੁ ", 14);
-    freq.put("ਂਦ", 244);
-    freq.put("ਾਸ ", 54);
-    freq.put("ਣਾ ", 86);
-    freq.put("ਾਣਕ", 12);
-    freq.put("ਿੱਖ", 61);
-    freq.put("ਂਸ", 30);
-    freq.put("ਿੱਚ", 863);
-    freq.put("ੱਧ ", 29);
-    freq.put("ਕਾ ", 68);
-    freq.put("ਮਨੇ", 20);
-    freq.put("੦੦", 66);
-    freq.put("ੀਅਨ", 27);
-    freq.put("ਚਾਈ", 23);
-    freq.put("੦੮", 25);
-    freq.put("ਚਾਲ", 16);
-    freq.put(" ਫੁ", 20);
-    freq.put(" ਫ੍", 14);
-    freq.put("ਲੇ", 163);
-    freq.put("y", 106);
-    freq.put("ਧਾਨ", 15);
-    freq.put("ੁਨਿ", 12);
-    freq.put("੨੪ ", 13);
-    freq.put("ਆਂ", 297);
-    freq.put("ਨੰ", 12);
-    freq.put("੨੫ ", 14);
-    freq.put("ੱਤੇ", 24);
-    freq.put("ਨ", 4410);
-    freq.put("ਨੋ", 19);
-    freq.put("ਨੈ", 12);
-    freq.put("ਨ੍", 89);
-    freq.put("ਨੂ", 341);
-    freq.put("ਨੀ", 200);
-    freq.put("ਲੋ", 133);
-    freq.put("ਨੇ", 196);
-    freq.put("੧੪ ", 14);
-    freq.put("ਠ ", 22);
-    freq.put("ld ", 18);
-    freq.put("ਨਾ", 539);
-    freq.put("ਰਲ ", 24);
-    freq.put("ਨਲ", 14);
-    freq.put("ਵੇਂ", 22);
-    freq.put("ਨਰ", 14);
-    freq.put("ਜਗ", 13);
-    freq.put("ਨਵ", 102);
-    freq.put("ਨਮ", 39);
-    freq.put("ੱਤਰ", 42);
-    freq.put("ੱਤਾ", 19);
-    freq.put("ਨਡ", 15);
-    freq.put("ਨਦ", 13);
-    freq.put("ਨਤ", 17);
-    freq.put("d", 221);
-    freq.put("ਨਜ", 12);
-    freq.put("੨", 239);
-    freq.put("ਵੇਦ", 48);
-    freq.put("ਨਕ", 44);
-    freq.put("ਲਗਾ", 13);
-    freq.put(" ਆਰ", 19);
-    freq.put("ਲੀਅ", 22);
-    freq.put("ਲੀਆ", 17);
-    freq.put("ਹਿੰ", 31);
-    freq.put("ਓ", 66);
-    freq.put("ੀਟਰ", 38);
-    freq.put("ੁਤ ", 26);
-    freq.put(" ਆਦ", 14);
-    freq.put(" ਆਪ", 76);
-    freq.put(" ਆਬ", 12);
-    freq.put(" ਆਮ", 22);
-    freq.put("ਕੁਝ", 20);
-    freq.put("ਹਨ ", 79);
-    freq.put("ਲੀਪ", 371);
-    freq.put("ਆ ", 416);
-    freq.put("ਲੀਵ", 25);
-    freq.put("ੇਗਰ", 13);
-    freq.put(" ਆਉ", 20);
-    freq.put("be", 16);
-    freq.put("ਹਿਸ", 19);
-    freq.put("ਕੁੱ", 13);
-    freq.put("ਪਰ ", 49);
-    freq.put("ਨ। ", 77);
-    freq.put("ਹਿਲ", 50);
-    freq.put("O", 37);
-    freq.put("ਹਿਰ", 60);
-    freq.put("ਹਿਬ", 75);
-    freq.put("ਹਿਨ", 24);
-    freq.put("ਹਿਤ", 27);
-    freq.put("ਵਰ", 201);
-    freq.put("ਂ।", 15);
-    freq.put("ਾਗ ", 23);
-    freq.put("ੂਦ", 14);
-    freq.put("ਂਟ ", 12);
-    freq.put("ੀਸਟ", 12);
-    freq.put(" ਪੜ", 16);
-    freq.put("ਬਲ ", 16);
-    freq.put("ਿਲ ", 25);
-    freq.put(" ਪ੍", 133);
-    freq.put("ਡਰ", 410);
-    freq.put("ਰਵਾ", 29);
-    freq.put("ਡਲ", 20);
-    freq.put(" ਸਟ", 13);
-    freq.put(" ਪੈ", 40);
-    freq.put(" ਪੋ", 18);
-    freq.put(" ਪੇ", 13);
-    freq.put(" ਪੁ", 69);
-    freq.put(" ਪੀ", 18);
-    freq.put(" ਸਕ", 45);
-    freq.put(" ਪੂ", 34);
-    freq.put(" ਸਪ", 16);
-    freq.put(" ਸਨ", 75);
-    freq.put(" ਸਮ", 69);
-    freq.put(" ਸਭ", 32);
-    freq.put(" ਸਬ", 19);
-    freq.put("ਤਰਾ", 24);
-    freq.put("ੰਕ ", 58);
-    freq.put(" ਪੰ", 163);
-    freq.put(" ਸਥ", 20);
-    freq.put(" ਸਤ", 61);
-    freq.put(" ਸਿ", 210);
-    freq.put(" ਸਾ", 1296);
-    freq.put(" ਸ਼", 257);
-    freq.put(" ਸਰ", 55);
-    freq.put("u ", 55);
-    freq.put("ਾ", 10004);
-    freq.put(" ਸੋ", 27);
-    freq.put(" ਪਟ", 13);
-    freq.put(" Co", 14);
-    freq.put(" ਸ੍", 21);
-    freq.put("ns ", 12);
-    freq.put(" ਸੂ", 56);
-    freq.put(" ਸੁ", 40);
-    freq.put(" ਸੀ", 135);
-    freq.put(" ਸੇ", 33);
-    freq.put("ਏ ", 114);
-    freq.put("ਜਨ ", 22);
-    freq.put("ਡੀ", 68);
-    freq.put(" ਪਿ", 76);
-    freq.put(" ਪਾ", 125);
-    freq.put(" ਪਹ", 57);
-    freq.put("ਡੇ", 30);
-    freq.put("ut", 16);
-    freq.put(" ਪਰ", 200);
-    freq.put("us", 14);
-    freq.put("ur", 21);
-    freq.put("um", 56);
-    freq.put("ਰੋ ", 14);
-    freq.put("un", 15);
-    freq.put(" ਸੱ", 24);
-    freq.put(" ਸੰ", 107);
-    freq.put("ua", 16);
-    freq.put("ਆ। ", 38);
-    freq.put("ਪੰ", 164);
-    freq.put("ਹੁੰ", 468);
-    freq.put("਼ ", 152);
-    freq.put("lym", 12);
-    freq.put("ਪੜ", 21);
-    freq.put("੨੮ ", 15);
-    freq.put("ਸਨ ", 38);
-    freq.put("ੀਜਿ", 21);
-    freq.put("ੰਕ", 75);
-    freq.put("ਾਨੇ", 13);
-    freq.put("ਪ੍", 176);
-    freq.put("ਪੈ", 44);
-    freq.put("ਪੋ", 22);
-    freq.put("ਪੇ", 23);
-    freq.put("ਪੀ", 37);
-    freq.put("ਪੁ", 90);
-    freq.put("ਪੂ", 52);
-    freq.put("ਪਾ", 168);
-    freq.put("ਪਿ", 130);
-    freq.put("ਪਸ", 12);
-    freq.put("ਪਹ", 57);
-    freq.put("ਪਰ", 222);
-    freq.put("ਅਤ ", 35);
-    freq.put(" ੯ ", 15);
-    freq.put("ਪਨ", 15);
-    freq.put("ਪਤ", 28);
-    freq.put("ਹੁਤ", 24);
-    freq.put("ਖੋਂ", 14);
-    freq.put("ਹੁਣ", 12);
-    freq.put("ਪਣ", 56);
-    freq.put("ਪਟ", 24);
-    freq.put("e", 655);
-    freq.put("੩", 93);
-    freq.put("ਾਹ ", 17);
-    freq.put("ਧਾਰ", 30);
-    freq.put("਼ਨ ", 23);
-    freq.put("ੇਸ਼", 80);
-    freq.put("ੁਟਬ", 13);
-    freq.put("ੱਦ ", 13);
-    freq.put(" b", 21);
-    freq.put(" c", 34);
-    freq.put(" a", 133);
-    freq.put(" f", 30);
-    freq.put(" d", 21);
-    freq.put(" e", 15);
-    freq.put(" h", 17);
-    freq.put(" i", 57);
-    freq.put(" o", 57);
-    freq.put(" m", 24);
-    freq.put(" r", 16);
-    freq.put(" s", 54);
-    freq.put(" p", 41);
-    freq.put(" w", 40);
-    freq.put(" t", 120);
-    freq.put("go", 13);
-    freq.put("gh", 19);
-    freq.put(" B", 32);
-    freq.put(" C", 54);
-    freq.put(" A", 46);
-    freq.put(" F", 17);
-    freq.put(" G", 21);
-    freq.put(" D", 15);
-    freq.put(" E", 17);
-    freq.put("ਾਲੇ", 56);
-    freq.put(" H", 25);
-    freq.put(" I", 54);
-    freq.put(" N", 32);
-    freq.put(" O", 31);
-    freq.put(" L", 21);
-    freq.put(" M", 43);
-    freq.put(" R", 22);
-    freq.put(" S", 47);
-    freq.put(" P", 44);
-    freq.put(" W", 15);
-    freq.put(" T", 36);
-    freq.put("ਦੀ ", 510);
-    freq.put("ed ", 32);
-    freq.put("ਕੰਪ", 19);
-    freq.put("ਯੂਨ", 34);
-    freq.put("ੌ", 206);
-    freq.put("ਥਾ ", 23);
-    freq.put("P", 47);
-    freq.put("g ", 34);
-    freq.put("ਯੂਲ", 19);
-    freq.put("ਯੂਰ", 14);
-    freq.put(" ਏ।", 18);
-    freq.put("ਮੈਨ", 17);
-    freq.put("ਰਡ ", 23);
-    freq.put("ਸਲਾ", 21);
-    freq.put("ੋਕ ", 20);
-    freq.put("ਖੀ", 35);
-    freq.put("ਰਖ", 17);
-    freq.put("ਰਗ", 45);
-    freq.put("ਰਕ", 76);
-    freq.put("ਰਚ", 72);
-    freq.put("ਸ ", 997);
-    freq.put("ਲਮ ", 13);
-    freq.put("ਰਟ", 18);
-    freq.put("ਰਜ", 81);
-    freq.put("ਆਉਂ", 16);
-    freq.put("੧੧ ", 12);
-    freq.put("ਂਡ ", 22);
-    freq.put("ਸਤਾ", 54);
-    freq.put("ੀਨ ", 57);
-    freq.put("ੌਂ ", 41);
-    freq.put("ਮਾਂ", 39);
-    freq.put("ਰਲ", 37);
-    freq.put("ਨਕ ", 14);
-    freq.put("ਰਵ", 92);
-    freq.put("ਰਸ", 179);
-    freq.put("ਰਹ", 94);
-    freq.put("ਰਾ", 502);
-    freq.put("ਮਾਲ", 18);
-    freq.put("ਮਾਰ", 62);
-    freq.put("ਰਣ", 36);
-    freq.put("ਰਡ", 28);
-    freq.put("ਰਦ", 131);
-    freq.put("ਰਤ", 198);
-    freq.put("ਮਾਨ", 46);
-    freq.put("ਰਪ", 20);
-    freq.put("ਰਫ", 22);
-    freq.put("ਰਨ", 116);
-    freq.put("ਮਾਤ", 26);
-    freq.put("ਮਾਣ", 116);
-    freq.put("ਰਬ", 46);
-    freq.put("ੂਰ ", 25);
-    freq.put("ਾਵਾ", 47);
-    freq.put("ਰੀ", 839);
-    freq.put("ਰੁ", 36);
-    freq.put("ਰੇ", 213);
-    freq.put("ਸਤੰ", 39);
-    freq.put("ਰੋ", 128);
-    freq.put("ਰੈ", 428);
-    freq.put("ਾਵਲ", 13);
-    freq.put("ਰ੍", 22);
-    freq.put("ਰੰ", 40);
-    freq.put("ਰੱ", 21);
-    freq.put("ਖਤ", 12);
-    freq.put("ਖਦ", 15);
-    freq.put("ਖਰ", 32);
-    freq.put("ੈਨ ", 18);
-    freq.put("ਖ਼", 60);
-    freq.put("cti", 12);
-    freq.put("ਖਾ", 81);
-    freq.put("ਖਿ", 54);
-    freq.put("ੋ ", 213);
-    freq.put("ੋਗਰ", 27);
-    freq.put("ਣਿਆ", 40);
-    freq.put("ਢ", 42);
-    freq.put("ਪੜ੍", 12);
-    freq.put("ਦਨ ", 52);
-    freq.put(" ਐਗ", 22);
-    freq.put("ੰਬਰ", 125);
-    freq.put("ੋਣ ", 17);
-    freq.put("om", 42);
-    freq.put("ੀਮਾ", 12);
-    freq.put("ਣਿਤ", 17);
-    freq.put("f", 103);
-    freq.put("ਾਤਾ", 27);
-    freq.put("ੈਲ", 73);
-    freq.put("ਰਗ ", 14);
-    freq.put("ਭਾਵ", 14);
-    freq.put("ਆਂ ", 277);
-    freq.put("ਾਨ ", 155);
-    freq.put("੩੧", 18);
-    freq.put("੩੦", 26);
-    freq.put("ਟਿ", 29);
-    freq.put("ਟਾ", 78);
-    freq.put(" ਜਦ", 19);
-    freq.put("di", 36);
-    freq.put("ੈਨ", 38);
-    freq.put("ਟਰ", 121);
-    freq.put("ਟਬ", 13);
-    freq.put("ਓਲ", 31);
-    freq.put("ਅੱ", 34);
-    freq.put("ਅੰ", 220);
-    freq.put("ੌਤ", 23);
-    freq.put("de", 37);
-    freq.put("ਅਨ ", 34);
-    freq.put("ਰਿਆ", 72);
-    freq.put("੍", 1046);
-    freq.put("ow", 13);
-    freq.put("ਟ੍", 17);
-    freq.put("ਇਲ ", 16);
-    freq.put("ੈਣ", 13);
-    freq.put("ਸਟਾ", 14);
-    freq.put("ਅਗ", 69);
-    freq.put("ਰਿਕ", 21);
-    freq.put("ਟੀ", 130);
-    freq.put("ਅਮ", 113);
-    freq.put("ੌਂ", 47);
-    freq.put("ਅਨ", 55);
-    freq.put("੨੯ ", 16);
-    freq.put("਼ਸੀ", 29);
-    freq.put("ਅਤ", 454);
-    freq.put("ਰਿਤ", 27);
-    freq.put("ਅਦ", 42);
-    freq.put("ਅਸ", 23);
-    freq.put("ਰਿਸ", 18);
-    freq.put("ਰਿਹ", 15);
-    freq.put("ੌਜ", 14);
-    freq.put("ਅਰ", 63);
-    freq.put("ਅਲ", 18);
-    freq.put("ਭ", 430);
-    freq.put("ਡਦੀ", 12);
-    freq.put("ਨਵਰ", 42);
-    freq.put("ਾਦੀ", 22);
-    freq.put("ਮਹੀ", 13);
-    freq.put("ਠ", 69);
-    freq.put("ld", 21);
-    freq.put("le", 33);
-    freq.put("la", 31);
-    freq.put("ੜਾ", 29);
-    freq.put("lo", 16);
-    freq.put("ll", 20);
-    freq.put("li", 35);
-    freq.put("ਅਗਸ", 63);
-    freq.put("ੂੰ", 335);
-    freq.put("ly", 15);
-    freq.put("ੂਆ", 13);
-    freq.put("ਟਨ", 25);
-    freq.put("ੜੇ", 20);
-    freq.put("ਨਵੰ", 36);
-    freq.put("। ", 1125);
-    freq.put("ੜੀ", 29);
-    freq.put("੧ ", 77);
-    freq.put("ੂਜ", 17);
-    freq.put("ੜ੍", 38);
-    freq.put("ਵੰਬ", 36);
-    freq.put("ਮਹਾ", 43);
-    freq.put("ਮਹਿ", 32);
-    freq.put("l ", 48);
-    freq.put("ੂਬ", 50);
-    freq.put("ਾਦਾ", 19);
-    freq.put("ੂਨ", 78);
-    freq.put("ੂਪ", 31);
-    freq.put("ਵੰਡ", 19);
-    freq.put("ੂਰ", 124);
-    freq.put("ੂਲ", 53);
-    freq.put("ਜੰਗ", 15);
-    freq.put("ਨੇਂ", 14);
-    freq.put("ਗੁਰ", 167);
-    freq.put("ਤੀਆ", 19);
-    freq.put("੍ ", 22);
-    freq.put("ੜੀ ", 26);
-    freq.put("ਿਆ ", 232);
-    freq.put("ਰੈਗ", 367);
-    freq.put("ਰੈਕ", 12);
-    freq.put("ਮਨ ", 35);
-    freq.put("ਅਪ੍", 39);
-    freq.put("ਇਤਿ", 19);
-    freq.put("ੰਡ ", 46);
-    freq.put("ੌਮ", 17);
-    freq.put("ਰੈਲ", 39);
-    freq.put("ਮੰਨ", 14);
-    freq.put("ਭੌਤ", 12);
-    freq.put("ੋ", 1676);
-    freq.put("ਮੰਡ", 22);
-    freq.put("ਬਕ ", 378);
-    freq.put("੧੦ ", 14);
-    freq.put("g", 125);
-    freq.put("ਅਜ", 34);
-    freq.put("ਜੂਨ", 35);
-    freq.put("re ", 16);
-    freq.put("ਸਕ", 73);
-    freq.put("ਾਸ", 245);
-    freq.put("ਾਹ", 169);
-    freq.put("ੌਰ", 50);
-    freq.put("ਤੱਕ", 12);
-    freq.put("ਾਰ", 660);
-    freq.put("ਾਲ", 1569);
-    freq.put("rs ", 13);
-    freq.put("ਾਵ", 109);
-    freq.put("ਾਨ", 318);
-    freq.put("ਟੇ", 26);
-    freq.put("ਾਪ", 44);
-    freq.put("ਾਬ", 594);
-    freq.put("ਾਮ", 104);
-    freq.put("ਾਡ", 16);
-    freq.put("ਮ", 2207);
-    freq.put("ਾਤ", 101);
-    freq.put("ਾਦ", 96);
-    freq.put("ਾਧ", 15);
-    freq.put("ਾਚ", 13);
-    freq.put("ਾਜ", 126);
-    freq.put(" ਏਫ", 13);
-    freq.put(" ਏਨ", 15);
-    freq.put("ਇੰ", 32);
-    freq.put("ਕਸ਼", 26);
-    freq.put("ੱਡਾ", 23);
-    freq.put("ਜਿਮ", 22);
-    freq.put("ਾਕ", 443);
-    freq.put("ਾਖ", 18);
-    freq.put("ਾਗ", 63);
-    freq.put("ਜਿਲ", 12);
-    freq.put("ਾਉ", 53);
-    freq.put(" ਏਸ", 15);
-    freq.put("ਜਿਸ", 70);
-    freq.put("ਜਿਹ", 19);
-    freq.put(" ਏਲ", 14);
-    freq.put("ਾਅ", 32);
-    freq.put("ਾਇ", 185);
-    freq.put("ਰਦੁ", 28);
-    freq.put("ਇਕ", 101);
-    freq.put("ਮਿ", 154);
-    freq.put("਼ਿਲ", 75);
-    freq.put("ਇਆ", 135);
-    freq.put("R", 24);
-    freq.put("਼ਿਆ", 14);
-    freq.put("ਇਲ", 37);
-    freq.put("ਅਪ", 47);
-    freq.put("ਇਹ", 542);
-    freq.put("ਇਸ", 741);
-    freq.put("ਜਿੰ", 30);
-    freq.put("ਇਤ", 25);
-    freq.put("ਇਣ", 62);
-    freq.put("ਰਬੀ", 20);
-    freq.put("ਅਧ", 17);
-    freq.put("ਇਨ", 48);
-    freq.put("ਨਹੀ", 36);
-    freq.put("ਦਿ ", 15);
-    freq.put("ਟਾ ", 22);
-    freq.put("ਰਾਂ", 87);
-    freq.put("ਿਬ ", 69);
-    freq.put("ਸਸ ", 13);
-    freq.put("ਰਾਜ", 89);
-    freq.put("ੁਰੂ", 142);
-    freq.put("ਡ", 853);
-    freq.put("ਰਾਨ", 31);
-    freq.put("ਜਾਦ", 21);
-    freq.put("ਰਾਬ", 13);
-    freq.put("ਬ ", 211);
-    freq.put("ਰਾਮ", 35);
-    freq.put("ਰਾਣ", 19);
-    freq.put("ਰਾਹ", 24);
-    freq.put("ਰਾਸ", 25);
-    freq.put("ਜਾਣ", 55);
-    freq.put("ੰਗ ", 69);
-    freq.put("ਮੁ", 499);
-    freq.put("ਿਊਟ", 14);
-    freq.put("ਚੰਦ", 21);
-    freq.put("ਰਾਵ", 14);
-    freq.put("ਅਮ ", 45);
-    freq.put("ਗਾ ", 22);
-    freq.put("ਮੇ", 59);
-    freq.put("ੁਰਸ", 21);
-    freq.put("ੁਰਾ", 23);
-    freq.put("੧੪", 15);
-    freq.put("ਤੌਰ", 15);
-    freq.put("ੁਰਦ", 34);
-    freq.put(" ਵਾ", 793);
-    freq.put(" ਵਿ", 1204);
-    freq.put(" ਵਸ", 13);
-    freq.put("ਤਸ", 17);
-    freq.put("ਥਿਹ", 26);
-    freq.put(" ਵਰ", 63);
-    freq.put("ਥਿਤ", 12);
-    freq.put(" ਵਧ", 14);
-    freq.put("ਤੱਤ", 53);
-    freq.put("ਤਵ", 19);
-    freq.put("ਤ", 3377);
-    freq.put(" ਵਖ", 19);
-    freq.put(" is", 12);
-    freq.put("ੀਵਰ", 32);
-    freq.put(" । ", 128);
-    freq.put("ੀਵਨ", 13);
-    freq.put(" in", 40);
-    freq.put("ੱਤ ", 62);
-    freq.put(" ਵੰ", 18);
-    freq.put(" ਵੱ", 108);
-    freq.put("ਲੇਖ", 15);
-    freq.put("ਨ ", 1907);
-    freq.put("ੋਬਿ", 25);
-    freq.put("ng ", 24);
-    freq.put("h", 252);
-    freq.put("ਵੇ ", 16);
-    freq.put(" ਵੈ", 16);
-    freq.put("ਿ", 5178);
-    freq.put(" ਵੇ", 12);
-    freq.put(" ਵੀ", 103);
-    freq.put("ੀਂ", 64);
-    freq.put("ਆਖ", 12);
-    freq.put("ੁਤਾ", 380);
-    freq.put("ਦਲ", 21);
-    freq.put("ਏ", 233);
-    freq.put(" ਆ ", 21);
-    freq.put("Ol", 12);
-    freq.put("ਆਇ", 12);
-    freq.put("ਆਉ", 22);
-    freq.put("ਆਰ", 95);
-    freq.put("ਲੀ ", 116);
-    freq.put("ਆਲ", 16);
-    freq.put("ਵਲ ", 18);
-    freq.put("ਆਵ", 17);
-    freq.put(" ਧਰ", 56);
-    freq.put("ਆਸ", 22);
-    freq.put("ਈਨਾ", 22);
-    freq.put("ਲਿਖ", 25);
-    freq.put("ਦਸ", 57);
-    freq.put("ਆਣ", 33);
-    freq.put("ਹਨਾ", 25);
-    freq.put("ਆਦ", 35);
-    freq.put("ਆਨ", 54);
-    freq.put("ਾ। ", 18);
-    freq.put("ਆਪ", 78);
-    freq.put("ਿਖਾ", 19);
-    freq.put("ਲਿਆ", 33);
-    freq.put("ਿਖੇ", 23);
-    freq.put("ਪਰਮ", 113);
-    freq.put("S", 55);
-    freq.put("ਹਿ ", 31);
-    freq.put("ਾਗਰ", 20);
-    freq.put(" ਕੈ", 22);
-    freq.put("ਰਣ ", 20);
-    freq.put("ck", 12);
-    freq.put("ਡ ", 132);
-    freq.put("ch", 22);
-    freq.put("co", 29);
-    freq.put("ਿਲਦ", 12);
-    freq.put("ca", 15);
-    freq.put("ਰੋੜ", 12);
-    freq.put("ਿਲਾ", 83);
-    freq.put("ਛੋਟ", 13);
-    freq.put("ਊਟ", 14);
-    freq.put("ਸਦਾ", 17);
-    freq.put("cs", 14);
-    freq.put("ਥੇ ", 48);
-    freq.put("ੀਪ ", 375);
-    freq.put("ct", 18);
-    freq.put("ੁਆ", 59);
-    freq.put("ਤਰ ", 83);
-    freq.put("ਜਨਵ", 39);
-    freq.put("ਏਫ", 13);
-    freq.put("ਏਨ", 15);
-    freq.put("c ", 16);
-    freq.put("ਰੋਜ", 15);
-    freq.put("ਜਨਸ", 13);
-    freq.put("ਪਾਕ", 32);
-    freq.put("ਏਸ", 17);
-    freq.put("ਜਨਮ", 32);
-    freq.put("ੀਤ ", 15);
-    freq.put("ਏਲ", 14);
-    freq.put("ਪਾਣ", 18);
-    freq.put("ੂਸ", 23);
-    freq.put("ਿਲ੍", 13);
-    freq.put("ਿਲੋ", 46);
-    freq.put("ਸਦੀ", 15);
-    freq.put("ਸਦੇ", 13);
-    freq.put("ੜ੍ਹ", 37);
-    freq.put("ਪਾਰ", 18);
-    freq.put("ਪਾਸ", 19);
-    freq.put("ਰੋਮ", 30);
-    freq.put("ਬਾਬ", 12);
-    freq.put("਼ਵ", 12);
-    freq.put("ve", 29);
-    freq.put("ਕਈ ", 21);
-    freq.put("਼ਾ", 203);
-    freq.put("ਖੇ ", 23);
-    freq.put("ਾਹੀ", 40);
-    freq.put("ਬਾਦ", 22);
-    freq.put("਼ਸ", 37);
-    freq.put("਼ਹ", 70);
-    freq.put("਼ਤ", 27);
-    freq.put("਼ਮ", 21);
-    freq.put("਼ਬ", 33);
-    freq.put("ਬਾਰ", 32);
-    freq.put("਼ਨ", 40);
-    freq.put("ਬਾਲ", 27);
-    freq.put("਼ਖ", 29);
-    freq.put("of ", 41);
-    freq.put("ਥ", 271);
-    freq.put("ਬਾਈ", 14);
-    freq.put("ਬਾਅ", 27);
-    freq.put("਼ਟ", 24);
-    freq.put("ਬਾਕ", 372);
-    freq.put("ੈ।", 922);
-    freq.put("ਸਨੂ", 15);
-    freq.put("ਜੰਤ", 20);
-    freq.put("ੋਇਆ", 71);
-    freq.put("ਬਲਾ", 20);
-    freq.put("ion", 36);
-    freq.put("ਪ ", 461);
-    freq.put("ਟੀਮ", 54);
-    freq.put("ੇਸ ", 12);
-    freq.put("i", 537);
-    freq.put("ਾੜੀ", 12);
-    freq.put("ਾਹਿ", 88);
-    freq.put("਼ੀ", 109);
-    freq.put(" Th", 15);
-    freq.put("ਲਈ ", 78);
-    freq.put("ੰਘ ", 71);
-    freq.put("਼ੋ", 16);
-    freq.put("਼ੈ", 21);
-    freq.put("ਲਕ", 25);
-    freq.put("ਿਗਿ", 35);
-    freq.put("ਲਗ", 28);
-    freq.put("ਆਪਣ", 51);
-    freq.put("ਏ।", 33);
-    freq.put("ਲਚ", 23);
-    freq.put(" ਦੁ", 51);
-    freq.put(" ਦੀ", 419);
-    freq.put(" ਦੂ", 37);
-    freq.put(" ਦੇ", 1425);
-    freq.put(" ਦੋ", 31);
-    freq.put("ਲਈ", 79);
-    freq.put("ਾਮ ", 62);
-    freq.put(" ਦੱ", 14);
-    freq.put("ਲਵ", 25);
-    freq.put("ਲਾ", 368);
-    freq.put("ਲਿ", 106);
-    freq.put("ਲਹ", 12);
-    freq.put("ਲਤ", 16);
-    freq.put("ਲਦ", 24);
-    freq.put("ਲਣ", 25);
-    freq.put("ਲਬ", 13);
-    freq.put("ਸ", 5034);
-    freq.put("ਲਮ", 25);
-    freq.put("ਲੜ", 14);
-    freq.put("ਨੇਜ", 20);
-    freq.put("ਲਾਵ", 16);
-    freq.put(" ੧੮", 24);
-    freq.put("ਰੀ ", 651);
-    freq.put("ਲੀ", 580);
-    freq.put("T", 45);
-    freq.put(" ੧੯", 41);
-    freq.put("ਲ੍", 24);
-    freq.put("ਲੈ", 43);
-    freq.put("੦੦ ", 21);
-    freq.put(" ਦਰ", 56);
-    freq.put("ਲੰ", 416);
-    freq.put("ਲੱ", 23);
-    freq.put(" ਦਸ", 54);
-    freq.put(" ਦਿ", 1171);
-    freq.put(" ਦਾ", 950);
-    freq.put("ਲਾਈ", 52);
-    freq.put(" ੧੨", 16);
-    freq.put("ਣੇ ", 51);
-    freq.put("ਲਾਂ", 56);
-    freq.put("igh", 12);
-    freq.put("a ", 87);
-    freq.put("ਤਕ ", 19);
-    freq.put("ਰਕੇ", 20);
-    freq.put("ਾਤੀ", 12);
-    freq.put("ਣ", 777);
-    freq.put("nd ", 32);
-    freq.put("ਦਸੰ", 39);
-    freq.put("ਜੈ", 24);
-    freq.put("pr", 12);
-    freq.put("ੈਟ", 17);
-    freq.put("ਹੈ", 1355);
-    freq.put("ਮਿਕ", 21);
-    freq.put("ੈਗ", 377);
-    freq.put("ਪੁਰ", 63);
-    freq.put("ੈਕ", 39);
-    freq.put("ੈਂ", 49);
-    freq.put("ਸਥਾ", 37);
-    freq.put("ਸਥਿ", 13);
-    freq.put("ਘਰ", 19);
-    freq.put("ਕੀ ", 396);
-    freq.put("ndi", 15);
-    freq.put("ੈਸ", 23);
-    freq.put("ਮਿਸ", 19);
-    freq.put("ਸਨ।", 37);
-    freq.put("ਖੇਤ", 37);
-    freq.put("ਾਤਰ", 17);
-    freq.put("ੈਰ", 17);
-    freq.put("ਖੇਡ", 37);
-    freq.put("ਮਿਲ", 41);
-    freq.put("ਹੁ", 520);
-    freq.put("ਰਕਾ", 23);
-    freq.put("ਟੀ ", 57);
-    freq.put("es ", 28);
-    freq.put("ਮਿਥ", 28);
-    freq.put("ੁਕਾ", 27);
-    freq.put("ੈਦ", 24);
-    freq.put("਼ੀ ", 81);
-    freq.put("ਮਈ", 41);
-    freq.put("ੱਲ ", 23);
-    freq.put("ਹੂ", 17);
-    freq.put("ਉਹ ", 40);
-    freq.put("ਕਨੀ", 13);
-    freq.put(" ਟਰ", 13);
-    freq.put("ਮਜ", 12);
-    freq.put("ਲਚਰ", 23);
-    freq.put("h ", 33);
-    freq.put("ਹਾ ", 59);
-    freq.put("ਮਕ", 17);
-    freq.put("ਮਨ", 98);
-    freq.put("ਤੂਬ", 34);
-    freq.put("ਮਤ", 30);
-    freq.put("ਮਦ", 18);
-    freq.put("ਮਸ", 29);
-    freq.put("ਮਹ", 96);
-    freq.put("ਮਾ", 391);
-    freq.put("ਅਨੁ", 13);
-    freq.put("ਮਰ", 69);
-    freq.put("ਵਿਗ", 34);
-    freq.put("ਮਲ", 18);
-    freq.put("ਰਤ ", 82);
-    freq.put("ਮੈ", 49);
-    freq.put("ਮੋ", 28);
-    freq.put("ਮੌ", 19);
-    freq.put("ਮ੍", 15);
-    freq.put("ਮੀ", 82);
-    freq.put("ਹ ", 633);
-    freq.put("ਮੂ", 19);
-    freq.put("ht", 18);
-    freq.put("hu", 17);
-    freq.put("ੋਰ ", 44);
-    freq.put("hi", 29);
-    freq.put("ho", 16);
-    freq.put("ha", 27);
-    freq.put("he", 95);
-    freq.put("ਤੌਂ", 25);
-    freq.put("।", 1840);
-    freq.put("੍ਹਾ", 96);
-    freq.put("j", 16);
-    freq.put("ਨਸ", 36);
-    freq.put(" ਲੋ", 37);
-    freq.put("ਜ ", 145);
-    freq.put("ਮੰ", 60);
-    freq.put("ਮੱ", 15);
-    freq.put(" ਟੀ", 56);
-    freq.put("ਣਾਇ", 20);
-    freq.put("ਰਮਾ", 139);
-    freq.put("pic", 12);
-    freq.put("੦ ", 87);
-    freq.put("ਰਮਨ", 15);
-    freq.put("ਨਹ", 40);
-    freq.put("ੁਕ", 56);
-    freq.put("ੁਖ", 20);
-    freq.put("ine", 16);
-    freq.put("ing", 33);
-    freq.put("ੁਝ", 24);
-    freq.put("ੁਜ", 22);
-    freq.put("ੁਟ", 25);
-    freq.put("ੁਣ", 26);
-    freq.put("ਲੰਪ", 29);
-    freq.put("ਂ ", 2409);
-    freq.put("ੁਤ", 412);
-    freq.put("ੁਦ", 13);
-    freq.put("ੁਨ", 42);
-    freq.put("ੁਮ", 18);
-    freq.put("ੁਰ", 279);
-    freq.put("ੁਲ", 97);
-    freq.put("es", 53);
-    freq.put("ਹ", 4455);
-    freq.put("ਾਸ਼", 82);
-    freq.put("ਾਸਿ", 34);
-    freq.put("ਾਸੇ", 16);
-    freq.put("ਓਲੰ", 29);
-    freq.put("U", 14);
-    freq.put("਼ਹਿ", 50);
-    freq.put("in ", 38);
-    freq.put("ਧਰਮ", 31);
-    freq.put("ਧਰਤ", 22);
-    freq.put("ਹਨ।", 438);
-    freq.put("ੁੱ", 117);
-    freq.put("ੁੰ", 490);
-    freq.put("ਚਾ ", 12);
-    freq.put("ਆ।", 54);
-  }
-  
 }
-
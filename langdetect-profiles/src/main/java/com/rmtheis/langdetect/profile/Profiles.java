@@ -0,0 +1,45 @@
+package com.rmtheis.langdetect.profile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.cybozu.labs.langdetect.LangDetectException;
+import com.cybozu.labs.langdetect.ProfileReader;
+import com.cybozu.labs.langdetect.util.LangProfile;
+
+/**
+ * Reads the bundled language profiles.
+ *
+ * The profiles of the <code>profiles</code> directory are packaged as classpath resources
+ * next to this class (<code>json/en</code>, <code>json/zh-cn</code>, ...), so the profile classes
+ * stay small whatever the size of a profile.
+ * Every call reads the profile again; keep the result instead of calling twice.
+ */
+public final class Profiles {
+    private static final String RESOURCE_DIRECTORY = "json/";
+
+    private Profiles() {
+    }
+
+    /**
+     * Read a bundled language profile
+     * @param lang language code, e.g. <code>"en"</code> or <code>"zh-cn"</code>
+     * @return Language profile instance
+     * @throws IllegalArgumentException if no profile of the language is bundled
+     */
+    public static LangProfile load(String lang) {
+        InputStream is = Profiles.class.getResourceAsStream(RESOURCE_DIRECTORY + lang);
+        if (is == null) {
+            throw new IllegalArgumentException("no profile of language: " + lang);
+        }
+        try {
+            return ProfileReader.read(is, lang);
+        } catch (LangDetectException e) {
+            throw new IllegalStateException("broken profile of language " + lang + ": " + e.getMessage(), e);
+        } finally {
+            try {
+                is.close();
+            } catch (IOException e) {}
+        }
+    }
+}
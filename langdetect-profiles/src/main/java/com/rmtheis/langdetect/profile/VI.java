@@ -1,6388 +1,15 @@
 package com.rmtheis.langdetect.profile;
 
-import java.util.HashMap;
-
 import com.cybozu.labs.langdetect.util.LangProfile;
-import com.cybozu.labs.langdetect.util.NGram;
 
 public class VI {
   private static final String name = "vi";
-  private static final HashMap<String, Integer> freq = new HashMap<String, Integer>();
-  private static final int[] n_words = new int[NGram.N_GRAM];
 
   public VI() {
-    init();  
   }
 
   public final LangProfile getLangProfile() {
-    return new LangProfile(name, freq, n_words);
+    return Profiles.load(name);
   }
-  
-  private void init() {
-    n_words[0] = 13809827;
-    n_words[1] = 17315344;
-    n_words[2] = 13396979;
-
-    freq.put("oểi", 4411);
-    freq.put("rà ", 170);
-    freq.put("oển", 3941);
-    freq.put("oểc", 3719);
-    freq.put("oểt", 2492);
-    freq.put("xtr", 322);
-    freq.put("éri", 203);
-    freq.put("tíc", 15647);
-    freq.put("临", 665);
-    freq.put("éra", 396);
-    freq.put("tín", 2825);
-    freq.put("oể ", 155);
-    freq.put("rào", 384);
-    freq.put("ràn", 171);
-    freq.put("Lư", 806);
-    freq.put("dãy", 398);
-    freq.put(" yê", 400);
-    freq.put("làn", 610);
-    freq.put("làm", 1846);
-    freq.put(" Ul", 140);
-    freq.put("oà ", 337);
-    freq.put(" y ", 288);
-    freq.put("òng", 2223);
-    freq.put("là ", 152991);
-    freq.put("xa ", 336);
-    freq.put("Lă", 215);
-    freq.put("k", 100510);
-    freq.put("oài", 34230);
-    freq.put("Lâ", 833);
-    freq.put("Lã", 279);
-    freq.put("Là", 800);
-    freq.put("uce", 268);
-    freq.put("Lê", 927);
-    freq.put("Lé", 142);
-    freq.put("Lü", 151);
-    freq.put("Lý", 664);
-    freq.put("hoà", 1969);
-    freq.put("hoá", 860);
-    freq.put("nôn", 377);
-    freq.put("uân", 5407);
-    freq.put("Le", 5532);
-    freq.put("La", 11255);
-    freq.put("Lo", 11096);
-    freq.put("Li", 5716);
-    freq.put("Lu", 1591);
-    freq.put("Ly", 614);
-    freq.put("hof", 203);
-    freq.put("hod", 441);
-    freq.put("hoe", 206);
-    freq.put("hoc", 207);
-    freq.put("hoa", 5214);
-    freq.put("hon", 2401);
-    freq.put("hoo", 159);
-    freq.put("hol", 800);
-    freq.put("hom", 456);
-    freq.put("hoi", 164);
-    freq.put("how", 204);
-    freq.put("hot", 229);
-    freq.put("hou", 479);
-    freq.put("hor", 2606);
-    freq.put("hos", 411);
-    freq.put("hop", 241);
-    freq.put("uco", 341);
-    freq.put("A", 42579);
-    freq.put("م", 187);
-    freq.put("L ", 642);
-    freq.put("ho ", 7256);
-    freq.put("ū", 650);
-    freq.put(" V ", 169);
-    freq.put("zam", 416);
-    freq.put("zak", 194);
-    freq.put("rô", 669);
-    freq.put("rõ", 266);
-    freq.put("rö", 667);
-    freq.put("rò", 801);
-    freq.put("rü", 313);
-    freq.put("rù", 551);
-    freq.put("rú", 838);
-    freq.put("fic", 547);
-    freq.put("rà", 746);
-    freq.put("rá", 1135);
-    freq.put("râ", 232);
-    freq.put("rã", 310);
-    freq.put("rì", 2865);
-    freq.put("rí", 1219);
-    freq.put("rè", 166);
-    freq.put("ré", 3552);
-    freq.put("rê", 17007);
-    freq.put(" Va", 2209);
-    freq.put(" Ve", 2261);
-    freq.put(" Vi", 16180);
-    freq.put("Sể ", 900);
-    freq.put(" Vo", 1912);
-    freq.put(" Vu", 317);
-    freq.put("woo", 295);
-    freq.put(" ể ", 57997);
-    freq.put("ũi", 200);
-    freq.put("ũn", 2955);
-    freq.put("rt", 11056);
-    freq.put("ru", 33603);
-    freq.put("rv", 1083);
-    freq.put("rw", 648);
-    freq.put("rp", 2369);
-    freq.put("rq", 206);
-    freq.put("rr", 9518);
-    freq.put("rs", 7765);
-    freq.put("ry", 4815);
-    freq.put("rz", 821);
-    freq.put("rd", 9664);
-    freq.put("re", 31859);
-    freq.put("rf", 2041);
-    freq.put("rg", 11132);
-    freq.put("ra", 48559);
-    freq.put("rb", 3024);
-    freq.put("rc", 4893);
-    freq.put("rl", 2540);
-    freq.put("rm", 6127);
-    freq.put("rn", 10149);
-    freq.put("ro", 79309);
-    freq.put("rh", 1015);
-    freq.put("ri", 45411);
-    freq.put("sma", 1028);
-    freq.put("rk", 3126);
-    freq.put(" Và", 232);
-    freq.put(" Vâ", 484);
-    freq.put(" ển", 5390);
-    freq.put(" ểm", 264);
-    freq.put(" ểc", 15788);
-    freq.put("kê ", 1566);
-    freq.put(" ểy", 799);
-    freq.put(" Võ", 190);
-    freq.put(" Vù", 202);
-    freq.put("ũ ", 2155);
-    freq.put("ate", 3193);
-    freq.put("atc", 165);
-    freq.put("ata", 3801);
-    freq.put("ato", 1406);
-    freq.put("ath", 1382);
-    freq.put("ati", 4840);
-    freq.put("att", 609);
-    freq.put("atu", 1696);
-    freq.put("r ", 23753);
-    freq.put("ats", 390);
-    freq.put("Phá", 21296);
-    freq.put("ds ", 1070);
-    freq.put("aty", 238);
-    freq.put("Swi", 186);
-    freq.put("Dun", 239);
-    freq.put(" Vĩ", 455);
-    freq.put("Duy", 294);
-    freq.put("Hil", 320);
-    freq.put(" Vă", 1148);
-    freq.put("vể", 53705);
-    freq.put("Cen", 1295);
-    freq.put("Cel", 188);
-    freq.put("xil", 335);
-    freq.put("xin", 153);
-    freq.put("nz ", 267);
-    freq.put("Cer", 828);
-    freq.put(" Vũ", 587);
-    freq.put("Hin", 145);
-    freq.put("xi ", 160);
-    freq.put("rư", 7067);
-    freq.put("phể", 19501);
-    freq.put("í", 49339);
-    freq.put("nza", 905);
-    freq.put("nze", 176);
-    freq.put("iar", 265);
-    freq.put("oqu", 150);
-    freq.put(" Vư", 1101);
-    freq.put("Ass", 392);
-    freq.put("ア", 496);
-    freq.put("Ast", 281);
-    freq.put("cể", 67050);
-    freq.put(" fe", 289);
-    freq.put("Asi", 256);
-    freq.put("nel", 1599);
-    freq.put("ră", 636);
-    freq.put("lpi", 216);
-    freq.put("neg", 239);
-    freq.put("lpe", 2886);
-    freq.put("uý ", 440);
-    freq.put("né ", 169);
-    freq.put("가 ", 328);
-    freq.put("ném", 189);
-    freq.put("ldo", 198);
-    freq.put("née", 2905);
-    freq.put("X", 6207);
-    freq.put("Riv", 248);
-    freq.put("ner", 1201);
-    freq.put("Ris", 546);
-    freq.put("Rie", 160);
-    freq.put("Ric", 612);
-    freq.put("épa", 1146);
-    freq.put("meg", 343);
-    freq.put(" Lê", 922);
-    freq.put("irs", 241);
-    freq.put("iru", 298);
-    freq.put("iri", 455);
-    freq.put("irk", 203);
-    freq.put("irl", 235);
-    freq.put("iro", 773);
-    freq.put("ira", 1107);
-    freq.put("irc", 652);
-    freq.put("ire", 3687);
-    freq.put("irg", 448);
-    freq.put("ép ", 1113);
-    freq.put(" hể", 63957);
-    freq.put("rgu", 287);
-    freq.put("oki", 163);
-    freq.put("ir ", 1809);
-    freq.put("pre", 749);
-    freq.put("lâu", 392);
-    freq.put("lâm", 192);
-    freq.put("fra", 309);
-    freq.put("fre", 507);
-    freq.put("fri", 815);
-    freq.put("fro", 1604);
-    freq.put("า", 167);
-    freq.put("pro", 835);
-    freq.put("pri", 732);
-    freq.put("cun", 718);
-    freq.put("uy ", 4510);
-    freq.put("oàn", 5706);
-    freq.put("ld ", 1873);
-    freq.put("tze", 378);
-    freq.put("Ok", 174);
-    freq.put("êm ", 9120);
-    freq.put("bã", 190);
-    freq.put("dha", 326);
-    freq.put("с", 522);
-    freq.put("bé", 224);
-    freq.put("tz ", 904);
-    freq.put("Oa", 270);
-    freq.put("bia", 2262);
-    freq.put("är", 168);
-    freq.put("Sư ", 192);
-    freq.put("hai", 4690);
-    freq.put("Ot", 301);
-    freq.put("hal", 2163);
-    freq.put("ham", 3795);
-    freq.put("han", 4769);
-    freq.put("hao", 550);
-    freq.put("Dip", 407);
-    freq.put("hab", 337);
-    freq.put("hac", 331);
-    freq.put("had", 177);
-    freq.put("hae", 501);
-    freq.put("hag", 376);
-    freq.put("hay", 7652);
-    freq.put("trò", 743);
-    freq.put("hap", 378);
-    freq.put("har", 4673);
-    freq.put("has", 721);
-    freq.put("hat", 786);
-    freq.put("hau", 2057);
-    freq.put("hav", 347);
-    freq.put(" Xí", 179);
-    freq.put(" Xã", 2079);
-    freq.put(" Xô", 549);
-    freq.put("èo ", 278);
-    freq.put("ha ", 8300);
-    freq.put("ola", 2194);
-    freq.put("old", 517);
-    freq.put("ole", 1581);
-    freq.put("olf", 295);
-    freq.put("oli", 2444);
-    freq.put(" X ", 200);
-    freq.put("oll", 1993);
-    freq.put("olm", 148);
-    freq.put("olo", 2220);
-    freq.put(" ít", 431);
-    freq.put("ols", 1043);
-    freq.put("olt", 149);
-    freq.put("olu", 1314);
-    freq.put("olv", 159);
-    freq.put("oly", 684);
-    freq.put("olz", 312);
-    freq.put("fou", 879);
-    freq.put("for", 2385);
-    freq.put(" 专", 413);
-    freq.put("ume", 427);
-    freq.put("uma", 655);
-    freq.put("umb", 1047);
-    freq.put("fol", 504);
-    freq.put("fon", 152);
-    freq.put("umi", 350);
-    freq.put("ol ", 657);
-    freq.put(" Xi", 413);
-    freq.put(" Xa", 216);
-    freq.put(" Xe", 204);
-    freq.put(" Xy", 153);
-    freq.put(" Xu", 1090);
-    freq.put("uya", 181);
-    freq.put("o", 437498);
-    freq.put("um ", 5338);
-    freq.put("mbl", 196);
-    freq.put("khú", 467);
-    freq.put("mbo", 504);
-    freq.put("mbi", 1974);
-    freq.put("sof", 194);
-    freq.put("soi", 556);
-    freq.put("mbe", 1329);
-    freq.put("Fel", 162);
-    freq.put("khó", 360);
-    freq.put("som", 376);
-    freq.put("sol", 467);
-    freq.put("son", 1789);
-    freq.put("sop", 308);
-    freq.put("sor", 191);
-    freq.put("Fer", 312);
-    freq.put("sot", 292);
-    freq.put("b ", 1444);
-    freq.put(" Xư", 246);
-    freq.put("mbr", 351);
-    freq.put("az ", 215);
-    freq.put("so ", 947);
-    freq.put("sơ ", 163);
-    freq.put("óa ", 2701);
-    freq.put("mb ", 269);
-    freq.put("azi", 604);
-    freq.put("azo", 203);
-    freq.put("aza", 466);
-    freq.put("aze", 208);
-    freq.put("soá", 206);
-    freq.put("khu", 15081);
-    freq.put("Sic", 157);
-    freq.put("Sib", 258);
-    freq.put("tiê", 3084);
-    freq.put("Sie", 417);
-    freq.put("kho", 6571);
-    freq.put("kha", 834);
-    freq.put("Sin", 736);
-    freq.put("Sim", 166);
-    freq.put("Sil", 271);
-    freq.put("nx ", 222);
-    freq.put("E", 10094);
-    freq.put("アア", 391);
-    freq.put("Ú", 1274);
-    freq.put("lĩn", 607);
-    freq.put("hó ", 498);
-    freq.put("가", 830);
-    freq.put("osp", 425);
-    freq.put("oss", 826);
-    freq.put("osu", 324);
-    freq.put("ost", 2982);
-    freq.put("osi", 491);
-    freq.put("osh", 227);
-    freq.put("osm", 547);
-    freq.put("oso", 413);
-    freq.put("osn", 140);
-    freq.put("osa", 1094);
-    freq.put("osc", 366);
-    freq.put("ose", 2073);
-    freq.put("osg", 493);
-    freq.put("Aqu", 1651);
-    freq.put("Đôn", 3441);
-    freq.put("vet", 169);
-    freq.put("ver", 2511);
-    freq.put("ves", 443);
-    freq.put("sư", 822);
-    freq.put("ven", 2308);
-    freq.put("ươi", 146);
-    freq.put("sơ", 283);
-    freq.put("ươn", 12134);
-    freq.put("hóa", 2227);
-    freq.put("Má", 214);
-    freq.put("Mã", 1030);
-    freq.put("Mé", 245);
-    freq.put("hóm", 1446);
-    freq.put("Mô", 839);
-    freq.put("Mü", 183);
-    freq.put("Mù", 252);
-    freq.put("Tar", 601);
-    freq.put("Tas", 235);
-    freq.put(" 倉", 244);
-    freq.put("Đô ", 9162);
-    freq.put("ve ", 1535);
-    freq.put("Tam", 802);
-    freq.put("Tan", 929);
-    freq.put("Tai", 151);
-    freq.put("Tak", 148);
-    freq.put("M ", 626);
-    freq.put("să", 488);
-    freq.put("sĩ", 1785);
-    freq.put("Me", 5622);
-    freq.put("Ma", 14564);
-    freq.put("Mo", 6001);
-    freq.put("Mi", 7578);
-    freq.put("Mu", 2726);
-    freq.put("uff", 186);
-    freq.put("Khể", 614);
-    freq.put("My", 979);
-    freq.put("Boi", 232);
-    freq.put("út ", 627);
-    freq.put("ipa", 1057);
-    freq.put("ipe", 657);
-    freq.put("iph", 349);
-    freq.put("ipi", 254);
-    freq.put("ipo", 143);
-    freq.put("ipl", 287);
-    freq.put("Tển", 2741);
-    freq.put("ipp", 1792);
-    freq.put("Mư", 225);
-    freq.put("ipt", 450);
-    freq.put("ipu", 171);
-    freq.put("Tểc", 152);
-    freq.put("Tểa", 1075);
-    freq.put("ip ", 810);
-    freq.put("rìn", 2591);
-    freq.put("mba", 981);
-    freq.put("Tể ", 2617);
-    freq.put("tươ", 996);
-    freq.put("Dân", 1220);
-    freq.put("só", 466);
-    freq.put("ov ", 258);
-    freq.put("sô", 2011);
-    freq.put("ñ", 390);
-    freq.put("sê", 269);
-    freq.put("sé", 203);
-    freq.put("sè", 470);
-    freq.put("sâ", 1032);
-    freq.put("sá", 4087);
-    freq.put("Whi", 209);
-    freq.put("tăn", 371);
-    freq.put("ư", 147894);
-    freq.put("s ", 83922);
-    freq.put("uể", 92128);
-    freq.put("sy", 900);
-    freq.put("ss", 11481);
-    freq.put("sr", 482);
-    freq.put("sq", 267);
-    freq.put("sp", 6570);
-    freq.put("sw", 1422);
-    freq.put("sv", 185);
-    freq.put("su", 6738);
-    freq.put("st", 25304);
-    freq.put("sk", 1966);
-    freq.put("si", 19668);
-    freq.put("sh", 6976);
-    freq.put("so", 7204);
-    freq.put("sn", 3570);
-    freq.put("sm", 2007);
-    freq.put("sl", 2460);
-    freq.put("sc", 6190);
-    freq.put("sb", 1450);
-    freq.put("sa", 12158);
-    freq.put("sg", 779);
-    freq.put("sf", 434);
-    freq.put("se", 16078);
-    freq.put("sd", 636);
-    freq.put("ròn", 162);
-    freq.put("tts", 284);
-    freq.put("ttp", 325);
-    freq.put("я ", 139);
-    freq.put("tti", 475);
-    freq.put("tto", 705);
-    freq.put("ttl", 380);
-    freq.put("tta", 873);
-    freq.put("tte", 2605);
-    freq.put("Rhi", 678);
-    freq.put("ác ", 24475);
-    freq.put("tt ", 262);
-    freq.put(" đó", 3827);
-    freq.put(" đô", 27698);
-    freq.put("áce", 165);
-    freq.put(" đú", 182);
-    freq.put("ách", 6363);
-    freq.put(" đà", 1035);
-    freq.put(" đá", 3730);
-    freq.put(" đâ", 1604);
-    freq.put(" đã", 4347);
-    freq.put(" đê", 8032);
-    freq.put(" đì", 460);
-    freq.put(" đí", 392);
-    freq.put("Men", 179);
-    freq.put("Jor", 166);
-    freq.put("Jos", 191);
-    freq.put("dể ", 1928);
-    freq.put("món", 229);
-    freq.put("blo", 143);
-    freq.put("bli", 464);
-    freq.put("ble", 788);
-    freq.put("âng", 210);
-    freq.put("三三 ", 318);
-    freq.put("ăn", 8563);
-    freq.put("dển", 5451);
-    freq.put("dểm", 153);
-    freq.put(" đu", 484);
-    freq.put("dểi", 171);
-    freq.put("dểc", 2450);
-    freq.put("yên", 4958);
-    freq.put("dểa", 1072);
-    freq.put(" đa", 1700);
-    freq.put(" đe", 474);
-    freq.put("dểy", 237);
-    freq.put(" đi", 17419);
-    freq.put("dểu", 482);
-    freq.put(" đo", 2466);
-    freq.put("oni", 4577);
-    freq.put("onn", 2036);
-    freq.put("ono", 1589);
-    freq.put("onl", 675);
-    freq.put("onc", 461);
-    freq.put("ona", 2358);
-    freq.put("onf", 214);
-    freq.put("ong", 59905);
-    freq.put("ond", 2416);
-    freq.put("one", 2805);
-    freq.put("ony", 549);
-    freq.put("Cô ", 190);
-    freq.put("ons", 1629);
-    freq.put("onv", 312);
-    freq.put("ont", 3656);
-    freq.put("onu", 697);
-    freq.put(" đư", 29691);
-    freq.put("võ ", 369);
-    freq.put("rz ", 208);
-    freq.put(" đơ", 1908);
-    freq.put("uki", 214);
-    freq.put("Côt", 1585);
-    freq.put(" Zi", 450);
-    freq.put(" Zh", 184);
-    freq.put(" Ze", 737);
-    freq.put("on ", 15999);
-    freq.put(" Za", 1260);
-    freq.put("Côn", 1681);
-    freq.put("rze", 166);
-    freq.put("sak", 172);
-    freq.put("sai", 281);
-    freq.put("sao", 776);
-    freq.put("san", 1255);
-    freq.put("sam", 384);
-    freq.put("sal", 439);
-    freq.put("sac", 1864);
-    freq.put("sab", 140);
-    freq.put("ính", 11878);
-    freq.put(" đă", 220);
-    freq.put("丙", 309);
-    freq.put("sar", 660);
-    freq.put("sau", 2887);
-    freq.put("sat", 228);
-    freq.put("gôi", 662);
-    freq.put("gôn", 1009);
-    freq.put("ax ", 315);
-    freq.put("Ect", 200);
-    freq.put(" đĩ", 596);
-    freq.put("sa ", 2015);
-    freq.put("óc ", 726);
-    freq.put("ín ", 1003);
-    freq.put("gô ", 876);
-    freq.put("ال", 152);
-    freq.put("axi", 240);
-    freq.put("axo", 326);
-    freq.put("sể", 54959);
-    freq.put("Ski", 144);
-    freq.put("Cyp", 409);
-    freq.put("vid", 453);
-    freq.put("ere", 2445);
-    freq.put("ux", 1932);
-    freq.put(" bá", 2320);
-    freq.put(" bà", 2390);
-    freq.put(" bã", 190);
-    freq.put(" bí", 964);
-    freq.put(" bì", 10908);
-    freq.put("uz", 955);
-    freq.put(" bé", 146);
-    freq.put(" bê", 1224);
-    freq.put(" bó", 2103);
-    freq.put("iàn", 475);
-    freq.put(" bú", 206);
-    freq.put("up", 2448);
-    freq.put("us", 22737);
-    freq.put("ur", 22852);
-    freq.put("um", 8525);
-    freq.put("Xã ", 2077);
-    freq.put("un", 37448);
-    freq.put("Hip", 145);
-    freq.put("fis", 489);
-    freq.put("uj", 271);
-    freq.put("vươ", 541);
-    freq.put("vây", 180);
-    freq.put(" be", 1810);
-    freq.put(" ba", 20628);
-    freq.put(" bl", 299);
-    freq.put(" bo", 1086);
-    freq.put(" bi", 39922);
-    freq.put(" bu", 1037);
-    freq.put("s", 286409);
-    freq.put(" br", 705);
-    freq.put(" by", 542);
-    freq.put(" bư", 9431);
-    freq.put("fie", 487);
-    freq.put("Sân", 446);
-    freq.put("Him", 177);
-    freq.put("fil", 195);
-    freq.put("vul", 314);
-    freq.put("ive", 1549);
-    freq.put("iva", 362);
-    freq.put(" bă", 261);
-    freq.put("ivo", 162);
-    freq.put("ivi", 819);
-    freq.put("dù ", 368);
-    freq.put("sĩ ", 1783);
-    freq.put("gểa", 154);
-    freq.put("gểc", 1587);
-    freq.put("I", 15743);
-    freq.put("gểm", 3968);
-    freq.put("ét ", 23407);
-    freq.put("gển", 2170);
-    freq.put("gểp", 336);
-    freq.put("dùn", 1738);
-    freq.put(" gu", 378);
-    freq.put("gểt", 591);
-    freq.put("gểy", 212);
-    freq.put(" gr", 899);
-    freq.put(" go", 250);
-    freq.put("Myr", 349);
-    freq.put("dươ", 848);
-    freq.put("Mya", 329);
-    freq.put(" gi", 28288);
-    freq.put("ezu", 350);
-    freq.put("tvi", 145);
-    freq.put("ezi", 175);
-    freq.put("tể", 83275);
-    freq.put("ôte", 1594);
-    freq.put("ac ", 1152);
-    freq.put("Vĩn", 400);
-    freq.put("Nư", 140);
-    freq.put("ez ", 316);
-    freq.put("acc", 246);
-    freq.put("aca", 592);
-    freq.put("ace", 5973);
-    freq.put("ack", 866);
-    freq.put("aci", 2053);
-    freq.put("ach", 4974);
-    freq.put("aco", 486);
-    freq.put("acr", 438);
-    freq.put("acu", 424);
-    freq.put("act", 895);
-    freq.put("Nh", 15252);
-    freq.put("Ni", 3602);
-    freq.put("Hoà", 1902);
-    freq.put("No", 7260);
-    freq.put("uil", 817);
-    freq.put("Na", 14732);
-    freq.put("Ne", 5246);
-    freq.put("Ng", 8870);
-    freq.put("Ny", 327);
-    freq.put("Nu", 290);
-    freq.put("het", 420);
-    freq.put(" Mô", 838);
-    freq.put("hev", 147);
-    freq.put("her", 2719);
-    freq.put("hes", 679);
-    freq.put("hey", 228);
-    freq.put("hed", 210);
-    freq.put("в", 508);
-    freq.put("hea", 373);
-    freq.put("hec", 208);
-    freq.put("hel", 1664);
-    freq.put("hem", 538);
-    freq.put("hen", 1600);
-    freq.put("heo", 10006);
-    freq.put("hei", 3775);
-    freq.put("uý", 467);
-    freq.put("N ", 1502);
-    freq.put("lên", 761);
-    freq.put("he ", 18327);
-    freq.put("aa", 985);
-    freq.put("ành", 21823);
-    freq.put("ac", 18572);
-    freq.put("ab", 4752);
-    freq.put("ae", 34413);
-    freq.put("ad", 10374);
-    freq.put("ag", 8446);
-    freq.put("af", 1148);
-    freq.put("ai", 30021);
-    freq.put("ah", 2616);
-    freq.put("Hol", 1270);
-    freq.put("aj", 1274);
-    freq.put("am", 43172);
-    freq.put("al", 35399);
-    freq.put("ao", 21790);
-    freq.put("an", 108096);
-    freq.put("aq", 534);
-    freq.put("ap", 5292);
-    freq.put("as", 21308);
-    freq.put("ar", 46226);
-    freq.put("Hor", 294);
-    freq.put("at", 21123);
-    freq.put("aw", 1934);
-    freq.put("av", 3839);
-    freq.put("ay", 20261);
-    freq.put("ax", 1123);
-    freq.put("az", 1913);
-    freq.put("Nô", 330);
-    freq.put("viể", 4820);
-    freq.put("a ", 226759);
-    freq.put("àn ", 5519);
-    freq.put(" dể", 12218);
-    freq.put("at ", 2191);
-    freq.put("uit", 1805);
-    freq.put("Fis", 282);
-    freq.put("sco", 719);
-    freq.put("sci", 1194);
-    freq.put("sch", 1792);
-    freq.put("sce", 236);
-    freq.put("sca", 1351);
-    freq.put("mni", 139);
-    freq.put("mno", 232);
-    freq.put("scu", 281);
-    freq.put("scr", 307);
-    freq.put("ơ", 25607);
-    freq.put("smo", 583);
-    freq.put("tz", 1632);
-    freq.put("ty", 3384);
-    freq.put("tv", 273);
-    freq.put("tw", 506);
-    freq.put("tt", 6267);
-    freq.put("tu", 10835);
-    freq.put("tr", 168490);
-    freq.put("ts", 3488);
-    freq.put("tp", 612);
-    freq.put("tn", 373);
-    freq.put("to", 19941);
-    freq.put("tl", 2439);
-    freq.put("tm", 750);
-    freq.put("th", 244395);
-    freq.put("ti", 45992);
-    freq.put("tf", 340);
-    freq.put("tg", 165);
-    freq.put("Eas", 364);
-    freq.put("te", 34125);
-    freq.put("tb", 456);
-    freq.put("tc", 539);
-    freq.put("ta", 22518);
-    freq.put("smi", 179);
-    freq.put("kí ", 158);
-    freq.put("t ", 240212);
-    freq.put("văn", 2376);
-    freq.put("三之", 347);
-    freq.put("Hòa", 572);
-    freq.put("tú", 167);
-    freq.put("tù", 418);
-    freq.put("tô", 1034);
-    freq.put("tò", 332);
-    freq.put("bà", 2398);
-    freq.put("tì", 8961);
-    freq.put("tí", 18614);
-    freq.put("tê", 7401);
-    freq.put("té", 201);
-    freq.put("xon", 351);
-    freq.put("đíc", 372);
-    freq.put("tâ", 11580);
-    freq.put("tà", 3376);
-    freq.put(" dư", 2565);
-    freq.put("三专", 394);
-    freq.put("yểu", 888);
-    freq.put("yểt", 2656);
-    freq.put("三三", 777);
-    freq.put("yển", 27686);
-    freq.put("三丁", 213);
-    freq.put("三万", 220);
-    freq.put("eim", 1035);
-    freq.put("vic", 424);
-    freq.put("Aub", 473);
-    freq.put("Aud", 253);
-    freq.put("Aug", 204);
-    freq.put("vie", 338);
-    freq.put("vin", 903);
-    freq.put("vil", 2132);
-    freq.put("vir", 262);
-    freq.put("vis", 359);
-    freq.put("Aus", 949);
-    freq.put("Aur", 157);
-    freq.put("dưể", 1608);
-    freq.put("vit", 212);
-    freq.put("Auv", 549);
-    freq.put("cây", 1629);
-    freq.put("Hoể", 173);
-    freq.put(" d ", 2111);
-    freq.put("vi ", 814);
-    freq.put("tă", 382);
-    freq.put(" do", 4301);
-    freq.put("kle", 735);
-    freq.put(" Y", 3492);
-    freq.put("kla", 228);
-    freq.put(" di", 19653);
-    freq.put(" de", 8416);
-    freq.put(" da", 4945);
-    freq.put(" du", 2623);
-    freq.put(" dr", 248);
-    freq.put("viê", 2261);
-    freq.put("yx ", 207);
-    freq.put("Nể", 1896);
-    freq.put("atr", 716);
-    freq.put("ăk ", 141);
-    freq.put("xun", 238);
-    freq.put(" Îl", 330);
-    freq.put(" dé", 1144);
-    freq.put("sôn", 1977);
-    freq.put(" dã", 502);
-    freq.put(" dâ", 28872);
-    freq.put("tư", 4765);
-    freq.put(" dà", 2524);
-    freq.put(" dù", 2107);
-    freq.put("úp ", 776);
-    freq.put(" dò", 646);
-    freq.put("ito", 2297);
-    freq.put("ith", 2136);
-    freq.put("iti", 2423);
-    freq.put("ite", 2019);
-    freq.put("itc", 146);
-    freq.put("ita", 3373);
-    freq.put("itz", 828);
-    freq.put("ity", 598);
-    freq.put("itt", 1509);
-    freq.put("itu", 456);
-    freq.put("itr", 907);
-    freq.put("its", 449);
-    freq.put("Swa", 238);
-    freq.put(" bể", 45724);
-    freq.put("it ", 1527);
-    freq.put("bút", 167);
-    freq.put(" Xể", 142);
-    freq.put(" A ", 801);
-    freq.put("ãi ", 669);
-    freq.put("Lãn", 143);
-    freq.put(" Ab", 573);
-    freq.put(" Ac", 1189);
-    freq.put(" Ad", 608);
-    freq.put(" Ae", 262);
-    freq.put(" Af", 957);
-    freq.put(" Ag", 749);
-    freq.put(" Ah", 189);
-    freq.put(" Ai", 1106);
-    freq.put(" Ak", 163);
-    freq.put(" Al", 6944);
-    freq.put(" Am", 2023);
-    freq.put(" An", 10467);
-    freq.put(" Ap", 624);
-    freq.put(" Aq", 1657);
-    freq.put(" Ar", 5374);
-    freq.put(" As", 1419);
-    freq.put(" At", 1064);
-    freq.put(" Au", 2992);
-    freq.put(" Av", 424);
-    freq.put(" Ay", 139);
-    freq.put(" Az", 1190);
-    freq.put("ft ", 439);
-    freq.put("w", 22119);
-    freq.put("Fra", 932);
-    freq.put("Fre", 553);
-    freq.put("Fri", 349);
-    freq.put("Fro", 378);
-    freq.put("uee", 563);
-    freq.put("к", 551);
-    freq.put("あ", 270);
-    freq.put("Isè", 447);
-    freq.put("Xuâ", 498);
-    freq.put("aal", 305);
-    freq.put("lès", 368);
-    freq.put("Ý ", 1285);
-    freq.put("aar", 275);
-    freq.put("Ir", 1003);
-    freq.put("uet", 161);
-    freq.put("ex ", 606);
-    freq.put("tp ", 325);
-    freq.put("Du ", 216);
-    freq.put("vưể", 475);
-    freq.put("hưn", 1523);
-    freq.put("Isr", 263);
-    freq.put("M", 47574);
-    freq.put("Xuy", 470);
-    freq.put("Môn", 650);
-    freq.put("Isl", 594);
-    freq.put("hưa", 582);
-    freq.put("â", 112923);
-    freq.put("exc", 181);
-    freq.put("exa", 986);
-    freq.put("exi", 1325);
-    freq.put("ext", 206);
-    freq.put("Hai", 401);
-    freq.put("ugh", 635);
-    freq.put("Hal", 332);
-    freq.put("Ham", 344);
-    freq.put("Han", 467);
-    freq.put("ugl", 142);
-    freq.put("uga", 249);
-    freq.put("uge", 202);
-    freq.put("Har", 748);
-    freq.put("Has", 179);
-    freq.put("Hau", 3745);
-    freq.put("ugu", 343);
-    freq.put(" qu", 28552);
-    freq.put("rf ", 1207);
-    freq.put(" để", 91683);
-    freq.put("rfa", 190);
-    freq.put("cra", 438);
-    freq.put("cre", 241);
-    freq.put("cri", 479);
-    freq.put("vùn", 22597);
-    freq.put("cro", 1725);
-    freq.put("rfl", 255);
-    freq.put("Fou", 186);
-    freq.put("seu", 551);
-    freq.put("set", 418);
-    freq.put("ses", 272);
-    freq.put("ser", 1028);
-    freq.put("For", 497);
-    freq.put("sep", 202);
-    freq.put("sey", 198);
-    freq.put("see", 284);
-    freq.put("sed", 245);
-    freq.put("sec", 229);
-    freq.put("sea", 715);
-    freq.put("sen", 3196);
-    freq.put("Fon", 217);
-    freq.put("sel", 2101);
-    freq.put("sei", 161);
-    freq.put("ue ", 2123);
-    freq.put("se ", 4575);
-    freq.put("rõ ", 263);
-    freq.put("lex", 375);
-    freq.put("xas", 712);
-    freq.put("tiv", 602);
-    freq.put("xan", 855);
-    freq.put("ctr", 238);
-    freq.put("Oli", 201);
-    freq.put("Vù", 202);
-    freq.put("ù", 30808);
-    freq.put("Oly", 147);
-    freq.put("á ", 8250);
-    freq.put("vol", 291);
-    freq.put("tiq", 562);
-    freq.put("von", 231);
-    freq.put("voi", 343);
-    freq.put("vor", 176);
-    freq.put("trù", 418);
-    freq.put("hép", 885);
-    freq.put("kno", 896);
-    freq.put(" fr", 2001);
-    freq.put(" fu", 610);
-    freq.put("Som", 283);
-    freq.put("Sol", 431);
-    freq.put("Son", 366);
-    freq.put(" fa", 2087);
-    freq.put("Sor", 294);
-    freq.put("Sou", 1403);
-    freq.put(" fi", 679);
-    freq.put(" fl", 771);
-    freq.put(" fo", 1760);
-    freq.put("tưể", 2647);
-    freq.put("O ", 859);
-    freq.put(" 之", 799);
-    freq.put(" 乙", 411);
-    freq.put("On", 483);
-    freq.put("Om", 201);
-    freq.put("Ol", 595);
-    freq.put(" 並", 342);
-    freq.put("bá", 2351);
-    freq.put("Oi", 748);
-    freq.put("Oh", 203);
-    freq.put("bì", 10910);
-    freq.put("bí", 976);
-    freq.put("Oe", 270);
-    freq.put("Od", 183);
-    freq.put("Oc", 485);
-    freq.put("Ob", 773);
-    freq.put("bê", 1228);
-    freq.put("ăm ", 28988);
-    freq.put(" Da", 2548);
-    freq.put(" 临", 320);
-    freq.put("bó", 2113);
-    freq.put("Ov", 238);
-    freq.put("Ou", 271);
-    freq.put(" 丹", 351);
-    freq.put("Os", 655);
-    freq.put("Or", 2938);
-    freq.put("bú", 210);
-    freq.put("Op", 394);
-    freq.put(" 丁", 795);
-    freq.put("d", 205922);
-    freq.put("Mể", 5140);
-    freq.put(" 三", 1027);
-    freq.put("Khu", 1438);
-    freq.put("Khi", 230);
-    freq.put("Kho", 491);
-    freq.put("Kha", 464);
-    freq.put(" 丘", 335);
-    freq.put("IV ", 160);
-    freq.put("QĐ ", 168);
-    freq.put(" Cơ", 380);
-    freq.put("ija", 174);
-    freq.put("iji", 157);
-    freq.put(" Cư", 440);
-    freq.put("ũng", 2953);
-    freq.put("ū ", 399);
-    freq.put("Tên", 660);
-    freq.put("be", 11159);
-    freq.put("bf", 332);
-    freq.put("ba", 27162);
-    freq.put("bb", 920);
-    freq.put("bl", 1961);
-    freq.put("bn", 144);
-    freq.put("bo", 4357);
-    freq.put("bh", 146);
-    freq.put("bi", 46026);
-    freq.put("bt", 170);
-    freq.put("bu", 6071);
-    freq.put("bw", 303);
-    freq.put("br", 3660);
-    freq.put("bs", 628);
-    freq.put("by", 1138);
-    freq.put("Fu", 749);
-    freq.put(" 亂", 152);
-    freq.put("Khô", 380);
-    freq.put("Ost", 243);
-    freq.put("Khê", 158);
-    freq.put("Khá", 594);
-    freq.put(" C ", 460);
-    freq.put("bư", 9431);
-    freq.put("đa ", 614);
-    freq.put("u ", 92839);
-    freq.put("Fe", 902);
-    freq.put(" Ch", 19001);
-    freq.put(" Ci", 1003);
-    freq.put(" Co", 10896);
-    freq.put(" Cl", 1229);
-    freq.put(" Ca", 14032);
-    freq.put(" Ce", 2572);
-    freq.put(" Cy", 959);
-    freq.put("Fi", 1024);
-    freq.put(" Cr", 1732);
-    freq.put("đan", 664);
-    freq.put("đai", 310);
-    freq.put(" Cu", 1575);
-    freq.put("cia", 1452);
-    freq.put("uy", 40068);
-    freq.put("cif", 277);
-    freq.put("cie", 3416);
-    freq.put("cid", 2524);
-    freq.put("ut", 11022);
-    freq.put("uw", 188);
-    freq.put("uv", 1489);
-    freq.put("cio", 750);
-    freq.put("cin", 1085);
-    freq.put("NE ", 2847);
-    freq.put("cil", 2248);
-    freq.put("cis", 311);
-    freq.put("ul", 11719);
-    freq.put("uo", 379);
-    freq.put("cip", 1009);
-    freq.put("ui", 7198);
-    freq.put("uh", 313);
-    freq.put("uk", 987);
-    freq.put("cit", 448);
-    freq.put("ue", 8283);
-    freq.put("ud", 3186);
-    freq.put("ug", 2145);
-    freq.put("uf", 658);
-    freq.put("ua", 12317);
-    freq.put("uc", 4195);
-    freq.put("ub", 3534);
-    freq.put("Xươ", 220);
-    freq.put("ưng", 2590);
-    freq.put("bă", 263);
-    freq.put("ag ", 159);
-    freq.put(" Câ", 289);
-    freq.put(" Cà", 157);
-    freq.put(" Cá", 2724);
-    freq.put(" Cú", 325);
-    freq.put(" Có", 398);
-    freq.put(" Cô", 3477);
-    freq.put("ago", 1655);
-    freq.put("agn", 2270);
-    freq.put("agi", 293);
-    freq.put("iid", 4750);
-    freq.put("uô", 12078);
-    freq.put("age", 954);
-    freq.put(" 侏", 158);
-    freq.put("aga", 1564);
-    freq.put("ué", 319);
-    freq.put("uê", 505);
-    freq.put("agu", 637);
-    freq.put("uá", 1249);
-    freq.put("agr", 420);
-    freq.put("uâ", 5412);
-    freq.put("ev ", 202);
-    freq.put("tr ", 327);
-    freq.put("tri", 6787);
-    freq.put("evi", 1144);
-    freq.put("và ", 39376);
-    freq.put("tro", 55540);
-    freq.put("CP ", 196);
-    freq.put("eva", 566);
-    freq.put("tre", 2316);
-    freq.put("eve", 622);
-    freq.put("try", 204);
-    freq.put("cơ ", 2355);
-    freq.put("tru", 17464);
-    freq.put("le ", 10516);
-    freq.put("uel", 938);
-    freq.put("uen", 891);
-    freq.put("Blu", 260);
-    freq.put("ued", 1142);
-    freq.put("odr", 210);
-    freq.put("odu", 285);
-    freq.put("ueb", 187);
-    freq.put("odi", 450);
-    freq.put("odo", 1089);
-    freq.put("oda", 691);
-    freq.put("uev", 189);
-    freq.put("Bla", 380);
-    freq.put("ode", 1045);
-    freq.put("ues", 940);
-    freq.put("uer", 585);
-    freq.put("ct ", 454);
-    freq.put("rd ", 2860);
-    freq.put("kì ", 200);
-    freq.put("lea", 958);
-    freq.put("leb", 324);
-    freq.put("lec", 514);
-    freq.put("led", 786);
-    freq.put("lef", 140);
-    freq.put("leg", 371);
-    freq.put("lei", 443);
-    freq.put("lel", 163);
-    freq.put("lem", 456);
-    freq.put("len", 2814);
-    freq.put("leo", 683);
-    freq.put("lep", 286);
-    freq.put("ler", 1633);
-    freq.put("les", 4804);
-    freq.put("let", 890);
-    freq.put("leu", 725);
-    freq.put("lev", 279);
-    freq.put("od ", 1168);
-    freq.put("ley", 541);
-    freq.put("rdu", 164);
-    freq.put("ctu", 2164);
-    freq.put("trê", 16809);
-    freq.put("trí", 887);
-    freq.put("trì", 2564);
-    freq.put("rds", 270);
-    freq.put("rdr", 159);
-    freq.put("trá", 625);
-    freq.put("trà", 444);
-    freq.put("cty", 284);
-    freq.put("rde", 2543);
-    freq.put("cte", 647);
-    freq.put("trú", 686);
-    freq.put("rda", 570);
-    freq.put("cta", 670);
-    freq.put("rdo", 799);
-    freq.put("cto", 873);
-    freq.put("rdi", 1755);
-    freq.put("cti", 1458);
-    freq.put("tră", 326);
-    freq.put("Ukr", 405);
-    freq.put("Ôn", 1610);
-    freq.put("Đ", 41649);
-    freq.put("sge", 580);
-    freq.put(" 가가", 227);
-    freq.put("zie", 194);
-    freq.put("zia", 217);
-    freq.put("zin", 147);
-    freq.put("zil", 497);
-    freq.put("khể", 3237);
-    freq.put("о", 889);
-    freq.put("xce", 150);
-    freq.put("soể", 246);
-    freq.put("Cểu", 671);
-    freq.put("Cểp", 339);
-    freq.put("Cểm", 232);
-    freq.put("Cển", 5510);
-    freq.put("trư", 5334);
-    freq.put("Cểc", 787);
-    freq.put("oz", 1526);
-    freq.put("Q", 14744);
-    freq.put("Cể ", 946);
-    freq.put("Ont", 199);
-    freq.put("ún", 1686);
-    freq.put("úi", 1359);
-    freq.put("chì", 193);
-    freq.put("úa", 606);
-    freq.put("úc", 3127);
-    freq.put("úy", 219);
-    freq.put("út", 637);
-    freq.put("lz ", 1932);
-    freq.put("úp", 776);
-    freq.put("Sa ", 225);
-    freq.put("ể", 1508247);
-    freq.put("ú ", 1439);
-    freq.put("Yp", 239);
-    freq.put(" hy", 276);
-    freq.put("Sao", 173);
-    freq.put("San", 1415);
-    freq.put("Sam", 307);
-    freq.put("Sal", 1166);
-    freq.put("Sac", 786);
-    freq.put("Sab", 139);
-    freq.put("Saa", 431);
-    freq.put("Đ ", 295);
-    freq.put(" hu", 16965);
-    freq.put(" ht", 218);
-    freq.put(" hi", 6669);
-    freq.put("đâ", 1604);
-    freq.put(" ho", 9851);
-    freq.put("Sar", 1013);
-    freq.put(" ha", 11491);
-    freq.put("Sap", 212);
-    freq.put("Sav", 348);
-    freq.put(" he", 621);
-    freq.put("Sat", 196);
-    freq.put("hể ", 155404);
-    freq.put("ร", 145);
-    freq.put("quể", 14720);
-    freq.put("冲", 171);
-    freq.put("hểp", 5189);
-    freq.put("hểt", 14285);
-    freq.put("hểu", 6003);
-    freq.put("hểy", 11164);
-    freq.put("hểc", 23691);
-    freq.put("hểa", 1704);
-    freq.put("hểi", 18265);
-    freq.put("hển", 23819);
-    freq.put("hểo", 739);
-    freq.put("hểm", 3873);
-    freq.put(" hú", 203);
-    freq.put(" hù", 342);
-    freq.put(" hó", 2026);
-    freq.put(" hò", 4796);
-    freq.put(" hô", 283);
-    freq.put("ña", 207);
-    freq.put(" hè", 160);
-    freq.put(" hì", 2834);
-    freq.put(" hã", 1017);
-    freq.put(" há", 923);
-    freq.put(" hà", 8670);
-    freq.put("om ", 2129);
-    freq.put("lph", 225);
-    freq.put("tán", 178);
-    freq.put("iha", 223);
-    freq.put("tái", 142);
-    freq.put("clo", 464);
-    freq.put("之三 ", 187);
-    freq.put("én ", 239);
-    freq.put("ý", 5197);
-    freq.put(" E ", 175);
-    freq.put("éné", 2942);
-    freq.put("Cá ", 259);
-    freq.put("ck ", 1564);
-    freq.put(" hư", 1543);
-    freq.put(" hơ", 1747);
-    freq.put("Sóc", 214);
-    freq.put(" El", 867);
-    freq.put(" Em", 454);
-    freq.put(" En", 763);
-    freq.put(" Ei", 335);
-    freq.put(" Ed", 358);
-    freq.put(" Ea", 529);
-    freq.put("Cát", 277);
-    freq.put(" Ex", 456);
-    freq.put("Các", 1801);
-    freq.put(" Eu", 2122);
-    freq.put(" Ep", 314);
-    freq.put(" Er", 614);
-    freq.put(" Es", 889);
-    freq.put("cke", 753);
-    freq.put("ckl", 786);
-    freq.put("vào", 6478);
-    freq.put("vàn", 747);
-    freq.put("cki", 166);
-    freq.put("cks", 263);
-    freq.put("cky", 262);
-    freq.put("cũ", 2937);
-    freq.put("rể", 50434);
-    freq.put("phư", 1981);
-    freq.put("jar", 408);
-    freq.put("jan", 213);
-    freq.put("ae ", 31054);
-    freq.put("lô ", 685);
-    freq.put("vư", 1017);
-    freq.put("aes", 144);
-    freq.put("aer", 162);
-    freq.put("că", 337);
-    freq.put("h", 937660);
-    freq.put("aea", 378);
-    freq.put("aec", 197);
-    freq.put("cr", 3098);
-    freq.put("aei", 212);
-    freq.put("lôn", 185);
-    freq.put("lôm", 10657);
-    freq.put("aen", 693);
-    freq.put("Pr", 3920);
-    freq.put("Ps", 557);
-    freq.put("Pt", 637);
-    freq.put("Pu", 1475);
-    freq.put("vũ", 680);
-    freq.put("Py", 3299);
-    freq.put("C", 72224);
-    freq.put("Hiể", 1343);
-    freq.put("Pf", 1720);
-    freq.put("Pe", 2603);
-    freq.put("Ph", 31098);
-    freq.put("Pi", 2275);
-    freq.put("Po", 3931);
-    freq.put("Pl", 1384);
-    freq.put("ا", 398);
-    freq.put("hôn", 8959);
-    freq.put("et ", 4591);
-    freq.put("đôn", 8728);
-    freq.put("đôi", 461);
-    freq.put("lf", 811);
-    freq.put("vĩ", 1312);
-    freq.put("cơ", 2439);
-    freq.put("P ", 1136);
-    freq.put("eui", 263);
-    freq.put("cư", 776);
-    freq.put("etr", 999);
-    freq.put("ets", 459);
-    freq.put(" Vể", 1292);
-    freq.put("vă", 2376);
-    freq.put("etw", 156);
-    freq.put("ett", 1071);
-    freq.put("etu", 203);
-    freq.put("etz", 312);
-    freq.put("tla", 967);
-    freq.put("eta", 842);
-    freq.put("đô ", 18495);
-    freq.put("lo", 48870);
-    freq.put("eth", 666);
-    freq.put("eti", 1014);
-    freq.put("etn", 165);
-    freq.put("eto", 465);
-    freq.put("etl", 616);
-    freq.put("và", 46943);
-    freq.put("ci", 14195);
-    freq.put("ch", 129179);
-    freq.put("co", 14606);
-    freq.put("cn", 200);
-    freq.put("Her", 528);
-    freq.put("Hes", 405);
-    freq.put("cc", 1731);
-    freq.put("ca", 30360);
-    freq.put("vì", 1173);
-    freq.put("ví", 191);
-    freq.put("ce", 13915);
-    freq.put("tsc", 237);
-    freq.put("vò", 489);
-    freq.put("vô", 1031);
-    freq.put("lh", 510);
-    freq.put("uca", 423);
-    freq.put("Hel", 390);
-    freq.put("Hem", 163);
-    freq.put("Hen", 196);
-    freq.put("ucl", 244);
-    freq.put("uck", 465);
-    freq.put("Hei", 256);
-    freq.put("cu", 9388);
-    freq.put("ct", 7017);
-    freq.put("Ger", 929);
-    freq.put("Geo", 862);
-    freq.put("Gen", 359);
-    freq.put("ls", 5922);
-    freq.put("phê", 328);
-    freq.put("phé", 481);
-    freq.put("phí", 12064);
-    freq.put("phâ", 2752);
-    freq.put("phá", 7538);
-    freq.put("c ", 282171);
-    freq.put("lge", 195);
-    freq.put("phú", 224);
-    freq.put("eut", 564);
-    freq.put("phó", 453);
-    freq.put("phò", 631);
-    freq.put("tsu", 330);
-    freq.put("rbu", 335);
-    freq.put("rbo", 389);
-    freq.put("rbi", 1026);
-    freq.put("rbe", 418);
-    freq.put("eur", 1318);
-    freq.put("rba", 580);
-    freq.put("va", 5946);
-    freq.put("ve", 8349);
-    freq.put("câ", 2231);
-    freq.put("cá", 22579);
-    freq.put("ph ", 150);
-    freq.put("vo", 1414);
-    freq.put("cú", 386);
-    freq.put("vr", 721);
-    freq.put("vu", 13359);
-    freq.put("có", 47444);
-    freq.put("cò", 3292);
-    freq.put("cô", 5046);
-    freq.put("of ", 6954);
-    freq.put("v ", 848);
-    freq.put("phi", 5842);
-    freq.put("pho", 3352);
-    freq.put("phn", 208);
-    freq.put("yon", 322);
-    freq.put("pha", 2087);
-    freq.put("loà", 31500);
-    freq.put("phe", 584);
-    freq.put("phy", 787);
-    freq.put("Lao", 140);
-    freq.put("phr", 290);
-    freq.put("phu", 325);
-    freq.put("quá", 966);
-    freq.put("off", 252);
-    freq.put("ofe", 161);
-    freq.put("oft", 282);
-    freq.put("xem", 772);
-    freq.put("Văn", 1172);
-    freq.put("web", 356);
-    freq.put("wee", 268);
-    freq.put("wed", 169);
-    freq.put("wei", 504);
-    freq.put("wen", 170);
-    freq.put("wel", 193);
-    freq.put("wes", 568);
-    freq.put("wer", 566);
-    freq.put("miể", 7160);
-    freq.put("xe ", 304);
-    freq.put("CN ", 900);
-    freq.put(" yể", 935);
-    freq.put("Sai", 3614);
-    freq.put("nvi", 479);
-    freq.put("we ", 324);
-    freq.put("Ohi", 151);
-    freq.put("ía ", 12221);
-    freq.put("bểi", 3447);
-    freq.put("hí ", 2215);
-    freq.put("Sax", 162);
-    freq.put("之", 2791);
-    freq.put("hín", 8169);
-    freq.put("hía", 11942);
-    freq.put("híc", 534);
-    freq.put("Sco", 422);
-    freq.put("Sci", 154);
-    freq.put("Sch", 2083);
-    freq.put(" ju", 151);
-    freq.put("ja ", 441);
-    freq.put("Sca", 289);
-    freq.put("Sau", 596);
-    freq.put("kra", 492);
-    freq.put(" ja", 224);
-    freq.put("kre", 255);
-    freq.put("hoể", 8808);
-    freq.put("yri", 846);
-    freq.put("Lể", 3634);
-    freq.put("yro", 276);
-    freq.put("yra", 354);
-    freq.put("yre", 315);
-    freq.put("yrg", 171);
-    freq.put("ưu ", 1732);
-    freq.put(" Ôn", 1608);
-    freq.put("sên", 250);
-    freq.put("inx", 181);
-    freq.put("iny", 208);
-    freq.put("int", 4526);
-    freq.put("inu", 932);
-    freq.put("inv", 156);
-    freq.put("ins", 1803);
-    freq.put("inl", 2046);
-    freq.put("ông", 42975);
-    freq.put("inn", 513);
-    freq.put("ino", 1469);
-    freq.put("inh", 13778);
-    freq.put("ini", 3074);
-    freq.put("ink", 351);
-    freq.put("ind", 1704);
-    freq.put("ine", 10837);
-    freq.put("inf", 237);
-    freq.put("ing", 8141);
-    freq.put("ina", 4704);
-    freq.put("inb", 264);
-    freq.put("inc", 1322);
-    freq.put("yré", 2878);
-    freq.put("Vũ ", 518);
-    freq.put("eo ", 10593);
-    freq.put("Âm", 150);
-    freq.put("Âu", 2129);
-    freq.put("Dôm", 338);
-    freq.put("U", 5400);
-    freq.put("in ", 13262);
-    freq.put("eoc", 157);
-    freq.put("ê", 66073);
-    freq.put("eon", 709);
-    freq.put("eom", 471);
-    freq.put("eol", 262);
-    freq.put("eor", 527);
-    freq.put("eop", 530);
-    freq.put("eot", 213);
-    freq.put("rep", 265);
-    freq.put("lê", 819);
-    freq.put("hĩa", 2885);
-    freq.put("lè", 430);
-    freq.put(" G ", 173);
-    freq.put("lé", 393);
-    freq.put("đen", 294);
-    freq.put("ão ", 484);
-    freq.put("lò", 168);
-    freq.put("ald", 946);
-    freq.put(" Gu", 2454);
-    freq.put(" Gr", 4156);
-    freq.put("Tun", 141);
-    freq.put("Vâ", 484);
-    freq.put(" Gy", 285);
-    freq.put("hĩ ", 710);
-    freq.put(" Ge", 2570);
-    freq.put(" Ga", 3043);
-    freq.put(" Go", 1392);
-    freq.put(" Gl", 488);
-    freq.put(" Gh", 322);
-    freq.put(" Gi", 6622);
-    freq.put("lý", 2656);
-    freq.put("lú", 457);
-    freq.put("ā", 557);
-    freq.put("Bể", 9876);
-    freq.put(" xể", 2191);
-    freq.put("Dểc", 190);
-    freq.put("è ", 371);
-    freq.put("alt", 1192);
-    freq.put("ptr", 151);
-    freq.put("ße", 294);
-    freq.put("ak ", 354);
-    freq.put("ái ", 6094);
-    freq.put("Võ", 191);
-    freq.put(" Gö", 233);
-    freq.put(" Gò", 247);
-    freq.put("èr", 1433);
-    freq.put("ès", 603);
-    freq.put("èv", 444);
-    freq.put("Dể ", 256);
-    freq.put(" ươ", 433);
-    freq.put("èn", 257);
-    freq.put("èo", 280);
-    freq.put("sle", 323);
-    freq.put("gli", 276);
-    freq.put("glo", 256);
-    freq.put("gla", 529);
-    freq.put("アアア", 304);
-    freq.put("aku", 180);
-    freq.put("aki", 591);
-    freq.put("akh", 416);
-    freq.put("ako", 211);
-    freq.put("aka", 675);
-    freq.put("ake", 553);
-    freq.put("Jer", 195);
-    freq.put(" ưu", 158);
-    freq.put("bru", 440);
-    freq.put("bro", 469);
-    freq.put("Jea", 217);
-    freq.put("bri", 1032);
-    freq.put("mùa", 374);
-    freq.put("bre", 597);
-    freq.put("bra", 914);
-    freq.put("ō ", 339);
-    freq.put(" 三之", 172);
-    freq.put("er ", 9592);
-    freq.put("đún", 140);
-    freq.put("ip", 6214);
-    freq.put("nka", 598);
-    freq.put("nke", 271);
-    freq.put("iu", 2880);
-    freq.put("sèr", 449);
-    freq.put("nkt", 202);
-    freq.put("Nam", 11941);
-    freq.put("ert", 1566);
-    freq.put("eru", 1012);
-    freq.put("erv", 528);
-    freq.put("erw", 278);
-    freq.put("erp", 282);
-    freq.put("err", 2985);
-    freq.put("ers", 4623);
-    freq.put("ery", 556);
-    freq.put("erz", 260);
-    freq.put("erd", 573);
-    freq.put(" 三三", 209);
-    freq.put("erf", 557);
-    freq.put("erg", 3169);
-    freq.put("tna", 209);
-    freq.put("era", 3401);
-    freq.put("erb", 858);
-    freq.put("erc", 1171);
-    freq.put("erl", 752);
-    freq.put("im", 11936);
-    freq.put("ern", 4630);
-    freq.put("ero", 2376);
-    freq.put("erh", 199);
-    freq.put("eri", 6361);
-    freq.put("erk", 202);
-    freq.put("uay", 450);
-    freq.put("io", 10270);
-    freq.put("uar", 339);
-    freq.put("la ", 10761);
-    freq.put("uat", 643);
-    freq.put("uai", 209);
-    freq.put("Abr", 165);
-    freq.put("ual", 262);
-    freq.put("uan", 4521);
-    freq.put("uad", 968);
-    freq.put("ib", 3478);
-    freq.put("ī", 249);
-    freq.put("far", 156);
-    freq.put("xểp", 906);
-    freq.put("三万 ", 202);
-    freq.put("xểy", 267);
-    freq.put("lal", 167);
-    freq.put("lam", 1066);
-    freq.put("lan", 10384);
-    freq.put("lao", 259);
-    freq.put("lah", 182);
-    freq.put("lai", 1546);
-    freq.put("laj", 292);
-    freq.put("lad", 738);
-    freq.put("lae", 401);
-    freq.put("lag", 424);
-    freq.put("lab", 417);
-    freq.put("lac", 1406);
-    freq.put("lay", 1413);
-    freq.put("lat", 2293);
-    freq.put("lau", 512);
-    freq.put("lav", 645);
-    freq.put("law", 585);
-    freq.put("lap", 209);
-    freq.put("lar", 4422);
-    freq.put("las", 1229);
-    freq.put("xể ", 903);
-    freq.put("hể", 264262);
-    freq.put("ểp ", 25010);
-    freq.put("zen", 390);
-    freq.put(" lĩ", 607);
-    freq.put("zer", 396);
-    freq.put("luể", 1046);
-    freq.put("ze ", 541);
-    freq.put(" lũ", 299);
-    freq.put("专 ", 1368);
-    freq.put("l", 442210);
-    freq.put("́", 204);
-    freq.put("ngể", 4112);
-    freq.put("tác", 2521);
-    freq.put(" lư", 3756);
-    freq.put("nt ", 8221);
-    freq.put("ít ", 628);
-    freq.put("nty", 550);
-    freq.put("nts", 334);
-    freq.put("ntr", 2166);
-    freq.put("ntu", 367);
-    freq.put("nti", 3110);
-    freq.put("nth", 1365);
-    freq.put("ntl", 140);
-    freq.put("nto", 2015);
-    freq.put("nta", 3026);
-    freq.put("nte", 4904);
-    freq.put("Uga", 441);
-    freq.put("bác", 152);
-    freq.put("bán", 1218);
-    freq.put("báo", 721);
-    freq.put("öst", 587);
-    freq.put(" l ", 250);
-    freq.put("cúp", 216);
-    freq.put("tel", 2040);
-    freq.put("Đài", 765);
-    freq.put("Đào", 412);
-    freq.put("kt ", 229);
-    freq.put(" le", 1986);
-    freq.put("B", 48257);
-    freq.put(" la", 5104);
-    freq.put(" lo", 35801);
-    freq.put(" li", 4644);
-    freq.put("tee", 338);
-    freq.put(" lu", 1700);
-    freq.put("Đà ", 277);
-    freq.put(" ly", 382);
-    freq.put("Ve", 2267);
-    freq.put("Ses", 155);
-    freq.put("Ser", 590);
-    freq.put("Seg", 435);
-    freq.put("Vi", 16219);
-    freq.put("Sen", 317);
-    freq.put("Sel", 193);
-    freq.put("Sei", 684);
-    freq.put("ter", 9430);
-    freq.put("ypr", 406);
-    freq.put("ypt", 526);
-    freq.put("teu", 168);
-    freq.put("tev", 154);
-    freq.put("ype", 314);
-    freq.put("yph", 446);
-    freq.put("ypo", 300);
-    freq.put("Qu", 14208);
-    freq.put(" lâ", 684);
-    freq.put(" lá", 722);
-    freq.put(" là", 155391);
-    freq.put(" lí", 1307);
-    freq.put(" lê", 796);
-    freq.put(" lè", 332);
-    freq.put(" lô", 926);
-    freq.put(" lò", 161);
-    freq.put("Vưể", 237);
-    freq.put(" lý", 2654);
-    freq.put(" lú", 446);
-    freq.put("uda", 464);
-    freq.put("d ", 28581);
-    freq.put("Mể ", 2527);
-    freq.put("Vể ", 500);
-    freq.put("Tàu", 164);
-    freq.put("hry", 423);
-    freq.put("em ", 1658);
-    freq.put("thư", 5419);
-    freq.put("hro", 1154);
-    freq.put("hri", 577);
-    freq.put("Tào", 168);
-    freq.put("hra", 468);
-    freq.put("thơ", 816);
-    freq.put("dn", 264);
-    freq.put("do", 14691);
-    freq.put("dl", 1043);
-    freq.put("dm", 293);
-    freq.put("dk", 145);
-    freq.put("dh", 710);
-    freq.put("di", 32181);
-    freq.put("df", 167);
-    freq.put("dg", 298);
-    freq.put("dd", 556);
-    freq.put("de", 24490);
-    freq.put("db", 293);
-    freq.put("da", 38163);
-    freq.put("kéo", 312);
-    freq.put("dy", 507);
-    freq.put("dw", 715);
-    freq.put("dt", 805);
-    freq.put("du", 4489);
-    freq.put("dr", 3533);
-    freq.put("ds", 1755);
-    freq.put("eme", 2947);
-    freq.put("ema", 1158);
-    freq.put("emb", 1047);
-    freq.put("emm", 256);
-    freq.put("Vểi", 163);
-    freq.put("emo", 539);
-    freq.put("emi", 1585);
-    freq.put("Vển", 442);
-    freq.put("ilô", 10662);
-    freq.put("Vểt", 162);
-    freq.put("emp", 238);
-    freq.put("ems", 155);
-    freq.put("emy", 139);
-    freq.put("万", 989);
-    freq.put("w ", 3929);
-    freq.put(" I ", 489);
-    freq.put("thă", 146);
-    freq.put("il ", 3121);
-    freq.put("co ", 1548);
-    freq.put("we", 3258);
-    freq.put("wa", 4838);
-    freq.put("dé", 1520);
-    freq.put("wo", 1048);
-    freq.put("wn", 1808);
-    freq.put(" Ir", 1002);
-    freq.put("wl", 199);
-    freq.put(" It", 2091);
-    freq.put("dã", 502);
-    freq.put("wi", 4079);
-    freq.put("wh", 1250);
-    freq.put("ww", 348);
-    freq.put("wt", 183);
-    freq.put("ws", 516);
-    freq.put(" Im", 186);
-    freq.put(" In", 3565);
-    freq.put("dù", 2108);
-    freq.put(" Ib", 265);
-    freq.put(" Ic", 219);
-    freq.put("dò", 649);
-    freq.put("cop", 801);
-    freq.put("ild", 355);
-    freq.put("ile", 3779);
-    freq.put("ilb", 181);
-    freq.put("cot", 443);
-    freq.put("ila", 1297);
-    freq.put("ilo", 550);
-    freq.put("ill", 9682);
-    freq.put("coz", 183);
-    freq.put("ilh", 181);
-    freq.put("ili", 3385);
-    freq.put("coa", 287);
-    freq.put("coc", 214);
-    freq.put("ilu", 323);
-    freq.put("ils", 2324);
-    freq.put("coi", 717);
-    freq.put("com", 2135);
-    freq.put("col", 1035);
-    freq.put("ily", 2239);
-    freq.put("áo ", 4269);
-    freq.put("mbu", 270);
-    freq.put("ai ", 10857);
-    freq.put("niê", 790);
-    freq.put("óp ", 288);
-    freq.put("thú", 506);
-    freq.put("thù", 145);
-    freq.put("ait", 246);
-    freq.put("gny", 420);
-    freq.put("ais", 1435);
-    freq.put("air", 827);
-    freq.put("ail", 3696);
-    freq.put("thí", 558);
-    freq.put("ain", 10996);
-    freq.put("aii", 453);
-    freq.put("thê", 286);
-    freq.put("thé", 143);
-    freq.put("gne", 3863);
-    freq.put("aid", 285);
-    freq.put("aig", 201);
-    freq.put("gni", 256);
-    freq.put("aia", 148);
-    freq.put("gno", 258);
-    freq.put("aic", 180);
-    freq.put("thà", 11154);
-    freq.put("tsw", 157);
-    freq.put("ni ", 1381);
-    freq.put(" Sể", 1093);
-    freq.put("dư", 2566);
-    freq.put("tra", 13075);
-    freq.put("ể ", 376292);
-    freq.put("ôn ", 3722);
-    freq.put("th ", 4032);
-    freq.put("nik", 149);
-    freq.put("nii", 438);
-    freq.put("nin", 1178);
-    freq.put("nio", 409);
-    freq.put("nil", 357);
-    freq.put("nim", 283);
-    freq.put("nic", 2037);
-    freq.put("nia", 5524);
-    freq.put("nif", 242);
-    freq.put("nig", 289);
-    freq.put("nid", 3745);
-    freq.put("nie", 473);
-    freq.put("nix", 164);
-    freq.put("Y", 3509);
-    freq.put("nis", 1435);
-    freq.put("niv", 273);
-    freq.put("nit", 1158);
-    freq.put("niu", 181);
-    freq.put("ểk", 175);
-    freq.put("ểi", 112828);
-    freq.put("ểo", 9548);
-    freq.put("ển", 369560);
-    freq.put("ểm", 59218);
-    freq.put("ểc", 255331);
-    freq.put("ểa", 61690);
-    freq.put("epu", 235);
-    freq.put("thr", 908);
-    freq.put("ône", 1757);
-    freq.put("epo", 154);
-    freq.put("ểy", 15079);
-    freq.put("eph", 665);
-    freq.put("epi", 495);
-    freq.put("the", 21046);
-    freq.put("ểp", 25031);
-    freq.put("ểu", 43805);
-    freq.put("ểt", 179295);
-    freq.put(" nơ", 1991);
-    freq.put("rn ", 3576);
-    freq.put(" nư", 35851);
-    freq.put("Gau", 147);
-    freq.put("Gar", 1513);
-    freq.put("Gan", 147);
-    freq.put("Gam", 240);
-    freq.put("Gal", 295);
-    freq.put("nac", 1244);
-    freq.put("Gab", 195);
-    freq.put("Tri", 2061);
-    freq.put("rni", 1419);
-    freq.put("rno", 358);
-    freq.put("Tro", 2116);
-    freq.put("Tra", 816);
-    freq.put("rna", 1180);
-    freq.put("Tre", 371);
-    freq.put("rne", 2695);
-    freq.put("lca", 204);
-    freq.put("rns", 159);
-    freq.put("Tru", 10246);
-    freq.put("lch", 163);
-    freq.put("Tok", 152);
-    freq.put("ình", 20204);
-    freq.put("Nể ", 198);
-    freq.put("Lea", 285);
-    freq.put("Lei", 182);
-    freq.put(" nă", 29145);
-    freq.put("Len", 152);
-    freq.put("Leo", 339);
-    freq.put("Lep", 631);
-    freq.put("Les", 367);
-    freq.put("Giể", 2035);
-    freq.put("Leu", 183);
-    freq.put("Trì", 245);
-    freq.put("Trá", 373);
-    freq.put("Trà", 189);
-    freq.put("Trâ", 155);
-    freq.put("ple", 773);
-    freq.put("pla", 748);
-    freq.put("plo", 417);
-    freq.put(" Ec", 908);
-    freq.put("pli", 245);
-    freq.put("Le ", 619);
-    freq.put("obo", 175);
-    freq.put("obl", 325);
-    freq.put("ùi ", 234);
-    freq.put("obi", 968);
-    freq.put("obe", 655);
-    freq.put("oba", 818);
-    freq.put("obu", 172);
-    freq.put("obr", 145);
-    freq.put("xu", 3759);
-    freq.put(" vể", 53702);
-    freq.put("Cur", 167);
-    freq.put("Cup", 164);
-    freq.put(" Et", 365);
-    freq.put("Cub", 268);
-    freq.put("Cun", 184);
-    freq.put("Pfa", 1704);
-    freq.put("wan", 646);
-    freq.put("wal", 651);
-    freq.put("wai", 552);
-    freq.put("Tră", 223);
-    freq.put("way", 264);
-    freq.put("wat", 547);
-    freq.put("was", 494);
-    freq.put("war", 864);
-    freq.put(" né", 300);
-    freq.put("т", 441);
-    freq.put(" nà", 32102);
-    freq.put(" nâ", 291);
-    freq.put(" nú", 1256);
-    freq.put(" nó", 3467);
-    freq.put(" nô", 442);
-    freq.put("wa ", 340);
-    freq.put("üt", 177);
-    freq.put("ür", 1564);
-    freq.put("vài", 326);
-    freq.put("Đây", 3553);
-    freq.put("üd", 322);
-    freq.put("üc", 207);
-    freq.put("ün", 249);
-    freq.put("Trư", 1573);
-    freq.put("hái", 3807);
-    freq.put("hám", 208);
-    freq.put("hán", 13040);
-    freq.put("háo", 303);
-    freq.put("hác", 3511);
-    freq.put("háp", 24791);
-    freq.put("hát", 4309);
-    freq.put(" ni", 1927);
-    freq.put(" nh", 45517);
-    freq.put(" no", 1173);
-    freq.put(" na", 15500);
-    freq.put(" ne", 507);
-    freq.put(" ng", 51853);
-    freq.put(" nu", 602);
-    freq.put("Nểi", 1235);
-    freq.put("há ", 535);
-    freq.put("Hìn", 160);
-    freq.put("가가", 499);
-    freq.put("Sm", 208);
-    freq.put("gu ", 148);
-    freq.put("ó ", 64834);
-    freq.put("umo", 202);
-    freq.put("gua", 512);
-    freq.put("gue", 1969);
-    freq.put("ruể", 225);
-    freq.put("gui", 371);
-    freq.put("óp", 293);
-    freq.put("gun", 159);
-    freq.put("gum", 182);
-    freq.put("gul", 499);
-    freq.put("gus", 453);
-    freq.put("p", 174320);
-    freq.put("ói", 993);
-    freq.put("ón", 6670);
-    freq.put("óm", 1531);
-    freq.put("óc", 731);
-    freq.put("óa", 2709);
-    freq.put("hte", 186);
-    freq.put("hth", 197);
-    freq.put("htt", 326);
-    freq.put("htr", 324);
-    freq.put("Tây", 8477);
-    freq.put("ek ", 217);
-    freq.put("г", 168);
-    freq.put("Tân", 1027);
-    freq.put("ère", 1422);
-    freq.put("đăn", 218);
-    freq.put("ht ", 687);
-    freq.put("gle", 536);
-    freq.put("eki", 196);
-    freq.put("uzn", 158);
-    freq.put("loể", 3367);
-    freq.put("uze", 169);
-    freq.put("Séc", 256);
-    freq.put(" Ka", 2587);
-    freq.put(" Ke", 1169);
-    freq.put(" Kh", 4951);
-    freq.put(" Ki", 2975);
-    freq.put(" Kn", 141);
-    freq.put(" Ko", 946);
-    freq.put(" Kl", 231);
-    freq.put(" Kr", 777);
-    freq.put(" Ku", 656);
-    freq.put(" Ky", 391);
-    freq.put("Tể", 7402);
-    freq.put(" im", 322);
-    freq.put("F", 9985);
-    freq.put("ي", 271);
-    freq.put("ibi", 314);
-    freq.put("ibl", 173);
-    freq.put("ibo", 164);
-    freq.put("cas", 523);
-    freq.put("car", 2682);
-    freq.put("ibb", 546);
-    freq.put("cap", 271);
-    freq.put("đi ", 743);
-    freq.put("cau", 258);
-    freq.put("cat", 809);
-    freq.put("cai", 449);
-    freq.put("cao", 13635);
-    freq.put("can", 2819);
-    freq.put("cam", 352);
-    freq.put("cal", 1785);
-    freq.put("cac", 552);
-    freq.put("ibu", 345);
-    freq.put("cae", 343);
-    freq.put("cad", 152);
-    freq.put("bưể", 9335);
-    freq.put("ểi ", 112695);
-    freq.put("ao ", 21236);
-    freq.put("ám ", 1096);
-    freq.put("spr", 259);
-    freq.put("sph", 157);
-    freq.put("spi", 1229);
-    freq.put("spo", 375);
-    freq.put("spa", 351);
-    freq.put("spe", 3907);
-    freq.put("gh ", 607);
-    freq.put(" Kô", 237);
-    freq.put("aon", 161);
-    freq.put("ght", 794);
-    freq.put("ghe", 189);
-    freq.put("gha", 488);
-    freq.put("gho", 161);
-    freq.put("ghi", 3850);
-    freq.put("Ru", 1170);
-    freq.put("Che", 539);
-    freq.put("Jav", 319);
-    freq.put("Chi", 4142);
-    freq.put("no ", 1110);
-    freq.put("Ry", 155);
-    freq.put("Cho", 474);
-    freq.put("Jan", 148);
-    freq.put("Re", 2085);
-    freq.put("Chr", 351);
-    freq.put("Jam", 357);
-    freq.put("Ra", 1904);
-    freq.put("Ro", 3835);
-    freq.put("Rh", 4441);
-    freq.put("Ri", 2194);
-    freq.put("eó", 2057);
-    freq.put("α", 217);
-    freq.put("Fen", 155);
-    freq.put("xic", 980);
-    freq.put("nol", 370);
-    freq.put("nom", 551);
-    freq.put("non", 799);
-    freq.put("noi", 432);
-    freq.put("nod", 303);
-    freq.put("khô", 4285);
-    freq.put("nob", 365);
-    freq.put("noc", 411);
-    freq.put("R ", 429);
-    freq.put("not", 862);
-    freq.put("nou", 281);
-    freq.put("nov", 236);
-    freq.put("now", 1063);
-    freq.put("nop", 786);
-    freq.put("nor", 939);
-    freq.put("nos", 776);
-    freq.put("gũ ", 341);
-    freq.put("sou", 945);
-    freq.put("Phư", 678);
-    freq.put("khí", 730);
-    freq.put("em", 10013);
-    freq.put("el", 24442);
-    freq.put("eo", 14079);
-    freq.put("en", 49087);
-    freq.put("ei", 13045);
-    freq.put("eh", 679);
-    freq.put("ek", 799);
-    freq.put("ej", 311);
-    freq.put("ee", 4546);
-    freq.put("ed", 11541);
-    freq.put("eg", 4460);
-    freq.put("Afg", 186);
-    freq.put("ea", 15752);
-    freq.put("Chí", 1230);
-    freq.put("ec", 8564);
-    freq.put("eb", 3649);
-    freq.put("ey", 3123);
-    freq.put("ex", 3581);
-    freq.put("ez", 1216);
-    freq.put("eu", 6762);
-    freq.put("et", 12592);
-    freq.put("ew", 3323);
-    freq.put("ev", 2827);
-    freq.put("eq", 167);
-    freq.put("Ré", 208);
-    freq.put("es", 40569);
-    freq.put("er", 51401);
-    freq.put("rlo", 157);
-    freq.put("rli", 457);
-    freq.put("rle", 351);
-    freq.put("rld", 399);
-    freq.put("rla", 627);
-    freq.put("e ", 134279);
-    freq.put("rly", 155);
-    freq.put("lmo", 317);
-    freq.put("lma", 282);
-    freq.put("xư", 530);
-    freq.put("lme", 324);
-    freq.put("ael", 524);
-    freq.put("Nó ", 10964);
-    freq.put("aeo", 180);
-    freq.put("usk", 685);
-    freq.put("zan", 947);
-    freq.put("xi", 2236);
-    freq.put("xo", 824);
-    freq.put("xc", 234);
-    freq.put("xa", 2141);
-    freq.put("xe", 1418);
-    freq.put("xy", 294);
-    freq.put("ểt ", 179200);
-    freq.put("Sâ", 534);
-    freq.put("xp", 151);
-    freq.put("zar", 156);
-    freq.put("Eup", 437);
-    freq.put("xt", 572);
-    freq.put("Eur", 1040);
-    freq.put("之丁", 166);
-    freq.put("之万", 178);
-    freq.put("Phâ", 188);
-    freq.put("之三", 478);
-    freq.put("yin", 196);
-    freq.put("之专", 315);
-    freq.put("Phú", 926);
-    freq.put("Phù", 169);
-    freq.put(" ý ", 503);
-    freq.put("Phó", 180);
-    freq.put("Phò", 192);
-    freq.put("úc ", 3114);
-    freq.put("x ", 5085);
-    freq.put("za ", 604);
-    freq.put("yi ", 308);
-    freq.put("之之", 217);
-    freq.put("Pa", 7810);
-    freq.put("bí ", 160);
-    freq.put("xé", 140);
-    freq.put("xí", 212);
-    freq.put("xâ", 942);
-    freq.put("xã", 6617);
-    freq.put("xá", 866);
-    freq.put("圓", 161);
-    freq.put("tôn", 573);
-    freq.put("Phi", 3036);
-    freq.put("Pho", 672);
-    freq.put("Pha", 566);
-    freq.put("Phy", 669);
-    freq.put("bín", 794);
-    freq.put("Chư", 286);
-    freq.put("tô ", 345);
-    freq.put("乙 ", 247);
-    freq.put("ò", 13544);
-    freq.put(" tể", 83225);
-    freq.put("Web", 172);
-    freq.put("Wei", 433);
-    freq.put("Wes", 961);
-    freq.put("hãn", 1016);
-    freq.put(" pr", 1132);
-    freq.put(" pu", 610);
-    freq.put(" py", 148);
-    freq.put(" px", 1128);
-    freq.put(" pa", 1485);
-    freq.put(" pe", 891);
-    freq.put(" pi", 462);
-    freq.put(" ph", 51377);
-    freq.put(" po", 832);
-    freq.put(" pl", 606);
-    freq.put("vuô", 11318);
-    freq.put(" Mư", 225);
-    freq.put("yth", 348);
-    freq.put(" Úc", 1243);
-    freq.put("Kre", 398);
-    freq.put("vua", 1478);
-    freq.put("yể", 31245);
-    freq.put("倉 ", 180);
-    freq.put("màu", 877);
-    freq.put("liể", 1722);
-    freq.put("màn", 167);
-    freq.put("kíc", 629);
-    freq.put(" Má", 214);
-    freq.put(" Mã", 1026);
-    freq.put("kín", 427);
-    freq.put("kè", 139);
-    freq.put(" Mé", 244);
-    freq.put("ih", 435);
-    freq.put("ei ", 970);
-    freq.put("đoà", 1003);
-    freq.put(" Mü", 182);
-    freq.put(" Mù", 252);
-    freq.put("lle", 6069);
-    freq.put("mà ", 1433);
-    freq.put("eis", 833);
-    freq.put("eir", 787);
-    freq.put("eit", 258);
-    freq.put("khi", 3505);
-    freq.put("eiz", 186);
-    freq.put("eic", 752);
-    freq.put("eie", 545);
-    freq.put("eid", 730);
-    freq.put("eig", 203);
-    freq.put("eif", 191);
-    freq.put("Thể", 19271);
-    freq.put("eil", 952);
-    freq.put("ein", 4903);
-    freq.put("rwa", 347);
-    freq.put("uxe", 167);
-    freq.put("uxo", 172);
-    freq.put("rwe", 155);
-    freq.put(" Me", 5610);
-    freq.put(" Ma", 14506);
-    freq.put(" Mo", 5991);
-    freq.put("中", 142);
-    freq.put(" Mi", 7555);
-    freq.put("khe", 165);
-    freq.put(" Mu", 2713);
-    freq.put(" My", 978);
-    freq.put("yb", 311);
-    freq.put("tle", 1005);
-    freq.put("ete", 743);
-    freq.put("eiß", 164);
-    freq.put("ux ", 1397);
-    freq.put("tli", 260);
-    freq.put(" M ", 229);
-    freq.put("ccu", 244);
-    freq.put("cco", 265);
-    freq.put("cet", 142);
-    freq.put("cci", 838);
-    freq.put("đo ", 419);
-    freq.put("cca", 156);
-    freq.put("ck", 4238);
-    freq.put("ác", 31049);
-    freq.put("ểk ", 174);
-    freq.put("ái", 6121);
-    freq.put("am ", 27480);
-    freq.put("ps ", 851);
-    freq.put("ám", 1101);
-    freq.put("vâ", 231);
-    freq.put("áo", 4300);
-    freq.put("án", 28484);
-    freq.put("rươ", 293);
-    freq.put("áp", 27542);
-    freq.put("uct", 140);
-    freq.put("áu", 552);
-    freq.put("át", 6111);
-    freq.put("áy", 2255);
-    freq.put("ê ", 4050);
-    freq.put("cm", 248);
-    freq.put("cl", 1934);
-    freq.put("Đă", 188);
-    freq.put("ami", 3273);
-    freq.put("đư", 29695);
-    freq.put("psi", 853);
-    freq.put("amm", 581);
-    freq.put("pso", 273);
-    freq.put("amo", 823);
-    freq.put("ama", 1996);
-    freq.put("êu", 3630);
-    freq.put("amb", 1921);
-    freq.put("ame", 2454);
-    freq.put("pse", 181);
-    freq.put("đơ", 1908);
-    freq.put("êm", 9168);
-    freq.put("ên", 48870);
-    freq.put("amp", 3495);
-    freq.put("ams", 266);
-    freq.put("amu", 239);
-    freq.put("ß", 648);
-    freq.put(" âm", 3643);
-    freq.put("cy", 1022);
-    freq.put("t", 952446);
-    freq.put(" rể", 4289);
-    freq.put("ucc", 527);
-    freq.put("võ", 378);
-    freq.put("Đư", 848);
-    freq.put("cs", 417);
-    freq.put("vù", 22603);
-    freq.put("cq", 226);
-    freq.put("uci", 266);
-    freq.put("lbu", 797);
-    freq.put("nma", 453);
-    freq.put("đĩ", 597);
-    freq.put("sra", 294);
-    freq.put("đă", 220);
-    freq.put("thì", 784);
-    freq.put("đó", 3828);
-    freq.put("ys ", 1775);
-    freq.put("đô", 27703);
-    freq.put("đú", 182);
-    freq.put("đá", 3730);
-    freq.put("đà", 1035);
-    freq.put("đã", 4348);
-    freq.put("Ade", 163);
-    freq.put("ìm ", 8521);
-    freq.put("đê", 8064);
-    freq.put("đí", 392);
-    freq.put("đì", 460);
-    freq.put("lob", 302);
-    freq.put("loc", 750);
-    freq.put("Hán", 6856);
-    freq.put("lod", 250);
-    freq.put("loe", 167);
-    freq.put("lok", 158);
-    freq.put("loi", 242);
-    freq.put("lon", 3179);
-    freq.put("lom", 1001);
-    freq.put("lor", 1602);
-    freq.put("los", 940);
-    freq.put("lop", 1213);
-    freq.put("lov", 598);
-    freq.put("low", 793);
-    freq.put("lot", 496);
-    freq.put("lou", 372);
-    freq.put("ن", 142);
-    freq.put("J", 5371);
-    freq.put("Đa", 443);
-    freq.put("Đi", 1420);
-    freq.put("Đo", 196);
-    freq.put("lo ", 703);
-    freq.put("Est", 392);
-    freq.put("đu", 489);
-    freq.put("đa", 1708);
-    freq.put("đe", 478);
-    freq.put("đi", 17430);
-    freq.put("đo", 2470);
-    freq.put("Lam", 368);
-    freq.put("Lan", 4696);
-    freq.put(" sa", 4809);
-    freq.put("Lai", 390);
-    freq.put("Lak", 163);
-    freq.put("Lab", 180);
-    freq.put("Lac", 165);
-    freq.put("Lat", 742);
-    freq.put("Lau", 510);
-    freq.put("Lar", 215);
-    freq.put("Las", 248);
-    freq.put("lga", 417);
-    freq.put("Đô", 12692);
-    freq.put("Cươ", 311);
-    freq.put("úa ", 604);
-    freq.put("Đâ", 3555);
-    freq.put("Đà", 1638);
-    freq.put("Đá", 165);
-    freq.put("Đì", 322);
-    freq.put("rưn", 427);
-    freq.put("Bru", 412);
-    freq.put("La ", 2717);
-    freq.put("yo ", 184);
-    freq.put("Bro", 439);
-    freq.put("Bri", 863);
-    freq.put("Sể", 1192);
-    freq.put("Bre", 721);
-    freq.put("Bra", 1413);
-    freq.put("Sĩ", 507);
-    freq.put("rùn", 419);
-    freq.put(" rõ", 266);
-    freq.put("mpe", 699);
-    freq.put("mpa", 2137);
-    freq.put("mpo", 339);
-    freq.put("mpl", 212);
-    freq.put("mph", 909);
-    freq.put("mpi", 548);
-    freq.put("mpu", 526);
-    freq.put("mpr", 166);
-    freq.put("mps", 257);
-    freq.put(" rã", 285);
-    freq.put("ass", 2666);
-    freq.put("Sư", 226);
-    freq.put("asp", 226);
-    freq.put("Sơ", 2030);
-    freq.put(" ru", 574);
-    freq.put("Hàn", 1241);
-    freq.put(" re", 1311);
-    freq.put(" ra", 5117);
-    freq.put(" ro", 791);
-    freq.put(" ri", 1195);
-    freq.put(" rư", 159);
-    freq.put("Bài", 310);
-    freq.put("S ", 1842);
-    freq.put("Bàn", 152);
-    freq.put("để", 91689);
-    freq.put("pur", 817);
-    freq.put("vi", 14749);
-    freq.put("Sy", 613);
-    freq.put("cà", 270);
-    freq.put("sâu", 259);
-    freq.put("Sr", 367);
-    freq.put("Sp", 2000);
-    freq.put("Sw", 579);
-    freq.put("Su", 1921);
-    freq.put("St", 3687);
-    freq.put("Sk", 307);
-    freq.put("Bà ", 315);
-    freq.put("Si", 2745);
-    freq.put("Sh", 1345);
-    freq.put("So", 3317);
-    freq.put("Nển", 165);
-    freq.put("Sl", 522);
-    freq.put("Sc", 3122);
-    freq.put("Sa", 11442);
-    freq.put("sân", 742);
-    freq.put("vel", 746);
-    freq.put("Se", 3444);
-    freq.put("cù", 1871);
-    freq.put("rưể", 6336);
-    freq.put("Yps", 167);
-    freq.put("f ", 9188);
-    freq.put("èvr", 358);
-    freq.put("eg ", 341);
-    freq.put("fr", 3324);
-    freq.put("fs", 160);
-    freq.put("ft", 684);
-    freq.put("fu", 1164);
-    freq.put("PG ", 211);
-    freq.put("Sü", 308);
-    freq.put("Só", 240);
-    freq.put("hón", 422);
-    freq.put("Sô", 413);
-    freq.put("fa", 5205);
-    freq.put("Sé", 358);
-    freq.put("Sè", 329);
-    freq.put("fe", 2871);
-    freq.put("ff", 1242);
-    freq.put("fg", 215);
-    freq.put("fi", 2497);
-    freq.put("Sá", 354);
-    freq.put("Sà", 247);
-    freq.put("fl", 1616);
-    freq.put("fo", 4267);
-    freq.put("a", 692878);
-    freq.put("egr", 229);
-    freq.put("egu", 327);
-    freq.put("Mã ", 868);
-    freq.put("Để", 19679);
-    freq.put("egi", 670);
-    freq.put("ego", 1228);
-    freq.put("ö", 2319);
-    freq.put("ega", 773);
-    freq.put("egg", 139);
-    freq.put("ege", 478);
-    freq.put("ce ", 3602);
-    freq.put("y ", 123996);
-    freq.put("Thư", 1102);
-    freq.put("uvi", 315);
-    freq.put("ffi", 237);
-    freq.put("os ", 2470);
-    freq.put("ffe", 313);
-    freq.put("uve", 890);
-    freq.put(" On", 479);
-    freq.put(" Ol", 594);
-    freq.put(" Om", 200);
-    freq.put(" Ok", 173);
-    freq.put(" Oh", 202);
-    freq.put(" Oi", 748);
-    freq.put(" Od", 181);
-    freq.put(" Oe", 269);
-    freq.put(" Ob", 773);
-    freq.put(" Oc", 483);
-    freq.put(" Oa", 270);
-    freq.put("之专 ", 252);
-    freq.put("đây", 1563);
-    freq.put(" Ov", 236);
-    freq.put(" Ot", 299);
-    freq.put(" Ou", 268);
-    freq.put(" Or", 2938);
-    freq.put(" Os", 655);
-    freq.put(" Op", 391);
-    freq.put("yi", 713);
-    freq.put("yh", 272);
-    freq.put("ced", 395);
-    freq.put("ym", 1622);
-    freq.put("yl", 3067);
-    freq.put("yo", 1215);
-    freq.put("AO ", 231);
-    freq.put("ya", 3754);
-    freq.put("cen", 1512);
-    freq.put("yc", 1911);
-    freq.put("cel", 1002);
-    freq.put("ye", 2354);
-    freq.put("yd", 753);
-    freq.put("yg", 495);
-    freq.put("yf", 154);
-    freq.put("yx", 252);
-    freq.put("yz", 169);
-    freq.put("ces", 531);
-    freq.put("cer", 1071);
-    freq.put("cep", 386);
-    freq.put("yp", 2222);
-    freq.put("ys", 3871);
-    freq.put("yr", 5371);
-    freq.put("yu", 633);
-    freq.put("yt", 872);
-    freq.put("ff ", 218);
-    freq.put("bể", 45726);
-    freq.put(" O ", 139);
-    freq.put("ife", 614);
-    freq.put("iff", 148);
-    freq.put("ifl", 166);
-    freq.put("ifo", 1413);
-    freq.put("ifi", 693);
-    freq.put("Eng", 198);
-    freq.put("ểm ", 59200);
-    freq.put("专", 2269);
-    freq.put("as ", 6065);
-    freq.put("Ent", 180);
-    freq.put("pul", 573);
-    freq.put("pun", 212);
-    freq.put("yê", 5321);
-    freq.put("asu", 225);
-    freq.put("ast", 6128);
-    freq.put("pua", 385);
-    freq.put("pub", 253);
-    freq.put("puc", 309);
-    freq.put("asc", 1250);
-    freq.put("asa", 466);
-    freq.put("ase", 497);
-    freq.put("ask", 259);
-    freq.put("asi", 1358);
-    freq.put("ash", 1142);
-    freq.put("aso", 213);
-    freq.put("asm", 354);
-    freq.put("pus", 345);
-    freq.put(" F ", 217);
-    freq.put(" Mể", 5122);
-    freq.put("Cle", 204);
-    freq.put("Cla", 633);
-    freq.put("đoể", 920);
-    freq.put("st ", 2960);
-    freq.put("dt ", 665);
-    freq.put("liê", 1520);
-    freq.put("ncy", 170);
-    freq.put("yū", 142);
-    freq.put("Thü", 723);
-    freq.put("Thô", 412);
-    freq.put("nct", 449);
-    freq.put("nch", 2383);
-    freq.put("nci", 1276);
-    freq.put("ncl", 257);
-    freq.put("nco", 534);
-    freq.put("nca", 570);
-    freq.put("nce", 3207);
-    freq.put("Thá", 3215);
-    freq.put("Thà", 2636);
-    freq.put("ste", 5951);
-    freq.put("stf", 168);
-    freq.put("sta", 3335);
-    freq.put("stl", 165);
-    freq.put("sto", 2068);
-    freq.put("sth", 161);
-    freq.put("sti", 4685);
-    freq.put("stu", 445);
-    freq.put("stp", 174);
-    freq.put("str", 4349);
-    freq.put("sts", 262);
-    freq.put("sty", 144);
-    freq.put("Gom", 158);
-    freq.put("Gol", 188);
-    freq.put("Goo", 205);
-    freq.put("ka ", 1184);
-    freq.put("专专 ", 169);
-    freq.put("lid", 3931);
-    freq.put("lie", 1623);
-    freq.put("lif", 1017);
-    freq.put("lig", 457);
-    freq.put("Nin", 1068);
-    freq.put("lia", 3554);
-    freq.put("húc", 1589);
-    freq.put("lic", 1528);
-    freq.put("Nic", 337);
-    freq.put("lin", 3515);
-    freq.put("lio", 1480);
-    freq.put("Nig", 396);
-    freq.put("Nie", 1241);
-    freq.put("lit", 1006);
-    freq.put("liu", 661);
-    freq.put("liv", 616);
-    freq.put("2 ", 668);
-    freq.put("lis", 1811);
-    freq.put("húy", 143);
-    freq.put("liz", 196);
-    freq.put("úi ", 1356);
-    freq.put("tfa", 159);
-    freq.put("kai", 366);
-    freq.put("kan", 739);
-    freq.put("kam", 185);
-    freq.put("kal", 182);
-    freq.put("Tho", 351);
-    freq.put("kar", 238);
-    freq.put("Ông", 1552);
-    freq.put("rho", 196);
-    freq.put("kat", 204);
-    freq.put("rha", 208);
-    freq.put("kaz", 157);
-    freq.put("The", 9028);
-    freq.put("rhe", 221);
-    freq.put("Tha", 1705);
-    freq.put("li ", 845);
-    freq.put("hú ", 960);
-    freq.put(" Á ", 1673);
-    freq.put("Sĩ ", 505);
-    freq.put("ymp", 602);
-    freq.put("yma", 185);
-    freq.put("yme", 163);
-    freq.put(" tă", 379);
-    freq.put("ymn", 164);
-    freq.put(" Áo", 1420);
-    freq.put(" Áv", 245);
-    freq.put("ã", 19808);
-    freq.put("oxy", 147);
-    freq.put("oxi", 202);
-    freq.put("x", 29082);
-    freq.put(" tư", 4765);
-    freq.put("sư ", 673);
-    freq.put("Chể", 1285);
-    freq.put("wor", 456);
-    freq.put("Ple", 538);
-    freq.put("Pla", 641);
-    freq.put("Rể", 525);
-    freq.put("Obe", 662);
-    freq.put("wo ", 144);
-    freq.put("Wal", 818);
-    freq.put("Phể", 1906);
-    freq.put("Gon", 156);
-    freq.put("Lể ", 569);
-    freq.put("Was", 264);
-    freq.put("War", 327);
-    freq.put("ydr", 465);
-    freq.put("ely", 341);
-    freq.put("Đưể", 826);
-    freq.put(" ty", 993);
-    freq.put(" tu", 4206);
-    freq.put(" tr", 156052);
-    freq.put("N", 70917);
-    freq.put(" to", 6595);
-    freq.put("Lểc", 1143);
-    freq.put(" ti", 21975);
-    freq.put(" th", 230858);
-    freq.put("Lển", 215);
-    freq.put(" te", 899);
-    freq.put(" ta", 1679);
-    freq.put("Lểi", 178);
-    freq.put("iya", 187);
-    freq.put("tư ", 1117);
-    freq.put("nói", 685);
-    freq.put("biể", 38109);
-    freq.put("hū ", 248);
-    freq.put("xể", 2191);
-    freq.put("gs ", 297);
-    freq.put("môn", 561);
-    freq.put("õ ", 900);
-    freq.put(" tú", 155);
-    freq.put(" tù", 416);
-    freq.put("nó ", 2643);
-    freq.put(" tô", 909);
-    freq.put(" tò", 331);
-    freq.put(" tí", 18540);
-    freq.put(" tì", 8960);
-    freq.put(" tê", 7377);
-    freq.put("húa", 466);
-    freq.put("FA ", 242);
-    freq.put(" tâ", 11572);
-    freq.put(" tá", 3073);
-    freq.put(" tà", 3363);
-    freq.put("zèr", 162);
-    freq.put("els", 642);
-    freq.put("lim", 803);
-    freq.put("còn", 3275);
-    freq.put("hún", 1289);
-    freq.put("lii", 571);
-    freq.put("Yve", 176);
-    freq.put("lik", 204);
-    freq.put("hút", 209);
-    freq.put("ι", 146);
-    freq.put("lip", 1960);
-    freq.put("ee ", 1150);
-    freq.put("Tư", 1027);
-    freq.put("évi", 139);
-    freq.put("Tểp", 225);
-    freq.put("gr", 2654);
-    freq.put("eet", 728);
-    freq.put("eep", 145);
-    freq.put("ees", 218);
-    freq.put("eer", 175);
-    freq.put("eel", 145);
-    freq.put("een", 1179);
-    freq.put("eed", 257);
-    freq.put("vì ", 1170);
-    freq.put("ru ", 477);
-    freq.put("Tểi", 245);
-    freq.put("ãy ", 559);
-    freq.put("yêu", 353);
-    freq.put(" Qu", 14182);
-    freq.put("xác", 753);
-    freq.put("Thu", 1030);
-    freq.put("id ", 1469);
-    freq.put("guể", 1293);
-    freq.put("run", 25178);
-    freq.put("rul", 242);
-    freq.put("rum", 705);
-    freq.put("rub", 265);
-    freq.put("ruc", 377);
-    freq.put("rug", 231);
-    freq.put("rue", 707);
-    freq.put("ruz", 213);
-    freq.put("ruy", 2675);
-    freq.put("Tĩ", 188);
-    freq.put("rus", 1414);
-    freq.put("rup", 171);
-    freq.put("kas", 219);
-    freq.put("idu", 239);
-    freq.put("mìn", 517);
-    freq.put("ids", 175);
-    freq.put("ido", 567);
-    freq.put("idi", 2598);
-    freq.put("ide", 2455);
-    freq.put("ida", 26239);
-    freq.put("Tú", 283);
-    freq.put("Thi", 2418);
-    freq.put("Tù", 160);
-    freq.put("Tô", 962);
-    freq.put("Tò", 164);
-    freq.put("Ele", 184);
-    freq.put("ểo ", 9528);
-    freq.put("Tí", 259);
-    freq.put("Tê", 676);
-    freq.put("aq ", 141);
-    freq.put("Tâ", 9624);
-    freq.put("Tà", 542);
-    freq.put("Tá", 302);
-    freq.put("ut ", 1468);
-    freq.put("並", 1114);
-    freq.put("aqu", 368);
-    freq.put("El ", 188);
-    freq.put("ghể", 2336);
-    freq.put("uta", 488);
-    freq.put("ute", 4039);
-    freq.put("uth", 2069);
-    freq.put("uti", 986);
-    freq.put("uto", 356);
-    freq.put("utm", 305);
-    freq.put("uts", 241);
-    freq.put("utt", 513);
-    freq.put("utu", 168);
-    freq.put(" Kể", 5918);
-    freq.put("Ty", 201);
-    freq.put("Tw", 155);
-    freq.put("Tu", 2972);
-    freq.put("Tr", 21381);
-    freq.put("điể", 16552);
-    freq.put("To", 2690);
-    freq.put("đài", 257);
-    freq.put("đàn", 318);
-    freq.put("đào", 392);
-    freq.put("Th", 42787);
-    freq.put("Ti", 3875);
-    freq.put("Te", 2952);
-    freq.put("Ta", 3822);
-    freq.put("A ", 2159);
-    freq.put("Bưể", 300);
-    freq.put("nag", 697);
-    freq.put("nad", 927);
-    freq.put("nae", 1024);
-    freq.put("nai", 3249);
-    freq.put("nan", 913);
-    freq.put("nal", 1151);
-    freq.put("nam", 13111);
-    freq.put("nar", 774);
-    freq.put("nas", 580);
-    freq.put("nav", 164);
-    freq.put("nat", 2078);
-    freq.put("nau", 516);
-    freq.put("nay", 2459);
-    freq.put("oon", 440);
-    freq.put("T ", 649);
-    freq.put("na ", 6835);
-    freq.put("Ab", 577);
-    freq.put("Ae", 265);
-    freq.put("Ad", 611);
-    freq.put("Ag", 750);
-    freq.put("Af", 962);
-    freq.put("Ai", 1117);
-    freq.put("Ah", 192);
-    freq.put("Ak", 164);
-    freq.put("Am", 2029);
-    freq.put("Al", 6955);
-    freq.put("An", 10483);
-    freq.put("Aq", 1658);
-    freq.put("Ap", 626);
-    freq.put("As", 1434);
-    freq.put("Ar", 5387);
-    freq.put("Au", 2997);
-    freq.put("At", 1067);
-    freq.put("Av", 428);
-    freq.put("Ay", 139);
-    freq.put("Az", 1190);
-    freq.put("gw", 161);
-    freq.put("gu", 10662);
-    freq.put("gt", 510);
-    freq.put("zè", 171);
-    freq.put("Gir", 424);
-    freq.put("gy", 681);
-    freq.put("gg", 570);
-    freq.put("ge", 11280);
-    freq.put("gd", 295);
-    freq.put("Gia", 2324);
-    freq.put("go", 8645);
-    freq.put("gn", 5754);
-    freq.put("gm", 577);
-    freq.put("gl", 1738);
-    freq.put("gk", 293);
-    freq.put("gi", 33763);
-    freq.put("gh", 11779);
-    freq.put("Nob", 171);
-    freq.put("Noc", 1779);
-    freq.put("Not", 381);
-    freq.put("Nov", 205);
-    freq.put("lks", 330);
-    freq.put("Nor", 4126);
-    freq.put("ozè", 153);
-    freq.put("g ", 364697);
-    freq.put("hi ", 13142);
-    freq.put("Spr", 184);
-    freq.put("lk ", 142);
-    freq.put("Sph", 1036);
-    freq.put("Spi", 140);
-    freq.put("Spa", 202);
-    freq.put("Spe", 218);
-    freq.put("zl", 195);
-    freq.put("zn", 191);
-    freq.put("gô", 2554);
-    freq.put("zh", 389);
-    freq.put("gày", 9377);
-    freq.put("oz ", 147);
-    freq.put("ze", 2177);
-    freq.put("za", 3062);
-    freq.put("zb", 261);
-    freq.put("đ", 198318);
-    freq.put("gàn", 962);
-    freq.put("gã", 188);
-    freq.put("gâ", 871);
-    freq.put("gá", 300);
-    freq.put("gà", 10665);
-    freq.put("zu", 1605);
-    freq.put(" vũ", 680);
-    freq.put("yct", 483);
-    freq.put("ych", 303);
-    freq.put("yco", 153);
-    freq.put("ycl", 287);
-    freq.put("Để ", 4107);
-    freq.put("yce", 225);
-    freq.put(" vă", 2376);
-    freq.put("ull", 475);
-    freq.put("oza", 724);
-    freq.put("ozo", 255);
-    freq.put("z ", 4461);
-    freq.put("ulb", 224);
-    freq.put("gà ", 270);
-    freq.put(" vĩ", 1312);
-    freq.put("Trể", 2534);
-    freq.put("Đểt", 393);
-    freq.put("Đểu", 259);
-    freq.put("Đểi", 2655);
-    freq.put("Đển", 2345);
-    freq.put("năm", 27971);
-    freq.put("năn", 1182);
-    freq.put("Đểc", 8666);
-    freq.put("Đểa", 425);
-    freq.put("ùa ", 1067);
-    freq.put("wig", 1125);
-    freq.put("wid", 265);
-    freq.put("wic", 172);
-    freq.put("dàn", 837);
-    freq.put("wil", 183);
-    freq.put("dài", 1594);
-    freq.put("wit", 1057);
-    freq.put("gũ", 395);
-    freq.put(" và", 46932);
-    freq.put(" vâ", 230);
-    freq.put(" ví", 173);
-    freq.put(" vì", 1170);
-    freq.put(" vò", 489);
-    freq.put(" võ", 378);
-    freq.put(" vô", 1027);
-    freq.put(" vù", 22601);
-    freq.put("之万 ", 161);
-    freq.put("Ji", 230);
-    freq.put("wi ", 419);
-    freq.put("Je", 710);
-    freq.put(" nể", 21375);
-    freq.put("ied", 1831);
-    freq.put("rt ", 1957);
-    freq.put(" va", 1100);
-    freq.put(" ve", 759);
-    freq.put(" vi", 8649);
-    freq.put(" vo", 357);
-    freq.put(" vu", 12917);
-    freq.put("gư", 23033);
-    freq.put(" v ", 243);
-    freq.put("tòa", 324);
-    freq.put("Bìn", 1748);
-    freq.put("cô ", 368);
-    freq.put("băn", 187);
-    freq.put("ç", 233);
-    freq.put(" Sĩ", 506);
-    freq.put("côn", 4644);
-    freq.put("ơ ", 4182);
-    freq.put("ec ", 362);
-    freq.put("hlo", 240);
-    freq.put("mar", 2810);
-    freq.put("hli", 520);
-    freq.put("hle", 1267);
-    freq.put("hla", 242);
-    freq.put("ưa ", 1620);
-    freq.put("ece", 167);
-    freq.put("eca", 304);
-    freq.put("eco", 767);
-    freq.put("eck", 1046);
-    freq.put("eci", 3537);
-    freq.put("ech", 639);
-    freq.put("並 ", 377);
-    freq.put("ecu", 225);
-    freq.put("ect", 1210);
-    freq.put(" Sư", 226);
-    freq.put("dể", 12219);
-    freq.put("Ess", 158);
-    freq.put(" Sơ", 2029);
-    freq.put("rs ", 2330);
-    freq.put("cy ", 251);
-    freq.put("AN ", 149);
-    freq.put(" Sy", 607);
-    freq.put(" Sr", 367);
-    freq.put("be ", 978);
-    freq.put(" Sw", 578);
-    freq.put(" St", 3635);
-    freq.put(" Su", 1915);
-    freq.put(" Sk", 306);
-    freq.put(" Sh", 1334);
-    freq.put(" Si", 2727);
-    freq.put(" So", 3300);
-    freq.put(" Sl", 517);
-    freq.put(" Sm", 206);
-    freq.put(" Sc", 3070);
-    freq.put(" Sa", 11420);
-    freq.put(" Se", 3434);
-    freq.put("xã ", 6613);
-    freq.put("rso", 252);
-    freq.put("rsh", 319);
-    freq.put("rsi", 891);
-    freq.put("rsd", 187);
-    freq.put("rse", 899);
-    freq.put("rsa", 1123);
-    freq.put("rsb", 257);
-    freq.put("rsc", 361);
-    freq.put("cyc", 140);
-    freq.put("R", 17604);
-    freq.put("rst", 546);
-    freq.put("thể", 105642);
-    freq.put("vòn", 456);
-    freq.put("bek", 171);
-    freq.put("bei", 269);
-    freq.put("ben", 538);
-    freq.put("bel", 1263);
-    freq.put("bec", 391);
-    freq.put("bea", 250);
-    freq.put("bed", 546);
-    freq.put("bee", 755);
-    freq.put(" Cể", 8663);
-    freq.put("ber", 5184);
-    freq.put("bes", 289);
-    freq.put(" S ", 230);
-    freq.put("bet", 259);
-    freq.put("ãi", 672);
-    freq.put("ão", 485);
-    freq.put("ãn", 2862);
-    freq.put("ãy", 559);
-    freq.put("ểa ", 61642);
-    freq.put("ark", 1469);
-    freq.put("ur ", 3979);
-    freq.put(" Sü", 308);
-    freq.put("Lý ", 659);
-    freq.put(" Só", 240);
-    freq.put("ìm", 8528);
-    freq.put(" Sô", 411);
-    freq.put(" Sè", 329);
-    freq.put(" Sé", 358);
-    freq.put(" Sâ", 533);
-    freq.put(" Sà", 247);
-    freq.put(" Sá", 350);
-    freq.put("pyr", 166);
-    freq.put("ã ", 15139);
-    freq.put("awi", 403);
-    freq.put("lúc", 371);
-    freq.put("awa", 1004);
-    freq.put("áu ", 550);
-    freq.put("urg", 4458);
-    freq.put("ura", 1745);
-    freq.put("ì ", 3075);
-    freq.put("urc", 370);
-    freq.put("urn", 505);
-    freq.put("uro", 993);
-    freq.put("uri", 3154);
-    freq.put("urk", 298);
-    freq.put("urt", 1515);
-    freq.put("uru", 494);
-    freq.put("urp", 172);
-    freq.put("urr", 1188);
-    freq.put("urs", 436);
-    freq.put("Del", 231);
-    freq.put("ury", 261);
-    freq.put("bển", 18106);
-    freq.put("bểo", 909);
-    freq.put("Den", 364);
-    freq.put("bểc", 10801);
-    freq.put("bểy", 259);
-    freq.put("bểt", 2371);
-    freq.put("bểu", 602);
-    freq.put("nge", 3237);
-    freq.put("luô", 144);
-    freq.put("nga", 2179);
-    freq.put("kểc", 374);
-    freq.put("ngl", 604);
-    freq.put("ngo", 2830);
-    freq.put("ngh", 7783);
-    freq.put("ngi", 1741);
-    freq.put("Pse", 388);
-    freq.put("sh ", 1939);
-    freq.put("ngu", 5422);
-    freq.put("ngr", 255);
-    freq.put("ngs", 604);
-    freq.put("tbu", 170);
-    freq.put("Lươ", 358);
-    freq.put("shr", 233);
-    freq.put("sht", 381);
-    freq.put("shu", 294);
-    freq.put("shw", 300);
-    freq.put("lst", 1066);
-    freq.put("sha", 619);
-    freq.put("she", 876);
-    freq.put("shi", 1264);
-    freq.put("m2 ", 639);
-    freq.put("sho", 293);
-    freq.put("ke ", 634);
-    freq.put("lus", 2401);
-    freq.put("ngà", 10009);
-    freq.put("ngâ", 223);
-    freq.put("luy", 242);
-    freq.put("ngô", 1896);
-    freq.put("luc", 198);
-    freq.put("Vươ", 859);
-    freq.put("lue", 351);
-    freq.put("л", 506);
-    freq.put("lul", 235);
-    freq.put("lum", 1803);
-    freq.put("lun", 153);
-    freq.put("ken", 731);
-    freq.put("kel", 215);
-    freq.put("Sri", 344);
-    freq.put("key", 304);
-    freq.put("ket", 226);
-    freq.put("kes", 174);
-    freq.put("ker", 740);
-    freq.put("ũ", 5403);
-    freq.put("lu ", 183);
-    freq.put("Loa", 517);
-    freq.put("ot ", 1197);
-    freq.put("Loi", 3201);
-    freq.put("Lon", 1378);
-    freq.put("nên", 713);
-    freq.put("Lom", 271);
-    freq.put("Lor", 2131);
-    freq.put("Los", 193);
-    freq.put("Lot", 580);
-    freq.put("Lou", 367);
-    freq.put("Loz", 163);
-    freq.put("áp ", 27496);
-    freq.put("lểt", 155);
-    freq.put("An ", 1388);
-    freq.put("lểp", 5146);
-    freq.put("yat", 304);
-    freq.put("lểy", 462);
-    freq.put("yal", 151);
-    freq.put("yan", 957);
-    freq.put("lểc", 6489);
-    freq.put("lểa", 430);
-    freq.put("lển", 5223);
-    freq.put("eón", 2056);
-    freq.put("lểi", 2389);
-    freq.put("oth", 1496);
-    freq.put("oti", 1060);
-    freq.put("oto", 966);
-    freq.put("ota", 1031);
-    freq.put("ote", 697);
-    freq.put("otr", 764);
-    freq.put("ots", 282);
-    freq.put("ott", 720);
-    freq.put("otu", 288);
-    freq.put("And", 666);
-    freq.put("Ang", 642);
-    freq.put("Ana", 331);
-    freq.put("Ann", 219);
-    freq.put("Ano", 159);
-    freq.put("Anh", 5927);
-    freq.put("Ant", 595);
-    freq.put("lể ", 2800);
-    freq.put("shū", 247);
-    freq.put(" Py", 3297);
-    freq.put("Yon", 155);
-    freq.put("Loà", 1669);
-    freq.put("ơn ", 5934);
-    freq.put("dân", 28557);
-    freq.put("Lưu", 290);
-    freq.put("dây", 222);
-    freq.put("You", 143);
-    freq.put("Yor", 442);
-    freq.put("àu ", 3188);
-    freq.put("rãi", 238);
-    freq.put("ơng", 12128);
-    freq.put("ân ", 71107);
-    freq.put("Hà ", 2463);
-    freq.put(" lể", 23214);
-    freq.put("gân", 416);
-    freq.put("ngư", 22262);
-    freq.put("gây", 413);
-    freq.put("ああ", 156);
-    freq.put("hĩ", 3597);
-    freq.put("Shi", 359);
-    freq.put("Be", 3517);
-    freq.put(" xo", 207);
-    freq.put("Ba", 13610);
-    freq.put("Bl", 876);
-    freq.put("oán", 1638);
-    freq.put(" xa", 907);
-    freq.put("Bo", 4388);
-    freq.put("Bh", 176);
-    freq.put("Bi", 2488);
-    freq.put(" xe", 994);
-    freq.put("Bu", 3220);
-    freq.put("oát", 273);
-    freq.put("Br", 4012);
-    freq.put("hă", 499);
-    freq.put("By", 154);
-    freq.put(" xu", 3665);
-    freq.put("hū", 297);
-    freq.put("B ", 642);
-    freq.put("ji ", 324);
-    freq.put("oá ", 380);
-    freq.put("hō", 191);
-    freq.put("tìn", 624);
-    freq.put("tìm", 8334);
-    freq.put("Tiê", 963);
-    freq.put("丁之", 215);
-    freq.put("êng", 589);
-    freq.put("ênh", 268);
-    freq.put("U ", 337);
-    freq.put("Bà", 792);
-    freq.put("Bá", 858);
-    freq.put(" xã", 6617);
-    freq.put(" xâ", 941);
-    freq.put(" xá", 864);
-    freq.put("Bé", 191);
-    freq.put("丁丁", 142);
-    freq.put("swi", 1048);
-    freq.put("Uy", 394);
-    freq.put("丁三", 258);
-    freq.put("Ut", 638);
-    freq.put("Ur", 404);
-    freq.put("Um", 166);
-    freq.put("Ul", 140);
-    freq.put("丁专", 144);
-    freq.put("ên ", 47944);
-    freq.put("Ô", 1751);
-    freq.put("Uk", 408);
-    freq.put("Ug", 456);
-    freq.put("pt", 4331);
-    freq.put("ube", 682);
-    freq.put(" Gể", 165);
-    freq.put("Đìn", 322);
-    freq.put("EE ", 154);
-    freq.put("uba", 515);
-    freq.put("duc", 230);
-    freq.put("ea ", 3947);
-    freq.put("h ", 178273);
-    freq.put("hy", 2981);
-    freq.put("eal", 621);
-    freq.put("ean", 1098);
-    freq.put("hr", 3391);
-    freq.put("hs", 2273);
-    freq.put("eac", 334);
-    freq.put("eae", 4646);
-    freq.put("ead", 460);
-    freq.put("eag", 170);
-    freq.put("eaf", 201);
-    freq.put("hk", 147);
-    freq.put("hh", 235);
-    freq.put("hi", 59002);
-    freq.put("hn", 1134);
-    freq.put("ho", 33760);
-    freq.put("hl", 2514);
-    freq.put("hm", 909);
-    freq.put("hb", 191);
-    freq.put("eas", 698);
-    freq.put("ear", 1037);
-    freq.put("eau", 1120);
-    freq.put("ph", 59995);
-    freq.put("he", 41577);
-    freq.put("dus", 275);
-    freq.put("fin", 314);
-    freq.put("hn ", 286);
-    freq.put("Lểp", 1280);
-    freq.put(" Ut", 638);
-    freq.put(" Ur", 403);
-    freq.put(" ưể", 501);
-    freq.put(" Um", 165);
-    freq.put(" Un", 913);
-    freq.put("để ", 24120);
-    freq.put(" Uk", 408);
-    freq.put(" Ug", 456);
-    freq.put("hú", 4659);
-    freq.put("rqu", 185);
-    freq.put("hü", 788);
-    freq.put("hò", 5943);
-    freq.put("hó", 4714);
-    freq.put("hö", 169);
-    freq.put("hô", 9522);
-    freq.put("hê", 913);
-    freq.put("Mểt", 1153);
-    freq.put("hé", 1262);
-    freq.put("hì", 4519);
-    freq.put("hí", 22956);
-    freq.put("hâ", 38191);
-    freq.put("hã", 1199);
-    freq.put("hà", 29720);
-    freq.put("há", 50648);
-    freq.put("đểp", 378);
-    freq.put("hne", 266);
-    freq.put("đểu", 7023);
-    freq.put("đểt", 4542);
-    freq.put("hni", 161);
-    freq.put("đểy", 569);
-    freq.put("đểc", 6272);
-    freq.put("đểa", 6133);
-    freq.put("Bư", 341);
-    freq.put("đểi", 9089);
-    freq.put(" xư", 529);
-    freq.put(" U ", 154);
-    freq.put("đển", 28910);
-    freq.put("đểm", 552);
-    freq.put("MS ", 483);
-    freq.put("ểc ", 245982);
-    freq.put("aua", 167);
-    freq.put("auc", 575);
-    freq.put("aub", 164);
-    freq.put("aue", 262);
-    freq.put("aud", 522);
-    freq.put("aug", 153);
-    freq.put("aui", 145);
-    freq.put("aum", 254);
-    freq.put("aul", 975);
-    freq.put("up ", 561);
-    freq.put("aun", 342);
-    freq.put("aus", 1014);
-    freq.put("aur", 1043);
-    freq.put("aut", 4199);
-    freq.put("auv", 229);
-    freq.put("aux", 509);
-    freq.put("cưể", 274);
-    freq.put("Joh", 334);
-    freq.put("ểch", 9163);
-    freq.put("au ", 6244);
-    freq.put("upl", 256);
-    freq.put("uph", 337);
-    freq.put("upi", 208);
-    freq.put("bla", 343);
-    freq.put("upe", 461);
-    freq.put("me ", 3769);
-    freq.put("nen", 680);
-    freq.put("neo", 282);
-    freq.put("Pun", 221);
-    freq.put("nem", 262);
-    freq.put("nei", 512);
-    freq.put("Pue", 171);
-    freq.put("ned", 346);
-    freq.put("nee", 182);
-    freq.put("neb", 278);
-    freq.put("nec", 300);
-    freq.put("nea", 1462);
-    freq.put("nez", 428);
-    freq.put("Puy", 394);
-    freq.put("ney", 270);
-    freq.put("nev", 164);
-    freq.put("net", 904);
-    freq.put("neu", 463);
-    freq.put("Pup", 166);
-    freq.put("nes", 4373);
-    freq.put("med", 457);
-    freq.put("у", 252);
-    freq.put("mea", 185);
-    freq.put("mec", 144);
-    freq.put("ích", 17834);
-    freq.put("mem", 171);
-    freq.put("mel", 1053);
-    freq.put("men", 4045);
-    freq.put("mei", 235);
-    freq.put("met", 1158);
-    freq.put("mes", 1080);
-    freq.put("mer", 2891);
-    freq.put("ne ", 19277);
-    freq.put("dri", 731);
-    freq.put("són", 349);
-    freq.put("dro", 986);
-    freq.put("dra", 523);
-    freq.put("dre", 808);
-    freq.put("ùy ", 240);
-    freq.put("Liê", 1950);
-    freq.put("cm ", 153);
-    freq.put("Rhô", 1640);
-    freq.put("Á", 3556);
-    freq.put("Ste", 1346);
-    freq.put("Sta", 800);
-    freq.put("Sto", 266);
-    freq.put("Sti", 380);
-    freq.put("Stu", 169);
-    freq.put("Str", 573);
-    freq.put("V", 30021);
-    freq.put("Til", 178);
-    freq.put("rio", 1072);
-    freq.put("Tin", 432);
-    freq.put("Lie", 155);
-    freq.put("Lig", 183);
-    freq.put("Lib", 574);
-    freq.put("Lim", 511);
-    freq.put("Lin", 692);
-    freq.put("Lio", 171);
-    freq.put("Lit", 507);
-    freq.put("Liv", 154);
-    freq.put("Lis", 148);
-    freq.put("Kai", 155);
-    freq.put("ĩa ", 3523);
-    freq.put("Kam", 181);
-    freq.put("Kal", 268);
-    freq.put("Kas", 184);
-    freq.put("Kar", 496);
-    freq.put("Kau", 180);
-    freq.put("Kat", 153);
-    freq.put("Kaz", 203);
-    freq.put("Rhe", 1850);
-    freq.put("Apo", 203);
-    freq.put("ova", 705);
-    freq.put("ove", 2204);
-    freq.put("ovi", 954);
-    freq.put("ovo", 159);
-    freq.put("yn", 1357);
-    freq.put("All", 366);
-    freq.put("Alm", 187);
-    freq.put("Ali", 170);
-    freq.put("Alg", 185);
-    freq.put("Ale", 299);
-    freq.put("Alb", 681);
-    freq.put("Ala", 309);
-    freq.put("Alv", 153);
-    freq.put("buể", 254);
-    freq.put("Alt", 493);
-    freq.put("Als", 515);
-    freq.put("Alp", 2942);
-    freq.put("rác", 292);
-    freq.put("rán", 159);
-    freq.put("丈", 196);
-    freq.put("rái", 592);
-    freq.put("úy ", 216);
-    freq.put("ρ", 170);
-    freq.put("ưểt", 382);
-    freq.put("ưểu", 183);
-    freq.put("bón", 2056);
-    freq.put("ưểi", 24657);
-    freq.put("ưển", 18802);
-    freq.put("ưểm", 9501);
-    freq.put("ưểc", 67509);
-    freq.put("Úc", 1243);
-    freq.put("Wor", 462);
-    freq.put("Wol", 216);
-    freq.put("SS ", 368);
-    freq.put("oãn", 159);
-    freq.put("is ", 16454);
-    freq.put("iss", 3448);
-    freq.put("isp", 337);
-    freq.put("xuy", 162);
-    freq.put("ist", 3624);
-    freq.put("isi", 750);
-    freq.put("ish", 1324);
-    freq.put("iso", 476);
-    freq.put("ism", 206);
-    freq.put("isl", 191);
-    freq.put("isc", 1025);
-    freq.put("isa", 361);
-    freq.put("ise", 1480);
-    freq.put("gy ", 222);
-    freq.put("rểt", 1287);
-    freq.put("lá ", 624);
-    freq.put("rểm", 291);
-    freq.put("rển", 39207);
-    freq.put("rểi", 1137);
-    freq.put("uán", 332);
-    freq.put("đơn", 1904);
-    freq.put("rểc", 1530);
-    freq.put("gyr", 164);
-    freq.put("uá ", 683);
-    freq.put("rể ", 6793);
-    freq.put("ty ", 2056);
-    freq.put("大", 197);
-    freq.put("do ", 4210);
-    freq.put("ān", 253);
-    freq.put("tyl", 438);
-    freq.put("Tĩn", 188);
-    freq.put("căn", 327);
-    freq.put("rì ", 216);
-    freq.put("typ", 380);
-    freq.put("don", 2791);
-    freq.put("dol", 520);
-    freq.put("dom", 306);
-    freq.put("doc", 1372);
-    freq.put("doa", 646);
-    freq.put("m", 420259);
-    freq.put("dog", 488);
-    freq.put("dor", 2168);
-    freq.put("dos", 360);
-    freq.put("dop", 306);
-    freq.put("dov", 304);
-    freq.put("dow", 395);
-    freq.put("dou", 172);
-    freq.put(" We", 2007);
-    freq.put(" Wa", 2017);
-    freq.put(" Wo", 905);
-    freq.put(" Wh", 294);
-    freq.put(" Wi", 1632);
-    freq.put("Tuể", 240);
-    freq.put("èn ", 152);
-    freq.put("Vư", 1101);
-    freq.put("ba ", 1967);
-    freq.put("Có ", 275);
-    freq.put("Đan", 304);
-    freq.put("bat", 528);
-    freq.put("bar", 886);
-    freq.put("bas", 507);
-    freq.put("bay", 2258);
-    freq.put("bad", 244);
-    freq.put("bab", 362);
-    freq.put("bac", 1588);
-    freq.put("ban", 14532);
-    freq.put("bao", 2943);
-    freq.put("bal", 489);
-    freq.put("bai", 195);
-    freq.put("Vă", 1172);
-    freq.put("lể", 23218);
-    freq.put(" Wü", 541);
-    freq.put("Vĩ", 456);
-    freq.put("Cơ", 380);
-    freq.put("un ", 876);
-    freq.put("ài ", 40596);
-    freq.put("Rus", 514);
-    freq.put("Cư", 440);
-    freq.put("omb", 1058);
-    freq.put("oma", 3160);
-    freq.put("ome", 1667);
-    freq.put("omi", 1212);
-    freq.put("omo", 798);
-    freq.put("omm", 2408);
-    freq.put("omp", 760);
-    freq.put("omu", 461);
-    freq.put("omy", 255);
-    freq.put("uns", 220);
-    freq.put("unt", 1093);
-    freq.put("Vũ", 589);
-    freq.put("áy ", 2251);
-    freq.put("una", 410);
-    freq.put("unc", 850);
-    freq.put("und", 2117);
-    freq.put("une", 861);
-    freq.put("ung", 28650);
-    freq.put("uni", 1404);
-    freq.put("unn", 257);
-    freq.put("iú", 305);
-    freq.put("ón ", 2564);
-    freq.put("ió", 194);
-    freq.put("iô", 221);
-    freq.put("ié", 147);
-    freq.put("iè", 809);
-    freq.put("iê", 19338);
-    freq.put("iá", 6621);
-    freq.put("ià", 688);
-    freq.put("iß", 177);
-    freq.put("C ", 1227);
-    freq.put("óng", 4090);
-    freq.put("Utt", 447);
-    freq.put("Zi", 458);
-    freq.put("Và", 236);
-    freq.put("Ci", 1005);
-    freq.put("Ch", 19039);
-    freq.put("Co", 10944);
-    freq.put("Cl", 1245);
-    freq.put("Ca", 14082);
-    freq.put("Ce", 2576);
-    freq.put("Cy", 963);
-    freq.put("sli", 218);
-    freq.put("Cr", 1746);
-    freq.put("sla", 1569);
-    freq.put("Cu", 1591);
-    freq.put("iy", 348);
-    freq.put("ix", 1054);
-    freq.put("iz", 1625);
-    freq.put("Nag", 208);
-    freq.put("iq", 1214);
-    freq.put("Nak", 165);
-    freq.put("is", 30398);
-    freq.put("ir", 10741);
-    freq.put("Nan", 196);
-    freq.put("it", 19216);
-    freq.put("iw", 152);
-    freq.put("iv", 3060);
-    freq.put("ii", 6395);
-    freq.put("Nas", 316);
-    freq.put("ik", 1883);
-    freq.put("ij", 559);
-    freq.put("Nav", 156);
-    freq.put("il", 38718);
-    freq.put("Nat", 595);
-    freq.put("in", 70002);
-    freq.put("ia", 42159);
-    freq.put("ic", 24617);
-    freq.put("ki ", 1183);
-    freq.put("ie", 18418);
-    freq.put("id", 34385);
-    freq.put("ig", 7165);
-    freq.put("if", 3529);
-    freq.put("V ", 758);
-    freq.put("hòm", 296);
-    freq.put("hòn", 1026);
-    freq.put("hòa", 4573);
-    freq.put("Na ", 357);
-    freq.put("kis", 481);
-    freq.put("kir", 466);
-    freq.put("kip", 325);
-    freq.put("kin", 3453);
-    freq.put("kim", 1056);
-    freq.put("kil", 10715);
-    freq.put("i ", 212782);
-    freq.put("kia", 494);
-    freq.put("gưể", 22834);
-    freq.put("Va", 2214);
-    freq.put("đêm", 8016);
-    freq.put("Câ", 290);
-    freq.put("Cá", 2732);
-    freq.put("Cà", 157);
-    freq.put("Vo", 1915);
-    freq.put("Cú", 325);
-    freq.put("Vu", 318);
-    freq.put("Có", 402);
-    freq.put("Cô", 3480);
-    freq.put("nk ", 242);
-    freq.put("yen", 509);
-    freq.put("op ", 502);
-    freq.put("zon", 909);
-    freq.put("Wür", 527);
-    freq.put("yer", 937);
-    freq.put("Ecu", 469);
-    freq.put("opt", 1403);
-    freq.put("opu", 314);
-    freq.put("opp", 188);
-    freq.put("ops", 1255);
-    freq.put("ye ", 286);
-    freq.put("ope", 1422);
-    freq.put("opa", 411);
-    freq.put("opl", 220);
-    freq.put("opo", 1519);
-    freq.put("oph", 3191);
-    freq.put("opi", 1120);
-    freq.put("âte", 406);
-    freq.put("Arr", 175);
-    freq.put("Art", 235);
-    freq.put("Ara", 960);
-    freq.put("Arc", 363);
-    freq.put("Ard", 1593);
-    freq.put("Are", 201);
-    freq.put("Arg", 562);
-    freq.put("Ari", 480);
-    freq.put("Arm", 257);
-    freq.put("www", 171);
-    freq.put("丛", 252);
-    freq.put(" ể", 80643);
-    freq.put("ww ", 171);
-    freq.put("zur", 1019);
-    freq.put("zue", 365);
-    freq.put("zo ", 189);
-    freq.put("Z", 3364);
-    freq.put("iqu", 1196);
-    freq.put("chể", 21772);
-    freq.put(" Dể", 757);
-    freq.put("nki", 377);
-    freq.put("ск", 150);
-    freq.put("lãn", 895);
-    freq.put("Cơ ", 351);
-    freq.put("Wie", 149);
-    freq.put("Win", 429);
-    freq.put("Wil", 393);
-    freq.put("Wik", 174);
-    freq.put("Wit", 233);
-    freq.put(" Yê", 501);
-    freq.put("di ", 3427);
-    freq.put(" Đa", 443);
-    freq.put(" Đi", 1416);
-    freq.put(" Đo", 196);
-    freq.put("dil", 249);
-    freq.put("din", 1244);
-    freq.put("dio", 353);
-    freq.put("did", 312);
-    freq.put("die", 2847);
-    freq.put("dia", 1872);
-    freq.put("dic", 469);
-    freq.put("dit", 379);
-    freq.put("diu", 260);
-    freq.put("dis", 2108);
-    freq.put(" Yo", 868);
-    freq.put(" Ya", 432);
-    freq.put("Điể", 1233);
-    freq.put(" Ye", 349);
-    freq.put("Gre", 1012);
-    freq.put("cuể", 3904);
-    freq.put("Gra", 2331);
-    freq.put(" Yp", 238);
-    freq.put("Gro", 483);
-    freq.put(" Yu", 290);
-    freq.put(" Yv", 187);
-    freq.put("Gri", 151);
-    freq.put(" Đô", 12690);
-    freq.put(" Đâ", 3555);
-    freq.put(" Đá", 164);
-    freq.put(" Đà", 1637);
-    freq.put("bo ", 249);
-    freq.put("mô ", 773);
-    freq.put(" Đì", 322);
-    freq.put(" Y ", 281);
-    freq.put("erm", 2107);
-    freq.put("vô ", 966);
-    freq.put("bop", 200);
-    freq.put("bor", 571);
-    freq.put("bos", 169);
-    freq.put("bot", 181);
-    freq.put("bou", 707);
-    freq.put("Diể", 335);
-    freq.put("môi", 520);
-    freq.put("bol", 192);
-    freq.put("bom", 252);
-    freq.put("bon", 625);
-    freq.put("boa", 544);
-    freq.put("oo ", 152);
-    freq.put("cểu", 3163);
-    freq.put("cểt", 394);
-    freq.put("cểp", 4267);
-    freq.put("cểm", 741);
-    freq.put("cển", 3734);
-    freq.put("cểi", 1406);
-    freq.put(" gể", 12621);
-    freq.put("Wh", 297);
-    freq.put("cểa", 46999);
-    freq.put("cểc", 593);
-    freq.put("ayo", 158);
-    freq.put("aye", 1477);
-    freq.put("aya", 1069);
-    freq.put("ul ", 704);
-    freq.put("ays", 2306);
-    freq.put("ood", 513);
-    freq.put("oog", 197);
-    freq.put("Ben", 559);
-    freq.put("Bel", 748);
-    freq.put("oom", 247);
-    freq.put("ool", 189);
-    freq.put("Bea", 394);
-    freq.put("ook", 283);
-    freq.put(" Đă", 188);
-    freq.put("oot", 347);
-    freq.put("oor", 232);
-    freq.put("Ber", 1074);
-    freq.put("cể ", 5697);
-    freq.put("fly", 418);
-    freq.put("ay ", 14622);
-    freq.put("ult", 827);
-    freq.put("ulu", 810);
-    freq.put("fli", 289);
-    freq.put("uli", 2981);
-    freq.put("ulo", 594);
-    freq.put("flo", 441);
-    freq.put("ulm", 200);
-    freq.put("fla", 250);
-    freq.put("ulc", 170);
-    freq.put("ula", 2994);
-    freq.put("fle", 146);
-    freq.put("ulg", 343);
-    freq.put("ule", 468);
-    freq.put("ma ", 3578);
-    freq.put("iám", 415);
-    freq.put("iáo", 2698);
-    freq.put("ián", 260);
-    freq.put("Pyr", 3193);
-    freq.put("iác", 256);
-    freq.put("nyi", 193);
-    freq.put("nym", 211);
-    freq.put("nya", 523);
-    freq.put("iáp", 2001);
-    freq.put("mas", 488);
-    freq.put("sne", 250);
-    freq.put("mat", 1698);
-    freq.put("sna", 2980);
-    freq.put("maz", 173);
-    freq.put("sni", 207);
-    freq.put("mac", 644);
-    freq.put("mae", 190);
-    freq.put("mad", 498);
-    freq.put("mag", 301);
-    freq.put("mai", 885);
-    freq.put("maj", 203);
-    freq.put("mal", 1566);
-    freq.put("man", 6200);
-    freq.put("zna", 154);
-    freq.put(" Đư", 847);
-    freq.put("iá ", 976);
-    freq.put("ơi ", 3096);
-    freq.put("q", 33677);
-    freq.put("Edw", 139);
-    freq.put("ny ", 1333);
-    freq.put("lse", 196);
-    freq.put("Nga", 1678);
-    freq.put("lsa", 619);
-    freq.put("lso", 351);
-    freq.put("Ngo", 273);
-    freq.put("Ngh", 1164);
-    freq.put("hôi", 152);
-    freq.put("Ngu", 2389);
-    freq.put("Luâ", 253);
-    freq.put("Lăn", 196);
-    freq.put(" ab", 359);
-    freq.put(" ac", 560);
-    freq.put(" ad", 220);
-    freq.put(" Bể", 9869);
-    freq.put(" ag", 160);
-    freq.put(" ai", 278);
-    freq.put(" al", 2427);
-    freq.put(" am", 614);
-    freq.put(" an", 7056);
-    freq.put(" ap", 254);
-    freq.put(" aq", 275);
-    freq.put(" ar", 2712);
-    freq.put(" as", 1145);
-    freq.put(" at", 395);
-    freq.put("д", 263);
-    freq.put("ls ", 3004);
-    freq.put("hô ", 347);
-    freq.put("Sha", 353);
-    freq.put("She", 144);
-    freq.put("乘", 179);
-    freq.put("kka", 183);
-    freq.put("Sho", 220);
-    freq.put(" a ", 4962);
-    freq.put("Dư", 2196);
-    freq.put("Ngà", 567);
-    freq.put("Ngâ", 218);
-    freq.put("Ngô", 642);
-    freq.put("Luc", 212);
-    freq.put("Lud", 184);
-    freq.put("or ", 3376);
-    freq.put("Ken", 722);
-    freq.put("cá ", 1776);
-    freq.put("G", 23207);
-    freq.put("ory", 1225);
-    freq.put("ort", 2762);
-    freq.put("oru", 667);
-    freq.put("orr", 2602);
-    freq.put("ors", 1266);
-    freq.put("orp", 1047);
-    freq.put("orn", 1953);
-    freq.put("oro", 870);
-    freq.put("orl", 473);
-    freq.put("orm", 2975);
-    freq.put("ork", 631);
-    freq.put("ori", 3584);
-    freq.put("orf", 1239);
-    freq.put("org", 708);
-    freq.put("ord", 3003);
-    freq.put("ore", 2045);
-    freq.put("orb", 599);
-    freq.put("orc", 598);
-    freq.put("ora", 2404);
-    freq.put("ück", 162);
-    freq.put("cái", 701);
-    freq.put("cáo", 198);
-    freq.put("Ávi", 245);
-    freq.put("các", 18946);
-    freq.put("Ngũ", 256);
-    freq.put("ría", 161);
-    freq.put("ua ", 4516);
-    freq.put("Tín", 160);
-    freq.put("Dâ", 1283);
-    freq.put("Dô", 340);
-    freq.put("Ott", 171);
-    freq.put("erö", 586);
-    freq.put("rí ", 838);
-    freq.put("Do", 2470);
-    freq.put("Di", 2894);
-    freq.put("De", 2217);
-    freq.put("Da", 2569);
-    freq.put("2", 689);
-    freq.put("Dy", 152);
-    freq.put("Du", 1267);
-    freq.put("Dr", 1247);
-    freq.put("tên", 7356);
-    freq.put("Ngư", 724);
-    freq.put("D ", 745);
-    freq.put("ge ", 1808);
-    freq.put("lí ", 1217);
-    freq.put("We", 2017);
-    freq.put("Wa", 2024);
-    freq.put("Wo", 921);
-    freq.put("Wi", 1647);
-    freq.put("Là ", 298);
-    freq.put("а", 1192);
-    freq.put("ges", 1085);
-    freq.put("ger", 1519);
-    freq.put("Tươ", 169);
-    freq.put("geb", 333);
-    freq.put("zel", 179);
-    freq.put("gen", 5062);
-    freq.put("gem", 243);
-    freq.put("gel", 544);
-    freq.put("Lào", 383);
-    freq.put("W ", 203);
-    freq.put("ó", 78081);
-    freq.put("tu ", 263);
-    freq.put("j ", 155);
-    freq.put("Bển", 2788);
-    freq.put("Bểo", 450);
-    freq.put("Bểc", 4036);
-    freq.put("uể ", 2223);
-    freq.put("Bểt", 140);
-    freq.put("Wü", 541);
-    freq.put("tuy", 1965);
-    freq.put("ju", 396);
-    freq.put("tur", 1038);
-    freq.put("tus", 1579);
-    freq.put("tut", 187);
-    freq.put("tui", 1819);
-    freq.put("jo", 698);
-    freq.put("tul", 991);
-    freq.put("ji", 826);
-    freq.put("tun", 226);
-    freq.put("je", 426);
-    freq.put("tuc", 215);
-    freq.put("tud", 242);
-    freq.put("ja", 1818);
-    freq.put("uểt", 6647);
-    freq.put("Bể ", 2169);
-    freq.put("uểc", 63038);
-    freq.put("uển", 17332);
-    freq.put("uểi", 2825);
-    freq.put("tum", 525);
-    freq.put("cla", 486);
-    freq.put("Kiể", 703);
-    freq.put("đó ", 2805);
-    freq.put("imp", 567);
-    freq.put("kể", 7585);
-    freq.put("É", 501);
-    freq.put("đón", 976);
-    freq.put("亂", 327);
-    freq.put("àm ", 2556);
-    freq.put("oi ", 1139);
-    freq.put("par", 2272);
-    freq.put("pas", 155);
-    freq.put("pat", 396);
-    freq.put("pac", 448);
-    freq.put("pag", 1801);
-    freq.put("pal", 1430);
-    freq.put("pan", 1032);
-    freq.put("oin", 300);
-    freq.put("oil", 149);
-    freq.put("Tư ", 617);
-    freq.put("Xể", 142);
-    freq.put("oie", 174);
-    freq.put("oid", 1389);
-    freq.put("oit", 1455);
-    freq.put("ois", 1103);
-    freq.put("oir", 3370);
-    freq.put("pa ", 420);
-    freq.put("ểy ", 15070);
-    freq.put("rös", 588);
-    freq.put("mo ", 242);
-    freq.put(" câ", 2231);
-    freq.put(" cà", 270);
-    freq.put(" cá", 22553);
-    freq.put(" cú", 382);
-    freq.put(" cù", 1871);
-    freq.put(" cò", 3288);
-    freq.put(" có", 47410);
-    freq.put(" cô", 5020);
-    freq.put("vũ ", 670);
-    freq.put("mos", 484);
-    freq.put("mor", 1191);
-    freq.put("mop", 418);
-    freq.put("Drô", 335);
-    freq.put("mou", 592);
-    freq.put("mot", 349);
-    freq.put("mon", 2835);
-    freq.put("mol", 919);
-    freq.put("moc", 217);
-    freq.put("mod", 141);
-    freq.put("úng", 1614);
-    freq.put("km2", 641);
-    freq.put("亞 ", 440);
-    freq.put("Neo", 280);
-    freq.put("Nev", 160);
-    freq.put("New", 2499);
-    freq.put("Net", 191);
-    freq.put("Neu", 541);
-    freq.put("Nep", 895);
-    freq.put("Med", 321);
-    freq.put(" ch", 72993);
-    freq.put(" ci", 299);
-    freq.put(" co", 7147);
-    freq.put(" cl", 550);
-    freq.put(" cm", 154);
-    freq.put("Mel", 544);
-    freq.put(" ca", 18336);
-    freq.put("Mei", 187);
-    freq.put(" ce", 1064);
-    freq.put("Meu", 1122);
-    freq.put("Met", 367);
-    freq.put(" cy", 157);
-    freq.put("Mes", 227);
-    freq.put("Mer", 503);
-    freq.put(" cr", 532);
-    freq.put("Mex", 918);
-    freq.put(" cu", 4863);
-    freq.put("ч", 190);
-    freq.put("Dri", 386);
-    freq.put("Dra", 192);
-    freq.put("Dre", 146);
-    freq.put("km ", 3828);
-    freq.put("nân", 179);
-    freq.put("Lê ", 891);
-    freq.put("Ac", 1193);
-    freq.put("e", 428748);
-    freq.put(" cơ", 2426);
-    freq.put("Ave", 196);
-    freq.put(" cư", 775);
-    freq.put("iể ", 1731);
-    freq.put(" cũ", 2936);
-    freq.put("Ovu", 166);
-    freq.put("iểi", 7620);
-    freq.put("iển", 94986);
-    freq.put("iểm", 11357);
-    freq.put("iểc", 3158);
-    freq.put(" că", 333);
-    freq.put("iểa", 1763);
-    freq.put("iểy", 197);
-    freq.put("iểp", 3887);
-    freq.put("iểu", 22084);
-    freq.put("iểt", 19441);
-    freq.put("ú", 10002);
-    freq.put("u", 410719);
-    freq.put("Van", 289);
-    freq.put("Val", 1014);
-    freq.put(" cể", 67038);
 
-    init2();
-  }
-  private static void init2() {
-    
-    freq.put("ũi ", 200);
-    freq.put("Var", 300);
-    freq.put("gs", 1016);
-    freq.put("Vau", 301);
-    freq.put("hy ", 171);
-    freq.put("ws ", 411);
-    freq.put("и", 885);
-    freq.put("ium", 1206);
-    freq.put("ajo", 231);
-    freq.put("TA ", 219);
-    freq.put("ius", 1319);
-    freq.put("hya", 190);
-    freq.put("hyl", 1269);
-    freq.put("hyr", 202);
-    freq.put("hys", 223);
-    freq.put("hyt", 176);
-    freq.put("ga", 12467);
-    freq.put("ù ", 1286);
-    freq.put("aba", 1197);
-    freq.put("Gil", 159);
-    freq.put("abe", 439);
-    freq.put("abi", 699);
-    freq.put("abl", 307);
-    freq.put("sể ", 37621);
-    freq.put("abo", 447);
-    freq.put("а ", 296);
-    freq.put("abu", 216);
-    freq.put("abw", 286);
-    freq.put("ùi", 235);
-    freq.put("ùn", 27807);
-    freq.put("ùa", 1067);
-    freq.put("K", 22108);
-    freq.put("ùy", 248);
-    freq.put("ggi", 146);
-    freq.put("ab ", 257);
-    freq.put("à", 337783);
-    freq.put("sển", 14954);
-    freq.put("Süd", 288);
-    freq.put("sểa", 158);
-    freq.put("sểc", 1290);
-    freq.put("sểt", 255);
-    freq.put("Lâm", 707);
-    freq.put("sểp", 188);
-    freq.put("gể ", 2467);
-    freq.put("lka", 390);
-    freq.put("eya", 142);
-    freq.put("eye", 179);
-    freq.put("eyh", 211);
-    freq.put("two", 235);
-    freq.put("iúp", 291);
-    freq.put("eyr", 325);
-    freq.put("de ", 8611);
-    freq.put("giu", 194);
-    freq.put("ký ", 793);
-    freq.put("ey ", 1664);
-    freq.put("der", 3477);
-    freq.put("des", 3199);
-    freq.put("hür", 727);
-    freq.put("del", 1465);
-    freq.put("dem", 911);
-    freq.put("den", 4157);
-    freq.put("deo", 220);
-    freq.put("dea", 701);
-    freq.put("dec", 231);
-    freq.put("ded", 323);
-    freq.put("âm ", 6828);
-    freq.put("Do ", 273);
-    freq.put("go ", 1433);
-    freq.put("ryn", 172);
-    freq.put("ryo", 172);
-    freq.put("ryl", 162);
-    freq.put("ryc", 442);
-    freq.put("rya", 216);
-    freq.put("rys", 387);
-    freq.put("tể ", 24294);
-    freq.put("Don", 392);
-    freq.put("Mưể", 195);
-    freq.put("Dom", 257);
-    freq.put("Dor", 723);
-    freq.put("Dou", 158);
-    freq.put("P", 61692);
-    freq.put("tểt", 2043);
-    freq.put("cs ", 366);
-    freq.put("ry ", 2417);
-    freq.put("tển", 38505);
-    freq.put("tểo", 2243);
-    freq.put("tểm", 507);
-    freq.put("tểi", 9573);
-    freq.put("tểc", 3283);
-    freq.put("tểa", 923);
-    freq.put("ào ", 9552);
-    freq.put("ok ", 359);
-    freq.put("Ba ", 889);
-    freq.put("ĩ ", 4602);
-    freq.put("Nôn", 230);
-    freq.put("Bat", 270);
-    freq.put("Bau", 155);
-    freq.put("oku", 288);
-    freq.put("Bas", 1136);
-    freq.put("Bay", 966);
-    freq.put("oka", 251);
-    freq.put("Bad", 1148);
-    freq.put("oke", 162);
-    freq.put("Bac", 146);
-    freq.put("ĩn", 1420);
-    freq.put("Ban", 6419);
-    freq.put("Bal", 574);
-    freq.put("Bai", 215);
-    freq.put("tuể", 1284);
-    freq.put("rôm", 369);
-    freq.put("mm ", 173);
-    freq.put(" vư", 1017);
-    freq.put("E ", 3496);
-    freq.put("gểi", 5837);
-    freq.put("Xư", 246);
-    freq.put("sbu", 460);
-    freq.put("mmu", 465);
-    freq.put("я", 194);
-    freq.put("Kôn", 235);
-    freq.put("sba", 297);
-    freq.put("mmi", 508);
-    freq.put("sbe", 425);
-    freq.put("mme", 1127);
-    freq.put("Uni", 646);
-    freq.put("mma", 550);
-    freq.put("Em", 460);
-    freq.put("El", 872);
-    freq.put("En", 771);
-    freq.put("Ei", 335);
-    freq.put("Ed", 361);
-    freq.put("Ea", 530);
-    freq.put("Ec", 908);
-    freq.put("Ex", 464);
-    freq.put("Eu", 2126);
-    freq.put("Et", 367);
-    freq.put("Ep", 314);
-    freq.put("Es", 894);
-    freq.put("Er", 617);
-    freq.put("lud", 253);
-    freq.put("zo", 1512);
-    freq.put("rên", 16855);
-    freq.put("gó", 565);
-    freq.put("zi", 1581);
-    freq.put(" el", 437);
-    freq.put(" em", 442);
-    freq.put(" en", 1522);
-    freq.put("Hóa", 437);
-    freq.put("Tưể", 239);
-    freq.put(" ed", 190);
-    freq.put("X ", 401);
-    freq.put(" ea", 304);
-    freq.put(" ec", 238);
-    freq.put(" ex", 489);
-    freq.put(" et", 2265);
-    freq.put(" eu", 165);
-    freq.put("kor", 174);
-    freq.put("kot", 155);
-    freq.put(" er", 165);
-    freq.put(" es", 168);
-    freq.put("Slo", 396);
-    freq.put("b", 182777);
-    freq.put("ko ", 151);
-    freq.put("ké", 466);
-    freq.put("Xa", 216);
-    freq.put("kí", 1225);
-    freq.put("Xe", 229);
-    freq.put("đìn", 459);
-    freq.put("Xy", 153);
-    freq.put("ký", 795);
-    freq.put("Xu", 1093);
-    freq.put("vể ", 11302);
-    freq.put("này", 31504);
-    freq.put("zz", 263);
-    freq.put("nào", 548);
-    freq.put("Fus", 252);
-    freq.put("k ", 5941);
-    freq.put("Kir", 203);
-    freq.put("Kit", 143);
-    freq.put("Kin", 907);
-    freq.put("Kim", 609);
-    freq.put("vểa", 164);
-    freq.put("vểc", 13644);
-    freq.put("vểi", 7805);
-    freq.put("Atl", 649);
-    freq.put("Ath", 149);
-    freq.put("vểt", 17681);
-    freq.put("vểy", 569);
-    freq.put("ka", 4069);
-    freq.put("ke", 3413);
-    freq.put("Xí", 179);
-    freq.put("kk", 293);
-    freq.put("Xã", 2079);
-    freq.put("ki", 21387);
-    freq.put("kh", 39807);
-    freq.put("ko", 1602);
-    freq.put("kn", 974);
-    freq.put("km", 4687);
-    freq.put("kl", 1148);
-    freq.put("ks", 1201);
-    freq.put("kr", 861);
-    freq.put("ku", 945);
-    freq.put("kt", 384);
-    freq.put("ky", 750);
-    freq.put("Xô", 549);
-    freq.put("가가가", 272);
-    freq.put(" Bá", 846);
-    freq.put(" Bà", 785);
-    freq.put(" Bí", 387);
-    freq.put(" Bì", 1773);
-    freq.put(" Bé", 190);
-    freq.put("rén", 2896);
-    freq.put("cũ ", 497);
-    freq.put("hơ ", 851);
-    freq.put("Luể", 194);
-    freq.put("Opo", 183);
-    freq.put("yca", 261);
-    freq.put("ré ", 197);
-    freq.put("hơi", 801);
-    freq.put("hơn", 1695);
-    freq.put("cũn", 2434);
-    freq.put(" Be", 3504);
-    freq.put(" Ba", 13586);
-    freq.put(" Bl", 874);
-    freq.put(" Bo", 4376);
-    freq.put(" Bi", 2420);
-    freq.put(" Bh", 176);
-    freq.put(" Bu", 3207);
-    freq.put("ik ", 169);
-    freq.put(" Br", 4006);
-    freq.put(" By", 153);
-    freq.put("Ngể", 811);
-    freq.put(" B ", 314);
-    freq.put("ы", 142);
-    freq.put("ika", 371);
-    freq.put("ike", 257);
-    freq.put("iki", 420);
-    freq.put("iko", 368);
-    freq.put("Yel", 146);
-    freq.put("Dể", 759);
-    freq.put("nhá", 489);
-    freq.put("ga ", 2819);
-    freq.put("三", 4224);
-    freq.put("nhì", 354);
-    freq.put("gay", 317);
-    freq.put("gau", 202);
-    freq.put("gat", 452);
-    freq.put("gas", 1474);
-    freq.put("gar", 1812);
-    freq.put("gap", 295);
-    freq.put("gan", 1692);
-    freq.put("gam", 376);
-    freq.put("gal", 707);
-    freq.put(" Bư", 341);
-    freq.put("gai", 1612);
-    freq.put("gae", 147);
-    freq.put("lba", 423);
-    freq.put("fur", 264);
-    freq.put("fus", 239);
-    freq.put("之三三", 139);
-    freq.put("fun", 375);
-    freq.put("lbe", 635);
-    freq.put("ful", 164);
-    freq.put("sy ", 172);
-    freq.put("rap", 552);
-    freq.put("Ira", 481);
-    freq.put("Ire", 363);
-    freq.put("С", 156);
-    freq.put("ewa", 232);
-    freq.put("ray", 496);
-    freq.put("Đểo", 612);
-    freq.put("dge", 229);
-    freq.put("cea", 4824);
-    freq.put("syn", 165);
-    freq.put("Yên", 481);
-    freq.put("syl", 224);
-    freq.put("ew ", 2560);
-    freq.put("y", 192811);
-    freq.put("ldb", 159);
-    freq.put("lda", 161);
-    freq.put("lde", 761);
-    freq.put("ldi", 250);
-    freq.put("Di ", 179);
-    freq.put("bi ", 208);
-    freq.put("Á ", 1673);
-    freq.put("cut", 255);
-    freq.put("cus", 673);
-    freq.put("cur", 399);
-    freq.put("rgy", 150);
-    freq.put("rga", 532);
-    freq.put("rge", 1773);
-    freq.put("cua", 546);
-    freq.put("win", 477);
-    freq.put("rgh", 152);
-    freq.put("rgi", 1202);
-    freq.put("cum", 328);
-    freq.put("cul", 2298);
-    freq.put("rgn", 567);
-    freq.put("rgo", 1290);
-    freq.put("bin", 1156);
-    freq.put("bio", 195);
-    freq.put("bil", 353);
-    freq.put("Dio", 154);
-    freq.put("bii", 441);
-    freq.put("Die", 258);
-    freq.put("bid", 364);
-    freq.put("bic", 185);
-    freq.put("Dic", 144);
-    freq.put("侏", 215);
-    freq.put("Dit", 152);
-    freq.put("bit", 429);
-    freq.put("biu", 210);
-    freq.put("bir", 196);
-    freq.put("bis", 208);
-    freq.put("biq", 379);
-    freq.put("Áo", 1420);
-    freq.put("rg ", 4949);
-    freq.put("Áv", 245);
-    freq.put("Nă", 720);
-    freq.put(" Để", 19647);
-    freq.put(" lã", 1013);
-    freq.put("oe ", 211);
-    freq.put(" ô ", 353);
-    freq.put("pet", 646);
-    freq.put("per", 2665);
-    freq.put("pes", 3121);
-    freq.put("pel", 638);
-    freq.put("pen", 678);
-    freq.put("ped", 468);
-    freq.put("tiể", 16334);
-    freq.put("pea", 417);
-    freq.put("pec", 3297);
-    freq.put("biê", 756);
-    freq.put("Diê", 175);
-    freq.put("Bor", 635);
-    freq.put("Bos", 277);
-    freq.put("Bot", 225);
-    freq.put("Bou", 1517);
-    freq.put("O", 10000);
-    freq.put("diể", 17680);
-    freq.put(" ôn", 1711);
-    freq.put("Bol", 471);
-    freq.put("oen", 367);
-    freq.put("Bon", 251);
-    freq.put("oed", 204);
-    freq.put("ς ", 202);
-    freq.put("ä", 808);
-    freq.put("pe ", 1111);
-    freq.put("Hun", 464);
-    freq.put("nsh", 461);
-    freq.put("nsi", 2204);
-    freq.put("nsk", 139);
-    freq.put("nsl", 567);
-    freq.put("nso", 325);
-    freq.put("nsa", 421);
-    freq.put("nsb", 373);
-    freq.put("nsc", 152);
-    freq.put("nse", 669);
-    freq.put("nsf", 180);
-    freq.put("nsy", 214);
-    freq.put("Năm", 661);
-    freq.put("nst", 981);
-    freq.put("nsu", 730);
-    freq.put("ăk", 142);
-    freq.put(" gó", 504);
-    freq.put("ăm", 28997);
-    freq.put(" gâ", 429);
-    freq.put(" gá", 282);
-    freq.put("uss", 2125);
-    freq.put("ns ", 3001);
-    freq.put("rò ", 634);
-    freq.put("Flo", 588);
-    freq.put("Fla", 166);
-    freq.put("sdo", 465);
-    freq.put("Fle", 174);
-    freq.put("góp", 269);
-    freq.put("góc", 144);
-    freq.put("lyp", 567);
-    freq.put("Nym", 236);
-    freq.put("hêm", 276);
-    freq.put("lym", 264);
-    freq.put("lyn", 185);
-    freq.put("Mas", 469);
-    freq.put("Mar", 4888);
-    freq.put("Mau", 531);
-    freq.put("Mat", 259);
-    freq.put("May", 519);
-    freq.put("Mac", 532);
-    freq.put(" ge", 1821);
-    freq.put("Mad", 710);
-    freq.put("Mag", 297);
-    freq.put(" ga", 2783);
-    freq.put("Mai", 1077);
-    freq.put("Mah", 444);
-    freq.put(" gl", 236);
-    freq.put("thô", 2398);
-    freq.put("Mal", 1668);
-    freq.put(" gh", 729);
-    freq.put("Man", 2248);
-    freq.put("Meg", 242);
-    freq.put("ly ", 5413);
-    freq.put("hê ", 529);
-    freq.put("Mec", 579);
-    freq.put("Ma ", 267);
-    freq.put(" b", 142456);
-    freq.put(" c", 262807);
-    freq.put(" a", 22488);
-    freq.put(" f", 8319);
-    freq.put(" g", 49741);
-    freq.put(" d", 93354);
-    freq.put(" e", 7007);
-    freq.put(" j", 644);
-    freq.put(" k", 76050);
-    freq.put(" h", 134731);
-    freq.put(" i", 13655);
-    freq.put(" n", 244497);
-    freq.put(" o", 12009);
-    freq.put(" l", 242575);
-    freq.put(" m", 173509);
-    freq.put(" r", 14869);
-    freq.put(" s", 94989);
-    freq.put(" p", 59115);
-    freq.put(" q", 28586);
-    freq.put(" v", 156401);
-    freq.put(" w", 4693);
-    freq.put(" t", 566783);
-    freq.put(" u", 1259);
-    freq.put(" z", 365);
-    freq.put(" x", 17955);
-    freq.put(" y", 1958);
-    freq.put("Guy", 153);
-    freq.put(" B", 48077);
-    freq.put(" C", 71972);
-    freq.put(" A", 42454);
-    freq.put(" F", 9904);
-    freq.put(" G", 23091);
-    freq.put(" D", 18825);
-    freq.put(" E", 10050);
-    freq.put(" J", 5319);
-    freq.put(" K", 22031);
-    freq.put(" H", 57162);
-    freq.put(" I", 15633);
-    freq.put(" N", 70771);
-    freq.put(" O", 9935);
-    freq.put(" L", 45508);
-    freq.put(" M", 47408);
-    freq.put(" R", 17493);
-    freq.put(" S", 43565);
-    freq.put(" P", 61533);
-    freq.put(" Q", 14713);
-    freq.put(" V", 29925);
-    freq.put(" W", 8016);
-    freq.put(" T", 104253);
-    freq.put(" U", 5377);
-    freq.put(" Z", 3238);
-    freq.put(" X", 6141);
-    freq.put("Xi", 420);
-    freq.put(" mũ", 152);
-    freq.put("Azu", 1003);
-    freq.put(" â", 3662);
-    freq.put(" á", 1499);
-    freq.put(" í", 541);
-    freq.put(" ô", 2220);
-    freq.put(" ý", 503);
-    freq.put(" Â", 2373);
-    freq.put("xâm", 158);
-    freq.put(" Á", 3556);
-    freq.put(" É", 500);
-    freq.put(" Î", 330);
-    freq.put("Orn", 566);
-    freq.put(" Ô", 1748);
-    freq.put("Ori", 453);
-    freq.put(" Ú", 1274);
-    freq.put("Ore", 369);
-    freq.put("Orc", 304);
-    freq.put("Ora", 158);
-    freq.put("oci", 330);
-    freq.put("ock", 741);
-    freq.put(" Dư", 2196);
-    freq.put("chơ", 592);
-    freq.put("uôi", 272);
-    freq.put("uôn", 11800);
-    freq.put("chư", 1623);
-    freq.put("Or ", 550);
-    freq.put(" Do", 2436);
-    freq.put("Ver", 694);
-    freq.put(" Di", 2876);
-    freq.put(" De", 2206);
-    freq.put("Vex", 266);
-    freq.put("ii ", 1370);
-    freq.put(" Dy", 152);
-    freq.put("Ven", 831);
-    freq.put(" Du", 1262);
-    freq.put(" Dr", 1245);
-    freq.put("éo ", 609);
-    freq.put("cha", 3033);
-    freq.put("Fr", 2327);
-    freq.put("Yê", 502);
-    freq.put("che", 4294);
-    freq.put("chi", 13490);
-    freq.put("chl", 1776);
-    freq.put("chm", 217);
-    freq.put("chn", 259);
-    freq.put("cho", 7644);
-    freq.put("Fa", 1831);
-    freq.put("chr", 711);
-    freq.put("chs", 1959);
-    freq.put("cht", 448);
-    freq.put("chu", 6009);
-    freq.put("chw", 543);
-    freq.put("chy", 360);
-    freq.put("Fl", 1104);
-    freq.put("Fo", 1217);
-    freq.put("tàu", 1978);
-    freq.put(" D ", 281);
-    freq.put("hre", 321);
-    freq.put("tàn", 309);
-    freq.put("Bit", 253);
-    freq.put("tài", 1059);
-    freq.put("ch ", 37737);
-    freq.put(" ă", 627);
-    freq.put("f", 32992);
-    freq.put("oct", 1918);
-    freq.put("F ", 494);
-    freq.put(" Đ", 41607);
-    freq.put(" đ", 198156);
-    freq.put("Mển", 285);
-    freq.put(" Dâ", 1282);
-    freq.put(" Dô", 340);
-    freq.put("chá", 201);
-    freq.put("châ", 14860);
-    freq.put("Mểi", 146);
-    freq.put("Yo", 874);
-    freq.put("Ya", 435);
-    freq.put("ché", 314);
-    freq.put("aff", 222);
-    freq.put("Ye", 349);
-    freq.put("chí", 8076);
-    freq.put("tai", 3180);
-    freq.put("chò", 225);
-    freq.put("chó", 180);
-    freq.put("aft", 152);
-    freq.put("chù", 312);
-    freq.put("chú", 1406);
-    freq.put("Yu", 292);
-    freq.put("Yv", 187);
-    freq.put("Mểc", 807);
-    freq.put(" ư", 1144);
-    freq.put("Y ", 322);
-    freq.put("af ", 167);
-    freq.put("da ", 3697);
-    freq.put("Mểu", 174);
-    freq.put("eum", 201);
-    freq.put("lg", 997);
-    freq.put("ld", 3791);
-    freq.put("le", 28117);
-    freq.put("lb", 2760);
-    freq.put("lc", 719);
-    freq.put("la", 39723);
-    freq.put("ln", 332);
-    freq.put("eud", 540);
-    freq.put("ll", 28312);
-    freq.put("lm", 1499);
-    freq.put("ви", 141);
-    freq.put("lk", 1201);
-    freq.put("euc", 337);
-    freq.put("li", 29575);
-    freq.put("lv", 1420);
-    freq.put("lw", 160);
-    freq.put("lt", 3135);
-    freq.put("lu", 8343);
-    freq.put("eux", 671);
-    freq.put("lp", 3661);
-    freq.put("euz", 190);
-    freq.put("Cuể", 281);
-    freq.put("euv", 222);
-    freq.put("lz", 2455);
-    freq.put("eus", 1354);
-    freq.put("ly", 7272);
-    freq.put("dad", 140);
-    freq.put("dae", 24708);
-    freq.put("dag", 446);
-    freq.put("dac", 762);
-    freq.put("dal", 972);
-    freq.put("dam", 377);
-    freq.put("dan", 4922);
-    freq.put("sid", 739);
-    freq.put("quý", 155);
-    freq.put("dai", 189);
-    freq.put("dat", 480);
-    freq.put("quâ", 3680);
-    freq.put("dap", 183);
-    freq.put("dar", 398);
-    freq.put("quê", 311);
-    freq.put("l ", 17786);
-    freq.put("eu ", 303);
-    freq.put("ts ", 2029);
-    freq.put("lfe", 172);
-    freq.put("Tuy", 629);
-    freq.put("rex", 297);
-    freq.put("rey", 288);
-    freq.put("lâ", 707);
-    freq.put("lã", 1014);
-    freq.put("là", 155485);
-    freq.put("lá", 810);
-    freq.put("rer", 300);
-    freq.put("res", 3724);
-    freq.put("Tur", 1442);
-    freq.put("lí", 1363);
-    freq.put("rev", 398);
-    freq.put("ret", 1055);
-    freq.put("reu", 912);
-    freq.put("lô", 11642);
-    freq.put("rei", 1635);
-    freq.put("ren", 4076);
-    freq.put("reo", 199);
-    freq.put("rel", 1428);
-    freq.put("rem", 776);
-    freq.put("reb", 939);
-    freq.put("rec", 523);
-    freq.put("rea", 2006);
-    freq.put("ref", 247);
-    freq.put("reg", 1203);
-    freq.put("red", 781);
-    freq.put("ree", 1006);
-    freq.put("lf ", 224);
-    freq.put("quy", 3085);
-    freq.put("qua", 5837);
-    freq.put("que", 2033);
-    freq.put("bwe", 288);
-    freq.put("qui", 2180);
-    freq.put("re ", 9446);
-    freq.put("ud ", 256);
-    freq.put("cán", 798);
-    freq.put("og ", 551);
-    freq.put("miê", 868);
-    freq.put("nưể", 35806);
-    freq.put("lũ", 299);
-    freq.put("iể", 166241);
-    freq.put("Vể", 1294);
-    freq.put("ogy", 195);
-    freq.put("udw", 163);
-    freq.put("ogu", 214);
-    freq.put("ogr", 267);
-    freq.put("ogl", 349);
-    freq.put("ogo", 319);
-    freq.put("ogn", 1408);
-    freq.put("ogi", 228);
-    freq.put("ude", 797);
-    freq.put("oge", 346);
-    freq.put("udi", 503);
-    freq.put("oga", 317);
-    freq.put("udo", 607);
-    freq.put("Pen", 544);
-    freq.put("lĩ", 607);
-    freq.put("kiể", 2684);
-    freq.put("Pap", 721);
-    freq.put("Par", 1717);
-    freq.put("Pas", 888);
-    freq.put("Pat", 164);
-    freq.put("Pau", 274);
-    freq.put("nqu", 229);
-    freq.put("Pay", 1416);
-    freq.put("Pac", 219);
-    freq.put("Pak", 192);
-    freq.put("Pal", 1091);
-    freq.put("Pan", 548);
-    freq.put("mil", 2845);
-    freq.put("min", 2275);
-    freq.put("mia", 637);
-    freq.put("mic", 1181);
-    freq.put("mib", 195);
-    freq.put("mie", 192);
-    freq.put("mid", 343);
-    freq.put("mis", 870);
-    freq.put("mir", 352);
-    freq.put("Ois", 715);
-    freq.put("mit", 1161);
-    freq.put("Cể", 8674);
-    freq.put("sfe", 321);
-    freq.put("mi ", 443);
-    freq.put("lư", 3756);
-    freq.put("Võ ", 184);
-    freq.put("hìn", 3185);
-    freq.put("hìm", 147);
-    freq.put("Moz", 414);
-    freq.put("Mos", 1419);
-    freq.put("Mor", 654);
-    freq.put(" is", 5408);
-    freq.put(" it", 773);
-    freq.put("Mou", 470);
-    freq.put("Mot", 424);
-    freq.put("Mon", 1606);
-    freq.put(" in", 6639);
-    freq.put("Mol", 400);
-    freq.put(" С", 156);
-    freq.put("xuể", 3053);
-    freq.put("hì ", 1109);
-    freq.put("ks ", 691);
-    freq.put("ĩ", 9562);
-    freq.put("õ", 1117);
-    freq.put(" Is", 1688);
-    freq.put("dâ", 28874);
-    freq.put("S", 43824);
-    freq.put("dà", 2537);
-    freq.put("vre", 519);
-    freq.put("cùn", 1840);
-    freq.put("è", 3862);
-    freq.put(" Il", 425);
-    freq.put("ohn", 303);
-    freq.put("ăn ", 5275);
-    freq.put("uid", 1911);
-    freq.put(" Id", 176);
-    freq.put("Hoa", 8475);
-    freq.put("Hon", 555);
-    freq.put("ohe", 168);
-    freq.put("ak", 3208);
-    freq.put("Hom", 153);
-    freq.put("cos", 565);
-    freq.put("oha", 229);
-    freq.put("ăng", 3284);
-    freq.put("cor", 1035);
-    freq.put("àng", 7133);
-    freq.put("cou", 1134);
-    freq.put("uin", 1133);
-    freq.put("ysi", 882);
-    freq.put("yso", 284);
-    freq.put("uis", 537);
-    freq.put("Hou", 153);
-    freq.put("万 ", 771);
-    freq.put("au", 17184);
-    freq.put("yst", 455);
-    freq.put(" Fr", 2319);
-    freq.put(" Fu", 749);
-    freq.put(" Fa", 1822);
-    freq.put(" Fe", 894);
-    freq.put(" Fi", 1014);
-    freq.put(" Fl", 1075);
-    freq.put(" Fo", 1209);
-    freq.put("io ", 1175);
-    freq.put("Nó", 11015);
-    freq.put("cob", 146);
-    freq.put("cod", 256);
-    freq.put("tây", 9977);
-    freq.put("iou", 177);
-    freq.put("iot", 545);
-    freq.put("ios", 885);
-    freq.put("ior", 202);
-    freq.put("iop", 856);
-    freq.put("ion", 4473);
-    freq.put("iol", 823);
-    freq.put("tâm", 1507);
-    freq.put("ioi", 173);
-    freq.put("iod", 167);
-    freq.put("ioc", 292);
-    freq.put("ém ", 263);
-    freq.put("con", 3655);
-    freq.put("Hy ", 979);
-    freq.put("adt", 318);
-    freq.put("adu", 484);
-    freq.put("adr", 334);
-    freq.put("gma", 174);
-    freq.put("gme", 307);
-    freq.put("ady", 140);
-    freq.put("ade", 2368);
-    freq.put("ada", 2077);
-    freq.put("ado", 1640);
-    freq.put("м", 235);
-    freq.put("adi", 656);
-    freq.put("Hyd", 396);
-    freq.put(" ا", 171);
-    freq.put("Hyp", 280);
-    freq.put("ad ", 1523);
-    freq.put("nja", 290);
-    freq.put("ui ", 422);
-    freq.put("esw", 957);
-    freq.put("est", 3808);
-    freq.put("ess", 1434);
-    freq.put("esp", 684);
-    freq.put("tma", 160);
-    freq.put("ese", 753);
-    freq.put("esc", 975);
-    freq.put("tme", 444);
-    freq.put("esa", 259);
-    freq.put("eso", 340);
-    freq.put("esn", 283);
-    freq.put("esl", 202);
-    freq.put("esi", 2021);
-    freq.put("esh", 1269);
-    freq.put("es ", 26910);
-    freq.put("三 ", 1277);
-    freq.put("vĩ ", 1285);
-    freq.put("uyể", 30286);
-    freq.put("Liể", 150);
-    freq.put("rct", 554);
-    freq.put("rcu", 715);
-    freq.put("rco", 417);
-    freq.put("rch", 1874);
-    freq.put("rci", 274);
-    freq.put("rce", 427);
-    freq.put("rca", 280);
-    freq.put("bur", 2940);
-    freq.put("bus", 353);
-    freq.put("Des", 235);
-    freq.put("Deu", 424);
-    freq.put("but", 706);
-    freq.put("bun", 198);
-    freq.put("Dem", 185);
-    freq.put("bul", 333);
-    freq.put("bum", 722);
-    freq.put("Giá", 926);
-    freq.put("j", 4762);
-    freq.put("pil", 547);
-    freq.put("pin", 2627);
-    freq.put("pio", 231);
-    freq.put("pia", 524);
-    freq.put("pic", 879);
-    freq.put("pid", 686);
-    freq.put("pie", 144);
-    freq.put("ub ", 179);
-    freq.put("pir", 455);
-    freq.put("pis", 429);
-    freq.put("pit", 358);
-    freq.put("oad", 230);
-    freq.put("oan", 1921);
-    freq.put("oat", 240);
-    freq.put("oas", 324);
-    freq.put("oar", 504);
-    freq.put("Aca", 233);
-    freq.put("ubr", 196);
-    freq.put("ubs", 175);
-    freq.put("pi ", 273);
-    freq.put("Ach", 200);
-    freq.put("Acr", 321);
-    freq.put("ubf", 310);
-    freq.put("log", 693);
-    freq.put("ubl", 385);
-    freq.put("ubi", 473);
-    freq.put("Âm ", 149);
-    freq.put("oa ", 13629);
-    freq.put(" kê", 1776);
-    freq.put("iße", 139);
-    freq.put(" ké", 437);
-    freq.put(" kì", 215);
-    freq.put(" kí", 1225);
-    freq.put(" ký", 784);
-    freq.put("bày", 158);
-    freq.put("đươ", 308);
-    freq.put("TV ", 172);
-    freq.put("G ", 637);
-    freq.put("bài", 1285);
-    freq.put("bào", 422);
-    freq.put("bàn", 328);
-    freq.put("ل", 264);
-    freq.put("Hưn", 444);
-    freq.put("Gu", 2462);
-    freq.put("Gr", 4171);
-    freq.put("mũ", 152);
-    freq.put("Gy", 286);
-    freq.put("bà ", 200);
-    freq.put("Ge", 2583);
-    freq.put("Ga", 3052);
-    freq.put("Go", 1400);
-    freq.put("Gl", 496);
-    freq.put("Gi", 6635);
-    freq.put("Gh", 326);
-    freq.put(" ka", 329);
-    freq.put(" ke", 373);
-    freq.put(" kh", 38847);
-    freq.put(" ki", 18267);
-    freq.put(" kn", 913);
-    freq.put(" ko", 246);
-    freq.put(" km", 4476);
-    freq.put("Hér", 279);
-    freq.put("ơi", 3100);
-    freq.put("gna", 708);
-    freq.put("mư", 601);
-    freq.put("ς", 203);
-    freq.put("ơm", 181);
-    freq.put("tiu", 237);
-    freq.put("ơn", 18072);
-    freq.put("Gö", 233);
-    freq.put("Zh", 185);
-    freq.put("Gò", 247);
-    freq.put("Ze", 739);
-    freq.put("Za", 1272);
-    freq.put("thâ", 11890);
-    freq.put("thá", 12170);
-    freq.put("Zu", 199);
-    freq.put("ku ", 366);
-    freq.put("Kon", 253);
-    freq.put("Kor", 151);
-    freq.put("m ", 167316);
-    freq.put("me", 15863);
-    freq.put("mg", 163);
-    freq.put("ma", 19960);
-    freq.put("mb", 6117);
-    freq.put("mm", 3914);
-    freq.put("ml", 141);
-    freq.put("mo", 8059);
-    freq.put("mn", 579);
-    freq.put("mi", 19185);
-    freq.put("mu", 3841);
-    freq.put("mt", 201);
-    freq.put("mp", 6181);
-    freq.put("ms", 1171);
-    freq.put("my", 849);
-    freq.put("Hươ", 208);
-    freq.put("ena", 1558);
-    freq.put("enb", 2082);
-    freq.put("enc", 2127);
-    freq.put("end", 2473);
-    freq.put("ene", 1945);
-    freq.put("enf", 291);
-    freq.put("eng", 730);
-    freq.put("enh", 484);
-    freq.put("eni", 2073);
-    freq.put("enk", 343);
-    freq.put("enl", 192);
-    freq.put("enn", 3389);
-    freq.put("eno", 956);
-    freq.put("enr", 274);
-    freq.put("ens", 4503);
-    freq.put("ent", 10489);
-    freq.put("enu", 1664);
-    freq.put("m2", 659);
-    freq.put("eny", 515);
-    freq.put("enz", 420);
-    freq.put("II ", 1176);
-    freq.put("en ", 12018);
-    freq.put("má", 2261);
-    freq.put("mà", 2647);
-    freq.put("mã", 976);
-    freq.put("mì", 570);
-    freq.put("đưa", 612);
-    freq.put("mé", 23563);
-    freq.put("mô", 1896);
-    freq.put("mó", 270);
-    freq.put("núi", 1191);
-    freq.put("mù", 496);
-    freq.put(" Hy", 1924);
-    freq.put(" Hu", 4380);
-    freq.put(" Hi", 2699);
-    freq.put(" Ho", 13959);
-    freq.put(" Ha", 7534);
-    freq.put(" He", 2474);
-    freq.put("ima", 1310);
-    freq.put("imb", 551);
-    freq.put("ime", 1906);
-    freq.put("cli", 182);
-    freq.put("imi", 643);
-    freq.put("cle", 346);
-    freq.put("imm", 158);
-    freq.put("goà", 839);
-    freq.put("imo", 742);
-    freq.put("ãng", 1319);
-    freq.put("imu", 305);
-    freq.put("clu", 420);
-    freq.put("ãnh", 975);
-    freq.put("SA ", 174);
-    freq.put(" H ", 178);
-    freq.put("im ", 5476);
-    freq.put("Viê", 165);
-    freq.put("éc ", 283);
-    freq.put("ãn ", 565);
-    freq.put("dòn", 604);
-    freq.put(" Hó", 455);
-    freq.put(" Hò", 670);
-    freq.put(" Hé", 321);
-    freq.put(" Hì", 157);
-    freq.put(" Hã", 339);
-    freq.put(" Há", 6905);
-    freq.put(" Hà", 3868);
-    freq.put("gom", 139);
-    freq.put("gol", 384);
-    freq.put("gon", 1688);
-    freq.put("gog", 725);
-    freq.put("aji", 229);
-    freq.put("goz", 262);
-    freq.put("aja", 635);
-    freq.put("gov", 334);
-    freq.put("gos", 596);
-    freq.put("gor", 601);
-    freq.put("Sôn", 404);
-    freq.put("như", 5336);
-    freq.put("W", 8071);
-    freq.put("Vic", 424);
-    freq.put("Vie", 766);
-    freq.put("Vin", 383);
-    freq.put("ì", 32480);
-    freq.put("Vil", 850);
-    freq.put("Vir", 376);
-    freq.put(" Sp", 1984);
-    freq.put("nhe", 263);
-    freq.put("nha", 2433);
-    freq.put("nho", 251);
-    freq.put("nhi", 5815);
-    freq.put("nhu", 514);
-    freq.put("mưể", 240);
-    freq.put("tor", 2310);
-    freq.put("tos", 429);
-    freq.put("top", 602);
-    freq.put("equ", 162);
-    freq.put("tow", 612);
-    freq.put("tot", 153);
-    freq.put("tou", 1449);
-    freq.put("toi", 213);
-    freq.put("ton", 3013);
-    freq.put("ôme", 730);
-    freq.put("tol", 487);
-    freq.put("tom", 1725);
-    freq.put("tob", 196);
-    freq.put("toc", 558);
-    freq.put("tog", 204);
-    freq.put("tod", 450);
-    freq.put("toe", 205);
-    freq.put("nh ", 132657);
-    freq.put(" Tể", 7366);
-    freq.put("thy", 410);
-    freq.put("ôm ", 271);
-    freq.put("thw", 183);
-    freq.put("to ", 4755);
-    freq.put("ept", 1404);
-    freq.put("raf", 217);
-    freq.put("rag", 1656);
-    freq.put("rad", 1615);
-    freq.put("rae", 749);
-    freq.put("rab", 584);
-    freq.put("nhà", 6343);
-    freq.put("nhâ", 2593);
-    freq.put("ran", 8266);
-    freq.put("rao", 655);
-    freq.put("ral", 2485);
-    freq.put("ram", 1112);
-    freq.put("rak", 217);
-    freq.put("rah", 190);
-    freq.put("rai", 3535);
-    freq.put("rav", 215);
-    freq.put("rat", 1838);
-    freq.put("rau", 875);
-    freq.put("rar", 494);
-    freq.put("ras", 1804);
-    freq.put("nhó", 1299);
-    freq.put("raq", 160);
-    freq.put("lbi", 189);
-    freq.put("âu ", 6939);
-    freq.put("raz", 574);
-    freq.put("lbo", 527);
-    freq.put("亞", 563);
-    freq.put("tho", 1935);
-    freq.put("Syn", 143);
-    freq.put("It ", 1456);
-    freq.put("Syr", 151);
-    freq.put("ômé", 10659);
-    freq.put("toà", 1057);
-    freq.put("toá", 1052);
-    freq.put("Â", 2373);
-    freq.put("thi", 5961);
-    freq.put("ra ", 16536);
-    freq.put(" Hư", 907);
-    freq.put("bsi", 207);
-    freq.put("epe", 234);
-    freq.put("trể", 43603);
-    freq.put("Ita", 500);
-    freq.put("tha", 4235);
-    freq.put("epa", 418);
-    freq.put("éz", 154);
-    freq.put("ép", 2326);
-    freq.put("és", 341);
-    freq.put("ér", 825);
-    freq.put("ét", 23592);
-    freq.put("év", 213);
-    freq.put("ém", 434);
-    freq.put("él", 169);
-    freq.put("éo", 764);
-    freq.put("én", 3441);
-    freq.put("éc", 499);
-    freq.put("éb", 181);
-    freq.put("ée", 3394);
-    freq.put("éd", 152);
-    freq.put("ég", 181);
-    freq.put("Bin", 143);
-    freq.put("och", 1882);
-    freq.put("Bil", 278);
-    freq.put("ocl", 146);
-    freq.put("oco", 568);
-    freq.put("oca", 1110);
-    freq.put("occ", 493);
-    freq.put("oce", 820);
-    freq.put("abr", 553);
-    freq.put("ocy", 317);
-    freq.put("òa", 5612);
-    freq.put("òm", 318);
-    freq.put("òn", 6337);
-    freq.put("ocr", 154);
-    freq.put("Bir", 234);
-    freq.put("Bis", 150);
-    freq.put("р", 638);
-    freq.put("xoa", 253);
-    freq.put("é ", 1396);
-    freq.put("ürt", 532);
-    freq.put("oc ", 1250);
-    freq.put("nơi", 1970);
-    freq.put("ò ", 1069);
-    freq.put("niể", 631);
-    freq.put("üri", 758);
-    freq.put("tá", 3122);
-    freq.put("Pet", 409);
-    freq.put("nut", 506);
-    freq.put("nus", 3075);
-    freq.put("Per", 956);
-    freq.put("Pel", 140);
-    freq.put("nul", 298);
-    freq.put("num", 443);
-    freq.put("rüc", 145);
-    freq.put("Biê", 192);
-    freq.put("mus", 478);
-    freq.put("mur", 466);
-    freq.put("mua", 252);
-    freq.put("Oec", 143);
-    freq.put("mul", 387);
-    freq.put("mun", 1488);
-    freq.put("Ext", 290);
-    freq.put(" mư", 601);
-    freq.put("gge", 165);
-    freq.put("Hò", 671);
-    freq.put("mu ", 149);
-    freq.put(" me", 1022);
-    freq.put("之 ", 589);
-    freq.put(" ma", 3748);
-    freq.put(" mo", 1972);
-    freq.put("tù ", 245);
-    freq.put(" mi", 9905);
-    freq.put(" mu", 1888);
-    freq.put("Hể ", 3004);
-    freq.put("Leó", 2050);
-    freq.put("sểm", 218);
-    freq.put(" m ", 439);
-    freq.put("Cra", 378);
-    freq.put("Cre", 395);
-    freq.put("Cri", 167);
-    freq.put("Vùn", 202);
-    freq.put("Cro", 546);
-    freq.put("Hểp", 191);
-    freq.put("Hểu", 669);
-    freq.put("n", 1382200);
-    freq.put("Hểc", 428);
-    freq.put("Hểi", 3718);
-    freq.put("Hển", 822);
-    freq.put("ă", 37793);
-    freq.put(" mà", 2646);
-    freq.put(" má", 2233);
-    freq.put(" mã", 975);
-    freq.put(" mì", 566);
-    freq.put(" mé", 12707);
-    freq.put(" mô", 1890);
-    freq.put(" mó", 260);
-    freq.put(" mù", 492);
-    freq.put("hà ", 7105);
-    freq.put("Kể", 5925);
-    freq.put("hài", 213);
-    freq.put("hào", 150);
-    freq.put("hàn", 21780);
-    freq.put("hàm", 435);
-    freq.put("ìn", 20626);
-    freq.put("via", 1024);
-    freq.put("lưể", 2704);
-    freq.put("vig", 163);
-    freq.put("elk", 404);
-    freq.put("eli", 1798);
-    freq.put("elo", 933);
-    freq.put("ell", 9746);
-    freq.put("elm", 262);
-    freq.put("elb", 206);
-    freq.put("Hó", 455);
-    freq.put("ela", 2654);
-    freq.put("elf", 146);
-    freq.put("elg", 160);
-    freq.put("eld", 1258);
-    freq.put("ele", 1267);
-    freq.put("Hé", 321);
-    freq.put("Hì", 160);
-    freq.put("Hã", 340);
-    freq.put("Hà", 3871);
-    freq.put("Há", 6912);
-    freq.put("elt", 280);
-    freq.put("elu", 208);
-    freq.put("D", 18934);
-    freq.put("丹", 642);
-    freq.put("nơ", 1994);
-    freq.put("el ", 3452);
-    freq.put("Lyc", 258);
-    freq.put("nư", 35853);
-    freq.put(" Ju", 1029);
-    freq.put("câu", 470);
-    freq.put("mã ", 867);
-    freq.put(" Jo", 1090);
-    freq.put(" Ji", 227);
-    freq.put(" Je", 694);
-    freq.put(" Ja", 1791);
-    freq.put("ick", 622);
-    freq.put("thu", 53072);
-    freq.put("ici", 3591);
-    freq.put("Hy", 1927);
-    freq.put("ico", 2316);
-    freq.put("ica", 6048);
-    freq.put("ice", 765);
-    freq.put("Hu", 4398);
-    freq.put("Hi", 2709);
-    freq.put("Ho", 13976);
-    freq.put("ics", 295);
-    freq.put("icr", 1054);
-    freq.put("Ha", 7544);
-    freq.put("icu", 1741);
-    freq.put("He", 2483);
-    freq.put("hse", 1600);
-    freq.put("nă", 29159);
-    freq.put("hst", 227);
-    freq.put(" J ", 162);
-    freq.put("eat", 882);
-    freq.put("xưa", 183);
-    freq.put("ic ", 3037);
-    freq.put("H ", 455);
-    freq.put("áng", 13329);
-    freq.put("ppe", 777);
-    freq.put("ppi", 1358);
-    freq.put("ahi", 144);
-    freq.put("ánh", 4002);
-    freq.put("aho", 292);
-    freq.put("ahr", 141);
-    freq.put("ahu", 249);
-    freq.put("awe", 151);
-    freq.put("né", 3611);
-    freq.put("nê", 766);
-    freq.put("gis", 185);
-    freq.put("nà", 32104);
-    freq.put("nâ", 296);
-    freq.put("nç", 154);
-    freq.put("nú", 1257);
-    freq.put("gid", 1547);
-    freq.put("gic", 199);
-    freq.put("gia", 8820);
-    freq.put("gio", 553);
-    freq.put("gin", 1363);
-    freq.put("nó", 3472);
-    freq.put("nô", 498);
-    freq.put("ah ", 482);
-    freq.put("án ", 11049);
-    freq.put("ure", 2141);
-    freq.put("urb", 527);
-    freq.put("Vol", 589);
-    freq.put("Hư", 909);
-    freq.put("Vor", 516);
-    freq.put("Vos", 497);
-    freq.put("râu", 162);
-    freq.put("nno", 345);
-    freq.put("nni", 716);
-    freq.put("Huể", 468);
-    freq.put("nne", 5126);
-    freq.put("nna", 750);
-    freq.put("thm", 205);
-    freq.put("nns", 289);
-    freq.put("nh", 179739);
-    freq.put("ni", 21672);
-    freq.put("nj", 602);
-    freq.put("giô", 172);
-    freq.put("nl", 3093);
-    freq.put("nm", 685);
-    freq.put("nn", 7993);
-    freq.put("no", 9747);
-    freq.put("tit", 511);
-    freq.put("na", 36440);
-    freq.put("nb", 2672);
-    freq.put("nc", 9194);
-    freq.put("nd", 29108);
-    freq.put("ne", 33625);
-    freq.put("nf", 985);
-    freq.put("ng", 422545);
-    freq.put("nx", 314);
-    freq.put("ny", 2595);
-    freq.put("nz", 1727);
-    freq.put("tio", 2405);
-    freq.put("tii", 370);
-    freq.put("giá", 5603);
-    freq.put("già", 408);
-    freq.put("np", 246);
-    freq.put("nq", 250);
-    freq.put("nr", 434);
-    freq.put("ns", 10879);
-    freq.put("nt", 26825);
-    freq.put("nu", 5357);
-    freq.put("nv", 655);
-    freq.put("nw", 217);
-    freq.put("squ", 256);
-    freq.put("nn ", 413);
-    freq.put("ich", 3932);
-    freq.put(" Rể", 522);
-    freq.put("n ", 440934);
-    freq.put("ti ", 720);
-    freq.put("roi", 481);
-    freq.put("lly", 728);
-    freq.put("rol", 951);
-    freq.put("rom", 2423);
-    freq.put("ron", 57984);
-    freq.put("roo", 669);
-    freq.put("lls", 526);
-    freq.put("roa", 358);
-    freq.put("rob", 744);
-    freq.put("roc", 1935);
-    freq.put("rod", 644);
-    freq.put("rof", 216);
-    freq.put("rog", 648);
-    freq.put("roy", 149);
-    freq.put("lli", 4980);
-    freq.put("llo", 3130);
-    freq.put("rop", 3656);
-    freq.put("llb", 208);
-    freq.put("ror", 201);
-    freq.put("ros", 1675);
-    freq.put("rot", 1221);
-    freq.put("rou", 1200);
-    freq.put("rov", 1781);
-    freq.put("row", 593);
-    freq.put("Dal", 154);
-    freq.put("Dam", 166);
-    freq.put("Dan", 842);
-    freq.put("Quý", 277);
-    freq.put("Quá", 225);
-    freq.put("Dav", 172);
-    freq.put("Quâ", 725);
-    freq.put("Dar", 270);
-    freq.put("gể", 17545);
-    freq.put("Cic", 417);
-    freq.put("òa ", 5602);
-    freq.put("ro ", 929);
-    freq.put("Vân", 484);
-    freq.put("Cit", 157);
-    freq.put("ll ", 2030);
-    freq.put("ict", 897);
-    freq.put("Res", 158);
-    freq.put("Rep", 253);
-    freq.put("llé", 141);
-    freq.put("Rei", 173);
-    freq.put("Ren", 178);
-    freq.put("Reg", 216);
-    freq.put("Red", 234);
-    freq.put("Quy", 457);
-    freq.put("Qua", 706);
-    freq.put("ươ", 12314);
-    freq.put("Dưể", 277);
-    freq.put("roß", 201);
-    freq.put("Qui", 159);
-    freq.put("Aga", 200);
-    freq.put("ểu ", 43780);
-    freq.put("ày ", 41264);
-    freq.put("Miê", 150);
-    freq.put("ngk", 252);
-    freq.put("ngt", 407);
-    freq.put("kểt", 1768);
-    freq.put("mst", 192);
-    freq.put("ư ", 8494);
-    freq.put("bìn", 10852);
-    freq.put("ưu", 1733);
-    freq.put("ưa", 1622);
-    freq.put("ưn", 2592);
-    freq.put("ms ", 540);
-    freq.put(" on", 1221);
-    freq.put("Mil", 319);
-    freq.put("Min", 1719);
-    freq.put(" of", 6994);
-    freq.put("Mic", 1239);
-    freq.put(" ob", 204);
-    freq.put(" oc", 375);
-    freq.put(" ot", 153);
-    freq.put("Mir", 161);
-    freq.put(" or", 1862);
-    freq.put("Mit", 747);
-    freq.put(" op", 485);
-    freq.put("bể ", 9115);
-    freq.put("ky ", 446);
-    freq.put("rúc", 638);
-    freq.put("dée", 277);
-    freq.put("dép", 1137);
-    freq.put("sán", 1258);
-    freq.put("sác", 1906);
-    freq.put("aha", 852);
-    freq.put("Gòn", 201);
-    freq.put("丘", 935);
-    freq.put("Zim", 303);
-    freq.put("sáu", 219);
-    freq.put("sát", 605);
-    freq.put("gto", 303);
-    freq.put(" Lư", 805);
-    freq.put("ppo", 224);
-    freq.put("ng ", 357107);
-    freq.put("kể ", 5372);
-    freq.put("hâm", 245);
-    freq.put("hân", 32338);
-    freq.put("ryp", 167);
-    freq.put("hâu", 5143);
-    freq.put("hât", 447);
-    freq.put("à ", 205928);
-    freq.put(" ăn", 626);
-    freq.put("ài", 40656);
-    freq.put("àn", 34510);
-    freq.put("ào", 9571);
-    freq.put("àm", 2558);
-    freq.put("răn", 535);
-    freq.put("àu", 3190);
-    freq.put("ày", 41288);
-    freq.put("hiể", 23255);
-    freq.put("ès ", 590);
-    freq.put("hu ", 18061);
-    freq.put("iam", 328);
-    freq.put("ial", 1014);
-    freq.put("iao", 1227);
-    freq.put("ian", 5609);
-    freq.put("iai", 626);
-    freq.put("iae", 280);
-    freq.put("iac", 1407);
-    freq.put("iat", 696);
-    freq.put("riể", 3937);
-    freq.put("ias", 397);
-    freq.put("Tiể", 1514);
-    freq.put("hua", 252);
-    freq.put("máy", 1955);
-    freq.put("hum", 443);
-    freq.put("hun", 1586);
-    freq.put("hut", 182);
-    freq.put("hur", 289);
-    freq.put("hus", 902);
-    freq.put("uyê", 4853);
-    freq.put("Ý", 1288);
-    freq.put("huy", 20578);
-    freq.put("gil", 310);
-    freq.put(" Lã", 279);
-    freq.put(" Lâ", 831);
-    freq.put(" Là", 800);
-    freq.put("kên", 176);
-    freq.put("ia ", 29704);
-    freq.put(" Lé", 142);
-    freq.put("r", 444790);
-    freq.put(" Lý", 663);
-    freq.put(" Lü", 151);
-    freq.put("and", 17225);
-    freq.put("ane", 1647);
-    freq.put("ang", 23334);
-    freq.put("pra", 304);
-    freq.put("ana", 4781);
-    freq.put("anc", 3852);
-    freq.put("anm", 363);
-    freq.put("ann", 1274);
-    freq.put("ano", 1266);
-    freq.put("anh", 11504);
-    freq.put("ani", 4224);
-    freq.put("anj", 313);
-    freq.put("ank", 983);
-    freq.put("ant", 5267);
-    freq.put("anu", 911);
-    freq.put(" nê", 751);
-    freq.put("ý ", 5155);
-    freq.put("ans", 1570);
-    freq.put("any", 498);
-    freq.put("anz", 946);
-    freq.put(" L ", 288);
-    freq.put(" án", 814);
-    freq.put(" áp", 355);
-    freq.put("е", 792);
-    freq.put("gko", 162);
-    freq.put("an ", 27435);
-    freq.put("Sèv", 318);
-    freq.put("huê", 158);
-    freq.put("huô", 174);
-    freq.put("乙", 857);
-    freq.put("lut", 702);
-    freq.put(" Le", 5519);
-    freq.put(" La", 11244);
-    freq.put(" Lo", 11086);
-    freq.put(" Li", 5628);
-    freq.put(" Lu", 1590);
-    freq.put(" Ly", 614);
-    freq.put("nly", 637);
-    freq.put("nla", 2159);
-    freq.put("dy ", 278);
-    freq.put("ss ", 872);
-    freq.put(" sể", 54954);
-    freq.put("hươ", 4318);
-    freq.put("ssu", 544);
-    freq.put("H", 57302);
-    freq.put("sso", 1413);
-    freq.put("ssi", 3339);
-    freq.put("sse", 3231);
-    freq.put("ssa", 1676);
-    freq.put("专专", 219);
-    freq.put("专三", 225);
-    freq.put("ôi ", 2569);
-    freq.put("rms", 184);
-    freq.put("tia", 1585);
-    freq.put("rma", 3617);
-    freq.put("rme", 709);
-    freq.put("rmi", 637);
-    freq.put("rmo", 497);
-    freq.put("gi ", 387);
-    freq.put("rm ", 302);
-    freq.put("Mùa", 206);
-    freq.put("pot", 426);
-    freq.put("por", 1000);
-    freq.put("pos", 699);
-    freq.put("pop", 359);
-    freq.put("pon", 447);
-    freq.put("pol", 658);
-    freq.put("pom", 618);
-    freq.put("pod", 1012);
-    freq.put("poc", 162);
-    freq.put("Bur", 1284);
-    freq.put("Bus", 168);
-    freq.put(" Ý", 1277);
-    freq.put("Bul", 625);
-    freq.put("Buc", 492);
-    freq.put("po ", 176);
-    freq.put("bên", 1143);
-    freq.put("Oah", 152);
-    freq.put("uch", 1204);
-    freq.put("Bar", 929);
-    freq.put("б", 149);
-    freq.put("I ", 2174);
-    freq.put("hư ", 5084);
-    freq.put("nk", 2141);
-    freq.put("Eth", 271);
-    freq.put("Sơn", 1964);
-    freq.put("yho", 211);
-    freq.put("Is", 1691);
-    freq.put("ùng", 27727);
-    freq.put("It", 2092);
-    freq.put("Im", 190);
-    freq.put("Il", 428);
-    freq.put("In", 3623);
-    freq.put("Ic", 220);
-    freq.put("Ib", 265);
-    freq.put("Id", 176);
-    freq.put("suể", 581);
-    freq.put("Kể ", 5821);
-    freq.put("tip", 239);
-    freq.put("giú", 291);
-    freq.put("ĩa", 3526);
-    freq.put("tir", 204);
-    freq.put("tis", 1648);
-    freq.put("okk", 143);
-    freq.put("til", 3476);
-    freq.put("tim", 1567);
-    freq.put("tin", 5106);
-    freq.put("oß", 224);
-    freq.put("tid", 1768);
-    freq.put("tie", 501);
-    freq.put("tif", 586);
-    freq.put("tig", 741);
-    freq.put("Pin", 370);
-    freq.put("Pic", 810);
-    freq.put("oã", 161);
-    freq.put("Pie", 506);
-    freq.put("oá", 2469);
-    freq.put("oà", 40273);
-    freq.put("tic", 3507);
-    freq.put("Pit", 142);
-    freq.put("Kus", 145);
-    freq.put("Kur", 182);
-    freq.put("o ", 85116);
-    freq.put(" Nể", 1895);
-    freq.put("oo", 2896);
-    freq.put("on", 100425);
-    freq.put("om", 14342);
-    freq.put("ol", 16267);
-    freq.put("ok", 1733);
-    freq.put("oj", 178);
-    freq.put("oi", 9431);
-    freq.put("oh", 1218);
-    freq.put("og", 4447);
-    freq.put("of", 8008);
-    freq.put("oe", 1614);
-    freq.put("od", 5406);
-    freq.put("oc", 9998);
-    freq.put("ob", 3593);
-    freq.put("oa", 17234);
-    freq.put("ô", 98885);
-    freq.put("oy", 925);
-    freq.put("ox", 666);
-    freq.put("ow", 4522);
-    freq.put("ov", 4515);
-    freq.put("ou", 16281);
-    freq.put("ot", 8950);
-    freq.put("os", 13276);
-    freq.put("or", 34485);
-    freq.put("oq", 166);
-    freq.put("op", 11878);
-    freq.put("Hok", 148);
-    freq.put("uê ", 487);
-    freq.put("Nhể", 3766);
-    freq.put("Tểt", 172);
-    freq.put("丁", 2034);
-    freq.put("rva", 295);
-    freq.put("rve", 224);
-    freq.put("rvi", 473);
-    freq.put("igu", 318);
-    freq.put("igs", 187);
-    freq.put("igr", 220);
-    freq.put("ées", 2904);
-    freq.put("ر", 178);
-    freq.put("ige", 770);
-    freq.put("iga", 742);
-    freq.put("igo", 300);
-    freq.put("ign", 1169);
-    freq.put("igm", 416);
-    freq.put("igi", 710);
-    freq.put("igh", 923);
-    freq.put("hwe", 313);
-    freq.put("hwa", 665);
-    freq.put("ig ", 1226);
-    freq.put("ée ", 472);
-    freq.put("pto", 542);
-    freq.put("alo", 1138);
-    freq.put("all", 4541);
-    freq.put("alm", 374);
-    freq.put("alk", 430);
-    freq.put("pti", 1324);
-    freq.put("ali", 4610);
-    freq.put("alf", 143);
-    freq.put("alg", 162);
-    freq.put("pte", 1527);
-    freq.put("ale", 3407);
-    freq.put("alb", 1038);
-    freq.put("alc", 275);
-    freq.put("pta", 227);
-    freq.put("ala", 5532);
-    freq.put("alz", 1868);
-    freq.put("aly", 679);
-    freq.put("alv", 524);
-    freq.put("ptu", 208);
-    freq.put("alu", 519);
-    freq.put("als", 583);
-    freq.put("alp", 280);
-    freq.put(" N ", 147);
-    freq.put("Như", 191);
-    freq.put("lý ", 2650);
-    freq.put("fas", 191);
-    freq.put("oể", 14719);
-    freq.put("al ", 6772);
-    freq.put("pt ", 251);
-    freq.put("llu", 1871);
-    freq.put("fal", 2041);
-    freq.put("fam", 2105);
-    freq.put(" Ni", 3593);
-    freq.put(" Nh", 15231);
-    freq.put(" No", 7248);
-    freq.put(" Na", 14703);
-    freq.put(" Ne", 5220);
-    freq.put(" Ng", 8844);
-    freq.put(" Ny", 327);
-    freq.put("tểp", 1747);
-    freq.put(" Nu", 290);
-    freq.put("iôn", 176);
-    freq.put("tei", 2098);
-    freq.put("Îl", 330);
-    freq.put("tem", 2257);
-    freq.put("ten", 2299);
-    freq.put("tea", 605);
-    freq.put("tec", 172);
-    freq.put("ted", 1492);
-    freq.put(" au", 545);
-    freq.put("nbu", 1513);
-    freq.put("teg", 403);
-    freq.put("nbo", 145);
-    freq.put("tep", 155);
-    freq.put("nba", 380);
-    freq.put("tes", 3544);
-    freq.put("tet", 184);
-    freq.put("lla", 8252);
-    freq.put("nbe", 462);
-    freq.put("sub", 863);
-    freq.put("sun", 266);
-    freq.put("sum", 304);
-    freq.put("sul", 490);
-    freq.put("Nhĩ", 654);
-    freq.put("sus", 998);
-    freq.put("sur", 1961);
-    freq.put("sup", 191);
-    freq.put("suy", 191);
-    freq.put("te ", 8300);
-    freq.put("ō", 772);
-    freq.put("丁 ", 542);
-    freq.put("su ", 286);
-    freq.put("mmo", 992);
-    freq.put("ya ", 1624);
-    freq.put(" Nó", 11014);
-    freq.put(" Nô", 330);
-    freq.put("Tor", 743);
-    freq.put(" Nă", 720);
-    freq.put("Tou", 295);
-    freq.put("rke", 393);
-    freq.put("đã ", 4325);
-    freq.put("rka", 202);
-    freq.put("Tol", 222);
-    freq.put("Tom", 166);
-    freq.put("rki", 204);
-    freq.put("òm ", 317);
-    freq.put("rk ", 1670);
-    freq.put("ìn ", 392);
-    freq.put("á", 116051);
-    freq.put("Nhà", 676);
-    freq.put("Nhâ", 3285);
-    freq.put("Int", 561);
-    freq.put("Ins", 197);
-    freq.put("Inn", 161);
-    freq.put("Nhó", 149);
-    freq.put("v", 178461);
-    freq.put("Ind", 2106);
-    freq.put("Toà", 178);
-    freq.put("hù ", 377);
-    freq.put("òn ", 4112);
-    freq.put("ôt", 1632);
-    freq.put("ôn", 48478);
-    freq.put("ôm", 11781);
-    freq.put("ôi", 2574);
-    freq.put("й", 211);
-    freq.put(" Nư", 140);
-    freq.put("oya", 255);
-    freq.put("Glo", 169);
-    freq.put("Gla", 140);
-    freq.put("hùa", 429);
-    freq.put("lhe", 150);
-    freq.put("Nha", 5926);
-    freq.put("lha", 193);
-    freq.put("Nhi", 250);
-    freq.put("hùn", 400);
-    freq.put("Âu ", 2118);
-    freq.put("ô ", 34032);
-    freq.put("oy ", 273);
-    freq.put(" só", 461);
-    freq.put("Occ", 238);
-    freq.put(" sô", 2005);
-    freq.put(" sê", 264);
-    freq.put(" sâ", 1031);
-    freq.put(" sá", 4080);
-    freq.put("ов", 213);
-    freq.put("L", 45665);
-    freq.put("Eri", 170);
-    freq.put("yno", 257);
-    freq.put("Ran", 617);
-    freq.put("yne", 184);
-    freq.put("Ram", 194);
-    freq.put("yna", 220);
-    freq.put(" sy", 262);
-    freq.put("Mus", 259);
-    freq.put("Mur", 1848);
-    freq.put(" sp", 4116);
-    freq.put(" st", 916);
-    freq.put(" su", 3809);
-    freq.put(" sh", 865);
-    freq.put(" si", 4586);
-    freq.put(" sn", 2777);
-    freq.put(" so", 2264);
-    freq.put(" sl", 244);
-    freq.put(" sm", 592);
-    freq.put(" sc", 583);
-    freq.put("Mun", 171);
-    freq.put(" se", 1352);
-    freq.put("iza", 272);
-    freq.put("ize", 388);
-    freq.put("gur", 185);
-    freq.put("izo", 396);
-    freq.put("kok", 195);
-    freq.put("Xô ", 542);
-    freq.put("kom", 159);
-    freq.put(" s ", 1052);
-    freq.put("guy", 4577);
-    freq.put("iz ", 244);
-    freq.put("Túc", 179);
-    freq.put(" sư", 822);
-    freq.put(" Ý ", 1274);
-    freq.put("hưể", 6739);
-    freq.put(" sơ", 282);
-    freq.put("có ", 47334);
-    freq.put("i", 759263);
-    freq.put("êu ", 3625);
-    freq.put("Bá ", 150);
-    freq.put("efo", 223);
-    freq.put("efe", 249);
-    freq.put(" sĩ", 1785);
-    freq.put("Bác", 305);
-    freq.put("Zea", 402);
-    freq.put("Zel", 153);
-    freq.put("hè ", 211);
-    freq.put(" să", 488);
-    freq.put("rte", 1749);
-    freq.put("rta", 737);
-    freq.put("rtb", 145);
-    freq.put("rto", 415);
-    freq.put("rti", 1215);
-    freq.put("rth", 2805);
-    freq.put("rtu", 180);
-    freq.put("rtt", 513);
-    freq.put("rts", 371);
-    freq.put("rtr", 430);
-    freq.put("bfa", 299);
-    freq.put("săn", 488);
-    freq.put("Ju", 1037);
-    freq.put("ies", 4767);
-    freq.put("ier", 2747);
-    freq.put("ieu", 473);
-    freq.put("iet", 540);
-    freq.put("Jo", 1104);
-    freq.put("iel", 1226);
-    freq.put("ien", 2075);
-    freq.put("Que", 829);
-    freq.put("Ja", 1797);
-    freq.put("ieg", 187);
-    freq.put("hip", 346);
-    freq.put("hir", 444);
-    freq.put("his", 1013);
-    freq.put("hit", 572);
-    freq.put("hiu", 173);
-    freq.put("hia", 1555);
-    freq.put("hic", 705);
-    freq.put("hid", 1412);
-    freq.put("hie", 278);
-    freq.put("hig", 332);
-    freq.put("hii", 300);
-    freq.put("hik", 232);
-    freq.put("hil", 2244);
-    freq.put("him", 2986);
-    freq.put("hin", 3454);
-    freq.put("hio", 999);
-    freq.put(" 가", 331);
-    freq.put("丘 ", 240);
-    freq.put("ghĩ", 2919);
-    freq.put("kê", 1778);
-    freq.put("ie ", 3741);
-    freq.put("三专 ", 318);
-    freq.put("J ", 219);
-    freq.put("arp", 777);
-    freq.put("arr", 2293);
-    freq.put("ars", 863);
-    freq.put("art", 4067);
-    freq.put("aru", 469);
-    freq.put("arv", 290);
-    freq.put("ary", 947);
-    freq.put("arz", 380);
-    freq.put("ara", 4118);
-    freq.put("arb", 768);
-    freq.put("arc", 1390);
-    freq.put("ard", 3817);
-    freq.put("are", 4513);
-    freq.put("arg", 1494);
-    freq.put("arh", 179);
-    freq.put("ari", 8943);
-    freq.put("kì", 215);
-    freq.put("arl", 768);
-    freq.put("arm", 452);
-    freq.put("arn", 2152);
-    freq.put("aro", 1967);
-    freq.put(" P ", 285);
-    freq.put("ar ", 3587);
-    freq.put("fgh", 188);
-    freq.put("hiê", 5040);
-    freq.put(" Ps", 554);
-    freq.put(" Pr", 3910);
-    freq.put("c", 671453);
-    freq.put("át ", 6081);
-    freq.put(" Pu", 1471);
-    freq.put(" Pt", 637);
-    freq.put("Cúp", 236);
-    freq.put(" Pa", 7774);
-    freq.put(" Pf", 1720);
-    freq.put(" Pe", 2592);
-    freq.put("並三", 153);
-    freq.put(" Pi", 2271);
-    freq.put(" Ph", 31029);
-    freq.put(" Po", 3911);
-    freq.put(" Pl", 1371);
-    freq.put("iêu", 3120);
-    freq.put("riê", 408);
-    freq.put("riè", 172);
-    freq.put("iêm", 793);
-    freq.put("iên", 15316);
-    freq.put("pr", 2803);
-    freq.put("ps", 2406);
-    freq.put("pp", 2831);
-    freq.put("dul", 398);
-    freq.put("dun", 458);
-    freq.put("pu", 3257);
-    freq.put("swa", 243);
-    freq.put("px", 1137);
-    freq.put("py", 386);
-    freq.put("Rểp", 306);
-    freq.put("duy", 1143);
-    freq.put("pa", 8707);
-    freq.put("pf", 220);
-    freq.put("pe", 13642);
-    freq.put("dur", 468);
-    freq.put("pi", 7555);
-    freq.put("po", 6064);
-    freq.put("pl", 2303);
-    freq.put(" Lể", 3615);
-    freq.put("й ", 151);
-    freq.put("du ", 1084);
-    freq.put("p ", 57766);
-    freq.put("ói ", 993);
-    freq.put("riz", 418);
-    freq.put("rix", 394);
-    freq.put("riv", 318);
-    freq.put("rit", 3591);
-    freq.put("riu", 456);
-    freq.put("ris", 2983);
-    freq.put("rip", 365);
-    freq.put("rin", 4090);
-    freq.put("Tim", 168);
-    freq.put("ril", 1020);
-    freq.put("rim", 450);
-    freq.put("đá ", 2316);
-    freq.put("rii", 3008);
-    freq.put("rif", 320);
-    freq.put("rig", 1218);
-    freq.put("rid", 4461);
-    freq.put("rie", 2155);
-    freq.put("rib", 1175);
-    freq.put("ric", 5324);
-    freq.put("ria", 5391);
-    freq.put("Cop", 262);
-    freq.put("Cos", 1089);
-    freq.put("Cor", 1423);
-    freq.put("Cou", 867);
-    freq.put("Ill", 204);
-    freq.put("Î", 330);
-    freq.put("Coc", 220);
-    freq.put("Coe", 184);
-    freq.put("đán", 1131);
-    freq.put("Com", 752);
-    freq.put("Col", 1893);
-    freq.put("ri ", 2301);
-    freq.put("Con", 3653);
-    freq.put("huể", 53256);
-    freq.put(" Âm", 150);
-    freq.put(" Âu", 2129);
-    freq.put("Quể", 10633);
-    freq.put("Ai ", 341);
-    freq.put("ь", 159);
-    freq.put("Air", 488);
-    freq.put("ĩnh", 1417);
-    freq.put("Áo ", 1417);
-    freq.put("lũn", 205);
-    freq.put("vển", 2537);
-    freq.put("gái", 216);
-    freq.put("Epi", 248);
-    freq.put("ylv", 243);
-    freq.put("ylu", 187);
-    freq.put("Rom", 626);
-    freq.put("Rob", 306);
-    freq.put("Roc", 356);
-    freq.put("yle", 207);
-    freq.put("yla", 353);
-    freq.put("ylo", 482);
-    freq.put("yll", 1078);
-    freq.put("Ros", 295);
-    freq.put("Rot", 151);
-    freq.put("Rou", 1296);
-    freq.put("yli", 383);
-    freq.put("wn ", 1674);
-    freq.put(" uy", 141);
-    freq.put(" up", 179);
-    freq.put(" us", 140);
-    freq.put(" un", 373);
-    freq.put("Hãn", 333);
-    freq.put("Miể", 206);
-    freq.put("Tô ", 277);
-    freq.put("hư", 18279);
-    freq.put("ca ", 5266);
-    freq.put("ix ", 837);
-    freq.put("đĩa", 596);
-    freq.put("Tôn", 652);
-    freq.put("z", 16996);
-    freq.put("hơ", 3447);
-    freq.put("gre", 280);
-    freq.put("gra", 1031);
-    freq.put("gro", 663);
-    freq.put("gri", 527);
-    freq.put("ưể", 121112);
-    freq.put("Dươ", 1846);
-    freq.put("且", 143);
-    freq.put("Bì", 1773);
-    freq.put("Bí", 387);
-    freq.put("eda", 404);
-    freq.put("ede", 1955);
-    freq.put("edi", 1118);
-    freq.put("edo", 1988);
-    freq.put("edr", 212);
-    freq.put("edt", 284);
-    freq.put("Hể", 9168);
-    freq.put("ка", 178);
-    freq.put("mển", 1814);
-    freq.put("mểm", 11638);
-    freq.put("가가 ", 224);
-    freq.put("mểi", 2779);
-    freq.put("mểc", 13680);
-    freq.put("sas", 328);
-    freq.put("mểu", 420);
-    freq.put("mểt", 99606);
-    freq.put("ed ", 4935);
-    freq.put("âm", 6839);
-    freq.put("ân", 71359);
-    freq.put("ât", 496);
-    freq.put("âu", 6947);
-    freq.put("ây", 27219);
-    freq.put("mể ", 1110);
-    freq.put("iba", 306);
-    freq.put("rro", 1564);
-    freq.put("rri", 1788);
-    freq.put("rrh", 197);
-    freq.put("rre", 2216);
-    freq.put("rra", 3074);
-    freq.put("ibe", 1206);
-    freq.put("rry", 300);
-    freq.put("rru", 147);
-    freq.put("lưu", 884);
-    freq.put("rac", 3183);
-    freq.put("Haw", 533);
-    freq.put("ví ", 164);
-    freq.put("Un", 919);
-    freq.put("app", 349);
-    freq.put("nể", 21381);
-    freq.put("apt", 205);
-    freq.put("apu", 632);
-    freq.put("ểng", 124564);
-    freq.put("aph", 710);
-    freq.put("api", 791);
-    freq.put("apo", 627);
-    freq.put("apl", 205);
-    freq.put("apa", 481);
-    freq.put("ểnh", 41635);
-    freq.put("ape", 779);
-    freq.put("Hue", 217);
-    freq.put("use", 2256);
-    freq.put("usc", 486);
-    freq.put("usa", 422);
-    freq.put("fen", 465);
-    freq.put("fel", 1035);
-    freq.put("khá", 4090);
-    freq.put("usi", 1086);
-    freq.put("ush", 495);
-    freq.put("usu", 188);
-    freq.put("ust", 2067);
-    freq.put("fer", 812);
-    freq.put(" R ", 199);
-    freq.put("siê", 264);
-    freq.put("Huy", 2731);
-    freq.put("Gua", 732);
-    freq.put("Gui", 1036);
-    freq.put("Mid", 2002);
-    freq.put("ển ", 203101);
-    freq.put("ap ", 200);
-    freq.put("px ", 1130);
-    freq.put(" Ru", 1162);
-    freq.put("xây", 774);
-    freq.put("us ", 12540);
-    freq.put(" Ry", 154);
-    freq.put(" Re", 2068);
-    freq.put("nda", 1999);
-    freq.put(" Ra", 1894);
-    freq.put(" Ro", 3827);
-    freq.put(" Ri", 2185);
-    freq.put(" Rh", 4439);
-    freq.put("tat", 1298);
-    freq.put("tau", 185);
-    freq.put("tap", 149);
-    freq.put("tar", 1441);
-    freq.put("tas", 231);
-    freq.put("ièr", 623);
-    freq.put("tax", 151);
-    freq.put("tay", 436);
-    freq.put("tad", 502);
-    freq.put("tae", 263);
-    freq.put("tag", 338);
-    freq.put("giể", 12764);
-    freq.put("tab", 252);
-    freq.put("tac", 777);
-    freq.put("tal", 2442);
-    freq.put("tam", 442);
-    freq.put("tan", 2995);
-    freq.put("tah", 173);
-    freq.put("Mis", 522);
-    freq.put("tak", 236);
-    freq.put("sis", 3021);
-    freq.put("sip", 265);
-    freq.put("sit", 709);
-    freq.put("sic", 687);
-    freq.put("sia", 3700);
-    freq.put("dwa", 258);
-    freq.put("sig", 220);
-    freq.put("sif", 151);
-    freq.put("sie", 368);
-    freq.put("dwe", 183);
-    freq.put("sii", 258);
-    freq.put("dwi", 249);
-    freq.put("sio", 465);
-    freq.put("sin", 5091);
-    freq.put("sim", 553);
-    freq.put("sil", 1895);
-    freq.put("ta ", 6742);
-    freq.put("Uy ", 300);
-    freq.put("si ", 634);
-    freq.put(" Ré", 207);
-    freq.put("muể", 253);
-    freq.put("Cas", 3059);
-    freq.put("Car", 1359);
-    freq.put("Cap", 594);
-    freq.put("Ibe", 205);
-    freq.put("Cau", 236);
-    freq.put("Cat", 533);
-    freq.put("Cai", 141);
-    freq.put("Cao", 644);
-    freq.put("Can", 1671);
-    freq.put("Cam", 1757);
-    freq.put("Cal", 3283);
-    freq.put("Cab", 144);
-    freq.put("Cae", 179);
-    freq.put("Pre", 247);
-    freq.put("nfe", 333);
-    freq.put("Pra", 808);
-    freq.put("nfo", 163);
-    freq.put("Pro", 2087);
-    freq.put("Pri", 425);
-    freq.put("soc", 217);
-    freq.put("by ", 708);
-    freq.put("oui", 391);
-    freq.put("oun", 2537);
-    freq.put("oul", 679);
-    freq.put("ouc", 419);
-    freq.put("oub", 187);
-    freq.put("oua", 154);
-    freq.put("oug", 763);
-    freq.put("Biể", 504);
-    freq.put("oud", 174);
-    freq.put("oux", 242);
-    freq.put("ous", 2368);
-    freq.put("our", 3149);
-    freq.put("oup", 387);
-    freq.put("ouv", 263);
-    freq.put("out", 2276);
-    freq.put("lt ", 1144);
-    freq.put("ou ", 1707);
-    freq.put("Gha", 245);
-    freq.put("g", 525146);
-    freq.put("lta", 363);
-    freq.put("lte", 462);
-    freq.put("lti", 486);
-    freq.put("lto", 187);
-    freq.put("ü", 3187);
-    freq.put("Xià", 174);
-    freq.put("K ", 324);
-    freq.put("λ", 139);
-    freq.put("Ka", 2594);
-    freq.put("Ke", 1180);
-    freq.put("Ki", 2990);
-    freq.put("Kh", 4970);
-    freq.put("Ko", 952);
-    freq.put("Kn", 144);
-    freq.put("Kl", 231);
-    freq.put("Kr", 781);
-    freq.put("Ku", 658);
-    freq.put("nểa", 304);
-    freq.put("Ky", 391);
-    freq.put("sem", 1371);
-    freq.put(" mể", 131122);
-    freq.put("whe", 719);
-    freq.put("whi", 453);
-    freq.put("hw", 1075);
-    freq.put("ht", 2057);
-    freq.put("Kô", 237);
-    freq.put("hu", 96505);
-    freq.put("Pot", 227);
-    freq.put("Por", 309);
-    freq.put("Pon", 298);
-    freq.put("Pol", 756);
-    freq.put("Pom", 148);
-    freq.put("Poi", 1472);
-    freq.put("Cha", 5749);
-    freq.put("goể", 939);
-    freq.put("ha", 43156);
-    freq.put(" Tư", 1025);
-    freq.put("q ", 277);
-    freq.put("Viể", 12501);
-    freq.put("Kan", 358);
-    freq.put(" we", 797);
-    freq.put("qu", 33189);
-    freq.put(" wa", 721);
-    freq.put(" wo", 408);
-    freq.put(" wh", 1197);
-    freq.put(" wi", 1339);
-    freq.put("đua", 287);
-    freq.put(" ww", 167);
-    freq.put("Chu", 975);
-    freq.put("ebe", 884);
-    freq.put("eba", 285);
-    freq.put("ebo", 301);
-    freq.put("ebi", 183);
-    freq.put("jo ", 152);
-    freq.put("ebu", 294);
-    freq.put("ebr", 934);
-    freq.put("ebs", 216);
-    freq.put("lve", 227);
-    freq.put("dla", 192);
-    freq.put("Úc ", 1233);
-    freq.put("dle", 656);
-    freq.put("Bín", 197);
-    freq.put("Jac", 218);
-    freq.put(" Tĩ", 188);
-    freq.put(" Hể", 9143);
-    freq.put("lva", 958);
-    freq.put("eb ", 303);
-    freq.put("Zam", 723);
-    freq.put("Zar", 282);
-    freq.put("rpu", 270);
-    freq.put("rpa", 404);
-    freq.put("rpe", 165);
-    freq.put("rpi", 173);
-    freq.put("rph", 340);
-    freq.put("rpo", 754);
-    freq.put("méo", 221);
-    freq.put("bbe", 548);
-    freq.put("Jul", 480);
-    freq.put("mét", 23053);
-    freq.put("ο", 236);
-    freq.put("hmi", 203);
-    freq.put("hme", 233);
-    freq.put("hma", 350);
-    freq.put(" Tú", 282);
-    freq.put(" Tù", 160);
-    freq.put("é", 38397);
-    freq.put(" Tô", 962);
-    freq.put(" Tò", 163);
-    freq.put(" Tí", 259);
-    freq.put(" Tê", 651);
-    freq.put(" Tâ", 9623);
-    freq.put(" Tá", 302);
-    freq.put(" Tà", 542);
-    freq.put("倉", 569);
-    freq.put("avo", 316);
-    freq.put("avi", 854);
-    freq.put("ave", 987);
-    freq.put("ava", 1308);
-    freq.put("Sài", 216);
-    freq.put("nhể", 20937);
-    freq.put(" T ", 156);
-    freq.put("Dis", 351);
-    freq.put(" Uy", 393);
-    freq.put(" Ty", 200);
-    freq.put(" Tw", 154);
-    freq.put(" Tu", 2947);
-    freq.put(" Tr", 21258);
-    freq.put(" To", 2625);
-    freq.put(" Ti", 3850);
-    freq.put(" Th", 42680);
-    freq.put(" Te", 2931);
-    freq.put(" Ta", 3810);
-    freq.put("tch", 446);
-    freq.put(" kể", 7585);
-    freq.put("sks", 212);
-    freq.put("Far", 151);
-    freq.put("Fas", 526);
-    freq.put("sky", 167);
-    freq.put("ska", 369);
-    freq.put("Fal", 176);
-    freq.put("Fab", 275);
-    freq.put("ski", 288);
-    freq.put("T", 104616);
-    freq.put("ndé", 306);
-    freq.put("sk ", 591);
-    freq.put("óm ", 1521);
-    freq.put("Sud", 207);
-    freq.put("Sun", 218);
-    freq.put("Sum", 294);
-    freq.put("Sul", 327);
-    freq.put("Xíc", 159);
-    freq.put("hù", 1344);
-    freq.put("Sur", 243);
-    freq.put("nd ", 12230);
-    freq.put("Gể", 170);
-    freq.put("ndi", 4609);
-    freq.put("ndh", 176);
-    freq.put("ndl", 619);
-    freq.put("ndo", 2398);
-    freq.put("cư ", 415);
-    freq.put("Pte", 513);
-    freq.put("nde", 3318);
-    freq.put("hè", 446);
-    freq.put("Hưể", 237);
-    freq.put("nds", 990);
-    freq.put("ndr", 1581);
-    freq.put("ndu", 416);
-    freq.put("ây ", 27201);
-    freq.put("owl", 142);
-    freq.put("own", 1769);
-    freq.put("owi", 183);
-    freq.put("owe", 547);
-    freq.put("öl", 155);
-    freq.put("Châ", 2351);
-    freq.put("ön", 312);
-    freq.put("ör", 366);
-    freq.put("ös", 634);
-    freq.put("öt", 180);
-    freq.put(" Lă", 214);
-    freq.put("hăn", 308);
-    freq.put("ows", 383);
-    freq.put("hăm", 190);
-    freq.put("vak", 211);
-    freq.put("vai", 638);
-    freq.put("van", 1011);
-    freq.put("val", 496);
-    freq.put("Ama", 449);
-    freq.put("ucu", 155);
-    freq.put("Amb", 210);
-    freq.put("Ame", 689);
-    freq.put("nểu", 216);
-    freq.put("vad", 360);
-    freq.put("nểi", 2679);
-    freq.put("nểm", 15373);
-    freq.put("nển", 1144);
-    freq.put("var", 683);
-    freq.put("Amp", 158);
-    freq.put("vat", 444);
-    freq.put("ef", 1217);
-    freq.put("đưể", 28774);
-    freq.put("ow ", 1038);
-    freq.put("rl ", 161);
-    freq.put("Tel", 150);
-    freq.put("Ten", 237);
-    freq.put("va ", 1421);
-    freq.put("Tex", 717);
-    freq.put("Île", 330);
-    freq.put("nể ", 1462);
-    freq.put("Ter", 1194);
-    freq.put("lvi", 160);
-    freq.put("lm ", 305);
-    freq.put("Chù", 202);
-    freq.put("myc", 163);
-    freq.put("Chú", 672);
-    freq.put("í ", 5056);
-    freq.put("ep", 4148);
-    freq.put("Afr", 687);
-    freq.put("н", 659);
-    freq.put("mể", 131131);
-    freq.put("ơm ", 179);
-    freq.put("my ", 346);
-    freq.put("ía", 12239);
-    freq.put("íc", 17864);
-    freq.put("đểo", 4093);
-    freq.put("ín", 13049);
-    freq.put("ít", 636);
-  }
-  
 }
-
@@ -1,5053 +1,15 @@
 package com.rmtheis.langdetect.profile;
 
-import java.util.HashMap;
-
 import com.cybozu.labs.langdetect.util.LangProfile;
-import com.cybozu.labs.langdetect.util.NGram;
 
 public class YI {
   private static final String name = "yi";
-  private static final HashMap<String, Integer> freq = new HashMap<String, Integer>();
-  private static final int[] n_words = new int[NGram.N_GRAM];
 
   public YI() {
-    init();  
   }
 
   public final LangProfile getLangProfile() {
-    return new LangProfile(name, freq, n_words);
+    return Profiles.load(name);
   }
-  
-  private void init() {
-    n_words[0] = 816181;
-    n_words[1] = 991203;
-    n_words[2] = 801051;
-
-    freq.put("ית ", 325);
-    freq.put("װא", 263);
-    freq.put("יש", 6028);
-    freq.put("עקז", 29);
-    freq.put("קװ", 13);
-    freq.put("לת ", 51);
-    freq.put("שײד", 11);
-    freq.put("עש ", 30);
-    freq.put("ֿג", 12);
-    freq.put("דר ", 206);
-    freq.put("קטו", 72);
-    freq.put("קפ", 41);
-    freq.put("קטא", 206);
-    freq.put("קע", 2515);
-    freq.put("קס", 632);
-    freq.put("קנ", 121);
-    freq.put("קטל", 16);
-    freq.put("קטן", 69);
-    freq.put("סלע", 52);
-    freq.put("קטי", 152);
-    freq.put("קש", 64);
-    freq.put("קײ", 25);
-    freq.put("סלמ", 9);
-    freq.put("קז", 32);
-    freq.put("קו", 1343);
-    freq.put("װױ", 9);
-    freq.put("קטנ", 9);
-    freq.put("קג", 20);
-    freq.put("קטע", 143);
-    freq.put("סלי", 42);
-    freq.put("קן", 234);
-    freq.put("קמ", 40);
-    freq.put("סלו", 52);
-    freq.put("έ", 9);
-    freq.put("צנט", 10);
-    freq.put("סלא", 217);
-    freq.put("סלב", 31);
-    freq.put("װע", 238);
-    freq.put("ַרע", 11);
-    freq.put("לגע", 83);
-    freq.put("עקן", 42);
-    freq.put("ּול", 27);
-    freq.put("זיי", 1574);
-    freq.put("ניר", 121);
-    freq.put("ניש", 1299);
-    freq.put("נית", 14);
-    freq.put("װי", 210);
-    freq.put("ل", 26);
-    freq.put("נינ", 39);
-    freq.put("ניס", 284);
-    freq.put("ניע", 336);
-    freq.put("ניץ", 64);
-    freq.put("ניצ", 233);
-    freq.put("ניק", 235);
-    freq.put("ַר ", 110);
-    freq.put("רגר", 56);
-    freq.put("י", 102918);
-    freq.put("רגנ", 9);
-    freq.put("רגע", 276);
-    freq.put("פבו", 10);
-    freq.put("רגן", 28);
-    freq.put("רגי", 93);
-    freq.put("קצ", 154);
-    freq.put("רגו", 19);
-    freq.put("ײרא", 24);
-    freq.put("ë", 9);
-    freq.put("יתו", 9);
-    freq.put("קת", 27);
-    freq.put("רגא", 227);
-    freq.put("ניט", 71);
-    freq.put("ניי", 227);
-    freq.put("ניכ", 13);
-    freq.put("ניל", 13);
-    freq.put("נים", 273);
-    freq.put("נימ", 50);
-    freq.put("נין", 40);
-    freq.put("ניא", 70);
-    freq.put("ניב", 9);
-    freq.put("ניג", 397);
-    freq.put("ניד", 40);
-    freq.put("ניה", 18);
-    freq.put("ניו", 365);
-    freq.put("ניז", 186);
-    freq.put("ַב", 106);
-    freq.put("טשנ", 18);
-    freq.put("תן ", 52);
-    freq.put("מגי", 59);
-    freq.put("טײל", 19);
-    freq.put(" תל", 145);
-    freq.put("שט ", 692);
-    freq.put(" ל ", 256);
-    freq.put("רטס", 16);
-    freq.put("יקר", 121);
-    freq.put("צלי", 13);
-    freq.put("קדש", 59);
-    freq.put("זוה", 21);
-    freq.put("זומ", 30);
-    freq.put("יר", 3678);
-    freq.put("דרי", 288);
-    freq.put("זוכ", 42);
-    freq.put("זוי", 258);
-    freq.put("עק ", 126);
-    freq.put("זוק", 9);
-    freq.put(" אַ", 1259);
-    freq.put("זונ", 90);
-    freq.put("זוס", 13);
-    freq.put("צלע", 20);
-    freq.put("د", 30);
-    freq.put("סק ", 73);
-    freq.put("טשא", 95);
-    freq.put("כינ", 70);
-    freq.put("ָגי", 25);
-    freq.put("טשה", 11);
-    freq.put("טשו", 24);
-    freq.put("חסי", 285);
-    freq.put("טשט", 185);
-    freq.put("מגע", 115);
-    freq.put("קר", 1085);
-    freq.put("וני", 442);
-    freq.put(" תח", 10);
-    freq.put("זמע", 26);
-    freq.put(" אד", 1232);
-    freq.put(" אג", 80);
-    freq.put("у", 16);
-    freq.put("ς", 33);
-    freq.put(" אח", 47);
-    freq.put(" אז", 599);
-    freq.put(" או", 8437);
-    freq.put(" אה", 101);
-    freq.put(" אכ", 52);
-    freq.put("כיג", 20);
-    freq.put(" אי", 18046);
-    freq.put(" אט", 184);
-    freq.put(" אן", 1237);
-    freq.put(" אמ", 508);
-    freq.put("שמע", 72);
-    freq.put(" אל", 1321);
-    freq.put("קה", 123);
-    freq.put("ושה", 15);
-    freq.put("טקי", 18);
-    freq.put("ושי", 40);
-    freq.put("קד", 117);
-    freq.put("טקו", 21);
-    freq.put("ושל", 204);
-    freq.put("ילס", 22);
-    freq.put(" אײ", 71);
-    freq.put(" אױ", 115);
-    freq.put("ושע", 46);
-    freq.put("צנד", 9);
-    freq.put("קא", 3466);
-    freq.put("טקע", 18);
-    freq.put("בט ", 237);
-    freq.put("קדי", 15);
-    freq.put(" אס", 207);
-    freq.put(" אנ", 1055);
-    freq.put(" אק", 367);
-    freq.put("שמי", 36);
-    freq.put("טעג", 395);
-    freq.put(" אפ", 837);
-    freq.put("שמה", 10);
-    freq.put(" את", 11);
-    freq.put(" אש", 75);
-    freq.put(" אר", 1615);
-    freq.put("שמא", 36);
-    freq.put("זעצ", 98);
-    freq.put("תש", 405);
-    freq.put("יחז", 26);
-    freq.put("יחו", 19);
-    freq.put("קל", 844);
-    freq.put("ע ", 11135);
-    freq.put("נח ", 23);
-    freq.put("קטר", 98);
-    freq.put("לכה", 39);
-    freq.put("זײנ", 13);
-    freq.put("ופא", 12);
-    freq.put("יחי", 23);
-    freq.put("טי ", 125);
-    freq.put("גנא", 35);
-    freq.put("גנד", 9);
-    freq.put("כר ", 45);
-    freq.put("קי", 1382);
-    freq.put("פרי", 717);
-    freq.put("פרט", 22);
-    freq.put("גני", 19);
-    freq.put("גנט", 168);
-    freq.put("פרו", 200);
-    freq.put("רא ", 328);
-    freq.put("פרד", 19);
-    freq.put("קצ ", 26);
-    freq.put("פרא", 844);
-    freq.put("גנע", 28);
-    freq.put("־פּ", 14);
-    freq.put("־פֿ", 10);
-    freq.put("פרק", 18);
-    freq.put("ופו", 9);
-    freq.put("פרע", 329);
-    freq.put("פרס", 9);
-    freq.put("ַכ", 80);
-    freq.put("ונו", 58);
-    freq.put("נגס", 67);
-    freq.put("זקא", 25);
-    freq.put(" ס ", 336);
-    freq.put("בען", 29);
-    freq.put("ַ ", 852);
-    freq.put("הײ", 36);
-    freq.put(" מײ", 26);
-    freq.put("על ", 423);
-    freq.put(" מש", 374);
-    freq.put(" מר", 87);
-    freq.put("צע ", 129);
-    freq.put(" מס", 201);
-    freq.put(" מנ", 122);
-    freq.put(" מע", 2493);
-    freq.put("יִע", 20);
-    freq.put(" מפ", 23);
-    freq.put(" מק", 70);
-    freq.put(" מצ", 104);
-    freq.put(" מי", 2512);
-    freq.put(" מט", 16);
-    freq.put(" מכ", 34);
-    freq.put(" מל", 235);
-    freq.put(" מן", 9);
-    freq.put(" ממ", 33);
-    freq.put(" מב", 41);
-    freq.put(" מא", 1394);
-    freq.put(" מד", 176);
-    freq.put(" מג", 65);
-    freq.put(" מו", 471);
-    freq.put(" מה", 28);
-    freq.put(" מח", 129);
-    freq.put(" מז", 274);
-    freq.put("וכן", 16);
-    freq.put("ומא", 80);
-    freq.put("וכט", 58);
-    freq.put("יבי", 61);
-    freq.put("בדי", 29);
-    freq.put("קב", 145);
-    freq.put("וכא", 13);
-    freq.put("מרו", 11);
-    freq.put("העט", 22);
-    freq.put("מרח", 13);
-    freq.put("צפת", 12);
-    freq.put("מרא", 32);
-    freq.put("מרד", 41);
-    freq.put("העב", 90);
-    freq.put("העד", 15);
-    freq.put("הש", 100);
-    freq.put("מרי", 35);
-    freq.put("סר ", 29);
-    freq.put("ונא", 57);
-    freq.put("יטע", 839);
-    freq.put("יסש", 22);
-    freq.put("יסר", 14);
-    freq.put("יבה", 164);
-    freq.put("יספ", 49);
-    freq.put("יסק", 87);
-    freq.put("יסצ", 43);
-    freq.put("יטנ", 9);
-    freq.put("יסע", 431);
-    freq.put("יסל", 120);
-    freq.put("תו ", 13);
-    freq.put("יכא", 32);
-    freq.put("יסי", 82);
-    freq.put("יסט", 1196);
-    freq.put("יסו", 59);
-    freq.put("יסה", 21);
-    freq.put("יסז", 17);
-    freq.put("יסב", 48);
-    freq.put("רע ", 676);
-    freq.put("יסד", 39);
-    freq.put(" פ ", 21);
-    freq.put("האַ", 120);
-    freq.put("יפ", 1526);
-    freq.put("זער", 142);
-    freq.put("עז ", 39);
-    freq.put("קר ", 85);
-    freq.put("ָדע", 114);
-    freq.put("הענ", 68);
-    freq.put("שבע", 20);
-    freq.put("ווע", 4953);
-    freq.put("העפ", 12);
-    freq.put("האָ", 111);
-    freq.put("תני", 17);
-    freq.put("המ", 183);
-    freq.put("אבע", 401);
-    freq.put("אא ", 13);
-    freq.put("م", 27);
-    freq.put("סדו", 10);
-    freq.put(" אב", 550);
-    freq.put("תנא", 36);
-    freq.put("יִא", 10);
-    freq.put(" תת", 19);
-    freq.put("לוא", 14);
-    freq.put("האז", 9);
-    freq.put("דזל", 9);
-    freq.put("יטי", 377);
-    freq.put("האד", 19);
-    freq.put("רוד", 41);
-    freq.put("נאי", 62);
-    freq.put("דזי", 11);
-    freq.put("װו", 17);
-    freq.put("ט", 42786);
-    freq.put("האל", 408);
-    freq.put("צױז", 10);
-    freq.put("רטי", 272);
-    freq.put("ος ", 17);
-    freq.put("הכ", 48);
-    freq.put("האק", 14);
-    freq.put("לוס", 78);
-    freq.put("האפ", 29);
-    freq.put("לופ", 49);
-    freq.put("יטל", 244);
-    freq.put(" אא", 14);
-    freq.put("דזש", 272);
-    freq.put("לור", 10);
-    freq.put("ליט", 430);
-    freq.put("לות", 68);
-    freq.put(" תנ", 76);
-    freq.put("אבא", 82);
-    freq.put("הז", 15);
-    freq.put("אבד", 10);
-    freq.put("ַרױ", 16);
-    freq.put("אפה", 20);
-    freq.put("הח", 55);
-    freq.put("אָ", 2453);
-    freq.put("אבי", 289);
-    freq.put("סדר", 165);
-    freq.put("אבל", 73);
-    freq.put("יטא", 423);
-    freq.put("אבן", 399);
-    freq.put("די ", 5612);
-    freq.put("צדק", 15);
-    freq.put("יבס", 10);
-    freq.put("בשה", 16);
-    freq.put("זאו", 11);
-    freq.put("בפר", 14);
-    freq.put("־ס", 20);
-    freq.put("יע ", 2475);
-    freq.put("ַני", 87);
-    freq.put("פגע", 178);
-    freq.put("טלע", 281);
-    freq.put("ַרק", 41);
-    freq.put("טלי", 172);
-    freq.put("פגא", 30);
-    freq.put("טלו", 9);
-    freq.put("ייז", 252);
-    freq.put("קכ", 14);
-    freq.put("ַקט", 35);
-    freq.put("ה ", 3433);
-    freq.put("ײַכ", 10);
-    freq.put("צדי", 35);
-    freq.put("גיר", 142);
-    freq.put("ρ", 24);
-    freq.put("מדי", 95);
-    freq.put("ַדע", 21);
-    freq.put("חזק", 35);
-    freq.put("רגל", 29);
-    freq.put("מדב", 29);
-    freq.put("ול ", 237);
-    freq.put("רוך", 32);
-    freq.put("למע", 49);
-    freq.put("גיש", 76);
-    freq.put("וײ", 13);
-    freq.put("ײנ", 56);
-    freq.put("ייך", 320);
-    freq.put("נאל", 236);
-    freq.put("מדר", 69);
-    freq.put("ַדא", 28);
-    freq.put("רוכ", 43);
-    freq.put("חנן", 26);
-    freq.put("חני", 10);
-    freq.put("ַדז", 10);
-    freq.put("ַדי", 43);
-    freq.put("חנו", 19);
-    freq.put("מדע", 11);
-    freq.put("ي ", 11);
-    freq.put("ַבא", 11);
-    freq.put("́", 19);
-    freq.put(" בב", 35);
-    freq.put("ספו", 15);
-    freq.put(" בה", 31);
-    freq.put(" בו", 219);
-    freq.put("ספא", 119);
-    freq.put(" בח", 37);
-    freq.put(" בט", 9);
-    freq.put(" בי", 1773);
-    freq.put("ספל", 16);
-    freq.put(" בכ", 18);
-    freq.put(" בל", 611);
-    freq.put("כטו", 32);
-    freq.put(" במ", 31);
-    freq.put("ספי", 54);
-    freq.put("בע ", 122);
-    freq.put("ורה", 262);
-    freq.put("ורו", 71);
-    freq.put("ורג", 157);
-    freq.put("ורד", 39);
-    freq.put("ורא", 142);
-    freq.put("ורב", 47);
-    freq.put("ורמ", 19);
-    freq.put("ורן", 29);
-    freq.put("ורל", 32);
-    freq.put("ורם", 13);
-    freq.put("ות ", 1095);
-    freq.put("ורכ", 122);
-    freq.put("ורט", 39);
-    freq.put(" לײ", 10);
-    freq.put("ורצ", 43);
-    freq.put(" בױ", 10);
-    freq.put(" בײ", 40);
-    freq.put("ורץ", 14);
-    freq.put("ורע", 60);
-    freq.put("זגא", 39);
-    freq.put("ורנ", 48);
-    freq.put("ורס", 21);
-    freq.put("גע ", 336);
-    freq.put("װל", 10);
-    freq.put("עעפ", 12);
-    freq.put("ורת", 11);
-    freq.put("עענ", 31);
-    freq.put(" בנ", 127);
-    freq.put(" בע", 711);
-    freq.put("טאַ", 315);
-    freq.put("ספע", 101);
-    freq.put(" בק", 15);
-    freq.put(" בר", 691);
-    freq.put(" בש", 53);
-    freq.put(" בת", 38);
-    freq.put("ספר", 322);
-    freq.put("לס ", 448);
-    freq.put("דטי", 25);
-    freq.put("היו", 14);
-    freq.put("יזא", 177);
-    freq.put("יזם", 114);
-    freq.put("יזמ", 26);
-    freq.put("יזן", 171);
-    freq.put("יזט", 16);
-    freq.put("יזי", 282);
-    freq.put("שן ", 1347);
-    freq.put("נסא", 26);
-    freq.put("פשט", 72);
-    freq.put("נסו", 10);
-    freq.put("הנה", 10);
-    freq.put("נסט", 227);
-    freq.put("נסי", 75);
-    freq.put("ך", 4594);
-    freq.put("נסמ", 9);
-    freq.put("נסן", 11);
-    freq.put("נסע", 70);
-    freq.put("בני", 174);
-    freq.put("נספ", 43);
-    freq.put("נסק", 45);
-    freq.put("ספֿ", 18);
-    freq.put("ספּ", 34);
-    freq.put("בנב", 9);
-    freq.put("וול", 46);
-    freq.put("פשע", 13);
-    freq.put("בנו", 97);
-    freq.put(" קו", 658);
-    freq.put("יזנ", 102);
-    freq.put("יזע", 72);
-    freq.put("גט ", 417);
-    freq.put("ור־", 332);
-    freq.put("הגד", 12);
-    freq.put("יזש", 61);
-    freq.put("אפֿ", 38);
-    freq.put("אפּ", 9);
-    freq.put("ק ", 2188);
-    freq.put("ֿט ", 71);
-    freq.put("טשע", 255);
-    freq.put("ינג", 617);
-    freq.put("זט", 55);
-    freq.put("ינא", 332);
-    freq.put("ינב", 24);
-    freq.put("ינז", 157);
-    freq.put("צא", 229);
-    freq.put("ינה", 84);
-    freq.put("דרש", 82);
-    freq.put("מח ", 23);
-    freq.put("ינט", 1180);
-    freq.put("יני", 761);
-    freq.put("ינמ", 37);
-    freq.put("ינל", 58);
-    freq.put("גסט", 73);
-    freq.put("זה ", 10);
-    freq.put("ינס", 231);
-    freq.put("צן ", 302);
-    freq.put("ינק", 128);
-    freq.put("ינפ", 156);
-    freq.put("רוס", 251);
-    freq.put("ינת", 42);
-    freq.put("ינר", 18);
-    freq.put("ינש", 31);
-    freq.put("זעץ", 29);
-    freq.put("ויל", 460);
-    freq.put(" לש", 57);
-    freq.put("זרע", 19);
-    freq.put("משך", 23);
-    freq.put("משכ", 11);
-    freq.put("משט", 11);
-    freq.put("משי", 46);
-    freq.put("משמ", 10);
-    freq.put("משל", 100);
-    freq.put("דרב", 11);
-    freq.put("דײ", 41);
-    freq.put("נט ", 2173);
-    freq.put("משה", 141);
-    freq.put("משו", 10);
-    freq.put("ּױל", 10);
-    freq.put("דת", 44);
-    freq.put("דש", 237);
-    freq.put("דר", 1338);
-    freq.put("אפש", 65);
-    freq.put("פא ", 26);
-    freq.put("רב ", 739);
-    freq.put("דע", 11062);
-    freq.put("דס", 59);
-    freq.put("דנ", 79);
-    freq.put("דק", 49);
-    freq.put("אפע", 509);
-    freq.put("פטי", 130);
-    freq.put("דפ", 33);
-    freq.put("דכ", 40);
-    freq.put("שש", 25);
-    freq.put("די", 8842);
-    freq.put("דט", 147);
-    freq.put("דן", 579);
-    freq.put("דמ", 124);
-    freq.put("דם", 23);
-    freq.put("דל", 348);
-    freq.put("דג", 13);
-    freq.put("דב", 80);
-    freq.put("דא", 2659);
-    freq.put("בלע", 95);
-    freq.put("דז", 324);
-    freq.put("דו", 1500);
-    freq.put("דה", 192);
-    freq.put("געז", 241);
-    freq.put("פג", 219);
-    freq.put("גדו", 60);
-    freq.put("משנ", 96);
-    freq.put("דכי", 39);
-    freq.put("דרך", 31);
-    freq.put("משפ", 91);
-    freq.put("סגא", 19);
-    freq.put("ָני", 14);
-    freq.put("ָנט", 22);
-    freq.put("אגס", 31);
-    freq.put("אגנ", 37);
-    freq.put("אגע", 107);
-    freq.put("三", 13);
-    freq.put("סגי", 10);
-    freq.put("ָנא", 40);
-    freq.put("חיא", 15);
-    freq.put("אגר", 203);
-    freq.put("ַרט", 48);
-    freq.put("שס", 47);
-    freq.put("עם ", 3231);
-    freq.put("אזע", 128);
-    freq.put("געב", 777);
-    freq.put("רומ", 193);
-    freq.put("טמע", 29);
-    freq.put("הבי", 12);
-    freq.put("טעכ", 62);
-    freq.put("ア", 9);
-    freq.put("קפו", 10);
-    freq.put("קי ", 128);
-    freq.put("רפֿ", 30);
-    freq.put("כאל", 22);
-    freq.put("ַמט", 15);
-    freq.put("װ ", 20);
-    freq.put("כוו", 41);
-    freq.put("אגו", 34);
-    freq.put("סגע", 232);
-    freq.put("שק", 131);
-    freq.put("לן", 769);
-    freq.put("אגל", 15);
-    freq.put("אגן", 93);
-    freq.put("שצ", 10);
-    freq.put("אגי", 174);
-    freq.put("אגט", 104);
-    freq.put("דיא", 88);
-    freq.put(" צב", 62);
-    freq.put("π", 14);
-    freq.put(" צד", 53);
-    freq.put("х", 9);
-    freq.put(" צה", 27);
-    freq.put("רפא", 107);
-    freq.put(" צי", 647);
-    freq.put("רפל", 32);
-    freq.put("שכ", 144);
-    freq.put("קתא", 13);
-    freq.put("רפט", 9);
-    freq.put("לם ", 93);
-    freq.put("שך", 27);
-    freq.put("ּע", 133);
-    freq.put("ּנ", 30);
-    freq.put("ּס", 23);
-    freq.put("שם", 39);
-    freq.put("ואט", 61);
-    freq.put("תדי", 24);
-    freq.put("ּר", 169);
-    freq.put("ּש", 11);
-    freq.put(" צװ", 27);
-    freq.put("ּה", 13);
-    freq.put(" צײ", 24);
-    freq.put("ּד", 11);
-    freq.put("ּא", 212);
-    freq.put("ּמ", 15);
-    freq.put("ּן", 12);
-    freq.put("ּל", 57);
-    freq.put("שמ", 339);
-    freq.put(" ץ ", 25);
-    freq.put("ּט", 66);
-    freq.put("ּי", 93);
-    freq.put("שב", 242);
-    freq.put("רף ", 118);
-    freq.put(" צע", 388);
-    freq.put(" צפ", 404);
-    freq.put(" צר", 13);
-    freq.put("ואי", 45);
-    freq.put("דיז", 10);
-    freq.put("שד", 20);
-    freq.put("רפר", 11);
-    freq.put("אב ", 130);
-    freq.put("כות", 94);
-    freq.put(" אָ", 291);
-    freq.put("כנו", 10);
-    freq.put("כנז", 24);
-    freq.put("כנט", 110);
-    freq.put("שו", 1050);
-    freq.put("אאר", 15);
-    freq.put("כנל", 11);
-    freq.put("שח", 21);
-    freq.put("דיו", 31);
-    freq.put("החי", 11);
-    freq.put("לו ", 106);
-    freq.put("לץ ", 94);
-    freq.put("פש", 166);
-    freq.put("צי", 2734);
-    freq.put("שי", 1581);
-    freq.put("ַרי", 68);
-    freq.put("צװע", 14);
-    freq.put("החר", 12);
-    freq.put("ױסג", 10);
-    freq.put("דז ", 22);
-    freq.put(" פֿ", 925);
-    freq.put("כנס", 40);
-    freq.put("כנע", 15);
-    freq.put("סד ", 30);
-    freq.put("צװײ", 19);
-    freq.put("תנ ", 32);
-    freq.put("אאי", 14);
-    freq.put("שמו", 113);
-    freq.put("ׁ", 15);
-    freq.put("р", 50);
-    freq.put("קרא", 339);
-    freq.put("קרב", 27);
-    freq.put("געװ", 104);
-    freq.put("ם־מ", 65);
-    freq.put("קרי", 486);
-    freq.put("רעם", 82);
-    freq.put("רעל", 112);
-    freq.put("רען", 47);
-    freq.put(" פל", 515);
-    freq.put("רעי", 106);
-    freq.put("רעט", 70);
-    freq.put(" פי", 1029);
-    freq.put(" פט", 25);
-    freq.put("רעו", 52);
-    freq.put("רעה", 16);
-    freq.put(" פו", 7512);
-    freq.put("רעז", 201);
-    freq.put("רעב", 23);
-    freq.put("רעא", 64);
-    freq.put("רעד", 265);
-    freq.put(" פא", 3584);
-    freq.put("אמש", 23);
-    freq.put("אמר", 15);
-    freq.put("תונ", 36);
-    freq.put("תוס", 9);
-    freq.put("רעש", 22);
-    freq.put("רער", 476);
-    freq.put(" פש", 40);
-    freq.put(" פר", 1476);
-    freq.put("תות", 24);
-    freq.put("רעפ", 182);
-    freq.put("רעק", 65);
-    freq.put("אמע", 1018);
-    freq.put("רעס", 525);
-    freq.put(" פע", 562);
-    freq.put(" פס", 84);
-    freq.put(" פנ", 30);
-    freq.put("ואו", 557);
-    freq.put("מר ", 22);
-    freq.put("קרע", 78);
-    freq.put("שמח", 27);
-    freq.put("טשן", 250);
-    freq.put("�", 11);
-    freq.put("ַק", 189);
-    freq.put("ַצ", 88);
-    freq.put("ַץ", 10);
-    freq.put("ראָ", 212);
-    freq.put("עלש", 62);
-    freq.put("ַע", 25);
-    freq.put("ַס", 171);
-    freq.put("ַנ", 764);
-    freq.put("עלץ", 10);
-    freq.put("עלפ", 75);
-    freq.put("עלק", 211);
-    freq.put("עלצ", 22);
-    freq.put("עלס", 24);
-    freq.put("עלנ", 24);
-    freq.put("עלף", 10);
-    freq.put("עלע", 675);
-    freq.put("צעס", 58);
-    freq.put("צענ", 274);
-    freq.put("סמע", 11);
-    freq.put("ַװ", 42);
-    freq.put(" מ ", 369);
-    freq.put("צעש", 19);
-    freq.put("צער", 216);
-    freq.put("ילד", 84);
-    freq.put("שמש", 10);
-    freq.put("ن ", 10);
-    freq.put("אטנ", 20);
-    freq.put("סמא", 61);
-    freq.put("כים", 25);
-    freq.put("ינצ", 117);
-    freq.put("צעט", 53);
-    freq.put("צען", 40);
-    freq.put("צעמ", 122);
-    freq.put("לעו", 73);
-    freq.put("צעל", 59);
-    freq.put("ַז", 140);
-    freq.put("עלן", 149);
-    freq.put("ַה", 25);
-    freq.put("עלי", 281);
-    freq.put("עלט", 808);
-    freq.put("עלכ", 339);
-    freq.put("ַא", 18);
-    freq.put("עלו", 60);
-    freq.put("ַמ", 183);
-    freq.put("ַם", 57);
-    freq.put("עלז", 22);
-    freq.put("עלב", 73);
-    freq.put("עלא", 138);
-    freq.put("עלד", 115);
-    freq.put("עלג", 40);
-    freq.put("עפ", 1265);
-    freq.put("עץ", 117);
-    freq.put("עצ", 651);
-    freq.put("עק", 1392);
-    freq.put("ענ", 5989);
-    freq.put("עס", 2654);
-    freq.put("עע", 81);
-    freq.put("נחס", 12);
-    freq.put("נחת", 17);
-    freq.put("עש", 876);
-    freq.put("עת", 74);
-    freq.put("טינ", 120);
-    freq.put("ּיו", 32);
-    freq.put("ראש", 199);
-    freq.put("על־", 9);
-    freq.put("עװ", 125);
-    freq.put("טיצ", 37);
-    freq.put("ז", 19829);
-    freq.put("ּיל", 14);
-    freq.put("טיש", 506);
-    freq.put("ראס", 107);
-    freq.put("ראנ", 449);
-    freq.put("ראק", 168);
-    freq.put("ראצ", 151);
-    freq.put("ראפ", 422);
-    freq.put("ראכ", 120);
-    freq.put("ראך", 151);
-    freq.put("ראי", 461);
-    freq.put("ראט", 333);
-    freq.put("ראן", 71);
-    freq.put("ראמ", 160);
-    freq.put("פחה", 42);
-    freq.put("פחו", 11);
-    freq.put("ראד", 229);
-    freq.put("ראג", 158);
-    freq.put("ראב", 176);
-    freq.put("ראא", 18);
-    freq.put("טיל", 56);
-    freq.put("ּיש", 11);
-    freq.put("ראו", 150);
-    freq.put("פר ", 221);
-    freq.put("עה", 481);
-    freq.put("עו", 3072);
-    freq.put("עז", 845);
-    freq.put("נחו", 21);
-    freq.put("עא", 406);
-    freq.put("עב", 1492);
-    freq.put("עג", 2103);
-    freq.put("עד", 1030);
-    freq.put("נחמ", 36);
-    freq.put("עם", 3235);
-    freq.put("נחל", 9);
-    freq.put("נחם", 47);
-    freq.put("עט", 2322);
-    freq.put("עי", 887);
-    freq.put("עך", 244);
-    freq.put("עכ", 822);
-    freq.put("מלא", 21);
-    freq.put("ַזי", 33);
-    freq.put("מלו", 53);
-    freq.put("ַזן", 9);
-    freq.put("מלח", 124);
-    freq.put("ֿיר", 26);
-    freq.put("מלי", 25);
-    freq.put("ֿיצ", 12);
-    freq.put("מלכ", 53);
-    freq.put("מלך", 77);
-    freq.put("שמ ", 24);
-    freq.put("ֿיע", 10);
-    freq.put("ֿינ", 31);
-    freq.put("ַגא", 20);
-    freq.put("יכר", 22);
-    freq.put("ון ", 13000);
-    freq.put("צמא", 16);
-    freq.put("בױם", 10);
-    freq.put("ָמפ", 43);
-    freq.put("לכע", 330);
-    freq.put("וש ", 84);
-    freq.put("דיל", 19);
-    freq.put("עץ ", 116);
-    freq.put("בױר", 38);
-    freq.put("ί", 9);
-    freq.put("ָטע", 9);
-    freq.put("מלע", 24);
-    freq.put("טקא", 11);
-    freq.put("יש־", 14);
-    freq.put("זיכ", 79);
-    freq.put("ַזע", 9);
-    freq.put("כי ", 58);
-    freq.put("זיט", 53);
-    freq.put("ֿיב", 9);
-    freq.put("טש ", 464);
-    freq.put("שטר", 92);
-    freq.put("שטש", 10);
-    freq.put("שטע", 893);
-    freq.put("טח ", 115);
-    freq.put("ױסע", 12);
-    freq.put(" ך ", 36);
-    freq.put("סקן", 15);
-    freq.put("עקב", 101);
-    freq.put("עקג", 13);
-    freq.put("סקל", 18);
-    freq.put("טײַ", 38);
-    freq.put("עקו", 123);
-    freq.put("סקי", 103);
-    freq.put("і", 9);
-    freq.put("עקט", 357);
-    freq.put("עקי", 38);
-    freq.put("סקו", 78);
-    freq.put("ַלק", 16);
-    freq.put("עקל", 49);
-    freq.put("סקא", 104);
-    freq.put("עקס", 251);
-    freq.put("עקע", 71);
-    freq.put("עקצ", 22);
-    freq.put("סקר", 11);
-    freq.put("עקר", 38);
-    freq.put("עקש", 11);
-    freq.put("סקע", 43);
-    freq.put("כרו", 30);
-    freq.put("ובל", 129);
-    freq.put("שטי", 400);
-    freq.put("שטן", 72);
-    freq.put("בונ", 69);
-    freq.put("שטא", 1495);
-    freq.put("שטח", 122);
-    freq.put("שטו", 140);
-    freq.put("פיל", 460);
-    freq.put("כאט", 20);
-    freq.put("טאן", 131);
-    freq.put("ני ", 345);
-    freq.put("ליץ", 12);
-    freq.put("לשע", 11);
-    freq.put("חוס", 12);
-    freq.put("יבל", 31);
-    freq.put("יבן", 689);
-    freq.put("ײנע", 31);
-    freq.put(" עי", 433);
-    freq.put("יבט", 97);
-    freq.put("יבו", 487);
-    freq.put("קאר", 213);
-    freq.put("ום־", 71);
-    freq.put("רג ", 317);
-    freq.put("הײַ", 13);
-    freq.put("נבו", 46);
-    freq.put("טמא", 164);
-    freq.put("חתו", 36);
-    freq.put("יבש", 29);
-    freq.put("יבר", 29);
-    freq.put("יבת", 26);
-    freq.put("לעק", 192);
-    freq.put("ح", 15);
-    freq.put("יבנ", 30);
-    freq.put("יבע", 822);
-    freq.put("ייל", 759);
-    freq.put("ָט ", 155);
-    freq.put("װאַ", 57);
-    freq.put("נבי", 26);
-    freq.put("װאָ", 188);
-    freq.put("פיז", 75);
-    freq.put("с", 46);
-    freq.put("דרײ", 11);
-    freq.put("טיט", 90);
-    freq.put("τ", 25);
-    freq.put("עשר", 163);
-    freq.put("הײס", 11);
-    freq.put("נבל", 9);
-    freq.put("עשפ", 40);
-    freq.put("כאַ", 19);
-    freq.put("עשע", 81);
-    freq.put("ь", 16);
-    freq.put("ий ", 12);
-    freq.put("כאָ", 10);
-    freq.put("דרע", 33);
-    freq.put("ַרג", 27);
-    freq.put(" לע", 748);
-    freq.put("געש", 653);
-    freq.put("עך ", 243);
-    freq.put("געק", 155);
-    freq.put("געצ", 76);
-    freq.put("געפ", 572);
-    freq.put("זצ ", 115);
-    freq.put("געע", 21);
-    freq.put("סל ", 44);
-    freq.put("גענ", 491);
-    freq.put(" לח", 10);
-    freq.put("געמ", 244);
-    freq.put(" לו", 373);
-    freq.put(" לה", 10);
-    freq.put("קט ", 431);
-    freq.put("דרו", 511);
-    freq.put(" לב", 115);
-    freq.put(" לא", 804);
-    freq.put(" למ", 101);
-    freq.put("געו", 2461);
-    freq.put("געה", 329);
-    freq.put(" לכ", 12);
-    freq.put("געג", 471);
-    freq.put(" לי", 867);
-    freq.put("געא", 71);
-    freq.put("עשמ", 21);
-    freq.put("ַרד", 20);
-    freq.put("עשל", 38);
-    freq.put("־צע", 10);
-    freq.put("עשט", 258);
-    freq.put("עשי", 85);
-    freq.put("ואצ", 10);
-    freq.put("עשה", 17);
-    freq.put("עשו", 18);
-    freq.put("ט ", 16814);
-    freq.put("עשא", 105);
-    freq.put("פה", 118);
-    freq.put("ײַנ", 71);
-    freq.put("וקר", 106);
-    freq.put("ָפּ", 126);
-    freq.put("ײַס", 13);
-    freq.put("ײַע", 13);
-    freq.put("חסד", 12);
-    freq.put("ּ ", 48);
-    freq.put("יצק", 12);
-    freq.put("ועב", 66);
-    freq.put("לנע", 28);
-    freq.put("זיע", 134);
-    freq.put("כו", 337);
-    freq.put("ָמא", 16);
-    freq.put(" חס", 285);
-    freq.put("וסל", 93);
-    freq.put(" צ ", 21);
-    freq.put("זב", 28);
-    freq.put("חשו", 86);
-    freq.put("רפ ", 47);
-    freq.put("זיצ", 66);
-    freq.put("ועמ", 140);
-    freq.put("קת ", 13);
-    freq.put("זיק", 208);
-    freq.put("ױב", 11);
-    freq.put("ר־א", 10);
-    freq.put("ױג", 14);
-    freq.put("אג ", 706);
-    freq.put("ױז", 19);
-    freq.put("ר־י", 328);
-    freq.put("כן", 442);
-    freq.put("ױך", 26);
-    freq.put("ױם", 13);
-    freq.put("ױל", 22);
-    freq.put("כרא", 13);
-    freq.put("כמ", 103);
-    freq.put("קפ ", 20);
-    freq.put("ָמי", 18);
-    freq.put("קיו", 14);
-    freq.put("כיש", 131);
-    freq.put("קיד", 20);
-    freq.put("כם", 38);
-    freq.put("קיב", 22);
-    freq.put("קיא", 12);
-    freq.put("קין", 36);
-    freq.put("קימ", 12);
-    freq.put("קים", 55);
-    freq.put("קיל", 51);
-    freq.put("זיר", 101);
-    freq.put("קיי", 563);
-    freq.put("לז ", 10);
-    freq.put("קיק", 10);
-    freq.put("קיצ", 14);
-    freq.put("חות", 40);
-    freq.put("קיפ", 24);
-    freq.put("קיע", 23);
-    freq.put("קיס", 38);
-    freq.put("קינ", 191);
-    freq.put("ָקא", 20);
-    freq.put("קיש", 65);
-    freq.put("קיר", 70);
-    freq.put("ױס", 52);
-    freq.put("ױנ", 10);
-    freq.put("ױף", 49);
-    freq.put("גק", 27);
-    freq.put("ױפ", 48);
-    freq.put("לכי", 24);
-    freq.put("ױר", 38);
-    freq.put(" קא", 2058);
-    freq.put("לכו", 47);
-    freq.put("גנה", 16);
-    freq.put("נטש", 527);
-    freq.put("נטר", 228);
-    freq.put("מי", 4015);
-    freq.put("נטע", 747);
-    freq.put("נטס", 27);
-    freq.put("נטק", 16);
-    freq.put("לוג", 14);
-    freq.put("דיט", 32);
-    freq.put("נטפ", 18);
-    freq.put("פאק", 63);
-    freq.put("פאצ", 37);
-    freq.put("פאפ", 106);
-    freq.put("פאע", 17);
-    freq.put("פאס", 158);
-    freq.put("פאנ", 179);
-    freq.put("רבנ", 80);
-    freq.put("מל", 440);
-    freq.put("רבע", 146);
-    freq.put("ד ", 2437);
-    freq.put("פאש", 14);
-    freq.put("פאר", 2848);
-    freq.put("פאז", 66);
-    freq.put("פאו", 32);
-    freq.put("פאד", 23);
-    freq.put("פאג", 14);
-    freq.put("פאב", 36);
-    freq.put("רבן", 121);
-    freq.put("פאן", 50);
-    freq.put("פאמ", 66);
-    freq.put("פאל", 522);
-    freq.put("פאכ", 40);
-    freq.put("נבע", 47);
-    freq.put("בל ", 68);
-    freq.put("פאט", 99);
-    freq.put(" הח", 54);
-    freq.put("נטי", 330);
-    freq.put("נטן", 150);
-    freq.put("ימע", 174);
-    freq.put("נטל", 87);
-    freq.put("פיר", 593);
-    freq.put("מש ", 27);
-    freq.put("נטא", 125);
-    freq.put("ועצ", 13);
-    freq.put(" הו", 635);
-    freq.put("נטו", 175);
-    freq.put("נטה", 53);
-    freq.put("פאַ", 88);
-    freq.put("ימל", 64);
-    freq.put("אקס", 167);
-    freq.put("ׂ", 15);
-    freq.put("ַבי", 22);
-    freq.put("מה", 308);
-    freq.put("וך ", 117);
-    freq.put("פאָ", 35);
-    freq.put("טרײ", 12);
-    freq.put("ימן", 15);
-    freq.put(" הב", 29);
-    freq.put("פיץ", 18);
-    freq.put("ימט", 100);
-    freq.put(" הא", 2406);
-    freq.put("קאז", 20);
-    freq.put(" ן ", 102);
-    freq.put("גב", 56);
-    freq.put("יך ", 1996);
-    freq.put("פרש", 45);
-    freq.put("קאא", 14);
-    freq.put("קאב", 24);
-    freq.put("ֿטל", 12);
-    freq.put("גנש", 15);
-    freq.put("ונע", 579);
-    freq.put("כת ", 66);
-    freq.put("צל ", 26);
-    freq.put("טרו", 149);
-    freq.put("ייס", 374);
-    freq.put("טרי", 428);
-    freq.put("יפי", 97);
-    freq.put("וו ", 258);
-    freq.put("ַבע", 34);
-    freq.put("ױזי", 10);
-    freq.put("גן", 621);
-    freq.put("חשמ", 20);
-    freq.put("חיז", 9);
-    freq.put("ימא", 77);
-    freq.put("ייע", 636);
-    freq.put("בוס", 25);
-    freq.put("בסט", 77);
-    freq.put("עפו", 146);
-    freq.put("ביז", 708);
-    freq.put("עפא", 154);
-    freq.put("ופ", 709);
-    freq.put("עפל", 43);
-    freq.put("עפן", 21);
-    freq.put("עפי", 388);
-    freq.put("עפט", 191);
-    freq.put("נס ", 223);
-    freq.put("טאף", 26);
-    freq.put("עפנ", 20);
-    freq.put("גס ", 77);
-    freq.put("עפע", 152);
-    freq.put(" א ", 5761);
-    freq.put("יאָ", 120);
-    freq.put("בֿ ", 13);
-    freq.put("פש ", 13);
-    freq.put("עפר", 31);
-    freq.put("ייר", 250);
-    freq.put("כנ", 301);
-    freq.put("יז ", 8784);
-    freq.put("ארכ", 62);
-    freq.put("וענ", 184);
-    freq.put("יית", 14);
-    freq.put("כיע", 18);
-    freq.put("כצ", 33);
-    freq.put("יאג", 27);
-    freq.put("ייו", 53);
-    freq.put("т", 23);
-    freq.put("יאז", 72);
-    freq.put("כץ", 14);
-    freq.put("יאה", 29);
-    freq.put("ייה", 16);
-    freq.put("יאט", 65);
-    freq.put("כפ", 38);
-    freq.put("יאמ", 72);
-    freq.put("יאן", 193);
-    freq.put("יאל", 235);
-    freq.put("יאם", 16);
-    freq.put("בענ", 93);
-    freq.put("שם ", 39);
-    freq.put("זעט", 26);
-    freq.put("ח", 3365);
-    freq.put("בעק", 36);
-    freq.put("בער", 1902);
-    freq.put("בעש", 24);
-    freq.put("בעת", 28);
-    freq.put("כש", 34);
-    freq.put("ייא", 27);
-    freq.put("רבר", 58);
-    freq.put("בעד", 48);
-    freq.put("בעה", 14);
-    freq.put("בעו", 9);
-    freq.put("ור ", 445);
-    freq.put("בעט", 181);
-    freq.put("בעי", 89);
-    freq.put("נסש", 12);
-    freq.put("בעל", 265);
-    freq.put("בעם", 11);
-    freq.put("עע ", 24);
-    freq.put(" ב ", 222);
-    freq.put("יים", 317);
-    freq.put("יאנ", 690);
-    freq.put("יאס", 22);
-    freq.put("ודי", 128);
-    freq.put("יאק", 13);
-    freq.put("יאפ", 44);
-    freq.put("וטא", 70);
-    freq.put("יאת", 13);
-    freq.put("עפּ", 39);
-    freq.put("עפֿ", 56);
-    freq.put("ײַן", 60);
-    freq.put("מײ", 35);
-    freq.put("ַג", 67);
-    freq.put("זיד", 150);
-    freq.put("ַד ", 25);
-    freq.put("יימ", 70);
-    freq.put("־קא", 14);
-    freq.put("זײע", 19);
-    freq.put("ולע", 158);
-    freq.put("הרן", 54);
-    freq.put("ולק", 14);
-    freq.put("ולפ", 10);
-    freq.put("וא", 6028);
-    freq.put("ירש", 25);
-    freq.put("וד", 780);
-    freq.put("د ", 12);
-    freq.put("לוק", 34);
-    freq.put("ילך", 21);
-    freq.put("ָלא", 42);
-    freq.put("מש", 587);
-    freq.put("מת", 113);
-    freq.put("ַם ", 57);
-    freq.put("ירע", 299);
-    freq.put("ולט", 89);
-    freq.put("ולי", 275);
-    freq.put("ולמ", 17);
-    freq.put("ולן", 14);
-    freq.put("ולל", 67);
-    freq.put("חדש", 33);
-    freq.put("ולג", 9);
-    freq.put("ולד", 33);
-    freq.put("ולא", 76);
-    freq.put("ск", 15);
-    freq.put("זיב", 83);
-    freq.put("ג־", 10);
-    freq.put("ולה", 41);
-    freq.put("ולו", 40);
-    freq.put("גות", 9);
-    freq.put("דמו", 23);
-    freq.put("גור", 43);
-    freq.put("בדר", 18);
-    freq.put("דיק", 301);
-    freq.put(" הש", 96);
-    freq.put("רבי", 801);
-    freq.put("גוף", 14);
-    freq.put("גונ", 96);
-    freq.put("גוס", 110);
-    freq.put("ַצי", 74);
-    freq.put("וּנ", 12);
-    freq.put("וכע", 9);
-    freq.put("יער", 650);
-    freq.put(" הק", 34);
-    freq.put("אענ", 10);
-    freq.put("מס", 332);
-    freq.put("יענ", 141);
-    freq.put("רבל", 19);
-    freq.put("קב ", 104);
-    freq.put(" ד ", 281);
-    freq.put("טל ", 278);
-    freq.put("יטב", 9);
-    freq.put("יעי", 12);
-    freq.put("מף", 15);
-    freq.put("יעל", 187);
-    freq.put("יעם", 10);
-    freq.put("ַדר", 11);
-    freq.put("יען", 175);
-    freq.put("וסף", 91);
-    freq.put("אען", 10);
-    freq.put("יעד", 176);
-    freq.put("יעה", 10);
-    freq.put("במש", 15);
-    freq.put("יעז", 66);
-    freq.put("דיד", 9);
-    freq.put("רבא", 85);
-    freq.put("גוט", 74);
-    freq.put(" מת", 41);
-    freq.put("גומ", 9);
-    freq.put("מצ", 124);
-    freq.put("גול", 24);
-    freq.put("עבע", 101);
-    freq.put("גוד", 26);
-    freq.put("דיי", 315);
-    freq.put("מק", 141);
-    freq.put("דין", 40);
-    freq.put("דימ", 29);
-    freq.put("דים", 149);
-    freq.put("גוו", 36);
-    freq.put("ַרש", 32);
-    freq.put("רבד", 9);
-    freq.put("יצח", 86);
-    freq.put("ַרמ", 12);
-    freq.put("רבה", 11);
-    freq.put("ותי", 27);
-    freq.put("מײַ", 22);
-    freq.put("מב ", 14);
-    freq.put("פאך", 9);
-    freq.put("הג ", 23);
-    freq.put("נפל", 36);
-    freq.put("נפי", 37);
-    freq.put("נפט", 73);
-    freq.put("ַגע", 14);
-    freq.put("נפו", 11);
-    freq.put("דמא", 42);
-    freq.put("נפא", 68);
-    freq.put("רד ", 262);
-    freq.put("ָלי", 35);
-    freq.put("נפש", 14);
-    freq.put("קכ ", 14);
-    freq.put("נפע", 57);
-    freq.put("הוד", 114);
-    freq.put("והן", 21);
-    freq.put("יִנ", 10);
-    freq.put("טאנ", 372);
-    freq.put("מל ", 35);
-    freq.put("ירנ", 30);
-    freq.put("ָלו", 9);
-    freq.put("קו ", 16);
-    freq.put("אפו", 77);
-    freq.put("קמ ", 16);
-    freq.put("ַשט", 15);
-    freq.put("אקו", 92);
-    freq.put("כמה", 18);
-    freq.put("н ", 15);
-    freq.put("אקא", 461);
-    freq.put("אקן", 12);
-    freq.put("אקל", 29);
-    freq.put("וחנ", 30);
-    freq.put("הרע", 11);
-    freq.put("אקט", 368);
-    freq.put("אקי", 112);
-    freq.put("אקצ", 47);
-    freq.put("זאץ", 10);
-    freq.put("הרל", 10);
-    freq.put("אקע", 176);
-    freq.put("הרי", 21);
-    freq.put("חז", 117);
-    freq.put("תא ", 124);
-    freq.put("הרו", 24);
-    freq.put("הרה", 23);
-    freq.put("הרג", 27);
-    freq.put("אקר", 48);
-    freq.put("ος", 17);
-    freq.put("נפֿ", 24);
-    freq.put("יפל", 33);
-    freq.put("פל ", 52);
-    freq.put("רץ ", 348);
-    freq.put(" ק ", 257);
-    freq.put("בחו", 25);
-    freq.put("ַנק", 30);
-    freq.put("ועס", 104);
-    freq.put("זאנ", 58);
-    freq.put("אײ", 80);
-    freq.put("ײז", 9);
-    freq.put("אױ", 122);
-    freq.put("חב", 153);
-    freq.put("ײג", 10);
-    freq.put("ײד", 21);
-    freq.put("ײל", 34);
-    freq.put("אד ", 103);
-    freq.put("ײן", 26);
-    freq.put("ײט", 41);
-    freq.put("טרס", 14);
-    freq.put("דלע", 70);
-    freq.put("ײכ", 15);
-    freq.put("אע", 47);
-    freq.put("חן", 17);
-    freq.put("אנ", 6617);
-    freq.put("אס", 4992);
-    freq.put("אצ", 873);
-    freq.put("אק", 1641);
-    freq.put("אפ", 2500);
-    freq.put("חמ", 207);
-    freq.put("את", 47);
-    freq.put("אר", 11301);
-    freq.put("אש", 692);
-    freq.put("כגא", 22);
-    freq.put("ַקא", 44);
-    freq.put("אג", 1593);
-    freq.put("אד", 2213);
-    freq.put("אא", 85);
-    freq.put("אב", 1594);
-    freq.put("אז", 1199);
-    freq.put("אח", 58);
-    freq.put("אה", 370);
-    freq.put("או", 10351);
-    freq.put("אך", 1186);
-    freq.put("חכ", 55);
-    freq.put("אט", 4219);
-    freq.put("אי", 18907);
-    freq.put("אמ", 2382);
-    freq.put("אן", 2395);
-    freq.put("אל", 6364);
-    freq.put("אם", 301);
-    freq.put("המו", 20);
-    freq.put("רתא", 10);
-    freq.put("ליש", 403);
-    freq.put("ירי", 109);
-    freq.put("רית", 77);
-    freq.put("חי", 403);
-    freq.put("ײע", 26);
-    freq.put("ָס ", 233);
-    freq.put("המל", 31);
-    freq.put("ײר", 25);
-    freq.put("יפה", 50);
-    freq.put("כץ ", 14);
-    freq.put("חק", 98);
-    freq.put("נײַ", 10);
-    freq.put("הל ", 44);
-    freq.put("אור", 125);
-    freq.put("אַ", 4769);
-    freq.put("אות", 63);
-    freq.put("חצ", 9);
-    freq.put("אופ", 32);
-    freq.put("סחו", 14);
-    freq.put("אוק", 121);
-    freq.put("א־", 11);
-    freq.put("אוס", 128);
-    freq.put("אוע", 15);
-    freq.put("סחא", 9);
-    freq.put("סה", 45);
-    freq.put("ּעד", 10);
-    freq.put("לבן", 15);
-    freq.put("רשפ", 57);
-    freq.put("רשר", 10);
-    freq.put("זאב", 23);
-    freq.put("רשת", 14);
-    freq.put("קספ", 43);
-    freq.put("אץ ", 79);
-    freq.put("קסע", 33);
-    freq.put("מ", 18905);
-    freq.put("קסן", 49);
-    freq.put("ײַ", 484);
-    freq.put("רשה", 13);
-    freq.put("רשו", 56);
-    freq.put("קסי", 80);
-    freq.put("קסט", 128);
-    freq.put("רשט", 565);
-    freq.put("ּער", 45);
-    freq.put("קסו", 29);
-    freq.put("חנ", 73);
-    freq.put("רשל", 10);
-    freq.put("לבס", 28);
-    freq.put("לבע", 104);
-    freq.put("קסא", 45);
-    freq.put("אול", 53);
-    freq.put("אום", 40);
-    freq.put("אומ", 191);
-    freq.put("און", 4910);
-    freq.put("אוט", 11);
-    freq.put("אוי", 2810);
-    freq.put("כט ", 502);
-    freq.put("כקי", 48);
-    freq.put("אוו", 1031);
-    freq.put("אוז", 11);
-    freq.put("תלמ", 98);
-    freq.put("אוב", 11);
-    freq.put("אוג", 13);
-    freq.put("אוד", 30);
-    freq.put(" שט", 1899);
-    freq.put(" שי", 276);
-    freq.put("רקל", 29);
-    freq.put(" שכ", 28);
-    freq.put(" של", 302);
-    freq.put("פמא", 29);
-    freq.put(" שמ", 216);
-    freq.put("רקי", 67);
-    freq.put(" שא", 246);
-    freq.put(" שב", 173);
-    freq.put("עיִ", 12);
-    freq.put(" שד", 9);
-    freq.put(" שו", 466);
-    freq.put("רקא", 35);
-    freq.put(" שח", 12);
-    freq.put("אאט", 12);
-    freq.put("זאכ", 58);
-    freq.put("ּאָ", 101);
-    freq.put("ּאַ", 97);
-    freq.put("זאך", 80);
-    freq.put("כבי", 10);
-    freq.put("ייצ", 47);
-    freq.put("העל", 92);
-    freq.put("יפן", 265);
-    freq.put("ַקו", 17);
-    freq.put("יק ", 726);
-    freq.put(" שר", 272);
-    freq.put("רקר", 11);
-    freq.put("רקש", 20);
-    freq.put(" שנ", 90);
-    freq.put("ε", 16);
-    freq.put(" שע", 109);
-    freq.put(" שפ", 606);
-    freq.put("רקנ", 9);
-    freq.put(" שק", 14);
-    freq.put("ַן", 317);
-    freq.put("פק", 29);
-    freq.put("יס ", 520);
-    freq.put("העו", 11);
-    freq.put("כלא", 10);
-    freq.put("ي", 28);
-    freq.put("טסה", 9);
-    freq.put("רוה", 14);
-    freq.put("רוו", 219);
-    freq.put("רוז", 34);
-    freq.put("רוח", 11);
-    freq.put("רוא", 130);
-    freq.put("רוב", 139);
-    freq.put("עיר", 31);
-    freq.put("עיש", 109);
-    freq.put("עיק", 96);
-    freq.put("עיפ", 12);
-    freq.put("רון", 59);
-    freq.put("רוט", 25);
-    freq.put("רוי", 907);
-    freq.put("עינ", 15);
-    freq.put("עיס", 16);
-    freq.put("רופ", 408);
-    freq.put("עין", 29);
-    freq.put("עיל", 35);
-    freq.put("עים", 15);
-    freq.put("רונ", 514);
-    freq.put("נע ", 926);
-    freq.put("עיט", 31);
-    freq.put("י ", 11440);
-    freq.put("וּ ", 14);
-    freq.put("עיו", 17);
-    freq.put("רור", 23);
-    freq.put("עיד", 15);
-    freq.put("רות", 129);
-    freq.put("עיב", 374);
-    freq.put("פת ", 18);
-    freq.put("מא ", 36);
-    freq.put("ָרא", 20);
-    freq.put("לכן", 12);
-    freq.put("יו ", 208);
-    freq.put("שכל", 9);
-    freq.put("רבו", 35);
-    freq.put("טאט", 982);
-    freq.put("זעס", 17);
-    freq.put("יבֿ", 10);
-    freq.put("בוש", 19);
-    freq.put("נס", 811);
-    freq.put("זאפ", 16);
-    freq.put("נלע", 53);
-    freq.put("של ", 148);
-    freq.put("ממ", 48);
-    freq.put("זעק", 60);
-    freq.put("ָרי", 28);
-    freq.put("יפג", 135);
-    freq.put("נק", 641);
-    freq.put("לקן", 10);
-    freq.put("דית", 15);
-    freq.put("נלא", 35);
-    freq.put("ידל", 62);
-    freq.put("וק ", 85);
-    freq.put("עף ", 43);
-    freq.put("דע ", 348);
-    freq.put("נלי", 105);
-    freq.put("יסנ", 144);
-    freq.put("יעס", 234);
-    freq.put("צבי", 65);
-    freq.put(" ג ", 172);
-    freq.put("כפא", 10);
-    freq.put("מבע", 383);
-    freq.put("נש", 393);
-    freq.put("ַג ", 9);
-    freq.put("מבר", 42);
-    freq.put("יסן", 202);
-    freq.put("יסמ", 18);
-    freq.put("מא", 2899);
-    freq.put("יר ", 762);
-    freq.put("יפא", 64);
-    freq.put("טין", 55);
-    freq.put("שוי", 118);
-    freq.put("ָב", 87);
-    freq.put("שוט", 23);
-    freq.put("יטמ", 9);
-    freq.put("װײ", 61);
-    freq.put("יכס", 11);
-    freq.put("חר ", 18);
-    freq.put("לעצ", 97);
-    freq.put("מבא", 123);
-    freq.put("וקט", 118);
-    freq.put("מבו", 37);
-    freq.put("יפב", 15);
-    freq.put("שום", 14);
-    freq.put("מבי", 37);
-    freq.put("ָרש", 19);
-    freq.put("פח", 58);
-    freq.put("צא ", 9);
-    freq.put("ארף", 102);
-    freq.put("יטן", 471);
-    freq.put("וקל", 51);
-    freq.put("אפג", 80);
-    freq.put("אלא", 352);
-    freq.put("קײט", 9);
-    freq.put("я ", 9);
-    freq.put("מג", 185);
-    freq.put("ארך", 11);
-    freq.put("ארי", 1154);
-    freq.put("ארט", 1048);
-    freq.put("ארן", 866);
-    freq.put("ארמ", 264);
-    freq.put("ארם", 10);
-    freq.put("ארל", 128);
-    freq.put("ארד", 271);
-    freq.put("ארג", 380);
-    freq.put("ארב", 398);
-    freq.put("ארא", 756);
-    freq.put("השנ", 9);
-    freq.put("שוד", 10);
-    freq.put("ארו", 575);
-    freq.put("ארה", 98);
-    freq.put("װיר", 13);
-    freq.put("ארש", 318);
-    freq.put("ארר", 29);
-    freq.put("השי", 11);
-    freq.put("דוק", 55);
-    freq.put("הער", 267);
-    freq.put("שע ", 1326);
-    freq.put("ארע", 359);
-    freq.put("ארס", 37);
-    freq.put("ארנ", 109);
-    freq.put("ארק", 442);
-    freq.put("ארצ", 98);
-    freq.put("מד", 247);
-    freq.put("ארפ", 130);
-    freq.put("α", 27);
-    freq.put("ֵ", 17);
-    freq.put("д", 15);
-    freq.put("־יא", 336);
-    freq.put("פו", 8317);
-    freq.put("ַכט", 29);
-    freq.put("ישר", 577);
-    freq.put("و", 12);
-    freq.put("פן ", 752);
-    freq.put("טען", 94);
-    freq.put("װינ", 25);
-    freq.put("שות", 35);
-    freq.put("װיס", 26);
-    freq.put("עט ", 963);
-    freq.put("יד", 2407);
-    freq.put("טעט", 435);
-    freq.put("יטג", 60);
-    freq.put("לפֿ", 28);
-    freq.put("יכו", 55);
-    freq.put("יעק", 189);
-    freq.put("רה ", 394);
-    freq.put("מו", 915);
-    freq.put("חם ", 56);
-    freq.put("רקן", 17);
-    freq.put("יפֿ", 49);
-    freq.put("יפּ", 39);
-    freq.put("פד", 13);
-    freq.put("יונ", 235);
-    freq.put("ַפּ", 48);
-    freq.put("וקס", 36);
-    freq.put("סצי", 15);
-    freq.put("קה ", 26);
-    freq.put("לגא", 23);
-    freq.put("ּח", 21);
-    freq.put("עהא", 114);
-    freq.put("אבס", 15);
-    freq.put("מז", 374);
-    freq.put("טעב", 17);
-    freq.put("עהן", 28);
-    freq.put("עהי", 50);
-    freq.put("וקצ", 19);
-    freq.put("אזנ", 9);
-    freq.put("ий", 13);
-    freq.put("יסג", 259);
-    freq.put("סצו", 30);
-    freq.put("אזש", 71);
-    freq.put("ָבע", 26);
-    freq.put("יכל", 44);
-    freq.put("קנע", 11);
-    freq.put(" תּ", 23);
-    freq.put("אזו", 272);
-    freq.put("קני", 20);
-    freq.put("מח", 173);
-    freq.put("כיט", 18);
-    freq.put("אזי", 210);
-    freq.put("קנו", 15);
-    freq.put("דלט", 74);
-    freq.put("קנא", 26);
-    freq.put("נא", 3341);
-    freq.put("תב ", 12);
-    freq.put("אבר", 120);
-    freq.put("س", 11);
-    freq.put("נב", 153);
-    freq.put("עהע", 109);
-    freq.put("רצ ", 61);
-    freq.put(" ר ", 421);
-    freq.put("עהר", 33);
-    freq.put("סזע", 10);
-    freq.put("ּו", 65);
-    freq.put(" תם", 9);
-    freq.put("רטע", 301);
-    freq.put("פּױ", 11);
-    freq.put(" תמ", 46);
-    freq.put(" תי", 60);
-    freq.put("רטפ", 11);
-    freq.put(" תו", 211);
-    freq.put(" תה", 11);
-    freq.put("רטש", 35);
-    freq.put("רטר", 29);
-    freq.put(" תב", 12);
-    freq.put("ַמא", 45);
-    freq.put("לקו", 11);
-    freq.put("אה ", 64);
-    freq.put("יפצ", 18);
-    freq.put("פּע", 133);
-    freq.put("פּס", 10);
-    freq.put("צפו", 388);
-    freq.put("נכ", 27);
-    freq.put("ָפֿ", 31);
-    freq.put("פּש", 10);
-    freq.put("פּר", 158);
-    freq.put("יאַ", 139);
-    freq.put("תּו", 9);
-    freq.put("הוי", 573);
-    freq.put("פּא", 210);
-    freq.put("פּח", 17);
-    freq.put("פּו", 46);
-    freq.put("לוב", 25);
-    freq.put("זען", 46);
-    freq.put("פּי", 90);
-    freq.put("פּט", 64);
-    freq.put("פּן", 9);
-    freq.put("ич", 20);
-    freq.put("פּל", 38);
-    freq.put("קזי", 21);
-    freq.put(" תש", 398);
-    freq.put(" תר", 426);
-    freq.put("רטו", 46);
-    freq.put("רטה", 17);
-    freq.put("ον", 9);
-    freq.put(" תפ", 43);
-    freq.put("סא ", 27);
-    freq.put("זעל", 172);
-    freq.put("רטן", 202);
-    freq.put("רטמ", 18);
-    freq.put("רטל", 47);
-    freq.put("הם ", 111);
-    freq.put("ָטא", 10);
-    freq.put("ַל", 466);
-    freq.put("האב", 396);
-    freq.put("לט ", 1172);
-    freq.put("פע", 1995);
-    freq.put("לוח", 10);
-    freq.put("דם ", 23);
-    freq.put("רזי", 38);
-    freq.put("ב ", 2037);
-    freq.put("דרה", 22);
-    freq.put("רכג", 31);
-    freq.put("רזא", 35);
-    freq.put("ייב", 795);
-    freq.put("רזש", 15);
-    freq.put("לוכ", 15);
-    freq.put("ּרי", 17);
-    freq.put("ונט", 387);
-    freq.put("לול", 46);
-    freq.put("רזע", 50);
-    freq.put("לום", 77);
-    freq.put("ונז", 17);
-    freq.put("יטו", 153);
-    freq.put("ברכ", 27);
-    freq.put("האט", 1336);
-    freq.put("ונה", 63);
-    freq.put("דלי", 46);
-    freq.put("לונ", 255);
-    freq.put("שנא", 14);
-    freq.put("ברי", 389);
-    freq.put("שנה", 44);
-    freq.put("ונג", 1391);
-    freq.put("בא ", 55);
-    freq.put("שני", 176);
-    freq.put("ירט", 686);
-    freq.put("לה ", 185);
-    freq.put("פ ", 326);
-    freq.put("וט ", 223);
-    freq.put("ייד", 731);
-    freq.put("ן", 43431);
-    freq.put("יי", 12615);
-    freq.put("האס", 9);
-    freq.put("אלו", 166);
-    freq.put("האנ", 167);
-    freq.put("שנע", 20);
-    freq.put("כמע", 44);
-    freq.put("יך", 2002);
-    freq.put("ייג", 316);
-    freq.put("שנת", 10);
-    freq.put("ים", 2095);
-    freq.put("זשב", 13);
-    freq.put("דף ", 10);
-    freq.put("יל", 2891);
-    freq.put("זיג", 41);
-    freq.put("וּ", 58);
-    freq.put("זיא", 14);
-    freq.put("ו־", 10);
-    freq.put("וֹ", 16);
-    freq.put("ין", 7901);
-    freq.put("יאד", 39);
-    freq.put("זיך", 1012);
-    freq.put("ַלס", 9);
-    freq.put("ַלע", 80);
-    freq.put("ימ", 909);
-    freq.put("זימ", 9);
-    freq.put("זין", 32);
-    freq.put("זיל", 53);
-    freq.put("מזר", 328);
-    freq.put("היד", 12);
-    freq.put("יב", 2862);
-    freq.put("יא", 3878);
-    freq.put("רקו", 72);
-    freq.put("האר", 124);
-    freq.put("Л", 9);
-    freq.put("יג", 2350);
-    freq.put("טאָ", 235);
-    freq.put("נף ", 34);
-    freq.put("יאו", 63);
-    freq.put("יש ", 1167);
-    freq.put("יה", 415);
-    freq.put("ַלט", 40);
-    freq.put("ַלי", 73);
-    freq.put("זינ", 162);
-    freq.put("זיס", 67);
-    freq.put("е", 53);
-    freq.put("ִ", 174);
-    freq.put("ַלמ", 9);
-    freq.put("ַלן", 28);
-    freq.put("ַלא", 42);
-    freq.put("ַלב", 16);
-    freq.put("ַלג", 10);
-    freq.put("ַלד", 14);
-    freq.put("מזי", 17);
-    freq.put("אבו", 48);
-    freq.put("מט", 401);
-    freq.put(" המ", 143);
-    freq.put(" הל", 99);
-    freq.put(" הכ", 48);
-    freq.put("סשט", 28);
-    freq.put("עסא", 48);
-    freq.put("מן", 118);
-    freq.put("עסמ", 13);
-    freq.put("עסן", 97);
-    freq.put("עסל", 14);
-    freq.put(" הה", 9);
-    freq.put(" הד", 26);
-    freq.put(" הג", 47);
-    freq.put("עסט", 720);
-    freq.put("עסי", 55);
-    freq.put("ייץ", 29);
-    freq.put("ייפ", 46);
-    freq.put("ייק", 75);
-    freq.put("ית", 365);
-    freq.put("וש", 480);
-    freq.put("ור", 2775);
-    freq.put("ות", 1164);
-    freq.put("וץ", 50);
-    freq.put("רו ", 20);
-    freq.put("וק", 630);
-    freq.put("וצ", 349);
-    freq.put("וס", 1123);
-    freq.put("ונ", 3502);
-    freq.put("וף", 407);
-    freq.put("וע", 5190);
-    freq.put("ום", 1408);
-    freq.put("ול", 1132);
-    freq.put("ון", 13066);
-    freq.put("ומ", 1230);
-    freq.put("וי", 9957);
-    freq.put("וט", 641);
-    freq.put("וכ", 188);
-    freq.put("וך", 117);
-    freq.put("וו", 14895);
-    freq.put("וה", 143);
-    freq.put("וח", 128);
-    freq.put("וז", 465);
-    freq.put("וב", 733);
-    freq.put(" הײ", 27);
-    freq.put(" הױ", 42);
-    freq.put("וג", 234);
-    freq.put("מר", 186);
-    freq.put("עסק", 41);
-    freq.put("עספ", 24);
-    freq.put("ال", 15);
-    freq.put("עסע", 88);
-    freq.put(" הת", 68);
-    freq.put("עסנ", 18);
-    freq.put(" הר", 320);
-    freq.put("סת ", 40);
-    freq.put(" הצ", 22);
-    freq.put("מע", 5301);
-    freq.put(" הפ", 14);
-    freq.put("מפ", 524);
-    freq.put(" הע", 472);
-    freq.put(" הס", 23);
-    freq.put(" הנ", 35);
-    freq.put("מאל", 366);
-    freq.put("מאן", 183);
-    freq.put("מאמ", 28);
-    freq.put("מאי", 63);
-    freq.put("מאט", 275);
-    freq.put("מאכ", 252);
-    freq.put("מאך", 18);
-    freq.put("מאו", 31);
-    freq.put("מאה", 19);
-    freq.put("יאי", 44);
-    freq.put("מאז", 18);
-    freq.put("מאב", 13);
-    freq.put("מאד", 100);
-    freq.put("מאג", 71);
-    freq.put("רמב", 12);
-    freq.put("חכם", 21);
-    freq.put("ֿונ", 43);
-    freq.put("אלן", 246);
-    freq.put("זכו", 12);
-    freq.put("זכר", 48);
-    freq.put("ֿון", 363);
-    freq.put("לײַ", 19);
-    freq.put("לצי", 13);
-    freq.put("ייט", 1901);
-    freq.put("זט ", 48);
-    freq.put("ַך", 69);
-    freq.put("а", 80);
-    freq.put("ברס", 32);
-    freq.put("מאש", 48);
-    freq.put("מאר", 334);
-    freq.put("דת ", 43);
-    freq.put("ч ", 20);
-    freq.put("מאפ", 37);
-    freq.put("מאק", 76);
-    freq.put("מאצ", 52);
-    freq.put("מאס", 118);
-    freq.put("מאנ", 355);
-    freq.put("ברק", 28);
-    freq.put(" גו", 229);
-    freq.put(" גז", 16);
-    freq.put(" גב", 35);
-    freq.put(" גא", 635);
-    freq.put(" גד", 57);
-    freq.put(" גל", 241);
-    freq.put("צב ", 14);
-    freq.put(" גמ", 42);
-    freq.put(" גי", 250);
-    freq.put("יכע", 405);
-    freq.put("וקי", 29);
-    freq.put("חלק", 62);
-    freq.put("שלע", 69);
-    freq.put("ונק", 107);
-    freq.put("כּל", 11);
-    freq.put("וקא", 46);
-    freq.put("ונפ", 13);
-    freq.put("וקו", 23);
-    freq.put("שלש", 10);
-    freq.put("שלו", 71);
-    freq.put("כּנ", 11);
-    freq.put("מאָ", 130);
-    freq.put("שלא", 210);
-    freq.put("יכה", 9);
-    freq.put("שלמ", 102);
-    freq.put("נו ", 76);
-    freq.put("מאַ", 261);
-    freq.put("יכט", 373);
-    freq.put("יכן", 72);
-    freq.put("שס ", 43);
-    freq.put("שלי", 278);
-    freq.put("ױ", 365);
-    freq.put("ָר ", 86);
-    freq.put("טעו", 40);
-    freq.put("אלל", 15);
-    freq.put(" גע", 6035);
-    freq.put("ונס", 61);
-    freq.put(" גר", 1840);
-    freq.put("טו ", 11);
-    freq.put("יום", 140);
-    freq.put("יול", 141);
-    freq.put("יון", 99);
-    freq.put("יומ", 11);
-    freq.put("יוב", 31);
-    freq.put("יוא", 63);
-    freq.put("יוד", 40);
-    freq.put("יוג", 16);
-    freq.put("יוו", 537);
-    freq.put("יוח", 34);
-    freq.put("יוז", 10);
-    freq.put("נעו", 46);
-    freq.put("יט", 5790);
-    freq.put("יכ", 1256);
-    freq.put("נעז", 70);
-    freq.put("נעב", 25);
-    freq.put("נעא", 11);
-    freq.put("רצל", 30);
-    freq.put("נעג", 26);
-    freq.put("נעם", 1157);
-    freq.put("נעל", 85);
-    freq.put("נען", 1162);
-    freq.put("נעמ", 160);
-    freq.put("יו", 2084);
-    freq.put("נעט", 124);
-    freq.put("עי ", 34);
-    freq.put("יז", 9880);
-    freq.put("נעץ", 65);
-    freq.put("נעפ", 21);
-    freq.put("נעק", 14);
-    freq.put("נעצ", 100);
-    freq.put("נעס", 78);
-    freq.put("נענ", 57);
-    freq.put("בקי", 14);
-    freq.put("יס", 3439);
-    freq.put("ינ", 7114);
-    freq.put("יף", 1048);
-    freq.put("יע", 4528);
-    freq.put("יץ", 225);
-    freq.put("נער", 1245);
-    freq.put("יק", 2846);
-    freq.put("יצ", 970);
-    freq.put("יוש", 12);
-    freq.put("יור", 44);
-    freq.put("יות", 153);
-    freq.put("יוס", 122);
-    freq.put("יװ", 22);
-    freq.put("לבו", 59);
-    freq.put("ַי", 46);
-    freq.put("ומנ", 18);
-    freq.put("פטפ", 11);
-    freq.put("ָרמ", 26);
-    freq.put("אלי", 944);
-    freq.put("וינ", 456);
-    freq.put("ויף", 951);
-    freq.put("ויע", 202);
-    freq.put("ויץ", 40);
-    freq.put("ויפ", 939);
-    freq.put("ויק", 141);
-    freq.put("ויצ", 38);
-    freq.put("ויש", 352);
-    freq.put("ויר", 338);
-    freq.put("יקל", 192);
-    freq.put("ײט ", 19);
-    freq.put("שאָ", 17);
-    freq.put("יקי", 155);
-    freq.put("יקט", 193);
-    freq.put("ויב", 263);
-    freq.put("ויס", 1415);
-    freq.put("ויד", 96);
-    freq.put("ויג", 213);
-    freq.put("ויו", 49);
-    freq.put("יקע", 746);
-    freq.put("כּו", 9);
-    freq.put("ויז", 314);
-    freq.put("ויי", 1093);
-    freq.put("ויט", 587);
-    freq.put("ויכ", 109);
-    freq.put("ויך", 414);
-    freq.put("וים", 103);
-    freq.put(" ال", 15);
-    freq.put("וין", 118);
-    freq.put("וימ", 58);
-    freq.put("α ", 10);
-    freq.put("בבא", 14);
-    freq.put("י־", 13);
-    freq.put(" ש ", 60);
-    freq.put("בבל", 22);
-    freq.put("אלכ", 18);
-    freq.put("יִ", 144);
-    freq.put("רק ", 362);
-    freq.put("כמי", 14);
-    freq.put("ָף ", 9);
-    freq.put("תל ", 49);
-    freq.put("ישפ", 33);
-    freq.put("יקו", 74);
-    freq.put("הלת", 9);
-    freq.put("יקא", 416);
-    freq.put("או ", 158);
-    freq.put("רש ", 139);
-    freq.put("גאנ", 364);
-    freq.put("לבא", 60);
-    freq.put("טלב", 51);
-    freq.put("למן", 24);
-    freq.put("לבק", 10);
-    freq.put("פצי", 42);
-    freq.put("טלא", 86);
-    freq.put("קס ", 207);
-    freq.put("גאב", 38);
-    freq.put("ּע ", 42);
-    freq.put("גאד", 9);
-    freq.put("גאו", 63);
-    freq.put("גאז", 48);
-    freq.put("גאט", 71);
-    freq.put("אלצ", 10);
-    freq.put("ׂר", 10);
-    freq.put("גאל", 175);
-    freq.put("גאן", 14);
-    freq.put("גאמ", 9);
-    freq.put("נצי", 328);
-    freq.put("הלו", 30);
-    freq.put("הלכ", 53);
-    freq.put("ָם ", 25);
-    freq.put("הלי", 24);
-    freq.put("סח ", 26);
-    freq.put("סבו", 79);
-    freq.put("אדר", 159);
-    freq.put("סבא", 27);
-    freq.put("גאַ", 138);
-    freq.put("ц", 9);
-    freq.put("אדע", 1340);
-    freq.put("גאָ", 55);
-    freq.put("אדנ", 11);
-    freq.put("סבי", 15);
-    freq.put("אדק", 13);
-    freq.put("נצל", 12);
-    freq.put("א ", 7254);
-    freq.put("לחמ", 122);
-    freq.put("לחן", 11);
-    freq.put("אגא", 70);
-    freq.put("כ", 5758);
-    freq.put("ַט", 461);
-    freq.put("הגו", 10);
-    freq.put("הגה", 10);
-    freq.put("לפי", 25);
-    freq.put("וגע", 78);
-    freq.put("בנד", 10);
-    freq.put("אדי", 214);
-    freq.put("ײ ", 47);
-    freq.put("אדן", 30);
-    freq.put("תמו", 41);
-    freq.put("אדם", 13);
-    freq.put("תמי", 11);
-    freq.put("אדז", 31);
-    freq.put("סבר", 32);
-    freq.put("ַשי", 16);
-    freq.put("אדו", 135);
-    freq.put("קוס", 10);
-    freq.put("פלא", 354);
-    freq.put("קוק", 34);
-    freq.put(" קד", 46);
-    freq.put("פלו", 54);
-    freq.put("קופ", 49);
-    freq.put("קות", 14);
-    freq.put("פלי", 196);
-    freq.put("קור", 120);
-    freq.put(" קט", 16);
-    freq.put(" קי", 557);
-    freq.put("רמל", 22);
-    freq.put("לון", 23);
-    freq.put("וח ", 44);
-    freq.put("הר ", 98);
-    freq.put("ַץ ", 10);
-    freq.put(" קײ", 9);
-    freq.put("אק ", 114);
-    freq.put("יץ ", 224);
-    freq.put("דוס", 39);
-    freq.put("לטו", 64);
-    freq.put("קוד", 51);
-    freq.put("קוג", 18);
-    freq.put("קוב", 27);
-    freq.put(" קע", 848);
-    freq.put("קוו", 279);
-    freq.put("ױם ", 13);
-    freq.put("קוי", 79);
-    freq.put("קוט", 26);
-    freq.put("יקן", 82);
-    freq.put("קומ", 318);
-    freq.put("קום", 15);
-    freq.put("קול", 149);
-    freq.put("דעט", 218);
-    freq.put("ימב", 101);
-    freq.put("עכץ", 9);
-    freq.put("עכצ", 14);
-    freq.put("עכק", 13);
-    freq.put("עכנ", 157);
-    freq.put("עכס", 30);
-    freq.put("עכע", 333);
-    freq.put("רדו", 16);
-    freq.put("רדכ", 39);
-    freq.put("ירמ", 75);
-    freq.put("רדי", 227);
-    freq.put("רדן", 23);
-    freq.put("רדע", 66);
-    freq.put("עכו", 10);
-    freq.put("עכא", 44);
-    freq.put("עכל", 11);
-    freq.put("רדר", 11);
-    freq.put("עכן", 27);
-    freq.put("עכט", 138);
-    freq.put("עכי", 32);
-    freq.put("נפ ", 12);
-    freq.put("װ", 841);
-    freq.put("לאך", 47);
-    freq.put("יַ", 73);
-    freq.put("ײן ", 25);
-    freq.put(" ם ", 36);
-    freq.put("ירב", 10);
-    freq.put("ןר ", 9);
-    freq.put("דנע", 22);
-    freq.put("ענב", 26);
-    freq.put("ענא", 87);
-    freq.put("ענד", 962);
-    freq.put("ענג", 529);
-    freq.put("ענו", 248);
-    freq.put("ענה", 28);
-    freq.put("דעמ", 93);
-    freq.put("ענז", 37);
-    freq.put("עני", 638);
-    freq.put("ענט", 1518);
-    freq.put(" דא", 1533);
-    freq.put(" דב", 38);
-    freq.put(" דז", 146);
-    freq.put("ענל", 112);
-    freq.put("ענן", 10);
-    freq.put(" דו", 889);
-    freq.put("וצט", 104);
-    freq.put("וצי", 123);
-    freq.put("־ד", 12);
-    freq.put("יי ", 1464);
-    freq.put("וצן", 24);
-    freq.put("וצא", 16);
-    freq.put("ינד", 762);
-    freq.put("М", 10);
-    freq.put("זאצ", 135);
-    freq.put(" פּ", 295);
-    freq.put(" דײ", 36);
-    freq.put("כדי", 58);
-    freq.put("וצע", 24);
-    freq.put("וץ ", 49);
-    freq.put("וקע", 52);
-    freq.put("ענס", 145);
-    freq.put("פלע", 112);
-    freq.put(" דר", 722);
-    freq.put("ענע", 1366);
-    freq.put("ענץ", 57);
-    freq.put("ענפ", 27);
-    freq.put("ענק", 98);
-    freq.put("ענצ", 33);
-    freq.put("ענש", 40);
-    freq.put("ענר", 10);
-    freq.put(" דנ", 9);
-    freq.put("טער", 3653);
-    freq.put(" ה ", 981);
-    freq.put("דונ", 83);
-    freq.put("חדר", 9);
-    freq.put("גען", 336);
-    freq.put("תר ", 83);
-    freq.put("רכ", 268);
-    freq.put("ַל ", 82);
-    freq.put("סאנ", 69);
-    freq.put("זיש", 148);
-    freq.put("חזן", 22);
-    freq.put("מד ", 17);
-    freq.put("טט", 10);
-    freq.put("טי", 3658);
-    freq.put("טמ", 199);
-    freq.put("טן", 3184);
-    freq.put("טל", 901);
-    freq.put("ישל", 22);
-    freq.put("טג", 80);
-    freq.put("רמ", 712);
-    freq.put("טא", 4568);
-    freq.put("טב", 99);
-    freq.put("ם", 7805);
-    freq.put("טח", 124);
-    freq.put("טה", 140);
-    freq.put("טו", 1452);
-    freq.put("גאס", 125);
-    freq.put("טר", 1518);
-    freq.put("טש", 1650);
-    freq.put("לשא", 54);
-    freq.put("גער", 956);
-    freq.put("טע", 7678);
-    freq.put("סאס", 24);
-    freq.put("טנ", 126);
-    freq.put("טס", 220);
-    freq.put("טצ", 16);
-    freq.put("טק", 72);
-    freq.put("טפ", 67);
-    freq.put("ולח", 10);
-    freq.put("זי ", 409);
-    freq.put("ירו", 481);
-    freq.put("יהר", 16);
-    freq.put("טײ", 85);
-    freq.put("ַנט", 111);
-    freq.put("טװ", 18);
-    freq.put("טױ", 10);
-    freq.put("גבי", 10);
-    freq.put("באר", 359);
-    freq.put("באש", 276);
-    freq.put("דיע", 181);
-    freq.put("באנ", 232);
-    freq.put("באס", 25);
-    freq.put("באצ", 74);
-    freq.put("באק", 444);
-    freq.put("בֿ", 57);
-    freq.put("ב־", 10);
-    freq.put("אצא", 13);
-    freq.put("דינ", 464);
-    freq.put("נם ", 15);
-    freq.put("ואש", 9);
-    freq.put("גאר", 634);
-    freq.put("אצי", 703);
-    freq.put("אצט", 23);
-    freq.put("רו", 4199);
-    freq.put("יצט", 179);
-    freq.put("יצי", 376);
-    freq.put("וטר", 16);
-    freq.put("וטש", 16);
-    freq.put("יכי", 123);
-    freq.put("אצע", 85);
-    freq.put("אצק", 12);
-    freq.put("דט ", 116);
-    freq.put("וטן", 10);
-    freq.put("טיס", 60);
-    freq.put("דיפ", 26);
-    freq.put("קװע", 11);
-    freq.put("וטי", 41);
-    freq.put("שנ ", 40);
-    freq.put("באי", 25);
-    freq.put("באמ", 29);
-    freq.put("באן", 97);
-    freq.put("באל", 223);
-    freq.put("באם", 21);
-    freq.put("אכו", 12);
-    freq.put("באד", 158);
-    freq.put("באא", 12);
-    freq.put("באב", 32);
-    freq.put("באז", 114);
-    freq.put("דיש", 851);
-    freq.put("באה", 96);
-    freq.put("תתי", 14);
-    freq.put("בױ", 57);
-    freq.put("בײ", 49);
-    freq.put("ч", 24);
-    freq.put("טיע", 112);
-    freq.put("בס", 111);
-    freq.put("בנ", 370);
-    freq.put("באָ", 69);
-    freq.put("בע", 2935);
-    freq.put("גבע", 17);
-    freq.put("בפ", 22);
-    freq.put("בק", 35);
-    freq.put("ָװע", 12);
-    freq.put("בש", 99);
-    freq.put("בר", 1502);
-    freq.put("בת", 197);
-    freq.put("טשק", 15);
-    freq.put("באַ", 295);
-    freq.put("בב", 43);
-    freq.put("בא", 3260);
-    freq.put("בד", 78);
-    freq.put("בו", 1517);
-    freq.put("בה", 254);
-    freq.put("בח", 44);
-    freq.put("בז", 30);
-    freq.put("בי", 3353);
-    freq.put("בט", 271);
-    freq.put("בכ", 20);
-    freq.put("בל", 968);
-    freq.put("בן", 1706);
-    freq.put("במ", 45);
-    freq.put("װוּ", 17);
-    freq.put("ִדן", 9);
-    freq.put("ײ", 862);
-    freq.put("לבנ", 85);
-    freq.put("ַנץ", 19);
-    freq.put("אשל", 12);
-    freq.put("טנע", 12);
-    freq.put("אכנ", 16);
-    freq.put("ַנצ", 58);
-    freq.put("וור", 22);
-    freq.put("סאך", 124);
-    freq.put(" בא", 2681);
-    freq.put("סאט", 157);
-    freq.put("עזא", 70);
-    freq.put("סאמ", 19);
-    freq.put("סאן", 48);
-    freq.put("עזו", 52);
-    freq.put(" ז ", 205);
-    freq.put("סאד", 33);
-    freq.put("עזי", 237);
-    freq.put("סאב", 18);
-    freq.put("עזן", 54);
-    freq.put("אהע", 16);
-    freq.put("סאה", 11);
-    freq.put("סאו", 66);
-    freq.put("יװע", 9);
-    freq.put("ררע", 20);
-    freq.put("לאם", 15);
-    freq.put("פּ ", 33);
-    freq.put("לאכ", 27);
-    freq.put("ַנע", 76);
-    freq.put("ַרײ", 9);
-    freq.put("ומש", 31);
-    freq.put("כטל", 9);
-    freq.put("לאו", 135);
-    freq.put("הדו", 11);
-    freq.put("לאד", 48);
-    freq.put("ווק", 22);
-    freq.put("לאב", 39);
-    freq.put("ָגר", 24);
-    freq.put("דוד", 101);
-    freq.put("קצי", 119);
-    freq.put("ירץ", 9);
-    freq.put("הדר", 22);
-    freq.put("כ ", 263);
-    freq.put("לאק", 58);
-    freq.put("ווס", 41);
-    freq.put("לאץ", 57);
-    freq.put("כטן", 58);
-    freq.put("לאס", 175);
-    freq.put("אשו", 64);
-    freq.put("על", 3595);
-    freq.put("ְ", 36);
-    freq.put("סאר", 152);
-    freq.put("в", 43);
-    freq.put("כפר", 15);
-    freq.put("ַרב", 45);
-    freq.put("אהי", 24);
-    freq.put("כן ", 442);
-    freq.put("געס", 32);
-    freq.put("סאף", 28);
-    freq.put("עזש", 47);
-    freq.put("עזר", 71);
-    freq.put("סאצ", 50);
-    freq.put("סאק", 9);
-    freq.put("סאפ", 51);
-    freq.put("אהא", 120);
-    freq.put("רצי", 90);
-    freq.put("אשר", 39);
-    freq.put(" רי", 281);
-    freq.put(" רמ", 27);
-    freq.put("רצן", 27);
-    freq.put("ن", 17);
-    freq.put("נײ", 11);
-    freq.put("רצא", 15);
-    freq.put(" רב", 962);
-    freq.put(" רא", 709);
-    freq.put(" רח", 37);
-    freq.put("וון", 75);
-    freq.put(" רו", 594);
-    freq.put("אז ", 347);
-    freq.put("ָװי", 20);
-    freq.put("אעז", 10);
-    freq.put("רת ", 87);
-    freq.put("ָסק", 11);
-    freq.put("ַקס", 30);
-    freq.put(" בן", 103);
-    freq.put("קנ ", 27);
-    freq.put("ירת", 9);
-    freq.put("דוב", 27);
-    freq.put("מט ", 322);
-    freq.put("יקס", 83);
-    freq.put("סאָ", 82);
-    freq.put("ּסט", 12);
-    freq.put(" רײ", 10);
-    freq.put("ַקע", 11);
-    freq.put("סאַ", 92);
-    freq.put("ווו", 93);
-    freq.put(" רש", 23);
-    freq.put("אכפ", 9);
-    freq.put("עה ", 60);
-    freq.put("ווה", 22);
-    freq.put("לאַ", 306);
-    freq.put("קהי", 56);
-    freq.put("רצע", 72);
-    freq.put("קהל", 30);
-    freq.put("בוכ", 16);
-    freq.put(" רפ", 12);
-    freq.put("למה", 84);
-    freq.put("הן ", 120);
-    freq.put("כצי", 12);
-    freq.put("ווא", 5520);
-    freq.put("עטש", 38);
-    freq.put("עטר", 125);
-    freq.put("רהו", 85);
-    freq.put("ווד", 10);
-    freq.put("רהא", 52);
-    freq.put("עטס", 27);
-    freq.put("עטנ", 36);
-    freq.put("רהם", 82);
-    freq.put("עטע", 322);
-    freq.put("צאָ", 9);
-    freq.put("רהי", 61);
-    freq.put("זול", 18);
-    freq.put("עטי", 187);
-    freq.put("עטל", 242);
-    freq.put("עטן", 142);
-    freq.put("דיג", 334);
-    freq.put("עטא", 189);
-    freq.put("עטו", 30);
-    freq.put("ر", 19);
-    freq.put("ָסא", 17);
-    freq.put("גוי", 39);
-    freq.put("אהו", 11);
-    freq.put("ּרע", 19);
-    freq.put("ורי", 189);
-    freq.put("תח", 22);
-    freq.put("ּחה", 17);
-    freq.put("גון", 9);
-    freq.put("צאנ", 25);
-    freq.put("ורק", 16);
-    freq.put("דל ", 104);
-    freq.put("געל", 214);
-    freq.put("שעט", 23);
-    freq.put("שעי", 17);
-    freq.put("שעכ", 43);
-    freq.put("שעל", 31);
-    freq.put("שעמ", 10);
-    freq.put("שען", 65);
-    freq.put("וז ", 81);
-    freq.put("טרע", 148);
-    freq.put("שעד", 21);
-    freq.put("שעה", 16);
-    freq.put("ל", 26562);
-    freq.put("ינע", 1973);
-    freq.put("שער", 1139);
-    freq.put("שעת", 23);
-    freq.put("גוב", 36);
-    freq.put("מס ", 37);
-    freq.put("שענ", 89);
-    freq.put("שעס", 31);
-    freq.put("שעע", 20);
-    freq.put("שעף", 17);
-    freq.put("שעפ", 80);
-    freq.put("געכ", 12);
-    freq.put("יפ ", 61);
-    freq.put("שעק", 21);
-    freq.put("לאש", 13);
-    freq.put("צאג", 9);
-    freq.put("צאל", 114);
-    freq.put("צאמ", 21);
-    freq.put("נגו", 34);
-    freq.put("נגה", 17);
-    freq.put("נגא", 178);
-    freq.put("רכע", 19);
-    freq.put("נגל", 352);
-    freq.put("נגן", 41);
-    freq.put("זאַ", 93);
-    freq.put("נגי", 61);
-    freq.put("נגט", 98);
-    freq.put("לאר", 108);
-    freq.put("פֿר", 123);
-    freq.put("פֿע", 90);
-    freq.put("פֿנ", 9);
-    freq.put("ורש", 20);
-    freq.put("זר ", 59);
-    freq.put("ז ", 9622);
-    freq.put("פֿט", 104);
-    freq.put("פֿי", 169);
-    freq.put("קדו", 30);
-    freq.put("פֿן", 41);
-    freq.put("פֿל", 52);
-    freq.put("פֿג", 12);
-    freq.put("געי", 13);
-    freq.put("פֿא", 327);
-    freq.put("דס ", 42);
-    freq.put("נץ ", 245);
-    freq.put("וחו", 12);
-    freq.put("פֿו", 430);
-    freq.put("ומר", 33);
-    freq.put("רכי", 62);
-    freq.put("ן־מ", 59);
-    freq.put("רכן", 35);
-    freq.put("נגע", 930);
-    freq.put("ֹ", 23);
-    freq.put("и", 85);
-    freq.put("רכא", 32);
-    freq.put("נגר", 41);
-    freq.put("רכה", 13);
-    freq.put("רכו", 13);
-    freq.put("יכק", 36);
-    freq.put("ֿעל", 25);
-    freq.put("כל ", 63);
-    freq.put("ת ", 2288);
-    freq.put("געט", 195);
-    freq.put("וף ", 405);
-    freq.put("הכה", 18);
-    freq.put("־ר", 15);
-    freq.put("־ש", 15);
-    freq.put("מכו", 17);
-    freq.put("באט", 73);
-    freq.put("־נ", 23);
-    freq.put("מכי", 10);
-    freq.put("יט ", 2583);
-    freq.put("רל ", 62);
-    freq.put("־פ", 41);
-    freq.put("כטע", 206);
-    freq.put("־צ", 14);
-    freq.put("־ק", 27);
-    freq.put("־ט", 19);
-    freq.put("־י", 345);
-    freq.put("ּלי", 9);
-    freq.put("־ל", 18);
-    freq.put("־מ", 142);
-    freq.put("־א", 82);
-    freq.put("־ב", 15);
-    freq.put("־ג", 22);
-    freq.put("ּלא", 19);
-    freq.put("־ה", 11);
-    freq.put("־ז", 9);
-    freq.put("טגע", 15);
-    freq.put("כום", 13);
-    freq.put(" בד", 27);
-    freq.put("סן", 466);
-    freq.put("ֿער", 31);
-    freq.put(" נת", 36);
-    freq.put("זאג", 109);
-    freq.put("אכט", 337);
-    freq.put(" ו ", 165);
-    freq.put(" נש", 33);
-    freq.put("ֿענ", 9);
-    freq.put("ַיִ", 9);
-    freq.put("בד ", 11);
-    freq.put("ָן ", 84);
-    freq.put("יזו", 31);
-    freq.put("לאפ", 53);
-    freq.put("שײ", 20);
-    freq.put("ַן ", 313);
-    freq.put("צוצ", 14);
-    freq.put("צוק", 47);
-    freq.put("צופ", 33);
-    freq.put("שת", 29);
-    freq.put("כאו", 30);
-    freq.put("צונ", 83);
-    freq.put("בטי", 14);
-    freq.put("ֿאל", 14);
-    freq.put("שנ", 321);
-    freq.put("כדע", 24);
-    freq.put("שע", 3022);
-    freq.put("צות", 26);
-    freq.put("שפ", 877);
-    freq.put("צור", 88);
-    freq.put("צוש", 39);
-    freq.put("צוז", 162);
-    freq.put("שט", 3944);
-    freq.put("צוה", 25);
-    freq.put("צוו", 893);
-    freq.put("צוג", 78);
-    freq.put("של", 909);
-    freq.put("שן", 1351);
-    freq.put("צוב", 18);
-    freq.put("צומ", 20);
-    freq.put("שא", 1046);
-    freq.put("צול", 75);
-    freq.put("צום", 504);
-    freq.put("ֿאר", 43);
-    freq.put("שה", 229);
-    freq.put("צוט", 42);
-    freq.put("צוי", 93);
-    freq.put("חב ", 16);
-    freq.put("מה ", 278);
-    freq.put("אדמ", 50);
-    freq.put("שׂ", 13);
-    freq.put("вич", 17);
-    freq.put("לקי", 26);
-    freq.put("מות", 49);
-    freq.put("אדל", 13);
-    freq.put("מור", 43);
-    freq.put("ש־", 20);
-    freq.put("מוצ", 14);
-    freq.put("לקא", 54);
-    freq.put("מוע", 49);
-    freq.put("מונ", 140);
-    freq.put("מוס", 100);
-    freq.put("יאצ", 10);
-    freq.put("טנס", 28);
-    freq.put("יִד", 76);
-    freq.put("אדא", 92);
-    freq.put("ַו", 84);
-    freq.put("טני", 17);
-    freq.put("טנט", 10);
-    freq.put("ַיא", 12);
-    freq.put("טנב", 10);
-    freq.put("טנא", 21);
-    freq.put("װײַ", 27);
-    freq.put("שחר", 10);
-    freq.put("מומ", 12);
-    freq.put("מון", 15);
-    freq.put("מול", 31);
-    freq.put("ֿאַ", 190);
-    freq.put("מוכ", 10);
-    freq.put("מוט", 27);
-    freq.put("מוי", 30);
-    freq.put("מוז", 191);
-    freq.put("מוח", 30);
-    freq.put("זלע", 41);
-    freq.put("ֿאָ", 53);
-    freq.put("מוד", 50);
-    freq.put("מוא", 48);
-    freq.put("פשי", 15);
-    freq.put("כד", 91);
-    freq.put("כג", 38);
-    freq.put("כב", 32);
-    freq.put("כא", 234);
-    freq.put("כח", 14);
-    freq.put("כז", 10);
-    freq.put(" חנ", 29);
-    freq.put(" ף", 11);
-    freq.put("ועל", 880);
-    freq.put("ועי", 16);
-    freq.put("כי", 453);
-    freq.put("כט", 947);
-    freq.put(" חת", 52);
-    freq.put(" קה", 75);
-    freq.put(" חר", 100);
-    freq.put(" חש", 101);
-    freq.put("אכי", 22);
-    freq.put("בתי", 14);
-    freq.put("קונ", 109);
-    freq.put("גנ", 326);
-    freq.put("גס", 163);
-    freq.put("גע", 8933);
-    freq.put("פשו", 24);
-    freq.put("ימפ", 130);
-    freq.put("למי", 104);
-    freq.put("יַט", 14);
-    freq.put("גר", 2494);
-    freq.put("גש", 11);
-    freq.put("גת", 10);
-    freq.put(" ק", 5654);
-    freq.put("גה", 37);
-    freq.put("גו", 581);
-    freq.put("גז", 20);
-    freq.put("בנס", 22);
-    freq.put("גא", 1810);
-    freq.put(" פ", 16124);
-    freq.put("גג", 10);
-    freq.put("גד", 90);
-    freq.put("גל", 893);
-    freq.put("ימו", 36);
-    freq.put("גמ", 52);
-    freq.put(" קב", 24);
-    freq.put("גט", 591);
-    freq.put("גי", 1049);
-    freq.put("רח ", 323);
-    freq.put(" חז", 74);
-    freq.put("כע", 1352);
-    freq.put("כס", 128);
-    freq.put(" חו", 216);
-    freq.put("כק", 56);
-    freq.put(" חד", 39);
-    freq.put("η", 12);
-    freq.put(" חב", 70);
-    freq.put(" חמ", 25);
-    freq.put("כת", 212);
-    freq.put(" חל", 78);
-    freq.put("כר", 153);
-    freq.put("ײַל", 19);
-    freq.put(" חכ", 55);
-    freq.put("כמא", 17);
-    freq.put(" חי", 294);
-    freq.put("רי ", 312);
-    freq.put("ליס", 168);
-    freq.put("נקו", 29);
-    freq.put("ואָ", 81);
-    freq.put("נקא", 42);
-    freq.put("נקב", 10);
-    freq.put("נקמ", 10);
-    freq.put("נקן", 11);
-    freq.put("נקל", 39);
-    freq.put("ירס", 9);
-    freq.put("ירצ", 14);
-    freq.put("ירק", 40);
-    freq.put("נקט", 73);
-    freq.put("נקי", 61);
-    freq.put("בײַ", 37);
-    freq.put("והא", 10);
-    freq.put("ואַ", 121);
-    freq.put("והי", 10);
-    freq.put("ערד", 222);
-    freq.put("לא ", 69);
-    freq.put("והע", 10);
-    freq.put("ף", 2005);
-    freq.put("ערו", 524);
-    freq.put("והר", 18);
-    freq.put("כּ", 52);
-    freq.put("נקצ", 22);
-    freq.put("ירכ", 9);
-    freq.put("נקפ", 10);
-    freq.put("נא ", 114);
-    freq.put("נקע", 100);
-    freq.put("ירן", 577);
-    freq.put("ירל", 58);
-    freq.put("נקס", 14);
-    freq.put("ירג", 62);
-    freq.put("ירד", 21);
-    freq.put("ירא", 336);
-    freq.put("טיי", 1098);
-    freq.put("נסת", 41);
-    freq.put("נקר", 81);
-    freq.put("פט ", 756);
-    freq.put("װיט", 12);
-    freq.put("װיכ", 9);
-    freq.put("לים", 236);
-    freq.put("הקד", 18);
-    freq.put("ואר", 1137);
-    freq.put("יפק", 11);
-    freq.put("יאר", 1820);
-    freq.put("װיז", 9);
-    freq.put("ָרד", 13);
-    freq.put("ָרג", 25);
-    freq.put("ָרב", 23);
-    freq.put("תשו", 36);
-    freq.put("בנה", 29);
-    freq.put("ָרה", 9);
-    freq.put("תשמ", 23);
-    freq.put("תשל", 30);
-    freq.put("ָרט", 73);
-    freq.put("ָרן", 47);
-    freq.put("תשכ", 34);
-    freq.put("תשט", 11);
-    freq.put("תשי", 30);
-    freq.put("ָרף", 9);
-    freq.put("ָרע", 26);
-    freq.put("כו ", 9);
-    freq.put("תשע", 18);
-    freq.put("תשנ", 35);
-    freq.put("תשס", 40);
-    freq.put("בהמ", 27);
-    freq.put("יל ", 826);
-    freq.put("תשר", 66);
-    freq.put("אלף", 28);
-    freq.put("װיש", 19);
-    freq.put("לד ", 177);
-    freq.put("й", 29);
-    freq.put("ָ", 2499);
-    freq.put("װיק", 16);
-    freq.put("היר", 28);
-    freq.put("היפ", 17);
-    freq.put("היץ", 15);
-    freq.put("מז ", 11);
-    freq.put("מע ", 198);
-    freq.put("קח", 9);
-    freq.put("ό", 12);
-    freq.put("הט ", 10);
-    freq.put("קעז", 14);
-    freq.put("קעו", 9);
-    freq.put("קעג", 133);
-    freq.put("קעד", 12);
-    freq.put("קעא", 79);
-    freq.put("קעמ", 50);
-    freq.put("קען", 286);
-    freq.put("קעל", 53);
-    freq.put("גל ", 111);
-    freq.put("קעט", 40);
-    freq.put("קעי", 11);
-    freq.put("קעפ", 9);
-    freq.put("וסע", 22);
-    freq.put("ילב", 22);
-    freq.put("קענ", 343);
-    freq.put("קעס", 68);
-    freq.put("יזר", 16);
-    freq.put("כתו", 34);
-    freq.put("ואל", 386);
-    freq.put("קער", 794);
-    freq.put("וספ", 17);
-    freq.put("היל", 99);
-    freq.put("הימ", 32);
-    freq.put("הין", 12);
-    freq.put("היט", 47);
-    freq.put("היי", 768);
-    freq.put("ואך", 71);
-    freq.put("היז", 10);
-    freq.put("מת ", 63);
-    freq.put("היג", 17);
-    freq.put("ואכ", 34);
-    freq.put("ר־", 378);
-    freq.put("אנץ", 97);
-    freq.put("טגל", 57);
-    freq.put("חכמ", 34);
-    freq.put("לוו", 55);
-    freq.put("אנפ", 67);
-    freq.put("דעא", 22);
-    freq.put("טעמ", 277);
-    freq.put("בו ", 10);
-    freq.put("טר ", 34);
-    freq.put("מטב", 9);
-    freq.put("הרצ", 14);
-    freq.put("מטן", 11);
-    freq.put("ואה", 37);
-    freq.put("б", 10);
-    freq.put("שפּ", 111);
-    freq.put("בוא", 17);
-    freq.put("ַק ", 19);
-    freq.put("מטע", 42);
-    freq.put("אש ", 126);
-    freq.put("דעו", 34);
-    freq.put("לפט", 31);
-    freq.put("ואד", 125);
-    freq.put("עאג", 16);
-    freq.put("ןר", 9);
-    freq.put("טהי", 12);
-    freq.put("למש", 83);
-    freq.put("ואב", 12);
-    freq.put("ָ ", 117);
-    freq.put("בטע", 10);
-    freq.put("דעי", 27);
-    freq.put(" קנ", 48);
-    freq.put("שפט", 13);
-    freq.put("שפי", 248);
-    freq.put("רײ", 125);
-    freq.put("שפח", 55);
-    freq.put("רװ", 15);
-    freq.put("רױ", 50);
-    freq.put("שפא", 89);
-    freq.put("דען", 42);
-    freq.put("רת", 101);
-    freq.put(" ך", 36);
-    freq.put("רר", 41);
-    freq.put("רש", 1274);
-    freq.put("דעל", 84);
-    freq.put("חשב", 18);
-    freq.put(" כ", 1145);
-    freq.put("רע", 4503);
-    freq.put("רף", 119);
-    freq.put("רנ", 692);
-    freq.put("רס", 664);
-    freq.put("רצ", 371);
-    freq.put("רק", 804);
-    freq.put("רפ", 500);
-    freq.put("רץ", 349);
-    freq.put("רך", 709);
-    freq.put("ן־", 104);
-    freq.put("רט", 3049);
-    freq.put("רי", 6626);
-    freq.put("ץ", 1233);
-    freq.put("רן", 2151);
-    freq.put("רל", 450);
-    freq.put("רם", 52);
-    freq.put("רג", 1072);
-    freq.put("רד", 754);
-    freq.put("רא", 5692);
-    freq.put("רב", 2143);
-    freq.put("רז", 146);
-    freq.put("רח", 404);
-    freq.put("רה", 692);
-    freq.put(" ן", 105);
-    freq.put("אנכ", 13);
-    freq.put(" ל", 3414);
-    freq.put("שפר", 276);
-    freq.put(" ם", 37);
-    freq.put("שפע", 67);
-    freq.put("ואפ", 12);
-    freq.put("ָבן", 31);
-    freq.put("סנ", 215);
-    freq.put("סף", 93);
-    freq.put("סע", 1319);
-    freq.put("ספ", 692);
-    freq.put("סק", 463);
-    freq.put("סצ", 52);
-    freq.put("סש", 40);
-    freq.put("סר", 67);
-    freq.put("ν ", 9);
-    freq.put("סת", 99);
-    freq.put("מנ", 180);
-    freq.put("ועה", 17);
-    freq.put("סײ", 9);
-    freq.put("הרב", 205);
-    freq.put("ַטע", 35);
-    freq.put("הױ", 44);
-    freq.put("ַטש", 68);
-    freq.put("טסק", 9);
-    freq.put("טסט", 38);
-    freq.put("ַטו", 24);
-    freq.put("זש ", 88);
-    freq.put("ַטא", 64);
-    freq.put("ַטל", 12);
-    freq.put("ַטן", 34);
-    freq.put("ועו", 22);
-    freq.put("ַטי", 63);
-    freq.put("סב", 168);
-    freq.put("סא", 1149);
-    freq.put("סד", 217);
-    freq.put("סג", 283);
-    freq.put("סו", 712);
-    freq.put("כה", 156);
-    freq.put("סח", 55);
-    freq.put("סז", 21);
-    freq.put("סי", 1828);
-    freq.put("סט", 4810);
-    freq.put("סכ", 190);
-    freq.put("סך", 29);
-    freq.put("סל", 453);
-    freq.put("פיב", 12);
-    freq.put("סמ", 106);
-    freq.put("וסי", 129);
-    freq.put("וסט", 315);
-    freq.put(" טש", 197);
-    freq.put(" טר", 364);
-    freq.put("בחי", 11);
-    freq.put("וסן", 11);
-    freq.put("ינף", 31);
-    freq.put(" טע", 1112);
-    freq.put("וסד", 20);
-    freq.put("ף ", 1996);
-    freq.put("я", 13);
-    freq.put("ִד", 79);
-    freq.put("הלל", 14);
-    freq.put("ִא", 10);
-    freq.put("בשו", 10);
-    freq.put(" טײ", 44);
-    freq.put("בשא", 14);
-    freq.put("ס־", 16);
-    freq.put("שא ", 18);
-    freq.put("דקע", 12);
-    freq.put("כור", 16);
-    freq.put("ינץ", 68);
-    freq.put("רדא", 51);
-    freq.put("בשע", 24);
-    freq.put("ֿא", 328);
-    freq.put("וסר", 28);
-    freq.put(" טי", 637);
-    freq.put(" טן", 796);
-    freq.put("צרי", 38);
-    freq.put(" טב", 61);
-    freq.put(" טא", 1008);
-    freq.put("ומו", 13);
-    freq.put(" טו", 467);
-    freq.put(" טה", 20);
-    freq.put("גרי", 686);
-    freq.put("נרי", 21);
-    freq.put("דעב", 13);
-    freq.put("דעז", 15);
-    freq.put("חוץ", 24);
-    freq.put("מ ", 492);
-    freq.put("גרא", 311);
-    freq.put("ов", 22);
-    freq.put("נרא", 15);
-    freq.put("גרו", 538);
-    freq.put("אטמ", 131);
-    freq.put("פנש", 25);
-    freq.put("דעם", 1757);
-    freq.put("כאס", 10);
-    freq.put("צה ", 47);
-    freq.put("ודו", 32);
-    freq.put("ודה", 134);
-    freq.put("ודא", 46);
-    freq.put("לומ", 43);
-    freq.put("ומז", 12);
-    freq.put("נן ", 42);
-    freq.put("ײב", 11);
-    freq.put("גרש", 9);
-    freq.put("חק ", 89);
-    freq.put("כאמ", 20);
-    freq.put("ודע", 67);
-    freq.put("ַפט", 12);
-    freq.put("גרױ", 16);
-    freq.put("ך ", 4580);
-    freq.put("ודת", 27);
-    freq.put("ודש", 103);
-    freq.put("ודר", 12);
-    freq.put("פנח", 10);
-    freq.put("דענ", 392);
-    freq.put("דעס", 63);
-    freq.put("דעצ", 132);
-    freq.put("דעק", 81);
-    freq.put("דעפ", 67);
-    freq.put("דעת", 10);
-    freq.put("נרע", 9);
-    freq.put("דער", 7589);
-    freq.put("к", 44);
-    freq.put("לוז", 12);
-    freq.put("פני", 30);
-    freq.put("פנט", 19);
-    freq.put("ילמ", 18);
-    freq.put("ועג", 203);
-    freq.put("המש", 13);
-    freq.put("לקע", 219);
-    freq.put("יפע", 76);
-    freq.put("אָ ", 116);
-    freq.put("הס", 24);
-    freq.put("ַסי", 19);
-    freq.put("ומט", 91);
-    freq.put("הוס", 12);
-    freq.put("ַזא", 14);
-    freq.put("ַסא", 22);
-    freq.put("ועד", 41);
-    freq.put("גרע", 919);
-    freq.put("אף", 85);
-    freq.put("־לי", 9);
-    freq.put("דוו", 72);
-    freq.put("ווצ", 10);
-    freq.put("גמר", 27);
-    freq.put("ומי", 46);
-    freq.put("חי ", 36);
-    freq.put("מכ", 45);
-    freq.put("שטײ", 19);
-    freq.put("רדש", 19);
-    freq.put("מנש", 9);
-    freq.put("רך ", 708);
-    freq.put("דעש", 36);
-    freq.put("אץ", 79);
-    freq.put("קא ", 113);
-    freq.put("ױרן", 35);
-    freq.put("דאר", 778);
-    freq.put("תתק", 9);
-    freq.put("טשי", 138);
-    freq.put("דומ", 9);
-    freq.put("דאנ", 186);
-    freq.put("דאס", 769);
-    freq.put("דאפ", 14);
-    freq.put("דאק", 125);
-    freq.put("דאט", 67);
-    freq.put("דאך", 11);
-    freq.put("דאל", 45);
-    freq.put("דאם", 11);
-    freq.put("דאמ", 41);
-    freq.put("דאן", 146);
-    freq.put("וונ", 41);
-    freq.put("צת ", 9);
-    freq.put("דאו", 60);
-    freq.put("דאז", 13);
-    freq.put("זײ ", 18);
-    freq.put("מני", 25);
-    freq.put("דוי", 21);
-    freq.put("ירה", 42);
-    freq.put("מנו", 17);
-    freq.put("מנה", 49);
-    freq.put("מנח", 56);
-    freq.put("פי ", 42);
-    freq.put("עדל", 23);
-    freq.put("סכת", 158);
-    freq.put("יין", 1411);
-    freq.put("עדן", 136);
-    freq.put("עדט", 87);
-    freq.put("עדי", 248);
-    freq.put("סה ", 20);
-    freq.put("דוצ", 47);
-    freq.put("עדה", 18);
-    freq.put("עדו", 42);
-    freq.put("עדז", 26);
-    freq.put("עדא", 76);
-    freq.put("דאַ", 104);
-    freq.put("איר", 443);
-    freq.put("איש", 72);
-    freq.put("טוה", 12);
-    freq.put("כונ", 28);
-    freq.put("אינ", 1411);
-    freq.put("איס", 78);
-    freq.put("איע", 40);
-    freq.put("אט ", 2331);
-    freq.put("וצו", 11);
-    freq.put("המד", 11);
-    freq.put("איצ", 33);
-    freq.put("איט", 100);
-    freq.put("איי", 1632);
-    freq.put("איך", 13);
-    freq.put("איל", 28);
-    freq.put("פ", 26442);
-    freq.put("אימ", 135);
-    freq.put("אין", 5551);
-    freq.put("איא", 127);
-    freq.put("איב", 454);
-    freq.put("איג", 13);
-    freq.put("איד", 405);
-    freq.put("איה", 41);
-    freq.put("איו", 19);
-    freq.put("איז", 7996);
-    freq.put("עדר", 57);
-    freq.put("ױס ", 13);
-    freq.put("ועט", 135);
-    freq.put("אכ", 807);
-    freq.put("עדפ", 13);
-    freq.put("לל ", 134);
-    freq.put("עדנ", 18);
-    freq.put("לח ", 16);
-    freq.put("עדע", 204);
-    freq.put("עג ", 484);
-    freq.put("לעס", 123);
-    freq.put("מעש", 37);
-    freq.put("מער", 1457);
-    freq.put("מף ", 14);
-    freq.put("לוצ", 43);
-    freq.put("מעס", 98);
-    freq.put("מענ", 989);
-    freq.put("מעק", 38);
-    freq.put("דות", 130);
-    freq.put("דף", 10);
-    freq.put("טיר", 211);
-    freq.put(" די", 6337);
-    freq.put("דמע", 14);
-    freq.put("דוש", 51);
-    freq.put("אפצ", 50);
-    freq.put(" דמ", 11);
-    freq.put("דור", 765);
-    freq.put("בלה", 12);
-    freq.put("ִע ", 13);
-    freq.put("סתם", 36);
-    freq.put("בלו", 129);
-    freq.put("גלי", 476);
-    freq.put("גלט", 9);
-    freq.put("קע ", 600);
-    freq.put("המה", 19);
-    freq.put("גלו", 46);
-    freq.put("חא ", 11);
-    freq.put("גלח", 9);
-    freq.put("כם ", 37);
-    freq.put("גלא", 133);
-    freq.put("האו", 25);
-    freq.put("דמי", 35);
-    freq.put("מעכ", 30);
-    freq.put("מעי", 23);
-    freq.put("מעט", 316);
-    freq.put("מען", 1776);
-    freq.put("מעמ", 10);
-    freq.put("מעל", 85);
-    freq.put("מעד", 97);
-    freq.put("מעג", 57);
-    freq.put("אפנ", 29);
-    freq.put("מעז", 24);
-    freq.put("מעו", 45);
-    freq.put("ײס", 21);
-    freq.put("לדז", 12);
-    freq.put("סונ", 13);
-    freq.put("סוף", 370);
-    freq.put("לדו", 36);
-    freq.put("עון", 41);
-    freq.put("עול", 41);
-    freq.put("אפמ", 25);
-    freq.put("עוד", 24);
-    freq.put("טוא", 24);
-    freq.put("עוב", 10);
-    freq.put("רדז", 12);
-    freq.put("עוו", 2819);
-    freq.put("ועכ", 15);
-    freq.put("בלי", 549);
-    freq.put("אפל", 62);
-    freq.put("כאנ", 34);
-    freq.put("ָמע", 69);
-    freq.put("בה ", 217);
-    freq.put("דלו", 17);
-    freq.put("אחר", 17);
-    freq.put("ס", 21988);
-    freq.put("אחו", 16);
-    freq.put("אפי", 269);
-    freq.put("תש ", 79);
-    freq.put("דלא", 18);
-    freq.put("יגק", 24);
-    freq.put("אפט", 545);
-    freq.put("את ", 39);
-    freq.put("אחי", 9);
-    freq.put("סוב", 36);
-    freq.put("סוא", 27);
-    freq.put("סוד", 43);
-    freq.put("סוו", 34);
-    freq.put("װי ", 50);
-    freq.put("עונ", 12);
-    freq.put("כאר", 23);
-    freq.put("סול", 14);
-    freq.put("פטן", 84);
-    freq.put("פטמ", 19);
-    freq.put("נאב", 42);
-    freq.put("פטל", 52);
-    freq.put("ריפ", 100);
-    freq.put("נאז", 29);
-    freq.put("נאו", 230);
-    freq.put("נאה", 11);
-    freq.put("נאכ", 170);
-    freq.put("נאך", 666);
-    freq.put("פטו", 23);
-    freq.put("נאט", 194);
-    freq.put("נאמ", 434);
-    freq.put("נאם", 37);
-    freq.put("פטא", 30);
-    freq.put(" הי", 902);
-    freq.put("אפא", 163);
-    freq.put("זאר", 19);
-    freq.put("ל־א", 14);
-    freq.put(" קל", 383);
-    freq.put("ינו", 273);
-    freq.put("וה ", 49);
-    freq.put("טוד", 91);
-    freq.put("נל", 200);
-    freq.put("השר", 9);
-    freq.put("ו ", 2726);
-    freq.put("ריא", 486);
-    freq.put("נאע", 11);
-    freq.put("נאס", 97);
-    freq.put("נאנ", 106);
-    freq.put("ריה", 44);
-    freq.put("נאצ", 133);
-    freq.put("פטש", 137);
-    freq.put("פטר", 41);
-    freq.put("פטק", 21);
-    freq.put("ריי", 1325);
-    freq.put("ריך", 20);
-    freq.put("κ", 16);
-    freq.put("ריל", 143);
-    freq.put("פטע", 175);
-    freq.put("רימ", 94);
-    freq.put("רין", 126);
-    freq.put("ײַ ", 45);
-    freq.put("וצר", 27);
-    freq.put("טול", 16);
-    freq.put(" ח ", 156);
-    freq.put("װעג", 14);
-    freq.put("אונ", 560);
-    freq.put("װען", 43);
-    freq.put("חמי", 16);
-    freq.put("חמן", 30);
-    freq.put("רחמ", 11);
-    freq.put("ар", 13);
-    freq.put("ידר", 23);
-    freq.put("ג ", 3689);
-    freq.put("טאמ", 197);
-    freq.put("יטה", 25);
-    freq.put("רחי", 14);
-    freq.put("טאד", 55);
-    freq.put("אױפ", 12);
-    freq.put("טאב", 164);
-    freq.put("רחו", 15);
-    freq.put("טאו", 31);
-    freq.put("טום", 44);
-    freq.put("הור", 44);
-    freq.put("טאש", 11);
-    freq.put("טאר", 583);
-    freq.put("נאַ", 186);
-    freq.put("רחש", 10);
-    freq.put("בת ", 157);
-    freq.put("טאס", 23);
-    freq.put("נאָ", 162);
-    freq.put("טאק", 94);
-    freq.put("רשע", 81);
-    freq.put("טאפ", 50);
-    freq.put(" הז", 14);
-    freq.put(" עז", 26);
-    freq.put("וע ", 92);
-    freq.put("בֿי", 13);
-    freq.put("אלד", 168);
-    freq.put("ױף ", 48);
-    freq.put("װער", 80);
-    freq.put("חמו", 11);
-    freq.put("לדא", 30);
-    freq.put("אלב", 139);
-    freq.put("ורך", 584);
-    freq.put("שקא", 9);
-    freq.put("האג", 18);
-    freq.put("צחק", 87);
-    freq.put("שקי", 50);
-    freq.put(" עם", 11);
-    freq.put("וײַ", 10);
-    freq.put("ראַ", 435);
-    freq.put("אלמ", 20);
-    freq.put("כעמ", 163);
-    freq.put("נמע", 10);
-    freq.put("טון", 31);
-    freq.put(" ען", 18);
-    freq.put("כען", 16);
-    freq.put("נמי", 18);
-    freq.put("סתר", 15);
-    freq.put(" עמ", 73);
-    freq.put("בלא", 102);
-    freq.put("לעא", 34);
-    freq.put("נמא", 26);
-    freq.put("טיז", 30);
-    freq.put(" עכ", 9);
-    freq.put("ט־", 43);
-    freq.put("טאל", 329);
-    freq.put("זלמ", 21);
-    freq.put("לאט", 141);
-    freq.put("רשא", 61);
-    freq.put("עס ", 1517);
-    freq.put(" עפ", 106);
-    freq.put("й ", 16);
-    freq.put("געד", 168);
-    freq.put("אלץ", 77);
-    freq.put("זמי", 9);
-    freq.put(" דע", 7231);
-    freq.put("אפר", 216);
-    freq.put("אלפ", 59);
-    freq.put("גוג", 26);
-    freq.put("צו ", 1516);
-    freq.put("טשל", 170);
-    freq.put("ש ", 2473);
-    freq.put("ָלע", 17);
-    freq.put("אלע", 1229);
-    freq.put("ַרו", 43);
-    freq.put("האן", 19);
-    freq.put("הומ", 16);
-    freq.put("ליי", 966);
-    freq.put("לעל", 11);
-    freq.put("מחה", 14);
-    freq.put("מחו", 10);
-    freq.put("מחב", 72);
-    freq.put("רשי", 221);
-    freq.put("מחל", 13);
-    freq.put("כיק", 12);
-    freq.put("רײַ", 91);
-    freq.put("לזא", 15);
-    freq.put("זוע", 12);
-    freq.put(" ומ", 14);
-    freq.put("גנק", 9);
-    freq.put(" וי", 29);
-    freq.put("ופה", 39);
-    freq.put(" וכ", 12);
-    freq.put(" וה", 12);
-    freq.put(" וו", 7989);
-    freq.put("ופט", 107);
-    freq.put("ופי", 28);
-    freq.put(" וא", 13);
-    freq.put("ופן", 182);
-    freq.put(" ער", 1900);
-    freq.put("יטר", 41);
-    freq.put("יטש", 470);
-    freq.put("הת", 74);
-    freq.put("אלש", 13);
-    freq.put("הר", 513);
-    freq.put("שבת", 67);
-    freq.put("הצ", 22);
-    freq.put("הק", 43);
-    freq.put("הפ", 17);
-    freq.put("רשן", 24);
-    freq.put("הע", 704);
-    freq.put("וּס", 13);
-    freq.put("הנ", 60);
-    freq.put("שי ", 139);
-    freq.put("С", 10);
-    freq.put("הן", 121);
-    freq.put("הל", 191);
-    freq.put("הם", 111);
-    freq.put("שבי", 20);
-    freq.put("שבט", 71);
-    freq.put("הט", 20);
-    freq.put("הי", 1261);
-    freq.put("שבו", 43);
-    freq.put(" תק", 225);
-    freq.put("הה", 11);
-    freq.put("הו", 1022);
-    freq.put("הג", 87);
-    freq.put("הד", 56);
-    freq.put("הא", 2882);
-    freq.put("הב", 45);
-    freq.put("ופע", 170);
-    freq.put("ופנ", 10);
-    freq.put("ופצ", 37);
-    freq.put("סרו", 15);
-    freq.put("כלל", 59);
-    freq.put("כטי", 100);
-    freq.put("ופר", 30);
-    freq.put("סרי", 11);
-    freq.put("כלי", 34);
-    freq.put(" וע", 12);
-    freq.put("יהו", 200);
-    freq.put("טאצ", 26);
-    freq.put("יתר", 11);
-    freq.put("רכ ", 25);
-    freq.put("זא", 1122);
-    freq.put("עװא", 40);
-    freq.put("זג", 41);
-    freq.put("זה", 15);
-    freq.put("זו", 733);
-    freq.put("ימנ", 11);
-    freq.put("עװי", 23);
-    freq.put("זי", 4421);
-    freq.put("זכ", 70);
-    freq.put("זל", 153);
-    freq.put("זם", 116);
-    freq.put("זמ", 49);
-    freq.put("זן", 307);
-    freq.put("זנ", 136);
-    freq.put("נ", 31576);
-    freq.put("זע", 1376);
-    freq.put("עװע", 41);
-    freq.put("זרי", 18);
-    freq.put("זצ", 123);
-    freq.put("זק", 55);
-    freq.put("זר", 460);
-    freq.put("זש", 762);
-    freq.put("זרח", 340);
-    freq.put("ופֿ", 34);
-    freq.put("ופּ", 33);
-    freq.put("זײ", 157);
-    freq.put("ימס", 16);
-    freq.put("נג ", 1327);
-    freq.put("ײַז", 28);
-    freq.put("עגן", 241);
-    freq.put("ללי", 18);
-    freq.put("עגל", 79);
-    freq.put("סהע", 16);
-    freq.put("בוב", 14);
-    freq.put("עגי", 196);
-    freq.put("עגט", 35);
-    freq.put("רשײ", 12);
-    freq.put("עגו", 63);
-    freq.put("ללא", 12);
-    freq.put("עגא", 437);
-    freq.put("אטש", 69);
-    freq.put("אטר", 58);
-    freq.put("קאָ", 176);
-    freq.put("אי ", 70);
-    freq.put("אטע", 364);
-    freq.put("אטס", 18);
-    freq.put("קאַ", 250);
-    freq.put(" שם", 25);
-    freq.put("אטי", 413);
-    freq.put("אטן", 293);
-    freq.put("רקט", 25);
-    freq.put("אטל", 77);
-    freq.put("טז", 19);
-    freq.put("אטא", 263);
-    freq.put("כער", 374);
-    freq.put("אטו", 149);
-    freq.put("אטה", 9);
-    freq.put("ָצי", 9);
-    freq.put("כרי", 9);
-    freq.put(" בפ", 18);
-    freq.put("כרם", 9);
-    freq.put("כרמ", 15);
-    freq.put("עגר", 196);
-    freq.put("ι", 19);
-    freq.put("עד ", 61);
-    freq.put("עגע", 168);
-    freq.put("עגנ", 182);
-    freq.put("נבא", 11);
-    freq.put("פין", 18);
-    freq.put("פיט", 63);
-    freq.put("פיי", 121);
-    freq.put("לך ", 102);
-    freq.put("קאפ", 80);
-    freq.put("פיו", 121);
-    freq.put("קאצ", 60);
-    freq.put("קאק", 12);
-    freq.put("פיא", 41);
-    freq.put("קאס", 88);
-    freq.put("פיג", 21);
-    freq.put("פיד", 23);
-    freq.put("ع", 16);
-    freq.put("טהא", 65);
-    freq.put("ָנע", 17);
-    freq.put("דא ", 123);
-    freq.put("ײַך", 20);
-    freq.put("כענ", 104);
-    freq.put("אפן", 190);
-    freq.put("כעס", 13);
-    freq.put("וי ", 1093);
-    freq.put("לאז", 102);
-    freq.put("פּ", 866);
-    freq.put("קאל", 716);
-    freq.put("קאמ", 397);
-    freq.put("קאן", 15);
-    freq.put("קאט", 93);
-    freq.put("פיש", 109);
-    freq.put("קאכ", 10);
-    freq.put("קאה", 25);
-    freq.put("קאו", 89);
-    freq.put("פיצ", 109);
-    freq.put("פיק", 47);
-    freq.put("פינ", 429);
-    freq.put("פיס", 45);
-    freq.put("פיע", 58);
-    freq.put("קאד", 42);
-    freq.put("דאָ", 123);
-    freq.put("חיו", 20);
-    freq.put("חיה", 22);
-    freq.put("חיד", 43);
-    freq.put("ײדע", 12);
-    freq.put("חיב", 9);
-    freq.put(" צא", 143);
-    freq.put("יוט", 162);
-    freq.put("לשט", 17);
-    freq.put("חים", 21);
-    freq.put("חיל", 14);
-    freq.put("רפו", 41);
-    freq.put("חיי", 140);
-    freq.put("טבא", 9);
-    freq.put(" צו", 3332);
-    freq.put("כהן", 42);
-    freq.put("טבת", 56);
-    freq.put("טבע", 15);
-    freq.put("ּױ", 11);
-    freq.put("כאפ", 32);
-    freq.put("ַס ", 34);
-    freq.put("רפן", 40);
-    freq.put("ך־", 10);
-    freq.put("חיפ", 37);
-    freq.put("ײַם", 11);
-    freq.put("з", 10);
-    freq.put("חינ", 19);
-    freq.put("ָר", 438);
-    freq.put("לטע", 213);
-    freq.put("לשו", 62);
-    freq.put("ָף", 9);
-    freq.put("ָנ", 150);
-    freq.put("ָס", 287);
-    freq.put("ָצ", 18);
-    freq.put("ָק", 64);
-    freq.put("ָפ", 186);
-    freq.put("ַסט", 38);
-    freq.put("רפי", 49);
-    freq.put("כבו", 11);
-    freq.put("וג ", 26);
-    freq.put("ָװ", 46);
-    freq.put("ַװי", 17);
-    freq.put("לסט", 25);
-    freq.put("ע", 79040);
-    freq.put("ς ", 33);
-    freq.put("ימי", 150);
-    freq.put("וד ", 186);
-    freq.put("שר", 1208);
-    freq.put("ָך", 24);
-    freq.put("ָכ", 17);
-    freq.put("ָט", 196);
-    freq.put("ָמ", 153);
-    freq.put("ָן", 86);
-    freq.put("ָל", 214);
-    freq.put("ָם", 29);
-    freq.put("ָג", 91);
-    freq.put("ָד", 149);
-    freq.put("ָא", 17);
-    freq.put("נר ", 11);
-    freq.put("ָז", 34);
-    freq.put("מב", 657);
-    freq.put("ָה", 13);
-    freq.put("ָו", 36);
-    freq.put("מהר", 19);
-    freq.put("דפו", 9);
-    freq.put(" ט ", 235);
-    freq.put("דן ", 578);
-    freq.put("לצט", 12);
-    freq.put("אר ", 3401);
-    freq.put("ַמע", 66);
-    freq.put("שאד", 16);
-    freq.put("זאם", 22);
-    freq.put("דײַ", 37);
-    freq.put("ַמפ", 9);
-    freq.put("שאו", 56);
-    freq.put("שאט", 33);
-    freq.put("שאמ", 14);
-    freq.put("שאן", 43);
-    freq.put("שאל", 28);
-    freq.put("וקן", 33);
-    freq.put("שאנ", 55);
-    freq.put("שאס", 43);
-    freq.put("שאצ", 31);
-    freq.put("שאק", 11);
-    freq.put("שאפ", 458);
-    freq.put("ײַט", 118);
-    freq.put("שאר", 63);
-    freq.put("ַמי", 13);
-    freq.put("ם ", 7705);
-    freq.put("כע ", 653);
-    freq.put("ַ", 5362);
-    freq.put("ױך ", 25);
-    freq.put("וס ", 298);
-    freq.put("אוצ", 14);
-    freq.put("כיפ", 26);
-    freq.put("ימה", 10);
-    freq.put("ס ", 8363);
-    freq.put("זענ", 606);
-    freq.put(" זע", 764);
-    freq.put(" זצ", 121);
-    freq.put(" זש", 203);
-    freq.put(" זר", 25);
-    freq.put("לטא", 32);
-    freq.put("חרו", 16);
-    freq.put("ָג ", 24);
-    freq.put("לטן", 146);
-    freq.put("זשא", 149);
-    freq.put(" זײ", 148);
-    freq.put("ַט ", 137);
-    freq.put("באפ", 195);
-    freq.put("זשו", 101);
-    freq.put("טס ", 144);
-    freq.put("זשי", 187);
-    freq.put("יא ", 121);
-    freq.put("וכו", 13);
-    freq.put("אים", 220);
-    freq.put("זשע", 168);
-    freq.put("ים ", 2085);
-    freq.put("זשנ", 36);
-    freq.put("לטל", 20);
-    freq.put("יהם", 27);
-    freq.put("יצו", 34);
-    freq.put("רקע", 130);
-    freq.put("ײער", 20);
-    freq.put(" זב", 10);
-    freq.put(" זא", 503);
-    freq.put(" זג", 35);
-    freq.put(" זו", 337);
-    freq.put("שאַ", 130);
-    freq.put(" זי", 3283);
-    freq.put("אצו", 16);
-    freq.put(" זכ", 57);
-    freq.put("רקס", 12);
-    freq.put(" זל", 26);
-    freq.put("זם ", 116);
-    freq.put(" זמ", 10);
-    freq.put("שׂר", 10);
-    freq.put("ווּ", 13);
-    freq.put("ישק", 64);
-    freq.put("נצו", 94);
-    freq.put("ישע", 2136);
-    freq.put("פצו", 52);
-    freq.put("נצט", 11);
-    freq.put("יעט", 79);
-    freq.put("ישש", 21);
-    freq.put("פות", 23);
-    freq.put("נצן", 78);
-    freq.put("דנט", 16);
-    freq.put("דני", 19);
-    freq.put("התו", 41);
-    freq.put("אן ", 2385);
-    freq.put("פת", 43);
-    freq.put("ר ", 23971);
-    freq.put("ום ", 1333);
-    freq.put("נצױ", 10);
-    freq.put("סף ", 93);
-    freq.put("פר", 2450);
-    freq.put("רינ", 475);
-    freq.put("עת ", 58);
-    freq.put("ישו", 64);
-    freq.put("פצ", 108);
-    freq.put("נצע", 110);
-    freq.put("ישא", 28);
-    freq.put("פוס", 50);
-    freq.put("כנא", 33);
-    freq.put("נצר", 9);
-    freq.put("ישן", 1055);
-    freq.put("ישמ", 9);
-    freq.put("ישי", 220);
-    freq.put("פפ", 15);
-    freq.put("ישכ", 9);
-    freq.put("רפע", 128);
-    freq.put("ָקט", 11);
-    freq.put("ױט", 28);
-    freq.put("פופ", 37);
-    freq.put("ישט", 580);
-    freq.put("־מע", 62);
-    freq.put("קאש", 19);
-    freq.put("ווײ", 12);
-    freq.put("שת ", 23);
-    freq.put("אשי", 156);
-    freq.put("אשכ", 26);
-    freq.put("תרו", 11);
-    freq.put("פנ", 106);
-    freq.put("בוק", 21);
-    freq.put("וות", 20);
-    freq.put("תרי", 20);
-    freq.put("בור", 569);
-    freq.put("תרכ", 19);
-    freq.put("בות", 111);
-    freq.put("אפ ", 125);
-    freq.put("תרל", 29);
-    freq.put("תרמ", 52);
-    freq.put("תרס", 43);
-    freq.put("תרנ", 40);
-    freq.put("בוד", 53);
-    freq.put("תרע", 52);
-    freq.put("ווי", 3712);
-    freq.put("תרפ", 44);
-    freq.put("ראר", 65);
-    freq.put("תרצ", 58);
-    freq.put("בוי", 419);
-    freq.put("בוט", 14);
-    freq.put("אשע", 50);
-    freq.put("בוך", 55);
-    freq.put("בול", 51);
-    freq.put("בון", 11);
-    freq.put("אשק", 15);
-    freq.put("ויא", 100);
-    freq.put("סכו", 16);
-    freq.put("זון", 209);
-    freq.put("־מז", 65);
-    freq.put("ן ", 43273);
-    freq.put("ערש", 684);
-    freq.put("ומס", 10);
-    freq.put("ומע", 665);
-    freq.put("ובע", 76);
-    freq.put("ומפ", 19);
-    freq.put("ומק", 10);
-    freq.put("ערס", 485);
-    freq.put("ערנ", 439);
-    freq.put("ערע", 884);
-    freq.put("ערץ", 133);
-    freq.put("ערפ", 288);
-    freq.put("ערק", 208);
-    freq.put("ערצ", 120);
-    freq.put(" כע", 157);
-    freq.put("טוי", 206);
-    freq.put(" כנ", 38);
-    freq.put(" כס", 66);
-    freq.put("ки", 13);
-    freq.put(" כפ", 15);
-    freq.put("רום", 518);
-    freq.put(" כת", 36);
-    freq.put(" כר", 35);
-    freq.put("ערײ", 12);
-    freq.put("ֶ", 21);
-    freq.put(" כד", 51);
-    freq.put(" כא", 81);
-    freq.put(" כב", 11);
-    freq.put(" כח", 10);
-    freq.put(" כה", 39);
-    freq.put(" כו", 120);
-    freq.put("יַן", 11);
-    freq.put("דשי", 59);
-    freq.put(" כי", 101);
-    freq.put(" כמ", 43);
-    freq.put("צר ", 14);
-    freq.put(" כל", 102);
-    freq.put("חלו", 16);
-    freq.put("ערי", 1098);
-    freq.put("ערט", 1115);
-    freq.put("ומג", 100);
-    freq.put("ערך", 69);
-    freq.put("ומה", 12);
-    freq.put("ערל", 171);
-    freq.put("ערן", 526);
-    freq.put("ערמ", 214);
-    freq.put("ערב", 407);
-    freq.put("ערא", 313);
-    freq.put("נד ", 873);
-    freq.put("ערג", 361);
-    freq.put("ν", 26);
-    freq.put("ערה", 99);
-    freq.put("יכנ", 40);
-    freq.put("ערז", 77);
-    freq.put("עא ", 24);
-    freq.put("ידז", 30);
-    freq.put("ל ", 5033);
-    freq.put("רמא", 252);
-    freq.put("סך ", 29);
-    freq.put("הי ", 12);
-    freq.put("הוש", 42);
-    freq.put(" כּ", 32);
-    freq.put("אנע", 662);
-    freq.put("אנס", 188);
-    freq.put("רוק", 214);
-    freq.put("אנק", 238);
-    freq.put("אנצ", 432);
-    freq.put("תי ", 22);
-    freq.put("ער־", 42);
-    freq.put("אנש", 66);
-    freq.put("אנר", 23);
-    freq.put("ואג", 14);
-    freq.put("אך ", 1186);
-    freq.put("ריצ", 25);
-    freq.put("צקי", 27);
-    freq.put("אנד", 1518);
-    freq.put("אנג", 545);
-    freq.put("אנא", 482);
-    freq.put("זײַ", 98);
-    freq.put("רוע", 9);
-    freq.put("אנו", 219);
-    freq.put("אנה", 74);
-    freq.put("ש", 19197);
-    freq.put("ואק", 156);
-    freq.put("אני", 943);
-    freq.put("אנט", 983);
-    freq.put("ואנ", 105);
-    freq.put("ואס", 2979);
-    freq.put("רמי", 180);
-    freq.put("באו", 241);
-    freq.put("ומב", 43);
-    freq.put("װײ ", 13);
-    freq.put("המק", 37);
-    freq.put("אמי", 326);
-    freq.put("ועק", 101);
-    freq.put("לכס", 14);
-    freq.put("הױפ", 29);
-    freq.put("רוש", 243);
-    freq.put("גין", 9);
-    freq.put("גיל", 46);
-    freq.put("גים", 10);
-    freq.put("גיך", 11);
-    freq.put("גיכ", 12);
-    freq.put("גיט", 49);
-    freq.put("גיי", 176);
-    freq.put("גיח", 9);
-    freq.put("ריר", 97);
-    freq.put("דול", 62);
-    freq.put("גיג", 10);
-    freq.put("גיד", 30);
-    freq.put("גיא", 13);
-    freq.put("גיב", 25);
-    freq.put("קאנ", 987);
-    freq.put("פמ", 32);
-    freq.put("אמט", 88);
-    freq.put("פן", 753);
-    freq.put("גיק", 41);
-    freq.put("גיפ", 21);
-    freq.put("גיע", 267);
-    freq.put("בר ", 158);
-    freq.put("גינ", 55);
-    freq.put("גיס", 17);
-    freq.put("ולם", 26);
-    freq.put("וען", 1790);
-    freq.put("פול", 121);
-    freq.put("גלע", 90);
-    freq.put("ַער", 13);
-    freq.put("־", 863);
-    freq.put("לאג", 271);
-    freq.put("פט", 1495);
-    freq.put("בעס", 51);
-    freq.put("פי", 2427);
-    freq.put(" עו", 111);
-    freq.put(" עה", 21);
-    freq.put("רני", 101);
-    freq.put("רנט", 42);
-    freq.put(" עב", 45);
-    freq.put("אלג", 97);
-    freq.put(" עד", 52);
-    freq.put(" עג", 26);
-    freq.put("רנד", 34);
-    freq.put(" על", 381);
-    freq.put("רנב", 12);
-    freq.put("רנא", 205);
-    freq.put("מקר", 10);
-    freq.put(" עט", 126);
-    freq.put("רנו", 15);
-    freq.put("אלט", 539);
-    freq.put("אלק", 126);
-    freq.put("מקו", 56);
-    freq.put(" עק", 195);
-    freq.put(" עצ", 22);
-    freq.put(" עס", 955);
-    freq.put(" ענ", 533);
-    freq.put("אלס", 412);
-    freq.put("מקד", 42);
-    freq.put("תק ", 40);
-    freq.put("רנע", 209);
-    freq.put("רנס", 14);
-    freq.put("הא ", 10);
-    freq.put(" עש", 30);
-    freq.put("מקי", 12);
-    freq.put("אזן", 34);
-    freq.put("נוס", 48);
-    freq.put("־גר", 10);
-    freq.put("צײַ", 23);
-    freq.put("פא", 4538);
-    freq.put("ביש", 121);
-    freq.put("ри", 11);
-    freq.put("ַהא", 11);
-    freq.put("לנד", 12);
-    freq.put("פס ", 16);
-    freq.put("גטן", 35);
-    freq.put("לטס", 56);
-    freq.put("טוו", 182);
-    freq.put("עמע", 315);
-    freq.put("בית", 163);
-    freq.put("עמק", 10);
-    freq.put("לטש", 29);
-    freq.put("עמפ", 67);
-    freq.put("סטע", 1768);
-    freq.put("פֿ", 1392);
-    freq.put("סטנ", 25);
-    freq.put("זע ", 87);
-    freq.put("תקפ", 19);
-    freq.put("אָן", 85);
-    freq.put("סטר", 410);
-    freq.put("סטש", 13);
-    freq.put("הונ", 126);
-    freq.put("חז ", 20);
-    freq.put("אמל", 45);
-    freq.put("טוב", 103);
-    freq.put("תחי", 9);
-    freq.put("סטא", 543);
-    freq.put("סטז", 9);
-    freq.put("טוג", 18);
-    freq.put("סטו", 52);
-    freq.put("ּ", 1034);
-    freq.put("סטי", 422);
-    freq.put("סטמ", 11);
-    freq.put("סטן", 587);
-    freq.put("סטל", 70);
-    freq.put("בינ", 147);
-    freq.put("ושט", 36);
-    freq.put("אָד", 145);
-    freq.put("עמי", 477);
-    freq.put("עמט", 88);
-    freq.put("עמל", 12);
-    freq.put("עמד", 15);
-    freq.put("עמב", 378);
-    freq.put("עמא", 307);
-    freq.put("אמן", 18);
-    freq.put("טומ", 20);
-    freq.put("עמו", 21);
-    freq.put("о", 59);
-    freq.put("פור", 60);
-    freq.put(" װײ", 25);
-    freq.put("נומ", 252);
-    freq.put("נון", 70);
-    freq.put("נוט", 10);
-    freq.put("נוי", 51);
-    freq.put("נוך", 19);
-    freq.put("נוכ", 12);
-    freq.put("פונ", 641);
-    freq.put("נוו", 201);
-    freq.put("פוע", 11);
-    freq.put("נוא", 117);
-    freq.put("נוב", 9);
-    freq.put("נוג", 22);
-    freq.put("פס", 133);
-    freq.put(" װע", 121);
-    freq.put("ד", 30301);
-    freq.put("רמע", 146);
-    freq.put("ַז ", 44);
-    freq.put("קלע", 179);
-    freq.put("רמת", 12);
-    freq.put("זל ", 76);
-    freq.put("קלט", 44);
-    freq.put("קלי", 259);
-    freq.put(" װא", 193);
-    freq.put("רמו", 13);
-    freq.put("טן ", 3173);
-    freq.put("ַסע", 17);
-    freq.put("קלא", 148);
-    freq.put(" װי", 111);
-    freq.put("קלו", 64);
-    freq.put("פוט", 22);
-    freq.put("פוי", 193);
-    freq.put("פל", 796);
-    freq.put("נור", 14);
 
-    init2();
-  }
-  private static void init2() {
-    
-    freq.put("נות", 97);
-    freq.put("פון", 7014);
-    freq.put("פז", 10);
-    freq.put("פוב", 85);
-    freq.put("נוצ", 162);
-    freq.put("נוק", 9);
-    freq.put("נונ", 104);
-    freq.put("פוו", 17);
-    freq.put("נוע", 12);
-    freq.put("פב", 20);
-    freq.put("אָכ", 16);
-    freq.put("אָך", 24);
-    freq.put("נ ", 165);
-    freq.put("אָט", 195);
-    freq.put("תוב", 17);
-    freq.put("אָמ", 152);
-    freq.put("אָם", 28);
-    freq.put("קרו", 40);
-    freq.put("שרײ", 33);
-    freq.put("אָג", 91);
-    freq.put("אָב", 87);
-    freq.put("אָא", 13);
-    freq.put("טוט", 101);
-    freq.put("אָז", 32);
-    freq.put("אָו", 36);
-    freq.put("חן ", 17);
-    freq.put("שרת", 12);
-    freq.put("ָד ", 9);
-    freq.put("כשר", 19);
-    freq.put("וער", 1257);
-    freq.put("שרע", 14);
-    freq.put("כיי", 18);
-    freq.put("ביג", 12);
-    freq.put("ין ", 7894);
-    freq.put("טע ", 1652);
-    freq.put("סופ", 40);
-    freq.put("כסט", 41);
-    freq.put("שרי", 461);
-    freq.put("סוק", 29);
-    freq.put("ממש", 15);
-    freq.put("יה ", 128);
-    freq.put("שרג", 9);
-    freq.put("שו ", 29);
-    freq.put("שרא", 572);
-    freq.put("אָװ", 46);
-    freq.put("ממע", 10);
-    freq.put("שרה", 15);
-    freq.put("שרו", 25);
-    freq.put("טופ", 13);
-    freq.put("חת", 85);
-    freq.put("טוצ", 18);
-    freq.put("אָר", 437);
-    freq.put("טונ", 143);
-    freq.put("טוס", 16);
-    freq.put("טוע", 58);
-    freq.put("סור", 41);
-    freq.put("אָף", 9);
-    freq.put("אָס", 287);
-    freq.put("אָנ", 148);
-    freq.put("אָק", 64);
-    freq.put("μ", 16);
-    freq.put("יהי", 14);
-    freq.put("אָפ", 184);
-    freq.put("צװ", 40);
-    freq.put("צױ", 11);
-    freq.put("צײ", 39);
-    freq.put("שכ ", 35);
-    freq.put("טיב", 10);
-    freq.put("ִדי", 62);
-    freq.put("צנ", 29);
-    freq.put("צע", 1015);
-    freq.put("כול", 69);
-    freq.put("צפ", 420);
-    freq.put("זא ", 50);
-    freq.put("צק", 52);
-    freq.put("צר", 81);
-    freq.put("צת", 9);
-    freq.put("לדי", 63);
-    freq.put("צטע", 104);
-    freq.put("סע ", 270);
-    freq.put("צב", 97);
-    freq.put("כטס", 13);
-    freq.put("צד", 59);
-    freq.put("צטי", 14);
-    freq.put("צו", 3773);
-    freq.put("צח", 92);
-    freq.put("צט", 495);
-    freq.put("ר", 63116);
-    freq.put("ם־", 86);
-    freq.put("צל", 89);
-    freq.put("צמ", 23);
-    freq.put("צן", 303);
-    freq.put("אמו", 85);
-    freq.put("רעמ", 168);
-    freq.put("יינ", 2195);
-    freq.put("וכה", 32);
-    freq.put("נק ", 127);
-    freq.put("ַרפ", 15);
-    freq.put(" נפ", 64);
-    freq.put("רעכ", 237);
-    freq.put("הנא", 12);
-    freq.put("־אַ", 19);
-    freq.put("הני", 9);
-    freq.put("אסנ", 13);
-    freq.put("אמב", 64);
-    freq.put("אסע", 221);
-    freq.put("רט ", 1954);
-    freq.put("אספ", 28);
-    freq.put("אמא", 281);
-    freq.put("אסת", 15);
-    freq.put("אף ", 85);
-    freq.put("ױט ", 13);
-    freq.put("ַרס", 11);
-    freq.put("אסא", 260);
-    freq.put("אמג", 18);
-    freq.put("סאל", 45);
-    freq.put("אסט", 294);
-    freq.put("ب", 11);
-    freq.put("מי ", 61);
-    freq.put("אהר", 71);
-    freq.put("ви", 19);
-    freq.put("אסמ", 29);
-    freq.put("אסן", 64);
-    freq.put("תול", 13);
-    freq.put("אַ ", 796);
-    freq.put("טה ", 37);
-    freq.put("מתת", 14);
-    freq.put("רעג", 626);
-    freq.put("סאז", 29);
-    freq.put("פה ", 91);
-    freq.put("רם ", 51);
-    freq.put("ץ ", 1227);
-    freq.put("כסל", 57);
-    freq.put("כל", 206);
-    freq.put("אמת", 42);
-    freq.put("ו", 70356);
-    freq.put("וסק", 67);
-    freq.put("דהי", 11);
-    freq.put("לאן", 31);
-    freq.put("אנז", 51);
-    freq.put("־אי", 18);
-    freq.put("קרײ", 10);
-    freq.put("כלע", 15);
-    freq.put("אכד", 21);
-    freq.put("־או", 10);
-    freq.put("טור", 325);
-    freq.put("ײַק", 12);
-    freq.put("אָצ", 18);
-    freq.put("אמס", 76);
-    freq.put("כסנ", 14);
-    freq.put("טות", 9);
-    freq.put("תענ", 10);
-    freq.put("תור", 217);
-    freq.put("יסא", 54);
-    freq.put("נה ", 222);
-    freq.put("תּ", 29);
-    freq.put("לן ", 766);
-    freq.put("ַפ", 186);
-    freq.put("לאי", 14);
-    freq.put("עב ", 130);
-    freq.put("קשא", 15);
-    freq.put("כיר", 23);
-    freq.put(" סח", 14);
-    freq.put("סי ", 83);
-    freq.put("קשי", 24);
-    freq.put("קשט", 9);
-    freq.put("רסט", 112);
-    freq.put("מפר", 11);
-    freq.put("רסל", 30);
-    freq.put("קט", 1202);
-    freq.put("ֿר", 128);
-    freq.put("רסא", 26);
-    freq.put("ױפֿ", 15);
-    freq.put("ױפּ", 29);
-    freq.put("מפע", 121);
-    freq.put("ֿע", 92);
-    freq.put(" תע", 21);
-    freq.put("ֿנ", 14);
-    freq.put("מפי", 133);
-    freq.put("מפט", 22);
-    freq.put("ֿל", 53);
-    freq.put("אָל", 213);
-    freq.put("מפל", 25);
-    freq.put("מפן", 14);
-    freq.put("ֿט", 107);
-    freq.put("מפא", 77);
-    freq.put("רסע", 15);
-    freq.put("מפו", 9);
-    freq.put("עור", 28);
-    freq.put("ич ", 17);
-    freq.put("רסק", 29);
-    freq.put("אכל", 11);
-    freq.put(" קר", 634);
-    freq.put("לדע", 77);
-    freq.put("לפא", 27);
-    freq.put("ליפ", 74);
-    freq.put("אכע", 69);
-    freq.put("ליצ", 122);
-    freq.put("ליק", 192);
-    freq.put("לינ", 252);
-    freq.put("מפּ", 72);
-    freq.put("ליע", 273);
-    freq.put("עות", 51);
-    freq.put("גטע", 122);
-    freq.put("ליר", 113);
-    freq.put(" סע", 387);
-    freq.put("לית", 25);
-    freq.put("חרד", 96);
-    freq.put("ови", 12);
-    freq.put("תר", 477);
-    freq.put(" קש", 15);
-    freq.put("תת", 33);
-    freq.put("תפ", 55);
-    freq.put("אכצ", 11);
-    freq.put("תק", 243);
-    freq.put("תנ", 103);
-    freq.put("סוכ", 17);
-    freq.put("תע", 32);
-    freq.put("סןר", 9);
-    freq.put("תל", 158);
-    freq.put("תם", 48);
-    freq.put("תמ", 58);
-    freq.put("תן", 52);
-    freq.put("תי", 151);
-    freq.put("תה", 17);
-    freq.put("תו", 355);
-    freq.put("ת", 4752);
-    freq.put("תא", 129);
-    freq.put("תב", 34);
-    freq.put("תד", 26);
-    freq.put("ליה", 35);
-    freq.put("ליו", 95);
-    freq.put("ליז", 94);
-    freq.put("טרא", 719);
-    freq.put("ליא", 264);
-    freq.put("ליב", 170);
-    freq.put("ליג", 280);
-    freq.put("ליד", 143);
-    freq.put("ליל", 41);
-    freq.put("ואן", 13);
-    freq.put("לימ", 92);
-    freq.put("לין", 120);
-    freq.put("ילא", 171);
-    freq.put("הוא", 9);
-    freq.put("ליך", 183);
-    freq.put("ליכ", 358);
-    freq.put("נאד", 77);
-    freq.put("נזע", 27);
-    freq.put("ריס", 188);
-    freq.put("נזש", 49);
-    freq.put("ריע", 503);
-    freq.put("ֿרײ", 11);
-    freq.put("לב ", 69);
-    freq.put("כוח", 19);
-    freq.put("ריף", 52);
-    freq.put("חמש", 10);
-    freq.put("חזנ", 14);
-    freq.put("לאנ", 1105);
-    freq.put("בי ", 748);
-    freq.put("ֿרע", 14);
-    freq.put("ריץ", 11);
-    freq.put("אהן", 27);
-    freq.put("חזי", 17);
-    freq.put("ֿרי", 31);
-    freq.put("עזע", 247);
-    freq.put("ל־", 42);
-    freq.put("ֿרו", 10);
-    freq.put("ריק", 650);
-    freq.put("ֿרא", 44);
-    freq.put("γ", 14);
-    freq.put("ּטש", 23);
-    freq.put("נזא", 34);
-    freq.put("אהל", 20);
-    freq.put("זן ", 305);
-    freq.put("וזר", 10);
-    freq.put("ריש", 287);
-    freq.put("נזי", 68);
-    freq.put("ַרא", 78);
-    freq.put("λ", 25);
-    freq.put("נזל", 103);
-    freq.put("ֿ", 1453);
-    freq.put("לז", 38);
-    freq.put("לח", 174);
-    freq.put("לה", 208);
-    freq.put("לו", 1475);
-    freq.put("לג", 165);
-    freq.put("לד", 430);
-    freq.put("לא", 3132);
-    freq.put("לב", 466);
-    freq.put("למ", 421);
-    freq.put("פע ", 265);
-    freq.put("לל", 176);
-    freq.put("לם", 96);
-    freq.put("לך", 103);
-    freq.put("לכ", 489);
-    freq.put("לט", 1810);
-    freq.put("לי", 5490);
-    freq.put("ציג", 121);
-    freq.put("ַרל", 19);
-    freq.put("ציא", 234);
-    freq.put("ציב", 23);
-    freq.put("ַש", 71);
-    freq.put("ילן", 292);
-    freq.put("ציו", 115);
-    freq.put("צה", 51);
-    freq.put("ציט", 46);
-    freq.put("ציי", 506);
-    freq.put("צימ", 20);
-    freq.put("צין", 30);
-    freq.put("ציל", 73);
-    freq.put("צים", 11);
-    freq.put("ציע", 1035);
-    freq.put("צינ", 56);
-    freq.put("ציס", 36);
-    freq.put("לײ", 44);
-    freq.put("ציק", 59);
-    freq.put("ציפ", 75);
-    freq.put("לױ", 11);
-    freq.put("וב ", 231);
-    freq.put("ציר", 208);
-    freq.put("ח ", 792);
-    freq.put("קמא", 14);
-    freq.put(" ת ", 77);
-    freq.put("לצ", 48);
-    freq.put("לק", 457);
-    freq.put("לפ", 182);
-    freq.put("לץ", 94);
-    freq.put("לע", 4319);
-    freq.put("לף", 59);
-    freq.put("לנ", 65);
-    freq.put("לס", 504);
-    freq.put("ַרכ", 10);
-    freq.put("לת", 56);
-    freq.put("נת ", 56);
-    freq.put("לש", 178);
-    freq.put("שיץ", 15);
-    freq.put("שיפ", 20);
-    freq.put("שיק", 58);
-    freq.put("שיצ", 42);
-    freq.put("שיס", 50);
-    freq.put("שינ", 108);
-    freq.put("שיף", 23);
-    freq.put("שיע", 29);
-    freq.put("שיש", 44);
-    freq.put("שיר", 163);
-    freq.put("שית", 16);
-    freq.put("ילם", 49);
-    freq.put("סני", 10);
-    freq.put("אמף", 15);
-    freq.put("עצו", 75);
-    freq.put("טפא", 22);
-    freq.put("סנד", 26);
-    freq.put("עצי", 144);
-    freq.put("עצט", 161);
-    freq.put("עצן", 61);
-    freq.put("ע־", 30);
-    freq.put("סנה", 14);
-    freq.put("סנו", 18);
-    freq.put("עצע", 146);
-    freq.put(" π", 11);
-    freq.put("סנש", 127);
-    freq.put("עצק", 11);
-    freq.put("טפע", 19);
-    freq.put("ּרא", 111);
-    freq.put("כהנ", 11);
-    freq.put("שיו", 21);
-    freq.put("אײַ", 25);
-    freq.put("עצװ", 12);
-    freq.put("שיב", 185);
-    freq.put("שיא", 33);
-    freq.put("שיד", 92);
-    freq.put("שיג", 21);
-    freq.put("שים", 95);
-    freq.put("שיל", 58);
-    freq.put("שין", 65);
-    freq.put("שימ", 15);
-    freq.put("שיי", 155);
-    freq.put("שיט", 40);
-    freq.put("שיכ", 63);
-    freq.put("שיך", 13);
-    freq.put("לע ", 804);
-    freq.put("זנע", 36);
-    freq.put("טיק", 479);
-    freq.put("רצו", 51);
-    freq.put("זעה", 34);
-    freq.put("יגט", 336);
-    freq.put("יגי", 101);
-    freq.put("יגל", 47);
-    freq.put("ה", 11196);
-    freq.put("יגן", 198);
-    freq.put("יגא", 40);
-    freq.put("יגו", 167);
-    freq.put("ַך ", 67);
-    freq.put("יגר", 90);
-    freq.put("ָוו", 24);
-    freq.put("למו", 30);
-    freq.put("אײנ", 19);
-    freq.put("יגנ", 48);
-    freq.put("יגס", 55);
-    freq.put("יגע", 642);
-    freq.put("יד ", 369);
-    freq.put("ַר", 654);
-    freq.put("אײר", 23);
-    freq.put("שה ", 217);
-    freq.put(" י ", 210);
-    freq.put("ָפע", 10);
-    freq.put("זנב", 12);
-    freq.put("ָל ", 77);
-    freq.put("זני", 20);
-    freq.put("זנט", 51);
-    freq.put("טעפ", 10);
-    freq.put("שך ", 27);
-    freq.put("שכנ", 32);
-    freq.put("לוי", 406);
-    freq.put("שכר", 33);
-    freq.put("к ", 14);
-    freq.put("סמי", 26);
-    freq.put("צ ", 239);
-    freq.put("А", 9);
-    freq.put("חו", 382);
-    freq.put("חה", 95);
-    freq.put("חד", 56);
-    freq.put("סעו", 32);
-    freq.put("סעז", 10);
-    freq.put("חא", 25);
-    freq.put("סעט", 29);
-    freq.put("סעי", 12);
-    freq.put("חם", 56);
-    freq.put("חל", 108);
-    freq.put("סעל", 38);
-    freq.put("צט ", 370);
-    freq.put("סעמ", 41);
-    freq.put("סען", 30);
-    freq.put("סענ", 73);
-    freq.put("סעס", 16);
-    freq.put("תבו", 12);
-    freq.put("סעפ", 127);
-    freq.put("חס", 314);
-    freq.put("סעק", 73);
-    freq.put("סער", 541);
-    freq.put("זאל", 158);
-    freq.put("זאן", 18);
-    freq.put("זאמ", 195);
-    freq.put("ריג", 198);
-    freq.put("חש", 127);
-    freq.put("חר", 152);
-    freq.put("קבל", 14);
-    freq.put("ַד", 156);
-    freq.put("שכי", 14);
-    freq.put("ריו", 100);
-    freq.put("נע", 5402);
-    freq.put("נף", 34);
-    freq.put("ננ", 19);
-    freq.put(" С", 10);
-    freq.put("נצ", 674);
-    freq.put("ֿן ", 40);
-    freq.put("נפ", 348);
-    freq.put("נץ", 247);
-    freq.put("נת", 107);
-    freq.put("נר", 68);
-    freq.put("נאפ", 33);
-    freq.put("זאָ", 35);
-    freq.put("דבר", 64);
-    freq.put("ב", 19111);
-    freq.put("ריט", 375);
-    freq.put("ילה", 84);
-    freq.put("ילו", 214);
-    freq.put("צקע", 11);
-    freq.put("שול", 92);
-    freq.put("שון", 101);
-    freq.put("שומ", 26);
-    freq.put("שוב", 105);
-    freq.put("שוא", 10);
-    freq.put("שר ", 60);
-    freq.put("ַכע", 10);
-    freq.put("שוו", 291);
-    freq.put("ילכ", 13);
-    freq.put("ילט", 172);
-    freq.put("ילי", 576);
-    freq.put("טעם", 165);
-    freq.put("שור", 69);
-    freq.put("ילפ", 9);
-    freq.put("נאר", 285);
-    freq.put("ילע", 208);
-    freq.put("ילף", 17);
-    freq.put("ַכן", 23);
-    freq.put("וזש", 23);
-    freq.put("שוס", 18);
-    freq.put("שונ", 62);
-    freq.put("שוע", 10);
-    freq.put("ילת", 32);
-    freq.put("טעא", 75);
-    freq.put("רים", 247);
-    freq.put("נג", 3180);
-    freq.put("נד", 3874);
-    freq.put(" А", 9);
-    freq.put(" Б", 11);
-    freq.put("נז", 330);
-    freq.put("נח", 172);
-    freq.put("נה", 458);
-    freq.put("נו", 1328);
-    freq.put("זעכ", 16);
-    freq.put(" Л", 9);
-    freq.put("נט", 4678);
-    freq.put("ני", 4768);
-    freq.put("נמ", 59);
-    freq.put("נן", 42);
-    freq.put(" М", 10);
-    freq.put("נם", 15);
-    freq.put(" יר", 240);
-    freq.put(" יש", 823);
-    freq.put("ברא", 134);
-    freq.put("יפט", 462);
-    freq.put("ברה", 94);
-    freq.put("ברו", 288);
-    freq.put("פו ", 14);
-    freq.put(" יס", 27);
-    freq.put(" יע", 332);
-    freq.put("אסק", 24);
-    freq.put(" יפ", 15);
-    freq.put("ונד", 281);
-    freq.put(" יצ", 92);
-    freq.put(" יק", 11);
-    freq.put("רמ ", 56);
-    freq.put("טעק", 107);
-    freq.put("שג", 16);
-    freq.put("כגע", 11);
-    freq.put("קל ", 131);
-    freq.put("וזע", 24);
-    freq.put("דק ", 11);
-    freq.put("ּן ", 12);
-    freq.put("יפו", 55);
-    freq.put("יצן", 91);
-    freq.put("חמה", 118);
-    freq.put("ا", 43);
-    freq.put("גקי", 26);
-    freq.put("ַסק", 12);
-    freq.put("עף", 43);
-    freq.put("ײל ", 10);
-    freq.put("ארז", 57);
-    freq.put("ברע", 327);
-    freq.put(" יי", 514);
-    freq.put("טװי", 12);
-    freq.put("סימ", 127);
-    freq.put("ונת", 15);
-    freq.put(" ים", 162);
-    freq.put(" ימ", 26);
-    freq.put("װעל", 57);
-    freq.put(" יא", 1765);
-    freq.put(" יב", 28);
-    freq.put("л", 38);
-    freq.put(" יד", 34);
-    freq.put(" יה", 153);
-    freq.put(" יו", 675);
-    freq.put(" יח", 49);
-    freq.put("נשט", 116);
-    freq.put("נשי", 35);
-    freq.put("פסק", 14);
-    freq.put("יב ", 313);
-    freq.put("סיכ", 16);
-    freq.put("נשמ", 14);
-    freq.put("וזי", 139);
-    freq.put("נשא", 182);
-    freq.put("ער", 26086);
-    freq.put("גא ", 43);
-    freq.put("לאָ", 115);
-    freq.put("טענ", 167);
-    freq.put("סט ", 864);
-    freq.put("וגא", 42);
-    freq.put(" רע", 854);
-    freq.put("וגל", 41);
-    freq.put("וגי", 10);
-    freq.put("אסו", 11);
-    freq.put("טאכ", 27);
-    freq.put("וגנ", 10);
-    freq.put("יפר", 17);
-    freq.put("וטע", 231);
-    freq.put("צ", 9893);
-    freq.put("יפש", 35);
-    freq.put("טים", 32);
-    freq.put("כתא", 80);
-    freq.put(" כש", 18);
-    freq.put("פסו", 25);
-    freq.put("פסח", 22);
-    freq.put("פסא", 9);
-    freq.put("סיד", 303);
-    freq.put("אסי", 145);
-    freq.put("טיפ", 48);
-    freq.put("עבי", 83);
-    freq.put("פסי", 31);
-    freq.put("כני", 33);
-    freq.put("יטס", 40);
-    freq.put("טאם", 87);
-    freq.put("אסל", 17);
-    freq.put("חבר", 118);
-    freq.put("כתב", 20);
-    freq.put("השב", 13);
-    freq.put("ראף", 15);
-    freq.put("תקכ", 14);
-    freq.put("תקל", 13);
-    freq.put("ארץ", 184);
-    freq.put("תקמ", 16);
-    freq.put("טאג", 683);
-    freq.put("הו ", 53);
-    freq.put("ַנו", 21);
-    freq.put("ַנז", 12);
-    freq.put("יפס", 13);
-    freq.put("ַנא", 52);
-    freq.put("תקו", 44);
-    freq.put("ַנג", 58);
-    freq.put("ַנד", 194);
-    freq.put(" ע ", 67);
-    freq.put("אל ", 1665);
-    freq.put("תקנ", 27);
-    freq.put("תקס", 15);
-    freq.put("תקע", 21);
-    freq.put("רנ ", 43);
-    freq.put("תם ", 47);
-    freq.put("ַנס", 28);
-    freq.put("תקצ", 23);
-    freq.put("ο", 47);
-    freq.put("בזי", 11);
-    freq.put("טיא", 66);
-    freq.put("טעל", 414);
-    freq.put("טיג", 209);
-    freq.put(" נד", 11);
-    freq.put(" נג", 10);
-    freq.put(" נב", 32);
-    freq.put(" נא", 1858);
-    freq.put(" נח", 93);
-    freq.put(" נז", 17);
-    freq.put(" נו", 270);
-    freq.put(" נה", 9);
-    freq.put(" ני", 1169);
-    freq.put(" נט", 22);
-    freq.put("הכר", 10);
-    freq.put("טיו", 186);
-    freq.put(" נע", 257);
-    freq.put(" נס", 21);
-    freq.put("מסב", 60);
-    freq.put(" נק", 19);
-    freq.put("ראם", 71);
-    freq.put("מסו", 15);
-    freq.put("é", 12);
-    freq.put("מסכ", 159);
-    freq.put("מסט", 16);
-    freq.put("ראל", 955);
-    freq.put("גי ", 15);
-    freq.put(" נײ", 11);
-    freq.put("ייכ", 256);
-    freq.put("האמ", 50);
-    freq.put("הינ", 29);
-    freq.put(" ע", 5163);
-    freq.put("עאנ", 17);
-    freq.put(" נ", 3966);
-    freq.put(" ס", 5035);
-    freq.put(" צ", 5158);
-    freq.put("עאפ", 15);
-    freq.put("עאק", 10);
-    freq.put(" ץ", 25);
-    freq.put(" ת", 1827);
-    freq.put("עאר", 66);
-    freq.put(" ר", 3971);
-    freq.put(" ש", 4837);
-    freq.put("למא", 16);
-    freq.put("למד", 11);
-    freq.put("ראז", 57);
-    freq.put("Б", 11);
-    freq.put("גן ", 618);
-    freq.put(" װ", 468);
-    freq.put("טימ", 105);
-    freq.put("היס", 115);
-    freq.put("ראה", 11);
-    freq.put("גמל", 9);
-    freq.put("טעי", 47);
-    freq.put("תיה", 15);
-    freq.put("תיו", 13);
-    freq.put("בוע", 20);
-    freq.put("ריד", 109);
-    freq.put("תיב", 43);
-    freq.put("תימ", 14);
-    freq.put("תים", 10);
-    freq.put("וא ", 46);
-    freq.put(" ג", 9585);
-    freq.put(" ד", 17287);
-    freq.put(" א", 44095);
-    freq.put(" ב", 7527);
-    freq.put(" ז", 5736);
-    freq.put(" ח", 1610);
-    freq.put(" ה", 6559);
-    freq.put(" ו", 8313);
-    freq.put("עאי", 48);
-    freq.put("עאט", 14);
-    freq.put(" ט", 4957);
-    freq.put(" י", 5199);
-    freq.put(" מ", 9344);
-    freq.put("עאל", 44);
-    freq.put("עאן", 69);
-    freq.put("עאמ", 17);
-    freq.put("טעס", 47);
-    freq.put("נדט", 44);
-    freq.put("נדי", 426);
-    freq.put("נדן", 73);
-    freq.put("נדל", 225);
-    freq.put("ִי", 16);
-    freq.put("ער ", 17563);
-    freq.put("נדא", 727);
-    freq.put("יח ", 31);
-    freq.put("נדז", 50);
-    freq.put("רלע", 80);
-    freq.put("רלס", 12);
-    freq.put("נדו", 87);
-    freq.put("א", 97616);
-    freq.put(" כ ", 182);
-    freq.put("דש ", 152);
-    freq.put("קגע", 19);
-    freq.put("עאַ", 23);
-    freq.put("צרו", 13);
-    freq.put("עאָ", 25);
-    freq.put("חוש", 15);
-    freq.put("חור", 87);
-    freq.put("עמ", 1726);
-    freq.put("כח ", 12);
-    freq.put("חוד", 68);
-    freq.put("חה ", 95);
-    freq.put("חוב", 16);
-    freq.put("ען", 6246);
-    freq.put("צרת", 10);
-    freq.put("ילש", 9);
-    freq.put("חומ", 35);
-    freq.put("חום", 18);
-    freq.put("חול", 21);
-    freq.put("ילנ", 27);
-    freq.put("נדר", 48);
-    freq.put("באג", 98);
-    freq.put("רלי", 151);
-    freq.put("ִש", 10);
-    freq.put("נדע", 1266);
-    freq.put("דהא", 9);
-    freq.put("רלו", 41);
-    freq.put("נדס", 20);
-    freq.put("ִע", 21);
-    freq.put("ִנ", 11);
-    freq.put("רלא", 86);
-    freq.put("דיס", 113);
-    freq.put("לענ", 754);
-    freq.put("לעפ", 34);
-    freq.put("לף ", 58);
-    freq.put("וזא", 164);
-    freq.put("לעש", 9);
-    freq.put("לער", 689);
-    freq.put("גהא", 17);
-    freq.put("ייש", 98);
-    freq.put("לעװ", 10);
-    freq.put("ידי", 780);
-    freq.put("ידט", 13);
-    freq.put("ידן", 267);
-    freq.put("ידמ", 41);
-    freq.put("שהי", 10);
-    freq.put("אױט", 9);
-    freq.put("דו ", 15);
-    freq.put("אױך", 21);
-    freq.put("ידא", 49);
-    freq.put("ון־", 65);
-    freq.put("ידו", 119);
-    freq.put("אױס", 19);
-    freq.put("אױף", 44);
-    freq.put("אשט", 113);
-    freq.put("ֿיש", 21);
-    freq.put("יג ", 583);
-    freq.put("ידע", 606);
-    freq.put("ידנ", 20);
-    freq.put("לעב", 286);
-    freq.put("יפנ", 9);
-    freq.put("לעד", 17);
-    freq.put("לעג", 116);
-    freq.put("в ", 11);
-    freq.put("לעז", 46);
-    freq.put("לעי", 14);
-    freq.put("לעט", 111);
-    freq.put("לעכ", 299);
-    freq.put("לעך", 229);
-    freq.put("לעם", 19);
-    freq.put("м", 18);
-    freq.put("לען", 183);
-    freq.put("לעמ", 152);
-    freq.put("יעג", 11);
-    freq.put("שקל", 14);
-    freq.put("ביס", 62);
-    freq.put(" ا", 18);
-    freq.put("העכ", 76);
-    freq.put("ליח", 20);
-    freq.put("חרי", 11);
-    freq.put("מו ", 25);
-    freq.put("ועז", 96);
-    freq.put("דיצ", 54);
-    freq.put("ַזו", 13);
-    freq.put("־נא", 11);
-    freq.put("כוס", 12);
-    freq.put("כה ", 96);
-    freq.put("חת ", 35);
-    freq.put("ев", 10);
-    freq.put("ותד", 16);
-    freq.put("לאמ", 94);
-    freq.put("לאצ", 82);
-    freq.put("דרא", 134);
-    freq.put("פעש", 13);
-    freq.put("פער", 626);
-    freq.put("נתן", 32);
-    freq.put("דפא", 13);
-    freq.put("פעס", 116);
-    freq.put("פענ", 100);
-    freq.put("פעק", 46);
-    freq.put("פעצ", 67);
-    freq.put("ובי", 87);
-    freq.put("הצל", 10);
-    freq.put("ריכ", 202);
-    freq.put("ובן", 10);
-    freq.put("ובא", 38);
-    freq.put("ובו", 40);
-    freq.put("ובה", 33);
-    freq.put("אַד", 146);
-    freq.put("ובר", 12);
-    freq.put("צי ", 45);
-    freq.put("ָבי", 11);
-    freq.put("ַוו", 51);
-    freq.put("ובס", 30);
-    freq.put("אַב", 69);
-    freq.put("מן ", 118);
-    freq.put("פעי", 50);
-    freq.put("פעט", 111);
-    freq.put("פעל", 335);
-    freq.put("פען", 38);
-    freq.put("פעב", 119);
-    freq.put("פעא", 11);
-    freq.put("פעד", 63);
-    freq.put("פעו", 11);
-    freq.put("נתנ", 11);
-    freq.put("נז ", 34);
-    freq.put("ла", 9);
-    freq.put("װע ", 12);
-    freq.put("לפן", 31);
-    freq.put("לוט", 71);
-    freq.put("יח", 105);
-    freq.put("ג", 21508);
-    freq.put("תפי", 32);
-    freq.put("ביר", 128);
-    freq.put("רן ", 2137);
-    freq.put("רטא", 68);
-    freq.put("גטא", 15);
-    freq.put("ביק", 23);
-    freq.put("ביצ", 16);
-    freq.put("ֿר ", 9);
-    freq.put("קן ", 232);
-    freq.put("ביע", 100);
-    freq.put("בים", 38);
-    freq.put("ביל", 121);
-    freq.put("בין", 34);
-    freq.put("ביי", 622);
-    freq.put("ביט", 42);
-    freq.put("ביכ", 40);
-    freq.put("ּט ", 13);
-    freq.put("ביו", 28);
-    freq.put("ביה", 13);
-    freq.put("ריז", 127);
-    freq.put("אַס", 153);
-    freq.put("ביב", 78);
-    freq.put("ביא", 96);
-    freq.put("רענ", 457);
-    freq.put("ובֿ", 12);
-    freq.put("רױס", 31);
-    freq.put("ַפֿ", 102);
-    freq.put("עהו", 62);
-    freq.put("לי ", 318);
-    freq.put("ען ", 6238);
-    freq.put("אמנ", 11);
-    freq.put("דיר", 103);
-    freq.put(" סא", 611);
-    freq.put(" סב", 24);
-    freq.put("אכא", 22);
-    freq.put(" סד", 114);
-    freq.put("אשא", 62);
-    freq.put(" סו", 530);
-    freq.put("סן ", 455);
-    freq.put(" סט", 1464);
-    freq.put(" סי", 733);
-    freq.put(" סך", 28);
-    freq.put(" סכ", 25);
-    freq.put(" סל", 93);
-    freq.put("אכן", 243);
-    freq.put(" סמ", 21);
-    freq.put("מצר", 22);
-    freq.put(" סנ", 17);
-    freq.put("מצו", 48);
-    freq.put("מצה", 11);
-    freq.put(" ספ", 463);
-    freq.put("מצב", 17);
-    freq.put(" סק", 99);
-    freq.put("יעו", 70);
-    freq.put(" סת", 37);
-    freq.put("רעע", 15);
-    freq.put("מצי", 15);
-    freq.put("שעו", 27);
-    freq.put("לגי", 36);
-    freq.put("ֿיל", 29);
-    freq.put("שקע", 36);
-    freq.put("ַקי", 11);
-    freq.put("סיש", 145);
-    freq.put("סיר", 109);
-    freq.put("עבנ", 30);
-    freq.put("עבס", 12);
-    freq.put("סיפ", 26);
-    freq.put("סיק", 72);
-    freq.put("סיצ", 9);
-    freq.put("סיס", 192);
-    freq.put("סינ", 50);
-    freq.put("עבר", 291);
-    freq.put("סיע", 78);
-    freq.put("דיכ", 51);
-    freq.put("עבױ", 41);
-    freq.put("מפ ", 15);
-    freq.put("לק ", 118);
-    freq.put("ֿ ", 19);
-    freq.put("יקת", 14);
-    freq.put("אם ", 301);
-    freq.put("ק", 15864);
-    freq.put("רסי", 159);
-    freq.put("רס ", 268);
-    freq.put(" ף ", 11);
-    freq.put("עבז", 12);
-    freq.put("סיל", 18);
-    freq.put("סין", 11);
-    freq.put("עבו", 348);
-    freq.put("סיי", 235);
-    freq.put("סיט", 146);
-    freq.put("עבא", 26);
-    freq.put("סיו", 61);
-    freq.put("עבן", 315);
-    freq.put("עבל", 28);
-    freq.put("סיז", 9);
-    freq.put("סיב", 19);
-    freq.put("סיא", 43);
-    freq.put("עבט", 63);
-    freq.put("סיג", 64);
-    freq.put("ייִ", 78);
-    freq.put("ָך ", 24);
-    freq.put("נהל", 9);
-    freq.put("לטי", 54);
-    freq.put("נהי", 91);
-    freq.put("יצע", 137);
-    freq.put("פהע", 19);
-    freq.put("ײַב", 34);
-    freq.put("נהד", 15);
-    freq.put("נהג", 33);
-    freq.put("נהא", 40);
-    freq.put("ריב", 241);
-    freq.put("יבא", 53);
-    freq.put("כון", 14);
-    freq.put("ייַ", 66);
-    freq.put("אַצ", 86);
-    freq.put("טא ", 124);
-    freq.put("דה ", 169);
-    freq.put("יצל", 12);
-    freq.put("אמפ", 229);
-    freq.put("יף ", 1046);
-    freq.put("ַונ", 9);
-    freq.put("נהר", 10);
-    freq.put("н", 34);
-    freq.put("נהע", 33);
-    freq.put("אַז", 109);
-    freq.put("ֿן", 41);
-    freq.put("אַה", 20);
-    freq.put("אַו", 78);
-    freq.put("אַג", 58);
-    freq.put("גה ", 13);
-    freq.put("אַא", 17);
-    freq.put("אזא", 78);
-    freq.put("אַמ", 183);
-    freq.put("אַן", 246);
-    freq.put("אַל", 439);
-    freq.put("אַם", 46);
-    freq.put("אַך", 47);
-    freq.put("אַכ", 68);
-    freq.put("אַט", 329);
-    freq.put("אַי", 41);
-    freq.put("אס ", 3861);
-    freq.put("מיכ", 26);
-    freq.put("מיט", 1638);
-    freq.put("מיי", 541);
-    freq.put("מין", 152);
-    freq.put("מיל", 279);
-    freq.put("מים", 45);
-    freq.put("מיג", 45);
-    freq.put("מיד", 116);
-    freq.put("חס ", 13);
-    freq.put("מיז", 16);
-    freq.put("מיה", 10);
-    freq.put("מיו", 29);
-    freq.put("עקא", 99);
-    freq.put("מיר", 115);
-    freq.put("מיש", 320);
-    freq.put("ֿי", 182);
-    freq.put("אַװ", 41);
-    freq.put("בן ", 1705);
-    freq.put("מיע", 146);
-    freq.put("מינ", 292);
-    freq.put("מיס", 57);
-    freq.put("מיק", 94);
-    freq.put("ששכ", 21);
-    freq.put("ֿלא", 27);
-    freq.put("אַק", 175);
-    freq.put("אַפ", 184);
-    freq.put("אַץ", 10);
-    freq.put("אַנ", 684);
-    freq.put("אזט", 32);
-    freq.put("ֿלי", 11);
-    freq.put("טהר", 18);
-    freq.put("ֿו", 435);
-    freq.put("אַר", 648);
-    freq.put("אַש", 69);
-  }
-  
 }
-
@@ -0,0 +1,231 @@
+package com.cybozu.labs.langdetect;
+
+import java.io.Closeable;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link AsyncDetector} detects languages without blocking the caller, returning {@link CompletableFuture}s.
+ * <p>
+ * The detections run on an {@link Executor} with detectors borrowed from a {@link DetectorPool}.
+ * At most <code>maxInFlight</code> detections are submitted or running at the same time.
+ * Beyond that, a detection is rejected at once: its future completes exceptionally
+ * with a {@link RejectedExecutionException}, so load spikes don't pile up in an unbounded queue
+ * and the caller can shed or retry the work.
+ * <p>
+ * By default the detections run on {@link #newDefaultExecutor()}: one virtual thread per detection
+ * where the JDK has virtual threads, else a pool of one thread per available processor.
+ *
+ * <pre>
+ * AsyncDetector async = new AsyncDetector(DetectorFactory.getModel());
+ * async.detect(text).thenAccept(lang -&gt; ...);
+ * </pre>
+ *
+ * @see DetectorPool
+ */
+public class AsyncDetector implements Closeable {
+    private static final int MAX_IN_FLIGHT_DEFAULT = 1024;
+
+    private final DetectorPool detectors;
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+    private final int maxInFlight;
+    private final Semaphore permits;
+
+    /**
+     * Constructor.
+     * Detections run on {@link #newDefaultExecutor()}, at most 1024 at the same time.
+     * @param model the {@link LanguageModel} to detect with
+     */
+    public AsyncDetector(final LanguageModel model) {
+        this(new DetectorPool(model), MAX_IN_FLIGHT_DEFAULT);
+    }
+
+    /**
+     * Constructor.
+     * Detections run on {@link #newDefaultExecutor()}, which is shut down by {@link #close()}.
+     * @param detectors the detectors, see {@link DetectorPool#newDetector()} to configure them
+     * @param maxInFlight maximum number of detections submitted or running at the same time
+     */
+    public AsyncDetector(final DetectorPool detectors, final int maxInFlight) {
+        this(detectors, newDefaultExecutor(), maxInFlight, true);
+    }
+
+    /**
+     * Constructor.
+     * @param detectors the detectors, see {@link DetectorPool#newDetector()} to configure them
+     * @param executor the executor to detect on, which is left running by {@link #close()}
+     * @param maxInFlight maximum number of detections submitted or running at the same time
+     */
+    public AsyncDetector(final DetectorPool detectors, final Executor executor, final int maxInFlight) {
+        this(detectors, executor, maxInFlight, false);
+    }
+
+    private AsyncDetector(final DetectorPool detectors, final Executor executor, final int maxInFlight,
+                          final boolean owned) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be positive: " + maxInFlight);
+        }
+        this.detectors = detectors;
+        this.executor = executor;
+        this.ownedExecutor = owned ? (ExecutorService) executor : null;
+        this.maxInFlight = maxInFlight;
+        this.permits = new Semaphore(maxInFlight);
+    }
+
+    /**
+     * Create an executor running every task on a new virtual thread if the JDK supports it (Java 21 or later),
+     * or else a pool of daemon threads, one per available processor.
+     * @return the executor
+     */
+    public static ExecutorService newDefaultExecutor() {
+        try {
+            return (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+        } catch (final NoSuchMethodException e) {
+            // no virtual threads before Java 19
+        } catch (final IllegalAccessException e) {
+            // not accessible
+        } catch (final InvocationTargetException e) {
+            // preview feature not enabled (Java 19, 20)
+        }
+        final AtomicInteger count = new AtomicInteger();
+        return Executors.newFixedThreadPool(Runtime.getRuntime()
+                                                   .availableProcessors(), new ThreadFactory() {
+            @Override
+            public Thread newThread(final Runnable runnable) {
+                final Thread thread = new Thread(runnable, "langdetect-async-" + count.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    /**
+     * Detect the language of a text.
+     * @param text the target text
+     * @return future of the detected language name which has most probability, or "unknown" if not found;
+     * completed exceptionally with a {@link RejectedExecutionException} if too many detections are in flight
+     */
+    public CompletableFuture<String> detect(final CharSequence text) {
+        return submit(new Detection<String>() {
+            @Override
+            public String detect(final Detector detector) {
+                return detector.detect(text);
+            }
+        });
+    }
+
+    /**
+     * Get the language candidates of a text, see {@link Detector#getProbabilities()}.
+     * @param text the target text
+     * @return future of the possible languages list, ordered by probabilities descendant;
+     * completed exceptionally with a {@link LangDetectException} if there are no valid features in the text,
+     * or with a {@link RejectedExecutionException} if too many detections are in flight
+     */
+    public CompletableFuture<ArrayList<Language>> getProbabilities(final CharSequence text) {
+        return submit(new Detection<ArrayList<Language>>() {
+            @Override
+            public ArrayList<Language> detect(final Detector detector) throws LangDetectException {
+                detector.append(text);
+                return detector.getProbabilities();
+            }
+        });
+    }
+
+    /**
+     * @return number of detections submitted or running
+     */
+    public int getInFlight() {
+        return this.maxInFlight - this.permits
+                .availablePermits();
+    }
+
+    /**
+     * @return maximum number of detections submitted or running at the same time
+     */
+    public int getMaxInFlight() {
+        return this.maxInFlight;
+    }
+
+    /**
+     * Shut down the default executor, letting the submitted detections finish.
+     * An executor given to the constructor is left running.
+     */
+    @Override
+    public void close() {
+        if (this.ownedExecutor != null) {
+            this.ownedExecutor
+                    .shutdown();
+        }
+    }
+
+    private <T> CompletableFuture<T> submit(final Detection<T> detection) {
+        final CompletableFuture<T> future = new CompletableFuture<T>();
+        if (!this.permits
+                .tryAcquire()) {
+            future.completeExceptionally(
+                    new RejectedExecutionException("too many detections in flight: " + this.maxInFlight));
+            return future;
+        }
+        try {
+            this.executor
+                    .execute(new Runnable() {
+                        @Override
+                        public void run() {
+                            complete(detection, future);
+                        }
+                    });
+        } catch (final RejectedExecutionException e) {
+            this.permits
+                    .release();
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Run a detection and complete its future, after giving back the detector and the permit,
+     * so that the callbacks of the future can submit the next detection.
+     */
+    private <T> void complete(final Detection<T> detection, final CompletableFuture<T> future) {
+        T result = null;
+        Throwable failure = null;
+        try {
+            final Detector detector = this.detectors
+                    .borrow();
+            try {
+                result = detection.detect(detector);
+            } finally {
+                this.detectors
+                        .release(detector);
+            }
+        } catch (final Throwable e) {
+            failure = e;
+        } finally {
+            this.permits
+                    .release();
+        }
+        if (failure != null) {
+            future.completeExceptionally(failure);
+        } else {
+            future.complete(result);
+        }
+    }
+
+    /**
+     * A detection with a borrowed detector.
+     */
+    private interface Detection<T> {
+        T detect(Detector detector) throws LangDetectException;
+    }
+}
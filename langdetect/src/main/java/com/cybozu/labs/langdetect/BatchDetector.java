@@ -0,0 +1,116 @@
+package com.cybozu.labs.langdetect;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * {@link BatchDetector} detects the languages of many texts in parallel.
+ * <p>
+ * The texts are split across the worker threads of a {@link ForkJoinPool}.
+ * All workers share one read-only {@link LanguageModel},
+ * and every worker thread reuses its own {@link Detector} (see {@link DetectorPool#local()}).
+ * The results come back in the order of the input.
+ *
+ * <pre>
+ * BatchDetector batch = new BatchDetector(DetectorFactory.getModel());
+ * List&lt;String&gt; langs = batch.detect(texts);
+ * </pre>
+ *
+ * @see DetectorFactory#detect(List)
+ */
+public class BatchDetector {
+    /** Number of chunks per worker thread, so that busy workers can steal from slow ones. */
+    private static final int CHUNKS_PER_THREAD = 8;
+
+    private final DetectorPool detectors;
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructor.
+     * The texts are detected on a {@link ForkJoinPool} with one thread per available processor.
+     * @param model the {@link LanguageModel} to detect with
+     */
+    public BatchDetector(final LanguageModel model) {
+        this(new DetectorPool(model), SharedPool.INSTANCE);
+    }
+
+    /**
+     * Constructor.
+     * @param detectors the detectors of the worker threads, see {@link DetectorPool#newDetector()} to configure them
+     * @param pool the {@link ForkJoinPool} to detect on
+     */
+    public BatchDetector(final DetectorPool detectors, final ForkJoinPool pool) {
+        this.detectors = detectors;
+        this.pool = pool;
+    }
+
+    /**
+     * @return the {@link LanguageModel} to detect with
+     */
+    public LanguageModel getModel() {
+        return this.detectors
+                .getModel();
+    }
+
+    /**
+     * Detect the languages of texts.
+     * @param texts the target texts
+     * @return detected language name of each text, in input order ("unknown" where detection failed)
+     */
+    public List<String> detect(final List<? extends CharSequence> texts) {
+        final String[] results = new String[texts.size()];
+        if (results.length > 0) {
+            final int chunk = Math.max(1, results.length / (this.pool
+                                                                   .getParallelism() * CHUNKS_PER_THREAD));
+            this.pool
+                    .invoke(new DetectTask(texts, results, 0, results.length, chunk));
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Detects the texts from <code>start</code> to <code>end</code>, splitting in halves down to <code>chunk</code>.
+     */
+    private final class DetectTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final List<? extends CharSequence> texts;
+        private final String[] results;
+        private final int start;
+        private final int end;
+        private final int chunk;
+
+        DetectTask(final List<? extends CharSequence> texts, final String[] results, final int start, final int end,
+                   final int chunk) {
+            this.texts = texts;
+            this.results = results;
+            this.start = start;
+            this.end = end;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected void compute() {
+            if ((this.end - this.start) <= this.chunk) {
+                final Detector detector = BatchDetector.this.detectors
+                        .local();
+                for (int i = this.start; i < this.end; ++i) {
+                    this.results[i] = detector.detect(this.texts
+                                                              .get(i));
+                }
+                return;
+            }
+            final int middle = (this.start + this.end) >>> 1;
+            invokeAll(new DetectTask(this.texts, this.results, this.start, middle, this.chunk),
+                      new DetectTask(this.texts, this.results, middle, this.end, this.chunk));
+        }
+    }
+
+    /**
+     * The {@link ForkJoinPool} shared by the batch detectors which were not given their own pool.
+     */
+    private static final class SharedPool {
+        static final ForkJoinPool INSTANCE = new ForkJoinPool();
+    }
+}
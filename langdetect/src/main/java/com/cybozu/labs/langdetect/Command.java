@@ -0,0 +1,490 @@
+package com.cybozu.labs.langdetect;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link Command} detects the languages of files, directories or line-delimited input from the command line.
+ *
+ * <pre>
+ * java -jar langdetect-1.0-SNAPSHOT-cli.jar [options] [file or directory ...]
+ *
+ *   -l, --lines          detect every line instead of every file (the default for standard input)
+ *   -f, --format FORMAT  jsonl (default) or tsv
+ *   -n, --top N          number of languages to write per text (default 3)
+ *   -t, --threads N      number of detection threads (default: available processors)
+ *   -o, --output FILE    write to a file instead of standard output
+ *   -s, --seed SEED      seed of the random sampling, for reproducible results
+ *   -e, --exact          score every n-gram once ({@link ScoringMode#EXACT}) instead of sampling
+ * </pre>
+ *
+ * Without files, or with <code>-</code>, the lines of standard input are detected.
+ * Directories are walked recursively, in name order.
+ * <p>
+ * The work runs as a bounded pipeline: one reader thread publishes the texts,
+ * a {@link DetectionProcessor} detects them in batches on the detection threads,
+ * and the writer writes the results in input order.
+ * Every stage blocks when the next one falls behind, so memory stays bounded whatever the size of the input.
+ * A file is read through a memory mapping, and only its first {@link #DOCUMENT_LENGTH} characters are decoded,
+ * as a detector looks no further; lines are read through a large buffer.
+ * <p>
+ * Every result is written as a line with the id of the text (the file name, or the file name and line number)
+ * and the top languages with their probabilities; texts which can't be detected get the language "unknown".
+ */
+public final class Command {
+    private static final int DOCUMENT_LENGTH = 10000;
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final int BATCH_SIZE = 256;
+    private static final String STDIN = "-";
+
+    private boolean lines;
+    private boolean jsonl = true;
+    private int top = 3;
+    private int threads = Runtime.getRuntime()
+                                 .availableProcessors();
+    private String output;
+    private Long seed;
+    private boolean exact;
+    private final List<String> paths = new ArrayList<String>();
+    private ResultWriter writer;
+
+    private Command() {
+    }
+
+    public static void main(final String[] args) {
+        final int status = run(args, System.in, System.out, System.err);
+        if (status != 0) {
+            System.exit(status);
+        }
+    }
+
+    /**
+     * Run the command.
+     * @param args command line arguments
+     * @param in standard input
+     * @param out standard output
+     * @param err standard error, for usage, warnings and the summary
+     * @return exit status: 0 on success, 1 if the input or output failed, 2 on a usage error
+     */
+    public static int run(final String[] args, final InputStream in, final OutputStream out, final PrintStream err) {
+        final Command command = new Command();
+        try {
+            command.parse(args);
+        } catch (final IllegalArgumentException e) {
+            err.println(e.getMessage());
+            err.println("usage: Command [-l] [-f jsonl|tsv] [-n top] [-t threads] [-o file] [-s seed] [-e] "
+                        + "[file or directory ...]");
+            return 2;
+        }
+        try {
+            return command.execute(in, out, err);
+        } catch (final IOException e) {
+            err.println("langdetect: " + e.getMessage());
+            return 1;
+        } catch (final InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            return 1;
+        }
+    }
+
+    private void parse(final String[] args) {
+        for (int i = 0; i < args.length; ++i) {
+            final String arg = args[i];
+            if ("-l".equals(arg) || "--lines".equals(arg)) {
+                this.lines = true;
+            } else if ("-e".equals(arg) || "--exact".equals(arg)) {
+                this.exact = true;
+            } else if ("-f".equals(arg) || "--format".equals(arg)) {
+                final String format = value(args, ++i, arg);
+                if (!"jsonl".equals(format) && !"tsv".equals(format)) {
+                    throw new IllegalArgumentException("unknown format: " + format);
+                }
+                this.jsonl = "jsonl".equals(format);
+            } else if ("-n".equals(arg) || "--top".equals(arg)) {
+                this.top = number(value(args, ++i, arg), arg);
+            } else if ("-t".equals(arg) || "--threads".equals(arg)) {
+                this.threads = number(value(args, ++i, arg), arg);
+            } else if ("-o".equals(arg) || "--output".equals(arg)) {
+                this.output = value(args, ++i, arg);
+            } else if ("-s".equals(arg) || "--seed".equals(arg)) {
+                try {
+                    this.seed = Long.parseLong(value(args, ++i, arg));
+                } catch (final NumberFormatException e) {
+                    throw new IllegalArgumentException("invalid seed: " + args[i]);
+                }
+            } else if (arg.startsWith("-") && !STDIN.equals(arg)) {
+                throw new IllegalArgumentException("unknown option: " + arg);
+            } else {
+                this.paths
+                        .add(arg);
+            }
+        }
+        if (this.paths
+                .isEmpty()) {
+            this.paths
+                    .add(STDIN);
+        }
+    }
+
+    private static String value(final String[] args, final int i, final String option) {
+        if (i >= args.length) {
+            throw new IllegalArgumentException("missing value of " + option);
+        }
+        return args[i];
+    }
+
+    private static int number(final String value, final String option) {
+        try {
+            final int number = Integer.parseInt(value);
+            if (number > 0) {
+                return number;
+            }
+        } catch (final NumberFormatException e) {
+            // reported below
+        }
+        throw new IllegalArgumentException("invalid value of " + option + ": " + value);
+    }
+
+    private int execute(final InputStream in, final OutputStream out, final PrintStream err)
+            throws IOException, InterruptedException {
+        final long start = System.nanoTime();
+        final LanguageModel model = DetectorFactory.getModel();
+        final DetectorPool detectors = new DetectorPool(model) {
+            @Override
+            protected Detector newDetector() {
+                final Detector detector = new Detector(model);
+                if (Command.this.seed != null) {
+                    detector.setSeed(Command.this.seed);
+                }
+                if (Command.this.exact) {
+                    detector.setScoringMode(ScoringMode.EXACT);
+                }
+                return detector;
+            }
+        };
+        final ExecutorService executor = Executors.newFixedThreadPool(this.threads, new ThreadFactory() {
+            private final AtomicInteger count = new AtomicInteger();
+
+            @Override
+            public Thread newThread(final Runnable runnable) {
+                final Thread thread = new Thread(runnable, "langdetect-" + this.count
+                        .incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        final OutputStream stream = (this.output != null) ? new FileOutputStream(this.output) : out;
+        final ResultWriter writer = new ResultWriter(new BufferedWriter(
+                new OutputStreamWriter(stream, StandardCharsets.UTF_8), BUFFER_SIZE));
+        this.writer = writer;
+        final DetectionProcessor processor = new DetectionProcessor(detectors, executor, this.threads, BATCH_SIZE);
+        final SubmissionPublisher<CharSequence> texts = new SubmissionPublisher<CharSequence>(
+                ForkJoinPool.commonPool(), BATCH_SIZE);
+        texts.subscribe(processor);
+        processor.subscribe(writer);
+        int status = 0;
+        try {
+            for (final String path : this.paths) {
+                if (writer.isDone()) {
+                    break;
+                }
+                if (STDIN.equals(path)) {
+                    readLines(STDIN, in, texts);
+                } else if (!readPath(new File(path), texts, err)) {
+                    status = 1;
+                }
+            }
+            texts.close();
+        } catch (final IOException e) {
+            texts.closeExceptionally(e);
+            throw e;
+        } finally {
+            writer.done
+                    .await();
+            executor.shutdown();
+            if (this.output != null) {
+                stream.close();
+            }
+        }
+        if (writer.failure != null) {
+            throw new IOException(writer.failure
+                                          .getMessage(), writer.failure);
+        }
+        err.println(writer.count + " texts in " + (System.nanoTime() - start) / 1000000 + " ms");
+        return status;
+    }
+
+    /**
+     * Publish the texts of a file or directory.
+     * A file which can't be read is reported and skipped.
+     * @return false if a file could not be read
+     */
+    private boolean readPath(final File file, final SubmissionPublisher<CharSequence> texts, final PrintStream err) {
+        if (file.isDirectory()) {
+            final File[] children = file.listFiles();
+            if (children == null) {
+                err.println("langdetect: can't list " + file);
+                return false;
+            }
+            Arrays.sort(children);
+            boolean ok = true;
+            for (final File child : children) {
+                if (this.writer
+                        .isDone()) {
+                    break;
+                }
+                ok &= readPath(child, texts, err);
+            }
+            return ok;
+        }
+        if (!file.isFile()) {
+            err.println("langdetect: no such file " + file);
+            return false;
+        }
+        try {
+            if (this.lines) {
+                final InputStream in = new FileInputStream(file);
+                try {
+                    readLines(file.getPath(), in, texts);
+                } finally {
+                    in.close();
+                }
+            } else {
+                texts.submit(new Text(file.getPath(), readDocument(file)));
+            }
+        } catch (final IOException e) {
+            err.println("langdetect: can't read " + file + ": " + e.getMessage());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Publish every line of a stream as a text, until the writer is done.
+     */
+    private void readLines(final String name, final InputStream in, final SubmissionPublisher<CharSequence> texts)
+            throws IOException {
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8),
+                                                         BUFFER_SIZE);
+        final String prefix = STDIN.equals(name) ? "" : (name + ":");
+        String line;
+        long number = 0;
+        while (!this.writer
+                .isDone() && ((line = reader.readLine()) != null)) {
+            texts.submit(new Text(prefix + (++number), line));
+        }
+    }
+
+    /**
+     * Decode the beginning of a file through a memory mapping.
+     */
+    private static String readDocument(final File file) throws IOException {
+        final FileInputStream in = new FileInputStream(file);
+        try {
+            final FileChannel channel = in.getChannel();
+            final long size = Math.min(channel.size(), 4L * DOCUMENT_LENGTH);
+            final ByteBuffer bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            final CharsetDecoder decoder = StandardCharsets.UTF_8
+                    .newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            final CharBuffer chars = CharBuffer.allocate(DOCUMENT_LENGTH);
+            decoder.decode(bytes, chars, size == channel.size());
+            chars.flip();
+            return chars.toString();
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * A text and its id, which comes back as the text of its {@link DetectionResult}.
+     */
+    private static final class Text implements CharSequence {
+        private final String id;
+        private final String text;
+
+        Text(final String id, final String text) {
+            this.id = id;
+            this.text = text;
+        }
+
+        @Override
+        public int length() {
+            return this.text
+                    .length();
+        }
+
+        @Override
+        public char charAt(final int index) {
+            return this.text
+                    .charAt(index);
+        }
+
+        @Override
+        public CharSequence subSequence(final int start, final int end) {
+            return this.text
+                    .subSequence(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return this.text;
+        }
+    }
+
+    /**
+     * Last stage of the pipeline, writing the results in the order they are published.
+     */
+    private final class ResultWriter implements Flow.Subscriber<DetectionResult> {
+        private final Writer writer;
+        private final StringBuilder line = new StringBuilder();
+        final CountDownLatch done = new CountDownLatch(1);
+        volatile Throwable failure;
+        long count;
+        private Flow.Subscription subscription;
+
+        ResultWriter(final Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(BATCH_SIZE);
+        }
+
+        @Override
+        public void onNext(final DetectionResult result) {
+            format(((Text) result.text).id, result.languages);
+            try {
+                this.writer
+                        .write(this.line
+                                       .toString());
+            } catch (final IOException e) {
+                this.failure = e;
+                this.subscription
+                        .cancel();
+                this.done
+                        .countDown();
+                return;
+            }
+            if ((++this.count % BATCH_SIZE) == 0) {
+                this.subscription
+                        .request(BATCH_SIZE);
+            }
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            this.failure = throwable;
+            finish();
+        }
+
+        @Override
+        public void onComplete() {
+            finish();
+        }
+
+        /**
+         * @return true once the results are written or writing failed, so that no more texts are wanted
+         */
+        boolean isDone() {
+            return this.done
+                    .getCount() == 0;
+        }
+
+        private void finish() {
+            try {
+                this.writer
+                        .flush();
+            } catch (final IOException e) {
+                this.failure = e;
+            }
+            this.done
+                    .countDown();
+        }
+
+        private void format(final String id, final List<Language> languages) {
+            final StringBuilder line = this.line;
+            line.setLength(0);
+            final int n = Math.min(Command.this.top, languages.size());
+            if (Command.this.jsonl) {
+                line.append("{\"id\":");
+                appendJson(line, id);
+                line.append(",\"lang\":");
+                appendJson(line, (n > 0) ? languages.get(0).lang : Detector.UNKNOWN_LANG);
+                line.append(",\"languages\":[");
+                for (int i = 0; i < n; ++i) {
+                    if (i > 0) {
+                        line.append(',');
+                    }
+                    line.append("{\"lang\":");
+                    appendJson(line, languages.get(i).lang);
+                    line.append(",\"prob\":")
+                        .append(languages.get(i).prob)
+                        .append('}');
+                }
+                line.append("]}\n");
+            } else {
+                line.append(id.replace('\t', ' '));
+                if (n == 0) {
+                    line.append('\t')
+                        .append(Detector.UNKNOWN_LANG)
+                        .append("\t0.0");
+                }
+                for (int i = 0; i < n; ++i) {
+                    line.append('\t')
+                        .append(languages.get(i).lang)
+                        .append('\t')
+                        .append(languages.get(i).prob);
+                }
+                line.append('\n');
+            }
+        }
+    }
+
+    private static void appendJson(final StringBuilder line, final String value) {
+        line.append('"');
+        for (int i = 0; i < value.length(); ++i) {
+            final char ch = value.charAt(i);
+            if ((ch == '"') || (ch == '\\')) {
+                line.append('\\')
+                    .append(ch);
+            } else if (ch < 0x20) {
+                line.append(String.format("\\u%04x", (int) ch));
+            } else {
+                line.append(ch);
+            }
+        }
+        line.append('"');
+    }
+}
@@ -0,0 +1,307 @@
+package com.cybozu.labs.langdetect;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link DetectionCache} keeps the detection results of recent texts, so that repeated texts
+ * (titles, UI strings, retweets, ...) are detected once.
+ * <p>
+ * A result is keyed by the cleaned text of the detector and by the parameters the result depends on:
+ * the {@link LanguageModel}, the scoring mode, the seed, alpha and the prior map.
+ * The text itself is compared on a hash match, so a hit always gives the result of an uncached detection.
+ * Detectors using {@link ScoringMode#SAMPLING} without a seed give a different result on every call,
+ * so their texts are not cached.
+ * <p>
+ * The cache is split in segments, each with its own lock and its own least recently used order,
+ * so threads detecting different texts rarely wait for each other.
+ * The size of an entry is estimated from its text and results,
+ * and the least recently used entries of a segment are evicted when it exceeds its share of the memory cap.
+ *
+ * <pre>
+ * DetectionCache cache = new DetectionCache(16 * 1024 * 1024);
+ * Detector detector = pool.local();
+ * detector.append(text);
+ * List&lt;Language&gt; languages = cache.getProbabilities(detector);
+ * </pre>
+ *
+ * @see DetectorPool
+ */
+public class DetectionCache {
+    private static final int SEGMENTS = 16;
+    private static final int ENTRY_OVERHEAD = 160;
+    private static final int LANGUAGE_SIZE = 32;
+
+    private final Segment[] segments;
+    private final long maxBytes;
+    private final AtomicLong hits;
+    private final AtomicLong misses;
+    private final AtomicLong evictions;
+
+    /**
+     * Constructor.
+     * @param maxBytes memory cap of the cache, in bytes (estimated)
+     */
+    public DetectionCache(final long maxBytes) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("cache size must be positive: " + maxBytes);
+        }
+        this.maxBytes = maxBytes;
+        this.segments = new Segment[SEGMENTS];
+        for (int i = 0; i < SEGMENTS; ++i) {
+            this.segments[i] = new Segment(maxBytes / SEGMENTS);
+        }
+        this.hits = new AtomicLong();
+        this.misses = new AtomicLong();
+        this.evictions = new AtomicLong();
+    }
+
+    /**
+     * Get the language probabilities of the text appended to a detector,
+     * like {@link Detector#getProbabilities()}, from the cache if the same text was detected before.
+     * @param detector the detector with the target text appended
+     * @return possible languages list, ordered by probabilities descendant
+     * @throws LangDetectException
+     *  code = ErrorCode.CantDetectError : Can't detect because of no valid features in text
+     */
+    public ArrayList<Language> getProbabilities(final Detector detector) throws LangDetectException {
+        final List<Object> parameters = detector.getParameters();
+        if (parameters == null) {
+            return detector.getProbabilities();
+        }
+        final Key key = new Key(detector.getText(), parameters);
+        final Segment segment = this.segments[(key.hash ^ (key.hash >>> 16)) & (SEGMENTS - 1)];
+        Language[] languages = segment.get(key);
+        if (languages != null) {
+            this.hits
+                    .incrementAndGet();
+        } else {
+            this.misses
+                    .incrementAndGet();
+            final ArrayList<Language> result = detector.getProbabilities();
+            languages = result.toArray(new Language[result.size()]);
+            key.copyText();
+            this.evictions
+                    .addAndGet(segment.put(key, copy(languages)));
+        }
+        final ArrayList<Language> result = new ArrayList<Language>(languages.length);
+        for (final Language language : languages) {
+            result.add(new Language(language.lang, language.prob));
+        }
+        return result;
+    }
+
+    /**
+     * Detect the language of a text, from the cache if the same text was detected before.
+     * @param detector the detector to detect with, which is reset first
+     * @param text the target text
+     * @return detected language name which has most probability or "unknown" on error or not found.
+     */
+    public String detect(final Detector detector, final CharSequence text) {
+        detector.reset();
+        detector.append(text);
+        try {
+            final List<Language> languages = getProbabilities(detector);
+            if (!languages.isEmpty()) {
+                return languages.get(0).lang;
+            }
+        } catch (final LangDetectException ignore) {
+            // no features in text
+        }
+        return Detector.UNKNOWN_LANG;
+    }
+
+    /**
+     * Remove all entries. The counters are kept.
+     */
+    public void clear() {
+        for (final Segment segment : this.segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * @return number of cached texts
+     */
+    public int size() {
+        int size = 0;
+        for (final Segment segment : this.segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * @return estimated memory of the cached entries, in bytes
+     */
+    public long getSizeInBytes() {
+        long bytes = 0;
+        for (final Segment segment : this.segments) {
+            bytes += segment.bytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * @return memory cap of the cache, in bytes
+     */
+    public long getMaxSizeInBytes() {
+        return this.maxBytes;
+    }
+
+    /**
+     * @return number of detections answered from the cache
+     */
+    public long getHitCount() {
+        return this.hits
+                .get();
+    }
+
+    /**
+     * @return number of cacheable detections which were not in the cache
+     */
+    public long getMissCount() {
+        return this.misses
+                .get();
+    }
+
+    /**
+     * @return number of entries evicted to stay under the memory cap
+     */
+    public long getEvictionCount() {
+        return this.evictions
+                .get();
+    }
+
+    private static Language[] copy(final Language[] languages) {
+        final Language[] copy = new Language[languages.length];
+        for (int i = 0; i < languages.length; ++i) {
+            copy[i] = new Language(languages[i].lang, languages[i].prob);
+        }
+        return copy;
+    }
+
+    /**
+     * Cleaned text and detector parameters.
+     * The text is only copied when the key goes into the cache.
+     */
+    private static final class Key {
+        private CharSequence text;
+        private final List<Object> parameters;
+        private final int hash;
+
+        Key(final CharSequence text, final List<Object> parameters) {
+            this.text = text;
+            this.parameters = parameters;
+            int h = parameters.hashCode();
+            for (int i = 0; i < text.length(); ++i) {
+                h = (31 * h) + text.charAt(i);
+            }
+            this.hash = h;
+        }
+
+        void copyText() {
+            this.text = this.text
+                    .toString();
+        }
+
+        int sizeInBytes(final int results) {
+            return ENTRY_OVERHEAD + (2 * this.text
+                    .length()) + (LANGUAGE_SIZE * results);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            if ((this.hash != other.hash) || (this.text
+                                                      .length() != other.text
+                                                      .length())) {
+                return false;
+            }
+            for (int i = 0; i < this.text
+                    .length(); ++i) {
+                if (this.text
+                            .charAt(i) != other.text
+                            .charAt(i)) {
+                    return false;
+                }
+            }
+            return this.parameters
+                    .equals(other.parameters);
+        }
+    }
+
+    /**
+     * Part of the cache with its own lock, in least recently used order.
+     */
+    private static final class Segment {
+        private final long maxBytes;
+        private final LinkedHashMap<Key, Language[]> map;
+        private long bytes;
+
+        Segment(final long maxBytes) {
+            this.maxBytes = maxBytes;
+            this.map = new LinkedHashMap<Key, Language[]>(16, 0.75f, true);
+        }
+
+        synchronized Language[] get(final Key key) {
+            return this.map
+                    .get(key);
+        }
+
+        /**
+         * @return number of evicted entries
+         */
+        synchronized int put(final Key key, final Language[] languages) {
+            final int size = key.sizeInBytes(languages.length);
+            if (size > this.maxBytes) {
+                return 0;
+            }
+            final Language[] previous = this.map
+                    .put(key, languages);
+            this.bytes += size;
+            if (previous != null) {
+                this.bytes -= key.sizeInBytes(previous.length);
+            }
+            int evicted = 0;
+            final Iterator<Map.Entry<Key, Language[]>> eldest = this.map
+                    .entrySet()
+                    .iterator();
+            while (this.bytes > this.maxBytes) {
+                final Map.Entry<Key, Language[]> entry = eldest.next();
+                this.bytes -= entry.getKey()
+                                   .sizeInBytes(entry.getValue().length);
+                eldest.remove();
+                ++evicted;
+            }
+            return evicted;
+        }
+
+        synchronized void clear() {
+            this.map
+                    .clear();
+            this.bytes = 0;
+        }
+
+        synchronized int size() {
+            return this.map
+                    .size();
+        }
+
+        synchronized long bytes() {
+            return this.bytes;
+        }
+    }
+}
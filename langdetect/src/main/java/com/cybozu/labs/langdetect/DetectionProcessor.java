@@ -0,0 +1,243 @@
+package com.cybozu.labs.langdetect;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * {@link DetectionProcessor} is a {@link Flow.Processor} stage detecting the language of every text it receives.
+ * <p>
+ * The texts are detected in batches, in parallel on an {@link Executor},
+ * each batch with a detector borrowed from a {@link DetectorPool}, so the detectors are reused from batch to batch.
+ * The results are published in the order of the texts.
+ * A batch is dispatched when it is full, or at once when no other batch is being detected,
+ * so that a slow upstream doesn't wait for a batch to fill.
+ * <p>
+ * The stage is bounded: it requests at most <code>parallelism * batchSize</code> texts from upstream
+ * beyond those it has published, and publishing blocks while the buffer of a subscriber is full
+ * (see {@link SubmissionPublisher#submit(Object)}), so a slow subscriber slows down the upstream
+ * instead of making texts pile up or get dropped.
+ * <p>
+ * If a batch fails, the subscription to upstream is cancelled and the stage is closed
+ * with the failure at once, without waiting for the batches before it.
+ *
+ * <pre>
+ * DetectionProcessor processor = new DetectionProcessor(DetectorFactory.getModel());
+ * texts.subscribe(processor);
+ * processor.subscribe(results);
+ * </pre>
+ *
+ * @see DetectorPool
+ */
+public class DetectionProcessor extends SubmissionPublisher<DetectionResult>
+        implements Flow.Processor<CharSequence, DetectionResult> {
+    private static final int BATCH_SIZE_DEFAULT = 64;
+
+    private final DetectorPool detectors;
+    private final Executor executor;
+    private final int batchSize;
+    private final int window;
+    private final Object lock = new Object();
+    private Flow.Subscription subscription;
+    private List<CharSequence> batch;
+    private int batches;
+    private boolean failed;
+    private CompletableFuture<Void> tail = CompletableFuture.completedFuture(null);
+
+    /**
+     * Constructor.
+     * The texts are detected on the common {@link ForkJoinPool}, in batches of 64,
+     * at most one batch per available processor at the same time.
+     * @param model the {@link LanguageModel} to detect with
+     */
+    public DetectionProcessor(final LanguageModel model) {
+        this(new DetectorPool(model), ForkJoinPool.commonPool(), Runtime.getRuntime()
+                                                                       .availableProcessors(), BATCH_SIZE_DEFAULT);
+    }
+
+    /**
+     * Constructor.
+     * @param detectors the detectors, see {@link DetectorPool#newDetector()} to configure them
+     * @param executor the executor to detect on
+     * @param parallelism maximum number of batches detected at the same time
+     * @param batchSize maximum number of texts of a batch
+     */
+    public DetectionProcessor(final DetectorPool detectors, final Executor executor, final int parallelism,
+                              final int batchSize) {
+        super(ForkJoinPool.commonPool(), Flow.defaultBufferSize());
+        if ((parallelism < 1) || (batchSize < 1)) {
+            throw new IllegalArgumentException("parallelism and batch size must be positive");
+        }
+        this.detectors = detectors;
+        this.executor = executor;
+        this.batchSize = batchSize;
+        this.window = parallelism * batchSize;
+        this.batch = new ArrayList<CharSequence>(batchSize);
+    }
+
+    @Override
+    public void onSubscribe(final Flow.Subscription subscription) {
+        if (this.subscription != null) {
+            subscription.cancel();
+            return;
+        }
+        this.subscription = subscription;
+        subscription.request(this.window);
+    }
+
+    @Override
+    public void onNext(final CharSequence text) {
+        synchronized (this.lock) {
+            if (this.failed) {
+                return;
+            }
+            this.batch
+                    .add(text);
+            if ((this.batch
+                         .size() >= this.batchSize) || (this.batches == 0)) {
+                dispatch();
+            }
+        }
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+        synchronized (this.lock) {
+            if (!this.batch
+                    .isEmpty()) {
+                dispatch();
+            }
+            this.tail
+                    .whenComplete(new BiConsumer<Void, Throwable>() {
+                        @Override
+                        public void accept(final Void ignore, final Throwable failure) {
+                            closeExceptionally(throwable);
+                        }
+                    });
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        synchronized (this.lock) {
+            if (!this.batch
+                    .isEmpty()) {
+                dispatch();
+            }
+            this.tail
+                    .whenComplete(new BiConsumer<Void, Throwable>() {
+                        @Override
+                        public void accept(final Void ignore, final Throwable failure) {
+                            if (failure != null) {
+                                closeExceptionally(failure);
+                            } else {
+                                close();
+                            }
+                        }
+                    });
+        }
+    }
+
+    /**
+     * Start detecting the current batch, and queue the publication of its results after those of the batch before.
+     * Called with the lock held.
+     */
+    private void dispatch() {
+        final List<CharSequence> texts = this.batch;
+        this.batch = new ArrayList<CharSequence>(this.batchSize);
+        ++this.batches;
+        final CompletableFuture<DetectionResult[]> results = CompletableFuture.supplyAsync(
+                new Supplier<DetectionResult[]>() {
+                    @Override
+                    public DetectionResult[] get() {
+                        return detect(texts);
+                    }
+                }, this.executor);
+        results.whenComplete(new BiConsumer<DetectionResult[], Throwable>() {
+            @Override
+            public void accept(final DetectionResult[] ignore, final Throwable failure) {
+                if (failure != null) {
+                    fail(failure);
+                }
+            }
+        });
+        this.tail = this.tail
+                .thenCombineAsync(results, new BiFunction<Void, DetectionResult[], Void>() {
+                    @Override
+                    public Void apply(final Void ignore, final DetectionResult[] detected) {
+                        publish(detected);
+                        return null;
+                    }
+                }, this.executor);
+    }
+
+    /**
+     * Stop at the first failed batch: cancel the subscription, drop the waiting texts and close with the failure.
+     */
+    private void fail(final Throwable failure) {
+        synchronized (this.lock) {
+            if (this.failed) {
+                return;
+            }
+            this.failed = true;
+            this.batch
+                    .clear();
+        }
+        this.subscription
+                .cancel();
+        closeExceptionally((failure instanceof CompletionException) && (failure.getCause() != null)
+                           ? failure.getCause() : failure);
+    }
+
+    private DetectionResult[] detect(final List<CharSequence> texts) {
+        final DetectionResult[] results = new DetectionResult[texts.size()];
+        final Detector detector = this.detectors
+                .borrow();
+        try {
+            for (int i = 0; i < results.length; ++i) {
+                final CharSequence text = texts.get(i);
+                detector.reset();
+                detector.append(text);
+                List<Language> languages;
+                try {
+                    languages = detector.getProbabilities();
+                } catch (final LangDetectException e) {
+                    languages = Collections.emptyList();
+                }
+                results[i] = new DetectionResult(text, languages);
+            }
+        } finally {
+            this.detectors
+                    .release(detector);
+        }
+        return results;
+    }
+
+    /**
+     * Publish the results of a batch, then request as many texts from upstream,
+     * and dispatch the texts waiting for a batch to fill if no other batch is being detected.
+     */
+    private void publish(final DetectionResult[] results) {
+        for (final DetectionResult result : results) {
+            submit(result);
+        }
+        synchronized (this.lock) {
+            --this.batches;
+            if ((this.batches == 0) && !this.batch
+                    .isEmpty()) {
+                dispatch();
+            }
+        }
+        this.subscription
+                .request(results.length);
+    }
+}
@@ -0,0 +1,28 @@
+package com.cybozu.labs.langdetect;
+
+import java.util.List;
+
+/**
+ * {@link DetectionResult} is a text and its detected languages.
+ * {@link DetectionProcessor} publishes one for every text it receives.
+ *
+ * @see DetectionProcessor
+ */
+public class DetectionResult {
+    /** the target text */
+    public final CharSequence text;
+    /** detected language name which has most probability, or "unknown" */
+    public final String lang;
+    /** language candidates ordered by probabilities descendant, empty if the language can't be detected */
+    public final List<Language> languages;
+
+    public DetectionResult(final CharSequence text, final List<Language> languages) {
+        this.text = text;
+        this.lang = languages.isEmpty() ? Detector.UNKNOWN_LANG : languages.get(0).lang;
+        this.languages = languages;
+    }
+
+    public String toString() {
+        return this.lang + " " + this.languages;
+    }
+}
@@ -1,18 +1,29 @@
 package com.cybozu.labs.langdetect;
 
 import com.cybozu.labs.langdetect.util.NGram;
+import com.cybozu.labs.langdetect.util.NGramExtractor;
+import com.cybozu.labs.langdetect.util.NGramIndex;
+import com.cybozu.labs.langdetect.util.NGramSink;
+import com.cybozu.labs.langdetect.util.SegmentReservoir;
+import com.cybozu.labs.langdetect.util.TextScanner;
+import com.cybozu.labs.langdetect.util.UnicodeScripts;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Formatter;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Random;
-import java.util.regex.Pattern;
 
 /**
  * {@link Detector} class is to detect language from specified text. 
- * Its instance is able to be constructed via the factory class {@link DetectorFactory}.
+ * Its instance is able to be constructed via the factory class {@link DetectorFactory}
+ * or directly from a {@link LanguageModel}.
  * <p>
  * After appending a target text to the {@link Detector} instance with {@link #append(Reader)} or {@link #append
  * (String)},
@@ -22,7 +33,8 @@ import java.util.regex.Pattern;
  * {@link #getProbabilities()} methods returns a list of multiple languages and their probabilities.
  * <p>  
  * The detector has some parameters for language detection.
- * See {@link #setAlpha(double)}, {@link #setMaxTextLength(int)} and {@link #setPriorMap(HashMap)}.
+ * See {@link #setAlpha(double)}, {@link #setMaxTextLength(int)}, {@link #setPriorMap(HashMap)}
+ * and {@link #setScoringMode(ScoringMode)}.
  *
  * <pre>
  * import java.util.ArrayList;
@@ -55,30 +67,49 @@ import java.util.regex.Pattern;
  * @see DetectorFactory
  */
 public class Detector {
-    private static final double ALPHA_DEFAULT = 0.5;
+    /* package scope */ static final double ALPHA_DEFAULT = 0.5;
     private static final double ALPHA_WIDTH = 0.05;
 
     private static final int ITERATION_LIMIT = 1000;
     private static final double PROB_THRESHOLD = 0.1;
     private static final double CONV_THRESHOLD = 0.99999;
-    private static final int BASE_FREQ = 10000;
-    private static final String UNKNOWN_LANG = "unknown";
-
-    private static final Pattern URL_REGEX = Pattern.compile("https?://[-_.?&~;+=/#0-9A-Za-z]{1,2076}");
-    private static final Pattern MAIL_REGEX = Pattern.compile(
-            "[-_.0-9A-Za-z]{1,64}@[-_0-9A-Za-z]{1,255}[-_.0-9A-Za-z]{1,255}");
-
-    private final HashMap<String, double[]> wordLangProbMap;
-    private final ArrayList<String> langlist;
-
-    private StringBuffer text;
-    private double[] langprob;
+    /* package scope */ static final int BASE_FREQ = 10000;
+    private static final int STREAM_CHUNK = 128;
+    private static final int SAMPLE_SEGMENT_LENGTH = 200;
+    /* package scope */ static final String UNKNOWN_LANG = "unknown";
+
+    private final LanguageModel model;
+    private final NGramIndex ngramIndex;
+    private final IntBuffer rowStart;
+    private final ShortBuffer rowLangs;
+    private final Probabilities rowProbs;
+    private final List<String> langlist;
+    private final int langsize;
+
+    private final TextScanner text;
+    private final double[] langprob;
+    private boolean detected;
+
+    // scratch space kept across reset(), so that a reused detector allocates close to nothing
+    private final NGramIdCollector collector;
+    private final NGramExtractor extractor;
+    private final Random rand;
+    private final double[] prob;
+    private final double[] logprob;
+    private final boolean[] candidate;
+    private boolean restricted;
+    private int[] slotIds;
+    private int[] slotCounts;
+    private char[] readBuffer;
+    private SegmentReservoir reservoir;
 
     private double alpha = ALPHA_DEFAULT;
     private int max_text_length = 10000;
     private double[] priorMap;
     private boolean verbose;
     private Long seed;
+    private ScoringMode scoringMode = ScoringMode.SAMPLING;
+    private List<Object> parameters;
 
     /**
      * Constructor.
@@ -86,12 +117,41 @@ public class Detector {
      * @param factory {@link DetectorFactory} instance (only DetectorFactory inside)
      */
     public Detector(final DetectorFactory factory) {
-        this.wordLangProbMap = DetectorFactory.wordLangProbMap;
-        this.langlist = DetectorFactory.langlist;
-        this.text = new StringBuffer();
+        this(DetectorFactory.getModel());
         this.seed = factory.seed;
     }
 
+    /**
+     * Constructor.
+     * @param model the {@link LanguageModel} to detect with
+     */
+    public Detector(final LanguageModel model) {
+        this.model = model;
+        this.ngramIndex = model.ngramIndex;
+        this.rowStart = model.rowStart;
+        this.rowLangs = model.rowLangs;
+        this.rowProbs = model.rowProbs;
+        this.langlist = model.getLangList();
+        this.langsize = model.langsize;
+        this.text = new TextScanner();
+        this.langprob = new double[this.langsize];
+        this.collector = new NGramIdCollector();
+        this.extractor = new NGramExtractor(this.collector);
+        this.rand = new Random();
+        this.prob = new double[this.langsize];
+        this.logprob = new double[this.langsize];
+        this.candidate = new boolean[this.langsize];
+    }
+
+    /**
+     * Set the seed of the random sampling, so that {@link ScoringMode#SAMPLING} gives reproducible results.
+     * @param seed the seed
+     */
+    public void setSeed(final long seed) {
+        this.seed = seed;
+        this.parameters = null;
+    }
+
     /**
      * Set Verbose Mode(use for debug).
      */
@@ -106,6 +166,19 @@ public class Detector {
      */
     public void setAlpha(final double alpha) {
         this.alpha = alpha;
+        this.parameters = null;
+    }
+
+    /**
+     * Set how the n-grams of the text are scored.
+     * The default is {@link ScoringMode#SAMPLING}, the original Monte Carlo algorithm.
+     * {@link ScoringMode#EXACT} scores every n-gram once and is deterministic,
+     * which is usually faster for short and medium texts.
+     * @param scoringMode the scoring mode
+     */
+    public void setScoringMode(final ScoringMode scoringMode) {
+        this.scoringMode = scoringMode;
+        this.parameters = null;
     }
 
     /**
@@ -135,6 +208,7 @@ public class Detector {
         for (int i = 0; i < this.priorMap.length; ++i) {
             this.priorMap[i] /= sump;
         }
+        this.parameters = null;
     }
 
     /**
@@ -149,7 +223,7 @@ public class Detector {
 
     /**
      * Append the target text for language detection.
-     * This method read the text from specified input reader.
+     * This method read the text from specified input reader, until its end.
      * If the total size of target text exceeds the limit size specified by {@link Detector#setMaxTextLength(int)},
      * the rest is cut down.
      *
@@ -157,11 +231,44 @@ public class Detector {
      * @throws IOException Can't read the reader.
      */
     public void append(final Reader reader) throws IOException {
-        final char[] buf = new char[this.max_text_length / 2];
+        final char[] buf = readBuffer(this.max_text_length / 2);
+        int length;
         while ((this.text
-                        .length() < this.max_text_length) && reader.ready()) {
-            final int length = reader.read(buf);
-            append(new String(buf, 0, length));
+                        .length() < this.max_text_length) && ((length = reader.read(buf)) >= 0)) {
+            this.text
+                    .append(CharBuffer.wrap(buf, 0, length), this.max_text_length);
+        }
+    }
+
+    /**
+     * Append a random sample of the text of a reader, spread over the whole text.
+     * Unlike {@link #append(Reader)}, which keeps the first {@link #setMaxTextLength(int)} characters,
+     * the reader is read to its end and segments of the text are kept by reservoir sampling,
+     * so that front matter or boilerplate at the start of a large document doesn't decide its language.
+     * The sample holds up to {@link #setMaxTextLength(int)} characters in segments of 200 characters,
+     * whatever the length of the text. With {@link #setSeed(long)}, the sample is reproducible.
+     *
+     * @param reader the input reader, read to its end
+     * @throws IOException Can't read the reader.
+     */
+    public void appendSample(final Reader reader) throws IOException {
+        final int segments = Math.max(1, this.max_text_length / SAMPLE_SEGMENT_LENGTH);
+        if (this.seed != null) {
+            this.rand
+                    .setSeed(this.seed);
+        }
+        if ((this.reservoir == null) || (this.reservoir
+                                                  .capacity() != segments)) {
+            this.reservoir = new SegmentReservoir(segments, SAMPLE_SEGMENT_LENGTH, this.rand);
+        }
+        final SegmentReservoir reservoir = this.reservoir;
+        reservoir.read(reader);
+        for (int i = 0; i < reservoir.size(); ++i) {
+            this.text
+                    .append(reservoir.segment(i), SAMPLE_SEGMENT_LENGTH);
+            // keep the n-grams of neighbouring segments apart
+            this.text
+                    .append(" ", 1);
         }
     }
 
@@ -169,57 +276,24 @@ public class Detector {
      * Append the target text for language detection.
      * If the total size of target text exceeds the limit size specified by {@link Detector#setMaxTextLength(int)},
      * the rest is cut down.
+     * URLs and e-mail addresses are eliminated, Vietnamese diacritical marks are composed
+     * and runs of spaces are collapsed in one pass (see {@link TextScanner}).
      *
      * @param input the target text to append
      */
-    public void append(String input) {
-        input = URL_REGEX.matcher(input)
-                         .replaceAll(" ");
-        input = MAIL_REGEX.matcher(input)
-                          .replaceAll(" ");
-        input = NGram.normalize_vi(input);
-        char pre = 0;
-        for (int i = 0; (i < input.length()) && (i < this.max_text_length); ++i) {
-            final char c = input.charAt(i);
-            if ((c != ' ') || (pre != ' ')) {
-                this.text
-                        .append(c);
-            }
-            pre = c;
-        }
+    public void append(final String input) {
+        append((CharSequence) input);
     }
 
     /**
-     * Cleaning text to detect
-     * (eliminate URL, e-mail address and Latin sentence if it is not written in Latin alphabet)
+     * Append the target text for language detection.
+     * Same as {@link #append(String)}, without copying the text to a {@link String} first.
+     *
+     * @param input the target text to append
      */
-    private void cleaningText() {
-        int latinCount = 0;
-        int nonLatinCount = 0;
-        for (int i = 0; i < this.text
-                .length(); ++i) {
-            final char c = this.text
-                    .charAt(i);
-            if ((c <= 'z') && (c >= 'A')) {
-                ++latinCount;
-            } else if ((c >= '\u0300') && (Character.UnicodeBlock
-                                                    .of(c) != Character.UnicodeBlock.LATIN_EXTENDED_ADDITIONAL)) {
-                ++nonLatinCount;
-            }
-        }
-        if ((latinCount * 2) < nonLatinCount) {
-            final StringBuffer textWithoutLatin = new StringBuffer();
-            for (int i = 0; i < this.text
-                    .length(); ++i) {
-                final char c = this.text
-                        .charAt(i);
-                if ((c > 'z') || (c < 'A')) {
-                    textWithoutLatin.append(c);
-                }
-            }
-            this.text = textWithoutLatin;
-        }
-
+    public void append(final CharSequence input) {
+        this.text
+                .append(input, this.max_text_length);
     }
 
     /**
@@ -236,9 +310,22 @@ public class Detector {
         return UNKNOWN_LANG;
     }
 
+    /**
+     * Discard the target text and the detection result, so that the detector can be used for another text.
+     * The parameters (alpha, prior map, scoring mode, ...) are kept,
+     * and so are the capacities of the text buffer and of the scratch arrays.
+     */
+    public void reset() {
+        this.text
+                .clear();
+        this.detected = false;
+    }
+
+    /**
+     * Same as {@link #reset()}.
+     */
     public void clear() {
-        this.text = new StringBuffer();
-        this.langprob = null;
+        reset();
     }
 
     /**
@@ -247,8 +334,8 @@ public class Detector {
      * @param input a string of text.
      * @return detected language name which has most probability or "unknown" on error or not found.
      */
-    public String detect(final String input) {
-        clear();
+    public String detect(final CharSequence input) {
+        reset();
         append(input);
         try {
             return detect();
@@ -257,6 +344,111 @@ public class Detector {
         }
     }
 
+    /**
+     * Detect the language of a stream, reading no more of it than needed.
+     * The text is read in small chunks, and the n-grams of every chunk are scored as soon as it arrives,
+     * so reading stops as soon as the probability of the top language reaches <code>confidence</code>,
+     * at the end of the stream, or at the limit of {@link #setMaxTextLength(int)}.
+     * For most texts a few hundred characters are enough.
+     * The chunks are cut where no URL, e-mail address or Vietnamese diacritical mark can span the cut,
+     * so the text is cleaned just like {@link #append(CharSequence)} cleans it in one piece.
+     * Whether the Latin letters are noise (see {@link TextScanner#isNonLatinText()}) is decided on the text read so far,
+     * and the text is scored again whenever that changes, e.g. after the English title of a Japanese document,
+     * so the scores are those of the text read as a whole.
+     * The n-grams are scored like {@link ScoringMode#EXACT}, whatever the scoring mode,
+     * as the scores of the chunks add up.
+     * Previously appended text is discarded;
+     * {@link #getProbabilities()} gives the probabilities of the text read afterwards.
+     *
+     * @param reader the input reader, which is left open and positioned after the text read
+     * @param confidence probability of the top language at which to stop reading, e.g. 0.99
+     * @return detected language name which has most probability.
+     * @throws IOException Can't read the reader.
+     * @throws LangDetectException
+     *  code = ErrorCode.CantDetectError : Can't detect because of no valid features in text
+     */
+    public String detect(final Reader reader, final double confidence) throws IOException, LangDetectException {
+        final DetectorMetrics metrics = DetectorFactory.getMetrics();
+        final long start = (metrics != null) ? System.nanoTime() : 0L;
+        reset();
+        char[] buf = readBuffer(STREAM_CHUNK);
+        final double[] logprob = this.logprob;
+        final double scale = BASE_FREQ / this.alpha;
+        int scored = 0;
+        int total = 0;
+        int taken = 0;
+        int pending = 0;
+        boolean end = false;
+        boolean skipLatin = false;
+        while ((taken < this.max_text_length) && !end) {
+            if (pending == buf.length) {
+                buf = Arrays.copyOf(buf, 2 * buf.length);
+            }
+            final int length = reader.read(buf, pending, buf.length - pending);
+            end = length < 0;
+            if (!end) {
+                pending += length;
+            }
+            int cut = end ? pending : chunkEnd(buf, pending);
+            if (cut == 0) {
+                if (pending < (this.max_text_length - taken)) {
+                    continue;
+                }
+                // a run of ASCII characters at the limit, which is cut down anyway
+                cut = pending;
+            }
+            taken += appendChunk(buf, cut, this.max_text_length - taken);
+            System.arraycopy(buf, cut, buf, 0, pending - cut);
+            pending -= cut;
+            if (this.text
+                        .isNonLatinText() != skipLatin) {
+                // the Latin letters turn out to be noise, or not after all: score the text read so far again
+                skipLatin = !skipLatin;
+                scored = 0;
+            }
+            if (scored == 0) {
+                for (int i = 0; i < this.langsize; ++i) {
+                    logprob[i] = (this.priorMap != null) ? Math.log(this.priorMap[i]) : 0.0;
+                }
+                this.extractor
+                        .clear();
+                total = 0;
+            }
+            final int count = extractNGrams(scored);
+            scored = this.text
+                    .length();
+            for (int n = 0; n < count; ++n) {
+                this.model
+                        .addLogProb(this.logprob, this.collector.ids[n], 1, scale);
+            }
+            total += count;
+            if (detectByScript()) {
+                break;
+            }
+            if ((total > 0) && (softmax() >= confidence)) {
+                break;
+            }
+        }
+        if (!detectByScript()) {
+            if (total == 0) {
+                if (metrics != null) {
+                    metrics.recordCantDetect();
+                }
+                throw new LangDetectException(ErrorCode.CantDetectError, "no features in text");
+            }
+            softmax();
+        }
+        this.detected = true;
+        if (metrics != null) {
+            metrics.recordDetection(System.nanoTime() - start, scored, total);
+        }
+        if (this.verbose) {
+            System.out
+                  .println("==> " + sortProbability(this.langprob) + " (" + scored + " characters)");
+        }
+        return detect();
+    }
+
     /**
      * Get language candidates which have high probabilities
      * @return possible languages list (whose probabilities are over PROB_THRESHOLD,
@@ -265,42 +457,108 @@ public class Detector {
      *  code = ErrorCode.CantDetectError : Can't detect because of no valid features in text
      */
     public ArrayList<Language> getProbabilities() throws LangDetectException {
-        if (this.langprob == null) {
+        if (!this.detected) {
             detectBlock();
+            this.detected = true;
         }
 
         return sortProbability(this.langprob);
     }
 
+    /**
+     * @return the cleaned target text (valid until the text is changed)
+     */
+    /* package scope */ CharSequence getText() {
+        return this.text
+                .text();
+    }
+
+    /**
+     * Get the parameters which the result of a text depends on, besides the text itself.
+     * @return list of the parameters, equal for detectors which give equal results for equal texts,
+     * or null if the results are not reproducible ({@link ScoringMode#SAMPLING} without a seed)
+     */
+    /* package scope */ List<Object> getParameters() {
+        if ((this.scoringMode == ScoringMode.SAMPLING) && (this.seed == null)) {
+            return null;
+        }
+        if (this.parameters == null) {
+            List<Double> prior = null;
+            if (this.priorMap != null) {
+                prior = new ArrayList<Double>(this.priorMap.length);
+                for (final double p : this.priorMap) {
+                    prior.add(p);
+                }
+            }
+            final Long seed = (this.scoringMode == ScoringMode.SAMPLING) ? this.seed : null;
+            this.parameters = Arrays.<Object>asList(this.model, this.scoringMode, seed, this.alpha, prior);
+        }
+        return this.parameters;
+    }
+
     /**
      * @throws LangDetectException
      *
      */
-    private void detectBlock() throws LangDetectException {
-        cleaningText();
-        final ArrayList<String> ngrams = extractNGrams();
-        if (ngrams.isEmpty()) {
+    /* package scope */ void detectBlock() throws LangDetectException {
+        final DetectorMetrics metrics = DetectorFactory.getMetrics();
+        if (metrics == null) {
+            scoreBlock(null);
+            return;
+        }
+        final long start = System.nanoTime();
+        final int count;
+        try {
+            count = scoreBlock(metrics);
+        } catch (final LangDetectException e) {
+            metrics.recordCantDetect();
+            throw e;
+        }
+        metrics.recordDetection(System.nanoTime() - start, this.text
+                .length(), count);
+    }
+
+    /**
+     * Compute the language probabilities of the text into {@link #langprob}.
+     * @param metrics where to record the trials, or null
+     * @return number of n-grams scored
+     */
+    private int scoreBlock(final DetectorMetrics metrics) throws LangDetectException {
+        if (detectByScript()) {
+            return 0;
+        }
+        final int count = extractNGrams();
+        if (count == 0) {
             throw new LangDetectException(ErrorCode.CantDetectError, "no features in text");
         }
+        final int[] ngrams = this.collector.ids;
+        if (this.scoringMode == ScoringMode.EXACT) {
+            detectExactly(ngrams, count);
+            return count;
+        }
 
-        this.langprob = new double[this.langlist
-                .size()];
+        Arrays.fill(this.langprob, 0.0);
 
-        final Random rand = new Random();
+        final Random rand = this.rand;
         if (this.seed != null) {
             rand.setSeed(this.seed);
         }
+        final double[] prob = this.prob;
         final int n_trial = 7;
         for (int t = 0; t < n_trial; ++t) {
-            final double[] prob = initProbability();
+            initProbability(prob);
             final double alpha = this.alpha + (rand.nextGaussian() * ALPHA_WIDTH);
 
             int i = 0;
             while (true) {
-                final int r = rand.nextInt(ngrams.size());
-                updateLangProb(prob, ngrams.get(r), alpha);
+                final int r = rand.nextInt(count);
+                updateLangProb(prob, ngrams[r], alpha);
                 if ((i % 5) == 0) {
-                    if ((normalizeProb(prob) > CONV_THRESHOLD) || (i >= ITERATION_LIMIT)) {
+                    final double maxp = normalizeProb(prob);
+                    if ((maxp > CONV_THRESHOLD) || (i >= ITERATION_LIMIT)) {
+                        if (metrics != null) {
+                            metrics.recordTrial(i + 1, maxp <= CONV_THRESHOLD);
+                        }
                         break;
                     }
                     if (this.verbose) {
@@ -318,16 +576,147 @@ public class Detector {
                       .println("==> " + sortProbability(prob));
             }
         }
+        return count;
+    }
+
+    /**
+     * Look at the Unicode scripts of the text.
+     * If all its letters are in a script which only one language of the model is written in
+     * (e.g. Greek and el), that language is the result and the n-grams need not be scored at all.
+     * Otherwise the candidates are restricted to the languages written in the most frequent script of the text.
+     * @return true if the language was detected from the scripts alone
+     */
+    private boolean detectByScript() {
+        this.restricted = false;
+        final boolean skipLatin = this.text
+                .isNonLatinText();
+        int dominant = -1;
+        int scripts = 0;
+        for (int script = 0; script < UnicodeScripts.COUNT; ++script) {
+            final int count = this.text
+                    .scriptCount(script);
+            if ((count == 0) || !UnicodeScripts.isDistinctive(script) || (skipLatin && (script
+                    == UnicodeScripts.LATIN))) {
+                continue;
+            }
+            ++scripts;
+            if ((dominant < 0) || (count > this.text
+                    .scriptCount(dominant))) {
+                dominant = script;
+            }
+        }
+        if (dominant < 0) {
+            return false;
+        }
+        final int[] langs = this.model
+                .languagesOf(dominant);
+        if (langs.length == 0) {
+            return false;
+        }
+        double sump = 0;
+        for (final int lang : langs) {
+            sump += (this.priorMap != null) ? this.priorMap[lang] : 1.0;
+        }
+        if (sump <= 0) {
+            return false;
+        }
+        if ((langs.length == 1) && (scripts == 1)) {
+            Arrays.fill(this.langprob, 0.0);
+            this.langprob[langs[0]] = 1.0;
+            if (this.verbose) {
+                System.out
+                      .println("==> " + sortProbability(this.langprob) + " (" + UnicodeScripts.toUnicodeScript(
+                              dominant) + ")");
+            }
+            return true;
+        }
+        Arrays.fill(this.candidate, false);
+        for (final int lang : langs) {
+            this.candidate[lang] = true;
+        }
+        this.restricted = true;
+        return false;
+    }
+
+    /**
+     * Score the n-grams with naive Bayes in log space.
+     * Every distinct n-gram contributes <code>count * log(alpha / BASE_FREQ + p(n-gram|lang))</code>,
+     * then the sums are turned into probabilities (softmax).
+     * As the softmax doesn't change when the same amount is added to every language,
+     * the sums are kept relative to <code>log(alpha / BASE_FREQ)</code>,
+     * so only the languages in which the n-gram occurs need to be updated.
+     * @param ngrams ids of the n-grams in the text
+     * @param length number of n-grams
+     */
+    private void detectExactly(final int[] ngrams, final int length) {
+        // histogram of the n-gram ids: open addressing over (id + 1), 0 marks an empty slot
+        int capacity = 16;
+        while (capacity < (length * 2)) {
+            capacity <<= 1;
+        }
+        if ((this.slotIds == null) || (this.slotIds.length < capacity)) {
+            this.slotIds = new int[capacity];
+            this.slotCounts = new int[capacity];
+        } else {
+            Arrays.fill(this.slotIds, 0, capacity, 0);
+            Arrays.fill(this.slotCounts, 0, capacity, 0);
+        }
+        final int mask = capacity - 1;
+        final int[] ids = this.slotIds;
+        final int[] counts = this.slotCounts;
+        for (int n = 0; n < length; ++n) {
+            final int id = ngrams[n];
+            int slot = (id * 0x9E3779B9) >>> (Integer.numberOfLeadingZeros(mask));
+            while ((ids[slot] != 0) && (ids[slot] != (id + 1))) {
+                slot = (slot + 1) & mask;
+            }
+            ids[slot] = id + 1;
+            ++counts[slot];
+        }
+
+        final double[] logprob = this.logprob;
+        for (int i = 0; i < this.langsize; ++i) {
+            logprob[i] = (this.priorMap != null) ? Math.log(this.priorMap[i]) : 0.0;
+        }
+        final double scale = BASE_FREQ / this.alpha;
+        for (int slot = 0; slot < capacity; ++slot) {
+            if (ids[slot] != 0) {
+                this.model
+                        .addLogProb(this.logprob, ids[slot] - 1, counts[slot], scale);
+            }
+        }
+        softmax();
+        if (this.verbose) {
+            System.out
+                  .println("==> " + sortProbability(this.langprob));
+        }
+    }
+
+    /**
+     * Turn the scores of {@link #logprob} into the probabilities of the candidate languages.
+     * @return maximum of probabilities
+     */
+    private double softmax() {
+        final double[] logprob = this.logprob;
+        double maxlog = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < this.langsize; ++i) {
+            if (!this.restricted || this.candidate[i]) {
+                maxlog = Math.max(maxlog, logprob[i]);
+            }
+        }
+        for (int i = 0; i < this.langsize; ++i) {
+            this.langprob[i] = (!this.restricted || this.candidate[i]) ? Math.exp(logprob[i] - maxlog) : 0.0;
+        }
+        return normalizeProb(this.langprob);
     }
 
     /**
      * Initialize the map of language probabilities.
      * If there is the specified prior map, use it as initial map.
-     * @return initialized map of language probabilities
+     * Languages ruled out by the scripts of the text start (and stay) at 0.
+     * @param prob map of language probabilities to initialize
      */
-    private double[] initProbability() {
-        final double[] prob = new double[this.langlist
-                .size()];
+    private void initProbability(final double[] prob) {
         if (this.priorMap != null) {
             System.arraycopy(this.priorMap, 0, prob, 0, prob.length);
         } else {
@@ -336,65 +725,113 @@ public class Detector {
                         .size();
             }
         }
-        return prob;
+        if (this.restricted) {
+            for (int i = 0; i < prob.length; ++i) {
+                if (!this.candidate[i]) {
+                    prob[i] = 0.0;
+                }
+            }
+        }
     }
 
     /**
-     * Extract n-grams from target text
-     * @return n-grams list
+     * Extract n-grams from target text.
+     * If the text is not written in Latin alphabet, Latin characters are skipped as noise.
+     * The ids of the n-grams known by the {@link NGramIndex} are collected in {@link NGramIdCollector#ids}.
+     * @return number of n-grams collected
      */
-    private ArrayList<String> extractNGrams() {
-        final ArrayList<String> list = new ArrayList<String>();
-        final NGram ngram = new NGram();
-        for (int i = 0; i < this.text
-                .length(); ++i) {
-            ngram.addChar(this.text
-                                  .charAt(i));
-            for (int n = 1; n <= NGram.N_GRAM; ++n) {
-                final String w = ngram.get(n);
-                if ((w != null) && this.wordLangProbMap
-                        .containsKey(w)) {
-                    list.add(w);
-                }
+    /* package scope */ int extractNGrams() {
+        this.extractor
+                .clear();
+        return extractNGrams(0);
+    }
+
+    /**
+     * Extract the n-grams of the target text from <code>start</code> on,
+     * continuing the n-grams of the characters before.
+     * @param start index in the cleaned text
+     * @return number of n-grams collected
+     */
+    private int extractNGrams(final int start) {
+        final CharSequence cleaned = this.text
+                .text();
+        final boolean skipLatin = this.text
+                .isNonLatinText();
+        final NGramIdCollector collector = this.collector;
+        collector.reset((cleaned.length() - start) * NGram.N_GRAM);
+        final NGramExtractor extractor = this.extractor;
+        for (int i = start; i < cleaned.length(); ++i) {
+            final char c = cleaned.charAt(i);
+            if (skipLatin && (c <= 'z') && (c >= 'A')) {
+                continue;
             }
+            extractor.addChar(c);
         }
-        return list;
+        return collector.count;
     }
 
     /**
-     * update language probabilities with N-gram string(N=1,2,3)
-     * @param word N-gram string
+     * Collects the ids of the n-grams known by the {@link NGramIndex}.
      */
-    private boolean updateLangProb(final double[] prob, final String word, final double alpha) {
-        if ((word == null) || !this.wordLangProbMap
-                .containsKey(word)) {
-            return false;
+    private final class NGramIdCollector implements NGramSink {
+        int[] ids = new int[0];
+        int count;
+
+        void reset(final int capacity) {
+            if (this.ids.length < capacity) {
+                this.ids = new int[capacity];
+            }
+            this.count = 0;
+        }
+
+        @Override
+        public void add(final long key) {
+            final int id = Detector.this.ngramIndex
+                    .get(key);
+            if (id != NGramIndex.NOT_FOUND) {
+                this.ids[this.count++] = id;
+            }
         }
+    }
 
-        final double[] langProbMap = this.wordLangProbMap
-                .get(word);
+    /**
+     * update language probabilities with N-gram (N=1,2,3)
+     * Every language is multiplied by <code>alpha / BASE_FREQ + p(n-gram|lang)</code>.
+     * As the probabilities are normalized afterwards, they are divided by <code>alpha / BASE_FREQ</code>,
+     * which leaves the languages in which the n-gram doesn't occur untouched.
+     * @param id N-gram id in the {@link NGramIndex}
+     */
+    private void updateLangProb(final double[] prob, final int id, final double alpha) {
         if (this.verbose) {
+            final String word = this.ngramIndex
+                    .gram(id);
             System.out
-                  .println(word + "(" + unicodeEncode(word) + "):" + wordProbToString(langProbMap));
+                  .println(word + "(" + unicodeEncode(word) + "):" + wordProbToString(id));
         }
 
-        final double weight = alpha / BASE_FREQ;
-        int i = 0;
-        while (i < prob.length) {
-            final double v = langProbMap[i];
-            prob[i] *= weight + v;
-            ++i;
+        final double scale = BASE_FREQ / alpha;
+        final int end = this.rowStart
+                .get(id + 1);
+        for (int k = this.rowStart
+                .get(id); k < end; ++k) {
+            prob[this.rowLangs
+                    .get(k)] *= 1.0 + (this.rowProbs
+                                               .get(k) * scale);
         }
-        return true;
     }
 
-    private String wordProbToString(final double[] prob) {
+    private String wordProbToString(final int id) {
         final Formatter formatter = new Formatter();
-        for (int j = 0; j < prob.length; ++j) {
-            final double p = prob[j];
+        final int end = this.rowStart
+                .get(id + 1);
+        for (int k = this.rowStart
+                .get(id); k < end; ++k) {
+            final double p = this.rowProbs
+                    .get(k);
             if (p >= 0.00001) {
                 formatter.format(" %s:%.5f", this.langlist
-                        .get(j), p);
+                        .get(this.rowLangs
+                                     .get(k)), p);
             }
         }
         formatter.close();
@@ -421,6 +858,50 @@ public class Detector {
         return maxp;
     }
 
+    /**
+     * Find where to cut the characters read so far, so that no URL, e-mail address
+     * or Vietnamese alphabet with its diacritical mark spans the cut:
+     * before the last whitespace or non-ASCII character which isn't a combining mark.
+     * @return length of the chunk to clean now, or 0 if there is no such place
+     */
+    private static int chunkEnd(final char[] buf, final int length) {
+        for (int i = length - 1; i > 0; --i) {
+            final char ch = buf[i];
+            if (Character.isWhitespace(ch) || ((ch > '\u007f') && ((ch < '\u0300') || (ch > '\u036f')))) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Clean a chunk of a stream and append it to the text,
+     * collapsing its leading spaces into a space the text ends with, like a single append of the stream.
+     * @return number of cleaned characters taken from the chunk, counting the collapsed spaces
+     */
+    private int appendChunk(final char[] buf, final int length, final int maxLength) {
+        final CharSequence cleaned = this.text
+                .text();
+        int start = 0;
+        if ((cleaned.length() > 0) && (cleaned.charAt(cleaned.length() - 1) == ' ')) {
+            while ((start < length) && (start < maxLength) && (buf[start] == ' ')) {
+                ++start;
+            }
+        }
+        return start + this.text
+                .append(CharBuffer.wrap(buf, start, length - start), maxLength - start);
+    }
+
+    /**
+     * @return the read buffer, reallocated unless it has the given size
+     */
+    private char[] readBuffer(final int size) {
+        if ((this.readBuffer == null) || (this.readBuffer.length != size)) {
+            this.readBuffer = new char[size];
+        }
+        return this.readBuffer;
+    }
+
     private ArrayList<Language> sortProbability(final double[] prob) {
         final ArrayList<Language> list = new ArrayList<Language>();
         for (int j = 0; j < prob.length; ++j) {
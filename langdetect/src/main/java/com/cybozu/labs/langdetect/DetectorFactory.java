@@ -1,50 +1,15 @@
 package com.cybozu.labs.langdetect;
 
 import com.cybozu.labs.langdetect.util.LangProfile;
-import com.rmtheis.langdetect.profile.AR;
-import com.rmtheis.langdetect.profile.BG;
-import com.rmtheis.langdetect.profile.CA;
-import com.rmtheis.langdetect.profile.CS;
-import com.rmtheis.langdetect.profile.DA;
-import com.rmtheis.langdetect.profile.DE;
-import com.rmtheis.langdetect.profile.EL;
-import com.rmtheis.langdetect.profile.EN;
-import com.rmtheis.langdetect.profile.ES;
-import com.rmtheis.langdetect.profile.ET;
-import com.rmtheis.langdetect.profile.FI;
-import com.rmtheis.langdetect.profile.FR;
-import com.rmtheis.langdetect.profile.GL;
-import com.rmtheis.langdetect.profile.HE;
-import com.rmtheis.langdetect.profile.HI;
-import com.rmtheis.langdetect.profile.HR;
-import com.rmtheis.langdetect.profile.HT;
-import com.rmtheis.langdetect.profile.HU;
-import com.rmtheis.langdetect.profile.ID;
-import com.rmtheis.langdetect.profile.IT;
-import com.rmtheis.langdetect.profile.JA;
-import com.rmtheis.langdetect.profile.LT;
-import com.rmtheis.langdetect.profile.LV;
-import com.rmtheis.langdetect.profile.MK;
-import com.rmtheis.langdetect.profile.MT;
-import com.rmtheis.langdetect.profile.NE;
-import com.rmtheis.langdetect.profile.NL;
-import com.rmtheis.langdetect.profile.NO;
-import com.rmtheis.langdetect.profile.PL;
-import com.rmtheis.langdetect.profile.PT;
-import com.rmtheis.langdetect.profile.RO;
-import com.rmtheis.langdetect.profile.RU;
-import com.rmtheis.langdetect.profile.SV;
-import com.rmtheis.langdetect.profile.TA;
-import com.rmtheis.langdetect.profile.TR;
-import com.rmtheis.langdetect.profile.UK;
-import com.rmtheis.langdetect.profile.VI;
-import com.rmtheis.langdetect.profile.ZHCN;
-import com.rmtheis.langdetect.profile.ZHTW;
 
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.File;
+import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 
 /**
@@ -53,8 +18,10 @@ import java.util.List;
  * This class manages an initialization and constructions of {@link Detector}. 
  *
  * Before using language detection library, 
- * load profiles with {@link DetectorFactory#loadProfile(java.util.List)} method
+ * choose the bundled languages with {@link DetectorFactory#setLanguages(java.util.List)}
+ * or load profiles with {@link DetectorFactory#loadProfile(java.util.List)} method
  * and set initialization parameters.
+ * By default the profiles of {@link ProfileRegistry#getDefaultLanguages()} are loaded on first use.
  *
  * When the language detection,
  * construct Detector instance via {@link DetectorFactory#create()}.
@@ -69,128 +36,166 @@ import java.util.List;
  * @author ivonet
  */
 public class DetectorFactory {
-    public static final HashMap<String, double[]> wordLangProbMap;
-    public static final ArrayList<String> langlist;
-    private static final List<LangProfile> profilelist;
+    private static volatile List<String> languages = ProfileRegistry.getDefaultLanguages();
+    private static volatile LanguageModel model;
+    private static volatile List<LangProfile> profiles;
+    private static volatile File modelFile;
+    private static volatile ModelPrecision precision = ModelPrecision.DOUBLE;
+    private static volatile BatchDetector batchDetector;
+    private static volatile DetectorMetrics metrics;
     public Long seed = null;
 
-    static {
-        wordLangProbMap = new HashMap<String, double[]>();
-        langlist = new ArrayList<String>();
-        profilelist = Arrays.asList(
-//                (new AF()).getLangProfile(), // Afrikaans
-//                (new SQ()).getLangProfile(), // Albanian
-                (new AR()).getLangProfile(), // Arabic
-//                (new AN()).getLangProfile(), // Aragonese
-//                (new AST()).getLangProfile(), // Asturian
-//                (new EU()).getLangProfile(), // Basque
-//                (new BE()).getLangProfile(), // Belarusian
-//                (new BN()).getLangProfile(), // Bengali
-//                (new BR()).getLangProfile(), // Breton
-                (new BG()).getLangProfile(), // Bulgarian
-                (new CA()).getLangProfile(), // Catalan
-                (new ZHCN()).getLangProfile(), // Chinese (Simplified)
-                (new ZHTW()).getLangProfile(), // Chinese (Traditional)
-                (new HR()).getLangProfile(), // Croatian
-                (new CS()).getLangProfile(), // Czech
-                (new DA()).getLangProfile(), // Danish
-                (new NL()).getLangProfile(), // Dutch
-                (new EN()).getLangProfile(), // English
-                (new ET()).getLangProfile(), // Estonian
-                (new FI()).getLangProfile(), // Finnish
-                (new FR()).getLangProfile(), // French
-                (new GL()).getLangProfile(), // Galician
-                (new DE()).getLangProfile(), // German
-                (new EL()).getLangProfile(), // Greek
-//                (new GU()).getLangProfile(), // Gujarati
-                (new HT()).getLangProfile(), // Haitian
-                (new HE()).getLangProfile(), // Hebrew
-                (new HI()).getLangProfile(), // Hindi
-                (new HU()).getLangProfile(), // Hungarian
-//                (new IS()).getLangProfile(), // Icelandic
-                (new ID()).getLangProfile(), // Indonesian
-//                (new GA()).getLangProfile(), // Irish
-                (new IT()).getLangProfile(), // Italian
-                (new JA()).getLangProfile(), // Japanese
-//                (new KN()).getLangProfile(), // Kannada
-//                (new KN()).getLangProfile(), // Kannada
-//                (new KO()).getLangProfile(), // Korean
-                (new LV()).getLangProfile(), // Latvian
-                (new LT()).getLangProfile(), // Lithuanian
-                (new MK()).getLangProfile(), // Macedonian
-//                (new MS()).getLangProfile(), // Malay
-//                (new ML()).getLangProfile(), // Malayalam
-                (new MT()).getLangProfile(), // Maltese
-//                (new MR()).getLangProfile(), // Marathi
-                (new NE()).getLangProfile(), // Nepali
-                (new NO()).getLangProfile(), // Norwegian
-//                (new OC()).getLangProfile(), // Occitan
-//                (new PA()).getLangProfile(), // Panjabi
-//                (new FA()).getLangProfile(), // Persian
-                (new PL()).getLangProfile(), // Polish
-                (new PT()).getLangProfile(), // Portuguese
-                (new RO()).getLangProfile(), // Romanian
-                (new RU()).getLangProfile(), // Russian
-//                (new SR()).getLangProfile(), // Serbian
-//                (new SK()).getLangProfile(), // Slovak
-//                (new SL()).getLangProfile(), // Slovene
-//                (new SO()).getLangProfile(), // Somali
-                (new ES()).getLangProfile(), // Spanish
-//                (new SW()).getLangProfile(), // Swahili
-                (new SV()).getLangProfile(), // Swedish
-//                (new TL()).getLangProfile(), // Tagalog
-                (new TA()).getLangProfile(), // Tamil
-//                (new TE()).getLangProfile(), // Telugu
-//                (new TH()).getLangProfile(), // Thai
-                (new TR()).getLangProfile(), // Turkish
-                (new UK()).getLangProfile(), // Ukrainian
-//                (new UR()).getLangProfile(), // Urdu
-                (new VI()).getLangProfile() // Vietnamese
-//                (new CY()).getLangProfile() // Welsh
-//                (new YI()).getLangProfile() // Yiddish
-
-        );
-    }
-
     private DetectorFactory() {
     }
 
     private static final DetectorFactory instance_ = new DetectorFactory();
 
-    public static void loadProfile(final List<LangProfile> profiles) {
-        int index = 0;
-        final int langsize = profiles.size();
-        for (final LangProfile profile : profiles) {
-            addProfile(profile, index, langsize);
-            ++index;
+    /**
+     * Choose the languages of the default model.
+     * Only the profiles of these languages are loaded, when the model is first used.
+     * Call this before the first detection; a model of other languages is dropped,
+     * and rebuilt with the new languages on next use.
+     * Detectors created before keep using the model they were created with.
+     *
+     * @param langs language codes, see {@link ProfileRegistry#getLanguages()}
+     * @throws IllegalArgumentException if no profile of one of the languages is bundled, or a language is repeated
+     */
+    public static synchronized void setLanguages(final List<String> langs) {
+        for (final String lang : langs) {
+            if (!ProfileRegistry.contains(lang)) {
+                throw new IllegalArgumentException("no profile of language: " + lang);
+            }
+            if (langs.indexOf(lang) != langs.lastIndexOf(lang)) {
+                throw new IllegalArgumentException("duplicate the same language: " + lang);
+            }
+        }
+        languages = Collections.unmodifiableList(new ArrayList<String>(langs));
+        final LanguageModel current = model;
+        if ((current == null) || !current.getLangList()
+                                         .equals(languages)) {
+            clear();
         }
+    }
+
+    /**
+     * Choose the languages of the default model, see {@link #setLanguages(List)}.
+     *
+     * @param langs language codes
+     */
+    public static void setLanguages(final String... langs) {
+        setLanguages(Arrays.asList(langs));
+    }
 
+    /**
+     * @return codes of the languages the default model is built from
+     */
+    public static List<String> getLanguages() {
+        return languages;
     }
 
-    static /* package scope */ void addProfile(final LangProfile profile, final int index, final int langsize) {
-        final String lang = profile.name;
-        langlist.add(lang);
-        for (final String word : profile.freq
-                                        .keySet()) {
-            if (!wordLangProbMap.containsKey(word)) {
-                wordLangProbMap.put(word, new double[langsize]);
-            }
-            final int length = word.length();
-            if ((length >= 1) && (length <= 3)) {
-                final double prob = profile.freq
-                                           .get(word)
-                                           .doubleValue() / profile.n_words[length - 1];
-                wordLangProbMap.get(word)[index] = prob;
+    /**
+     * Replace the default model by a model of the given profiles.
+     * The profiles are kept to rebuild the model if the precision is changed.
+     * Detectors created before keep using the model they were created with.
+     *
+     * @param profiles language profiles
+     * @see LanguageModel
+     */
+    public static synchronized void loadProfile(final List<LangProfile> profiles) {
+        model = new LanguageModel(profiles, precision);
+        DetectorFactory.profiles = new ArrayList<LangProfile>(profiles);
+        modelFile = null;
+    }
+
+    /**
+     * Replace the default model by a model file saved with {@link LanguageModel#save(java.io.File)}.
+     * Detectors created before keep using the model they were created with.
+     *
+     * @param file the model file
+     * @throws LangDetectException Can't load the model file.
+     * @see LanguageModel#load(java.io.File)
+     */
+    public static synchronized void loadModel(final File file) throws LangDetectException {
+        model = LanguageModel.load(file);
+        profiles = null;
+        modelFile = file;
+    }
+
+    /**
+     * Set how the probabilities of the default model are stored.
+     * A loaded model of another precision is dropped, and rebuilt in the new precision on next use,
+     * from the profiles given to {@link #loadProfile(List)} if any, or else from the chosen languages.
+     *
+     * @param modelPrecision the precision (default {@link ModelPrecision#DOUBLE})
+     * @throws IllegalStateException if the model was loaded by {@link #loadModel(File)} in another precision,
+     * which can't be rebuilt
+     */
+    public static synchronized void setModelPrecision(final ModelPrecision modelPrecision) {
+        final LanguageModel current = model;
+        if ((current != null) && (current.getPrecision() != modelPrecision)) {
+            if (modelFile != null) {
+                throw new IllegalStateException("model file " + modelFile + " is stored in precision "
+                                                + current.getPrecision() + ", not " + modelPrecision);
             }
+            model = null;
         }
+        precision = modelPrecision;
     }
 
     /**
      * Clear loaded language profiles (reinitialization to be available)
+     * Detectors created before keep using the model they were created with.
      */
-    public static void clear() {
-        langlist.clear();
-        wordLangProbMap.clear();
+    public static synchronized void clear() {
+        model = null;
+        profiles = null;
+        modelFile = null;
+    }
+
+    /**
+     * Get the default model, loading it on first use.
+     * The model of the default languages is compiled at build time (see {@link ModelCompiler}) and only read;
+     * other language sets and precisions are assembled from the profiles of the languages
+     * chosen with {@link #setLanguages(List)}.
+     *
+     * @return the default {@link LanguageModel}
+     */
+    public static LanguageModel getModel() {
+        LanguageModel current = model;
+        if (current == null) {
+            synchronized (DetectorFactory.class) {
+                current = model;
+                if (current == null) {
+                    current = buildModel();
+                    model = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Load the model compiled at build time if it is of the chosen languages and precision,
+     * or else assemble the model from the profiles.
+     */
+    private static LanguageModel buildModel() {
+        if (profiles != null) {
+            return new LanguageModel(profiles, precision);
+        }
+        final List<String> langs = languages;
+        if ((precision == ModelPrecision.DOUBLE) && langs.equals(ProfileRegistry.getDefaultLanguages())) {
+            final LanguageModel compiled;
+            try {
+                compiled = ModelFile.readDefault();
+            } catch (final LangDetectException e) {
+                throw new IllegalStateException("broken default model: " + e.getMessage(), e);
+            }
+            if ((compiled != null) && compiled.getLangList()
+                                              .equals(langs)) {
+                return compiled;
+            }
+        }
+        return new LanguageModel(ProfileRegistry.getProfiles(langs), precision);
     }
 
     /**
@@ -216,19 +221,99 @@ public class DetectorFactory {
         return detector;
     }
 
-    private static Detector createDetector() {
-        final Detector detector = new Detector(instance_);
-        if (wordLangProbMap.isEmpty()) {
-            loadProfile(profilelist);
+    /**
+     * Construct Detector instance of the given model
+     *
+     * @param model language model
+     * @return Detector instance
+     */
+    public static Detector create(final LanguageModel model) {
+        final Detector detector = new Detector(model);
+        if (instance_.seed != null) {
+            detector.setSeed(instance_.seed);
         }
         return detector;
     }
 
+    private static Detector createDetector() {
+        return create(getModel());
+    }
+
+    /**
+     * Detect the languages of texts in parallel with the default model.
+     *
+     * @param texts the target texts
+     * @return detected language name of each text, in input order ("unknown" where detection failed)
+     * @see BatchDetector
+     */
+    public static List<String> detect(final List<? extends CharSequence> texts) {
+        final LanguageModel current = getModel();
+        BatchDetector batch = batchDetector;
+        if ((batch == null) || (batch.getModel() != current)) {
+            batch = new BatchDetector(current);
+            batchDetector = batch;
+        }
+        return batch.detect(texts);
+    }
+
+    /**
+     * Start recording metrics of all detectors, and register them as a JMX MBean
+     * named {@link DetectorMetrics#OBJECT_NAME}.
+     * Calling it again returns the metrics already enabled.
+     *
+     * @return the enabled metrics
+     * @throws IllegalStateException if the MBean can't be registered
+     * @see DetectorMetricsMBean
+     */
+    public static synchronized DetectorMetrics enableMetrics() {
+        if (metrics == null) {
+            final DetectorMetrics enabled = new DetectorMetrics();
+            try {
+                final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+                final ObjectName name = new ObjectName(DetectorMetrics.OBJECT_NAME);
+                if (server.isRegistered(name)) {
+                    server.unregisterMBean(name);
+                }
+                server.registerMBean(enabled, name);
+            } catch (final JMException e) {
+                throw new IllegalStateException("can't register metrics: " + e.getMessage(), e);
+            }
+            metrics = enabled;
+        }
+        return metrics;
+    }
+
+    /**
+     * Stop recording metrics, and unregister their MBean.
+     */
+    public static synchronized void disableMetrics() {
+        if (metrics == null) {
+            return;
+        }
+        metrics = null;
+        try {
+            final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            final ObjectName name = new ObjectName(DetectorMetrics.OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (final JMException e) {
+            throw new IllegalStateException("can't unregister metrics: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return the metrics enabled with {@link #enableMetrics()}, or null if they are not enabled
+     */
+    public static DetectorMetrics getMetrics() {
+        return metrics;
+    }
+
     public static void setSeed(final long seed) {
         instance_.seed = seed;
     }
 
     public static List<String> getLangList() {
-        return Collections.unmodifiableList(langlist);
+        return getModel().getLangList();
     }
 }
@@ -0,0 +1,175 @@
+package com.cybozu.labs.langdetect;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link DetectorMetrics} records what the detectors do: detections and their latency,
+ * the length of the cleaned texts, the number of n-grams, the iterations of the trials
+ * of {@link ScoringMode#SAMPLING} and the failed detections.
+ * <p>
+ * Recording only adds to {@link LongAdder}s, which spread the updates of concurrent threads over several cells,
+ * so it takes no lock and is cheap enough to leave on in production.
+ * Reading sums the cells, so a reading taken during detections may mix counts from before and after an update.
+ * <p>
+ * Detectors record into the metrics enabled with {@link DetectorFactory#enableMetrics()},
+ * which also registers them as a JMX MBean named {@link #OBJECT_NAME}.
+ *
+ * @see DetectorMetricsMBean
+ */
+public class DetectorMetrics implements DetectorMetricsMBean {
+    /** name of the MBean registered by {@link DetectorFactory#enableMetrics()} */
+    public static final String OBJECT_NAME = "com.cybozu.labs.langdetect:type=DetectorMetrics";
+
+    private final LongAdder cantDetect;
+    private final LongAdder iterationLimit;
+    private final Histogram latency;
+    private final Histogram textLength;
+    private final Histogram ngramCount;
+    private final Histogram iterations;
+
+    public DetectorMetrics() {
+        this.cantDetect = new LongAdder();
+        this.iterationLimit = new LongAdder();
+        this.latency = new Histogram();
+        this.textLength = new Histogram();
+        this.ngramCount = new Histogram();
+        this.iterations = new Histogram();
+    }
+
+    /**
+     * Record a detection.
+     * @param nanos time of the detection, in nanoseconds
+     * @param length length of the cleaned text
+     * @param ngrams number of n-grams extracted from the text
+     */
+    /* package scope */ void recordDetection(final long nanos, final int length, final int ngrams) {
+        this.latency
+                .record(nanos / 1000);
+        this.textLength
+                .record(length);
+        this.ngramCount
+                .record(ngrams);
+    }
+
+    /**
+     * Record a trial of {@link ScoringMode#SAMPLING}.
+     * @param count number of iterations
+     * @param limited true if the trial stopped at the iteration limit
+     */
+    /* package scope */ void recordTrial(final int count, final boolean limited) {
+        this.iterations
+                .record(count);
+        if (limited) {
+            this.iterationLimit
+                    .increment();
+        }
+    }
+
+    /**
+     * Record a detection which failed with <code>ErrorCode.CantDetectError</code>.
+     */
+    /* package scope */ void recordCantDetect() {
+        this.cantDetect
+                .increment();
+    }
+
+    @Override
+    public long getDetectionCount() {
+        return this.latency
+                .count();
+    }
+
+    @Override
+    public long getCantDetectCount() {
+        return this.cantDetect
+                .sum();
+    }
+
+    @Override
+    public double getMeanLatencyMicros() {
+        return this.latency
+                .mean();
+    }
+
+    @Override
+    public long getLatencyMicros50() {
+        return this.latency
+                .percentile(0.5);
+    }
+
+    @Override
+    public long getLatencyMicros99() {
+        return this.latency
+                .percentile(0.99);
+    }
+
+    @Override
+    public long[] getLatencyHistogram() {
+        return this.latency
+                .counts();
+    }
+
+    @Override
+    public double getMeanTextLength() {
+        return this.textLength
+                .mean();
+    }
+
+    @Override
+    public long[] getTextLengthHistogram() {
+        return this.textLength
+                .counts();
+    }
+
+    @Override
+    public double getMeanNGramCount() {
+        return this.ngramCount
+                .mean();
+    }
+
+    @Override
+    public long[] getNGramCountHistogram() {
+        return this.ngramCount
+                .counts();
+    }
+
+    @Override
+    public long getTrialCount() {
+        return this.iterations
+                .count();
+    }
+
+    @Override
+    public long getIterationLimitCount() {
+        return this.iterationLimit
+                .sum();
+    }
+
+    @Override
+    public double getMeanIterations() {
+        return this.iterations
+                .mean();
+    }
+
+    @Override
+    public long[] getIterationHistogram() {
+        return this.iterations
+                .counts();
+    }
+
+    @Override
+    public void reset() {
+        this.cantDetect
+                .reset();
+        this.iterationLimit
+                .reset();
+        this.latency
+                .reset();
+        this.textLength
+                .reset();
+        this.ngramCount
+                .reset();
+        this.iterations
+                .reset();
+    }
+}
@@ -0,0 +1,88 @@
+package com.cybozu.labs.langdetect;
+
+/**
+ * JMX management interface of {@link DetectorMetrics}.
+ * <p>
+ * Histograms are arrays of counts in buckets of powers of two:
+ * element 0 counts the value 0, and element <code>b &gt; 0</code> the values
+ * <code>2<sup>b-1</sup> .. 2<sup>b</sup> - 1</code>.
+ *
+ * @see DetectorFactory#enableMetrics()
+ */
+public interface DetectorMetricsMBean {
+
+    /**
+     * @return number of detections, not counting those which failed
+     */
+    long getDetectionCount();
+
+    /**
+     * @return number of detections which failed with <code>ErrorCode.CantDetectError</code>
+     */
+    long getCantDetectCount();
+
+    /**
+     * @return mean time of a detection, in microseconds
+     */
+    double getMeanLatencyMicros();
+
+    /**
+     * @return median time of a detection, in microseconds (upper bound of its bucket)
+     */
+    long getLatencyMicros50();
+
+    /**
+     * @return 99th percentile of the time of a detection, in microseconds (upper bound of its bucket)
+     */
+    long getLatencyMicros99();
+
+    /**
+     * @return histogram of the time of a detection, in microseconds
+     */
+    long[] getLatencyHistogram();
+
+    /**
+     * @return mean length of the texts after cleaning
+     */
+    double getMeanTextLength();
+
+    /**
+     * @return histogram of the length of the texts after cleaning
+     */
+    long[] getTextLengthHistogram();
+
+    /**
+     * @return mean number of n-grams extracted from a text
+     */
+    double getMeanNGramCount();
+
+    /**
+     * @return histogram of the number of n-grams extracted from a text
+     */
+    long[] getNGramCountHistogram();
+
+    /**
+     * @return number of trials of {@link ScoringMode#SAMPLING}
+     */
+    long getTrialCount();
+
+    /**
+     * @return number of trials which stopped at the iteration limit without converging
+     */
+    long getIterationLimitCount();
+
+    /**
+     * @return mean number of iterations of a trial
+     */
+    double getMeanIterations();
+
+    /**
+     * @return histogram of the number of iterations of a trial
+     */
+    long[] getIterationHistogram();
+
+    /**
+     * Set all counters and histograms to zero.
+     */
+    void reset();
+}
@@ -0,0 +1,133 @@
+package com.cybozu.labs.langdetect;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link DetectorPool} hands out reusable {@link Detector}s of one {@link LanguageModel}.
+ * <p>
+ * A {@link Detector} keeps its text buffer and scratch arrays across {@link Detector#reset()},
+ * so reusing detectors instead of creating one per text keeps the allocation rate low.
+ * Detectors are either borrowed and released explicitly,
+ *
+ * <pre>
+ * Detector detector = pool.borrow();
+ * try {
+ *     detector.append(text);
+ *     return detector.detect();
+ * } finally {
+ *     pool.release(detector);
+ * }
+ * </pre>
+ *
+ * or taken from {@link #local()}, which keeps one detector per thread.
+ * Detectors keep their parameters (alpha, prior map, scoring mode, ...) when they go back to the pool,
+ * so configure them in {@link #newDetector()} rather than after borrowing.
+ * A detector must not be used by two threads at the same time.
+ *
+ * @see DetectorFactory
+ */
+public class DetectorPool {
+    private static final int MAX_IDLE_DEFAULT = 64;
+
+    private final LanguageModel model;
+    private final int maxIdle;
+    private final ConcurrentLinkedQueue<Detector> idle;
+    private final AtomicInteger idleCount;
+    private final ThreadLocal<Detector> local;
+
+    /**
+     * Constructor.
+     * @param model the {@link LanguageModel} of the detectors
+     */
+    public DetectorPool(final LanguageModel model) {
+        this(model, MAX_IDLE_DEFAULT);
+    }
+
+    /**
+     * Constructor.
+     * @param model the {@link LanguageModel} of the detectors
+     * @param maxIdle maximum number of released detectors kept for reuse
+     */
+    public DetectorPool(final LanguageModel model, final int maxIdle) {
+        this.model = model;
+        this.maxIdle = maxIdle;
+        this.idle = new ConcurrentLinkedQueue<Detector>();
+        this.idleCount = new AtomicInteger();
+        this.local = new ThreadLocal<Detector>() {
+            @Override
+            protected Detector initialValue() {
+                return newDetector();
+            }
+        };
+    }
+
+    /**
+     * Create a new detector for the pool.
+     * Override to configure the detectors.
+     * @return new {@link Detector} of the model
+     */
+    protected Detector newDetector() {
+        return DetectorFactory.create(this.model);
+    }
+
+    /**
+     * @return the {@link LanguageModel} of the detectors
+     */
+    public LanguageModel getModel() {
+        return this.model;
+    }
+
+    /**
+     * Take a detector out of the pool, or create one if the pool is empty.
+     * @return a reset {@link Detector}, to be given back with {@link #release(Detector)}
+     */
+    public Detector borrow() {
+        final Detector detector = this.idle
+                .poll();
+        if (detector == null) {
+            return newDetector();
+        }
+        this.idleCount
+                .decrementAndGet();
+        detector.reset();
+        return detector;
+    }
+
+    /**
+     * Give a detector back to the pool.
+     * It is dropped if the pool already holds <code>maxIdle</code> detectors.
+     * @param detector a {@link Detector} taken with {@link #borrow()}
+     */
+    public void release(final Detector detector) {
+        if (this.idleCount
+                    .incrementAndGet() > this.maxIdle) {
+            this.idleCount
+                    .decrementAndGet();
+            return;
+        }
+        this.idle
+                .offer(detector);
+    }
+
+    /**
+     * Get the detector of the current thread.
+     * It is reset on every call, so don't hold on to it across calls.
+     * @return the reset {@link Detector} of the current thread
+     */
+    public Detector local() {
+        final Detector detector = this.local
+                .get();
+        detector.reset();
+        return detector;
+    }
+
+    /**
+     * Detect the language of a text with the detector of the current thread.
+     * @param text the target text
+     * @return detected language name which has most probability or "unknown" on error or not found.
+     */
+    public String detect(final String text) {
+        return local().detect(text);
+    }
+}
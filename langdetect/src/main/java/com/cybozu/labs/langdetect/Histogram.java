@@ -0,0 +1,102 @@
+package com.cybozu.labs.langdetect;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link Histogram} counts values in buckets of powers of two, without locks.
+ * <p>
+ * Bucket 0 counts the value 0, and bucket <code>b &gt; 0</code> the values
+ * <code>2<sup>b-1</sup> .. 2<sup>b</sup> - 1</code>.
+ * The buckets are {@link LongAdder}s, so threads recording at the same time don't contend on one counter.
+ *
+ * @see DetectorMetrics
+ */
+/* package scope */ final class Histogram {
+    private static final int BUCKETS = 64;
+
+    private final LongAdder[] buckets;
+    private final LongAdder sum;
+
+    /* package scope */ Histogram() {
+        this.buckets = new LongAdder[BUCKETS];
+        for (int b = 0; b < BUCKETS; ++b) {
+            this.buckets[b] = new LongAdder();
+        }
+        this.sum = new LongAdder();
+    }
+
+    /**
+     * @param value a non-negative value
+     */
+    /* package scope */ void record(final long value) {
+        this.buckets[BUCKETS - Long.numberOfLeadingZeros(Math.max(value, 0L))].increment();
+        this.sum
+                .add(value);
+    }
+
+    /**
+     * @return count of every bucket, up to the last bucket which is not empty
+     */
+    /* package scope */ long[] counts() {
+        final long[] counts = new long[BUCKETS];
+        int length = 0;
+        for (int b = 0; b < BUCKETS; ++b) {
+            counts[b] = this.buckets[b].sum();
+            if (counts[b] > 0) {
+                length = b + 1;
+            }
+        }
+        final long[] trimmed = new long[length];
+        System.arraycopy(counts, 0, trimmed, 0, length);
+        return trimmed;
+    }
+
+    /**
+     * @return number of recorded values
+     */
+    /* package scope */ long count() {
+        long count = 0;
+        for (final LongAdder bucket : this.buckets) {
+            count += bucket.sum();
+        }
+        return count;
+    }
+
+    /**
+     * @return mean of the recorded values, 0 if none
+     */
+    /* package scope */ double mean() {
+        final long count = count();
+        return (count == 0) ? 0.0 : (this.sum
+                                             .sum() / (double) count);
+    }
+
+    /**
+     * @param quantile quantile, between 0 and 1
+     * @return upper bound of the bucket of the quantile, 0 if no value was recorded
+     */
+    /* package scope */ long percentile(final double quantile) {
+        final long[] counts = counts();
+        long total = 0;
+        for (final long count : counts) {
+            total += count;
+        }
+        final long rank = (long) Math.ceil(quantile * total);
+        long seen = 0;
+        for (int b = 0; b < counts.length; ++b) {
+            seen += counts[b];
+            if ((seen >= rank) && (seen > 0)) {
+                return (b == 0) ? 0L : ((1L << b) - 1);
+            }
+        }
+        return 0L;
+    }
+
+    /* package scope */ void reset() {
+        for (final LongAdder bucket : this.buckets) {
+            bucket.reset();
+        }
+        this.sum
+                .reset();
+    }
+}
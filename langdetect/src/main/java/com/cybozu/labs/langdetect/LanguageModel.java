@@ -0,0 +1,359 @@
+package com.cybozu.labs.langdetect;
+
+import com.cybozu.labs.langdetect.util.LangProfile;
+import com.cybozu.labs.langdetect.util.NGramIndex;
+import com.cybozu.labs.langdetect.util.UnicodeScripts;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.Character.UnicodeScript;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * {@link LanguageModel} holds the n-gram probabilities of a set of languages.
+ * <p>
+ * A model is built once from its language profiles and never changes afterwards,
+ * so it can be shared by any number of {@link Detector}s and threads.
+ * Several models, e.g. one with all languages and one with a reduced language set,
+ * can be used side by side:
+ *
+ * <pre>
+ * LanguageModel european = new LanguageModel(Arrays.asList(
+ *         new DE().getLangProfile(), new EN().getLangProfile(), new FR().getLangProfile()));
+ * Detector detector = new Detector(european);
+ * detector.append(text);
+ * String lang = detector.detect();
+ * </pre>
+ *
+ * An assembled model can be saved to a file with {@link #save(File)},
+ * and loaded much faster than from the profiles with {@link #load(File)}.
+ *
+ * @see DetectorFactory
+ */
+public final class LanguageModel {
+    /**
+     * Minimum share of the letters of a language in a script, for the language to be written in the script.
+     */
+    private static final double SCRIPT_SHARE = 0.05;
+
+    /* package scope */ final NGramIndex ngramIndex;
+    /*
+     * The probabilities are stored as sparse rows, one row per n-gram id, holding only the languages
+     * in which the n-gram occurs (compressed sparse rows).
+     * The row of n-gram id is at rowLangs[rowStart[id]] .. rowLangs[rowStart[id + 1] - 1],
+     * (buffers wrapping heap arrays, or views of a mapped model file),
+     * sorted by language index, and rowProbs holds the probabilities of the same entries
+     * in the precision of the model.
+     * The n-grams are numbered by descending total probability,
+     * so that the rows of frequent n-grams sit next to each other.
+     */
+    /* package scope */ final IntBuffer rowStart;
+    /* package scope */ final ShortBuffer rowLangs;
+    /* package scope */ final Probabilities rowProbs;
+    private final ModelPrecision precision;
+    /* package scope */ final int langsize;
+    private final List<String> langlist;
+    /** Indexes of the languages written in each script, see {@link #languagesOf(int)}. */
+    private final int[][] scriptLanguages;
+
+    /**
+     * Build a model from language profiles, with full precision.
+     * @param profiles language profiles, one per language
+     * @throws IllegalArgumentException if two profiles have the same language name
+     */
+    public LanguageModel(final List<LangProfile> profiles) {
+        this(profiles, ModelPrecision.DOUBLE);
+    }
+
+    /**
+     * Build a model from language profiles.
+     * @param profiles language profiles, one per language
+     * @param precision how to store the probabilities
+     * @throws IllegalArgumentException if two profiles have the same language name
+     */
+    public LanguageModel(final List<LangProfile> profiles, final ModelPrecision precision) {
+        this.langsize = profiles.size();
+        if (this.langsize > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("too many language profiles: " + this.langsize);
+        }
+        final List<String> langs = new ArrayList<String>(this.langsize);
+        final NGramIndex index = new NGramIndex();
+        final Entries entries = new Entries();
+        short lang = 0;
+        for (final LangProfile profile : profiles) {
+            if (langs.contains(profile.name)) {
+                throw new IllegalArgumentException("duplicate the same language profile: " + profile.name);
+            }
+            langs.add(profile.name);
+            addProfile(profile, lang, index, entries);
+            ++lang;
+        }
+        final int size = index.size();
+        final int[] newIds = sortByFrequency(size, entries);
+        index.remap(newIds);
+
+        // counting sort of the entries by their new n-gram id; entries of one n-gram stay in language order
+        final int[] starts = new int[size + 1];
+        for (int k = 0; k < entries.count; ++k) {
+            ++starts[newIds[entries.ids[k]] + 1];
+        }
+        for (int id = 0; id < size; ++id) {
+            starts[id + 1] += starts[id];
+        }
+        final short[] rowLangs = new short[entries.count];
+        final double[] probs = new double[entries.count];
+        final int[] next = Arrays.copyOf(starts, size);
+        for (int k = 0; k < entries.count; ++k) {
+            final int pos = next[newIds[entries.ids[k]]]++;
+            rowLangs[pos] = entries.langs[k];
+            probs[pos] = entries.probs[k];
+        }
+        this.rowStart = IntBuffer.wrap(starts);
+        this.rowLangs = ShortBuffer.wrap(rowLangs);
+        this.rowProbs = Probabilities.of(probs, precision);
+        this.precision = precision;
+
+        this.ngramIndex = index;
+        this.langlist = Collections.unmodifiableList(langs);
+        this.scriptLanguages = languagesByScript();
+    }
+
+    /**
+     * Constructor of a model read from a file, see {@link ModelFile}.
+     */
+    /* package scope */ LanguageModel(final List<String> langs, final NGramIndex index, final IntBuffer rowStart,
+                                      final ShortBuffer rowLangs, final Probabilities rowProbs,
+                                      final ModelPrecision precision) {
+        this.langsize = langs.size();
+        this.langlist = Collections.unmodifiableList(new ArrayList<String>(langs));
+        this.ngramIndex = index;
+        this.rowStart = rowStart;
+        this.rowLangs = rowLangs;
+        this.rowProbs = rowProbs;
+        this.precision = precision;
+        this.scriptLanguages = languagesByScript();
+    }
+
+    /**
+     * Load a model saved with {@link #save(File)}.
+     * The file is mapped into memory, and the probabilities are used right from the mapping.
+     * @param file the model file
+     * @return the model
+     * @throws LangDetectException
+     *  code = ErrorCode.FileLoadError : Can't read the file
+     *  code = ErrorCode.FormatError : The file is not a model file of this version, or it is broken
+     */
+    public static LanguageModel load(final File file) throws LangDetectException {
+        return ModelFile.read(file);
+    }
+
+    /**
+     * Save the model in a binary format which can be loaded with {@link #load(File)}.
+     * @param file the file to write
+     * @throws IOException Can't write the file.
+     */
+    public void save(final File file) throws IOException {
+        ModelFile.write(this, file);
+    }
+
+    /**
+     * Non-zero probabilities in the order they are read from the profiles.
+     */
+    private static final class Entries {
+        int[] ids = new int[1024];
+        short[] langs = new short[1024];
+        double[] probs = new double[1024];
+        int count;
+
+        void add(final int id, final short lang, final double prob) {
+            if (this.count == this.ids.length) {
+                this.ids = Arrays.copyOf(this.ids, this.count * 2);
+                this.langs = Arrays.copyOf(this.langs, this.count * 2);
+                this.probs = Arrays.copyOf(this.probs, this.count * 2);
+            }
+            this.ids[this.count] = id;
+            this.langs[this.count] = lang;
+            this.probs[this.count] = prob;
+            ++this.count;
+        }
+    }
+
+    /**
+     * Add the probabilities of a language profile to the entries.
+     */
+    private static void addProfile(final LangProfile profile, final short lang, final NGramIndex index,
+                                   final Entries entries) {
+        for (final String word : profile.freq
+                                        .keySet()) {
+            final long key = NGramIndex.pack(word);
+            if (key == 0) {
+                continue;
+            }
+            final double prob = profile.freq
+                                       .get(word)
+                                       .doubleValue() / profile.n_words[word.length() - 1];
+            if (prob > 0) {
+                entries.add(index.add(key), lang, prob);
+            }
+        }
+    }
+
+    /**
+     * Number the n-grams by descending total probability.
+     * @return new id of every n-gram, indexed by its id in the order of reading
+     */
+    private static int[] sortByFrequency(final int size, final Entries entries) {
+        final double[] total = new double[size];
+        for (int k = 0; k < entries.count; ++k) {
+            total[entries.ids[k]] += entries.probs[k];
+        }
+        final Integer[] order = new Integer[size];
+        for (int id = 0; id < size; ++id) {
+            order[id] = id;
+        }
+        Arrays.sort(order, new Comparator<Integer>() {
+            @Override
+            public int compare(final Integer a, final Integer b) {
+                return Double.compare(total[b], total[a]);
+            }
+        });
+
+        final int[] newIds = new int[size];
+        for (int newId = 0; newId < size; ++newId) {
+            newIds[order[newId]] = newId;
+        }
+        return newIds;
+    }
+
+    /**
+     * Find the scripts each language is written in, from the probabilities of its 1-grams.
+     * A language is written in a script if at least {@link #SCRIPT_SHARE} of its letters belong to it,
+     * so that a few foreign names in the training data don't count.
+     * @return indexes of the languages, by script
+     */
+    private int[][] languagesByScript() {
+        final double[] mass = new double[this.langsize * UnicodeScripts.COUNT];
+        final double[] total = new double[this.langsize];
+        for (int id = 0; id < this.ngramIndex
+                                  .size(); ++id) {
+            final long key = this.ngramIndex
+                    .key(id);
+            if (key != NGramIndex.pack((char) key)) {
+                continue;
+            }
+            final int script = UnicodeScripts.of((char) key);
+            if (!UnicodeScripts.isDistinctive(script)) {
+                continue;
+            }
+            for (int k = this.rowStart
+                    .get(id); k < this.rowStart
+                    .get(id + 1); ++k) {
+                final int lang = this.rowLangs
+                        .get(k);
+                mass[(lang * UnicodeScripts.COUNT) + script] += this.rowProbs
+                        .get(k);
+                total[lang] += this.rowProbs
+                        .get(k);
+            }
+        }
+
+        final int[][] languages = new int[UnicodeScripts.COUNT][];
+        final int[] buffer = new int[this.langsize];
+        for (int script = 0; script < UnicodeScripts.COUNT; ++script) {
+            int count = 0;
+            for (int lang = 0; lang < this.langsize; ++lang) {
+                if ((total[lang] > 0) && (mass[(lang * UnicodeScripts.COUNT) + script] >= (SCRIPT_SHARE * total[lang]))) {
+                    buffer[count++] = lang;
+                }
+            }
+            languages[script] = Arrays.copyOf(buffer, count);
+        }
+        return languages;
+    }
+
+    /**
+     * @param script script (see {@link UnicodeScripts})
+     * @return indexes of the languages written in the script (must not be modified)
+     */
+    /* package scope */ int[] languagesOf(final int script) {
+        return this.scriptLanguages[script];
+    }
+
+    /**
+     * Add the log-scores of an n-gram to the scores of the languages having it.
+     * @param logprob scores of the languages, indexed like {@link #getLangList()}
+     * @param id n-gram id
+     * @param count number of occurrences of the n-gram (negative to take them back)
+     * @param scale <code>BASE_FREQ / alpha</code> of the detector
+     */
+    /* package scope */ void addLogProb(final double[] logprob, final int id, final int count, final double scale) {
+        final int end = this.rowStart
+                .get(id + 1);
+        for (int k = this.rowStart
+                .get(id); k < end; ++k) {
+            logprob[this.rowLangs
+                    .get(k)] += count * Math.log1p(this.rowProbs
+                                                           .get(k) * scale);
+        }
+    }
+
+    /**
+     * @param script a Unicode script
+     * @return names of the languages in the model which are written in the script
+     */
+    public List<String> getLangList(final UnicodeScript script) {
+        final List<String> langs = new ArrayList<String>();
+        for (final int lang : this.scriptLanguages[script.ordinal()]) {
+            langs.add(this.langlist
+                              .get(lang));
+        }
+        return langs;
+    }
+
+    /**
+     * @return names of the languages in the model, in profile order
+     */
+    public List<String> getLangList() {
+        return this.langlist;
+    }
+
+    /**
+     * @return number of non-zero probabilities in the model (at most n-grams times languages)
+     */
+    public int getEntryCount() {
+        return this.rowProbs
+                .size();
+    }
+
+    /**
+     * @return how the probabilities are stored
+     */
+    public ModelPrecision getPrecision() {
+        return this.precision;
+    }
+
+    /**
+     * @return approximate heap size of the n-gram index and the probabilities, in bytes
+     */
+    public long getSizeInBytes() {
+        return this.ngramIndex
+                       .sizeInBytes() + (4L * this.rowStart
+                .limit()) + (2L * this.rowLangs
+                .limit()) + this.rowProbs
+                .sizeInBytes();
+    }
+
+    /**
+     * @return number of distinct n-grams in the model
+     */
+    public int getNGramCount() {
+        return this.ngramIndex
+                .size();
+    }
+}
@@ -0,0 +1,24 @@
+package com.cybozu.labs.langdetect;
+
+/**
+ * {@link LanguageSpan} is a part of a text and its detected language.
+ * {@link Segmenter#segment(CharSequence)} returns the spans of a text in the order of the text.
+ *
+ * @see Segmenter
+ */
+public class LanguageSpan extends Language {
+    /** index of the first character of the span in the text */
+    public int offset;
+    /** number of characters of the span */
+    public int length;
+
+    public LanguageSpan(final int offset, final int length, final String lang, final double prob) {
+        super(lang, prob);
+        this.offset = offset;
+        this.length = length;
+    }
+
+    public String toString() {
+        return super.toString() + "[" + this.offset + "+" + this.length + "]";
+    }
+}
@@ -0,0 +1,70 @@
+package com.cybozu.labs.langdetect;
+
+import com.cybozu.labs.langdetect.util.LangProfile;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@link ModelCompiler} assembles a {@link LanguageModel} from the JSON profiles of the <code>profiles</code>
+ * directory and saves it, so that the model is built once at build time instead of on every startup.
+ * <p>
+ * The build runs it in the <code>process-classes</code> phase to package the default model
+ * as the classpath resource {@link ModelFile#DEFAULT_RESOURCE}:
+ *
+ * <pre>
+ * java com.cybozu.labs.langdetect.ModelCompiler profiles target/classes/com/cybozu/labs/langdetect/default.ldm
+ * </pre>
+ *
+ * Languages can be given after the file name; the default are {@link ProfileRegistry#getDefaultLanguages()}.
+ * The model is saved in full precision, and building it twice from the same profiles gives the same file.
+ */
+public final class ModelCompiler {
+
+    private ModelCompiler() {
+    }
+
+    /**
+     * Read the profiles of languages and assemble their model.
+     * @param directory directory of the profile files, one per language named after its code
+     * @param langs language codes
+     * @return the model
+     * @throws LangDetectException Can't read one of the profiles.
+     */
+    public static LanguageModel compile(final File directory, final List<String> langs) throws LangDetectException {
+        final List<LangProfile> profiles = new ArrayList<LangProfile>(langs.size());
+        for (final String lang : langs) {
+            final LangProfile profile = ProfileReader.read(new File(directory, lang));
+            if (!lang.equals(profile.name)) {
+                throw new LangDetectException(ErrorCode.FormatError, "profile '" + lang + "' is of language "
+                                                                     + profile.name);
+            }
+            profiles.add(profile);
+        }
+        return new LanguageModel(profiles, ModelPrecision.DOUBLE);
+    }
+
+    public static void main(final String[] args) throws LangDetectException, IOException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("usage: ModelCompiler <profile directory> <model file> [language ...]");
+        }
+        final List<String> langs = (args.length > 2)
+                                   ? Arrays.asList(args)
+                                           .subList(2, args.length)
+                                   : ProfileRegistry.getDefaultLanguages();
+        final long start = System.nanoTime();
+        final LanguageModel model = compile(new File(args[0]), langs);
+        final File file = new File(args[1]);
+        final File parent = file.getParentFile();
+        if ((parent != null) && !parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("can't create directory " + parent);
+        }
+        model.save(file);
+        System.out.println("compiled " + langs.size() + " languages, " + model.getNGramCount() + " n-grams into "
+                           + file + " (" + file.length() / 1024 + " KB) in " + (System.nanoTime() - start) / 1000000
+                           + " ms");
+    }
+}
@@ -0,0 +1,278 @@
+package com.cybozu.labs.langdetect;
+
+import com.cybozu.labs.langdetect.util.NGramIndex;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link ModelFile} reads and writes the binary format of an assembled {@link LanguageModel}.
+ * <p>
+ * All numbers are little endian, and every array starts at a multiple of 8 bytes:
+ * <pre>
+ * int      magic "LDMF", version, precision (ordinal of {@link ModelPrecision}),
+ *          number of languages, number of n-grams, number of entries
+ * per language: int length, char[length] name
+ * long[n-grams]     n-gram keys (see {@link NGramIndex#pack(CharSequence)}), by id
+ * int[n-grams + 1]  start of the row of every n-gram id
+ * short[entries]    language index of every entry
+ * entries           probabilities in the model precision (see {@link Probabilities#write(ByteBuffer)})
+ * </pre>
+ * A file is loaded by mapping it into memory: the rows and the probabilities are used right from the mapping
+ * and are never copied or parsed, so several JVMs loading the same file share one copy in the page cache.
+ * Only the hash table of the n-gram keys is rebuilt on the heap.
+ * Users don't use this class directly, see {@link LanguageModel#load(File)} and {@link LanguageModel#save(File)}.
+ */
+final class ModelFile {
+    private static final int MAGIC = 0x464d444c; // "LDMF"
+    /* package scope */ static final int VERSION = 1;
+    private static final int HEADER_SIZE = 24;
+    /** Classpath resource of the default model, next to this class, written by {@link ModelCompiler}. */
+    /* package scope */ static final String DEFAULT_RESOURCE = "default.ldm";
+
+    private ModelFile() {
+    }
+
+    /**
+     * Write a model to a file.
+     * @param model the model
+     * @param file the file to write
+     * @throws IOException Can't write the file.
+     */
+    static void write(final LanguageModel model, final File file) throws IOException {
+        final List<String> langs = model.getLangList();
+        final int ngrams = model.getNGramCount();
+        final int entries = model.getEntryCount();
+        long size = HEADER_SIZE;
+        for (final String lang : langs) {
+            size += 4 + (2 * lang.length());
+        }
+        size = align(size) + (8L * ngrams) + (4L * (ngrams + 1)) + (2L * entries);
+        size = align(size) + model.rowProbs
+                .sizeInBytes();
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("model too large: " + size + " bytes");
+        }
+
+        final ByteBuffer out = ByteBuffer.allocate((int) size)
+                                         .order(ByteOrder.LITTLE_ENDIAN);
+        out.putInt(MAGIC)
+           .putInt(VERSION)
+           .putInt(model.getPrecision()
+                        .ordinal())
+           .putInt(langs.size())
+           .putInt(ngrams)
+           .putInt(entries);
+        for (final String lang : langs) {
+            out.putInt(lang.length());
+            for (int i = 0; i < lang.length(); ++i) {
+                out.putChar(lang.charAt(i));
+            }
+        }
+        out.position((int) align(out.position()));
+        for (int id = 0; id < ngrams; ++id) {
+            out.putLong(model.ngramIndex
+                                .key(id));
+        }
+        for (int id = 0; id <= ngrams; ++id) {
+            out.putInt(model.rowStart
+                               .get(id));
+        }
+        for (int k = 0; k < entries; ++k) {
+            out.putShort(model.rowLangs
+                                 .get(k));
+        }
+        out.position((int) align(out.position()));
+        model.rowProbs
+                .write(out);
+        out.flip();
+
+        final FileOutputStream stream = new FileOutputStream(file);
+        try {
+            final FileChannel channel = stream.getChannel();
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+        } finally {
+            stream.close();
+        }
+    }
+
+    /**
+     * Load a model by mapping a file into memory.
+     * @param file the file written by {@link #write(LanguageModel, File)}
+     * @return the model
+     * @throws LangDetectException
+     *  code = ErrorCode.FileLoadError : Can't read the file
+     *  code = ErrorCode.FormatError : The file is not a model file of this version, or it is broken
+     */
+    static LanguageModel read(final File file) throws LangDetectException {
+        final ByteBuffer in;
+        try {
+            final RandomAccessFile raf = new RandomAccessFile(file, "r");
+            try {
+                final FileChannel channel = raf.getChannel();
+                in = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            } finally {
+                raf.close();
+            }
+        } catch (final IOException e) {
+            throw new LangDetectException(ErrorCode.FileLoadError, "can't open '" + file + "': " + e.getMessage());
+        }
+        return read(in, "model file '" + file + "'");
+    }
+
+    /**
+     * Load a model from a stream, e.g. a classpath resource.
+     * The model is read into a heap buffer, as a stream can't be mapped.
+     * @param stream the content written by {@link #write(LanguageModel, File)}; it is not closed
+     * @param name name of the model in error messages
+     * @return the model
+     * @throws LangDetectException
+     *  code = ErrorCode.FileLoadError : Can't read the stream
+     *  code = ErrorCode.FormatError : The stream is not a model file of this version, or it is broken
+     */
+    static LanguageModel read(final InputStream stream, final String name) throws LangDetectException {
+        ByteBuffer in = ByteBuffer.allocate(1 << 20);
+        try {
+            final ReadableByteChannel channel = Channels.newChannel(stream);
+            while (channel.read(in) >= 0) {
+                if (!in.hasRemaining()) {
+                    final ByteBuffer larger = ByteBuffer.allocate(in.capacity() * 2);
+                    in.flip();
+                    in = larger.put(in);
+                }
+            }
+        } catch (final IOException e) {
+            throw new LangDetectException(ErrorCode.FileLoadError, "can't read " + name + ": " + e.getMessage());
+        }
+        in.flip();
+        return read(in, name);
+    }
+
+    /**
+     * Load the default model compiled into the classpath by {@link ModelCompiler}.
+     * @return the model, or null if the resource is missing (e.g. classes compiled outside of the build)
+     * @throws LangDetectException The resource is broken.
+     */
+    static LanguageModel readDefault() throws LangDetectException {
+        final InputStream stream = ModelFile.class.getResourceAsStream(DEFAULT_RESOURCE);
+        if (stream == null) {
+            return null;
+        }
+        try {
+            return read(stream, "default model");
+        } finally {
+            try {
+                stream.close();
+            } catch (final IOException e) {
+                // nothing to do
+            }
+        }
+    }
+
+    private static LanguageModel read(final ByteBuffer in, final String name) throws LangDetectException {
+        in.order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            return read(in);
+        } catch (final BufferUnderflowException e) {
+            throw new LangDetectException(ErrorCode.FormatError, name + " is truncated");
+        } catch (final IllegalArgumentException e) {
+            throw new LangDetectException(ErrorCode.FormatError, name + " is broken: " + e
+                    .getMessage());
+        }
+    }
+
+    private static LanguageModel read(final ByteBuffer in) throws LangDetectException {
+        if (in.remaining() < HEADER_SIZE || in.getInt() != MAGIC) {
+            throw new LangDetectException(ErrorCode.FormatError, "not a language model file");
+        }
+        final int version = in.getInt();
+        if (version != VERSION) {
+            throw new LangDetectException(ErrorCode.FormatError, "unsupported model file version: " + version);
+        }
+        final int precision = in.getInt();
+        final int langsize = in.getInt();
+        final int ngrams = in.getInt();
+        final int entries = in.getInt();
+        if (precision < 0 || precision >= ModelPrecision.values().length || langsize < 0
+            || langsize > Short.MAX_VALUE || ngrams < 0 || entries < 0) {
+            throw new IllegalArgumentException("bad header");
+        }
+
+        final List<String> langs = new ArrayList<String>(langsize);
+        for (int lang = 0; lang < langsize; ++lang) {
+            final int length = in.getInt();
+            if (length < 0 || length > in.remaining() / 2) {
+                throw new IllegalArgumentException("bad language name");
+            }
+            final char[] name = new char[length];
+            for (int i = 0; i < length; ++i) {
+                name[i] = in.getChar();
+            }
+            langs.add(new String(name));
+        }
+        in.position((int) align(in.position()));
+
+        final NGramIndex index = new NGramIndex(ngrams);
+        for (int id = 0; id < ngrams; ++id) {
+            final long key = in.getLong();
+            if (!NGramIndex.isValid(key) || index.add(key) != id) {
+                throw new IllegalArgumentException("bad n-gram key");
+            }
+        }
+        final IntBuffer rowStart = slice(in, 4L * (ngrams + 1)).asIntBuffer();
+        final ShortBuffer rowLangs = slice(in, 2L * entries).asShortBuffer();
+        in.position((int) align(in.position()));
+        final Probabilities rowProbs = Probabilities.read(in.slice()
+                                                            .order(ByteOrder.LITTLE_ENDIAN),
+                                                          ModelPrecision.values()[precision]);
+
+        if (rowStart.get(0) != 0 || rowStart.get(ngrams) != entries || rowProbs.size() != entries) {
+            throw new IllegalArgumentException("bad rows");
+        }
+        for (int id = 0; id < ngrams; ++id) {
+            if (rowStart.get(id) > rowStart.get(id + 1)) {
+                throw new IllegalArgumentException("bad rows");
+            }
+        }
+        for (int k = 0; k < entries; ++k) {
+            final short lang = rowLangs.get(k);
+            if (lang < 0 || lang >= langsize) {
+                throw new IllegalArgumentException("bad rows");
+            }
+        }
+        return new LanguageModel(langs, index, rowStart, rowLangs, rowProbs, ModelPrecision.values()[precision]);
+    }
+
+    /**
+     * @return the next <code>bytes</code> bytes of the buffer, which is moved past them
+     */
+    private static ByteBuffer slice(final ByteBuffer in, final long bytes) {
+        if (bytes > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        final ByteBuffer slice = in.slice()
+                                   .order(ByteOrder.LITTLE_ENDIAN);
+        slice.limit((int) bytes);
+        in.position(in.position() + (int) bytes);
+        return slice;
+    }
+
+    private static long align(final long position) {
+        return (position + 7) & ~7L;
+    }
+}
@@ -0,0 +1,31 @@
+package com.cybozu.labs.langdetect;
+
+/**
+ * {@link ModelPrecision} selects how a {@link LanguageModel} stores its n-gram probabilities.
+ * Lower precisions make the model smaller at the cost of a (usually tiny) accuracy loss,
+ * see the <code>PrecisionReport</code> tool of the benchmarks module.
+ *
+ * @see LanguageModel#LanguageModel(java.util.List, ModelPrecision)
+ */
+public enum ModelPrecision {
+    /**
+     * 8 bytes per probability, exactly as computed from the profiles. The default.
+     */
+    DOUBLE,
+
+    /**
+     * 4 bytes per probability (about 7 significant digits).
+     */
+    FLOAT,
+
+    /**
+     * 2 bytes per probability: a logarithmic code with a relative error below 0.025%.
+     */
+    LOG16,
+
+    /**
+     * 1 byte per probability: one of 256 steps spread evenly over the logarithms of the probabilities
+     * in the model, with a relative error of a few percent.
+     */
+    LOG8
+}
@@ -0,0 +1,289 @@
+package com.cybozu.labs.langdetect;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+
+/**
+ * {@link Probabilities} stores the non-zero n-gram probabilities of a {@link LanguageModel}
+ * in the {@link ModelPrecision} chosen for the model, and decodes them in the scoring loop.
+ * <p>
+ * The entries are kept in a {@link java.nio.Buffer}, either wrapping a heap array
+ * or a view of a memory mapped model file (see {@link ModelFile}).
+ * Only absolute gets are used, so the entries can be read by many threads at once.
+ * Users don't use this class directly.
+ */
+abstract class Probabilities {
+
+    /**
+     * @param k index of the entry
+     * @return probability of the entry
+     */
+    abstract double get(int k);
+
+    /**
+     * @return number of entries
+     */
+    abstract int size();
+
+    /**
+     * @return number of bytes taken by the entries, in memory and in a model file
+     */
+    abstract long sizeInBytes();
+
+    /**
+     * Write the entries in the format of {@link ModelFile}.
+     * @param out buffer to write to, in {@link ByteOrder#LITTLE_ENDIAN} order
+     */
+    abstract void write(ByteBuffer out);
+
+    /**
+     * Encode probabilities in the given precision.
+     * @param probs probabilities (all positive and not greater than 1)
+     * @param precision precision to store them in
+     * @return the encoded probabilities
+     */
+    static Probabilities of(final double[] probs, final ModelPrecision precision) {
+        switch (precision) {
+        case FLOAT:
+            return new FloatProbabilities(probs);
+        case LOG16:
+            return new Log16Probabilities(probs);
+        case LOG8:
+            return new Log8Probabilities(probs);
+        default:
+            return new DoubleProbabilities(DoubleBuffer.wrap(probs));
+        }
+    }
+
+    /**
+     * Read entries written by {@link #write(ByteBuffer)}, without copying them.
+     * @param in buffer holding exactly the entries, in {@link ByteOrder#LITTLE_ENDIAN} order
+     * @param precision precision of the entries
+     * @return the entries, backed by the buffer
+     */
+    static Probabilities read(final ByteBuffer in, final ModelPrecision precision) {
+        switch (precision) {
+        case FLOAT:
+            return new FloatProbabilities(in.asFloatBuffer());
+        case LOG16:
+            return new Log16Probabilities(in.asCharBuffer());
+        case LOG8:
+            return new Log8Probabilities(in);
+        default:
+            return new DoubleProbabilities(in.asDoubleBuffer());
+        }
+    }
+
+    /**
+     * {@link ModelPrecision#DOUBLE}
+     */
+    static final class DoubleProbabilities extends Probabilities {
+        private final DoubleBuffer probs;
+
+        DoubleProbabilities(final DoubleBuffer probs) {
+            this.probs = probs;
+        }
+
+        @Override
+        double get(final int k) {
+            return this.probs
+                    .get(k);
+        }
+
+        @Override
+        int size() {
+            return this.probs
+                    .limit();
+        }
+
+        @Override
+        long sizeInBytes() {
+            return 8L * size();
+        }
+
+        @Override
+        void write(final ByteBuffer out) {
+            out.asDoubleBuffer()
+               .put(this.probs
+                            .duplicate());
+            out.position(out.position() + (8 * size()));
+        }
+    }
+
+    /**
+     * {@link ModelPrecision#FLOAT}
+     */
+    static final class FloatProbabilities extends Probabilities {
+        private final FloatBuffer probs;
+
+        FloatProbabilities(final double[] probs) {
+            final float[] floats = new float[probs.length];
+            for (int k = 0; k < probs.length; ++k) {
+                floats[k] = (float) probs[k];
+            }
+            this.probs = FloatBuffer.wrap(floats);
+        }
+
+        FloatProbabilities(final FloatBuffer probs) {
+            this.probs = probs;
+        }
+
+        @Override
+        double get(final int k) {
+            return this.probs
+                    .get(k);
+        }
+
+        @Override
+        int size() {
+            return this.probs
+                    .limit();
+        }
+
+        @Override
+        long sizeInBytes() {
+            return 4L * size();
+        }
+
+        @Override
+        void write(final ByteBuffer out) {
+            out.asFloatBuffer()
+               .put(this.probs
+                            .duplicate());
+            out.position(out.position() + (4 * size()));
+        }
+    }
+
+    /**
+     * {@link ModelPrecision#LOG16}: the upper bits of the <code>float</code> representation,
+     * 5 bits of exponent (probabilities from 2<sup>-32</sup> to 1) and 11 bits of mantissa.
+     * As the exponent of a float is its base 2 logarithm, this is a logarithmic code,
+     * and decoding is a shift and an add.
+     */
+    static final class Log16Probabilities extends Probabilities {
+        private static final int MANTISSA_SHIFT = 12;
+        private static final int MIN_BITS = Float.floatToIntBits(1.0f / (1L << 32));
+        private static final int MAX_CODE = Character.MAX_VALUE;
+
+        private final CharBuffer codes;
+
+        Log16Probabilities(final double[] probs) {
+            final char[] codes = new char[probs.length];
+            for (int k = 0; k < probs.length; ++k) {
+                codes[k] = encode(probs[k]);
+            }
+            this.codes = CharBuffer.wrap(codes);
+        }
+
+        Log16Probabilities(final CharBuffer codes) {
+            this.codes = codes;
+        }
+
+        static char encode(final double prob) {
+            final int bits = Float.floatToIntBits((float) prob);
+            if (bits <= MIN_BITS) {
+                return 0;
+            }
+            return (char) Math.min(MAX_CODE, (bits - MIN_BITS + (1 << (MANTISSA_SHIFT - 1))) >>> MANTISSA_SHIFT);
+        }
+
+        static double decode(final char code) {
+            return Float.intBitsToFloat(MIN_BITS + (code << MANTISSA_SHIFT));
+        }
+
+        @Override
+        double get(final int k) {
+            return decode(this.codes
+                                  .get(k));
+        }
+
+        @Override
+        int size() {
+            return this.codes
+                    .limit();
+        }
+
+        @Override
+        long sizeInBytes() {
+            return 2L * size();
+        }
+
+        @Override
+        void write(final ByteBuffer out) {
+            out.asCharBuffer()
+               .put(this.codes
+                            .duplicate());
+            out.position(out.position() + (2 * size()));
+        }
+    }
+
+    /**
+     * {@link ModelPrecision#LOG8}: 256 steps spread evenly between the smallest and the largest logarithm
+     * of the probabilities, decoded with a table.
+     * In a model file, the table (256 doubles) comes first, then the codes.
+     */
+    static final class Log8Probabilities extends Probabilities {
+        private static final int STEPS = 255;
+
+        private final ByteBuffer codes;
+        private final double[] table;
+
+        Log8Probabilities(final double[] probs) {
+            double lo = 0;
+            double hi = Double.NEGATIVE_INFINITY;
+            for (final double p : probs) {
+                final double log = Math.log(p);
+                lo = Math.min(lo, log);
+                hi = Math.max(hi, log);
+            }
+            final double step = (hi > lo) ? (hi - lo) / STEPS : 1.0;
+            this.table = new double[STEPS + 1];
+            for (int code = 0; code <= STEPS; ++code) {
+                this.table[code] = Math.exp(lo + (code * step));
+            }
+            final byte[] codes = new byte[probs.length];
+            for (int k = 0; k < probs.length; ++k) {
+                codes[k] = (byte) Math.round((Math.log(probs[k]) - lo) / step);
+            }
+            this.codes = ByteBuffer.wrap(codes);
+        }
+
+        Log8Probabilities(final ByteBuffer in) {
+            this.table = new double[STEPS + 1];
+            in.asDoubleBuffer()
+              .get(this.table);
+            final ByteBuffer codes = in.duplicate();
+            codes.position(in.position() + (8 * this.table.length));
+            this.codes = codes.slice();
+        }
+
+        @Override
+        double get(final int k) {
+            return this.table[this.codes
+                                      .get(k) & 0xff];
+        }
+
+        @Override
+        int size() {
+            return this.codes
+                    .limit();
+        }
+
+        @Override
+        long sizeInBytes() {
+            return size() + (8L * this.table.length);
+        }
+
+        @Override
+        void write(final ByteBuffer out) {
+            out.asDoubleBuffer()
+               .put(this.table);
+            out.position(out.position() + (8 * this.table.length));
+            out.put(this.codes
+                            .duplicate());
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.cybozu.labs.langdetect;
+
+import com.cybozu.labs.langdetect.util.LangProfile;
+import com.rmtheis.langdetect.profile.Profiles;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@link ProfileRegistry} resolves the bundled language profiles by language code.
+ * <p>
+ * The profiles are bundled as resources of <code>langdetect-profiles</code> (see {@link Profiles}),
+ * and a profile is only read when its language is asked for,
+ * so a model of a few languages doesn't pay for reading all the others.
+ * The registry doesn't keep the profiles: once a model is built, they can be garbage collected.
+ *
+ * <pre>
+ * LanguageModel model = new LanguageModel(ProfileRegistry.getProfiles(Arrays.asList("de", "en", "fr")));
+ * </pre>
+ *
+ * @see DetectorFactory#setLanguages(java.util.List)
+ */
+public final class ProfileRegistry {
+    private static final List<String> LANGUAGES = Collections.unmodifiableList(Arrays.asList(
+            "af", // Afrikaans
+            "sq", // Albanian
+            "ar", // Arabic
+            "an", // Aragonese
+            "ast", // Asturian
+            "eu", // Basque
+            "be", // Belarusian
+            "bn", // Bengali
+            "br", // Breton
+            "bg", // Bulgarian
+            "ca", // Catalan
+            "zh-cn", // Chinese (Simplified)
+            "zh-tw", // Chinese (Traditional)
+            "hr", // Croatian
+            "cs", // Czech
+            "da", // Danish
+            "nl", // Dutch
+            "en", // English
+            "et", // Estonian
+            "fi", // Finnish
+            "fr", // French
+            "gl", // Galician
+            "de", // German
+            "el", // Greek
+            "gu", // Gujarati
+            "ht", // Haitian
+            "he", // Hebrew
+            "hi", // Hindi
+            "hu", // Hungarian
+            "is", // Icelandic
+            "id", // Indonesian
+            "ga", // Irish
+            "it", // Italian
+            "ja", // Japanese
+            "kn", // Kannada
+            "ko", // Korean
+            "lv", // Latvian
+            "lt", // Lithuanian
+            "mk", // Macedonian
+            "ms", // Malay
+            "ml", // Malayalam
+            "mt", // Maltese
+            "mr", // Marathi
+            "ne", // Nepali
+            "no", // Norwegian
+            "oc", // Occitan
+            "pa", // Panjabi
+            "fa", // Persian
+            "pl", // Polish
+            "pt", // Portuguese
+            "ro", // Romanian
+            "ru", // Russian
+            "sr", // Serbian
+            "sk", // Slovak
+            "sl", // Slovene
+            "so", // Somali
+            "es", // Spanish
+            "sw", // Swahili
+            "sv", // Swedish
+            "tl", // Tagalog
+            "ta", // Tamil
+            "te", // Telugu
+            "th", // Thai
+            "tr", // Turkish
+            "uk", // Ukrainian
+            "ur", // Urdu
+            "vi", // Vietnamese
+            "cy", // Welsh
+            "yi" // Yiddish
+    ));
+
+    /**
+     * Languages of the default model, in profile order.
+     */
+    private static final List<String> DEFAULT_LANGUAGES = Collections.unmodifiableList(Arrays.asList(
+            "ar", "bg", "ca", "zh-cn", "zh-tw", "hr", "cs", "da", "nl", "en", "et", "fi", "fr", "gl", "de", "el",
+            "ht", "he", "hi", "hu", "id", "it", "ja", "lv", "lt", "mk", "mt", "ne", "no", "pl", "pt", "ro", "ru",
+            "es", "sv", "ta", "tr", "uk", "vi"));
+
+    private ProfileRegistry() {
+    }
+
+    /**
+     * @return codes of all bundled languages
+     */
+    public static List<String> getLanguages() {
+        return LANGUAGES;
+    }
+
+    /**
+     * @return codes of the languages of the default model, see {@link DetectorFactory#getModel()}
+     */
+    public static List<String> getDefaultLanguages() {
+        return DEFAULT_LANGUAGES;
+    }
+
+    /**
+     * @param lang language code
+     * @return true if a profile of the language is bundled
+     */
+    public static boolean contains(final String lang) {
+        return LANGUAGES.contains(lang);
+    }
+
+    /**
+     * Read the profile of a language.
+     * @param lang language code, e.g. <code>"en"</code> or <code>"zh-cn"</code>
+     * @return the language profile
+     * @throws IllegalArgumentException if no profile of the language is bundled
+     */
+    public static LangProfile getProfile(final String lang) {
+        if (!contains(lang)) {
+            throw new IllegalArgumentException("no profile of language: " + lang);
+        }
+        return Profiles.load(lang);
+    }
+
+    /**
+     * Read the profiles of languages.
+     * @param langs language codes
+     * @return the language profiles, in the order of the codes
+     * @throws IllegalArgumentException if no profile of one of the languages is bundled
+     */
+    public static List<LangProfile> getProfiles(final Collection<String> langs) {
+        final List<LangProfile> profiles = new ArrayList<LangProfile>(langs.size());
+        for (final String lang : langs) {
+            profiles.add(getProfile(lang));
+        }
+        return profiles;
+    }
+}
@@ -0,0 +1,20 @@
+package com.cybozu.labs.langdetect;
+
+/**
+ * {@link ScoringMode} selects how {@link Detector} turns the n-grams of a text into language probabilities.
+ *
+ * @see Detector#setScoringMode(ScoringMode)
+ */
+public enum ScoringMode {
+    /**
+     * Monte Carlo sampling: 7 trials of randomly drawn n-grams with a jittered smoothing parameter.
+     * This is the original algorithm and the default. Results depend on the seed.
+     */
+    SAMPLING,
+
+    /**
+     * Exact naive Bayes: the smoothed log-probabilities of all extracted n-grams are summed in one pass.
+     * Results are fully reproducible without {@link DetectorFactory#setSeed(long)}.
+     */
+    EXACT
+}
@@ -0,0 +1,309 @@
+package com.cybozu.labs.langdetect;
+
+import com.cybozu.labs.langdetect.util.NGramExtractor;
+import com.cybozu.labs.langdetect.util.NGramIndex;
+import com.cybozu.labs.langdetect.util.NGramSink;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@link Segmenter} splits a text written in several languages into spans of one language.
+ * <p>
+ * Every character is labelled with the most probable language of the window of text around it,
+ * where the n-grams are scored like {@link ScoringMode#EXACT}. As the window slides along the text,
+ * the scores of the n-grams entering it are added to the log-probabilities of the languages,
+ * and those of the n-grams leaving it are subtracted, so the whole text is segmented in one pass
+ * instead of one detection per window.
+ * Runs of the same label become spans, spans shorter than half a window are merged into their neighbours,
+ * and the boundaries are moved to the nearest white space.
+ * The language and probability of a span are finally computed from all of its n-grams.
+ *
+ * <pre>
+ * Segmenter segmenter = new Segmenter(DetectorFactory.getModel());
+ * for (LanguageSpan span : segmenter.segment(text)) {
+ *     System.out.println(text.subSequence(span.offset, span.offset + span.length) + " : " + span.lang);
+ * }
+ * </pre>
+ *
+ * Offsets are indexes of the given text; unlike {@link Detector}, the text is not cleaned of URLs
+ * and e-mail addresses first.
+ * A segmenter keeps its scratch arrays across texts, so it must not be used by two threads at the same time.
+ */
+public class Segmenter {
+    private static final int WINDOW_DEFAULT = 80;
+
+    private final LanguageModel model;
+    private final NGramIndex ngramIndex;
+    private final List<String> langlist;
+    private final int langsize;
+
+    private final NGramExtractor extractor;
+    private final double[] logprob;
+    private int[] ids = new int[0];
+    private int[] ends = new int[0];
+    private int count;
+    private int position;
+    private int[] labels = new int[0];
+
+    private int window = WINDOW_DEFAULT;
+    private double alpha = Detector.ALPHA_DEFAULT;
+
+    /**
+     * Constructor.
+     * @param model the {@link LanguageModel} to detect with
+     */
+    public Segmenter(final LanguageModel model) {
+        this.model = model;
+        this.ngramIndex = model.ngramIndex;
+        this.langlist = model.getLangList();
+        this.langsize = model.langsize;
+        this.logprob = new double[this.langsize];
+        this.extractor = new NGramExtractor(new NGramSink() {
+            @Override
+            public void add(final long key) {
+                addNGram(key);
+            }
+        });
+    }
+
+    /**
+     * Set the number of characters of the sliding window.
+     * Larger windows label more reliably, smaller ones find shorter spans.
+     * The default value is 80.
+     * @param window the window size
+     */
+    public void setWindowSize(final int window) {
+        if (window < 2) {
+            throw new IllegalArgumentException("window too small: " + window);
+        }
+        this.window = window;
+    }
+
+    /**
+     * Set smoothing parameter.
+     * The default value is 0.5(i.e. Expected Likelihood Estimate).
+     * @param alpha the smoothing parameter
+     */
+    public void setAlpha(final double alpha) {
+        this.alpha = alpha;
+    }
+
+    /**
+     * Split a text into spans of one language.
+     * @param text the target text
+     * @return spans covering the text, in order (empty if the text has no n-gram of the model)
+     */
+    public List<LanguageSpan> segment(final CharSequence text) {
+        final int length = text.length();
+        extract(text);
+        final List<LanguageSpan> spans = new ArrayList<LanguageSpan>();
+        if (this.count == 0) {
+            return spans;
+        }
+        label(length);
+
+        // runs of one label, the characters without a label going to the run before
+        final List<int[]> runs = new ArrayList<int[]>();
+        int first = 0;
+        while (this.labels[first] < 0) {
+            ++first;
+        }
+        int start = 0;
+        int label = this.labels[first];
+        for (int i = first; i < length; ++i) {
+            if ((this.labels[i] >= 0) && (this.labels[i] != label)) {
+                runs.add(new int[] {start, i, label});
+                start = i;
+                label = this.labels[i];
+            }
+        }
+        runs.add(new int[] {start, length, label});
+        mergeShortRuns(runs);
+        snapToSpaces(text, runs);
+
+        // language and probability of every span from all of its n-grams
+        int n = 0;
+        int spanFirst = 0;
+        for (final int[] run : runs) {
+            final int runFirst = n;
+            while ((n < this.count) && (this.ends[n] < run[1])) {
+                ++n;
+            }
+            final LanguageSpan last = spans.isEmpty() ? null : spans.get(spans.size() - 1);
+            final int best = score(runFirst, n);
+            if ((last != null) && last.lang
+                                       .equals(this.langlist
+                                                       .get(best))) {
+                // the neighbours turned out to be of the same language
+                final int merged = score(spanFirst, n);
+                last.length = run[1] - last.offset;
+                last.lang = this.langlist
+                        .get(merged);
+                last.prob = this.logprob[merged];
+            } else {
+                spans.add(new LanguageSpan(run[0], run[1] - run[0], this.langlist
+                        .get(best), this.logprob[best]));
+                spanFirst = runFirst;
+            }
+        }
+        return spans;
+    }
+
+    /**
+     * Score the n-grams <code>from .. to - 1</code>.
+     * @return index of the most probable language, whose probability is left in {@link #logprob}
+     */
+    private int score(final int from, final int to) {
+        Arrays.fill(this.logprob, 0.0);
+        final double scale = Detector.BASE_FREQ / this.alpha;
+        for (int n = from; n < to; ++n) {
+            this.model
+                    .addLogProb(this.logprob, this.ids[n], 1, scale);
+        }
+        return softmax();
+    }
+
+    /**
+     * Extract the n-grams of the text, with the index of their last character.
+     */
+    private void extract(final CharSequence text) {
+        final int capacity = text.length() * 3;
+        if (this.ids.length < capacity) {
+            this.ids = new int[capacity];
+            this.ends = new int[capacity];
+        }
+        this.count = 0;
+        this.extractor
+                .clear();
+        for (int i = 0; i < text.length(); ++i) {
+            this.position = i;
+            this.extractor
+                    .addChar(text.charAt(i));
+        }
+    }
+
+    private void addNGram(final long key) {
+        final int id = this.ngramIndex
+                .get(key);
+        if (id != NGramIndex.NOT_FOUND) {
+            this.ids[this.count] = id;
+            this.ends[this.count] = this.position;
+            ++this.count;
+        }
+    }
+
+    /**
+     * Label every character with the most probable language of the window centered on it (-1 for none),
+     * updating the scores of the window as n-grams enter and leave it.
+     */
+    private void label(final int length) {
+        if (this.labels.length < length) {
+            this.labels = new int[length];
+        }
+        final double scale = Detector.BASE_FREQ / this.alpha;
+        final int half = this.window / 2;
+        Arrays.fill(this.logprob, 0.0);
+        int lo = 0;
+        int hi = 0;
+        for (int i = 0; i < length; ++i) {
+            while ((hi < this.count) && (this.ends[hi] <= (i + half))) {
+                this.model
+                        .addLogProb(this.logprob, this.ids[hi], 1, scale);
+                ++hi;
+            }
+            while ((lo < hi) && (this.ends[lo] < (i - half))) {
+                this.model
+                        .addLogProb(this.logprob, this.ids[lo], -1, scale);
+                ++lo;
+            }
+            if (lo == hi) {
+                // empty window: start from exact zeros again rather than from the rounding errors
+                Arrays.fill(this.logprob, 0.0);
+                this.labels[i] = -1;
+            } else {
+                this.labels[i] = argmax();
+            }
+        }
+    }
+
+    /**
+     * Merge every run shorter than half a window into the run before it (or after it, for the first run),
+     * then join neighbouring runs of the same label.
+     */
+    private void mergeShortRuns(final List<int[]> runs) {
+        final int min = this.window / 2;
+        for (int r = 0; (r < runs.size()) && (runs.size() > 1); ) {
+            final int[] run = runs.get(r);
+            if ((run[1] - run[0]) >= min) {
+                ++r;
+            } else if (r > 0) {
+                runs.get(r - 1)[1] = run[1];
+                runs.remove(r);
+            } else {
+                runs.get(1)[0] = run[0];
+                runs.remove(0);
+            }
+        }
+        for (int r = 1; r < runs.size(); ) {
+            if (runs.get(r - 1)[2] == runs.get(r)[2]) {
+                runs.get(r - 1)[1] = runs.get(r)[1];
+                runs.remove(r);
+            } else {
+                ++r;
+            }
+        }
+    }
+
+    /**
+     * Move the boundaries between runs to the nearest white space within half a window.
+     */
+    private void snapToSpaces(final CharSequence text, final List<int[]> runs) {
+        final int half = this.window / 2;
+        for (int r = 1; r < runs.size(); ++r) {
+            final int[] before = runs.get(r - 1);
+            final int[] after = runs.get(r);
+            final int boundary = after[0];
+            for (int d = 0; d <= half; ++d) {
+                if (((boundary - d) > before[0]) && Character.isWhitespace(text.charAt(boundary - d - 1))) {
+                    after[0] = boundary - d;
+                    break;
+                }
+                if (((boundary + d) < after[1]) && Character.isWhitespace(text.charAt(boundary + d - 1))) {
+                    after[0] = boundary + d;
+                    break;
+                }
+            }
+            before[1] = after[0];
+        }
+    }
+
+    private int argmax() {
+        int best = 0;
+        for (int i = 1; i < this.langsize; ++i) {
+            if (this.logprob[i] > this.logprob[best]) {
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Turn the scores of {@link #logprob} into probabilities, in place.
+     * @return index of the most probable language
+     */
+    private int softmax() {
+        final int best = argmax();
+        final double maxlog = this.logprob[best];
+        double sum = 0;
+        for (int i = 0; i < this.langsize; ++i) {
+            this.logprob[i] = Math.exp(this.logprob[i] - maxlog);
+            sum += this.logprob[i];
+        }
+        for (int i = 0; i < this.langsize; ++i) {
+            this.logprob[i] /= sum;
+        }
+        return best;
+    }
+}
@@ -0,0 +1,95 @@
+package com.cybozu.labs.langdetect;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Tests for {@link AsyncDetector}
+ */
+public class AsyncDetectorTest {
+
+    /**
+     * Test method for {@link AsyncDetector#detect(CharSequence)}
+     */
+    @Test
+    public final void testDetect() throws Exception {
+        final AsyncDetector async = new AsyncDetector(DetectorFactory.getModel());
+        try {
+            final List<CompletableFuture<String>> futures = new ArrayList<CompletableFuture<String>>();
+            for (final String[] sample : DetectorTest.SAMPLES) {
+                futures.add(async.detect(sample[1]));
+            }
+            for (int i = 0; i < DetectorTest.SAMPLES.length; ++i) {
+                assertEquals(futures.get(i).get(), DetectorTest.SAMPLES[i][0], DetectorTest.SAMPLES[i][1]);
+            }
+            assertEquals(async.getInFlight(), 0);
+        } finally {
+            async.close();
+        }
+    }
+
+    /**
+     * Test method for {@link AsyncDetector#getProbabilities(CharSequence)} without features in the text
+     */
+    @Test
+    public final void testCantDetect() throws InterruptedException {
+        final AsyncDetector async = new AsyncDetector(DetectorFactory.getModel());
+        try {
+            async.getProbabilities("1234 5678").get();
+            fail("no features in text");
+        } catch (final ExecutionException e) {
+            assertTrue(e.getCause() instanceof LangDetectException);
+        } finally {
+            async.close();
+        }
+    }
+
+    /**
+     * Detections beyond the in-flight limit are rejected
+     */
+    @Test
+    public final void testRejection() throws Exception {
+        final List<Runnable> queued = new ArrayList<Runnable>();
+        final Executor executor = new Executor() {
+            @Override
+            public void execute(final Runnable command) {
+                queued.add(command);
+            }
+        };
+        final AsyncDetector async = new AsyncDetector(new DetectorPool(DetectorFactory.getModel()), executor, 2);
+        final CompletableFuture<String> first = async.detect("Das ist ein kurzer deutscher Satz.");
+        final CompletableFuture<String> second = async.detect("This is a short English sentence.");
+        final CompletableFuture<String> third = async.detect("Ceci est une courte phrase.");
+        assertEquals(async.getInFlight(), 2);
+        assertTrue(third.isCompletedExceptionally());
+        try {
+            third.get();
+            fail("rejected");
+        } catch (final ExecutionException e) {
+            assertTrue(e.getCause() instanceof RejectedExecutionException);
+        }
+
+        queued.get(0).run();
+        assertEquals(first.get(), "de");
+        assertFalse(second.isDone());
+        assertEquals(async.getInFlight(), 1);
+        final CompletableFuture<String> fourth = async.detect("Ceci est une courte phrase française.");
+        assertFalse(fourth.isCompletedExceptionally());
+        queued.get(1).run();
+        queued.get(2).run();
+        assertEquals(second.get(), "en");
+        assertEquals(fourth.get(), "fr");
+        assertEquals(async.getInFlight(), 0);
+    }
+}
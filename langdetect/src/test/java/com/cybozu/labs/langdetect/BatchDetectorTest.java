@@ -0,0 +1,54 @@
+package com.cybozu.labs.langdetect;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link BatchDetector}
+ */
+public class BatchDetectorTest {
+
+    @BeforeClass
+    public static void setUpBeforeClass() {
+        DetectorFactory.setSeed(0);
+    }
+
+    /**
+     * Test method for {@link BatchDetector#detect(List)}
+     */
+    @Test
+    public final void testDetect() {
+        final List<CharSequence> texts = new ArrayList<CharSequence>();
+        final List<String> expected = new ArrayList<String>();
+        for (int i = 0; i < 40; ++i) {
+            for (final String[] sample : DetectorTest.SAMPLES) {
+                texts.add(new StringBuilder(sample[1]));
+                expected.add(sample[0]);
+            }
+        }
+        texts.add("12345 !!!");
+        expected.add("unknown");
+
+        final BatchDetector batch = new BatchDetector(new DetectorPool(DetectorFactory.getModel()),
+                                                      new ForkJoinPool(4));
+        assertEquals(batch.detect(texts), expected);
+        assertEquals(DetectorFactory.detect(texts), expected);
+    }
+
+    /**
+     * Empty input
+     */
+    @Test
+    public final void testDetectEmpty() {
+        assertTrue(DetectorFactory.detect(Collections.<String>emptyList())
+                                  .isEmpty());
+    }
+}
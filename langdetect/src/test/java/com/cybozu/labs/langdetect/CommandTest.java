@@ -0,0 +1,134 @@
+package com.cybozu.labs.langdetect;
+
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link Command}
+ */
+public class CommandTest {
+
+    /**
+     * Every line of standard input gives a result line, in order
+     */
+    @Test
+    public final void testLines() {
+        final StringBuilder input = new StringBuilder();
+        for (final String[] sample : DetectorTest.SAMPLES) {
+            input.append(sample[1])
+                 .append('\n');
+        }
+        input.append("1234\n");
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final int status = Command.run(new String[] {"-t", "3", "-s", "0", "-f", "tsv", "-n", "1"},
+                                       new ByteArrayInputStream(input.toString().getBytes(StandardCharsets.UTF_8)),
+                                       out, new PrintStream(new ByteArrayOutputStream()));
+        assertEquals(status, 0);
+        final String[] lines = new String(out.toByteArray(), StandardCharsets.UTF_8).split("\n");
+        assertEquals(lines.length, DetectorTest.SAMPLES.length + 1);
+        for (int i = 0; i < DetectorTest.SAMPLES.length; ++i) {
+            final String[] columns = lines[i].split("\t");
+            assertEquals(columns.length, 3, lines[i]);
+            assertEquals(columns[0], String.valueOf(i + 1));
+            assertEquals(columns[1], DetectorTest.SAMPLES[i][0], DetectorTest.SAMPLES[i][1]);
+        }
+        assertEquals(lines[DetectorTest.SAMPLES.length], (DetectorTest.SAMPLES.length + 1) + "\tunknown\t0.0");
+    }
+
+    /**
+     * Every file of a directory gives a JSON line
+     */
+    @Test
+    public final void testDirectory() throws IOException {
+        final File directory = File.createTempFile("langdetect", "");
+        assertTrue(directory.delete() && directory.mkdir());
+        final File de = new File(directory, "a \"de\".txt");
+        final File en = new File(directory, "b.txt");
+        try {
+            write(de, DetectorTest.SAMPLES[1][1]);
+            write(en, DetectorTest.SAMPLES[0][1]);
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final int status = Command.run(new String[] {"-e", directory.getPath()}, null, out,
+                                           new PrintStream(new ByteArrayOutputStream()));
+            assertEquals(status, 0);
+            final String[] lines = new String(out.toByteArray(), StandardCharsets.UTF_8).split("\n");
+            assertEquals(lines.length, 2);
+            assertTrue(lines[0].startsWith("{\"id\":\"" + de.getPath().replace("\"", "\\\"")
+                                           + "\",\"lang\":\"de\",\"languages\":[{\"lang\":\"de\",\"prob\":"),
+                       lines[0]);
+            assertTrue(lines[1].startsWith("{\"id\":\"" + en.getPath() + "\",\"lang\":\"en\""), lines[1]);
+        } finally {
+            de.delete();
+            en.delete();
+            directory.delete();
+        }
+    }
+
+    /**
+     * Test method for {@link Command#run(String[], java.io.InputStream, OutputStream, PrintStream)} with bad options
+     */
+    @Test
+    public final void testUsage() {
+        final ByteArrayOutputStream err = new ByteArrayOutputStream();
+        assertEquals(Command.run(new String[] {"-t", "0"}, null, new ByteArrayOutputStream(), new PrintStream(err)), 2);
+        assertEquals(Command.run(new String[] {"--format", "xml"}, null, new ByteArrayOutputStream(),
+                                 new PrintStream(err)), 2);
+        assertTrue(err.toString().contains("usage:"));
+    }
+
+    /**
+     * After the output fails, reading stops and the run fails
+     */
+    @Test
+    public final void testOutputFailure() {
+        final int total = 1000000;
+        final AtomicInteger read = new AtomicInteger();
+        final InputStream in = new InputStream() {
+            private final byte[] line = "The quick brown fox jumps over the lazy dog.\n".getBytes(StandardCharsets.UTF_8);
+            private int position;
+
+            @Override
+            public int read() {
+                if (this.position == this.line.length) {
+                    if (read.incrementAndGet() >= total) {
+                        return -1;
+                    }
+                    this.position = 0;
+                }
+                return this.line[this.position++];
+            }
+        };
+        final OutputStream out = new OutputStream() {
+            @Override
+            public void write(final int b) throws IOException {
+                throw new IOException("disk full");
+            }
+        };
+        final ByteArrayOutputStream err = new ByteArrayOutputStream();
+        assertEquals(Command.run(new String[] {"-t", "2"}, in, out, new PrintStream(err)), 1);
+        assertTrue(err.toString().contains("disk full"), err.toString());
+        assertTrue(read.get() < (total / 2), "read " + read.get() + " lines");
+    }
+
+    private static void write(final File file, final String text) throws IOException {
+        final OutputStream out = new FileOutputStream(file);
+        try {
+            out.write(text.getBytes(StandardCharsets.UTF_8));
+        } finally {
+            out.close();
+        }
+    }
+}
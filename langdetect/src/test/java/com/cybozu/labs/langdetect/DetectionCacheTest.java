@@ -0,0 +1,95 @@
+package com.cybozu.labs.langdetect;
+
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link DetectionCache}
+ */
+public class DetectionCacheTest {
+
+    /**
+     * Cached results are those of uncached detection
+     */
+    @Test
+    public final void testSameResults() throws LangDetectException {
+        final DetectionCache cache = new DetectionCache(1024 * 1024);
+        final Detector detector = new Detector(DetectorFactory.getModel());
+        detector.setSeed(0);
+        for (int round = 0; round < 2; ++round) {
+            for (final String[] sample : DetectorTest.SAMPLES) {
+                detector.reset();
+                detector.append(sample[1]);
+                final List<Language> cached = cache.getProbabilities(detector);
+                detector.reset();
+                detector.append(sample[1]);
+                assertEquals(cached.toString(), detector.getProbabilities().toString(), sample[1]);
+            }
+        }
+        assertEquals(cache.getMissCount(), DetectorTest.SAMPLES.length);
+        assertEquals(cache.getHitCount(), DetectorTest.SAMPLES.length);
+        assertEquals(cache.size(), DetectorTest.SAMPLES.length);
+    }
+
+    /**
+     * The text is keyed after cleaning, and the parameters of the detector are part of the key
+     */
+    @Test
+    public final void testKey() {
+        final DetectionCache cache = new DetectionCache(1024 * 1024);
+        final Detector detector = new Detector(DetectorFactory.getModel());
+        detector.setSeed(1);
+        assertEquals(cache.detect(detector, "Das ist ein kurzer deutscher Satz."), "de");
+        assertEquals(cache.detect(detector, "Das   ist  ein kurzer deutscher Satz."), "de");
+        assertEquals(cache.getHitCount(), 1);
+
+        detector.setSeed(2);
+        cache.detect(detector, "Das ist ein kurzer deutscher Satz.");
+        detector.setScoringMode(ScoringMode.EXACT);
+        cache.detect(detector, "Das ist ein kurzer deutscher Satz.");
+        detector.setSeed(3);
+        cache.detect(detector, "Das ist ein kurzer deutscher Satz.");
+        assertEquals(cache.getHitCount(), 2);
+        assertEquals(cache.getMissCount(), 3);
+    }
+
+    /**
+     * Texts of detectors without a seed are not cached
+     */
+    @Test
+    public final void testUnseeded() {
+        final DetectionCache cache = new DetectionCache(1024 * 1024);
+        final Detector detector = new Detector(DetectorFactory.getModel());
+        assertEquals(cache.detect(detector, "Das ist ein kurzer deutscher Satz."), "de");
+        assertEquals(cache.detect(detector, "Das ist ein kurzer deutscher Satz."), "de");
+        assertEquals(cache.size(), 0);
+        assertEquals(cache.getHitCount() + cache.getMissCount(), 0);
+    }
+
+    /**
+     * The least recently used entries are evicted at the memory cap
+     */
+    @Test
+    public final void testEviction() {
+        final DetectionCache cache = new DetectionCache(16 * 1024);
+        final Detector detector = new Detector(DetectorFactory.getModel());
+        detector.setScoringMode(ScoringMode.EXACT);
+        for (int i = 0; i < 1000; ++i) {
+            cache.detect(detector, "Das ist der deutsche Satz Nummer " + i + ".");
+        }
+        assertTrue(cache.getSizeInBytes() <= cache.getMaxSizeInBytes());
+        assertTrue(cache.getEvictionCount() > 0);
+        assertEquals(cache.size() + cache.getEvictionCount(), 1000);
+        assertEquals(cache.getMissCount(), 1000);
+
+        cache.detect(detector, "Das ist der deutsche Satz Nummer 999.");
+        assertEquals(cache.getHitCount(), 1);
+        cache.clear();
+        assertEquals(cache.size(), 0);
+        assertEquals(cache.getSizeInBytes(), 0);
+    }
+}
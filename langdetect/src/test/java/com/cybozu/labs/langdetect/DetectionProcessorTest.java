@@ -0,0 +1,161 @@
+package com.cybozu.labs.langdetect;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link DetectionProcessor}
+ */
+public class DetectionProcessorTest {
+    private static final int TEXTS = 2000;
+
+    /**
+     * Every text is published in order, and a subscriber without demand holds back the upstream
+     */
+    @Test
+    public final void testBackpressure() throws InterruptedException {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final SubmissionPublisher<CharSequence> texts = new SubmissionPublisher<CharSequence>(
+                    ForkJoinPool.commonPool(), 8);
+            final DetectionProcessor processor = new DetectionProcessor(new DetectorPool(DetectorFactory.getModel()),
+                                                                        executor, 2, 4);
+            final Collector results = new Collector();
+            texts.subscribe(processor);
+            processor.subscribe(results);
+
+            final AtomicInteger produced = new AtomicInteger();
+            final Thread producer = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < TEXTS; ++i) {
+                        texts.submit(DetectorTest.SAMPLES[i % DetectorTest.SAMPLES.length][1]);
+                        produced.incrementAndGet();
+                    }
+                    texts.close();
+                }
+            });
+            producer.start();
+            Thread.sleep(500);
+            assertTrue(produced.get() < (8 + 8 + Flow.defaultBufferSize() + 16), "produced " + produced.get());
+            assertTrue(results.received.isEmpty());
+
+            assertTrue(results.subscribed.await(10, TimeUnit.SECONDS));
+            results.subscription.request(Long.MAX_VALUE);
+            assertTrue(results.done.await(30, TimeUnit.SECONDS));
+            producer.join();
+            assertEquals(results.received.size(), TEXTS);
+            for (int i = 0; i < TEXTS; ++i) {
+                final String[] sample = DetectorTest.SAMPLES[i % DetectorTest.SAMPLES.length];
+                assertEquals(results.received.get(i).text, sample[1]);
+                assertEquals(results.received.get(i).lang, sample[0], sample[1]);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Texts without features give an unknown result, and a single text is not held back for a batch to fill
+     */
+    @Test
+    public final void testUnknown() throws InterruptedException {
+        final SubmissionPublisher<CharSequence> texts = new SubmissionPublisher<CharSequence>();
+        final DetectionProcessor processor = new DetectionProcessor(DetectorFactory.getModel());
+        final Collector results = new Collector();
+        texts.subscribe(processor);
+        processor.subscribe(results);
+        assertTrue(results.subscribed.await(10, TimeUnit.SECONDS));
+        results.subscription.request(Long.MAX_VALUE);
+        texts.submit("1234 5678");
+        for (int i = 0; (i < 100) && results.received.isEmpty(); ++i) {
+            Thread.sleep(50);
+        }
+        assertEquals(results.received.size(), 1);
+        assertEquals(results.received.get(0).lang, "unknown");
+        assertTrue(results.received.get(0).languages.isEmpty());
+        texts.close();
+        assertTrue(results.done.await(10, TimeUnit.SECONDS));
+    }
+
+    /**
+     * A failed batch cancels the upstream and closes the stage with the failure, instead of stalling it
+     */
+    @Test
+    public final void testFailedBatch() throws InterruptedException {
+        final SubmissionPublisher<CharSequence> texts = new SubmissionPublisher<CharSequence>();
+        final DetectionProcessor processor = new DetectionProcessor(new DetectorPool(DetectorFactory.getModel()) {
+            @Override
+            protected Detector newDetector() {
+                throw new IllegalStateException("no detector");
+            }
+        }, ForkJoinPool.commonPool(), 2, 4);
+        final Collector results = new Collector();
+        texts.subscribe(processor);
+        processor.subscribe(results);
+        assertTrue(results.subscribed.await(10, TimeUnit.SECONDS));
+        results.subscription.request(Long.MAX_VALUE);
+        for (int i = 0; i < 20; ++i) {
+            texts.submit(DetectorTest.SAMPLES[i % DetectorTest.SAMPLES.length][1]);
+        }
+        assertTrue(results.done.await(10, TimeUnit.SECONDS));
+        assertTrue(results.received.isEmpty());
+        assertTrue(results.failure instanceof IllegalStateException, String.valueOf(results.failure));
+        for (int i = 0; (i < 100) && (texts.getNumberOfSubscribers() > 0); ++i) {
+            Thread.sleep(50);
+        }
+        assertEquals(texts.getNumberOfSubscribers(), 0);
+        texts.close();
+    }
+
+    /**
+     * Subscriber collecting the results, requesting nothing by itself.
+     */
+    private static final class Collector implements Flow.Subscriber<DetectionResult> {
+        final List<DetectionResult> received = Collections.synchronizedList(new ArrayList<DetectionResult>());
+        final CountDownLatch subscribed = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(1);
+        volatile Flow.Subscription subscription;
+        volatile Throwable failure;
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            this.subscription = subscription;
+            this.subscribed
+                    .countDown();
+        }
+
+        @Override
+        public void onNext(final DetectionResult item) {
+            this.received
+                    .add(item);
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            this.failure = throwable;
+            this.done
+                    .countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            this.done
+                    .countDown();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.cybozu.labs.langdetect;
+
+import org.testng.annotations.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link DetectorMetrics}
+ */
+public class DetectorMetricsTest {
+
+    /**
+     * Detections are recorded while the metrics are enabled, and can be read through JMX
+     */
+    @Test
+    public final void testRecord() throws Exception {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName name = new ObjectName(DetectorMetrics.OBJECT_NAME);
+        try {
+            final DetectorMetrics metrics = DetectorFactory.enableMetrics();
+            assertSame(DetectorFactory.enableMetrics(), metrics);
+            assertTrue(server.isRegistered(name));
+
+            final Detector detector = DetectorFactory.create();
+            detector.setSeed(0);
+            for (final String[] sample : DetectorTest.SAMPLES) {
+                detector.reset();
+                detector.append(sample[1]);
+                detector.detect();
+            }
+            detector.reset();
+            detector.append("1234 5678");
+            try {
+                detector.detect();
+            } catch (final LangDetectException expected) {
+                assertEquals(expected.getCode(), ErrorCode.CantDetectError);
+            }
+
+            assertEquals(metrics.getDetectionCount(), DetectorTest.SAMPLES.length);
+            assertEquals(metrics.getCantDetectCount(), 1);
+            assertTrue(metrics.getTrialCount() > 0);
+            assertTrue(metrics.getTrialCount() <= 7 * DetectorTest.SAMPLES.length);
+            assertTrue(metrics.getMeanIterations() > 0);
+            assertTrue(metrics.getMeanTextLength() > 10);
+            assertTrue(metrics.getMeanNGramCount() > 10);
+            assertTrue(metrics.getLatencyMicros50() <= metrics.getLatencyMicros99());
+            long total = 0;
+            for (final long count : metrics.getTextLengthHistogram()) {
+                total += count;
+            }
+            assertEquals(total, DetectorTest.SAMPLES.length);
+            assertEquals(server.getAttribute(name, "DetectionCount"), (long) DetectorTest.SAMPLES.length);
+
+            server.invoke(name, "reset", null, null);
+            assertEquals(metrics.getDetectionCount(), 0);
+            assertEquals(metrics.getLatencyHistogram().length, 0);
+        } finally {
+            DetectorFactory.disableMetrics();
+        }
+        assertNull(DetectorFactory.getMetrics());
+        assertFalse(server.isRegistered(name));
+    }
+
+    /**
+     * Test method for {@link Histogram#percentile(double)}
+     */
+    @Test
+    public final void testHistogram() {
+        final Histogram histogram = new Histogram();
+        assertEquals(histogram.percentile(0.5), 0);
+        for (int i = 0; i < 100; ++i) {
+            histogram.record(i);
+        }
+        assertEquals(histogram.count(), 100);
+        assertEquals(histogram.mean(), 49.5, 1e-9);
+        assertEquals(histogram.counts().length, 8);
+        assertEquals(histogram.counts()[0], 1);
+        assertEquals(histogram.counts()[7], 36);
+        assertEquals(histogram.percentile(0.5), 63);
+        assertEquals(histogram.percentile(0.01), 0);
+        assertEquals(histogram.percentile(0.99), 127);
+    }
+}
@@ -0,0 +1,91 @@
+package com.cybozu.labs.langdetect;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link DetectorPool} and {@link Detector#reset()}
+ */
+public class DetectorPoolTest {
+
+    @BeforeClass
+    public static void setUpBeforeClass() {
+        DetectorFactory.setSeed(0);
+    }
+
+    /**
+     * A reused detector must give the same results as a new one.
+     */
+    @Test
+    public final void testReset() throws LangDetectException {
+        for (final ScoringMode mode : ScoringMode.values()) {
+            final Detector reused = DetectorFactory.create();
+            reused.setScoringMode(mode);
+            for (final String[] sample : DetectorTest.SAMPLES) {
+                reused.reset();
+                reused.append(sample[1]);
+                final ArrayList<Language> expected = probabilities(sample[1], mode);
+                final ArrayList<Language> actual = reused.getProbabilities();
+                assertEquals(actual.size(), expected.size(), sample[1]);
+                for (int i = 0; i < expected.size(); ++i) {
+                    assertEquals(actual.get(i).lang, expected.get(i).lang);
+                    assertEquals(actual.get(i).prob, expected.get(i).prob, 0.0);
+                }
+            }
+        }
+    }
+
+    /**
+     * Test method for {@link DetectorPool#borrow()} and {@link DetectorPool#release(Detector)}
+     */
+    @Test
+    public final void testBorrowAndRelease() {
+        final DetectorPool pool = new DetectorPool(DetectorFactory.getModel(), 1);
+        final Detector detector1 = pool.borrow();
+        final Detector detector2 = pool.borrow();
+        assertTrue(detector1 != detector2);
+        assertEquals(detector1.detect("The quick brown fox jumps over the lazy dog."), "en");
+        pool.release(detector1);
+        pool.release(detector2);
+        assertSame(pool.borrow(), detector1);
+        assertTrue(pool.borrow() != detector2);
+    }
+
+    /**
+     * Test method for {@link DetectorPool#local()}
+     */
+    @Test
+    public final void testLocal() throws Exception {
+        final DetectorPool pool = new DetectorPool(DetectorFactory.getModel());
+        final Detector detector = pool.local();
+        detector.append("Der schnelle braune Fuchs springt über den faulen Hund.");
+        assertEquals(detector.detect(), "de");
+        assertSame(pool.local(), detector);
+        assertEquals(pool.detect("Le renard brun rapide saute par-dessus le chien paresseux."), "fr");
+
+        final Detector[] other = new Detector[1];
+        final Thread thread = new Thread() {
+            @Override
+            public void run() {
+                other[0] = pool.local();
+            }
+        };
+        thread.start();
+        thread.join();
+        assertTrue(other[0] != detector);
+    }
+
+    private static ArrayList<Language> probabilities(final String text, final ScoringMode mode)
+            throws LangDetectException {
+        final Detector detector = DetectorFactory.create();
+        detector.setScoringMode(mode);
+        detector.append(text);
+        return detector.getProbabilities();
+    }
+}
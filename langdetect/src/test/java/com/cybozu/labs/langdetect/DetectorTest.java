@@ -0,0 +1,300 @@
+package com.cybozu.labs.langdetect;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link Detector} with the bundled profiles.
+ */
+public class DetectorTest {
+
+    /**
+     * Sample sentences, { expected language, text }.
+     */
+    static final String[][] SAMPLES = {
+            {"en", "The quick brown fox jumps over the lazy dog. This is a short English sentence."},
+            {"de", "Der schnelle braune Fuchs springt über den faulen Hund. Das ist ein kurzer deutscher Satz."},
+            {"fr", "Le renard brun rapide saute par-dessus le chien paresseux. Ceci est une courte phrase."},
+            {"es", "El rápido zorro marrón salta sobre el perro perezoso. Esta es una frase corta en español."},
+            {"it", "La volpe marrone veloce salta sopra il cane pigro. Questa è una breve frase italiana."},
+            {"pt", "A rápida raposa marrom pula sobre o cão preguiçoso. Esta é uma frase curta em português."},
+            {"nl", "De snelle bruine vos springt over de luie hond. Dit is een korte Nederlandse zin."},
+            {"sv", "Den snabba bruna räven hoppar över den lata hunden. Jag tycker mycket om att läsa böcker och dricka kaffe på morgonen."},
+            {"da", "Den hurtige brune ræv springer over den dovne hund. Dette er en kort dansk sætning."},
+            {"fi", "Nopea ruskea kettu hyppää laiskan koiran yli. Tämä on lyhyt suomenkielinen lause."},
+            {"pl", "Szybki brązowy lis przeskakuje nad leniwym psem. To jest krótkie polskie zdanie."},
+            {"cs", "Rychlá hnědá liška skáče přes líného psa. Toto je krátká česká věta."},
+            {"hu", "A gyors barna róka átugrik a lusta kutya felett. Ez egy rövid magyar mondat."},
+            {"tr", "Hızlı kahverengi tilki tembel köpeğin üzerinden atlar. Bu kısa bir Türkçe cümledir."},
+            {"vi", "Con cáo nâu nhanh nhẹn nhảy qua con chó lười biếng. Đây là một câu tiếng Việt ngắn."},
+            {"id", "Rubah coklat yang cepat melompati anjing yang malas. Ini adalah kalimat pendek."},
+            {"ru", "Быстрая коричневая лиса прыгает через ленивую собаку. Это короткое русское предложение."},
+            {"uk", "Швидка бура лисиця стрибає через ледачого пса. Це коротке українське речення."},
+            {"bg", "Бързата кафява лисица прескача мързеливото куче. Това е кратко българско изречение."},
+            {"el", "Η γρήγορη καφέ αλεπού πηδάει πάνω από τον τεμπέλη σκύλο. Αυτή είναι μια σύντομη πρόταση."},
+            {"ar", "الثعلب البني السريع يقفز فوق الكلب الكسول. هذه جملة عربية قصيرة."},
+            {"he", "שועל חום מהיר קופץ מעל הכלב העצלן. זה משפט קצר בעברית."},
+            {"hi", "तेज़ भूरी लोमड़ी आलसी कुत्ते के ऊपर कूदती है। यह एक छोटा हिंदी वाक्य है।"},
+            {"ja", "すばやい茶色の狐がのろまな犬を飛び越える。これは短い日本語の文です。"},
+            {"zh-cn", "敏捷的棕色狐狸跳过了懒狗。这是一个简短的中文句子。"},
+    };
+
+    @BeforeClass
+    public static void setUpBeforeClass() {
+        DetectorFactory.setSeed(0);
+    }
+
+    /**
+     * Test method for {@link Detector#detect()} with the default {@link ScoringMode#SAMPLING}
+     */
+    @Test
+    public final void testDetectSampling() throws LangDetectException {
+        for (final String[] sample : SAMPLES) {
+            assertEquals(detect(sample[1], ScoringMode.SAMPLING), sample[0], sample[1]);
+        }
+    }
+
+    /**
+     * Test method for {@link Detector#detect()} with {@link ScoringMode#EXACT}
+     */
+    @Test
+    public final void testDetectExact() throws LangDetectException {
+        for (final String[] sample : SAMPLES) {
+            assertEquals(detect(sample[1], ScoringMode.EXACT), sample[0], sample[1]);
+        }
+    }
+
+    /**
+     * {@link ScoringMode#EXACT} must not depend on the seed.
+     */
+    @Test
+    public final void testExactIsReproducible() throws LangDetectException {
+        final Detector detector1 = DetectorFactory.create();
+        detector1.setScoringMode(ScoringMode.EXACT);
+        detector1.append("Ceci est une phrase, oder ist das ein deutscher Satz?");
+        final Detector detector2 = DetectorFactory.create();
+        detector2.setScoringMode(ScoringMode.EXACT);
+        detector2.append("Ceci est une phrase, oder ist das ein deutscher Satz?");
+
+        final ArrayList<Language> probabilities1 = detector1.getProbabilities();
+        final ArrayList<Language> probabilities2 = detector2.getProbabilities();
+        assertEquals(probabilities1.size(), probabilities2.size());
+        for (int i = 0; i < probabilities1.size(); ++i) {
+            assertEquals(probabilities1.get(i).lang, probabilities2.get(i).lang);
+            assertEquals(probabilities1.get(i).prob, probabilities2.get(i).prob, 0.0);
+        }
+        assertTrue(probabilities1.get(0).prob <= 1.0);
+    }
+
+    /**
+     * Text in a script of a single language is detected from the script alone
+     */
+    @Test
+    public final void testDetectByScript() throws LangDetectException {
+        for (final ScoringMode mode : ScoringMode.values()) {
+            final Detector detector = DetectorFactory.create();
+            detector.setScoringMode(mode);
+            detector.append("Καλημέρα, τι κάνεις; 123");
+            final ArrayList<Language> probabilities = detector.getProbabilities();
+            assertEquals(probabilities.size(), 1);
+            assertEquals(probabilities.get(0).lang, "el");
+            assertEquals(probabilities.get(0).prob, 1.0, 0.0);
+        }
+    }
+
+    /**
+     * Only the languages written in the script of the text are candidates
+     */
+    @Test
+    public final void testRestrictByScript() throws LangDetectException {
+        final List<String> cyrillic = Arrays.asList("bg", "mk", "ru", "uk");
+        for (final ScoringMode mode : ScoringMode.values()) {
+            final Detector detector = DetectorFactory.create();
+            detector.setScoringMode(mode);
+            detector.append("да");
+            for (final Language language : detector.getProbabilities()) {
+                assertTrue(cyrillic.contains(language.lang), language.lang);
+            }
+        }
+    }
+
+    /**
+     * Test method for {@link Detector#detect(java.io.Reader, double)}
+     */
+    @Test
+    public final void testDetectStream() throws IOException, LangDetectException {
+        for (final String[] sample : SAMPLES) {
+            final Detector detector = DetectorFactory.create();
+            assertEquals(detector.detect(new StringReader(sample[1]), 0.999), sample[0], sample[1]);
+            assertEquals(detector.getProbabilities().get(0).lang, sample[0]);
+        }
+    }
+
+    /**
+     * Reading stops once the top language is probable enough
+     */
+    @Test
+    public final void testDetectStreamStopsEarly() throws IOException, LangDetectException {
+        final StringBuilder text = new StringBuilder();
+        while (text.length() < 100000) {
+            text.append(SAMPLES[1][1]).append(' ');
+        }
+        final CountingReader reader = new CountingReader(text.toString());
+        final Detector detector = DetectorFactory.create();
+        assertEquals(detector.detect(reader, 0.99), "de");
+        assertTrue(reader.count < 1000, "read " + reader.count);
+        assertTrue(detector.getProbabilities().get(0).prob >= 0.99);
+    }
+
+    /**
+     * A stream is cleaned like the whole text, whatever the URLs, e-mail addresses, runs of spaces
+     * and Vietnamese diacritical marks across the chunks read
+     */
+    @Test
+    public final void testDetectStreamLikeWholeText() throws IOException, LangDetectException {
+        final StringBuilder text = new StringBuilder("The quick brown fox jumps over the lazy dog, ");
+        while (text.length() < 120) {
+            text.append("and over the lazy cat. ");
+        }
+        for (int i = 0; i < 20; ++i) {
+            text.append("See http://example.com/a/rather/long/path?query=").append(i)
+                .append("  or write to john.doe").append(i).append("@example.org   about Ti\u00ea\u0301ng Vi\u00ea\u0323t. ");
+        }
+        assertStreamLikeWholeText(text, Detector.ALPHA_DEFAULT);
+    }
+
+    /**
+     * A stream whose Latin letters turn out to be noise only after its first chunks is scored like the whole text
+     */
+    @Test
+    public final void testDetectStreamLikeWholeTextAfterLatinTitle() throws IOException, LangDetectException {
+        final StringBuilder text = new StringBuilder("Annual Report of the Quick Brown Fox Company. ");
+        while (text.length() < 3000) {
+            text.append("\u0421\u044a\u0435\u0448\u044c \u0436\u0435 \u0435\u0449\u0451 "
+                        + "\u044d\u0442\u0438\u0445 \u043c\u044f\u0433\u043a\u0438\u0445 "
+                        + "\u0444\u0440\u0430\u043d\u0446\u0443\u0437\u0441\u043a\u0438\u0445 "
+                        + "\u0431\u0443\u043b\u043e\u043a, \u0434\u0430 \u0432\u044b\u043f\u0435\u0439 "
+                        + "\u0447\u0430\u044e. ");
+        }
+        // a large alpha keeps the probabilities apart from 0 and 1, where they would hide the differences
+        assertStreamLikeWholeText(text, 1e5);
+    }
+
+    private static void assertStreamLikeWholeText(final CharSequence text, final double alpha)
+            throws IOException, LangDetectException {
+        for (final int maxLength : new int[] {10000, 300, 1000}) {
+            final Detector whole = DetectorFactory.create();
+            whole.setScoringMode(ScoringMode.EXACT);
+            whole.setMaxTextLength(maxLength);
+            whole.setAlpha(alpha);
+            whole.append(text);
+            final Detector stream = DetectorFactory.create();
+            stream.setMaxTextLength(maxLength);
+            stream.setAlpha(alpha);
+            // a confidence which is never reached, so that the whole stream is read
+            stream.detect(new StringReader(text.toString()), 2.0);
+
+            assertEquals(stream.getText().toString(), whole.getText().toString());
+            final List<Language> expected = whole.getProbabilities();
+            final List<Language> actual = stream.getProbabilities();
+            assertEquals(actual.size(), expected.size());
+            for (int i = 0; i < expected.size(); ++i) {
+                assertEquals(actual.get(i).lang, expected.get(i).lang);
+                assertEquals(actual.get(i).prob, expected.get(i).prob, 1e-9);
+            }
+        }
+    }
+
+    /**
+     * Test method for {@link Detector#append(java.io.Reader)} with a reader which is never ready
+     */
+    @Test
+    public final void testAppendReader() throws IOException, LangDetectException {
+        final Detector detector = DetectorFactory.create();
+        detector.setScoringMode(ScoringMode.EXACT);
+        detector.append(new CountingReader(SAMPLES[2][1]));
+        assertEquals(detector.detect(), "fr");
+    }
+
+    /**
+     * Test method for {@link Detector#appendSample(java.io.Reader)}:
+     * a document of another language after its first 10000 characters
+     */
+    @Test
+    public final void testAppendSample() throws IOException, LangDetectException {
+        final StringBuilder text = new StringBuilder();
+        while (text.length() < 20000) {
+            text.append(SAMPLES[0][1]).append(' ');
+        }
+        while (text.length() < 500000) {
+            text.append(SAMPLES[1][1]).append(' ');
+        }
+        final Detector detector = DetectorFactory.create();
+        detector.append(new StringReader(text.toString()));
+        assertEquals(detector.detect(), "en");
+
+        detector.reset();
+        detector.appendSample(new StringReader(text.toString()));
+        assertEquals(detector.detect(), "de");
+    }
+
+    /**
+     * Text without any feature
+     */
+    @Test(expectedExceptions = LangDetectException.class)
+    public final void testDetectNoFeatures() throws LangDetectException {
+        final Detector detector = DetectorFactory.create();
+        detector.setScoringMode(ScoringMode.EXACT);
+        detector.append("12345 !!!");
+        detector.detect();
+    }
+
+    /**
+     * Reader which returns a few characters at a time and is never ready, like a slow network stream.
+     */
+    private static final class CountingReader extends Reader {
+        private final String text;
+        int count;
+
+        CountingReader(final String text) {
+            this.text = text;
+        }
+
+        @Override
+        public int read(final char[] buf, final int off, final int len) {
+            if (this.count == this.text.length()) {
+                return -1;
+            }
+            final int n = Math.min(Math.min(len, 16), this.text.length() - this.count);
+            this.text.getChars(this.count, this.count + n, buf, off);
+            this.count += n;
+            return n;
+        }
+
+        @Override
+        public boolean ready() {
+            return false;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    static String detect(final String text, final ScoringMode scoringMode) throws LangDetectException {
+        final Detector detector = DetectorFactory.create();
+        detector.setScoringMode(scoringMode);
+        detector.append(text);
+        return detector.detect();
+    }
+}
@@ -0,0 +1,289 @@
+package com.cybozu.labs.langdetect;
+
+import com.cybozu.labs.langdetect.util.LangProfile;
+import com.rmtheis.langdetect.profile.DE;
+import com.rmtheis.langdetect.profile.EL;
+import com.rmtheis.langdetect.profile.EN;
+import com.rmtheis.langdetect.profile.FR;
+import com.rmtheis.langdetect.profile.NL;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Tests for {@link LanguageModel}
+ */
+public class LanguageModelTest {
+
+    /**
+     * Test method for {@link LanguageModel#LanguageModel(java.util.List)}
+     */
+    @Test
+    public final void testLanguageModel() {
+        final LanguageModel model = new LanguageModel(Arrays.asList(
+                new EN().getLangProfile(), new FR().getLangProfile()));
+        assertEquals(model.getLangList(), Arrays.asList("en", "fr"));
+        assertTrue(model.getNGramCount() > 0);
+    }
+
+    /**
+     * Test method for {@link LanguageModel#getLangList(Character.UnicodeScript)}
+     */
+    @Test
+    public final void testGetLangListByScript() {
+        final LanguageModel model = DetectorFactory.getModel();
+        assertEquals(model.getLangList(Character.UnicodeScript.GREEK), Arrays.asList("el"));
+        assertEquals(model.getLangList(Character.UnicodeScript.HEBREW), Arrays.asList("he"));
+        assertTrue(model.getLangList(Character.UnicodeScript.HAN).contains("ja"));
+        assertTrue(model.getLangList(Character.UnicodeScript.LATIN).contains("en"));
+        assertTrue(model.getLangList(Character.UnicodeScript.THAI).isEmpty());
+    }
+
+    /**
+     * The rows only hold the languages in which an n-gram occurs, in language order.
+     */
+    @Test
+    public final void testSparseRows() {
+        final LanguageModel model = DetectorFactory.getModel();
+        assertTrue(model.getEntryCount() < (model.getNGramCount() * model.getLangList().size() / 2));
+        assertEquals(model.rowStart.get(model.getNGramCount()), model.getEntryCount());
+        for (int id = 0; id < model.getNGramCount(); ++id) {
+            assertTrue(model.rowStart.get(id) < model.rowStart.get(id + 1));
+            for (int k = model.rowStart.get(id); k < model.rowStart.get(id + 1); ++k) {
+                assertTrue(model.rowProbs.get(k) > 0);
+                assertTrue((k == model.rowStart.get(id)) || (model.rowLangs.get(k - 1) < model.rowLangs.get(k)));
+            }
+        }
+    }
+
+    /**
+     * Test method for {@link LanguageModel#LanguageModel(java.util.List, ModelPrecision)}
+     */
+    @Test
+    public final void testPrecision() throws LangDetectException {
+        final List<LangProfile> profiles = ProfileRegistry.getProfiles(ProfileRegistry.getDefaultLanguages());
+        final LanguageModel full = new LanguageModel(profiles);
+        final double[] maxError = {0.0, 1e-7, 2.5e-4, 0.04};
+        long size = full.getSizeInBytes();
+        for (final ModelPrecision precision : ModelPrecision.values()) {
+            final LanguageModel model = new LanguageModel(profiles, precision);
+            assertEquals(model.getPrecision(), precision);
+            assertEquals(model.getEntryCount(), full.getEntryCount());
+            for (int k = 0; k < full.getEntryCount(); ++k) {
+                final double p = full.rowProbs.get(k);
+                assertTrue(p >= (1.0 / (1L << 32)));
+                assertTrue(Math.abs(model.rowProbs.get(k) - p) <= (maxError[precision.ordinal()] * p), precision.name());
+            }
+            if (precision != ModelPrecision.DOUBLE) {
+                assertTrue(model.getSizeInBytes() < size);
+            }
+            size = model.getSizeInBytes();
+
+            for (final String[] sample : DetectorTest.SAMPLES) {
+                final Detector detector = new Detector(model);
+                detector.setScoringMode(ScoringMode.EXACT);
+                detector.append(sample[1]);
+                assertEquals(detector.detect(), sample[0], precision.name());
+            }
+        }
+    }
+
+    /**
+     * Test method for {@link LanguageModel#save(File)} and {@link LanguageModel#load(File)}
+     */
+    @Test
+    public final void testSaveAndLoad() throws IOException, LangDetectException {
+        for (final ModelPrecision precision : ModelPrecision.values()) {
+            final LanguageModel model = new LanguageModel(Arrays.asList(
+                    new EN().getLangProfile(), new FR().getLangProfile(), new EL().getLangProfile()), precision);
+            final File file = File.createTempFile("langdetect", ".model");
+            file.deleteOnExit();
+            model.save(file);
+            final LanguageModel loaded = LanguageModel.load(file);
+
+            assertEquals(loaded.getPrecision(), precision);
+            assertEquals(loaded.getLangList(), model.getLangList());
+            assertEquals(loaded.getLangList(Character.UnicodeScript.GREEK), Arrays.asList("el"));
+            assertEquals(loaded.getNGramCount(), model.getNGramCount());
+            assertEquals(loaded.getEntryCount(), model.getEntryCount());
+            for (int id = 0; id < model.getNGramCount(); ++id) {
+                assertEquals(loaded.ngramIndex.key(id), model.ngramIndex.key(id));
+                assertEquals(loaded.rowStart.get(id), model.rowStart.get(id));
+            }
+            for (int k = 0; k < model.getEntryCount(); ++k) {
+                assertEquals(loaded.rowLangs.get(k), model.rowLangs.get(k));
+                assertEquals(loaded.rowProbs.get(k), model.rowProbs.get(k), 0.0);
+            }
+
+            final Detector detector = new Detector(loaded);
+            detector.append("Le renard brun rapide saute par-dessus le chien paresseux.");
+            assertEquals(detector.detect(), "fr");
+        }
+    }
+
+    /**
+     * A file which is not a model file
+     */
+    @Test
+    public final void testLoadBrokenFile() throws IOException {
+        final File file = File.createTempFile("langdetect", ".model");
+        file.deleteOnExit();
+        new LanguageModel(Arrays.asList(new EN().getLangProfile())).save(file);
+        final RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try {
+            raf.setLength(raf.length() - 1);
+        } finally {
+            raf.close();
+        }
+        try {
+            LanguageModel.load(file);
+            fail();
+        } catch (final LangDetectException e) {
+            assertEquals(e.getCode(), ErrorCode.FormatError);
+        }
+        try {
+            LanguageModel.load(new File(file.getPath() + ".missing"));
+            fail();
+        } catch (final LangDetectException e) {
+            assertEquals(e.getCode(), ErrorCode.FileLoadError);
+        }
+    }
+
+    /**
+     * A model file with rows out of order or entries of unknown languages
+     */
+    @Test
+    public final void testLoadBadRows() throws IOException {
+        final LanguageModel model = new LanguageModel(Arrays.asList(new EN().getLangProfile(),
+                                                                    new FR().getLangProfile()));
+        // header, the names "en" and "fr", then the keys
+        final long rowStart = 24 + (2 * (4 + 4)) + (8L * model.getNGramCount());
+        final long rowLangs = rowStart + (4L * (model.getNGramCount() + 1));
+        final File file = File.createTempFile("langdetect", ".model");
+        file.deleteOnExit();
+        for (int broken = 0; broken < 2; ++broken) {
+            model.save(file);
+            final RandomAccessFile raf = new RandomAccessFile(file, "rw");
+            try {
+                if (broken == 0) {
+                    raf.seek(rowStart + 4);
+                    raf.writeInt(Integer.reverseBytes(model.getEntryCount()));
+                } else {
+                    raf.seek(rowLangs);
+                    raf.writeShort(Short.reverseBytes((short) 2));
+                }
+            } finally {
+                raf.close();
+            }
+            try {
+                LanguageModel.load(file);
+                fail();
+            } catch (final LangDetectException e) {
+                assertEquals(e.getCode(), ErrorCode.FormatError);
+                assertTrue(e.getMessage().endsWith("bad rows"), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Test method for {@link LanguageModel#getLangList()}
+     */
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public final void testLangListIsImmutable() {
+        new LanguageModel(Arrays.asList(new EN().getLangProfile())).getLangList().add("xx");
+    }
+
+    /**
+     * Two profiles of one language
+     */
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public final void testDuplicateLanguage() {
+        new LanguageModel(Arrays.asList(new EN().getLangProfile(), new EN().getLangProfile()));
+    }
+
+    /**
+     * Models with different language sets side by side
+     */
+    @Test
+    public final void testSeveralModels() throws LangDetectException {
+        final LanguageModel germanic = new LanguageModel(Arrays.asList(
+                new DE().getLangProfile(), new NL().getLangProfile()));
+        final LanguageModel romance = new LanguageModel(Arrays.asList(
+                new FR().getLangProfile(), new EN().getLangProfile()));
+        final String text = "Der schnelle braune Fuchs springt über den faulen Hund.";
+
+        final Detector detector1 = new Detector(germanic);
+        detector1.setScoringMode(ScoringMode.EXACT);
+        detector1.append(text);
+        final Detector detector2 = new Detector(romance);
+        detector2.setScoringMode(ScoringMode.EXACT);
+        detector2.append(text);
+        assertEquals(detector1.detect(), "de");
+        assertTrue(romance.getLangList().contains(detector2.detect()));
+    }
+
+    /**
+     * {@link DetectorFactory#clear()} must not break detectors that are in use
+     */
+    @Test
+    public final void testClearKeepsDetectors() throws LangDetectException {
+        final Detector detector = DetectorFactory.create();
+        final LanguageModel model = DetectorFactory.getModel();
+        DetectorFactory.clear();
+        detector.append("The quick brown fox jumps over the lazy dog.");
+        assertEquals(detector.detect(), "en");
+        assertTrue(DetectorFactory.getModel() != model);
+        assertEquals(DetectorFactory.getLangList(), model.getLangList());
+    }
+
+    /**
+     * Test method for {@link DetectorFactory#setModelPrecision(ModelPrecision)} with a model of loaded profiles
+     */
+    @Test
+    public final void testModelPrecisionOfLoadedProfiles() {
+        try {
+            DetectorFactory.loadProfile(Arrays.asList(new EN().getLangProfile(), new FR().getLangProfile()));
+            DetectorFactory.setModelPrecision(ModelPrecision.FLOAT);
+            assertEquals(DetectorFactory.getModel().getPrecision(), ModelPrecision.FLOAT);
+            assertEquals(DetectorFactory.getLangList(), Arrays.asList("en", "fr"));
+        } finally {
+            DetectorFactory.clear();
+            DetectorFactory.setModelPrecision(ModelPrecision.DOUBLE);
+        }
+        assertEquals(DetectorFactory.getLangList(), ProfileRegistry.getDefaultLanguages());
+    }
+
+    /**
+     * Test method for {@link DetectorFactory#setModelPrecision(ModelPrecision)} with a loaded model file
+     */
+    @Test
+    public final void testModelPrecisionOfLoadedFile() throws IOException, LangDetectException {
+        final File file = File.createTempFile("langdetect", ".model");
+        file.deleteOnExit();
+        new LanguageModel(Arrays.asList(new EN().getLangProfile(), new FR().getLangProfile()), ModelPrecision.LOG8)
+                .save(file);
+        try {
+            DetectorFactory.loadModel(file);
+            DetectorFactory.setModelPrecision(ModelPrecision.LOG8);
+            try {
+                DetectorFactory.setModelPrecision(ModelPrecision.DOUBLE);
+                fail("model file rebuilt in another precision");
+            } catch (final IllegalStateException expected) {
+                // the file can't be rebuilt
+            }
+            assertEquals(DetectorFactory.getModel().getPrecision(), ModelPrecision.LOG8);
+            assertEquals(DetectorFactory.getLangList(), Arrays.asList("en", "fr"));
+        } finally {
+            DetectorFactory.clear();
+            DetectorFactory.setModelPrecision(ModelPrecision.DOUBLE);
+        }
+    }
+}
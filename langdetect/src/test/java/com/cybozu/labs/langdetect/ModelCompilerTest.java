@@ -0,0 +1,80 @@
+package com.cybozu.labs.langdetect;
+
+import com.cybozu.labs.langdetect.util.LangProfile;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.UnsupportedEncodingException;
+import java.util.Arrays;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.fail;
+
+/**
+ * Tests for {@link ModelCompiler} and {@link ProfileReader}
+ */
+public class ModelCompilerTest {
+    private static final File PROFILES = new File("../profiles");
+
+    /**
+     * Test method for {@link ProfileReader#read(java.io.InputStream, String)}
+     */
+    @Test
+    public final void testReadProfile() throws LangDetectException, UnsupportedEncodingException {
+        final LangProfile profile = ProfileReader.read(new ByteArrayInputStream(
+                "{\"freq\":{\"a\":3,\"\\u00e9\":2, \"ab\" : 1},\"n_words\":[5,1,0],\"name\":\"xx\"}".getBytes("utf-8")),
+                                                       "test");
+        assertEquals(profile.name, "xx");
+        assertEquals(profile.freq.size(), 3);
+        assertEquals(profile.freq.get("\u00e9"), Integer.valueOf(2));
+        assertEquals(profile.n_words[0], 5);
+    }
+
+    /**
+     * Test method for {@link ProfileReader#read(java.io.InputStream, String)} with a broken profile
+     */
+    @Test
+    public final void testReadBrokenProfile() throws UnsupportedEncodingException {
+        try {
+            ProfileReader.read(new ByteArrayInputStream("{\"freq\":{\"a\":3,".getBytes("utf-8")), "test");
+            fail();
+        } catch (final LangDetectException e) {
+            assertEquals(e.getCode(), ErrorCode.FormatError);
+        }
+    }
+
+    /**
+     * The default model is compiled into the classpath from the JSON profiles.
+     */
+    @Test
+    public final void testDefaultModel() throws LangDetectException {
+        final LanguageModel compiled = ModelFile.readDefault();
+        assertNotNull(compiled);
+        assertEquals(compiled.getLangList(), ProfileRegistry.getDefaultLanguages());
+        assertEquals(compiled.getPrecision(), ModelPrecision.DOUBLE);
+
+        final LanguageModel model = ModelCompiler.compile(PROFILES, ProfileRegistry.getDefaultLanguages());
+        assertEquals(compiled.getNGramCount(), model.getNGramCount());
+        assertEquals(compiled.getEntryCount(), model.getEntryCount());
+        for (int id = 0; id < model.getNGramCount(); ++id) {
+            assertEquals(compiled.ngramIndex.key(id), model.ngramIndex.key(id));
+        }
+        for (int k = 0; k < model.getEntryCount(); ++k) {
+            assertEquals(compiled.rowProbs.get(k), model.rowProbs.get(k), 0.0);
+        }
+    }
+
+    /**
+     * Test method for {@link ModelCompiler#compile(File, java.util.List)}
+     */
+    @Test
+    public final void testCompile() throws LangDetectException {
+        final LanguageModel model = ModelCompiler.compile(PROFILES, Arrays.asList("ko", "th"));
+        assertEquals(model.getLangList(), Arrays.asList("ko", "th"));
+        final Detector detector = new Detector(model);
+        detector.append("안녕하세요, 만나서 반갑습니다.");
+        assertEquals(detector.detect(), "ko");
+    }
+}
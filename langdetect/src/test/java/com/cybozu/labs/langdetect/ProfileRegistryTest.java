@@ -0,0 +1,169 @@
+package com.cybozu.labs.langdetect;
+
+import com.cybozu.labs.langdetect.util.LangProfile;
+import com.rmtheis.langdetect.profile.Profiles;
+import org.testng.annotations.Test;
+
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link ProfileRegistry}
+ */
+public class ProfileRegistryTest {
+
+    /**
+     * Test method for {@link ProfileRegistry#getProfile(String)}
+     */
+    @Test
+    public final void testGetProfile() {
+        assertEquals(ProfileRegistry.getLanguages().size(), 69);
+        assertTrue(ProfileRegistry.getLanguages().containsAll(ProfileRegistry.getDefaultLanguages()));
+
+        final LangProfile profile = ProfileRegistry.getProfile("zh-tw");
+        assertEquals(profile.name, "zh-tw");
+        assertTrue(profile.freq.size() > 0);
+        assertEquals(ProfileRegistry.getProfile("zh-tw").freq, profile.freq);
+    }
+
+    /**
+     * Profiles are only loaded when asked for: none for the precompiled default model,
+     * and only those of its languages for another model
+     */
+    @Test
+    public final void testLazyLoading() throws Exception {
+        final RecordingClassLoader loader = new RecordingClassLoader();
+        try {
+            final Class<?> factory = loader.loadClass(DetectorFactory.class.getName());
+            final Method getModel = factory.getMethod("getModel");
+            getModel.invoke(null);
+            assertTrue(loader.profiles().isEmpty(), loader.profiles().toString());
+
+            factory.getMethod("setLanguages", String[].class)
+                   .invoke(null, (Object) new String[] {"de", "sk"});
+            getModel.invoke(null);
+            assertEquals(loader.profiles(), Arrays.asList("de", "sk"));
+
+            final Method getProfile = loader.loadClass(ProfileRegistry.class.getName())
+                                            .getMethod("getProfile", String.class);
+            getProfile.invoke(null, "so");
+            getProfile.invoke(null, "sw");
+            assertEquals(loader.profiles(), Arrays.asList("de", "sk", "so", "sw"));
+        } finally {
+            loader.close();
+        }
+    }
+
+    /**
+     * Every bundled profile can be loaded, and all of them together make one model
+     */
+    @Test
+    public final void testAllLanguages() throws LangDetectException {
+        final LanguageModel model = new LanguageModel(ProfileRegistry.getProfiles(ProfileRegistry.getLanguages()));
+        assertEquals(model.getLangList(), ProfileRegistry.getLanguages());
+        final String[][] samples = {
+                {"ko", "빠른 갈색 여우가 게으른 개를 뛰어넘는다. 이것은 짧은 한국어 문장입니다."},
+                {"th", "สุนัขจิ้งจอกสีน้ำตาลกระโดดข้ามสุนัขขี้เกียจ นี่คือประโยคภาษาไทยสั้นๆ"},
+                {"fa", "روباه قهوه‌ای سریع از روی سگ تنبل می‌پرد. این یک جمله کوتاه فارسی است."},
+                {"is", "Fljóti brúni refurinn stekkur yfir lata hundinn. Þetta er stutt íslensk setning."},
+        };
+        for (final String[] sample : samples) {
+            final Detector detector = new Detector(model);
+            detector.setScoringMode(ScoringMode.EXACT);
+            detector.append(sample[1]);
+            assertEquals(detector.detect(), sample[0], sample[1]);
+        }
+    }
+
+    /**
+     * Test method for {@link ProfileRegistry#getProfile(String)} with an unknown language
+     */
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public final void testUnknownLanguage() {
+        ProfileRegistry.getProfile("xx");
+    }
+
+    /**
+     * Test method for {@link DetectorFactory#setLanguages(java.util.List)}
+     */
+    @Test
+    public final void testSetLanguages() throws LangDetectException {
+        try {
+            DetectorFactory.setLanguages("de", "en", "sk");
+            assertEquals(DetectorFactory.getLanguages(), Arrays.asList("de", "en", "sk"));
+            assertEquals(DetectorFactory.getLangList(), Arrays.asList("de", "en", "sk"));
+            final Detector detector = DetectorFactory.create();
+            detector.append("Rýchla hnedá líška skáče cez lenivého psa.");
+            assertEquals(detector.detect(), "sk");
+        } finally {
+            DetectorFactory.setLanguages(ProfileRegistry.getDefaultLanguages());
+        }
+        assertEquals(DetectorFactory.getLangList(), ProfileRegistry.getDefaultLanguages());
+    }
+
+    /**
+     * Test method for {@link DetectorFactory#setLanguages(java.util.List)} with an unknown language
+     */
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public final void testSetUnknownLanguage() {
+        DetectorFactory.setLanguages("en", "xx");
+    }
+
+    /**
+     * Loads the detector classes of its own, so their static state starts afresh,
+     * and records which profiles are read.
+     */
+    private static final class RecordingClassLoader extends URLClassLoader {
+        private static final String PROFILE_DIRECTORY = Profiles.class.getPackage()
+                                                                      .getName()
+                                                                      .replace('.', '/') + "/json/";
+
+        private final List<String> profiles = Collections.synchronizedList(new ArrayList<String>());
+
+        RecordingClassLoader() {
+            super(new URL[] {
+                    ProfileRegistry.class.getProtectionDomain().getCodeSource().getLocation(),
+                    Profiles.class.getProtectionDomain().getCodeSource().getLocation(),
+                    LangProfile.class.getProtectionDomain().getCodeSource().getLocation(),
+            }, ProfileRegistryTest.class.getClassLoader());
+        }
+
+        List<String> profiles() {
+            return new ArrayList<String>(this.profiles);
+        }
+
+        @Override
+        protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+            if (!name.startsWith("com.cybozu.labs.langdetect.") && !name.startsWith("com.rmtheis.langdetect.")) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded == null) {
+                    loaded = findClass(name);
+                }
+                if (resolve) {
+                    resolveClass(loaded);
+                }
+                return loaded;
+            }
+        }
+
+        @Override
+        public InputStream getResourceAsStream(final String name) {
+            if (name.startsWith(PROFILE_DIRECTORY)) {
+                this.profiles.add(name.substring(PROFILE_DIRECTORY.length()));
+            }
+            return super.getResourceAsStream(name);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.cybozu.labs.langdetect;
+
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link Segmenter}
+ */
+public class SegmenterTest {
+    private static final String ENGLISH = "The quick brown fox jumps over the lazy dog. This is a short English sentence. "
+                                          + "I like reading books and drinking coffee in the morning before work. ";
+    private static final String GERMAN = "Der schnelle braune Fuchs springt über den faulen Hund. Das ist ein kurzer "
+                                         + "deutscher Satz. Ich lese gern Bücher und trinke morgens vor der Arbeit Kaffee.";
+
+    /**
+     * Test method for {@link Segmenter#segment(CharSequence)} with two languages
+     */
+    @Test
+    public final void testSegmentTwoLanguages() {
+        final Segmenter segmenter = new Segmenter(DetectorFactory.getModel());
+        final String text = ENGLISH + GERMAN;
+        final List<LanguageSpan> spans = segmenter.segment(text);
+        assertEquals(spans.size(), 2, spans.toString());
+        assertEquals(spans.get(0).lang, "en");
+        assertEquals(spans.get(1).lang, "de");
+        assertEquals(spans.get(0).offset, 0);
+        assertEquals(spans.get(1).offset, spans.get(0).length);
+        assertEquals(spans.get(1).offset + spans.get(1).length, text.length());
+        assertTrue(Math.abs(spans.get(1).offset - ENGLISH.length()) <= 20, spans.toString());
+        assertTrue(Character.isWhitespace(text.charAt(spans.get(1).offset - 1)));
+        assertTrue(spans.get(0).prob > 0.9);
+        assertTrue(spans.get(1).prob > 0.9);
+    }
+
+    /**
+     * Test method for {@link Segmenter#segment(CharSequence)} with one language
+     */
+    @Test
+    public final void testSegmentOneLanguage() {
+        final Segmenter segmenter = new Segmenter(DetectorFactory.getModel());
+        for (final String[] sample : DetectorTest.SAMPLES) {
+            final List<LanguageSpan> spans = segmenter.segment(sample[1]);
+            assertEquals(spans.size(), 1, sample[1] + " " + spans);
+            assertEquals(spans.get(0).lang, sample[0], sample[1]);
+            assertEquals(spans.get(0).offset, 0);
+            assertEquals(spans.get(0).length, sample[1].length());
+        }
+    }
+
+    /**
+     * Test method for {@link Segmenter#segment(CharSequence)} without any n-gram of the model
+     */
+    @Test
+    public final void testSegmentNoText() {
+        final Segmenter segmenter = new Segmenter(DetectorFactory.getModel());
+        assertTrue(segmenter.segment("").isEmpty());
+        assertTrue(segmenter.segment("1234 5678").isEmpty());
+    }
+
+    /**
+     * Test method for {@link Segmenter#setWindowSize(int)}
+     */
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public final void testWindowTooSmall() {
+        new Segmenter(DetectorFactory.getModel()).setWindowSize(1);
+    }
+}
@@ -0,0 +1,69 @@
+package com.cybozu.labs.langdetect.util;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Tests for {@link NGramExtractor}
+ */
+public class NGramExtractorTest {
+
+    /**
+     * Test method for {@link NGramExtractor#addChar(char)}
+     */
+    @Test
+    public final void testAddChar() {
+        final List<String> grams = new ArrayList<String>();
+        final NGramExtractor extractor = new NGramExtractor(collect(grams));
+        extractor.addText("A1B ab");
+        assertEquals(grams.toString(), "[A,  A, A ,  A , B,  B, B ,  B , a,  a, b, ab,  ab]");
+
+        grams.clear();
+        extractor.clear();
+        extractor.addText("THE END");
+        assertEquals(grams.toString(), "[T,  T, E , HE , E,  E]");
+    }
+
+    /**
+     * {@link NGramExtractor} must yield exactly the n-grams of {@link NGram#get(int)}
+     */
+    @Test
+    public final void testSameAsNGram() {
+        final String alphabet = "aAbBzZ àÀșیẠいイㄆ각七‐.1";
+        final Random random = new Random(0);
+        final StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 10000; ++i) {
+            text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+
+        final List<String> expected = new ArrayList<String>();
+        final NGram ngram = new NGram();
+        for (int i = 0; i < text.length(); ++i) {
+            ngram.addChar(text.charAt(i));
+            for (int n = 1; n <= NGram.N_GRAM; ++n) {
+                final String gram = ngram.get(n);
+                if (gram != null) {
+                    expected.add(gram);
+                }
+            }
+        }
+
+        final List<String> actual = new ArrayList<String>();
+        new NGramExtractor(collect(actual)).addText(text);
+        assertEquals(actual, expected);
+    }
+
+    private static NGramSink collect(final List<String> grams) {
+        return new NGramSink() {
+            @Override
+            public void add(final long key) {
+                grams.add(NGramIndex.unpack(key));
+            }
+        };
+    }
+}
@@ -0,0 +1,94 @@
+package com.cybozu.labs.langdetect.util;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link NGramIndex}
+ */
+public class NGramIndexTest {
+
+    /**
+     * Test method for {@link NGramIndex#pack(CharSequence)} and {@link NGramIndex#unpack(long)}
+     */
+    @Test
+    public final void testPack() {
+        assertEquals(NGramIndex.pack((String) null), 0L);
+        assertEquals(NGramIndex.pack(""), 0L);
+        assertEquals(NGramIndex.pack("abcd"), 0L);
+        assertEquals(NGramIndex.pack("a"), NGramIndex.pack('a'));
+        assertEquals(NGramIndex.pack(" a"), NGramIndex.pack(' ', 'a'));
+        assertEquals(NGramIndex.pack("あア "), NGramIndex.pack('あ', 'ア', ' '));
+        assertTrue(NGramIndex.pack("\u0000") != NGramIndex.pack("\u0000\u0000"));
+        assertTrue(NGramIndex.pack("\u0000\u0000") != NGramIndex.pack("\u0000\u0000\u0000"));
+
+        for (String gram : new String[] {"a", "\u0000", " a", "￿￿", "abc", "가ㄅ "}) {
+            assertEquals(NGramIndex.unpack(NGramIndex.pack(gram)), gram);
+            assertTrue(NGramIndex.isValid(NGramIndex.pack(gram)));
+        }
+        assertFalse(NGramIndex.isValid(0L));
+        assertFalse(NGramIndex.isValid(NGramIndex.pack('a') | (1L << 20)));
+        assertFalse(NGramIndex.isValid(4L << 48));
+    }
+
+    /**
+     * Test method for {@link NGramIndex#add(long)} and {@link NGramIndex#get(long)}
+     */
+    @Test
+    public final void testAddAndGet() {
+        final NGramIndex index = new NGramIndex();
+        assertEquals(index.size(), 0);
+        assertEquals(index.get("a"), NGramIndex.NOT_FOUND);
+        assertEquals(index.get((String) null), NGramIndex.NOT_FOUND);
+
+        assertEquals(index.add(NGramIndex.pack("a")), 0);
+        assertEquals(index.add(NGramIndex.pack("ab")), 1);
+        assertEquals(index.add(NGramIndex.pack("a")), 0);
+        assertEquals(index.size(), 2);
+        assertEquals(index.get("a"), 0);
+        assertEquals(index.get("ab"), 1);
+        assertEquals(index.get("abc"), NGramIndex.NOT_FOUND);
+        assertEquals(index.gram(1), "ab");
+
+        index.clear();
+        assertEquals(index.size(), 0);
+        assertEquals(index.get("a"), NGramIndex.NOT_FOUND);
+    }
+
+    /**
+     * Ids must survive the table growing
+     */
+    @Test
+    public final void testGrow() {
+        final NGramIndex index = new NGramIndex();
+        for (char ch = 0; ch < 5000; ++ch) {
+            assertEquals(index.add(NGramIndex.pack(ch, 'x')), (int) ch);
+        }
+        assertEquals(index.size(), 5000);
+        for (char ch = 0; ch < 5000; ++ch) {
+            assertEquals(index.get(NGramIndex.pack(ch, 'x')), (int) ch);
+            assertEquals(index.key(ch), NGramIndex.pack(ch, 'x'));
+        }
+        assertEquals(index.get(NGramIndex.pack('x')), NGramIndex.NOT_FOUND);
+    }
+
+    /**
+     * Test method for {@link NGramIndex#remap(int[])}
+     */
+    @Test
+    public final void testRemap() {
+        final NGramIndex index = new NGramIndex();
+        index.add(NGramIndex.pack("a"));
+        index.add(NGramIndex.pack("b"));
+        index.add(NGramIndex.pack("c"));
+        index.remap(new int[] {2, 0, 1});
+        assertEquals(index.get("a"), 2);
+        assertEquals(index.get("b"), 0);
+        assertEquals(index.get("c"), 1);
+        assertEquals(index.gram(0), "b");
+        assertEquals(index.add(NGramIndex.pack("d")), 3);
+    }
+}
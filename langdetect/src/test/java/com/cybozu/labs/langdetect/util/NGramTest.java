@@ -90,6 +90,61 @@ public class NGramTest {
         assertEquals(NGram.normalize('\u021b'), '\u0163');
     }
 
+    /**
+     * The normalization table must give the normalization of the original implementation for every code unit.
+     * The expected values are written out by Unicode block range, independently of {@link NGram}.
+     */
+    @Test
+    public final void testNormalizeTable() {
+        for (int ch = Character.MIN_VALUE; ch <= Character.MAX_VALUE; ++ch) {
+            assertEquals(NGram.normalize((char) ch), expectedNormalization((char) ch), Integer.toHexString(ch));
+        }
+    }
+
+    /**
+     * Frozen copy of the original normalization rules, with the blocks as code point ranges.
+     */
+    private static char expectedNormalization(final char ch) {
+        if (ch <= '\u007f') { // Basic Latin: letters only
+            return (((ch >= 'A') && (ch <= 'Z')) || ((ch >= 'a') && (ch <= 'z'))) ? ch : ' ';
+        }
+        if (ch <= '\u00ff') { // Latin-1 Supplement: NBSP, guillemets and degree sign are excluded
+            return ((ch == '\u00a0') || (ch == '\u00ab') || (ch == '\u00b0') || (ch == '\u00bb')) ? ' ' : ch;
+        }
+        if ((ch >= '\u0180') && (ch <= '\u024f')) { // Latin Extended-B: Romanian comma below => cedilla
+            if (ch == '\u0219') {
+                return '\u015f';
+            }
+            return (ch == '\u021b') ? '\u0163' : ch;
+        }
+        if ((ch >= '\u0600') && (ch <= '\u06ff')) { // Arabic: Farsi yeh => Arabic yeh
+            return (ch == '\u06cc') ? '\u064a' : ch;
+        }
+        if ((ch >= '\u1e00') && (ch <= '\u1eff')) { // Latin Extended Additional
+            return (ch >= '\u1ea0') ? '\u1ec3' : ch;
+        }
+        if ((ch >= '\u2000') && (ch <= '\u206f')) { // General Punctuation
+            return ' ';
+        }
+        if ((ch >= '\u3040') && (ch <= '\u309f')) { // Hiragana
+            return '\u3042';
+        }
+        if ((ch >= '\u30a0') && (ch <= '\u30ff')) { // Katakana
+            return '\u30a2';
+        }
+        if (((ch >= '\u3100') && (ch <= '\u312f')) || ((ch >= '\u31a0') && (ch <= '\u31bf'))) { // Bopomofo
+            return '\u3105';
+        }
+        if ((ch >= '\u4e00') && (ch <= '\u9fff')) { // CJK Unified Ideographs: representative of the Kanji class
+            final Character representative = NGram.cjk_map.get(ch);
+            return (representative != null) ? representative : ch;
+        }
+        if ((ch >= '\uac00') && (ch <= '\ud7af')) { // Hangul Syllables
+            return '\uac00';
+        }
+        return ch;
+    }
+
     /**
      * Test method for {@link NGram#get(int)} and {@link NGram#addChar(char)}
      */
@@ -306,4 +361,4 @@ public class NGramTest {
         assertEquals(NGram.normalize_vi("\u01B0\u0323"), "\u1EF1");
 
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
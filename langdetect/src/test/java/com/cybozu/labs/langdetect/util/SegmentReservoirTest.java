@@ -0,0 +1,70 @@
+package com.cybozu.labs.langdetect.util;
+
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Random;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link SegmentReservoir}
+ */
+public class SegmentReservoirTest {
+
+    /**
+     * A short text is kept whole, in order, without the words cut by the segment boundaries,
+     * even when nothing else is left of a segment
+     */
+    @Test
+    public final void testShortText() throws IOException {
+        final SegmentReservoir reservoir = new SegmentReservoir(4, 10, new Random(0));
+        reservoir.read(new StringReader("one two three four five"));
+        assertEquals(reservoir.segmentCount(), 3);
+        assertEquals(reservoir.size(), 3);
+        assertEquals(reservoir.segment(0).toString(), "one two ");
+        assertEquals(reservoir.segment(1).toString(), " four ");
+        assertEquals(reservoir.segment(2).toString(), "");
+    }
+
+    /**
+     * A full segment without white space is kept whole, as text like CJK has no words to cut
+     */
+    @Test
+    public final void testNoWhitespace() throws IOException {
+        final SegmentReservoir reservoir = new SegmentReservoir(4, 5, new Random(0));
+        reservoir.read(new StringReader("\u4eca\u65e5\u306f\u3044\u3044\u5929\u6c17\u3067\u3059\u306d\u3002\u3002"));
+        assertEquals(reservoir.size(), 3);
+        assertEquals(reservoir.segment(0).toString(), "\u4eca\u65e5\u306f\u3044\u3044");
+        assertEquals(reservoir.segment(1).toString(), "\u5929\u6c17\u3067\u3059\u306d");
+        assertEquals(reservoir.segment(2).toString(), "");
+    }
+
+    /**
+     * The sample of a long text is spread over the whole text, in order
+     */
+    @Test
+    public final void testLongText() throws IOException {
+        final StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 10000; ++i) {
+            text.append(String.format(" %08d ", i));
+        }
+        final SegmentReservoir reservoir = new SegmentReservoir(20, 10, new Random(0));
+        for (int round = 0; round < 2; ++round) {
+            reservoir.read(new StringReader(text.toString()));
+            assertEquals(reservoir.segmentCount(), 10000);
+            assertEquals(reservoir.size(), 20);
+            int previous = -1;
+            int last = 0;
+            for (int i = 0; i < reservoir.size(); ++i) {
+                final int n = Integer.parseInt(reservoir.segment(i).toString().trim());
+                assertTrue(n > previous);
+                previous = n;
+                last = n;
+            }
+            assertTrue(last > 5000, "last segment " + last);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.cybozu.labs.langdetect.util;
+
+import org.testng.annotations.Test;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for {@link TextScanner}
+ */
+public class TextScannerTest {
+    private static final Pattern URL_REGEX = Pattern.compile("https?://[-_.?&~;+=/#0-9A-Za-z]{1,2076}");
+    private static final Pattern MAIL_REGEX = Pattern.compile(
+            "[-_.0-9A-Za-z]{1,64}@[-_0-9A-Za-z]{1,255}[-_.0-9A-Za-z]{1,255}");
+
+    /**
+     * Test method for {@link TextScanner#append(CharSequence, int)}
+     */
+    @Test
+    public final void testAppend() {
+        assertEquals(scan("Hello   World"), "Hello World");
+        assertEquals(scan("see http://example.com/a?b=c#d now"), "see now");
+        assertEquals(scan("mail foo.bar@example.com, please"), "mail , please");
+        assertEquals(scan("a@b"), "a@b");
+        assertEquals(scan("Viét"), "Viét");
+        assertEquals(scan("abcdef", 3), "abc");
+    }
+
+    /**
+     * Test method for {@link TextScanner#isNonLatinText()}
+     */
+    @Test
+    public final void testIsNonLatinText() {
+        final TextScanner scanner = new TextScanner();
+        scanner.append("Привет, мир! Hi", 1000);
+        assertTrue(scanner.isNonLatinText());
+        scanner.clear();
+        assertEquals(scanner.length(), 0);
+        scanner.append("Hello, мир!", 1000);
+        assertFalse(scanner.isNonLatinText());
+        scanner.clear();
+        scanner.append("Tiếng Việt", 1000);
+        assertFalse(scanner.isNonLatinText());
+    }
+
+    /**
+     * Test method for {@link TextScanner#scriptCount(int)}
+     */
+    @Test
+    public final void testScriptCount() {
+        final TextScanner scanner = new TextScanner();
+        scanner.append("Ελλάδα and Россия, 2014!", 1000);
+        assertEquals(scanner.scriptCount(UnicodeScripts.of('α')), 6);
+        assertEquals(scanner.scriptCount(UnicodeScripts.LATIN), 3);
+        assertEquals(scanner.scriptCount(UnicodeScripts.of('Ж')), 6);
+        assertEquals(scanner.scriptCount(UnicodeScripts.of(' ')), 9);
+        scanner.clear();
+        assertEquals(scanner.scriptCount(UnicodeScripts.LATIN), 0);
+    }
+
+    /**
+     * {@link TextScanner} must give the same text as the regular expressions, {@link NGram#normalize_vi(String)}
+     * and the space collapsing applied one after another.
+     */
+    @Test
+    public final void testSameAsRegex() {
+        final String[] tokens = {"http://", "https://", "http", "s", "://", "@", ".", "-", "_", "/", "?", "#", ":",
+                " ", "  ", "a", "B", "z9", "example.com", "́", "̣", "e", "ê", "ơ", "Ж", "中", "h"};
+        final Random random = new Random(0);
+        for (int n = 0; n < 20000; ++n) {
+            final StringBuilder input = new StringBuilder();
+            final int count = random.nextInt(20);
+            for (int i = 0; i < count; ++i) {
+                input.append(tokens[random.nextInt(tokens.length)]);
+            }
+            final int maxLength = random.nextInt(4) == 0 ? random.nextInt(30) : 10000;
+            assertEquals(scan(input.toString(), maxLength), byRegex(input.toString(), maxLength), input.toString());
+        }
+
+        final StringBuilder longRun = new StringBuilder();
+        for (int i = 0; i < 300; ++i) {
+            longRun.append("ab");
+        }
+        final String[] inputs = {
+                longRun + "@" + longRun, longRun + "@" + longRun.substring(0, 255), "x@" + longRun.substring(0, 255),
+                "x@" + longRun.substring(0, 256), "x@" + longRun.substring(0, 256) + "." + longRun,
+                "http://" + longRun + longRun + longRun + longRun, "a@.b", "a@b.", "a@bc", "a@b c"};
+        for (final String input : inputs) {
+            assertEquals(scan(input, 10000), byRegex(input, 10000), input);
+        }
+    }
+
+    private static String scan(final String input) {
+        return scan(input, 10000);
+    }
+
+    private static String scan(final String input, final int maxLength) {
+        final TextScanner scanner = new TextScanner();
+        scanner.append(input, maxLength);
+        return scanner.text().toString();
+    }
+
+    private static String byRegex(String input, final int maxLength) {
+        input = URL_REGEX.matcher(input).replaceAll(" ");
+        input = MAIL_REGEX.matcher(input).replaceAll(" ");
+        input = NGram.normalize_vi(input);
+        final StringBuilder text = new StringBuilder();
+        char pre = 0;
+        for (int i = 0; (i < input.length()) && (i < maxLength); ++i) {
+            final char c = input.charAt(i);
+            if ((c != ' ') || (pre != ' ')) {
+                text.append(c);
+            }
+            pre = c;
+        }
+        return text.toString();
+    }
+}